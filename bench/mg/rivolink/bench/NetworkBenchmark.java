@@ -0,0 +1,92 @@
+package mg.rivolink.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+
+// Forward and training step per topology and output activation
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetworkBenchmark {
+
+    static final int INPUT_SIZE = 32;
+    static final int OUTPUT_SIZE = 8;
+
+    // Hidden widths, "a-b" for two hidden layers
+    @Param({"8", "64", "512", "2048", "8-8", "64-64", "512-512", "2048-2048"})
+    public String hidden;
+
+    @Param({"SIGMOID", "RELU", "LEAKY_RELU", "TANH", "LINEAR", "SOFTMAX"})
+    public Activation activation;
+
+    private Network network;
+    private float[] inputs;
+    private float[] target;
+    private float[] outputs;
+
+    @Setup
+    public void setup() {
+        network = create(hidden, activation);
+        // Small steps keep the weights bounded over millions of invocations
+        network.alpha = 0.001f;
+
+        Random random = new Random(42L);
+        inputs = randomArray(random, INPUT_SIZE);
+        target = new float[OUTPUT_SIZE];
+        target[random.nextInt(OUTPUT_SIZE)] = 1;
+        outputs = new float[OUTPUT_SIZE];
+    }
+
+    @Benchmark
+    public float[] predict() {
+        return network.predict(inputs);
+    }
+
+    @Benchmark
+    public float[] predictInto() {
+        network.predictInto(inputs, outputs);
+        return outputs;
+    }
+
+    @Benchmark
+    public Network train() {
+        network.train(inputs, target);
+        return network;
+    }
+
+    static Network create(String hidden, Activation activation) {
+        int dash = hidden.indexOf('-');
+        if (dash < 0) {
+            return new Network(INPUT_SIZE, Integer.parseInt(hidden), OUTPUT_SIZE, activation);
+        }
+        return new Network(INPUT_SIZE, Integer.parseInt(hidden.substring(0, dash)),
+            Integer.parseInt(hidden.substring(dash + 1)), OUTPUT_SIZE, activation);
+    }
+
+    static float[] randomArray(Random random, int size) {
+        float[] array = new float[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextFloat() * 2 - 1;
+        }
+        return array;
+    }
+
+}
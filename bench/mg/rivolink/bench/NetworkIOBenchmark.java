@@ -0,0 +1,69 @@
+package mg.rivolink.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+import mg.rivolink.io.NetworkIO;
+
+// Save and load round trips per topology and file format
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NetworkIOBenchmark {
+
+    @Param({"8", "64", "512", "2048", "8-8", "64-64", "512-512", "2048-2048"})
+    public String hidden;
+
+    @Param({"BINARY", "JSON", "XML"})
+    public NetworkIO.Format format;
+
+    private Network network;
+    private Path saveFile;
+    private Path loadFile;
+
+    @Setup
+    public void setup() throws IOException {
+        network = NetworkBenchmark.create(hidden, Activation.SIGMOID);
+        saveFile = Files.createTempFile("bench-save", "." + format.name().toLowerCase());
+        loadFile = Files.createTempFile("bench-load", "." + format.name().toLowerCase());
+        NetworkIO.save(network, loadFile.toString(), format);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(saveFile);
+        Files.deleteIfExists(loadFile);
+    }
+
+    @Benchmark
+    public Path save() throws IOException {
+        NetworkIO.save(network, saveFile.toString(), format);
+        return saveFile;
+    }
+
+    @Benchmark
+    public Network load() throws IOException, ClassNotFoundException {
+        return NetworkIO.load(loadFile.toString(), format);
+    }
+
+}
@@ -0,0 +1,52 @@
+package mg.rivolink.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+
+// Whole-network weight copies, independent of the activation
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeightsBenchmark {
+
+    @Param({"8", "64", "512", "2048", "8-8", "64-64", "512-512", "2048-2048"})
+    public String hidden;
+
+    private Network network;
+    private Network target;
+
+    @Setup
+    public void setup() {
+        network = NetworkBenchmark.create(hidden, Activation.LINEAR);
+        target = NetworkBenchmark.create(hidden, Activation.LINEAR);
+    }
+
+    @Benchmark
+    public Network softUpdate() {
+        target.softUpdate(network);
+        return target;
+    }
+
+    @Benchmark
+    public Network copy() {
+        return network.copy();
+    }
+
+}
@@ -0,0 +1,58 @@
+package generated;
+
+// Generated by mg.rivolink.io.JavaCodeGenerator from a 3-6-5-3 LEAKY_RELU network, do not edit
+public final class ModelLEAKYRELU {
+
+    public static final int INPUT_SIZE = 3;
+    public static final int OUTPUT_SIZE = 3;
+
+    private ModelLEAKYRELU() {
+    }
+
+    public static float[] predict(float[] x) {
+        float[] y = new float[OUTPUT_SIZE];
+        predictInto(x, y);
+        return y;
+    }
+
+    public static void predictInto(float[] x, float[] y) {
+        if (x.length != INPUT_SIZE || y.length < OUTPUT_SIZE) {
+            throw new IllegalArgumentException("Expected " + INPUT_SIZE + " inputs and " + OUTPUT_SIZE + " outputs");
+        }
+
+        // Layer 0: 3 -> 6 RELU
+        float z0_0 = (x[0] * 0.33593744f + x[1] * -0.027371192f + x[2] * 0.11556337f) + -0.40347221f;
+        float h0_0 = Math.max(0f, z0_0);
+        float z0_1 = (x[0] * 0.41629443f + x[1] * 0.21263951f + x[2] * 0.5792798f) + 0.5569138f;
+        float h0_1 = Math.max(0f, z0_1);
+        float z0_2 = (x[0] * 0.2749577f + x[1] * -0.27190024f + x[2] * -0.49987492f) + 0.29392576f;
+        float h0_2 = Math.max(0f, z0_2);
+        float z0_3 = (x[0] * 0.24729128f + x[1] * -0.24870916f + x[2] * -0.07594611f) + -0.22291155f;
+        float h0_3 = Math.max(0f, z0_3);
+        float z0_4 = (x[0] * 0.62975365f + x[1] * 0.13773625f + x[2] * -0.66898024f) + 0.798463f;
+        float h0_4 = Math.max(0f, z0_4);
+        float z0_5 = (x[0] * 0.4686499f + x[1] * 0.12858208f + x[2] * -0.5139383f) + 0.1297934f;
+        float h0_5 = Math.max(0f, z0_5);
+
+        // Layer 1: 6 -> 5 RELU
+        float z1_0 = (h0_0 * -0.4941618f + h0_1 * -0.24910052f + h0_2 * -0.47720328f + h0_3 * -0.32933187f + h0_4 * -0.19011775f + h0_5 * -0.41822162f) + -0.25f;
+        float h1_0 = Math.max(0f, z1_0);
+        float z1_1 = (h0_0 * -0.24957474f + h0_1 * 0.5581874f + h0_2 * 0.23341663f + h0_3 * 0.43816283f + h0_4 * -0.4433679f + h0_5 * -0.55596405f) + 0.07289654f;
+        float h1_1 = Math.max(0f, z1_1);
+        float z1_2 = (h0_0 * -0.5685704f + h0_1 * -0.013881694f + h0_2 * -0.11664913f + h0_3 * 0.5322398f + h0_4 * -0.5094505f + h0_5 * -0.52596337f) + -0.23898607f;
+        float h1_2 = Math.max(0f, z1_2);
+        float z1_3 = (h0_0 * 0.400219f + h0_1 * -0.07543297f + h0_2 * -0.43552455f + h0_3 * -0.49879247f + h0_4 * -0.52742535f + h0_5 * -0.036667205f) + 0.13205875f;
+        float h1_3 = Math.max(0f, z1_3);
+        float z1_4 = (h0_0 * 0.26255405f + h0_1 * 0.18214129f + h0_2 * 0.5147665f + h0_3 * 0.49197903f + h0_4 * 0.4957146f + h0_5 * -0.34188166f) + -0.18648466f;
+        float h1_4 = Math.max(0f, z1_4);
+
+        // Layer 2: 5 -> 3 LEAKY_RELU
+        float z2_0 = (h1_0 * 0.053327262f + h1_1 * 0.46754f + h1_2 * 0.5305399f + h1_3 * -0.28585708f + h1_4 * 0.5232769f) + 0.29349026f;
+        y[0] = z2_0 > 0 ? z2_0 : 0.01f * z2_0;
+        float z2_1 = (h1_0 * -0.42246068f + h1_1 * -0.084317595f + h1_2 * -0.14548703f + h1_3 * 0.11074709f + h1_4 * -0.5767942f) + -0.5255345f;
+        y[1] = z2_1 > 0 ? z2_1 : 0.01f * z2_1;
+        float z2_2 = (h1_0 * -0.063561246f + h1_1 * -0.04878157f + h1_2 * -0.03410911f + h1_3 * 0.13454019f + h1_4 * 0.23860678f) + -0.088743486f;
+        y[2] = z2_2 > 0 ? z2_2 : 0.01f * z2_2;
+    }
+
+}
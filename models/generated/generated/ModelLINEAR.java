@@ -0,0 +1,58 @@
+package generated;
+
+// Generated by mg.rivolink.io.JavaCodeGenerator from a 3-6-5-3 LINEAR network, do not edit
+public final class ModelLINEAR {
+
+    public static final int INPUT_SIZE = 3;
+    public static final int OUTPUT_SIZE = 3;
+
+    private ModelLINEAR() {
+    }
+
+    public static float[] predict(float[] x) {
+        float[] y = new float[OUTPUT_SIZE];
+        predictInto(x, y);
+        return y;
+    }
+
+    public static void predictInto(float[] x, float[] y) {
+        if (x.length != INPUT_SIZE || y.length < OUTPUT_SIZE) {
+            throw new IllegalArgumentException("Expected " + INPUT_SIZE + " inputs and " + OUTPUT_SIZE + " outputs");
+        }
+
+        // Layer 0: 3 -> 6 RELU
+        float z0_0 = (x[0] * -0.61687046f + x[1] * 0.4132253f + x[2] * -0.26914686f) + -0.52709347f;
+        float h0_0 = Math.max(0f, z0_0);
+        float z0_1 = (x[0] * 0.714837f + x[1] * 0.6165437f + x[2] * -0.14849281f) + 0.69492686f;
+        float h0_1 = Math.max(0f, z0_1);
+        float z0_2 = (x[0] * 0.41296396f + x[1] * -0.31429735f + x[2] * -0.62487376f) + -0.6610083f;
+        float h0_2 = Math.max(0f, z0_2);
+        float z0_3 = (x[0] * -0.3869203f + x[1] * 0.532153f + x[2] * -0.38481563f) + -0.4974839f;
+        float h0_3 = Math.max(0f, z0_3);
+        float z0_4 = (x[0] * 0.4001798f + x[1] * -0.7429504f + x[2] * -0.12858734f) + -0.72881526f;
+        float h0_4 = Math.max(0f, z0_4);
+        float z0_5 = (x[0] * -0.5979658f + x[1] * -0.17267203f + x[2] * -0.20493202f) + -0.39683756f;
+        float h0_5 = Math.max(0f, z0_5);
+
+        // Layer 1: 6 -> 5 RELU
+        float z1_0 = (h0_0 * -0.013131358f + h0_1 * 0.40946254f + h0_2 * 0.34741646f + h0_3 * 0.19880973f + h0_4 * 0.07597084f + h0_5 * -0.35975832f) + -0.25f;
+        float h1_0 = Math.max(0f, z1_0);
+        float z1_1 = (h0_0 * 0.27418274f + h0_1 * 0.2726856f + h0_2 * -0.2597563f + h0_3 * 0.101938985f + h0_4 * -0.103650466f + h0_5 * -0.277923f) + 0.14996839f;
+        float h1_1 = Math.max(0f, z1_1);
+        float z1_2 = (h0_0 * -0.14492437f + h0_1 * -0.2613905f + h0_2 * 0.40677524f + h0_3 * -0.06435647f + h0_4 * 0.25545657f + h0_5 * -0.27907905f) + 0.45668894f;
+        float h1_2 = Math.max(0f, z1_2);
+        float z1_3 = (h0_0 * -0.062610224f + h0_1 * 0.5508003f + h0_2 * 0.49978012f + h0_3 * -0.51142204f + h0_4 * 0.42150885f + h0_5 * -0.011207547f) + 0.12435683f;
+        float h1_3 = Math.max(0f, z1_3);
+        float z1_4 = (h0_0 * 0.12549114f + h0_1 * -0.24132222f + h0_2 * -0.57674617f + h0_3 * -0.5472298f + h0_4 * 0.20684159f + h0_5 * -0.010970099f) + -0.5685803f;
+        float h1_4 = Math.max(0f, z1_4);
+
+        // Layer 2: 5 -> 3 LINEAR
+        float z2_0 = (h1_0 * 0.3548316f + h1_1 * 0.23680969f + h1_2 * -0.31136173f + h1_3 * -0.41211638f + h1_4 * -0.15196477f) + 0.54095435f;
+        y[0] = z2_0;
+        float z2_1 = (h1_0 * -0.45835626f + h1_1 * -0.51640826f + h1_2 * -0.1562974f + h1_3 * 0.4070262f + h1_4 * 0.29929414f) + -0.4088678f;
+        y[1] = z2_1;
+        float z2_2 = (h1_0 * -0.45417467f + h1_1 * 0.58353716f + h1_2 * 0.18728238f + h1_3 * 0.3987108f + h1_4 * -0.40176412f) + -0.42073f;
+        y[2] = z2_2;
+    }
+
+}
@@ -0,0 +1,58 @@
+package generated;
+
+// Generated by mg.rivolink.io.JavaCodeGenerator from a 3-6-5-3 RELU network, do not edit
+public final class ModelRELU {
+
+    public static final int INPUT_SIZE = 3;
+    public static final int OUTPUT_SIZE = 3;
+
+    private ModelRELU() {
+    }
+
+    public static float[] predict(float[] x) {
+        float[] y = new float[OUTPUT_SIZE];
+        predictInto(x, y);
+        return y;
+    }
+
+    public static void predictInto(float[] x, float[] y) {
+        if (x.length != INPUT_SIZE || y.length < OUTPUT_SIZE) {
+            throw new IllegalArgumentException("Expected " + INPUT_SIZE + " inputs and " + OUTPUT_SIZE + " outputs");
+        }
+
+        // Layer 0: 3 -> 6 RELU
+        float z0_0 = (x[0] * -0.67824984f + x[1] * -0.54037267f + x[2] * -0.17999244f) + 0.13966589f;
+        float h0_0 = Math.max(0f, z0_0);
+        float z0_1 = (x[0] * -0.77069783f + x[1] * -0.1915741f + x[2] * 0.16561309f) + -0.6418851f;
+        float h0_1 = Math.max(0f, z0_1);
+        float z0_2 = (x[0] * -0.32629105f + x[1] * 0.67507654f + x[2] * 0.22616476f) + 0.09952419f;
+        float h0_2 = Math.max(0f, z0_2);
+        float z0_3 = (x[0] * 0.40301758f + x[1] * 0.33983302f + x[2] * 0.21045223f) + 0.58368075f;
+        float h0_3 = Math.max(0f, z0_3);
+        float z0_4 = (x[0] * -0.51040876f + x[1] * 0.26079783f + x[2] * 0.6519595f) + 0.49134505f;
+        float h0_4 = Math.max(0f, z0_4);
+        float z0_5 = (x[0] * -0.3777011f + x[1] * -0.11696615f + x[2] * -0.6667258f) + 0.6433704f;
+        float h0_5 = Math.max(0f, z0_5);
+
+        // Layer 1: 6 -> 5 RELU
+        float z1_0 = (h0_0 * 0.4812059f + h0_1 * 0.20969014f + h0_2 * -0.5077529f + h0_3 * 0.29504803f + h0_4 * -0.25250188f + h0_5 * 0.2591512f) + -0.25f;
+        float h1_0 = Math.max(0f, z1_0);
+        float z1_1 = (h0_0 * -0.4508496f + h0_1 * -0.22327583f + h0_2 * -0.55549294f + h0_3 * 0.17034177f + h0_4 * -0.46253085f + h0_5 * -0.001118277f) + 0.3288422f;
+        float h1_1 = Math.max(0f, z1_1);
+        float z1_2 = (h0_0 * -0.5339658f + h0_1 * 0.077316515f + h0_2 * -0.17822099f + h0_3 * -0.48861882f + h0_4 * 0.16796798f + h0_5 * 0.30500177f) + -0.47218603f;
+        float h1_2 = Math.max(0f, z1_2);
+        float z1_3 = (h0_0 * -0.3301156f + h0_1 * -0.34763327f + h0_2 * 0.3902341f + h0_3 * 0.5360281f + h0_4 * -0.5686018f + h0_5 * -0.35715157f) + -0.28749478f;
+        float h1_3 = Math.max(0f, z1_3);
+        float z1_4 = (h0_0 * 0.2952412f + h0_1 * -0.10548653f + h0_2 * -0.30995488f + h0_3 * -0.5598077f + h0_4 * -0.4188065f + h0_5 * -0.5702034f) + 0.54561f;
+        float h1_4 = Math.max(0f, z1_4);
+
+        // Layer 2: 5 -> 3 RELU
+        float z2_0 = (h1_0 * -0.44459984f + h1_1 * 0.123716995f + h1_2 * -0.59772396f + h1_3 * 0.52526444f + h1_4 * -0.3084488f) + 0.13110128f;
+        y[0] = Math.max(0f, z2_0);
+        float z2_1 = (h1_0 * 0.034583792f + h1_1 * -0.37267047f + h1_2 * -0.25725082f + h1_3 * -0.029225199f + h1_4 * 0.4933656f) + 0.15427253f;
+        y[1] = Math.max(0f, z2_1);
+        float z2_2 = (h1_0 * 0.45570856f + h1_1 * 0.33339006f + h1_2 * -0.52186435f + h1_3 * 0.005250101f + h1_4 * -0.12307825f) + 0.11741906f;
+        y[2] = Math.max(0f, z2_2);
+    }
+
+}
@@ -0,0 +1,58 @@
+package generated;
+
+// Generated by mg.rivolink.io.JavaCodeGenerator from a 3-6-5-3 SIGMOID network, do not edit
+public final class ModelSIGMOID {
+
+    public static final int INPUT_SIZE = 3;
+    public static final int OUTPUT_SIZE = 3;
+
+    private ModelSIGMOID() {
+    }
+
+    public static float[] predict(float[] x) {
+        float[] y = new float[OUTPUT_SIZE];
+        predictInto(x, y);
+        return y;
+    }
+
+    public static void predictInto(float[] x, float[] y) {
+        if (x.length != INPUT_SIZE || y.length < OUTPUT_SIZE) {
+            throw new IllegalArgumentException("Expected " + INPUT_SIZE + " inputs and " + OUTPUT_SIZE + " outputs");
+        }
+
+        // Layer 0: 3 -> 6 RELU
+        float z0_0 = (x[0] * -0.45875257f + x[1] * -0.20861407f + x[2] * -0.4747321f) + -0.25609097f;
+        float h0_0 = Math.max(0f, z0_0);
+        float z0_1 = (x[0] * 0.4122976f + x[1] * 0.007332753f + x[2] * -0.3287535f) + -0.508168f;
+        float h0_1 = Math.max(0f, z0_1);
+        float z0_2 = (x[0] * -0.36595678f + x[1] * -0.32713678f + x[2] * -0.13113096f) + -0.29052645f;
+        float h0_2 = Math.max(0f, z0_2);
+        float z0_3 = (x[0] * -0.29827464f + x[1] * 0.17522638f + x[2] * 0.056193728f) + -0.37093434f;
+        float h0_3 = Math.max(0f, z0_3);
+        float z0_4 = (x[0] * 0.79399896f + x[1] * 0.8150343f + x[2] * 0.2861698f) + 0.17373852f;
+        float h0_4 = Math.max(0f, z0_4);
+        float z0_5 = (x[0] * -0.45443055f + x[1] * -0.68451166f + x[2] * 0.62225515f) + -0.47334236f;
+        float h0_5 = Math.max(0f, z0_5);
+
+        // Layer 1: 6 -> 5 RELU
+        float z1_0 = (h0_0 * -0.41997507f + h0_1 * -0.34488994f + h0_2 * -0.12184518f + h0_3 * -0.104084276f + h0_4 * -0.3169139f + h0_5 * 0.50630677f) + -0.25f;
+        float h1_0 = Math.max(0f, z1_0);
+        float z1_1 = (h0_0 * 0.24523535f + h0_1 * 0.28911906f + h0_2 * -0.46776676f + h0_3 * -0.44991168f + h0_4 * -0.47565567f + h0_5 * 0.20367382f) + -0.42263436f;
+        float h1_1 = Math.max(0f, z1_1);
+        float z1_2 = (h0_0 * -0.3557416f + h0_1 * -0.35537663f + h0_2 * -0.5771065f + h0_3 * 0.04726131f + h0_4 * -0.380275f + h0_5 * 0.25803855f) + -0.019524628f;
+        float h1_2 = Math.max(0f, z1_2);
+        float z1_3 = (h0_0 * 0.45292282f + h0_1 * 0.22446382f + h0_2 * -0.45123f + h0_3 * 0.4882953f + h0_4 * 0.32389954f + h0_5 * -0.20442912f) + 0.3642174f;
+        float h1_3 = Math.max(0f, z1_3);
+        float z1_4 = (h0_0 * -0.09578722f + h0_1 * 0.4177001f + h0_2 * 0.31710008f + h0_3 * -0.10565501f + h0_4 * -0.15819427f + h0_5 * 0.5518852f) + -0.39550906f;
+        float h1_4 = Math.max(0f, z1_4);
+
+        // Layer 2: 5 -> 3 SIGMOID
+        float z2_0 = (h1_0 * 0.07678913f + h1_1 * -0.27388477f + h1_2 * -0.30736557f + h1_3 * -0.15101358f + h1_4 * -0.18443003f) + 0.13040614f;
+        y[0] = (float)(1.0 / (1.0 + Math.exp(-Math.max(-88f, Math.min(88f, z2_0)))));
+        float z2_1 = (h1_0 * -0.061268512f + h1_1 * -0.3425142f + h1_2 * 0.05463005f + h1_3 * 0.40593398f + h1_4 * 0.43306628f) + 0.19639592f;
+        y[1] = (float)(1.0 / (1.0 + Math.exp(-Math.max(-88f, Math.min(88f, z2_1)))));
+        float z2_2 = (h1_0 * -0.16636483f + h1_1 * -0.20172338f + h1_2 * -0.28706408f + h1_3 * -0.25009173f + h1_4 * 0.13705137f) + -0.3874314f;
+        y[2] = (float)(1.0 / (1.0 + Math.exp(-Math.max(-88f, Math.min(88f, z2_2)))));
+    }
+
+}
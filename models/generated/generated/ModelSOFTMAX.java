@@ -0,0 +1,68 @@
+package generated;
+
+// Generated by mg.rivolink.io.JavaCodeGenerator from a 3-6-5-3 SOFTMAX network, do not edit
+public final class ModelSOFTMAX {
+
+    public static final int INPUT_SIZE = 3;
+    public static final int OUTPUT_SIZE = 3;
+
+    private ModelSOFTMAX() {
+    }
+
+    public static float[] predict(float[] x) {
+        float[] y = new float[OUTPUT_SIZE];
+        predictInto(x, y);
+        return y;
+    }
+
+    public static void predictInto(float[] x, float[] y) {
+        if (x.length != INPUT_SIZE || y.length < OUTPUT_SIZE) {
+            throw new IllegalArgumentException("Expected " + INPUT_SIZE + " inputs and " + OUTPUT_SIZE + " outputs");
+        }
+
+        // Layer 0: 3 -> 6 RELU
+        float z0_0 = (x[0] * 0.5170161f + x[1] * -0.4143742f + x[2] * -0.4708981f) + 0.45941377f;
+        float h0_0 = Math.max(0f, z0_0);
+        float z0_1 = (x[0] * 0.0535698f + x[1] * 0.12880877f + x[2] * -0.7828548f) + 0.58916706f;
+        float h0_1 = Math.max(0f, z0_1);
+        float z0_2 = (x[0] * 0.65436673f + x[1] * -0.40344614f + x[2] * -0.4563574f) + 0.3695999f;
+        float h0_2 = Math.max(0f, z0_2);
+        float z0_3 = (x[0] * -0.7160121f + x[1] * -0.7351459f + x[2] * -0.34927198f) + -0.1636261f;
+        float h0_3 = Math.max(0f, z0_3);
+        float z0_4 = (x[0] * -0.5489366f + x[1] * 0.79897463f + x[2] * -0.21396987f) + 0.66120815f;
+        float h0_4 = Math.max(0f, z0_4);
+        float z0_5 = (x[0] * 0.63091165f + x[1] * -0.03396138f + x[2] * 0.5961281f) + 0.7186935f;
+        float h0_5 = Math.max(0f, z0_5);
+
+        // Layer 1: 6 -> 5 RELU
+        float z1_0 = (h0_0 * 0.52387416f + h0_1 * -0.5663996f + h0_2 * 0.09677019f + h0_3 * -0.43332124f + h0_4 * -0.20018981f + h0_5 * 0.10861733f) + -0.25f;
+        float h1_0 = Math.max(0f, z1_0);
+        float z1_1 = (h0_0 * 0.22421323f + h0_1 * 0.2408924f + h0_2 * -0.54162997f + h0_3 * -0.3987658f + h0_4 * 0.57727116f + h0_5 * -0.13443398f) + 0.13707936f;
+        float h1_1 = Math.max(0f, z1_1);
+        float z1_2 = (h0_0 * 0.19434144f + h0_1 * -0.06600181f + h0_2 * 0.23788905f + h0_3 * 0.18101723f + h0_4 * -0.07321335f + h0_5 * 0.17429407f) + 0.38873065f;
+        float h1_2 = Math.max(0f, z1_2);
+        float z1_3 = (h0_0 * 0.3535736f + h0_1 * -0.20575711f + h0_2 * -0.18086891f + h0_3 * -0.42140487f + h0_4 * 0.4287698f + h0_5 * -0.2781069f) + -0.113201864f;
+        float h1_3 = Math.max(0f, z1_3);
+        float z1_4 = (h0_0 * -0.51815134f + h0_1 * 0.046361692f + h0_2 * -0.29193243f + h0_3 * 0.29294094f + h0_4 * 0.081969194f + h0_5 * 0.3659277f) + -0.3687713f;
+        float h1_4 = Math.max(0f, z1_4);
+
+        // Layer 2: 5 -> 3 SOFTMAX
+        float z2_0 = (h1_0 * -0.10321824f + h1_1 * 0.41110057f + h1_2 * 0.29976803f + h1_3 * -0.0760949f + h1_4 * -0.20278856f) + -0.09099081f;
+        float h2_0 = z2_0;
+        float z2_1 = (h1_0 * 0.16944301f + h1_1 * 0.30392358f + h1_2 * 0.0285408f + h1_3 * 0.35902628f + h1_4 * -0.31016663f) + 0.37327293f;
+        float h2_1 = z2_1;
+        float z2_2 = (h1_0 * -0.22521378f + h1_1 * -0.1988744f + h1_2 * -0.26717603f + h1_3 * 0.08190474f + h1_4 * -0.2256928f) + -0.081927985f;
+        float h2_2 = z2_2;
+        float max2 = h2_0;
+        if (h2_1 > max2) max2 = h2_1;
+        if (h2_2 > max2) max2 = h2_2;
+        h2_0 = (float)Math.exp(h2_0 - max2);
+        h2_1 = (float)Math.exp(h2_1 - max2);
+        h2_2 = (float)Math.exp(h2_2 - max2);
+        float sum2 = 0f + h2_0 + h2_1 + h2_2;
+        y[0] = h2_0 / sum2;
+        y[1] = h2_1 / sum2;
+        y[2] = h2_2 / sum2;
+    }
+
+}
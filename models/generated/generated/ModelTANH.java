@@ -0,0 +1,58 @@
+package generated;
+
+// Generated by mg.rivolink.io.JavaCodeGenerator from a 3-6-5-3 TANH network, do not edit
+public final class ModelTANH {
+
+    public static final int INPUT_SIZE = 3;
+    public static final int OUTPUT_SIZE = 3;
+
+    private ModelTANH() {
+    }
+
+    public static float[] predict(float[] x) {
+        float[] y = new float[OUTPUT_SIZE];
+        predictInto(x, y);
+        return y;
+    }
+
+    public static void predictInto(float[] x, float[] y) {
+        if (x.length != INPUT_SIZE || y.length < OUTPUT_SIZE) {
+            throw new IllegalArgumentException("Expected " + INPUT_SIZE + " inputs and " + OUTPUT_SIZE + " outputs");
+        }
+
+        // Layer 0: 3 -> 6 RELU
+        float z0_0 = (x[0] * 0.3477828f + x[1] * 0.51008826f + x[2] * 0.7213725f) + 0.55527127f;
+        float h0_0 = Math.max(0f, z0_0);
+        float z0_1 = (x[0] * -0.7768376f + x[1] * 0.68104297f + x[2] * 0.6143479f) + 0.54997796f;
+        float h0_1 = Math.max(0f, z0_1);
+        float z0_2 = (x[0] * 0.004594845f + x[1] * 0.65798753f + x[2] * 0.06269369f) + -0.67950565f;
+        float h0_2 = Math.max(0f, z0_2);
+        float z0_3 = (x[0] * -0.60547656f + x[1] * -0.5699152f + x[2] * 0.4311767f) + 0.664447f;
+        float h0_3 = Math.max(0f, z0_3);
+        float z0_4 = (x[0] * 0.018348916f + x[1] * 0.07057093f + x[2] * -0.75163674f) + 0.09073483f;
+        float h0_4 = Math.max(0f, z0_4);
+        float z0_5 = (x[0] * -0.19144884f + x[1] * -0.16183546f + x[2] * -0.44533247f) + -0.17874704f;
+        float h0_5 = Math.max(0f, z0_5);
+
+        // Layer 1: 6 -> 5 RELU
+        float z1_0 = (h0_0 * 0.08926249f + h0_1 * 0.24709152f + h0_2 * -0.036206555f + h0_3 * 0.2642566f + h0_4 * -0.24762319f + h0_5 * 0.17538723f) + -0.25f;
+        float h1_0 = Math.max(0f, z1_0);
+        float z1_1 = (h0_0 * -0.46222693f + h0_1 * -0.56114197f + h0_2 * 0.20501861f + h0_3 * -0.11709574f + h0_4 * 0.35376334f + h0_5 * 0.35967448f) + -0.40656766f;
+        float h1_1 = Math.max(0f, z1_1);
+        float z1_2 = (h0_0 * 0.32002804f + h0_1 * 0.35587883f + h0_2 * -0.28457126f + h0_3 * -0.20308661f + h0_4 * -0.36535802f + h0_5 * -0.27741364f) + -0.23090574f;
+        float h1_2 = Math.max(0f, z1_2);
+        float z1_3 = (h0_0 * 0.00825328f + h0_1 * -0.259894f + h0_2 * 0.3449347f + h0_3 * -0.06640499f + h0_4 * 0.082373954f + h0_5 * 0.22544885f) + -0.5088299f;
+        float h1_3 = Math.max(0f, z1_3);
+        float z1_4 = (h0_0 * 0.24965319f + h0_1 * -0.35225984f + h0_2 * 0.25859094f + h0_3 * 0.1335394f + h0_4 * 0.36881784f + h0_5 * 0.23797068f) + -0.15808602f;
+        float h1_4 = Math.max(0f, z1_4);
+
+        // Layer 2: 5 -> 3 TANH
+        float z2_0 = (h1_0 * -0.2835913f + h1_1 * -0.17216241f + h1_2 * 0.36818716f + h1_3 * -0.12556249f + h1_4 * 0.16588156f) + -0.4156992f;
+        y[0] = (float)Math.tanh(z2_0);
+        float z2_1 = (h1_0 * 0.11550176f + h1_1 * 0.41368386f + h1_2 * 0.1623958f + h1_3 * -0.3472944f + h1_4 * 0.23861802f) + 0.13957006f;
+        y[1] = (float)Math.tanh(z2_1);
+        float z2_2 = (h1_0 * -0.071439914f + h1_1 * 0.13490206f + h1_2 * -0.38858923f + h1_3 * -0.043719158f + h1_4 * 0.19107687f) + -0.35356224f;
+        y[2] = (float)Math.tanh(z2_2);
+    }
+
+}
@@ -0,0 +1,114 @@
+package generated;
+
+// Generated by mg.rivolink.io.JavaCodeGenerator from a 64-300-300-10 SOFTMAX network, do not edit
+public final class WideModel {
+
+    public static final int INPUT_SIZE = 64;
+    public static final int OUTPUT_SIZE = 10;
+
+    private static final float[] W0 = decode(19200,
+        "Pc23Sj4cPlq99ZzUvi2NxD4jHru7pqH8PSGiCL4Ugvc999UtPaevDL1ptJI7ZX2dvdI3wT23E0q9vshrvg2i471C2/Q9jysDvdNOMzz1Xde+EPhivf2mK72mBgk9kvI5vbQgKz0OEou+An/yPg/g2T3+k5y+G9aBPi4oa7zXwIK+LfUHPcUn3j3LhKo9TH5MPgfy/70sF5U95JspvifQmLznF7y+DQdGPXGAVb4oo+c9WYjKPZJ6hj0u8tw9vFpfPZ9RIj3m6hs91QIsvfKdrL4pTnu8sQgcPjFs4rv7kKK+ElYdPda4wj3lezq8jvnKvLDXRr3al/Q8uqT5PVXY+z4bRsS8GjnWvjE6CDnzrPa+CgmbvEZBkL1K9kC+Kebfvbm9vT4KRN09m3itvdF9C72zWgs+IodcuiZuA7s50H09blKLvTdvKTxIR1e9n3jMvTKTjz3Pqru9IQLvvglwur4g8mI9E4kBvhUUXbzKTwU8FUt5PgQiPT2KIhG9uw+2vWPDDT3KVqI+JMOKPO0mr74YLk8+JPPSPBhlNLwVkNw9ys+PvjEc17z52eC8MhsKvBILNj1u9DS+MI91PgdHjj3tOZo+BwpJPbMy4b4n3Te8RQ4lvg9IMLzhoNA9wsiHPY9smzzjT8u994DKvhmYt70QT00+GBwvvee8wb3GaMu9mSC1PTtPUj4oshW9/vdNPh+5pz3EOye7yJx1PS4Cg70MeTI90Q1Pvig9pr3r9sM9+AyqvLzDUz4M+qC+AQdpPiASHD4dJWC+KHI2PawPNz4Wj3291nlqPgCKqL4VsTG8d8pIPhM/ALy2EHW9XDLAvbx/2byc6ry+IbPwPf9M7r2t0d2827jXPdclxrzLmJO9ltq0PNuJpD18Z549I1i6vgEACD3kk7291rhwPRasUr2E7f2+MN3FPedvGL4Uh4y94+6SPfnhST4dhui+CUyiPMg7aD3BD069vwVoPgiPVT1pwSS8lDqIPdPmND23EOo+DgwxvZIR17x7sZo8nitpPcQBwb3MaV8+EKdXPiM9T71TJUy+GkVDPjKw+T4e3VQ98HTZvb6wdD2qebE9/SM+PRYwg72E/Kk8iQ22PjLDGDxo9/O8NkkoPjD8Az3RgM09yBi6vYyAQr2qcUu+A6mnO0PZwj4Y8DO9ao4/PgjxND4KbO+9IeC+Pgf2VT1UiDO9aZuqvhlX+rwl+xu90s6+PfiiUT2RCym+H1KcPitFZj0PsyQ9yT8HPNig1j3zCuM8Bd8UPZgWv7zSfu28DQGJPZ/S1T3x9SG9K401vWJDiT2bf1E92miaPZqXa70sZMS80AfsPcU4BT4hwBC9mwccvgr07r4M1Rs+G2PevQ49974CML4+M3uLPgrMuD2TJg09n1IePPYANr273DA+CxcQPg2wE74o4Py+KARNvdrZrL4yFvI9ZsOoPi57N73UE7w9/b7ivQ2dAz4Edrc75LFCvM8BUj2BwVm913Z2PiJUZT4z2i6+B+UrPanzc73RW0K9xC8OvgQnWrwEVN4+Jq0EvYlM1z2EpqM+FSGVPelndj1x8Da8Mf92PfvpiL4e1Rq9wlHHPfwHsT3+3O697nPVvhZ5Tr4lJv89p46Xvh7xiL1KhjK9lwJyvWfzpb3l/Bs92bYUPeT+iD2L1Qy9sKpAPgma6b40GwA9FJW0PcVEcL31eR8+HvqJu3Nglz3/KLa8iTCJPgABPz3v1Sq9w+hmvgVm0T3SNxS9wUDyPfgrvr4irH89QTOUPhvP4DyvHmS8PF3xvikmNT3+lo29IDYdPX8ZpD2xUsY92fLpvdqyIb3rDPE+G80MPdtMb74DRRE+Le0xPF/l/D4v6OE8nOUrvf3RiL2sd+o92YzpPLMG0T2VPNY92hXnvYCr4r4QGc6+A4C2PZDaq706yim+FhGdu05MvjvtYUm+Gn+5PgjqUT4ui5E9F3pEPMHmMDyuyBW6/EE8vUpVVz0FyEY9Sj/5Pgy0xT4QYQe9GnRavhL4lT2ZaQs9vQDmvSwgjb4CJNK9KRfovS44oLyYvAC+DYEWvdaFYr2hYZC9CM+TPLemYb4chY4+LA4Qvd2hdD4UE1i9gLz9vZIbDr4eBze9t3CQuynCEz11Ehi9rwUovhHvlb3Dho29SvGtPcadVz34Xeq+A/B8viXhfz2whhw+DPnaPUq/GD2DKeo8QtVevgaQPj0J1hC9/tkbvftfub2Erbu+EU3YvdjOz73tD5I9HNc5vLmnVz24PHk+JsKHviBShT4bcaY9qN4ZPYO/4T3wvDO+FiMRPdWh7b4iL0y+LQxYvZmy5D4XimW+Fd3zPfeq7T0NuYq+EQJFveMmo711gdy+HRBvvcIYMrw9T1U+FzZGPOKOlD4bzJ09QXwOPeu/6Lxb1ey9EbMtPhvAIL4dDF896zsDviKOK700YMU9vlGGvhMLCrup8aE+DepJPaOxxz0QxsI+BXT8PiLC6z1OJ58+LPDNPhcewz25Ycu9spIOvfzr9D4gdAE+A/HQvg90BzurMk0+LC6OvgqgnTu3pcM9/Fk1vjRpgD1bKvU9ohvJvWJRdb3zJW29wndNPOHLmD4bUBe8myRgPZwQnT26I2u97BApvbUZ/z2J/9y82xm+vbafWbziQIi9eNJHPAT6rz4tpUA931BKvfYBez4OY4G96GTWPV321jvqMGe8zQ/fvbwTZr4v8Ug97D6cvh+qLr3Bn1i8aXaFvgUTM72Meqq9h+bLPOF7NL4fNDS97ECUO7ylGD0oxy+9L+CKvfAUOL2Mi0Y6I1jhvfO3n74lDRm9GHnoveg6Xr0nSdC9FfiKPVw/rT4nI+I9cz0POnU6Wj1UChc7qSv+viE16zwN/ia+LNzGvRraxb4Ks+S9c5XvvdJDUj2Bt4y854wkPhBsBr3T/d8+JYGlvfi+Bj3QmLS9y45hPT4hNb3n9pC9eZOVva7Bzr1Cpg+9jE96PZttOD4H7qY83kGGPXsSoz4u4OS98XtlO59j8z35+y8+LX0QPg+RdjxxGTs99Cf/PVWBej4bgt2+JiCQPjTCwj3/ONq91r1gPCaDfT4Mnji+KPSAPNpDfT0vxoe9EArpPhwr3L3WwaG9Iv8avKDZqL0PqBi90ajiPQ89Yz3tgK08i3XpvY8jZj23d4C7j2j8veWAvT2fHM+9lv1fPi32uT3/7IY+AziFvaT59j4OPOa+Ea+XvgzqMr0H4hM+DXISPhAMOD4aT3W+Bf6iPbjxMr2xd+u9HN9EPf4lq71t9Tq9BH09PQntEb4q7409ejRGvYUWtz30xEq9pTDUPgNg7r4DlHK96fvEu0STYL2DB+a9tBzSPTOa9L3rOTk9Rbj1PV42XT2OEjS+GqPrPiqC5j2YSj68+6xuPcAEdj27spc7lotxvcLQPr2rT0K9LD7vvPE6gj4LZTa8yOAevTvEb71BSyK+FlTIvejZSr3rSki9pU8SPayqXLznwyo9FBwgPMLOpr4zgCc9d++Evh9Pvj4yF/m9GrmPPfypQb3So5a9AB4Lvih7mjwBvSm+EIFhvdsJILzxDA+90pGRvZS7LryTrkI9MCjzvaIshL2JB16+EXsWvSrYyT4GRVm9y6dvPhIxb73dPLO+CN5VvcpYQT4paiK9HQ4Mvhirqj0L7xc8yLL0vh4HJD0XcmC962tavTEZDr3K3cc81wyjPYCnbr4uLqI9hWoIvdXOrzv6n7C9wdhSvf+y6zyFsXi9ntGGPYqW9r3rZzs9//Siu7JDQj3pFQo8g+iBvSmDGTmBHQC9NOE+vBmShT4hyKu9HU7nPjQY4L0WgAQ9cSmJvUHmUj1s/Ts89QrCPQYHGb3nCS89gTfQPghKCj3fgT+8UjHEvc6gcD4CnHc+AL4rueFsZjzC8MS+AgunvhsTy74gCem9Q14EvaBgbD4TCNG9/oRjvfuO8bzgnNE91NV5u4DVDb2XBdm99nh/vDX6lbyIzXS94hgPPKKXtT2bHBS9q+sOvbbOJj4syWw9IH4Lvd/IOb4D6p29tZsZPXZNpL3Kgdi91fVgvac+AD3CrPw+NH5dPfkIlT3x4CO+Dx15vJldAD39bHa9Lm8evegR873yd4a9wvtPPjCUsj4YBQU8niS8viW5aDzsBHa9iS+1PIzZ5b35Jla90VNyPg8mkb4TKTW+NHG5O7Rhbr4JoVc9KwuRPZY7G72yWiM9hxi8PTKrcj4sWvk93JY4vewVTb2k6EM9q39gPhxIxT3S0Dw9ZBHwvair6z3tUp0+GeAwvgJml7zAvEa9ayKQvZJ0Zzyll4m9w8AHvi+mwr4oMj893vyWPU1qpj1uBKa+CerkvUdbyT1JsKA88wxyPTL3N71VqCu9/jVvvGw5zj4JV0Q9MA3hPZjH5j4Xnue8p+S8vdiebj4ZpMi+NI5Avcwm+L209LW99uGavgG1WT1Zb2G9jwjcPH5Bnz4DHlO9YwGdvcszoL01IMU9SIO1PS23bT4MpTA99m9Rvhyfm72N1F2+NJDiPhI3FL2Ik3u+Kyebu7PGwD4lnFI+G/cRPRi/bT4KSTs+JUyvvWVjDT3a6ak8D+j4vJ+egj1H0ac+NNw7PhXHzL4ShaW97T/mvifDmT2NwiW74BtJPhka6L4wCMe9N6IuvZ8gxj4nXda8l96WvOIZpL29tIk+DZpFvgeFkz1bLZA7bre0vbm/c72gySO+JvlLvMS1wj4Lghe+EZF5PV/36DzNbrY91KLQvd7lDT2SzLG9QXJyvbBeiTzPyCc9wt4bPeza2b4MOrC9aKiOPKXVDr4QY6q98Rs6vceh773iE7I+HbitviWmeD3QihC9gvN9PXfLp74ulU+9I7YQvWtxaLzwLDc+DtIAPZ9JUD2RXYS9kpw+PgrqSr4MJri+F0u7PiwB8r0YQfW+J7c0vgPD2TuTuXw9oFwXPdHhDr3hU9G9kYZMPU9dEjxJDZg+EJH/u9BNCz4Hd7u+CvLUvQDoaD2KeJe+LM6LPLuaVz4x6d2+MmAYPfg1DD4slfG7kFHMPa5G072z8b68bVGkvc6N1b4Fv+0+H2dyvjSbnj3J0bq9jLdCPWTd3z3TehC94gSoPiD7JT40MBw78EqUPgIgLT4YzQi+JKV7vZwhMLzMPTM9cscVPXvuhj3uN8W+JBGJviOfwjvke1c9+hoOPc1XRD4um4a9UZ6qvYT1ID4zyxy8YY8ivOuWELy0qf+8gCFbPV6S1zyOjlC99fxmviOWFT0lNcg8/OksPeiwkLv7Yqw+AeWQvVyw4TwY/Wg+G3RDO0m4t725t4G95RxgPbNpjL3Zl9k9G07qPdACUj39JPe+E1bgvQBG/T1S4TE9HO+ZPfnA9T3HHH098k1avZa9Ej2z22+8I4PWPRUi87yJQJQ950lmPgksLD0vIBi+LQqWPdGRij4lGAE7IdeCPVEJdz2PSIm+HXeKPUCIhr33md48WPc9PYMfdD2jYAK97heTPQ0QDj2JXgg9hTB9vYQu3z4dvos82mX2vMgYOzxHcUO89pR7PhpDlrqI4sw8kHwBvJKSZr1YBMS90iZ5Phs0UbstCFq+GewmPhvAsj4nGEu9jwsHvdyOgr3K/SW9oGAfvfx/tL3fOJc9lKECPenEPz3CDdI+JMuuPCDFJj3dqDG+MyfePcxC0LynSvu+KHBfvYTo0T2qtTM98Xz/velUBD4hjAw+ClHrvevmdz3x1Mo9ZQxdPa/7gj3slve9vHKavWIW974sv7M92JODPgOb8j22qKy+BawwPdWA+r4X8LC9tRX3vfKLu74ncSO9Rbb9vfE+ZT406pW9vZLwPTa+yL3hS8W9rlbQvaDGC74mRim9E6nRuWAFMLz6y6k8oQ4SPbaawLs34Bm+AKMXvfDbW7333g29hOzlvgRoKj4xqjs8rzj0vilo0j2rLZC9FIZTPXNJUz3Bzx6+IR5fvUxlQz4U8pS9avOyPKZiHz1MV1e9v0H8vZTxJ7zex4W+CsP5PcOH8r2J9wO8VKnUvb0syDt00P+9T+H2PGcTIz4ZxSu+ML68PTyNRj4FHCy9QuCjPLQmCT3fPHW9rmiDvXaF8T3tOV483CHkvcQqq7y5zMY9B6olvaxgxL2WfdS9xjUCvdo/2z0EDRM9wZ2iveSxiT4fKTI8kYlePfydtj0Bu2q+EatMPVs26b3Ta28+Jj/8Pg+etT3q2oQ9clRmviSH9b3uCba9y2ZkvZrjIj1v0tU8mFxSPiQFyrz7IGG9EgMDPZHHTr4ANdU9lLMjvI1aMLwes+G+ElCAvIb6aL2dRN8+FBBwPgGi/b3wzWe+HVLgvh2v8r4RHqK9nBymvST8xT3ypk0+ExI0PO5+hL4XbJi97c6dvCYG8z2hlHc+IfyZPi5Mbrx4vmm91mFjvJJZer3HElu8b5kuPfwRyr4KdWg+DxJPPHIEFL4MTfS9PO4PPh310D4qY7Q93JYDPJ5YcT0DELm91GjSvjH72D1fUpQ+MjwkvdWZ0z4KHiQ8cy2uvgi3JD1SKIc+HfJzPiecnz22TKO90sdXvgNIf74YSog95Jx6PjTaWTzhjku+KTfIvOlYg72h4rA+BKFhvT9Dzz1vkVa8gUIrPg9pob3FEDa+Lm3+vcd8A720Dyq83K0xPYZrcD4Bj8C9PBsqPCxrBT4CZfc8CzhkviiYID4SdzE9o8HovZoG8D3qKnI9PFtWPdNsar3GL6e9lRsHPjKCsT1qtnc91QqPveMpPL4JsyS99JenvLHMYD3Oof89emumvbVU1b4BsPa9cR3CPO6WS725U+S+HrixPaorxD2iZQ2+ChrjPd5b3T1xD0m9BeMUvZzHhr4NbT++LqEBPaissb4o5YY8tNR4vgU+MjwFhzi+BwMgvg9ELb4O0pO9NIltvVMxGTyOl2o9x3IJvaqlpL2Dk3+80o8mPh8oVT1YO0K9kBcFvhgUND4gjMW9o2pRPjTtiz300+Q9Ib8APZadQL4Ltk2+F+YpvLiZIz0oSOw+FValPVS1H74MOuq9lYSvve6zG74tQoQ9o65DvZf8ij2qQA29eFKau4pqAbyTkKY9v0lSvgcBij4f+4U+EyA7PgWoUr1RPuu9ytp/vXkOlD3SjE+8FuaoPh4klT4uxC693A2jPcbL/b4ryqI+HikjPiLSNL34nk49FBhevVI5Dr4l902+FtOpvWMs8r0hG3A+B+5FPffIZT0wkxW+K8bMPYStAz2hIN29hVanPgZPobtDl6U8AYs4O2Sp1T3quPM9hNW9vJgNb73f5Ss9DqqePU6sS72mn7U8IPWWvgdYm74KdbY+LS5UvKk4/L3z2rO4+TYAvc7k2b2DNSG9xtSHPYt0VL3JZ9S9AzbdO7io6j3FqC89QDNzPWjGXT28y5a+JtCyvdD79L0YU3U+M5IHPTx16z4x1qG99iATvhXJi74g9Yg7hDMEvamsTL4DYxU+AE5SviBPsL2QzE49RQKtvWH7uDyLJZy9TOBMPMKcRbyA7uc9Ee+tPV42R7zCSWc+HLU+vgyrPz2NvoI+IhdDvTtkIj22cAE88onxvLdoKLwKEKU+AuNnvO56lb4GHdA93C+BvYaO1L3X/U88xrfqPh/aVr3BsCw+HZAbPgeKtjzPGc69n62OPZH66rygB3i+DhQPPU7rDL26l3k+GLZtPgG2wr0+4Vg96zQQvLnVIT4F+EU+LTwbPhbws74D2sm7hcXjPYyyKr4cTwm88jgjPiDfFT1L6la+CGBqPaxVdL4NjEe9lPOmvPY1mb4DfHE9luxqvZFA273JGfI966BdPhhLzL2OcQu9GIRRvhAHFL2VgBk+AmErvUjHdT3QDYm9/Tq7PhRYQjxXZIo9yYdAvgCbW74K4D08KtADvi6BzT4J7/q9xmwWvfC+Tz2icAC+CNZGvXVgRj3d2Ba9rwKhvh0fdD3dmrk91cxdPUT71D4ajE8+E534viJTVb39LYc9sEcrPKMXsj4cz2u9z9+yPiMA4r4pFy64XfFxviBolr2mHi091wvjvJ5nBzwmiFo+HF10vUL5Ajwgina8wiZ+PZuriz4qcdc+MhHZPgWHa74R1Jq9oJL9vg3LCT0vX3492oEpvjGiWLyZU+U+Gs5MPhC4pbyB8727m/p/vaS4qL4Sso09gDD7vZGHor0iOf68TU5GPW58LL2rXpi8DJKcvgUOxj4F7Hy7slX/vhedRD1QxlU9q7rDviUQQj3g2Bu9/a/YPPPZ/j03D6684zv/Pc+vLDxj9W+922ybPaY8574vjlk8k3LzvY0YYr23mNO9/R0fviwILD2fC9Y+Kz8du7ayV73mRQc+HyNmPcdS771fNeu9RSaWPNK4sDyDNAO9Z8zHvVUikT2YyVa9EOlAPQdRc70zkNY+DnDhvacZyz4HMDU9O2HLveagFz4PtRm+FP3cvd0sxzwtjGc9wTV6PJfLAr20xc+9rGEyOxF4172qFMO9E3W2PaLPS74sv1A9qymePTjNPjtHeuY9uoi2PbTbk74H7oK9m9ZvPUwEob3J8/K8iOI5Phk75L0OAQA8wEq+vhj0Kb4g7jw+MyMLPiHUpL0qO8M+CMqUvNUCLL18mH+83OIuvK/1ODyeNUS8oWVxPhsayj35MD89JIsxviEknb4G1fu9vrfKPaKWq72yJ2K881EUvKBunr4g8l4+MRzGPga9nT4KU069DwhgPgMX/7zMZuu+BCH3PW3Jeb4u7Yi+CVZdvh3H4b4cvv08uuhTPiXaGL4Q2Ac+GZ5dPX9fsD4livc89kzNvdSDtr2RhlG+Imw6O5Y1tL4zBfc8fDJMvg7qbr3l01Q+LgVwvXp/eDyviIy9+hh3vSDOuL2/w9a+LNkDvV2fTz4XQ0g9t8dUvglYjb3gho6+DfrFPZBV/LrhK1g+Ee1evgoOCDzd9uy9wnlVvceVoz2PFu29j9TovWGg5r4aYoc9kgagPPnuYb3zc3S+E7ohPhDtz711JS89UFuxPYvP9D4RxSs8oYQRPQRSLL2cKyc9495PvjMYFjyLskc8vkBHvjJJiz4SVAy95GIyPeIz+z35iig+LAK2vfjgAz3FSrc9jPbDvagnxD1U8CS9FuFbvgIhyz3zY3o+HLvKPeLyWL353fC9DC5EOqGjLr4OUMc8atucviD88r3xCHi9d65JPEk54T0WZ4i88KR4PW0+Qz3rzRa9MpBPvZm6Wb1sDGU7k7flPhIQBb2c1Zq+MEwGPZ1S5D2mvd+9LthvPVZP1zzuK989UwXmPSLWBTwpCjq+HAi2PZMnPz4p2ZU9JACkPRjgcD3Zauq+NAh9vfqVnz0qu+K+LTP8Pifpjr4i5S89HkbEPdb2MD30tLC+DOvZParW/L4kYpW93kVpPWwh5Tvzegw94zcaPEy3Tj2ZMww+J7G5vR/cbLy+epK+CeF1PFdDkjy6RRK+EOehvjDIvz4ACrI+MJKAvWD75z28r1A+J31MPatT4bvjQye+D3awPgle974cRPw95jS+Pgzqv74qQU6865PxviwHIbui6Si+KWuuvQZUdT1zc7o8c+9APgQvDLvfnOS90coyPYnBQD2w9D49yexyvD3Srb3PhR+9AnxuvMjgYr4UKJm9Ar1JvcPjxbxbjhC9xAMPPiS1Qr4NLDe8+JjZPe7lab4Wu1e+Jq0wOFTW0julUkk+KI9Yu85sNj4M51S+EbLnPhiFmr4t+qY93UZkvZA9g74mzNA9gUT2Ph0AqDze3DQ8BrNjvhZ0n72qdHE+G2TzvfKvr7zwegs9KR59Pah2ET1PWdI+D8RqPRLpQ72tVOU+HNnjPgoi4b3uR7Q9uX74PU90Ej2lL3u8cfxMvSoqIT4wm7K989MzPRIT6r0EfSY9fmS2PQEwLj4aKES9xn9pPdXhYL0PdBQ+BgvJPZLPJT3j5Yy+CQQ3O8ZdlLzFndI9w9HFPfD1nj1fMnO9qDAvPYX/oz4YuZS9jBiwPg1j9r4bJdW9fyTjvdiqqb1WYG88+8TIvgOQlz4wQYa91lN/viMGAD4Vd3C9hzsqvgGepLz+I289o6w1PjUC+b4i9Wa9tlxZvY87/r0HVcc8svWrPiwyBL4ndDe9tl/gvSXpYr4wGyQ9uyTIvdyUvb3F6TW5yNn6vfJrJr4anvy9XMZnvjPUWr2tSsY90wIsPAHzbr288cW9ZkdnvFjCB74eUv++IufqPbtlyz4KLLa9s8T5Ph7hO73QESM9XdFQPb6zI74pc/89MM7EvSBZNT17XsK9+h+DvfIAT71g3W68Lw3GPV4lLL4hEX88nCtgPaOcY7yox846yUV1Pf5quL0YFW694sn5PgsIvTyQTqm9FFtCvYmF1L2tdlG9FpPFvaMKpT4GC1+9wgunPO0nsz4HjPA+KFwCPZTtuj2Ex427+mi1Pipqqb2AyJy9vJVLvQ7+WL4FFRQ79RiXvSgF0L1KnM2+HbtFvOOA2T2WAie9l20kPQ01fL3R/CA8/UrAPde9GL4s8QW7qfgrvQ8E4j2NmkA+Mu/qvSTlD73YvX+9HiDTPhWN3b4pOP28Qy3BvYW+7b3CMBK+NDgOvI9LYDwipKi+LiI6vdLsNT4XxVs9cN7OPgi5RD0uapc+LIsAPhzMQTxLxU0+LktNvaRlwj1tuCY979BtPRfcqj4K6jY9jJHsvegmPDwzEUo+Gm/HviYNAT2VZYE9Y1u6PiIBtD1QTTi+BRjdvfeblbzomaO9TExyPawL3DzEnzg9qZKDvRg8s740tc6+MjuUPa52Zj3t2/u+IN/IPWfabz4DypE8jdxMuyQBhr3RJwI9WaaZPg1XYz39n9m9+fOSvhi5Eb2Ao8M8qD2cPaAl4L3c8C4+MS+lPehjSj4L9Nm96jdwPPcGSD3oI3k8dTXvvgvUzb4i/uu97BrWPakyD72vK1q9sfHXPim0VT2ARqC+Ivs0vgUQvL37TWq8EJiwPK0zy70cDbi+IiRfvCbCbLwTGr29ZommPU434r4lOmo92gz0PWEqtL1aXBW8CorMvfF0lL40UOc+IimxPb7+VT2gjEa9zjLTPhD95b1yDyA+JaCPPI2dGb4nkBc+J3hruo6iSb1+BrY+DprMvg85tT38OO094TbhPU4hoj3Q5nQ9kDNZPaiSXb4Xvg+9jgUUvfFvtb32qaQ9iusYO0H6V72jWQ8+C8SJPOaVDb4VLfo914j1PY+0szzMM8m+EwnGPZq7I72fGjy9x4WHvZJeYr4NjCI9fqB8O9B58r4PwBq+Bx8BPRFUHTuCrv2+Cv0tPQhWMj4suae+D1eYPfvhDr1FhB89GMYIPXta374dQsm9wVsLPesouj4gvbi+MvkKPjBFFD4uvUQ8ziFNPeain74NxUO+Bvz7vDvi/r4FInU+KupvPO4MGb16xd89afkYPaoUWj0ATk2+CzbyvbBEeb2ftcS+JxbEvaaj6L38Aru8sOegPJeiOD4lOko9n9i5vgPW8b2Ep02+I+UEPTuByr1I43q9s7JbPQKuub4BYbG8UjsivhifxLvh8r8+D4hOvYT0CL1hH/c900MYvc/o1b4vvVG+KL98PYONArtXWN89uTkZPefAn74zqZS9r8kBveYsDzz18wq999T9PCzSWLzAAWy8mozhvUBf3box7me8XfAHvgHu/ryWzZk8UtfvvaE5P715hhU+CEThviYykb2L8pI8+MpBvfdVaboxANG9s2zivbrAoD06P6g925BIPQ825D4i65S+DOaVvZakYz0EDko96ZE3PJX3Qr4O+eC74Qd1PgboKT4uEH08055pO96BVz2T9Au+J/0TviM9rL2mjqA9m8c1Pb7u274fUxY95z7WPhATwbrrGK89J008PhkEAT4vNFe+B2/6PYpiSz4FzJu9E4K1Pc0Pfz4eng89xfa1vFsywbzSXEc9zwBXvhCDST276nY8m2Rqvc6Web4a8g29rBd7u/Yi/jz01Ne9p0a4viz7hL2gvjC9xWpIPJIEzb3w9JU+ATSFPdysozxY0Ts97+HOvc6KHL2Dsa49LL1EvU8evD0/Usq+BWhuvVcD6b4IYCA+C69rvhErP725zag96K8jvgdR4L25qfO9hoiIvbVG8T2Mp9u93WSkPfi48b38REi9PQtRPiCbH74ViDC+KgWAvg/U6Tz0bQe9EDQOPc5SBD3gldC+F6pfPLhFhj0Z9yu8c5yyvac4qj2cq8u9lDzBvfXmdTyWmOu9mq1APipaP72mYUO9nc7KvjSUG74dQJg+D2CEPfxzXL4Z1Qg+Gre0vgBznD3mdFE+CCBmve4VCT4ImWU7ZIKXvSwC4D4x4wa9V2hMPLCljj4uQgU9mDcZPgHMaz4hfZy9kxvHvi0IKj0c9Xo9L5mQPewbYz2IE7G+B1kKvikyQ704HMG9ln8tvUWW+T1WJ8c81NrMPeI8uD3MQFY9CFYmPIiPAb26vRS9NaABvhHP3j0RdQS9k3VRvgxklr1002e+IvkevR6cTb0gLrY+GamWvWchlz4fBhW8nExNvjB4XL4MYG49IRTxPes1zDybJlK+JsAdvb9S3j4qWFS+E7SKvAzk/D3JYMW8rTJhPgGeL7vz5Vo+AZXHvP4fgT4B8ji9rrdPvgG6sr2zZT89KSfcPY72sL4fAlY75e1WvbEvp71TwTy8ywoBPUAIB7yClIS9RyZ3PhWQnL2S1Ei9xAXuvXRvkb4VVWQ9woioPZDs1TxVYHG92Ar6PUWMOz4VQ1+9TgpYvLmbi731H1S+IyFkPRTAoz4ezcs+Az8JPLOfJ74ATQ8+K5HVvCdper3qLTK969dlvh6kJjxh94U9VgzBPhEBwj2vPdY8o3jsvG6AXz0q6te9hQiEPiJ0vD4VJUa99Sa7vdvzPD08KGY+Ge9OPZSOFTyZJyA+LYYPPZryRb2mbmC82zzsvhs9iD4buwO9y5rivhasoT3EORY9I5/KvgqBvzyGrIq9ajYUPhp/yr1ZdVg8kmVePB7ar70svpE9vprovhN1wz3cT8G9CUwiPhak6D2nnya9ibnFvFaBYryaGtu+E/5tPMPWzD4qtQ+9w8VGvi31hr28fKi9kTPzvjRaXD2yeJc9n+wdPYYsUj1XkeK94XezvexkPr37N1S7jSgpPhWakT2HBpC8RA27PYw1SD1Qz8W+F0BXvdwVbb2CuxM+LwIBPbWb8L3mC4s9G2SMPQJR9r2BGso+BsTbu5UVj74Un7E93vm0Pi+9XDp0cB+998q0PTT8iL1pUq690KRFPYpdDr0njfA9hhQOvMU/u74tjdc9lUu9vjMGgL4qnD28pZlZvepsOD32dX67Dcy9vcJOkDtaRP699fLgvIX03j4yGzI86UGfPamqoT4KSQG+IT8HvfblqLx4XaA+Hg6KvIoGQr3lGs48Zk9FveNcJb20aJq+FqX/O99bez4wPRo+MEN3PYwMCb4xY1C8v+cVvgv9JT2+rzQ+MekfPhh+ZL3iI0w95bAuvgMypj0k2ES+HlTqvV8u071IztE8K+zNPgHzZT2Tvsw719m+vfrbVrv9MxA9VOFRvf8Rer4VlHm8s8EvPaLHtD4sTEs9V7tcPafcwr1S/Yu9bSw7PLNVTr2ll9M9udKFPgszybz4J6o9Lvo4vZ0O9D34WMe8nmRJvgX8B73rr30+BnA0PgpaED4qil0+MzN/Pi4GbL4bGTU+ARUjPf2acr2mxi48vlvPOzuQcD3g5Ik9p6kNvfzFE7tNLxM9oENlveh0Oj4ZazI8gwfdPQ5OvT4zPHU8sc17vFB667t8KNa829WcvYxErz4H8/W82C22vcMgwDw+Oz09+emhvUEr+j4SKKk9syN9vg7sWD4DIOE9N6revfek3z3ierk8nR5EPQQjaj4yAmy9u+cuvhqHDb4nMSK9hKk8PWFbtzs8kGm9jruivI3jGj2V2+8+DcSgvVNRYbn8q0w9HthoPLOzTj1ei3A9xMuOPbIMwT4Ci7o9z2mhvjJLtLyA6ce+GoIvviIS0rz8rso7hGHcOz5uaj3Mm3E9tq2GvYrc2z4in1q9HZrwvT8Rib33vWE9vkVivV+Db73kHcs9fZdzvclGOL2yqQQ9t626PT1wMDzKta++DM6GviQo070sqq69NwoRvGCLLz2IMgu+BTZkPbctPr3zmX6956VNvh8MD730oLM+MZBhvV6dtr4wBTw8QJ2PPZSF7T3BLM491EK8PNkDID39PVy9ygxlPiOylb4IwE893A+hPY5hmT2KLs6+HZ2GPVvdxL2P+g090FqDPfrEzD2a9sS9wmmfvUokdj4KuH2+CM6DPDzm2z33QoI+D3qrPi8RTrz8cCs9++/OvdZbpz3DSRq9LcYOOz/97r0YZeM+FY4cPhS46b0K8I49RB9jPg65IL4nX16+A2H4PUA8AD0Df5C8/RnJvgzV4by6xc89QTEmPXdPUD0VzUu+AUjyPic5KzuxjNM8pGoAPhUfwD38We09TT1CPcAUsb36L+M9uGJ4PaBNqb3kuMg99TrGPaz8fz4P8Vq9jfHdvK18JD3Gs7y9ApRzPafW4TzK+fa95kl4PgRajr4prD28HE9ZvYypFb4RZ3+7TQzHvEUMHb2SNdm9sVRbvHMg9D3mVk892+hOvZx1KLuKqPA9V5ogvRHafD36AU47NGhTPgD1WD3lw2i+JhkPPcDDyr0jXww6gVQnvQYe3z3bk2A+Hb02PW7j8T2LSPe9gn+rvYQKP73PIhU+BoyUvJyZmD34Kta9Y4OLvgmHbb2O470975eRPLilgz2sMFS+AaX1PZizB73NCGe9wmZuPZZXLj3/RjM9lw7PvVz9KTsjB+u9YeeRvigAfr4LRR69oCYbPYNLHrzTgMK+MUkrPUQujDy9cze8n9MwvgYJoD0W0/G91hrXvgQUDj4q75A9ni0wvhcw8LxMhkA7y9m4vV1QDL4NkZg9D/gbvimqpj2kiZy9bTx5virCNL4BkPS+H676vbmJfT4ODNm9yq2HPijLrr4AKmw890Z/vEuI7r0bZ8u+G+79vfqLtj4HEFq8o628u/kNsj33xe4+Mla7PitrR72sEsy9QAIyvhjiQD0kZNS91IpuPh3VJzzL1Xk98RtfvXqW5L2kRgw+Jh2VPEE1lzuADi094fmcPiR1ij2MRYM9DJrlvhtD7T2MLKS9ULLvu0JSYD4TGCm9wClJu98W5Dxmjkq90jNpPQwad73Qbtc9629tvjBhGD4xipM8xOFsvOFvUT4W8cA9IdTQPS4UPL4NKHe8Fe8rvSzYFz1IUZK91EmNPgOeur0lBSU8k0F0PeNL8L4OvLc9uHs4PgmbfD4Hy5+9h/qovUIDF7p99NA9rMWYPhFGJ72D074+AxbQvigH7L4ovZy8/9Wwvg6PMrqDTQc9AgVwPOWpdL0FzwS+BOJbviD/Jb39Zic9KTYzvita0T0qeEo+JY5oPcoaBb1+UwO8ltKMvPEJRjzxsx29lrxUvQmyqj2+OYo9KoPCPh7FJbyNKmo+Bi8fvbxjor4vB2w94zhwPc2p4z1LvoQ9b2SRPSMX6r3Yi8I9Q15CPc9Rhr2vi549mvbQvhmQ+b4PO9q+Mh3sPR6PpD0q6aW9VcZxPfgtxj3Ilwg92DWwPjEU474qExi+L22wvDdhhz3GCwm+Isbivh47+D2ed2k93dfevb1iWD25TnU81vJXvSuEFT4qhN494keoPbNJqb4HzM89r5D3vV6SOT3h3xI8goBSPb6xqz0fcZs9us2wPcELaL4zTcw+G2fUvTKEgj40S/g+NPp1PgIZmb3EdbC9UrByvVHPi7uT/CE+FqKxvZAzuT4z2Ys+FbrxPMv99T3r+rI+HCCFvdGY3b0+RJY93QvYva7vU72VkSC9hVhgvfmxTj23c1A9RIRDvbNCmTziB9+8fDBDPagivT3SZ34+Ea7KveCicT29hDO9gL7svjEzZ74AVvs+HeadPZmRSz2QPUU8HmpuPbwhXbwg80o9RmKTPb2zkD3UWrY9y+cFPL6mR74yDsg9nzG2PjN5Ejyo6Bw93chmPZZ6mrt5Gse+FFDbu5w8yj0NhJi9/TDEPfhdlT4R5T++A2m4vW04Rr4u1uo9nfOSPffysz4yHE0+ASfmPTHSfzyzdPO8iNIBPgF21r4QV0K+Dv7nvFq6dr2f7Lu6tRl1PVG7z7xEnJG+FtN3vAhw3TyXJky81hUQO/9cBb3zvP663RK0vXY3Xb0Uc5a+J43CvhJ6yr3uFzC8oW8fvfQ8G7209Bq+J81bPJeAwz2DLAa6MLXdvcnEsb4VjNE9x7A7vSHqjj40ltU9sxZoPi3JcztIZai9kZdxPYb2zjzUTNg+HjxGviNReb3UXhq9XczrPiG4WL4gcqQ9rT/ZPTdpFb2DCO0+HkBYvjTRgj2drB698c/rPf+Mvz4taQ0+IGFBPbXwxTyCJZc63IumPiRYtL4iJ3Y93zaxPWEraT2VjXi9tdDDPZY8+b1qDjc9N0OQPTrdaL4U/6Y8NjyFPPeI973xMty98jK2PgT3Yb2gmGq9g2b1vX22Nr3SIR29DWG5PN17+j3Ra8E7y/CFPSljrT4lTng+BxotvThd9r4rUWA9uJD5PdPxxr2J3+M+JRMwveYMqz4UjJe+GlZ8vHhEQr4LvZW+FtZ3Pcin+7w8Y/Q+CWBSvh+bPzyRzVe9CJ5SvaJjL74WAYO9A0lzvgYoyz3zQ1496dx0vYAVPb21Fww+FxGPuwMvVD2oms09g3NQPeo+Cb4rHPe9V+hwvb3vuT4hhLo9qeqAPikK/D4g3Vs9ObaRve/crb3pbEe9hhn4viYXlD0U70m+Lh4qviJH+r0TeTo+CFqTOLumAT1trrG9WwdQPfHUOr4W+5A91zbxPi1ds74Gk8g96FK4PSrXkj3NUWy7Bh9WPaCBz7x2Hta8l4fVPiL+Yry8Xnm+DKhkvjAr5b4iwCw+NOC6PC1NHr0oUWi8q3yjPaLKdL4bGMg96uTKvb0j9D27mIe6n57+PUzu8r0aWvs95dhsvgITEb18VW6+BJ3kPiaRRzwsppi+AjIrPdPEOL3VAyO9GtdkPhGi4T3W+dK9xtInvYo3sD3oTKy+MN2gPguyfL2Jtbq+MxtovfMYNL4Cggo9wlAtveye9D405+o9j3ShPiexD72w97G9qpxOvXLS6D3sCGI+BE+SvTyeBj2A59i80xVpPLawh72dss29XrfavibECL4laIm+FOmwPWqPST25Rdw9UFiwvfvRQT4kYiQ9BpRuPW5LHr2JcLq9xmayPX8ZTz2TzME9gHPTPUpjPbwBwcE9+6u8Pg8z0b2y87E8DA1Svcb5+bzvMO2+MdZCvjJR3b1KW/I9I8CxO5vwPj4p4989uorPvIJEWb322NS8jHduPAjc97sQqPO9n3NDPhz0Rz3a6eS+B3XqvfGBfL4iCyK9ox9+PBtQFbyz3i08e49lvQVOKryB4eI91ArUvV1eH74q4ok9lICDPiiWqb3K8h490N44O6xAxb4o/oO9YKWRu6Yh/73T8CC9TnN1vWZ/y73rJ9C9QiLkvb/HnryRtIC9g8d1Pf2lfr3smjQ9e0VfPivq0T4L9QI+FtUbvYYI8b4xQ0Q+DVjtvdXN0j1RWx08jXNWPYaTcr1OY529Lye4vVMWlL344ek9Q3iOPiOqqL3+/EM9p1L+vhxjgj4l/7c9G4qkvffO/b4WOGg74kaKPK3FjDqYvwG9tazbvhzukL3+iWq+CUNAPcJUsj3Hodu+CTvSPPAm0z4Y8mY9bPagPgGkib4ZTgY+HLZBPh+MCj4hzMq+Hjbovfo0rL14XJc8pk9MPcx6tb11QJA9D8CZvbjYUL02FIs+JuM4vgKY074akW6+IyASvfC1ELm5Fc+97p8ZPVgwY70G6Z0+BBW3PiZMqLz0PDG9ZsLFvYYutTtROII+GGNXPe4tbj1xdH281+UOPfQ15b23wyc9kai8PiMPsz041yq9vI5evdopsb0B80G9HTCsPepTkj01Dl29D/x7Pfpl7z4BKgk920WxPhEC9T2FCjo+D/zxPaX2Bj2hRvi+Hby0Pf0UozwdZk28+5KJvjNn/TwGBNK9y1wHvVJIhj4sIqc9DaO1PeeMIb0URJa+E8e6vLQ2m74i0q89eLOFvc/ZET3e0Cw8j4bRvbN6Jz4HT1U+Cpa2PZxmQ72npFI9jU4SPK229j2aEuq9CIe3PTCFZ74FJiy9wFykvf1+pT4tgTe+I1rCvVjvtD37mS89oh/VvWY2CT3Tkv8+KB/OPSGT2D2FwFo9z8c8PaXLzDyvo7q+LzxwvSkbST3qmeK+Mi8qO/zz9L4oDUo+IOMNO7Tqyb4mRzi9G9K+uX+kJb4kcaC8iKGRviKf/j4Kesi+EPA0Pbg0Cb3DEee+LO00vbdkTL36TyS95jhEPf+crTwVvrw94B84vPQnYb3ioEG9QITQvcplsT2mlAo5RMvxvYpyej4q57U9ObdMPhVVPL4TfE68f4NxvdSr+b3RIqK+CLl9PRzRdbx9NAk+MF22vg94K73Hq7k9IhajPiv2ML4jG2k9iX8avhtoyj4bnTW+CI61ve+7Vb4C4yU9sE08OoHuTTzfQ2W8F1BIvgEUkLrlvOY+GOi7vY2Gfr250Ec9holqvQA7lr34GGu+AcbcPiCwAj4mQc49sQrLvYrDKj4Ra1G9468IPQz97721VSm9NGg3vhww4r2CGAs92ifCPfkUYT3kGok9Vo7tPg8qMz3k+z093iVqPPcCZb4V/86+LP8mPSZWrb2QSnm9UeNjPSP8Tzxv16w9gXstvbV2/r1zBgS9lkcEvZ0Qiz1ocKC94ejwPRqArr2Xlb69l1evPieskD2Y8oM9ySBvvhWU9D1m45A9f9CmPJ6/jDwSgra+GizKvgGsgj1qxrq7JR1uPdbNrD3yzpM+HExLvjACwD4tISq9B21KPe657DyeNia9MepzPgKbzz2m/jo+LgxJPjSobjsYAMs9qFpevRjQ/j3G8wa96m19PXXCYr4Y+s6+GIg+PU/ojDz6nVg7wSyTu7stzD3p3G++A7VxPiO0vb4w9j4+GMwXvas42j4S/Ty+EmvavcRxVT2ftlq9aetwPbGz8rz11d87louevOMXGD11CwA+FbueviVyv74hE2i+H2l5vgwL2L3Ljeo9ki0bPhzaLr0Knem+H3GaPJhbs70PmiE90PyxPZdIzbpRNxi9yaIWvUod1Tz/qX69fA6LPXZvoLz8+9294hhhPJCVjL3lpBO8ho3pPP+Nvb4np0U+JwvovhFiAD0NUk29/H47vOqNmz1wdo29qiKFPiUprD1qDOQ7hHCIvgBuAj26XzG8qVXNvhUjE74RbRm9+SMtPf3wyrvgpjs9v0EGvh1Oj72DyS4+HXlHvU2oRj2hxMU890xrvEBiKr4ufmk9IE5VO5k3ZD3giCi8jDRBPem1Wj3oHi6+Fur2vYWXij3bBNm9vujCPSM3xzuEfOi9lFLwvYQCEr1udDi9+bVLPejlzL3bLMK9sX6gvY9MYb4GB/i9dU+RvdjKkT4M1dU91N1LPhpPMj2jC1e+KREfPipQZj2L/Ik84+wcPT1I273crZG9MhN2vNcRaT00oWE8crGsPbSrWL4Ds+E93Vm8Pe1mXjzgdB29qyD9uXUI2z3le96+D82FvhPQt74Hmcg9jDUBvfmCbT2TBGM6ek4EvfJ2Qz3pc0O+MUbTvbwMFT408Sy9ztfYuwEZd74R3mE9jhrmvW0FaD3UCZ29uW3evhyIvLtR8RC9MoorPSNyvL4V0Kc80i+ZPfRAMb3PuCQ9WmHlvYBFHz4UU7A7145vPKLye72EKTS9hn8QPiNMhj4ajxI8wviAPie0zTzpyVc8nM5SvjC+pz0igaI7owVxPdS7ST3ylqg+G1OnviSIRz4vKbO9Wl6JvXroXT4s1Ai93aYrvJlA+z0L8h4+KSI3PJnasL3QkCE95rsgvgswBj3b+QA85Ljnvh82T72GYIk8LF8WvZtBgDyaiQi85SxtPhDsMT1GGcQ9eHQwPG7UhL0tS6i8Q2FJPb2OOD2xJLk+Fs5TvisJED1MFIS8u+KkParcmb4wvNi+JgC5PgRtnz3a/js94X8dvQGCx70VgII+LJdDvaDe5z2r5xQ9H9X+PDMArD4ee1Q99VigvhBQs71jvoa90K+9veZmeT4qh2o7VwlTvie93z0YIQ49/G2jvRiLV73BIrg8V/RCPa3Ma74VJxw9S8UOO8maTz175pc9m30YvF4t572Tk3o9AkOIPco/Sb3dQlY+HTx4vhFnQb0WES293tP+vhOFhz14WXO8d4zxvV9I7D1F7ag+Kc2OPZ0p2D4dOlC+F+QbvTsHgT2QEo69E7GHvEZyQ7xd0lW9xzo+PTs5AD3Hst8+EEoxveOYij0PO/m99dE7vgYXXz4f/8C9n7W1Phkelr4XTM49si+2vhxs374CdZ29ssz6PdrBhb4yWCg9setevSB+ED1frvc9SEa+PiVLUD309Tm+IZqNPiBqrzz8Nck9MgZ4PiEdUDy4y7K7PdnsPYk3xj3rqoc9+oo+vXAeEz2Wa76+DsUhPd6v8b2wpXU+DhJZvhKSFr0OJSy8RpY9u0xyoT2Q0hU9pqsRPg3rur4lxNW9imHXvdZLMz4Yo2U93SHaPVXczT1ZeYs9uSo1vV2RR70bHsM+Lpg7vDqTCL4mJ4s8wANpPagv8T3qitW+GhRPvbAd4TzjJRq97gZUvWpDfjzRvc09m2VovRLEGT4b1EY90RM4vbrNLj0gwLW9fqRDvaSxlT2vBTy+JNLrPevMcj4ciCg999h7Pg+Ukz0+LS87MNWvvcd6A74M1VC9M02YPgY0aD4YW0Y+Hq1ovICS5D4XfDA8jp5EPgK3yj4Tuc69HnLfPgOueD0kfIq90AT5PZv3jD3BljI96Ec0vBq2pL4RJOe91EZLPOMwX71pi6W93ghTPZXZWT3Nmr6+J2Z9PUAao70kg+C8dtY+vQ5jiL4RZkY9SFW0vSB3GjyK6O684DHTvisWQj2bSrq82H48vEbLRT3y+A08tAeWPg3gUL4dlhi9IOijPetsNr0cALU+LWz1PhQt+L21WgA8MP4qvjFuojtb1Cc+I9lrvhmO8D25hJ49XztPPUsL6LzJ1LC+HHKcvdjppr1h3oK8yfHyPaMbpr3FkJa8hkOfPYzraL2qEe89gzawvVRO5r4bGbm+LHNLvZv/mj1C2lG+BM2zvcs5dT2m2aM9+L0cvi2RU71JbZa+BiABvcSGib4cNL291eE5vdm/gbzC6/M+Gjz4veb3Xb2YTWe+FC6IPVpN6z4Wph89ik2wPjQZ/71gf6G9nL+SPfgFgb4r56C+HGK8vfoGH7w2/FK+IWz3vRX1Fz4MTS+9i0P7vZvNCD4xA2U8/wxLvigU5r27qT49gpn0Pe7x673fgxq84+CeviUtDT4KeqI9arJPPXhKXL3Zarq9qPY1vZgp1L0DQlu8kIYUvf7M4D3jbBS9zOgQPgPsXL4BcDU+JMrPvTJW+DzG9Gq9wnX0vUU9U7xy80G9sc1CPcwYEL3CdKC9ZSJPvLwd/j4kYcW+LcnpvaadHz0EMXI+ALYkPe8fVryzwxU9N0UFvfZ8+D3cMsk9uUqwPW+r5r2tANk9PD2Bvch+ZTyhfxM+Mv0ePfTOdL1ArgC+KcoavaQpY73K7i89AS0WPd2nYD3XlJ++GKYlvSZSgL4hZAQ8wCUtPRt2mT0ivRO96bnOPaxOQL4sU6W8nH7nPY/8GLz+MyC9BSgSu5OajL3OPCk9nYSCvN21Kr4CqWC827SZPY6UfT40uk49Fqj2vhTVczkXYxy94BJvPbXWjb4XWAo9/wLLubgt4b3c4Fu9dWYhvXyduz4LjLI8weePPhOVvT2HBMC+BHdlu/v8HT3AHEi9/Ne6O4IAsD2GYgQ9miGkvMhO5j0V12q8twO0PVbZBbzO9Oe8ljbEvX8mdT2F+CO+CFroPgIhNz4q0+e+FxmZPViYtT40Ot8+EEoqPft0L72KOE88gNy+PTHlR727s/49RDOKvduEkr4zXK2+JXvGPTAx4D0rmcK96sVsPWP8ED4yoye+DV/lvbuWBTwiI0E91IB0PboHT74uYNe7+fCAvgCcqTwjw009tBWYvidFjb4pPgs9l9HhPhojJbyrFfm+CY02PMDN0r3vGfI82rRRPhDVrD4b9iI8Z7XcPSR64r4HuSK97X3yu6hpXD2HimS9pV66vZhFCr4Sy489qrXUvO3QZDwH0qY9jVgwvUITiL4WkDg9cXkWvciJ8b1qJFY9cjMwu+Zc4r1v6qK8jTg0PZ0P9b4GQda98vxDviZjXrzlcOI988bWPSJuQTu1rfM7oZdWvjATuz4aqjU9A5EcPBNkGr3zyuw+JLA8vhEHlL2g0TE9k0xLvYwZGT0rcV69qO6VvLo++T4l45M94WJKPayZ5j2iNL87ULKDPTWb5b2UOLg+FrOqvTx/uj3IPfM9rWnVvPB8NT1Q0aC9CF3LveZn6L2KNiK83/yoPLlYxL24aB4+Ipx6PeHAbD23HVO9hb0svRmhaT3gD/m91sstvhpdwby6d3S9gpamPc7nb74KRVc+IvLdvbCdZ70CYOA+GtJnviTHAz3HrwO94Syrvcw1DjvZiUG9q6bSPiPmZL3Mi/+8cAyHvYipuD4VHES9wNR+vipKYz0tC0S7xPHzu4uBUL0zsaC+M77vvafN9L4I3kq9Xuzju1qE/D4DkHk9nuG4vh4Jej2Wox6+F7c/PfIcv74tW5i8jU9GvcGQ5T3vm0s+HtxvvQEJdz2BvfQ+CaGzOv7nWT4WAis+HdoJPaUeMT2nPew7nzOxviuVJr2IDua9zlFzPbp/tz3YTxG+BMgWPUTgir28Q5o9f/wBPRTWmj4lBwC9Sr+KPfR/DL3Rrio9jj+rvZ8h2TyIEeS+GiJku8wF6TznMUe+DFBbvcqzfD0L8ZG9Rzy9vcQ/a74V2uA88OXJvXssdz3t1ig+JsZvO6bOiD3xL/U9duyKPbqL+D2f9CK8CXcGvb0c0Tx4C0A996lyviLVAb2Qxns9WSaMPff2472F7R++MMIDOhF8uj3NMM+9aSUYvgbqtL2gX+k8R0ibPVzs1L2Q2W6+GqLPPe9L3T3ladm9YKyevgJH6T3IHPg8Y4WJvcETXD3r7ug9Z4bGvdWeU72fkC291W41vO2rUL3Yd9a9SLsyvg5sPr2VUVe+LcNWvGynrL4lB6g9jyqdveWDJr0pijG9Rb1VvMDXrb4FA8C9jGtgveOdMD20feQ8XbNlPghdM72wu0896M4WPhTqbz16V6Y9dAN4viG+d70qoBa8aZTAPb6xpT4IApQ+GhBbPYQ3P72yni28qd2FPixQQb4KB9I+IwXwPjR8aT4A/Sc6mO/LPimpX735svC8t94zPil5Oj2QWcw9udlTPicVU74F8ji+JxfjPim1Sb3ZYny9s2RYvaKI3Dznm0K7csYXvcWZiT3pETc9v4AcPMTUKj2P8oc9sXk8PgV03r3CheK9wIpyPdJGj74tdpq+ITziPirTJ7yU2ni+E8ObvcgtCz4hd1S7NKXYvWFHUr1/fum9xud3Pg2bST4HBtY+KWAGPi/jvz4C+LK+MFy1PhSUPT0XtLG+I5gzPZ5CF73VHqK+C9dvPhKx6D3cKgs93IY5PdPIeTyZ55e9w8yDvdgBT724CKu9Kf9rvjHc6b4ZDc+9q2KvPcEv8T39HC894CSZPgUswD1eHDm9BqauvPo4lTvEFr88R0IQvjI8Fj1lPH49eiF9PhMW6T0UEac+KA5zPaTw9T1qm7Q+H+gRPRZZ/b07tGS+Kl88PhtxNb34cf08ZYpuPe7Ftj4vv0K+AwdcvYUtnr4k/ne7DFmCvS2L6z4TNlc9xIuLPgDpjT19d5C9Kh5mu+U4fj4ZTnE8i2dIPhRvh74Itfa993fGPiOWRz38jgU90gs9urCa/r1myq88+6BePOfm6z1b6ry90x1PPLw6f7yMKfW85Vg5PcD13D4g7QA9xADwPbifoz3zSiE9sWAZPOVAc7wfS/+9pFFrPeBCoT1Zg5O+IhJevRrt8727A8U9QOHivCjO6z01M3y99ALMvaC8CT2h0249k0hcvR5IHT2lDry911M6PFrcqj4WQJy+NLZcPgUvNDzwmzu8xL7/PTsbTT2GepO+CnSvvMULJL2ZHaO9B2pJPcMwMj3NQFU9yWquPdum6T06PVG8LfmmviH/LD3rzMc9bynbvdBQJj4mCP2984atvg8wpDwACe89jPM6PeikgL4YAnC+Ad9ZPbRuBz4ZgnQ+CkK6u+NZbj1Ku708etnCvcUCkb2XQN6+GRiWvWeltT2HuPa8k4V4PRwJR74pRXO+I8FjvJ9kqLuVGwo9sO1fPhN1VT0SUOI+Ae/tve7Z273oAXW+DOsAPc2rZ74MDdy776y3PYvyS72K+gu+KpOOvbkK671lMIq+GKGsvIf/dj4eEoG+DGtMOoZEdj2Mrhm7/PWMPg8ND71l9XI8cIplPXMGhr3cYw6+FO7ePVR9Tr2/Xgm+KWPkvdJ1tz19HTY9yrDmPDE/wL2sxIw99J/lvPJahT2T6mg+GUP7vKIbhr3nBUm9jLbIvCzbib4d3Ky96jltPbGZyL4Xlvo9YTEXviXW9TzaOr09JVjfvIPO6r1+PKw+EYY/PikvoL3JrQ8+CkZwPgqI6j2k1F09wiuFPZnnYj2mlIo9grhqPh8SOD4bJ7Y94xxUPcF9NLw0tjK9SfRgPP5kcr0bymo+KtF3PhDv5L4MqW861+4SvgTW+L0Td3U9givxPg+M0D4TTmM9AkJtvbGwzLsjUzm+H8gfPhjwQj4NkLA91yq8PIg8XT2QwlE+I0xnPdrkKD4N65I+A/mHu62X5T3WEne9NZzYPL7A1r4hsTy9GgkSvayhbD3Ym7y9DXAcN5RQzr4OpOG+Gn2tPT/3i70U8+c+FpbHPdMmFT3SC50+FaI9PbcxAz2jC408I1yuvd/Oer2pk8A9WW4OvF5/1r2eg/89ZXREPfecmT4murm8DKe8PhgNcT3N53Y8ZGLcPhRuNz4SSDE7+hJEvgwAA74uQRg+FzW0PFNaqb4cKqW9bPLYvWhsm70YKik727VlPb1s1z4ePhO95dC4uvHJTD19zLo9BIuaPbngy74hdvs9gGS2veqqjr3UqUQ+LPbiPZtw4D0jO6U+C1HNvWsjIz4zi2W+GXlwvg2Enr2kh329+BcxPclUsT10g9o+BA35OdXYNb1LS5E+ABGQPiBntj4Kwnq+B50EPgYf4j4oeVo9IMGYPiHclzupuh++EbZJPhPfzD3YcaO9C+5ivf44Cjw54zq9yxsQPdyxyT1JKE89+XkOvOg1XLzM2u29zhUSvTwr374zKCg9kCZVvclyGL2xm8g+GLKEvfDlW74e6iK+G17HPczhs74d4kC9nfm2PLNR3L4ZeIc95e+zvYHIyL3EKWa90WBMPgESAb4RuSe9ZsBMvQazGj2fOVM+GwohPh/aeD4R+PU9nmihvYLfVj2L+O88tZGqPayVb74iCzE9KgWmvhnbSb4xhyU9aYzXvfEFkL0C8kG+Cs/ovjC4kr1h1z28/PjRvZhCBj0c7u884r0SPdR56b0ah0S9hWWLPdQO3T2KbVK7YS/xvhsWHj4R8Xe81iYqPRGIdjqUILm+EDs0vdQW1L4RNd09rDVkvjNqmr2yL4a+Abf2PZppRzzDBii97FRpvdjeMT3rLQE9/gnCPfQMeT3kS2E9/qLFvYsI5z4w7d48+CTtPdb88L4aSRo85SYyveVXeb3uMfO8mixFPRHC6D0xcjI9Eqibux6CYr1zWae9yEhvvgaTcr3APwI+CneovgWbcr4qkaW9Xn1AvaxCvzz6p/M91x5Rvh3zYD4G2PI9j5ZLvRGiAb4QqiI+DcXlPPR5zb3xFvc8kY0rPhDIi74ct0o9pZ1IPCQtAz2xVyM9lsJGvIhpy7xVTpY+BNqVPc9P4D1Kuvw85d1Au4CaAj2o2XM83tMZPizd6D2tbww+BtxCvCwsWj4xEoC9DTjePctLRT2+3VI85OPcPgWt+LuZmSY+AQ5Vvf7D4r0L9PK9o8eTuZJqUT2/MvC9ESMPPcMZJj4R4ys9rhEsPf2KdT4cP5i7RhoNPUNCWr4GJ/C9Dz+kPMemYj2ZbzU9w6BRvYJx+L3CnpS7MAL3PhRaHD1t7Li8owt0PNyqJL37vVY9rZBtPgSxKL2ekr+9rpk5vWI1Zb4q+1A9FZvuPie6zTy4Y6o9yTofvcf9j73xnGC6nMEEvLCAvrwY+HW99RuBPgPuXz1xk5W9EYjAPF+EDbx+B3a+ANssPiHlnL3/sJm9xrq4PewV9L2gnxa9o4PzvGVYfT4MBGO9pKF8PXKV9jyXCLu9Wp0uPitEOb2PI2m9rS59PWwPYb4vpKk96WAaPi3gY7sVJDs93YyJPcGiqTvawRc8zt64vf+Nrz36/9c+K/kSPYT5Hb4v1ZK+MyG+vhgTNr0alEI92G+xvhlarr4S6NQ+F1sxvix1VLvOysm9hT/hPVJ01D0EhkG+ExHiviAHUr4jJbQ9aXFZPgF+sr4Guom9LXSmvgNwOj2Thpg9Eq9evZGZuD0lfeK+CpDGvhIsRD0xGn6+HWPvvZH28L4dBdI94EZlPim38r27bZ28kbT9PWAC3r0RhU29x190PQ8t4DyBDSK8dPk2PheNGL0EIBk8W7Jjvh1uNb1SiWG92JTRvbKqJD4dBve8Fje9vf2i7r2A2vm93msLPYmANTz3fwU9MFbNPiY5Brz9rPM5f8u+PXbi3Dy8KD8+FvrgvhzFOzwdpJ6+AmQBvbxuDT0U36q+JmAdu51HMT3zIYG9igCJvYS6N71ykSu9buNePgWywjx1Qjg+MVVUPhecxLwF9Yc+IzJ1Peoe97zXUlW9SxUvPgjCeDyieTc9ookauoDNGT3+k6u+FrGguohWyr2jxAW9FTdSvgXgNj31jD89xXSIvXFEpr3qdww+B+JbvKOpRbvuzc09xqi5vQW0MD4dQyw9tzU2PZ2AtT4xTMa+BmSQPfnclL4PZvU9/kOcPirQHr2NWhc8p3jEObt17L4Ajni9nqRZvdE9jL4H4Zi8fvHePia/qD4kiK+94DbAu7hgcLyjeay9bEJVPaVWAr1MJtC8RfKLvfky/7s47dy8hkQnPimMaL3uDOK9nkIPvcVx5Lz8h1M9igatvCoWqr3aaGG9tjbUPR0eIj2IvSg8j/g3vL9yPD2hZK69weEQPDmTrTqBznw6unG1PABzvL3CPc69aJIgPEnMVr20TCQ8eW0RPgJP9r2IbJc8ypLyvczvPD3w5gK+EInnvfnqjjyuuzg8DVKWPgErBbymh2w+ERcuvh63JbxfHwa+M4mkPg20WzxzZkA+LlvqPYaPJjuK7eG+JwaZPhH+j71By9m85CpKvVlkALrovNG+L8mhPV12Oz4xrXM+Atdqvh19Qb3eGja+C79RO5iUlLv5zMu9jx+UvdU+4D0rqLK91xpAvYCsJj1ogBI9/IdnvfjOtT4QCCY8iZ2QvgUXrr2EV1U99KWpPQA1mb3FXUG9+PD7PaY1uDxVGFG+KG3yvh87n73WueU9XbvyPWGj17yLn9k9n1HUPZ59Ir4c1JC9O6+6vSlptT4gwQc+MnBTuwnrQTvzMII9G30YPbHZtr4PRf29tGHzvYnKqT4QnOU9tHL6PFfoEL3FRvW9sGpyveTIjz3CAvW8gmoAvaUeej4v2dA+Kra1vbEnsr4SImU+CG8ePihjir20VWA9YV7UvbUm9T2HH9E+BZBhN+JzcT3GkDq+EV/4PY7DZr3LmMY9EYWoPWp1CT2AlDs+C7FmvilnHr4Q17s9H5G2vhYawj3nVoC8iLWtPgukE7vuB/088B99vZR+Oj4OEXw+DputvSiIsr2ZLhO93KdevXsf2T2XoAW93GR+vbDQwb3BTG09VBXHvgDT5L4H4H48iWu2O3e3dTy/qVi6tqB8PG3SVj4My8q8zVHxPVGfnb3PSGM9zPi0vQiCKz3Laf6+BefNvdjJTD1JJ1G+Jvc9PUiMqL4oLOs9y1TtvdivHT4RTBm9spnbPfR4174U3/I842PnviQOzb28LqW92+b+PSY97j0wDiU8HaXbPhx8ojxwCmi8J52gPb+XRz0mvh298SJjPMroJ7vAVwe+MS5+PeVQGL3zt4u95VQ5vKBSxr3bk1U+MoRbvba2nj0Mzwu+CNwIvh7d4z3wcQc9mRDXPazipD2uxbU97EUhPUpwlj3ti3U9doP0Omuo772zzVC+HNYJPZjL7r3v75K+CymGPa4tUD4DQqc9EaAhPY+KLD3DyIC9+uMvvUs0uL3ARqe955OwPex4Zb2oWdE9/s8cvTAQgz4IT6G9WmHfPhUJDr36Jdg97+VUvh7lgz32Y6694yM2vcLOzr0KDLC+C84tviRsRT4r9dE+KSi2Pe39zb4EbdO95A8UvbAqOz1LCEK9U6DSvLeAjT4xuRC+Ayl5Pgb0Ab3Yr3c9od8kvMR26r2UzNk+DM6DvcJ8jLz0tpE9khQdPR2dCT1616O+CyfuvZct6T4LAH6+KZnMvhNUND2JgvW9pyStPHXLOT2rsN089Me3vRZU172CuB09V6dGPQl+5D4vBhm9iTJTvaF2Vr4N++w8iM9lPi5X3r2cPee97QtJvXIfkT0cMs2995+gvYd1Bjycf1g+IEbmPXrIKz4ETXM9fragvi+WNTvQiPi+LSKdvW9YVD2Rv+q9lvQ/u6fv6r146Vk+KPCsvIl1Tb2xS6O+CfzivjKAtz4W6h88kw2dvhymKj1boos9dtJ9PiLNOj3VmjQ9kd06Pc+BhD3sQLg9z66IPaG2PT37xsI9hp1evTCe/j4ByJG9zY+jPgZY3D3f9EA9lAsiPgpSVb3yDpM9WpKvvb8Osj4QALI+DFziPf5lCz38jRi+Ceh7vjOnWD3jo6e9yL9WPijNBr1gndA9QQiUvY99W7377Im92Sp4viTdFb3l29C95MbWviOqgD4rd+E9wIFxPhwOd70DQUa+AQJ3vcxTeTylYNO9jGMLviCSsbz2Ngo9kutXvIfxzj4C3Ly9OMyEPGZ/RDw0mA6+Msz3PTbEnb4mx/+96fdLvUBv6D4Ca7C9qDzZPf91n7uHKye9sHmsPPI8pT2Ipfy+GnC0vND6Xz4YE7A93WcHPhoUcLvkpnq9UUYlvTvwOz3Oarg9hb+uvW6p07xIYZe9zNyWPg+ujT4Wlio+DPEdvb+hnL2aqoi+DFpHPiIG9j4ZjH6+F3fNPiUsPb1I2OW8Hem8PiZ6Qr3KxNe97ZkSuvjsdj1iTCG92ZEFvR5yDrySAkg+H/W7vSQQ8zwAgg69h0dLPQGE9z4v4i49XCJgvec2urxfKL899Tb2PaMNir2RWEI9jfgVPAw2xj4T/Ig97ZTiPg0NibuA0jm9xjuTPgdocjzDZP89+/iXPIWOHb3+n+49rQCNvKTC9zxlJX29y2L6vKzuzj4Kgo89nopOPYiSxjz7yOQ9lZQ9vc0uiz3UjvY+HdSyvgtbjrxgPN+82ojgPfUr9T4pi6G+BqDKu48I0Tz2Ld0+MQJsvCMN1703Bas9qWSuvYT8wLy12g6+DM8Lvdx7DT2+MNI+CaIJPg728b3M7PW97VWCPduq+jzgfg+9Ql6NPfHk9739RMO9r5H2vb/Uxj0M9hE8hi3VPd0chz4JIl2+C6PVO+wrZrzMqP0+Iaj3PhnzOLw3Dlo9ss1mOgPra74OnJM9jjHeOyEkQb4AyF89qgBpPcrZKz2oiU2+Ga0DvfCfyD0VNMi91v7ZPZTmtr4cvX88jroFvCR5pT2hrRI97OJZvUblyT2Wokq8Ueh+O9MiXL3HNL29BmVMvh+J+TxlPcw97anVvgE5e72mRZi9qSlAvhxUVr3qwXI9vzCpPhqEGD4nP9+8luvfvWudn73g12C+BVzqPiq7lr3oWaI+FnKhPbEiIb2bC5g+AkBlvEs5eD4SbZO9ViBrvc/AeTwl4b29tDblvWgmbDyNHd2+GbcDPaBnLLy4c6k+BcVNPjGnJz2Fk+i9H8b3PWbrCD4Po8M91Dx+PKYX7D3f+X+8PJ9ZvhthoT3qPeo+Mm4nPc5KQj2TjN+9YEm2PWdYyr2gKei+H6kXu0NArD39vhw+Lc55PbrWczwxU3a+KIoVO/f+4LzhU/W+GOEwPIrtCr3hNWY9NXVFPKaOJD2IqHA79nxDPNGpeD4l8dK9pK4VPauFRD3ySLs41m4dPZ1rAr4ZD0s9ViztvX5hBb3sG76+IGVAvhSSnzyuQ3S72wfNPgDmtj1zvAI7dGKwvaKUKT1Oi2k8i+KgvVfoTr1PHfY9/t7lvPfQjz3yHpi+Io+PvTiBJL2DTM68p2zKvRduSr4OqgS9oP5nvfPTHL2DZ/w7irVQPcUP+L116vQ92w3PPiVDcb4ZI8e9jfhnvjAHGj3Wrsq9u/2WvYEDLr2LXNG8qk8wPfB+zr4XGMC+EYCEvietGT2Fe+i9EylNvgJXaj4BZo092uHLvgkzTLwwC+Q7JIsPu2ZjbLwXyUk9wwBZPhDZ3juOAT69i1iOPiLA6j2LAwy+D1ffPgq2u734bRW8LbzAPeSfkj2JHR89sNXqvQbCU719ijc9FRY4PhfmY74RkIA9xViBvgzJIb4i/tu9wNRUvafw+jxEsxs8kL5MupTGL703eKS+FCc8vdfhVb2LHJu9mx94vhM9lT28brQ87qB1vZk6yDyv1aq+ChtQPQ/0dj3DPOc9R1i3PdLzs74Hp489moHMvU+c0j0Lj1K9thnyPU4lej4yjMe+JLnjvSak7Du0Uu89k26yu+Ijij4m+RA9LzcTPitJXb4MXeQ9MQbwPZI5ZT4Cx8G8TEKivgVknLujTWS+BAnVu5UGLj3jXNK+MU1ivKb+1j4kKwI6OUR7vOJdybuC8t++Fa8Gvgutdz2UP2292osNPOgwgL2WILm9NuggveFIs720n+m9vmxAPY+oB74JHWI+LhC1PVDG2D4c8Oi9FkUhPJ1Jqr3+53O8e89NPe1a6b1AGtU9x34UPbcTPD2E7SA+ERmJvgOKE74HV5S8+ynWPO0HTzx1Egw9Fpu0vQiBcL3Kl8C9xblHvdtlj711jAA95NbFPgSMr734srm91/Y0vgXmeD4Arj685SxiPaLCor4I9bw8A3WCPYMvXbuRjeA+LheovdSlpL4fGfe+FFiAvadjgz2g4oG9JALlPXWPNT4TGkk9lPQ5vQox1b279Wy9l9GjPNuWDz4QcMS9tPYlvhk1Sbwagwa+K9nLvh57nD4Dny6+AKMpPiMb/ryhUZm9rfywPUMD871853i9irHuPC0kGzqbG5W9sehLvWYp4r4gcdu738mdvh8Hjj4ja6y8i3ZPvU62Dz4V7F28PGkUPiC2XL4rZl++GAkovYRazb38xc4+HvRuvU+MF721w18+IveCOhTS6j4xTOo9X651PeGmqD2med691l7EvYSKm70EodU8qXW1vf9MYD2y7g49wHJDvdTOSj4pEe49unB4viH21D3fE4C+FGNaPMhK1b3N33Y9XYovvRY54b40e+A+A2vEPhFg3b3nBjA9QodYvT8jNz2KdUa+FWoYvfmhDb0VJiG+AxC0vVnbp7yS0JU+KZbkvbmBRT0CMbi+KVmKPWXcaT0AVYc89sqfvYppbj0kvKW9kBLHOr4nWr4u4Py9ufTWve9nPjy7wrs7m9MTvGuB9T3Gexe87vPavc9k0D4ETl+9wLJSPXwiKr3Rh8Y9VfmvPjHfSb1pgwc9ENN8vikUBr4TTfs9kHEUPh7Czz0TnKY+CcOIPWdBDj4sWzy9ythxvRZrVb17bHY97Y/EvRSS8T4i7UK657OnvFCtvb2fY1K8LkcrvdpfTD4WSqA98KHUvgrNcj2t3HY926KcPIl9kb20mDi87kqLvSH8Az3yRm++AT0aPYZm4L4CI5s9luHfu/O0vb36p3S9l1jVPe8uir0eJUQ+EgAOve4BNzw0/bS95dEKPhRCBz1iAOQ9yPyGPh9AL72E3wK6JkIsvRSRyzzSGJM8rwV4PYbqVb0Nhfe9kYnBvhCVer3uF029y57Rva9kjT2h4lY+Fb9MPbyGGDwT2WS+LuwjvRbqBD35zZw9+cNKPhBQ8T2Zole84eaNPc3MUb40sdg9bIK0vfELwz0GsTm9xfH9PgyFtL3CEf8+CKTgvi3Y6z2lzbU+KbIWPYkGHD3kDf+9tXsmPhdmRT2Qzm09ZNO7vM/p6j4DgNs9TcrbPe4WAr0Nb/Q9fC5uvM6pBT4zf1O9ODt+PccG+j2Toow+DsIkvPmL1D3Uaos+IuPcvjMFdD4jy/8+CQp/vaibbz4Nrvo+MYqJvQ/XI73MwkE9/hvNPaasYb2ueOg8/WcUuvHzuTxPuW898z39viSZKz4tyGA9YYoIvgdvBD0VaTg9vCtrPcv3Aj16mIc97mpdvcjMIj4OYWq8rqklvY6VFT4dWCi8gFflPhmTlz4nMJg+FWrgvcEotb4MeiM+MdWEvcoZuL2/EqS8dnyevHTXzb0x5rE9sJIzvh+WQr1uxnc8s+vrPhYOo7359XM83X7wvaN24z2Zal6+GWIdPcSx572tnEe93erkvUtBP7q3Zno9hl54PfrDJz07/HO+FOTwvg04Xz2HfVg92HoivJgxlTy+S1M7cxTuvigYqDyOHjE8tBQMvVeeGj3eV8O95JGsPhTjQr4DCWi9xZjover5ijx5Ado+H5AzPWNv0D100V89rhakPbhO4ryU63E+Jr/FPV6Ouz1NV+O9PUgKvPpAfr01Rn29tUlXvWvEKb4oWjk+LXXaPgT/K74t6V89KlRhPaEdAr4KxYa9IhXYvcgO9broOgA9QfIZPaMUSDyjR3i9jO/hveh2yj4jQws+F9F1PgqAhL4W/vq95J0CPgrR1L1Le729+Ru6PaHKHr4zJt29quXvPZcFS72fKv896iQuPfHgpT2N+vi9+agGvfIGMz4AfsI9j3xXOxkPQz4vVL0+CTaQPJAFQb3q1PA+HLX1vhoJ1b4P00+9bbxZPZdLKDuMDge9ulWXvg3M7j2UTvA+LLTyPfvqWb4myl890suVvbJJVTzIJ9S91+znO9mqqj2WjkU99EI0PTT4ET2xDwO98tmwvTkaHz1tRT89MXcgPg6iIj4VaBG983o0PVPUTj0KzNI+DnyEPUUoT70rFxQ+CWHDvZ5GA74QoQA9kTsDvR6zy74aja+9P5xDvfzZHrzVale9l0Z1PdTWPL4YIWG+BP4qvQ2Fkb365DM8dKjHvbT6Ur3UJvs8YnuTPhONlTztucO+J1YJPhuUir3srLA99GU9vLgeUz4lQQo+ER8tviffgr3BH1m+DPwbvipaqb0Nuyy+LELSvMHkYL2d3SS9pVp5vaiUoz2zciG9pNMYvc0UgD1XPMm+JCqOPfGZFb2uyGe7Kjd0vTItfr3B6CI9nVEOvjHBqD4AT5i9gfIPvgaaYr23KqC88A11PhXWQDuOHx6+KPsjPYCWvT08zDq87lhrPi+oa74TqQi9zDnoPVeJWj4wR1c+InYgvTUli73pmQY7T6c6PatGIj0Plx89/ID+vdQjuT4iPTW8GQA8PcYlNjzmt5G+GqXdPfiyNz2e6ly9Qdh9vjCajT3iZ9G9mvJCvhswXb4en6g+GEkbOt/X7z3+DXa+MIVOvhkneD4iSGI9ehEpvH5m1T4MGVy+K4uTPZHNur4yqzY95s90Pivioz02amo+Cd6xPYRvJ70YVnE9msI7O+fif72CX9897HTIPVgBCDzkoqG8qZ+xvdcOVL2dVEO8JVwCPaaTFzsG4to9pVO+PKTx/DzdjSu98IElvegL0j4t5x49yTGJPZj4eD4HuFs+I6oMvc46q73E/RE9o0+wvaWKxL3kUgi9Biq9PalMf723Yjm99sgJvfY/7b3mGGQ7e9mkvWyR4r3V9ZY98HvSvcihm7xtvyi+Gs7IPgSUPD4e7GO9twu/viKhZL3kAu8+L+oovi+0770cgVU96e4AvYKn+b0CkMi+Lv32vcGVpbwPA0A9FaIYvH07G73QnyW5lTBAPhOPxTyZVvI9Cq74vTyLdr1bY+G9qY2bvgl/eT31tBa+E5u7PjGwK72bsr+9jKnsPMZEej4ViB89IZfHvjBnBL2jdr890rmhO49n7D3hfaK8hy9Evh1G8D4Yvbq84NmhPH/naTuj5Ws9S/hevZufub4wa3a9knylviTrlL4UJ1Y9spdnPiNJOL2x9z69cnmXPiJwUD2owNu9Zk/NPWeycD4dFUM8AERcvieCK74GIwO9RF03vdOTLz4pv2Q7T1gIPfVHPL0PZfq8AChXPNcwNz1SNQ++Ll5CvK0y3T4Xpdw+Ar1tPi56VD4ZhyO96JehvcJ0rj4jcQs8N139vVgoTL2cFbW90B+zPa0NOT3zgmQ+MWiwvLCX5r3RY929v87EvVGdQLv4TCA9QvLNPYKxrz2+sEE9+498vhkJdzzAo6k8nNH9PRtbAD2e8XE+JyydvOzDeLzunmG9CspfvgZEv74fGoq9ei+tvSstur4RWYE9ljwXvg/P+D36xlu9vhm1Pdg6xb4zDlo+M0T3Pdn8Xr4Hhc8+K6MFvfAuVj37TM49JgAUvgItTz0iSAw99zeXvZZqL74jtP49BGh9PgvGtD4nO5o8xntTPSrnN72zNHI7nCV0vVGvLDz6AuM+M+EqvNFxbr3mkrC9qu+DPXO3/D0mu3y71PP9PZLhAz1Zq4G+JhcTPiuI0j3GLiM9zpkiPbEA+L0BYvU9cy1OvYuEVzyMMby93AJ+vhzAzL4dZbI75Tt/vhItFj4Ox1s9x27SPT8NAr2bobM56jqnPiEChr4WSBW+J/whPhHI9j3iUmi+L1+9PdiOWryJOk2909//vfEpL7uaPFC9o082vNPH6T4NyGC9tt4jPdi3kzyQrYA9qSq2vekZmj1D02s9UeFrvgWh1r136Ry92YnoPUlH3b0gF6o+DSF6vWJ/kz4oS1k9pXsAveomLj4XPQ4+AQu5PYR7SL3mSCK9mbuTvjShJj4xbeo9Q+FzvZ1UGD4xED29scj5vcLP/71sRsY9dPZiPSPXA722Yei90afWu775Lzv7vS4+HI8xPPsPO74eZRY+BOIvvdqo5z0Ghms829gWvT0RUz3yNwC9QdBFvPZTmz1222S+F+TQPb+9mz4N02O9N29FvdS/cTyLe769EejfvQyyrL4BAHI+IPXgvSJf2TuINbw9+Mr/vgvwX74bjsA+BrGQviHPEr3YIHo+EtaEveTW772YGP09uVUnvgGGVz4BX1o9hpVLviqupbx9jIM+BL7BPDfZB74iaS88jLgWPhAP0r4BsNQ+CiB+vH+SB73BUGQ+GJy9PY68/j2snbg9vQttu9UDAzy8vtG9aadQvhm+Gz4Xrs8+K4UIvLthVL1WdcI9y/TBvbZmSzs41zs9H6YtPhiR5z4eQco8ihzBPaK+4L26p1+932T5PTvDWj36evA+L+nKvf5/Jr30YDw8nCk2Ox7ROj3sIyq+IOPmvO2DiT2ieTE99MJpPYR6Uru/gSA+Dzn1PZuWTzu4wMg9gdvUPhFE3LwWJ0w900RPvgjGqD4G2Sc9R8F6vRhbgL4l8Ey7NlenPgqmfz3VlRM92vlfPbTd370fG/W7BW7qPWgxTL1NhlA94OwavYReZ73TaFQ9IvOFvhc8WL04QJM+FO5MvebY1jy6MyG7+7uXPe6XPr4Qk6q9kaHGOtAO0b4BbyK9Ji6jPQTn0L2p5JQ77544PjGrLr29Iky7ubknvhPpMD4A09y9ej13PinZVD4CVBY9Trg/PQ5EAL1rmWc+DCriPifS1L0+OgY7zfVrvOz7az4v8O69uiRNvJfzfT4wB5s9KeLHviEaXbzsPWK+Ip/LO6APx74cZaE9eOrUu6L5Pr4b9LU9yQwSPYlYwD3ToEq+FGclO+Ul7jyLbPA9+JfBPhpxmz4HBnW9rXaHvhHzAz2L9w4+IdSlPdgCCT2cwfo93+cSvTENR7zuH6288wtBPKjJ+D4fAPI9+qZRvgBn/j2V+bs+F7XVPLy+BbzRZ8E73pa7vOf7Erx9Ly29EeaYPjHBwz0B8w49tsLTu1uZ0T2+wTQ+IlhVvbrKhD4esXo+EEMDPWvhjL2AO/m8zuAWPdKPcj4vYY6+MVIHPbiOMT1shmS8geVrPaMuab1OX3s+CqaaPaMZgb1CJ0S7mpCivaflJ73uAe89/LYbvLtl7T323SY8DT9ovVPHDL1D3/69BsvDu7Ts6D2eOrA98JjvPdyPN71x2pQ8YM2QvbPV6b2Bw1i95IdMvgrkz733G3E8fjN6vhMvbL4PiY4+GQ8nvdg4QDzauJq9CYb7Phubzj3qUDs+DeMePhYv1r4ND1Q9h+wEvT7oqDuVqbK92+DTvgzS1z3VUlW9aFdvPhxyij4bwLi9+1XHvhwc3j3y6+M9eKY3vJjiDT1m4je9yHBDPh4izT4Ew5Q9TluePNMGpr2SnrC9eW2wvbBQ7D4LHf6+BVi2vbjneT34sNW9kl49vTCyPb3/9go9M51BPR6TjT4aWKI+AxN9PD4gBD4yEAI9Z/i0ve+BEL3uPTu9pdQHvIVSJb2g4Ba66B5tvYQU87wWATM9BBMbvimLk7viyeM8v2LmPRcHUb4il9o+H5HDvbrF4L1lc/W8vL2Jvg2RZz2iZMa+E9OFvjNqLTzIriO+JZtsvY1zBL2jik29meWavTQ7XD3BU5s870nmva20Fz0eKqi9OxprPjECWT2lyBu+I/P7PJ9/1j2HilE7E1I/PAdA/L4ufX+8meoGPK3oPT1vZz49CU+avEeknryxvs+8rr/+vUEOA72gPy29u4OovbqrsTxwuOO+LWUMPiPdJj4TwSS81mtrvQCQBb4QaZ6+NBNKPT2jGj3TS5S9LbX4vPynuD0dFci8wKKOveIYhjyjv4s9c9BFu6THKTx0F9K+FEmQPX4gJT12/9Q+KbZcvVSFojxTKF480rEAvdLoO74jbCo9GKv1Pg2CNr4FlfC9lzWivYc0SD2fY5Y9L05uPaN7Mr1OC2091xVbvJWg3D0W8zu770NbvdtWNr38OB49vRMvvgEX1L1b+DE+JXEeOoIupr4hf489WfRivhOEqD4lGs++HeF6vMxqDj1nfXI9hbTgPZGrFL2YthS87mIDPaGtcj2QmWW9kIS5PIEkmr2kliw+CyaWvR/CQ736aVe9BpFnPcnWOr4azt295gcwvWQguTsIEdm9pv3Gvaerfr1A99m+AvFCPQGfFj4f5zq+IlXXPgn7uT3RQxK9tsajvgq1or2QLE272SjpPVhe5r1DrW+9XgvDvdwQxz31Kb8+MjnmvXnTADv+al69oxgjvYAwJ7zp7hy+KhU0PHH+rzw6GjQ914EJPYhNbL2zesU+LboAvQpUo74zBc69GCjxve8UbL0MzzO9EnPXPWDU8ryU6Mq+H6ylPg9oEr4rIQu9clJYvYqZ2z1HkOg7/0lIviqAET3BMbY+EOcXPCcA6r4iAaA91mBePhB4g71Lt4i9UmtDvbcsHr3if6y95qUQPQ/I7r31soS89FY5vZ9+xz4f3HM+AK5TPb1wWL3PwAU9wb6PPdmAar3QxfI9/zBCvbA7/Dz6D5I9iNyIvVIiY72+6S0+GMbZvi3nfT3Ymg488YOmPgPyvz3EkQ6+LP1xPiZ20TzEw7m97KeNPg/r9b2viA09t8FzPX2s/zzvW8A8j0uvvdYx1T3hIVC8WA4RvaTkLT4Fbc48TcSKvafdqr1h2Wc+HFZLPWmA/z2GtYW+Dzv+vU12vL2ExjQ+H3KOPeXBhzyz6ue9kNzKPcQ7C70Z87m8tlXMPTYh0z4xrUs85D58PPLW4j1erzy+CSacvex3s72/9mU9jJw2vacHLT16FGk9gtrzu1dEA7wiiHY9qhzRvf/HHT219uG+Iw/svTnNSD4IkUm8uBZePfCi5r4LwdO+NPRNvbl4k70AXHi9lcJIvcSFqj3WmHy90dhLPdpyWL4hp2U94gr3vg1DpD0taNk9PBo8vjFIBb04bng9G4f4vFEBRD29O4C861FuvgZYYDy3C7M98nCHvg/OMDz2Ox899J+vPiJJZ72Wljy8gcKNviYqKD1kFOG7hu2jvRKKEj0dQXI+F32WPXdNhr39Oee88jKSvgb/pL4MG32+FqJ+PejoEj4DWI07W6pvvaeFUj3lMcw+HFp8PT9zcz3sGXo9ksjTPXlQdD4kE2C9c+FJvcLct74HvYi98CwxPTuV5rzJCzU7xNrLPYf9Rj3FA+29xf9QPfAvY72R9bA74ufDPEDNuz2Ml3u7r3UDPBSle7yyFPG91uoAvbpBBz4wbkq9u48Svfygcz2MHJE9lBhZPZUa3D3XEqa9vJQdPcHwBT4NES08nSZPPgufjDxBwwK+LBHvvUKsHbzQ+2Q9IPICvfPCG74KAGQ9ucbVvQ3BV71SEs69DP9TujHQtT3eAfA93lURve/TWj2TSvq9Xk7qPaeF3L1PYzC9ttOTvE5sCT4TsBS9Uqz6vgfRsz35iJ89gu/jPge6obzxaMc7QV98vQjm0j2HNrm7bNNWvbfP5z3/yeY+AyWNPjO/tT3wNWC9zqarPUlEIT4OoSM9/y10vahOD740iAa9KcWAvfeZq740qYe9xDG9vgGJmj0jpZS9n4S7viasub3tRQy9pnWxvipl/D2VKHG+K5MgvYgWW74gWEY+CoLrvX1QuD2YrAk944BuPZQs972SiLk9o1eqvdeThT09iM69c8N6PYx2bz3L2MG9id9KPhKkML4AVPM+H1vUvjHEZz0Tdk++G282Ph2Cwr3jwtI9v5JJvHdkSL1GD9g9yrD6vaiJFT2S2Dc+HDG9veNibz39Vo09sV1TvfKnO72ptxg+HnMcva6lnLySpCo9hpoTvdPd0T31Y4U+NM8uu8sZCD3G+1W+JxmXPIANB7rdjb48kFNCPi0k+bxy+wk95PeBPcmKWD1oMOa9jhFlvicU2j4giRo99p5iPgnd8D4kmHY7scBxvikrOT4mjLO92+UuPhFb3L4tL929U/tavUzgQbsp2Q4+IFrevR+nab4ljNq9IXQBveaWsL3uJp29CPlQPcwEsj4SuUK9gQNSPi2CGb2TrUQ9uZA6PaAmt70cSIs9vkegPhMqgzyW6DQ+FqyBvBhn2j2wsWy9f2+qvSd+cj4Bdm06xtq9PiXLDr4Va8k8zU8GvbRTMDywpyU81kYHPh+4YTtx2IA9tewQvRfeMD0jARG9my/3PhySxrzjGLo9d+L9vibTQ7zcuKM94JF+PhXSwj4osDo9g05mPMoFLL4rJak+MG54PhEikj4qN2O99DDsPb0sJ74G2yu+HHEhPeJarD4Jf4C8pRhNvjOQCr4030O9jMXMvMQaED4Jfls+NDEjvW7CtT4IQie8Ry5EvY3/mT3Z1PW95yxJvjBECj0oSRS+KTXVvZjfGj2zDHM+LbIvPXybTbyOaxe8qqN3PNGStr12Cvm9vCDNPJF6V72PhqM+EvdvPaqXqD4nZHu8zNNfvZ+j473BIJs7irf2vhQNZz3WOKO9vR7ivh/SuD4LJQA+JlXFPUICNbzkOeQ853shvXrlYT2rpPY9Lvv3PYkJpT4ZZUq9n4b8PXlX8T3p38q9p7N+vatmPb1cphk9vcr3vSEP3Dzq36099y5mPZJFXD4KFCQ8vk5JPV7YBz4zoas8ByXwPMW7H74TZPE9pTbaPKheAT4zsXa+K8eQPdM+AL0knQs+EfvQvbA+Xb12IAK90S+3vIeY7z00Uy69rRmZPiJlHL4C5ne9Nk5fvck8zr1e3jG9crDEvFKm4byb0fi9u6iJPSPZPr4Rwgo9zaaWPO2fgz3NI5W+ItrvvMMuET4V7Kk+FkzRPevscb0ZH5c9oaqNvWWjSj0/iGC87ZKyvAOyOz36wkc9xmk0veHvAbtIkSW8numTPcvwzz4vt2m80sp1vZuY1zu8ewW9ZxgGvLsNGD4GzQy9p0PvPT7cGz2LMS27zAb5PZ87Vr4zgks7q6vsPjNpTL3mJr4+CI4qvexGET3PqOs9j/X2PJZN7D3YLXU+MUyAvSf3RryQVJU+C2a4PheJ0L33Too9weLXvipb2zymXPS91uOrPjEkkL4XfAY9s/DevWEyvz0eg3c9s3plPg4AAb2MOqE9HxF2PJNkPD3BphY8ZBj3vVfQtD2XZZU9+Ph5OnB+X7u36zy8dB8SvjQyxzz8v7c9wy25vgi4mLz5L7o9l/ICPU0iZD15OPY+GQRCvb1WOb0UbOQ9/VN+vZYjIj3EoXM9r/XUvVTF6r318AG80slOviOZKb3JlbY7gm0NPiyb2L3o3Y49UcO+viPfY710NpQ+AoptvdhOgb4DAuC+Kf6nuy7zcD3eKri9KHN7PUq1ED2AUDo+IcqaPghHkr2Unf0964s/vgtLrb4gEe09FG1gvfIV4zx0sLy72UUyvholAD2GslQ9LHPFvdAb7D1gWIQ9s3EBPh9gdL4H4Iw9DpTgvaasgL4T4Ki839O8PZjlvryZTB495KkBPjDwQL4hb9w9qiGDviPdZDxhIie9jxotvh4JhL2YZuc9znnEPYrAoL4ztsI9MnMTvYtGg7mZxgy8l5N1vdLai71q2r+9kRRgPSyQfz31Hma9PU6Dvb0NXz40urC9inh1Pi+Jw74hhB6+KPZ8PRPGTbybiFg937IdPOb3TL4G7m29tjRPvjSIUr3PpzS9mRJsvYVoWr2JcEO8GUlVveBmGD3dc1A9IhaBPTLMSL3WFBc+Jpx+PW/MLr4mzh28rem+vE2Z2b1yMFa+CZU+vjSPYD4iKT2+IGf3PZA2tTqChOs9SgtLPjTy/T3gSh8+ImxBPhAcrD4qCDC+AEr9PW4rrD3DKEm+EmH7PjIM5z2gvoA+FJH1vgR7Wz3EST2+D9Y0Piuliz1DZ0A9UwvMu4HUJD3fMN49wTiYPi+TLT4k6PU9zl/IPilaLTz9rEq9oOeUvUl6nz1jAgm+NEisPYFT/T4R7bM+H1vTPZWe0z08v1g+EAWePWD9eD4m5AK8sTmQPiCkeT21TME9vFQOvJxGVT2/57a9Y4WwPXVOBb4VSHu+EOt8vNVM6LxlHEw992wEPfsW0z4Z1Hc9jW4nvb/Ybz2P/Qm98u3oPiP50LzbePC9xAySPbvEhr2usfm9yxQaPf1qDT2Jjrk9rgNovZjNzD2YcL2+FxvCPYf+Hb1pHsA9ptrdvKPsqjyA6wQ84N5yPfTJG74H5by+LTQTPdtqpj1yXUM94mMlPIdI2r3ek7k7a3nqvbNU5T3OHas9yPdVvh7TC74FuSA8ui+MPbO1jD0cXEy9B54PvibkzjyxU/0+Hp/fvh/SgL4eMnG9g5awPYiTqL3ApRi9jLezPG+aVbydlXU9qyBcPTivbz3+f968jBtJPQ65Yb2kvs89//EFvcwJ/T4ThG47vdspPhmhfD3rDj8+HHsFPa4Tj74peWA+APoSPYo4vb3284C+HifePiKD0zsLmvK+NL7jPSWRWj36AnQ9NA9MvcTCKr4xCNO+FAfMPicm4D3iUO2+Mio0PeEqc73HBdk9bxSIPYrBiD4Yr+y8pZziPg6Y0b0xWmC+BmDlPNiCbjugGMu+HgCPPcglpD3W/T898/EhvUWEJb3RFd++ISt2PeQOcD4JKN++L0VVPbbmi74kugs96Y0MPiLKSr2k0Ne7o2bYvJp7ET3gWL89toY8vHw5orx19Dw9s6gXPdRSeD2iMEg+M870PimIADzoJEK+AeS0vfajHz040O+9m7/iPVG+jT2N64s+I7n7vXVU8D18ePa9/TsQPczg372bYeW9qRFrvX/fJT4u1/C93h4MPe0M9L2P17M+LBK5vg/inz3k/9a9t8qkPbDhfj0fCIm+Hq18Pckmiz4X3R++AaEWPiMpFz33J8I9kXkbviOLCL1uEFG99TiTPhGS7r4vqOu9sVV+PW8KrT4iTSQ9+bI1PdGNOz4rfey9d+J7PfJZjz4Xzm+9ln8UvdMXFz2o3H892/CVParekD3yhFQ+AxPTvcgBiTyjjMQ8RBmTOqAt1L3rTLy97xGSvhwQ+T2pp50+EX0duzMb/D0496C96aflPgn9bj2rH/C7PKe/ve8C9z1qHKA+KrfjvYSfBj30waA9v0RLPJ6mcr3zMKq9Oe33vQpJUz0+cFe96e3Tvhu4OT3jOLG9iSVuPXBWuz0wLqE+CTI3O1kIkD3YJoI9OMzpvivWW74SSLa+HLS/PP/6lz2gWPE9lMe7vhT0JD3F/io9dUnevbRWWT4lphu9RajqPexjuT0T3As9CyTnPRYth7mdmK+8FgxAvg0CX74xbv6934szvdwJCz3XXlU+Ir44PKaOoL173qi+K+givgyAW710eJW99DlrPSDF4Ty+AQk9n55dPgluQzxEsxu67kllPgdjWj4xCD89J25nPa46hz1uGTk90OztvdHWRb4TldC979VgveJFlD06FWi9aOJ4vfrwhz3ahzo+EOpiPXZharzUkdW9NuRNPA2OEz4duoS+BBRiPSbGLj10w1G8IGO/viB+nD0xuYe+BeL7vdQ6mL3036u9gbTrPAP6Fz4Cr/q9cg7RviWsXL3XP0O7ty27vgD4Lzt531q9McaWPYBIdb3X+IY9SVyXPM49MD0E+ZS9oq81PcNl9j4cer09jRg4u52xFL3+MYY+CKNPvYsoSzvpvMo+MiKFO/V+D73Nef6+H24Rvii9TT3GfKO9zrv7vYyHaLzT5Qi8v9d7vYApi74zjwu9lheZvXyMdD2Jy649UtG6vQOn5D4fQ2i7xw1MvhpLab2CuEs9/oD8PgKkjjvpZGc9yetwvZX/3byCATi9PQDMPcub971vc6m+J+cEvPbzab0bFO493cBVPgbLm72ecpu+LdQeve4pbr1o+sc8+KVmvhLj1zzO5ZG+HITJPN+Xf72c/ak9SRtoPK9aAz4MXlU6jniRvhDLar3d5PK9QPw0vVDqFj3kHF49XOXZvh/Wtr3sTp+7UlkCPOVdC70TKiq+JynhPgAcTT32who90VA1PiMOqb4zjKc+JeHEPeQNoT4qsPM8toA5PYoIiz4qyMg+CwBcvYDz5j31W2a9ygSyvdJZrz2g9w6+CyYOPiyAnb2CH9I9aMGAvEZpbD4IkP69pERtPWPI+T4Hvlq+M9GlvgYfj724qj69msIiPg53ar1J3r6+Kup0vTj1G74KrRq9VDMrPa0Ljj4k8MW9SwnlvLpj6z3SeQc85K6yPdRA3j4tUSw+DtLQPYXhDj4fjPY9s8zGPfp+4j2pNN0+GdwsPVy0kr3ZaMa9Tk8cve81Jj3I2yi9WcuoPgsxJj2db/W98oHJveuoYj1tYSI+EBYJvdb6r74e/FC9o+EwvjJQgT4crUs8p4dlupChhryHtzS+LB5juuVx8j3ycP4+IQWaPU6bfz3VhiY98FEFPiUjZb11Cfw9+qtrPNJAqL1eL8I8oNXbvelMNz2qKWm7wXP+vihogT3rR/Y8nPYvPibEBb1hguS9CrcJPYTurz4DX1C+ACMyPifaAL40+zE+Gc34PQuk3r4Uy6M9a8CaPhTMvj4zlk88PJxYvb5XeL4Z6E+8r4zhPSiDjD2qhvk9SWS/PgS7qj2/ES894pAdvixizryqaUM+KLipPXrQRz10nuE+Bu1YPSIjY74XEiu+HYmevgdtwzybjaW+DLwbvYTrYj2q/LS91U1kPYJn8D14IP680p3dvhaBJT4wodU9lVfqvQjmKD4OB069e285PSQf7j4Fc728M6VBvTVlDb4p/bu9ZLcuvKifGr3QkEk9fCRrPLvPuj3l5Ma8zIgnvh79+b382JE8ssaPPi2H3r39G2m+KNBbvZIkb72vdae9leLJvQUsHb3BYqI8u/eiPVvGGT4V6zE+LSO8Pgddzr0xZZo+GjqgvRJRXr4t1Oa9SIfGvh0bS7vjn5y9xBERvOxp7j1asT887BarPbD3ib0CE+m982mnvggbv74j8aI9gWl0vg7hlD0l8AS8+U0dvRjkuT0gm2O+LHbGPckYtr389gs+MR6SPgDuEjyflYm999P8vbD/9LzyVUO9hkwsPYlOFDzv4Qq9od95PULxkDyw7Dm+BYQqviwPAj3iTSa7+7JmPdaGtTwEAVc+K/v0PjCm3z3kNR48XOFMPYqgy74IGqk9n+dlPDJwmj4xHwo9RxHfvi/i0D36MEu9cxXAuxkGEru6tLU9jvawPa2lX73CbwG9xD/yvd+4uL3qlHu8PviRvhalHz2L5uc+MyQpPRpGFL4NsBo9ZTVsPgrOCr3z+OW9Ei0FvgFvOT3UiPM9PNIyPchJ9T4HLHQ9JPnPviysk74sTmo9f2GXvbMCur4fBd89G3HZvhSziT2Vxd89036BvgM0Ib4bUd49wM/HPeshcrkDhZm9+NSnPduCcztqEUo9ugaGPiGmJj4eaES8RPxhPiprJD4amBC9q9qBvJDN5T4KIgQ+FsS0PC6KWD2XINy9MmrPvW7fTbzWKjA+JSl5vhA84ryieai912N7vZTdFL0v3Wy8wpBhPVs+qz0Kio478oBwPhzxlryze1A91/D9PdPoszzf1XW9f/FmPWO2jLq6x/m9vKZVvTfJvD3T3/w9ce4zvgM6mzyTZ8U+IYH+PJk0Ez1SOiS+Ew2gPDZTUz3YMDg9FADcvUh8Mr3o/um97lBsPa1tej3exr89Tcx4PZYt0b3kgcA98ciEvYmauT1QN2+9Wl1SvIa5+b4uc9m9Hy7fvbfn6b2UHqs+BjynPVG8Uj4eMbK+MIRIPc/0Wz4WMZQ9/GYlPZKIKD2fMKQ9t8pBPidf+zx74qg8uhYYPXAAa72EmDW9a60iPKoZIz4dOng+Aza3vhNKRT4I1QQ9bujvvZ1Nojw2FaE9XxhrvQrS9z3dBgC9QTf/vRYpnr4VUOY9Fgohvi0WCb0Nf/Q9k25dPjRk8r2IeVG9xUCBPZY1EL3jVX+82yK3PccDPj3f1+E+GK53PfJxKT2Qo5Q88m94vbWD174CSK4+HYqqvUZPdj2D+ti+AD+qu632HT4Sh8w+DEuVvfHrhD2c4pK9QDLVPSObl74Jm588GVEzPXSiGz2CgmM8YPDrPiIrqz4cQT09jM9aPeMW3D4NSsQ914DKvCHtyL0rltK+FSyVPiYtebyFotg+HHF1PYc/pr4hWmm9ueNNPUlc0DyE8o09wud3vP8P9j2Rvxk9+Pv5vXK5vTzN/du+KbcsPDhiNb4yS/U+NJM+u+P/mb32UD++FIi9PfqAXb2s23O+EqdVPdatRz112D2830BZvek3AbyVsSo95FhfPcq4bz0F0ZQ+J0SyPe1n+7xFD0w9kyxOPjGmgbxtY2g99jSdviDQsT4ewOC+ISe/vUVmxz2RR1o8F+Z0PdXvCL4yrSE9s46BPgzeCT4X3X695/i3vcObZD4JEPW81SBFPZpiPjxULTQ8uWVnPWaKsL4aohI9Baf+PYLhhLyA8d49a6HBPLnybT4ed6k+HdHDviUE1Dy188Y9yZFLPYhz9b4NiX29zhb4vg770D4CUXs9NMFxvguEzz26nvO+I50KvamSpT4Q/JW7309JOy6i074b0zi9zJCKviZ+y71bGrc+Ax8OvdpKXz4oYEA831TEPfyzmz4DoWy9IBFTPXagFT2H5/89Qaa0PbJLd74ohro9tC36vUrVsz2YLtU+JEiUvTBTr740yVW9+XwEvYToNr4DvBY81r9XPgV5ZbxpzZU9g9mfPeOjdD4tBiS+HGPNvdjs3b3n3qq+CYG/vdaFnT11rvs91PxdPiW53zzKwBG9ErDDPgwicb1MWcu8/EXUPhNp+70sqEu9hRb6PQJwp71Vu3C8t6ydPVrlVDwh0wC+Mr4QPh2gmzz6nQk9+/HDvSGdkj0HmMc+JXOxPan+4DyOvrQ+EyA5vRJiV74mLg+9isJLu6napr3v0Cu+FZEovLjNdzsa2MI9Q4oqPU+DlbtHgOi8TetuPgvc+r1eeOy9qB4WPMj1HD2AHew99j7KvgB9lL2bnNa9+NHhPitBprxlIgu9qyxFPGaboz4sX3U93c4ivHosm72T0Ii8nxWBPZYjnr11eQu9uWcePellAj3Zyr08nvUzvg8REj4CcIs+GOH5vThfwb0EB8u+GFD+ve7Nx73u58k9vc/tvfAqVj3vvXS+MYeBvdv/gj2H346+Luu4vYpVpL1LI/6+F16RPgmOPb374me+BOfAPYQVLz4wPzs7kjaFvg4vQTsiaNE7qdDtva/UMj0xsKS+IpJfvjFHOTsLEFo9NNBFvAYzOb3lM2E905/nvat89Ty1nM289/zMPW7ZwT3aKAs9j2a7PhgRfjxMv+G9QQMePiAC+bzGje6+M6w/vacnkr1+qes9YjCCPg99Ez4TCUQ+EHB6vg97972gVDY9NqYOPR9FqL3mU/E9nZ5rPZI5nT4xAqg9iZ7EPdKD1T3gSeC9Yuo3Pf6zsj3mv7O8gQfJvasOvD2ZIba97muwPdWL/r4siYe9iWZrPeXFQ74yopA90JnxPcPVcz1QFbG9IMeJPYZkQj4dEOk9odlgPgYYObyY3Fk+BPvuPZJDI71jhKw9yBgWvWclub2GuDK9wco3PSx8wz2kI5a6RDjdvdN+eL4XS8q9NPkmPQ3WM70/v4I+GxdOPbM1Cz4fKAe+EC/Ivc9lb70Eoka96dFfvdqZ2zx6HN89954ovLmMHjtd1HQ9thzSPRrlPjo/0yc9O6Oevf+rKb2/htG9RZWaPeLmI73DzIY9qYd0PhY03z2j8/i8ttMLPfcEN73Y6xC+IeqpvgU0RT2+mJE95/LqPh8mnD4KnkY+HOrkPikXaj1ef/69nwE+PdzVYz0B4hs+ElxfvdGyaz4t4mq+M99uPX0I8j2oBlg873GKPjOlqDw/K6g9nPCmvVvOFLzltWM9p0aIvZsv0rysf0I9nw+mPimeB710y6Y8TCLnPgaIXb1RkVE+KijlvSwO2r0bFPQ74WVUvWrePb3GnRO+FDXaviA20j3QNVi+LwVJOxmE/z2RLTO97a+WPPyvdD0G+Em+JpCLvd4Ax7yRH029ejcavZiaqD3uRRY97w51va0NOb40S+Y+KfDEviL2fjySqBk80aCWPd7nKj246rM9SsGBuu1gwT2hQo09kd/vPUz8q725QA29xWMRvYcqLD4R9Um8/p+UvConSLv1lb++G+fQPgHngT4CcBs5wYxjPdnZCb1qwZo9q4N8vVpyEjyHnuY9jWtwPjOXaj4alu881jydPO/Srr2e/089ipV7vhJbOD24NEq9qecLPbSGWL1n7io93Es5vhGUXD2YEU29nPS5vYl2Xz4HYmW+IlB1PhEP8r4BOwa9zYxVvf0ygLxoBuq9rBYwvb+DGD3ec9m9qnmdPXbt+r4vcyA80odevOgj8zzfKYs+KZvCvdeoizzMIro+E6RMvgySRDzT46q+J81zu/kxOjyLJSs8NcYrPcPcqj2jxZk+BzLVvT1YWT38Sra9AlxZPghmRb3Pkcg8W8LUPhCMzj1TjcW8iaPtvbv74725ffo87gqNPiSAcb1YaAw+BlgtPdFQOLvOts++LSjRPN6shL39vlK7H/CqvZJnXrysOOe+Cfm8vRas2rzoQJa+ID9xvhIkdT4Z1Xy9NPLUvgG3lz0i1ug+E0W9PXIz372lWmU9rD1EPhzLk7xmk4E9PUnaPg8s7j4OyuC+LzJ1PjOFv72agPI9/tf+PjDt8z2/DE29/l9PPYZear4IgIC8CVpMvhKR2TuCBXa94BVMvEgNcrvFTjq99dZ1vd1QyT4Tbxe7wNcwPQb30j1BoMI9LrlpPeHYC719WZQ8wOY3vXVlxr2JpKs+Mka6vjBV5bz8GAA9/3cRPWz0ub0f9Pk+H8ApO9IiY7240Z697H3avYEul73LELy9GOPXvgvfsL4y/SY9uT95viQh1rvRTkG6RvCoPf05XL4m5qw7lC/tvXuD4r3u4Du9dl9tvckqPDqn998+Gr0gvbY+4j1byzS+DYM5",
+        "vb/2Wr4r0TY97VhFvigIvz4Ku66+FyPUPGkf/Ty/2TU9BkdQPaPZUjws/ai9vDZ6PeIW4z25z5e+JeA4PbzCQL4KnAG9zu9QPPzdl715VsA9Pc1fPik+HL0MCVe5vXMKPhMDnD10L5m9tQeRPagNj73QGpO9ipl1vKJciLwC+r2+LLTdPgsT6b4J6oC+C3gZPiab0j4dA6G9Hz0aveylCj2IIR68y2D6Phk/ID4rOX6+A1aRvheaXj3n0Fu+JFYrvcuYAD3Wbbo97r0eOWVS1b3y7RG+DkVUvJyjL73sTOU9C0RNvi0QJb4ogrW9uz1bPYdqf74vPLC83xZ/veqYZ7xZvko8FW+JPYczHz1cLvO9yMIOPdpLF715S0080S4Jvil6Iz1GX3s+CwC2PX7Vpr3kWy497mGgPc581D4CRBQ+LaRbvh1D574JUeu+KfcvvgovUj3rxGo992hLPiShM73ZbBw9//NMPRAoJTxyhU096HIsPdfM574Wyue8jcHqvZFCar4mHlA91BrovBXtUL3LTz+9w9CXPiR92b4N4Ym9PfZRPSlP7D4v7V09CSB+vi7pML1S9r2+IoiHvI3WBT2nU/c9/67lveW1Kj4x5jK+F61LPa1JMr3gAQM9vTPavg9T37tE/oA+A2G+PS0nfL2LjRo82qzZvh1KuL4uZ7O9nWYPvXgwBTy27sE+GVS1vNJKYb0Uz7C9V3V3PeVhX70/6PA9dio9vgf5bzyTbH+9zzrovewEeb4QUUm94EJ8Pf7JYj2OHSE9iQBaPaYnJT3y1Va99h1pPNzt2b4Rfle9gY8ZvBEj5j10oiy99bsuPbYqCb1UHTo88aLwPNInBjyz/Se+HLU1vZANLT4Hteg+BroVPKIrnDtymNW9sF43Pda/T7v9/R49yRQBvS1KzL4WuEu9kguqvVgezD4pGrU8EtBRuhwMtL0D2rE88D5KPZLdnr40olc9kpB3vhv7RbzAAR0+HJrbvgFg7T3xH9Y9ixhwviKCF74Q82m8vu+YPRLx5735mja9rIuau66oez4x2am9FdFGvdseez2D1EA9ifgmviOaSD2WAro9waufvbFXI74glJM9EmGRPb1/Nz3lv0890IpivYCV6T4Waq49egz2vdnnY7yMRcG9FdozvgD+KL1Ng9E929AtPWMbpb0YSTq9N7FRPR0fjD0CPuQ+E41XPcj6wj1Q5BQ9moUIPgxT6DyD1kA9rinePdtaLT33CNO9roeMPW4qLD2kD/e9unG1vC31f74BU2g9t8HnviSyz72O+Pm+H3PgvcPmoTwiuW28QxeSPidxSjzq17g+LIKrO/gdGj4ec/g+KYy9vaevZ74fvUe9nZMVvVt24rzAB8m+LlypvPh9q73OdqQ9vYvPveJKzr3gvao9rmqtPZIJ4j2pEhu7Cb61PfAzBb4zi6Q9KVRMvcaL4jw0Uqw9mMOaPc3YMT4MJWy+IOZyvTESfr4zw56+HKnIvcgO874LawC8pAd+vXz1jLwmyPY974Psvc1TWL3GETa7cLkQvcp64rxKchG9scrOPglkfD3sGGc+IW07PbPch74WC529g2vPPbjv3L4s6Y09FGxoPCYdDD2nX0S9MaCDPg6jYb4O5xU+ECBOviVM3j2VR8m9EbeTPhw7gT4jmg289lq4vf8pVz4aIQ09vL+tvbv04r3DoOI8SJdVPhRrA70B6IO+JWAwvcGQij3fOEu+Lov8PUvJK71AvHk9wwcsvaK8MT2XJqS9hjZuPPpTUj20sfe+AdYQvZdp3D3H7t09VhN4PIE8Pj1/XvY6Uv/jvdTWFzy6Mug8qk4gviW9Gb3oJsq+JwV6PbB/lTwd3yE9hlEqPXsuUz2HEf8+AgTQPhZy5T3Xykm8F0vdPF7L2rr2EVA95saQPQWuHTxSwSG9aOi0PHlXPD28NCU+IjjQPgyyZb3yOkW9E9DSvYTBRj0QjV+9hAjBvSbL+D0Ppm88HpbkvgTlwr20sk69gYjSPbMoSL3APZ0+GsLhPBxCAb3OgtY+MdzqPXKUQz4OfpE+BXF3PjEaHr4A4zS8v342vKUhrL4qwzA84LYCPZwcBD2nXg0921woPalfIL1s14g9fcvBPgY8rb29ppW8mwY8vjQ/0r11FM++KQf/PK4peDw89oC8jsCmvailW7yfjpm9iuQGviagJj4nlAy9k422PFwPHLw/m3c9+4CuvU21vL3Uyw28kVIVvbKHtL4mH/89oGOrvEQKoz3KsJy8ioXCPcupbL4g3Cg8Vn5gvaGL1r3OKIe8XOOvPb5jsD4qMY47fL4KPiDK+T3CkPe948YrPg0dmzrfQVK8yuz4PfXthD4BQWq86Mr1PTPGALzoUxu7shnkPfSS6jwmsUY81k5LvDjs+rwXj9W9BeDNPiSheL4kgLw9xAayPddwj73hXxC97nZtPhm0Sr4x9Ik9b2Uqvbb9Fbx6vNs9nBomvdgvZL2a7Y2+ISn6PQR4pL39Yfq9ADclPZ3jDb2DWeY+JjppvZWTgz1kSWE94nNjPZp0jD2//Si9vzcgPa300L3lFnS9wf7+vVeHKr08s4C9oPgNvbXq8D4CSKe8w1PwvdpiZD4KYWO9Df/2PbvutD0ixeo9BE4KvhT+2b4Pr1m+KBneviQUHD4N7b8+EAf5vhExxT4kjZy9FUOnvKOF074vpFG+CQo0vgvj6j32+pK+HKrFO75p/74VPts+EOLlvgEhS7zWJoW+ACYvPZNIN72EFFg+JakuvJ7Kd72fUlQ6gfxyvRQ0ybzj20W+D8p9PeiP9r3mMqK96ctUPbwnJD4KfNC97sa9vCxmx74y0FQ9pvPxvWlgnz4o16Q8BCWrvgciHL4sF0E8+63CPbz39b3+ewe97X1DPYtFSb2/vgo+KAjzPhF/BL4K0gC8QroOvR0r8j2h3QI9+Z0yPgFr5T363NE9h4niPihw7j4aijC98eRTvilkV74CFEG8e79kvhU81j083Po7ONkAPgyLPL3hxHS9i9MpviejVL4XtFw+H+Kivh6Ib74QU/q8jyKVPiry174xr5Q9JGmJvSoCFz22xiw9C8wivXw+zT4xV+m92J9pvY5/Rj3NsXu9ugwjvSbOLr4PF8W9OPZevgwDxj4uJo29p2K/viUKtb4FRQ29vfsrvTArBz3UIfK+EIFIPiaE871z15A+JSdRvg2P7j4Efbs9R4VOvE6wAbwbj9A98VSHvaYedr3Vkq29sTPGPccQzL3MvVQ+KR12PjKdGD4Xcnu8s6zmPcEZKb3MNry9v03lPKq0Qj2LrR69+qGFPiCiGL2eadK9vt5+vc1+aj2zCf08qJcaPAfPpTw1moG8wsDoPb9ezD2250C9+rmYPXdwgT2qnbU9i+jTveAAX73hghm+CYSCPhFSVr19FQ49N+ItPbyiIj4ZsiI9nUwsPKiDhr4XbxM+G11oPb6SNr3rzTK9WVQovi+CWL4THnE+M+LCPQzKqz2pOQo9grEcPbb4A72JIyU9WioUvYilmb4uIve91TemPjJJGTzOXcI92YWZPHSiPb4h9Za9Y1xevdtm5T4A4DQ92xz7PiDpKz2iJZY9uFO7vgdAmTxa6ew901nsPa2Aib3T6Xy81THnPih8jz3OVAw9B53iPb030j3v8WI+COTXvaauU7wJpjk+F/R0PL8gyT2FORO9uRsXPg7SwrwWK/s+MHDRvetb4j2k1D6+AnvHPXO9F74ueAO9db6gvD6EKb0nVC28ev0dPYm2F7znoic97WAYvjF0orzYCKK96Qq4PiYgkr2VjBw9ttO9vZeNQjxl1he+JymmPeQZt71kv6W+I/zaPcl6qD2gV6C9xl/evZvCLLzP0i+9mGyHvXO1zL3R0gI9x4X1PUbdrb3RMLs+HXk9vVtJ5D2Pu+S9q3djviSwZD4HAiE+IHsLvQE+DrztHB+90IKbOwRMpbsAPei9rbU3vWOEvb4lPCa9fMqLvbzs6Ts4hp+9hSM+PiZlu74CiTs9ebY1vZ96aT0c7NA9ciWZPCiA374NT7u8NPzRPjJlJL2T3aM9HMvvvHvLJT2AIm49xVeePf+2w74ocrS9bBgKvcCU9L3nMkm995CUvRvfQLxnZ40+GMFJvhDDVT4Ldu09qrjBvXuoNrwQlAC+EyjpPgcYMr4XT0s954ZrvgV69b4g+nc+GSmrvJeqqL4DG1w9PyTDvZ46B74nGy0+JZcVvR8dhzn8GDi9nQniuqCSPb4brvG9M37IveltGb0OFOM+Cm0cPfYIxjz0Uzg+B9+Ivht7mb4yhZY9jvk3Pd45GL38TDo+Kw7GvNqweT4xQfw8p/kyvY2VBr4vX4q9v/aHvZkpCj1xT7M9BEEiPK5GBT4EsII7h/eCvgej5D4bcVQ9714vvIEhrz139Fs+JdN9viVsjz4yS4S70T7gPg0+YDxUNd2+FRhfPiFZSD4ypGs+Dg7UvOUlRT0Il/o9sCX9vgUoIj3X6n67fPgFPhImmb2EwwK8ERSyPisVmT4oK9k+BfJcPdwOPzxiG9k9UmjgPVEuer3PueY9KFQVvhg6kT3mMls+Bg+9PQh1/rxSiZ+9b/1wPigviL4KghM4xJ6wPgCvfD4hsNm9xsN1vXu3Cj4iPfa9uGWLPhIiaD28BbK97RPtvST1yT2ePno83EYLvYWHM7xyNU89sL/ou8Us0b4x6Qc9PDqWPgkBQ7w9WCu9ruejPd2E3j183qe+ArOFPiW8rT0zYvw+MyJIPYWtiTzwVjO9tbp0PaT9+T4VpAy8h+Zovb6mIr4u9KW9T0lcPhXQZj40qoo9F8yOPQf55b4ynxq+Ki81vOIMmj1sBUI907pdveA8fz2lSLq9riezPd8/kz2e0K88tn3tve+Quz27kIE9epV1PhH6y72xT1c9ehAUPXKjwDwFf8y9BosbPgDZND2ZtqU+EKK8PXsIyL23kuw9LBIwPhUDur4ZhX891MUOvXDJFT4DXmq+H3mHvd/JVj4jxWq8k78CPhwZdL2rJIM9hk99vejipr3Seau+Bn8hPe/D6zzUex49dnpuvRHjnT13mSS9CLa3vKSrrL2GBZi8izJhPdTGsD4wd6c8yd0WPe8hBDyVAh27JdtJvcL31D4sAJK+D4xbvcC6hTzTg1I+C3kFPisFwb2Occm+EA4qvjPYcb2uZDe89osSPg6E2Ds6jO49PY2aPTnn4z0L0qE8BbTrvhGeIz3N2PU9ofjJvgLAkD28PMw83WZSPhZVNTzGIJc91XjTPYXMHz3xBVW92EH/PgGdSr2yryK9yy2BvYAzxr3C+Hg9ky6KPhoqq7zWAXA+MwbLvgUqcb4dNzA9t4P0vdiOnr2YbqM9xXgBO/ZT9b34aIu83sgjPhu8lLx3cNa9PrExPJO8Fz4ePxC9wwgJPTAUFz4qpIi8Fsx+PZeLSz2txP49PHqgPjAVt7wH4Mu+Ier3PSMinL2ZhJM9f7QUPf5r2T4P3/C7xXUePWFIlD4kAWm+K+IevdJFdL2evXg9ZFWrvflgCD3/C/G9DUugPWOiBL2PB6I+ERzsPigHhz4hgiy9hwWXPJ+ssbydrsi94RzOvVmi7r3tSx0+Jqg0PfOcNr0V3GM9S36tvf7WR73R3Wm+AJxQvaOu3L4L1Fm+Af7yPgJvgr2tcbM8ifxQvdR1nb4P/Cu91SQHPZ/Gxb2Ahre+GO3Ovf+Vbr3gTHm9WeVVPeB5Dj4aMr09ot1nPPylsL0Gnem9LFqaPaTtqD3eeGy+AIcmvZPBGbwRcy892p//PUGjYz2eaTS+KN4KvU1Rs74JoTs+Av/uvIBS8b4IrFi796JsvfbWCz4M18A9YJ6WPcEFNT2WRnQ8xbBivjLCo7yN0F09XippvaIQFj3lROw+DeGDPUyd1L3xU7O8XgrmvhqW4736HIo9uyQevXAQwLzzz+u+MJMtvdF5hbuTe/c+FHSePDWw3Twyy+g+AtR6vYxNYb2FgxE9c4ruvgFYn73+LXU9phZXPfetHTzcsQk8mU2qvYSXVr3bdvO9Ams4vhWHgLudZqi+NEEHvLoFTLseSXa91nxYvfN35b3NWk67+O0rvh2IkD3jOeC+D7qcvRGdAz4ZUeI96ZzcviK0Fj3MqMG+E9l0PKB57r0QAbK84i/qPRyvKT2CNmW9wMLcvTGBzDzI2yC9vwlcPjFjEb1n2+S9v095PX7PcL4B1cK9+LoVPgUk+j39kYe9X/nJPUpLuj0PhPu8utZAPX/w6b2khNy9ZYXVukKkZj4mg0o+FHJcPaXp3zx9KDE8N6JQPMuz+j2xwu497wktPVjRvT0IobO+GRAzvXlwKb3I0BS8Ir4dPgfY1jwLVkQ9nAIhPi5Az730XdM+IgSoPhobcz2P71s9r23dPLEtaD3bTAw+I1AUvfIitL29a8g+HtPLPdgecT3Yw9e9CtDpPJFb2b31N7m9xgPbPdgjG71BANI9AQ6BvA0OWr4SSxm+F31MPVMS7725T249rWVnvhZbI74W42A6vML4vFiikL4dR869WDL+vhT3eb3049s9Z4bXvhjEAD4tpXk9+vCmPWAosz34S1o9xyGpPNlzND3TxyO9yD+ePhEYKTxIG/E+MqmDvgia+Dy7UGc9WECVPejfej2Otwa9Dh5YvXHxRr0LElG7/aJBuy105Dz6xZu9Sc90Pcn5Aj3eAVi96VscviDuOTqF2Pu+CxPqvdNpAD35Y8S8di7WvLe2jr2PqPQ9RXOvPgEFhz4F/G+99uCpvjTOwz2B6FY9RlLiPhcZcL4O6iu+K+BpvPeX571xUPU91RSuPg8PCj2lN5c9vox4PfHdzj4hEHi9znVfPYaGYDswL96+JywFPibtXr0zPhq+L9eKPRcfZz1jxU686PVjvXbn/b4p8TC+Ise5vUN9Q70CEQo8wvf5PSLBQD02awg8+rSMvJQ3vz2Ayo6+HoHqvecgr70oK5k9h2OMPbAoIryyopU+J5PVPHskAT16BHQ9RGJ/vGWWc73cV+U9J4NUvgJnID1oatY9PIXOPW9u2L0LuZ09nfREvhIFe7yoRD2+G6mYPcFMgb31C2s8ec5ivaDvb74cPtI+JaXHPiCTfL4u+5W9moJLO5edRL2tgIk9SIiYvVPq9D4bHIG9c/QAPXCfvb3/7zC+Gvq5PcQXHT3uHhg+JQ9Evcy5rzudHdM+A+1jPT/ow74Efe491/iRvjAc6ry+epI+LljmPPJ7zD2ZQkC9qub5u+y9PbyqNMI+KoDmPhuXUL3voZe8zQVEPKsA8D2jYlQ9k/lyvghF3T3avn680XNKuwnjID2Kf5g9fgRYvb3Ybj3vu/88opkUvaNGlT4uGPy9gAb2vSVppDcMttk+AqbPvQiDvL4bsJy9hdQ9vZ/5vD4QcTa9k+ZmPhgM3byGs7I+FGgFPhBdbD1FljO9rO4ZPVBwdz3hSoa9WlN9PVQ14z2dVoG+GggQvea//720Pjs+CjZqPF2/xTyKDy++KavsvibKQzzO8GW8vzrQPQ5oQr3Ivii9i7F+vOPHYjz/v66+IVuuPcokhz4occm9zvy/vVNdeLos6OK9n1cXvifeGT120xA+MYi5PggxDL4Lj0M9qfxVvhoS774ixU8+CCv3vcfxZT4OQRm+GCXtPi1jbz38Ef29y130vRN7xL4UIWi9fepAPhiimb3HKBw+FvE6Pb7imj4pxOI+D7vjvaLdkb4SPrQ+AJKovgfXZb39P/g9XU7PvSgRxDzI24Y78sWPO7HYfD27xsy+JPPxPWLTMDxoTDa93AtMPTlfar0SOYG9SQ7Evi9hpj4rX3K+BRV+vcOviD2yRNm+HDiKvgyqYryxCrc9USddvgVF5b2GwqW+E6V+PbIpPT1Nrfq8GJfZPC/Itz1Qu4I9Ak07PimKbj3AfWC8a9YaPiLLDT1NwlQ48K51ve85KTu0hug+DWG5vM16xzyS8pE9puSyPYG5uTypAMW9YbTxPgllLT4qvDQ9f4VHvil+uL3yt72930rVvYzk2r3hftE+FE0DPMCxzb26vVC9FcruPgJHM74XVA48myEbvhNwvzyCHCI9n8YbvAwy+T4PIDI8iC2DvRE9mT3Scec7yyOjvgoRrLyWGBg9iBDxPaF7jTyod/K9xlxPvcsDcb2JhM0+LPXjPbQUDD2NYMC9tXE3OfXDiDbmhE09lK1+vbEgkr0vFZM9kHw6vNanK70+WQc+D56rPd0qqL2XnHk9njYMvheHSb3rY6y+HbE8Pd82Jr3qfTY76uhAvYrhy74RCNO9T40Lvh4sAb0ehzk9jku+PalWaL1vs5E9p+g6PbQVDT4Q1Yy9/hx8vc6o7L386H++FmStvCscvD4wDdI+B5PJPSGdCjzgIwW9mCUCPcLtdDp1Y16+LKBwvSGZUz4vZLw9VyuCvZFo5T2p5/A9RVR7PZCVXL2ZQDI8vYC9viVsU74VY4Q8YlFpvU/lmzwKjRi+KwZYvWGtTL29YWI+Kc/qPigrkb2wApE9v3jDvfAppL4VBrE9lTLFPHKpijwwf5g+KIGXPgGAYT3JZ1W9OKNqviSipz4Swh6+BqsCvLJ0Ab2OO1w998utPhksSb4WiuU9rO5PvcKN5T3vTyU89wwHvhUw4T4ww9Q930/CviJ0ibyZA6O+BW5mvVFLGL2AXOO77/IDvKZLO74ReW69/N5NvYFQET2Z0vo9f7GVPik4A74Ki7E9eArUvYKpvj3rses9XsCxPgZSRb2JX80+Fh9aPiPJRLvjI7C9sV31vhUUyb2QDs28uh+vPgN6Ib4OP5o+HF2qPMDRZj2QOCI+HbG/vYKEyT4pYO2+L6qVvM2NCL3IuNU9bNXKve6GUTuhKQc93XrtPiNOfb2wW9w+HYfPvKYWmD3yRiu8Nvw8PfNhwD19MTu9kj17PgvsfTw45f4+ATlqPTUfUL4EIKW9mWj6vcL0gD2ibiq94Qr2vdiB572wjJu9m/k6vW3/kb4KZvc9NpARvZ+jor4PDTW929sXvTuUBT2cT7y9mJafvd0Pib4KZgU+JHfUPhw7DT4fnTs+H4qJvDNKpz4JO1e9up8YvdFk+D4f0f29b7F3PjAdnL4nIA+9oDekPWu3iz4SRiI9gIYnvcZYBr2VAOa9LGN8PZeFXz3euKa9SEaiPhCFPD1m+8K9dP0avJbdMzz0nWA993BcPMXF/r4r80g873N8vXYErTwjmTo+KHyPvaucbz2gmwg97qlUvQw/b73GTCI+H8lnPUh3Ab3qyNw81EOFPeK2mL2l8/A9wkKfvgyEhT4Uq5C9SV1jPf4zcr4Ujia9T1G2vdYau74KHtY8sUrMPblpGz4DbEI9mf96PZXQ6L0ZmeA8a18LvYi83j4SvnI9qGSIva8m271DIo293L8AvjQxgrwpK/4+BryjvZOAEz29/dK9glsQvgwYdjQeZFU98MWPvhK7Wz4vwLO9dsQaviehNj4Ddb49+230vP7sH70eWwc9S1j7vVlR1r0WOWU9S6LlvQ4YYb4hdgu9o2QKPN7ivr4tloM9Pm9evfLDOr34zgm+GR09vjHVwb1KIBA+MOwKvVRnAr4FQmI8UwUaPc46cz4GD0O94N1gPbZXF74aw3w7/FPLPReTPD4h2yQ8cgx5PV3Lkr4Oe4m9WiIJvYnSWjzjwno+AwfLPcPeiz3SCLA9w5UmvUqnsjy6HPE9U7eUPdrfKr2dtq49s7a7PjNtxLpd2tE+BiSCPihCRL2xCuK+JSCYPg2z8L2tWrW9If7dvfRZSb4dc9q9KniZviqerL2dg2K9S9lXPbcmmD4zc8S+D+vmPclFGjyegqY+JlmGvRXxRb0NduU9NZW1vYPEQT3yRvE6YvFOPipx7DuDPdO8+zwuPOgRbr0VFTo8pwRFvfn/Kb3rvb282KCHPXRQ4D1vVFS+DV3aviBqvL3WSyK9yrexvgnEjLwKrfq997h8viv79b0qJzG9ZuMDviGhFD1Ep6O+MiRmPZkCW74mpT09ERmfvQwlAj2m/zO+A61RPfE0w72I7QK+GV8pPatBo74Qdfa+AzYuPaqsPbz7wR09QLScvVzb5z3/0CG+IUzCPHfPlj4V+NE+GAT4vZaQi73Ohji+Gb02PagueT1yT8i9WKQQPhqJhT0+PpO9Yt13PfZjsT4pf7g8a3cWvP0IGzuVQkg9NBYDPYpchj1L8xa9Pu70PargBj3w1MO9VHE3PQU50T3fcQo94y3avSPcg74OBg4+B989PiLD0j3ch5q9qL01PfWtTT0UgG29d3DmvYypdT2sR0G9enDoveO7lTzMnpo9ksfxvbiy4j4lxdK+GG38uixJFD29N3094i7DvNtk1DsNNFw8k2jgPgXixr3DOuK9ilXDPiUpVD4hzLU8RC0cPSnsdTzoouu9fQ4Tvi0zVL3MQC49OHfXPauW/z3u9FO978Z7vKPcZ74EZie9dDe7PjMwlj2E6Bm8pu0/vjSDJTso4ke+INIgval6yr4NxuS+G4zUPgPThD4Oo/c89eMhPJ6dTD4p8FM+NQQRPiugfT0Y5Nu94GTkPRunvr1Nw4u8GNEgvZ/TyD4NdNc+DaDQPhOS7buGReC8A1rRvMMrMbxbPse8+xkLPiZo9T1azoA9sbKZPKVOcT2pCqa9d2INvXRasD3UJLe+Ath+PWgrgr2hj1Q8wKzPvgMNQbtqtbE+GMMnvVllXjxzoJa9TmKqvfL7KL4MtBA8of2EvgqSAD4yZ589WftXvW1O4b2xjLw908+ivYtAID09PYU76JcqviJ9370lPk89hIxmvaDLU71zNps70ib7vVTcw7yWJcC+BjqwvYmTaz27cV+9LUtDvjTAJr4wnQm9q8Z5PdthNz0tC3e+I40iviEO3z4iuVQ81dkXvep70T3Ij249rZ73vcoDjzylLRM9Wm5nvg2Ih74JaKs9FjKLPL/LjTxEChw+HVXUPdAVG74xHC+8M0QdPYImO72jMK+9X/lvPa/7w74mReE9eMpevdDwsr3Z1bu9n2v7u/3sJrzDN9U9xQX4vL1VhLyVJuI8j4JavaxT8z3kb+A9hXFKPTPhmT39tr091zZWvZtb4rufx6e+LzTHvhNcpj0GdOs+NJ8SvjTN7D3wI4U+BOr9vgv3fr4OMSg9TwfiPPh5Ej4TIi29yh2tvi3lhD25lBa9MCq9PdholD4AOjo9eX2kPb0cUrxUDgC97rPtvi1MiD4ghZ0+FkXAPjHDS73vfVQ+MfJTPQY9FL3SBau+LrgVPiljnL1+ZMc9hqefvfWJCDylHZs6oamMPRD7gb11oju86+mjPep+nb1jSme9yryIPhGZWz3DEKK9DpGmPK9a2r2iLDK9mvw0vVaKSTxYMmU+HXUPPidopz2x+tA8n4+dPh0/kj2FKJe9I3SiPXbWd7zZf7U9/H6TPgbvPr11esq95FNqPff6Yb4oeP2+KkMEPfMSMT3dze+98ojhPbfXD72c+ZA9twaIvhmysT22lyO9PHy5PYhvBT4wh9C9xF6YvfqnPr0Vgr09z3YVvjJDlLw/sqA9wLEHvbxC/71qNq27wLWavgKPbz4Ehw49RvNbvd4Hp74m26o9/KWcPjD/Yz4iX5I+KzHpvWVzmr4BKeQ9mYk6PSIVHT3eXbi9+wX/PhFCGT1T5rw+HT5YvgNpELyB7QU+BSxvvgRtGz2N/dQ9XMaJvb+nej3OJQM52LHxvhLxyD2FMEg9bpJWu4amZbw303W6rsyLvPvEE74nftm9vRVCviaABL3eah49mIVHvc9qfj4kKxG8oApjvcy6ejxpGwo+MsZZvhsEKLyRadA9BjfjPb6tjL2HIQs+AuwIPK3z8z1GdJA9zTVfvYC2pb17hL+7kL9mvKBTtD4mgco+J7rZvYuoLjvZouM9uUo/PRaX5zxAB2O9zFUWPhcHijz8WWg8p3ZAva0NF72Bggq91g3NPZDAhD4Udze9zRT6PjCFiTxb3+k+D2QwPTbfmDukqDq9D73nPfurbbwmePm9sBPCvbX9Pj1RFIO9tmA9vi6X9Ds9oVu+L4t8vdLj9b4ZFjy9g66OPh8cnL4tb/g98RrSvUK2lr2bM8++IYjJPK0pDr4L/dq99VpXPioxqj4vRYw9r9byPT1pEz3wdtE9srnGPZcuVL2Rsp8+EstqvdkO0D1wCC29ZI0hPczNmj2EsZm9rGskPSW0EL4x3sQ9wOmkPS3P9L34dF09/2PgvdjL4j2b27++Ly8wvi/8LTwcznQ9un+QPYJ0Nr2pWoc+GDuRvdj9xz24rtS+AO0FPd5wAT4EG8y+GxBaPUtZ6D4vxT093mphPhqoQL3QdBy+BUG4PhgsDz3tG6i76NeCvcI/Sb4N8Wi+HyUDvhIXGb3LTKM+GFrtviNWtz1t32U+CmMnvVuJOTvXwP6+FnrWvS8SSDwAGBQ88pQ9PX4oNT4Fy+29yMXvvUq8174RU7u95QedvWEKTz4q01A+C04/vBCAjj1nsx8+BfaMPfZ76b3s4Gi95hKjPSSEVz1T9eW95de5vWxXhj2XPpi97DEyvZIjVD4ask8+K4RrPYThFbxHoVm914KEPVKwgzoWkGS9PppePQyZWb4IATu+A3gNPHrwY72O+cK9SiIYPiyke74nC6q9iJWovZ8itT2MOz87U0K1PRrlLTrSb6O99l5mvRpfg7321S86g0dfPdWjYj4cP189vkrAPaBwQT2EIcK9ru69vgsDnz2emFk9ghhdvQUPYz4d1bk+G0N3Pgd9iDzqh0m+B+ZwPjLrZT1pefi7LAA/PaXPM73jF0K+B7JiPS0uND4VtmG9ofSyPjShlj3QIlE90eIKPPfYeL2iFRW+E9dOPgab8Tz2MG08ef2VPi9P1L4fClc75ESKvZ44Dz3lB9O+Iwk+PiWpZL16ixK+MqjjPXsaBL2qpU2+EE2bvQUhkz4DWry+AlVXPQJgQj28b/O9rSkqvaFMa709Foo9zYruPZjL6b2yavo+AqlwvbGqErw1y3i91i7+vTnxnD4o4fc+Gc6bPWH6Zb4ITjY8OkcEPQMzPb27jSg9H81gvYTYAz4UoVG9qLcnvZ62DD3C7PK8/VGavYDOuz25Vfi+Ki5hPTjNgr4k3V09+yHwPgybZj4VtHU97ldivU1c/r33mIU90USZPTbBvj4PK8y+KZazPOQWIzxK1Zc+LwVYPVAXSL1ixVW9tBegPYQdIz3Pi4c96ozeu9TwRr2F3jI+Kzj+PMAjwz30/bi9yNsdPXhsKz4Kmly+IvrTvfmBZb4QHs+9+VnBPY7FJT4ZiT29OSD4PdURVT3z3ZC9wL7OvS9AcjvhDXg+LqutvQeauTymmy2+E5ZKvd9zsL4PW3I93sobvQJF9r0A6mC+CvjMPYv4wr0dXRe9kmo9PgEig7z6iyM+J6a0PYXGCL4xdbY82QiEPixTHL4q84C+MH72PPLuv74KjcW+H8twPjMsHzyTnNm+M2OdPMMjdT3vEVe+BzotPMlrET4hCQ+9z5aAvbZD4z4W5I++FRDRvb7mhr4jdek93QKhPgm6Fz1ydC07u9u/vbu1Lb0ri2W+JlFNPIyayT2nu0W9X85jvUTNfb4mBZo9kcTavg0PXT4QEqc7h/Suvi1Jfr4S8U0+B0WHvgDTJT3507g9Q/rAve7E674aK5Q8KFrdPiVLKz4V4i280qIFPfNLeDvjpq49uIMNPVyT2L4kX1y9/P9kvQeGQz0dxm097KLEvSGXYr2niCs9OHsWvcKdm70+5i+9fVGPPf9lsDxyMr89jgntvQOZ0T4j2UI9cNWoPYLMpT0/B8W+Cze6PZjE8z0kYk89g8hRPh5GvT2BfQY9T3OyPRNUar1sVBS9g1wyvSscVj4BOaq9x2lPvZYb8D29oYg+C+YWPhHiGb3Rnui8rsh7PfdAQb0ZTA286atVPTcdBj1VbrE8a33NPiLe2ztiNZI9j3WAO41v7z3uiPi9Lw7Wvb8HPT4BUAc9xznPvG7SZT4hRT69zdSjPecGgj4dDY07IzaWPRFomb25ax69u/CEvVj4CD4CpvY9pExIPfTwy7zedbc89VtHvQnsEz4yfHk9iF7KvjDhij2y5mw8w1Q0PigNU71ub2y87o6Dvhhipb2cTXO+E90+vMJVSz4B8ME9ww9OPaDoqT3gsQw9k3OovgnIiL2/Hl2+MhUqPcNrMryVRSg+CqHxPYp/8j4jtii9wtAtvhPGOD4IW7Y9zil6PUP8CL2xvTI+Lp9KPh00ZDzoVXK+A5fiPar+pj2Hw80+EZ7DveVTPrz1HRk9fuJVvflnIj4kAGc+Kd5zvZuKSb2gKTa+FhAVvQq3RzzO4bk9BMJtPfTjHb4YWRO7E/ZMvjKzxD07XTi94XkEvEqYVjzWmiG90miIvN0dUD2vqhE9z1KTPguGTbysnl+84y6EvMDYpj4ohSA84cHTPdhG2b2FoNq9oKC5vgIT1LysC5u+MjxPvcfLir2s7xu9UtLgvjCCTzqnd+I934eIvJazhjy4jvm+IXE0PdmtyD2EqVC9/VVQvUxGZD3TKGw9gTsbvVgYw72bIG480Ah/uT7O8LsECoi+E+I3PcRFTr03e4O941ELPgdk4L1vq3q+Gr/rPe5eazzjc9C8tOcqvEF9XD3d/Ia8GYpjvhoNtD0E5UA9pIn3uL/kH74vCN2+HZsBPiLrsD4gLAs98EDKPilMFT32ArU92utfPerrZr1fW2W9jtFPPcJaxrzKecE9dphZvd7zyD4VCJ27+54RvYpRVT2oDtE9PCPkviIE/ruexsy8nk2Svg94gzwuM14+JahgvR0cHz0TUwU+GqU8PaaGir2p9lM8vlWrvRU5jrxJAnU+GBdfvh5IaTxrc9A9vuW7vgrimT0V8DC9wB4bPapV8z2RO9q9gvTcPcVvyD4mN2W+J/KsPhKIYL0UCUc9/xJUPgexv72OTAU9Tu71vWSQ0j4oepA95GUfvcFL6D25F1C+M/+lvDb1QD2sVkI+GQx2vTxhU7y1kfm96vSRPQcV4DyrW8E+F2tJvdXjSj0BQO49Trbsvbkx9jzxjy+9PUUDPbDfhL4Goo4+ITg4vc7e3zutuJk9bOrkveAOuT4FnJI+Bfo6PSDsVLzUC+w9lFZPvhc92T4Hq6e9yUkgPcGot74ob4i9WLGRvadhwb4LweG877oyvcBhabvyJqM9r7pSPZuZAT2uYDe+MvDnvLfjMb4EaIC9iNtavJwsLLt2KKa9roP9O934Vrpwkiy88oJXPhC+qb2eo+c+A5TAvcR33bxxOcG+DJXlPdGUjr2I5x48dg7XO0B3Mz4gyhI9p5buves/Nj23cW88YdnTPeakKD3X91K+CLW3vTsojz4q566+LazsPhReQr4FTeU+JdbePhEBsD40I4c+M78EPfF8g71whlm7nBhfPb+V8T3IKDo+KElgPiXkeT3Os7q8oNv0Pct2XL4ueXS9rCSWPYcDlz2NgC8+HoK7vh+zo74wa7Y9gtgMvisKIT2ho/09/2cXvUcKYb34f9i8LR76vVRZuj4syGs+I+ZWPjCSKj1SWP29ubeEvP/fdL3/g2C7sGNPvQAuuj3XPrs+EGswPi/rH71D4UC7XPn1vXPDyT1zwfQ9q7gDvaDnu74D1WE8sSgPPgBlKL2RLP4+G3B6Pbukyj1bD3c+GEFmvgc8YT30fFQ8TKtgPiagsr4lCWS8n0xlPWuRqzjT9Iy9q7X6PiOUSD4Tik8944MdPaH58j2ipq69ng08vceymzfGhS097tALPWKZXL3YZj8+B5dSPcQEO7zkgCk91V19vfM18r4kT8W8RNSyvAL4nryjdIw93dZ8vO1hxj4JXlY97/7RPhROUD4nlY69kNIvPUL6fb4cXS4+JZ4yPULk5732IXI9oegjPaa6Z74vhiw+EUOJPdp/vD1jSfC91xoYPib1hz1zUD0+DylfPjBS4D4V/EU9SoSxPTx6mr4wVgo88QdrPfOJAj3QLi+9uRxaPhJd4TykQTU+Kxg+PRAd072c5fk5YiQ/vaJh0DwBXeA+JdfaPQkAXT4zhfG98R4GvQDClD3W/V48tEaxvfuntz2obLI9ONl3vLIPHD4JBc89jWBSPOtjBb4JhlU9hHzivOA/yr2N0VY9tui+PdOKbz40j3u+MWvnPSx2n74Rf+a9by9FvggMFL3gofq8gZ92PMoIALzcDom8SAPmPivJ7b2MYWs95DhpPKk1aD4UAxi7+AyqvUcl7720P9u82mt8viV3jDr4mQa9b3HZvV/Y0b4RgKw9psPWvfkWrj1SZoi9+bTGvYe9Jr4WtvA+EISHPb5StT4XAVC9wEcyPhpFd74UfLG7Dh/TvUGcsb2DbSg98quEPgkNR71X6ni8iK1ePdwwlj4ap7e8gq3Xvaglhr4Jyfe9BdaevjRCg707jSs83QLiPgNHJj3/oOs9v+BEPSk+174hTDy9pqaXvd2Oyr2CG0I+FQ1/O9THy74ZBWu7v88WPQjXBb2oo4I9pudQPSCtQ74mbC8+DbZ+PYyUHDwk+pq9pZJEPjAqxD4WMvy8QRwLPWzdK73n31G9aVNBvhpih74jlvK8wtrCvh86fL3tER6+GossPc1gqz4VewQ+L8q3PiYeVL0mhJO8ue2+PSA//j3rYOa8s6rSPYPFK7raNtm9/W9yPEmYiz40/dQ9vBd8vNYldb2Sg+o9IKO9PUiKsb2/5o0+BZbpvi0pBD0QQHS898qMPgJSbr1S4lI7iRbyPVE5Pb2MH+Q9PhTKPiVXhD2ia2q+Jx3zPem1PrpU0/6+JxwWvSCwHT3ysDa967ZwPf+OPT4gZag9Ou2mvQSwqD10BgM9kpZsPgqTjT3cIsE8hCwIPT8YH700L2K9LZDNve5OMD0GJ9I+FMxrPUtGPr4BmMI89MK4PasVpL4O3mi8SDl2ve19gT4UlTM9lMq3PZAzHrzC7Fm+FOOdPhousjz/Xai9jYcxviB4z74dKGu+GVWZPTI1lD0/Suw+KKsbPfvJXr4jTQW9UY/+PiGotj2Zuac+G3kGPVHSy7yFTxi9R/oGPBGDLjyeC3W88lwRuqfHFL2HuL49/GzPPE5B9r3g01I9jGEUPfAvJ74wi5Y9AFp6vaYY1D1XKVc9xGY+PUpIPD4SVTc9MLyEvjFfZ714eie9JMEKPQHb6z0XtLw9968buyo8aL2Rw0O7scI2vYGYwb4Z2Ji9W5HMPf74T72MKXC9uB9ovbJqz74z+aW9uzyxuWhfer3J+2e965+fvfT1Dz1rsMi+MI7AvdtiDr40Nfe9srL1uhftsz2y0ku9T810vg6GOL2yYYi92eD1vhRpMj4zVnA9bU/JPVx8zL4AUm+9ry7NPeG+D70G8BE+IXyKvT9SgD4Z6X89oDWQvY3J9b4fwn89r+K0vXhl0z2K0YW9pd4Svh8i173HjC29rgdavgCcEDzCYLK+FBRTvgWNtb0nB1i9sKCpPUcJUTkCFec95Mu+vZEeSb3JNug7VzaUvhsuOr08VUI7eo5dPdnYHrrmyk6+DXGvvgZtbj4Pjri8/Uo5vT6Z0L1trrc+JVumvHsk+r4Cdqs9EOsLve9VH73ecv0+DhRaPQ61Wzz55086ix4kvcypf73Xc32+GUUVPcppID2zPni9iDlpvh2FLz4qefM7Kj0dPdy6lb2FesI9v6zWPhd0QD2lrmC97flZvOeKa74k/z6+ALlrvhviVDvECaq+Jn/HvAtopz34jm49co6mvB9CGT4KaRg97eCLPTjHzz40AEU+A/d5vbjhtT4bN4E9Eo5svjEOG7uiaBy99Nhjvgt74j4x/ku9WT6LPcJqQ72OXl+8uemLvYIQkz4TYJs+LQEuu70rcrwTMV6+GQmwPiBFDz10h5Y8EsfrO1rRWjzCoQu8cGvmPbk9d72ODMS8nbkfPSSFUD4ifjW9om3vvbtZbj3oUnw+ETHjPh7K/L2Hxha9H5AJPE4tR7wIZAw9K1sYvapM8j2SQA6+GEYJPZD3pr4B5tG+DQhcPLGDab0N/Jq+DkRePafHTT3pRn4+ArZOvE3U5D0jDKs9QcuEPiLMDb4TRmc9zShHvStxor4so+29bnoNvi/uRDyRLSI9y3/RPMNUeD4ejOU88rc9PGYR174Nrya98sIDvhlksD4FdGg9W6GNvhN3Jj03eoq9CgSfPZ1n6j2b3T093uM1vZZzTz1HrIe8Cw5RO4mATrzL41o9TUe8vdVaZb4nkJc+CvxaPesNTr4Zyou+IUU5vhwdqr3zmxg+Flu3O6njIj2P36U+CWL8vMgBvL4tM0q9UdVxvJqqRD2AMka9jiaAuzxuHj39M4Q9ghbOvfPjmz34Hdg+D5R4vIPwPT3k78u9y60VPMHofLyySGK+H4QDPT9F3T4ZWwi90q7yvWTh9j2HE3I878KuvDon/r2LtPy94s46PiaCAj2V6CU+KEvivZ350D0LlH694C4RvdRNFztE0169fuAavZ7ANj2gtD++KJpSPZ4iSDyjFiY96tdTveLEFr4yfte6EaiSvh7Y9L30iNa9uFeRvieXMr1+Q1K9sTwrvEu7wT2kXTq+B/mavT9Fgjy/Ge+8pm/1PNJB5b3KflQ98fN4PiG3Wz3pWHW+GxosPKxaGL0dzIA95DfKPRu72r4gwZa+GKiTPWr2/b40Zs29g4ciPCKJFD4FSKo+JH+TPYrsWz3cdOA+CzqUvfq6DL2Lqpe9Uo05veoqUzyZsSW9nXECvgG7iT2E9jO9mrF7Piu7TzxTxDK80tNXvjBFWj1W8VO9tG4SveQ+873p4Wc90Ie5vJW/4r4vslI9lqcNPirXpLwuTVs+NIK0vbIrxz4jNIQ+DXoyvhlFiL4LSgK9PtIHPill1T2YHnU9/hysvjCrXz25tVG95PlfPLjZ7T0aBji+CYhWvb7w6b01UAM+AppzPVBfbT4SN609OrsjPbbVpD2VOeA9neIxvehM8L4dIWc+DcvAvZ/VcT1KIo89iAdgPbRpcbyYlrO+HumKPed7hr22ewu9nSbOvhBy7D3AIoC+JltVPhoWyr4sRZy9ma8OPUjv1L2KDQs9/bTGvge/bb4dAQ8+GLyrvhHRZz4bgFu+HKbgPTPH8j2raJI92MDVPfs/KTz0NsI9q94vPi813L2yhxO9pjhLPgJqlD3zSaU9zfdLvgzBHT0Na5q8f1WSvZlMgb38tKA9jLB/viZW370kV1S91KyjvYa8Qj3O+rE9Gagnu7pUij4asB69EUjjPdIsyz3Sorw8esMLvc97RL1j8K89iaffvdGPNbzq9TO9xY9APZmZFb109sI98ZvCPgz+ib0tLvQ7s/zYPiZmUT4gvB6+FQllPbKGwb1ZuR498DEWvjMI1L2TMlE9vnnGPMmmMr4W1ao9/aLovfiEKr2m+cy9jBB6vi2CgT2koQg9XlzKvU3el73rd189Wz1uu1V7OT0EcWU90/rdvjH7Sz4oTla84/E8vQrusj0v80E+LDvvvVLR/r4ZW++97Pv5vRSZ0D4QC5C+AEvcPWKm0T4UdMW+ENiMPhcpuj4iF3w9+rLQPID/yT3KAQq9XG4EPRIHDj3CGX0+Bh3aO6hfG722TZE9k9+SPdybOr3Ybso9eFNrvUatJz4ygvQ+J2hwvDBmq72Kb8g+AENCvZyvSb4wGIS8vKx6vfVOHD2pXOq+Mx63PiC6sD4Ki+c8O5I1vb3zD74YN2S+D+okvX7E/T33uxq9ruLDvTFFRj0Fsug9IndhvNm8WD2XsU+9STeDvcdS2z2sUFm+GepVvftfg7z313S9K6YovcgXizzDo1A8BSdovjK2hb4xbdu96uLkviWOiz4lqR08Vb+iviCY/D3ZkjQ9pQnoPOW16r4p8by93tP+PgDgp72uqde9WdLzPS8HR72K/ai872d2PTIEPD3tBQU+Acl2PgpklL4qV2A9zhMsPigNVr4Issa90f0ZPig+S7qxjB6+AQ5sPVxsXL39aGs89cTcPdJX373zw8w+FTN9PKqImD3g+wq9D3dvvD4aib365JM863vQvQ6yC74wvR698gxUPBkpbT2ryTQ+LPfUPSqvADzv57c9mzOrPiimlT2NFO28NXkBPi/YwrzwnLw9W32UPfPkiTy8G70+CbPGPbqdQD4AGy48nULcPgqp0j3JA+K9wA/avNsTpT4vJTS+AIPGva1Jqz4wXQQ9p2LtPhAC170Qeiu8kHn5PjGbO740ZYG+MK//PSfygL2QiGY907mgPcp3N7w5+qa9EthAvDG8M73Kg2k+IsL7PiA4DrzmH+U+DyvdPYZwGr1WW2u9QI7BvhrFWT4zA2q+Km9Gvhhl7b38z0y9TFL3PTAe8by5Yvk9ZRtvPEjekjzLsCE+KsZAvSaUuj0FdFS8kqVRvQCVbz21lJU+NAX0vaLC2r4zUTe9zlaAPZ8vAT2wvxy+LDG6PgX2Qr3/NJ+8x11VPJMRxL0miIG9zl42Pad4Vj4BvMY9QjiAva+rAj4r+0q9Bt3nPg2ZXD4HnQE9mP7EviH3272L9kC9h/4pviucMT3i3729SHdhPffmez1BXgE9wor3Pf1Sr7yztvm8f7rzva3W5L4xJ8o9xqhhvYNjZD4VoQA98tz4PTTkF74szYO7YZB2PKsfmz4VIwu9MpYZPUpnWbyZhGA9gwXmvcT/wL30ISi9Yv/eva5LiD4S892+MEXWO/WXVr0TnSi9okvCvghstjybhp6836ZvvffW3r4HdkC9U1gZu3eimT1Q7iG9l/X0PgfuQ72bFxu+KourvObgoL4fg609wQBevM4B4b2jTgg9Kt0NO7znvT3YgzQ7wQ2jvhtDNj3mFvU+JsbyPiYLr72WRmO92r2nvb7xOLxo7Ei9NdMHvXTkhz4I6F494bEFvhjxND0IUuG9P8tJvcNWez3eCe09g7lwPhEg272gOae9iuTmPJxrlz1qyyY8hxDyPZlE9T1qPYy9Eh1DPYQ1rb2h65i+FpqPvhJjQL3C8dG+ArdCPRXsGb2ZF7Q8EWIJvRHKfTzEWdU+A/USvdiCzz2+kS89gGwJPSBB8D2zfbu9SUqmveHmT71ypyc+E6E3viHUYb4IJ9Q+Abr6PVedSb1RExm+L5d7vguC6z3Lv3K+BYYtvXujxb4vIDQ82egYvSuSWz4eZ48+BeMlPehvR70CEFU8oY9iPbOLgj3n6RU+BMiyO9v8dT4c4/Y+He9SPb3Yfb3r7WQ9n3phO7xYjT2/fJk901BjPfia0z3WM4480ZBpvgdkJ70dsBa9Due9vbh0Yb3jj8c+EepRvf4Kqr2DU4O9IS4GvfA3H71CS4Y99VqMPjTVf74UQ6e+G9z5viX2DT4szH+7bQXkvc3vrD4VvxC9cRCtvbuZuD4T7OK9sp2DvfMTf72gkV280R6zPZt5pr2c57i9Q70UPNTF8D4oiX++NPx1vJPMUL4WCrU+CDR4vb0adz40FKm94vhCPWz2Ab1W0Vq+LPkPvSI8Sz2JV3M927LSPVMUZD2eoKs+BYfdPZ0SK73hRc4863YzPhHWYr3j5wc9tCuSPagkFj1mi2s+G3ObvR1eU73ryCs+HMEwPdV6eL22usU9+AZYvgSDQT3eO3I96pCuO/oKIr2As8k+HiG3PeChYT4WIAw8pqklvWPB1r26lQU+ItjvPifWBj4hW8i87UTTvJzMYD3+1xs9XjCTPhFxu74kti8+J2oCPiCf6j2PvQg7GSNqPh3RqT4LE5C+MeGIPGEU5T3Y++E8mW1aPgrGMz4SPr89N0tXvZZ077ykWR4+IZkzvjIMeL2zkNu+EQcIPACWHj3dDps90jbCPEeqLz4v1Dk9VcZrPWw2lD3XP3y8MbI2PU0XkD24VYO9TWsAvXt2I74Ye9a98thGvbgL37169Re9ZdIMPgFMWj4mzlQ7nLemvZBzRz4BD2o+AXj1vWxm/j0shji9sUUhPh3zN73BGV89SfMevNkXz72yIBc8oQyGvdsFEj2CyBq8gvBxvgLTTb2VAPQ+BnUTPUXwTz2YJ1K90gGSPUIc274Wcza9lE83vXfwW703Vy+9/tHcPX1/8DzYLZ+9lUT1vhGkyb16V9Q+IVO6PZIXdryPR/i9EtzTvDpmv73J3Gq9eI3uPh89U74y0oC+DWx7PjC9gj28o9a9jptWvfsm/T4JwS8+LjQ/PKQYEL2vvRU+IVnkPfvfnL3F4DG976w7PKK8yTzDUaS9sS2vvZ8b7b4MHPu9jHZhPbPSRDzadkW9rcrlviss1T3mjRk+F5FvviOEUL4RT6G+Go8qvhe7XT4BnFw+JjpSPb1yAL3Nriq+IXExvhTAzz4xP4q+AcjFPiKUOT4ERWY8yESZvJHUzz3HK1k+MHnFPhCR4zyI2IA924Blvbhauj4eATy+BmVgPa7s9juNZ6C+DLe3Pb42WD4RVn28uJbMPIR5Gz2VjAg+DzSBvIjLa72iH/G8GYtyvBMShT4gL+a9XuWvPbNQGj3OCag8Acg1PJ8Si7z4I7s+FFtyvPy5LT4zMqe9nnSmPYtumz1SUZY+MjcxvXhJhT069Yq956fDvPX6mb4hUUa9roXFPQB10L254ZG9fIa1PYTlhj2m64M92EuLvN6KfbuJ10i9GGDfvJJGCD0pb76+I9EtviCFnb3bHYW8SkcFPYkG574W0ik95kTGvhipPzwGuCm+HRplvhaF473bsuM8nggZPQ0tET2RDJO+FO/ZvMvUdb3ZtrA4eKLsvT53br3/6Tu+MXejvSNgdr1Ebre9RmMVPg2QabzUcvG+KI5kvhk2iL4uhqS+MUFNPfzfxTv7YAU+D6LwPhwdC73WmBO+AHtjPhnjhT2hUTE9CLHEPd6YSr3z9Wq76KjXvZQ5QD0cnH2+C22QPa5xL7yN7ow92+ijPZl5jz2M9Dk9HZJdPf1Syz12cQ8+J8LuPgKkFj2uGMA8KGkvPVFP2L4kXR69QXVzPJlFk71BBrM9uf5XPY3Lyj3c904+FPK8veQY8T3bWnc98TdIPZPzI7zm9KU8fVyyPZKS2j3ave483y8+vRllPruDdBi9+g6tPbrhlr2LpTI9HE0kviCOPD0OnDA9BPf3vg88CD3uh+I9zMfFPPF0Z71yo+I9rM1MPh5krr391fk96sXSvcvsHT3QQwO+CFT8vdLfXz4bDDm+I0xNvDWwKL0Una6+KlQFvgEgur0YGJ28pWXdO+M62D20ZXQ9hU1ZPg6AMT4DzbE8u8CzPfmSPD2vLCA+B8QpvGccxr40qm+8lKUsvggrAD4hVda8u3ofvUYoSL1m90w9kykJvZ0Zkj0VoQ69I1F1vgCEEj3YGxC8m6BMPaXXNruXTQM9+0sjPi99iL0Qk1G9pKfDvaE0/L4Rr368240AvYBPyz2Zm2m97bKPvLXX7z1JY7u97V5LPg+kJT4aeBC+EgtpvTTavr0T8bk+M5VguP3DUD1+tDc+AUnEvh1gGT1gwRq9JWlxviteTbze3BK9wyMevgRrHjwkdv4+MQjpPd2adb4SWU2+Gxb4vb6wRL2glQO+EwtbvdXnLbxKRKI7VJjzPcu9n74rCrM9CBaZu/RplD4sYT6+GaY8PLcPor4rCE29s11AvVa/lr4lfT683ikKvSWn2D3UefK7679jPBxkkD4W8/49hMa2vgXGDL2eefw8BOiQvgJe5T3UcC49/rg0PdOomT1biIm9fy/7PYr8azvXecG+K+XlPUfr+LyJ/lm7BHYDvYeUxD4XuJ29IrcWPYA1Sjya1zY9+lyIvZsWu74IC0m9gccXvG1gOr4h7P69cb9mPfUlTr4mLIu9dXnGPT1wob4g8ZO+F1iFPa33ujypuh88fpvdPSuve70Npgc9nVhwvfqPbL4YsLs9uNsAPVO2XT4OfGy+DAxFvLwjYr1FcK2+F2QyPhGXab0HzcS9Q6wyPB1o9D1Ux2C8VVNFvXhheb3FIAs7teQLPSNLcrwVPVW974RVvimb4z2NtYG+F1fpvhvADr4A0hE9m2MRPf7nlT3EEim8qOJdPZERjD0hKrU8M/0cvhVWJD4cFtY+LDX6Phcn/j20gG8+Grr5vMxyRj2XZnU9F2jVPczfCr0Gqha93x1NvatI173BsZO+Co0XvSgJMrxEK989MkNHvf54mT3p6XC9mcCJve239j3iVrG9p1yjvSmKSL4EweW9h9B5PH1p9D4efYc9Ps6mvZFi1D2ZdNI9xsn0vXfsAb4CK7m+KHW4vYdekz2vOVE+D94bPhIdsz2AYpY+GHLJvdcCujzHyhi8X9bJPPQvVb1iGw49R3ZHvcS3EL4A74Q+HWAwO8YYSb4YH0S90wH5Pba2vT262uY9hTOjvgr6xb3oIOm9cGxMvcw/vb4Kf/Q9kta8vFmwrb0pzZE+DqyzvPdI7Twiyqq9ueHYPfZ46r372lk98YNivZzMvT3H3SQ+K8sFvW8Ks74ngJO+HmLOPZknXD1KtiW9QfcjPePE972oji8+JliYPY4thL4Gmh281GFxPfOreD22brm9S99gvYGM7j2f8us+GpjiPbV1DD4qn1+9EWn4PhMzGj26YKy9LkOLPiBqfz4V+Ca8frN3PhJGAD2lDWu+FpRrvL/3s72jGc499ry+u6HeDL2diaA9XkQhvgNQ9TyNULC98E2PviWzEr3yDNk9NLT1vaZ1RT4WSAi9DGUXvJM5ob4eVtS+Ap0rvaK2Kz3ipZe+FrLpO+/9Jr4PlI6+Ks9EPWlbaD3HyeU+IjP2PXHRFD4olQo5P1xbPZqMhj1W/1u96krivh3RSb1L4Ki9K4YjviFYQTzu1S69j1ksvbXVP70wND68kG8wPC6Zoj3XjrY92yfUPUg2LL02Ktc+FQMDveJdaT3I+L+94D/hPfugAz4z8rc+Eq6lvLxKlrwxIKM9Mj1nPeMpx73aMc099JsLvW3y+T2O5ng9sAFiPeJiTr3Hobk87ahaPOIVIj0+me09XBnOPV+aFT4oUqm9nrMKPSr3erxm5UQ963grvdpzJ74tGlg9MgTEvW8/wTzFmsa9KxHzPiZDIj3YiKe+HLijPcQL7j25yIi+DKaRvYKL7z4pogK9kjd+vQUXQT2FcTy8jGxLvg63cD2iWFK+M4zgvT2HQj06moC99v3SvhXnqL0Rgz+8qjtBvTmWdr4CjIM9+ca3PhBbor2clxy+GnnePYR4Mz2xhAS9jMULPAFDoL40abM9ve14visaJr40LPI+Kau0Pf7+zr37r2I9aMw4O7jhIrz2/Yi9+WcPvaT5AL4XG0w+K7hWPYuO1r2GIiK8Dc8KveyfWjzcC3y7wGcdvKYLaj4x96w9sEVEvhsGrzz0DGu7soBsviuaNDxwyBc9Bz7BveyDk74t75M9xAbkug9PhzxcHYS9+NHTPgdXgj4fVkO8L6+dvZqy7j2zBvM8wZ8JuD3yUb3649i907FqvaPnwD2Aug++LUOcPJm+I72guM8+Ky2Bvht1TT3wEty7xQmjPciD4L40rh2+JrnDPdlm6r2lG3+8/+SJvhx3fD4qWGi95giSPbCnuL2py1u9qb83PhVq2r23th29k5u+PZhcy74fDoC+DM0svgQ0EL4ciH+97MOgvYrVKr4ALUo+GzpNvJ8d8jz/ypg91Mvkvd3u+74kbC08gooAPZIdJD0KDT69M5V0vfTbVr3FIC0+JLPgPfPoxD2G+ji+KSvBu84oJ72+aiQ9nu5Xudh8M74yd1G96b/wvbo3Ez4eToS9Mh45viVvMD36KqM8sfR1vgeubL2kxAO8LmrgvWQCGD13qCU8RChWPUYizb0PJks+CeZavYV4aD3ngPa92LFbvgBElD0t8MQ95qePvgbxUrwHB8w93JfhveKGab1lHaU+HTJPvIRZ6D3KsnW9KchrPVYaJb2vd5G6G0xfvfff9r2NlFw+BM2UPg2VNz3M2w+97L0jPYmD6zzQQBg+KhX+PilRvL3gRsO9zjfDva0T674Kvqs95hS5PRp7u70K4IM+DG9IPh/eBL1U/8++MIJevbx9171KuTK9XPQOvV9Fir4Ne5u+CpCgvM4K/L4QS1Q9rU/YPg18+z2dnXI9a97ava2YHb2pny+9IJnzvaQLNz4wZYA+B28NPD4/v74LGuS9yWV0PiAHyj3bd+49YEqpPiHmqb4z8B49lb+9PctO8D39f4W948X+vibp+D2OPtw9Lrrkvhkdx70ALCq9DuB4PfJRtD2UW7M+C2Lau6IvA72Kony9zUSCve/GbTzgvFQ+D6eivik0+T4xwlm+GZN2PYyBm701qAy+HvUHvKDwajze1q4+M3KXvicSDj1mIxm9/DVkPjOIH720TDs9c1jWvTbPWj1XbIo+AG+rPI6B+71ZlUy+ECAyvgsAjbz4YzK9WqG8vVIKsr2ZrSI+InZNPCwaf73hq6c8xXq7PVhraD2VRae8FzypviMFOzxFVUw+M3j4vd82Lz2HIa++LAsUPhmWYL2S6J89soDGvY2yKzxjYxA7P6xDvfxUTb3mfxQ+H6AVPPCy1b4JprS81EyUvjFQfr2DhzM95hCrvZceY74xh+c+FILHPTan774DHZu6ARjCvisXF74EMs69knmbPixy9j4C9l493i8Sva7mCb4hK3q9C8KFvVPb0j4riUa9G7WwPeg/ar2+zL092y6zvYl2ED4pilc96yhuvd0EUr2/zJG9XFuyvc0lOD3C53Q9rIL8vUdpOD4NlhU8v6yoPhqH+Tspbe69PYY4PheqpD2M3jc9/rclvh1AI72+JGw96hc+vcASDT4cjqw9F+IlvhmngzzyAbG9oxcvvbDQ9L2zJWw6nohlPifa+j4tXt+9/AMhvbq3pT4Mf6+9ylHhPMV+1z4J4jO+IMVmvWbg2L1HJ0O+MkPLvVf0ZDzw05S7R9GFvZDuLj4Z5Py82P3SviB4I74t6eE9CteEPZBrert9wCI+FmE2PgLyFr4yQ0a9fngRPaSJfb4W0h29bHD7vTV1Ob2v2Nm9y93qPctUy7zGv6a8Cy4jviqYYj0pDb48Bj8oO3Tx4D21Sn08hQQZvhsQvjywDou91CHYPSNnjb13Ef69wHxRvFDRzT3ELku9/6ZpPgJWP73D8ps8gb9TvhLjvT2lQ6u97iyXPgpb6L4k2mG+F+5Jvfbsgb0a+Y09QzsavjANvz1+iea8+xEXvcJKNr3NHgS8jxXbvikR4T4ELFA+GdsuPQ3w3j3vXbs98CldPd2O9T0I0lu9bwmpvg3OKDuhM6M+L5FTPRMrHTxv/829kY2WvSvT1b18yl68pyELPV2CV73oX/G8+wPJPWYfrL4lTQK9UD1PvinjJr06QhG+GhPWPgVXHD3/YJ69mLVkPbaevT4MQg+9fa9WvJjpsr0kj6c+Ch8dvhER0L2SZao9wY8YvePe/r1ShmU+FC2Zvh15cr4BdpY8xDyqu81MxTwiPmQ9Iul3vLGCvz4wUBQ9KxP8vikiEL4NoNI+JrBaPjD7kz340sw+Gr4EPOXtx7yU8rA+AkwbPbZxTL2p0gK92feKPXc33j4J81w9ErysPfFHd74bQlQ+CtQavgz2qL4PsoA9/L3tPR4pRD4LrxK91/m4va4RG74zx0U9j0ETvZRtGj4Et/O+JxTlPfBi3z4ri7M+FQFJvh4FiT1C6Zw9s8FcviyK8L4I2cg8rj1QPiMmX718cPy9patLvg4Cp73kx3I9GiWTPiqtwj4ZT/Y9SHQnPgVaaD1bHzM96DcQvH+Ivz4FVtg9FhCrvc3Kdj4sAWs8vjOYvXE/8T4KR1M+CupQPhyj2DxWMGu9d2arPZRFsT057hM9pQalvhz9arzLyEO90RRIPQtdRbs+uyM9bqzrviCLIj4mvcU+DFQAvdPfiD4tBZ69JkiUvdBQpT3nd1m8uqcBviuvvz4XxIm84gq/vfrQDD4K7FU7Wvq4vUcLQz2CUFY+F2SVPiJ0PDz40Yy9ce/FvaAVF7z+Rr+9W1+SPYZjqT2s8Mu+NA8TvhdGfT34s+0+FmF2vaxnmD0r784937esPMc0dL0eNBi9MBZ0vSMq8b3Wilo+KPDKvYIUMz4WwAi9mJE4va0RwT2wb1+9c2wbvVaROr0xgsu+KAsbPgVACT0s3wK9QrbPPV+8u7xaBYe9DumvvgwFFDw5TjQ9MwjfPb1Dsr3IGGg82nFzPfKPvjxVNe09dnypvK7Bf73Jifu9gmYBPgU1nDyLO2W92bcsPJ4gXD3GPeo9RNVhO6tdFT2bE0g+IwHaPiszVL3jpzC9L8WwPZamKL4lCEm9yRKfvAG/BL4J4yg8kzHxvL6u8DxY3te8ytWAvU1ler4j7ue8FBAEvaTu+D3heWS9zZqCvhfQir3LYc8+JhjcvIZ16r4TWCC9jU+vvib6IL1O2fe9un9ovgs9Y7yBDQs+KAjzPY6iKj0J99q+B0KWvJJ5TL38uj09e23aPiHgzjzYg2c9p6q9PhL4BT362RC9/OLwviUqxr1r9eE9kNQQPevFyL1iMoU98dcCveqiZL2rbFo9kVs1PhKqgr0yT+W853dfvRGrJ74ogUu9+in8vXodtj4nTyQ+JG6PPgzWw70snS49KcipO7UPBzwi7o293uEhPGyjE724YqY8sLS3vZt9Yj2QAX29Ky3nvM+Q6L4anou96s25O4WxB74ukYa9i+kPvhYX/T1NcHu9AXYHve/92D032wo+MDfFvZhe9j3L+uW8jr74vbwTTz2w9MC9mW37vhc7/r2m+M69omNLPRkXgb3mELG55FzCPgdwEj3TFYs86paUvKzNnr2pvNm+FQwavaVXYT2/sIE+BQqVPUKyAz4VZPK8gnCAPiw3Nb40eeO9uveBvgS6jT4mgUa+BwHsvhYj3z3tV0y9yQqwvRC5/L4ISZI9pMVAPc1arr4Sqg2+EEfPvdbfGz1QKgo+GIOvvih9Y73ndDO9Og9VPc3YUz3z0YW9NLnBPh2d5z31nSm+EYM3vFufH713B8m9i5KdPhxx074WmLM9Fk2uPct6cj4foOw9GYXKvG+L7D4Qgmu99yKUvNG3v72Ljr+9oBa9vHcBd73+UPo992dNPheSSj3nA1q9hkhXvYnG874eq2+9++1du/AWyD2tzuS+CHnCvhiFoL2C9hY+Mh1pPhs4ijwjYpo95+eXvQU3t7s3y/I9nBjePaO28z3YuRy8ZrSnPTwuyby5fhA9geCovQIw8j4oLY6+DRzaPhBFK71Bema9wxYROw42zj3yku+9TaGaPgHyRj4X+/E+JFzgvN01Cz1yM6w9tsAvO/wbwj23EE89VetdvZW1H72mY2g+GQIavLlReb1HafM+C4URPcRb5r4MXAk9/+sqPiyBhr3WXw49FoZnPjLXYbykIxI9yvRRPhMMVTzyfI0+D9OkPawF6r3LhWW9obRavgHVML4SKNK+EERNPQ1r5Ls5AgM+ID14PiSz+z4K4k6+KJajPKWTE739+VQ9m6V9vdSWm73qVCI7hazJPJ0VQD4dtXc9xPLvvCB0+72gLBU9xaBlvi1hPr3mM187dwBRPBXeM711BkC9jJ7rveW4Mb4iTIu9QTg9PgqFlT0MG8W7nVWvO118xT2Y9fk+GznzvY2XbD2wQ6K90UoAPaU3vDxWoTO91YzVPhco1r4Ipo09VV9KPe9W0L0vkuO92qZlPdvgnr4NF+M9EVXcu4bhQz4oYC49h1EsvgsBaL4epz+7lh0iPL5j5jx4ZmA8oVWqvR3+OL31ay08z+3ZvZqMez4hRkK+DbhiPiZnGjz5Jb2+E8RivNW9NL2MI7w9x3SlPgwdXj4Krfs9vg2OvRdoer3KXTK95iDNvFu09L256WQ9vRkPPepUIj2eG888ls+LvTzwnz3L5nU7cmz+Pigc974m74M9Hb07PglZFb155Cy+KEcvvN4Ohj2lOXC9N6O1viNLnj3TC888lRlFvUVOqz0pDGo8ZiCDvbQFwz3nLGW9pxsZPZIIar1HttM52C/VPfMkML0X+Ug+EA0uPh4xJ73kQou9PiRIvN7iyr3bpgk9X2qCPhH7/724Vn49zdwHvPwwkr1qEq69Gp6lPhg9cD2DVoc8MZiUvUsH7T1C75O+KoD+vhrB8j2bWxk9VtwGvY9Y1b2XbbG+Ao11PjR8UTxatpI9SYy4Pd7wWD1GJIY8wJxpOi5UVr2ETcO9kGS3veMcy73m454+K3aWPin+mzzPcNM+BUtqvh62cby86bq9JETmvZ1q4DzTSuK9Iby0vXhbXz4A3L88xVhCPjTLI74Hiw68oAT+vhXlibziVYY81P/VviU8o74lWVe9rkrvPcBe8LwUTty9p8P8PaeciL4A/Ha9HynQPioIkj200U898pEXO8x+TD4mBSW+Da4fPgIVHD2dpgg99Ef+vcADKz3ZB4a8vBkAvdbABL3ozi+9s+PBPFMDET1//os92A8WPE1aCL32c1C92Wj4vTbIcDzFk+y+DezfPQdVQLyYZA0+BGjPvhWx+b4NXJo+D8QdviAjfT4sAVe9ORX9PQv5TD3iduE+LwS7vgkG1jyc1I0+C/UvvgcIHb4wSu894eelPhzj3L4tZDm+A97evYy4NbvpI+E9Hr8EvgUPd73wHss+D8faPKjGKz4Ccog8vdlOPU7u07yg8g09+KQmPQ1C/b0RwQg9Ym5LO8KKPb3C6928LixjPRF0Pj4vWeG9tEbkPacdY72Scg0+MgwFPf7Rqb3EdEM7hOjrvFU/6r4DkdY99e6tPhh5Gr3jmVI9+12ovgyZMT4RR2g+A/TDPgB/YL4ukqQ98i2LvfNbaT3npuc+JfMDvbbGHj4fITK9uFG2Pb97yjwL8s299mJ9Pd/7173Qpca8fnZNPdvooL0gQCY7l6nSvfjnSDylui++JJ3WPgMfMTztytK9U10uvJVf+z08f6m+EHuJPUZuuj3mKzs9EHERPW/D/D2ue968qSPRvUw3pzwfid49BfZZPhJ9ib2haS29vAdHvJ9Ldz2cMLY+FhCcPdIr3Tx5emq90ZTHPYc9EDxtbou+Csx7vhbPvr0UaSK9OyKNvZALXT0O/I49amJzvZjyRT4OKWC9FuPJvbv16b4eDoC8+H/sPZFdBT3HJi09lsKTPYKeAr1UMbC9U6FOPA4wF7zPQxU9LQRUPb6cxr2sNzO9LJIFvhn4QT2YeWk9DisYvapFFD2aSpY+FftUPRSQZ74LUI4+IVijPZenXj1TgUm9hnQGvio3Jz2BooI7vkynPRAnkr3UtwO+K3AAuo8+jz4RAfi+KlMOPZaWVr3qJw49m/AzPi9sNb2v8oY9NEQLPEW9872WeBI9xHoePiV2yr4Zn+c9kf+APglz+z4SuNi+EJRePbe4NDqVYyq+D+NkPbTLBj4stMa8FVUFPSo2Ib4wacU9e6XCvivGzL39c5y9pr1/PbB8Pz4f7Mm9sqGrPYkXOT4ripA9JRUZvZhwij0UBKM9qXE+u6AqS7v8nBm9oHeiPcTkZT28dzO8rQKbvjF22ry4o8q8Mp8uPHY7Yz0qPfQ9NGwsvO9nmD13STw98AkgvbfaST3NwOc9nWLpvTgKkb3ACqs97LboPU5TFj3HETg9PDjBO90A2j4Wjww+ADpxPiWKmz2ccFG+G5KuvBx6Cj4DmVo9K3/RPjI/lzyzHl89ao5Wvhmtpj4M/hy91eu9vcledT4wbeq8xH3DPbcIET0H33e9yETpvRQ93j4fjpI+LS1iPg23CTy42nW9syfUPaLX2D4uyze+NEYWPR+HnT4VVfG9ab3OPhzrB73Wpns9icY2vX/PR73Hxxk99HvVvVAxd74yn/O9vorEPPsXXb2OyPq966szPT4uKD1YTWy+I+r7vQw14zwsv7I+A+oHvgSDuTtx18s+ADYYPfJ3Lj2xCUK+AFcZPc0q4Lt8pf++GUMzPg9qIr3WjWE+FEqZPSVJlD3cLVE95mBDPVK4mr37Obq8wWTsPYP3mLopgyS92sG1PgdjGb1rbR4+Ks8nveoDGr2t5407Dl/SPjJug7xekIs+Ho2Gvht3mD1AS4+9rYEfPcrcPr2hBFY8ebJ0Pe9nNb4j0We8UjagviaFyr30xLs9uKjoviRok7wjCFy+J28wPZflWb2lX1W+AlNXPcUNrD0a9SK9M3JAvhx8Bjrqv5e+LpxYvY1OXj4mQXW95TcrPTtpGz4q4c4+CW/EPDw9lz3M5ka8oWmCveUwMr0Bsoi+JFuOve0Vsb2mG6u85hfwPaAcfr35WHM94A1XPM+WNr4aT/w9kKNqviemhL4P/bu+KfpRPaqsJj2mdJm88jYmPeagRD2qgQ2+MzDaPhWiTT2z9ni86qBNOwKE673xR2y91rV8PjBtYL0CTs09gft2PdBbzr24Zw68vsCHPNt7lr3RVNk9DngJPiKklL4zB4m+LMWTvWeGqb4Npe894A81PihSgL3QCXC+F90APhaZqb0FGAI9y6VhvdHWDb3KxOu+CSq8PclT3T11+F49oD7SvfXoSD4aX/a8w52zvgUREbykPhK9lz+4vhqOHz4jaRW+E63vPgew7b2o+IG9sdSHPgHOpruO2iY9HTQIPgq4ij3z/Uu+Hv6RPf6Xej3a5Xu8BqgpPZOiYr4m1cA90eunvT9Cdr2dK7M9gJgyvc7BGz4UdJY+GakvPcK1xT4mCA29gvhrvf/iVz0Yc2m9oi2wPbQtEj4uUce95E11veIfyD3noha9eXvfu+5h9z0Mt3K9LbmXvjLO/b4t5oY98vvUvhoHVL4RIAG9iEYbPhf+LT3BPSU9y1LZO++0fj30HKM95edCvZ40274vEOO9QKQlPZ1Ggb0MN4Y9Py9Cvgcxsz2UsMa+LglfPcEEzDuR+3q+ArMPvQbkAD0j9vy+FbJQPi0Dtr4BdHE+AUszPhe3wjy4wEs88SPKvgi9Yj2JSoO9XKSHvcuK1b4vy4y896uRPbyakz4JhhM9Z8lJPKE3hj1H+aA8MofCvU4crz2TdXA8o4Wbvf3b9L4Vhpc95xjrPghTRz0/H4Y9t3lQPiLGyb2Rkw898tIDO7IU8T2ci8O+H4jFPHrHdjzcBdS9zY9tPYvw9b2wp+s90J6SvSNJSD2dwLa9pZEYvZ2rdz40NIA6uINwvasAGz0OKsk+AcO0vLxClr4VRLk9TdzHvZpPoL4dzWW+GgLLPcJnKzwh36O94CMnPihu8r2dXac95iYSveKRy71FwnC+Af3cPKQ0NzzAxw89pWpAPOzR9z0vMq099efwPShQN71pBu4+E1f0vif44L3yXdk9iaNdvRMCGjvtHTo91V22vgUwNb2wdJw93dHpve+7yT4uhJk+H7ReveDHFD2J7BU9gNFRvcveb74aT60+Hz/EvW4OTj0o8II66cmEPi/2mj2hl1k9lKBYPcHPWrwyyDG+Hj7jPNefGb2uvf49z5XNPi4ZdTy0+yM93mVMPXuJaLymqV29IlWpPRqnMj0pyO294Fb7PhRqdzy/YS09eD8RvQQBbj4qCMI77790vV+3L74o0N09HEpxPCbdvL40AvY7qFBCPS75lL4Zbho8V8LaviIjBr4XsPK8grWevZDGFj4PgMg8pcLwvZqp0L4kvc+945wEvTYtc7z+lEO+Jq/7PhlSrr1x5/g7lHsOPiGlJr4GR5U+JvwJPDBTqj4KR0I8NzFEvhloYrr2GoK7FmdhPWfEpb1UOtY91hkyOyMBjb4qDou8mi9SviUMuD3BVM0+Kxw+Ph/q7j4bxM69lzfMvaP9/T4yvF6+I67evcKlOr3bA1k9Ujh7PVOmDr4zcra9h+VePhyc4r4qyCu9k7dGPiqeST3JiY88/fHlvghEGr4AU3g+ITMIvfNRsL3btf4+BGeOvL7Pjj3h4UU9mjNJvjSqPLzuTbo7XdbtPSbfFb4m91A92eipvisM5b37AsU+FdYpvD7uI74LEf485dBjvhOa2j2rIYo8uCkyvhrez72t6tO+CB0XvYlj2D4ZiP28rt6Ivh25Fb3+7qG87Y8/Phmqdr00Q1u95vcFvdUkxLzQ2VG91YMfPhP8JD3lXig9LY/OPganWj4Fp1i+CLoAPamtZL1h2ic9oNpxPhWDpb4BMM89SMcmPJQNob1Mz7k+BEMkPSNGkD4PH5e+ChKGPjOaND2w8+89N4OqvRgorj1XvlK9GavMvLBWRb1595K8wg/GvegOJjoUCK69sFFxPg6pYz2oCJA+IpWBu4PzBT0ds/8+COaYPYl+3j1cDBW82OPhPa+Du71j8ag9V6A0PeqhmDzX8ra84i78vfHGSL2Fdm09zNm5POdvrr33FJe+M7nMPYwYDL0tJc69nQuQvfWOBj2ezBY92bU9PhHvxD0DOeQ9kMSBvelPCz2CGgu9mjDsvdXaLL1CzMC9JctbvgVsKr1S2Ru+AaXavihclbwMU5Y+FdO1Pdr+sj1X0s69qTmBvjMg/L0Hnmk+EE1/viq5+z3tuIS+GDSEPTPeh72f69Y9L57SvdbgFL1UEpM9fWSEvMzCZr3Q2Da+KGewPf1Qob05pa890KOTPXH5Hj4Uz8U95JSRvgB4ibyzbNw+HMPTPfqhQb2YrRA9+i0Jvcll5TubEPk+CGkSPAqji74anMe9x2kZvah6Vb4AH5U+INopPjQuOb0UXZ8+FywmPXe+jT4khSg+McqrvbAn0zzCaUU9mycmPSEXTr2tNXm+KYnsvacuiL4fxe+9dvMJPhDQPrytdYK9Mzt5PcEl2L4f2aa98Do/PICOTL07PSg9jqe8vTH01jslbxm9g17ivewusL4p2KE9xmSHPegnm7xqcc89LG6OPXCHJT3mKdM+LL8sPVmY5r3JSkM8rSFoPO/H5T4lLWY+B4irvb5bcj35tAu8j5iVPSlN9L4LBay9zKtUvc6mxzwInMs8xJ0CPgNrx74satM9YZpivhzs2j4rz1u9/QOAPV1NIb4gWCm98kvRPQZWRT4V4x883CyhPbxAPj2Py4w9DjgcvgnlOj2boFo9PdYUvUXbHj3Lcly+NJ5jPZOi574QSDS9BjHEPfkanbwYefk+K6YNPiZhXrxaako9ISd2Pi8+IzySalG9mez8PSdggTqgudY+JwtivSS+nD3hQbq9+sEvvaiCQb3VRZI9J61Qvhu39r4XthW9ngbivd4OUDxhsUG97j6GvHiDBD4N5tk+HLr2vQ6sUj4cgbs6w9uHvUoK2bhRIHg9p6KcO/4hAbwIYIM+B9mKPWGhRz3sjp09bV4Vvh67IbzGAdU+Mb03Piv1Bz2U++09x18wPgt/P73l+Ms97ZGiPiCEYb4KNxm9lXTuOjJoB73AxyA8x+BTPWlNWruAUVq92dRaPfogJD4S+uc8SbwpPcIaq70KwY49zj7su1usjry/X5U9WqsxPX6tPD1M7Wa8vWRePjSY6T37Bd29pEo8PeokTr3pg6s9iuDdvXPbf74kRY49S0aYu2DS9b0d6yy9Hqp9Ph+CYzy1g28+I/VUPiL1E73j/sW9xEMQvZLC7T2ZiZc+D6DUvbWXMz2ibz87kndmPdhRAD1CM0+9JwO+vgQs4LwCtZ6+F0v6Phm8HLz40JM9ocoYPgxzbj1JMeG9uf+IvagYHL4uUvW9OcO3vQu+rT4tMxW93yB+viG0u7ynklA+AKuEPTdqzj4p1B29ysmrvUSKlL2v84i9w1rHvJPgVTwr8Ck9jIpjvJSCQr2oB0A83pl4PekQJT4flcC9q5z0Pc/9ir1SEPO84bRvPi6SRb3Yxr8+CugUPcn8yT4Uyte9sfJ4vfkPnD1Bl2Q+IiQPPWIaxD4xTGk+EipAPgLmoTyDFxy9eSo5viGo6j4LRe09syidPDqu370Xqde7wuAmvI+4n70rXP69Lg6kPHfKBT2Jcsi8n+94uy4Sk73XSrA9letWvjLCobwqIbY9t83NPbJcUz0txUi+KxKJPWt7rrw9RDE9iRS9vh0qUz2/L9g+BgCOve96er0z+6G8NwIovgiRrr2uJGC+BQFwPYacYD3YZ7U9ZUAePOa12L4J8y++Fc9+Pesk+b4XywI9OZORPCTtFD07VEW+CW5WPfqc7T3I11s8X/JGPY+zYj4TRT097zPyPjGfZ73vXSU9XnGKveZnFD2iOYU8+Qf/viKZ7L4i/GW+I7OsPiVgfj4KXZw9P9akPiCMub3IoUa9872UvdvmmD4Y4Pg9J7LtPUiqmj4Xywg89E31vhGAyj4cB3q66EuuvBIyXj3tUDK8j13vPY7UgTyzwYm9DvR3vhdYhz2xinC9E9C1vZJzH74xC8s9doLZPexIYz3iVQE9ERMgPglFTL4VTzC9YkLDPT68Fj2MIA89YUfwPXWGWD0AtjQ+GqLuPe/55L4OTDw777sJvihdmb20WP28pKtdPYH7Hr32Mv2+B5OsPfQLUD29CP88hHCqvRr+Gjyq+A49Nfx7vLtiertuJmS9j+QcPZmopr27GPY9jVdwPIog873Lcti9kf2WPaOrB71zDZ49BMvnPPFW7Dy3MS29ov8+vcG1fD2M9MO9gTObvVG0m74cHuQ+JnT6PfRVeb08U6u95VIaPSZb371F+vy9Wp9evgMJk73/E/a9b6e+PZsS6zzkNCW9h18pvjJk+7zds+09vhAmvQyHjz3BFhQ+LpDivd9HITyIhYw6Z+5XPb/ukL3h4bk9pg1IvR1Wrj4f1+q9WORHPb+ACL3DiVO9wVOQvfqEwL3hWOY9bMR3vaMQvz4CUI+90/29viS8jj4olVQ9ZRxSPhuTiTysMl08cECtvitqZD38BYQ9prduvYGSIL0JxYM8+uSWPiqO0T4ikXu8XveEPiwojjoQ/XM9WbNDPhRXQD0rzYO+MMfqPizhTT4etnO93m1xPhAip72ft/G9kCcKPRWGaD4g4zE+MRdOvfc3kj1WeVE8L20PPQmBUr1jFRU+CRXOvOmZnD4agcq9VpgqPfnWTj4kzVu7vg5AvdtAK72OXt68NksxPgQh/D4PkRA979Q8PXkv0L1x1dk+JyogPWJ2zb0G2Hc9oFV+Ph0I4L4LoKG9TX+YvYNrjjxbDoQ91gh3viQyOj0mlgK+MwRuvex/xr29uK68i3DfvehfqD4IjDM95YORPc/3lb3wmnW+BkHTO3re+b4UQiq+A3E5PZjyTT4iu5w9d5fFPjSEYr4ns++8p0xPPD7thb2kg2S8gEELPg/e171PJMq+ERyevObHWD4p0RC9ynplPK6DiT4gtTW9vDXLvTbI7D0FvBS9zFFuuy9F0D4cxsY+EHMmPb8lkb4EQFI9gfo0PgIZ7L25MP29wKhVvFhugL4jL4I9FVr3PjAFRr4aoKm9Ip9JPgE1IT4wAZ8+JAR1PiENpLzydvC96zQevfD07L4L8SI9XyZXvg/N9T1iXGu94dKZO3naDb4w/Ug93a1UPZnLob26xKy+LZzRPWEgt74gWuC+CsTdvaSvlT4UZA299MRpPQp4vjzqz8S+ByyAPdwmmT4N9K49Q8DyvjKvqr4c5mA7bKfZPYdycz1bbf++DKnAPNI41r4oZO69/ckEvaBnRb4r7Py9sXK3vZJHtj2HQ1G9MFsWvg0jqj13NiU+L/bzPY18lT1BSyg+HWhnveIlTD1EYO29q0WdvgqYy7wDyBC9Sl5sPaIxdz2xqaw7dgh6PdlicT2CebE+JVAPvbfhGr4KYzs+BmAuPR0Mhr3pZ+K9kxxuvhLplb0Ymli8C5esvgB8k71bE+O9rhI/vaajej2jho49ovucPKU4br1pT8m9KVPEvQl/bLv2lHu9vVByvboysj4WEDu+CpBmvb4M2z4ZU0I9GG6pPiisjD4olOa+BGk4Pd92gj4O47a9omxuvMpzb7yiSFa81GFaPhzvmj0DlLY+Eiq+PT6bhDyg/OG9yTqYveVQsLyZnre8BQrcPR1hIj1vuwO9qiSEviYJ9T0YK4088G2UvW1W8j2zaGO9aUOnPi1I5z3Zx7+8MkxGvJwawj1rBJQ9RGBrPdE3rr4MqI4+AJSDOwbXij4Svgi9oZGavYTKCT3ofpq7w4GMPhllCb2iQbU+NJsKviyJTz37Wlc+LEpbPLe/v73u5Uq+ASz8PgfhnD2cqwi+AeGMvgERaj4EI2e+GwsZPPoYaLtO0a69iyVeu8dXi7zZI0w9xoK3vP+QFb4K15e+GaVbPbCQaD4f7LS9ruqTvhLer7wXAjw8taB4PbHncTzrUJc98nOivZgztD4NLvY97FhHPieeiD085q6+MjJmPLFJ3j1nygO+EnazvgiU873OBZ2+BShQPVCn/z2hNru+B9DLPS/dwT4umvs+Ma7WPiPs7b2qAak9p/dGvjTnzj4YYK8+MO+LPR6vh74Yp7W92gBLPbcO3D3VKVQ8l9atvB5RPT3iwbA9i0Z1vSuJXb4ljR484U3+vhtw570uTMi9HjYavcYWoz3C5m29JLcNPU/qbL4mMFA93MqzuzYZEz275Xg9nz0PviOqUr1lORe+COJtvfii/T3zFCa9i5obPiJ44z4enUE8hi5dPjAVrjv08mi89cMAvV/POr37E0S+JkPRPeJj1z3vJ/o7uYAOPShRKr3XhS0+APtNvOd2Ir2eOrO+BLPJvYMWZL4iL9S8m9j/vfADN74lk5890dK0PeRKCL2BVro+MgcHPQrR/r4GV0W+EA0jPTiY8bydQ0K9+KsZPWDDMzuWzem8a1EqPLBShDtFZyc9GDq2vKD+Bz1GNPG+JUmavY03mz4pIuA8qYPOPicrjr34cFs9g8lHPhtGdj2lis8+AP+mvTgL6z4gRsK9J+NBPgcHQ727o+U+FW4lPgDXYD3lewe9y/sNPgg/072NAN09Lo8YvfiDCb1cQEY7rpjtvWtnOL0blNk+CxuiPTTeTT4iTea91LOZPgGmt7377+U9AOkHvHgLEr1FmN89AUIDPiWu9r3db2E+EtLCvhh9f73kbCS+EZA/PXhWjj4p0k49cqcnPiGPDj3hE+m9vOAxvewBLr4PwhO+FdG4PfSclD2BNcg9G60/PhySBb4ZKJe9tfxLPG7R3r3BOiS+BIS8PiVmKL4m4BE8MRcXPiHOmTwL4nM+Dav/vdlOBrxakmu9kPc4PYFvPzx2zcK9YjSTvStbLj4IIVa9ylrBvic6oT2Pjrq98HsrPek4Nb4bvao9uvmKvdrbh73TNO493+U/vM2OAL3N1Ca9+8ZrOqQgSb25maS9F3FivahdSb2xG1g94/xLPctvtb1RpM88kMJou5DVUrwCt70+Kpz7vhmRUD34S+W9hxZqvIlaFD2A2509t2U6PiQOur1n6Cc9oafBvZcphjyKpOo7oKrPPROwmj2j41o92jXVPf7/hr0g0f09+iiHvbv5PD2iJYU+IzsqvhHTub26uqy9J1jRvYG11b2JXTQ9+0vYvQp6jrwprMY7H8TTvhNkQ74gxBi+KiJJvO5CD74zD169VZmEvK0Exb4r4vK9/ha+PSgy2b3FL1A+DLUNPg109z3xsq8+AMj6vb1ElL4TNZm+D4yZvg0P2b3GcRU9H0JzOvSRW739nKc9df14vcEeRLz3+fg9IIS9u9Yqlj1vREM9nKafPjSd1L23boU9p0YiPgRqhrycsCK9IMuPPgeIH71R3Zk93K38vLy06j0qNxS9p0+fPHVvY70X6s697BCuPe4/Lz4OURe+BYslvaPNnLqm4JA9hjgevINNKT31Lr69y49OPhwqSL3Ssrk+KGHPvhww+r17UZG9NTwgPfkEfj1Xdhu+LWTAvhKj070gKeA9+uJpvIzVNb4DL8G+M0SSvNNoir3QgqY9RMUBPaUVST0O81e9tVHWvYHPcr4kuho8/lntvRQb4j4w7qM9NDSCPf1Pcr4aq6Y9PolJPY0BB72fc2s9sVeuuwEh87wyBvq9iNaiOsTt4r2chKO+GeiIvNdmOL4CWEw84l6gPhcRH729rY29kY6Hvd1sAD3f4Zy9sRbtPjIkub3in5I+G3w1POvQ+j4N2Zs+KYmXvjH9Cj3BPac+KCtiPXKRKz2Kncc8qW2IvWB6jD3v2pq9kR55PjICPz3/Unw9loh1vcI9a70lZZ8+E8DWPgjHRrxBc4w9mapwPgHLUD2y4lg9+cxlPeWwLj3k4WO92eXJPiipBD4SWRK9vtIKvQL7Zz36J8y+ElamvclN6z3LTHY90OuMvRgmeL2pIx++FSvKPfvDdT3jFpO+BZzPvhRDNzwfjyy91dyuvi2pGL4bGmo8wUSSvSR5YT4NTLS9IftlvJkgir4cF9e8LxgHPgkK4j4oAqI9ERX0PiatXj1xmUg9/0Gsvid4uT4SERU+AcGeOsK7vLz2DPy+EOPNPhaOKz4hiVI9hirqvSDrIr2K3XC+HD9rPU5Zwj4uqv49HgKTPXNPAT3wtmw9ybk/PgX0Kr2T6BM9N7ccveCB5D08eaw9tDwFPE+rSz1HlYG8z4tAPhHjbj1efyy+Lwg5vYabErwTfQe9jgxTvZvnjL4OI46+E5DTvWWRb7yWN7G+E2voPLEl5T258OI9u4suvVWTyzyPrKU9qr/OviHFKb4vQLc9sSQsPhD6VD1BmAK96se+vbAnrr0cL7o8k2yLvWcMPr2GZ9++Bwfqvam+Aj0wPeY9sLunPiOBib4QqGa8JZsHPgARyT4NPKG91oYzPg8B5z0DZuI8YvfZPSxPxj4JWZ0+FO6XPWxlNLybCSc91rXGvU7zATxbbJA8p+x4vb2P4D4OuSS+J5o1Pfzegj2X9U29gefJvP9gk74H6a49cl6yvXTAZry3Kv09rk/DvYY0fL4GSFy9L2HQNm8AiT2XmF8+IZffu4rJ0T2fSJ6+CCNdvhELYL3JFTK9wzAcvTAAcr4MPxI9YUiOvQTssr1QHnw9pqX8Pdj3TrwBBCm+L8FgvYFpRL0a6gQ8gAUpPYUgoD4aWUm927IuPO//qz2TqdQ92n7GO/2GrryC1pY98D1oPiZJoj0D32Y9tHyRvenedzz5r9g96mX/vVfGHz4kqrA8/6ytvRbN2DwsJO27ukCQPhYrSr1igxC9TguUvWCcM74h11w9NuY5PLq8C72p11s9Vc9NPgXoBz2biwo+Awe4vbYTjbydJpO+ESySvY/RRb2huj29VdTOPjMj2T4pHPk+JNdqPZh78zzD0S+9v0RZPfSa3jyhZ6c+ILN6PgfTyD2qNTw8yt41vaZ+przeE9S+M/7lPf5CLLxOqrO9t4aPPgbpgr3JhgC+MiMavi/KCTxCuVk9vLwfPcdPOb4NKqc8m6s2PZP5Yb4nRW29ldO/vXkkWL3bppQ9LEjWPed/xz4fr/w+KcLwviph0b4k0SK9swO/vbAztj4D8LM9jCFUPhJOZL2XxYI9la27vV9qIj4z0I09lTW1vgeO3j4wkKI9iNYoviamOr2QOVk+Hx/ePbGOqD1yF9o+G8IOPgBsAr4Xg6U9s5szvQLSTb3gxQ693aacPQM24z3CHQi9goVqPhtnir3g23Y9b84mva6jrT0mXGy+Gk75PH4p2L4wKbo+FYblPUtH5r4YTuE+Hk+fPKWtxD2Jqsw9lwQdPgKHYL4XFpm9hSxvPWHrD723Azc98gCFPbLcaTxy1FI8mAmAvR73Kj3BLCG9zxkwvfWKdTy2Dks9xAEEPY4ZkjxVeCG93poZPdrS3rvi0X0+Fwl0Pd8d4z1mLg87XBrdPRCb2L39vIU98tCvPcAgVr4oesY9ie8+PiLQuzyUcxo9A6y7Pc1jd70w6II7xajqPhuZCL2fARw+L63uvGSaz7254bw9LEv/PeuneroChaA9rqhJvhrvdD4Md4C9TX9PPeo67r35sfo+AbZkvIIdrj4EmhI+I/9BvaxIDT1zF7c8WMggvfKDbD4Lzty8YygbPh7fmL4K09s8Bmk7vUCKnz0wjty8lAjnPSEaEr4tpEc+H9+7vhODW7z0E+O95wfFPfGFyD4XDik7N/r4vg9kez4zIwK9QZF4PSGzwT4C2+w9UwXaPQD1DL4cnsc9Ekz+vZmtb74bP/u90EzsvQc6DL4O2NE95SoTPXTmvT32XXs+Anzhvgrrwj3W60g+KvYtvhSov74luW89Lf6OvZKS6z4nLSe7Vd0ovba0JD37nt27CB2EvATI1bxsE4i8kTBoPRD4ljzF0Ck+Gg23PgqFPz4yxsA8C24LPfEEUL1qa2y9asW2OryqOb10tDS7OUNrvXSTWLzNqDY9UZLjPYseEL4shLy+LJ4rvcLNtjzfgna9B2USPZSblbnHg7y9Wp3ePg6EaL2tPZW91J0XvWriqL2m3fW9zf/qPhMB/T1dCNk9X6SPvcNNHL2vtSy9WBFAPcKHGT4wY0m99Mx/PP/o6T4Mpw++HiQbPUKDyT3v1Dy9oVTnPMRr3T4Y2ww7+G1cPGcvKD4ozPW9YuNSvgnKSL0Lqyo9qdd6ve6htL0R9G29IeYMvA8Jyj2y1S09aXFfPf/WrL38iW+8rr+ZPVHb1L2FVfU9t5txPd0lIj4gFBc9dByjPXswObxt7Qc+I2l+vVv/HL1e8+++Ak4WvcXXtz2HGUG+FpigPdTToL4cLLM9Zu+bPjOJezy2Mgs5JcW4vbnb273IIMi9snCAvaGSM72KKp48lJr3vHNKwj3Nqdu7UvPevZbv6j1lhJ6+ICrNPg1GfD4e9Ma+MQR5PfS9PT2kFV66kSzTPjCS2j4Dxay9yWmkvf6/Tz0CsOk9vzZLPMD2KzxXpk2+Ji9VPMX0zL4WThu9Aeq5Pf7pUT3LJDa8ihxEPQuO7L0TOzk95+NkPgDpVb3QPxk+DX4CviEEkz0tu1C8zPIsvVOQ0jw9s709G6+ivgMZ4j4kJfC+IpuBPKJGbz1Wldi9KorDvjCQKT2UgRE+JDCTPOyJ7j4PQ709EtHSPbQs/D2d5FK8o9oEPTxH5L4tllO82W9bvZ4iqz0nAR09htq7PjR8ej0EVFa+CTiavhe+HD1nfVE+BXZeO+J9hT0B1Uq80lhNPgufJr2wtTm+AMZGutrMDD01njc9uuHOvezEST4IqH094HQgPdBN870PaEy9wZSVvd1tbTyz1nG9Cxy/viL7/T3dky09WRpfvaDvhT0MNTQ87YKFPgjMdD4p4T6+Dyw6veY5iT1tJKw9bZWGvhGYOr2n1BM+GEnFve7ytr0WTcQ9jBF8vfWObz4lEPc+DbxGvin6yb34Kz+9wCnDPUxNtL290gk8pBjRviBvST1vkUC92FajvhXERT4akrI9SevfuseiJLzr4OM84lHEvf86kb3RphQ9b7kAPWMAdzvSLKM9hfrNPbE+3Tyrauq9Vnfhvd3Qp73JgK08jlZ+PjSmqb3VuCe8QJvLPis2Gz18eF095t9SO6+p371d1OW9xzgOvignrbyK9K89z3mpu9LzsD0nl7++LlpWPVnKpDsMxVi+BCWkPfn/EDwX5207VG/vvVj8Hz1suvw+JYgjvdizcT1b1+k9WTKovFyt8bpXt6A9QeYwPZCfwj4w2ZW9hX71viryGr1Hk2I971G+PGm4X732Aqo8Hm5ovWZB7L4i8Iy+LaynPc443r1l5ce9o7dyvg395b4bmbc9lfx8PMjMXT2S3cM9QWk1vdHNrb4ADpM9EbHlvfsMnT2mGpi9tMySPesCsz1HOZo8ws0PvYIjMTv7neQ+D7nnvZ0Nqb3egaM8GtGwPS6T+jy2G6M+MR3vPQcioD4MzzY9kr1ePh4OwT3Bf3A9cXQXvZZVlLzHBlA9xHI1vOOkbT06uU09HoFBvfeSHT4MoXU93gcTvQLL5L31fCk+KPIvPa5/Tr4UnHm8wYSFPg9BLD0RoYu931P7PfAEOz1/6Uo9zWVbvfulZT3tCzu+A/p6PQpYdr4SvFO9Yq44vD60r73Q6zy9CMNrvfaR3T0s/ka+IwFtPgrm2r4IbxC7DZ5tPhTO8T4z0nW9SP73PhFLhz4PeK8+IPp0vQjwQb3eajS9iFErvgG6cTxeAVo+BsZ5varenj0z0Xg9SLQlvhMh274jIZg9ADX0PaxpQz4svRg+Ln3iPinfS73Cz9u+BTw9vajiJb4JU4S7U3/fPhC2gbv8sjG9cGJaPSkimr2esWg94xGlPhhJLL2U1RS+EqvRPdOYK74OT2m9hIN1vhTBTT2pDl+7SNLovECl3j4RRXK+IbRFvg+H0j2v1PM8yeKoPfrcqr2vAHm99qjmvdyka72zMQA9pjUavfcD/D2Nhqw8p9f2Pgg+BL0AXUm9jnWeORPJCr4Tp1Y9gDfdvSeABDyUQzE9kBFEPi+dT72xCPO+EXlFvYsCfzyYApu9VE5wvhtr8z4Js5G9n+xhvXHIjL4SOz09Z+6bvTrHxr2XxzI9wL+iPWXi173/HdS+Bo2RvdDQkb06Tba+CoUaPiOrNb3X9J09r5SUPeXf5D3yAk89neTxPbyjQ74Z2Xq+H482vgRNQjxznne9+7oAvhBQ573aKLg9vZgNPSYcpj4WY1683+DcPgOldr3++DA9kUJ1vYCY0L2rSZQ9nDCivdQJJ74a4lW+I2G0ObIXaz0u6Bo9+ebQvgc1IDzAG6y9/I6vvckEUD4lpKu9i7dDPKbf2z2NdJi8e5nTPTZojz4hNLW+GkdcvhhemDzb1U08tMrKPiEvbT2krWs9D/w9Pg9NPz0gRzg90oARPZm38D3jkFo97eKOvcn/XD07RTi9BkewvhdhWj1Vb6U9+QQvve5riz4xzBm9lgfBPav3+L4qHR87bdHlPgj25b2LSxa+F8DYPif2PL3F7n2+IRPDPIKOpD29Qh69okpnPPtiGTwELDU9++czPVRs/zwIFaa83PCAPiITa736pCy+G1HpvMh9nL28fuG7WFOLvbExPj2UtDs9kf2LPbuALT4rDk+9R5SZPYeAeLzsXss+Ljx+PShkor3e9vO+J/S0PhZMtb2VsI+6iV/1vanLIDxQcbk+K12+vNk+kb2zxh+9ZALvviH/uz28iaa+L5LovO/arT0a9uw8380bPeVEEj40VEq+Huc1vQOa1bx6Vq09pBjUPWInAryvrQK9YWo2OnE6dr4Ldr0+C2Orvg6pZz0vBza8A4tXPLaEsD3fzYY9y5cbux62tT4PzNs+Llf5vWvE7z3gvDI+DYghve0euL4Bsw29IWZOPQ/LGL3Am6a+LwzJPJ6haD2JRo69uiTMPTZPoj4svAC9kmf5vYB3Pb05HLQ+LDKivBmyE73T1ty+C5S2viKz874dvVs7bYJYvRNQSL1PQvM9MExqPYmmvr4b3lq+CW73vRfHH733J/s9wQKRPhPgu7yC3AY9ElqEPaWazz4WuqI8poALPd6aoTwvORa9DCK1vYt2sr2DP7w+G5BmvJ6LiL4M3pC9pCgyPeJZI73rl2o9ISk1vKN1sr4tJxM8HW0cvJjicz4QnIW99fJ6POZxKz4rkSs9hf7VPPph/j3RoM895Ra6vhdQtj4YLh+8/pqsPaplMj4cBP694j4GvVwRUT4yUf2+K3pqPIha5j0znPe9O9qIPaTIJT2cJrY98EcFPYlBEL4aWYO+ADb5Pe6HUj4gaB8+M+lOPgDafrwZJJA9aD4zPgYPqT4Ed9K+IMkqOrc9d7xgU2k9s6n1vZhZgL4ZGTI9x6GAvXXoz74JkFw8sOZvvRRIJb4puok9gC6VPZ3oHz4anC29jfTLvUwr8bxuXea9ByidPdDEBr29wFu+DLxZvf4yOz2t7Y09HJyOPfJHXb0Gc/69gLKuvAW7oz4ExzW9EipvPYszM74oubY9oDrmO/rG7j4yQDw+FEgSPhzTMT0EZtW9VG6cPUChUT1v7iu+MHS4PgDEnD2x4HM94ArHvgtyq72FCqw+BNMvPdamJDtZaRW7oAOUvBto7D4BDC89I4d8vUMVKb1Rqya+C0vyPiWPPz4m5Fk+AZGtPPkLALzpjDi+AIU1Pi2gaT32dmA9B7wAvTSBt73k50Q9DNCBPhpNFb3nVXY9Zzhlvi26Nr4NDfu+HG4FPUT0lDzuin47kFAIvereJj4YzyE9HF1tPgX68T2HC9o+DKUuvckUpb2xSCI9sg+mvRbf9j3UXaG9+LPcPhLIab4v4QO+En2oPdnGGT4fQ6w9h4CSPhzv174ZzZU9336bvhqqQD2sbVQ9iFPPu8fNRr1Npw895waWviORVbzhZcU9ppmwvXkEo72v3dI99vhUvjRE371P2xy+MVQHPb+HjL2BSWc+ArSuPg9XY72nRSy95A5wvGYFdz01OeW9enV7Pg12+r0/BVw9mytQu4bL37yjgIY9GBwPvI4spLyQADc9etcbvgLtrr4hy3A+I1Z3PKLHZb3peAw9dUwku2rBtr4I4Cs9RUdmPbqVLL4Tep49z1WLPf131D3xep89tUXkPhyDPr2IX4K+BzWXvbRxBb3gF4K9q5ilvU9CiD4w7K+911+AvacG4T2o0e+9jekXvSxVw7zCg9+9cISbvQUPNr4WTyy8YwksveDqjj34yNK9yDaPPh+YPr3yyI0+DLFaPh6x3T4m0ik9yv+cPa6bWDzk79a88jxtvi8J7b0p3Lk9cEJWPYZKMrknNWq95qZmvjIpu74np849Qh+TPZlUSL15f9++HqiBvf9qxTyaOiU9YtcZvfjpSD03o3G+DESVPUNbw7029aA9vJ0WPX+tt703s6k+FtL0OxhH2z4EGsy+FqHtPheDrDyCDMw816H4PS51mD0odmC9QP1lvhVuLz4TXwi9dGPFPgZUdL4x8vK+KFdUPFwzszsyWj0+KDZjOwWKI73wcJg8BeyDvfKeuT4Js9M+Eha6O8wWtD3hXPE9UjS0vcgMPj0sAMe9xWwmvi/7eT3hNvK+EU+2vMjq/r4OgC67o/6FvjL7mryH3dW+AzXAPYOGEr2iErI8mRvQPgX/WbylNoi9vVcfvYS6gb3pPH673JolPQ37Y74lepM9axLJvh0wvT4bE7g+MjedPYtror3eK4k9vfnYPOpyHj4uqNw8+ngtPaK+Qb2OoWe9uxJovYQADD4aU2Q9r15PPJOBXD0VD6O7/c4Zvh7rLz3kM4y93R6svPTn4z06jWs+LbkGPSBVHr20quK+FJhYPWOo3jwMuWm9CMczPdJuGjzxple+F6UuvRf1CbpgGP2+DaQOPft8fryWm4e9sGTjvfy+Lj4at1294ApIPfV5tT0196S+C37BvX2FST4bi+G9r/z9vjSvJb4VC/+8vitUvhD4Rz3mmIA63N5hvgWQeD4W9t892CJYPieiUT06oH09tMm4vjE4+zokaz2+COEIPficUbuw1J8+FwQAPdN3WzypjFY8KQsGvfbq4r32n5m9sUJEPhtYaT1GlG096vggvYVCsDzJY40+EasBvgDr7L39XEk9LNDdPH5+yTz2kkY+MbGVPiKRB74SuYO+DnqtPYCW5D4Jcr49uyhrvhM2dz1N6Wu+HDddvVAtHb4rrVG9jJI5vYtA2D2iL548Y4ZrvfhIS74tBBs9mJWjvQQCF74Rtjm+IP6CPiSpUr2efI2+DUIkPaUquz4D6hi9fCaKvi/tiDyoE6C+IjN7PUNh7T4WgpY+GBQzPSnoMb2znyS+MOGnvOpam74x/Cw91j+FPgMEE72Q5G+9K3RfvYVOM73GXWE9rgqfPh5xijuIPbA+IwUZvWiKjL4NVli9f/lDPgPvYT4l3Lw9CDd1vayYhz3f1h+8tdYqPI4cxz2IjwQ9pk+1PYiOlr29Se082DWUPWSEbDxP5hI70kSuvHPJVTzLs+O91JLIPb8JIT3LTO2+Myb1PZxY9j0uKzG97ZKsPfEDnj2TPxw+AasBvczsoLyJsKe8uZ6MvW0/5r4GXuo950YEPjKFlr4UmgO9DGslvgPtoLy+qpA8dLwiPDhc0L2f+jO+Brfovh2Fvr2ApCQ96EXYvgocqz0+W+C9J1n3vWkUej1pR4U+MnrkvYvD272xkJK97cBWPJqO6bzbXUU+KTVJPfDgaz4Ym0e+L5gMPhEwYz2Pxb89p1XPvfMlJD4CWYe78xilvgKvzb2rlA+9xRQRPjQSBT1X5gK9GpNPvUEWK72hR0099qvUvXHtSz076xW+E2aqPe9E8L4YGgE9gcG8Pd6t/74jXLe+L6IWvbofbr3eKcI9Ge0SvP8mxD4JCSG+BvT9Pbd64r3clCU9p6SvvI4JETwoo269rawdviEyXbu5EqG8ts1u",
+        "u8J5F70ZfgO9i0zHPR3EBD1NC4W9WwUEvczeyz1Y2X69iSv8u41JOD2ExWg9gzF2vhKKNj0Ledg8FsDqPcyLKL2miXo9nCV0vg5wDr4ixEY9r2Q+vglZtj2HFTy9vzZDPZHpYby07I49lXqvu80bc72THDU+FArzvaut+L2xMuY99lJ4vUJ9Bj4i/JY8Z1MLPiVm7z182VS+LUxcPZ/q0jzw0Ui9ekImvSp4/z4okjY+NPlFPgHaJT2QKc2+CvW0PjTs3r4A22K+JQIyvh2U8z3zU2+9Kpf/PVKy7L4CUfo+CVmWPi1cFb0O/dY+E6movW3n1j21GLG+MzU7vJQMcL4I7Fg9vFGRu594/D4M2/69TfDpPgE5rj01XWK9nWmKvYYpMb2B+UO+GzXUPLoAIT1/mkW8ukvgvZLb4rySISE9ha2gOsexs7yBnog8Z9pevVInRT4dzC0+KkfFvdqvtj2eiG0+FyD6PZRm073m7Iw8vI3kPUNlEL3wDVu8isgvPYwJLT3fGVO94YjwPf1Qbr0FZP692XSmPhNTr7xJo8S+BGcFPgek4z4CFI2+DhOcvVHrf74vCtO9zf4dvTSh9DzEW5q9wCFgPZYRKr0PQ/68dAu2vTow5T23/rE6sdLUPT4/xT3K9wC9ptv3vjPwCr4yaRw9pke6vjNszb2tw7O90tNAvG6xsb22ZQu8/xVxPevkDj0R6zG9MQbDPfv3QD3wAzo8LCUxvfQJkb4g2pw+FTixPirU67xcJya9DzljvjTbob2Q66O+DXKTvcvda7v1I40+MeTWvcyUgb2PlU0+CCnHvPzehb3BnMK9K07DPJE1zL4kOdC+Kj0+PiKKmz3WdxO8rfyGvdb5Qr274cq+GuvuPiKvLT3SR6E+Dc6oPiYcPz4x79s9nkudPQD3Jr4u6mq9ykaDPZzj0j0xYma9k7cqPZ5d2D4udv++HhdbPZQuDLvxqXq95h+CPUKNEb3KjSK9jvyWvYHrqbytlCM90WnUvczEfT0bZfY95sy9PjLlb72Kz2i9mLfkvM/aoL2IXQu93q1IvfAZK73JnT27n4pPvgQnHD4FPTM99aBPPe6Na7358N29lbNSPM2GRT2rJ3k9bhP3PjK4pDsA2Gm9ig3nPizYcL4kKmg9BKI6PQWQJr4ZGcI91sVgvIcZ4LybFAY9uH2YviQnlr36MmI9n4giPiFrjD24Fyo+Jt0fPb5Uob1WxaQ9rS9JvgGzRT4osze9veqyO/U2pL39Qu69UhKhvWYKCr4tfKS97bGRPbujBr3ytfC+DjnCPWf1N70zY8e9jTdjvjLOyD09v1G+Aw1RvivMGT3K5ag+D0zpvY9MWL2tus48giK3vhCuVD1cYVq8njbbvhup1T4LlVk9q3e4PSHGcz3buyE9or8nvhW9Sb3xu+A8/u4zPfKWtLzrtUQ9D1RTvfVwDz31M1+9eUtNvZ3tjDxVxoe9ug1JvVAmIT4RVdq8GVfUPQ56Wz0JSLa9s0BQviR95jx1PB89kU81vgww8L1aUaG9o2xhvii8RT0+MoO+GRTJvbMrzL2ObVK+By0dvjRDsz3NyOc+F7KyPfih6z2fM2S9FDIivgeMyr4I7KA9KNC1vLiPmDyqHnG9pKopPYo7774tap694xipvhXraL1DClC+ISn6PiQ/BL4nfKw8A/rjPhkowb4zjAO9hEn5PiDgwD2qNx284PgrvgBEBr4QduO+AW9jvKnInr4nMjA8PmpDPcUVOr4NRtS+HuUiveN8Bb2Pyvm9gllMveYtGb2dPpg96bXaPitfSD00tHM9ro1vvPmMZ74Deo+7qdT9vUIMazvcGDY+IgUnPUvieLwIiVk9vBY3vjPyqz4KjZA+E7nqPiSVJb3it0q+KPSOPY8klbsN4Io9IfbzPWG96r4JsIe9oUQyvZYXzjyUG6S+ESh2vS2Dsj0typW+ICgjPREzPD00/hQ9+C3EvgSJ5j1ZcU282qiQvYgC5jyg+1U9kwFqPhaj/7vcnES9Kow+PbFXxT4lGta8D+dhPZ866r4vmEE6vwjrvepnIz4Pev09LvyyPcSZ7T02K7++EGkBvgUn+r0K3ec+MBhlPf5g3r04HVq81o9Zva6FIb2gnfO89ZDjvECecj3a6Dk+JAIyvfTHZT3vxPU8ib4iPgaghr2bzq098+tlPcS0uD4na289556pvhxek71VuFI+LqyIu9Xs5L38tfk9GVKGvSXdML4jHBc+E99SvB+PLD3364I9tFE2vc6YWT4Umiw9+glOPfR5Er4IOlE9VQtvPXE9B74p7ni9XS43PhM7pDyh+L47iUlUvbRpoT2ReI084DlLPesF+z4Ge4y9+498vb+yqLyBebi8i7l7PcCBu71ypZs9NMLyvdt2Fr4GfBo9d2y5Pa2R6j36v6G97SFnPOAkFD4wzAS8YYbqvUYWzr1pzwu9iq3PvcXN5T2zQhe+Dm3GvgKvwj3Nsfq+IpxfPPW7cj0Zc3m936LmPfry+74Gwmc+CriMviQXvr4DGWa935nGve4QTj289RY9YpCAPYITtD2Rg9U9s6diuvEHjb3UgR695QifviZ4MD3UTmo9Fhf8vTJ3tz18W6Q81XXgPg4VWz2pdpe9zmPcveN4CL4xPEq96tHJvioNJj2oE7k9jZUAPgdOrjq2OT89rsDyvhxveT4gAA+8fk27PZxjq73VYe49lz5LPh1BGTxqUNc8FDLXvRiD5TztZts8V26HPhugIb39HZ4+H/pgPBXH7T4rpW89scaKPgC4/j4SV4C7qHTavTA6oT27AB++GX4Uvh1yNj4WrkC9kLL2PhRaUz0hhwK8YwHsPatIDrzDvfY8pzWjvbBE+D1xYaS9nTXNPiRqab4ZsyG9LevMvfY07D2wZZ49/3UivcNoi70YPWI9Gf4cvSpaUz3fPHK+Dy5cvil4/T2zgzk+HmX5vhRdDz4HaCa+AgbWPWrGJz1JPoo8ARoVvgJSHz4f18O+FUNmvhWWcj4lu5c92WYZvgMsF74GJeW+FbffPW9M0D1vZWM+GI7QvdLEJr0nhz699NARPjOngL3FmbM+F2L1viS2u7402Xu91VlLveEl7j3x2UO9i4AevVJwGj4NNnI8nxFwPibGvr3XZSO9OD+rPjCKUr0yoDK9K6ZPvgbh5T29va++HEY/PhaNUL10zE89BIODPaaUYr4T2Ac8LX74vVN+274nkFM9RmYFPPTwdryYRDy9qj/PvdV2MjzNE1K+ALSevN8Roj4ysUQ+GB4jvcIbET2p8V09oChOPgTF+r0/kf28CVPCvUzZ2LzXHz48L2KhviasYz2WMFu+NH/hO0WIvj2EdaC+B6rCOsx0CzyjuX27n041vacxYj2K+gC8/2lpPNJsuD0+hBK9SZOdvQjtHj2mFhY+GWaQPe8ztj4m7a89vArpPRw7ED32NSW+C02nvYLMKz0Jcn+9Eej7PhkJNT2lUJA+AczrPFQgYz01mZ4+JxSXPb4Yq73KDIo91kgKvf7KZzyWYYs+LFYpPh+1ery2cuE8yqJevTyyFr3J/nQ+Hw4TvOOt+b4sCeC+JQwlvhkzgD3ZOpE9JFc9PZKs0b21tpQ9zqmQvR2ufj4AbHY69KXcPFk54j3DCgG9hLa8vVTTqT4Kjsk9hTGQvgKGCD4kJE0+EHnBPYTQPzukk4u9epbCPbA+j72r81K8E4GJvchb+rzIgO098oQFvgdA3LyLp5U9pS9+PQQRXL3TcsK9nLwovbgRa74mfty+IkP+Ph7fjT22gXC95ZRAvMii9L0BcGU9SagZPhUmXT4YBke9EPcWPZBMMr4PJdM7p6O5Pg68jr4Doou9/c/VvZHhVjvZV++9ztHIvUNs2L4e6y89deZ9vhhx071gDm2+HAVePiKdXD2/YF4+LQL/vM5I0L4UN5M+K3uJvWHlAb4lWVW8/YxhvhD2vb4Lymo87CyAPFTXLD4gK2S83Y7CPfkJbL1lMYO9C/dgPVq9KD2MFo49nT80PhuECby/YGE+LVybPhS5BD2GFWK9x5CtPc5jN7xzV32+DFyBvHlhUL4kKSk93Vx0PaLpqL247Ko93NJWPgzadb2fsTy+GMUPPjFwEz25mbi9RgxUPT+6+j2Gz0m9ainoO/vYlT2ljAm9iQwTPGXzhr3hUP+9GmF7vNQJUT03PLa9rGzMvZP0OD2Pui496U13PPXI4T27MZG9DUnnPhJhaD3vpmI80KqDO45UVL2Hg/M9+OtKPhLF2bwKFus+CPUUvae2sry0Duw9XDAwveLBej2hUoe+ClCOPhNHbT4MtPC+EjorPZTs+r4tIrk+DNZCvfS2gz4i5mu9IACvvK2FM7269TW96bQsve9Ri70caF27XfSgvhn1dr3tiqQ9KUDPvbFWVTwp9AS7967Lvhwlbb4BgLG+F610PXPwAD0Ku4A8Qxe/vjIzpz1e7jG9HJjpvOZWhD33sNQ+JTwEPdCeOr367xW+JOflvfABXL0mQtW9/HECPR8OJr4vpu2+JDa5vWK48L3Y92q+GIaWPVYmH74MAIM81Vq9vgXYoz0hlGw5zpjCviu3qr3Td9c+GOfdPQpq+r1bHhO8JYwuPWi+371IbxI+Ens3vihJ/D3Aclw81aD3vid+Lj3tAZC9lR6KvZTXdL1eawu9zSN+vF6W0b3Zirw9fIB/viAsdL3sjZk8Oyx5PfH1cL4erfq+FcLRPTkS1Ly9AKo9G7o3veTlzr4hAks9P7VdvgxidLy+pcq8lSMgPaNqhj4GgO690EL6PZlwR72RUhe95qvYvSiURj2pzAg8nTzDPh5Air3tvsW+A4O1PieORT3NX7C+DCxEPd/Psb2FmZs9EOtlvSlojz00Il6+Kw2YPXk9vL4Qhsy9Em0lPXWaPL3en829A534PaZcBj1npp09vByiPXD8/b4l70K8uk8xPYad/b4EDFI9y7amvgEtcr4JqWu9RDubPWAD4jwMLZW+Mbj2OrFyqTuBgTs9g9eAPScn074bwLE8kNIBvQ5WOj3x6kc+J/dKvjCLzT1cb5s9IuBuvdvmELxRCPU+FcUqPjPaD73YZGe+HzgiPib+Az1OCMy93EKhPR2L772UHGo9YSyxPO9pw72ZD6C9Qu1HPjJ4hL2mz7e9tsnRvStMYD4X6BG9FK5dvigiYT26IQu93Ow5PBtkJj4pt+U+ASqSPdykZb32GRo9pPcUPZLHYz4fhi4+G5/4vhgYYj4m2d89BWthvdy9HTz0Hhm95zqavbcqAj1sEs29l/K6vIPYar24GbK+L27qPh8ODD0ycfM9yJqXvh72zT4GNfA+DDJTvht8DL2QII69Fz+7vZczI72bims+AmyqPaZK27xapHM+HHMQPdA2IT4F4YK92ZERPdnWcD4rlZ8+BeMUPhLpsD0J8qM9LiXjPivpfL2au8W+LWC1PY0flD4kRLO+IlsCvRXufD4QN0S+E7OwPU44nb2oGRg+FLPzPinFhL4IahW9VOoRPiT9QT4U/YU+LUcePXl+xD3sVAa7VWOJvQJm0j4djNE9uMlSPeaQeL3Z54I9p5PFPe861D2xKLY8711MPOEnDz4K4CE8kkXEPLTYW73pC50+Hqp5vb1vpr07d209MkG2Pfn6TbrfjPu+BEI6PTKMcT2aPay+EIh/vgX2kL34HfG+BxWBvXEvuT4Dpp290gM6viQ1Dbx7qR4+ConqvftoOL3wmqI+FfeePhKkajzEpmw3vVPtvdl2fD3XQBc9TsNoPV3mr74Bcpk9rf/zPgN5kz13Fe29JZNXvjCf0b2j2JS+HEnMPh62kjziGzC+BXFwvAXLuT3J4qg+HyDuPZ2JtL2alp2+Kg28vhc6g70kCf2+G6u+PTJFRD0k8fE+I+NGu4q8B74BweI930XIPeaTVz0xxqw+DiuCvghQlj4tzVS9mQudvYRarj2v6T68R3PUPh4ojD1ccFC9hiBuPQFUr74zio+90HiQO5uOIj4cFzm8K0givi0NULq3b6u9EOfFPQD50jy1dQe+DQGUvElbd7357Po88085PWHB770qPr8917UvPf+vkj0Vrck+I+6nvgx11rzQHvM8/TR6Pcd1IT22lRC9uJ6tvO7mX74RELg99WdgvQapVT4E7sQ+ACG6vbw00ryoLXq8+C/5vUfwvr4WtY+8oPj9PibNej3c1Bq8Hgw1vZbVmb2fCiO8a73MPiQrq72354u8xdQ5veoL9r1uPXY9zCuOvgO9ij4vTZK+MnkdPhk+Rj0NW949PWJVvXchLb2aY6294ibgPdOeXr3Iv6C9+O8gPcOc+70j62I+EPYvPY5TfT3CF6E99EjgvV47XL2jcBg99Fr5Pi6X2TzbIMW9NHVAPeYdkz4DKl49myMYPgcWFLxVpUs8pVunvZD/dr385d4+J2tU");
+    private static final float[] B0 = {0.1459487f, 0.15512228f, -0.05191634f, 0.03301683f, -0.13121217f, -0.056374338f, -0.16647975f, -0.086783834f, -0.07219175f, -0.15969393f, -0.03833675f, -0.15303989f, -0.020346032f, 0.14681582f, 0.08643701f, 0.06723223f, -0.054626275f, 0.044899587f, 0.16550842f, -0.08775484f, -0.13798246f, -0.034944456f, 0.07003213f, -0.12374844f, -0.16257294f, -0.1005145f, 0.07865584f, 0.15012176f, 0.124333434f, -0.0511519f, 0.14702764f, 0.17556971f, 0.12580708f, -0.1490361f, -0.07858899f, 0.16673106f, -0.11815707f, 0.15208252f, 0.1617985f, -0.053916797f, -0.16083375f, -0.06495775f, 0.14674786f, 0.12567186f, -0.17418103f, -0.058303356f, -0.028169056f, -0.10518515f, 0.15321709f, 0.1664908f, -3.9177603E-4f, 0.07443795f, -0.025960056f, 0.10465022f, 0.05313668f, 0.06769654f, 0.024243962f, 0.0075302296f, -0.022574337f, -0.0236051f, 0.065352164f, 0.023967711f, -0.0062075984f, -0.049791273f, -0.07623836f, -0.07033506f, 0.15394008f, -0.048013456f, 0.14965498f, -0.018597148f, 0.09126097f, -0.16946524f, 0.12963696f, -0.08025257f, -0.011143226f, -0.029197292f, -0.029543255f, -0.03294103f, 0.1643297f, 0.1313938f, -0.15924531f, -0.076032616f, -0.13024773f, 0.10645137f, 0.108574495f, -0.028122526f, 0.030901331f, -0.09999165f, -0.17359544f, -0.035089146f, 0.01882588f, 0.104897305f, -0.0037617115f, -0.072175235f, 0.058284856f, -0.036775295f, -0.045659155f, -0.12311054f, -0.14064823f, -0.03000177f, -0.005830321f, -0.05864852f, 0.036917184f, -0.09945491f, -0.1746327f, 0.030346511f, -0.03109761f, -0.12987515f, 0.081085585f, 0.15679067f, 0.008052366f, 0.005159343f, 0.015890142f, 0.10756051f, 0.05569984f, -0.062189337f, 0.07564984f, 0.14465803f, -0.08679003f, -0.11108017f, -0.13728409f, -0.08035187f, 0.032841437f, -0.014942954f, 0.0867665f, 0.13531825f, 0.06971133f, 0.0020092668f, -0.087360404f, 0.023836192f, -0.14350957f, 0.03286192f, 0.17157349f, 0.104583986f, -0.05430575f, -0.08292846f, -0.030437611f, -0.044440564f, 0.11837672f, -0.09500302f, 0.021803787f, -0.061617743f, 0.076338455f, 0.09671187f, 0.03649662f, -8.2628896E-5f, 0.09518946f, -0.13747491f, 0.06990767f, -0.0900797f, 0.117960684f, 0.05017614f, -0.14942832f, -0.04643666f, -0.07228203f, -0.13866329f, 0.11027936f, -0.0095032295f, -0.12057309f, 0.09046673f, 0.16864772f, 0.17248254f, -0.059962846f, -0.17579219f, 0.16709457f, 0.14489576f, -0.15004626f, 0.11215259f, 0.12403558f, 0.047849674f, -0.16375907f, 0.0074262954f, 0.14949642f, 0.066909574f, 0.028384237f, -0.04430521f, 0.14619781f, 0.034754187f, 0.04162777f, 0.07005354f, -0.13079444f, -0.06790656f, 0.1448219f, -0.06661828f, 0.07175067f, -0.13134484f, -0.031181103f, -0.057295375f, 0.16319124f, -0.10521499f, 0.044490486f, -0.054080073f, 0.00860017f, -0.032120597f, 0.00354455f, -0.16045398f, -0.12806791f, 0.08395905f, -0.13556184f, -0.09685565f, 0.070479035f, 0.08297699f, -0.08861914f, -0.14609036f, -0.15081953f, -0.091602296f, 0.019367235f, 0.14927429f, -0.1151011f, -0.0730128f, -0.09432587f, -0.14275663f, 0.028863257f, 0.061622232f, -0.13721316f, -0.05009197f, -0.0054034158f, 0.14600317f, 0.16945574f, 0.0043801954f, 0.06557259f, 0.0936402f, 0.04268854f, 0.12782422f, -0.028806318f, 0.1336136f, 0.14186239f, -0.025346713f, 0.16223647f, 0.15555738f, 0.15697728f, 0.110726535f, 0.17071748f, -0.012427883f, -0.14366344f, -0.01295573f, 0.14211911f, -0.104715824f, -0.16957279f, 0.080408074f, -0.024534227f, -0.12425993f, -0.06762868f, -0.1200001f, -0.054972302f, -0.11509813f, 0.1527694f, -0.071002394f, -0.11379017f, 0.011334046f, 0.031128671f, -0.04781659f, 0.09446451f, 0.127502f, -0.047341827f, 0.10531905f, -0.029834805f, 0.15102032f, -0.09026934f, -0.17213506f, 0.082044005f, -0.03590551f, 0.009070655f, 0.018619614f, -0.14438513f, -0.11691723f, -0.0785287f, 0.09904358f, -0.0631194f, 0.13837014f, 0.13792168f, -0.1155923f, 0.08515408f, 0.06725638f, 0.12283212f, -0.15671165f, 0.035001673f, 0.07108892f, -0.09996269f, 0.028589303f, -0.06542619f, -0.14490506f, -0.12938589f, 0.11205218f, 0.044720292f, -0.16908045f, 0.11903201f, 0.13790792f, 0.09752313f, -0.016456468f, 0.09529742f, -0.1676111f, -6.703667E-4f, -0.057418715f, 0.03221018f, 0.058391612f, 0.076265015f, -0.023578864f, -0.16537179f, -0.042763773f};
+    private static final float[] W1 = decode(90000,
+        "PZMA3zwFpb09lqQKPUAMWr1VajA9DORKvSDCYb2SO6a8JmO7PZrd5L15k3u8fcmdvAeCVL2DEOM8tSR1PSr1IzycVxI9BRf3vCEm1z2ebpY9TQWuPBA2/72lcu27jE3uPQqNiLy0SAY9WBdcvUbFtDnFQq+89MNxvYotlj1iBsw8qPgiPYvBZT1EuGk8valMvGXzaLzOqnM9ldUJvMDVcj2f2+K7Wbc0POOF/b2hWAi9fKaWvVwspLx0F6s89+nlvRpaUz1OGlk9KxhhPWNTALtoUho9MaCtOx4H8L13mds9BHNfvXWZrj1oba69a0v3vByY170O0yO8KeSnPYUH1bxwaiC9CJBQvFERrrwl5M69niZdvZUSarz7yli9bc6uPZe3Nr2mMLm8LZYIPXa4Dr2WNC49A2xLPSSSDT0Nos89NEi/O19wUz0jKJw9XwyMPaEBCr2B9cY9iekXPTy8Tz2WKMO82NfpPTntPj1l7Xc8oR+NPUebLbwAjJK8qvj0vWNGdb1oQX29K3/2u2hAyzs7V2G9bcYCPN3Cmj0INFA8iIouvZgvXLzyvXo9WqFNPaYsubvoxRE9TvwHvaMBnL2Nawg9Y2CWvaQH9LuzB6u8SYJMPYDMUDzQr0W9EZuvPUQ3tbrr1wa9idFsOsH8Tj179AQ9hcFRPXqbYj0SfKG9BQ8jPScY/r0KlZM84yNRPPGykDy++gu9T7HxO51DPr2V1wQ8TUMxvQfY7jypJWi8gvRpvPrJ4j0X1C49CD94vEYMmrx6Ooe9G+wkvWQI2D0Rf089EKSVvB74er2THYU9D3ghPZpi2z0SbUc9AQibvRSzSb0h62a9pMDVPTDJMbudDkG9ESOOPTOhGT2GSA+9hY2xPZBd4711BPw9hn9BPWSbn7wEAng9THL3PZ1VmL0j5JG83GQpPTj3Nrv1H9k9ogBLPW3n1L2KWSE9nSpSPHrRn7zn0oe8kdxKvUqwvbw+29o9lNEUPRgHzTvXCF29i2Y5PQwn3T2Vexc8uxmCvQD7672NjAe9gYnzPSnHAz1eEO+9JrLmvXsVjb2Hjyc9AGPBugui4D06Kbc8ar91vReYebxs5AU9Q7ZJvKxauT2DzZa7j1WavETGVD2JCpW9jZcmvIUIlTyJEkW8jn9Lu5duXLz47t49Y+eKvRyRJb0XWR08CGWFvQxgj70t3MM9dBLyvOXXoL18yL+9mefBPTahiTwhhmm9kSzYPRYTo72c1hA9RXZ1PWcy3z0mCyQ9hxZXPWMHrr0Il048zdEzvVDJnTzL0aq8AYjJvNuJbD2A6jm9kMrGO5ul77zhMFY9QbgJPY7X0LxIXPi82uDgvWz7E72Rqj09UGpEPQSzqL1kHiU9hoDAPIDVljzvFGy9NCKgvRqyV71yDjI9J4mEPTiA1DynSMe9S/C2PR0wbzy4XKa8agJRPWaq6js6V9G9imk0PMtY0710mmw9j5KyvRDRcrn9ri49EsFGPZBhJz1e0y49aqNKvLk/0T1u3nS7kfZlPT2YQzyZ2zS8m/bevNemAzztGxi9oHzcvIPSj71YXiG87WRlvItGBTyaYp89dFQ5PGuYujxxts89NtBpursO372B8UM9gSQZvVriwb1mgG29bqe1PSmj/z11m/+9gZjbvIWsHL2mIyA80MmVvaRw9Lze6oU84OoJPRwmXD2mAtq9ItQqPYqPMj2kKE89k9+5PTwuVz1Ascc9Afx5vWLlDLvGrhu9nOUBvZcMB7xzxby9licZPYtoST0NiGg8KWk9vVexurzANDU9lkD1vXe+LjsoSh49hH2+PUa72D2I9Bu8eL+CPUK27zs9f/w9Kt7ovZ9NMDzDSSY9h7jGPaNUxLzUgKk9AxE5vY/ajrzRhWG8S/kfvXKRTb1+xQG9nKLMPVjVHT2Il0m8RmCfPYlemT0A15i8khWmO5GJej1Dcdo8FA4FPY9Phr0a5kO7Fi08PJuIhb1OuL09nSoGvI05gz2bRw09iw4Tuuv3XD1/TA49FNw/PQ57/LzmjSI7ZP0HvYiwsLuNv7k9mZqOPYArPbwtCKg84RMlvLF9h71aw+G9PZPQPZFV870p1gE831ENvTb1Lz2DJj29K1/YvZUvTLw6tzm9pA/wvWyL3L2ZgDE9fbYPO36J+zywrdQ8sml0PU+zV71DMFY8J5IfO8VyXj1moPa9lUyUvXuwwr2Vluq8lP9vvHoGuL1jFVW7pjyfvY9agjwPim49mWwtvMETyTyblYW9DDB6u/O64D1beQ08oHOOvMzif7yaQk89mosoPKhlVL1Tyay79tJ4vRQtJj1h9Tm9O6kSPZFavj2Kwiu9WqZTPZLWLz0yxys8YWVoPW86172axM49BSvmvU5PLT1AvPS9YZqVvYIeuTsDdLk9Dnm2vQ8zsL003My9C9LovOqxG72h7326AxVcPKfUTLxejqU8pfpnvZRWCLye1B89Q6QOvSUusD2itWC8a+knPZINm72jonc9j7ldO4vm5L2JHVo9lCRHPT7a9D19L8S9fwKxvMny9D1IF5E9g86LvaWHVjulTog8r248vYxfZr0f+V49eoIIvS/XObyFiw88yYKFO0D6IT18hVO9lrGsvTzIqT0K1ue7W+w4PY9P57z0Zke9lnMPvGdQvr0orRk8r/0kvYk6Pjq0efO9b21hPFP7WL1zAic8SFL4PZ1Y0L17ads9Wqu+PLV2bz2EspG8qFIJvZUq+zkEJmW9hvzVvZH4ibymFVM9bcgevAn/pT0A4Yw9FpAnPZ0GeL1Fsso9VrHUPVitVD1f5mE9mvcvu+C4zTsjI6M8jaKivMfQRL0YQ1g9IRXRPTsP77zmH/e9ZijjPZCTcrpFgBU9HmahPN7KOjp/CQc8VLgKPYGoGj08xbO9VVQpPNqa4r2IOs89f2uHvSQAsjwphds73MbgPRCdmbyb8yc8V/apPWL+3zt2pKq9ndmGPY76XDwwdOy9SYkdO/166D1lWuW9pOo5vRggH72UXGC8kcAEPNAurL1KnJe9mE4svCdNqLwrMbO8gKtFvK48Nj2MZq09i07YPEIfibwibzw8IX+3vaL6BLyWQJu9jOp5vE9qCj2iG4s8rhbWvacqID02UiQ8D6FAvYyDBj0kBmS9XtjyvaYKqrzlXJm9fCapvIg1L7q3mXe9khcFvTI+Vb0L9O89kISqPM5Lx71NMuK76WhJvNmIF7z/rOu9T8/EO+SmZj2NWru9esHnvYgC1DwuT7Q9BIkPvZjtmz0l3TY6uA5jvZL0Bj2P0NW8Mqb/vVZsYj1bOYQ9NU01vLjpk71SnhS9K9aVvVLbVr2l1u+9dOdlvOCtsj2XuP68OLDpvZj/FjyXXTK9SS1PvHIJuT2C1hk9BnTtPT95dTwWjlC9OiqPvUx5w72iJyM9EG7bPKu5M7wS4rE9W5/LPZ0r/bzEk/Q7buohvYOOzL2EThU9YsLUu7xL6702StA9X3BvPIv/Dz2clFA9SDSLPQK/Zzz4uba9lw6nvNDZ1T2KAbI9h5wTvUdZ6z2fRA69hnuPO8KvCT0tq4w9DESvPT0ksLw8lHc9K2cpPIE5lr1nMLC9RQDLPX3ka70KvGO9Ua/GPRIbh71Q20U9i+zfPCaWb71W17Y9pKKwPZ9R+7zMsfC9GGGrPYf8u72KtWI7qha0ut5EWD0190m9oHjuvY81s72ZE5u8zZtKPYsdJrxtjzM9oibRvaEQg72jbI29J5xTvZ5/8T07KVG89KlVvSLRArw6Gvw69mmMutJc2j2Iexm9jPppPSmzcz0ZIA48y55kvRRAj7z18PQ9o/MnvMd7K711Ios9TZYwvHCLuj0E8eg9lSvpPSZ+DT0Oa6C9pOJcvSEhVD15Jiq9XamTPZ+jDL1uYsG806aSvDAS3Dv4C628wJfnOpJjkLzDAZq7nHk+vXrlxz0+T+o7ksoyuo1o2T1uhW89h7upO+Dg+T18eIY9HZy+vaQ5WL1WazO9mDflu2rxwbvjMhO8vy1muvY4Oz0+uSm9DFeOPZ6g+72XAO09lAOqu9+ydrz0Uyw9UtT/PE/sers2BCi9nqBavXblnTxsxVy6ytTwvH/XPLv+nZS8fGWqvQ8qCz0mA8g9OPhGPZvIzT1+nrG8/LXdvSzQJ7xBBTE9GurQvVgDaz0qj9o9YArWPIG5rD2aT+g81EF7PLYmkj2SZd27rHUyPOGZa7uns6M9kBYIPZXBXbqsdZs7+Y0lO3pQ8T1iTHw8CSLyPUUlo7z/w9M9pFN1vQVkZj1lhF09pIwzPShtR7yY3aQ9DXfxPKd3UbyO4hw9Zu6cvAq3hT1TC948VuywvXggej1vLj88FEgdPRBsCjzkLha8h0cNPYqTj7zWwmS83nRqvTgfKrxnOko8lS6XvRCokLu0jl09FJmBvNm+Tj0elTG9HaSUvSbrVz1E4049jWF4POP7gb2XJ7w9IpdOvSUGdDwarey9lQxOPMVo2z0d5kw9EdswOk2cmb1qhHo8xREaPQM6vr2BmLo9Z8GbvQGvNj2LAAy8vJkUvVuBvz1Guu09I+BkPVVneTz2+GA9Y9jjvQfyLr0VwHq9okFuPW4fwjwez9u7jJ+Vuj2Lar2djz4751gDPGCwwj0PZyY9VBP+vSJvKT2Hw2887xkZOw7n8j04cPO8vSM1u8bZIj2WkWm8vLtpvYxnTry/i/29YPH0vBWCGD1ocCa9oNMOvN309bvaKtG9TuiWPKEJhz1ttzW8wFd2ut6MhT0OMQW9MAsFPU2Er71yQKU8xPktvSRnbLzH1r29kXVMPZm/Vbxnu+k9ZXG0PRXcm71R9ZC9LePGvPkuJTujcI27QIIaPCNfFL2DE4S80k+LO7B4MLw4gH49BH0BvZ7bxrxcIXQ8EjMavJEDh72G30K9MJqqvZMgbT1tOnq9al8kPXAcvD0a4+q9pOpvvZO3oj2Jb6Q8THDIPO1wzrxUD4O8uay9PaKXlL0jHXw8+K36PT6yM7wFWZo9iC+zPXMBMT2W3MA8J58avUEqWr2NrIu9awtavYpStzwmtb+9fL4nvNrC2bwCeKw8vURCPBtZOb0Rt3e9il5QO9ztvr1kbFs9iKsqPYzb1b2eSxK9SEdlPXbMtj0NfQ69J52KvLSiFb0vXNq9P2B4vHg/+T1ONeC9NU3iPTxAJ71j7Ou4dCxevYORVbp1nB47XKrzvLyF/rztHnu9IWYBPUlpibz4+/m9JT2wvJLM2byE4K08yw2vvLNHvru0xjY9RzAdvXjBXj2GFi49YfZ4vKiU/b10j0S9kVpuvT1L9L1D/8c9hGpsPWdoKLqauom9VnMxuZ6Nrj2UdiS9cxXKPJtcY7remzi84XEVPOT0Xz0rjQc8wbjCPZi8iL2CI/K9bNU7vZqK0L1Fy0g8tgrfvYUHYr2TbYQ8m2EqvYU8ZT0u4329Z+cNPXaVpL2Si6i7ZgnRu/cocr1u27I7yfC6vZFGUT1FjCa8quxHPOmkpb1d9B09QpoVPR8S9r2Bf3C9lVN6vNv90DwK8I28i52hPY3H4rw0oRo9kDUJvYbKvb1tfQC9gcd3O+n7az1Cyt69M48jvTqrjr2Ds7K9RAqEvVaLV7yQqvC9f8+fvRXE/Ts81K89KDtpPRFXvjzfv8U9mKTsvUpz0b0v6f69AeMCu5FkKT2aLXC8QXDEvM+jVrzWq1M9gnRwPZrwmD0lvYM9Gu6zvEC8XLymK5M9IE8FPYQA2D0u73G8674QPRZarL0kzCC75V8CvZeXEL1XmYI7zr3NvXiadr2XPD269X5mPYBWjr2EzVE9NwimPS/i+Tz7Fk88fVHLvXOpq70GGu09HS9qPTjT2T0UGpo7euGgPZlVp71Ba0O9jw3vPXO9l70yuXM9nxAuvPTCpT0Lh7o8F4+tvTTBFr19uEQ8mJvVPYG/1T2hLOW7Rjw0vJpRnr2C2Se9mDNfO+CjvD2kvJO9e3GDvY/MNT0AFH68+wkPPWSGZzztBoQ9NaTxPZ3GtD035So9hQ3CPWxIXjxxmM09AfmjPXkl9jwUxGK9RIDJvU/08L0g6xC9RN54PQVVGr1kIP67pW3iPUjcyzyFMJi9M8YrvPrYSz2i9ma8jkA9vJEho71JD3C8V1T+PDDY0T1scJw9FmrcvIc5EbzIt4q8eqE+OaBewj07CRk9k1AJvOmLyD2NkvW7jwrQPJA/1j2erGq9MMuivC0/Urz5jjo80hbbPTb6Cz1Xx3I8l4IPvVPG5bxi/Z09Fs4NPA3/nb02UGo8QnUlPXzOC72B/zG7NeCOvUHV47vkENG8dKtAvXEGdL1Nz9C9Zl7gvTfcSbwZxdW6Q6aEvNLtx7yWLDG8tsnFPEqXlL0MABk9TFWAvKj0gL1avKW9j+cjPAS4jL0Hq408J2fovZHb/jvMQqa8Jw0dPYdSl7vZruA9on0UvU6GxbxrDgG8wEGfPWbEEL1rRTa7csYXvPWN+T1xfly9QGJqu72Ow7xU5RG9DxWXPUD/HD2mAhK9UluGO9C4rjvBVjo9nZKhvQS8zj06Nvk9KH1du8sCArzeqOA9h6+aPRqEh72ERey9nUX1PQ3YEz1K9l08W3+qPYlXCrwO0X66cCRROlQt7by/m6A9osAjPLYVcj2nB+w8gdCoO8i1J705saA8l3a2PYzR0j0+uTG8nW9WvXa717yahNW9RsWSvFLTHz1AiV+9pvqdPQzgVLynQAW8mvsavLtnODziQPw9FPETvB08Yr1M7nA9FRhkPMMyJT00FTK9PoMZPYO6AT0BMAa8FuV6POfUSDwWZrc8zfpfPZqWPL07BWS9dR8Du991JLzSRpo8tGlwvY7qNDzESbE87mXwPDGufzug4VC8fdJvO44zqr1eZGm8+rkbPXwJUT1URb29AKWDPLzFfz13BzS8+H6evZBSdj1i0Ok8nUexvTyk8Dyd2zE9U9PUPTE5k72Dd7C9l0u9vNHB+zwNRri9pDqIPQw1Obzd3yg8SiLnvWv6ZLy3Dhy8qGrxPMolb7qamJI8Hv1BvSvxiT2imBe9baTMvVkSbLq70TO9jRKbvUIr8jvGtHk9k/A8PQvAwL2kqRQ9Tx4jvYdQw72W7/C83U2JvXN+fDydSkQ9GeSQvVA4CzztDBc8/q1BPTeQVz1jsKS9GjO8PURPAL0MZlU9Bf5ZPVetdrzId+U9WnemPY51wb2hjn68OgTHvIjhtTz2RmE9kH96PRUdI70Hpae9lrdTvRZlQb1UFEU8RM24O5syur1aLIY9o+qkvX9AnTu+5yk6apOxPOGghj1Xku89jjVGvGGl3z1Tcho9OnDNvXSe5zzM40E9biXfO8riPz2KAUu9PXGDu4c5ArvRrh+9iX3zvLvSWD2b3RG9YPb/PZJqy7tbkJu9oRILvPQrjb0kNGQ9QQU+PI+kHD2VWbK9XkbLPUty+zw2t4C9RtYqO/LNWz0jCNS9PkWtvZUNzD1aNXy8h1c4O/rIejzt1UY7o+1QvRt3Ib0m5K08zzmvvYBEED1xbWA9ld/YO4GB2L0Ad+88V+7SvZ+u9L0GfQe8rNG1vRkWrDv+sem8+cCLPX4Mkb2X0MK7yXSKvYlAvbw1dko9U7tvvQymkD1L2eG9dPXpPVgu6jysOMw87ZuHPYk1kDyBVPA9mb4VvY1vh71TWja9oatfvSMJkr2N0dM9fkzEvMKcVjzCWAm85PZ6vRjG5LxkGDS9Up2KPM2V4j1FEU48pb+YvEhWCL0zUdE8uf4/vLB1Jb2KHCC8I4fIPXT6lr1Ryl+9VGo3PDJdwj1GnnU9mZvPOftiTr2a5Dw9lFwNPUKn3LwtezY8pa7GvJ4Ey7ycuSw9ZTm3vZVPSj2W+c09TQ4cPISPwztLNZ28r9IxvK7UFDzYeAk9hqw5vQifyT1npe29ZoOmvXWsYD0jVmc8LuSDvTct7r0ZC+i9KypKvCrdcD08C109c1+2PX0MO72jXYW9hIpAvPJmf71T3BO7YQjmPKCo0D0vY3I9GXKCvSjIJ70SfQQ9hHVVPJS9sDtNMFQ9g61EPRFnNL19/Ti9iJi+PO9zxT2L0Qw74r8IvS8pzz2hu+48I6YyvZFbsr2RSxq9cUINPMEEmb17cZ28x2+du0kiujyv03C5xzHOPNio0j0C8lq9e6HRvUctqj1JNMW9S5osvIStzz2WRs89GN+nvTeu07u+lzq9F0EzPWcUqTwlEWq8lrcEPTTA/LwFroS8xcP0PIS+/zxz0uy8MBfXvGVDqDxaQwc7kebNusYwcjxOA809hq3xPLIqRz2EclA9eE82PRXqfD0UKty9oc4yvLZfdj0l+gQ9SgZovVHZ9TwV+8s9mNLKvYyRj70O9d49KgkUPHIrHj1BA9M9YZIhPY8SPbz8+ry7nxrFPA4LID2W1QM9cVRxvQRK571Ojeo9jrXpvUEpsLwSyM+9kJhePES9wj2UneA9LsMGu/bFZ7pxvd889lTPOxHOeL2FEmw9nq+HPTzFmb2Fu7g8h7VMPTuvW700/rQ7SXB1vZ3DNL2LhJC9VO+xvZFGJL1Kp5K9oziUvJaIdT2Havo80zHQPRpswT0o0dm9KTxSPRmQlr2SZCk9eqlRvS5R0b0poB6889XCunkGwDyVjZa9We6SPSFJNz0/Vui9ip0KPUIR0T2a9fa7+JEDOl38Kr2IzCs9AjBFPTU3i71DGvo6PoJTvaIP1jvYrHQ9iT7BPRnJuTyFoom9FAzDvXB1ZTzYJSM9gO4OPAUGCL0c1Ym9DU6RvZ5jJT2SIpy82rsDvQ4Rwj0NfJE83rR4vQ+W7zz1Eo89kgQ2PX4HyLnw1K48PMCEvRnBd70kv+a9mA/HPZC2kr0EKEu8qrzMvWG9er0+Ris9hGi1Ox9FZL2VmIo7ywR1PRcnzryMwXK82m44vIinWT2G6LI9Ch/9vWp9dL2cG4+9GdyyPZM83j0ekNu8bXGavWgCNT2RBt49eMx7vTJvbD2OrFQ81m0CvS94qjxmWZc9mFoZvUWH1Lzohw48JSnzvRApX71s1p+9PHKHPCLuHrvD+vG80aNdPRfrTL0njB49ozmjPEMo5j1XA8A7pUmhvZBHyTwhbj44XWSfvX6rUTuUZ2081E8uPEDpjTzhScW9iT6FPZ5dor0q8XS9cqthPSSi2j19ZD28WE2zOwXrOb1AvrC9d/R1PYrCtj2HMx69Rz35POnT0b2flSE9LUAEPRfBgzys2fm9Ax/uPT4RMr1Mdt09lUz/vZ2G+jv8WI88jhV0vQrY1b0dsfi8UpDIPVH1+bupBpG9a7K+vZtfpT1i2AE9hF3cvWjLET2jVlM9d1LFPaW/yL2LCRU9P6cjvRs87LxH/AM8yHu2PKMDsT2Iyq89GWn6PS3+A70ti1O8u0lqPZSlUrubJuO9aIVcPWTnNTprwiA9SYpfvM+n/j2d+Ls8vOWbvBwFQrxZRnw9epcPO7eUPT2fsFK9NAXLvVRONrzMeX+9gME9vV/MMDvrjck9NxgivXnENTzy7do8/POsPWWlpbylssE9McIVPOMB172Wn6G9gLA3vaKEJ72A2bE8JE6uu7UazT1CVoQ9j6CZPWno3DwNv8M9jKTaPUEA3T13eTq7jWmVPSKU/zyCrRe8+au0PSqju704BEY9pbxPPKF2/718s7E9Bw6FvPfdCbzqyAg9GqxsPD7VfD00LoI8juFwvNQ8XLse+5Q9AdV5PZ+OIjpAyu89KpF5PVIQUD1xTa89kDM+PIGh6jyvx5k9R/gfPM7n6T2MvKW6+cwEPUqVjD2AkHQ9fW9NPXpL+DyTgPg8zCv4vZ6fZz2Dh629fsqhPZrxJD2ZoqO9m22GPaNQdL2nLOi9d3o4OtrXwDyTNB29EUVzvXqCk7vvnmm8oNLNvLWki72j8xg8a6QovI4gHDqt5LS9hJBovU7E+jv2CoI9ASqVvUaKnL02Sa69gbumPB6sgbwQlLs7sTc/PJXSN7oKy/m4DnAWvTwP+Lzwn5E9S3itvUzLTL2Kns49E6iEPQeUKb1T3sy9i0pXvFDsFLzY0sm8roaDPWQJn71U6iY9K6/MvZgBE7whOXS8v9oCvYa9ZjyzI8c9gAFrvZd9sz2O/+G9AfU3PTRQ3z0eKwK9L2xTvXF0J70BcTi9J5rgvYamhL2KMCU9hRFwvQtizbxePFe9RY7/PQuflz1CTnE84stmvZ1I272jZni9D8RHvLdLxj2XCjW9fDpxPaGX3TyXAc89mUMoPWXulr2djnO8kWNtvCo2wDx7Kt28WCirvY66db0pFnw9GntaPSlFIbziXfO9azLRPPA6sL1kWhO8OHTwPP8KPDyJ2Wo9bzPhPNcAcj2Yc5+9mQxYPJ+Lh71igge9Op4dPJ5H+b2i2F07laB4PQ/tqj2W2lw9PQI7vLrOeT0+81O9j84/PNy6mz0N5gQ9RVbPPZdZuDynA5q80MU8vZW9JryG9ii9KjlyO8z6hj0L8fS9ThpRvXRtBr0J2iu8lU32PLFSej1HTdK9Sh89PYX+6D1xFNE9f4ZPO6QhKT0Y4ka84FR+PTvBGD2QY8O7jYJSvZuvJT13rRM8pw8IO8WUFr1P56Y7puhUvZTE47zgM+A9GU9cvPZPqr03tpi9lYCtPRWsmL0q2GU9bp8aPSmIzrzX7jC9i7xdvVf2/7x0V5q9XiZEvMrgED2lZlw9gdE0PSwyhT0TgMu9M+G8vaWAzLrIFcY9Y0mXvXkjJb2NNMK8lMkju88Fkrx+sEc9JDeOPQqqnLqGK2a9W+1svW2iJz2PS2S9mVYwPWcK97zcm4C9ko9WPWZ/Fj0lVG69oQ+1vQ0/tT2YO/o9dD9aPX30PLxwOCg5VDUdvYNDq71ox6u9F10QPDubZDzpBtu8Ht90vWqr9zzXj2W9k6tXvU5tZTzIZ888MI++vTyRsL2arbS85FVCPNL2qL1UVdi9Gm2DvY7tN7zx4Oa8GPQyPVvsqL1Yyzw9pb1uPZr6ir2BiCw9jHQAvVOKK70i1Gg9Z9LAvYcj3zyQBdi9JArnPX7TBLvLpcy9hdMbvC+U1T0ORd28i+mgvaaZFD2G4Hy9GFtKPZfLATyEg7g9FGpVvTnOirzG/GM8F27kvTGlTT2heam9WFLvvZAyXrwztuQ76yP4PaMKzLuapfY7179XvZoogDzhfTq9iSWBPYhCVb2TmrM9grIDPTsKnjzmoao9eNHxvIvmhj0xzXO9BS5BO6otZzzeDN28h04tvR+d5j2Ag/q9NqQ9vQJw/byD9Cm9VO1wvI99CjzysZi8L2WZPYp32D2JPJ08PaXpvAY1ujxe9fk7ASOfvBo2BTzpKs09BCVNPUMxpz1HDFe9nqFsvWEv6Dx6H4A9K2P9PTEHP71/5Hm7bNeSPO37u70Suf08NI76PGsReTzoLOS7YLpaPaHz4z2XoMC9aFU3PILj9rqxP1Q9W6isvP8Hj72DWyO7hHGDPVj+OT0PGIC4kTv9PZ8hSTzDjYK8qw+yPQnnMz1+NSu9hzGzPVWflj1mNFY8txPyPHsv4j2jW8y8vcEUO6wq+j190vw9XhhAvZcOkT0GzHe8yvC4uvTzRL02XHa82tihPZRCQ70QQGu8gFBaunM9TD1bQQC9iHCePJkUkjybYSU87DVaPO/htr0Gg9S9f77/vVPlb70ueBo7kjNOvYYE1j17/z666QiCvQqJXrxUpS29hjYZPMgzxzrWxuI9HpeUPSE3Z7sD3Bg8Hdu5PaUY7b0XMB29k2yCPIazrD0La7M8Y2wWvZHWHr1qKpI9a30CvZaRXD2hoDK85/Z+vIdbtb2EPfM9BqmCPYxP/Tzjiuk9gRlqPUE6YDxm2m+8tG4dvAzKPrye8GU9BHF7PYw6GD1LvM49U00YvYAKu70IDTw9m+9ovRn71bpXgGS9nnzbPZ0Cqr0QhG69pnZgPTGAh70MGaI89HC7vYkgcT0PQl29C4WDvSsgVLziD+S9e+VvvRp13z2iWmu8vvq3vZ7Hfrz0MsI9gwA6PQLC5L0pLC28Y9GpPT6IrL2Qh/m9fFD3PQFrdL1wHBI87r9iPZjezT0N3ga6al9wPQ9h9j16ga+9WxOfuySFrD12ZP89aNrLvZuqxb2AxGy9gjLXvJ166Ls/Adw9TDLXvTk+VD2W/DA9nFUrPXD4m710xmy9i8F5vLdmFj2koCM9RjX4vXvdHTuNEWa9iz5kPaYy7j02lZM9IE5BPY3Ltz2TL2C9A1eevX0NMz1NpKE9cxI4PZYDY70EsFU8pNguvYX2XT1VDsq9drm9vZfGO7vnvDK9hBEhPRk0Ib1ghjO9NNFhPROZMDyUoXC9njRhO/McEb0VR8K8Prf3vTwcUTzyaYA9JUo+vaZLnry+swc9Y2aBPYlwED2LuUM9mlYSvXy7ej1vS7i9XELxvV0mpD2AHw282t6NPY/0kLw+W/09BHwru5yrtD0mvdK9FyuDPZ95Ujm2lC89ifWfvPKiWb1gLF+8AzbBPDBSGbx6FHu9lewovLK0Uz1TnTE8zEmCvVr0qDyquMw9cRnWPQqe0jzPIhu9BCnLvaNUJTz4Xua9NhH0vYAior15cfo8/gjaPYlMEb1n//48+eglPZFycr2BBqy9pDiwPN6MLL2L3re8k3TivYBlkbzfaMC9MpClPRE7AL2ZJm+8wLbEvYrl37z4n9S7sWpcPTY77L0hkvm9IOP1PRmhgD0UQq89SlhQvGHi3b0secU9FZDDvYoeXj2ROp+9m4hNvXukcz1ObIe9jj0HvI7XWr2NAr49jpZ7PUbOjb2IfvA9LeDAvYraGL2QKZY8fHJ7PYiUxbzSNEU8OOf8PNlZL700MHo9bPgOPWaPJD0PXro9njhwPP4DUj2jQcQ8lvHjvWk/0z2lbcG9L6EXPGOhcj2NQiY8MCorvBPZB7zPLM6864+aPPneaD0/org9Iu6wPUbLdbvvoa09lCi+PR87L72WwNY9aEBWPacCI7xQDdQ8diQRPWl6r7zjvZ08feX9PW3R1rsguQ89ms7uvXZFL7voChc7aThbvXFDcL0mM3I8eEz/vGPehb2Ps++9Xm+zPQs+QzzHd7g9jOXWvOiNzz00QcS86fghvWRnMzysQea881FNO2H6lb2d25c8j7tMvVO37LzUnEw9Jb7ZvO0u1TqDyvK8ZMXfvVR2oz1KsDc9UfWDvZBior0S+K0827tUvaaK3L13hKa8r9LJvO79FzsKxe49d94bPR+9DL2HxoU9pswsPAVyTTxokbU9dGuBPLlNFrz4Oao9RPu1PHJ5Az1SGtm86MhaPUc2KrygB468gmY9vQm3dzzvDiM8QYbPPUmQSrusWGA9lBCDPVLrHbymtc+81FFYvQJeQj1spjS9g+rFvVyRkb0Wrqi9MPxRvRGiJb2g4dQ9OUggvMUY1rwGOk09ALmUvL6L0L2WKWE9mE6RvYXDTr0A6PI9jhY/vSV8crtdZxI9ptXmO1GPv72RjtS8H398PSedgr2W9R69ngtBvaXqtr2PKg+9PFZKvZnkgr2QHpy8goFEvY5ojL1KaYq9puNmPMku+T2BsdO8X1VMvZnQLLv2DoK8csjJvV6K9j1xTRK9dxygPYW5Sj0CqFu9od9QOsSNGLzwXOE9IWdfPZiYUb2W2688oo/qPPLBhLyXEtU9db7fPaWmSj0lIXM8cLJOvYCRGr2C4K69TjE2PZzYbT1t0AK9c+QJvZx2972SueM8U2WuPYOmtz2Z5pc9nD2/vMYIrzyjCDk9Y/5IvYvv4bxmg5m9glCzPAlHMz2V7RI9QIOnPR/0az2SCoO8kE+NPaCObz1iA8e9hiH1vaGix7ze+P69nwawPSZQ5D2fkmw9IV4rvNeNjj0Y1/K9IYu1PPIRN72R0L+9LgXqPQn8eLzLDdk9VCdbPHbvSj0/StU9V+KDu+yLJb1hSXY8cClMPYSdprxAGS88Av9lvI/70rsZIko9FMxTPXI5db2LR3G8DA4VO74jnDzNHrw9iMSdvCmkJr1dCfE9RtXMvZhquj2cR8Q8q7a1PT/SJj1oWsw9BD5zPB9jEjvECt09pyL3PPAzDj2B1eI9mD0tPUtHzT1YmTw9pvv5vZvhNbymfiq70SifvXps5b2kNXy8ffE3PT3VPzyjUQQ8tt0JvUqj470B+M89AgaBPUdyA70Rz8Q82PQkuvHs57xeBok8RSMBvYt4wL2bGVK9kSBiPOm037zILnk8qS8bvYcJiz2a7+U9N8HKPQprcT0Jq5E9QP5SPLGTXr0TBG+9ltduPVHi471zlmO9h+ZKvL7vHz2W9RE8bo2+vSH65zyYAnk89rOWvSf/6Dvrp4E9CL+hPZecx72cEbg9EuUKvUEZ0by8gqA9LfbevQch870nHQk8/i2ePT81qD1/TX48WH4TPT0zuTzuQuS8KNs1PUGuCLymNRE9k2jbPYAoDz03/ZY9exT2vZckYL0Rde69bTd3PY6BQzj06H28PP8uvH2sTr2gUSw9kpF8vN7xEj1WHq+9i8BjuyWnh709J7i9bT3oPW4ijDuHE7G9nmzePaBKyzz2y4e9ml5YvN8xnruTxLK77LkdPaKffrwom6W9KO6kPVmVCLywlLS8/ybqvFSV8z2fGm+8ywR1PSG+bj2BEg684TWKvRHm/7vI9dI9mIsZPPvKAD2chFu7Qu8hvLxyBz2WGE0794XFPUVkZT2F3Vi8ddHNPTQArL1HdjM7vXOnvNAKtb2RW1e9NohJun3vgDz/SCA87XrPvJx0SDxSOBG9hWChPaNHITyleUu9jmFEPQAguz2Pnrq8+XLvvJcSVz0qWU87kfYSvUbQJT0K9MS7MezBvPqgPr0FeFo8w5GsvYJnETyZ7is8D2N8PYwR+7zxcjk9lUycvFoN371auUk7XranO2nvvTzxTns9YMnLPUWI6T2HiQ89Trd0vSSNgjwIkGK9QUT4vUunR71Tiw69gFqcPWkN9byIQW69hPdGu9svHjtDoCW9nObePAA4mD0Mgyg9XGIKPT5Z8LyMSQ29ME2WvUSJFT1O7tW9IVxfvTBZbzytOzI9m3F0vYnKwDs85ns8N+/kvOjLRb2XfLc8uQ7evRGVPjqaGN+8womZO7fN9zvKGxu8UKJvvL5MEb0fdqM9k+tUPTJNJDvurSO8Oc2qvVd58z2IO789XlrUvTxg9D1/Kgk9HsGhOy505TzuMJq9lyA6vYuhrL2kTDO9gEc6vUk8JL1Sfwg8JMbevZuMlb1mszs9Zk56PRhRpz2kFps9N34IPTMnELxohem7gsZnvXrfRLzvzRi9ibLFPTiv7r2FlfI9mJAXuSyRCj1Amr09PRONu5ISz72Y+ac9lLj3PYbqAD0JvtY9AiiTvYxwkzvgZUa9ecaDPYHdVD2joWE9cWfaPaNKD7z/vFq9GtiVPX6SuLvuSLU9oGcdvQ9TSbzt3KW643SePZL0Gz0ajP89ChUcvaI3Bj2XzQO7AUa7PMmBQb2iXsS9diX2PQQ7ADyHGzq9lDEiPMiMSb2g/Ss9CeDLvJLKA7sK61Q8qPthPTVI3z2lU6488L9PvHd+gb2e+oY9lqlnPZ29QT0xGwG9m+NoPD9aXrz9VJe9Sorlu/nQGb2jnRg9EA5jvNyo2bz1thU6MsZFPYeZpT2CRty8wBTGvYjwT7qCQgy9Cqv3PZiT0b2F9wc8+z4iPZHNYb2gwv+9nw+qvCER5bxq0Ys8JZuGPLjgED2k8G+9iTSYO/zuYztXmge9It5uO5kIPr0Bdc29grmlub8m7juufnO8n4OmvV7XAby8ZRa9e0YTvPsGWL07aEC9dRt4vZHUBTuicVG8qNHHPYs5872HeQC9PbZ8u1vSQTuiA1W9BuyaPTYW7b00Rl49FnywvA7k7b2HPqw79iHcPXEo6b0j8f2812emPVP80709qJM9gOctPPQ2Kj2ajzs9iBTLPZRni72I2CS9kSRKPNT7Vj0h3lu9SGalPXTelL2hIbs8C03MPS0Ccz1+ybA9Sz9EvBr89b1Ce9q9IzOIvKOm9DyfBWs8l0oCPWcjBT1GaPU9PLg/PYnIsDzd3yi9a5v0PV5xuDuhX8q9V3RGPIJJ072lo1G9dGwOPTRA1D2Xj/w9jBXyvYjQs71Xrs+9oIPSPS2cnb2X1dU81qxYPNgWdj0gZrU8cLUAvO+WNLxbxBY8KZFKvPLrDj2WUHM9AnyKvV8hnb06uKw8Mdq1vRZgJLxo0NM9ZVndPYc3GL0jIeI9U2+AvGUpuz1Qe7Y9G+3gPQ/rBr2cB8Q9i0PdPUbu4r2BRgA8oo5DPKRRW70tVzQ9nJI5vVsSDbojkTY9ETGnPR4f5LxPjCu7lGtYPT+dK7uGh0G8DgjXPYBxrL2XebM7miDKuoZqbzyEpLq7i0OCO/WHTL2GD4i9FrViPRKhdL14M149f94/PWlunz1DCsq9F+rbvFCCtrunAVA8Zr4kPYIBoD2g3Lu6mZwcPTmusL00UU29YD00urSMPT0opt+9cKHFPELM672M2ia8OSMEvIYMw70Q5wu8znBwPY10ijoCdVO84CeWPVqze71zXcG9SacxPXhaVjyKjda8QXR7PRO01r1KhkA9k55qPFWoqT0k8XM7se45PaJ4cr0UCIm7usRpvYRf37sRzk48mATIvICF5bw74ea8UzKxvW9yOjzJl+88+Lo+vWu3qT1FEO29WvLMPQ3kWrzYfMq8rVq8vY+vSzzNOAG9EF6jPXrQhz03f/29iJffvYU64Lz3x588R5juPS0zrb1fiua8z90bvYtKID1lVS48OkqhPZ7tljyDWsi8PqEGvVKxVL0tfkO9eNX+PKxtEz0X32A87n2DPDGO5ryeEPu9c2UsPVvVWL2WXP69aVR3vTdQMj16ip48hzEWPVAhW7y6UOC8LznVvRwRlj07qGW8AM0yvNdMAz2kfI09pL7mPOhYgzzTF688D7nevaYU/7xCaD+9nmAqvYcSYDq/t0k6KYcVvCwIHT2XXS49GZOWu8z6hjxir4Q8/jKoPKvLxjyVcB09k1iwvVSCbb0lH/A9mnkJvZJTUL0Dhuw9LpdavY3hsr2H43U9FupbPY+BOb00ov081B7dPSHYW7zhpi09ojX9PBW53T131rW8JnzWvJNaT7vfpc49WWDmPWuMRrxpLhG8XJXDPTOBRz1lG3w9T9LRPZ7AR7zM6xK7zV2lPUwFc7wIzma9pVexOzRw+DtvoyU9nnUnvG8f+j0B+/Y9d7bLPQVRd70V6Za8YqfDvWW2fLofr7M8R9MGPUdYbbxEUwq8MX8PuxB3N72IBus9gbvdvT/xoD0HlNK7bLg3vEakLz1/C8G9ms/LvNFgOj0FTLG9J2y8vaHudjwOxVQ8G6jAvZmhq72QyCS8/8aKvZa9YLyIT2Q8jtDxPMPmLrxWMB49W2WrvVKcvrvnzHE880MovUqo+Dx/nTk89xubvT6cAL1O6D08Lp5VPW3a1D2AzcQ9Cyo/vVVY3j0FhW28ugRuvGphUbzsjQY9O84GPaCGtz2TCYW9jjvyvXlsSr1eap49HAl/PTSsIj1FH8S9SW6RPTovIr1PYTs8Tr0mPZv3ITxNzDO7MUjNvYaSsLyDhdo9nyHtvaWXyD1cQsc89ixKvXVii714C/a9fASSvRsuiL1CcX49EH/kPXeE7D061fw8qD84vZCeRT0HiZi7J4QzvWTIjD0T2AQ8oVDzPWOKwjv/gBO9EimxvUoCOb1VYtS7h10tvEm+ZDziSmW7MK6lPLJLFL0zeEE9TNi2PW82vD0Fw6I9o+3pvWW5ib14XQ09f+kjvZlJ971NYJA7b2GqPReXaT2HJB29MAn9PIzm572jRLa72KVZPZvye7vpmr48q1mRvQZ1Qz0Ytsy8IDI3PZpYOLulP0O9g15YPV47bD2Qf248rc/nu3jHjb2Ocvc9J31FPNVBuD1xGzy9ACBavS1tDj1U82Y9mkQUOyPu8r1BHkw9hSO6PYKby7iK6A873q5TvXMFmD2U8C89jBmsvZaXPz1US0U9bEyCPRa90DzWeSK9QrcMPMnP4j1qmke9N1JpvYF2QD1CeUo9E+SfPDacmDy3Z829oZP8O919xT17JMA88jO7PYtHXL2T4Wk87khHPY75j72H7LO9HaFqPW7cFr1Ym0y8RLA0PXMnFz1f7Vc8aRi3Oz/VK72LVdc76xP3PM9y3D2U3oi9kc7MvB8yU7rqRvG88qB4PI2gLzzUlbk8f96LvYfVuD0zg0m9mVc9PXMefL2lAXG9liLNPUZMxz0WLe273/IlPJcBrz0k5zQ8I731vaAkxD2EzTA9M+ZPPTUOjj2McU49aADxvZcAqTwbvGO9fJeNPIymqr2Pu767kwbcPYy0zz0CZTs9n0XAvZ/juL0o1dq8KTxqPBrZCD2JLGg9F66hvZJZKL2he9o8wGmhPPOjkL1YHXc9jRoqOrdW171Xgio9mw0nPYwbh7y9lzG9dLgIPNBEmTys0oA9cq8yPRI3xL1q7xe9AivavaLbZ7wI8qa871mUPVCLlz16J+Q9Hg9JvROQ9r2gC+u9m1H/vSfUVj0sA529pqwwPArsTrzAaWI813R9vR/IdjzEhJU9JaLdPZuG3D0JAAK9LUFIPYCilz2gbFE9WbmXPRA0fLzWet68QdB1PBWncz2YO8u9nNikPQrgCr0AFk09ivDuvMBd1Lu8+DO9S0RsPZ2mIj2Bo+U9aCuwPJiHxLv7t6E7t7B9vWhphL2NGYI9VzTVvIF3j7vU8Tw9nbTRvR18x7zQeOS9eVBjvX/X27zF6E89JCb9Paa5lDu+YMS9KDWdvQUB9j2Ny7u7STITPDPk3Dso7mU9QhkEPRmLOz1D+Ew9QLjMvYIJ0j1eee88Qp88vSR1Ib1eLao9F8hKPG0J3T0OoZa8qjKWvZqWqb2aQoK9ltbaPKvyqT1pVgu7jSF8O8m6RD1ywZk87NycvR5h6Ly/DzC9hBtFvUbSmj1pejo9V0dpPJZzvT0I7cu9iOC6vOY3gD2EzMM8ZPlQvZ+nzrve6zw5fsmrvSZ4WzzQlpK9ntmmvZHTwjutuNs9ASo0vVC1nLzkcJw9eXVdvWEd5D2VX4a9gtNyvICf0TzkDUk9WqxjPU9YETtovBY8/wqAvWjaZjyI0XY8RFUqPWSH8T15o2o9hsy9vXvGF70CLC29fMiiPaIkT72Eff6811SbPUx6nD0kBW49k37YPKp3F71Dk6W9YDiaPTs6yD1m+Sq8HjjEPH9Sbj1X8VW84iqnPPg6E72lu789n+PJvVxpsTym9yG9mn2xPaH51DyyEUC9WdTxPW+p5D0eTFk9Mvu1vYmWozy4Oie9lOfYOwug6jov0I88SJGNvZFBdz0STvK8gouOvU52ND11Cu29PQAxPIh8dj0/jIU9AHC1PREloz2JsDy9AuUnPUTinT0CCmW9fs3YvWMwRTuKrPK9m/QuPP972TvOoLy9po/9PZTLf70uJma7q/RGvYwA3j2fBMw7z3IqvTPrRzxbtl+6lTzbPSpTLT0CFK48NsWLO56dmrwVBka9M6pzvZVQDr2WSQS9bCvkO9r1Oju9rbU8h3RJvUzNbj0zk3c9OjBJO2CT0D1nW1E7909kvUcWfD2YJx675kQeusPm272hGta9GCsTPaYEcb2CXyM9iL32vYn5WjzGP8G9Na1CvZ5PUb0Bssa9lGTNPYNCSbw3eyI9OeCgvYgkjL1bDp89PzVuO8w8XL0NeEq8UIvGvRr6Aj2j1GQ78vXGPaGVoD0idDQ9joqmPSRlVL0ee/S8oLkqvXZwrz2Grj09RkYLvV0oyTxI+uw81PXZPSkNIb0QNxy8VQDevZpkor01mUQ8VQ+bvRNje70wKTO9aPkhPW7Xk70rqJK9mfQhvScUFT2fFXi9VJEVPSmPur2dtnM80W4WPZiyJT03jQO9LURAPBhOfbzCJFq7hnKZPWH5p72BhOw7hglvPLS5uDyijh49kIZBvWmFRbyXUiE9lZbxvAdZdj0zlA47Dz5VvUBnET1JWfa9gXb8PZF5yD1R4YU9P7UKPSaArTvkkAY9dcnyO71gd72OUb49nFxpPKRMHLuhgn29osgLPYo92z2k9y+9i5LFPWcKmz10brW7zg6pvQC4sT2ilP+9gaKDvRSoZr1xXFQ7s/IrvILsIL2hOZG9kgVHPUeyB70Z6Oy85q36PIBXS718m629OWv7PXoaDb0qqyq9Msv5PYbpCT2Spv49aEZRvIpYyT2ZEUE8/W1aPZmk370dFQW9K5BdvHD76Tziyao9ABjdPYMVQT2bij28stJaPYV9qbnZv9s8zhnpvZ3BQL06A409Sh0qPJaMUL2YzJg8cPt2PXEtVz1pIEe8xsdBPZSeYr2Zt/a9Hhf+vHi+FTxv1NQ9Vv5SvZwA4DtDtyy9plWjvUr0cr2ERQa9U0/aPZoBU7zsv6q8tN0ovZOe9T1PvwQ9CC9gvZu6Qz1KGwY9Z28JPLtpPT0FRsU9W0zzPSBoFjwjTz29f9JmuADNZj1Vwa+8bCBuPVDnij0cEra9TBsPPZaPFDyjRLU9gekGPT087r14GNg9WNncPYyOnzxfdUM9ga37vFX/VDz1Ryk9kWsjO0sf5bzMr8u9SqNzvPGE0b05I6u9YbgpvOZ4Sj1BxTY8+4sBu+8RKLyk9087oPjUvTkhXbwrzuC9F1BtvYk1ajx90hE9XO9LPMAA7zxlDkw9ChM+vZTESj0ro149FjedvIARXLzjnz29oivqPYpEGb1Nnzs9Lo6GPaa+frwGf74752gDPUdMMLvHGfc9U/hOPVEHqz1kU3E9izkBvRTuFj1au+G9b7SuvROLIr1Wtog9QReQPKsfJTwyo9o9hrnNPEpyrD1hWUA9pqAQvXAcTrybiXo9MgrXvEZJzD2aq1K7veJfPZuDDzzutCM9hUEBPWCMSjvetdY9jolsuqQLCbyoF+w9SDIIPXm78TongcC6zI6AvNwR3L1hlQg8yEaEPUHWyb2GxZC7jf2IvQzrgT2LaV+9W2MrPTqSzLyn4gm8Dt1gPQUKqL2iVS89dNlFvKG6i7z1cUY9i4GSPRhMEryaI9+9ncbcvJclWb2duXQ8H4jVvPyfAL2PAWg9gs+hPLa+2b0gK8e9NjPCvQa2bjynH+Q8zY8GvMqx1DzNZTg9j55uvY8EAT1CC088F/rsPBTeGj1J4+G9oRPWvNmJxD2HkaY89MWvvH7heL0Ks4e7BK1xPLBxSbwodeK7PvbBvXHrjr0uHZI9coxlPYMsGT1DZvs9mL73PYfOyL0tilE82p8ru7Wgyr1PEva9nNStPS7Vzr08CTu9l1GlvLFa0z1ZGyk9gsXovPW4eDzzSLC9k6KWvaLZTTyRuNA9gNYyPaTlPT2IjAO9j1mLu7WUyTvmSVc8285gvJEJbj2lke69gVNBvKTbjD1U6tu9jNKbPPoL8jz+ngy9W8ARPDioGL2Ie7a7tFmzPSrWrr0Fviw8JeeqPJQKu72Rp5E8j7eVPS6VMD2flIY8iltwPNycAr0IyDS9NKQdPTmqFryo0347WDKNvFyBoz2XHBO9POxFPZxc7r0756w8XLRsO6GRrT1A/6s9DLY9vaK6Mz2Cnze9ZnX8O/UE5zzJk4a7AGy6vYtIvTtAWkI9i2H3PZvQyj0RNNi9kbPVPICOnLy5gco9gIAVPVkm2z2XHJc9LKzFPZZkILy08D48+ZJfvLTowLwy5jE8fpCYvKTRhr12AdM9mhMpPUqgvr1FNo+9MwbivRA0kb2ZeYG6p0RZPRGFAT2Ubv67GW80PXdQI70mV4Y9EG8SvRoOeD0Byd89D1q3vZE3Yj12Iwm9le6HPUoFMb2JrL09cwOXvXinwz2m51Q9YnIgO8GLTT03Zlc9eoxAPW4yob0qko68mF7cPV8Wsb1YFoM9AmZIvYBhYz2DX469Pu1oO1ufd7x/ll09bagXPVf0WD1uDWE9BR4hvPLzGb0FejA9by/4vLXqMb1RsVG77/LrvTMlGLyPdh89j8x7u+11PLy63Wo9ir1mvC1XUzyDIz28mZY7vS3YjrykVGW8/yGGPVwlqDmLaWW9iwsmvJGJKz0gfPU9d5PtPHqwOrzYJB49LF9lPYih770e9KS8kT3UPPuiYbzK/Us9jPRVvXqVUrxtBZ68hlg6vVjp9D1hul29dgOCuqQZZ7zQLes9JSvuPW6UuT2kEgY72X0RvTSN57rx3Oa9WWS/vZL7njyI5le8sx00u+UbPb1GQkk8zJtHvLUXb72eTlY9GpBWOxuFrj0NAP080HEjPS3K5D2k7Y68yWF0vSMVbr1zCYC9esH5u57AODyap728ktTKvYPSuTyktJS9op21PL/lRrwYz3Q8uhV5PMFEeLzsGNa9or5IvKzf9D1gFuM9YZQAPYcgZLrfdQ+8mUnevQUeb7w/xOG89X5rvTdTMj2Lh9y785C+PXNj67y+b6C9WySGvZm5b7yn2lc9mXdWPZ7fND1O5SC9n+D6vRFB+L1eCW+9eUAZvP9rdT2Xo0U9YJK7PST+cT1WnxE8p3syvRTC5zyVQKw8Ij0PPJHqQLsFzDK9XrcKPZptiz1aGnW9NBfCPKdpRju5Woq9H4SXPTnZ7L1QJPA9kTSzPYlC6Tz6X8g8uq/LvM0WXT1+vfG9gbJWvVkaZT2AMoi8D2e7PS0VwL1MBjI9YUqWvYpFPzzmaTW9otzrPaYrV72CJ+w72PVyPBBIED1jXV+9D8RkPMo++DxTFbW9pWdJPZGTW70uGjy9DspZPCNZ5TujZKI9dgVTvI/k6z0kBiK6gVjbvZ5x47yJh/e9jCrOu4GPpb1U78a8L8ZluxHGob2Nt6e61fwQvTAqYDyFLfs9W3ToPWgZAjy/4ui8kPfvvAKrqTq/rSm9gz4fvaGvI72VLmu89mvLPNKla72aspa9WZ3FvHaoIr1c/5U9Yy72PPnjxr2eBkk9lhWovIGXbDs8B2o7RAkmPZ7ySr08wWK7KbxRvHQDoDypxtm9gTJePabGPjy6+Vc9GUYNvYWK3D1rb5E8xIKqPVrecL2klju9S1xbvBpDSr1pbWu9b078vHA4+T1Gjj49P3GBvQix6T2gPuA8FlE+PMMVLj2iUfW9AWRXvCgJALxfjxA84F0rPBiVkT2U9wi825CBPaTSQj2HLiq8iVk+vCpmmT0WYRI9MeCWvVacxbyOA4O872g3PTGrSr2XzKk9gM+2vaV5ZD1iioW8oDmLvZzR7ruM/VC8L9K5vSUlXr1j72E9Ck3BuviP3j2ZNiC8HTTqvYAAALylTKK8annvO9zRvD2Njcw7OBPGPQ6PNz2fjKc9pNEbPGfBvz1sIQM8LPj7PWZjr7zz3hs7yOrMPWhRJb0+y/s9PZoFPAr9Abv/yY89h7IiPEJOuz0bl9E81kK7vYESMj1aSQK8/UKRvQVOU7z2pSK9VuWVPYlzJb1BMu+9ldjTPZzdPrvJtI08wJNkPR7SeD2M7CM8ITkrvaG6QL0A4J49XpyWPRwPuDtZefe9ZSVKPQuwFTyONbW9N9aCvTgBfzueGSq9hUG1vUvaYr12gde9LvPUPRxd6T0NHNK9BkeUvUx45by3IwO9KsAwPOTwnj1Qh9M9Rk2bvNlCCT0yCaO9B4SyPMhR+D1D+8e9pmjePL36PLyePGY8o2kVPEcjhLnnWWa87T94vPcpFLz83fS8gOimu1CjdL0Ue6y88sDYu6ZWLTrFvnc8MLsEvKjFpz2a4lu9IQazvHMb/D1bdqq9h0UzvZeEST164+484tg9vUkct714IBe8B5z9PK0E4TzGbjw9J/ZjvR6yk71k4IM8QxUZPNxa0L0LHFG8Uxi6vYfPkD0cPdo8QXnJvEuVBTy2g/C8It03vB7tlL2Za8y7q3VOPZtu3L2JSPS9CNpCPaP8yDqFzVe8TRkvvXJDQbzf/+e8jo1bPY5FeLzCV2K9D/z0vYg1Ib1gY8Y9h4ZqPQJKBT0Rk9M9OPFiPaXWiz0iXku9mmtju1hSZT1HVpe8e5SkvN5oXzvmRQQ9SoOwvNfWsjzarKm8qarIvYiqMj2hv1S9i7YPvZIM0L1HMOG9msinvMRxMTt57Na9plOSvWZMfL1xVfO9WUdNvZmolL2RFUg8FoXdvZ9bfzz6JGY9kjwXvZuD1DwBzAa8rd33vCuNo72QBN49C86zvYWttjyDuFU7vJ7gvLRs7b11+6G9TM1Mu4Hymj2KSX68nlBSPac3nDuzVzK9Pqg6PV5Wjzz5n7O8+CiAvaadLj1JmQQ9UJOFvYkGOL1JsYs89HUuPLX8Ej1jqm29fc7ivZ+uJj1Gx3q9nT9YPBc3Aby7+ai8q72wvUrlBj1gEOs9Ztz0PYIyPL0mfOO9GfDyPYJEOTymePU9erREPVCVpz2AP5S9nNsCPZfeqrzA+aM9eAsGPV2jo718T4e874P6vYx8fT0jGZi9YTNLPTz7QD0Gllo8g7nxPT9zDLzIulE9AruovZda9Dy+EwO9oExUPSBo8T1cWDg9jCC0PAwWKrw1gOc807gWO7uG5r0kRKa8vBwNvZri7LycVFa9i4FyPL5d6Ly1oLo9aegtvVBBRzzVZNk7gNCVPEU+wzyWj+O9ZdElvYhg+b1Mbk29RgSxvUQg/bwIEf68yKAmu8iJ4b17eRC7u2aRvZ5svrzcoJ875afXvRy31r0zFt49Z3uCvIMa+TxQV+O9nHS5vVaNsry7Mag85Uo6PZBYpDzgF3a8C0KxvPT/VL1hwVC8peANvVYIej2j0Ti87nGdvU9QBrye+f09P4s0vRiljz0it/G9h55+PXG2z72c6qa9Zj7XPW9Fk7zyb2G9E6UhObrqnzymbPC9N9NtPZGyUjyctw086OJrvYbMW70i1h+9E8hkvZp5ez1hWhE9npf+PVgU9jwiHLA8t045PXqWBD0cBbA7rE3sPaKdMT1uO5I9pDKEu+yDTr0mo9a9SpDvPRgj3Dt6oxQ8zCM2vAhOCz0BEpE82cfMvXPKTj2D3Nk9j+a8PY5btb2PyMA9ZjMFPYCm1zzxDQ89jTOFPDqRvzyiWPc9AakCPB3dpbyz+Fq8+FmXvVpqnry+i7a9mPuKvSQIk72ERWg7jsVUvY4v+71hAvA6hmSOvQ40qr2Doeu9nWzCvUAPxj0f7Zo8xg0DvQtNmrsK/uy9HFxHOIghYrz6lv887RJrvO1gKz1pLya8nTUZOaBj+z2OXhs8OgXXvRioQTzn4Aq7tArovUGXlzym3rK9pb7gPQYQhLyy6lG7mCpSPZGfjLuwzmg9mGYxvQbOX7xxTc48sVACPSf29Tt+r4q9lN+EPFOAqzydjw49PLb7PUrDbz0pm3S8l1xwvYltcr2YqDy9feH6vOwoKr2WcAA6/oNzPZ/R3byUuEI83s6OPVptwLxiYy29UJVBPPlTijsvqyo7qwuSPUSD2zy9ARk9MlyYu/BYkj1Z2a49S22gPXtNTTz/+sE9kyEBvaaecTvnSP08it4UO96Amr2buzM9XawBPac1Nbz6j9o9o4QYPQv6lL0PCHS8na9ePYwUMr2gsw69RDtKvH8udz0Afd+9nHNhvMRbiD1nRY88riNuvRvbhz12uIY813pzvRnYYb0OM1k9I4MpPRhLvj2PCjc9O2GbPZVefDy7gNu9mbtXO0qYB71yeLW9HOuvvXA5wj0eNXi9hUK3vWWKBD2IEK46wzu4u1UOoD2C2EG8VxDbvVTCFz1u54w9nayavQ1eCj2MF8m8sLYzvZTAxj2BPL49kXnIPXUyYru1V/W9j7pIvK2F6LyaP5M9jFrwvSQEAzvr6wi9LjYTvOMPsz0bG++9AoNMutyPWrvhIKm9d8hJPUPLKDtlhrC8u1u6vJku4r1v/WY9dI7RPYtGArzOBG87jQVRPX27xD1vZAM9eIqavRE6srz1BVW889B5vVKg8r0aibM8Wdx6PKkJEz0Eq7i9T9WVvR8yaD1lv029nWSwPA5r9ruqi8o9miEzPRKcwrxB8Iy9U1G4vU3IMz2AXem9XtmzPZaDDD05mpc9VylXvYPk2ryjBfW9k27MvOXa1LwB6QK8KwY5PLVCgb2T4aw9FmYKPWdrqLzWfyc9gkEDvJ01Iz2lX9g9l78DPGEfJr0RZM69NrroO53EATuWzS+8gGRbu1JVLb1igW24aDYuvHWunT0WIPK9lEQDPYs4VD2E1wS86nurPXjxxr1cF4i8WIlYvYe3LT2bAXS7/omoPRLtczzo0ve8Q/WiPYsDCrwGTkQ9gRSgvCnDlTqaEgO7oyntPHf8NL0AvfU9oEu1vTm/Xb0B+jC9WmLxvTsJeT2nAH08ghQUPacZTzxjNhM8iomyvSUxpbuhnya9EUwjvTG3nD181Wc9ZffWu8+3KT1axz287yOhvUEvkTuOQaA7rOJyvVUWZ70A5xw82CuHvW87vz1K5bI83RHfPVa36TzePS27e5mAPYDdsTzrvoM9BiN9vZoG772Mfuk9FgaVvaYgQL1CxKw7yrIoPU03MDz34bU9Lm1DPJwlpzxRhO48l8+RvWSuiL1gPR87kZCpvZWQh7wjiM29jkmlvSgN8T1lgbA80zRovXkw4b2LUQg9LXcbvZyEPb1Os7U69+YJvLmMLr1BpQi9L9XzPYYSTL2fm5A9kcsfvZbDfr1fnpc9TAEyvNqaGz2U6Ta7z7w4PaObmryPkTW9HpHvvPu5gT2PVlA9X9dJPQQkVb1RcK69ZDZVvYnQar1g41k9fiXCPIK2ybpk9Aw72/tTO5+kRb2S2pW9V+6RvVolCLxy4Di9k7iGPQvt7r2B98s9hM0rPZsI+ztZKZ89iS5rvQyrXjzUX+u8wEJLvZCUCb0bELU9bAKru4KrDbzYYAK9Y33wPI5GBD1BngA9g/d/vL056DtxjLi9Q/fku6aNNT2MtPW8h3pJPTEhbT0hc0M9m+89vKFDHL2IaEU86mygPXqJib0Odhk801OjPLI0xT0HMve7EyyVuza0MT0Dft89WrO+uOmubLyfrgE9mAoIPMcYrrwc07Y9M7ruPUIxGjyEyp09oQhDPaTAvDxVIsE8oG0bPY4QcLxeL8+9CGuPvQt7t72G1GG9e60BvIFF5TyCKK29eUOCvEHhz72LYns9ThUDvZDTbT2c4N+8+CzTPJhUmD1Zn828SCmIPZyeBTyX1nc9kPDdPUpKPD1lPHU9VNATPCUBabwo+/O9Q6HPvFomP7uR6G882t+sPVB7uD0LWOG9JllCvSV0njyEChA7NJaxPU2xwb1+c2C83gdKO+NYiL1nzeI8Gy/zPUEQxrxTEd49Npa9vIsSij1plg+8M/rSPQeHgT05Uig9m1PtPYgHjbnJPF29htO8vUxF5T2bZ529KcnSPQ1tXDyQpX29k1ohvTzfErzi0U27yRo8vQBPRT0iVKW9RrGLvGWWcj1sdt28ZbXXvOTFsL1l/Fm9Ww/WPBBabz2mECI9Y96KvB8gM7wUA8W9n+InPYPGrb0Orwc9dMbZPTke4j1J5Pg7/FLtvVAuTDyQP308qFZoPLYd1rs5CTc8nx0OvXc/zzwd9Di5+rnHvYsJnT0JRPy9JzBgPWFA17xBxn89Pt0mvXVPJLxnCXc9HiCwvTuG4zyBqV29TE/wvaGQUbzijOa8hisTvV/dbT0kUaG9mGSfvZGifL1I43g9n+5hvZsZKTz082S7qhyVvWvkij2QLgU8Sh3hvYftC7yo/hi9kNd/vUTqJz1AwOy81kd9PDfEab189Uy9Vb/7PIP+9TyXR768Y+UiPU8/cL01/oU9mVyFPYG9w7y4ldO7yxYDuqhdObxOmAo7SagkPXZ4Czy6GUA87rMOPW+hTzzGl/o9B0NOO8zMoz2hNl29VihfvSCbRzwpjCU8B3EavSkc1jzD1CO9naouvXxN0j16H+k9LZbHvaKu4D0fEBg9mWTivR/wnL2UgB87pvnivRV/3z2Qrgy8/0/Mu3R9XT2NhQC9jH09vUha8zyly0+9gog5uydRajzpSJq9hbUPPW02+rzLinK9hSzjvRdisjyv8nc9ModGvF8iWT2SKfG8/up5PMjyqDuvLWy8tCV3PSWE470cI9G85RG1PS8XXrugvGi9WCBKPMg/bzyLemA9ZGy0PDkLGD0pFkY9oIXzPTz+jDzMr7u9IgqCvQUgir2CweM9nLgEPaVuEb1+h5u9aHsFvVdk1TzpMdg9QIVcvYBNLL2EiDW9MubZPSt+Jb1dS2c9BCxyvVbI7DxjG8m9Yr11vaQQUzzd0Gw8lawQvaLWlTyIAhe9hzcyvEhCej0uWTw9J5dYvGLpCr1Q4Ui9FcUPPaKycr0YM5Y9N2tlvR/gwLyuL508ikscPZ7IEj2MEzO8Aa62vYkrDTu5ZSe9ftSHvTbt1r19l709m04EPaGeZD2I7Li9X/lAvUBXjj2DcBk9j17jPVE0XD2McbO7XFAoPTtF6jyClEA9k5JxvMnzwD2cZU+9Qaw6PKe0QL2OHWm9gaaBPZSqOLxy6qu8ntUAPWyMUbuDCAy9gENWPVyRMzyxcjK9gU6hPYptrzy0f6W9oF8gPY3S9j0VXKm9MG8dvANgj72kI327MlmtPVW6272hakW8wVriPIoKM70hrzy9WIJdvYpzJ70r3Vk9CTm/O9TXmLxPXU685MkpPYGsMbrn5YI9iyZcPaJBpz0JTPQ82pbHvAhnxL2jf489oSrOPUXOQTsXdaG9SQJ0PTLcxr0tmy28RezsvKGv3j1BJvS7+a/YvDfk3jzcefu9ocTWPUSFObyHYv+9N9EzPJ7us71MaHs8M9ZJvZEdNL04jPe8hBQ/vYdVBjyinLE8VtPIPUkzkb0sZl69plDAPRIg5b2m7FS8H5vcvLZ0Yr1j3X09Pj69vVN9ED08cca9GyAXPAL/hL1ilvE9AzGmPVJ4jb2alTY8N+m6PZQHJT0Ql5Q9hj3rvUXC77sT41E9hgIUPYUIIT0H31k9VGQiPZfi1jzYSZ49ceDHvPRCWj2AXWk9ihbKO45e27zyKE29hhK3O3hizLwoV+o9I4NyPKaJAT0ReaW7OOBkvYBUOr1Sfm69mki4vYQtvb0Ih3+8ogPovQHDDT1pxca9Q6hIvZqAaL170bS8rcxpvYGfJL0mHOm7IVbPPVpZwrzUqne7BmatvP6Pbzzb9OW9OcEnvRCA3j2OHWK9keEnPVC/9T2imj28rQ8rPZ1Siz03Dlo8/uyjvUdcsb2nI6c9apTmPNvDWr1yIYE9Au5+vZFqkD2lYU68ruRjPGjZerxckPI8jTVuPPvKwbyyS329b6SJvOopGbxpvVI9E1FYPRiPMDzZroI8bDdAvYcqfr2UZnY9k6QlvHyaPz2fWfS9MAjTvB6M0jwhRBy9TRWpPLfULL15lR69ApjXvZVJZb12t0+9WjuuPSZJez0frb09JbqiPZcVb72EvH88z1ttPI+Msr2HEak9KyFPvH5j+Tw8O0O9lO2KuomPgLxNHD684X1+PDEnUz0nchq814QLvFuB/jpjtpi9DujbPY/qdjuDNhk8uVdvvSvgbLwhxwk9jhG8vZ/wOTw8Bcg81B+JvZWvE72mqSs8WM5hPZWN8r0nD+69BosAvaMq8ryoSk09J++MvUnXXj1QiV49cV3fvYVuHz2dTS09JQymvRHrbT2dnjY9WtlivN1VLLzfdUM9mnfjPTjizL2d8Q49fNZAPaO2ZT2kJjg86guaPW6BBj2KD1A9YPWCvVazmruIIpu54P2hPHzqwT1EAdw9K5UCPU4DpjvGP068XIEbPZbT+j1u9Mm9Mq0FPDRoUL05QbW8kKqyvCEOwD1JXcC8aw3ivU72Wr0D4Ne7HOiIPYD0Pb1zBws9Ov7PPYQQhL2NOfI8ywMNPOhoIb2BooY9D4invUisLjxnzdU9KC6+PYk7mLwzHmk9DkxVPJt4sz1wo7E9jLn0vUw7ibwQktq9R/oDvW3Prj0QrRC7h8LqPYFWyT0Fou89iy5GPRYbTTxF4MK9PRhsPVxioTruP1E9K+qOPZQVHz2bWOO9EJwSPMSVGD2C77W8yYCQPDxmdD1QjQ89ohRNvRMFbz1bL4w9gkrAvWClND2Gqh+7m8KXPZvOGTwaAXo9O0TbvPNlVL2Tz4Q9SH4HvLWcUbzEcyG9CFdqvFmuWDz8Ndw9OpLmPZewN7107rk716JGvVVy6r09CqK9Qh4JvZtGkjyDyJS9aTKUPZHZezxRKMk9lLcmu2uKHbsEhJ69g77NO3WwCj05FmG9mL8KPT6V+72QC2i9EqsovXbBgTyXP+y8IyfYvLDYqD1VQTi9mrAmPLAQkz2RNWK9o1ldPLbWljyH+fy8vwqTPSlsHr0nr/69IUJlPExrED2Ddrg9iYYsvVa/pT0ZEBw87v60vE7dcD2l+Fc86wMgvaCnZj19iJU9b+vgPZrLf71x3C881RRdvaTeJ71BdHA9IdaXvZsCoD1BZuO7rtdIvD+qJL14TUY9Bt/JPWI0orrep6G8/KyzvPgLOj0H0mC8g0Z9PTnvQL1SAxY9god2vP3Zfz07AGS9KBJkvOTr1z0iXLA9BdtYPQT5c71NVXu9L3l2vRoW9DyVxSa8vu8KPY5acLzSQ5o9QYsevU3lyTpW/w+9gJ4CvZbO8zxxfx89guaYPYDcDD2DgV+8pbpPvYnHq72Z44Q8d/B9vT6Z6b2IlLo8B6+avGJYEj18LzS7oWxIvYYiZr2lJ8y8i0XwPPOe3rvoefM9nOoSPToJm72HE1M9P6P8vZDG+DuaKDg9Vz8SPN7Hk7zpRaW9Gv/pvZUnFrxLsuc9T6K6vYnIur1CwJI7KTGtvWsRQrzZ6pq9aZN8vI/ilzyfz3u9fABTPMAkT7xYGvS9hi+9PNklDbrPimo9cJ3svAFbjToDxmA9Z8FhPN47bLw5rSA9CJx9PWoxxLyM4/G8Xk71PZO0dz2foRK9ZnM6PTi5Bj1Em8g8xKqXvRgSDLyVZZQ9AnXLvQHDZjyv96G8ZSahvVeVJL2YHzO85Bw/vPNr6zw2mz+9HbIIPSKZcj2Yc4c8KfIAPU8eFj2TJ/277T5eO7sVPjznRci9XjaDvZmubz0JDJA9YTfJvZBZPT0UlpY9Yy5MvRCIbL1+31O81vm1PZc95z2GcR28s0OPvYzPOj2OLlE9hmizPT1/iz1/K9I6PEbGvZLY3z2foyw9apZ4PYiyxr0ihSg8p/jGuyE2970FSuW9ATBPvZTi5zyRNRw8m1VTusu54r2ZvwY9cFaAvYMgMTv/j6s9oNRFvIJ3h7yoCOE8XGZeO6cYGD015za8pD9pPQONMD2WHzY9ZUPJPXQGab0DWB678STHO0uUfT15w088/GGqPXMzxD024fe81fTmvQItjryjHDA9W9rzPYleqDu2bXy67yfbvZSqQLxQZoA9NoEcvRvpDL0vblC9GexKvYaOYrySmOa9EOpKOx6BmDzdkqK9laOuPY+RmDsjnh29aFRZOdOhfb2Hpvc8ay8yPZPEfzyB3hw9pl84uyI9Y7yDjC69jP0WvYW+PT0TBya87vH3PRUt6r2Blh+9VZpfPFBAqLyg6t68sm4GvO16PL2L7xI9MDHdPIc9B71mtsG8E815PQbwAD1KuNq8ZrBtvYZNSb2aRUS9njj6PSsiV7mBtfC9LaQZPTnzWzzLI1g9aHB1PTeF/rvWqx+9GNQcvBuZuj1x2Lc9OY2mvYWddLy5w2C9MVGXPSr+b72Fhva9lt24vZW+vz2T9uA9bfOHvUfG/b0aRNm84MEBPB4dvT11RPi9Ri0KPX44lj0a//a8xDd3vZpNML16U5M9Xdv3vPv5+D2Hs729NijJvVhw8Tw77uG8RmtmPLv6iT1/rle9gpH+vYCukb2P90m7pYZMvYOcLjtREIm9I/8QPWGB5z0GqWA9ht0Ku/WRwL2bB209m+xwPIk3ur0nIJa7dxITvU+LuD2hXWA9kzXCvF0URz0wAi+9EuGmvNZ1UD2jdPc8un6+vK9M5rz6Z9O9pdftvZqK4T0fjbY9XYOzvZM9M72T/4W80nSXvMSVPb1MzOe8aI8YPLBZCT2TZLk9FcYkvVXbTbzZq109VYYvvRSdjD05Tyi9T0q1vYCceL0YnFg64YPdPItnf7wSRzs9QdEsPMLSGr0cvZ28RzotuWQJjDuMf1S8rzR8vBjbyT1vO1c8tA2vvUvhiT2KEyq9ic9POwfouD1XeKI87fexvEiRzL0zhoa9Q/0yPTe3eLyHf/u9JSM0vUBMirwTv8I9UiuguysUjb1YVue9lkN0vS3rqrxtBiY7vuwkvaOQWL2CohM8sG8FvXMRXzmpC6C9JCeKPabxbrxmi5q9iOyvPBxzsbysCnY9j4BKPF+1HT2YGIG8yQCoPIrWgT0TPvk9KxENPZ/Oej0NueK9P4FrvZjPoDxYpn48lXBWuo8KkT2QGA28KkoaPQQKkL2dXIo9oNR3PYXnfT2WB0Q882OSvaJ6bz1LER29SrxavTy3nbyi8Ui9dGD+vWujO70ss6a9FopOvSPFZj012ys9TmPFPOGcazwFlus9PW6dvYt/KL0xCbA814wrvZWZBjuO1549CwZtvK0J7LyiKaG9Gj4gvSWKVL2Nt+E8RqmdPYr3C7yYU/u8hLQuvRYq072kwQg8rj9QvTPVjz1JFDS70coLvYt5yz1MnXS9LbbBvKVamLyqfWE9nGt8vLiBaT16rPs9TOwdvE6bQz1jDxk9MmjfPRX+HzxHKAK8abh3O6Xghb1kG0E9j+PjvKXTMT2D3NW75zyTvWytaz2QEgK9EvduPWqkbj1g3c+6PomCvYtc3Lv/ktq8Wq1rPRtlNzt9iCK81eqIOxjwUryDlR69NG2nOxqkAL2lAG09k+YNu57YJbzrJlG73LDpPaRCE7qjTkK6iFk7PKNn+zzxr1E9m5xkvTcc+zspb2e9f8QxvRMStj0mj0g8pJRpPS0LAb1yCSI7jORpvYZfXTykdpY8So0rPQHKUr08x569JtyAvJDH7T02lWm9C12bPR+yfz2V1vo84qSePR+SVj2Ji489j5JhvKcUYbztUag9l0SQPYJD/TzltWQ83+sqO+l1672GI2M9WRfqvY8zrLvrmSO9H7g5O5irvDspcv88WaLAvOhr6D1awl+9TxfKPW2j6z0GDzM9mI9BvTD4LLzDb3G9BlonPY/n7j2G/k09hNXyPVSrmTwkaek8MG4FPRYcTbysCAM8rWYQPTYyVzyDuyY9g1hjvSKh1jydUKK9lgtGPXE+NDyLWLc7bH0avQNY1zwZUCI9JMtUvZ5ncD0PvL29nZPqPP8zcjv+YZE9f7CoPNYIwz0MCn29OcQ+PTSb3r2U4e+8JULQPWywkrsCDPq9iZrDvZLzWj0KXUw8vFOdvTCTnDyHLBa9pbkFvZjhRj1mady9SrmWPSYwxb1nR/09ou6ePRmWmb2Bvi89gnGUvZAtwLv0Bro8RAhKPKpe8T2VJlq9iBFtvZzRBT1tEuu9mqCSvYeJfD2YNHm9XtpDPLk0UzuoZp08/EjdvQaAnLyxL7K9ohfzvYmsaD1VFPw9DPw0u4nxPD2N0ts8pEI1PUv7H72bgYs9MfNRPQ7KAzz/MTi9Dd/PvQTx072VS2W9pa+bvZfqZ71WX/E9hCKuPI9PRrz2Cy+9hbj5OwGubTzGXfI71uqQvYP/072KM0M8LrUnvYT0CT1D9PC9hN1evZ54GT1r/TC9IdZgPBKv8j2Smfw9ZJYWvQhpnDw5JF08ouU4vYNbArspqoS8zOt7PVmCoT0KZQ69kDRvvNVpgTz59ws9FREIvSJ6ZLzk1PC7oNnNPNO1RT2espG8zV43PQFI2DyAS1C9hJYVO2GFf70J/bq8z43dvJQs9jzBq/s81zccPZ/UDr2Ibww9U5/JO32wTr2HOp89lb9mPYLGzryODXQ9oAVxPD0IiD0GTm07CPZ9PIN/ujq5qo69gen0vB7RsjwFvyy9G/86vPPSGz00aoe9jcgwPPzSpb0LbRm9XD2sPZV5zz0G0749MfEiPBzQ2rxDGj69nNjZvJAYgDyUdvA6yvkxPRX5yT2U10s9k+QKvYXymL2Da1S8ZY/APRJlXjyxpcg9bX46vYeQTbwbyG68G+foPL4bCb2bdus8WaBsPZetb72ZSi28X3QfvZFvkj2CVGu9mbSDvVz+vjylqEO9grTnvKM66T1Ohcq891hgPK5iljvMfhc7R6ffvQyzaT2Idjq896glPUekqD2Qd/u89b5kPEY+5j1Pncw9TW10vJnFXT2FGsS9QBBtO/kl8D2mBkI9dT13PZv9nTyGlWy9ov4HPJOzYz2l+v69ey1APOoWV719rMs9eUJqPKGOK70PMXa7rj0hPWm6Dr2QlrI9UmMzvSp6pz08Bs28rH3KvaR0wb2A7JS9mJqFvYPcqTzTeWy75HxZPKZ3zDz85PU9dICHPVDQKD1otos80rW1u8+jUTzrvPU8+KYEvH4V9b0H9t+8vij1uqBHPr1a+JY8gjl0vWQ5B710SHc9ZsmlvSutQr1Pr3G6nkwIvY70Ub2d+J28TVO6PYmwfz01XzG9iHPMvW1xzrv77xG9A7d0PVASHr1904G86D9DPS2jtb2jQmQ8kW3MvVJixb1UfnK9W4ZkPNuPqztJYue9RTuuPZCnzL2QsYu9irf0vVQ0yb1ybDG9gmonPKeYRL2CSes8kagDvFmXkL005dw7Yml2PYswyj2jrLG9iPyAPDq6UzxHB6I9GNSxPHsPLz2VcM09otiqO9j3kr2Pjiy8lKRBvQZ/QTsp1Cm9gtNtPYs7drzJwE+9ksTwvQ5xbDx/5hg7uEY8vZLMsr2fECG8UMXpuo8dLz2IBDo9ptYwPQCd0TzTgHY87O6tvU9Fvb2FAd68KpTQPabT572nLhG8qDcnPUrt57y2PtK8ZKiaPYbQHzyFOOE8R/OaPNmnUr2GDeM9CtqkPTURjr2feoy7QszWvIfVGrz/xgy9iFXrvOby+Lmlgkw9kmCRvYXxez0n6XS9ZczWPXYQALyB6w27hAPGvYk6GD1qGoQ825FdvBdrq7y0LSm8TFQpPZsjmTymPdi7k0yXvAReH705XKS8zvZSvLCSITy5lyS9M7nMPU41OT2QNDy8nDnNPQUqhT2Edbq9IW5yvV4xKLw1bSW9GbGQvWVKuLx2FiU9KbJtvVeLjr1fXwY9NIxnPZOzdLxcJ3+9DUsjvXvPCj2DM/s9kAV1vYDA9D0QnvI821T7vNhAT71sUgW8ucdwPCGm3b18wUu8z9zMvQmANr2CfjQ8urVjvKmlmTy17Cw9M6EhvQOa6j1x5g29a92HvZCAN70DJzs9GIrkvNKjEr1ge0c7yA8ovY15ijyCmqM9XdIIPFJEuTzC1Y48qYPwvHZ+frzQDHY8011aPZQpUj1JtJ28gyMDvLszabubq1K9d9mjvK59bb0oi7G8TgdbPUdSq72Qwfg9oGy6vBRFNjypjlm9C3O0PSrEXz0G55U9odaOPEDix700wDu9msvfvVAAVryyo5E9XcG5vYJ3vj2gnIo9mfnlvHKy0j2aF/+9JCL1PXqNHj2k8nS9URxbPQI/cr2NOQc9eDbRPNphz71R/Ca8A7vNvSG3AD1/Isq9ouUWvXrVLLzRsLE9Jrd2PXgx6z135t29kBX9vQn9nbwj+GC9U07cvAbvKD140jq9kudgvYJEwj0JWjG8/woCur+pkT1kfRU9b8ONPY9eGLzSR4+8gdJvvMuJXT1DbrW9YBLrvW75Ajx2KGS9kCH3PYo5Ejw6fwy78jfbvREryL2XdOy8reknvWL2Sb2CfZk9b9+MvXh3QL14wiq9BXrlPR+2bzwimli8wsIpvCfadrrxArs768i9PQyvhrxteQi9ipRovSW8gD0RBjy8p6w1vKppdDtTAUs9kRmJvULNFbzY6sA86REqPZjbQ70JYrK9fw+vvGibWDwyZde9OqBcPTYbCrmLA389UQg1u8atCzybEZM9BC+8PMLHpzwOeom6D3qXvQk1Kr1fsJA9EC4mvH0n/T2C1am9j+bWPTDoSr16PZy9lp0DO9C1vjx0W2a9iiNsO4DaDjvNZJa9joQTPTTqobwElmu8DaMGu60fcL1T0u47oM+EPCQ957YQW0q8/TIIvWF0+7vFIhs8XPCZPPFVyj2I2iI753XlPZUEC70sMEs9owY/vRMhazwpdZE75rTLPLIKDD0mxcA8G6FSu3tx+zyVcDe7JQSOvTX6DT10Nmk73vi1vQb4tT2MzPy8zS9PPNELO70pIj49n/YrPZehTbxhwGi9TTGBPSyMmT0jNtM9aJWmPLLVDL2SyUI8PeuuuWHNWT1MHvU9eVlhPRgq4bwLY/c9QbCDvNpaYT0xeMW6tAmavWrCpD2iNTW9U0/XOz96sz1Sdx89nIAEvUvoK7wZdE49LYA+PZ56RL2Bg1+9RyroPSifvTyZlkY8tRq9vaC9pj2atvA9RfQuPYGHfj2g4EU9JV63vQAe2ryWnem8uRubPXXy8b2l1iS8XK70PSvce72Gm4W9YfaxPModwr2Jkw279Ml2vLi6BLuTuYM9EnomPJSwQbt9/to7hzOevZLzIT0Ue8k7Z4dzPBT7vr1lh1C8V0dcPHq2jr1L0Qi9VdvIPaJD/72A7Tg8rsGlPT+uDL1r/1+9jyJzvZpRTT1xJwO9mGfjPYFJETzwVbw9ATCYvXVwWLzHca09X0KMPTwstb1riCk9Cr8IPBE1Vj0CZbC9PCWdvYB15z2lOlK9QHOXvK3rvrylOgQ9VydAPUNf0bud2jc9ogs9PS8Pa7sJEW+9GRE3vWU8P7zNiAC8qelTvYncjj2fACQ8hWpMvVRt5LscAKU9frLuvWQBB72fqPw82pLMu9vInjx6uhC9WtlovRWJlj0twiK9hW8CPYjj0j2RNPY71AoAvaE15b1Rxzo9iiFNvKTqST0iGNk9knLAvZ2AmDuwXaa9kWyRPYq0qz0vCFA9ctqaPCUAo71KMiE8Tma5vQa2Fb0pJka9Wi5CPY+Bsj1ouOa9aNXJvUZuubrGeum9RaPwPUf2LLz+IaI8CjS4u01oV7yC2ta9Gi+svFm1kj2BrdW9n5ZSvWfgLL1PhXI8kTU8PTjkqDwnNRQ9bYHpPPs9cD1AR5I9AasCvPWc9Dp+Ofc9l3BgPYshurwJ7yc8rm7lPN7CmLvyiVc80ApxvM9rkjzBLsu9n552PSXU7TuzsO66xGL2vYzJjL1NxaO8NZoYPaXV+j1Pesc7bNcUPYwNcTye++g9HvqxPMwlRj13TS089OLLvZr3b72K3z89SPnfvGeRczxVu/i9ehY5PQgF0z0ZsGm8hIvOPTVEQr2FMVm9JESJPIdol70HRzw9TZGOvYXWfT0oKVM9V5fIvIq8kD2KGE89oSuFvCCGez0ZBc687N7GvQYrIrvhkqQ9ikl/vRtdgL1ignc9jKSEu8kviz00SV69h0R4PWGopb0hBxm9aKXOPNLdRLs0R/s81kH/PQblHbxtwhE9l9QIvYSYzjxpS0I9it+HPZ2e7L2H+xk9hMBMvYvRfr0yQi69YJYzPTlkPL0Zy1i7TBuzvRMz7LuwyMa89GItPTBGTL1XYs29nw/yu+Vb/L1oEJK9kbYru4y/bT2YnBU8qZHxvU/dVL1o3So9mE8qPZU/KjyB40G9iwEVPNX38T01Cmm8adB4vYChxj1yvO89MZwiPIGXgb0F2tC9j92evUFXOr15Tsa9Mr7rPY57f70ccJY9pujtPSG6sDu2wJq9c8/xO/z5vD1xvfE9TwHwt8ic/L2HB348bo7OPIv6BDzM7lu8ojBdvGNylDz4BZ286GJ/vZQ7VDtRh0G9b4nQOxxeYT1Xt6O86QJIPSRQ0L1bgGu9GCT2vEJQ+TupSqm9fak7vYKTWj2QYlW9CDi8vQ3Zfrzibzg9MtY+vUF5IjuqrLG9Gzn5vQmt1TzxjBu9ddNIO6WvXjyK+m68PffjPaPPpz0MbV48unLNvI3k/z19fyw9OKDzPV5bUT2QfeQ86pGCvIHgO7vx50S8epLqvNEGK7zENFw8ZKxwvZmq9L2a53s9YwzAvRmswj2Al249UfjkPHn81zu1KUG8UYMCvZfibD0tnis9TSVcvTpc27y9/Kk8v9QWPMtJVT0HmFO9YQOsPHjSfrsiDgg7bRqvvUVpyDymxCm9niDsPZk5eTyysl49gdF9vSYExbueS6A8/RmPvSFRe7vDSue9oK6tPZirxDxEAzC9AdXNPUt0ZL2NP688ujuWPZfYSzlIGli9lzpyPSrAJTxSJte7qpJSvPf5fb1HEWw8Uo5VvGdC3TyvBUY9h0ekPTHTNT18ATK8wLlcvYI7nL2gHdC9KnGkPXt5Rz0CLiC9Ca8ePKOuTb0JU8i9S/WAPQFNB7w0LmK9YsXzu5A46j1qaZi8j9aXPY6oZrzkJdy8gHSbvUECyL2GkRy874l4vaMpMT1YeTU9JwC5PIrFZjyfONY9k3uHPY+o5b2P6WA66CYtPMhDRT2W+O48nTWHvXW3Qr01A2u9kNbFvMVo77xdgbE88uZ8PZUkL70Yqt48RALcvTtVhb0vHlG9LsC4uzEj5bxDvjy85zY/PSiTZr100Iu9ehgIvSTtnzwjfqO862DBvKG/LbwT3rS9T/BVvYwYUb2ccuA9TfEIvQVUoTsgWtY8/iWdvUBa3L0+mvM9m2NiPJl4BT1sNB69AWJhvXlH7byNWGC8wOQ/vM1StLwEbNG9cCA3usIUJb0X25k9ZIlXPY5BQT0JjJ+8pdcsPT2DM7yYe2C8vkwwvLwav71O+1O85D0SvZnVPL0LilQ9jDY9vOV9qz2hzuc8yJwRvTxZMr2HfYU66Nl6PSxrzD0ozn49Vj0PvHOw/72Be129e2WCPYzGLr2mAtg9dEHsvRe4CL1hDgu8YThMPWWApr0jKLG9kEVKPXnehTzh3ys9lE5vPOcyg72EvPO9aXGIvV8pjr1icgG8ofOJvZxQc72Wamc9bYPhvWNSjbq6XI29BYOxvDa2Bz0/6CS8UQTcvP65vz1FFqW9dzK0vO6nm70I3fG8EvE5PDcJ2DxqUWU7p1zYPQPD071oEvU9FR+OPUSGn70T/8289YUiO6wi0D0XyiO899WQvWTmE72gTpS9cZd8PZ9U772fIWk9Kuj+PMOw/b1mCU+9I0JsPQdYk7z729I9cC3EvXBfsjvbqS+8us63PZmDzr2AVns8wwb5PaY3WT2QC/y8mBq0PZpUi71ZMoA9hxSqvBFpBb2ZO609D3EUvVG5lTzO2pq8vSMgPW6Z27w01iK9A7g4vEfgKzv5WnG9hJcFvAB4m70Qx2I9eSlJvNJLHT12R249icravYOeFz2fIsC9MMAhvRmeAr1+Uxq9mhkKu9+BOr2MZMi9mZlyvZpkET0E5hS8uWy6vI8qx7xCmmG9mZVXPZCVtzvsHRU7Yq+EOzoD4b2mhd885CTHPZyRbL03Taq9noAnvY8QAD13lgq83qBCPTqJS71p+Iw9XZiDPR7uML1aeTs89aD6vKRXjz00UV+6/v7nPWg1Zz2LhjE814WtvY9EDr09r9S8qSR4vYhsLL1Otyi7KqQKPS+cRrzP4TU9bJCWPU9Yuz2ZM7M9HGPuvTBSG7zLVug9ohdrPP88Tj1XBB69fnlrPZezLL0hvUI9DwOZPTMKFD2eiIM9Ebn6PCc1ND2S63S8XFmMOspi9bwqfgg9eNUZvaaVsDz/xve9Li8JPWnyLjw0VzU8rM2avMsEVrzgYyY9N2eePV2vHr2I0n89kWkRvFAsiLzWN5u9RymPPXD9GT0cDtI8cJTfvYwjmzxMqA49UtqCvIlbkrvuzAC816yqvYpo9T0msP69RqWDPVvobDzyvya8i8llPISDhDx3lcY8oHdAvWeA+L1rXpI9hCOPPPzNmr1byWI8EiuiPZ71Dj1ulPU9ChexPY+3LT1DAgi8yVLWPYZnJrzS1U69bwr5PaSCk7ypzHY8VRtTvLdSCz0QydU8k9nNPZrrzzyR9LS8suq0vNvGJr09qKC8I+2PPNVQmr1CBwW88U6FPZVzlj2OWny9hcDsPKtPi72SBm2615SkvZeO2T02IF29LdnfvO1ML72kusS8Wi4BvH2dUjzRU5K86dslPaOea71bXsC8wOl5PLJ6070d8ew9U+Duup/Flb2Fe0i9gn4XvUC/0r2eWaG9hlJOu6Gc8r11OOe8+sPDPM/Elz1uyP09XRmjPZpSPL1p3je7Hq5XPaDgLT2iftu9dgh/POINcT2TMjc9au7gvNb0yryN7uC9ZDA7PZwog7vp7d29W/W2PQMQ5rx5kH68LYm+O/0YMT1sph89cghrvZMd7b1kABa8PepKvIR3vb2gccQ8rLsxPTKjQz2UIsA9nYvSvW1NGrv9dTC9gNOBPScyIbxzJb49Y/NPPBk7HL2DWDS9kverPWwO7z0KOIE7X/YRvKusm709lLk8gD9pvYzhi70VgZO9btKSOxNp0r1OWKU9dhdMPYed2L1O50q8h3EvPQ11mz1hdAu9k+v/PBks57wy6Hu8fuNuPG2OoT01Wrm8TOBvPGMvQjxJEuO9pv+cvC1Md71mCtQ9ES1ivZnhVT0on366f5QpvTgrNTyOJku9Fad+vP2qxr0Jfl27zpqxPTbupzzdGgQ9GVaTPCJX1z2YUDY9HLEVu33/gb1OMMU8EXLRPTLBg72DRNu80+nqPYyejTxL2VI9jLh5vRqLmbvxiTU89bW8vPPCSTvY8/o9PaA0PaV2Ij1vQCU9in2fOzNrhz1/q4u9h3Q5vWJgXDzT5wQ9ZmQYvUNp0jzqkC89Rii+vVpPWD2lJ349gq3JPGwo9r0/7f29lTwZPUWOILzFClg9mJ4cPOO5Bb1vjCc9N/krPQvxdD1EgVu9S6vnuvIb7j17nBc9GU1CPMaIq72GjPe8/aLavXqv8Ty5qBs9KD66vZCPqL2XU4k9pYhtPQzwTbyH4dE8giuOPZmBxL1oGtk9Q1ZrvNa3Xj0tK+O8xXYKvN54ET1qV6k9Fm6IvZl6N7zdQ/Y9ezp9PXYw2ry8MMA8AsmWPVJ0dbzOPZK9kMWvuwHGwjz6Ily8rNKlvRBhszzvi+a9i/VtvFfn9j0aTLo9S/bGvQq34L2SgC68FzFzPPs9pLyiqjS9j2lGvZQkVb2Lm+o9naKOvPwzWTz33v69B70LPFgotr1tGMe9kf8wvUMedT12AVW9pmp6vWT/Y70QjJ49nzkAvLYlYz1MKH08btjSPTOqkj0FwWY9gRM0vLCgZjwbrss9pLsEPZjNIj13Qce9PoxWvZenxTtdn+a7R93sPZ8mOr11vbe9jEmaO9FyhD0YtnY9h1e4PQktlb1SdLy8mobLu3yZ4T2aCRq82mSwvPi/nT2Yde29d56LPX4wcT1vALy9HOhHPL/jmr2SbSS9iW0TvQQj/7qqGrS9MGD3vUeAwL03wBO9gm/gO2GN/T1XtaC9f1W9vSMfqD2e+Xk9pXbBu+2cGT1dKKk9av9EvE6Izzv3WHW86k2jPRDCX7yAnwA8kKWdPUwa4LyAd6Y9i4Z1PWqQfbuHCfq9fcu1PYKz7r1IzS29jutoPPg2PL0bfv+9BrzmPPMKoj2ci1a9QeRkPEpGGL2H/xs8kHQ8vA6mV7y0pR+9GiQ7vXqVS71DUpw9cjt6PWkuibwnr2Q8HnhevWi/zTxWOu89S2rpvTI/Oz2iB5C8mjXrvDYRYr01rL29AsEwPWycjr1Lk9s9lj0uPV4ULj0hJB29n6IkPHftjL2l7529ctT2PS52lz2Lw4Y87jcIPVXaZ71IrgW8hADGvQON57wvaEC8usitPaPyi70ztnM9JPaYPZBKnjs3Ba4853xYPW5sTD0c4t49QvzRPV1iqr0CSdE899/VvVN8kz0Yiwg9lZZ2u3SXfjzfWFw8VF2nPLecSD2E3uC9JHT5uqtw+zyJ7L48rj+zvTPuAb0q3Lc8WkTIPPcoKTzM9CI9BQGDPQTuHL0NH9i9ia/wu4LuKj1eOE88hJSAvQMOjb05PbK9obcxPRqN/TuDa388hfbxPYUvtL2FkNu8SR+gPWcqtLwGHoC6lQZQvMQfub2bui+9lK4mPJUSPLwIGUK9P1puPSH4VzpBpmk8x/rPvXzXLb2Hh7+75Tg5PVSMRr2cC4W9Qe0uPXDTpj1Hh3C9mDZWPQChMD0ie6A75wdXvS1Qkr2l16G9kxFzvWq4ir0IQTo8zJdRvTdYcT0sbby9aCu9u9dItDxl0wg8PQ5UvYe6dL2Bs4k77w44vE1Y/ry/ueu9pSviu0OED7yie6C9nrrAvaBDLD0joYA9pwCZvF4Fjj2K8u+9OgJWvEQagL1j1gw9fyagPYVgEr1qBCS8/2sSPYYkjjpNlBs8unOJPWdnTz0tPJY9MaOluUB1XT1t5l+9SGoEPTyuzj2EOrq8UO6cvZijED1oQTG9m5RcvMz4Mrz1ozO9HM3VPZ3KkL2JCt+8/UK2PYuXHr2gI7Q9llSEvZvp/T16wlC9RgPDvQCZ2T2C7c+9j3xLvWTZ0btf0fo8562FvYj/4Tym3Pa9fulHvBHsBzycD6u8/KjnPHxs+T1KkcY9mNtxPJLHDb2knrU9iIOrPPDC9rzXYnc6aek1PUEV4zwGxlS7kdE/vaWVXDzuftK9P3H3vGl36z1h5e88rRd0vZQUcb2ccC89oUPKPUnIRb04tVI9MEAFvJ4wQLlRmD29JLcKPYW35L0H8ey9P0pqvHUZ+D2cSXi9jN/pvQiVEjwzbdC9dvccvUbk5D1O9l29i1d2PRUMKj0f+2m9DF2mvYaXTT2MK8Q9IOy0vTxMRL07jsI8Q7oSPOdiXDy+5yk9laLDvTpagr1zZnY9BNppPMzBjb1Yhgw8pDG3vVZloz2XX1o8AZC/vYlOCLuxhWO9l9B8O84wob11WG69BHwwvAz88jzuXBk9FjKAvXJCmD2e77u9iNfXPTFirLzlhzO9pg25PQ0K3ryhvD084yE3PIdm5TyTREi8sAbwPXzeYr1T6dA9DqUePXOKObyzwz09HUDYPTH24z2a8Uq9dbu3vT2ZlL1V0aC9Bl70vZ2K7T0s/Gk6uTdEPMqEqD2TvYW9WGrePPDW571yWX+83/ioPTm0njyHuii8qrhEPTZl+TzUTGe81Hw1O8uNTj1W/Bs8eCLTvMKKS70imYy8CkzDvUr2/70JqGc9TARCPSGP1DwWGeK9ovd1PT9Xmru2ENA8un7IPTxjjr0zZti9kXCnvWnxd7z4Kw09mnhtvBTDHjqh25K8XdNXPNnCWb1bIi+786OwvT03YD2IEe09hVBHPaQplz2Dulw8Le2FPR5/ib2V8uY9aUEvvVhArT10lRO9CIOZPTLRbzzHqA49jENyPStptLzN1yk8s7AnvPmsnzzuj1W75573PYLjIT0rD+E9UIlevYSiEz2bnci8s/NVvH2JxL0AhZk7le8uuxmh/b01WcE8zoT+vPfk5T1nKdy7FFIIvQQQEL2I2PO8oC4yvTbdlz0m+hy77eAyPaFslr0QFoO9jVC8vQoVHr0zOEC9KKL8vQEAG71XSBg9CHc9vYFxgbxn9xu9VYFYPIW9a71eykI64IcTvYIO0z2JTKa9ochavMVDxD06YYq9R7l1vRii5b2EbjS9hsY8PZP0f71+iXu9oUTcPRjF7LxSMTW9NmidvS6Qdr2SbN+9mmh8vS8M9b1p1Pa9nZs8PTTEhDmAYka9kkQSvZhi9T2cP4s9kW04vLOdrr2Rv9W9H9QdPOl/qDyR+xI85VquvV2UwT1hT4a9dz1UPBSS8b2Ef708uL/QvAAagT2MxkI87OKCPV9A4zqVwM09kHXCPVJOeD2TyPC9pHwpvDa/3j1X0SQ9Dj0rPT2Yjz2ERmQ9WHg9vA9mq7zSjtw9o4quvUQCTz2G7D69RSQqPKc4eD2SVHG9pvLKPVfdIr2T4UM9GK2SvRyGLL1gOku9ao7WPAG5xr2MN709ow8XvIRNKLj4Ase9GcUWvLSxED2JHu+86kUrvU2IFTwdXPc9gWeCvNKy1LpeHsk85k3qvEGrEL08Szy8n+19PIxigjwmLsi9WUwjvYQfuzyF9sK9DTO0vaCuVbzFWKu6/Zf5PZZX6r2mXJU9am28PKeqrbyheh+8t7+jPHXsgLyo5tO8+iWlvEDXjL1XMIQ9WVP1vIYA172ZldO9AfpfPS8IJLzpqb88EvJJvSofHTzHm6W9Ngc9PRMcTr04gVQ9DhORvVnIoj2J2zM9oUmcPaTxYzyQTnk82vOjvY8xR71UxUE8xCRBPB9/0D1wDCO9gJ41PaRtQT16Tes9pZQ4vWZ5o71x8bM9alPNPP+PsLyw3SC9imAivXL40LzBRay9jghoPXK+nrxc4Uo8rmr/vWzanD1R34U9UU0HvY32OLyNIT09JKkpPVx7brtooKY9lYXRPZLFmj14wse9ZTKKPZioujytmUy9oUdWPHqJKD2QnxM8TzrZPDrY8r2J5X+9BT7ivBsOJb2i9/o9mk3oPY9Kab1gEEm8j8MjPGib/z2OIMo9kZGmPSo0nrwn5XG8paiCvTLHiby4aWg8L6mnPaVk87wlbcM9HDXFPUNxabzZxgA7NLCoPEcvJ71B9Jk9otSMPVr6Sr2klO89k6wFvQVAkzrVwUc9f1J+PV+/rb0UGmY8XDcsPQcooDzaXj29SJYtPAfUtj2bkDM68udnPSG82bzBQdG8IAcbvVLloD0i2YU9lVoUPMn7jDsijwm9po68PZtUCr0Mjx69J4XdPYMt77xOwHS9PbhFvQHnHL15Qge9iUNAPQceADzZX4i9jU+MvIN66TyKbYa9ga6TvVxtNL0mTms8n/JYPW2sUTvBg6C9NPeUPYrP9b1WWp29YhVFvIiXoT0Q9eI9nTmNuxZBe70GVH28kTifPXdPuD2i+5m8ORalPT6qjDxcXNA9lOAlvMsMkL0KOnQ9fOaZvK7ywrx1XkU9i0L2vDpijTxYENS8Ll8jOjf06bzy1YC8yazBPZTkNz0Lbhw9lmhUvSOxqD2in2+9d3gBPYErqrxBrZg9iwM3vQ7Oi7wHXoa8qKYtPB8iHr2RArw8nFpmvYen9b1GtHw70S7+vMHKZT1h20A9E4zxvaEw8L0e8qm9gmZaPRt5njuZIcw9o4mQvYophb1mocw8xG10vaSeuTz9FTE8e3BjPIBIzT0NDNw9gzAVvXCo7TsOOwM9BUgJOxdk+T06Quw8q6dmvPBczD1VjyW6j0VbvKaZBz0QoHA9bwAdPBaBs72QuV49En6ePZ0bSbydLbA9naNbvYFBTLzTdao9TFzbuo2DTT2cozQ8+jb6PY6NbDynpDo89o8WvZt21zzaocO9l2v2vZlcZLyFYZW80RPIPYL+yL1qYKw8slXWPRD1Njs+lJ09MTuOPO/mxjuGgXU9n4LyPTLNDLuPtLk8ST05PNp4Hzzpfo49eVNJvRCskj11Egq9GEQMPaFon72NECG9PhybPTExN7xvnAC9ORGDPY0dxL1DY2k9naGXPEIuW72RWoK8d10HPZu5kr2CL6W9Pn8uvJP6zz1ruU485PTivPA5m72dp5O9TdcMPXtxDb2jDcK78+Y7uwncajzJmra9COXnupILtTzw6mE9fsz8PLnCNr1MSQw9aGDXvVUnjT2kddo7iJ6NvYS54j2EWC68ZmD7PLuU4b2Egzm8kCD+vQEpRz2JDa69Fce0vQcX+7uQyLM86WApvZJzA7yoUUO9ncf4PNkfIT2gLjS8pr9XvZCFVL0Mpdm9hnyfvYfmIDzPoVE9ZfT9PZqXmb0ogSa8qH4wu6kfyz10MBO8xK8AvTbWwL1P+TQ5t4nKPW4lBz2NNFe9kGSPvYfO7D11bDg8qA8GvRkbpb0tif08zwwaO1tXdL2fBj89HDRkPSWhHr0P4dm69/QUPVJQE71oClU9kZYsPL2N3TvuNUY8/iQQPVb4Hj0yfYU9mIpGvU8/tDzVZFc9Igf1vabTxT2QdDQ9gwk/OLFX07zklzE9hSyaPVB5XT2asJe9nxnjPKrmE7tarZ89jSghvMQ1mzyom+Q8XfPgO+hR3Dyxg7s8nFPOPYV7pT1A92c84bNyPQusczzrJkE8AfzPvY3eZz0DwcC9m4uxPaXvpTz8urk9ca0fPXMtSzwn9ZK8lViEvFzA/z0S5Nu5ttwJPYb2S71tt4u9b/FzPD2bQTyAfKG9hq8tPQZ4pzz2h0W9Rt70PYkwcD2RFiA9hbTgPaRvW70tAQ28zbQivT9JkTs5uJk9cagKuzsKdz1UFsK9pst5PTwGBL2Jj9e9eI0fugvxQryXkRU9YxDAPKRmv71g8/c8gAxMPLbccj2dt849ODzyPKM1HT10f9Y9aBdJPNSHYDxkUtS9d19qPAhnJzymCLu9GabuvSd4lbutZT88t0KmvWJVej0skkY9jFz4vFJvob2Nu+09Zvp4PYfVRbzqyb+8iadXPVzQrL1wqnq8J375PBSthT2MdjA7Ci1pvTMt/j2RpYS8if92PXyU5ruzm7M8Z+cPvGS+5DxB+T69jabPPJVBXr2RS9A9ppomvYYUIb1wj148qdDaPEiECj1yiIQ9hhXbvFdhcryk8es853wpOyWFub2HHNi73y01vYLiob0VIAs9KSgAvYZoXL2BGc69aW34vOr19bxQ6eA9XS8APPZJZj1iO3w9BBW6vSKQo7y+uFC9kSrhPYX4Or1C51A9bRGiPUcS7L1NmXm9LvXsvMESzj0Wj+07tgkjPSl+aDy+0YE83Qz5vDIHqLxuqxg9NZvEvBqoCztrveG8yERFPWfup71taku9B3vmvY8CFj2LmB29k+szPLSzuD2ZoTg9emCjvOcFiz2cnIw9n/jAvZuXfL0H1Rc9kfZUPZRTADzQVyy8XnXSPMfmETwLRtG9XssbvUpFzD2bRrU9mwIyvHm5PD1ouLc8YYl/PZdcRbsXNkW9ojV2PRO987122lG9SaoAOwVH7L1Uudg84j8LPQnlqTxbFIC879KGPL3vuD1OElm9QCp2vKBtBr2Bjwc89ot/vKZpWDwi7S68QGP5PaLXlj1zrAa9gG1UPSkCZLxJIie8yVZpPaUsubvvYb+9gJ2rvFF7LD2NVyE9C+y6uqiXrz2Nsy69APSKvVb/zb1P2Is9nyi7vT0T3LzKWB69H2OXvIjQWz2UWr+89YwTvTniqD2hgE09T1jNvLvOUju+OIO8DXxxPZCDXDv+0ay8Fsz7vX0kJzthXP89oXJCPUQSub0H4IA9ZRGYPZeC6L19HWo9ambuPDverDwkoFQ9KVT7PKkXUzyluU+9nl3IvBlql7zalZg8RcCWvNYYvj2gpj+9JHvtPWZP5z1wdg88ybFuvZKV6jxBKZu7EiehPaMvR71ahMQ6n+JSPON6Szwd2xK9jVfzuk8h5zzHmYs80zw+PDa9/b1OML29UGeyPKqr5jxOIHY9enHbPZp+uD1cxvC9nv1cPRmoLDva18C9nMCMvVaOKLx4oFK9Aou9PH5t770b2uK9noT7vVeEqDuTLXu9jbfYvVElpz1MMcS9Xlc5vHdrPD2E8O69i9jJu1a78T2km8+9m1R2vaMj7r1APfU9dVO/vaLgsz2akJi9h+5xPRAIfbynbQ09iqO0vWjfVD1lj+q9g3elvJMSWj02ISw9V8y7O6oFjj2kf1m9DxttvAiNfDzFnwI9dGIqO4EmkL2GeuW9W8j/PTxX2ju6vCm8fxUIvZXiYzyaLRk6k8wgvZMfBz1TI829ngFxvTv2nbq27Vm8xnCVO26dYb11L4Y9m2fyvZn8sLzduGU8ZZUuPUWvHT2WoI89mAWVPLYfwTyeIko9pIBTvI8Uyz0Q/sO9axdvPRaYzrxBtU88rD28vMFNALzQCpu9Gl9jvZjgM72RDza9FRY8PZwkzD2mLlM8NzoOPLorHD2UQQ49lHNcPYxlWzw4pdk9LRgZvIaLQr0pGmi9GTbbvQ/PwD1Onie9m/ejO9NKx71WjWk9M9A7vYciIr2fOcw9h1sWuhyKTz2Ft/87zD+LPD9FtrvMkA09jP6GvWRqij17cmG8zYx5PRO18Dxo8sq9Q3Ji",
+        "vWZs+zvNxau9ahcLPTWc9r2Wkfc72bUpPQ9+mj2YD1Q8NOKgvVVzITyBMR09oG0ovJvEAL1Oelw9dRHBPKo4HrvgdxI9iudzPaS0zDwztTe9VGXwvSoykb2SWnS84w9FPXglYzvwteY9mO0dPCU6Hj2S7kE9gJq8PaIr/L2at2s83LwuvaFHfD0+vKE9pHzmPIjKS7z69LY9ig58PLOk/TyAUXo8tYp1vLp10r1BMNU9dMmQvQg4WT2JRqc9GGhiPYyXab0iNbY9cK/ovaD7qDx0Y8+9REDAPMTPZTtcxmO8aq6uPTyovD0gE9C9jSRnPYEDDLuC92Q9imosPUbTlb2GB789k2VxPHPio70dieG9U7VcPQ5Cf72m3ZA9g/gku5MwAzw8i6U9TDl+vNAyL72mnD49kdYvPZ6NMjq6VV28g/ZNvYgsVTyhsyw9Wm0mPYtwrjrTw8g76N8IvOQi17qvm6Y9furXvY+iKT2Lsyc9B7itvGKkiTzafU49QIlMvV1LuDwnbjI7k4TEvSF4+jqnyEu8TzASvUEwSzzJojS82282vY7X3r2WxN47cwkLvIF+OzxcxE69g+9/PUvCQb2Tm4G75pC0u3gnW72hGz88tSyfvUKalT2mAOK837CAvK2CEj2k3n+9BEZhvWo1/bwyUEm9UbDgvTQ5Vj2Ik6g9k/RpvUQmFTy3XwY9nKphvRK8gr2mbzy9c2WsPIj6fb2Oi7M9Hla4vTI3yr2QwT+9aonTvKCVqj1G+vO8K72RvVpqmT1Sj828iofwPTBk7bz/Q+Y9MZRWvIYgZryOdDs85pPUvN6ohz1HlQ09a7EfPZ8Eq71CYXI9iKSIvWJ+j72JeAy9imxwPN02Or1Fe/u9LS7OvKamZrzs3wo8AJ9kPUWGXz0+fdo7tuEuvWihjLwLmMA6t4y6PaMSX7xx66M9f+AiPYMb+T1I/k89gyNWvIlh0b1J3E67GIjJPYgutrx1Mne9eBR5PEWEx7158rc8SAV8PPYSGrwUOyG9hjaivThViT0zsdE9kXXmPS8gsD10hOO9GnIovVSCwL1RHP07lJERu859djwKBC09PPEgvYwzJb13YW23r6DgvTDn970iAuW8haM1PScjuLzdVyw9n1J6vB60OL2MjxA9P1zRu6VZt72MJPo8JUcuPNZtWrzIe5K9HcUMPYJnOTyuysA9arsKPUCGzz2eJQQ9LkAkvTQKIr2Bn+g9D0zzPYmuhTy0E9m9TGUIPFcu/Dw8Ml29cx3YvGEstLxA9fc9bKmcvTJH6L1lv8i9cjVjPaSe+D14bO68fvPsPY0KQTzywCu9iA0iPWn2bb2j2ty8zibpvME2fb2RxGc8vOiwPQTmuLyLUJg9hN45vI//3TzfRaQ7yLDoPYLJtjwHTjK9i2OCu+doA72eRgC9IhQQPVIb1DuLdTy9ZijWPZmXADzsv1w9fvt3vYYBrbyYMtU7pCyXPQOZu70mVzi9lPYbPZSLiz1NVG69k1RIOoZ7vrwWHhY87HhougyKG71aka28/M8iPWi9G7ufneY7l4NDuw1HNT1EdmW72YmkPVGjvr0EUz086956PVRZ+r2JL1O8pEv3vAGnh71vwIi9KskMO656cj0DNa69bWskPIUhH70Az5u8r6mNvRRTrT1YbOm82dOJvPBB4L12MQc9SWxAvZIi6rwXX2E9ms37vBvCELq5NAA75jthvOe6/Ty18rm9ZChNPU60kL0MNJ+9YeKwPYbQ6z0OHJS8vPsePXX7ozzWPpc9o3JqvYk9oT2kjX+9J56fvSiJ6LoJPDc9n+sbvWMj2zwY76C9XGP6vH8Anj2l7Vg9Ni6NvSpVizyeS5A8fFSkvSKFsL2ELXS9Ci7JvS/cZr2l02c9o0kWPaKqlbwMDRo9RZszvEX+9z2lcAw9och0vJqJUz2IEeA8n/N4PaFNPLyNvvK9dJ90PK9ozr1v1ws8aWcZvWC6ib1r5ye9imKoPYzcsr1Z3fo9PbtQvZnjozzEn7a8jlLwvRrV9j2AMuK9hym8vX9u07xQDwO9lbW5vERxYD10Flg8aopivQnSvz1WRhw8rWR+vYXTTTuyq7s75XaGvQUvvz2eRLq87QlQvVr6frxqfMo8wvK+vZx2QzzjuuG9OpBOPT9Y5j2dV+M9nKZCvSZ0Sz2hAei5gZKqvMk35T1sXsw83pAdvPo2FL2JCuq8Exh1vTZPuT2jAfG9mAo7vYHK5zwuDaa7hEooPZ3pJryGIu49nI/bvU83Mb1AFhc9eoE1vL1T/j2R6xA9GIRcvIf2FryGkh09ndVnPC1ATT1PLFM9AncSPWdR4LxhwbY8h5d0vYcucz2gaRs8Ioq1vQVhujz753k9Tn77PWQHDL1wnfe9A54KvQW59bygxa08drGlPQDf7z2Ez129fDrUPTEF/j2jTxC9iE/FvRB9xL1p9d087M4Euvr+XT2bQm09fGJwvL+FIr2GLHC84UvPvL0OmDzCGwY9g744vUdQJD2Wliu9TjqKPZSW8z1u+XC9gsKkvW6ZRjzD19o9JuwGvSWcw71nMq29V2l9PacgbDu/JKS9bv5BPR7Ue7s9Ohc71D1HvW3FIb2NHC49W/JivXD+o7sRabe9kJO4PZ0THj1wOTM9i/GXvMySJ70FN349TUwnPMsu4D1vHIK9QoWmPYYmJrw8FdM9mEievMUICj052ro9RPkOPUU5QDzycCy8irfuPTfUYjwb6/M9kgT4vAAVZz2JOI+9Ji4OvYK+gz2F7gS9R6ZcvYNMxzz+yEO9n2FCuyW1Pz2iNH29ERDhPZFCw7ywJdI6FW3ZvSwTTLzh0Zi9WI0EvLe4ZL1QffI9bPaBPZDSm7yHWsU9bxM1PaNCCj2QYWm9CcY/u9uxWb2hfjA8cPLuO/MycL0ubb49RxVfvGTd4T0eXSk9fWVFPTa1hz185++8dmP1PWNR4z0L0Ms9RTGmPW2ASr0spT88PojwvCzWPb2CE3E9kNAKvY1x8D0nbe48yqdRvI1enz2k0oI9g0cQvVeE+b2TwDM9QLHuPaVpPL1eGJ48/nvwPWcsPL0fJ5w9joZwvVpN1j2EVp49N4devWUFeLxx1OU72Q3xOsA48j1kyNC9pkayPTOXrjwMf3S7uP5wPYm69D1tCG09nHx9PROIfTyWun28jZHRO51+Mr04Tty8QrbAPV/ev7xwZL09fWp0vHgsFz0k7JW8qarTvEaqrb2YMKQ9b42PvRGjUTw1lyc8lUdZvR9DgT2QHgK8FkVSPC27lz0CPr49pmjHvZRiN70kOfu9C4ZEPY+sLb2F8yW9YEAsvTqDLD2jyA49ZRtNvY4O270Z86s9g4daPTtqiT1qv6E8V7oePYmZKT2C7lu9SNPNuHgCx70Ryze9ajAkPAKCgz2ABhS9R9suPUltub0SkIC8PL8WvKw3EL1Q4ba9niX7vCAUDDjX4bc9Ag0zPYQzJDyv8jM8qAsVPZU5V70FNJ29IYNhvXeD0r0l34C9hh0GvTMsBD0jIMU8fhScPMm4wrz8LU69fouyvV0XDr09uXQ9gmbZvUfBtDyKXfi9iMy4POc9jr2LDzc9kk37vJCjXrxl7EO9CDnjvYNEUTxbq+u9EnjIvZYN8T1zVpy9XWT9PTL6/LxW1O08i5W1O98+wz2byuG9SBIwPPRscbykcj064c6nOsjfSL17cBq9Ms+MvJ7SeLyzUEw9j+miPYeOpz0IaoC8RZypPZKXUbxE/nc80JVUvZXT4zonfdQ7aq+ePYtsSL0Kqw889JPrvOIhKT2FWak886T5u6f0jD0rbXq9Ib3hPOowPrpAxQ69aXkIvVbLcj0o3Ay9Nwt6vaWfer0Nzs89bF+DvIVhZj1KBv29MIR8PHGbyDyhJVm8Gh/QvSNRJrzldC09CKOLvSufwT2d5lC8CijhvGe3Vr2d+7y8vQjwvW/JVDycmbg8khvQPRWirz0fxNY9ZtZaPXkBxzya8Yc79WiZPMmTXT1Xmb68Sn+TvPfmWDzSXRM7J+UzOzQE3b2SBug8lv0IPM/fk72fCkA9Yf59vZZYcL1PuGc9UsDVPaEQFb1eT4K9G1pjPZmRuLwdgYA7qtfOPaOAsD0NKIo9h1GEvaWmcr2Ik629nkPdvYsGJTpyya49n5v3vUo8aL2UXQ88sXR8PDLuMj03L0W9MSifPS2Wtzy7uDI7iGNbPM5CjTz/kGI8rtnGvK108j0vpfg9DVWEPTzMAjxkShg9VWpSu8rxWr2T/3O9pwRlvTqa1LyShR89iCb9Ogy+Xb1cWsg9mGpNPQ6saj2m1oS9nwSzPMvNgLyy3489hMiGu7nVVzvXBNs73EfUvPvf3Ly1+yK9lv2HvZBKJ72WMsa8nhQVPHyqQDymWkK8ml3dvYURxr2CUda8zJnZPRxTND1cL6S9j0/QPaPO3r0vsky9Bxu8O9zgmDzR+RM6ZWEhPZok+L1X5QY9iD2yvPH8yLvhyhU9mdf/vXJBJb1zhEO8Y1KSPHybrbz0jxo9D/TCvYo6eLyXHS49EIAivUr44L1ej3E9T7WOPOlBCLxkUBg8p9ZCPKlKzrzOBJk9nZU7PT5Kjr1tl4o9ktGOPL68cLyL4Va9k5CCvU3PWjxm2Yk9RnI/vaNR0DzUj/M9DTSqPSS+0714LFu9mX7vPNNPX7yydN09TX0ivYfwDbwInuu9RZrdPaXa0j2lXUw9U7bAvDox4zweT9S9gmQFvZxihr2VSCC8mRbmPAoDm71Ttne9pREPvW7mQ71s5Gg9mdgivBvrqTz3bZA6fZIYvSgyHbxIusm8NIr5PaML8z1PiKM9CpG8PQdH9TyjqAM9VW0TvTOK4bzLS/G9jy1SvWGZN7y8P9A8ZYSRPVl/kbzdlRW9RfI1vRrhCz0uKiK7/bWHPM4E0zzIm+w8lwYYvV/uZ7z0aIs9OjMivaWDar1jlbC9fpF2vNHKK7zYf3E9CY0KugdxBTxDijm9i3p4PZTUYTzzTQk9GfWxuXhmED1SgDS9CcPWvDaVIL1kqxK9elNpO4Fcnb07DIE9kK92vCFW2bysFBi9Fb4jvZsHaTyEfRu9JN0hPZ45572I0Ws8mYpvO2eZFjz2fGk9XKVEPSnVHj2Xuxu9XQZBvDmQrL1kkYE9KmQTvJ7lhDxIwZA9cRhhvNTQBr1IoN29H1ArvTVY4D0L5J08i8LNvOKdNbyEL3q9CTIqPZl2b70BtKe9Gop6vRZNm7yHZYw9i0J5PVVHVbp1qn09cMm9PVcG8j0v5Fc9bNO7PV+USr0mnbG9TCRzPSd+OD2DJwu8j60cPOJf6b2AZEQ9cSqtvUyynLwXjY09hu72vaGgObyUBSO8ztZru4CZ4b2jYlY9iIdwPQzJQT1XJ0+7Z8juPNHgNr0STK49J62Lu+o2sr2iKBU9R22GvXjgOL1sbb69PnZvPZ93tzyxURc9mPofvS2ODTyH4k89MmqWPWAbFTyfgZw9b/4iPOjqQr1w1bs9ViC3PSILjbxVNI480Yc3vWUuXb09a0G76GNqvYUuSTzek0w9Tc7vvYsa5z1yEb+9JPlMPSwKJ7qbiEs9S277vVIKjD11cv89VjuZvRAZA70W46s7dpMxvUdtpT11vgE88rwwvTn10T1Xth67qE04vAw+IjyRbLI9oouWvK/Aebuf0yM86iCcvBaUez1BFD89H8lZvP4Z0b2a+VI9oylVvUGnYz2VGlA9M8JnvI+95Ly8DuO9h+W9vaYDabydiyi8JQtAvSNxxzy/y5M8b/oFvZ215b2YpJu9jvGlPaCpuz2iDEU61Z9PPVEwGLyP7aK9KjecvSeKB7z9E4+7H6vxPTVM4j2ZfZA9nBrGvRculTyI83I9kijCvLC1tb0pcSu7xc0pPP9P7L2ZNMI9apydPIR9572kN5Q9JKtfvOUXRzx6KpE9WKtKvYofzb1/hkA7W3qQvZD9oT2DN+M7goXRvY/T2T1JaEu8tLILvY7UyDzsMPw9iJS9vQMmoD1KLRG8TfURPTBxJ711+NK9mEjSPQ0plz2dXB89AR4hPNjLpD0wf6g8XuGFPRCHmD1TZWg9JMydvWSUM72lmPQ81/RlvVanNj0vpXO9iSDPPOWUFD1mrBm9lfAjPSZyuT2TFQK9QPycvYqjK71wcQk9X1RHPLvl5js0xRE84hRDPYjcH71qFOk8aSJvvUE3Iby5gZa9n4GpvM8cb70l3da8dE7TvYs8sr1rroS8++lvu5OBvrwbsqw81GFTPZePczuE+Lm9kr0cPTMjTzxy7li8MfbrPR0JBLuUfJK9Am1nPZ2xOL0rB1a8otU8vRJKWjyH2XO8k77CPaAzCr0cBp68lEGkPLoSOz1r48i8yBe7PZZjhT1Dm+E9ZeMjvRkxb71X2R89app9PSat7jsKSnq8XAG7vZ62ubw+XbQ6MerLvPa9m71QlI29hn2DPRo9or1HvLG8Oc5HvRxemD2XU7w8tcgAvVB9S7dkdKw9hugdvO+MWD2m/Xu9VZnMPWy8xz2cX/E9GnnxPHLQ3jspbhm9XC/gPODiizuvhPQ9IXS0PYLT9j1H1jo7Q12FPZ+IbL1tEmO9oaIKPYrtdDpga/g9YMrYPMD6Fj06v9G8RLYKPRVfgrz+rMk88DZiPTpEsD2MiOc8X9s+vPcCNjyhoGU9lJkpvY9jTr0t51Y9RS5QvaDiHzz0ulE8zSIAvXBTWTyS8Dm9CEA6vZ0wPbu5uWo9oUVHPUv24z0+81s7T95avVyQBD2CjCO9M82KPQaly71UTHw8ogE2PEAR4LwaEou7CjF+PZnDMzwuBXy9jlD3PaWne7zBNy49kKryPaXV5juKSO29emfyuIRQMz0nE5W8l5b7vTcwzT2mEOO9lW2nPCzI2b17wqa9SRwNvSS/YztJcMg9N0JoPOUafL0Tb5s8+6avPDoTBrxIKMy9l+WhvV8yfjuw3+I9T5WnPYhVbr1XOoI9jIswvKIIj72Vv8A9PgaAPTrqy70b7Y28kPf/PYhE2rzXFMy9WCk+vQ48Dr0cJDe8TTN5PL3yS70RlOs9pmDyvJOol70uv+a8GdPBPUR4krvjnV27uiPOvVRuTD1Q9L+9O+jmvKB9YD1rXgM86EJYPS7eDT17S2G8JKERPVg3Fb1Ynv49TpCzPB9qTD0szHO7izZdPJblQL0BPiu9pnYAPIqL4TvzRke9AXsHPWGBETx7uMW9Gcf8PPv8Mb1T2K09gnmjvaUt8b12saO8klS+PZWm+rzywDG9W1lPvSCwOT0a7qE8oxR5PZKCN701rs29YC//vLfHT72Xx5C9VGuiPZail7yDt0A9Vos6PVomfT1vMXu7482zvW47v7u4Y8u9Z39GvQ6dwr1oKs88rASqPSaFKL2Ksto9eTGBvPgY4j2emWW9py8wu+kkrb1O+CS9fnmkPDOtYTvvRVU7+hsNPKZ5tz1hzfY9Y8nVPUN/Yjwl7QO9G6gGvVoUVb1NNZG9nNa6O2q/dbywEaK9i58ePQefUD2Sm8O9M58kvZlQrT1vnoE9Rv7mvZWjx7yg2Ta9Kdd6PZa1jLu06oy8dcJ+vOgK0z2Nhuq9AN4Muqyag7xNesE9lkwxPT7Li72Bxj09Z1QiPIO1vTx1YNe9A1pQPPrvOD0B4bG8t4psPZtgkr11PeK9bbW/PN8qXz2NknW9DfEavA/3GzyGlO+9il20PN7wZj2YIMe8utBFPYBINL1cQmO9Cw1gvQbyqL2jEI29m544vOg6uz2hKME9IsGeO1e/lr08dkG8dn5zPXOTaz2kmDk9QwNcPC5TVrv0l9K9fhL/PFzwJr2X0Uk9V4E9PUcHvz2fn+E9jsE9vZ+2jTzD7ZI9eGUqvaJZrj0xojA9E5MOPWKNn716GxC87+xJPZI7Yb0YVo09k9jtvT6K07wbtAQ9YQs8vQ/kRryTJ1a9Ga/CPMX4B70FWzk80J06vC7k670iE4U9gXc7vUVHMjz1N0g9l1mqPZ47iD2HIGy87vZbvF/uMDyVmSQ85otlPaXRZT0pKoC8PFxVPKQeyz2JSi67exyTPFlevDyYkmI9HCfcvXAjWbv/veK9EEY5u71ilzw0CMm83sx0PC1tCz2Rr1a9jogLvVPGHD1ui/+9cxr/PYqLPTvRifM9VXvQvVxlWz0vQkY9TYlmvTYR1T1fc5e9c/3HPaMeRD051sI7mtwYPMfrajzZj+O8szSevWpbYLz4zmS9jftqu5yIWbxukbQ8lrf6PJzmsjyZfMe5vuBivUP41zo6jTc6rco/PaYPQj2J5ag9UEHCPQZlsLxZHOK9FIt+PZfgcrwu/DA9HKZlvYw7cT0/A4M9M1f5PQTinr0nhEq7kelVvaRvA70NqnY9gGMoOr1nKbxJ8Lo8w9b5PV2Klzup1aG9KFakPYqalz0bmr89ndxZvaPtiLuYa469nNs/vZbrhLwQnmi9ZsnzvDZWaz1ZJLm9nifpvUTyZD2lclW9Tg1RPRMz172NUng9mPw/PaZNZT2Z2lC9nrqdPKmUWbwC5269gjIZvZ8fOr2d+oK8qMjhOd1NG71ohdy80oyevRC3vzzLHsU9oPAiPIEQ17y/GOg8KoFMPRadFb1W3hU8qnSavNMK6L01bum9miohPIxNhr0Tsiy9WgYevW5tCj0KwFa8HTHvPYPL2z0TPX+9AtbLPNctiTzWdMi9d4KhPXCqOb2UJxy8kqp5PWWa272FJkK8EdULvYnyzz2Qhes78DBmPC/tbLobmpU9mjHSvUW4Jb1fPUC9mjDSPYhG/7zk/ge9piUfvaREjb0Ixba9Mm4Gu8OIYz0oJrY8kfpRvKc1eL1Gldi7QqINvZGz6r18h2q9WLgRPYRvAL0VcHs9h9TXvXxTUDwYkbC82H8OPRk2nz1PIZE6Qi2fvF0Ohr1a6pK6q2GhPT4efDws1/Q9aYNNPDHYoD1sKos9YjrFPQJl7zzHhOg8sgvNPT86Pb2g5wa9MF//umTq57yQ1ms9kP9hvVF2nDyMyaw9J3m1PVatWT2GoWI9jCaJvI8rwr2J5hk9VhecPZ1BNTxAEaG8awiyPHlaJzrX7iC9d27zvFd9VD0M2kw84duevOkh5zzAOhw9FBQ5PDiLrr1uQvm8uk7GvN45kbzCEws9o7lPu/orDryCn4m9V0iFPaGzrTzjIvM9cFvEvKJNELw9D2O9WZf+OqxOajxwvE89mffMvY3kNz2PTIE9Km+ZPRExer2cHc88qS4gPL+HYL2i1Xy9Ww2XPNoNlj1LLwI9jOjzvKt46z2Ps7u8NKqIvVd2vz1NEc49Db60vUSQizzRR6G9iRqDvO0+Cr2J2o68/LXIPWM82L1mgwQ84TcnvYaABLyzZ8u9bezpvZTs6DzLuqQ9mpa8vXvzdb0e8NA9ezrZPaCFM718LAc9DMXdO7Um971Ua5O9k8RhPTXLkL0rnHW7w6UMvSa1+7kiTzC9l/JcPRYOgzzM7VG9lP9gvVGFAD1q2Wk9G+uHvZ+qzj0jrzW85VpvPLELCDsYWj8880o4vZrO/b1LB0k8/CCrPClLZbyuZB49Bw8PvR5EoL1sR488iLaJPYKOfTxSj1o9im89PTrpLL1H9CS79wLjvTFYHzrho989C66APJr167ocjES9RPnIPBVQNTsbKRe9IeFzu5B9QjnwFKQ86EkfvZbwz72Gf+e9j15jvSeTOT2EDlm9kLNcPXiP0b14Df49jeGRPYg3OL0Qb228A+SWPWXEKT0Gvpu8SwmlvVkc4jxROmy9mHtCvV5UlTyLBak8YAfdPTzHdD18WFC7i3K0vQ3abLx/E1E4ttBIPaWH8L2JXD48pXiPPPhaTr1racI8S7aJvUIuwzw8gou8xZwxvLXLsroRi669hqvYvS7b8jx4MSe8yS8zPGrQCDyM/RI8A8ftvOlmdz2Sxho6DvFrPORx9bvRS1O9jel+PYvEHD1p0DQ87e98vVOPs7z0hsG9JSPOvDWZUb2U4Zw9Rg0aPZsjdjwZ3y+7BNLXvYoD3TuHYqY8ApsBPUfbqz2l5pc9REdIPYrwXD2JoV+9myRUvJ2Lkb2eycO9BTgqvWUypD2Wf7Q9Ew93PaVl/rxJNFI9Tfj8vSvHxry3Gtk8SjRVPaNrjD2CsDm9UQJUvQvwHrzD0OQ8oTDivIrJI70J4Ca8yN7wvIonWbxmYKc8EnY4vWJA3zzcOiI8hUZAPSCQ1j0NP2m82yn+vVLVwz2LUQk9hs3vvDI+pr1UBb+7s9EZPVao4D1+/2C9HrhkvQLx7L2QMue88QpNPPcp271kdoI9iqTvPALrELzTLy49MXc7vQuueD1NCAG9K0a0PZ2mjrkSRn+8nNtDPH6dSzyD3Ko9KZDePHkl5j2DC7y8R877PLCfa70VGva9PdWVvUFhnr0IuBS9C/oeO+MTYDvtpJc9U/GrPW9A4r0K6f08z7gZO0iglD0E+ry8nis2PNd3p70KFa69mMmwvElu8r2UfJq9lX8nO6qaUj09eke87glzPU4hOjzP7q47pVMFvWO3GL1i/Y68y8oyPQu8o72citk9irn0vTmnKL1dNuu9kgsovaCnCbzRvEQ9RVkovWuXi7szHNG8VL85O+3gxD0z5e68wYouPLBzID2cgLy9hbE/vLSbl7wa17C9je09PF4h4zw9MP08dKcrux4Y7L0i0lO9hG4YPZQFpr2Z0jw77+00vWF3Gz1/wEM9LCqkvWAIub1cRbq9f8FSvNX6Ab2nMJe9pLBdPTiGDr1doio8pcGOvBj+kT2Edjs9gF95vWSNq72Y2VM5mLM/vJkUVL2mNOs8J3WVvU2M1LxWMUI9nk3NPaSzprw87UK88MRKOxQMTry/6CI81YzwPYwKRz2cm3W9nofIvZ3NEz2lh/Y844DzPRS9KLyGfA09K+B7PP1oqDzxj/w9Ezy9vZYEY72jV1y9IeetPNPowL2eAy688akxPZGqNT2Qex47o1RivRddYbwp+As8jLb5vRk0KTyLIQ29kF3KPYAKNT10evc8SsQKvPXZaz2MOxQ9S9iBPNI0oz1Mbi09hkq/PRhzmT17vEs8mI6gvZKaoDyXIF28jxkfvOXUCLy81Ta7H93APYQ0CLulwec9PCAavARxT70ABtQ9gZIdPJ/rfTv9AIM9kw2AvKXvxDyl4KS8YYKEvYo1/b1q0QY9Nsm3PU9Y9Dxme648UBOrPZcRdT0m1K+9nsVgPYKarL0PLmE9GMd8POYXuL0jppO9nVQzPJGnTLzHIIm9eCvzvQREaTsOy1+9ACahvMekm70oQtw8tvmtvMURPryTOTi8jt++vRWVaDyyIzy8nC8LuznQcL1Mpha9B22CPWcGurzJNYw9NqBaPDoin7wvi3w9pe+GvGnt570RJD27GPqbPXgblD2mH/W9gFvOPY4kLDzMlLq8fMAiPXXCvTtqJPq8c6YYPKB+6Dxxanc9koWKu+O1Xj2gQCu7kgQyPZ7x871bHPM9T8apvWve972XR3Y9gs1YPReWrb2iJhs8EC62PaCTGz17LqY9nMxVvTLeHLu0EMk9gsPavX8/Mb1oLm89QQFTPaPjBb05o3k9oFAYPFtkwz2VwD69VOWhPaD5PT0ND0w8h6KkvRXVrD0bcnS84mJ2vUc3pzzLXu29olyUPSANGz0IOck84518vCRoR7ycVR09V5eHvYy36L1KM9W9U6A/vY5vOL2Y9iK9lpvFvABblDy3G7k9jUMZPGddPL2W+Gs9HAnNO75Vf7noEui9eFtoPQ7tKjyd5S28hveWvVK0k7zOgoG9PgcLPV8jor2O7CS9RGfxvXyR6z05OzS9j11cvaMZ2jz//+s9lNMoPLdKgr1EduU9palZPYZvcjrDDFw9jiMFvGSdtLsDltu9ofQ+vK5lBL2Deua9pbSqvMuXvDzEfHW9dXEMu6Q6Oj2JI8s9htJ/vT4klD0LWjI8fc9VvLLAfjwwtw69RNABO5uvFL2Kcs49paC/vYM0iD2JsNS85AFSPN3Um707KwC7xb1nPX/8+jwmuzg9lbwFPAFdjT1HpPk9LB/6vaEhEjyCSWa8v0/LvUYPYb0NVEO9NnJqvQHVcrwhDGI8RX2YPTZJ2jvJdDY9QRXmvY5Vz7zHAqc88bqgvJ7CaD1CI8i8263mvYQiP70EOQ29hvS6vVUvTL0DNju9mZOYvWGMpr2MCP09Mz//vZZIwT2WLb69AfxNvO96wD2Jf5m8t0H/vOX5H7sQfHG82J1pPQbmgz1M6py9ilgAvYf0jrryFL+9lx1MPShdBT1oofW9U6eDvaGm2D2TXZw9gHWwvROdjr2fjMk9o2M6O4P6OT2ct5U81iqgO8cclDxheuw89dUhPaD1rz0xTDi6ffvpvKMKFbvIOoS87yRyPY8Dlj0+16A8CJ7BPYb1DrwoLKS9jXItvZrWrLwfm7y8umwWvS89Rjy/KNQ9OD6HPYFjbb14ADI9mBs+vPJx/T2ItfG9lqCGPE6O2r2cNMa9gnsrPQT847wkfHy8t9d/Oxa/tj0sjzw9c28iPTrsYzx9I949kmYrvZrgIj07a0U71XfgPUKV3r2WoRE9ED/RPPHn3D2hNUo9n2yHvQWeEDyKx2G9joDtu+ZK0L2C2FA7qVYCvItXaTymhT88xXW3vZ/eez0rRyo9mhJlO549qrtwxAY9aJ1gPLhiMz2nGDo9jwb1vR+vdL1f3qy9WGLBPSEEfL0SE7A9ke43vQ/RuzwbZOY9IDRmu0BjE70eQME8+5ACvMUmTzxZ1te9geu5vQaSOryOX1Q8t3P3vJd3FL2VzJu8Hzs6vaFFPrz6MLY9VSK5vYqIyb2KKqW9pN/LvX10jj2F5KM8cGn3vZxGub2ITg082UZIvVYCyDy5ssg8W9yfPYgADrsPPa48/0tPPXT+wjt9LdS746FIPZPuZ72FNM87Qoz9PaV7Sb2Eb269Tln8vWKjebwpBu89H0imvKsXFT0iq/68hB4mPYO7Xr1bWjU9KaSJPUEXEjwGIZq9aVqOvWqtdzyTodU87u+UvYxBnTzXvDM9DjxfvZPR8LwPwcq8qCOkvZKQDL0Kwoa9P6KUvT4IJTzz1uE9mFoRvUkABLoHONg7w6gmu2HthDv6A3S9JG1cvZ5Hwzy5ZaS9Na1NvSU7njyGYH49pA99vV2IW72cFQK8sZ6dPWOekb2mtdW9gAYAvV7+/jz8PKK9V6ApvRwQ+r1YBYq9UImsPO53sjz1ziY87o7oO8JVOD2d/E+9n8iqPTH1EDzjVCo9F8VzPKK48T0Ltcy8wqO6PMKDQL1yuow9S7FAvWE4ZrzIRqk9D9r6vMFn2D1X0AC7IvnVPKA2TL2HYVs7BBitPYPPDb1sqtM8247+up8ME7wsd6W9Mb8APO+FFL2B6ZO8keDsvTU34bu7eQQ7CMDtPR1F272IqNk7N7KdPIOWM7yD6wS9HxRxvFtYWrzDA8Q9Ylq5PI9r1T2PsHC9lvY8vMLx6L2dRFc9ORNpvY5NL71XN0s8sUgRPQCKmb2g6Jc81HE/PSpWzLy8loE8I9dZvRo72z2HQ169TgdDPYFcpj2bNmA9oKaEuyXroD0qU0S9ZXZmvTZdFbznfym9RrRNvY315D2Udny9VLJ3vZFYx70x0F89lqvcPYQ6xL1R2xy9Rzx7usnR8j1K76G9jeONvaNQ2ryjY6y9kGN6vY9Gkrx74ty7gFMXvQ4hD71wpUA6Xik8PRIiTr1h3QY9JYslvMfcGz2HRMI9DUtIPPo+OTuYGei9kOnNvNdwNL2jR5o9C0n4PSzMzrwohfc9cftyvOgGDDz5Yyi9mN/ePVLgCD12e948cJ7fvX4mUTzLVO083ts7PDNLPD2bMJS9kYl/PYzMkLu34x29jmQtPT8E1D0OR8U9U6nevZQuET2KHc69NGGuPTuDe72jH2Y6ICNRPSyRJz2as2E89t9ZPZ6c+Lz/56s9Q52lPZ4Vwj05EU+9ZKvzPMDnvL0cKPY8Twc+vYO/8Lukkqe85zcgPMqe+Dyet126uRC6PYgQHD2i9cS9EQtzvKNoaL1+b0C9SMG/vOuEvr09Avi8xptEOwqZBjr4Zws9iMIcPLEmPj2czcC9HYTUvY3Ijr0P2TY8EXcwvMTiZr2NJqA9pgXxPY7Q0jtDhtY9eJaavG8gOT2Rrvg9TjN8OxCNlj10zUo8xOLEvVrh3jzO33Y9obmYvO4Zsr1FgWS9oxmKPN4F1z12x2q9mxXBvYv01bvR8x29erdHPPFbgb088pY89ZmBPMGnGr0TKsK9WdI9PRLsw72SXVm9WxNTPCAgybzoH+k9ozl8POxmjD17TQY9bzDRu+qX27uggYo8cifFvUq/rrz3W2+9ZGtwvLg6tD2Pu+68Lg4ZPH1NLr00oy+9LBrNPacirL2m2io8ELP2vYKcq7xEome58spWvSFe0r1ygya9mAbFPLYFbDzX3Mw9FlrYPVQ+NzxiuGC9P0UUvTwJqb1otro9An+QPU2/drv4VRS9KjnqvC83/z0bAGk9ozHEPT8BoD0zAUO9m3BKPZbvdD1mOd48uQmFPaPx3b0hdDS9B4Y9PQBULjzCmpC75LI8O9wUzDyLIWs9V5ryvT4krjtSNNi9YQrWvKRqTD2kzUY9gjQZvHT6dL0Jqs07z52vvaH9tL0CY6M9JteKuPjotL2EVdo86WeXvaBsMz2AwLS9Y8vXPXsBH7yzeVk8oWT5vNyxUjv6LMW8t2qOPU+32r1O9Qc9nZQSPUSM2T2mzH69hOWjvXaCKD2N3bS9MEaVPSEoZD0HQGg9RfUEPGzJcT1qDiW9ORlAvV+Xw71nH969NHxfPWzN9zykgLG9CmE1PGJtq72k7rE8/s98Ozf69D2Y5wu9prwoPUoPZr1cxRk84/y7PP8nuz0NDd69Y/QOPOw1Kz18+s+8xWuSPCuo1D2NYlo9C4BWusBO1L1mpu89k9aNvZDZsDy/gIo9QgRWvQXjh71Fapm9hcbpvS93+zuA1sq9MvZ0vVrHCbyHqd48wVCyvaLyRTy+SbM9M7tuPTA/Ub1OZ/W8jic8PMIZ5714QQu9N0JgvS1atL0OCL89T9nMvYwJBbzlDUE56+F6vRKXCz00AhK8HF8TPWU8rLzzk9k9OB4ovXB5qbvzJOI9GtcAvYz+y7yieZW9Z1xevQVlVLuN+Z09pTlrvNStu72CQTm9fiLrPaXX+r1nn7A8MnAhvYfVbDul7dQ9IP2yPWOQ8bqnJP89bccXPIXAybztniQ895b1vaD4qj0RUsI9j6aVvQ/jKjxQDu+9FgIFvQFkaTxsT2E9Nrk3vROAnL0kYJA9CNvfPS2zpz0iYPq9i8uUuxclxj0zFSI8OQw8vThw+r1CZX29CeW2PSavJT2K0uE9Q4N1vDVwXzyd0q69Ur/fvZfnxryq1I+9YQKxvaKJhL2QyN07imrPumXhKLyj2Bs8sBtPvYVgKz0jp/k9L9S0vSIEszyk4bY9SjwsPUNeqr1Suio8RgtWvWypGj2jryA8nwL9vU9MDj07VwM9P4D6vLRKqLvorWO9A2S2vTJMBb2H4Bi8DEFmPQ1EsD2K6Oi7xlg2PKGWnj0oyjq8EFnnPUXlab05GQs9ln5yvaCJPz1qDYC9dUqnuwH+xTvkyNo9oLkbPTQBGTy5k8a9JHiEPaLCbj2WFx49AAzPPSwZXzwdslS9iLeuvYNYjbyIUJ69GOuTPaSUWr2gPD49SEqZPTc1OzzwsnO9n8viODTaoLxsvcQ9jByyvU8Ni7x55bK9dnVZPNAuGjxgsE88m/dBPUi8lT0gOIa9Jnj7PaZFF72S/r+9JhKiu97WAb1XpG48aTQcPNemTLzuJL09PXHpvZOKmL0pzzA85ilWvQT3wT0ntoE9megLO2GRvj1+k7i9ExZQvFLWeLyBehe9TkMPupgqurw/Yl659ZEDPN5x4jyQpES8m96Pu/oJLDyc3V09DfLwPZkSCL0XmKA9e9YTvRV6r72DbZi9SNUevNDtGr1yIyu9fbjRvYxo7j0Og209prNmvKSJFT2mqzK8+EWbvU/OA7uBkYY7pi/NvJJvZz2HtS285e1yvPh8erzEe/09ghD3vOCIyjtEhB29SfKOvRq3xbvzyac9YGscPK4K37zj2ZS9SiEjvW1fobvc1o09m32LvZ+Obz11Dm08xndRPaB9V71wYoG9ktL6vRSajD1n7TI9QmTrvLAIsTzg4jK9KD9MvFXxHzwCMWS84fwIPX4+jDzLFJa9FH3wPCqO7700EvO9LI/jPIsOzjwdIt89Bo1xvTqRaz2dBVC9JxDuvCcg/rxzNbS9RLxcPTUG4T0Pi+44nroZvSWwa71Ql8k9erVKPYPl9ry02iK9mR4dO+ufbDxJBQy9cgVBvOJP9zzmnj29LhnBvYhg4T1pTdK68oDaPW9gzj1RJpo9NfvpPDSQPr1D/7A7b6A1PXFZib0buzG9dLBQu5zNBDzPXCQ9lD8uvQhgnL2bgiK9SVF2PR33ejv7Skw9kbtIPJPKMD1EeDs8YGaKvKU7PT0fvxK71v7lPQjHZb0X43K9gypFPZN6DD1f7VS73FB8PSJdlD2fVlW9CVOMPY5bQjyh41m9kRD8PaOBJj0XtNM9BSoIvLykYz2VHuC9IGVZvB7kZDyxXUY9k1pVPRfl/T0njYS9SXOPPGeJKj0+R+q9CebQPEhxoT2jXYg9QGtdOopHs7vwC0C9N5lsPRW5qzzrANw9DgMYu970tTtljjO8xpoFPQro2T2FofC9i9AXPZKh2r1KIJY9OyiIvUV1Cjxiy8+9N1WAOy+Bhj1D1W89IBlYPZqrqT0a7AI9loXDPW2tUT2ORT273FQ9vYziV7yA5f+9nAQDPNePVT2kDoC8ixCKPRNn3L2CVRA84pxKvXrFtj1PSYO9M6+QvOgEB7mbyZ29ps+gPYmZQL2DYQs9AyoRPXRPjzzKZoK8FSoJO1lI0D2cGfG9YJHaPZyvTzy2uL48lvNmvHxXQT1PwU67aeBkvOxa8zwo6Re7xaG5vVpkx709Qz+9PkMDvKj6hT2N0h28RiKbvMfQxzvMv2g7BIIru8Lxarze7sm8xfapvJDHYL0RxSe9j0mYvPogur0vQQA9iZ7ivQKsVr1TFse9ZiJ1PZsXkr13k/W8kG2auz85ODvf+b29ovFdPK0ivrwsHwQ9f23BPSEpA7ytIug9CZ9svQxfXb1glO08zPBHu+LHHb2Rs9e8YZpRPK3vyTwVR4O9AtXbvK+1Fj2OJfk9oqa5vZatNT1RLv68zq14vRQ+/zp5rfg8otmVvABpN72dt/69IhBjPMu2QLtaFB48gL5wvZgI4r0AWsO9eYQ3vFHF9j0d5Cq8ij8BvFYKej1DNzU7/+p3PU2Xpj0f0mw9kF/HPaG9OjxDBWE9XwSRPZ8/RDyX4cu8dH+SvQWGYL0IBCy9YoY0PZILj70javC9XUJ+PYjluzs0UkW8nRr4vJ5VE7y0zo+9Y9doPYpa4T13i6688Gx/vY/zoDtL7X29LvjNPUZp+Ly/xte9D5cjvSXeMb2T0uo85pIiPLXXRbyICXs8ljzePEFkRj2T7z49oUSfvOozwb1CTKA9hU+kvVwHKT2RiP69E1rRvQpOLj2SOWm9frWvPG5YOLznkua9j/dzvY9wGD2U4Go9LnY5vZy39D1kM6O9n5OqPR4Fxj2VbUQ9nAeFO8v69r0Jbyq8NEk/vaXMSj1+wsc9iGPfPXtF/r1MugK9kASevIVd870R32G9g66TvUWM7L2gEWI8LpB+PXU2IT2NT5Q8cfD8PYMSwb2N6fE9Ilw4vZmgRrwF1co9EKxUvZi8G71VTvC8nLgYPIiG5b0X8ek9mXN5PUwNAT2OxM09mq1evI0LkL019ic9TUXTvaKP1L050gi9A4D2vWRBYDzSLKM9lhqwvSi2fb2L1R09WkOZvaPofrzAJpO9lXr7PCShOr1MjAU8wp6FPI3KUbyr3Ig9h3rbvLIiyT1ycDS8jouKPT1g8r1Naw49cbv+vWwTnD2mAOo8Ek/NvLHvPj1lQ1G9Taahu40Jzz2Rckc8ZLIyPXEAK7zlG/Q9hqbxPGjnz71lbxq9XKRWOwlOLr0/32q9TTVCvRdA971mIHc75tf8vT1gOT0gweS9It/RvUhsK72LWCY9BE30vLyByT0h7hi9cogWu5FrlzzvlS86FBbrvZf9obzWz+I80hy8PRWYnz2JyFw9XSiKPR4Xfr1J0sg9nvk0vRPV+j0O8+s9gSYzvEAN1b1JF8u9iSHUO7z1BL18AOi8/fI8vY8BcD1IPm88weooPLp5G7x62ns9C9X9vZrTWL2bdd+8jaGDvYklJb0B7xq9o/DXvYG23rzoMYG9WGUfPRb9iLvc3RW9bo9IPUadLz189J09JMYivYr2bjwrl3A8GYbCPRvylTumq/09JfOwPZoX+rxiQm+9OXDEvH1WvL1eUmu8l58gPTNW7Lyw9LS8DkTQPYOMOz2GmxK9i8q8PJthED1zUHc9G1/RvP94lbv4vPA8aJC6PT2VtL0BMRM9GsT6OxJxHj1ivD69kCwrvZ1XyT2QOUo9Ee6POreCmjswhdK88kx+PWpI5zvFCuo8WAnjPTghzDzb6f49DorzPSxxc7u4ODG9n6xIvOF4qLzo9IE9neZ2PKsW3L0RIUC9NO7LvMFP3L1ry7g9o60ovHlQ7T0D5H49AFipPYAKlT2MmvA85HDBPY4hPz2G5A08TUCzPaHL1T2au1E9ljB+O3TP/r0X4Q+9n4uJvWy1Gj2cJ9o8awsbPDSq8T0ucia9oW9EvZkagL17/zk9mufZvQjV7jw+Zns87YKqPZAdzDwpa9q9Ku8TvTLprD0ynL29oHWRPY8UMT2EdfU9MtIjvZGdPTzKQp876wRfPY5VRry1vh+9XXF0vSUL+rrUo4E9DqDcvDYwvL1YF5M5BvTpPWTByr2d4iG7cYAlPRtIkTvUR+Q9QHvevU1v+ry2Aq89h69NvMYf/r1YcJW9hUS4umt4ULyBubG8l3acPULe/DxxmDs9S6FsvZUKoj1gCds9eEabvZXFVLrUAYI9F4EZPHO/+r069Qu894EZPR7PlT2T0F69fba0PF6G+LyaHJG9nJuGvOfa4D2Y23Q83uuqO4ETdLyrbNE9DtkJPTWmV70Krzm9kGJrPSqbQD1GZrQ9VaA1vZ9AGz2UMI49otLZPNjUHT2cwX282tRTPTdrGb0VCHi9iYycvQHsbj2E7HG9K8GuPYsC2jzg5NS8VauEPZ0HvLwKSsM9eKt/Oo2gsr0o3/89jsUGvQQFuTvXxwQ66QjWvZd3wD1EBau9gfwtPRfZPr2ko5e9XqbiPY51Hb2Uj0C8DrN9uopCJr1z/tY88ChWO6SjETyBiAI9T1ZFPEV2XrzIrcO9itB7PMxU2z2SX0W9Z4HBvOEzVjv0w6o8fJSyPUvqQLyFk7I87atUvS+YKzzcwaE9fIqhPJLd/zpTJgm9V755PYfpCj1o5oa9luz7PR1y7bzzYzQ9iEJPPSmz270SLP29pqt9PXo8Qb0uA/G9kmLqvMOdVDsZSSc8tv2tvNW8zjwtEXk8+0rUvUtuGD085Ey8m3E6vEcncDy8Apk9puUpPaTOELwQra09KkWSPZxGbLyZgL29hJPvPS+9Dr1Yi649Gx9gvaMYJz0ZoZq7iVzLvUuEtjycrWs9ZA+fvW3PLLtKJt287hNEPWm5tbxV5uA8HOB9PZUZNjzw6fg9dR7RPWBUb72PkIs8zn/UvZD8Cz2XNV88bDkWPP1aOb0VsbK9fWirOoDGir0ZQzE9nGO2PUIFED2Yqbw9Ur4oPYKv5jxEO109CXV2vaWqej1O+C69lDXJvWAjOD0++1E9dcOEPUxdKjyfLry8nA6Muk00vT1Ume49GlcHvY5qlLyjEDo9Gwn+vOqLLjyeEmk87XsivN51yLyUXDg7mc4UPZsx/T0PH/i8gREHvAITy71/GhM9BJ7RPQQchLz1sfC8wokhPRiXSL2PZ3e9o9VMPZ4sob2govu8wg4APP1FKb2KVis9NP0SPRWXmTyAnLK85KbjvV4MwL1NzhS9iNzSvW5+VzwZ1Vk9ah67vQDeYr18+OG9nuz8PI1JuL0O/EU9KXixPU+8yD1nn469pFAVPV4d2D2ipog9RprBO7h7T7xTjvS9kKUsvXx7EbwJPoG9NbO+vUpuYDwtj0G9C+2qvSFy8r2k3cm9mikkvSXqrT01hhc8oOa0O+fCZjxHWng88z5HPR6iwTysmfC9grdkvUXEcjxc7wI9FrfLPY55zTxMp2e8vUk3PTRfdz0cFQ+9EzSQPYEymD1cZ6w9XChFvX8NH7yYlsq8CG8IvZUo6DvRpu89ih70PDGpJjxYJ7E7lHD6vQ2iKr2ZEyY88SRfPAIqvbxse3i9bVITPWvh271duMG6+cfFvZNH3D1+zCG9ndyiPVVMqbxKYA88kZpgPF8pPzzQjbw80Cq8vUiR2T1tg5u9ncotPZf6xjyeGKK9M+s/vaBwc70ENua8wA9ovZ9rT7n9FAc9QCu9O6mWwj2Rvx09G18vvFsG6L0iKn+9LBYOu8RHsbzesuC8nDWzvPtipr2i+i28WyObPUsyp72d+t09WhYpPR72KbximUQ9ECh0PZKVqzyNa6U8yKz3PUPKlT2S8AK9QRXRvOBLZDyBSgS9LxfRPCMuf70nWjs9AI6fvV8HzTseaj68IM7xuzALWbyH2Aq9SwolvPfyOTzwHZ87+F9JvP5V/jy9Kju9RZV8PQprJrwD6CO9DnlIO9OdPrzdOce8VGqDPZCgy7ykczM8kylRPODyuzwAHfq8AiWtOS5Cw711hMc9b6j3PYSe672OimM9b95lPZ7xu7sQBWU72BtxvJ6F/DvMQAk9OjwbvI5X6z2dJtK9NhmXPM4p3zyF5bE9I1FvPMEsfD2Dgqc8e8WXvE1WgLx7pwM9huPKvaaIlr1GPIU9CJN3PKBzFj2L95K89eKQPSo0Sj1x7Wy9WgCrPZ0yajxpDOA9dpMHPX+2qL1EgC87nim+PYo6Nz0kj2G9EkVcvYmTCDzzYYg80wr4vJW31zqvlhm9jAbCPFNSNbz5z8q8NznaPDiCvbzqW6m6YowVvYDkCLweK+e9naD5O96xBT2QXG67P7tePUUEdT0jWO+9CyRxvQCaPLvl/G29KFnjPaXzUz0hsYA9V4fxvVORIT1fwPY9jG34vXZKTL2HZRW8ykGKvaGSJ7xbEkE9m5I7vaL+CT0NNmE8JF2AvY2qvr1znek869yJvXJ+cb2dRis9nnFnPCBGI72m7iM9CSuHvL7yBbwfZiK9Us8hPEPDnzxbh+k8cxTCvN78Dj2jaB09geLKvRC6rb2mAQm88WiMvY8u9b1GWO09PoakPIz37b1DO6g9mzmuvZqF2D2Swnm9dU8IvaRkgD2ZzWE9ClRoPWHMlbyRmao8y13jPYlKWT1Xa229HpcXt4ri1j2Sjw68gJbhvRQ2ET01dw49K//oPaTf6r1AJpW9HzcQPIIZy71NiMm9VtBAPOOQRz1qMuM9Qmmau4cMgr0Mf7+848HcvZ0zIr2XmSG7l3ViPY4Fk72FDui9Ouc7vaR1d7yEdwG81Fe7PZBYkbzIwmy9nLlpPTcYTrvU9JW9pQGWvKjFY70Tvtm9F9JkvXpTqD2Fsb49WZMqvV8GXzot/i09nyZVPXyEZTu4mRw9khqVPHN8Sj1vJXW84+K5vYwO872Yp2G9B09uPHpJ4T2OZNM9fQ2BvNTHl70P+aY8C8OTPQJEYLy5piC8mHy0vCL9eL2kjWS5P/K6PVYI1T2JmKa9BhoUPRunmT1EHwK9kxczvLJ1HL2VNnA8takJvXTyGryNtju8/fr5PNAOPT2IV2q9gtOAvU3wMD0HgHG9MPzMvGNjTzyRApy9hnwyvZ9bQz2hp4Y9E4+tPZQf77x7Wuq9oU2GvVWn4r2S+LO8y59JvCgrgDvQTeK8BOSuvT4bmT1AGZe8bK8xvZjPtD0alH08RJwJvTRc771qT7Y9dLYpvMgY6rzWrwA8b5IVPORyaD0B56c9QEvZvILc0b1ESp+9JJAaOxa6Uz2dLnc9nnaGPZtzc70zqUE8KVt7PThMabsZcqK9EW0XPWeds7zL4xm9Q4lWvWU93j2KMqS8SKdlvVH9Drz7KpS8B1awPaZyFD2WqGW9l+STPQMrd71JIVE9jQ+bPIerJz2TjRo86EPwPLUhOzsq//q9NWXwvaaMTT16EFY9DQBOvVLvJb0rU3m85TovPChk+71dPbC9KMM3vDZw37vylim9g9HjPUwCKLy5BVG9N+xhvY+Par11w6g9oAq3PV3QCL1MxaI7tVHVvYvliL2VZZe9C6zbvKOGlL2FgEw7951zu+spcD2faG29Csp+vTtXPL1Z7sS9BcnXvZDUjr2ODSu87NcfvTDhC72eNUq9h5phPWfaHL1Y5+c9dDVCPFTgqDwmUe69pNwUPL3m0r0eccQ9RdOfuAZQTj2Koq68k8O3vUxm2TtfO+e9lktNOoMBwzzeMUw8ovkPPP3QDD16MRE9gQR3u5HrSzxqp729Rp9MvaRxOb1Nbyu9ls28Or0XJbu1hcO9luBhPUWwSbzma+E80JEfO6U6SDyWUzg9UB42PZVJdz07dss9Q7G5vPI1rL1G1Ue9oGh2PUhkKLyCqka9dF/xPT0WvzylMxO8Axs8vBdXaz033Qc8ZYkjPAw807vArbQ8jjlMvPeJSL2AJTk9MRZAPX546D14EKs9IH0hPSirVbwnbsQ7wNA+vLx3nzqb65Q8BxE0vSkftDx4klE9iKaNvLrE9jvH7ug9hOJWvXbPBz0Adsc9cm0cPVOwab1TDS+9o9nrvMpznT0QLnQ8lq7KPQtIPL2fo4q8vbhdvFFsO705Ine9ljfuPab/4D19VTk9ZUkdvWZFOr2BXho9hUBGvTND3r0A1NQ9Y5E/vTCrJb2jZQ89MpSTPY/7tD1CeS07s7UDvS5xszzY9ss9A/8UPW76tL2UQ3w78NEBPZ8rbT1T9hG9ZVI4PTKnQD1aKGM9EnR0PZORj7zjLVw9gSZ8vTQv3TytNmY9I5E5vT8IwL0B/my87UvmvBPctLyT1N09YSyUPWxUxz0k4Xy9pqXvvXMFNDxfrA29nhS3vTntYL0ADFe86kZaPUDl+z2Fcpy9Okb5u/4vwjxhqQ686jQAPU0/wLy+QRu9AjV5vZ3B4r2ciNQ8TAtpPJP5XDwEfZm6vG7yvYo4Dr1fNx47IMhpPANWhLyu+Pc9PmBePGZAUrz4e3+9QWSpvTWrfL1XkgS9lI++PZrMvz1AsQo8wMFxPF1E8T1/Zn29BaomPWfPkbyUa0O8qf0BPYphyryyWOu9Gz15PVaNVL2OW2I9UfBhPDOh6Lzwrjm9bLLOPQMmuL1HLQg9mm4LvU9B+DziKKe9klh4umn5irzpEn09jhyCvYOnajzYIqG9iVxYvQMLJDomWIu8J2FBvNLV4D2bi809cCSNPUH/nD0hbBS9UM1hvR8OAzyq6Vy9mhi0PZTkyTvjgMk9Vw7ZPK/ngb2EqPS9S/k0PU7KGTzT5mI8kOTzPEmWLrya24s8qjPavF0p4D1Q9D+9kBDwvUOKfTykWIo87ycpPHh1SrueGZM8keZVvSFZ8T0Acqi9ifI0PWVASTsU8rg9ghVQPO26Nb048mo9SwjjvM80nzzzE349K6lHPEVDqr2YTrw8RIctPLOLdD2gt+Y9G/GyvJq8bz1rTbu89HnVvA/WPr2dKFi9ppyDvXr42Lv5Y1c9D222vJq1Xzx5TPg9NFSgvSvPRDyAmio9U55BvFJa+T0nx9u9hxK1vYCK9jzwiLo7qEIevT9LDDzYMVM9hf40vYJjKD0k34+9eXvrvSjAZj0Smy89M/IePYrNlz11QBe9ipEUPZLT67xuA7a8u9hYvXcgtb0jaWs874rLvWHz3ryxE1I8l7L4OjM+dTsn/308j8d3vUpDXj1LrVo81xcfPZ3DMj0k5y69CgcrvZI2eL0o6H28o1tIvWOOVLwUccE8nwHuvVDMjr2Ka3A9JzTyvX50+jy2zDg9WIliPVuPfD14/Qs9BLsEPYUvXry7wg48tH+6vYA+wT19hky8Z8l2PKyd+zxchGq9Ack/vIeYMT2lbFk8tFvYvYlOoj2GzZ+9UTMwPNQn/TyS0ny9CytUvYv5ub1rEEg7iiX7PMgx17wCrUy9m3oQPIGcoD1ND2+7BEY9PLoGfr2bj6G9nPHivZF3nz0vviM8qGnHPZZktDz/wQw9LwK2PVOtnb1F7uK8mf/JPXL+kr0bHO08hZsBvaYDtD2DfBE9TNwUvOBcRT2hMRu9F6VvPXiOELs5p0o9EyTuvTqjjrz3rW+9k8ZLvDE+mLrPFdI9Zc1GO+c85zyjWoy7qWLUvA57Wr0RSXS9bthfPJaYubx0Usm9f26vuxQ/Fz2Yt909jgnLPZ7L771NpEO9oAMLvYeBYTwnn/Y7mvOHPZyIw72M8UM9VzxoPUO11r1Z5aS9OmiivWkBzj1CHg49Qt3+PY11SL2e4uA9BzlgPWUb5706vBy9cZXyvQrM57x1njO8E+bTvDMX9b18S6E83poePQ6B6j1fHta8DQYXOsnngLwLq8Y7FjdbPZYpZb2PQQQ9dO7HvDEQDjxch668XEqwPCjsmryvFYA9kZzovBV8Nz0bCAi9cQb6PM5tFzvIIkS88LL1vYISJL0JqSg9li6EPYxARD0xWJ+9VtbYvWfRX7m/2Jm8D44Gu5jlYTvKiia9UCEzPNtf0r1gEdY9KnAxvObQ5r01TdW8sPlbuoKnS70R0SK9DJuhvK+9zTxIOV84IOQCvYpJC72Q+be83LkuPG4R1718WZS6TN3dPQmB7bzI+ew9mUkLvUBNTr2jL6G9li1cvaM2Lr2NJGs9ncGqvZ50JTujSVw748RkvXz3Ir2atie9RD2zPK93Vj0ZHnY9mAjvvYP7tD0PDdO9DvJMPUujiLtuaHi82eLTPYKdpLygbci8hb4NuiY9wz2T5lk71zw2PTUhoz2a+689OwSjvNMS/r11Btg8hMQUO6S48j2RAxo9NDImPY6iiD1skzg9pJa3vZw2Dj2DhsC7SI9uPNzC6jyF/Z28WHgdPZjU9z0zjme9knD5O+hZ3Lwaa/O9QWEJPNst6r0FNbw7JzSsPFt3070bDHs8sA6nPY+SkD18jeC9LwKevaIrdL2jEy49WR++PJ56ML1gXlA9j7P4vZrhOb2Qzza9cQvyvWk/Rj0OC2w8jifePaAwYr2bhEy9fTkWPJ8l270CfH28wtaovUZqF71IomU9lSYkvML/ur2UP9C9iZIXvX2LjTyhZ027ENTJPYyLAL2Wn3o9St8ou+jbhbsKuoC8G+83vO8h+j1cQXO8GpbRvK9S9ry4PsS9ifNMvK2b5D0yhzK9RcqxvI2hab1uBp89GCXJO/YADz1YSXQ9aYcRPVz3wT0hFKy7MqeRvBJRWz1DGH88vtPPPAHALzucn/K74KBOPZfwITwekJQ8mC8TPQPHer0tAse9J5WkPZNJqDxzcYO9l72fvQYRyD2aGn49cIS5vU7Zqj1f/q49XypCPZs51bvvG+89g5LyPaKDrLqvSVm8byiNvZH5M7wOa3m9AShWPTCPCr2J8A67QILrPYmHo7znO+e7pwrzvYksBL1w42g9iMXsPYnLbT0TooE9nF7MPZF7ST2dY7Q9OspKvY8T8b2IFIK9E78dPNbVWzy9Ob49n4SYvaNqq70SADQ8DZxzvUtbkj2C5Ws9f6FGPSZduD1LpnE9n+3DPS7W8jzXuRi9fH44PQ4CxD0Iuno9jwhOPNffeT2eDeO9COUtvUH7BT1TwaQ9oMM7vESasDzyP6y9n/YnPRFDGj2ENCw9UX6XvYtqCbzyvCs8nKBqvXNwCz0ku407gpXnvRo5sj2UNBK9fZLZvRAJ/T2fYfQ9RN7LvSIJpz1k8Qy87MCqPD/yuj2EHpC9nc8kPP9bqD0aDro8CO13PTXXFj1MEfk9fhu/PR9CcbyAIXw9dUfyO7lxz72kwlg9Hwn7PQLFvTwkd8A9bt46vZ2hsDx5cLA9R66jPNCfo71SpCk9hPbJvAgQpT0lNOe9G0n8vG+k8b2KDl49JgYhPTe0RDwKY4E79fHFPXHvnr2Jvf27US+6vWMcxL0s1nm9lTKXPVTff72TlNy9E3IpvZ/+HDwXt84824NCvY6rED2kOXW9DB+rPQTP3jsNUDC9K3/SPY3e4zy4mmo9h8vvvYz22L0JXzG81vLkvZKVVj2HKJY9ZuTIPZuUALy2pew9kS2/vUNQXb2D9ZM9OtwjvHsgfjz4PmG88BgHPMQG7LvYDwg8ZXkDvYYTADzB0SK9EetdPVZkDr0a1Ig9UlMvPMqhF7zslTW9GZpBvZUO/zz0vUw8ozcyPYgrZz2Wfsq9hW34vQUFMrybwj+838mMvRmCo7z2fUo9bw5CPYHoMb2PfsE9mzXqPLx0QT0vS8K7rvOdvR7s57vgaN29VC4nPUC+tb2THxu9D6HvvZRkwzye6ee9HRLRPSF2azn2bH29IxCGvNjMgLxIIvU9fgoHPIIBfD1gNiy9cvpQPRPyiLvsf8y81dNIvIigPz0HRkE9Ox0APZi+UD182Kg7hpZHvRTqvzwXnDW9O5jpvaQrt711QKw9PqXaPTg3vjsX1P89iIl6vYH/0r2Tcg48xS9avM6CTD2AZs28xZ7ovJTLdzz2NzE9ZKfevT5vdj16z6Y8Gha/vZJHPLzOqF69oKABPIzROb2EaEo9OWTmOijyzr0YR/g8kDkuvTqU7j2E/ds9VfvXPX6umr2lT7u8n5z7vBq4qT0ViSs83QzkPQnJr7yksM09TwinuyHpnbzkwcA8OCA6vQ1hsT2gVOk7unhQu7QdXDwXWBK9H5Q/PIMauj2CsB88oaGPPY6Q+zwemJ+9VYfgPBqeHzsw9gI9SlggvKPNfT1HQwk9bfdaPWTOSDwQSdw7h0JRPUULD7zvCy29BEZPvTcsLT14r7u9DOkovR1I3r0XLdy8ASfzvXk0ozyisHk8PRSovI8EwDz5p4o9j8qWvLh8zD076XO9kZYavSIf1z10mhs9CsgLvVni2LzJ0VU9LL40vTrrJzzQjcs8wQ6PPJCvwr2fica7QmvWvFYARb0nXTu9Y8vFPK8GBzxZXuY9h2gUvY0gsj0dufk8/Vj7PGvavr2AwGy6OgnsOzbjD70LtdQ8cD49POZ+nrw2c5G7YJ7BPK7xSj18Fjo84FjNPP8RkDz6BTG9czhBPaQVQTyHLq48hg78PZOiBz2KcOK9nIe0vYnF1ztxvBM9hrNoPQ2+lDxeaK29iU42vXpnCbxahCQ9ZQAKPA/+yL0SFc29jfRgvYbGQj2Mswu9hebtPOznLz13sis9dmbwvZOD4j1Ky4e7lbeoPYOEATy89mw9mxkMPZFlUb1DIZ89E4j9PZrjnj1u+Mk8qoq6OnhlaT1vvx+9N+ctvQwt/L0SSHI9nyOLPYM8sz2ZAi+9BJCcvF01bjuMMYQ9pU3wPXzZzT1Gxf88JK51vW8vP7s+u6Q9Tuq4vXb1iT2JEKw86ShAvZK+sb1iNL+8k0cKPKr/0L0Mb8S74A2VPJCk4D1y6zO9VnIhPTEiSD2j6ok8bnMgvZjWCjzyTZO9O8r+vDXDp7yoZse9nhohPYjAdz0AYh89bN65O5/Xtb2cDxK9o+tmPS/KXT0P3308xlIRvXInoTzpEPA9Y7SXPXuHoTwVIgk9hn9FPWfEKjv0tq89kNdvPXl7CrzLizk9lv7WPXY7ijzMAXg9j5lOu/Ck6r1hdTe8kld6PPaKuD0DTio9g7a6PVwNoryq55A9jrhWvUfRQr2VnJs7w76aPZN45TyEraA9doRaPTvnFzx09Ly7ITfyvZ04brwcoxa82a5iPRjy+TzXFB87RPDfvCjHaT1Uol89RomRPSk/BDxQfPS9fT0rPTHw7TyIGem9kbh/PTmQ/T2dZY49hudovHiKmryet0K7gpcMPR6xgz1S4788+l95vYafkb1Lnjo9SfP0PIx/jjwWSR69lR8/PXM02T1E5ck9RBMmvaExXD2j0Jo8G45rvZFpTD2BOk89oZfZPSKpVjy/Kzw8A3pmvWOPiL1hP2m86/5nPTgTCD0WD729XF2RPYvA4D0cmYY9WLURvG86wj2jdMw9D3B/vWYxqr0a1ga7gkFlPBqHTT1Cpqo9YYo2vVNyOTwB3oS9YNWqu/Q9Wr1XSB28aiOrPKTVDjutRow9TfRnvNBRSzvN/a49dqvhPTyE8zzeN3a9GyMsvTl4Pbt+vEc6h9JYPRWJVb0Q81U7t0LVvK0oub0VOGi8tA6QvZ+Ba7ycrCG9ZTgAvXF8XjzBDfi8UmXAPM7Uubza5QW9c+TqvYA8QzxwBuI9cjgavJhgK7ykwdk9jEdZPR7zEbtW1uM7w/NEPKkIGL0Bq109ZGVQPE0ip7yMJ6g8NzI4PLiWZT2ZW2e9oNF1vWdWp71OgXm9YnSuvYO4PDpzf0W9HFE3PXFRtT2GKFO8mwqDvZ8/Jr2J0iE9hasiPVaDJ71epm873Qu1vSoMkbwSLkm8zo4jvSEPNjxhU7A7gvjyvLAdIL2ftUC88WQZPKcbiz1qa3a8E6sEPZGHP71YqaM9gnoWPODr2j1EdKm9TeIvO7JW0T0oeqO8ia1nvF6R/jyN2um9RP7Nu0trgL0EGH49i3rMvZ3Kf71Pl3g9BPVDun6xgL2FODG8qliDvPsMrL2l8fs9FuUZvP3cDD10dpE8nL6vO8NdHT0w7bO9gT1ePBsX0rwvik08oHa4vUDcvLyprf07sVCkvORFpLtC2T862gIoPUapt7yFDlI9iP6gvWK/QTvEfYA9Glr/PWza2D2ZWhy8DQSKvWrLHb2BUt+9gnh4ukSeFL2c2OE84UyWvaGeqb2O94o9hzxZvSZVk7zLMjm8yHXgvQn89rw+tCE87g8VPYp48T1eD/m9XnvtvZ7szD1zMyo8CWnxO9TzHD0gWNE9inGOvQDfiT2Llai9JQHUPPTiLj15DBE9ctvXPVrOV71gM389MWzPPXUokz2NGQG9iLIcvZrUhz2F5PS9Lc/2vSNeyb1LB0Q8K2CRvTzJI72gHkq9UFkkPVIp6bx8dco9dC1uPUlSCL1iP8e9fQ+7vDFRnr0Ao709hREWvVimKj1HCLy8/hhjPSaWyD0b+wa838EDvXdAE71fFHW9QaHmvFQis70aP6o9IKtYPYyLe70VDHi9XEsBu+RbXL1KgzK9gTIdvXBc0byxJ5y8AhLGvTBffz1muMM9SEh3PRyzaD2JvUm8TzAcvG477ru0Idq9nGn+vQV/zT1jsMS9GkYTvaaPhL1+wWI7ffSQPXVlwLxlkru8FQJGPUr06Dyg7Mm9hHbyPUGhoj2HR0Q9nRIovaGoPj1lDFk9QK5GvSoUFL2S+Te9hOJGPI8U8DwLr9u9j76PPJMA9r03jbU8nAewvWpgD70Meoa7TbHTvSqauz0n3W69aL84PZdoUj0oKiQ9GlTFvXF3Szx4ItO9jmn0uy3WATyu1oI87bCtvTtO9T1mnqi9RUjmPaPsVz1m+/i8zau5vOX4PjxPQfM9A9NTvQmGhz0ZvnQ9YahuPZ1I3j2aIN081l6yvJVXULwDgwM8Cp8RvMajbr0R/8a9DQeQPYfaO7wAVSw8rMCaPaNsUjwqwRu9kRxoPYEiQbxlI5s9G3N0vTZFZTuoCm68AMxMvWfyr72TtDW9hH2mvXTscL19Bfk9AGxCPWUCjb0nwJy9JV/CPZju1b2Rop68BnSuPIcqo70Ojoo9id5KPWoQhjzH/Ok9Q7OFPYLA8T2GGyC7OSOBPPQoXryeTig8n/9ZvRwiMbxAEEg9ePBOPYxhbbyXGRS80pEBvM+skL2OXI29Hf0PO6ykOr2L4cC9g47KPT18qD1jQui9jQgdPZfkY7yFw2a9RSAdvAnBTruNh6G7ifrevDS4s70Fi+a9j0fcvV6PSb0xv2Y9coI1PYXUSD1ndFU7ckSYvAb6oD2f0Aa9VY28PC5SkDyucwS9FUHRvaUah72lK3s8169RvYLD/L1QwqQ9pV7mu0eRqr2RBKA8vIfpvUjkyz2YwQu9Om69PWgQvr0a5z28rO2CvQGvyzu8U8I9oaJoPNZXTzyQYOe9gEFdPSYBSzuKyxO8jZrBvTffSb2cgkK9Qj/JPUi5Hz0EFs88CF/DO8m1nbzBuBG9XBrcO47FP7zXsYu9SdI2u5EHPjyQoII9UHVKPN296L1Wzmo7sAgAvY6j1rzB37q9BC9ovItt7by1fBa9dTV3O7yJ5Lz3cgO9g/i/vCwQ+T1nKXi9UL45PTZgmD01MDe7wQ1RvT/zKj2BflU9EqpavPq88TwZx+q9kIyxvYsvrL2QTYa8xrMRvTbRoD15aKO9XciVOYGT+T0FGnc9ffQovKn0Or0o4di9eFkSPW6S7b2SNie8dr1IPUkvrbqykv48dn2ivN/17LxFPCc7/ECjvNqEfT1dvMO8ZbGtO+ZhBbwAm9a9kF+/vZjWsT0wKq69Y/AwvUX8Zb1ZEOy7kBhWPY/r770a8ka9NMwfuJnT9b2XLA29g6SuPXTerL2QdRU8epIEPXgBAz2DMzO9hp6vPZFNF72L40k8xqjCPUoEarzuzF49er3nvGA80T0UoMa8rBQtO6oM0zy9Xca8rTm6vNdN5DsAYXW89MxNPSXzQr2Mg2k9m57SvUm/EDye+nC9izT4O57eMDtSL3Q9JUldPInHwb0lDOK9o/4svRc4PzyOHkY9TokbPRDaXr2UEdo7UxkivYlieT2UwvA58y7tPNXFGDujRtS8J1XyvYU5k71uifw8EvnWvLRDrbzTEwi8sOvyPTCKKb1aJ2s9F8cGPX4Z0Tv0SxG6N/4Ou6bd9ryntI48zTfIvWz1vT1gEdS7+vuCPVis+bzq9us8mgRRPPfrLrzGK6a9j0y5upN0mb2hUnA8uhZKvF6wnL1a4QI9nszau61cBTyQ8VI7gpshPTgeX71ZusE9nu5gvVtkB72jGqu9j5s9PZwUYL0CURi9inrzPDHL7rv9Lf49fKTXPaHn2b0uj5A8Pu/lvXsqnr05ywI9e+64vZoblj0FofQ9jbppPRFcKzvYSIM9prC6PW02ar1NcMi8okytPaCo9b1i9gM6QEmavVNCGr0X5SS9jl83PaHsnT2U7Yq6vnc4PPcwnL2HsI88++qZPQTgar0fvCk9lAR6PJUM471qbuk8dA8OPMbvxjy5gEI9iwRNvJW77D1Mfs69jw/tPABd/bz1gTI8iNgYvZA3O7wOyNe8Z5VKvY5PHD2ZPdS8pS+1vUQMQL2RJRW9Gw84vLQMRr0fHgS9gPMgPNh/kT0RTHy9j5B+PY9ouTzqZN49O90SOzugDD1xytq9dUucuuEQkz0riDA9H8brPUax6b1mPL28vqTnvS4IGb1kuYa9nCUFu5CSfL0OLfC9KCbIvRvSAbv64cm8FiQXPYyCuD2QJFc7ZfMfvPbvETz0kea9AiMNO2BfO7woN2E9ntQlPQEvHbzQ8fA9izD7PIGpbb1AcZw9nM4TvKZlsb2CxXA9aqeTvP8vI72hWgo9IdaPPW09eDyRDwu9Vz5zPZXOY7zSWu+72rcDPULgpr1yTbK9lZ/qPROpxr11Mmk8auT6PVISCjqoLyw9mpVUORsnnz1AzQE9bkv5vSF3vj2d+7c8fXdvPS13GT0whha9NE2/vWjvBjyodM29gw57vT2xKDzrEOK9LlIIPRguPz2bDY89CqyxvIgpbT10ezE8XSOCPZmCkr0bgdM8Su1vvYDzvD2nJ7K9JDKNPWicWLy4e0S8UA92PYRTdr0qFuM9HpS7PXOpcT04UyC9pugbu3vyVTyRd6K9earju8XYrDtUAVm9lpCavTLpEDxAdk69N1aQvZzVzDx24Ne8wYnPPQnrBbxNZnc7zFMPPYdUIL0vVwM80/DqvF5fFb0EfO+9G+jQPPF/jT18yxq9NpCSvNhN5zzG8VO86VlIPQVodr2TPkG9EHpEvKvNCj0v4pU9fhAHPNcurjqYORm8U46MvZ8sujvmvUk8iGEcPWxlGzy5Ua49dkAvvZErAj1hTT29HoAbPR0Thb2DGaC9b1CRvZyy+L1VuWi9cxSDPVTyRjzDO3S8mLIavRegiztagyq9BuAFPPtKLbvTXaM5WczsPZfV4z0DFwM7YrevvaYhCr02V1Y9DflBPYnDgr2cto689TvFO+A08LyE6PK7z6EIvQYj87xIGx88KT5AvXrE770RyEQ9plHEPGiunTw2TGC9oBIYPZQ0lb2CTF+9ii3RvLfyOD2M/i88u3NNvXVa1L1sBy49D8+2PV4pWb0ypys9D2UEPTBErTz95Ac9j22QvXZauD17vfo7v//0OnOYGLzeSQq9hLfgPQO5Lb2Dupm9P1usvJfDoD17yyK8NQ5uPTvZUDyU43g8VWGVvQj5rz2hesq9UPe3vZ6SO7tSHQA9oHuRvZf7uL0PXLo7qkRDvWyyALzlzdM9jAifvQniPr2J7Z88oZMLPWQ6cL08MIa63I5gPaEK4r1Hzl+9I7mZPTKvPjx5REY7Q0dQvCviuD0CJjU8CPK7PEB667z8Qhu7xqPRvVZ5nzs6bV+9l77NPS3XdzySI3K8X1VCvZ4RHbw4x/o9paudPaOFAb1CZU69GcBlvS9zmjsVtDq8mdayvMrNFL2YJdQ9PydGvYLaHjy7xfm762KtvYBOMz2RG3K9B6EaPYpBm72Nzx09kH7MPTf2Mz1OjB49guFnOzEj5T1IGCy9NjMQPVuOfryLCyG9EMVIPXEDB72ULGA9k9KZvLYQ1Ty3lxm9NQuqvIOAizrkGty9B82XO7ckTDzXUPQ9CWLbO7eFdr0LklU9Fo1gvWPG1zxFjbi9hmvVPQt2p7yhgR+7HmrmvR3Bnr2mU6C9QEG7PByIg7z3cr89jX7ZvYXP0z19cOw9oKd/PMxHcr1QGvS8TxqDO3nHRz0WaYW8esQmPJGVAj2PnYw9QheOOxEj0r2CEQG9MyBWO+P1ODza1vU9BlQqPPQXnDy5doY9jcbzvYyW9r2HNeG8+BMRPJPxXDzrMQO9GOpEvFYxq7yZEBo8r+ZsvZX7JLy+RGk9RCfuvYhVDr0euqu9QNyKPZcFzr2CumG9Al81vQaejr0f2ve9Z7+TPCOWPD1J/qa8ua/xvIeFOjxouVk8/eNWPWY03rtEN4a8QFcyvW6f8D2VFP89AJTGOyNGbLyJwyS9Vd6KvV99Hz1MyqU8j+0vPGSwE7087nQ9l3FTPWK4F7xtwkU9nOwZPUtiFT1/0g+9mGyAPQJbgT2cLnE88BVAvXRhyb1stUG9gLkGvaR/oD2m5nc8kIJsvK5/tzyzeSo9LscEPNzjX709C/U9K1MWu4MmVz2jAcs9ZnT+PLZtDj2GBO09LL4kvCzhTb0Wg4m9Rpr4vQjJArzBvVU9F9naPTyDxzynmim84lksPPuM2DyVyZq9WGpBPXJc5TzzpTg9plsxPU86IrwyZj+9ftLdPU1SVr0OmIa8mvrgPEEWGL2Uh2C9MgTUvZ9Sk7wdf0E9etpjvWPteb2MvJ+9Y5UbvO6zu714k3g7wRVRvP6zIr2QmSK8zgxlvQ/UnD2Pzju9d7d/vWHTNzy25/q9XlGFvWM+5T2EqyG9Ye2xvVkDZjym9n+8fdOJvY0wwj1SmqE9CdtkvJlTPT1U2HQ8+VqGvZ8UiTzR5Oi9lQKfPS4avL1jBAS8B7R2PR67NrxIbqa9oe+uvLpvnjwQ+wq9dga+PYUR/j2YlxG9arLQvVPOfb2j71k9lQF7PZwojz1NC0g9fj7tPWUXML0LEfA9ODGJPY8qeTuNf2I9KCIhvZImyr0vRHO9W+jCvFt3LDxNWrW9RtuBvQKocjsNDrU9iieXPRTNuz2VeHO9HhegvIA3x7y+uMg9D9okPG4tRj2Nvbm9JIEHPTqh4r1B81g9or4APVg/JTypUge8tVqcvB4jFrzRfa49CMxBvKqrKrwhecs9CO/IvO3E2D0SU5E8jsdpPaLpJrzGcmu8URe5vTp+O72UJr08IjT6vVGzj7vHLNM9KKVKvWcWYr2fCqm9n+LdPXIYgz0ntXc8yxagPRiFsr1niL87DoKKvID/Oj2NSca9CLv3vWIjcDzL2IY8DtmzvYOr+Dy123Q874anPZG/+b2PluO9ddVLPNLvCzzd8LG9WGlmvQpUKrzypdY9JKaWPI28yLwa47u9pBgiPWGVIjyTmbU9efjvvShZU72VRjc7iXbsvK7oOjwoGXQ7ypd1PJmrIj2RL0M9ic4vvCI3BTuC8r27sFH5u/a6Dj2dbfC9V4SQPYeSJj1mmEe9jbGJPZViPz0ugvY9W4q6vFmoqz0/nT09H/OxvXgIUj2Pl207f4bFPYREzj1VYpg9ob+cPTLKGL2Urp+8FsynvP1zXzxwzZ49IQNvO7lFjrzJQqc8kTWVPUCjM70WEWE9P7WAPSfZJb2Ei9i85vO5vWXQnTwNLHi8ZKodvRWkJbubEWm8S0v8uwM+1r1nDdo9kxOIPZYJ8zyNUPI81r+TPOrpDz1/uM29DGkavGWMh7y9ch+82SRrO6IOxL2gRYc9JEGmvCC6p7wtTkO9LfHHPJQMtr2hPcu9gOVVPYpo7zzREwe9SyrqvUU7xj16aPc7eCnOPXoIxr0b+de9g5ShPJUgI7zvIII9lNsSvIBIaj09wxc8d7Qwu/i48LxWgcS8BfDRvUNmUbyFnQY9YTx7vVFmyj2lWYa9mcoyPQVE+b1v1Cg9lJhWPOA1Yr02aPE8J/99vYYQ0bqF0pE8GS5fvZxpVbu4Hwu9cLXmvPBU270dNk09FIp2PYFDGb1UsCY9QD7NvDRd07zApwc9m1HiPQ2+Tj1oUla9c4rjPPxbzr1eUG28v/zUvKboNbylxa26lphbPS7h1r2PuMK9SIoYPX59bj0exS69ZmmDvVNJZj2gGa09laktPRI6P72JYRU9JOIevaEu7LxkA9W9kJFJvUMfSL2a3QK9UA0OPGOc37zcfdI9nGT1PLagiT0RqW69kYMIPQNMv719IhW9IkZjvZlsEz0Ik3+9SVDuPUY6MbyJqJa9UmCJPaFBez0VwOW9CBILPZOtD72I17M7/11LPUTK4ruy4WC8jUmjvQccRL0syYW9RqJWvPpZWj0UdKS9U8wAvWBK/r0E4LW9TiqMPPQnvD1xtBA7DmOtvRQBwLyYIJ89pUPbvPD8tT2AsU69Z1AFvXN0v70PDlW9UpQjvJf8bj2VrZU9DixZvYKymz1eDxk9Fe2jPZsZrb10mwa807IgPZrLRL2aPUm9mUO8vLckNz03iQa9iSGUvGShn72bNmC83ZN4PTD9zD2S8YS9Rw+wPHeI6j0ed7e9l9ZrvYkCzjyqIxi9neAZvKdv1LvUOms830QnPK7kADzDY2a7DMeCvVQ/oLyIPRW8IgAmPZPY+r2SNNi9iE1TvTHj1Ts8dVE8zGGTvQGtd7w+aTc6BoSQvaMJEDzKpze8OgDmPZ3hrj0I4ly9jEyuPT892r2bXCw8PwVpu2NQNDyihXa86sTeO7lpkL1ETuY9M66SvLGtb7xrld69g0uKvVa85D2MrAc9ociEPLU+yj2IduW9git7vVSkz70e9wo9KdO4PO+UKj1uJFo9EJZIPVsjk72egb28r9iKvaZCgj2lFIs8oZ7iOqm7Vjx7CKe8fJogPTobqb0XGSQ9R5j2PTYajzyerPQ9hP60PRjPozxUciW9kRfWO+VlYDyJuZe9XIjAvX4+cr2SJ/k7WaguvPbl7D2djRw8yAHuu5ZIgT2ju8u9MCM7vDyxND2FmSm8ipnxvZucLj2HnvY9NwMEPAQI4TtW8Ia8GFt5vXRAsz0QIHu9oxLuPVzFnzxqmbI9ePdJPZNnDz0yZkq9looTPQt5orupGlO9VCb9u/XFML1wvRi9i/0FPPgdDL0Kib+8gH7FvKB23TwoABq9Ls2Zu3vuarz2/fK8Tu7KvQNOMLzppXA9BhcZvS4SkTsm4y89AkPyPULpHD0/yai9btXcvW8PYbyPWM89S0vFO6afVjy9HFS8piPsPZMQK7x9Lzc7uiNQPUSODr0JSN8632DPvWTUl7z78Km9g3qDvZ56Eb1HaCC9DGwxPQZJVj1F7F+69gwkvSi5rj0atuo9h/HZvNOGbL1KBIe9giDdvZGEbL1e86q7zBJkPYwn8T2RmcW9SvyKvEJLV7zVCHY826IavZ1e/Twa4zO9od+xvWEAKbvSN7M9n3t9PBs9bD2MlDq9ncaiPMm5tz1Qihw8hVkSvAaMpTwlHHq9Df3zvXKdUz2QY2m9j5B4vVhVmbzX4bc9jW+RPQoO/L1PN4o9e67xPWnHUD2K07Y9hcIKOul08LyoX3i8DCnivVnL372dj2A9I1ScvL/NBr16XiY9ZWW8vGETo7yVucg9HAzVvXFusz0kS1i7grs3vZV95LvefUE8kOVHvTyrPD14IrS8c+lLvXX/bTuNGmI61x+3PYuGAD0PQmU9n5RAPKngsT1dAZ29BCUJPZ2UEDyAdh68lMLFPYSJDL0Y7RU9pvo+PY7wkT2N0v289FSVPWBj3b0OSSs9VDFwvKoiA72h81Y81a6pPRKF2z08FBy9TlMQPNF+MT2WOIA8urgPPVCOJ71q5GW9oP8JvZD3jT1mgz69iXQkPNGWqz2cey09XxlZvaKo570Bn8C9h1nbPW/x4z2hc9k9OQWKvZRUeT0JcHG9F77mu+2T77zBk9o9GYxvOaJUabsPsCe9g824PXvRYz2cPli9HHspvNmiPTz6Dq69NtCtvUcHwj2CRY09eupCvUk40ry5UsO9o4XNPT4NIrzw0IS9mNUqvaR7OD2dUu49j5/YvTDoSr0lTgK9o8w0PRSrrD1naiY9n37KO9LmRLwtfFC9Rk0DvV7krDzIVs69nuewvR63cT2DMmi9P0EEPXuqczwIy3U9QoOhPH2+Trw0zwg9bd+nO0tVSztZ3G+8MjdCPVDewLzVnFS9VkZgPZQU170tjKw9hKcCPY9RiTyZObQ9QYyzPWDKY7wpT0a8sjabvQKiHD0pMiA9TKlvvRZH572AxPU9DqJkPQrpMb1uS1K9pOnHvZHpq71+PxQ9I49DvXFxpD0+3I49fNQQvXZ5e71v2ya9jAabvT7p+j2mltg8NBLJvKtuy7ypVuM88R3MvYP69r0LTH26B2iHPT1BQb1JJWy66Yp/u+76n7zc4HS9a+uCvZVg4byBugU9mG3tvPM98z0n8iS9EUlxu/Yabj1E0YS9fVNTPHfNF72OmHA9NTPTvZ0a2DzkgZM9ftD8vWXdOj11/rM9iwgvvAqpwzvjPF09owF2u6plVTwcv948biJfPTV7k7zb17S71TCDPOzIZ70H+Fq9prlCPLqEdT0sUbA83mdpPMyXAz2MCWs9F+j4PS+nKr2JaQK9QTjjupHV0bzwolg8QypoPMO/gDt2+zY8Ek2uPQ9WLb00h809l9XEvXKk2byWSYu9GM44PZT1RrucH+s8L4kzPLa4qjsnT/G9WbePvQXMYbxVs1A8GEoKu1nN5r0EAkY9iTJIuHm5ur1I04y9QjHzvYLTkbx+o909Qkz0PGHQczs97mC87tSIvTlZVTyHZIG9Xp8BvZpvP7zFZ008lFZCPUqigz2CEi09P7SNvZ6PfD2S2/Q9SxH+PaUOGL1cKRk9ej9yvYDjabz19TM8E0zLvMmzgz06HFi8pIPBPZr8mj2YMuy9O5smPaYNabozv8o80ubCvRKDITxFDZK9G/AauzJt7L2F9JY9nXcjPI8dCj158gY9LZw9vOcIgT1z2ag9msGIvIMA7b10UHi9nOAAPWlgHj2mBgy9npXZOpEarb1DbzW9fpTKvCFtwL1gEKQ7nzOsPaXs6z2gdWa9io8/vWhKSbwiKBO8bBBiPR6suj0OVAc8pN6cPXAXVb113uY9Y+MAvPEsMDvncWe8Uo/3PYuBhb2Yi9e9mg+qvUSXVTwcHcE9JaaMvPFyBbw9Fqg83HrxvQvHd71aIB29LrtuvN6lyz2QwDs9iH2fPM2sRjvl+mM9Vy9NOx7X0T2NwKy9V4wRPSIUeD2YCRm9h0bEPYmKQz0v1Wi8lQDDPUMogDtTQPs7sKL4Ol7vzzr3l1O9ouoJPM1l+T0ohnc9B/+XvSVKyb1ifF09TjPLvBo9fjwFsGU9f5pqPZQTkr2Cnic9A0wdvLzHuDyyotC9mkSIurG1jzz/gjg8VeYFPEmRHjwaoJI9aUa6PUOilryIlk49pnCaPEVvtr2R+iA9Jc+ePO4h3TwHwtU9IuP0vCLxDj1w3Ei9eTyWvRNl4b1lht89kTL6PZ07zDtmeYQ9B1WGPUUDGT2RxTI9jhTiPaG/T71RoPK8hLN8PWGkoL0sWhQ9cqDzvOQvdL1EgxU8Jzl9PYCRfb1+xTU9m4IpvYowbb1Ewe49PLdmvN7B+zz8JLE9mxtFPP+byzvSbf89XZYvO6Ld/r1zFD29EsIfPQqyJL1uzXu9j9mFPVPMXrzYiYw8t6SxPYqScj1LBoO9mFtkPKgB+z2kpAA79g+nvVGr6r2YHfy9QYqGvPuanz2OBP681qFTPYDrYL2bKhu9j5EHPEBLzrvucus9TnWVPGF0MLtumck70jXnvOqO1rw4ir29i5BFuxTT271eQWw9nQwZPT22NTyLe1s9OuDQPPmxRr0smCq8DGfQPZfKZ7ug3Kk8fhoAvIzofr2IkE+9n7r9vWkPYz0oE8A7Die+PYOIFb07l/68jVYMvQsh6TzkD3K9iYeSPQQE8L1+72S71BnsPCxZpD2S06i9gmxAvZ8HYr1e+TC8kkCTO967Y72Q9X+9kbFTPTr+9D0aSKA9FatRPK/lyr0ayAA7yCuSvB2Dqj1yoho8ntetPSuBib2UzD48924NPYTkfLyWeoS9fuh7PYFut70h+5k9nzRbPLD4er1bLMg8/+wJPVEwo7zgHRg9j+IvPP3HX7y587u83EHEvT9p4T1yzUS9Cw6svZzEOb2FWhW84Z1hPCn+Fj2LaMA9eVJZvTpD172S/JG9Lrv2vZpVYjyH0rG9jmEHOzbzZL0mPkG8gv5aPV+7cT133hu9h1NqvTxchL2BxRM8Np9APaKL6z0bQ1U8oSULPZdvV70Fluk9i1k3vR1mmb0/w2E9nUH0vTzd6z1GbPs9h1MDvRk9cD0x5pw9fUx1vFy/Hr0SU/+9kKC2vZ2Wjr1XQmu8W6tZPYjOW71IBYa8diLCPQeNzT0xhyS7ac8VvYqz5D0O13K830snvPChGT2Ts+s9lHAQPZSMtb1OG9m9i3i6vaC46L0wAHC9n3lLvVwGWzy8A0C9OPBlO5BiJr1x4AW7qQSbPNtdhD0/wZM8FzrhuvzNKD0Y1TE9l4+tvZcenTzvbaq83oH9vSMZabzDrJS8eQW6vThE7jyJ2s09JpDNPL6Xg72gLiU9GneWPQOLlruxzx086hSGulUgQz0Vs+w9nQQYvGknQLyuXC29TsQzvGyz+DwZDD68HuxaPFUzVD1NXQi9htw+vZPde70yN9q9o027u+whKr0cqL49K76RvW0tV7003W69cchFPaJSy71qaHu9CTk3vXofRL2CVPq8Tx90u4l3K7ogCn69nD/euo0Ma72RlDK8p2SuPUpDx70DzEs9pYsmPU2U770FTjk9bMhvvZQl8TzS4io7y2jjvSE+bzzRRaG9fiwdPQZ/aD1d25m8RptJPMOR6zz2xT69gIYIvYooWLz5xxO82VzBvWIvH7y4XO+9hLHSvTfJSL2cKQ09kG/KvIgaDj1YeiO9Kvl3vQt/Ej014/o9U0xZupWzabwAdrq9j4qdvFbDxz0Iabe9FJ2XPY1lfbwwp+k9Hus2PISnTLyBH9i9K9Y8u6c4bb0g3oy9If8xvStNmD0tREg9Zc5jvY71BD0yDD09OrRQPVmW3L0YmtC83KsYvJ13xLz0sYq9lH8nvVXUZz0g/Is9pKK4PZCwqb1IoMW9DKqvvP4aOT2eX/I7cAcWPWfUerzFdxA7oWwJvX0x5DyH21Q7tzZsvShk3r2Qz2c9nTF5vI1Rer1sJaq9jU9ZvCsbXz0zZhw9gSf1vTYsur0MyS69eRsPPEm2Lz2jyvU9H1gxvTTgHTzVKS88SxZNvLsuP70LT5W9lnsMu/LwjDzTqTq52UuWPTqGaz0c1K69fttgPZwU1b0rK5Y9Eo16PK6YvT16YTC9V7abPaDJDz1fj3S9mvrwPX1g3rwvUiC9idSDOzxZEL2d1Zu9mb3jvPzo272a6WM7PkeJvLwSErzFUQ09FKTgPJoGpLwaC9m8YFZ0PaIjwLz+gCU80W+JPZWU1zwYryo9BC6MO/pR1zy2WGA6nEEmO+ZxGzzrD2+8RUSvPYknsD2OmQS8tGLyPP9dmT1Vayg9fYJwvWocqz1hPp09f0zEPQ+DHTyHtly9TkciPYB3eL2Y1W477W60vYgNFryhBdq9SrKjPYmYyz2ZYMG8jR0oPDpQOT2Cvto9d1UcPRDwjjwisCW9KvH2PYBQs72Z8y49jNwUPVa9pb2GM6k9oz5RvYvk5b0ZbFu9YHEAPYgsnD2Powg82HvfPUiI/b2h3Ow80ZFRvPArPLzpvmw9KpYuvZectbyBsAo9LgZKPPp5HbrNINE9nCbDPPmZo7zn742833x9vZMo1Tu1Wvo8XTQVPXHvuLyytbE9aTFAPWQJFLvfCm273KVmvNnuvj2FTxM8Qt9APSFvWLz4A5i9EFGBvSdhgj0phz887QZ6PUTShD0z+qE9kT0OPHvEU71nqAe7eoQOvZeXED2eaPq7utHhvQNosT1EUxq9py49PW/N5DyzzOC84T1WvaYqhbwnzvM9EkX0vSBzOD1+qm29jutJu9AC7jyB+889G7TOPU0rE7088Fy8XHqIvUDeeD2WG/M9SAOwvMsF2T2lKgq8f6BTPQla3rwjzYO89hD7vSNaaL1HA/M9oAOIursHsL1jMFq9hqxnvPMCrD2fLZW9Vq5GvJvn3bx/fro9ZruCvSFjYjyP2NA7HaOCvMYwsT0f4KO9UfK6vX1F5z0QO8u9nLh4PNkGc71vh0k9klqzO25eWL0PhpC8rdRKPFWJoj2LwJK8ak+ZvWqorb0r0wA9A7PfvT0SXLxM1b28lWs8vS+gyTwitsK9pQFkvaDWzr2JneI82+hhvYlh/71ed/c9myM2vLbdbT027NM8nNCbvDuEFb1tojy8eYI0PIo2Or1bmoe9PU0gvZAQRDsMuCg9MgGTvJ2m0b1cfRg9QOu6vOKv/L1FeR28lDCOvYJbUryLtNE85Q8IvMebLTyHuKC9X308vOJNrrxtX808/hR9PNSbCLqJEhY9CdUjPMD9eryo/AM9lxUAvEj/kz05iju8yZkuusy/fT16PLu9HcR8vYwXsr2K24Q9PAKcvScOnTrXrxg8ybx+vaAB2D2Xjxo8T0TuPW9+2Lz+/3+9MTKsPYm0mb0wCp88+bxCvNvvRzp3jdu8wJmzPZ9awr1DlrI8EUjZO7UrtD1IKWa9nbhxvIROsDradhk85xzgPSERIb14ULY9oy1XPaKAyz2DcQa9T8eSPYbjsL2c9YG62plfPOWObb1YF3E8XQlrvaC29705tri83kWmPOGpDj1jvJO9ARc+vTv99z1fZzY8c2nWvHx19Dx+OPK9eHPXOu7uDL0cxyg83+KDPM0ZND2ac4K9ZLZUuxyeuL2KCNo9joH0vZG+Kr1TYG28hJAcPOXJUb1ZlD89GJxDvaPGZjx+LCs9fqY2PaYnWD1EZlo9hqQRPW1RSj0eM3+8ikIWPSDiBzuENK89ARi+vaNF7rz+dQW9OXcyvFclwj0GvVy7XnvdvYCp7L1BvfK8TcOBvYM6Sb2NjKw9jYZ/vTMo+bz/JAS8G04zvRqWhT2Lins9nAA/PW33FrzWT/u9J932vZ3uxzyZUlc8vQgvuzY/wr0MJNq9W29QPWdYiL2Ir5u9hlJivW3GQzyE3Aa7/SCFuzCyZz1XS/68QIXHvIlBKD2NLPm9mZ7fPHiI4z1CWNM9f7DcvLxFp7zOUDq8kUhcvEgZHz1tKiY9E2NHPYfBcr1xaBE9o1NQPSNU7T0yZlQ9eAnCPXG/oz1cQvY9HpYMPZzX1DyiaKS8ojyXPYqlVD1a1lg9F3uevWiyQb0agpa80sravDcIar0sOky9gFNxPTpQ8r2Ot7y9OH5MvTjHPryFaFG9eActPaZnnj1oTTI9l9s3vNE2LbvZhVC8jTm8PH74f7rWKM853QfeO4QnDDwxEgS9O7alvWDBFD2gnGw9WITnvKl09LyB5OM9eJnXPUlheTzYikg9mbWWvOo5jTyFdWw8WLXDPQdjWDw32v08XpIIvPPI0TwQi0I81ueLPMYgHrw9JF+7k7jGvaIvRLzKt8U8uJhLPAmpDj1TiyM8vGDiPV6OWbyvQV49Xt4EPUstZTwmMvw7hAkVvLoplb1PO869nM/zvD5mpb0+Qlw9jfdZvZzWQz2A+Ai87KRqPKRoPT1dlyw9AAUyvN5it70ofJY9iJsrvVJXHbv/r8I6rwufvKDtnzwYuag9T2eCPW9r4b2Aoma8xnFhPZwTfryUP+O9m8ArvDb+kzz2zNa88GMwPYmVWb2ezqc9e5gnPOwwWj1yCqS9d3OAvIL0jr0wIRm9CktwPIk/7r0kJqK9RvX/PMrAnD0R8Qe9iEQ6vaXUFrxOsHM9S1blvQn9KjpqZ0a9g/hhPZfL5z1TfPE9YndqPWcZITxyZ2A8P75ZOzdymb2Ymw29IdSCOv0qkL2C+VC9ocK2vZpo0D0dVGk9mY1kvZe/971Npc69hwvCPAl4wr0AFTO823aAPQ2xnrxXgZM9kucgPSgcoTvJH4u9plpHvSYlvbxPr+88wOeNPTkk+j2Q/H+8nhUGPSovKz1okOy9PjU6PYZ/jj2dQ3y8sO9/vaAKbDvu6gw9ekdTO74V+b1wv689QCAau9VuKL2WXGO8Cyh7PUQQSD0Yzoy9dllIvU5Kyb0FzvE8Lo2DvYLUmzz3l4g9TeoIu+F69r2NilW8Qtk/vBiBCL10buc9L7e4vLs6bzwYaWU9KR7QvZ8/UDy4fSq9CsnNvHDTSz2GGwe9om4FPTQ5rDwygpU9eeduPA69272mSLu9N6dlO9UOjLyCEGi9REPgvYTTvj2Fyia5uGp9Oe0e7rxQBb+9EXc1PUXYsbgqhnu9YKRuvHfsM72bOgu7w1FGvXzHa70PKWE8CeQrPYtovL0mB2g9YquJvZZU6LvroJE9pKOIO4LB6bzJnKs80jLIPR9qE70xOce9a9KZPZHVjL0A93W9nkAyvZk9qTwTIg089T6xvS0JSr1YuTs9kM50PaMSuj2hI9C9gjIgvYSKvD2B1V689GfUvN8xdL0Rx/O8rrprvZ97PL2cgAI9BiMNPJbnlL0z9PQ8hSlovaLzszxRxF+7j1fPPUklAD2VtYU9kr49vRNM8j0JfmU756DXvULKdTvv+Yg8juW+vWJ4sD2k9AC9Ktf9vZIzdz0oFsq9X0McPaNjqLsVvTa9gDeiPUk2B71rRhw9k0ZhPDFN/D0c4H08Ofo+PXumojxSmEs8oJtHPXTB9j1CisO71njTvWlQNb2TS1C8frPevLdfeb0vtkc7B2CwvZnCtL2GEOu9MJWcvXJUTz2GsNe45pQiPWSIlrzvfrY9ZGnQu6MRrT2Ibng9CjgbPIIkFTxWtEQ9PkuEvGiyFb0eG0c9n/ALPSQxPDzOCBw84ftRO1I/nz0f6wK7na9uvXIYP7yE5Sa9hiWJvaLtvD17ZUM9MFtlO1Ajlz1P63K89bP7vZbXhzzEX8I9TvZyPSTmp7vj6aC9iKNJPUD4Pbx5AWe9QtktPQhd7TyonGs9jJv2vUv3vr2AwM09LRq5vWe4Aj0QAHS9nBBnvZY0KjxNsYo9LQxfPQF0B72RzM26j5LCO36zybyMOt49IIiAO7ZR+Dz41Uo9ejJdPLEiOT2j4Gi9HuEoPDpx0j03Kcw7dDviPIIbwT1kuT89U2BDPTmY5r2UxHW9cxCqvMI+87zQ9Tk9md/yPPYx/L2a5qe8s893vMvMnz1xEWU82sZ2vYT2zryqN8u9lHu4PNMxMzzcQOm9jMiuvXOg8T12ARm7P2A/OpCekr2LSI+9Jeo3vLT9Kb0D7EA8Vz3jPXFS172Rpss8L7ZavMhpQr2FU1m8rV+IvRMdUDuXGYe9CJzZvZvNyrr0OxE9f4FHvOR09bzazLC9bfqePXfOez1845m9PegRvWadVzymAB47xyRqu4Wijru4sTK8Trc6PO9chb0PdgQ7t59YvZ8bhb1GXKk9DsiivDCriz0oM2O8G8eTvWHpNr2T7cE9osrTvJ6iQT2c2kI9jRR7vVIELrush/q9lFEpuP5WtTy8tOa8NANQPTl/EbyXpxE8JmXFPPkKq7ywfp69Cw+0vYv8Tzym4KI9L4sWvDIUb72G8RE9lDniPNIYjTuIRjW7dDq9vDsywrus4WI9dWO1POhq97ym+ia9RpM7PVz2tD0X9xO9FtTXPX7q870zAbs9JEjNPZ2iqb0ob509obOuvXHn+70GF/08XuqfvVuEID2iH269jUpXPX1OIbzX2j+8FWPtvEUsjj1XLFC8hmZ5PVL+bTy/O2w8wfmXvXjjhD1pI3E8vHtRPZ3zLj0ijvw9lwF7u5r8L7wmjLi9G43bPO58Fj2X9z49QUT7uxTpFb2Bu1o8hIAmPWePTzwBSkg81OBKPZGJXDwefgG9Rv6AvWW/y71HUtu9Q3wPPUOI072TmjQ9QEDovKchGT2hk869iBwPPVmaFT0mOuW9BTv0vKccV70A7tu8vy5RPOL6AD2e9Sa8pOrLPaV1Ar1xCmK9ZZ/7PUI/RzzMA5i5gdVKvYkRNryvGZC8LePOvX3gu70k8ky7y8JLvZEN/D0Jykw9SV66PIk2ur1MxeQ9P6czPXBKp7vdLim9pKWQvZ9roj2YTTU9pnYjvMvqCj1EYse9GDX3POrjUr1/9E283p1xPEUXvD1TK5G9l8CSPQYUVb2hfz+9dkkqvDXArL2SdGQ7oM1PvSWPbj0O5K49KkiAvJW4Bj1wDF058WMUvTCyFrxzwWg8p7UGPZoURLuiONC9jR98vZGWGr0wXTY51bPjPMZYXz2A/BQ80/7gO7uJBb2V+zI9b0+cPSOhkD08iWe8Y6HvPaO71b2ME849eGFUvSzDF712O7m9ZqPSPLkTQryNuMM9H2Q3vWffQbv7r3Y9mpH9vQN+t71jz6s9iNC9PVgRz72Tcy08losSPWzInr1pQpK7lBrWvZNaZjyF/Mw8yCwLvNXBdrzes+u80f/5PQI0wr0y7X69QkKwPD+CSzzNwSO8wXyAvWkUCz0oGtW9gqTbPUbvfL2YTey9jvwxPR2+ZDtEQaa9Gu2rvRnSgj1R1ne86LwWvN0Wzz0s5S680Al7PQDKQT0ZJSA9RAlKvZQEALzdH1I9izw2vEQjur1Lse87/+UoOyP2n7xezbi81leDPXNSrj2IaWy82yUtvaK4xToyNJs7X2ttvTSN7z1MtAI8rhLVvNSpHjzGwpS9oHAWPK/Har2Z3cw8aaotPO8vtz0iI5u9QVVvvTyOz70OMuu7KvYuvCxaAjy6KWC9I9jxPPKZ271Ufv88/LzYPXkUuT0h73a83hbTvaEV4byhHkS9ZviLPEaSGTybZoM9dafWPQcTyb2cD3S9N9WkPHQ79r165Dw9Q2NpvYAvlb2Fc0a9gPBDPVHYyLwmWwm84TXuPTm4sb2ObUa8o3hUvSGqlTyLdmC7FFabvVJY1D0Hk9K8BpdsvRWSnr1GZ4o8jFEyPYxAmj1c1ek8LX65vRuDzjwz8Ba8MEhsPNkSQLzVZEc8HpDdO7W/U7vymHK9CAkau9f5er2lsCg9VDXWPWTgfj2IXWY9edD6utGjqzzzEvE6luhgvZ+X1LvUEis9CPgsPW9tnTzCnRi8jbLnu9EV7bvglZw9gANyPSvzhDvGXZm9k8MsPUs3Pzyt74A7pYxrPYjB172Hro09DWWiPZAsjbzjmps9Yu94vSrAGzzQvUs9e7JpvWOZILyBccg9gOBaOxJeqr1PWA+9TPu3vOZ98r2BZqM83K2LvaAimr0yDsg9ogWZPXmwvrx16L+8pY8ivPEEWD0++ek9U3Q6vP+gY7zSYwm9iYUZvL/gHLq7p7k89+uMPOUc/r0xHhy9adQlvNh3qj0tW2s9eRCJPZyvfr0k4T48ds2HPNYjqr2TGmM9iQpVPWeQTDxbOoK9kDLnu9s/H70DmI+8rQ2zvUkCprzZ2q49Tnh4vMiZK7zMfrk9SFdePVOdDzxbImG9Nop4PYKBBT0pWcc9OjnpvU7B1b2grTI804kJPPT/uL2bO+A84l52PZRRwjx3evS8rVh4PRtPUz2Nhzs9kyj+vT5hpDy4TvO9LkZBPXlsQLtiH329gvDJPRKfVL2TARy8G5e6vZSwibx+7rI85knFvYKR6Lxgwq49hAs7PVzwartALqg9FsVOPA5Gh72d8Cc8uEnZvZ1Go72QyCI8MyUwvVFwRb106cm9Acl+PTZRXby4WVc9iT8gPHkUwL2ZDwU8llz/vMjt5j2OKgQ9SbAyPYBK+T08Ktc78XYavaT+3z2RLps9M0PrPPqVdz2ggic8x4fovQAl6LsWvPC8ycAlPUf1CrzNyOo8jB69PIC4IbxS9G+9im3NvM1zJD2C+uo885nevYxW9z2mg1m9ByKbPXU8KzuQKGy9KFtTvVq7Mr2gkMC9QqgGvL31eryP7E889iRAvUcCYzz3KOq8wOdEvKaoe72aRb68ie5LvSz3Rjz2GhA9QSmZvY3TLzwiKto81iLuvM3Vbb1YrEC9MOjdvZ8GhTu2P668ynY0Oz3zmbs/OLq9n0cCPRqM3bqRIoS8uAkKvYtg8D1t6yC8Ye+FvZ+v972jStU82dsBPaa6hr2dSZc8Pb0uPMLREL07xK28CmKbPGNyFz0qbp68tiJ9u6y2mb17NTw9V3xHO8SKPD0x2709JtCuPUNZnD0+kni9kteLvQDa/rrJ4fO898ftvU+pzz1kz8G8chh2vZmOe71JjMc8Ti6WPFLHKb0dKjA8Db/DvEBfMj2e8+Q8YhfvPXQC9jujl6o8vhTFPZJXib2dHXG9LyNnvTWqyj11jlS9AoUAPDjyJjyXC8A9QOJovBLJN71G07w8sYSHvZfLNrzEYVQ8puZzvNTm3bxY9sE9JwgPPInMFb1T1gO9c3D5PVNJmD0ul8I89VBEvHtp+j1bm9A9oPdUPQraDLtXbsE9hbmpPT6/MT1si3s9PtXNPMQ6jD0bavM71R3lvW+P1r2U5v+6xsHIPQwyVb0DujM9h5WyvTQj5z1Tho67/dsCPSgghz0/xHY87SIjvaPK8D072hw9k2WsO8fVG7uOfiE8090oPTDQhb2ZdiU8tVY5vZnJZL1GelI9nrKtPG9ghbyFpTs9BsKQvHufv7wRQtk9Sp5JvQlIkz2Z2Vs9QcBnPE7UIr2BxNm9MDWAPZ+0lLsAQxY9izZAvYg+pbwRGYm9oZqfvUHxbTswEWS9gpAlvZxTF7srhwY9ivppPC9j970UeM48UEoWPRo/Fbw6i2u9Bpcru7c+gjzvzro8IsFqvQw6ubyE3348RzK/PSpaYT0CLmE7wdsnvJYM7Dvzmwg8oFlUvLTfUr2hDLo9lMI5vETQiTqj4Tu8DeJivZONrr0YCfK9R9kzPJu+Kj2EC6W7jIgmPV/N07ygilE9g9n6vXfO5j2GiCa9MJHtPNPeHbzh1n49owE9PS2Zk7x0lAa9jcK2PWI2dj0M63G9PwTpPUcPeb1u05o9D1drvRHbmDzC9Z+8vomXvRz0T70IoIA8kaFWvAQ5Qb2BTSG9RDQlO2B5Mj2cX8s9lw2GvZr3czq/Y608geFgPUwpNLyPUpo8GDJnPXCn2z0i/4A9kcaDvDM7uTswGWS9h86s",
+        "vYwPiryrod68kYT3PTjm2j1g89A9dpr4PZ3lRzx/Fye9hHabPZh9mjyNJnw9Ao1pPWZ1YrzNeIK5YEqovVOBiT0W1Si8sdEDPNdLMjwQbZQ9WL7dPZltY72DIP89LtkPu5gR6L2QJbm9myVDvXkcir1ZyQu9T8oFPDaU1zxDdhk5ji7EvPRQ8r0M7Ra8jWboPK+mH7zmF6M9NMDTu4iJ+jy7vao9n3znPZvFrbyPpO29dLmdvNs3LjsxOkQ9dnyGPZpyjT2Eg6U9nGwQPPzSZry6io+877zYvaNnxr2BTUu9OgyGPF25YLsvTzq6o8YfvLuoqb2Remc9SiFaPTZz/z04wHI9pWIrvRpvMj1nQQm86V8evYkYlzsRU4E8B9oaPSeGhLo0rjU9SGHxvXlB3bwWXta8cIqVPV3NEL10ZOa9dVcovF/pxzxEEp69BNpxPYwbQ7tWNBM9Zy+Nu/KgXr1nuZe9Txd0PLMf9j2eRkg9IVlpPWARkr2bJjm9kinjPTahoz0s3VW9RuMEvOrwH7rbyMg8RGxaPYh0obw5Qqi8qXySPTK2a71hls68QCoBuzEdM71ud1I7EvSSPZ0n2z0pYPm9f5imvZ+zO70Rh109grI5PXG3sD1/k4+6bAAtvLgDGTxY6Sk9hWl/vXY20z2ivie9QmNLPO3HlDzQ4k29CnW4O2cc+r2kFEG9BR7dPI5PGb0s/0m9JvUrPJPdNj2Oxbu9IXsqvXL6Dz1Nzwc9o2z4vL58kTyJTHw9Sdq0vQlgcL046ro74WEAuvZI4zyglDK9BLdNPQhyA70Nh1i9clCyPXmICD1jL/S9NknqvIUW37tm2I69pARru37wC7yUPJS9HofSvFo4vb1nTkG8M2iCPIN1872l9gm7lFurvQ+7CL0HcgC9hdObvMdHbL2lAfy9Q/2tvYungzufuVU8i+GQPY+AUj1regk9AcjXPYNiBz2AD3e9gexFvT/GnTyB9fO9pcPsPAG7Pz2TQNw9hbZTPSdBMjwVMy49oSJcvaY0NL2ejSU9l6ppvY+GRD0jDXO7D5RkvWTnRT1yoN69S2uIPV4MQrzOYHS9STX6PPi5rL1N5d49MjHXPTGoaj2BQUi9i4qUvAjFf72RwX29lEajvPMKrb2SXgg9N4CavaK5eLsHtXE8rMnjvS3z+z0ihrq8tzLvPJK/J7wMyrG8Xv+wPYcX6Dy7x3E9EFz8PZbTfb1S8qM9ek/7PSnHfjy8bDY9S3ILPAVLpLxD1Fy9j6wfPIOklzx2Zgo9OrEkPSX0i72EyiE9cl6+PMRkK70bQjW8lw5ivWvztD0jXS684IvavZ5RYL0W1089hQGLOw288j2fPPm8UjDNvUhPhb2f9VI7In+wPZI2OL1bzHy9hFjePUwgaD2LtA+7HuF0PLaUZDy3w9c8XuhWPVJ1tLyKRNg9cMxVPVo2QjzMSEg9U2OXPLNaGLyap7e8muWBvK94az2M5Ma9hYDAvXS27byfTgc4Cb40PZOyub1uL9g9beH5PV6MizvzNbS89OwAPYdUgru8D0G8ltAqPMNkkD00TZC6WrbEvKvRwb2Jj/A9n1jkvNsFuL1ZgwK9obvqvMfn6Dzw/OS9b5+6vF78wLwebUQ9NRurvW35QD2Df9Q9ZXx5PWhpzboFQTq9Gb8jPUsyFb16u+w9nP3ru6rGQD0GyV89aQ23vRiBfT0mHAW9CGBqumahMrv7D+u9DrMUPZFGl71xqNu9S8iXvGHRED0GFrE9jFZCPKC5672GcuG9hiG1PWAgdj0iJfc9WGIsvZmvw7xiLOu9GT2fPQY5Iz0pE8M8XLDUvZJwLLsgFZm9k6imPRgxVTxAkMI9Z4+1PaTVqjztKl29lo/GPAYWarw9ibO87fI9PSzNIj2Hrtg8ukMoPRh/Er2fR/c9RV6RvWlDCL1y+Bc8i5JnPMBORj2QINi8o2dju7M4/Dw9/6Q8RdAkucY5l71m6FM9IMxaPDS/4ryVfYa9RkkqvV1N4jzzKFU7k9iJvA5YU70RtJk8CFfiPPqdd71CyG480P/mPG02u7z68B48gvajvQQEMTwk6XI9WacWPZbIITySB7o85czZvY6j/zz71QA8fsGLO8Yl/zzEBq49WDkDvN0rObxknZ88h8blvO1MRLwXj+s9DUJKPYD7ej0fOUS9hg/MPVcsf70plT88oxutPJ0a+DyiwN09XSBQvH8SqjyWzY29O6xyPV2VZjzcpjI9nlWnupcK/r1pt++9YDhjOw37p7y60gs9mRQ9vY1x3L0kV9g9m6U1uxHhaTqxLA89fIyxvaIJ3r0AUcs7+YjmvSuE37zC0iC8VCaKPBiPCT1q7sE8zpz1PQ0UhjvLSM29J6P7uh6MYL2lzpo9d67PvN/PFLySuP09kRi/vLK8mL2kukc9MojjvYZMVz2FmpK9F4bJvYa8WbyIrZO9hVBIuy+7K72ZbBe8YUSgvQYxsDwpqDG6Rvj6vR/PIruOYxo9GMAqvUS6P70PEe29iTvhPNRoH72YIg08mc/6vY73Kz2DAJS84fHJPXA/GbzFIBC9jHrLPPmfiT1sZaA8x0NNPSAlZj0wdC083f5ePShQ7zzSgK09WMPDPK5PYL0mV7U7p3HUvUDhXr1G28o81XAEPZHCG7vK/4+9RliRvRhxDz2LmNG8wokRu2jPhL2GXP67zoKwvY858LyiXTu9QsSfPG5SDjy+ote9GoEzvaT8Gz00ACY8cbe/PQ5isr2HiDk9O7GvPQ/sQr1grS08VHyEPTI0NT2SiGS9gMTovYQQOry7AzK89g5EvMfBiDv7OFY9c5+TPEi5W7r0T6Q9SlIOvVxFrTzY0zy653/wvQIXgDzCse89igqBPIu77D1ppgO7HZ6cPZ/rzz2Za6o9JM5UvYvE1z1ppdw9mW+BPT+Uwj2PXJi8/tLlvT6jgbsxuCy8/pKjvQc9JD2f1GQ8y883PaCqqD09TLI9pcRFPZBtFj0rL4y8zpuxPCfWTD1KKDO9N6lbvURx0zyzAXe8w0iJPZ9KkzyCgeE8sGRTvRd4sT1nILm9HfDfPUSqpzwNRT89hhbDvN4KC72hHqy8G4i+u+irrDyD/7w7tlLJvK6vtLzyQUS80kYIPUoAQDr29Ae9Dx2iPSidoD0OJFs7XYbAvN0A3jzq9Jw9jLqiPHtLKD1yDDm9Ff5ovGrpBDyCjoO9OrwaPPzB0z0g3/A9XpBxvOjBuL00XMu9LpUoPBkzjz2AHpI87l9TvPL1Ob0TEaE9CSGxPaZqmTx6Tzo9S/4/PVrlP70dFSw74scyPYRiXjyjT2I9GxlLvVE8mbsTonw8tHVBvZurnj1QVLs9BHlCvGSIMLx4k4C9OB/fPZrY0rxbzaS9b2ppPR2wADvH6a69iRUzvE93eb1bQye8iLt/PLcq/jz698u8l+p9Olt02D1cVVK6Tv/wvU/9Jz1uHIs83fuSvXoOf7zFSum5wU+IO4Q4xL2Qv2g8k4tRPOFkOT2fKpQ9KYnMPMN8sTyXl/a9oQnlvT2X3r0/P/m9go3gPQui6LzSAk28t5ZdPS7q/j2YJmu6gk51u/wQDr1fBsi8u8yWvYu9pL0X4NM9a7lEvZMsJ72Qque9WTFzPOwYCryN2na9k8CevUl3xL1KhoG9OHU0vZXoOTyf1me8kjNpPYGzLDzuwKy9gbu1vQUrPD2g9DI9jQzVPKMoZTxrJY89BNJzPEW0A7yhtu69lDg/PWUXRLuxlY29litnPQgS3r0nxTY9GvJqu4sjLbvIAA67RlFFPVwTE7wI1s+9kGUHPSBOnz1czlE9PVXvvK5mKD2UEQk9P2HPPSUTNr0ileC6/9tcvaSNfz1dsRS8B4EvPYM30zxwuME9BxIAPRzBOr1svKo8b8JhvKSTOjssqTW8TBHyvMZu6LyHQvi723AxPR3cXjyTNbC82aDaPFSgcb2Keu29WFZiPSudKT1ruBo9T+PKvNyPZbwZvgk7MIb3PJTt5z2ls1a7FSZ8vY2K2DwMtUK8v4kIPWKn/72Vi+O9D93bvPqZ9bzAPM09ewu5vQnzaL0h1F08kMzIPVWWi72ghOI9hOlhPZPEJbzo8B49NGXyvQ2xHrz40SU8lfHqPaGsZz08iPG9JtXRPRvirryNyjc9nFG8vTF/Pjyn+TS9l38+PUbMlz0tUZw7446VPaH7nb2XNi09h62yvMgX9bwuRWq9E/gJvFbDQDyD3nY82BC6PUdESj2X4xm9nEKGPPGcfzmM0Ke9bW6fvQ7JP72Hwbu9arfgPaCF072NvZK8ZelSPXetQr16ibi9hQ8TPXXWdT1nlU+8X6scO7rPGzwUIiU9fWj+vYlvvT2eB287VA4VvKXD9j2ASrs9g9RbvUGKO7ycVMm9FoyUvT2bOT0IFCW9gQqRO9NQKzzZ6HU9kaaRPTvgqbvhGgu8pBbAvaO09j1aI5K8543MPYqB6L2S67K9EFMtPWGd3r0PN5u9NmJUvJYvhT1U/vs9ST1du9sRpDxlntE9oLAGPKHj+71Z/K28zq5+PDVoAL0ptq+7jGpYPXeHlr0FnyU9jL3VPVtuwz0anqK6u9YZu8LoHD0WKWW9BQBzPR2Slruk6Mu9d8jbvLaJ5j1Xzxo9AdEjvWHsaj1d7i68fd2pPRuJaD0XWTc9Fh2jPJemozw66/i9lc4jvFc7w72k7mu9lQQBPY3Za7yiXys8VVE2PUvrgjug6eM7AbTLPMfRg714mum9Efu3PVhopLzTpWm52diuvaalUT2ctq48nFmavLVwkzyUUYU8hZRzPSFZ371Q6XA9jyCZvQn2ezy9X5c8qbMNu5QuGz2gIGw9l+m4u1kBnbwRG/G9hCwQvYfIXr13SyO5aA79PTQl+b0hJuS9di4bPViw9D1y5hg7RTMrvIvTvj1mdIk8TYmIPZbg6DssCns8VrudvLtR+D0Meke8kU7avRdLQL0e7lg9WrqdPSjjU7t2+rm8oX77O7clhjwzOvK8zotCvWbVAbxr3Sa9mFM6vYF9JTxKE049WUgUvUtLvbsooC08twtLvVr5yjumjGQ9UFLoPVF+ir0fPDc9AlI/vSXCMj1bBwm9RcIovRuBKb2bdzs8tCH0vTYM7D2GWHe8xJFcPWPT4jvYAwc9Gt+zvWp+Frod8ji9HMpxvZobvb1+re68ipI1PK16O7wmfBA9oJ6avQpR8L1bwDU9m/V3ufv7J70XIg29SuxSvYurDT0rHp27bV33PZOOs7ypczg9Xr0lvUPhhzzMhb69cYGTPQlIET01w6w9LgziPTU8vL2Ko5m80RR6u7HVPT2gBt89R+b/vZC+gj2f1CW7NWcQvCNo9bzxv4G8bTf1vIn07j1vLTE8oQhYO9Onx7y2alw88zdrvOnFwLxt3bQ9hRk3O7EWQr2Wl2E82G4IPKyA+b171ce9CnDqPT8TI71F+ia7sT/8PZ0L8jyx1yi9oJ7qvRfYarvRHoC9lqZ+vSy8270YRqe8+ZT8ukQRpLrDsPc9oCbmvW+go72QV469DWvpPWwXejui/mi9nxLrPS/W270ughe7rdXXvQjKsb2VhaA9nLBUPXtwwT1tszC8tePIvD2SUL0mCMi9ogr6vUF9RD2DIe09mQAHPV9yu70s+Be9GunQPX6PWr2kSDy87QMxu8ZxcDwDBTE81tg7PKl/ObwNMoK88NV/PVMyhL1/nUE9XlkXvCfqwDz33ro8i4Heu5wHVz2JVjI9W27BPWQHHj0XYlk9GZXqvRb6vz0mJws9k43WPJM4Rz0waxc9IPxsvYWrjDybh586yDPSvRirRL1MW1s9HrTaPQDgMz1Fg1w8zobFvZSZ7r2B2Pi8vQNjPZLbIb2NCfQ85Gexu8fICz1BN+O9M6ukvJcLIz0jlZW9BuEAvF8J2r0/K/Y8WVHBvTGM0z2KfuE87RUdvWzoT7wDAcO9XRjsvQZHxjvs1ds9NJkPvZSQ1b0XH8k9Z/ZfPYEUEj1bwha9AJMAO4KqEr1pUCW9mZ0JvaaNbDyL6/S9cpCevN5KFLzANVo9X7gGPKKQsL2fL3k9CqZQvZeqJT0pTFu81+5VPSLqOrt+olC9bXKkPQTt6j0KLV49hvrqvWHz3jwwcyo9XRiJPAm6Pj1PyOY8x/0oPWQwNj0mg729lR8wvYVj1juWmO67BABYPQFodL1Ywca9Y5A1vJJvpT1xWRM7Kfg/PQspKj2bVcY9WZsivYasHbxwfH89CkNQPZM2I71Widy9FZsnvaCkGD1bq0E8aEcAu+YezTp1rcG9hb9MPZ6B8LzFLs29k5ghvUwmdTuL2w27tnX6PZOjVL1aEMA9iAuKPaGtibyLO+C9ZTOPvTuJJ71O50e9e/usu9NPWj06+qK9isi/OyfpSDxyjD08Ji2ZPaLQOT1XKLg9npr8PW+C8rvrX1S8fsycPYsHbr0w9vU8bjhBPJ+qk7vx0pw9JTtyPHNxG7wFLry9oRxBPQpl571Onv88fD7MO5LRyr16QcY8monavZnH5b07eqy9oFY5PZ8I4Dwo9cm9gQ6/vRAIpj0TuOg9UWHCvTmR4D0vhzo9AIXDvJVVK7y2VoU9mxyWPUIVEz1OfyC9DT/RvaL/7bztI1w6vil9vAYSlDy2iD49k1auvPrxxTw15fK9pgi6PO+xj7yt/pu7n5/cPZ817z2CypS9M7yTPUhSnLyf77w9gKgEPNmIqT1nV4W7zg1wvBCKMzsM3Y29a4yKvZA4qbyzkt07JC54PS6ryT138WM9aO7KvJLKoLzWdIq9kS3hPMpnFL1MXx09i9yRup3atD1+jWG9mtixPG/b0Dw6j6q9hX+LvPRo2r2crjq9KJylvK8sQjw0hSO9nsr6PRtdiDzcdDq9k4g/vZtXpTwFG8u9ViwBvV7Ar7wDhrA9oeeiPYvHXbzTu8g9kprxPNXqBT2CH/08BwrgvOYFT7z5ejQ9hfbVO9EWFzyeiVW5cVYDvZTOqT15IXg9Qa+QvYRb7T0o5zE9Q1DDPK+xabzFrTe8UFTdPOi6T7zBN7a9cwzzPRsBNDzBfVy9GdgyPP4XrLwIgT28EKy8PTc4kb1xa0M9nZCJvN1V9z0KwbK8zGBuvRw1Hj2J7Vu9kHgmPWOO+70pKSU9ISw9vZssWjzcOXU77eVCvU1ThbwZDFM9VDaDvYMf6jz9gc68X/OePTrTZz03h0w8cet5vVpcTDwkXkY9k8YfvZnuCbzKApe9Y+YsvWQPFz11wPE9oRpnvYl7rD2XO3E9IPYgvQuacjy+tjY8viiSO5H0Bzz7yH29gPahPAgbqz1cLVi7+JPJPQSK0zyPLPs9Qws1vXmM/r0XdXy8ndBlvV3tHzyxnJ28up4dvELQ9jzzhhy8heUkvXXtvb2YmZ48Q0TSvLN0tr0BuQC8ub2uPW2uxDwi7Ak9KMzEPGwooj1v6EM7STf0PWJjIL0nY+M8mpvWPRXMpLyKcim9lhTXvSKYKTzfxxm9eRgMvYci1T1etRy8aS9VPAqVBjxffsY8fyGQvRpGeT2IouM9gRLJvNt4uTz84Rk9WOaevSvH8jyVp/Y89O6dPaMsID2Uthc9DQ43vTaRJbxeyD+9cE+xPT3LuTvUchu85ti9PQv6UrzRRD69mVWnPWLDx7xFkpS9iExuPWgcTr1WCMO9lcNUPZwzOL2i9EO9OvX4PBSPT70+Tny7ppd/PR6HPb1Q9x09lAWcPQosmr2HimK8ng9uPSBnNb0EJom9oo6MPSrTaj2k/Gm9Lt60PU8AyT18hnW9evYZPB012r0oYgo9g0sqvXREWr2Hqz89ObaJPQ+X2r0AlLK9mYS9PYoNUz2eU6y9hPIkPYC37zyuNF86PnFXvZlSNr1CBY08HB31vTVdkjzZZH49o6LPPZktgb01f469Em6OvXfvMb2I0008uvigPVAefz2Lnf49Hfw7vRCPob1MWea9iT5oPS6ou7zWuPa9oZV0vaNr9D0PLjU8iYPtPNxqWT1ZbFm9hg78vSG11LzV6jQ9RaiqOzmTh7um/p89LJKsvR+8MT2ENf27bClUPYFbtL2mwqq8mhK6POf2dDywtOQ9NpiBPYqtpDt4k3Y9fHeTPT6cCzrqsWq9W3pmvTXO+7wBH/I9FlWKOgUO772hb7+61f6tPEHsqz0FRFo8gYVrvLEl1rzn7LI8Mry3PWIAxD2X4UM8NDd9vYIPNbyYcVu9kQ6huror472dONS9iqTFPWTWy70EW8O9UI6ivIvMsz2LH3g9L/mEvMhtE7vcpqA8ggA9PClOdT0e+768EgS6vLWFuD17XaE60+uhPPeA1b1oPeq8ZexDvQQo072in6i9h2TnPYsbe71CTde8dZI9O9ZIfTqiUxu8uvjUPXPhDjwkTbM9nVGZPSCuVb0/MQA7jbviPYqNKbmA0qC9kCuxvXQ+Dr2UnSa8i0tePXenML1Fik09Fc8vPPPbfryF/vG9YR6TPWQ9BT1Oa8E7VUZ6vaMhgzyIRFm8hYdYvY284DwSuGW9lZVtPMeK3r1xrqW9o+ylPA4Xqb1ea3S9Oj4TvYCg07uw1Zg9EmcvvZxl5byuZle8ngXGPHzCTL1CoOs9MY65vYaP3zxTtV87zVpMPZDtvD0SN4g9op0xvRpDKj2OHAo62AQCOwtdebylY9y8lJbyvZwkkb00mLa8wiImPVO/d71IbEA9RV2gvQ4qwb2LhY09KCgUPADITL0ZA5m9XErcPKuD5z2YmnA9BashPR6uP7wE9yw7+cDUOzXP5j1c6vI9SjPqPZ8HJ71hO368qZvXvYAKaT152bG9hM3MvZSqir0Rz3a9hSoZvUSdwDwQngo8ribmPRAVHz1ysAY9hpKwvYunzrzxyYe9ioKtPNPx4D2TeTe9AAJbvGgnXD2KysC9KQb0vQUZ8jysTWS9Guh0PYzblDycXvk9nUSOOqfYoD1BiOS9kAhbPaEjvz2KshO7iZVMvNk+cTz/0ic9ZExrvQ3RL7t+Mfc8uVkRvLq08L0Bv5q8JSxHvY8t7T0Cp5I881BdvZYl7TvicQ687BRdPQSYGrokxDe9SD7qPV4sJT0Du0o9FLXHvFwBxr2Z1iQ9Hnu1vT2BoLzKVto8jfuIPYkBUbxhVNU9HxWjvMaExT0LHn08uvhhu+LL2b16WAs82MafPA1z1D2DtQe9kXHTPUPzhT0LgAg8RUUCvYT6RT2LJ4q9nJksvUYuOb1Y4GQ9Nn+5vY9q371Xguc8r48JPNt0PLy9l4+8sQfUvVsXl71W3tG9P5qoPNBi1DvV5ho9AtqnvT/Ouj1wOc29lnM7vT27pr0SzuQ9dgkCPJpptLy2UlY9gvVPO47M7D1lm9Y9X+ZHvTNJlT2A7zU9nZS3uwZybz0ZlWq8qW0Eu8LizTrs8jC9BC9buwLSu72UyXY892kNPWknnr2MhNS8pOFtPO2/vb2K3ao9kOgJvPs4pL0vupu9D1VcvNOacr1S4fC9MsxKPZRJBT1wp3q89i/yvZYfMz1v6o86FJ16uofBXb0sqUA9esqPPYXBWb0gBsW8cOg8PYq1or0O858745XvPTMBobyaj9Y9JpZ3vZCQ4j2hCou7/BouPLYfST2UNyM9IBKmvFjQiz2dx2o9ptY+PZ8BJj1kVUw71Y68PYwmUz2JnkI9Q7tgPIBTqTpYqj89WYWnvYI+zD1gOt68/fI3vZ3257tX3+s9m99uPQ2EhD0CCZE9IYY/PMX7hD1MepY9Oj2WPQcisj2Mj4u9hmiJu/WB/T1xhCU85P6Ku0mgTr0dG868ZETevS8foj2eLcu8EVYUu5smj7yiBuM9BFeZu+ezS7xiVZS8oG+jvYSIez2F3eu9S/8/vQjUor2E2uW9ka2NPQQFt70IDg09UNQWvUMhhzz/uqg9ofrnPPfxrD03uqi9euO8PIDb7z1iyH68zLfwvV91B70tanu9EHJjPVxjmT0sHGS9OOFhPaDzjz2Dotk9TUmpPX0BtbzuWtA9BsXvvMGefT2dp4k9aOX4PQWae70vttK9T5D9vYdoh7yDfmG9PL0oPJFItb2NQbe7K7ZivQ53TTyufqc8u0sSPTpZaztM1lq9c6XHvaTLQbz8FJa7hlcAO4aYE72UaDi9oIIlPSC+Mj0GJC+9g6BJvVp0aDyGiqo8rQ/ivVR+Yrv4/dk8p3NCvaaByLwjf3Q8yIzBPSsrnr1NwFI89avmPM480Lzmiwc8dQpVvZbL4T2XZi09gET4PS8G+j2Tp4Q9VVeavZGqT7zZJDa8F7R/u5Q/Fz0cHHW8zwYFPJSoArzX4Rs8uCsBu68RLL0ZQay85B0QPQR9uD0JuPK8wODbOwW8rzzKNza9orNCPYahA7zoK3w77B5OuNtFKr2UC/W8lfHQvYNLd71DCmE9aVKWvXq7pbmC8hY8+9ZJPSlU0z06hu280Z0OvNLQLj10e4q8G8AauZiNXL1gIjA801cBPKFNAj2S4oM9fdb6vWg3kTvVdMU83sp5PUdObz2CCE09lq0jvPH7dL1gTxW9GbYJvOWPXb0uumm9VQQqPZC7Yj2dvo+9J/A7PYI9a70fxjw9juhLvTSJX71B+Sa7mZ+KPWm7SrzcsS08dhfmvaOjgzzIsgK9gnuWvTXY/D2H3Hu9fJhcPY8F5D1wFwy9mN+APZ0i1TyqhJU9ifxDPVaWKD1zi2U728uPPDusAj1MgWi9UQ9YPRPRG700dRA8y/wQvZ6sar2hefG7T97XPaOwu71K2pi9dl0ZPUBPub2U2M09CddAvVaCGjzjQWg8Sp0iPZlkBz2VZuQ8t8PNPT0ytrvolSM8yQdLPYe9AL151VW9m1wiPUbLSb1wcCa8EPIEvYX3Rz1kKVU9MmPuvQ92Pj1Q2mo9aX0qPURrQL1scK49nFURPW6KO7wSicY8bnXmPWKMrL2Y2l69nUO0PWYBbj2IQtq9QmtwO1F7VrvW4ma9kwN/vR9vAT15vv69Hng/PXqGKD0+lKo8mm3jPQBjHzxPc429MaLNPaPAjrz7lv28BU/Ou9Jt/z1Oal09W6xHPZyBIL2fbHe9hBDhvSJjQL1lVbu9b1oUPVYZtzxLKz69bu8zPX06Hj2mkZu8tK3CvaGGsT0qOCk74HbpPU3iY71g6N+9hcOtvSLrvbz4Sqa8iaYtPYYGor1J/Ss9MOqUvBFdjL0JZJ09Pkaru9nRvT1bWke7MHnnuqkR1T05RYG9C9TWvYuDkzyIssg9jviGPEcRG7xI3aa9Qa/zPS1yAT158Kg9WloLPKlgyj2Vp5q9QFZrvY9Bj7zDkhq7yF7ZPUjzgz1pWYG79upPvQr08TyXnCU6EBF6PN4LID2kqMe9C3RLPLExc7yKpEA9h5BEu1TrMb1C0Ou9eAs/vNf4972bpB49Hv7gPSikvbt90M09Ev5RPVoxMrvgjDg9YOCTvQ7wAL1kaFC8g0IqvZ4Dxz2CvaA9G2mDPDDmlD2CzFY8Ta0NvQZJ0D2MAHy8hFORvXSFxL2W6W69pxpdPZ+icj10uwW76aGFvPhQpj0bBTy9W59QPY78xr2gPcy9WfCAvYD8pj2hLMa8j8BHPQS+vr1MG6Y8Elh1PKcxBT1TQvC9lBz9PYX6GD2nAou9C3qxvX7lXr1cIPy9iECqPNuDdjz1R/W9eRW2PZZuCD1QFko9EJwuPAhq/TwtuF68ncIBPCL3lzx5Iea9mcivPVczYDyX6tY9TMaYPS16BD2i+oM87+C2Oy0glLzCS1c9WcZzPaW3WL2NgM29XMXovJBD9T2Odko9QuXivZ+V4rq04Xu9eTKgPOPxoL2k6vO9hSNTPNZ4mj2XVKI8/aBSvKQzbrrWBDu7yc/oPPrjLTyz2eC9hCMtu9mKyb02dBa9PeyhvIfPQz2QE6g9iD6zvSfhxbwxYDy9f5apPK7Sh72lRVu7nplwvaBlj71OW0+9ePO3OmrnTb0N3dc8ntjXvN/Cdr1IxLK9b1iUvMFVRb0tRFq9YUWQvWQMvr1OOtY8cnaQvUjhBb2j0za65NrmPSLW2T2GFKA9PTL3vQ/KXb2iC8S8og0iPPfmwD2L0w49hn4Nux0T+D0eiy49B4mYPSN+jrwjjDu9Z/OovYioKL0zipM9UIrrvRsspz0OGJS8Oml+PHU3Mz2mGGI6bMqrPRlYKz15d4Q6u1CFvZgzDb0JSki85DjOvS0xpzxEDvw9ZkBavTjylD2GFBM7+fRZPYFywbxzRGe9J/qfPVaBqr2KDwg9HRIfvR3YKbxtoIK9M6UNPZfR0zycb7Y9ik1TPaXauz0oqh69lsdQPRtfZrrS1V49ExkPvI7z4z1EQnc6l8wDPaNtkL1PE7e9glV7PSb2ob16IS08NmSgPLnFuTzM5Bw8o6cyPKbEbL1ZaBC9mLwpPI8oKj0VALa75ftJPYa/l72G2Ko9o4EQvVHad70b7Ou9QpFyPYpkUD1wBNq8jPchvY/b5b0409687b87vUEGir18wxK8r9T4PZ6QzD02hYI9ShJzPVEkED14StU76AMRvaHWi7ztFwM7a8ayvN9LDb2cKf69XJsPvQGcIL1M28U8tPGxvJhdoz0zuoE9B1K6vZWLZr0l15e9b8QfvRB/8b2JFyK9a5+eu4HSMLzVKFO9KhHoPU+Z2zvlRuy8asikPPbb3LzPXQo9nagcPRyiFD1tF7o9YgFmPYTEmj1rG209i3k+PU821r1il729GqkjvYd1LDzQWmA9kN0aPZzwKzmYir88VsS4PLT1grxMC729mugDPT9/rDur4Jg9nQWvPXg0cb2gzAK9nlKivYRgcj1u7MC9OYfAvZMmDj18udM8u7EiOy1Yl7w+vDY8wGrqPZj0zj2MW7076yvOPZRKd7yxsMM9o5xOvSWLqL1Yx9M83YvWvZ64zrzxxx68oFZZPRTLZz0v4pi75bPsvWjPfL0nBXq9jfl7PaFRITwUY2y9jnGfO5+8w7ySPVk9g749PA07Cz1X4S+8N8x/PWFKFjyXO5g8Iub5PKJUmL2FPTw9iHU6vZ8hODy6zBW9pNGAPY9/J70m4Dw8VWDEPIsrpbygU068lPZVvJ73fz2WQFM9ldHFvXtLTzvx0wU9EzSQu/jthTy1ilu9GlaUvLniYj0KANk9n9VyPFQyAjukc2I85432PRj4qD0X8Ao9NnQRO//0BD1NJQA9LWylvVN0Y700NUa8AYcSPJF9dD1RROo8eQa1PSO9LjwTg0E8jtJVPTY8JT0vLYS87Q/9PSkHFj1/ONi8CahcvTr3GL1hahI9NirrPTVELbtly3A9agUqvGR4eL0z+xQ8ok8qPW8g9zzMibQ9OgOtvRuMMT2HW3C8J00WPTywur2iOO084Bsou6Y1HDspnm+9n53vPSVA4Dz/4Q66LTmQPYiWwrvoH7q8rD3cPMzZETzScSm9jU+JvZqnc70ep+a9FXdHPRA2nL0hxJs8wU7XPZ2cm71G+QI9UUKCvYpnOb2GMXq9kRxJPaSpo7097Tu9cGcePRVFgzpx+p69m8E5vJb2cL2SrKe8/KWOvXT8ib2V56u9Yb33PXRKGT1oEtg8oX8vvOssir2JAze8aGsWO6VbLz1rrsi8yggFPaHcqT04ACa7mWmmPZHOhj1HjU49j+qMvXLMsT2D/ca9n2Q0PZQwODx8RV+9WwwkvWFlcD2hdIO9hmd5vLYXD72G8a49fPgdvQ7qH71bnru7qx8BvP37RzwXwTI8wcPIu0//qjzXQzK82Il8PKZADb2XRIC7NdUgvZExqbzpfRU8JLXDvYnN/r0g6ng9RYQQvQvJ/L2Q4WY9neHtvZXwGL16NpG8+FOHPReoB72f8C+9MiQ0PNjbI7yNZwi9W8kxvNEDGz0hKAY9h7VkPQ/hSb1TWqs8A0W8vW1W1L2cx8M9dJxHvXYXurzF48c9iV1PvRslEr1WgwO9Rk46vNWz8r1cBA27idE6PW0GKT2dzbY9BHBPvEp5x7zcYXK8zlYBPO0z9b1wuIC9aBT4vIdlTTzAhry9Um4uPW36Kb1aAGS9arCuOuv9kD2Sz5s9VvWLPVWV5D0D8QS85N+NPF7Eczytkly85cz9PYwKeb1kJL+9E2xaPJzSxb1FWrA79dA2u97CqD0A6QS9oXHpPKHVgruB0BE9O+0avaIlHju8m9s9kTKLPVJ5ND2hcAs9AEjivQGLLLzmtNs9LhAZvXzG+z1kE4K86vMaPSsO+7qoft09ModBPSap5jwYG2s6s7mWvL/6V71H8sQ9nYHVPZS0+j1OnSe9AtzwvB/+Cz2MMIA9X+0ovWqW/T13Bp89oVBrvVAs2b1q+ZW73Zc/vMIPBjxG6vo8HMjaPRFnfTyzm3+8Zs0Luy8vtj1lJOq9kO3RPZoqIL2go6g8Dvv+vUl+Xryr9SG9pvBevYuko70iioy8/kCUPR6UAj0MVGc9eK0mPXbPrz2I2Dq9RL2LvOzv9r2Mnd+9hrCOvXNozL2FsbU9d/J1vGuhLTwF+Ii87wRhPZKPuTzwfc49kio5vaN4ur0rcjy6+TtVvZtTerztLA47jAaSPYshEr1blgk8uevAvXUzoL2Av8W9fZ7sPGBsqT0jl5W9SOf1vQXHTz0v4lk9gK2bvS2Ma7yzXQ67+oaBvRwEC7rCgzA9lpy0PKgl3T1Ta969Q8iovWCW8L0rOTy9mAp0vIXrrL0v/EC9lGsvvU9V971LClG9ieXqvKwSUr2bAu89mCaavXapyb2TPew8wRvkPXR/8rzcNei9V+RKPAiFkb1cf2k8ufRdPVngMzwtrO89LdoZPRNBSz0Nek09RRZ9vPqdbT0TR669agwtvVsHgr1NUsE8WOUJvTLmzD1hj9i7355LPXGyfruvtE+8XRdXPVBQRr0ptuC80LyFu7yPMzutQMA9ma0TvZhfCr15++o9oto+vVHwUbpPJyG9gkLSO42y/D0L8KC8gAKvvTKGvDrz3ag9RW6SvZrBdLzb0qk9puhGPaaNuD0LNny82tpIPU6WQD1WEe29akMlvXM/Hb0PPDA9iSfkPNY8tr0WLC69nrFgPVBC7z0aHso8/cG8vZEY9D1SMZO7jYopPYOOkT2Izig8nqdhPTidub2gFx69kfxJPOG6FDxLkU48202SvMscfD13s5k9eQlku4pWJz0CE/i9gKx8vZ3jfLyFFC49TFPTPGYRVL1kVhg9Qov3vFEalL1oRW29jng9PV/OVTzIRwc8CBv+O73F4L2LdI28Xk4kvVOdrz1xE8G77RHePDXXiT1rwQ09lHuGPZe+Nj2CwAm9pPBAvYPmizy32Rc9V/7rvZ8VRL0f9DQ8LUKhvYA5hT2ETEG8JqPzPSBZHb2C1988QkCGPRaYx7pbtYM9GBA7vSwCdb1TmeM8RFpEvWa0S70ZWKY9ZEg/PVgG0by+4A68nQKJPKnKR7zU4t29nTWVuK1XnLyWX1g9oy4hvZIviL2EiQ+9cR+1PY5mqr0FGm29i7Ovt6ktmDyovaK9JGVMvZNUFr1zPkK9TLAxPVuvqjtUk4A9RuW9PTPVfb2UKvQ9Jj7oOZGd+D1BvlU9oYLEvR3onb1cE3u6lsv2vXwQrT2kK7g9pNwuPTBHCDrTZgw8+AJzvWDClry4hAY9is1VPW624r1w7Mm9JT9dvYgRuD0AMKQ9Y8JKPTRTX7yJ8bQ9ViZCvOg8KbzJzmo9iY+mO4eMszzV7Yg8hlJZPYF1pbicdg+9kFkRvTIjub165XO9ce86vWhPL7u5aeM7+SjMPRsK6T2gMLE8vsJLvRA3uTzq3/+9eEABvXcgBjySE009ef8rPBQ+hD0XoM29gzMVvZ4kUz0goso82hQkPaYUm71cBTQ9DTmtvGI3qD2S1uy9gqOuPZta0b0qlJ68hBX7PSd55D2PtN27v8fcu5NfXjt7jec9ohnhPDyeJL0Y95G9ClxWvZ/eO7u2z3Y9pvSnOk6YFLqiZWW9Mw6cvJpSeT0aSIk9GyWUvSuNqztwjvM8pndTvV/WJDugI489cd6qvLVAxD1tEnO9RkNuPDyK9Du3dHq8KsjSPPn9iTut6cQ81mh/vEN8q7wrRS29ZafsvUfiqzwIAq48BclMPG5Y9D0Ix9M50vO9PXhhx72CInO9BTLuu6M92b2htO09R5VOPCBCd7yzJaM9nzEvPWVcyLwR/Fu9U5P/vVSU+72Lylw9hyQ5PQTCD714n2c9fF4kPSqb4L0gQVK7xxbIPG7CFDvBVVU9K17LvN77vz1oEDa9Ls4HPUjH/r173Fc9mwcivYa6WT1y6Nq9D2sRu5ZALbzQ7D49hHflPaDnOb10yZu8ug41vVqAiD06MyC75SlyvVgLCDyBjw09gea6PUXdMr1XHBM9Gk5APV0kRry+jDm9gO5nPZAw7L2MoDc9DO6jO98ewb0GwEq9lzZBPVWGfb0DZwQ9gdE3PPNuLz1gGWu9PxHQPYhlNr0PWl69KJs1PaMKWr2AKJc9W9xePZLpZzsGXgY8Xs2EPL2IdD18kY0876bXOnVnNT1jfpw9V1PfvYBojb0qOBS9Xu5rvF5H0D2X6bE9HsBTPYIRArwfRBa9L9eIvLwB4rvqBq89kfWwvZnQUryuFSm8dC9uvRE+eL2LYY85Lgvlu9YsKLxF+xe8MZSdPaXiQb0ewl29isFovPybJTzGmgq8O7G5uEqSpLi+cqU8BeRovMp8mDwsnYi9iWMVPOL5ZD2LnHu9lOtZvK3VFj2C8tw9gUzyvVSbIrvXIvy9WugXvXpz8L0FKjm46p7MvJ/QGL2ECSm9jj0cPY59jDyZu2c9FDWWu6LS+D2HKSW9FR8ovEWdJr1GwG88Q8XevOtnC7xATr889Aygu5xd5LwL01U7pPC3vAEOOzxV8C89e0/CvPBjED2LQ909BOdivZkMwT2A1JI9gg4+POtirb2IXhE9OzUwPRz9AT2Itjw7JgrQvIe+PTy1heg9mGN+PTtjR7s07We7mKVIvSYKPjyVHsU9hFdQPWSWqbuIVKi9QvlwPLCgTD1ttuc9VUyxPQkgMz2lh6e9kiDyvTs9Ib0rJzs9fVfBPLYrgz06f8u9Sx3XPUfXtT2Tsi+8pPD1vaT7e72a8KY8uYxyPSKDbrpIVxc7phFtu9wpyL0QQPg9gHVTPRcP8T1QAlG6IhHJuYBBnT1/ZoK9TXpQvXh4cj0sA308FYMovSPmDj1WjCW8uV0mvL0KXj2VtrW9TMOQvOz2Nbz1qMY9kOoUvJY8dj1IqGW8moM4PWXnwLvIvP67eaxWPYn/lT0aT8o8fPJ4vYB4zr0zeA+75rtTvBCE7j1T/jG7wmYKPVKEED0/hMk8tEBuvXMcfD19k9S8gz0Uu6piEb2S4zU9QYEYOxKn0r0Zptm9hhJZPLQ0LjpEeNg8Yyz5vVk2xz2aulm8w9XPuz8+cT2Tmde9M1I3vYB8Zr2HjA48g+zFvWHQELzNdyQ9oc1EvVz8ST0q1sO9nK8eu7mXSb2FXiE9jPk5vQ3hEb1aGUu9kHV5vPqu0bulPNA73EmgPQdJYTustPc9mEfOvGYu7r0xa6C83SKRPIr7fj09YYI8Hn06vFkbaj1mMmE9mIrcu7eaHj0ISiU82QnxPDUghL2llE47IySevW3JlDvGz5W63LD+vEF2hT2STLQ8D61WvVGANj1q1GS57dm/PCdJ3L2ACO08jJF/Or0LY72GsMK8zZatO7cwOD0qVty81olxPV5GuD2Ap868gbl4O2TiPz2D89i84xtlPFygaz0wna89mlkzPYxYHr2fyk08SXgNvVk3TDzlOSo9arZlPY/VVDzkOYo9GItpPV78K72TQPi9FWEXu07On70LVAa9ovfVvX9thT0Qc+u81QRXPU/vb710t+M9XbJ8vX4a9byT89S9j5KWO8dwBj0OemI8gKsGPaSy1z0XDsq9iJ7jvZ+YCz02JB87v2Q/vZxsoT14PNQ8Z+f1vTrxJz0YcvK9n+d5PY0u6DyTw9y9fsnvPYMpxjmNVec71LW2O+qA1b2VQIm8iB1HvYLwXztYo2S9HuczvTu1EjuvL6E8pnzcPZL4sD2O2PC9GruJPYntdT2fQAo9AAUQvUY1ej2b6Ty83NHWvSqxDT1SE8k9d3DMvEm47D2Aoja9j0ATPEhtTT13+je8VTFUO3hDmzzn3tY8qF/rPLsvnT1KEbK8KWaWOnlgPT2MfOo9plHAPHpQ+71pSW68wG/6PYL6BL17L6m9dBLiPPDZ7byZX9U9fD8gPV7ay7u1QUK9UbeNPaJFVDz1+BM9jTiaO5USJ7tm84C8uNhevHoDNjze1tI8KkJYvaBUuj0IATQ9YiL4vCTfcr0EBHg9SNzyvS8NU71h+x+9nxy8vT7hPb0mn489AHAQPYZYyD1113K9K7x5vUGH5L2VQTY84CsUPR/5GL2mRNG9EHfbPNew/r2iezu8RfsrPYCDt71OBx+9OYYePOCzBr0I9fg8XTNOvYqGHjxOhYs9hYtWPAl0mL1ZNPY8mvKxvQxUDj03xCM8i4dmvZlpWT2YfqI8tsFhPXsdDjuOZ8I8q5hQvGjui72QLju9MhNTPX2Fojy3zFq9mvsXPMNpkDkAIPQ8nu6EPT/b07xAL1o9oH/tOu5//DqSCRi9m70wPaJsxj0JUAS86IdmvByIJbzNZlw9dz2tPV3Lqr2Hzuk9hn4lPRo0ND1PRzq9ZpafPYcEgDz4y2k9Hq7CvMGO0L1+ghg9gIT8vYHyuD10+b+8d+dsvQ3Hnb2jdws82a7vu7iUIb2TIiQ9gDdfvaGRzzyD1K89ljQMPV02Qb2F0M29F0JsvY14Gz19lrU9k8vtPRU2Pr2i7Wi87bULvTmkID2J7Q+8emKevUAxwD2BN6i6DFUzPYRkcL2faVm8Td7GvNNdbz2QPiW9mVJOPQUgd7yYu/s5hLTKPZm0ijvtN9U9d1WEvTq0pDzQsVq9DsEnPTB8ljv2zT69JLgCvVe8vT08VOm9mpG2vYKJJb16wWK9hJvDvZYiWDvAVEy8LNeWu75S4rz649S82MuaPXb+fT12p1Y9P/a9PZNE/LyoDwE9mxjYPJqN5b1Zrku8qWumvVQkSz0zBtC9cKGRPMtcLDzTvDa9LRnQPUkBVb0q0A882+XEPaNLYz0FtiG75xesPX+b47ysMR89ke8AvJi0fb2Wy7S7c4G4vaZcCL06jII9eqcqvDCBCzuC3qc9a6K1vNHtTLyVONa9aQX9vXGukryJzUQ9AVY+PR9WOz0lwIO9DEktvQZO7TvBFfi9lybwvQAZfD2Gj8o9UvSOPX3Ww72GFKm9R4VqPVHQTbwek5k8buSJvPvaxz1i6jS7vuAOPW3akD04IRs9kzoJPV15xT2TA6E9pc25PZzYdz1Y+WM9WUy7u/0TIT1Awdc9cS5xvZ3jPr1OhVw8hnLtvWTOrLzXNpm7VbTevEiQvL1Dcom9lOScPNPztjo1SFw8JyYjPMUxJjywxo09ZH0aPVif9jyAdCO9pepRu2vwqr2btNg9icj0vEiu/T2kTa67HXm0vJAE4j1vHfc9jGWMvIiNbbugUE69UqI+PXaAsj2agcI8rZkDvYhCbbyytFM9cMIIvWREJzzAjIM8scjUvZkB/z0LK2G9FqWwvToRs72MUBA9nbzivEhYrzyOOSg87x0evTQkhL1W+Qw8mUOvPSQsiDwuxeQ8xqAVPVihuj2TMDM9m89/O1lBdzwq7x08tTthvV7QoD2B04k9ByK9vQaacT1anIG9oAsEvHEsNb2ICFq9KOsKPYKxAL0DjZm9pHpDufaAFTvVMiU9M5NFPJVA5j2MpWk9PgFoPKRY8z2hLN+9T+7dvRGlXL2CsBU9opyyvIUS1T2jySO9BhZgPK+y0b1g7ve9luz/vFMZA72C71K9opPQPP2yxr1hCHA8VKw9vZI2N72XD9+84Ig4vaSLfb1MrlC60mQJvY8jh72cd4Y9T8kkvY6LGrtjAIO9SUoVPJNzAT19cJs8E+P4PW81tz1ZDGE9FukMPX+6yD0bZTS9i4HDvVml1z2F3L+9hHhgO+QDWD2RtLs8YQ8GPJC/vb08s5A9kRrCvD2RqT0w1SA9WT0/vSL40D1SUCW8rcb7PS0bir1KmxI9hUSzvYgVvzyTQQm9JPsqO4zJyz0vgIi5wWhbO6cWyr1xbC483WK0vOfvWT12aVC9QF+9vPtk9b0/gX08HPx0vQ/+ozz0Y+49kyhRPUqVHzvaH+A8QrbVOw6xuzwC/c29So67PRaus71I6Tk9Ugg7uj40mDwVMqY8uMGRPQG+VD2hw6m9FUL9PIDfkbz6o+u8lUF4PC72rb0ZKZ49gbHWPVoo/j1vaNQ9O5TUPUuso7zx9+y9JBz3vXkVu71QX/g9AHb+O8rV6z0JRTg7j+EPvHpTt706SBs8xdVTPMr+pD1/rfE9jj6iPB7NvL2GZVa8mW+8PXzgm7xYJg89hG7ePT6sZLt8ebU8rqnJvX5o4j2dpw88vVy2vZTHpzxcUjM8zEaBvYNvlTyKK7e8CrBgPRronj0TNeS9dtCkPZ8p9j0BX/g8weWQvC8dTL0LuDe9kOZIPYRvu7wvaTs9gtrsvRHwlDyd5GY9ew6NvLCS7bz6uUo9JDmGvTZtHjygHiE8rR/TvTAvyz2Irja9eHrDPYRH1DzrpYy8LaC6PYD04z1cS1K9SCdwPXGAIrxT70M9k7CavaNftTzzfeK7FL+bPUKyNb1xns49DLDMvZICPD0Z+/W9gu/YPXczW72dB3e9Pnv8vZEqNr1ibKW61bfOPYi+Lr1oQfU8KbefvYDK4rxNAMW9K8XYvJNDQ72kqWa8HxF2PWcmnT1FT/O80Tk4PBFgSL1CeXE9mvS8vS7UqT1k3/M84j7cPWJG/Ly0PuE8KCwxvNC//T2nGgy8kWf6PUau9j1U+429HG5sPLV3g70T6hI7928SvT/F9jypsgK9pinePV+5JT2Zypc9ml2EPZi64D2gPzm8FveFPMoRWb2BN6W7jf3wvH/M/TwDaWC8VlEQvS+nqr0E/Pa8An4kPMQUETz7Xgm9Oxoxu6gB8DsHooA8pAQYvRfsYT0IDIq9DdpcPTHUOD1AE7Q9D43CPTWe2buNR1+6LBY9vQm9aD0wQpW9jpDuPVXUjLzgQds9gpMzPZrx+zyhUSe9hQkQuyLGZb0wv8Y7r8C4PVPYFTvjgDc9fuQfvVW7+7xVCNS9kCRdPJzHIzsqIWY9nJtavVpKLL2THAY9W6VtPS9MTLu7yyi9dKTQvY9r/byG+UI9ZAcpO7A2IrydWys9BwyZPZbHfLzEGkE8NltRPYzqVb2cA7W9R6x3PXub3j1ZweY9D5MGPCXimrz4/L+9fFsUPPXtiz1FGKI9DRffPVwEzr2Oryo9pMjYO/YqRTu/P1e9JL6ivWkB3TwsyWG9BsZ5PMLaBjzf8om8WE2zPZOcuz1yxWO8W/2mPZARHD0ZjyY9ltmcvJUQ3r0YEGg7BSbGPYvCBTw4++i9nHQAPYQWpT2fnI+9JdiZvZiJtT0FB2E8dO/WPUMHELygCPY9L/JAvTQlgTzw4Ty8TzXePaHx2D1PjvI8sMPLvCHRkT09RCo83OtlvJ76pL01ZWg9hkRRvYLLQDsQjEg9AIvjOhEIYzzjImY9XihzO+N2Fz2ivnY9XPx1vWYEbj2GanK9WuaQPaO3yz1n1KO8/WyOPOK9zjzgkpw8+3TWO2PvQr1WE+C9lmLtO/Vl0jsr83W790d5u5VJmD0f0na9ph3MPZKsnTzeJkY8VnwNOnR/+r18npM8WT5HPJhks70uFTG9iMNgOyLI2D0u+Kg9IOYNvX9DNDzh9PM9Einlu5G4bD0QcKS9iDKcvLTk2r2S5C89BfRcvSVrgT01e6Y9SvbAPBmcw72RAHi9NjA/O8KG3T2UgHM8EwYrPZ/nTz1uRKi9X/vvvYcCCLwdQvW9gWNzvVewxLyvlWe9HAn3vSfsj70zuoO9QAyRPW7CNjwbK5U9nRk4PZRKFT2Aow69HUYsvNJASz1Cpkc9b46kPNIV27yt6lY866kEvWuIrDuPW7o9W6mNvaUqGj1mtlu9Nu/9PQIkzzxCZAo9hAgmO69NRLypr+O8Z3SMPNn4r70gpJY9QzIIvZ/hlb0onnY8rCnwPIOmGj2XXlA9NL5tu/3O17ydvom8UrqgPJlUlry0FpU9cGSWvSlpK70Sa4u8ULcMPTEc2jxYhU27pmkevT5Hnr2FhEg71pNxvWi5fr1cn4U9iiIXPL4XlrzMV6y8/IK2PRiDtz2mBW0880RnPRd7zT0cnP+8Dbg2PNzhNb1GncS9hQmqvLFkA71R68G8BfpKvZFV/z2LhVS8ZaQ/PLlwa7wQBVu9MnXivVekTL1b30k9RVkLvaKbGDvBJ3G9ovrLPNj3eL2A0B48sKMDvUCQfrzHl2a9ESoCPT6+DbwHcPo9S4nAPTBkAj2YIkC843HiPPVU0T1WH6K9T4E7PRUd5z1mVeC9jklQPU5BfT0+/yA9GGfaPUoQVjyVw8M9CS40vZhxeTz2zi69MWvUPR0qxT0/8ta9D2ObvKZkZz00vw+8sZrmvZyDXz2kk0i9NwRivYHBLr2cqgu8zqFtPMkFej2nAVg9Tj9BvXno4Twy22C9oE1oPYvgOT0p4ni8novnPOBeRTyzBk29l5C6vWsGg71BeIs7qgh/O8h3BD11NKg9cSHCvMdSGbu24j67Id8APJGgzjzKUkI8QW8XPRg3Ozyh5/s9Y3+fvYh1kz2mBYA9kGoYvZA+0r16Riq9HtlHPYDhY7zEfUY9a1kSPXhROb2K8mS8uM+cPUnCI7zP2W66hQUivEW4Az1gyAy7LzgKvaSdrb2Q9/W9d99vPNHHIL2Okua9Fp1kPSAHzb2Ue5O7J8K+PUzWX7tolTg9IiTFPZueMr1GJlC9CGTGu4j79T0PLNe85ixwvWV5kD2dbyy9LPyDPZwBLr2FDbC8RLlEvVhktr2RN628fdF/PN1xdjzTYRG9Rj2AvST2RLztsj+8Z9tYPU6cwbtwxNe86ihDvZDvGr2U/J28KFE4PToVzT2Amoe9EDs+vVm56L2OegW8YyJRPUFsgru7cpE9RqHWPZ+qez2hst49ohryvTLCoD2dpvw9Y4ROPSdSM71iG0g8XFYevL9aXrunvJ69Y9jVPVIRTj2OrXg9hdxnPZ9/FLyXSHo8YEKdPLW4nLziRW89lu6kvZO1dbxOIEw9Gc6nvVHMMLtaqtg9Z2IOPZrsRjzN6rK9i5jlO27tjz0fJEa9ky31PSc6p71Jibq81rx+PRF4E72HePe9hSx0vNvEBr061889E6Piu6dURbxmDT+8fmvQu5LAzrybuAo9EBUdPQyZ8D17U1+8lhk1vU2aWj0wOyI6yu5qvaWsaz2C4sQ9fu8yvZ70e7tMFAc9aUA0PW+85jyxYXC9lLzSPXdrWz0/LME89l3fPRSbAjuidJW9OvG3PZpY7r0MQjI9HeASvVo56r0BZD09pF+DvNs65bu2KaI7xUqFPNYXr72bp1U9QS+mvPFS5Dz5kU89pV+fPJkqQD2BqxG8mhn5O1JwH72VYzY8A4nKPXhlCLyxJda9hBs0PRyQOr2d6g+9jpY6vZ4s5LrUqLq9ncWHvaD54T2BvSE7lYKWvHRu1bzA60Q9H38UvZJN5T1WhS09Gzh5vSBhYb04BmU9IvzOO6Oh3jyDtEU9lRHcvRjXlL2U33u9BblevWvPib2Fqfq9KPv7PKt/T7z3DUe8Z0mEPL2NYD1vyDS9lVmVvYMpuz2EGkc81OnYPVvTGj08UKK8Qv1rvZBFyTwOibk9flh7vZoB9boZ72Q9ptjavY2U4rxKqQO9KjiWPWBY/70VLFI9daauvRYYTzzvBJA9mfF2vSRE9z1045e9JchNPZZUV7yBqk09gkavvTHrvr1B93y8yfItvZjdsT0CpDG9g3mevSeOw7xry269dtx4vHwrh711DsA7uWOaPWiiMTw2YC08ibxyPYcBtL2MXQ49h6iXvIJnFD157BW829uKu7r9UbzTNtY9bAN+PHB7cL2AGvc7grpRPLAG2zuG94Y9iGBTPTJG5T0tEt89ndL/vYxrib1Mjtu9QYQBvZviGT2evg+9gRVmvGL4T72Ne1+9niLnPOPBfj0S3FK9fLAWPY5RuT2F1Ia9KRjGvTr+pTrkR+49FE8yvZ4Ocz15lrU8BWtcPLl95Lx/1sk9RY4tPaWjhr1d08+89GgOO6nz7L0VCQK8kqfNvWQCvr05sQm7WaU9vUwew72XvDi9H3NfPRnLdz1e3rs8kGVqPL7vjb1aMHk9dex+PaL+Tr2RkLc7IstLvZpnjr2RLJw9pF5/vV3z+Lvuglo9h188PGnwozzAUZ89IaUUPS68Br2ThjW9Am4xPR9RnrrYm428xsauvXIVCLxVMMI85wervQVmEzzn1/+9iNBuPZGvwb0BW3M9I2JWvHFt2z125vQ9nC76PYNqmzyuBGe9kxytvYD0Vb2Xzdw8r/XQOqdN0jxtgzI8qfpUvXtOeb1Gaua9Ln4XPQIRh70uMxE9GIo/PZ8S0Dw2SSY8+a5WvT5YpD0nm149idwvPLpfzL2bFgw83qahu1nCeLrF2eY9GpeqPRTOWz2Jk2E9gO0MvFPbgL1IKyc9Iv/YPX8/bTxdGwS9KElavK+B+bxQk7y8vvo0POmbMb0d46+9DRRSPLwkZryQxFU8xB/4uqE+er2QDPk9QaMVOkWREb0JvcY8ew0aPWCgFb2idHu88e1FPYRUUL2lDqc9iDbXvZfhAb1XXgk8jkgUPRuQhbznuUa8oHVFu2elKz2M5cU9ofYZvWuOH72mQ/W6jYgzvRr+QT0mKGK9a/6OvHhaJLtJKWw9aMN5PUNQYrypxgO9hX42PTOMfD0yiG69NVSrPF/BKDxkXN89RE2CvWZOSD1thDA8fUa7PLs9o7woRHw7E9IBvXftu708I2k8j8MtO+Hm572HP9w71d8+PCr0Iz2aibU8SW5LOvelX72YNEi8xjEpvOG7XTy0Kli9STVvun3BILqBbxE9oaPHvOeSjr2kj1K9AuGKvTuOdr1JMwQ8Zv9CPS3QE70xOf69OF4MvVyicD1lNfU9F2QLPG/elj2G1G49B3CUvT2wFj2d3Ia9TBP/uvbkBj0639C7pDuJvDXlnr0jBMw9PVblPQAvgryAcM88MNZevZml8z2lNOC9pQVcPIRkWD09jzu9DAVOvSlYpb1VVgi9RsO+PVqiiTwo6Ca8t9qUvZzszLyX0x68lOFePS7rLz02lp29FKhgvUhjxz18Sh49puAdPT5QAT1OwFI9hJyDvTyxiz0UghU9IfsWvZFrtz0QXw69l8oUvAGPZjzE/EI8um9PPUHZzL2aVV473iyVvXsg5z0VwOA9XeiHvUCkh7yTf8O9KeLYPPYgg71LPzW9dlS9PYmcZr0TMKI9T+vAPZSDSLwVUPG9VrC0vZuXrjzhMjE9cC8ovVujjz2NaLs9hw2fPRoU2T1T8z682bScvMYYcTvOl6s8XSTGPBS9hr05IYy9SrRNPR9W3b0jax89LDV1vUN2Tb0JgXK9k+7APKIQcD0io9Y823aFPVWBuT1+Dqa9O96kPZ1aLL2IMHo844TjuyRbtD1CQ9c9kswzvYU28zv6f/g8qp8ePUCjH70vUE+9Wj15vGj06j12pA09MBiDvTOWmz0gfoU9SEaEvB7YEL2mlBW9fiSivPMdWrsDPqy8tX78OzuzUTyvwfK8zHplPW6sxTwj+YW9AW+9PMiN4bxDqqM7vAfovZPLfj2YZEs8t13xPNNP1zy4EV69HWmzPTT3hTz5axM9FhJ+vLsrmD1vrlW9KFN9PU7ezz1Gxgq7M18ePY7y2LzX+hw9hYQSvEeDnr2ae7C9IUmSPJfv5r0Jx5q9jekTvAZb3L2MvIy9AtwAPWzeBT2MOkW74wBavUPRAbv3GB48iZS0vZCAbb2eB7g9jzDpPXs/r7yrVwS9neX9PMP0KjzF3Nu6iPFtvZNY2jx3Vxy9lldGPaR1qD2FFGc8J78xvY6lYjztaa69id/OvUIJwb1wbgE87TCrvOU6RL1Ibt89n9rEvLdIp70q7LW8oU5hu3TsaDuC7W49oYHePaUzWz0E6dW7vc9ZvYFK+rvb77q9iXbBPYPkzzy6vbG8jUg1vVh++bzFhKO9dVu9vTRTTb2j66A9HoSTvML+i7ylxlo9aYCQPQ+/5jze4969h02mPUKKszzG0QM9VixZPYTx170r5Si9h2PBPEinJjuwUsq9JPEqvQYH6rzkeE49loM/u/+YKT0+UeA8kcfGPO9s/j0njdM8gJLRO67V+j0UvJO8lHOCPXus9r0Aagg9REjrPHKPJD0EpbC8aaMyPFe/lr2fjcY9j6K1vJgnKL2QKKw9WI+uPU4Kn7sUVFG9oRszPVol3j17TFo9OA5tPQk5sr0N6TG72VCmvQ80ibu73CS9CLSjOvkOQzx1wvG8SlnvPOZBHj2Fbnk8bwx2PXEOfT0ar/m9X+w/vQEfyzy0zpW8tLDXvZ6BvT0Emyq9SeoTvF/Rcj2EheO9B8IuvR0cY72fdnG9FK9JvPqbwD1WHMw9nF5iPYVOGz093U89fOJnvXoGVT1Cg8W9UTNcvYM9Gz2GFrk8kGZgPYE/Ob2Qq6q9IlIBvWpQUj1Pcsm8xgoNvI2QTryW0kq9b3hQvRciSbpPNNi9mqQ3PUqDCb2ileE9U+cTPCQW37yW9Vu9gFNJvYk+h71qOZ88iQ81vRG5FD1n71m9plDlvNzQRL2aR0M8Afk3PUcIcb0fkPU9XOpKPYQlu7wzSOg7nDi9PGnvIbyxz989HPMTPXhuJT2RErW9fcODvYbKijyaaBI9hq28PYPLeD15BCi9RERlPNainDuj5aO6wvm/vZ5dzb2L/fe9Jw/PPQ5N2zzfX1w86RTxO89mkryc89y9J2kpPYixzT0/K7Q7mThBuBrEVr0DI809e1n/vAuCDT1TLlW9i5JGvQZxYDvigD48TwZjPYw+gT2SDV27wHZYvZ287bvE12W9fFOmPJ7jzT0TFpy84rNBuw4Xar1me0i9LGofvZEdb70zLii9FqFzPNpxWD1+NcW9bLOQu9VosL1R0Hm6xMRKPRX67b13wMG9CQ2LvXWCJ702KCq9Ra6DvDqCMb04y/q8oNmPvReRxD0KRFo8ZyK8vP8aIj2Jx4k8gGz+PUFYSDuQb4q8YtVdPZRl1DyeUBO8kcwPPSaWYrznhlO9m78svYYlEL2Klgu9jf7gPI6ysbxj14q8zcr0PZAmGDyEBeE8m/avvMipj7wJUk29LdaBvX4v571laJ+9azWQPOSGEL2GS/Y9KbBWvZBfHb01OUw831dHvY+3QLz5oxy9gcYgvZ/Wsr0nKMU9o+06vDbJ9L2YdZe9FGe4vPxiW7wEQd49baBWvNW/YTwK53087OVjPXuzxTy32rS9SgxEPOib5byqBia8wr6HvJ4Hsb2e1Pc7w0SePOfdl70HUmS9DinrvWEolL2R4TC9J5UxPRLFmD0RBXO9kBL3PWXmbzzPmnC8sUcGPTyqeLybhp+9m3S+PTvXmTw8N+q9jQztuw7GebysnOG9f6PzvPX9XTx2tkK9Fli5PUW2Pb2NJhW8Zl9EPXZVVz2Qw0w9innkPR3xQDwvy389jjk5PQGoAj1dYtm8Gc4pPXNx1L1gi/S9GOyDPPEiIDyX1CM9hsZLPBqBGTwvFK89nj7DvCmN8b1auqC9iG7iPS079jwaPOG8NDyNPQ10sD0KHvW8ZrmnPYXVtLzBlEg9miUfPaLsjzy7bpa9hYB2vLnrCTyQLU08a5xHvTwJlDxjY2+9ZCAlvC+aBLwihhg8+mzdvIUJQj0IWTO9imi1vK3I7L1ytRs9kRM1PYfxxr2KWEU9ZaULPRKqZ7vECl+8YAEMvJHbWT1cdtE8Hj57vYUBjL2dVIw9nknzvM8wmr0/6dG9hfKsvVfTc70ffqE8C3g2PRBMZL1Xy3q87klSvYkMfj2fCnI9jNCqvTGZ4T0AX4+9pSKdPZaJpTwomzK9hNojvQ0rIbwlB8i870C4vRg4yLzUFk+8vG0cPRig3T2FgeE9Cn+PvVEl6L2Ck0u9RriJPRtTND0CQYS9DEk/PCgCbr0LlLu6/DSivX0KXD1RHAK9XXoZPIqCYz0QF/Y9MbNduvX35DxOPE68nRxHvKZK3ryFHGK9GfYrvCP4Ij1ciaO9LwAzvN8Kxj1TXe88xk3NPVqMLzwADyg8gzSRvAbslbydgao4iJRYvYzNEjzRAY69jjapPVaxor2YAsg9hehSvIJbKD1F/Y88vq6uPXXTcj2USOI9gsRNvS2WQjuOwuG9a1EnvZsBTL1muzy9U7ELPUD+KbyXeFi9JxwLvVCAiTySJuu9CzeevJ1ZID2Dzoq9hsyRvaBKEL01zL+9eiSYPaR7PL1425S8/xnkPWx47T2WIKo7Vo4OvEM1ELyDtlS8+Nd5vUutm70Aa5o8z5h6vQFrWr1Anmq9pEtVPNxFCLpQdZE9O1yTPLCbrzrklK48Vr1KvZWcBDzahAo6jG/7vBnhT7wdP5I9fKvKPXgncz0WSxm8w6TXvPOQ872QcWI9l2sfO8JJdrucvO48Mx+DvU1FjDxk5U+9nr3rPYJmWrzUhBy9Ja1WPPCRyryQ2Ga8HMZxvHArdrveoEi9Ps/xPGZbLz0laCu9cBS2PIX9ELz6MQk7wq/FvQN/iL2LvDW8LJNJvW6TLLygzXQ9K/XLPB6Wir2OD5y9KXiZPHcS7ry9xUO8fZDUvLiRQD0a8+A9mBuSPVpdi71XrlQ80e1mvBRsXTxyDCI86rbYvH526z2Wwg686hMYPQJgLbx9Tqe8uTW3O+smqj1fuLw8UGc8O9JvDz2lgzi9XhD5vShpQr2ifts7C20mvUYCkry/CrM9W1A3PSObkDyhHgC9pk4YPIIK77z/4u49eTT8vQGIJL11qZo8hlF4vS7iXj0raKw9nJgKvZBNcr0vl8Y9IDjvvF7f4zycq4o8/fd7u/NzBj12RnA9eBMePY0uCbwEKQy9mxepPYneQb1gHj28pqvOPPJLAb0obJu9oxm2vZk+2r2Lymk8hJyVPZLvj72Fwb260XARvWRxtDzqx+48mZnIPRDbJb1T1Bg8x1SRPY2D57zTHO49Ddf5O1lB9D04x2C9Tb5EvOW7mT1xBIE9k2wBvQ320z1KXoS7ZKjuPY5G8zvhaAW9cJ/qO2iCR72KpaU9OqbfPOkgvT1azrO9iJGbPYWFHD2EW1Q9RFmGvU7CG71aUtO8p+E9vUa6Dr1fZxS9nUgJvBzM2jw/3ww9Mfd4vFbpYT2h+nK9gN9fvTIy0j2QwoO84B5XPSKmeDuk7A+7W5TauF0RAzmgp+o9bI21vQK3br1tf8o9ZKISPY5EBDz2GKK9K9eyvMVcoDwbQD29KR9gvQlWLLz/N3g9IqDEvaTDpz0Xi5q9JHuzO+Ch2z1uS0W9eDgVvaTbwz0rLdK9SQehPZjuZb2fEUk6osRvvTttd72h2F49n3hzPQd0jz1WYNq9Eu+xvSxjTj2BBP09jTkSPM5lvj0D6Am9CqjyuxsdqT2ixGQ8ZWNBvUFB1ry1AOA9ZO2ovSbhrT2UM5W9mE8svYyj2bytvLy9JVe6vYv9+DsG3zE9fF5oPUyPzL2m/1k9QHFlPE7ioDybM8k9MMuSPYqSSryrsLq9Fd4yvUpu9TzBu9I9nERtPYuf8T2CGQ+8BzssPMfMrTxDc9o9BCSuvUPKUTw/T1i893kJPO6KyD1Ukkk8kDsZvVcnAT1UTV89OuF6PaGM/r180tk8tdqYPUxPIb2JnEM9fhE7u1U4mD1dc2e8pSZcu4Q6kL2bNC29HllavMZ2ez2PhqK8bnl+vWsz8b196lE71IEMPCoOYDwwLCw9n5GqvM+Z2b1D6Cm9cOH4vVl8dzusfYY9M+GdvYChsDtCK389DWdoPaKBv71yRfi9Qh8oPY5+772AQoe9IEr/PASfzz2LzBC9cmM+PZ/XVjtexdc8F6davU3Lmbza0MA9n/VgvWZqhj0CDvo8oi3AvKdGLz2ks1O9kVqtvH9wJzyVf8+9akIGPZpPSL2J8oy8qEC1u+nN2z2CUGY81yuuvaFmSb2X60K8x9y4OwqUSj1CSOE9QHGhPFpTe7xLEBg8xfj3PFBKsz1Pdcc9DoRGPH2t0LxS0i49T2kkvZC+Qb2UVdS9YdJpPWcbu70wF0y9i7z5vXxfNzyAakK9JLlBPTqBXbzi8Mw9g5E6O50KvjxFt1K9F0f0O7eDLLy13zu9evUmuzxGcz0YfN665iJ6POVYqT1YJ9O9n1cZvZYAvjz09MK9Cu/4PM2ESbyJfCE9j2fzPLKEJz2LI8C76841PVeQbL1BIZi7nqRhPY62kDyYNbU9Z10qPPkv9j0TgXA9aFdSvDKw9TxkxWI9BnuvvCugTL2UvQE8F6QWPS1xXLywC5i9T63FPM4K+D0bnTo759v1vaHfO71WYj09K0ROvW4zp72BUAO9GMf8PKr1GTwRaRo9Vat6vR7v1T0OgUE9hYmrPWTR7TzBwxG9hf5oPJWaCj13FgY8QmaSPYEFSzzvvfO9W606vWtIIT0assq9WaNfvNUdTr0fJf89ozT9O8L9a71g3na7lTtOvWOqrDq9Pqq9msEGPXH8FjycQee9lKBIvJzuxzz3OgU9d7e4OwmhI70qlEC7Mr5uPRKkvT1/qCU9eOlTPZ+l472T1tG8qKTAvRNcELrLFum8SGM3Pacscz2flsQ9KLttPQ2Gcry9zus7YnAovSGzzL2DjQm8KxGIPYZ8Jz0sm+M9mdgAPR/fKz2dFnm9khSJPZyh0j1HPhY9aiHvvZjoMz2fdOk9bnPuvRw3hr2AtlE9VP6tO88eeT0CO+88iBx8vEoR6zwoB0k87OvcvTUXKz2Pd/m9cLZ9vIgfQj0ZD2a5OsDRPXHjaz0q4Ao83S9tvZXI07vqg9o9TWkmvSnqtL17HHS8p5JOvRbX+b0+8Vg9GFhhvPtBR72b2+E9oOIsPSU6xbyfalE73VSzPQcTtz2kV/W9jcYtvLTXYb2ILoa7njefPCneCryI6as8/7xku5uNr7zmoFc7PoopvYYIZj2l8hW9FQVdvZfWZrzodzE8xKwfPZLRh7168HE9K+bkPZDBHr2HXy680thePY7o3z0jgJs9arI7OpAO3r0gqoI8NZlmPLhrnLzNvNm9XcxkvPCnPjxPUj29XR1vPEzIWb1+p8m9StZwPRmBiLx2DG29fzZovaR4xT2aPxW9dLEHPVPkFrupl6i9gVSfvaDT1r1Yn5i8mUDZOAd08Lu9kd09hs67PUEgNTtZ8dS8r1S9u4Re0LwxmOa9AbjgPX86+j1B7SY8pO0KPYn4Hrwl48k84Hyvusx0X72V3Gg9GvLDvWXmgT0Ijra9Prg2PZEU8TuB2kW9a1BQuuAzd70Zl7E9HDmgvXS7krzwrl29ZjkGPUVtS7zGPrw9hEDgPSv/RD2Bd/49n5GxvPkbCj1HLnW9gCZwvX4ndrzcdo09kGMgPXof4bzSYkI8KuqqvNrYKbwdVce9lDgJPMhlljy5iBQ9XrWfPR6mlbyjj4U8xRxEvTgzDzyJLZ89XYhYPacdur1ruJU54mTkPMNaIr2iJgS9GQD/O8tv6byrD5e9SYSgPU7n8bpwDsO9HXwsPSz5/T0COsg8hEJsvSZhsDy9Dng9TTKRPSvICr1n3vq9EyjHPZFPxr1TRmG8EM7oPZ94cbyzUeQ9ajFwvKQc5bu5fx69bdDTvZaKLr0l04y9M+f2vY20gzzMbl+9P80TvaNTlTwVCJo8M6sNvTBw3r2KIPM8Bu/EPYwjdb2lkPm8JeOKPJLbGTx6Z8O806PwvVrOSL0Ol2Y8jLbKvQRkRL0nmAo9KwZlvSGRHjutU4e9kFizPV0WCT2mM0u9igOcPZujpD1PPL89pReuvLZq6Tym8Y69YpxpPZuloz1ykdi5IF7CPPxf7T2Ypc69l6MSvYK9cLuCG6y9IEkkPaL1bzzw3bS9b8R2PGGEET2CWsc8rB8jPJJUrj2Sozo8AhRdPV/fF7yH2NG68VpCvRk9MT2WBhk7q7favYV0LrxYIso9Mre0vOOftjziyGG8ha0rvUvbrb1GvIe9EnBnPJKCjDu/oeQ9OwSzPaLMjDx+VxO9gzatvIdpTbyUG269YfJrvHUFEbzN89c7jtHSPTxyFz0gCc08EmNmPLjVCj1pH+E7Edo6PMoaAD14+mu9PVk4vRkWOr0+k7G9Yjl+vTB+3D0MT449oOEUvMgisb2A8NQ84o14PRH31r1WpdA8qm4hPW7qhDtd0y29hciqPXbVv7wXGoI9OydePQK5c70z1ZK9D6XiPUslFL2Oc2u9nVg1vYLbmj0n17+9HUhWvaG3Fb077EI8q+cLPVeporyD3UK9I6AQPRKVrTtZD3689YKqPVADY72G00s9P/YTPYtKLD1iypW9CrrBvaCZp7yHnku9Q117PJ+1bz2BhTy9ShrUvF5pVD1yQVm79zLlPYVwQD05qUI9B9VwvKmzZb2PwGw8TlAbvKtelrxsCYe9NHJ2vT3GAr2KRnO9FDxqPJx5oT0eEKW9bk50PRCmkD1S9JE9MS3bvO+unrzuuFI9NSauPU9s1r2FJ1M9R2kNvRaBVb1cByS9Q8xkPTQqiT1hyfC9pdufPVXkrj0Ltq+4kX/svMRWtzyDtG48ickqPUmj0L2Ably9Wf4GvW4LIj18ndw9lRN4PZSlDbz+4CQ9HhWdvQqOGr2c7tS9Dnm4PVPMtr2b+lo8pYD4PSwzlb1mF1C9biwEvPtKz7ysSXS9h+DAvE+dxDvBt6M9iYmFPO1/E7uFAwM9plw+PJNW9jpOWV89GlWZPNGNezxoGoo9k/ojPPKHwL2Hwd874SuZPSFe9rwc6ty9KcajvZNbfrzR+PS9pGW6vJm6hj2GKpG8XuC+PUnpt71Gioe9hrmePR0XALs7RMM9S3+1PWLxDT0AfYa9eS5zPIJ6tz2JS6I9oTp8vQ0AIjyhdqc9A1f0vabA4zym/489OYV/PGalfD18sBY9PxD/vTgPWTvv+Yg9nHGFvOJTVjwoOxg9SutVPQv76r15/sC9SZqcvFm3cj0SVzm9ccpFPZZxLL2hCuW5yDmzPQECzDuPhCW7cDcYu+QN4L1cit+8M0UHPWk+Rj0Zz+29dJElvSDdFLzA+FW85t9fPZYtATugj9S9iuPcvThMCD1jYUI85L+BPH69A7zsVns9i9rEvNn4qjye+Sc8ot7UvYYjkT2f+Gq8phuIvS+wUT10LUc9oHtMPG4X1z18vG29nNRJPaAbRj0SSvK8bD1gPQ9qLjy3H9m9RKpgvZYQPTyWLcM79I3bPZpxt7yusx09nu3vvHkr3L2Tuus8orVUPTD+ij09Wbg8Y5oZvTJcvD1o6S884KwlvV1KkzwS/fY7r0djPTpKlryJihy9QF5cPK+kOT0cXSo9EnU9vNVwBD1Zw+688K5dPPlKerzgX908gE4rPAUdgr1xX0+9Hu4zvZDLnDzBYq69Uq4QvaDC2j2WjgU9g1pXvTE3dr0sIjC8rVTgvRmBJTyH/WW9gynRPWwQrL2aZhy9hX6gPQCPXjuOK4C9MEPHvZx8vrzdqEU9BGHBPWulKz2UMda9VcFPPJYqqT06pl+8ebAivZcPUjy/z9I8pG0oPaaN572ThAE9oJBkPaClwb0LUBI84oPGPWrG8D1lb0k7oQxYvaRJJT0BcNI9nrdzvAE9BL2Mbqa7N+hWPBAugb0JgZQ9h2rgvYGcWjs+NuG8opcZPY6FpbzA8368iyu6vK4Ppr1KKi48+e3RPUw6Az2Nkme9ILulPIImeT2X/lY9k6FSPaFCtj0PaPQ9J3+RPId7pzqdIdk9FxZVvM4SrzzNAj09pFyqPV+Ga717v8i9IDqeOiIGBz0EFAO9D3MkPYs90z1nZ089XvXKPZyAXL0nBfC7iI9yO/piFryWYUk9klO3vTtgYb1ufsq9XS3Tuf1ZRL0fYPA8Mgo7vX1RjzzLa8S85jPuu021GL1S/k09BeORvHvhG72SqqY84GmuvVB4ob0TED68EEfRPQqvh71IMIA9i3OyPHMWhD2ILFA9nWKAvICZFTvXvWK7CL2pPZNGdz0HUk+9GafWPYY8d72OQ4Q8cyKEPZ9bEzyPhyq844QdPMms9b1wGUY7rA+1PaQmfb2IxjI9eA6lvRdvOj04gQG88zIdPWFDdLx+UOk7ZFOGPZTd/T2AGOc8QcohvY3BJL2lKag9OPtiPRzuC71xQb68RteLvXCERj0NS6g9glBaPTvNwD2Eo6E9AKbvPTa3NLwmMiG84lMMPZ7NvL2k0LY8vKBjuiRjizyVeOk8v21fPVddDL1Y+5q9pw9evULCkjyUuu69f8i2O5NrX7uNQmQ9g7xmvYOJAr2l6/e9jPnhvaSQJzqVOzk9KFMZvXUtYby3nQk9chb2vRgDuL0dO5864CJ8PJExjzxSowc7C3+aPZ274T2BK2I8Y2oBvOW73T2WYNi9MVsvPSyg6b0uVy09WAHzPX5MEr1ERnW6xkVZPY2+kjuCE5e9kGolPMiTC7yvPiQ8Q5Q6PTiJ2rzr9Ya8C5YOPAIdeL1ReXC9Be6Cu3lxOD1R6Vk9ATl0PMEmPT1noCO7u3r6vZI2L71kKgQ9TTNSvKya6zyBz088545zvaKEFLxTLW29YPGcPESNbD2jZIK8aTRlvXTs0T1KTJs9oaExvaGxir0GICS9pA28PRAplrmrkks6G698vVqyvLvRmgm5QU46vUZKwjxJzSs9kyCKvZbZdb1IVTE8l5wQPKzrFL2c1Dc8/hGnvOOZlj1JuXE9CINPPZiFyLyBJtm9mX7evQKbOz2nHOu8WaqhPULFJDzFV8+9bvHDPSjPiD18lgC6hCVqPYWuhL1kAN89i9r3vabPmz1FyP89Y4qavUyCn72YiE29RlmPvQxGz7zijwo8r4hSPZ3k+z00q3O9nriGvY4trzzC/rQ9IdB6PYuKOr0cCzW8m/s3PUhf5LyVz5q9L0Zju8Q95bwdtj89iVqOPNbPWr2Du409N+4lvQ9ONz0Oi7w8jvaQPXdZqbx2umI8rcVEPQq3gD08unQ9Q5r2PNPaQr0r06+89RRBvZ+6fr1EK6q9AuBTPL4gQ71bm009XOJNvYhxzL2fmpo8gU3BPUoeOj2Lugq9nJZXPTjhV70RUWq9UB3vPQ0rqb2kR129LRGwPP1Q4L1giTu9n8kNPXFLCrz3Tsg8t8V+PS5NRj2led+8pUD/u8Kjcb0p0H+9kdrSvZCXRj2ck988UnD6vUP4Kr2jMGg7mmLtvOiCcT0grqS4pYD9vWGDYrwSn186nNuhPOAGjz1hVe+9o9TxO2Z257z7TLC9a4y5PNDd372ZmGk9i85lvJDyM7xwq/A9kQIeO7BajD2PFF28oBxLPOLiBLycg/C9eFd6vTmCUL0xHyQ9ZBW8vKHJ3z0/eVA9jepkvWdOCrwcbWe9EUrnvWDD5bvbn8s9HlztvKDQwr1oqm29P/uOuw2ukz2kF/K9Zr8+O/4/B7zC5WW9XmqevOzj9T10vnM9drBCvKnsWb2W4Yw8kmdMvYt5CD0k3zi8wk1XPP+np71opT47z1/gPYl3Gb2ixL89RtowvVD4DT1+/GK7S3FhvH3RQL2Ove68yaQUvJ/cjL1Zkjw8qMnCvYZwBL1OvwQ8umKSu31+fzywlpq9KwxgPVp61j1MUfg9BTk/PZmdhTxPbFS9hn8mPaNMdb2Kg4e9FvuqvEaDxT2TbXg9a1tzPM9JXL1tCTQ9BZWYPFYAT72RzB+9l8d6PBR+Xr2F3nI71YP1vSWh5T2hqL48valcO4elHLvoL/k8V4W9vSWilD0kFCs9Nym6vUM6NTzP1Rq9DgBJPYPk1r1ihzQ9ZwDPvYdbR7vPyfA8+oyBvYnTQj0Ce6q9QK5GvZjFLD2ERa49iOVTvIPoPb1sJfg76SQGPPLv6r19Clw9OJ60PTrNTD017k69aLuYPaEcJL1KvgQ6gXBfPZMs1Tyg/uk9WQ84PN5vBj1O/CE8U90iu9sThT2hILw9XnftPTKkhL0ma9C9kLL1vM95nbzypE487hVzuygf07xQDM89LfSSPZEgoLz2LTY9jCofvOCAezzIHIe9j8kTPTDl/D2VRH49WtsSvTo9fr2ZIWg9KWnHPRgM77ks7H29gHekvK+C3z1EGIK8oFWIvJnXYz2duzi8wFnPPVNwYzypboE9MLSovaX9cL1zgjY9M53LvLWdAz2Pu1y8VuvUvY6y7r0z09C9lvtVu8arqLzAqIC9jQ42PZ03xL08J9+9opSaPQH27Lyk1cC9BzQBvL1W0D0IdvE9MZbpPDJb670IUmc6S90oPROWP72g+TU8p9v5vYcB1j0xTSG9bDbNPO98KbySml49C9TbPVpOJ7zZSOW9WP32vTd42D1+mHm8LKV0ue7duD2a2BI9MiktPMDtab0XClo9X/qBvTN5Wb1IPv+8DIAbPGHDWL2mvIq584+au2ILZ70LxXc9otj8PaZiHb1UvC69hjYRPR6Dkb1/g0q7uGCcvYEnlz0MRSK8434xPWmf0Tx4b189gnwBOrYz1ztr48O9FTHyPFeTVbu1YIe9YyX+vabGEL1MjNG9YVbqPVBrkDyTZjW9Gt6bPA4HfrwwDvu9L/+PPZDoJDzqQXO8G6V8vQYSJj1Nwsq9puuovZ4jXb1zDr89ithuvSx+iTxEaE+9NCHAvUv4iDzM0I49ml7GPacuzzyMzU69XKMaPKrYj7yzA+88N+SqPKMxpLzO6Ec9XXumPDzimrzFLV88sy4RvKJVwr0A2qg8k8JfvRpXATrs3kS8vyV7PYPeZT1mSuo9jLAxvZlnRzz9GZk8YjjhvU4hzL1ORj+8IiIyvODmDj2cWfG9pXk6PaTFPL2VAEw7shVAvZlrCb1LBIC8+kL1vaawYDwHEMu70QUGuq3PJT2a/eK9GvsavIadfL1sBok9GsQCPVbtg72i+xc9ALJDPYM5hT0mtek7qrclvZZpEL1mP9o8qCw2vCPo572Ie449XJLOvVDser2iGya9g3P3vDro8j1caYq9Zl4CPaDFkL0yDPm8mf0HPY4/zzzYHSi9U4XivWOwF70ebTe9Qv2sPM0aFTxQBjK9IrMgPQZW9j0gCwu9TZcWvZsjRbw4iY69hBnlPW/wyTy6cSA8hy5aPYOdJbtUuQ+88nMIPIb+Dj2KVhG8nA30PZhEjryDJos7sXlNvT/TsL0MkUs8XlwavCxAnTvPO4q9pTRePHYYY7yigiM8M1JhPRICWbrYXNi9UtmcuZB9Qr0xQ0W9LYRQPE2sRj1+gk69cVRpPD/QET2Aguc8oMhKO38LpL1JuHE9BKHxvXpx1rzOE2C9Fjn7PX3ozj2ZwaK9J4JNvacaKj2O3A89BOSbvT3dpbyXEKa9YAdoPS9cBL2AzBG9lX4SPYGqR7xAgfu9Xn/gvaLhMD2nCmq9WImUPSQ/3zzd/xA8epspPV3Bn7uOFI47YdsQPRFaJjxsTkY8+Uu5unCpkbufM0S9i3eWvR6t9Lu85b89fDwdPYox1L06snK9psq8vR/3lT1pUU+9HAFpPZMa/bzhiY89hahVvJGw5DyeM5Q9hjZTvW84vL0L1zw9QvE7vWkeFr2ku3A9BMOSvJdMn719Gqw8kkswPZLx5zxHP888fO3wPQO4Sr0zawk9peWzPJz1uL1ECde81ZiTvUbkXLvIRTa9m8YjvJpFsr0Ilt69e/L9vZEd57qvqQo9NZPmvRpgpLy6wPU9hs6WPC2iHjybyGm8ITSOvKcq0L13dVk8i88rvIbi+D0ayX29mxyyvVf33b2dyXa9XgOyvI239z2cgUU8YdAAvaGfsrwYL/49JN3NPMZZ3T0bQfE9IcQZvXqm/TxPbxA85pQnPLwO6L120/W9X7WnvZl5vzso/O49HwJBPYqqg72EqlM86exVvXoi0T1moaC8o6xxPXNNZzyUzz67jHlJvZXNp72dWyk8GpqyPUI7nz2PVCs9hRJwvF7lBz2iZxy9mx6kvWTGzbyn34Y9lR2YPX0W4jykkZK9bWzjvXudUzs/RXc9XE2oPNRmnb1HdNW9OeSMPQBZOT18dqM9TL6SPTVy2b0hSqo8TX/mO1o2k70Iaw+8nWu+POmaJ70/1/K8jcsiu5A8/z1e/ZE8qtocu9DF/b2TnMo7TvTVPP5bZzwAOyA9dnSdvWRyij0lKPa7zo+rPTr1Wb0RqFm9da9zvQC7rrvLTm89EJRdvZaK9j0cCSA8wop1PKUrNzzyUiY9lMEGPYbEH72GxLE9o+iZvNzOUz2TGNQ8dDpfO/MhDDxk6c09jC+dPRriM7wOdRu9MOkEvYGXI7wxu1s8M2uxvCwnWDoROBK9bRkIPNFHXbxs2m29WAx4PPo3oT0BPqs9UCk2u64hsr0uAg48RQ8KvWnuB72NxrU9X2SZvNaMN7wmL/c9pRa0vS4nPLymuM89JtiavY2A6D141sK9MyVzu6R7D7xbVOE9n+AhPLdnszzu+XA89EpLvWYgs7z+Bru70wlLO+NnuD0QK0+7wgkKuvqTkbz2REw9j3XSvRqp+b0OhKc9hLrIO/Ru1b15BCu9XJWUvOW9Wr0axZI9LB3KPK8c5D0ScB09A8W7vSr40Ly22aG7jUdfO8ZYs72jO9g9FiypvVvlHbw9bJe9jc6rvQ2ogTzHE+K86uRnPWkvYj1od206Se9XvaRUGj0xvCm9A4X+PaS1cjz6Age9govPPaat5r1/kVA9WyIAPY6a370ShVu9JwCnvY19jj2g/xW9haFLvYN6Zzx1fpC9D3TVPWHexb2aAjE9HvwavYr/q72LBVs9lxIUPL3e4b2fNbA9WMD1vRcAg7qrCR89eW2JvUvty7wUPcg9haM8vZtGqryn7Wc8B3ynPUTXCjzrd1A9imPZPVsASjysM/A8YD94vSXc6z0azc48snc2PNhUdD2XmFC8oi/LvU1a1D0Z3gW9U/gSvPCiobymCR+9gYHNPYMsY7yzpuO9JT0hu3xuHbytk967qZg6PYylkTzc4W+9bptbvLvIQryKOU89Ndk4vIqETjyjCAo8hVV1PFMdV71/tAG8gEjCvZ7ETrxx26y9DQQVPX0Pyr2DvtY8+nfzPMFaEbxZt8a8RRc0vK9TmDyFcwm9hSCkvMZV/LyGvEk9j7UfO3xgZry82EG81aztPZ3Ssj0Uwf48PXVJvZ/L2DyFwx088MajvWxpM72jI609V4dKPY/Jmr1eB2c9DFn0PN4VS71pApG9M/JXvUqCZLwpnZM85LK6PT3oozv7cjo8IMd5PVSxYryuEiS9npdjPaaVrrwLT1k9R2MvPLMZBT0sMAC9CrGfvVLpiL0o4Ac9TB5LvDb7eb2eoKE8AdQbPXk4/L1zvyc8GMAbvW1VNb0/ujk9S+9yPOiC+L0yMdc7zppyvVHehbvvxIo8+4ryPLq2HzxJBxY9E7BDvVZ0wT1XTwa9Ty7VvXg5X7zi+MK9AsXdvPc+WT0roUQ9K1lsvIADPLwUfpK9IqnHvQlVir0iW2K8TOykPaBtazz570q9GKHqvW73ejwDW569GPpCPKhieDucHKe7IYluPZSder1PhVW7pvl6OyD3xL1BWDU9nDNcPJZQM71LnYM9TyRFPVM35b0kJM48b5/XvQqX/r2V0lW9JDyJPUVsMbw5Wis9hyWsvUq0wjxUM0a9Q1bzvF6H071NED49RUPZPaL/Ujz8BLq9QcrwvCin2jyaNj47pr1ivaHzvbwkREW7Hr4uvUtaH7tFM/w9Bq9OPaaXdbpnDaG8l8uruu6zlr0V21E9k9HmvU/BNjwJ+3G9VqN1PSueij0AWzG9kN5WPLVQh71WMsA8yTo4vPg2Irwv49S7icI0vMsTqjylDFW9gJxQPL6x3T10Ur68JUTwuufwnT01/AW88x3NPU5Zjj2P8hk5m8RjvZa1B7yHmrM86+eAvMw9Vzw1NTe7gOvGvNHp/b2JqWI9Kq28vVF/QTxQqHm9Cq7dvP4S6z1zadE9ODCpPJ8msbuwNNM800A5O60SiT0qktU8gBOlvYbAv70B0xY8g3iLvPt0or0Bsgy9lRo3u48V/7vFzRS9M0fgPS/uKD1ML8E9mW+SvDBe/7yBrli830rEO8IddDpfrzK86IUiPPpGzL1Mz0K8UXaPPTIiCj2H/3e9DCp0vCHO/z2Rvgq8wQTovY7eoL0rv3q853IEPYVa1zxMtX29A6uIPaXvi7zmE808qS9zvW163LuVWmq9Wc2yPRAIaL2dvfO9DhtGPUlBjLzk2uG8tU8OvWZPd70dc8m9E3gePTjtX7zlT2k9bsJWO9CMBTzq02G8jqVsPIC9DL1TlIS8E8R0O7VPODznS/28ksCKvYTX5ry92Kg9lQ5fPaJl3Tzloho8wTTLPYD98r1m1vm8s6IMPD5SWj06We28tTOfvPSNg72Obbw9LrGfPZDJfLsrJga9LuJgvUXx5DxqPcw9nSDcvaNGJT0I/DQ8sdhNOi1L2j13BKy9KdscvIWKFT0vj/m8zqQPPZinYDyCGXO6tLdaPY//2r2iW/29UeJbPOEy7T0dS429oOjFPYYdZj04YTC8FehxvW229rw/SeC6vSWEvAmX/rsuEhm9ARg5PY7SVr2DDHg8LcI/u48v9j2bUh09hWbMvCC9rL2H6cO9g7XgPSN/570kAjy8x25ZPRpew71bSuE8SMkeus00ar02wGs8jVEHvWdJij2S8fS7Go3LvTwOZbxkQpW9JSLJPWea9ry39nc9SqnHvZCHsr0v9uI9RxriPX/1aj2jkX09U2invJXxZzyHm0C9I38Tu9BYvj0J8Vk69pwsvUVT+TokZDK9CFPQPU60qDzPCi89iZlgvPzkLr1Th4Q8/XM2PV8jbjwmEsY7mv2SvEm+Wj2gWCc9hNjcvSv+3j0yheu7S3LZvBOlYj2ZaBC9R6goPUcFbj2GBvW9WA7WvWHrnr0AoHG8qyIlvXS/zjwIlng9Fy4aPMwv+D1pVKM9Bzo2O3HZJLyEP9m9LoMXvQ5cJ7uaNMs9eWu9vFA9Bj1moTi9gDzkvLDd0rz91Du851W0PWcCkz08I6g9EdPRvY1N5z1fP9M9byWuPVmhC7z5RyG9hmV6vLy2ZD0VefE8CrEcvPgJjr1Pecy9MkJgPFqLiD1YIgQ9pDyPvKzLmj2RihW9jsyYvU3Eiz2Y0wi9XIxqPOxPa7wKsBc6mA0CvMmhGTzRr6w82AgdPTiCVLq5uo87qWmGPY0Qbr1U6ui8IBsSPO6Crr2Vf8E9QyISPZcsLr0xZY08oy8HPaVH7r2Ni9C8gcQLvXfRALy7upC9Bk/MPV9/1L0eZzG9HPFCPYmuxL0yrZy9pp7qu37YXj0Iw9C9pm5sPJ/G+L07a0i9lT3JPR0ZxL0q5g29gHj1PLzY07yRA5K9QDOMvUYyLLyFpJk9W3QXO99g5D2Mf3e8XIV5PVqHhb2Bdnu9Sa88PSowyLyy/Gc8pK0Wu9jx8D1Z6Fs8NE2IPTjBzTvLI1M9EkqOPK4JGb2J3jy9opQVPSFqM7zF5SU9V+B7PUBph7sO3VW9VgcrvYuMF7wQ9+U83j98PN78ur1GfSC9iMmjvYNMoD0F/Q69FUpkvWz3uD0bDuw9loOivZa6jLy7g7c9nmmEvJIw+ztcOPg9DUPSvSQSRT1KoO6841A5PVgqyDypTxI8xbq1vVmevbm1KQI9g5Q1vZR9u71jCmW9jVkyPMDneD0SZ5A7j6aEPZ6d7r1p1Ko8287ovYlN5TzZcrO8qjDAvYEffDx9Xmm9E/U/PKfFej0yqlW9WbKUvNhepLyLINm9KlV5vYuKfzqGhOM9HkcdvaXqczqTN4Y9KCUPPUph9Tyb1n69PYEDPYnwnr2lQSY9kYfyvVT3cz2ARUA9Sn4/PH0vDT0A8C+8bQ0sPaIZITzpsLW8UotkvNok672KnLo9l/bCPTMT/T2P0c09k+jGvXcl6jzmhxy7lIYgPUx2572T69y9RLXUvWgsETy11mQ8QgkAvaJXJDzFJ2+9LHKYPSYwm7yGGP09k7sLPWSaejyDM6a9aG+uvO2QbD2gpq49PWnYuyfZHb0pc8s9YFjiPZZgGjxp1VQ8e77QPZF1ej2Dkhk87WrtPLnXyjzzYYi9lPcfvPxlez1KGaA8zYHwvJ7LSbyMCXI8/nD6vaDBjTyJlAM6nQv3vUHNzr1+pQy7Dv2BPYroCr0GNIu9puWBPZiDIb0KL0q8e+5VPQfgojywXHe6ztgXPRZAx71IO0I8/mGrOlRPPT2iiea9oyWNvZZEBT1rR7s7QBBIPE8MmL2A70k9ewKfvQU/kb19Oq29L4MlPaHVPj05l969l02dvVYozD0i65E63V8SvYrzmb2AkQs9hVfCvXOKXT1VAWE9Q9mMPIJA3T2gUoU866urPVKGtz2Ec9s89cvIvIaatb1SR9G81/jDvYyGGr2bd427cYiju+9hgDxy2Qi9eZGqPNFszb1oqXA9SfCWvSeY6DwkOjC7mOSQO7F+Xb2BI2I9AK7avSXm471TKGc9l3LhPQW9tL2fgKW9Y0sXPTGSHb1A7LU8U+jku7naEzz6Mbu9CInvvS8JWz0hPqm8kSR5vEb/bj0fXxe9nTfdvXuH5Tzp+c69ga9GPVc8OT2jlg08jozZvZB+9Tz0TFW9LWs4PUzSi7zvoX69Tv8xPZ1HZD1249c9MoI8OsPxTr1N+iu9AEGbvVjcdj0HMf+7wbrSPY+R67xYt8M8kiMpPZF/LT0HHcI9dh2lO+mmVj1gxjY89smhvYajiL0T87I8qkiCPMY+Bb2Sx/i82eEmvSy0hLymqMm7vIPZPUhxLrwe14i9Qd9CPQ2XN72P+gC80jkrvZr/oj2Q7Jw9bYo1PQ3C9b2gALU9ENOxvT1lVj1RjkI9jBaZvacwXz0auLO9DuXGPI3kFDyfU908ZoT9PYGtdjxRvgC846vQPYF4ELimMqk9pZO2vW/qcrzaBiO9pipcvLe5ZL2fR9y9Vj5Iuqc0WL06SkA9J1ijvLR42Tu5gx69hbgoPTxU5L2hV8q79HFIvTYwXj1UaDo9GgsaPRvCLz2FbXW80+tXPaCufz2YEB29OvywvVJUUb2Hf6C9M1yBvYdb8DzexwY9pKLWPRjafzuhaj69gcYzvUjwbj2LgvY8GfosPV4uLz2a81K9XnqPPLc1Xb0lwXk7OZWnPSXyC7ubEFo9jv70vRCecj0Fo4a8mIC0PRdZU72iWha9W9msPY5IIr2IEfK9gx6MvacHij0IkB67aeIwPW7rib2GudQ9nfBGPYR+l7z4OoY9lHj1PUpy5r0VzbS9pqM0PR8UQL2HSdW9hLXAvKhnYzxol3e9C6iXPU0eP72jnyK8pBeHPUtUQL0syJA879rqPZpbV72QcJI9nsYpPUKir70BzRu8W1qYvWYxij2F/KA81Ca+vZgM0D1lv769kJc7PUWdH72MGoq9EfRYvQZlyj2mUg48gOwUPXxaaLy6ymQ9MgVCuowMCrz2Rv09YrmVPZsElD2Qkz29K+cgvZYhx70sERO9pFFbvP2ndz0XfcO8K+nxPWCATz1J1FO9gGEPvVopmL0O/Gw9eHbXvDXqUL2KCFq8/Yg8vYxE0r0zbQQ9BNHzPMs7AL2Tl2O8zeFoPSfknj0jUJs9lyRgvSKWgrsp2eA88nF7PUCNbD2bxF89m5IavX9kHj2cmcs7/C2HvOUwNL0LNy69nqkiPYljUD19vX08zkT7vQVvbL1j61Y9WvjPPU4jaT1cbRq9d37CPQG9t72bDIO9o39sPTT+NDuuBsC9mLKRvNmNN7yrCWi84v/8vaMkaT2YaFu9lTh+PQiD8bwu5Sq9dBm+vK4Ocr2LDlg9ISV2PZdR37zqVO28GAErPNeCIL2XhfW9QQgHPIn36T0cQj49oeoqOwKMWT0YwBY9n/vvvRLKoL2S2vc8wcAMPI8Ql72EJKM9gHmBPLMbYz0LX2e9nE4fPRjbFD0Wa9y9YwzYvGqibjsPuu49R6Q6PZMzmr2AOSU8bJeZPZOcI7teAwY9iu9qvWNE272bgU07LwufPYgjBD2l1WY9n2LrPXEWQbyhB6u9gm4iPViTvj1Nknw9impvPNyshjtMg2W8q8ySvR8SmzsoUPq89qG+PJARnzyACQ28MQDJvXunFT0qD4c83XDUPZrI3LyXato9GXQkPIkBL7u1vfA9Xow/vUM3Oj1csBC9BW1avTJ4dTryQiW6M64nvT4+vz0Rzka8+xDwvZIQg70dZrs9nOYdOytFYb1wyxi8XGRTPXnrGD2deju9YYR8vZToBD0JeEi9biY4vKafUD2Y8sO9D3llPUzKR7zsuS09VyzAPKExQD0su4q9CVxDPRDjsrwpS4U9dGcovS0AID2eYeg8kfksvVNI7LxNeRS8gv3Nu6JLbj1tJ6Y8t+HZvPr+BL1JBLO9e0CnvKWBlT2LUaO9PPWhvK715zzyxCy9FJNIPBjpIr2A99G9gwDzvZV+MbwXSX89KJw8PYLe5j2lG1I8LiovvXdqFz0HyfK9YuMMvVUSB70WSyM9hv7WvJkK4L1iSCE9bzjZPS7sfj2bMUm9ZIREvPKwSr1qu3C8qNjnvMtFKz2Rbck9YUtAPYP5Dj2Eska9h6T9PXbzZb2dw4A7tEs/vVPDer2axhy9bb7xvSmz+L0iF9a9hRC4PKG1+L1VyHQ9m0N1PXpBLL1xX7s9NeY4vD0cvb0zYTg9Cob1vZ715bz+/ak83jSBvQ/EKzy8PeW9HtUSvAidKj0YXi07CHT+vOh0RjzTuAa8k78qvVMX8b2mnmC9dUGfu78we7ync0y9Y7SdPS6j/70yOhO8voF8vDpLnD0G5ie8iHYNPYiOsbynmyo8h1rAvKN8zT0Vprq9j5HDO/zPXLyJxJI9DPlqvKb7qb18pL+9dMThvT9nMD2k5Dq9BsRSPXd7Fj2U/XU7xyxWu/+r1zrrfjG81Ln6vUyODb2S+a69js76vYtVYb2Ef5c7fGTOvM1rM7xESwq9A4S6vY8uLD1Ge9w9RZvlvZ2sarytlGs9oMbSPM6dtr0S92m8X9/bvUufIrzbVJi9iZy7PUyDWD2QieM9pScrPGMf6D0q4Xu82s6RvZtAsLzFxC69J43AvZ2kdj1CUUq9i/3RPVBz/DzxolC9g8yhvXQHo71Unr89nnXtuzhmkTmBOyO9J9hMvKZgsD2VIFc9iFIPvYshBbydCqm7p3ooPLeGEzzsT2Y9kBMsO9olWb033jc9H5UNPYfp1DymWlI8Hv+fPRf0gDxRW3682mLUPMa6uLuuPoS9UNyjvMZTG72RJgA8E8lvvKHh671N+Ss9Qg5mvUX+DL2cIXy87aBovScFyzy7sOM9jfMGPJeyDL2Ne0S8/RplvKmOx70XP3E8DYqRu0R7S70CkJ46z1QzPB9TOz0EWCS9C1ywvPVwyD2IjKk8qyF+PXY32719bxO9gvsMvYKefDzEm2y9QZF0PLAXX7ngK029V3IkPJkvOzy7QN28ai1tPGh93j2i/sk6JPU0PJdGEbqplsK9jefMPHoTArzTeso8HRzzvYSom72DD7S9Rn4OvZxx0r0W/NE9HuW9vCosI70h8le9mWFIPWfHizyC7/a9DJlbPKx99DunQ/E9XmZXvOtiWT2GdOS9OQDWusZGADynCRe9IWXAPPT6rb1YaNa6hLz1vZGjlj2MZ0M9j6cIu/5ZPT13bIC9IXNgvWPXl7zJN2e8Inf4PYb7Zj1of1S8m5a/uFDcHjzjv0S9irnWPTJAmb1USoG87/8GvZRVRz1CTYQ9UTrXvWjb4LwfELo8yuXxPabY771MdAw9f2jBvIlC3z0bRr09dRCEPMnEyDx/fTe89U5jvZ6nOr2YgqE84QIaPOaNrzynWTa9jJJPPJJTJj0A0469Nj09PZmAyz2XLVo73bqZvQDcwj1unvu9QKb9PTWGWD2ZKhG8rzP6PFfkCz2fm3+70grLvQNrlz0i65O9pJuLvPMRfr2G26C8sJ+0PaTzP70xKxo8NPIuPZKM2L1s5fC9jcH4PTBg4L0mCO287SAoPSwZfDxERi67xJ/0vXDh6L2aJCw7AbxOvXAhdb0Y9vy9DOetPANWuLzKbSk9Sr04PZkqI715qDm8nhzcPVFD1b2dX0S9RygaPZ1rTz2d6Va8rpVPu7ve6zy9hHQ9pw53vUBf172NH4E7nl+MvJSWer2E0I09NpwovEn+XbqR3K29KgfFPS4GJj0yaRg9VC3wvRrI0b0Ktyw9e/w8vVqn2z2gCDG8x9QbvaZIar1zTTa8Sx1nO9VikL2gD0q86h5yPWL4Kr2GEOC8DEJMvRHEub0bE9c9PBWnvZD+Pj17UbU6kxH3vW1vnL127Eo9lL32O10p1j2eOtY5eogjPZ8VEb2MZqU9HPXPPXhmKj2RHZG9HKTGvZkxtr1Dg3+8r2ssvBEchL2P/5i7jwzFPLgmuLwVM/U9e5LovWWOFDyZFsy83VbIPY9q371OfSC9Cp9CvYOPTD0QjlW9hWpovWo9hj2i3Ek8YAZbPRwyID0Yw8o9nVVyPUtUYD0z7Gm9au/4PLwWVr00Y/89deTpPESKhrww6r69dcH0PZXBTLynNOA9jOgBvQk1qj2NnJQ9NqTlvFNmYDzY9R89TVpUPNOJsD0mnf88mv5jO91FRT1v3669ATR7PWdXGr0913i9Yum5vY8uFr1aquO6+4FVvIzZTz0P4Be9h3TxvE1If72TOOw9H2+tvT7n2zwS8Xi6Q79WPPJWrjy3wTC7QGtnPacrzbuMrke80LekPMW7HjwQ9aY7nwU3vY6T570shOc9AZM8vTOAr7ypBQO9TaIRvLdeSj1cMgU9Vm2UPAS26rzS3rK9YcLgO4FUiD18+f08k6tjPZewfzvw0Ss77/c/vXnWob2ToJQ9bceJPGsz5LzRXQa9gyiMPLr5Rzxtlk09fxK5vF5lvTzMbJO9imUPvMWEjr1m6109M4PevIHW0r1Cpke9TVpcPW9O4DzY5eo8gIiMvTyJbjsoXy+7wYsjPQhqmj2Jz9k7vXz2u7525D0W5+I9Xa8bvTpt4TwdYLg86Ax/vZbxuD1HFg49CdLHu2E8gLzGOj+9bufVPPAjVj0Ry3W6vu4aPDFeRr0cdpS9N3i+u7wgPL1HylG9g6hBPUu7sbu4MO29lfzpu6R7tr07k1k9doibPP9tzjyhlH69oop9Ou91lj1niTk9ouPMvVUoCjzBkik6L2/jvRk58D2dP0U9nJ6AvYhyhD13VIk87739vIcKhzyb0+K9o27AvY63aT2d/Sm9H8eVPQGYabyF6ts9ooXgPUyTwj1jxty9l7QXvXhRdz0OmHY8+pJIPU9xxDtAQ+M9YN57PTKHzD2hD8Y9gMCBvNaBPLsezTQ9hSY2vHkxIDytFs29lyfWvZ+ilr2Arqa9D0nWPWyFizzMUPW8nf27vRtkIjziyrC9k20JPF48Qj2XxLu85xS7PP6KKj1AXY69n6CPPZhs1bzuh/I9LdgzvTI5Nb1GqPk9nVhgPZ9HIz2kHeA7yhZJPDLHnj2Tone9VUUmPSXqaz1ulOO9E7AvvOTu3Dy/vLI8n4BdPRedb71bIXM9RkmDPXe2IT10yNc7sMQKPVWoQLyH7rM9B3NtPYO3oL12chW8tAUHPTy9kTzryBA9Jo3SvUkVLzyVB6S8gSoIvVRNqL2lJaU8fJYKvZuoZD08t889jHCOvK1oBj2C1Ec8hG9kvK6jhLy1ZNa9kIWdvV93lL13efa9lD86PQbt0b1C1KC9P/oYvXq4V70JppM9GEe5vLQBs7yhgPs8vh7/PRAvWj2XNyc8uF7AvUlzFz2UTKI9RJm1vT/KtTx1AVq9Kmw4POJ1Lj2diQY9l2e7PYexN7wHHo26knUzPZfYNDrn98w76n7KvLalDLyfcsU9AmMBPCHwrb134uo8BvpiPZIKqD2RxHY9h3QrvPY+B72VbJW9g3d7",
+        "vXSTtTwJelC7Qud0PUuW671HCoi9kmAaPLJ+wz2GUa89XlHDPWVv+7uranK8iS20PECdvj0cuoU7ULBaPNpw2rvPiW+9lUfIvClAyDyAPBs9S5LJvZpi8by8i/k84AlgPWvIHTxf9pm8CI6XvVnV9Lx5sUY9iF83PWOjpDyiB/i9nUL6vRY25jzuL6m9aEgsPYUvbr1KTPM7p+HvPTafebzrPg68yoKevZjbkTvaefC9GXqIvIp7gr0WU6E9EZ+VvQw85jzpSUe8hObSPYAT4D2IgjW9c1spu2wJUj0D4b88cDAyPYH5LLxl/OC8tJgkPUn+db1SKMK8NV+2PZVYND1mwe48P53aPGaIIT0YGHg9c0sgPObT5z2aqNw8LFoMPWGURLzJi6C9gmrPPXSuTr1ja8g9FxSHvYZY8T2gK0e88jvGvP/fXL19kSU9RTWmPY2btDyQkhS9UCNQvOVYO71u3b08I2rWPNNQvTyGLgO9GYRnPNtvhT1tRyw9oETFvKn+3L1zAjK9bnj0vYGhUzzSo3W9hdLFvBqnTz2Zf4g7rfUIPMbXZrukTuK9CZQqvS24OTz0yMq9T0cIvQCIBL1aY/686n+rPWZxJT0uC3y7ptbbPZUclr1o8ia9QMmuObq4+r2Og7S8gnQ0vG1m6LwZ8Ba8rUAevZ/+6bzyugE9gWcZvTZW071OZnw9iULcPTw/TrzfMb28by/GPVSC4jz92O27iHsyPFcdwjyKn669nid5vQgkcj0+ja89CsqLvaKdAb0GvYu9BX/DO9TM0T16cho9aj8IvS8kA71dZxA8ucBbPYnuqLz9oru8HJvIPXGgij0VOII52BIOvX2twzyuDT69DJKRvD4M3z1gQlS6uhmZPVHzkL1+d309YVI7PWfLE7yMrDe9RZRqvZI4RL1ouXs8pdPNusAPdz2fsJk9a3fyvXx7fD1P/xA8J/ZtPIneVb1AnRQ8kGVLOb332DvBwqk9PCHRPWjf6Dy7ToC9Inf4PZJnEzycYRM9EHuLvYkzW71cMCQ9TZgWPYumhT2X1to9UOspvZ8Zt712y3U9aBZevCBkeTyXJFM9TYXBvCyxNb0y6Z29H2n7PYwwID2IV4A9lLtyvYdtEjypwi29GkWqvS8BGTvW1f27eAW3vJ8JGL0bkWG7vENEvBjGGzvqz969RJzsvHsTt72eQOo8GF0bvG29VT11GN68682ovSUJyL2SCaS9VwNYvSx9hL0FQQs9kJzUPXGJfrwAuY89kF7qPQS98rp9nTM8dWvSugeNG7wd2vO9HtxXu87Wij0rkwy9OXB+Oz6YNLtMk5C8YdVPu9C+ub2J+QO8Gb7vvZpq4r1vNw09okEFvQ6yLruZkve9fWyLOwE8xb0NmQg9IjhDvQg14L100469jnEqPZdLwztyaf08riiTvBr8JLwMxCk8qatbPSyH5b1+56I9mO0VPYwUw7gVNvo8zRbwPZAIRLvUhUu9kPVZvLrmBz2WA1W9nEkcvDNvH72X8rO8g3IxvacFhj02Nko8IDvPvZYzPD2SckA9HXSpPNVchb0qBbC9YzHfPWV3L70k7oi71B6pPZD+WL10dQ48v8GNPP61azzMIzY7+XrGvYL+QD0pfWo9laBxvCbL/7v7umc9TVAKPWg+FLw8P229nfIVvRrm/Dy2KrI8n9DZPUwPcb1jJdS9hgMAPCX/GT0KqZw8LbxoPTat4jwbNao8jcR1vZjl/72REMS8YjyYvYow7z2JRUc8f14HPOI5gz2T1lS9UJuLvQpfz70mVP49JJm/PM+9u70a5zA9ag1mvU/mfLybgQc5vn5nPNSa+L0Ys6c8IsbtPQI5SDyom0I9UydXvJyErD0EdZu9El5zPSR8IbyOYp29QmolPMeaz72MMjW9EJrTPT0ioz2LP0o9RqpKPX17uT08XZm8Dn3NPEnbvjykyyI9jkKZvIb3djzoYee9GU7xvHTBGD0iPQ09EUTCPY40Jj0rRVY7wI8WvLhkyz1vgtC9NNR9vSqGGDqe7/y82ttDPDf69D2FuIE9auaEPQoRgTtKMxw7mGKTvYo9170QdOi9g+mFu5pxoL0aSKA9TxGIvYCCSTtqqBs9f4E/PUkPW71czHo9mGKcPTJ8FDyYNN+9l1VbvWBpF7w2SQe9GD62vRox3r2EMVs9A0JEPDmIwL2SDfs9oiMtvQpSlz2ChpE9Fr0cOz/2ez1u+wo9mtwkPArlaD0THDY9QdXzvaSdmr1IrtO9PTuvvPdtTD1Bhew9aJYWPIeARD0jG4E9lJGqvIzDaD0lIsQ8RquoPVyWh70siN08ixjTPSXHIDrisvI9Ja1WPO+zFz0FJhq8QZZovYGF8z08PYU9oJQiPPFEubzwebm9WIeUvQNGsjzgCH+71m8cPUDoN72YBAa8oB2FPQoAez0H/h+9Qv+8PUkI0D1Ewuw9XvNMPVyVsbzeso09EWS+vY+hfz2XtP09Q2yjPS31nTx9P7U9hbKYvSZC2z1KWu89HAXcvQgnQD1PB4+9hbV5vYpK+Tv+Jfa8Gpf1PMYKezzyE1a9FaWSvPO5JDwpXGu9kZjKvVMWC72MkKO9Xwi7vQHUKLxCjoq9RDg4vW3noLzmrPS8US2QPZmyfb10K9u8vZBQvSxH9r2dIQw8jjzAvVK1nT1jn/w8HzhzvZBc1buz5Ii9l0OsvaNEtzxVaB28GP0ZvWwLuDyZm5k7lyEfPRjZWL2cOt89knXcPNY0SLssFrq9a+R1vTkTFT2YC1Y8ODufvQPUcLwTwew9Xlt4vGsyYT0Pir89BlUAvRBNSbyUiK27wBiIuujqIr0uQo89NS9zPR24N72fUUy9jyc6O++3j7wkB8Q9olpQPTt1S72W9dE9WnSmPQ6/KjwyV6w9XfqvPYq9Yzz/qgW9FYPPvZqXt7uyKuS8CSr9vUFhRT2dfdi9jBkhvEaarD2fXMC9d/iSvYn7aTtEua2843UxPAuuBb2QFDA8pAkdPaC65j1DIAc8HzfBu5M4q7y/+2c7SNdIPWAGD72ebSY9MR9tPU9Ak7uEVZY9ndqQPUXhaTv7nMS9mL0VvY3gNby92kS810aqPIEbmT2CMyu9Eu+5PJ3ioD2DULa9cC77PYA80LuhoQc9aVNivVxPE7tAOe082khQPQ2sprz1HBe9gWcIPUGn8L0RZv09YBEivLyStbxiMEQ8ffNrvHm3mryfPW66oPrfPSrTW71MZcI4wLF2vQV5SL1GhWQ9hu7kPUkMir2JTF077CRZvWbvRry5Bp+9dJaQPZ8i+r19xGE9ZsQfPZfWVj2Vskk8vfMhPVtR5jwjryO9bH5tvVooNLzhakm9YYycPMH5SDvidWK9pKahPWXX2b2Skp488spgPQGfzzzvRm+9LWdCPGQxwz0Rx6y9hv2nPNJyOb2aYsY9jpfLvXzeBjvj7sS8WSN/PWV4Cz0t1wm9M6gKvWeP9r0HceO9TDgGPY4SBDzuP2s9cG3vPMZsv7vDbe89kdvsvQiSlzyuisw8/xF7vRMEK70hpBm8ezwiPaNf6D04n9i7hpbvPWouVj12lqa8aVHAPSjttLxUK+O8Ke32vZydV709WrA9dTlLPUsDl71Ih789msrIPaD4YLzGahe9lfFyPZaAUry44jC9MEETPVxaPj0j0vk9JdwSPVQlHDxfgua9oEmYvRf7qL0AOKU9pkHsvB6If7yEII49jwjIOwywz70mrYU85/7NvZHm+T2FV829gJTjPPBXc7tyLG09KRzGvVEzkL1ANYY8bV78PKS7r70VO2s9fjzgvLzNYD0rfD+9TaIzPX6v4z12jQQ9H85mPNoynb0Ixbu9RFgvPEojuD1T8m28YzqGPVaHpb2Sqpa8Lt6NPaXKGj0stTM8ed5tvNLl8b022909Flk2vY1lIzqIvX89VMaSvSAE9r2Pt1E9prRsvN6kKbwCh5O9HCNBPVSCM7w+Z9Q9paagvFNtMb2DHrm8V31pu5pPvTyaCVG9lXrCPWLvBTzb6PQ9CMG7vNISUz1IzGc8oNpaPZC3Gz0EdSU9VNEbPZVWQr1oOEi8zbq6PTs5uz2iA2q9QtFZvNAWTb02ux89pw0hPQBTOL1G8bs8ibuCvY0ugb16amI9ZIdPvE5kb72O9H68+mLyPLUXXz2cwv08/myxvZ9yLr0yZIs7lI24POl0xz1l31K8z8HgPXRnjryLHiK9kjrbvGPtTDuyJhI9kg0kvXKWFzyNPtG9BYxZPR95Rb2O5zm9hXE1PZFs+T2IlJY9lTkzvYWg2Ly+mG47jijjPE7Rj72mkGw9V25BO5JSaj09wsM9ng0MPYRaDDtNek49S7LivY8gFb12Axc9jD0NPYGUJr0ilV29gCmrvaUvob2WOOG880YzvY2uQbnbyRw9pPwuvV2ScL1W0mK8FS+MPLo5Qj2Qjrs8aThQvZRvN72lUsO9P9CWvaSHF7y91SU9ahwTvAyW2L2mOoE89zTWPUzFsj0QiIu7oXFtvVyYhTyngYu9Q12NvYRg6T1xSiK8ncezvV1DP72FPdi6gsamPAxpaDz9uV69lz+KO4wHY71ZdP49HdUcPPC8NDz9c8g8n/HrvYFlhD0Kt4q9Bh48vZZBGbyx8n09poILvWHmyLoERb+8zGJuvFRHPb01ow48TCz4vS4dCry52Vc9mz+JPM271Lzukiy9XcbOPMwhf7zLABw8zqb7u2r+AD0mwOy8Gb3qvZu2xz0zCaY9T4mRPZxE6r2HhDA8mOuvvZ1Yq7yLZYk9NbPyPSRDAT1H9TQ9e0F+PYKb/72CuIY9oCEPvNTe171VJ2u8o+91PPUN9z1QTyQ8lTVTPSFspD113Fs9mVjFPZbHHT2A0lA9RYMYPZo+djz0i0S8+JSgPRsJTz2QUiS6wF4tvSpuS715qME76IyQPRw8Izx+RAI9XBKNvEnWPLxtKM88nLMcvCwk2rxEExE8m+S5vYGKdTydrwW8ZCGDvZ8B7D01HTu80HE4PZYL7TxTt6i9DDWSuwCX1ryD0HW9b8oqPNiIwLxFVnu9kEOXPQM7Lz1eYjI9Hv+fPCL91r0Riq69o/8/PWF3Dj1KeSK8ywpmPZy/QLwOlZo9UWOoPUNcTD2FWTQ9YHINPW6mZD1BPK89ZgZkvXJQ4j0IQGG9PffqPBwoSb1D1U069OnMvMMaM70HJ6O9mDzDvYdlDD0BHX86omNvvZuXh72D9Gm8fiOYPMHR472kMBq8fSaavZYHQL1KIrW7PxdqPYsRnzzgjIw9Xc3JOr6UnTvVI9s9K1VpvXXDCb0gzAY9Yj7ivS8M5TurqmG9hpgCPRJ4Jj1qK6m9SQg7vTvf+L2bvee9ax7OvPS0qTw5W9i9fbFQPBByjzySmV69iAcxPLAMwb2SJ8q9ndnCOjrgKzysSzu9KLHvvHRXPD0dQeM8t0cKvLWUzj19sge7+dFSvaT0xL1vt8M9pdesvNIkILvskNw8nEqFPJodSD2J9Xs5ghqIvZIfKLusbpW9kv65PUYgAb1lJgm9I4XVvGAJNr06bzK8J1upPYJv6L2cXKq9EMMpvMocvTxQ0007giTmPK3Wfz0RPhU9Q4Ucu8C5iz1N9O89btXHOpbs8r07v0y9Z+xuvTTJyb0S5ba7KHiouxlKTL1io7u9pikBvSp9rL1HyzU80KM6vWDE6jzEfti9eFg8vI2Uyz2AOB69PpNJPX0D5L16/cC8bwVxPQ4Ptb0RUEU7cNwHvS6NnT2FJOm9GF84vT2r9r2VcZU9l7FtvTmDIz1Xbb49MUajPZbG8ro/meS9pfLWvIUX3zyGDM09Ns6LPGJCO7yzl546fqe0PFxMsDyq+Qm9m5UFvUroHrvH6TE9pjufPXEP/7wHRw09kq7QPUueqjySqcI8Yr+vvQD3P71XiaC7gq5mPY2tY70NNuG9iStBPYk+TD2UcKS7TKYEvFAI+b2Ljqs8UVwFPZwF9D0BQfw9ocNLPVaHz704jGc9U9zcPVLO3by9Z5c9l63mvX7CCbyGQHy8tOiWPJbvBzrG0Hs9PRkovV9GrL0K0vw9lTeGPXeWH72Xl129Ntf6vYe+Gb2JDws8JL2kvLU7azyMMQc7I83MPaIYr7zkVh09Ls3ivR6Tyz06n6u9lDk2vYTl0L2Y+zc8qNeoPYhSuL2Is6K7NNj+PRf+ML2exn69HOlUPaHQMz2UULM9SX1zPK/baz0mrr+8+iPfvYUZJ71B3Nc9jOhwuxQEI71IHGA8979/vVKqtLyb1jC8kKx4vAsvgbzo/QQ8jzbdPaRckL2TEm69Kj9VPVRCdD0rOOW9N02PvTUGQT2OaFk9N//iPX6NDrqk7Lc9UACvvU47n7vRhBK72sj5PKyvjj2L6aw9lWAVPZWZT71FU4O9jCZjPYLhpTw94l87QsV9O/INuT0zilI9Nx94vH9tyT1/T4M9km8bPU/DaD2iaQ69lIf7vXChGz0vvKA9RXIvPMOMUzzmRDg8Ts/jutWMCr1WytI9V9RwPIOknT0f4Ak7rBhcvU6hdbzBnII7dFXZvX9a9D0s4ZQ8oKVNvOrKe7yHIL29GYoLPYoyUju7DqE8eTAQOmwsmD2A4J48+HUgvZMMO7yo5xy8sQRmPZA4xL18QhO9nT0wPGnuWjz+Swi9O3RGPYOAQj1o78c9eQHnPLEqRDxAqGW8lLlSu1vstbztQFM9AZCqPQDucr2MpZi9kwxoPYAPmL2fVVy9TutAvRjwVL2jWRM9ELN+PLRtgLz4ht29gSGDPWnVJzwMVsC9pPODvOY8v7wW6eI9ZbX8PJ2EHb2ZQwQ8vvXwvYrYmjv4MSe8/syhvPKNprvvE4a9oVB6vYIS0z1ThZG8/SANvVHN8b0L4D89UvvlPZGYqzxYNLc9ofGHvFKEFT0bFSO9N5cJvZSo1r2TxIi9pDM4PIU74T2G6Js9IG+ZvPaZEj0m2ck9dvq2vZv8mLxhBJ09lSTgvU9Zpr2ibfg9hK+4PRXRyT1Syuo9Foq+PNG/EDwytgU8smZvPXx5lr1HUBQ9gzK1uyFFLDuvnZw7uKZWPaZK0bzEVIi802lBvVejUz0iJ809pRkKvWViZbvpnCI89RdbPZoRSz1BY3U9iy1cvX7fCL2Fe5I9EGq5PUNZOT1rA627D+S8vSMDLD0vFes9ggBmPZUGGL0qDtC9kl5IPL0YRDyE60u7v8G8vYQ7c7wiwec7rJYvPYIZirytJWu9N+ZOvYiZL7wK30g9nHNiPPoZyTy8ViW9ovIBvRAwxTzsLnS7aW68vLlm+D0eBUY9CUxfvRVxH706R7O86tCgvD9C5T1XTzC9pcL7vRKu0L2Zxa69ezHOPRhjSrztEo+9JSlHPEl2az2FW1u9DMN1vRNP/T0XGyE9W16ovVdz+D1ipGS8+ATmvRWu3D1hUpm7xJLkvSCewL0LeWs9lsVEvUgAZj0YTSy9V/ImvYoKc7uGK/k9eoRKvPDV4j1XwNC8vovQvYCc0D2cb7M8MVfJPMtD0rqvFrm8wYc4vWBwCj2QscM9nAAbPZ6XvzyTaNy77CfcPYDbzLxIAc89cWNNPI2mFj16QqQ8jWdBvAlBz71FJps8n3RHPYaCVb2Qobo8nZQovVcdYb0Kydw9eUIPPAGAAr1411c7a74KPUEKTj1x+yu9MQ1UPUjD9jxzTQ48Msy4PVKg0L0hPbm9ouNuvBBdK71tcdM9pn6FvU7Aeb1upZU8DVnyvVHzvTzYT1U9pMOlvYWeUD2Ythq9i64hObkNybyek4Q9MQlCvRqRZbzA4wq9IOLWvOAPYD2O4S08uB/XOwmE4r2GVbC9b3VSPYGuNr1Q4ny8yXikPWBVFjzt55A9oLgZPDMydD0Z4Ig9b8iDu5O6vLzXjFC9mVxjvYOUz7yI6qY9iSYyvZEf7b1uPSe9kdlxPRDMOz12eMe9Y9aHvOpZS70avZS8GUzpPWFCsr0bq6m7aXGsO6naXTzARPI9ANbKPYqvSz2QaqG9pG94vY3Yuj0/dGw9HzeVPDs/QLyIi8A9my+/vBATrz0QnfA9oIyJvYa20Dwt25m86EDWPKMPvD2VrLk9X1VxPW4k57yLT329jY9XunPmej2Ec3c9jff+PVkHT7mSesA9i3DCPQrQozyKmzA9irX8vFYd3jxgAEY7yYu6PABnn7zllW29gcn9vBLcXT2CvBi9oh0qvQmbvDyXSeg9mE9BvLkRUTxDfOC9Up1yPZxGYT1JRu29kDiKvAXRdj2C+ni8kpGdOwr+mD2XsUM84BkDPH/6Tj0JUmK772SavGTZzL2aSd49QkPXvZITcTzbJ/49hE/0vDNrKT1v93i8OBhZPQPrSjvvJBm8uSqHvWuMoj1iKKI8gsUjPYaLID0MZD689CasubYVd7xiDNS9V62tPXLxpr0QUPm9gwExPIHOZL05aYg8j11XPJT0bzwC/t09ApVnPFb1qznb9Ye9onchPYvn9zvIc/89e4wpvZdyKL2LEPo9QWTlPaRVMr0lKws7hvK1vQ+q9b2mPkI9M1huu51Uor0ccyQ8RNjdvZF9YTswyB+8RfHnuKQdpjw9zJy8sbvePRICYT0KvVw8CFBVPYKubD1+9MC7rMl1PJ+oxz0/kf49IISaPZSsc7yJh5k9PTKSPUplJr0ZVqO8gnecuwvSub2MtEI9g+yFvY7QcD09UpG9YtfyPMVbtTxmZEm9ZOFZPK9WRTz8/yA9DJGhPYlULT2Brmy6oLuDO9NzMj2LlGq8MNkwvKDOdDs60kq9F8KlPZ4E1j0d6ri8eYkaPNkyUb2jOUS9f8/oPSV95T2PyWc9IGt8PLFY7b1r2bs9eLNOvSixETvpydu8OZz2vKYjRTzHSWK9DGY5vZOZTrwZRiI8gwzJPACbL7zyKWy8utU1vNHJNbvFwZE9iI7NvaIhCz13gF28Hme2PR+6mbunZUG8w/Fou7FTlD2ZPYC9nNwpPZzbuzypwhi80AAsvaZs0j1R3mU8Q5zXPWInD7vUhWA9o/JGvY6Z5r2K0129O+MxPTqYmryLrKK8Gy9hPRvFYT0/ph69PbAWvZekaD2MGDy9InIqPGtYGj0u9h49ibADPOS66bvHf2C9OUEdPQJF4z1xPSQ8ukg9PWfwXDwhBuq9NdHEvX2BrDzm8f09iBi1vZHVxzzqu+09gc/wvY9iyr0DmAe8dY7aPZ7y+zxiaB28Z7ivPZfhEj0pn0i8B2MuvYFYuL1cldu8p0kVvaOTUzzuVki9WtGMvVavkDzf59G9i7lcvYom0jo3r6w9COjfPWuesD1LaU69P76QPSrKkbwdyaS8PuEzvXl1ET18rq69e/6ivGKYk7wM83o9FJeHPWr/xz1+BL09h8TnvT5oabx2l+282pDHvaDCnL0iGbK892g8PAuEvz1Mlm69pWjzPVbjbr2GPxS8nS9SPYxEJbxqI+q9jmSdvKY9Ib03kJa6Pgl7PTmNEbzQvhy9Xa/Fu4FzeTwf5h49VO6pvVMw27rR6Og9LFz1PZNpL71ReEM8x+ErvNucD7v9QyM9DIfqvWo8wrwC1pK9AgB5PX5d1D2Kn0Y73J5MPYY/lDz1vha9ZwJnvUz+1D1DpXQ9bdidvZJQ9b2H3U69h2XEPPQXlj2AmZq9EbsUvCAGk70MBh+9kBRyPZ6i+D2htFE8Ew7dPY+1mj0zdUG9o6OdPCbMfb0xdTA8djDiPO4JKj2fWhQ9BcRevZrN6D2klUS9egrTvNuB1L1bP+u9hU1+utHM0r2cr2C6UVJZPYQ7zDygV7c9JxSIPCkZrLzY4Ja9jmFnvSOmAz2fRnU85lHAPaaqrL0QfS28IZGjPVRCGD195Bw9drVfPNr717s4c6K9fdAbvTVLFjwPevW9YkVyPZ2job0vO0G9hiSNPQPQlb1Fe/O9JvAJvPnJurzO6k08UUWRPNAzHzyfGtA8UNXpO1t107zMaKg9nqQNu8xO0D04HSg8432Au8mM3zyyth88o8qSPYO6bD02ZvG9JLc+vTNjBj1oOAG9PxCRvZGSRr1os+Y9HuDNvIylZj1dr7s8uxB8vZzazL04Srq9ig+APRyunLxKWVK9Dha2PPb8cD0JjE49GG/NvXyqO71k8DA9OPTgPYQSqLwfdgO9Wo9svXP5fbvsHT48WsfpvQcCHL2YPWG8fgblvB32WL1au8k9eYZjPTV9972ZhqA9OWAUPRq6lL2lR6k9R3h0vA22yD2bEhW9PnCjvV2w/Lybpmy8vOSbPMLjsz0sAck8nCUfPUeg7jyLuaK6z1fLvHyP9b0ZnQw9aKWCvYo2ubz7Q7+9VWJuPZFG8T0ct/i9P3ttPMFXXz2Y5Eg8l0KjvUnpbDyF8nM806vHvXKTj72Y+WQ9lF+XvWdZkjx0c++9iOFKvN2KjL0hvUe9X/tdvWOIT7vx30Q9P9GmvLiFbr0Atx47lVq9PWE+WT1lRwC9fsMevYCf9r2KKJK9fWP5PRfDNb1YYw09jGXfvV9Rg71GEBq9eI31vaX9O72WwuA9NLgwvZmF/T0/qz49d+HAuxdaMj2cKjo9D44Buti8ijzh0X49dH4uvFi5Wr1cTai9bIjRvSrrxbzDRt28zP6WPY6mDT2Mr+w8g8hGPZbzJD1iMLo8XnRlPLgTjbymfTQ9aM5oPVDoZT0zLa29ClR7PYZLkr2Vp7S8wU9ZPG3Crryw/mY9CIcOvZ8mcr1wAbW9To8bPZzyeb1l8Ls8J1v8vVPvszxgXiG9o5euvJATDb1/Tjc9aqJpPMlX5r2bvdW8php4PZ4h5jvNOl884BtHvRrzXb2G8wg8qV3ZPVXxmL0Rkm07fabVu4HSWjwfcg48mVFsO74kgr2J1709HhNxvKypab0RigI9XVrBvUZ4lT2LTWK87LFMPYUcLT2MSsC9GH2kPacL5z2a+VI8iAg3vLWosD1EmBa9lc81PMZFRD2KmSk9MzHKPBv5dr0gMj89iYcuPUG7kT2fb+g8A3BmPY5hh7wnHRO84Dx9vOHPnb2fWIM82ldBPU+eTD1l+jS9j5vhPQybJLwlzBE8wmWCPTEnoTy1WS68/RZqvXxcxjtci5k8ErcXvVHddz0cET69L63HvD4w1j2EnmI9oSGDvVhlNDyD9yS9oTH3vV/jt7yDhcW9dI+YvNW4qj0iecK9hxlIvAnxmjygie686vbgvUEypr2K/Qo9STeZvJASj7zvar+7huMIPQc2K72c+rc9UQDCvUPmbT1Vtry9mYOxu/204L0yeKm9Gs7bvQ0qnz1ZWVi7EHPzvGJNVb2K/sg8eGMqPXQI0jy8dTe9lb/hvXW06z000x29hqE8vVJ0ZT2NpnA9dOhmvY/fNDuCHRC9BtDnOXeXpz13ZqS82LqUPPLZ5L1zX8Q9BJEnvUxtzzy5EP688cMzvYZI0D1XGni8t/q1PTKsnz2HRNy7MgDXPGXFhT0JG+o9PBN4vWXmZLzSGre9T5XrPWKUmL2ETj08SrClPK9Qc700R4a84RS9O8JFyr1sbRw9ibNEPTMGvr104FA9fa1iPSXZHL1wLC+8qcvUPJocYr04yJe9bFvkvFArgr0ckbC9kHQBvM2GczqV+Pq86NDIvaSEaj2lrvm9ga0APSOwajxJwxY9CzCbvZnyCD0LYM09PCaGvVFLZT13RIu9KmMBPB0ZcDyT5fg9GUWiPZK7wb2ZLWK9NP94PYwRb71ql529lNYTvXDowTyI1pq9IVFrvZmYdjp6Gma9eO1wOpA8671kxOU9oZ2RPKi5/z2CHZS8wTFyvYk/DD1Lz2u8BEEDvaD2V7wFcx48koynPOKwfz0nm4q7P1YfPY7RgT08DLG9a3G7vSpdjr0CYEW9nkjTvZABOL2aHV49ZPXdvLngpr2XOku8soi/PS1szT2jZtk9FFAgvV+2Tzw5qiU9PvOIPL9cEDy+ZK+879Y4PSOdyTzRyxs8WlmlPQugjz04FEa7wix6PZ/rf7zAdWg8+hgNPGlP372G65Q8p7ndPXwHP72bK2+82L0RPMY0tj2Yd9Q8pnIpvL4etr2ksj68you4u0wjNj1qkGA8y5FtvR9hDbxWixM9o8XYvXu4njwj8bk9gmUsvUZXVb0WdqW9ZOPevLTA7byem8S9hXAWPWjg+DzJV8I81QDpPI0Xmz2nDey8hrmdvW81Zrzg/Iw6CQqTO5T50jyfSom9jtVmO9JkHrln6mg9hZw2POuv5Tvoh+k9ni8APLtbrz1krpK7UangPZ07JDz1IfO7gtOMPY81Zj1aLle9P57KPW+OKrzWh4C9GUnUPJ8rCjs0Che9ZLKgvP6cerxsmMg9bZlLPM90eb1U6li9n5pjPaVEjjwvH5U9myWHPRETOj1KZy49ipRbPVXiGb0Puk+9RdsavWlObD2doOQ9m7RlPRpf/zxNz5a9aPHvvX5wub1WJPY7eCxrvXXDG7zEsjQ8iyi6vT1/A7ybqOQ9awqQPRKsTbzK8kU8lyY+PX3gDD2PEQS9fTpNPWbuZbxGJWK9BtKjPSILB7vRcci8DtijvY2k8jzJIkI9LuxPPRkDO71dVwy9TqTbPVIA972WPcg9h4i1vRbSRDySV8M8p5GMO9L0uD2NKzo80lUDvVtAcr2PhV85hWUnPH7wNT1r0Nq9govlvXpm2D2dy6A58jVoPKpJeD1XnhS9ZdJHO4iv8byPhPC9kebovXrezDye1B89gQk1vHkoY70NPhA8FFTZvVBWoT2Fbae8lBFTvZE5K70zLzg7gNoOPZG4oT0UF+O9BdtqvZ8a5zwOKLk8gi5fPFN92TwrZw88ryaruyV1Eb2MumQ9PQl1PPUDeT2gkBG8hQYOvYo5jT2B4nA87XxrPRgmZr0vOx89dZGOPWLRIDy/O9+8JXsxvZYeAz2P8E89pSPAPYObvz0XFhy9QqCAPJwF/rxnzrs9V7tiPNa4eD2OJ0I8uIp5PQlUy7zl1L88ijuOPT4tJ71pU4s9SlMWPV6Zuj2NjCM8qn+KOaFiur2FELm9ju1bPG4K271hvTM8zIOfPYtAGT2mGlU80FPIPXwhZTyxubm9bZDyPVItOr0BLRi9Ul6wvZujJL2QNkS7mFqoPYuVUryQUjq9hS7nPTlIWrt6yci9GnnpvI8pKjyhTVs9kpkyvN6u8D2d1A+9IOEUPG4PWb12sEq9Yjj2vYbpnzz4WVO9nLmIPYJIur0XRfI9Id7gvMht6j1BUMI9pk2IO7WENrxPJbM9hyLMvRaNp70uONc85T6yvXJ1GjyGcKO7bh6ovZS10DubmYa9cXKFPPk+vTw/UHK9hnTvPQDjobys/Fk9CuGnPZ5/Xz18nZW7DGQPvUvg1b0gw+Y9DH8BvUCEuj2fyh09jUI2vY/wxz11Sf09Ao/5PO3wgb17nkk9jlyIPZ5lGLqbZAs9Rf5ovUuHXTt6msA9lWMVvSju672mgOm9XYb6vTKLKrz45Qc9m3UnPaPIk70ZA9u9l570PWaT67zQzRO9pRs8vP8FO7yuP2o8XZxZvachxDx56Fk8wI64vRBCQbyCmey83hIwvYmFeb13bNy9eTQ4O1l40r1y/gc8Nz1IPXx8yD2WMQQ6p40uPXKgDTyErcW9Rf2mPNQ3pbzMR6a9X0HyvVnL8bzVRvc9aO3cPXw2tLwvE3W7GzPeuuvoVjy3kGy9jyC9vO+Hl72VXVy9h7F7vaLu6DxRr1g9ZfpovVwIjzz0qL68gqMXOs/Qorzymh+9lA4IuirzkTziWHo9WsBRvY2c3Dz82wk83450PYIo3z1JSWi8WSwxvAw+872bNZw9n3lkvWzMgb2ZLIo7kqDhvP57Xj2Tc1K8PVkpvQI3M70S2CA9oqwnPQEa4j2T/pY9dQ+xO5weSb0w0da73QaQPUiiMztOioY9gqcJPZVnXz0XIGi860dYPTWLu70tzLA9Ggs3vWa2QDxl0A0863CZPElpHL0f6ks6xc9yPQ8NIzzbjcW9P8CTPY9tcLyq7NS9A366vOYn8j2SA3S9H3yuu8w4cb1nSCG9cJ3vvOr34Dypgda9bBA2PFyw/r1xCYo9jLSSPXOGjLoppHo9o19lPQeRQz2ZuIk8UpW4ukOTkj2g0EY83UMrvZZp+L2jTXO9gVinO7DfuL1oayu7yxkevWYaoz1EHSw9pG1NPXbH/zmqT527vrIrPUYqFrv/wbg9oeiJvVS/y71Em9W9iTPEPQvzqD1qkdG9gP6/vZVBUDwS0Ag72vxqPQWQSTyD/g+7vXA5vO/ejDq7nUU9pL9IPHChpj1x29u9nd80O3TX/zw4Zvo9n3TrPZDi9ruGhM69eL0cPQLfDT00Xks9kABRvZ6kJz2AyDc9i0fPPWWpnTyCueQ9NY/RvJVwPLzBbtM9Mh2HvLEaDj2S3Xg9g9ykPZVyaz03KAY7oMUQPLSd67vtp505j6mfvZycG7yZbg8798i5PY1eWzv2TXa8vOFMPYlb8L1nAsy9L1CgPTrkTr1nbaM8H9bvPZd1B7x4RUi9bg/UO1ikNTz59JM8cd+DPHU0Yj074Y09CO0JvHjISTz4O7U7YruavWGutT03zRa88dzRvU0Ed7z624U9St7ZPYd9+7zVbhi9pYR7u7ybM71F1uO9f37UOzbxGjuraBS9jmRlPLaDQ71Grue9ifuQPYmJuryXQAa9OwjdvRh9oj2GP1w9jD2zvTY9sL2Upae9KCFNPXx4yj2C/GY9ZWtRPYpiO7yzxUM8/EWePGpUYLzHIhy9gAZfuxR1eDxodyK8dB//PWwT5T2fhMa8yqafvSDbjDzde4G9gNc4vPWPkDyv5h09k2fHvRNvAb2VwgK9nW9oPSObc71Ocms9VRh/vQkCaLyt6Ea8xeyzPTb5gb2EkII9NDHqPAIZRD2Zvqg8Ee2+vG8FJ708mmi7UZfAvPGgj72jWxO9kh+QvWZuzL2Qnxi9l51kO400Bb0+s2U8U9R7PJ35xTzS8Ny81YLgPWBkWDwThSw8vyi5vD9y/D2MnQk8iz2CvWJQ6DyFvGu9hiyGOuoJizzvPpi9RBwXvCScx70u07G8iF3dvPkfJDz3O0Q8qWMtPDEXkTq07zO9Ez87vAAiLr2Yvw89pmcdPWr0zr1633A9n6vJvYsP4z0OYtw6k5+1vSNmL72dCsg9a6IGO65ZDby+BPi8ES/ovYUBZb1Mtvg9TaGkvYPIS71hBW49gCdlPHA8Xb2DQKu7pgzwvSq7g7uqmYE8FZYPPACjWbzuO0Y9Ye1QvNeRS71J/Rm7SuCIPP0eqTzXQns9i16lvaIMDz2UCdg9XgBcvKde07vBwF+9PrefPPbzuL0qPHe9iZKXvPA8hr2hbsK9Wc0/vZbyT72Detg8w13JPMNo372cd1g9B9Y3vS5fmD0JiVi9ATRkPVDI+z07HjG9lF+jPNDySb0/u7I8vLjMPRZHSj0Ym6686rPdvTjieT2K/yy9SCnpvUXjz7yAJO883ncMuwSfZr1LF3Q9FEqSPKGDPzzQDvm9oqYsPZIc/DtBeIU9WqqPvXBZiL2cIKQ7YAOfPQAVfr0OGFo9DX2ZvWHqOL0TXa29My5kvQgtQz0HSj89cRbOPUoecT0QE8E9lLEuPAmPlb0fb8I9UwcpPWGNjz1+kc89P2HMPYSuubyMpP28waVOPK0xvzyODhs9j/SNPYODIDxcO4o8K0LjvTvsLbyGjJu9GMbqPDaTNT19V2s8A7kmvX8x6LxB/Hg9idK6vZ770jp+48y83PjDvJ6fdTzbleq9kq3pPXCxnDyCxxk9A8ZdvL4XHjz/R/Y9gTjgPZwTFT0SYjw9phTAPaS3fTztGro9fQBUPZYkWj2StaG9ZPD0PRSYarnfdbY9De/GPQnrB71GyXU9WbL/OsOmhL2HMAy9FsHovW0oZ7qwBNG7hn1gPJ7gqL1eKCo8pvomvDys4b0R/MQ9nvHZvRe8mj2gLkM9BpxQvMb76z2Equi8czsDPaU0ub0N+FE7o2z2PILvTzzZIVW9EKKcvM3BVz2Ogg89gT/aPR5f2zzH76k9gD4mvGL4Lz0fezO9GpvhvKSzYDzMycc8zDAdPH8jE7mt6e29YIsrPSF/CLqgL7o8unxgPYiyYL2OBAu7aRqiPY3iSL07WME9Ol9GvMINIL1BEyw9jFDHvOA8lzy7B4a9M7IavaCgrr2N7lw871z9vP/XAz1eujS61G6YvWNmyLsxQpi7C7oQPR1RLT2C37M9M26UPBQpdD2Z2Cc9HqgaPSjKP70cPPK8rHoovUD8uLz395e9m2dEvR4BuT0u0tg8xQskvLMQSToGMuk8ufOcvF3WR71xpTQ89k/5vU0vTz1EarW9kBi8vT1ysj0gGKm804QeO4xoY7z5PCa9n3TKPTWA8jz3HUI8wVVaPYpyq710CWS9WQuGPSCFQT2BRw89isrxvI5ljT2Vi0e9OfFjvVhb+jxQt928tWpEPJ7mSjwHkwc9PARDvX4fcL2Dpfg8skRtvVMPF71vA1m9al5tPQTKsjzKzLa9dgNoPDn8nTyYDLO8qjQ4vMCn2L1nOZ69pVKZvLDRjTybA0+8GHAXvY+/Dr2QESA9ehNBvQBWcDz+cDm9GPS1PDsTKbyGcWU7t1WdvV9wub0kUV09V5tWPEn+FD0Ibkm8+2tJvRvHvzxSzjm9l4moPZOjTL1WKAM9eTc1PTbplb05Zkm9nz80uVeDqD1wnWI9MpnCPLKqLr01QH69EJVaPNXRTTxCfNK9ja2PPMvuCj2TQ0u9i2dOPQiKCb1Rl4Y9QbaJvZ215bvyGBi9ds2uPRKCd7yCJF49KZ5VuQqmvj2how89PVSuvYvWnzxtt4k9pTPvvWVmUb2j4i49gDWKPWyXYr2TXL+8eMCIOrNuJL2IYVk9iq57PLBJ+T2hK6k9ngLOvaOw6jsH72q8GupDvUU7WL2ZLiW9IMsLvV2q/D1Ijrc87xUzvWxFW72Y9DE9oTSbPZUyjr1fPq48YWpuvJuL2L0OxQs89cm4O6UzGD2lfiS9OK0IvaG1971GaPA9kzGtvIF7mbyVRvu7uGXqPZ8wvr2QLhY9L8LivUZQHjsbAo24DqRXPaDqULxv7uA9mV9APHNf1jx9F6m9h3ZsO9xfWL0NBsE9iY60PaDXIz0Ktnu8bx3GO6qjDz2Iljq9GyCRvZzKoD2RGfE9SFDGvX8jPb2lvSu9Q5yWvTCRHz0BdhE87J56PBBker2LWpc8a8B9PUevPTyfDDe9jnrNPXsqerzsCCg8z2+NPZcfBj0GP9U9kTsqvW2fzr04MK69Pr0xPZkdJr1kXBa9ly7APZ7Vvj2ahvo9jV9Juz9q3Dxx1Zc9epR8PXvntT0ftkM9U1I9u9RhHz0uHGY9lYUEvZ3WX7ttaJQ9UbRrPaLs3b0YHjw9E0R1vYE1UDx9yX49jaQmvJF47L2W2JY9m3UqPOiIE71PfSu8/owQPNBoGD0KICw9kwHTPaRJ/zydMw49GHsCvORgsL2CY9e75LibvTJJY72H7r69NSicPPfgtb1DMj89gwwXPYw4P717dle9ebZMPYu9jrw8Sy+9dgvePYw3aLxdjae8Sad9PZIsFT0gL5C8eQ0ePRmq+DvvAZC9K9eDPYXGE70451+9Qha9vFTw8rzIA+Q9bMzyPVgUdL1M3pG9VpEyvSHBQr0XfhE7oq0VPSfgOLx7G608UjcMPF7lErvqZ1u8b0lAPODHub1/Ejw9gcBVvMvqkTwbt7s9L0O0PRMDmL2bmAK82fPUPJ/+5rukC4Y9Qu6zPKaM0rwouG29nZQQvS0yHb2fX329jKO7PScvrj0935Y9OOOBvaN7OD2QW6+9Hj3ovRMXZTxBsoi9AqokPYXrx7vLr0U8eKa7PYBQrzswERC9P+hovWB1JzxhNgI9d1jyPOwcc72kl749L8UhPaCHozzgNW080HlnvNfBOL00VHy70rq/PUoKqb1m8VY9eP6OPIUynbx5Z8o7c1DlvY/tET2Nggi9j4BJO0jgGjvNdaa9aXDMu8kN6L2DFQS9kdIyPV3N9r1RGpQ9jWBrvYSM7b0l2we9o28HPVq3Dby2rI89LIIbvWo9+T2EyxU9Ef0xvHCS6T2RK2i9K7VNvM42bT0jKQq88DozvYYPcr1mKOU9Dz5VPVx1Vj0JnaI9htn7u8sUdj0+BuM9hmCZvX8Tkj2hWTe8GxHSPO4rJj0RU6E9gHtMvFQX1z0WADE9aLdXvG0kCT1s3nU80zx4PZAShTvxMmq9lJORPYjHoTvu6aO9l62vvWKm37yGEt09GKrTPGsnUT0ZfHG9PvFgPNe6+T2CBUU8fUvVvCfLejyH/zs9iljqvUJsNDvibHy80KVfu4j1Q70299w9m6pAugrtST2NEOa8veXSvNAijL1Ykxy871rJvAX2kz2i7XA8knPvO4K3tT11Nfe9GgA8PYYWhz0Uf+68bo8MvSQ9G7zdRGm8zpF3vWHaOD2mdrQ9ovXvPaKBnLwl6pA9k++6PSr8Hr0W3TW9o6HuPX7jzD0i9Qm8rI9TvPwOm71U+QO9gqNpPV4/rrwXS/I9nnvsvVYNlzy+C689hVf4O/dQyD1vzjK9dPydvV9Lmr0i+DM9nlBpvJIHR70QNJy80k8yvLhfjDxLj/87iZJGvJt5IT0Ggsm9pecavZy1zL2MOps8xKgkPTa7hbwFwKW9ioBfPZ2rALwqslQ8l1A7PVNl8rwEqk083ur4Owf8zbxTLKa9RdxUPSmnkbyfDAi9ZcKfO65TVr1N0Ym8VN/NvAJt7zx0N449JPIiPMzqqTxyHgO9MO9DvL1g5T02CjI76E9UvUboMz08w9o8tpQQu842Gbx+t4u9hb17PYUnybw/+B29Colhu73tET2SWWy8zg5RvYrvIj1SYq49lp6kvMm+eTyV9D48h2xOvMR7Fz1Sfic9Zm1KvZU4z71Rpxm9fWPZPY6atrwk7QC7NCKWPBXV/b1EWJO7+dRDPDNxxjz3IhS9olgOvYBMsru7B+88peL4vIan+jyRF528spgTPUFtOb180uc9WrEHPT8Iq71y/dM8cdcavRUH3rq3Llc9MsQlvTdgrb1F2Wg9BF56vYeltz1Tehg9oSxJPHQL9D2evTO6lAx3vY9I6b0sxCS9gPu2vZBzMz1Q58M9aiWXvL0j0j2mumU9PcTdvSkgYz0+1sK8p4HPPaOHxTwZ0ik9RGAdvYKN6L2Vxc49otIxvZvcw70bPh07y3/qvV5XrL0We6g9lBhzvOuZxbzdaQi8tcNOvShSFzxSRZU9R7AcPZY50rp2GOG8mFG3vYuupLtJ2+g9kXk7PUKcIj0zRuM9phtaPaAhNDp3LIc8zasnPVXtlT2LYt89kXB/vY6H2r0Ryhw9lAShPN/2O71sB709DDLgO6XLyD2FDZY8JRo8vZ3qeD1DGmc9PcXWvO5nBT2lWpi793fPvEEBEbuN/Hi9Sh2qPXZeIbwvLy69D4QFvGU8YzxEJA08u58hPFmt0LyGscE81PYivZpElT1Oyp+9jYjYvVv8l7z5jXm9YhU2PRpOEz0XGtW9ltfGvOsI3D0c9nG9RFt5vTivqjzUdMc8WId3PaZfBb1Oq6e8zp7lvVPEDzw+e5a9mcVyPXYxbb0Mk5m9nn7FvX9B9TwvrKK9SkOsvRBiaj2elm09JupNvXH/DL0E5GK9g0bIvWpqvzz8tyY9GDvtu6lUNzrx6FS8xTaEPSGYXzxWBo49VQ/5vVG1iL1MH8Y8/fBWvA6kVzzyhme9moeHvQGNL71isVi89Wz3vUBty7pGS+G9galUPKn3mDyVh8C9f+GOvTPShTz8t3+85LrFPV+Xfz1a0808jVdvPDII9z1eyDA9hxGiuxaPDbzscBm9He90vWytVr1v4Xy9Ya1xPYV8IDzCpC29h/q7vZCCQbyyjaA9is60PQonqr2evYw9jMkXvOm9I7z5zKA8m0qRvKOW0z0m4nY9m/z5OrVDyj171Q28DY2hvZUlDbxRJ7q9H5onvQeG6T2nBQ28pBFnvQZg3z0Nino9iHV8PaU/Mz1J4Ii8HRWvO50v5L0ltce9dy6xvXW9ED0BC3w9BDafvaBgQzztY+e85e1yvZRq2r0fZoO9nm8iPXFyST1xAxu8q2l9vRuIND0WVku9loRTvaXRab2QfYI81eYAPVi2OD0WEmS8hJCaPHmNRD2HBj49cd9rvRrmcr2Qf+C9iqQevYlXEDufGbW9EvPrPNEJ172jmmi9Y7kYPVVT2L1AB8W8QxRIvS4pEzzz2Ne81aWpPWR36D0Fv9m9EJycPUXUjTyrAv86s8QJvYr6Fjs+gVg9Kc9SvG1buDxYn8G9Di7pPZQ5Pj2cwbu8MaCyPZm7Br1fTM69mmTavZYGrL0xXY09F2/PPWM8Nrw0BgK9NKvEvMmpHzxxL9e9aH7rvZVXLLzlDK87Z+3WvT1SYj2jwcK9GyMsPZrQ0T2Fry69RsOSvIuHA7viULm8hhPdvEwB+72KRQK7kdOdvTvc/7zPR6A8jr8lPS0cPj2aWS+8/mxNvKuFbzutr009mHzAPVshwr2Bhz29IDAAPUTnZj2F4A+88uzKvItzzj1gSkc8o0+hO8dp+710nJs9D2AyPZx9sTqruc+8uR0ovLNMEjzk4Y28O89dPYm5lryAMwq9jXklPVM7CL2Ljqs7xIEXvAhearsjpkc9Rn/ivZLd2byYEgK9i8CtPM3BbL1eL3u8SACVPOjlVrwodya7B8i2vZHL6r2NJ9U9nSkKPZXJH72b2Xw88Zx/PYi3lD2jqbU9BZf2vYJ+d7wlPik7BrdZPQajjzzZYgA7hKNmPRHnTT2SEYa83S3LOjE7vbyB+le76BDyvC5mXL07FRy9nIJxuzDWKjyRnv28pCBTPN5KuzyRYi49AXlLvZigi72gnde9NJqpvXRuyrzKGC+7wCeOvYeKfr1VUE49MGhePWOPdj1/wtg8lrrwvWBy3juhOBs8xTNgPRx4Pr1kwFC9Jx9+vElmyD2d1uY8Dc5MPZsZQT1LIIy9eQwBPaRiTD2YuNe9T2e0PYDaZz1eSZS9cTa2PMuuEb2KYGU8C6rrPZG+zzyOz/a82W7xvKDEnTx1iOS8vBsnvOQPwb0985k9CPkCO6gTqLyfBuO8AhPgvVeeir0YVzW9kbzXvM61qLuGfUs8xMKDPOhzjzzYyUY9opVQPRULYD2Pyxq9SnLzPWdi3L0IzBc9RiErvOMUNj0aQ6+8tq+kvYr6ibzAjJM9bGkePYJq3Dvc13M9kEVjPL/vDT2gJmu9kOl4PQqmnD1wGVs9KOYhvOIbgr2DgjS9PSG1vS0s1rz70uu9f5DyPaL/dT1S+kM85hsbvZ0Sdbr9qZw9R/ZZPQq3cD1IpnI8GS07vXVDWL2I10e8Cv8BPZOcvrxACS68nvcxPUkSy704Cn88JxSAvQM447yoLbk7r7C3PQpv3z2iQOK9VDYDvK/+fb0SOUS7lO8gvSRgtD0zjVI9WkblvYPKDr0uSVA8S3M3vZYiIL0bfMO8nEZVvSD8qD0E/fC9kALAO1D+5j2ckXu9LJyqvXaH1zrlCJ888RaxuynDqrzgX8g7rmv/uxIe0D0ARtI8BXTfPWvbnjyDxCu9oaDXPW69UD0md/i9QnjCvIRSOLyaAHq9VDQVvUB/87yTKie8x6TvPYoMWr07o009jIfovQK7Ir0QufE8uT80vXhb2b2g+DI9JgOxO8sAyb2aXb29cu0UPUdBxb2eIho9myMsO4Oa2z1qAwq9Xs3FvZfg7Tu34p+8Hk21vCGIvb0++qK9UU6PPY61ErzYi1i8eswRPPXE8TyS/pO9eCysvVmavb2YNow8dhZuPMi8xL1oOJQ9i3OLPNQCfTxk8809Cz0xvPHcnTxTD3Y9hEpxPQTz7T2knG666w3Xu54p0rveA1k9njEtPIhS7L2coLq9maDzugaofTzbND68yf/GPQTmdDthhX+9jEndPY10xjuC7HO9BvNkPZD+eT2ZnIY9c3vSPaC3VzyAH/S9RupavBWUwb09zXg9klt8PIdIir0uvbA9dh/SvSDvZj1h56E9I/PWvXqJ1z1nrli9gGvNvYW1lLwPZIG9b/w/PS5rpr2goIA6orxFPX6TDj1l/Rc9ctyQvaUsDjtxpYq9MjxKPUT5Sr2P1cQ9ncoCPYGHjbxpi4Q9Vy1dvZ/ppLwKk6I9Yb2PvFTXML0BXkc9pP7sPXVVpzw9kG88Qel8vS/Pfz1jhLk9ll9ovXL1GbyuSkG7vlFVvE9FgD1ZmqU82kGzvLMO8L2lk0G9nPhfPUTRGb1t0dE9Cgb8PURULD0AkgC8g4XkvV++jjz/ngW8DzVvPMM+x72S91W7zH9QvYFiL71PUj09jiH6PEHbHT2k23w8vJ0+vTnJeDy9gEq8uiAHvQ1+tbyq3IU9QtbEPHZ05rquhwW9W4tNPDq2SD2OXHk9lTm4O4ALUb0rCv08x7iHvVtkfzyeosQ8Y5n5PZ1Rtz1NK1S8TwyYvMq6E714dMC8w/vxvaGRlj09URi9O45CPVJdi71uyWO9Pk8UPZtbRj2B9tk82c9UvYYo5T0j0ws9d/CuvQN1t703TgI9j6PZu6Fx/z2XFB89hN6XvJm9bL2AJYQ9Uz4kvR/+t7zyjfQ9L3jmvZn61z2Qw2m8+anoPVPM672QvkK9m77zPUr7gj0dnE29gNhFPYMsxTyzbBS89b5uPJ9fIj2dtMi8HErJvQhy+L2Sntw8iWA5PK4nLzyzEKe8s9kvPYSF8j1DIuW8ImTTvLVZ4D2ImSs86dKxPZtS0r2Zy7c9S9UVPSmocr05d8q9OXwYvZ+7Ib1yBFa7QHbWPUDLWLwJ9zw9hcRWvT8NsDypN9K5pCbLPWV4MD0ChwA40hWnPY34Gzyefko9FBzwPEyvcj1ftq09KUWMvRlQpT0iwcs9oZcZvNVDrr2geEs9FMeEvXp1FTyYfRw877wivGny4r0Fjh26AXFavaIXuLwbQPm9hnczvUF+3L0y/3c9ARWZO7ySdzyU0129LLPiPT6o+bzVHlg9J7ALvYlJ1zpYVAc8gCFivX6eDz2B0ew9MzdIO4miHTy7dA88Y8nIvJSbMb1ef4e9ipbWPDk1bb084KA9k2XGPFWkaj1Ic7A9AGwvvTbGhj2fFvA9hxvYPR+uVz0OWei7gcnxPLVDz72me0Q9mUuyvZlQjjww68O8gImSPPrs5L12eBU9QV8Hvacmn708lQw868eIvLSuBrv8YYq9l5q5vY8YTz2LPYi9CxPwvArbkb0Dfty9ibDVPKiPgLyKUxK9diffPZ9JX7zm7/09HtwYPaEPnL0KmQY9K6VjvS0dGTyzyvS9Qp0IvUNTpDvkJp49jXpJPZp14D2Ev5a7wqFRvYnmwrv18dq9lqmHvCtx1jwQg/49nNpoPC57tjz4QHa85ouUO/wC6Dw6e1+9dMCFPEzZajxaHts83R3FvWyZqD2V9EK8yqEnPSVofj2eB/49Gk4RPVUih70lhqe9lonxPO8o8DwCypE9ExQUPZKwcTyIH0e812kpPIQIvL1fSXW9iafiPTgIUzw90gC8wwKqPXcLqjznwEw9k/kYPWIfpjyy1DA87SWrvQoL7L0BPys9a4kAvZlYnj2G20e8CbxyPHnRFDyYGtO9otcvPZx1Nr2Qtic9BEmYPT151D1dEQY9gEYCvRdieLi94FS9o+sZPURvIT0aioI9gQqSvZFqEb2Ilwa9jdxjvYK0I7wwMGC9AqYcOzXQjTvH3YQ8jxZYvOyRwru/Xgs8F3wzvSLiLTtS1lg8K5gMPRD/tj0Ee7U8nWmUvQ6PZrzcrhM82dajvPrYVrzosDS9kHZVPHVTiD0qSyy9Dzz8vVQt/bwY7Ag8kvPrPNjpODyEgRG9UDYqvSkVuLzBgro9E8dHPR5s4z0QxjO9oDhpPBXFLLz7ife9SNXSPK1RXb0VPze8kafPvaQ8g72ILF49SfwzPaQ6bLrOIIs8y8M8PZcjAjpqlFm9ImSUPLJbzDuOhfg9UEyrvC7Duj1pf1y9Tj5BvYynqrzG+2O8j3TVvRyepjx5r8489LsXu4zE+r2iQRm9cijVPI1+2r2gF3e8cbYTPJJgcL12C+29LZTUvX/RF7x51Fi9C71CPRz5Cb03gA09ctNuPYfuBz16DZe9ZunGPUiZoz0AHhS6i22kvSeEOL2RGWU9oTv/vN/DoLuVCb48Q8qwO+6KhDymK7i8Vk+XPXigGzxMdUW9k+6YvWl5ujzsb7s7H+JSvR7FFLzsBQk9EqfVvHa81T1/1wW9S5tePHoPYL2YYsC9i8hhvS9aEzzdzP49pIjPPaNVSz08FXA9GOd2vY2BDTyPw5A9jKbSPJP/XTzh9Be8ma9CvWIOWj2MKaM8i1jCPZV7er0xoXG9jAaYu73I+r2jhSm8E0UpPUz4dj0hP8M9XTenPPbJ8DoGE4886iaXvQHEeb2RimK8hbdWvYjl/TwtLsm7lCnxO73pzTylaha9nTUfu70wir1rtjS7GEGXPXx6Sj0XYpM8qGm8vJlHLL1YkfC9VpyMvTiIdj1MZL883zu+vWdlHbx7S2e8hIGjvZOhhL0okoU8DoA2u+i5jrzXi2q7TTY1PZFR0z1Nxsq9mfV+PMBS2b0RZUa9EwuEPTSgTDz8Sl+9jd7vvaVyOz2J7B+9T0tvvZbvl72EMcs9jbgJvSfHH7ig7na8Ga1CPMMY1b0csie8lfn6PYMOEj1KaWO9Ib/PPX6IDT1yHAO9khJtvBTnC72NfcC8DCzdPRmLzzyfjT49gTHmvReqOL2cCA+9hRhWvaEVQT2bCn09iwT3vUckzrwHQ749H2UDPY4vwT2Tbi47j6DNvTHH8T2EJLq9RVfCPLsV0DzC3fG8h6W5vO4Dkjs3kXa9I40UPPgm6D0+hTG9WUsZO5mkCL2Intq9EkvLvWyp072Vei67sFcevIvdPL0vf3Y8uVkMvI95tr2EIsg9jHORvaP/w71ggD29Yn5vPUpO7rxSDOq9CvXuvJPQX71wdTE83oQxPCVlBr2UUaa9e68LPTTYVL0q1N08SKBVPWHirj2ZCZO7C7JjPJYJeLyomsS8VWylvYiWHr2XyX69pEenvYPGxL1mTtq8p2mkPPshAb1wN5u8x+W5vZz2wr2PwcM9luQWPaOcBby9/rS9oGW3vBoIvzx+EFM8+arTPYs/dbz1e9m9iwsIvQ5/f70EziK8wiePvTWtvT2c0ss9e32lvXnw5r2Xk287hadfvN1Ydburacs898m/vYio6r1mASW8oGrXvYsht71TcME9OTX1PVoe/T2f8Es81tN/vY4ITj0uRYy9iSQmvY4x9rz1US+71XYUPBoIVj1oCam5YCN2PJGj5D2Y/fI9XwbaPW/vtL0AC4g8w48lvRNKFLxwb/e9MgO1OcCQzT0yW3u9d7+2vZyf/DxB52c9CoROuz2+sb2Z+am9TE/yPQ0pdTyZBuo9KVPOvXSrAj1kdRo9Yq53PSmPrby7l+K7rxCvvWhWvb2MxxA9A2a+vTKDnD2UNs+9gHaBPK/R8r1VeZY9YGs+PWGM6jwJrf+8Ad6kPP72qD0o4/+9PKmFvKXkn72PfJI9bpsAvZZ9qLzURpa82UyWPHlAzT2gauW9PGyMPVGceT0xBTW9aTrEPKJQWT1tApG9fKJUPaCjkj2kB4K9PrlLvOAv7zy4MG88z8hjPZcCc70BCCU8muQTvYUOc71TJia9KBuOPM8PNLw6iFs8/aOrOy69Ez1O6wQ9Uux7PZ4gPr1vBao84J3WPZ94GD1rMaA9SotKPXKHGb11f2686zItPS9TR7y/7vg7OkaBPIJ+kr2ERT+9BU0CvKSZ0TzKCoe7s/5qu8uRDz2eT/a8War/vHWoH71wWzI9Q3UwPPz+x70WPGQ8OcPevZG66TlzjP09C+86vMt0I72Vuma9m9M0PWjNob2mhmM9hnMmvJN4/b1s40a9eSOIvOchiD2Maso9L7r0vQpZgz2ZOb89H+DlPSUxgbzQRWQ9cPpSvQ41372hIRS6lTDGPYRYh7xwwhu9NVw0PAAnPr1Ni0881x6ovKpZjryVbCI9OovoPYENKj2PxQI9QgWkvRcTejyGksU9pX+GPCo+BDyFBOS9o0FyvRHS1Dzc9oU9BpimO7e63D2Ksva9fjQEPYM/ALzBdBe9U/nOPTpfJL0vDBI8VV4IPY9/kT06KfW7+7MjvZH9BL0ifDq9Zyg6PHN4/Dw5WTE9lF6+vZhOAD1PzkY9l+aSvRxu9D2Pe2W9eOnLPXG7oL0/ToW9idcOvVu94j0T9kw9epptvZcjiT16RsQ88mivPGTKMz2lSDs9pNONPA01CjwT7NQ8VzYsPLoWKzzk2cE8qZsGvYaEq704Z329XCMEPOh7Ij0DKNU8U4wEvZXA+Di76q29YmIgOxpFx70SJOo9AbMHvPbUlz1pkbi9BqDYO3lFn70Qfu68t2ZFPQGA1r2mijw9kEThvSeOZTqnn3g8qbUIO9gk6r0ToEM9ied7vZCW8r14dAE9kPmGPQ8jRLzCejU7tEy3uV7CvD1kDDs7lSTvPX/ltbz4GoS9Ls6pPIWUor04DLE9Bnt9vNsCvbz7jmU9TGThvRQazD1EgES9nrV5PL00S7tEOVI9KkxevYNTU716wQ49AG0bu723lj2kdh+87v6VvZ2BGL0H/Ze9ADMXvOD44D2gW2I9gLDZPXMPXzy49q48Vv8ZPYsiZr2KJ2y9gbj5vS6mMT2CCfc9Mcc0u29jnz0j5h49QSMtvKR8u7yN/U49mZOdPOinXr073XW9izzLPQ9IFz1xSZe8pzR9vY2UdT2J0bW9mb6APG+UP70Rs8g9CgWJPT68NDykHi69CvHPvUlf0jxtYQc9nBW/PQTr5T0fyEc8vxZ1PXM9Sj1n0Sg9KQFfPWp8qz2Gei29mmn0PZo2/r1J5cw8u2NsPV2/gj1UJVC9R+JYvEyayj2dDTG83DTjvYrjTr2cSji9HkSVvZQsXL2RmYg9fbvHPN8SkrxstRK9LyggvZq93b2mHaU9opJivL+c5LvXyH08hgRavQMr2r2GxEU9VPaKvWxW4bzLu2q84LwMPQCC/D0hAlo9J7/DPFNCC7s2Fcs7nztZPY2iQ72mezM9U2KsPZQY47z6Zgc8i6/BvYzi7T2lqPq9pEduvY23ET0G7u49iBt2vMkePD2j6zq9MWInPF6E47wKUo89kRXOPYYCjT0/XJ+8gCuhPXHo5L0v78g9daEEPQNYuLrGwnC7Ca0OvaEg8LzOEdO8wCmdvShmIj1iU589kxAlPF7rCL14joA9TJK0vUto6T2Rxse9eKbKPYJ8Ir0iD4I9aUHmPaIMPT1VNbK9W3WAvYyy5zvpM7M9oAnNvZO74T0ruE89U6RhPWsUuLvX9289PmrMvaLvpr1KExU9Yu2ivVQY7DxjrC+8wSUtvXH2QL2hPly9kDZNvZrDCT2ONtU8+FUFvVfaZr2TfX49GfK4O6KOjL1Rpsi9FaqvvCk40j143VA9MZNhvTz0bL1ih/29TX9GPHnjaL1jRw+8M3mdvGxfQr2fZy884WZEvZnYBL0woD89KWKBu0RMlz2cP0k8YoOsPMzOZLmLf5q9n8uivY9Myb1nRaQ9jCovvVqciT0cyKs81BNuvU9jeL1aC0q9B8BdvIo/vTyYuq08zfPnPK1/ZT1NkoM8QeotPNqDXr2LvG27cCmLOiXKJryWjGo7y7ZgPTExYT0vNzk9VMf9vKEE/zyFHYe8sR0EvYywYz0uE1u79IsVPAQ7nzxDyO69AK2RPUOI8z2EqbK8imeruzUQg70GdeC8qxeTPH1K8DyTTli9d0wGvMlp3T1GhHm9j5gFvXF/1L2KzXk9jAZTvPRmN7zHKUY7KpvgPRtNbbzgWSA9OH+tvS4ffT00hrg8hlSnvS4d2T09rEQ9an2RPX872L0GlEK7jldEvNrkorzRRk29N/xSvZA+OLwWCPG8N6xJPD05Ej2JqWs84TkNvXDq270h01O9IQEZPUi7Az0soLU7CkOevUp+rTveava9IOEKvVBdrDyFHC69A6A8vYGLPb2AP+49eSICvYyP0Dy1cIg7u7XuvXD3Yb2Gvii9lQYovDq/Y7y7EjO9Xym6vZFaED0vaa49nps1PXy5Ib2Y/7u9egDFPRJ6s71NfAc8tEP2PYozdrqSjbE9ihuBPK7tiDyu9YM87sxouxMp+D1kEfU9GFOivQ5h0T0FK5I9O/24vTu1t71IWP09ZQGkvaSBTr1YYzQ81itCPTCGBDy2TWU9jf9aPZklTj2VC++8rcLmPPPo6D2PfcI9pWUYvY5iTTxY1Xs86lgxvYSWXDyt/ke9X8FaPVYcSTuq9XE53wQOPWPt4b00iQ48vrVgPYQyhrwFPHS9Ae+QPQutTDzF0kk7r8NAPT4AXjtLfM88tDz7OONqK71cJBE9GQohO+Wzb7z7WHc9nygdvVSSzj0LtRi8YcCnvBYwIj0+1bI7ceQVvW39IbyQJFy6b+T1PFmzkb2EIDY8XxXGvYV6AT1JIjI9Tic1vYJAtTwhPcg7y9RsvYdp5T2eV2w9kDjVvX4gIr0eWQ69hgaGPMRUKr2CMDw9nCSKPWeDYD2NZd+9mOaFvFKYSzzRTmg9omXlPZAT0DseABm9OAjwvNdy+zzvwug8gMmFPXaIs71v0sI9jfaoPWEAlz1yDx08TbybvZlTzDzUTNW9EzJKPUpCF72GE3m9QmGsvD8tv72KgWg9KPZWPQ81tTxPtZG9BCRvvVzcPT1EdDG8cEJnvRvoUDvV+cc9lR9+vYAhMj2NSuQ9jw5aPYjxeb0jKzG9UhZmPUoCQ72At0w7zkenvZy+YTwjCdY9gEq7PZrORDvzQ6u9h9kAPCscg7xCQb+9hD44vTK/+71PIAQ7IYPhvWFK7z0VPI+9C+DrPVYfRD1WFKe9I0ajvQeGXz2OQ6w9Zu88vTGKnD2aA4q9Jsg2PFU9AT2VXtG7wcwMvYs7ZD2FZzW8B8r/vT1uGryPA++9Glk2OiHqmLykdZG8ei8OPYJFWj2gWp+82aUjvYWpmT1P2TI8nY1xPAu3FbyjVTi8/fMdPQO/9D07F0u9Hsx6PNA1iL1v1E29Gt3avKbbnbwsR+w9SrJMPNLbrL2ceug5M5vdPRAk17vFEgU9IvY+vXrbRj2SvmS8KKDUPRyxzjvgkhm8at8EPUobA7y0Fuk8g8iPPYgpFb02v5C835sBPUCMhrseniy9AVbRvZuSgzyzK3Q9IvjGO5Mhub1sUKw9ZjkGPXay2T2iAB09Q53fvUdiir2QIWG9S5c/PKdGOr2J6a29ZK3PPYFQ1j2m+MW9CoXEPYB/Gjz3m1S8n8LTvMqKuLxd2co9gvm9vNduQzxG1yK9NlnuvN5Id7zF3S+9lL96vPhXU70EXjm9ezpJPCQj8LyChNw8UW0rPY1boL0MYm09MNKqvZrcgb0kek29Ur+oPU84tLkzUrW9lOtDvLVB1Lu8Wgs9RQtOPYsRYT2mG1Y9L71SvZ4Uc72gn+y860Pvu759q72PMe883sOiPTBL/L2UXui7eamPvYZAjL0b/yi9XWzMvOBNiD1dcdc9eejBu5gVaz1IQGc9CqZ6u41i+D2nIKo9kfSlvSI/BT1IXOY9ZP3QvX86PD0wFqq9dGo9vSPxdTzgXha81CHnPWkU1D1DcfE8sRt8PSaLVz2ARQk8eTLCPVchzz2DBJk8KgTnPSpyDD2XHjc9bAqhvAwVBT2ZDkA9bvY8PWZbMbwnZxe8MYwfvQ1nwT01Ovu7uacgPP2/JTwW1Ru9lNBAvZdbKrxFOls8/k5rvS8C0D2PIaK9mPnsu0GlRLyGhA285NBDvNJP/jz8G5a9eZbkPS8uar0FdFK9EQmFvUzfkbu0AJ+8oMhpvPbOKT2kVyg9PDXFvTSMd72UaIM60GWQPUgs1D2gAt28RqXxvRQGqTycwwM8yH2SO71jkr0BeXq9PM6PPYI0ojzbDLS9oEI3vSXKYrsBaDW8tPmxvE+GFj0nxxI9A1CbvT7sXT0Yu0e7UWsrPVQvRL2MmZe8mw2ovByi9zyRyPU89hSNvKz3bT2V1ra9pJQ0PQ6XlTzj3Ta9bqwovXupPb2QItA9PrLnvD8Bnbz3rty9c41tO/cR/jxMEBs9nwfYPUkrOjxzzwA8vws6PZDJQLzd6Ao9WvkjPWB/djzM/bq9HCBtPQjCob0vHwg9REBaPWNh7j2djWM8FsJzPLgabr2VK109ZDfVOwpLS71pYiu8MVPyPQZKub2B4uS8Mef6vIu2ID2hkai9iZM5vPXWO72TMc89nJyGO+XuOLxgszU9k7XGPLRkIb2h8vU9FS8XPJ9xlrw09PW8gK3suwk5cb2amNc9Zw3KPRmXoT2Dwys9kCBBPUGhCrzb0mA8AU94vW8ZfLyT//89dQBFPS1szT0CFa+9M1f2PaPRTD1fRrE9gV8pvUy9EL06ns89FHHwvZ4mrD1vGQe9OYsKO+bqW71Ra5s9VYXWPVGqs72SM5Y9D5wjPO5Eiz0laTC8w9cjPMXPjLyV6GI9S9hKPYRmZD0D5Ya8vUPePM0VOb0p0za8cz/pvT+Ga72C+YC9OGWevZDR0T0pW8k7jfYaPZlKzb1Q/rW9bzmTPY/LJrtgyYq8wn/ivTKGAr1GGlK7JOy3vWbdKLsIZSe9YtbCvYOPUTreXyA9BfHrvHWrY72SmBo9gQjRPBDH7b1rKsa9hZl/PWJFETx7eMK8/xT+PJ/C6DyIJ3K9gBS1PKN2dL085W49QbxFu2mulTi9XbE9HI1+PC9cfz0Hj8C9MFAmvPRiurqAwfg9pvDsvUYgbDzAzZY9E8m9PQGRIryFlKI9bx1/PM9eh7y6Jtg9dcJ8PVL7Yr1SJVK9jzHfPU/Tx72Kcsw9nffDPZ7myT0JXPA9ehZhvaVeZb2KMhy8oVsDPX3XOzwn7iQ8m4Q7vXBTiLu604Q8zP8jvSDFQr2YN566GbxxPZZvLL0zoUs8KjkUPSNn7r17+6I9iCk2vQGA2D0eS269kR8nO+QCcr0L2+09KTo6vYPeWT1OGse9WCP6vXgxWbytm0w9DS3ovXw4Kj2EPdU8zL2nPRYjejzP63o9SvdqPJ9FVDyv1q+8L8SZvYgIBD2X47G9MSykPSc6tzzItkG9lP4mPXggIb0CCsA9nD5ivPayZj0ky5M74HqVvUGo7j0yXrI9fBY6PUxymzw8DmW9PQDIPIWVFT059S86rzQePTjNbT1huWW9XXb+PTyB/ry9Mo89izb4PacoTTzxSB09lCbcOQti3b0WM/i72+eQPZGCYL1SxFe9FeuuPWY95r1pU6i84esCO9UW4D1iyJO9pSISPLc+771QMUe9hK3KvMfJOjyXsZS9mbA+uvND1D0BorO9ekPbPWi/zz2gOXE9kiJdOmDAO7tIrFW9BeKHvXUIdDxO3iK8yssFPWOLtTzAwXw8UejevLIvAzzNMIM8C5T0vY9eRb0Wkn29iFovPHi/zL2IGLU8ewvMPYCfFTxLAqq9Gu1VPC+MVz2krAC8lFS6vYSocjsV1Q08nJnxPYV23r1FV6u9DHvePZf6fr1LhUg6osVqvHhKDry5T1o9GyLbvA5kSTzkme29eqO5O2gqGLztNCm9O8alvaHc1r2c13q9QNwnPaMLPz1asTS9k40lPUF+Jby1REI8B3bwvKhYCrzGMi49XVusvVKxrb0UQaG8i4NRvKzTIr1CorK7McoivaCQKjwPpxc9g0l1PM7L6DvyTEW9Z1DOvaB8dT1Xz+O8MXNsPM1AzTyAQ56871+0vJfP6T0mlzO9FhgzvITaJbyCo3C9H2ppPVxVLjz4AbK9Fhb2vI9UGD2FlOQ9hDG8vVaJHT13t5Q9OW6nvZ13n7wN/Kw9m2zkvPlbKLtIIV49MmQtPY1EFLyPzpG8g1iZPRnx9z2KPUy7FUlEvQpMBb2ir9g9i0zfPDT5cr1VazU8PyWKPZ4SJrzawHu9EioFPRJewb0y9Om9gJlUOykvEL1ObkO9YmzFPD8YerzgJiO7OfwKPZ0MZr0JDrK5y55zPUIUkLzu2RU9iniAvTR/TD0MnWW6JqJbvQGdzz1ax3676/+GPNfy571Vi0a9WMxwvRtBurtJq7w9NjravW3Nir0GTMa9QpdrvEPmp7q3zL29YgeqvRP3Xz0w3Wc6qcOAvYDp7Ts80ei9o3FTvYeozj02U068XIQWPBklgz0gLFy9H/y6PYd1L7yLcDY9PohGPXc9ND0D8Oc9fKgbPRyLWT0HAG89AmtyPRtDYrxQAke6yNkUvYSYpDytRg69oQuAPYy/uDxjgR07SIo0PZi9/T2TGe49QpwfvIgt4Dwu//w9he5vvaa4R71HPMI9iJlLvZ78Pr0R/U49DiAnPYbjsz1g7e89bHEPvStwYLzt1e06wRxCvWS1nT0CFpw9Bh9rPS72vb2UdGS9h+9zvPby2L1fGBw8JcL2vVxOtb0IpBo9SOn4PBgGRT0RtT29istCPSIfkD0tIRQ7uHCcvYaEarzZhhy8rauCPVAg2zy+PSo8hrDRPXdXKzzNsiK8nAbvPaXvh70EXqw8dn/XPIncoz1WXXE8sMOxPYSCYT0+H0g9loqLPKvlb714hcu9jNT7vZvEkT0MD8E9icDjPOn3uT0rxIw9oSv6u7O4R72LYvG8w2dMPLmqrb1mvwU9JKyEPIdAyb2HPAy8BEHpPYV1WbzyIRg9n/JnvSSvlL0RlHI8JYl7PW45+72jt807wW4nPYu1uzx9tQC9Kyf/vZfKqL0XNum87El1PXPtLD0ltwC8m/XpvO3YHbyrlLO9On5yvWsekj2kYPO9l9L5vY58ZDzEf0G8dkQSPLbgrDwiIZa9c6WTPGNZ4byWenS9nJB2vZnzYr0aY8k6ZOuOPSVRYT103nK9gps3vXrXND1/zP29iw1KvYxFFr0pKq89obgIPYKKLj0N6dC9j6tkvK5OEj2hfO88ras+vV7caj2nIBw8zeYVvW5SDLyUuz28Bdv0PRTIdD0A0ao8g49yPaO/mz1ACja9IDaOPXjeIb0A9yc8AcFUPYbfwT2F8P27mV09vRnmpb2UCt49I6EyPYDIUj2QOr49GADKPW0PPj0HC8i9mej0vVbU/7vbYQE9LCCjvZhAHjzsIfA9SEJfvY8DvTzI38s9FAQ2PL7eV7x+/Ba9QQxevMQRpDwrjH89b/qaPNRSXbxzPIa80KnDPXeyDj0XI/O9I7PVPSf6nD1QBLw7k6RIPYciyD2kHou86cTvPZwHGjuTHsm9PsH1vOr3tz2Wutm9iJ2/vZ+aL70LzmI9FZB8vaIorjy2MtG8vlftPPzLLTzo3Q09pAIdvXHZRL0xMB29ndOPPZRDcj1hWXK9Txw4vQTEYL2hAJq9o4ycOWkEl71BUNc9ltUdvaKNa7kqVNc9MUr8PY/5qzoiU8K9jvB8PUAQ8L2ml2S9cMWWvT1uv7qAVjE9pcdlvRhD1TzJU0+9Mqz4PFIaYz1tA1o8PL73PQmJeL05epu9Lbc8O46Xm713MxI9WmpXPYK9dD2ZqQW9jDf2vMc7r700pyW9iGvaO/rbAzzvkGi9km1uPQxGsj0wKcO9PuwhPMavb7yLuq09Qm+GPUyuaj2j/c29a+RyPVO1Bj2Uz9m85LXkPU7FOz2NxpU9GCYIOx/9672lpbE8Lkv9PSSQub1AkmQ9TWVivYZdz701Xaw9CR7dPYyG5D1+aqM8jixGvZ3UAz2C1i477YnPPKqIhr0hXly9oD9CvTxmyL0o7kG9bilGPOhcML2IOry8jjgdPHB0s72Dwgy6tktbvK5Z1DyO9yI9TDsGPYwtRD0tEJY9kDO3vX1y370hMai8q8n1PSh/D7zHe+e8s6kxvTPcUb2Oatc9lvRWPZb5lz2bvaC7znP9PTLn0zzmZC88vBHJPEXSjb2Ylae9USeAPU3ISj1HKAW9pnBnvTaUvz2IkFg9FvjzvRWlv71j5pI8cNJlPFnHfj2BXY86RGnSPNVBzb0Qi9e7FZQ5vIshMrxPvXI749GzPD8L8b1Fpqc9d4sHPHTv1rvQrlA9U8YuvMnR4r0fzM+9O3KPvTNvBz2eTfE7IR7MvaY26D2BLjg71p9IvTY11zwgPyi9kWxAvTIYH7zYwzw9fDp7PWyhzb2dSbS9pFq7vVg48z0nTXw9JQ7tPBqyDL2NaC86lEmKPX0WPjzukEY8o+CTvTsfsb1/c1u8xxi4PW9MnDybEXm9EVOhvI9GlDtYT549h3JFPRy7T7zq0Om8c/2gvSWg1bugFiu9OJyHPWOp+jyVHoY8BbKPvZW23z2AQNy7pbFovVYp9r1s3YW8Gxlfuz1LPbstR5w9VeDjPRiQX7yAEA69ZqIrvKnGKD0/4am8Q/C8PWWsoD2QIrA9iJ9/PR32hLzLNhq9ivNdu94g6D1G7HI87aGXPY5RCDzwv408C7h5u43nkT2SIgg9Jo+jvSwvEjx/pJ29llFBvaXbib17mla9b+9WPOSsJ72B+M88idPcvJ2IPbyix3o8W+nPPTpcNL2ZqtQ741LmPRGZ5rwebmg9AjQevZ0ktT0jP/69ltCAPA+Ig70V/Dw9Dp9NvQzKZb034Se9kEMAvYM5DDvkc4g9H8qtPRbTYb2j34Y9pnNcPaGzZT0rcVO9pCzMO48V1j1fYte7zI9mPKd3/jyFI8Y9M8MBvZlsVr1Ob7a9ls9dvQFGo72XzdE8t4e6PaTWzruMJZm85PVqvXR9uTuWj3W9pQEbPWy4ez1MZjK84wFpPIfj1z1ZR/c9DuBDvXOUsb1mc8o9i6I2PTv8Tbws9be9I2Y3PaVJEDxQ5Ck9nSwCPSuk67xqwQ08nXFLPSRy3z2KpE09nVb9PS07ZD2cVxa5IcIYvYkuWz2ksSy9I+e4uggOcL2PdzA7tULPPSOvlryYrPq9Wd4EvXRHDDzl3kI8YCNXPY7jwToIvs29kJ7pvXnW/D2gciM9nuVrPBcCv71ZA+a9fYkXvV7dZbv/iQ49RwHHPT0iPbw4uSi6NbTLvZ3JnDy0LtC9ngAzu3miibyGPcW9DYgCvZB+q7srL9O8GDJxPXcQ/ryMqu49IkbpPRAfPbyzXwQ8gA3PO/IaDry4fxu71gWzPJaTIr2PscW8/8EmPILdcz1BZBe9Ceb9PS0cNjytHY+8jbypvDmvszyAgXc8Zd4Du9CjNTwy4/08lXFBvLuFeLz9EN287WPTPN/iHz2Bz0i9lLAjuzwtd71NS7e9Ml0dPUM2Ij2S15E9jUgLvRQjkL0UTLe9oeTtvIyVYD1qhsC9lp1mPToIZr1fBNU9kw8OvZBjtDvlXtg9Fr6nvAwGxj0GY6s9mCK6OqD9zz1gt5O9Pa4yPPC9nT2fe869XG4qPYx3yL1n5V48yENQvYxKvrynyOO9Z4GivPFg772Nfog7Y8LXPUVeAb2NG589J2QcvMMerL2FCHm7gZVcvXPIez0w68u9fk6ivU8OTL2Dw/U9iVuaPHv9hbykvOi9o8V6PYhOFj1KuHQ9cpNTPY6H/r1DGMO80ZPKvZCa270vyWg9niycvJAgTD2Czjo8+cRsvUi2UTxFGby8fd4HvIhbmT2P1Re6n6vIu6c1KbxZ2XS8bChEPW71Ej2WoAC86VzaOvyTBT2VD+K9h8PqvYypPzzKMPw9KfBHvNs/Kb1FjUi9VNTfvUIaZ72KJUG9UbVoPZ25Ab0kvMG9AH5/POxYCLzLUIk9NHXuvU6xV70Vz1E9V6cdvNDiZzxe0U89A1PvPToHVDz7ZVM8UgeRu3F+rTz6qJI6+y5gPMi6DT2UtEi8+Bd6vNpYvz2UIxy9fdmxPOhK9TykH/U8s6BBvZPHGrxy+Sk9ljE+vR6i+D1c8LG8BODivGb/gLx0rak9SGZnPQdSfj10RKm9JhJZvaTkZDzRKdQ9QeQbvVSmkzwvV7g9bbOVvR7Qn7ubzoM9kWxyvIiebr071No9i3K+vQQqB72BEuM9DVB0PEdLu72fmFw9HzPRPTw76r2W7Ys9ovMMPKhIgb2AuQG9VSb1PWDQL71tiB49aW/JvWdo9rz1V368tIJxu5+y97xN3rw8x79YPQuZyz2Wir+8fSkivW34rjyt+my8hH9FvQIBz705j5Q8Lfz0vYaVqD19km46upF2u7XLFTyfDQM8uc9BvJtk9ryw82o9KYPTvZjapD1Ji269mK+mvQ2M8LwkYQM9Pu9wPWaBdzzBYLi9mkmGPR7Wxz2eOno9PX6gvJjulT2Ef8W8JpIGPWWUUD0DlcC89RAhPTh1p7uhg/a9cH4nPYHLrz08TaA9gIcLPELMzD2AAW69LZHWPZoRy72WWS08XfNZvQLnt71G72g87+qsPRchf71GIfc9KQeRvZCScr2cAtw8Cz//PWWZQb2nB1G8Yx8ivLrEFb0S21K6Vm9aPLG4mT2PLJC9OPHAvOkPJL1TP1G9jUOhvUoNNDtAChQ9dlYOvFrLgT0ItVW8aKV4vSLH4j1Z6T69dF4IvMo9Zj2b8787liZLPXfcR72lxTI9lRVyPS62Ir0ekE29RKB8PQ1TUr2GWaY9C3iFPSld+D0ca+S9R94RPS5P9b0Px9c82cXMPX+6SrzqX9g9BBBXvQM9Ir09TTA80avWvNkUoz1m+kI9NonmvACXtzrxxrA86DnqvNsbRzyPf7e7nQcmPR/JVrzO0AI9KM12vHp1Rr1exG68jLFXPXMYeb0Hx8W9kyCrPZZ8ZD1p+769PtorPZP2sj2IR369kILOPLFturySO509j19xvYg+Zj2ASl+9SQ6sPZGtCjvfobk7EmRhvVLx+TzWhrW9D88UvNSKQT2gvZS866NSvG8oGrw4JKO9kfnLvaPffrwOzGQ9BSZBvMmj0L0iQ5285oN/PILc2z0K3zs9DZfWO7h7ZL12lZm9ExwsPaOSy72L8JM9mqsxPSRDqLx/teI9fI59PLuhib2NHCu9I++7PYs+/T2YFYw9lHiCPRw6/70mTKc9Uy8cunrjlb2RVSa8YKG8PXVwAjyLl++9eyj8PNjF6DwXdd+9hFMrvTakZzyHZzM8nVVfPUWKRT2ObnS9PHvbPW1oaLxnStM9WsT+PVrA0by4Dm05tEmdPToqrL2PZg29T34lvaKgDr0OY+u9hZUUO5z60jq1Djo9jMnCvOdV+LreKOg9jkC1vDtspj09g0A9bAwPvaYoMj0/cXw9ZF8WvYx3TzzoTvs8iv3SO+3WEjtButI9ZLMtvZ47iT1p3jU9hQzsvMFnmb1qKW09cPVCPZw/fr2AqsK9j87Iu/Lz5TuADGE9ki9mvIJ+zLzzU2e9GRQ/vVmv8ryH3DS9hnjQvR8rMb0LF4g9nqJJu4IqSr05xHA8A7d5vZ9mHb0XNpM8S3+1vZxzJr0Lb3+9lj9Uu7WaQb0k6PK9nP0sPYlVvzz410q9oOlTvT3+MT02nEe9lB/HPVhfNjzTN7y9ml56vaDlpzv9nuq9fIvGvPawYT1HVO29lQbKvYgXRDx8y1w7BgrnPHc+AD2g6Z680p9/PIYGuD1QCxi9kCcOu58DVrtpoGC9WuygPWFbXT1vbqA9grpPu3PZQLylMrW9SZBPPWUBpz1pxy48RyeFPRT/pD0+CZU8TJgtPJwjWT2m60K9guuUPI751L2jZ8q8XI4CvOIdOT1pX3o9ds8SvSXWB70B5ZI9fcrnvVvGlj15U2s848hVPIbTVbu23Zc9bpPrO4n0070Lzri9lR29u83BbLz8lXO75dX4PRvSoLzTjVi8l2GVPSStxbzTOx+9k/3xvYa0mz0hmCu8oYs1vZevGz2JgAs9fPUSvR7IdbyM8Vo8pkiKPGa2/71Hc1q9YfnTPWsqgLonB5q9Is2hPWFkl72h7ZI7jT2nPYklZT2TmHW7wtjXPIYRf71J1969kjWgPaT/zj07W8+9X5T3PYnM2L2MIo49HYiwPM/uvr2Fcwu9eyPkPKleXLyYEa47Fgh+PKhorT2TUUu9isMqPJxcyj2fvK29BJfMu7PG5b1bqGC8vJDFvPhHlj2LMIW81UGUPODPijyTD/K835zdu/hmoj0uBMi9Fx8UvU9OK72VskU9k+iovaIv3L1cwAI8tJrLvF2ATT2F4D89R9mTPIM89TsHP4q88md6vTfEdjzmS8C9SX5JvJpUFryRb8c9pKTVPVzNU71jwqC82NPEvOQwjj0/FkC7aAYBPQafYj0/rL49cbw4u5NWoj0TRpc9mHRVPWeNQr2g9iK8kM1VO5nzuD0VtUU9IZDfvZFeM71JeYo9KNuwvZJ37DqvsDq88EVyvTliD7zVWdM9K33sPTBXej0siwI9gXS7vQ92Qb1PApS8KawROx3CXz1MvQ29VTEVPaDP6r1prky8tk9gvSgvc7oyGSw8ZD+FvVvNEbxAYLW8qxvmPTcourwzHyW8xeF+PKA5fD01gG+9JDd2vWPWob2KVGs9EUoGvOFAv70QIFw8og+PPRiCtL0fJ0a88jJYPNnm8j1sPPo8yr6WvXpM87xaP/e9A9tPvGywdT0Vm4c9MGenvYIArD0p+NI9TMpEvYnj5j0Cwdy86i2CPaJW3L2ZA1o8bJhfvTKcXTyY/JG9kvLxPWafYbwVUMc9oe4GPRgk8T1/UK28ZwcOvaVjK70PgH28oSHHPWvydr0hPW09RvakPSe7Fj1+Giw8vBhRvZJKYrwX4x+83zTivWZTUL0W/rK9DZFtPZ/lbz0ff3w85IGtvSnSyjyNNLG9eSoQvMjqXr1FUwa8v780PQ6K2z1RzYy9dT7lPZeSXr1uNoW9HgWCu5TmzL1ofp+9cULlPSzTLzuwtB48tpWOvZLXnD2Y8tq9huuPO3uvOL2TCvU83+ElPX3Ecz0Wfbi9gzVXPY0FwT2hZUo9Z5RxO7KxSb2dwDS6ajJevTCLerzI5yS84lP4PPJHt72ZHGq9h+snvRRMR7vvVX89LF7yvYMYCDo7CqG88TnovVNfBzrSm488+Q3/POcior2UlCI9Wu2dPaBzRL1h2DU9H1o0PUv6ubz+5mQ9M2m7OzXwjz1XHWY9pCG/vZQNwjwCWMq9oZ1uvKm2Ij1kKSY83FLPPMiJVD2Vca+6L1mtPZILuzxsJbw9G1Z4PYQ0gryKRuI8oN0RPGh3LL14Dyu9hXVaPHfCer1aDXQ7EMcRvZifB72SKQY9ZEasvLPSFLzZ2kW9Oj5CvU4TZrzGAX89V/sSPDG6Vr2NHie9gpBgu79QaL2G03Y7XyrsvWAemD00Vyu85/I6vOHZkz1BmqS9KooDPab87r1ijF68t7+JPTUdSL16Jcq8+NkRPEAI+jtIaTg8Dof4PWNc8TwXiXg9hFJhvTX8ojpcJd29kka0vTfNUL0lfGM9baO3vWiUtT1WdEY8xyVQvLijLD1tABS6guSyPZzezb2aEs49UIJqPTrQbD1tg+49MBvXPaUkwbpvFJY9JDnSvXhdKjubp9C9dIj4PYvQMb2BXYM9Vam7PUotjL0rw1O9UoLuvXRRyby2RtI8HzLGvWuuKTy+xRc8nzDBPPlGnz1c8oe9FOUtPaCj+bzyriC8pDFZvDEd0L0COss7kgVWPZtrsLzwlB083ZbWvRJUrr0YS+u9okdRvN3FMrzUZ8e825UzvXcqMzz3HB68RRqYPSeWQb0kD+Q9l2lrPMtQhD08SS+8FGQou454QDzbeAi9Hj3zvFBXpDwKNDC65Hk/vTNG4LzSQWC9cKxLvZCBBz1D5r69Z+TEPaLl9rs6GCE8YVarvJgk/jrQ0lI8tV0PvK8aEru9vxk9eCukvUPclryniS69dpD3vSf9Zr1obTm9Bvq4PW6xk71nIQW89NSGPTbN572QdRM8KL8pvKL0I71qZL89Y+REvWF3Kz0TqiQ9RSo9Olxpyz2PsUw9WhhoPQHcM71vMfM8l3ZnPPyVYz0+b+k8MV/9vNWZ4T11aCi8d5JtvBM7+b2aQ3+8+VfJvVvAGb0lLJM8N3FVPSaJ+T1t+oo9MDA5u0FscL1PWsi9ScvFu0DD6b2Xney8hm3YvRqt8bvl6wm9FuvtO5uKqT1p7kC9grp5PAAtkj12jCa8G2XCvTzJXb1ZXcS7qh7JvTzJdz2Uun49RXDGvY5wlryeLBw6JlKqvWajYTyiF/i8tN2/PPRWtD0iIZM7io9POqTV2r0bx3a70X9BPKSYJb2UrqO8iEmjvVFhXD2kP9W9Ked9PScUoj0aEw49IkKFvAr3AT1nXtw9A/pBPIA4Wb2hjuU88DLFvJlRzzuzhG69Vt0fvWhVaTxhVQk6oSJjvHJ2hTyN8Tk8G05IPYqwxr0u+7M9iBQ+vIN7Hb1umyK8Nb3bPKmC1j1iJK88fyq2vZs5AD1wSEM8rsQtvT5zAz0DZ9i9cEkku6Xue71NFni9cmACPXS4zr1629a8HRXjvUvXNb2hb+69eleJPY36azz4cBa9iDy1vTIigjv2Mcg9TSjePV86hz1VTXW9lGISvV9pBD2JtGa9JqXevSHUFD05NUE8yGyBPT/EOrxn2WK9n10NvK5Umj2kQVO8sKdXvUIDKr1//tu71NrcvYaTizyJbKg8W8jSPWPhBTwPztC9nInUPHzh+j0RUr29KvIEvZ157D2MyeA8csw2PItfBj2hwEG83UDcPOuPGL2OzLA9k485vIja+T0XBZM9eWQ/PZTzaj0kNaK9OWzJPQy6Wrwxcf69O00CPJEYOr0RSEq9Bdh/vVOaL7z31u69GsjGvVeP3b2F9py9VbngPZwyLr2F9tw9HSwOPW8MabwosWe8C1hfO3rOhLyezXM87yU0O0LQbj2afls8ltMqvGMHkz0IJrM9dkNeu355+rwxVnC8FXLUPMmToL1f0/W8v0dNvAtlZT2OyTs9fne8u+EaC72IfHG9VmEOvBJFOzyib6+88LoAvWbouz11+s28fR2pvUZGhr0okAA8+rY/vZv+cT0vHqU8/bI+PS5D2D2hkH49I6YyvMFM9j2khwe9lv3rvWzGpr2nIp09UI8NPEjhxj2nFLE8g055PWbktr1W2qw9l24ePV4ESr2jpDu9TbSnPKalS72RLKG9lJ/GvQb5zbwomuk9nrKju6NMOL2ILLY7h1Y9vLXkRTw0UXS7ry+2vSx49r0gfuM9gC/1PQzY0byP96M8GnjaO4AI8z0fG+o8Zk4zvYF21D1D39W9fyRPvMia0r1tpGM9NPahPaQmnz2cX7A9jP71vZ58pL2FJfW8AjTnugkY8j0M4m69MXDuPVnflLthahA9JO4vvZED1jz7yvA8V1P5vZPTwz2XZ2m9OrJLPSRHUD2lHe28Qyl4PTgwuzzdE1I8LpGYvZ/wk7yFzJW9MqOru7hP8z1ZzEq9P4LlvWPECb0nKEi8CUk9vZM+uLyr/NM8KtfYOwSFb72Y44M86oFsPaPJ9zzhc9y9NrcavN1mCLyHKqi6jeflvSXpPD2LoUY8ki5ovDO3dj2SdjQ9jHxVO7kD/Tx2a+u9nEayvaITtj0nS0W8ohZ7vPCTCL0hbwc9IcpIvIAGDT2Qjji7k+ICPXlW3r0+Pnu9J+3FvPucWz2PHua9MdS1us8N+z2ltKY9FAJSvYmfiLrFM6m8w43mPQkvjbqkNIO9drOTvYsW2LvnfOq9iIprvXmh2D2AwGw9OKmyPQvnuj2MXnq8dryWvYqceL2HE209E97LvEvejL0aFBi9DCOmPPRl5LwT0F89lS06PYWRQbz0dz49iuTwvT+9cL2kA0Q9nOCCvQYwAb16adU9b3cTPSKwtzwWJhc9mTTuvB8xbr2VDQy9OIN0PZEv+j1iUGK9g1UKu794KzyMA3c8yHT6PXHCnjxpINe9HQjqvaEP3zy/GoQ9eO7tPBuuob2jXVs8qzhrPYAzYTxmYn29hbWnvYAe+j2Jllg8KWV7PSR2/D2ST5g8XaZ5PYDlILzF6hY9BHaqvJqiiD2CqZS9HQ07PA9ZMj0cMbg9kCxhvaYq0z2PtEA9o2savNtqf70OJMG8edM+vTeV2jysG889TMIDPaV/7z1WHn09hIfIvEEjfL2i5nw8NdMBut2ag72bvWy9nU3PPSrL77uI4S28oSTMvZA0jz17eiW9Oj86PT9bRD1nC3y7DbCzPRiJnT1vLbQ9mD2qO20p370zE8m9M2/ovZVZoTw7bWy9NbHqvU5i0LxrUA88MmmtvHu4fLy+ulu9JvLQPV1iNLxPyx89W2XVPQSpLTzGSew9awZPPWB1WzyhA2c9epTYOflVIr2cZnC9cK6UurZzhrwC+LM9f/pqvZuEYL0shBy9VC2aPS1ngb2KEh48Mlp+PZSj67zEB/G6fvdkPZw+xTvZuwq9pCKHPZWTaT0VCyI9nRlIPXMmnDvGqCU9hgNaPCiILD2gZKW9abHaPU6haD2YiYS8MIgcvYykSr1P1oM9H6h3PZ7FijyMjc28i+oyvaOg+L2k5Jg9n4VoPRWK972LipS8yeW1vAkwQT0PHfg9n2JZvU0JlDrMXiq9Rn4WvSBdtD0UkZE88NpgPWYY3zzI+vE9PzNUPYFF2T0JDMS9khgZvOcd/zwIaoo9pJShPSOBdD2CTEU9WV/9vQ9q8rzGAAw8svb0vBB8MrwwQoA8E7dEvaL2M7010Sq9RPqwPRA4d7z0xc+82TEivPGBL7wCr+i9idA/vabEdj1QnwM7jJC4vS0w3j1O0mO9jp55vS049L1K8ny9jA2OPaP0Aj00my+8sespvZFv2TxL9+a9TAl8PQ82Iz1a6oW8vAqKvaDm67yDQ5K8+012PL+eqz2l8Ts9B1hXvZ68Xb2RqDm9V+oTPCpo4ryW8gc8dn8QvVSnbDy4Nf09gbM+vYTSeL1UXAe9lWT2O6ydsj1geRA9A5x4PaFRszyFX/g8k/X+POSE9j0DTDc9NoVOOwMilr2fqeI88pf1vWXDf7w91Ek9Fw44PSTE4bwaa7+9cagfPaGaDLyGdmW7stLsPEkxtb04tQ69nqMhvaK/ob1sWmw9ElrBvUiSnT2Wqm09lXK4PZlj6rxW1TY8AYmkPZgIcztsxhi8bSMjvWQmmD0K3gc89yuMvS4sZD0so5A9i2XovUzilzyoF2+9JYzUvPRcPLv7aOu9fmT8PXlb2b2JLKC86QF9vXPmzTvVlzq9hXmBvXhb6z2Orcm9GBkXvR7LUbvlwc48n3GLPMy4STxXGFQ9O7T1PKSter2G3mW9g3e8vMXWlzwqSwq8wszMO78ihT0Lhpi9ahtCPW/0Wzyj0SU9LBOOPRjz4bxcMhw9hwcRvVxJwrw41o29FuyuPW7g5z2V4sU2PrvOvVdMUb2ZRXk9l/CAPKy/S7zHssa89munPQGt5bw0Syo9j7PsPQxkMT0ytBK9nWftvYRQaL04ts29ewMnPYUkvrw2UKm8YBLOPYE/3TxN+aO9Usycupr0rD1E6lm9nGTBvWz/Ur2CZwg9K2gxvaLf1T0QNNW9LrzXPUXud72IXnY9pe8YvMOOLz1y6tC9dZQmvXoUQbtPDfs9gL36PZtC3D2X+9u9o10YPKjevbxWQRk61ccovZnv+72ZA7E9l9N4vDxV17z7EYM9nCxoPMgkgj1oHbI9ekiVvaMIDD2kwdW8rrrPvEsPsL0kYWE8xhbfPYZLub1D2oc8XFSGvXsu3T01Qr08LXzNvaZFAjqaqjU9o2N0PQ8FtT0t03E9hPY4Ouwxfj1q/gO9l+cSvUPQq72KnJI9FHUaO/0jDb2Pglm9oTwiO9NDgz2E4UQ9OkeZPZoVtj1qjDE9DHxXPXhLLrzi0hi9l+0kPOxDLD1nzjC9imhBPS73Fj1GNus9gUbuOxMFEb1mini9GD6PPMUtrr2ChVQ9GgkNPOuS1Dwxh6G9MSHLvX0CkLyN+8G8qJ6BPD628jwc1Za9m01LvT+MaTvsiRo9kxTdPTh83r2gGv28tQDWPZRHhjxz2oS9BVVBO+oOCD2R4s69iy3ePRyBNL1bJYM9Q+7BvR2OKz2LnFA9AYVwPZqey72nFwy9nbr1PRhM4L1wene9RvMhvVxHdj2UkQ89hK7VPCi2tr1jItG9B1CbvS1A57z1YPy8kYeuPS9+CD13aei9jpRtvNM2tr07Q829ZCHSPZupVr2Mpp68nI15PJBQRD1IkR27oHMWPO2AtTzO4d47M9CcPKCH870ItXc8Hgk0vSbCMDt62h29a1X4u9m+Yz06/H49kGDQvZOBfL2iAbu9n1vsPVHqYb13//29iFrCPRR8orycZ2K9numKvRm4m72ItZo9V+AIPUplPr072ca7vqDcOLGg/LwGhjw9mcXZPY8U0Lv9qDi9Er51vVmqIb0cVuO9OQqSPTYfp71xyam9lSQ3vXWrAj2XeWc88xWjvYAoFD0SobU777dlvQjFw7xEty+8qrR4vS3cKz2jNGo8VX/qvZI1uDyf2027AvHsPHCbHr2cAPs9KNWGPI9t5T0khkm8gi+zPQ3OyT2ksRU83wOMPU19L7wB9FE8kPttORMaITx4+e68kl6AvISbYb2RT4i9fPLwPYrkij2N9FI9XJ5JPMrwVT15YiM9ebWnvSFGeD2iGDa9OfLbu66mDDwHGm49Vb59PSfqbLzECAa9hbw4vZGNjb0TCwQ9j+PnPPtXUrwUhF49ie8DPYYwGT2PVl0819zMPNjUQr2bvX48/X42vJS/QruRI0A9lM+KvWvEor2Pija9fGzsPLPfHz1SfAC9XVCmNx66Gb1Y0Xu9lwEuvR29K72fH8c7wu1/vOdTRjxOP9s83zOOvaMAjbx/WiY9EezlPV0iNr2GV9k8N7+OvYV6lT0kaCi9lthwPSvJOz0Ih+w88S0bPP2KWzyHDeC9j9wDvZxRojzauWa8ofpVvN9W8z1McCY9cxr5vYz/mryu2qy9oL/vPKBbeL1Wv8q9N9D1PNlYtr1J5sQ9iU6ZvEJD9L2j7/k9BErKvL2H4j0H32s9VeG2PR7PvD1/0l69AZQgvPSjnr2YMfU7pYLzvBPalD0ll729MHGAvSiK9b0C0XU8vmstPaPCLLx/XmW8pu0rvYK6Zb2mdQK9j0+xPY9dh7zY8YI9hjcKPZ9Yrr1zB0e71xL7PZ6jPD0ugBI9VtZVvXkVQz2M3aQ9jgBlvXfwoT2KK429GMbVvRTiOr0DApe82xHEvZRqw70Xf3q9n6okvZqtkbyopQM9ge2JPOIdaL2R99s9FAAuPQfpq71fluy9OZqqvYNNcb094ke9XFJXvZnAUT0803g8wCQ6vS49ajwzTUc9OfnrvSlhMj2N5wm7YH+6PTdFyTyJvsa9AMnMPZGSEr18FAs9iyVCPAsIo72Hd5W9KvtNvaI9qL1q3JO9Rc2zvTUA2T1vi/27lEuAPJZYCr2BXNq9IbUgvJjhJz1/kJ69RGfVPYw0M71PL0O6DfC2O2pu87yDPfq8ASpwvT48Xr1LGXe9jlUyPUuLErzDRcM9hbZ6PNN38z2D1oM8qHLxvSU7Abvf9nm9OvvCvEBuOT16jrW63MzBPWjGRT1Pwg89F4X6vO7IFb0uh949gd5KvT7Avj1PU0U9OFDSvXTimb2UAq49cs88PTBJq71n+Zu9Q18vPR7laT0Y0Zw9o9u1vQeH2r2YNs49drpCvPDkQT0mrAM9jkuNu/pG+zzh1ZO9JL2qPQeUoby2ZDI9gFGrPZUMqDw51/48t7dUPX5OxD2AO0y7JQO9PTxP1rzxHn69OQ81PVWtpLuVjhm5jUEAvAKCg7xm/hO8E4SkPTiJwj0yaty7rzv1un1xb70T3g+9o/aivWQOQby84la9je1/PJ2T0LvAuLq8ui5wvRp3Tz2aCBW8VHSDvT9hL7umksM9igy7vZwYnz1RG2u8nVKIPU/2Q71R+is9BxsvvYuEzTv9Yr09gfYmPFZeab1uhPQ9KXU+vaZOrTz2EoM9WJA5vZ8ik7zX/Yq8eyryPYv9sry0BVY9Vk4FuxlGDTwgAaK8up6WPXZLhjzhpIu9l4HlPAfCjLxxfBA9JIf1PTeo4D0NMBq9e/iavPaFwr1kmYo9WR/GPWEHCj1CIfo7gGEiPUY6Wb2JFHE9lwTgPKXcn71Sc5Q9oOkqu8e5wbwExsu89RxgPN2q9z2XAcA7jbs7vYPJwjy04aU9DxqSPVFjbL0SaEI9IWeOvEyOnz0mFh88rxUdvRfZKb2jbw89oEyuPFZDLryYwQE89kctPUCSKL1coh+9RavEPVMF3jxnvnG9S2/RPQsPaDzkbB88+4NPvNDGybwQorE9luMmPLPkGr1nSYI43Z4bvKeiab2eESa9aQgUvP1WCjz6/lO9h9mZPQRxgz1bLdI9lIMcvRk+UT1RVFO8WeIxPSFIY70zdQ+9UCgFvQe1Sjxc5Bs9hacnPXHpqjwKZ+m9QBq5PSF3jz2PQGk9gY9WPSWDxjzG67u73ww5O9PhbDz1cUs9kwekvDUxYD1iwgO8Js1OPXecTLwvwm+9afQuvQTKTD0mEVY8+BpaPBHgRTqk9ta9FDmCPT2IAT0S0r89ic0RPCUAT71ZmyW8XmLhvFYoUb10/q08mQRovWC9oz2MthI9hc2+PQM54Dsx1EI9WEK6PYEiPT0Uf609KRddvII4ej0DkDC8uWcNOwOlt7wpe1M8efAGPMUnb7xexKi83aQQusSxrD0iea+9Fgq6Oob/CT1dB1Y9OmRuvEY/mL0YDtC9AjjLPXnSMzud/4e9HO9+vaUgED2Qxj88Q/6JPZjVvbwxdyO9h4i1vSppxTvNU+68zDL5OyKbnDuMgbK9li4BPZkWob1CHO86QzoWvXAYcr2bgHU866H+PRQYD7klTLy9eT4WvUVCFz2eEYG8E/T+PZFxAz2ZaL68DYUjPZjwmDy15Jk9Mvw9u3HXLz2fA5m7xYwrvZ1uyLwof669nvpgvJgkQrz0cYy8EAxLvUfotryKJYi9OulwvKGpWzwCiBA8FPG9vQZo4r2CM689FC9aPW0dsj07N3m9MT/xvYJE4zy/f9O9m9jEu9d1Cj2Nq0G9J+tfPYm2yr1kNKk9hYirPQsB0DsxiH09gvhSPUA42D0i2PM9kHmivYLiZzxnGKa9TNJPvWGHpryG87A9kloLPLOiAr2Cy989lhhLu5MYqTxNciQ82vvSPYefGL05VUi9fLPdvZP0Qz2ZI0m9bqxnPC7Qtj06iAK9klXIvY4Xlr1xt6A9ei6ZvVg4CL2GOqU9IeP4vX/S07xX+xI8yva5vSkoDTwCNxs9mPsJvNHtlbzVHik9A2PQvKJ66b0Hzm29Z0dVPF429Lx2iFU9D4fJvPAh2bzWZnQ9L8/9vVxPg72cTs29a6T/vV/0hj1UXo+9oFabPUJfp71zPZM9oyfqPPZIkDwweTW9jWnqPToWuLvoQ5I9IcAQvSj/FTz9+/Q8DAApvJhCyz2NOO48+xNJPSsNBT1xJfu9iZhgO24qlD0bSUU9UXBFvSJkTTsxuAK89NirvRIIE72DMoO8Kl7CvF62KT1PJsU9ZsXHupNxAb2c2yA9nxX4vZjOYT2V7XA86FC3PSgz2z2BdlG8Wf+gvQfSrz1vA3g9C3JLPHflob2XS+y9fxMnu9cgIL1hZEY8sl14uhm9wD1MEA49gaP0vSbmXLzQFFK9cduIPK9/YbyLiDc9UoawOQfDUr0JQ+y9f7ZpPIpX2T08XCs9U3BwuxVa571BwBS9i08aPabUk72Kjzy9oKHCPWYcqb1bnwI9nEyjvXOzjLumH7e70wk2POvkpDn/Ca+8lxZdvEyz8L1Vecu9Fd8QPRZFjjyIZmA9cjOMvVc2QL1ftPu9gYDsvQKaBL18tNi9lN6RvVs/3T0Zjpm9X4UIPT0FUDyg3lC9DFrnPYqx0j2BiCy8+4JfPB4eBr0M4DU9jiLjvWdq0j0wA8s8wUvXPUe0MTxj1+i9CTKsvW9qIr1/BWi9SD1FPUL+r72YuDi9oEpXPTp2bLyPyuo9WTuqvRVOZ70vsqK8n2JGvRtT8r1T53c8ZgvHvUjQHjxlJzM8CJ4vvYvNb71R9yO9Dj/8PS5vyz1+6p28xhVCO8Cn6DzCk969f4QtvUY3lT1ZkUm8Tw9zPOY0TL1uJ+c8f/QZ",
+        "PTZn+b1ujO+9kLf0vYOXFT2eF0+7VgD3PVxEmr2D/0m9li0NPTTL270k6n29VgYGPThzzD1E60+8pogrPQcjZjytFV89KfX+PQWF4LrPEo29ngNkvQ2XMb0s7KQ8qnksvaZi8Lu2VJU9KyBNu+w82L2lbPk9kN6UvNd0zD1a1eC8JbFoPRWKSj0Hqqo8jQbJPTzYYD2X7cq9GV+jPXdyCL2XWJU9BhvWPJX18L11aS47i3z9PY7TwTvf1G28TJGQvYQQ5L2KJVY9J6mlvYR/eb04mLu9TOL1vZD3O7wnayw9cm7EvX6krr1Jw549i/x2vZVxG72aJlq9kEUavRNI/bqgNPS9E8xFPZsoBjuVEuO9oMAYPZeaMD0bjd49PrKWu4deZ70EIN+9m1CMPOD7yzzxCbu8x3GtvSWvAr0Rt8o89O/2PLwAO7tASRy9iYTGPR0KwbzzJAy9KfznvUzmuTztDv081vLUPZCUd7zdQey9ojtKvPXepD1urqU9Fk7qvUGkJD0Aqk86dyNivWZOYj2UjVu9FDXyvSkZerrL2t89NJYmuyuNZTvKYg+9nqWQPWcfGr0/VQI8hzF/POeOJb2aFH49Lk8ivSVPhTw1Bo08P/HUvSgKv71E3FO8GIPEO8ooQLzHxmk9eVN4PYmYKj1PTIG9n/wDPMw51D2QUui84w0RPT3XEDs6Liy9dUgCvZBv6LsC+J49Ddh2vactzzymQQe8w+OMPMytqz2c2f49Qkh8u27jmT2dtLm8Y5zAvRWxfryaDJA9N+xKPY+/sr0bq2o9TnANPYcvtT1NiR09DoJIPWpbY7uNGzM9SisZvaTIvrzFEsY8r4LuPZ8t7zvl1Gs70ODFvZ8H7b0ckbW9n/zhvTXya70Txb085OidvVkkdT0CpP+9XVNvvZ6h1L2cZrO9SVsDugGqLj2jbFW9hUnpvFMZLT1OOjG8Uy/qPZr1dbwQAgK8jOo7PYWMxL2HeiG9Y/4oPYs3dD2Wks+9SoEDvYZyRz2CkxK9Ls0wuxvrlL0e46u9hQUoO4U4Pz2jn6C9Avl0vT2+7z0ARTo9XKU/PaVUlT2Eldo8HzvMvYAFQ71ZPbi9f0B1PYzxjz0uACO9BPzbvaG9SL1Pff689KqzPJTgor2CJOi9pHEJO21lzbzExcI8Xki2vaJYpr0DE0w9hmAoPaXFoz1H2oE9HrQTvWWxhrlzRnE9LeDtvUFfoT2jR/o9Ik81PG8Be70/Gs47DSSWPZ2nSL1Y/8y9iORru/xjQT0g6Rc9UpZlvTqDer1Boaq7QebpvQw7pz0VBgU8oPzfvKZegb2U5oK7L15APKUuMrz1r4I9fVnBvNYPRjy9V6s9eJ8OPRR0irzu3jA9WssGvV6fGTyep1e9lq+vvZFoTbzc8AK9ImDnPSplsD2MEuG9S8fJPZjGIjzWkCO9SVwDPaJYADs8Eti9f+kguolEYrydFsS9boWRvMh9uzrH/+Q8sFMzvPc7Tj0Filu9fy/dPZqT270tUpe9hWQdvFlrGzvjeAw9Ili9vUKkE70/mUK9QU3xvVsZCr16+Ry9f0P7vaTECL2mlUe8mKtYPZoSAD2IqzK9nDyovCn60r2Yzok9lBZFPZMgoj0dSBq85yQaPZea4bkke7a8pqrUPYReu7xg5Fy9i2c8vYu78D0Fook9Pxr6vQLo3jzaQFW9PBzBPWSQrrzmhs68EGi5PR2/dz0no8S9omf7PAtQ8L2RjYu9gsFFPYHlhz0FOtQ9hcSIPaDFkDvnBGe9b0NfvX2xNr2dNh09ooOxvaF6Fz1rP008XO/IPTUvrD0KIZU9kSGQvYbK1zxTrgY9RqhUPNAM37wimII83RQ4PWo9PL0yrEG9PSliPEba5L15Icm9gRrhu1LpSr2gf7k9bFIiPVrTGbw8tIO8wOf2PT7QNz1qelU8GqrHPRTnMr1CqZM9o34gvMdUnDwifNQ9azc9PEmVprycL+E8Fc+KvUkBajzYCrq9KrWivJx4tj1Z+9e9BBQ1vUVzGrxZE6i84SFlvO5xBb1pV9q84Z6qO+GOZb1kwbW9m9rROXFTZjx0R9g9WxBruyUQpL0MpWO9DAsKPVHc/b0cJo28i5KgPTRJc716clE9cdYkPZD/6b0NAlk7OPFfuxvqcLzZJBI8MYWMvR3FBD0Cl8i9mlervZSsp71tQYq9i+udPTtI0D07NgQ9LA0qvRnhGD2i2ue9DSkzPQkVq72LETq9Flh/PM/zZT2hWjo8c9LCPVkGczxtNKa9NMH/vSZJZr0+sf+8mPqBPZk2eb0IZtY7/W6oPQfrhr2OxO+9mOaLvPqrBT1b+/w74mQTvQIDWj2KSYq9memWvU/MUzwuHuE9Z6ScPSOfkD1YvlU9BXwRPZmjyj1kmN29gk7WPZt0tDxbF6S9M4zsvTEXvTp3azw8VogYPT+CIT2e/I29nfM8PaNzojyEazo9B2AwPQsKWj2hVRw9J1rnvWkJgj2Rio09WyaOPIfLcj2f7Cw9RjpbPBTV+r1tRm49AzshvTUjprwaiTg9WL05vW0EOzyaMoI9FokUO7lDg71oUUS9md76vX+0fL2hvUW9W74bvYl0cDzCNjy9RDX5PZYx2Tvkpao89avrvM4BDL0F1QE8zYZuvVom1L2lXBw9nbs4vECQmL11gv09cmhovZ7N0j1yUl+8RRW8PaXaVD0VfJM9gsiNvH/QFz2V75G8vpjBPPiZdrzIDYG7j+wVPWiI1L0T0TA8sxRevVx9qL2DO/C69CFDvVFhpbxQJLE8/7CTvZBPr71/pio9HcaUPZdaWztvrue8nCuDPTgYlb2gyKC9DQyaPZcSLj0Od9+9fhP1vZVdljsU8mQ9Evh2PZaIET1vCPE9TkpUvRU7CjyrheI9iemXvZ3LWj14Zgs854bwO9W20zyIFnY6ulYFvWjV47zSWrq9Tc6OvNdCzjvPwgW8Q5YaPWd6uz0ASEo9KoCqOsKHHLxLmyU8XrE5PNyACz1yQx+8sxiNPKgCYz2L78Y9jiwFvOlop7o6twW9DrvbPSkrXDy3noy9Qsz7O5X6Cry5JS69gC/9vPd3bD0IHte9k622vBRP87w5KQ89H13DOd4NJj1g1+s9XgiOPVQQoL2XmcI9HjuqPZhRXT2N4u49G5cqPLthVz1f+AY9k1ZjPIKCsjtTWKg88Ak7vSZhVz2ZPXg9LJZMPTUcu7w4PDy8khgzvaUgqz0kGp69Cf57vVNFlbwGlLC9ZpUsPMGn9j1ghxO9id+SvXXLfz03cUA9oFgovDwwZzwqzN28xS1FPR9yLT2YJsC9eKSBPaazrr1wnJa9ZlRqPZ/PcTvVQo48toNDvQ/XjL0Bv6c9Jeu3vMuRkjwlzd29KF2vu7IWer1y5To7qvBhvWmtrb1S7cI8FWFQPH+usj1kbx+9ifE5PChhY70Nju28bLC/vVWtQ70Ihok8Co4/vQutgD2iqGe81NFkvZs4mbxv7gU9CaaOPT4pBT2H4y48jJ56vRgATz1tx209hIpNO5vbvT2bDOW8hmiePITQJbzX7449GfdnOiE47TyEXi49CzWwvW6m5j10xuE9QD6hvZqpBr0dmBG716sYPL+81rxj5Ga9LIV3O5OHNz1F48e9Eo1mvLttq704Ql48FPV0vUBP6byG2bm8SrgJvKmZaTyNOOE9VoaivJwHd71Adms9KDrZPEq+2rqKdRm8nd9cvVIdVjvujTa9gQy5vC93+D0dOXW9OcpZvYF0WD0g/v69IxVXu9dDPD2GgMW8C//1vV1sqD057Ka8rohzPTg1fz2LDsq9mbDLPIk+hrzUOyI9pex3u7xh9z2FjpC9dExVvXP9xL2klui7zSPBvLRFFb2a5909bbQTPXkylr2NmWG6SnxuPY3WtD2Z5IM9K3pkvaRO3b16/u09ElHIvSu7qLwyTaG8k3MRvKmjaj1JsSe9EBsYPRc3A7szn0u9pEc2O/VhabusMhU9KpJxvaO9SD2Z7KC7mwaivQ/abb2El2w9SV9NPTcKzTzK1ng8hCvoPSi0ETy8Kd+9Q+/buQsPQbzDF++8jJ9BvTsRhD2bGuG9OqXnPUuVkr2IU/W7kU0OvZ88lbwwpTc8dvV0u6S1HD1Z/1S7OOrXvXGTSry82nu8k55sOhei3b0lK2Q8z27cvL7D4zzN38s9hBj9PSNhIT2Fjp09lSBsPZF5CD2Q5Ki8uLTfvKgtF70uOl09MyNzvNfapz2E+oK9oV/SPZMjX70Svzm71CK+vUrfPz0g3Vg6mwjsPEbAHD0OEgE9n1nCvWfZ+r0fMbQ9or+OO3eO/z2dfCu8+0YivKZHmryTZ5M9iDbOvZeVcTvP5Lg9nFZIvPi0cj2dX4G9dq7PvPFMcLwXqwe8cQqHPU3Mjr0jRii8fbu8vRgzGTyeQWE9nOr+PZryH7xC2uE8oEZ3vWOzVj1LNT872rqvvYuSybwQG1y9Lxf9PZ62T7vloty9jgc+PHE6DL2OSia9PR04vR8Rjj1OEPA9Kk5mO6ng5b1JVe48SmUKvYY3Ar12sG49PJkMvEa+Mb2Jtb09JQCGvM3GQr2QtIE9Wd1QPEaieL0cBz28cyzju93ApDzIfSk9IPhhvYV8eDzc4H69jShuPOYXzT2WokO9eiZnvQx+XDwYXzC84RdpvZwj4T2iufG9nj4rPWbsaz15hpg9mZJFvXqkbTxU1yU7ooPavAzWNL2XPAk8CuM0vYuU8L1cpte7GbwevL4/mLtjFMO9AzsXPKMXwj2ccC49h9a+PWzNO7xq3Rk8bk4EPZL827psaLA9kCG0vTFvED0An629fgGWvYPhtryuxeQ9plqSvREz072GYZQ8Cd+4PQKryzyZAV27uRy6vaHztDxWW2S9XsSVPCZpnDsZFLw8rcrCvZl8Bb2N/ZA9ptsVPJuFMTzPDAU9gvXZvQqlZzzXrTy7sFWRPJG9KT0+dLC9ox89vZwCkz0whQ69Gk69PKeyhL06MvO9OASzvGjFrj1qcrC7h3YqPSOEDj0GrjE86oScvPppNr1mGIm8aNIXPQZGWDyeveo8h18OvNosbjzPsUK77hjcPVRr1D1Q0TA87HU+vVIy3byl3RI9OwtSvAjN6D2RT189CtDsvZ9Nib05A3O9gaBivQMbxzyNGw49E2SoPXTIgb2hU2889ZvFvQE7cb0jkCm7zSqyPWjVlz2M2Q+8WuMPvZRP3T0H/0i9aaDJvHkIVz1oQl26xH+0vVyJKb1FDW29B4SDPYU+OD2KFZi9PB23vAuKoL2daCQ8sowyvKKa4L2EA8Y8Ju/iPRgKajzIQu09G7PQvaZXjbzseac9hlhgPZ7M/L0d7TW8xczQPQ+w6z2Ox7k8rAoSPVdx+715GgK8ZewZPZroZr0iSYU8wMx8vLVGI7znqXW9C+2TvZOhKbwPM5i9GyRjvLfddb2apka9R+7WPZp6H70dGCo8ohKQvY7YZr0UP5k9Q1K7vSyH/z01Dnu9hd9+vV3vMT11RdM9kMTEvaVyiz2XrTI9nOAGPYqGTrw0q/a9XcLGvR9iVj1hbk89RCi/PZvfIb18Ka487as6PUhGiT2nJdC9dXvbPUpjZTtj1hw9mvewPYrwoD1+gms9h+nUPKiOWz2DWTM9EjuqPJp4V72LyqM8i4JmvVCDbz2QGYG9VdH3PYCypT1C2KW9kVe2vaUGnTyZ3BC66nuGPPumZrwh/pk8La3gu4XYMz0I4to9QRY6vKS8mjw5rys9j6uwvUdfkr0jCG489CIUPaOH+70Q6gk9knYKvPp4QTzEMNS84AW0PYf80Dz4MJC8mC66PZdQMLz8jKw9hpgEPZn/zj2IGMu9gUiqvRyevb0UyLA9nqf7O/uLDD1JbwS9Cj1fPWbL3L1VdqG8vVMOPZqD5Tw3OAQ9GIHjPIY/772azB880fbFvXowuzy7Zhg9mGk4vU1JH7wir4i9UnoFPXHlhrwbsqy8uo88vSFOFb0SfbA9TzM0PTnQ472YA8q9clj5vY0l4L0s4bO9WGNzPWuupj0R6pE8t6mhPZ6zljz+rbk8orS9PUtmTryHCfC8m2zXPCSwQD1ZHnw9a1tevSwvxr0LKIs9NRFCPQwd9ru7WmY9oE2SPAmBQDznSHW71GWyvZKf8by2e8C8m6FXPGDjDr2aPhY9n7kQOocF5budUi89RWK4O8+MyD01Hgk9iY32vaD/ET07Amk8fwdbvYqRCL2L8ge9pMXePARpwTyFIgq83XJhvV+gd7yRVeU9H4BnvI+/iz1Qu/A9kPUevUSJ9ryF8uu8sUmoPYmlg7z84cA9m07GvQ1Cvb2IN5g8gdC9PaXoYryGpv+8EysdPKB2Jj1qLPg9mEBdPFwJU7zFbP+9DN69PUX8Vb0Hm768+PjJPYtbOr0q6ig8pgIOPZ//+72A87U9mfHqvOLkH71auX29niFWPOyN0j2hySG9VgffvT0spD1WhvM9dFFLPQlv6TwKV589ZjYDvRpyCDw6vpI9IezZvROVFr2jIPc85bPNPTXgxbzrft08ADLhPaEOTD0KkuE9lMVUPWfkHL0jU5S9nU4yvROraD0You+9cOtePYW/NbyZ3sc9JXuFvTfMlD0N6kO9N7iGvRrSQrwFDYE8FssFPTYunb1YSTU9I6WOPVJdK70Z4a87tykyPUyszT1o+rA8wWiFPZ4BbbyDkuq9BGOAvPRdZryouS69Vk2XPXSn9z2KfL68EJo+PZ8qTj1DEOc8zfFKPOGw/7yxpkC9g3UivUIs47059UO8zSQavM1x771dQb284mWLPKf8Tj2dDXg8kOy1PVGNk72PHH29gF5PPV8tVz1t4aW9hVq0vKZ3cz1Zm8y8pVmYPIUafL1uiuU9mHxAvY8lGj2CAd+7+n1HPZ2HYT2aWjU9MtvVPYdDnL1cK+W9W3hEvRa9er1nVwC9lYgrPWMi7r0pH329k/o0vY8Gl7vugkW9N109PT9WezpXZE29X5bfPWIBNLxADO89hYXWu3TdD7vMwxU9Cey8vWL/Urztmne9jaTLu05a1z0I5Bu8F8BrOxNwBz1jIPi9KLiXPTb0vLv6SQW8jnsxPaYyEj05KtW9oAxmvSAke71SPwq9ZPvLPLQeuryXC4Y9jpGfPSAz+71yFjU9Tm+NvVIZ6DzHDSW7GASuvXM78z0MC9M9fx1mvOU5WTx/tAs9jOCXvO1Prby93uE9kyTivXTzJz16Ibe9nWmlvQEEAz1ThFK8oasnvZKB5D1UYTc83KVCPZ7GaTyQ/bG8hToWPV7gbTx8Olm9Vi8QPW70pz2CUY49nZ7YPVW44zzROZs9oQJ5vQbmCD2Cn+k9lcKMPTdo5z2YZXi7n60BvZO2BL1jghc7FTwKvRYMYbqjSbC69nQAPQE00rzUQx08ttAYvLu3PDyl6sS9Zw55PVpalbzCz3g83S8+utBJJj0kezs9BNyovYpk/j1wdNo9YiAmPVEDtb2Ii6s9lBPSvTsNSL0v4Tq9HxQtPacKPT0WJmq9XJLIvLX2PLwhf9Y9pOxgvZvg4byVUDC9UVVEPYkJFb0KSDm8t28MvNXX1b2T+8q8HA67vY0XND2Hnyg9hBHivN88Nr2PtSa9pZRUvYYt6r1CM2s7MKb5vVZwu70+Nsm9l+KlPR75Wz2hHI09G2pkPDbptzz4u6e7cbnKPSHaa70nsKU8qYhUvYWnSL2X9769hXhrO+WHgbzpLza9GXPourKH4z2nIju9bYEyvZLwfD15ZAa9lHEWvCewNT0a28+9k33TPIrrkr1/Li49TzbTPaMot7xrz5g9OBCIvLoTO72a9qS8sUIbvS5Kaz2Vp2+7vu7WupOftT1uVZs9ek8gvSIGw7x4HTE9EOOIvUJPQL2KPVc9lh8SPTrDGL2hndU8of3tPRkzHr2aCgw8SLtHPOqIDz088Nc9iNwtPXOJS7wcwKW9SH3dPaMF+Dz5jvu9maQOvHMrnz2DYVg9hZ3OvUOmaruphKI9U/G+PZL/CD0fGpk8H+3BvUX4JryzdcY6ZmhevYIJLTzecPI8qGr2vS0k2zyBFfy9ksV0O3Rt2rytIQw8hLxovaS67b1tq169SDWjPXCpMT2F7ig9MDRePIOu0T1hJiu8k4W5vVj86D2kZpu9KKwZPTy7xzyi8e+8zpSMvZ9UU72j58y86vL1PT3lzb1HaH48HsYkPI9G/b2T1wC8lCijvLdxS7uBYa07jUCYO355+rwQi9W9ig+HPZi90Drf3zQ8wnq9Os/uWj2O9zW9A39hPZuRhz0wZNi9i0dPPM26Ez1UVNW9cgV9PaV67T0wAxy9ZjZmPZEl1D2lXfM9GXiNvUIrej2PAPw8A1IlPZtZibuD2RK9NechvA8oST0Y/tI9WzZqPQcnHr1BGso9d0+ovZXWrzu0eps8XDeKPFVQpD2NlPw8/ecxPWsBC72MR8c9UKI6vKIqsL1SSVu9SBdyPZ/fJT2dkOO8ngUKPPk+Jju/wQC9euFxPA8Wsb1k2MY9nulBvaK61b2LhHi9l+NtvYuvgT2V0Se8a66HPR6GsD0WpCW82XdQvMiozT2nBI09b51MPRe6or2KLwy8LELxvZWx/TzIdDM9eyo2PZqREr2Bz6I8wnFzPWA5fz1kLN09asCkvYanXT1Ay8M8ZA4UPTprwjtuyKc9Y2aOPKEr0ryleiw8yjhWvUJYKb1RPFK8WDOnPKxoij17kNA9eiXfPMY+672iwSa9o3OcPZjQ870lNuK9nmz+vZBeybxR+JY7CtmxPWwdIr0CBue9pJnBvFynXL0ekF27fl8zPPUfLD0d+W88pzHwvNtQrT0VKS68wQ5WPI6R3russV89ATxfu2Feyz0Hf8k9pleKu4rn+zznc3c9bd3+PZ1sxLwb92E8x0uwvZHjZ71gBz49EXIAPYQer71auLQ9GZjAvVYWPD2JdO28/NzvvJ4cfjzt1Te9A/GWvPWA4zy1Mv073OtKPHUUArym8829PI0LvPwTfLxC95W9hT6cvZelIbzecLi88OgdPW/LVD1Jaa69ov55PWYyWz2Og/E9NoaSPLucX72kXt88iHkTPG2ITTw01+48qJ7+PQx0rL2UVpS8QHJ3PQP6lz0bMJK77jgivUlSbr1XUbI81PgyvAc2pL1A6wA9cB/RvXWOGDwJAvC9beEIvTzYOT1qlRo9my9nvB/XAz2lwRe9n3ctvUo8or2CUS682bngPSh3170oi/W9T1AJPSMck72P0GW9Co6LvYC2kD2Q/G68JK1aPVsNy7xIsKm9JwudvRwprbz9qeA895nmvRGSxrvth5s8xoFSPC+Myr0Ubfc8oCJWPabxlb2DK+i9TevMPZ/aVb0n5bC8xghGvLYrVDv3RUW89FLTu9WmVT2f11i9XdHfPYWjC72gSAm8w2XuPS4Q0z2b2oC8Qjdru7zEG7xzeVo9mL1TPK3xrz1XMBm8yCL7vXiQmjrWJYu8yRyFvJpK7LoMZ309mbG6vVANTDz+Il483SOMvY9C7DusySI9X6auvaFiJD1CVoc9b/YQPUoc0r2P73c9W78GPZhTTr1mFjs8qJHuO4wl170DYuI9T8iPPZMtDz1Hx969iLZOPZXZaTzgCxe9lZeovWzZkjyFcRi8K4Oju/71wr2mMdm9To9Qu9Vv9D1X1mu9J859PSonZDzT6DO8ZU8rvTUKab2nJbk9IsQpPYxKZDydtko9L7rXPSYgzL1Ouw67m9KDvRAneT2BJLs9JG1HvVuY4L1Z9uY8w+DqvZ8ZYb07p6E9ptqmPUSnS72BIAG9jFjJPO4Ccj2lbUc7Uzl4PTO/ab0+N3i8l36HvYxUo7yMp3A6No72vJEc0jxox2W8DL4JPMxAEz1AiWQ7qPn+vZdclDyeiJ49D1K8PK/G4r1SIxC7y9sePZfnAD2hZUq9l6/tPSziPb2bBCq7SsdjPVa56b1uDg29E8K1vQIi3j2hTyi7YrscPKUba72cU0y9OE/2vWgqZDzkAKu9BX8mvRKCzT2BZSU9FM7YPSfo+TwFn1+8zSKnvL5+bLydy+g9pWQJPPKrSryclWk9nR+XPL2MmT2Xb4K9QIzxvWEaTb0Dpgi8JkwDvNnPNbyDwOI9i1YqvX3g6Dzyoz+8kICbvPanAz1ZMi29lR4uvI60FD1ke4O79qfEO5la9DsUF+a9RisrPFNoqbwo/em9LtrDu8pcLr1uAd68BzGevXkiRr1T+T48o0qRvRUpIb0MCqK9AAZMvBTweb0L/9g9FRqDvLpbHzzOh9o5wz1aPRCYpryBsB+9GIAkvZp8ubyJrKu9o54JPZCxZrvntSy7lJRqvZ8lizzarnU9mNHdPPvt7bxt1I89Bz36PZLk4Lp9+0K8zwmDPM0jY70YPTO9FeyzPZ7NST2RqIa6m9rsvW/0Er2T+oI9iIWePBgY+L2Ukei9l8MuPJMo+Ls3BtI83EEnPJYoDL2EeIY8GKWxvZ+2VLyNYOM9JWMYPWED7j1cJMU9NmRcPIpa+DvEpDO71Q9dvXSBxj1edOU9i4LLPW3K9T0pfHK7tDv7vNlk3L1ViLE7u1efvZvhgj2JuXk7nLefvNNjHL1IyB29G6SEPZAW2j2OeSI9aPzdvRr5/Tzci0u9lvRZPZYOsTyaKjM8twQRPRBF6Lxagre9UrW6vYIUsDq7dW29ov7gvZM9kj1tR6y80hvmPTtZiz2AV3a9cviHvY2gGjzvoY663wdSPMihrj1nIwU9HDRFvF4jerzOrxo9QdTMvLWmkD1BAgy9br6KPJFTfD1uO529lJ3kvTJynjzYM0k9m3SWPZXsAb14sj49NcZMvE7ZEj2A+cG9emZDPB5W5b1uFqq7qIhqulXE3j0Tmg48t3aavYXyYzrdx5U9MwoPPaUdubygYpM83t8hvZEl3zy3BMg8lQ7EPQ46vT0JLqS9ap+ivJwpKj2HAhI7XywQvVMBIb2XA2677tQ/vWfy9j2cO+Y7qZvSvX6enr14J3o9XT3PPXjs+r2JAWU9SRlgPVVHlDyYFI89R7K2vLK4aDyBn+q8qldZvU5gCT1t8kM9hmZ4PX8snj0VnYA9Ic71PYiWIDvib/49LegXPaCzzb03h/O9kh38u6aGbjzQ8go8bo5lvJqlADqps4A9VqZ9PG8lfTzNP9O9l6phvBeJeL084BK9mU8zPBlXhj2bVVC8JucQvObRfjzZyhA9EG1QvZl5CL0ummq8UDaTvAJOYT2UHgS9GGh/vLmuWj2VMIc9jykhvOvH5j2MRT48mL1+vaSSBDqM4Kg9Rhk6PP7uRT0AEf49GmcCvCyDkb0UDzY87dPjPIfR/7yjdxY9EifrvFLhVDsYCWq9hVHxvAoh0bz5gua9cdZtvVFEWryJRAS9oJxtvSKIkb0MXpa9h+c5vJbOnT08mdg9LHjXvBBIt7yTuOG9jselu6kgCj1WBg69lgMuPQbetD0Ijxw8zY0wPTbmJD0nnJ08zomwPKNFtb2m9YW9ms7FPJ0a8z0ZKwQ8bhO3vWL5XD0KL0o9Nd/yvMRYfjx0IeC9l0HFvRxo0r0g5Dk8xyOzvVXDL72A53y9ahAqPYtaCz1zIR68t3UXvVJwhzwmHtG8u4QqvVpemz0cByC9hgpiPUNJVbyXX2s9jdQAvWdOF7uiask6YwomPQO0PT1gX1W7PNYnPSbu/D1pFOY9cTYrvaWEKjz2ILK85SuxPWuHer2lW/O89N59vZlIOrzbapk8TiEIvWzY/7vbAGq871+vvQFwFr0eEdk9lrs+PQrOqDzcVPQ9fYrhvF1SiTz5buo9LTO8PS5ktbythTy9P1b7vU5F7jyKN9e8vuUPvS3Rszy4vv89eruePNIL0D003wE9hLSVPM7FATwksmA9bcCrvZ/4ALv0DJs89ow7vZ1Vtb2TQQW9ILAXu+xHyTtt+cC8vOmLPE8Hxj2TRq+9TeHrvSOInr0Z+rM9n14UPQ4sCD0IZsm8za3ovNB2z71hbpi7rnE4PQe2xTyfnGm9aTtWvICmabxCn1E9TjntPL7Azr2Sahs8wNFNPZzEQb0cvE89Z2s9PSmj9Lz5Z8q8guC3PWkkHr1toBI9LN7xvBYCHz0aFz+9L0s3vRYGHb0JnAA8799YPTTEBDvt8cC9KUpOvUIyer1bF+G9EIALO2bDpz1f2Iq8vsHOPYGV9j2Ad7S9ZLO1vTEblj12nWC9AgOMPRh5Try/QfQ7t93OPHa+Yj04Ue483SNTPVP2Trykhli8+fVpPXOIO7u3rvC9m9A4PQ1lp705soY9Ap18PL5V/T2Te9O9kUblPV58bbuCDGg9hcgtvaX9JjzbUMc9npy7vP2LA7ypOOI9JHjAvQwfvbzTEM69lIBUvLF8GbzxxNU8eAMFPZcXszyDKHe9Cqg+vXOrbD2j7Ec86cp9vTywmD0yH/09AxwQvYTpMzp3/tu9YiE+uzG06Lz+w8q8iykIPQOGrT2f38g7HNgzvTAXMj2dG/M8toGMPZeNGL0HRCw7JLGZPK3Jtzwl/h49I0YwPCTC8zy/EjC9LbHYvQHfwbxorKc9C3iKu9dalry1gM09obE7vXw3vL1byW89jHdcvZi8hzwVh3G9pLJ/PP/pyj1ptIY9ONdoPXB4zrzEz6O8vy0IPAYx7r1YLki9CsWDvVFNBT0QN4+9RpYCPWMjBT1eg9g9GKErPTyXFLrzGbO9EFu9PZjZMb2dlo675YZdPSb9DL1n2m09SUnWPY2w6ju2fEO9kR6GuyZzfbyDz6+8sw5tOMnG1zzW0jG9pADqPLLiSz1+vcI9oDpSu06OxTyH+VU9YFtavN0GCD1kikA9dpOCPTDRzr2XV8C9hOUoPZ8K+7xejck9acN3PLd5pL2fLGC84lcXPRFDyrypE1i9cNZivFBte70Wr3Q9T0QLPQ5ceL1nz189pcbXPaTjvz1SlC67+iJ7O/wjpj2nNiQ9ERZkPZpf17ymlgE9Se8lPYRQY72hggM9M56CvObZMDw6em88sJOkPAT8ErzFxJa9SNcrvTqcgz1OWRs9STouPZFSzL2k0wm9cCaVPV6SA7yWJN09RoUJPZuOe72jSKk9hbghvEKMLD0jh669aCZ5vVZfdLyGDn89KE3ivCOJ0z1t1ho7oFQ5vW0bdj1t+9s6ZtQlvGR1Xr12s1+9ClTRugZ//T2Mexy9DxlyvZNX0j2EYoO9kqjnvBqzzTiwsJu63YrWPLze7j2PUbg87o5vPZ/Pyz2T1Se84kd6vYEvwj0ZX0M9pBcEPaSJJT0xdd+8UGK/vQyheL0uKs+9WYoCPY3WJb2CGAq9Ood1PZBlz72R7Ly9htQVvJZrkz1MUjG8FP6uPZtwib1PnMm799ZHvUUdNT2gDeQ9FTYpvYczUT2kPrY9KNABPLTyZz1rQWy9AkoqvYQV8r2dh1y9VlWyPNcOFTw48Yk9Os1CvBLA7rzJw6M9PKcPvT1odT0hdYy8fFL3vYFDKjxxKJ08pJ5pvUBnf70Jlt49cOCCvYymWT0YId48GCy6PYw7GrzITN29Nr+3vCUEhL1TA2g9MuDePOrnLr0d3o29k+8zPRrBFD2jWMc9MkZ3vZOGXz2GopE9eQE6PYpH4jvVxtS9CoY5vWL1Oj2TRde9oyvHPYeE9bzedrg9DJJYPZmNAL2jH6M82HO1PSV8HD2Sp/09ZkXnvPNOCT1KZli9bpHovaBFuL1j+pa9FdgYPZYGEr0EDWu9CezyPRYWqL0JCz281kp4vTBnjbvU5SY9NbwHPXX6mbyRiWU82ZLpPIDHMj2dG+o9lVzwPQx2Kr04Rma8KecFvJ/pPjylaDW81UZAvWzi+D0Vh9U8oxIgO11YDDzOQUS9B0zrvYErRz15o7M8g4CwPTj6/T1deec8nPsGPZ9f57zeKhI9PQd9uwfyWr1BWWe9W9SFPYjBbrywnma9mvNUumqJ5TxlcoU9mJNpPBtynj0xhdA9YNF9PaHEn701+o09Y8jKvF/zATwvi2e8WGjOvZaHtj2kCCC9Td7RPOZbGj1cg4s9WosIvMo5uTtAfbE9HWo5PTdUfjuS5sa9nCKJvJNio7xc0XM9GCENvF1AXzyUKKg9n4EivJubmz2YNAQ9fT3NPQfJpj2JkXE9CmEiPUu4sz0Vacs9WIWrvR/ZG72kVGE9PebvvTlz2bysi1O9jEMjvJ9IajzAnSa8RKH/vWkFaD2WjCQ9noNmup805r0/zy29e5vJPXYa870fCAC9WlxCvFPSZjzKcdG9IguAPUszFz2SyZM83BCnvVP3hb2GOWc9PulOPZGVATwnKcW9fAACPR6KRTzjKgM9jHoJvADEYLzEIls7bWYhvJQOtj0Dgns9gqzfPVtuqb2aAi29iiKWO9+KnT1KnsY7d8u/vKAG7D2Y5RK9YoU8vVlL5TzmuAo8tCt3vUc9dL2EHls8qXzWvOWSbbwLMWI9OaLrPRw5DrycKMw9ogTQu3hDcbwSVJS8I6/VvWeesDzsdTm7KMCsPGZfLz1Z9pA8WDzhvLC2+bzGG5u8PLrCPEuHy70/P7W9jTolvBKX+71HAlS8/uc/PJCVpr0U1U49ltbDvBrVpb2Pf8w9ikW2PRzGVDtyx2W9PbZkvaCbcr2LDK+83I9vuqpJvDv5R+g9FX8qvQOEAT0o+T89ogrTPP77BzxGIxk83Cf8vZ/eWz0/Lo29ZH2gPJRLTD2iLCM9F9AjvRqm0rz1+mc6zO03vY3Q3j0yWQU9RL8bPZMncL2G1Wu9oxsPvPn6sz2Blfe9XTX4PHzlM7zhJks9TvezPaEf7z2GQu69VViXPVgTJbz55qy9FB4FvR0xyD10kTI9mP9vvLC3bD05fRs9Iz57vaRKgD2MaVy9ZC/3vUDjpz2A79Q9mfkkvARYM7lXCNs9RXDlvSgK1L0fKo+8slMFPVBVhz1IF6E8vB9rPU7RLz2O1yu9QArNPTK8ujz9sCk9I7scvREvn71ndxm717rFvL38xD2Ld0+9hTmYvJkO+r0oFZs9NZqSvRJP6juc2w+9jsXZvaalFj1UYGA9a52DvTfCE7yVM/o7O5cRPX0BUbzGc1G7Ih21vBMfhb1i2sO9bPrCPUTGLT2CUAU7kKI+PaB0tz1P0Cw8of8RO80LQ70pndo9MCPyPUmEEzujdhs9PqEGvMYqfD2KWas9VlydPYG5njzhZhU9c1ucvBwjeL1/yeM9gw5BvZ9f/D2gGNO8v9lLO0q6+byIE6C7M1uwvZFkXjzvqpS7vYauPaNmEj19tIq9nCadvWBiYL2Ea1i9I7JfuvJZVbyEz506S6WjOx//OrzfZfS8gPasPPAYrr2PagY9KPxPvZhw4L2b2VE9gpc8vSz2ArvK28w9HvpJPaSTL7005709imj2PBigWLvtkT09X5w4vYKGh70t0DM7/rb4PXbAO70Lks89Y4oyvZgNiD1uSFm9ZUo4vXmyaL2OS9i5GxAbvGNzwz2msCS9kzGmPWQX+L1zufc7+wo0vZMkZz0Qnqy9AEu9vTf9ULm4vhm9B+/qPI/kwT2UKIu8un8rPYCn2DzJMUI9okJ1vGoZ372BiS+9bHcPvEx+Fz2mTYe7jnYhPTPqXLyUha29hhQ3vE2bs71vL4M86AxVO/MdDL2X6Ok8zxeTPYXmsLut/uk7jCp/vKyLLj2hJPu8upxMvYYUgj2BDh69n7Y6PI2psr2H1IQ9A7qWPWJrX72jhEA8iugPu0d6eb2EvmG4ylPvPWCW0LypD5E9lfB+vOcq9ju4K0q9pqEwPZXLCb0zsws9oMw0vWrnArwWB428ZpgNPYX7aTzYmTm5193MPTHvJLxDEj09QLCsO8/9TD1bSD89QrguPVwlb7w98gw8bCEVvVemWTz8Kac9brR/PXk2nj0UnGq9mSDfvVjV7r2T43M9Fw9nPZ0/ar1K7AY8pgFDvWs0kzyMgXQ7fgDPvOhEObyYolM9TIqaO/+cpz14ava82rr4PYETQzy6Bcy9kwg0vVw0ND04qVY9LkKmPKksLz2QA8Q88mrtvYIhvL2ikLM9D/K/vJQYl70uZbq8GoEjvI3x/7zJ6f49CWh+PYmaJz2NnAU9fmP0vCEXHzxu++688dTbu6XMWr2RrwW8nyOMvLMcx7v1yuc9VqSxPXvYE72dPgY8m7HvPZHiLzy8Lqs8vpWNPSOi7rynU2S9ktk+PQxslzvDBNk9LYqaPWFPb71XJ5M5wZtOPQaxmr1WyQ69BVfBvY1WAzwoGfy9OddXPEXHh7wkbCi8ZClFPKXa+LsKtZq9M5BFPOFjor17AW28gCUzPIasxr2GaSu8u5LSPYA5Tb0dWP69dOsSvZ99Ur19mom6A102PXlh8T0YpjG9JJD9u8vEF72h77G7VRX6PK30LTwswvi9EOFRu50i6b0q5kK9nswxPab54b2BsYs9DWrru59Vej0cG3o7PPZ8PYO+FD0G2Bw9Rhctu4OXbTz+0U29YODzvWl+hj1YWNi9bTVIPUDHoT2kU/Q9G9iWPPBtSjw30wc9iRbvvaAuZzz0BWe9HSvcPP12Wr0vAnS9HcchvRArhL0NA1k9mQiSPO/CPD2TNfG8h/1QPQ5xEz0UJ609BxYkPYm+Nr0zVhW7lqdNPNG/vL2OBEw7nI7hPSFTOrsDlWI86uIoPQafqT0cKhA9TU/bvWUTpT0R+Q+9diOou1hpvzzR6pA8CB5Su6xbZTyoqqE9BLlNPQ6hOr1LfS480eDDvMM4+z2OVCi9n9BuPacfgbwYkiM7Ge4WvRExeD2kMuK8XSdYvPmycLyyzec9S7mEPT6q3z2JzIk77H0FPOmW/T0MVCM9YmuyvYtw1L15QJS9jnV2PL91o72YDUe8RLM5vXGcDLyoEDA9ePBZvZQvzjzZOQg9d/1EvToJz7zvb5C9RetpPYtm8D2Afiy9d79wvFXiQ71ZJCm9gHJkPXLulDygG2U9npnGPXVdED2NRdu9VczxvOp7KD2aAfw9X+BuPPS5YD1YPJU9kRGpPRz/hj0YIXC8BB8Mu/pcCz032rS9DLHfvL92aj0lAIE9OXPzuwQeZD2GQxS5vSGZPVs/jDyjgxY9iBpFvZpaez1FwU29mFAJPZrSwL0SZbS9ikNAPEjG/j1zd7A9BfEFPH/PxD2ajDc9ZYNfvQTAy7odXfE9jY70vXSeV72EOBs6uC4RvVxjrD1LC/G8sj+MPWLNGL2JHB27cY4GPZSQorwjIPy8zTDnvYr3Czy7khC889uEvX0hHDwBpXw8qYpEPTMq2r0DnfC88DF7O5zcND068/29b843vZxXs71QvkS9lZJYvJGruruY85Y8W/18POva4r18qqM8jFqwPSw2Kr1i2Gy8+ft0PYdePzxqDCe8E6cPvQ83XzxI6A89ZxrdvUn9cjwJ/t69ZmvsPSrnsr2C1xQ9Wc6DPaCxY72EP0m8vuysPVR7yr2RnQy9R1RLPBFwnT2OrfI8YpQLPTG9FTyEWjM7+iWBvAdHTD2WdzK9gkNkvSNa9z0IXVM8xmikPYSHZbs30Sa9S1fvvO/pUz059tG9T2+3vZruCrmIFFE8snmKPVg8gDzu8VU9g8gwPQIdRL2Uk+Q9CTu6vEntGDyn3ky9NnYmPQ1nl71UOqC9SyL6PDRKrTuNB+68sSKcvTRmUD1SGWs9QT/WvW3aMrvIbSO9dhzePXXXvr0Iegi9JBdqvCt80b2JQyi9oPQ2vZGkYD2OjuI9d9EavaI5wbv2u0g9jSUmvDrTozzLv4+9eqgAvZ0cFT2ZFE29kOMEvYjFXbw4cn28huwNvKRc0z1khhu9BJpUvVtI27zRvV69ov+2PQ+JV72m3qM9PfChvKFVJ70wn3A8NbpOPY2QNL2WM6Q80dfIvASCib0gikk8afzDvZTKKT0PyFK8XJqAPXPNJz0fFYs9djYuPZpjOj1kGyU8UM2qPM2Ckr0ejec9T2MsvXZXwLyl3JQ9hz10vYG8pjtuIEq9QAzLPUgN3T2OorM9oQKjPZprLrx52128MVNBPR7H+L1VUB+9aGVqvaPxZDje0mq9pGm+vUChYD2FWOm6dAu1PAUXI71TYiy9lBciPZT8mDxEglG9MsA1vUDKhLy5wLQ9kopTvaOZRL2Qbc+9W1D7vNe6+b2lYuM8iDaCvJe7W7zHAU49iOpRvQN7XLwG4eM8y2npPLD4Ejx4aiW9E1GSPKOclT0TV9s8potavDL4ur0yJBK9TluGPRndMr2d5x+9JzqfvTFxZLvNFU49ErQkPZAGSLzO3t49cx/NPY3TOz1qNKS8T+AwvQps2r1Ge6i8sMHwvWwCtb2mZ4O9Ctp3vYFLsT045D29I9/CO70PjbuzFnM9bVClvY+iSL0MIA49obI4uQ0HhTzJ40e82SqkPFRClj2EcBW9gGCKvZdQKj0pt8k9Fw67POvflLtWEci8RbvFPaZZrDzYqLK9lfF3PYsUY7nuTLU8tuokPLm2er2EUac9gmjbPYpWwb1xNYQ9gm1IPRjdh70Gmvc8M6akvUrs1z2Q4ki6zgyfPNZRNL0+9kw9pXQCPT7xzj2jIdi8ht2Uu8KCNr1Qkm68lDw7vJ87EDwRcfY8iviDPUHCwL1lXMA825y2vZkXHzvp6d29HyU7POG3XT2e9Tm9JCaaOmwujr0Uldo8mjhTPVhjST2m/hc9khvFPKwTkLytVDk8/kTeO+i9o72lEBY9Hx9AvQqf972RqAM8liauPYU1wL1e7Xa888OcPANFCjyTV4i9HJ09vUEYbrtEZ4k9KB4xvRwh+7uufTk78dKxPBY4DbuvaTE9VwH6vD+Cybxe1Py9aNoNvR5Zpjzk+X+8TfyovYEsETytitk7n99iPI4IXzz46ic8/m+MPX6oPr1u3OS8nyU+vLtTIrzxO2C9lJQDul9XA70H1cE9GnmLvUMEWbyCrtO7O98UvQGpVbxr7Dc9SxOTu/LFHL2S0J+9pGY+PMnvR70Rsps9hTXTvCM/mjyMDxU83yPMPXQseDxKCsY8BEabvH9J8bwkYUG8tpt0vOineD19HLS9oUpRPYNt+LuMn749pFCSPPnp4b2eEwK76ujvPDrbUL0xfdW9EQakPUqVaroRIoS9aHw5POHbeTrPXLE9QR4TvRNAFjwZ66O9BIKRvRDvHr14qW88OFLuvPhTnL1a+uI9nLm4O/oHnj2MNk69cjy3vW0SZjqDZls9Y81IvBDwTT2YiQC8yeFMvZzNHj2KmVo9Ys/SPZZBgT0IwIo9YJh/vXM7Nb0ZTuQ8oujaPYGvir1UwnW9nOwtvMwcmT1pvoQ8uOV+vNERRbyHLuw9O6XgvYTg7zxUxh89b9jsPWRo1brMrdo8x3X3PaSZKDzCJt29F/TEPYmZWjwS7WM9VDPWu36xLL2E/FQ72tvBvRdulj2DnXE9hK7+vP5jYry0gSO89fw9vQ99KT0LnXc9O1dOPUAdnb2UwLy9MnF6PSBjVL2P4iw9kv1Vu/ikxb2bxpa9d/ydvZQqGz0vIZO8twTIvIXIcT1vHJG9oAmgvXjdATyv7aC9QdDLvM7kqj0NLJo9jMCjvCsFPr2Pm2c8zewGvYElTD2LDTs9pQrvvNWI8DyHqSI5QYe1vVRw1zjhAY09iziwPXxUwD0BRfK899zvPRlE6zu4GRW8gVjRvUdV6LyBwga87ZusPaBM0j0D/RS9JnUAvYZaID1559Y8nsVTPYGkCDyWKHo9JNyjvYZEPrx+OJS9jHc3vZeOCT16hag84/OQvI3s9T0aDby7ArrkvECTdLy877C7TUeFvaAAcztHZmM9gUWSPZZV2DyUKFQ9QkWGPLaOxzz+mJQ9dXCsPWcoRz2hH4Q9SxPhvJZVTT1g7Hy7sVTOvYjf1z0svbG9l8fyPGa3krwFiz48lTWxPZHVgD2cnnk8s5J5PYP8Nj2RBiO9mrtEO/qBXL2A8C29IyjdvPxBILzTiZY9iFMNPaNRLrsyy368I1XFvO0S7r2c4U49YLEGPDjYGr2aRJC9WFl6PV9CKbyOAeE9P1OsPUINvDw6BRo6mT5gvTRZ9LxBzdi9IICcO+cJyj1ceAO83kicPaZoHL1+qqk9ZIQOu7HOdr0mVio9OjyDPZhkbbyiFEy9YZJGvCc30Tnl0Cw8fLxrPYw4nT2bMGI9pip9PQfydzwnkcE9h8fhPVwqZ71a1II8XT86u0MZbbz6LA69ATnCPW404L0qeQ+837jkvZqVpTzYqNy9BRx1OxK8PDxEQV29iNilvXU3cj2AcPo9QC+9PDDEH7tORKK9DYQwPOeOt72g8js9be9xOuXIVj2K8Gs8LKVKvSUJoT2PzVu7iSoCvYva3j2W6629a8LBvZQLWDyI0P08lyyivZasAL2XD+w9U2WcPU4Mob1NX369Tgf/PLhtBTy7g2g9RrG4vBTO/z0nK929hiFfvKiEwzqhhLK8tp38PKgfUDyqNF09QnRxvMTEjj2P4/i7mWvwPTl8Nb2FzHW8NiDGvRUokT2P/qu9NdWbPF+57j2K44U7LO13vSb4TbxMz3S9YoLwPSN3xTvIOfE9NY2CvXh/IT2DMgg9lInnPRs3bj1euyW9nhZ1PIDllryJDOw9LXqPvMO3lLx/EzI8XoCkOZnk8b0LPLs89uqtPYu0GDytZLe9S2kfvXPOiD2Gxhw9c8BtvWq9yLyjLhw7k7ByvQWDJD1mvpq9Mba5vAOX4DzQHiQ9odElvXe3qzw/SZc8yu3du9kJC72hukK9FbdqvIXynbscmfy8hblLPS7P/D0xRIQ8LA5xPNOJOLyWW1M9U+l3vTvFSrytFza9n56YPQZiIz1X9c09KjndvXIOor1BElY9YLkmvWNMer2YqAO7muH5O5C57D2g+4s9nKwlPQPqBDrFcgo9guuIPJ9JNT2L4hU9inVYPZEVjz2a1WU85+1JvYbiMbyXhGi80FRLvV6JWz2PdFy9DKN7vQnvDTyZKve9o8QevRmpab2dQ0C8i2w2uzKTzz19brW9IkKQO6R+prx/Pz48cVXEvK8Pa718RWm83eMPvDax/T2BHYs9XVJyvZboK71tJva9ntQYPLd2Ej2TOI+8UPTwPQFkAL2SPRC9Cka2vRlJpz2Fg6Q8te96PUD71b2H7O26Xsaou4Zj0j2bE4U9F0D0PMAf+z0AVh+9UUeHvShsC70HSYW8pMM8PVx+kD2Z2pW9pjY6PV4QBjyVFEw9MebdvQgjoT0OM7w8b0jNPCCX9D2TWfI9FAzlvCTvCj0yeRk9lJl0uzYteD0vJVy9GXIsvRkmyrxK/5q9AkNLPTpC3z2PSss8y/MpuzdUYzwtIHU9BmBpuxaaUbyRai+9GLV7PKcjVz2ZgOo9nFy2vJb1CD0t4T69egIWPLLQMLwLqkS9FwvxPJD3obz1ecS8xAC4vYczXDzWaAa9HhdCvTw2cjz1foC9VkjrvFGdlryaXmA9pxEdPX3ma72N1TE9h+19PR8Ge71MrrM9mNI1uyUGhD1fPVq9ozf3O5mR57z+2WO8owDRPQpQ4z1baeC9eONGvS8oLb2U8pa9gTaCvEEoBD2mEls9nXOOPaapBjsH2/s8j6njPRjtNbw5RBW86e0hvJtpfjz8M7K8/u5UPSw57rzFSxi9mr9IvZPhaLz4JJ+7oK+sPKPsRj00oNM9ncOhPYDWP7w+esU8lqSbPYUcx72GFFi8tQu8PUj7+b2if529hnFCPXEg5Lyqt2Q83hwCPaSknz19YHm9iZmgPOBJk7zHHCs8vT7uvCf2JDzexhU9d4p8vZ5cLr2ad2o9iBrSPKZUiz1Cd989BwX1PHcBdbw+zHY81oc8vRgUdT2JQiE726o/PUG9Bj1gcfU5p6MQuk/h8b2dwJm9Cbrlu2BQNbwyO4y9nTbUvZMohTz9oSi9OhgBvV2JEr1OSVk8KnQcu2zc9T2a48k9L6xmPScOvDyk1uo9BL42vStd/DzoRvq9RcndPZQK1z2BJxY9Zqp5vYMwiT2Dh/m8swxOvZlGlbzA2C69og5sPHsnozzr/x49iPPjvSjoaDyb1VU8FYzfvWIeDLukWYA9jt9mPPgierrcY+o9K/qhvJFbpjyvt608R52VPTS5u72Yoq48KXE9vZlfCb2gMSg7Xrw0vI61Qz2Kl2M8s9unvWmiJL0ts/K9Q9WoPXvHYL1IBLo9NFIwPOjCZLyq9c+8JcdKvXFUlT2mppU9ApTPPHJvn7zJ4Uc9kZNtvPvMRL1rfTY8q/XyPP2WcTzOJLo9lEIjvWeQrz2dSv+9kGykvEofwr0LA5u9ZJsRvR8CkLzO3Bg9Q2zHvYAxODzOvrg9G4RLPWV/uD0a6dq9VSqIuwYe0z1SrHU9lM9dPZdEzrwI8Hy9JQRHvYDRmD2G9Hi8cVOGu2pkqr2QS7Y9a9wcPQCqMD2UrXO8oDhnvV0q+j1cpvE7q9SsPPir2rvKTC08YC0ZPQDZmLzzoQ69hlvbvYRUsr2JFYq9elS3PYZjh70zJMQ84xnoPYCWdD2MrT+9PUr2PZDbdzzVdoE70Y7ZvFeJ5z2GAMc8LrjpvTPGfD2lNpc9o7QZvYFLur0mkau9QvChvUxN0z1OW7s872/UvWtp3DuZ8448WqMrPZIS5zyq5Gu9AM2aPYD0DLxxI+E9ieE0vVgikb2PWve9hhk/vIAwRD0r+dA9pmA0vTzNIb1UfSi87bxFvUnMLr1Uwyk9fXRlPGESsj2Gu2e9pK3rvRq4aj0Km3k7u+wQvUJxKryi7XI8VgLXvLlIfjv1r0686sGvPV4vhj0tKJo7DYmCvR7fmLwQWve9JsjGvWRREL1CBFO9SbeGvLrY/LyrBuW7yqq6PVXe3bzYkUO9GkgBvRHrS70/AgM8MVbDvZIQvrxEqH27HcbIPIlyNb2UHva8v8AQPUjj470Fiam9Wmc4vZJV+7ysOdw882hOvZOinz2AVa6817EDu9DQhr2jYse8V/McvXaeF7pPqmy9L4KIvVCEFDy8eCI7pzTrPJpnLDxuFty9SD4EvNGZ/j2HApq6TFSxvZ9ozDwKCLW9YhcmO7LaW701rF89VATWPXij+bzj9Am8SZZiPT4MCzv5Gli86eMWPQJ1uTzTzBy8Rna1PUqtez0ZE4o9n3G+O5WWlzx630y80rU8vPNp4T2emNG9K4DPvYJsHD2loRy9gvTCPU0Gwz0zHXu87FmqPTDAXTyJwz+9HtQDPRwbJz0qRA+8n4TLvWKBsT0aVTg82wu0vYtNyj1juMw8swRSPNApCjuBTtA9CkXiPXugwT1O8FC7qiZhvQpQrz1uis27xzsdvXcuQzyHKW+8w22LPXlHqT0Lk6Y8FUA/vX+gij1uN0G9oMdIvaWxGzzSUKA9SQ6HvEVNdj0YXCO7D8pxPWdYmL0D+OW7QXW/vUsTpb1pv8u9f0VRPZmazj2f1NI9j66JPPe29zzU3Aa7lUmtPB0H2L2e7Qy9JwIpPI7mHL2Fhuy9k46EPYGzX72d8Xi77xb0PUzYYj0yJN488DXPvTTOdT1l0/4881MevDto+T15L7W8ZV8sPEZtErrOvKg7ipw1vXCxuTw+U0s9kSTivY05yD1CnES8cAW9vR4Qtzyrd7w9iXlOPUrZpzzvEDI9Tt03vOfWob1DLqe9cpF6vK/rXL2JXYC9oVNivTc+JL2IWAy86Y2OPLAb9r0+HYe8dnsFPRSbYjyWmgi9o583PZxndL2Mqh49QGtDvS1qxz0olvC9pbwVvZvpED1HbZU9oLT+O9QyVjyoh769OL/NPKGwW7zoexI8oj9jPCRUUD2Ul1E9oWh8vRlSBrvAoOK9G7bgvRoPTD2dYVW9ECEdvPEUCjtbiWw87EHDPR0vcb1+cww9WC62PaMXg72O1eY7qr8lPTs8DjwJXqK9kNSpvZQMvj2W4F49lSayPJTm8Tz1ayY8XGWsvAvq5LuXL5M9EYRSvZR4aD2C0RW8D2W6vFdy9b2nJbe9DUaBvWCiW7tKHD89SbZePPG0az1DSsO9bMD7PRu4Rry2YVG89XRgvVFzq7031bs9RSgOPBMcS7xm+JC8yBUuvaVBnr1pADk89noQPU7t7L2SAmq9mnA2PGivGj0njUC9Nw2rvZa0fz0hr+i9iz0LO9XvP7wCwAk7lD9BPSqm+r2KRcs82KDxOzRjFz08HOs9DPMePWeODb0xcSM83LqBvYo/nbyvf+49gUHZPVUFJb2R/xo9jNAbvYyBnD2HYcS9lL9cPMGBv7wGqeo9DnP8vVdVyryF1AQ9Uj82PGo6VDzcjM29pwpGvYklnTx0OJ29LkRQvZCUMr1NGaI9Zq+ZPVKf5T2CD8c7G3HsPU2pnLz5lK09I96zPUZ6x7yAHx69jn6cvaUb/D2F9oU9FQrmvT16yrqi5Ww7x2wGPNvHHL0rWFW9RT/JPLx/PL1Hm0k9ZrnQvNOgTr0x0ZO8wx6CvHznsb1OxXc9mR8UvQ0N8Ty1GUC9nxHUO+N8yb2F3JK8mTazPUvJ47vjA8e8wIYqvCqLv7r/2RK7dalYPXXmybwXK4g9nFRkO78DPz0QRcS8OeHVu1QhBz0j8Ae9AOoPvX06oL0G9U89idkFvMbWPD2MD3u9gzvvvYFQsruaExM8ngl4vaQi/7uOG2o9jxpJPQku2b2MF9C9jxCmvSKEyj0s9Io9jtKSvZ0pxT0G/+I8AcP7vQT+Kr10/wu9UrjCPJMSAryOG4Q8IaXOvQjmkzzBuvw8AL96vUh2KT1KL2+9kUOkvLuTC72l95Y8DI+JvJpGNb0DxHc8TiKBvYmwK70dWkW9Skz7PP790j1wFnA9BFw5vW4tKby2X8Q9FVSTO+r79jy2dgS9lQuSvKxLRb1xt8c9H0i7vWOpbT2ga/k9GWjLPSVyD7zDil48UvZ5uqubw71U/Wa9K+iJvQfxPT2cb7y9iKASPSuZ47kwSBi9iTZ+vOpQ4jy+jry9AaCzPZyHpT2igHW9E1aAPHQtwb1BEwM9NCpDPVDMJb1N4ka7V5/ovNePUD0zhUS9WqqCPYtWrrxe8C09kyi8PUExAr2Pun881BOYvQUBrT0OWtu8ejNtPVAohb0X/nw9I8zePTjH6DzIKJK9ZUdXPYC54Tvcr8W9nZrZvTfkorxYtlW9pBNjvRR4nz0pXT888Y/cu9n+zzutaai78fMbPYhEs71e/WS9Ah99PTAvaL1RvXG8326mvSwWsjuuxJY9KNMWPTAUyr2OR3c9nqjzPXSz4L1Ywmu9ln2/vPqLoLw7axk77mQPPS2aA70KY1S8//p9vRj8Xb10HCk8nalTPOsVVT2YYBS8leRnPRdlt7wEre+9NAO5PSxGg7yLe3u9j+x+PA7bdDz553i9i/vJvUVMrz2KXGs8pIZDvY+N7b2PEw68O3/rvUKnujyDgYG9A7FZvDHM1Dvo7sq8UyrlPX7+zbs7EP+9I16fPRGMWD2ANJS9G39tPXl5cj2UGdK9kqVevGShvj1a1YQ9Dph2vZgUWb2ZVWC9gVtZvORbDj2Bx2E8790zvUYmwD2eReK9cUtBPYnZk71fiai8lTkaPSC0kr1PMXo9QxttvQT5e72Yyqs8digwPZDu6rwEV6s8+BllOv/YazwASIQ9Ft10vZTpdT2daQu8twtgvY342jyDc2u8VwbwPL7qKT2ZDPa89ngFPZ7FCzw5fqs81rMKvV3ZX72iokA9U5e2PXq8Bj05Us28rZ/PvK9ARL2a40w8A4RxvX4sXDzKYO88gO2XPRJQLrwwgiY8z53EPQDwWD1Z/R07CFRVvZo9J716K4u82HoDvS78QDvfVy083JboPZRIaD1Mqs09SHXdvZs+bT0QSna9PFYWPRVkkr1Lqcc9n+RDvSVWgD0BIgC9iYRlPZIWiD1K72c7JsoJvQciUjzYvW+8cCU3PZ/U570PKpM9a92XO3ZTLTzCPaC9gAbYPZcmybz8j0S8gxotPaO0vbuI9w+9plsvPYGhuz1heOy9me6bvWiHpb2NgnM9lx7gvRWvsrvXQtM8gZWBPLRdET2GpqQ9KcqbvXgwQTts0bG8hQ+gvRxJf70qqhy7/6zmu2JF3T2WnHo9n+G0PMk6OL0fKsa9KxpRvVAG872coSU9VaNaPLDarTxsc/88MB8wvOct4Tyre8K9oAICPSTtH72AqEW8q9kLvZLqU71gnZw9iWFrvZeHQL2g/hu9KffKvOTcvLwgqEi6vJ5OvUIb9zzqZ+O8C6vRvIHHBj1bFhW9G221PA3xsb2DHA68P1W3vW3iZjymdxC8tuxOPSxRYrzjCEA9ccXXvPZFpbwG9gM9lsTiPYMFkr2dYHC71nwsPVx2tTwCgpi8P0C7vNXnfT0WMH25gVFYPYRv0zyZoKQ9JZE6PYPOCzv81AO9XklbuLGwqTwx9506RDWRPRf4172hwX09T17lvSCVPTyoXF69G+/ePQgsqzwHOdM8x2p+PZFKyzzsEoc8RHlqvR8Ifj1gVXk9lceKPZqJQz18GlK9e29OPSvC3T00wJ69IPpku5SUlLyq2lE9itkWvVTzojs1dcI8i61zPPWsiL2bCPM9g57UOZoX5L1MpWK9FjhuvT8/0jzEM3y9OHqIvWC1ur2WzN087apePT5Bmz01Ym09C1VZPDOZIT1u1d69QGTQPUprFzy8zn+9hzfvPMaHMz1+SSK9SavTvXcvjL1Oc1G9lupfPYalGT0lnV09Su5FvJ3bkLyZrvm9D+EVvVRTB72ekik9ieE4vDwGMb2cW9466rs2PO29FrwqyJ48lNr1PGdVJzzP0XM9lAFMPZ5ZA7wmaEM9PMBAPVPTLLy4IaM9nIY8vZQwir1gTQ69gSvhPQnXfLyFF1K9ippLPIwhvb1cCaQ5G24rvMLfzT2ao/O9KeLju43qWD02UqQ9K31hvIteKz1la849gqk0PX3OgT0r6cA9c0TKOrdD5bpIdxm9gJq3O5THM70Oebs9bx7qvUVZQL1HqBE9UReSvYTmNr0aMSE9Ty36vZC45T0safa8xQj1PZkAWD1uO1E9C5YbPSgq0zygL/M9gbK2vX83pD0DznA9Sj00PUvEPr1D7ng9XuJlvO+1O72DuCw85qJnPYxrID2ciyq9lt/4PQTBNrxVr+O8ATvfPWvg0L1xc8s9oAsfPLM8mT1/xku83/x/vZJlVTw869Q76rRFPPpI4b0hqlO85zvCPZf/hbzoZBG7yX79u1a4rT0AFzM9CbYUPUCbZT2WCQy9dFAMPSpk8j1R9BC8Jdo7PU2wvL1fWaW8nprtvPcpjL0fQEK8LzgfvBGii71UA+E9h1+8PQuKe72ZXU48nbhpPWlCzL0S2D284KmNvOZZGjyo/rU9FIdSvVieYz11hL88he6nPaS1Jb1isiw9hMgRvRZoIjw7/fG9IlN0PLBhh7zxWR08dZk4vEqsKL2mJ0U9CplSvYE/l7zJtyA9YctrvQCpsL0g1to8hQcyPYph7r0d/im8SO9pvVCm77v/CGC8IMFZPNxnOT2Ju6O9Gns4PZD5br1EM449ORY6vRgmcb2dRTS6csr9PBPyYb1+zXy9FAnaPX+ZfTy9dNY9mdObvHZF6TzFbRm9RCL9vRXoib1Kdjq9MxFoupERiDyldI89l7FFPZKxcbyIygc9CGA+PYN4fD1i0M29PglzPW80rb1P1SU8F586vUwv2T2P5729dBPFvRoDcz2X3Me9CWQVvNRoLz0VMQc89owmPSW95L2mqeU9gnb0PBzNd7xbiMW77bwwPZepXD2Zdwo9Sn2lPVlgKrw3K1I9T1ehPGDaJz0vm669isrcPNACQb2iXNo9n+zDPZbkvDzDGZE9lxnHuy+ewT0tWwo8lseIvWYfobtN8Ig8pg2svYrmmb0MXOU8/GMDvLIC5z19+aC81ytvvXLMeD2Arns81wEJvCGIqL15ABs8Ej5KvXL51jyDFNm9kIicPUVqxj2ax+g73se3vVMZUb0bbLo8NT2VvTDrnL2XPvS9Y8K/vQKmHL2ho7C9NP5OPZsXBLy20t+9gTbCvaFtGT1a1aQ8whKYPObSbjz7VNC9kBv2vOfmxjyJQf46VzfjPVz+ijykszu9JJpmvY2hAz2cKG86PSyzu2e73rvBzRy6/VeiPZ+tfL1EANq9gIRdPVCIjLyqv1881VHJvUaEarynjkg87aRzvEcnej041XO9K2gcPXUal70AMWA89CPbvYYqYj1QkLe9GdW/PTyXBDy8MN+7nO2Duw9Nhbxca5e9Xc1MPMRJBb1FM3w8z29OPYK7VTzE8Q69JorkPMtv3j1arHi9ApOOPaRmwz12zT49RX0FvXoetT1LIWq9LDgsPLi5i71RWr+7ST2svZdlEb2A+Z49mY2ZvZAIuT2L0089M8aRPJWy0j0SpX68I1UJPZujXD1AkwQ9cf9QvVFp4rynk0O9crdxvTIXpL2Jf149Ijr4u47kcDymVXu9U5SPvTXgdDz2bae9g4hsvTjP0T2ipiu9h+NUPFTRt71W3hc9Im4nPYSFXjzbK7q8pf5nPNRiBbzksFy9pATZvQP78D1ro5u9e2X6vI2Vlzzy75y9h0vfvFoDQr0EnOG9FBtMPTVujb2Tba69oa8CPItFSTeftO29RkcivNR0BjyHf247w0JqvQB7uLwNiim9k0Q7vTlkUb0mqqo9TxS3PMy4U7y61KO9cLD9PUGg8DwHoIq9OrmUPPihdj2ZKfE9CF+XvSO+5b0zwCC8rjFkvAhzxL2aI2W9YSA2u86caDySdZG9iNR4u64ywr0bNna9ot9uvLEvJLzI1SO9m4zfvQ07hb0zPVg9PysDPS3owb2PFec9G6dFvIYs2Tx3Pcw9IeL4vV0FLzxXmHo8UW+JPDIPAb1gnPq9W/k2PXOVjbwFUFW9gz93PYzmIL0MM7M9IA4evNA16zwOXKe61EXFvQf6gj0OF749BjuHvSMYIz0qBya9VQ95vQB7qDxyZu29ohcFvG0tjDyE0cy9kAzLPYR447yIDr+9ojaZPNYlUbrGcCK9UKC/vXVzmTxefVW9SjrbOokugL1YvFu9n9CHPRdyV71rBKK9k7tdPYK/ID0jGri9nibevFOVsT0NQSC9ZqxXPVe+m71sGvC8gvO4vY93GL1WOdo7sVd/PQWKgr0YNtW9Nd5xPC0sn7zHGxY9lg+zvaZIKj0OTv09bfLFPY1jPjzHvgA9W11kPHHJWD0ysIe8oQzgvU+txT0wKaE9CrLJvTjFQzx7cYg9j6qNvZDAVr2DDPc9DRGGvRZKOL2SQfM8JYc8vNYRpDyKmyU9ZYihPaDteD18vDQ9U23BPYvhoryJwxq86CdsPOVIKr15zd89WEeyPTminb2mPRa7I8fBPQXYvb2DRMe9Eq2rvaKMITw6amQ9eNiZvYInbzzB8oE9PWe2vSc3jT0zye89Iq1xPTDhXzy9Cdu9GBq8PKm6Azza/649bVwwOvB+yTy52Vy8/6uYvZZk1r2OP3i9fsMRvLUQdD2RVsu9Eu/rPSiyzT2DbvM7B+JZvJfIbD0ui4A9gJhLPQKnmjysXms9SE3tvP7RHjzSfH09ZpTUPaFM7r0Nws69CI9qu3qf+jw61DU9MltCPXam8LyEK4Q5MC33PSB9bT0M+0Y8wG2HvPc+WbyQqry9GnvvPSHKFLyNxaq84Ma+PYprpjwHDjk9L5xOvMiirjvCmXu9VEP0PAdC+L0uRWo9DuGsPO5WFL0IWEO8ltIqPQ8MnD1veZm66aJWvYuavL04xS488TcrO+8rSb1mbn49l2ilPLDowz2eIya8sxkavXXkJb093iW9jL/JvKm/uj2YFwm9VCySPH4JLjuBC4k8wGmrPPYmk71XriU9HCeYPRs9br11T787WHjFvH1xWr1AfYq9m8KVPMJD7rsYzwG9UmcwPZTwcT120V69psOiPZlyTD0pBf66oQ7LPTxG4D2Lqkk7TpQpPU1ZSj1k//09ncyiPY2Llz11N8C9RNvJPMHv6r2GuSu9HIMiPS5x6jt75zu9poQQvaOU3LyQgHE7/KkmvYCc/Ly5Zsk82LABPJDVDTwvh8W9VcgqvSBfFT2HWJC9ge5QPaXQOjuVrLe9hHF7PVyO5byb43W9Q197vGpYfzzL4gQ9ZIFhvXdzdr0L6BO9VISeO8ODpzvGxXU8r3XTO4di0D1/LCM9WyI3vFCGWLz1b7m9fQ3AOoBcub1xhLq9hAYFPZbjc7yRWeo7v15JPVAZhz0SADI8zvMUvYy+cz2FnLu9FE/MvaXkXz0Tb9C9YuUKPWXdV7t1MAM9nIrRPSugOT1igMG7v1zmPImMgLzh/jy8ncMrvYu1yD1VL/69e/Xlu8aX5b1rcFU9imDVPYAh8zqnFfm9OTu3PXYPsb2bNmW9oYPhu7ynCjyM+2A8fcAFvGMbVj2YesW8BfKdvS8YQTzOSgW8lLXEvW7HNr0MJD28wG+mvS3zED1rzig9kXazvYnGYb1vfa69Fj2VvRCmVrvg7oY9odvFvUNcH72OPHm9Ix/XPUflQLwnkyQ72NM8vHnqmDy6xOu9lkFDPUyHVr2UOzM8Ry0nvMvX2jz99lG9iluNvE2/gbz/Ekc9DqIbvY+SWLziM508Qyc5PM4LBz0mZW29n2dHPBaN070cbag9opbgPHgvR71ud9K9OFL7PNm4Kb1D8+a9j4CIPQVMpjw8Siq8c0c4PVCjqzy78Fm5vnvKPHoxGTzJPoy9I0QbvJpGt7xDX7o8tbRIPQ7p5jy0Hvk86GuEPZEoL7wJlze9Ng3PvST81Ds+NWk9S7y0vT+tLjzuPEe9DmBOvZdP8j2iZ4Q9oAuwvRhb5r2kxDQ8zhhrvW3m5L2SLWY9pA3tPZx2Zb1JoZc8tl0NPYQyJT2kK5k8uob4vTEwt71Zzio9edZQPXN837yJp0c9m9b9vXqB4T0U61I9oETcvXJlgr0tYBg9T7MJu6nwVLsfhZG9oE0DPYZ/8T0zrRU9naITPJOnTT19Mfu89D1aPTfb+j2ROpG9m7PGPZV1erx6RNE81TS3vX5KrzyelKm9f1z8vZ/vh7zTTKg72MEHPYtu4b0pGkM9CH2BvJxYPLy/qeq9nl+1PaJp+r0REJg9ax4uPNA+9j1B0qy9gfR2PZZmELz0/To9iq1KvCdPnr2S55m9A5gKPUsjLj0DCOg9GkNRvTF+Dzvpk7m9oCkvvTrSiT10iQq9D9QHPYiybT1pOEs8On5vPMxl0buktTG9jvl3vZgidz0BdIe8/uQ/vGMEbz2lPj49Rbb+PIaB3r2H4fq9Si9AvL+oGbzwRBS9UKKOu/brC7xs2ZI9pHqAPQPYnTzEh4C9nA/MvZulYr05S709Zg7KPUAqzzr2+uI9ihimPURW3rxrijy9mDJ3PUR32z02N1c9o7QEPVNaIzzKoQ29kYuQvTYnRL1AZfK9mDECPW9kuj2Ezm29kJjAvZDDKbzbRHM8WreqPVu1Kj04Eeg9R4ixOof7f72mux+9KNF7PQpKertmFhG9kFCfu5tQ77yHLq49JgpbPRyClbwlWnO8ZYmBPBYqdT2gwtq9QR/kPW0m7L1g/im8lhsWvRSXhL00cMS7SHC7Owc7n7zOT5M9ZSxiPYphhjz5CB69j5IoPYV89jl5lSW9MPIsPYoBlbyALjk9NDrbvWGf5D2Vaoe9lpjsvUUpi7pElj08jquhvWEdsD2Ly8g7iNXUPXrtfjvadA88qZS9PQJ4Pj0c1iS9XTqLPM+6q72hDKY9gNxwvJi6abwGOle9DroxvabCjDuabh29Daq1vOcPDjuB3ge9LXjvvT5O9z1nYAC9Yn4MvZcALT1zNpA9BByJO6u8bD2Ssq+9fzsxvQ3Dzjuz/vy9CMoAPNbaRrwQ/Yc9l4q8PQsNn71QCqg9gHyKvXJOgz1sM7g9HazhPZ+8irxdhg87L/C7vITRp70rOAI9HFtHvZXXjL1MQ+c9KokTvXxGq7vnd8Y7Q7OUPWMYsbyznHW9dy/yvRRMa7yI8rG9dSwovUbYmL0CIfA9ms2AvYUDSDyJviQ9R/15vSkP3T2ZPzq8x0favZZRWL0xE1w76xxLPHzWqz2SX8q9Fs/rvZ0JUT2Daf+9MZNMvOtCm72aHeY9jdk8vV2Gfzyf4rC9Z6yPPDExCr0XlVS9GoLfPZEQEDzXfRA9USn4PYtF2L0Q6SU71wBIvQG16L2FaF29DkLFPY3am72Aj7M7Qyu3PUBhQL10vsk9PNtTPEPHIr2iQS+8qbWPvMCkS70DkT48wD9LvSLSRjuqzxE9BcpCPT62db0sDsI9MkAePR7RZr0cbEW9jI/WvF+iarzwY/E9KMMFvSk0o72LVVU9oGWBPZiKPrwNsHS9lEeWPC0bmb1Y72g9jsVnvVZynz0yQU25nXdrvXSTfj1mSTs9kMXDvWEAn7yHC9A9BUBcPZWFiL0l/ig9b+M2vWrmYDxtw8i9X71MvToB4T1Z1rA9DNFJvENsqzxXauo9iw9svVrA1LyhweQ9gOelPYwBnb2lV369NbzOPVmPr72Xujw9hSEsPZOQBr0ls6c9QXaqvJpP/L1C+LS7025gvZhLZj2WSGc8qPC5vXcxND1H8yQ7aQrLu2o6sjyUH0m8Q0oMvS82SD1BWv+9mUXwPUxX7T2Xk2S8l331vWCFeb0I2xi8qFnru97phb1gb5y9PLz0vV8wuj2J5vI8slGnvQfmZrz0cow9UJkyvKUK8r2Q+ky9nxnavRf4AD2bGjA9ik+LO9m2tj0kXJ29BOgmvZbE6DzQDSO9QhFkvR5+VzzT9dU9BqHNPYHEZr0b8PU9nF/GvLx7LD2iNaS9ADAavQ8D3D0koqC9R+ikvXVNDz1hiSs9PG7/vKc2Kb11OxY8RXo/vYOVXb0byCK9pL5XvTo2qDyPzNU9bu7LPZaTojxAi6i9dsQ+u+c3Wj2ePFm9oKu5vRshwT0de2a9ZJ+2uy3j471OZWe8D1TevYdYvL2hsss9GMOovVuW2L0/N2m67tSTPZlpPj2bL0y9fON3vabvWb0ytmM9mpzoPQM7Pj2FIqW9ThdmvTkXVzpp/XW9b5civaURArxJ+Js9oA/fPaZW3L2lA0G9McRwPHPgwzyoshm9BxACPZS16TwO+OQ9VaJ5Pacf7L2QvQ+9jLElvSCKhT1Y+HA8VQUIvVJiDD12S6A9RB7MvU6OsL1kKX49bmdmPKvKxjyGJoA9MdcrOxNfsjulHUu9Q+snvZ0eMj0mPg88h+kwvaDCmT2UP0+8qyziPJZOXTzN4C89gcbQPQNp6rwvqI09mB3qvMR1EbquAmy7RzaLvY1kJz1VsZw9QOACPB1MmL1rqsA73r/hPFXuRDyC3Gi9O3jwuxPNmTzqRWk9FwnhvY9P2bshfS89Ua1/PVVkDr2hbJo9iC5QPKZJGL072n09bOzEPZQDkL2i2gy9C8XdvZC94L1zxZC8O11CvMdawTzZxqc9KCmNvYzTJzyQDPK8rQwBvXayFb1aNBM9TKp6vQlBIDwvUL08rKAavC+QjLwKgj485mnmvUsX/DyM7NK7rvRau1zLST0TiP29ovxwvKdP/D0SN6+8c3nCPZWI5j0Difm8NblIvJqdgz2ayeM9gg7MvSuFqL0l9Nw9lUqxPRTKAb0P7CW74e9QPGGgHbrHCp29U4LpvVAh4LzN2gq9bZghPaLvvD1xGq+8X1+WvK+T2j1Xlx48nHbAvPYVx70C65O9nbcKvV4u+L2Ss0w8m2k6u7Z/27zivMQ8F1jEvWFWJjz/zDy9KU5dPaaMn71D/zI8JwICvYpaOLwKIss9RZT/PCG61L2bDl68BrU5vYGXAr2YPym8KAH7vQSZNznKuIY9PIm/PR//+T2aei28l463PRZeAj2eBi09gVq5vZbQlL1K4u69hxt2vZgeWby/Z2m89LbtvBJ3u71ZhI+8eltaPBU3yzuAQfE9KLz1vIWkuD1+Rxq8x+aKvW1zRj1LEUc9YMH/vSDwWT0/+9o8ibisPMeRnzsry8Y87CmOPVoxVD0SAF49hbX2PZhI9L2Q+8g87O4wPXJFQr1dY5A8ihusvYQ5b7zbU529hs+/PCRqxbzKzW28xxALPVDsFz2aLpu9FedAvB57t72AiAa9PBLYPX42BL0QiI68uQeQPUMSCT2MeFO9msXnvLMHhz2V4oO8nB80O5agMj1zSgQ9PMWmPUfVsjyTqdu8Eb3vvPTXlj2NhQs9m2sHvZ3UBb2LtOu9H3pAPZP4AryP/JQ9AmfavRBtBbxLvYU9Y6ZGvArYGb1gCMG8wXf+vIavvDw8Q7Y9WgsmPMmOVzxEqHI9hLhhvaOfujuK0oG8c0VXvYzwYT2FWLG8l/CYPDpGYj2OkoW9FlW5PYZINryc8vY9lhxzPTWpb7tH0vu9mw2tPYpCZz2ekRU8cUpMPIsVcL0ZQiI9kAa/vZFtiTyvCH+8ktKgu4cUgr04Xoe9gJEKPQzz8j2FBwK9TSZEPUCJrTsimVO7/POdPQi90L0aM3q9kbCVvDEpp72Tg+g8cxIQvUSvDTznxb89i6IZvFhkW7znla29hQV/PVNa7LtSY2K9i88hPZ1vMrovGFw9oLRXPTlcsTz/BCy9CmOOvShR/zxKY4e8h3jrvDhUpbwRsso9j7uMPYoLZ7yMoRc8TZbXvPd1z72eJms9gtLbvBVXmTxym5e9aoZDPT7hqz1l/PW9ZwWbvRakHT2Gx8s8oavoPN6YQj0U1OM7kaDUvZjDCr2asUg9oZCvPM/5hT2K4SM9WX1YvM6YCj0MonO8GppovUOWRzzVKTm9lJrqPVXihTxgosw9k9THPSQ6XL2bXfu9YtT5vAf8rj1bGWu87PSOPYeOHj2h+Rk9jWICPZTYEb19V0G8Mv+MPX7Mtjvi3eU9juaWPXZCTL2b3B082uoqPS4C9D0+Wxw9hROdObhB/b2gB4E8kW4qvMcJ4bwhVke811H0vVjDGr2KfBy9ga+OPZ9yXbzvk6y9ovt/vV/Lf7wMUFc8QrCrPVsf5L1YyN49IA4ZO6IAZT2MUJ89ZL+RvZuGtr07hyo7a4KavWAcUT1Misy8yiuOPEmbCb2P11C7BITyvVIblb0jRQY8V0VRvZJ4yD2Vj209iMRQvZnfEL2ITzG89zaIvY+36z2VsxE8aAMwPBEu972iIVe9UqPjvNBZBz1J7vy6gLSUPX6Qzz0FpNK8RXAUPYwzWT2liPq9RWT3PYbA7T0Jbz+9SiZivOuXDj1iHaY9jek7utOfiDyHtCi7BvZhvWhwPj0zBAE8AvvDvVo7Dj1jdDY6tXEwvWBqOb041Ag9DYdlvW6waTybZIi8g3qFvR1V0rwIuNi9QnawONI6Oz2BAbU8tg3APTYkt7qmKdc8ksdcPM+GuD0tli+9GOnHvSvrVTsuIR89TZ96vMGtXr2aegG9We1jPYIRhj2HOUw9oK8SvZ0URL0AiGA9aWQpPTadG72AR289IfG4PYauaL1zTsq9lqf8vW4JWT2Ql569UJYSvMUlKz1yCC89k6YEPYqYR7ttzNi9kfW/PaZVF7xUCQW6V/sxPREgq7u/Yy+87EJ1PQ/iDzyNuJS8tE81vRZ04TzsBKC8wFSavZlpFz2UpTo9L28KvUQ9Ib0mqje8V7V2PZYxiLyDBzs9B+wBPWYO6TzOq1m9neIWPTEiB7wihPQ8mRlEPWx5ej0kjcQ9h3CGvZfXLL1u+km9j01KO4gqMz1YwVa85PXiPDXRfr0XNe49kJwdvVO/ozzIRu28DbkxvNC4ybwT+Uc9k/isvU4/Fz0BxgC7uwXkPQ8GIz2jbXC7xCm6vaXJAD0sXaS9QURwPXfbVz2DYFm9KxF2vT5jOTzDTm8777c7PNcRrDz+1uC82g4pPOdEvj0mccs9M/GrPOeBkjxauFG9MvppuicsLj1jXz09mVx/PV3QQj2FJTI9CUgGPFXwt70NbOu9l6wuvVk4Yb2Kgm89ff3fvY4doj2Hpyu9E4dzPM/uw71PZc48u91OPZ+1WT0DpLI9dIs5vaUIPDrHrEi9B2bnPYs9+T06a2Y8rWTMPQtter1V5YK7X+hZvZu2Wz2kSnM8Ssi7PWgba7zhWAS8FGLvvWO7Ez0zyOK9CKwBPV1L9L2FuKw9gT2vvFlWfby2KLI9FhhFvIedW713H1o9GsnjPQn1Fz0n5jA9h/F3PRgm+b0jm148kIYYPPs9Nz0l5sc9Ay6JPZm0YLz6u+G9aVCyPZkVwDyBKbk9QSMDu5qw/L0diYY9OHAnvNRvzDzjMbW9PwzFvKyU4D2PMM09n0bOPOem8rqxVtg9dzCkPLLAiDyyqHc80kc3PZkOfT1OjlU9LWuTulOCyj1umZI7ZbXiPBd8Crzi1fm9KCNYvR2CAzp6SW684tQzvKUNAT1MLcw6omQXvNHY8j1EBfw9Q4KfvOwa6zyzTPM9nA7MvOaOirwlTSS9U22CvRsExDz87Y09Mf8qOxkNDz19El+9HEMHPMlr8rrmFBs8LJsfvJy6yTy1Ccw88WjqPJ+6DDzIVSc9mwmHO/vr4jzQPok6n9KlPVOoR7yiS3m8nRZgPCLAWr2c1fe9jDN7PZ+S2TzXVqU9GxPkPaKa4TxEhZ88ovgUPRAioz2ALBY843BqvUKjhj2m1k09kWZrPOA89b2Kj+G9je3oPFuA7r1r+p09JJO/PRz5R7sIjaa9lJVhPX0cEj1f7Eq9kw4uvBgpqj1wOco9m1ZwPTg0ULyxaIa9MktOvWEOWT1eFF09EswDPMvy1j0r6K28UoQAvaW2FL1xsR29M4cDPZ9hO72AMrK9ipUkvZqLKL2jRdO9IL8qPOyKk70euSG9jqvZPXQKxzwTI+M6+A06POZOYrwMswO7QhZuPS409z2Vhn29SnBZvQM3Fz0uuv49pYlhPZEdDT2Yoci9YJ1yvWx4gr1R4FC8lBuyPJ9P5z1SxQY8hVfYvB45lT1C/i89IsdAvZ1y4L2jMCU9WeNIvR4TOj08BFW9n8+ovHWCzrqiMXe82ElUvZ31uDyh20S9LLmPPCC0272UiNQ9UsfDvSob1ryoIu281guUPYhB4by7DWw9BxksvWXl0r1A5zI9MGZwPQCHsTy6ScU7ELDcvWgxcT12S889DJyNvXs3y7z0t/i9jR4ZvF+gdb2YQTY9kIghvZAev7zrlQM9oJfFPM/oNrwPyFw8nrbKPSYwFjz/x489cIJgvVW9Rz2cvLc8DD/uPNypKD0hp0Y9ZaotvTXH3rw2n709i+0HvTc11z2MPNe7qd8ZvUmY1b2VHK09PJXlPQx3Gr1xpaK9lupbvVpbUTxbiWy9paxJvGeGbj2i79E9Q8MIPUmyJb2TsTW9bEv4PZOqKL1Z+qI9JGxfPYGKAzyDziE8XRO1PaIkHrzuf568bjGaPR+n/jywEga9jv0jvKaUZT0XW0m9pYjLPISWxD0Zp0Q9mz1TvZGAaT0okAI9Ta34vZWPSbybIgK9ggFeOfniOb1dK327vSrnPRBojz1Ti1g8GQrQuMsK1D1ZruI9kFwmO6V9PL1Yopo8/aicPUWuUbudtAC9SLUFPU21nzyzqdO8iaI4vYKV4zv91XQ9kufIPSRdTD1ooYq9lSEkvMlZmD2OQzc9BmOLvUDyszuXqok87TBnvOp0yj0iJOI7o2gkvPyyzT2XjrM9YH5zO44lnz0yp5Q9I3WQPILF+T1lLXe7WhJTPYt8wb2XAfM8iR5FvaRqNzyN4No9XTSqvMD97T18QS08ja6jPJpoJz0iGGu7gIz6PMitlD0tv2E9Qg48PYq1l72mblM9dKOZPZWru7s83IU9GWmKPUk8PjsqfdQ9Aq5ROwlNsDysHu+9fS74PGtuTzyHbPU9oHYuvXS7Aj2Afho9lw5nvTlJBr1v9km8I8slPNLhXjn2qJW8qTHSPZ3HaT2EoYy9JRKCvRExDD0jOcS9HI2AvUOX8z0X8Nw9FHcvvZeddDxTlyk8pVcVPQm/Ejw6cEU9iDJ7PROCRL0HKAO9m0KRPWewoT0536A9c7eZvPtWkT0iRp09mHdfvGLWV72lGsq8jvgovNBrlTyuyIG6+Yi8PNLdkr2C9449gGUlvXWwa71W8889G80bPScOn7x7l5S9nbwYPXNYAr2PfLm9Sg6FPKNpgzysHuU8C/ycvZnG2r0Lwwm8nf0ZvXHJ4r0W0tQ9gBnsvUnLvr1zOJq8e5R6vXFlbL0qA9+8iwTDO8THJb1fGGa9BobzPA4COr2af0G69UbgvaI3zj0hkvG9LNwLvYbqhby5PTQ82FmzPDkeSD2VwCa8KD7kPZoASz2X3va9khAjvOAuCTwxJvU9WyKlPZ0VML2HLIo8iW1pvV7cuz0SdQa9mwn3vAmSCD1g5em9P/R2PTQNMb0etOo8JOkKu1vKajyAzUe9WYEZPHCkWD2D4fa9k1NsvMa/Eb0Fiac9m1qzvYngmr0d9Yw68gAsvY6GMT2K8x49dgScPYMVWj1Lnn68IJf+PPRvfL2Zngk9gKZOOx6SlL0lrkO8nJ5KPQbWjLvYlIc9hwgNPP4mbjyFA6C9cyN/PWXKsbyOvOa9U9qGvQypN708rre9nNZZPTCz4jz/PpK8naHBPTmlKDzYbvi9aEB3PSWOab2htKW8lmA5vPZecr1CXqk9LzrdPT261bv69U29BdfnumDnbD1y31Q8pT6mPIAPezz6H6+9mRjMvMX+yLu8QwU9lq2jO9era72jw0Y9i83LvRBbJr08IHY9MxQnPMB8STw+Rlq888QkPLgfBrynOTm8qeXwPZ8IKT2ilRU8covfvNdDHb1u5f+9A4davLN0hz0AMzK8r64QPZU/PbsDQz+86J8EPTMvBjsWoNk9nlNFPZ5B/7x1+vS9mHX1PY3ocTxkFaw9o64evZcU/LugxY49jzZfvDEW/z0bLCK9pV8KvVzmSr0lfni8IzGPvRerHj0qRqm9prHovRIlxr04SuQ9ZNAuPZQnd72GM3C88OuqvWSUKb1a5ho9WhxYPNRElj2gaho9iCaUvSHX67yMs9o8u6JgPHRvkb1HzO47F2ZHvZyXHj0irre5pItjPBp7LT2gz3O6MnP3vWKDTr2b3ss8uKZhvVDEc7xb+bG8G2DHvCs+Rj1xz7m9HG4MvPtrsb1W9hu7G8GdPYSsJT10Ew69akR+vUj7o72ERfA8kqV5vYdfjT2eYTG65h82PYGZjzzzDwu9bBuiPAJV+Ly/vMw9RLO/vSus+T0Rewa9Up3DvMe5Hz17u8W8WOAOvW+2xrzsX8+9cOWqvFxqU7zEAgu9AvYGO3YXFb0Uzmo8un/8vQRQ3Twaa2s9YoS2PCX6xT1gxQ+9DxKRvY+03TyTqbs9Nocsu+3yFD2DaJ09QOjJugMsODx01zg9oi+ePVGiNj0i5os9MNY8PVGZ8T0Tkag9nJMjPRUlib1EY8c9jKTlvUsOGD2FA+q7E7cQvQeTBzmxiCk8p/s5vT7ISb0JpKi9KbDovJvi4j2Eb8I9NVykPZ3mqb1glVA9g7zGPUTd4z2W74Y9HEHNvBGvur15aiu9OmstPaDXLz2l5448nwD9vaZ5VL2YzVy8jW9MPNxTcbwKRka9MSnOvBYtWzwGw2S9bLTMPZwHwb0H7Pw8Ja+nPV0p7T2Rs5c72U7vPX35CD0eDlk81eX1vYAczb0Ttni8EI3fvRYW2rx3Cs49C+0tvSvZvD2lRSU8v12dPRsg/z1ZsNO8sQciPXfs4L0GJWk9iHm2PWlxoj2R+IW9HYfpvWspnb2Ymdo8SyB3PJxTNz2gpSw8S7VFPU4JbTxwLBO9XBXKPY/nzrzdli+9HgpevXV27T0/nh49HiihvZ5y3LudGoA9ZAllPCY0ajuWQ4Y9F+Jtu9ro5r09Gvs8HHNduyVXWTy2OT+9PjjZvKOiTDwmcV49pfy7vR6K1bt+UVG9fiQlvYeOjj1KsWk9Y61oPLQ/4b0ixwo82NtCPIwDCrxH0yW9o/QAPYRJvry3VWS9Qua+PT7GtzzIOPa8PNQHPYzifTz0wXa9k9JbvFSe7r1KCKe8NiuYPWPnnT0hNiY9EPOEvTzFK70YEAw9ccHSu9+MFr0HhaA8tf0nPTg6mrvtbEE7w3SgPR/kBL0+1j+9iclhPVa6v71Ap9u7afC4PWLqJ7yH4/G7yeVhvSRJ2Lxq1oY9Jh5zPUt/Lrz1vgG9A3HoPM32rTxgUTC8qoelPNaksbzxW0I9dRM2PULGvL1Tfsw7v05IO0UBCT0Bb5M9mQJmPZrNsrz4JuM7nlpSvYHb9j2lTbS9lJkiuycM/T13gS49k55Eu5lDMTzr9gi88cSMvYbAYTw5SyW9oFQKPZoU+zyhoUu8m7jgPZRRfj0PNO88yOYKvC9ByzwOmXE7KLqhPTfvHT2dZ6E9h8z+vTxVo71dTNW8LBRnvR7Bxj2Jf/E8mVg4PY83sDyzQGA8CshMvVMJH7vTeL89munIu41pAz2i9XI9k+cfvOQ1Fjz3omQ8WkpBvQMriT2jWQS9I5FgvYC87bwu+o48riuYO2DWcL2XShm712ChvSfrI7sFOgu8+pNNPSzEiDy08Yc9nSGLPRdg/ry1Oos9kLxwPIUR37y9EFS7DMrGOrqH/bt1FL49dI6VPOxCSz0Cp308jJuKPFndVb1HZU49GMjNvTEvOTxipLM9WE+mu4xQ37zX+zu9HRQVPZ4qcjzT7nI9MFd0PYAseb01AXC9JfHfui3zujzx6p077J3YvW0pJr0S0dQ84vTRvMhIIb1H+iI8/YgnPYcrM72G42y9HGfxvQZw7z2D27s9fwf1PKmg9z0o5I88fey5vNspR71SY6u9UM3PPWMVTr0Rr2y9kgvkvM0ZGr2MH/o8SFTEvOsb8r2kzVy9LV0vvZCabDznQks7Ur4tvGA767xamK0885bePUY2kr1Ovm+9a8+4PV9luL0xlGk8IwBzPMa7O71BnWg8quKAPQ8euT14GIG8PPxyvZYSQbuHPdM9hsNBPHXXhb1d49W7BBUWvOdQIj1/wBa9jIouPQaklz0//HE8vcQKvU/YELwm+xw9gM/IvDSd9b2Zj5A9oAe8vXW8eT1ZpbO78cvVPV5c3j2Mbb265uV1PThsoTr2IQu9P2GNvZX4rTz0toW9kLZkvWLq4L1kqk49WU5vPU9ZuD12Rh89pgamPVfk+zvO5Gy9eR6nvUwD+T0uj268cXexPLLJWj0AdnQ9ExO+PYFe3TzlUF89DG71PUxzCbyphX29QRGqvaIMBbzGKZa8crxAPRdVSz2MB0k9gQKpvUrr9D1Axwm9ounsvUL+FTyy0Xk9pW33vYBYez0AFLg8tk6kvaJTEj0HndW9kiI3PX34z7wdUvY9YLpPuv1bjb2iTaA9FEQKvYCgbbzbMKa9c3kzvWwuGD1pOA28gujXPS+5Kz09iBQ9aDt1uwI5ET0bFqa9DCsJvSQ4+zzM3iu8+P1CPX/6dbzdE1y8kWYpvYgbjz0xTg+8RLL7PR6L2j2f7HC87IJJvJfPDrwjZae82uyyvT8LfD2e1jo9fABMvYh7YbwXjda9J2mivUHWtDxYFtS9jeUDvTv2K71nlLc8LfPjPLe4ZDy0Hnw9gynfPK2IhTwZibM9e58yPJESzD2PseG7xd3RPOV8Hb0Qdyq9gLIcvNHKkz1PbCy9I/+FvXdDLT1avwM9GzctvXCvaL0Qbka9PKPlPQ4M+byN0c88cpg+PTkMabxqnrc9UEcRPR9lPzvKxZc9XJqnO+BhBz2nHuY9I8r4PKpJ5j04cvs7tRvyvLpgPzx1TQq9Ra00PR3khj2ATE69M6u0PTf/kT1VZQ69jviHPAl/nr1YYnW8JW9FvYmflb15dw+8/YyqvTxpob2kmSw9gJ3DvQOdkr1T7g49WnVTvZ/IVT2ETPy9kb4xvWzoWTzl+Je8p8OfO7wNdb1HsgK9XBlKPVBVzj2Kma29oqTOvZK+T70zrwq9EFmEPRWirD1JOyQ9g6zgvWiuHT1F/Ni88jK7vSkksb0pTpQ8wpbJPYJoIbw/wqK9U9rmvCBTFD1Afp09BAl2vYSIjT0BUZe9pGsPPPfYhj2OMIg9IMfkvS/PcL02Lp29j+YIvZQN5Tzt+ZG9F/E/PaTL1bsxD8+80KLxuwHgZb2XaHA9i8PPPREOrz1L82i9M1U9PSBR2L2OdD+9oi1/PURzOzyro8682QU6vNbFdL2fXha9BkbwO/W8xzyWmek8CoC8PYfgHLzS7DA84ShVvYm8cL2QuO08GfazPUm28zvE6A29mr1zPKDnij1UEz+8vj9KPZiucbzm4sO8hHc6PMuunr1wAee9BlZ9vZc3BT1pDBK8D9oKvWGQrD2PsXk9UhV6vaLsP7z27a69J7cRvK+QfDruEpM9CJOxvPI5bb0C6ao9ifX8PX8CUz1mNdm85P8MvZB0rL2Aeni8qSz2PMKJaj2WlOa9ASQ5vScuLj17Aye8LMEsvYh0vjuJBmk8cf6zvJayFD2HaJO7HF9cvY6rOzwVQvs9XkLYPPzJDT2YZui9IMOgvSdJxz0bSMU9ffREPYOMub1HUz68ILCnvU8g9709JJY9hUf/O8ETcL1Fag89oj99vXJCkLzoii09NaGivK1ltz08VV89bUOsu/PXCzyDrvY9oqLdPWDfQj0iLNW9Mhx/PXqlbbzLIFg8COQ9vOecWj12t++8BI7oPZym1Tw1jxK8RwLHvWud1zx8Cle9K2jYvMEVMr0vHuQ9n6jzvZwvZT2c9AE9YGYUPaPDkz2NqGc9BmgjPNybRjxAH9a9iZ9fPIW/2TtWHgi9heGlPSF4lDy+2DM8sCMGPSe/bTdQslC7N1dUPQi/7b1IxrU9c6lcvQRXQ70TP+o9dWkWvWsW4LyVQMy9gzGnPU8c9D0uS+a9nFjvPTDe5LzBoVk8RSfnvYJx7D0Uuv69HGmrvK3ENL1jv5i9n1yhPVYFCT1ecJs9ootjvVw6DT0loju9BLOzvC9aNTwPiQs9IJTEPUpDJ7yR/Og9bgYkPVfbqjwQ3xM864RbvNhNATwwj3+9oV0+PaARkrqIDxg9pxeYvQkbGTsu8DC8rfCAOzvpsrqZQAI85USYvLmkCzzxoHq9XU/ivJh7qTzTD5U9m9z8PSx2eT11MbM9pqYcvJRHtLvC/949er7vvTylRj2AwPA5HSUdvYPxGL1kQdu9d5WSvUTFXLyYosu9AIhbuvV16D1N5n26mdEFO4gkZ70cViI9kZyFPCxqVr2LsUw9ZCGiPZwHD7sSxJC9jsw+vL9u/LvtJFK85IriPY8SpT2L0Ya9REGuvQ+LtT2kgvQ9n2plvMy35bvmC9w9maY7O+V9oD2TQw09NY9JPOLksbyEeyA8W2LsPBNJSDzDWGa9hTU8u4cJkbyfmmM9WxjOvEw3371mOnO80K6evWG39D2Mw5k9NM19uzmCYrudcsO9l/7DvJW6sz0zY1I7+OwNvS/C9D0C/vK9GTfQPJvfS70VaMu8LODavU9thT2QUow9BZgTPaEKUz1a5h29XFcjPATIY71xA987sXfVPQBXaD08jOk8tLGTPXPwtL2Z59M9hxPsvDjnFjyZzEO9Z+v9PYcf6r0VFsm80rHEuzGBJD08u729hMCgPMRaL7xtE/O8TbTuPLFjhT0RrEo7+TZvPLPDXb2W3PM9dzQkvG4djj0E+p88GQWMO7Iwmz1EVXi9Z+d7vUuRzj2NOxy8DP6KPYa457yGCwc8r7y4u+8wGjnjSYK87QhwvNjg9L0LnQS9hOnxvUPIPzuoOXY7ytL7vNSmtTzZnoY69rzVvUCsj7xT76u9HxGwvGw/6LyHMak9RA5yPPe2jjx1iWy9GRaQPScF6z0NCuk9Amh/PURXVD039Do9J9QNvaSJ+LyF62g8WOkpPGtkorvx1JK8YxlrvSzY9LygyyU9MpLKPZAzJ72mUeW8rBmBPRnK1TsASCY9pBFBPRgGO703bNK72uE5PU3b47z66Om8tvpZvSipDDyxpH67E0ZiPTu1TL17/yc9m4VBvVbTdb1fKM+9iFhavT2Mqz1jUlQ9R3cEPOnjbrx9J/09EdsQvZXm5jzs5go9PJAuvROv0L1jWEw9nb+BvUuO472Dpa+9GWDVvTH4XD1Pooi9kCkkPaRvwD13zAU8/gycPX7Klr2WpZw9lAwxvXHObz2EWuA50ZMDPWFgf71Y6Mu8rCEuPRdwkb0gHMu8ggsPPTHnWLyi5mw9oCFRPXUG0LwX55I9mCFQPFMUzzkugXg7r3tRPV9wNjyhlH49W2w5vA6IlTzdEA68vthSPXU4CTuUjgu9HydIPaM8uzxRSyk8o3jhvSbMpL03JqU8V1HFPMVZYryTDDW9mVY5PLyQcT1vSrA9fqnwvG5XpruTsYI9hxCNvaXKU72htae9AiWvPJquvT2R/1e9MFc4vIRfYz2ASIY8Xmd0PSzwer1LM3u9lurHvQGeSryKnNw9ZfgSPT5etzy7x/47SQQwvZtoGD1SBzE8+M1+vXJD1j042g09Ar21vVWQGruFS669aGIbPW3fPL2JUsA3ZRvkPE0nEDw09/C8LaQzPX37xT2AWNS7WrYduy2rD70VPYq8yUtzPYO+lT2aNEC8iPIpPaJi8ryvGrQ9ZwMyvFMXDTy0C7S8BP8svRpwST2E0L88dDadPUo+Wz2XTtu9RzBZPZGMSzxjXey8sg4HPPLa+b2b3hq9ON+6PYyRKzvixnY9gJmfvBDhmr2mi4s9iPEbvY+5VbqLWwY9WIKjPJBzZr1ovpu9N9V9PY6Q/D0hcUg8zlGyPIIsKz0lltw9ihiDvJjsMj2dida9RGVfPD6EnLw9kXW86UtHvR7myj2GwFg8X/SZPTG+iLvRcu08EsDjO7L7BLvfOUs8q/6kvTLsNL0JPZ29hOM1PYt+0juhon+9apsQvRJ7Lj2nLvc9E+LrvYLtsLzIdoe81pC1u87wqz1kuRs7WTw9vRLzrDlrvjQ9an9KvQvoyjro6x281ipMvT0ewLsxmH49k4x8vY5TfLzOPJy8qyJfvTO90r2Blwa9TABePNfx8rtirBa8wPtFvZf+4LzxEBo8GNImvSicdr1BgQG4pPkgvZ0JPbqtWOs6oTuJPYIOQj1k23Y8utHCvY970b1+s9k7uObCvYSA8Dz78no9pXt2vCO5OLwN0WY9oyhvPZ+9Rz07OEi9WLIePUA7/7yIONs9XCOuvXjCLz0OJQ88bm5ZvMz7/j2C0s49cE7LPCUDSruA1bq8nJznvYQecT2QMSI9JUU+PLIDELuWg909EiXLPWoBdb0/9Le9AfAvvZ1wuzyoT5G8BM2IO7eenD0xz+69EG60vUhtVT0/GgQ9Ipt6PZ4dbL0qN2+9mKQkvOSnyTvBcVa8cXhjPZOoej2aVj49ieu0PV93KT2H+V69NOKLvUvIOb2eP988T4W4vSTjmT1AubU9TErgvVRjlTyyGAK8tspsPZkxGjw44707Z6dLPZLfBz1OHUq9kxIhvMArAby9Ui29cMpFvTBFN7zB7rY9Olttuzpoojy3Oeq9YHIFO+8/dL0zx2+7dE9QPHGsEjuLdKk9MpXpvYeDobx49J89NhD8PQGkuziDX9K9lOXZvTqJVj0QXn+9UJThvaUER7zj/Xy9o6xivYoCKDxoI2a8A2sXvQ+MqL2Xc5I8vZKpPSrtLT2PiO882FbtvUMsPDwighg9MdvivVZ8nD2Unr+83XdNvVhVlL2HR4U9LEtCPaKinzziluG9QnDZPOg6gjySK0m9mBVavYYvarycZB09IuG1PYu+J7zeehe9gASWPT8VyDyb4ti9KetZvZj8jL2YMJy9fjvtPP1FgrxEknG7lXmbvWV1vL1Ycz88IOIMu5fOizw/bsg9Xq4pvU0GCT1KfAC8hLLVvRdmVz1pnjG9e56NvKrm3rz5/rO80VA5PKgTnr2iZhy9WLViPKpEGj0EDQg9C34fPX2XfrzbUAu9hXfJO5GgAz1IUU688jaxut/s7D2OB6e9PsgFPSAFWT0o1Y68b80IvV/7oT16w+U9jVmuu465Fb0/9KC7a0DKPSJQZD0+rqG9PzqBPYrZx70Ipou9O4vMPQ6Fl7wdKcU9hbxCvAMQtD2cC5E9lhdJvX6UcT1vJCG8/UCbPO54rT1TULU70yTkPWAgPbxbn3c8RbUovJKrmbzuMxK9gMSivWZ0x72AVog8t/p3PZx9MLzXaFg9FqoYvTNCJzxM9Q29XXg9uxGLrj15Wkw8zo/KvQyogLwoXF49pKDpPYs2Eb0PT4I9Pr+CvX83zj0wv0i86YtqPOByMbzSG7e9PMQ4PFWNwTzwwcI9o+raPARIHj2HfXo9lMUBPZDMzryyVEk9Zi2aPMvPkD2am5S8AkgCPQWL67xGCQ28miySPTCS2z2kKcC8ngbWur49abzn5Mu9cZ22PQq8zDyRuTg8gCD0OMtT/L1BWzW9AxfuPTp8yDumcoI9dpuKPJZ1Tz10Y5U890xKO7f7HrxMJfM9lDNuPXRbij13ZSk9MBmbvM/QADyCq/i9NddUPaCZfry3eRc9MXgRPZ8Gtz0LPd07tZFGPYhF3r12Q9a9iV8rvM6Cm7v6Q2M8JYzKvKX5z71RtPM9gilEPZnzlL2PteO9pOVmPWQeojwoVEi9o+1APQT/ur06wx+9mTTtvNvIs701bBC8p5nBvUOSx71TT3m9l6SvvZt6CLoNVJk9SIXJPOux+j1r8a89P1r2u0zrF7x2IZ09QuD/PRJpWb0ghG29oVMnvOgKfzyjTt+9aXBZvBZBezzkAPo80z7bPRXkcb0appM86OCqvaAQZTtx/WU9AnknOqa+xbt0Tiw8s4jhPZLpbb15n4S9mQhMO9xTqzyt7Se9Xv3CvWkZDb2IGSM9eQvvPKslWjz4POS9VVKSvTitVL1U5zO9jA2MvaU7gbxsXUK8fLxLPK8QUT2g5k282Ni6PWEz8DyD4Uc7SleGPUr8JDwR2gY9m/iyPKfwBDxWIwM8TneKvO7P270j1w47/825PSAlL7wT4Se89EgrPTi7kz1NfxI84v8wPK0g7T0nAJe8xCZBPPKKpjzmYI080nUfPOIsczhPL589mQHIvJQYRDyDbg28tVZDPaaW1T18oZO8tv/NPSIHGb1hTDg9XHFhPaMZJz2i1+y9fNGovaDwZT2QIC29gUvMPLmywj1PYZc9EM1wPVr1dLyrPUY9TA/nvU5Fqrrcv7G9PznfPLjRU71QC3s9iZmyPZCOKry6kR09B/7QvR9jLL0n6zu9Ecm+PSlv3bu8ICg8BVYhPZxvkL1I6529klLYPFxV1Tx5wOm8x8sgPZDv07q354W74dA0PZQwgDxTjJa8HllYPZSZ7bzC+KQ9pA6jPRUT7r2VJA49XrhgPTVRlrwlGcm9aefivMpxnb2M5Fo7ODVAvTosvz2HdCg9DN3KuyjxLDzfDds9n8kVPZI6Sr2Lork9XmIQvY+Zk7w4MUs9K+Z+PQWnZL0U5f69IOqkvM0n4T0kYQA8FRlCPKolkD2E7qC9lp/IvYW48b2JGt09HahMPRcjpztg4Q49O/7qvTSUsb09Cxq81x1zPVnsSzy4zbu7l89cPTWND7z8vqm9eF2kPAjpGTzYgkM9DvLJvR+TjbxojsW9CE4jPLBg4DyVNpc9oDLfvKXvZjwUop89KrgLPWtAjDygQnI8gsFNPXZ45r1TnDE9do5FPYz4Tj1JhpM9mdi4PG8kBTzV3AQ9CcF4PYlZ2z07wTA8CvmJvMdBLb1xlCi9FSymvUJlEj1ai+G7obEyPQz+uT09lhw9XOuMvS+yv712hwm9pnrwu/alEryWsxk9OcUCPTdA5T2NocC9VUoEvJ/8mL0dWYG9lO0bPIdd6j1R87+9oAy+vabJqjynlTQ9l2m0vZF0xz1YmN48AMFbvP7LjL1cBw+8utH8vMbaLT12WYE9SWvdvW1l2j2juqq7LWdKvJQ3Sz0LQTG9H1acvXpq8r1FJ6u7tmS/vBU/eL2g+fo8wczTPSM7wT2jrLQ8joz9vYgl7D2DDCc8zDpsvZMoUL2LAqq9Hxe9vNpfgbxoA+K9TBx6vNu38TxlQSq9kiYOvPyRaD2RpVM9otsgvMOQpz1KRzy9LLN/vXoUdT2TGcs9Qj2V",
+        "vVF4bb2my+w8rToYPSN+kz0IOeY9KO2xPT4Lqj0KMle8jth0PXR6f70ohWo8oJlxPWUqQz2BnPW9Sv0UueGfoL1MelU9HmeNPP49KzviT749ROPovSnGgbvt4/O8HfwZvVxPT71Q3Pm86oh8PZpGgb1c1vG6x1r1vYhRaL1KhB49I2POPAwSND2L0/W8jrEkPS7Ckz1GQN49pK7GPOZAi7tcloq8HEj9PXHrg72dfn88AeQcPXy+zryYa1W9Lz/RPSMoSD2mr909iuSRvMxU5b057kC9EqieO4Oa2z2gUkW9fkdtPMcQsrv3xUs9bWHtvE/3YL2S5Ao8vmUsPR3tmLvit1u9kmg7vXmcqL1fQKm9CFOuvaSkIL0qFbm9o9zNvaNjDbyGSwW9lsC9vKFd+T2FvHk7E1xuPaOptr0mPbY82MwnPQQUv71+5/G9gU7XvB8KUb2bPPC8hdaMPMYtkT1huDa8Z9jQPV5IuTyqU/u80nvRPWz+Frq64iG9BFXgvKch2j0hMjW9o5NKvWNxgjzGV466gnBtPXxOGTyEdLe9MfdEvQqYML1UdxM9ptvyvPTFrz0fAUS83gSjPMbbDjzZASW9byVQPZ2/eD1VGcg8UPCxPLyIkD2CPEc9iNJRvWiRSr2fh+U9JV0QOr6vETyL5YW85HcfvE5pLLqve1G9FoAWPPQcSD2TccW9k4KsvDoN4TzNq5S8BBi4vU7MpL0XDgG9oiQ6PYrO672Uif69QY8jPZwfk70vJAk9oEiJvXswuzyMopo9oh+gvaK3hjy2hvW8n2CVPLKbPTw/zys8j5HNPSUh2b07pYe9lUrwPCf0Qz18+5C9lxWMPNyN2D1mUkA9Y965PZWZELw66+08684WPAe8gT1ZXB08uAFNPL3Sbr0GrzG7wfe7vaTwZ7zUw4K9kYJ4PVoQjD1TA/I9lacrPSNSNr0Bm7W9jNbrPHqRkb1a9SC7+T02PYIpUD0CyBm82CNnPIRu9j1yobc8riAQPREf8buti3U9DFeevOQqzTuJ7bm8jUhfPDjBSL2fuXu9fxcFPYlSzLs/7YC86CqLvMLQxzy8+6a9On6hvNlYpz01sk29Y0VIvOuc2r178hE9R7V6vIo7Rb0P1bk9QyKMvXsdKzy7tpW9Gt/vPZRPgb1RpBa9YU9fPRz2C72Rf427X3l4PaZ0RL2XY4O9Y6+cPYxbIT085vu8isVSvERjsj0FDr08nGItvGvqSz2kaAS9ZCBKvW2qW70Sfd09fVjmvYmRQL1POkG86UAyO7pWWL2WX969izxMvWm9dL2ClDk87QSKPPj7pb2INPa80soZvLkmpr08B549IIU5POCjL72hB0O7su/UvKsBPr2Yuk29ghLlvVaC+z2HZ4M9jKR9vG+uAbq/hp+9jdd+PTNIkj2Atig8geC0u+fN6r2cjVq9fFhIOzbcXbzPQWa7gq83vZQqyrpNbjg8inRyvFO9Nj1aQ9o9mGClvWTT8DyqScy9lKz5vUKZaD0VBBQ9gmi9PYvo1zxE5iw8slB4vZrFSr1qGvQ9O9NnPNROQz2FG949aphZPAHSWj0xZ8e9bl6hPZ8Wlj1lpGY9b+DlPYEWHbuE1I29bIz+vI+CTr1oEa68q2UpvBu8Yz1huxQ9jzjUPUi12706As89hsd4PYtWQ7ztWhE9GCqLPWnDS71DtbQ9U//EPSjAnL2J9s48o0S1vYXPHz1kR/28JW9vPK3asz1FKau76SwHvAK+XLyzs7o9pxCzPTDgNTv7vhQ8DhQHvZ1Yo70hfL68xaECPRRvM70hv/k8fzjBvS92czxoEP08lfqMvV5bn71/BnA9OwXfvYL5RT1rK849LjyMPT1+ibsMxy48VjlYO+vxUb0snTK9D/O6vMEfm71gxsC9MGXjPZKetD0SHeq7921wvNDX2j0rsPY8ozlBvQ1qnzzq9G09o+tYPaOUhT0X6I09HilavY73EDz8tVA8VRldvXywtrzt5Si9FCJRPYJRQ70NU108egqPvZ8q+r0Zs1y9mOrcvTenFzx1qH29a584PZwYZL2RIla7hyY6vXOw8j0cPzM9RdnJPaGBGjuXQSE8KHujvCYQ8L01o4a9R24gPWxGxr2Y/Ri8R/GvPJAbe72P81g8Fpv+vH4jzDgLvk+9fDMVPWDhAb14YrK9Xw82PYtVCrx/Bn+9Qiu2vUPEz708Afw8zLc5PVY7fD2jm3K9eGeLPV5oaTvl3c+9E09OPULUWT2BbWM87WwCPZUUJz0Apty8/jgRPGJoHb2mqn28uITxvYeIdj2N0oi8LKBkvY5p9r2FMU29av0FPQTQ/jxRXsI9isQTPGItc70leoo9fGUSvI0NRzvRECG9LdC1PY5crzwisws7ki6SPZOxj72KGhm82xHEvTXkfD1r5mg79VOdPRVICz0U5tw9J1FvvT4BbjzGSHQ9jl8YvUyVIr0t31O8HyTQPHIx5by9HDU9kLQsu9x0+zsCNKg8jPJVvYfenj2lUyy8UicqPOGWN7wxM/u9GTqFPXO39T2U1sC8c0fpvVzWDb2BNNW9kWcJPYX9nTuMGyU9WNM3vCCv4D1FJOy9D4siPYL4Ej0crfU9eoDmvZR99LxCit07yeTPvORGMb0uZq29KysWPVACvL0VwBk9VpXIvZmT2j1hPIU8/D5pvAu9Kr2Vq8a8tGbTvYXgmD0aJZy9LTadPT6fC72lUfc9mLAbPTKj4rshsZo7RMzIvaORvr2D+ps9o/zXvZ/S9L1MKOA7tTOfvaKyZL0lirc7yHymvYn8VDzbwWo9OHWnPVDEsrypXmY9UXZAPEJcnD1Baq49SFFRPZEJbjzpxR49QXm3PXgVbz09BXi9MEvpPIDHUT1gI4O5mH2vvQBlDTvu2H68yl2mvS3KoD2kERc8yOrhvTRxpbyZaVM9K6elvY5tJL1ib8A9BCBnvaQZiz1ZJn29EENOvLrdrrsetbC9JCjJPFP3oboTWsw9PxjvPREF070tzNc9gToBvX8nZLzzBAU9CcwAvSEhkDvq9Em72nHaPSt2+LyJnaA7xt4yvWE0zr2hQTI8kLNuvUk9TT04QVu9SrH0vZiruT0u0Rw8hxm3vIcHHr1kFYW9I7Bfu9+P1zrWrRW9pF1MvZratD10bai9pT7NvMinhD1Jv549kA4FPXdZcj2UfsW8m5W6PQn85D2DHey9Dz9QvOysLLz0bTi9jV/wPKMrJr1bZNq9h5LlvIc43TyP4us70jDCvMlbRb2TCmM8FMNSPSiKhT1GpnO8hRSGPECOT718p+Q9OwvNPP1MnDwSTWU9gywbvR/9VDz80Fy9eZgjvN8IZ707s9G9QnuJvSKLPb2fRkm8BHLHvYJk9byqp049KfmBvTy7uL2a/qa7FzmJvWkiVzzYHYY9FYF+O6JB4T2DnHy8MBoWvJyOxz0z0aY9H6BCvaSkYr2g4T69V96APRvP+b09pR28GXRjvZwJgr2IIIK87bqjPWh7nbzCihw9f8cmPJff0DtEGku9ZmXJPQxCVD2A+Aa9Uf8MPY/O+72b6o29ZjC3PQjKJ72Zvpe9kryzvIH+oD0dGKW8UQQrPQOU/D0Kyys7WGwIPVp+y710UtM9WbKXvRuFuz0dBK49O/wGvPpBwb1PjUY8pp07PJkU0T2Rvwc8eOUxPYYhiLwDeoW9LTY/vYO5vj2LPao9oSuCvYf8IT2eL3s9nvehPVNZUry2tiK8ng+nvJl1Yz2bD3a9VJW/PWQiezz3q3m8BZ7sPHxSmb0N+q+7pzUpPQI9jzxvFVI9EAQ+vQCWgLw/dIm8sacMPVLaDbykVSw8+cDPPaal4L0egws68tIsPCvnqL2egIM8FrngPOBZwr1QH9s9gEE2PFoYaDxNrGU9QIXCPDhOUTxw7Pg9EUE6PVIEvj1wFHI9gvDWuKIdi71hxCK8icmtvYmyrjyESJa8tfjovAcPCr2ljLs9mSJ4PW/GczyAC8o9iP79PZIX/zyzgpi8OJohvXp7P72bqlE7QLdXPUjGTzvFKte9EUVcPImDejyZniE9MqmKPXnkCD1f1EM9gKyKvOHVSrwYLMU9VEOOPWUCXT1gfCK9XbcmPWZzbDwUWbW9NntNPZwr1z2gka89ph3qvUOso7r+cX28oDZMvFJaZzzlLaY9Bp/dPQfZtL2Zt3m7zrvXPZzBx7ypjHO9FmdEPVY/BD2K3+i9ZwVxvBVdrj01m0w9W0MSvUL2h719VV49LHg4vaY7Ej1rOjg9gI4YvMMpXrsNeny9dpi5PZkRRT0v7eq9U/ZdvV91tj0qpJq9FrNQPVz2Cj0/y2S8JwVRu6Ri4z2QzP69RSkYPXW3iz13HvG9FlxwvOE9cbz1Yfa9iS53vYA45zySyO48+6c3Ovqw9j15KS+9R+0vvZ6Uzz0pa3w9hQWCu+Qt9zyTmx49mujZPKmI1ju2omQ9SZkHvI6zxjwqcjE9ikwIvZpWO72JGdc8T6KLu7BwbjwAZ3Y8L/XVvOTG1btpLWo7hbImvQlfYz2ark89o4OhvaEe5r2dROy9myerPPhO5T1HkJU8m/zfPZebPj1WDVU9lelRPY0EZrxG7Tg9g3jxvQ2cAL2Iu++9mD+CPVbItTqEG549ey3ivP6yi7y7FwQ84uG2PJt9UL1i+j89NgfHPTzBOLkVnOA7/yT0vWH9J72fIp29FGgHPZMShT2cbdC9jWOwvUd0Sr1HQBA8lBEfvAU0Xj1QNna7u9UzPZz8Sbw24W2699DPPKa53z0s0nO82sFSPKraij2IFQS9njyfvVhZXbs1dkA7LcyyvZJBMjy8gJC9XT7PvXQXnr0OeYQ8qaAhvU2ngr0Ks/08awnsPZAYhzy6yGS8PheRPZ0p9L1EjkS8mFm9PKaS2L0q8m+9asAUPFslKDyzi3S9NR09PJR1BT2NPMw8838bvZAeK7wQQMs7tgwoPHMBc72AejQ9pg98OylVmjyeaua9XPUPPKCXQrzz1ha8FHfWPaURP7zlclE9KTIoPQyq5j2Xn+a9eAm9PYlkrD2ajpu8PsYsPKrRcL2XIC49jFMKO25ZcjxzPsS7JcLMPDdRx70pV+E8hOQ2PaTPNjxPay+9VeRQvIkMC7yybM29ewF1PYKuHz0aCM69lfdfvYj3BT1Bcqq9fvXvPBSEC71a+1y708iavK6oYL2mgKW9Dr19PNpNzrwyW3g88PWgvMIZeT0SteK9G2eQPXPWfDuCEKY9RJnAvDMXGj2f/d09oxZOPYmG1zv73Qa88BNVPZtcwLu0Edm9E+nwPZYxYLz/xRe8DoQhvYfcGj09+pS7jfTgPSAbGbzIVKo9VyfIPSuiCryQYUA9jcnhvMYGlbu1puk9ZfS2vTVzJT2AZgQ9IUEcvTunQ71jUR09YhJIPKqmnL0TEKa9i+xHvaQamj0wxPW7v2mOPXkEEz2dmxw9brYWvQ6efr0YaNe8Mdr0vF4rmj03Z7O9UHhnPKzXEz2bOpi8js+tvPxDMD2Um3o9HLZbvN6spj0tPbU83KGqPKc3pz2eMA88b6sRvV0yADyrEzo9Ru+xPXocxLrr8Sc9Zn1lvZDF/jzqhIc8QTNIPKvLFDz0Qpm9GpEUvY/ZpD0RCxq9HsmAvL6Oy72Ev0I9nXwvPKfM2T2S2RO8PdxfPFAYXb2NEqi9oWBEvVLzO711HW69maBbvY0lw72fgvM9JPTpvXPcjryz8LM9c+WPvQR9PbqkycQ8hPtWPK22JD2N5WW8p3QNvZSWrjseePE9eFhlO3zJPDw15DC7G4FvPZ81GD0PDT69SZ0UvGPk7r2fgJA9PNnovR84i7v31ke9HgmVPWIcpLzfUXY9jhRUPJqaH72ehrU7g4XKPZfMQz2J7xa9HFEIPaQKST0S/ZW9gQlWPaVZ9ztdpE+9Ot87vIiV5bwkuxI8Y7pEPR2yT72VdIS9SuYgvaQkxb05FYM8o/vovNy9XT2nMy29kmsAPDeTQrynR8I9Mcd4vTCmc71AY4G9k4IOPYZY772msmE9ePg1PTvf0z1oLAs8l/JEvYJb8T2AS1o7HwEiPYr+wb1uQsq8Q+1EPZ4sZD1NObg84lcNOgRbTrz7Td+9FOqtvT69Y71jOyO8Ty5lvZ9Eg7zCdOE8kSdLPWI8sjwYPHw8ZmA/PSe0AbrbiHG9L5u7PWxi+bvghuk85ukSvVQCHz05W669Ws4EPRTR1bxDwQM9b56WPU5H+7y7+1o9Zbt6PSEiRD2O4P49gKQwvZoBQL2X2re8Ndf8PaIrbj1RKyq9h+FvO/J9vz1WNsM84Y+KPUj8ZLvlvPw9m489PVz9qb1Dxie8jP4HvVjfIz1ofrS9l/d/PZHGVjuG1iG9C7RMPUJz0TtNh9y9LV7MPPYuAb1svkK8qU+fvQp2Hr1nqtu8CnTQvaV0FT05Y429QBEcvEDzJbxrvJ29ngNuPWVK5zobnTI9hU1ruoPONr0Cgzc8suevPF8CyrzCIW87KLddvIXprDxL+VO9P6ZaPZkjTz1DKyK6uTJeu6vkrb1+qeA9YLQWPAU5Tzx/BN29TlMQPKC7iL12ezw8RYNEPUnVIT1un9y8W18BvRoJLzzDNWS8sYZYPOQY+7yKryc9KjTFPaFubj2WiXY8kxxLPTyLfrzH6mU8fplVvRCQm7uJXm09o9aOvQft+byCJBC9b3sWPUpwjb2OD329ikxtvXkGnj0v5CW9Y6sPvQSUvDsaUYk9odFePNdPDj2mJFs61ZggvYpNeD1hzV49jflSu6pA/70n+hI82mPuPWxXtbsEvca8RjoAPPjT/Lzkl8O9dL59PMKEyD1YeUy9gbHsu0UWRDxxkbM86QvGvIiR4L0IWQQ83L8evVwxdz1NR5c6iI7LPNxQlrx23xW80TsoPVo3Wj2cP+69EaylvNkGwjsGWUk9KsyJvU0YeL1nHP+9KVbhvSRVwTtmk6U9b04kvQaCJD2FXM67qQpnvQZJAj0fXKw9oumFvURHdbzBE0G9lBf1PZdMEb1Pk+W8TX0fvTq4p70FjvW9jXZnvRXSYT0AUKG8eekfPGBVb72KuZK9MCSZvQRupz19V50819fGvFz2+D1girA9pmTHPU4OJL0zZUU9jXJbvL77NLzDuIU9OflGvXBMRrv6yhw9ZvLgueg4yzyfF3e7xqatPSdS8b1mB/E9WslfPYtqDL2E0YW7ujx2O3y1pL2COww9neZgvZlndb0AwJq9PnwMPIKGrb0VuCu9hgWXvHitGb2NMtU9VAnuPKYT+z2mrqk88sNlO78O1z2S9BA9cfeMvXsx/zxn0tC9mNcpvW82A72hXrA9mWvyvXC5hT0bK5+7nx+BPJVy+Dz9sSk6bcI7PZcnlr1f2e08SZ7AvPVlTz0B9lG9H7EhPTMR9b2jPJW52G2AvTEUz7sF6HI9DCkGPYjM2z2hq/U9j5fIPJ8g0DyW01k9KrrFvZuaFL0lRsa9mU9GPQalYL2V4x49aITcPWfeCj2nGcU9Wg67PPgthT110ki9Q1OpvaIl+b1Im8U9BR+kPEWwtb2hpiw9ONK0vUtrEDxwLUK9jt5VPZ32kb0rZ8m88NPtvS5W5r2WYFc8pf+2vBpSUL2TAE888X32PNNRVDu1rdo43FoevZAGoD0LVrc81owYPaaISzwoESC9AXj3PE/3S71R1dU8laLMvTXgIT1+VxU8jHiYvI73CD2TYRE9O/ZMuwP5fb2itK27xsl1vTKqVT15s8S9atv5vJJRs717lvo9gUi3PXnnlb2Yf409jnP5vYBZLT2JpSw9ab1aPDGKnD1UHi68+ootPaZifLz3vY89ayBQPSWGv7s5RaO9lsuZvR+QYD2eSgS9lnskO/IeyrvBb0u9Pt+mPKvMy715q5o9XFCoPaZVLb1zG4Y8EpaDPWOF+DxFU4u9BwaEPYs6aT1YGU+9EC5IvPV2n71FZ2W9jhamPSGqy72bLJI76WMkPYOL77wniy49oe+9PF1iIj2GxGk7V4QlvAYjUTwMBLG9ZPypvNXZbb2TOo89GDi4PNBypT2BjhY9S9ZhvZBG5b0rSXM8WIdYO2rG+D2l0zI9ZrhbPUhHZb0pAQY9hJorPSjxTr1je5S9Bp87vVH0YT1+rTm9AknwO9iQcrxRYag8+1mHPTZocT0LOb49dy3LPS8zu7zCyp09mXb2vPD8lryrdkS8OvlcPU5IQb1vfVU9GMi4PN9/9r1k/ug9MhS5Ox2qNL2HoL09hiRUvTpWzj15BUK86cVDvK+T1T2jKRs7zyEWPXv+2zwwRXG9Y2RnvVPyVbsD/zS80SCKPWchzr0Qbfo9Eef5O3j3kLxBRQo8rjxLvUU+tD2CbKW9mMmFPV/gOT1RDqG8VdQOPHZLv71kD0k9FfwFvWEaBr01TyM8l4acPTIvTD0NUMC8IlvNvRCOyD2iUuM9ncZlvYyQt7zReqQ8ty7avVtzazzY+Aq9B6QivSujub06GmC8IfgRPZfAbzvjvQu9PqCTPOV0rz2hY+09d/4XvQXKdj0Uyvq9pNBsuiCsfb2BOwW9VFc2vX8OJLwmunE8mCsjvYsr0z06nzi7bocBvDx8nz2dzfU9pKgQvYNryj0hJXa8+y3IPO8hTjuiV2+8KFUPPIzZtzyFvCy9NH30PLZc/b2mAd28+emSPWcxx72HXUo9pecqvUGYUD0+RaW9ejO7vNVzI719KXi8nwTUvVtrF7yvwPy7BqzlPZg7Cbs2kbw9ERb+vVaYhjv422W8A4WBPEolRbxR6NQ9GjfRvTg/kjuWTt+7yCXwPYIXdDwnxVs9ItLoPYte9D1stNG8jRWQPOSs3jx+ZqE60suRPXrbOT2IWLw9oe2OPW2f2zoiTog9AZ5kPWvQDr1oTla9l+mOPLhw1r1nRmW9WyTFPaOap72Ob+k9ppQsO0AUNL0Evjs8ymdtPYOJwDwlWF47ZeF8PUwL9LzcF+a8oi5nvTBWYr2Q5Gg7i44jvYVohD0it9K85pLzvThdxTeTS8Y9lA8CvSEGlrx7dce9ijzPvZY4Hj1vOnm9U6FbvUtdazxkVP69LAVBPWt0G72YnIc9Z9cevOhwvjymPak8hBuOvYNnkr13WK486TPIPX9XZL0QO5y7csiKvUiE5ry6Z9c8m1BIugMXUT2WeLo9l5xcPYdFv71sC4E9IYU8PBt2/L1s4PW8bNG7vY3fu7yCyXc9D4m3vJUjuz0jt3e9nYTxPYZnaLsoVy69nfSbPRa3ir1Ctwc9hMWHvC2wH70wcpo9UaNlO7zN071T6Oo9ii0hO9Go+r1tlGC7KZ0gvaAGcb1NCV28m/v5vZ2bqD2AUOA8CzbaPR6DpjxEnOW9C8QZPE7H9z1WCpk8LdJAvVczWjz7yGM9MV20vXt7WT0rM/W8vqrsvZgDkb0o2J69lmINPUuRB7zDMio875r2vNPNtDzZMyI9Em+JPW82Zr1t/6c9VulevVwQvDyl7PM9N34dvZtZzr0FiPA9PJHVPZGSMT0Z1Mm8hj30vWhN9r1mzns9dAnAPAD32z1JvK09oafWPYMh6zw2WSc8yfJnvZn5br1TWrg9fCiKPLg8yT1gcFs9L3pUPNsv3z2Yj2481FIuvFOkrT04svm9VL8NvXjhar1dhZe9F3SHvEBMYD2HpL48wX49PA7FnT1/ap89De//vaVFQj2AGJ89Xl54u7qC7b1Euyc9dE4cvZ7LaDtsalI9hOJVvWgAm72H96e9M+JuvXXSGT1wls07XWL9PK+Ilrz/Zls9RUxrPThiPj1zs0A8sp61vKgKk716a+K9UXoPPZ7aTT0cQ648qjvLPTAi1zu3Tho9k9wqPZ1P7r0Dem49oQ9wu/Y1YDpjNzi7z71yPVHFGD0Adro9S2x4vWDBHDuU/2C9UpczvU0bn7zSncg8z4KJvX1dEjy6mVG9ifpUPTSyDj1br+G9EU7xvaK3JD1SH0e9MTxXusy2rDvfRM48loxLvYQRlL2TC5C9brLPOqZ8eL2hHMk9JEHAvYvgFD2Ip5W9pm0QO2ImrLy2Era9iBzbvU9J9ruKsIo9nqzfvQLssr00aHC9QtTRPXJzaTse3yo9FJQePKRIsz1g9vc9dw3zvZDn/TxFf8w8p9EYPXzevTzNSrQ8ri9fPZfGjz0hpAc82/3GPZKvdj2JvUM7gxLUvOuWQrvoCa69i6MfvS9xvDyiiGc9mCRRvFxYPTz0Ska9HWIjvHA1oLw/ePy9F8TXvKdo3jzM2gc9NC3YvYb11jy1Ucu8MSXQvUXfMrtkgOs9MxgkPUObiLwjsuW9mkffvRU9Hz0M7Qk8oGC3vYYrtj2adFC9KzmNPYeMyD0xe0C9Y99WO/WeKbxNGTk8mqZEPRH3wzwt4Rw9iPT7PTsWrr0kdEK7LWKNvXWW172VTrk9mEMSPSpPLD2TG6u9LvqBPKXXBzu7nkA9jP9kvYjw8rx8bS28TrlPPOZpZLvw3Fs9YjZCvUb3oT0KQKO8Svb9vW94uL0phSI9lGFjPRzvDTzOejc9EtemvKwoobzp+aQ9EYZ0PL/wlT2hZ+s9CwLXvRZW7zvrfwK9RC2gPZVY1zztqBC9mAm8vZmEpT2NQxC8khH5PPtyCzyD0gI9KMgQvTAyS72fAVW9FP6cPQVXsTzBIUI9hycbPQcNIbykYjI9oxYSPULpJj0XCVe9Yb9ovXr6yL2FrTO8x+zDvNg3czyZwWK9H5zEu/onYT2JJkc9oFHLPI7tmj0YYaO9EcBGPQyL2j2djss8CW3RvaKbnL0b8TG9izKTvJJ8TT1zSAQ9mqMIPJeeZLwTjb89hjgCPRZnQT2M87a9jASKPZNWwL1SLKM9bbJpvYTyRr1DI5S9P0nNPZqaRLyQeVa7LpY1PXuSfbx2BMu9diwOPXZVA708UTy9Jo2tPSRKKzpMlqq9KKuhvaCeCLxsdGg8DTV9PZB9Ub0BCai8wE+VvNlxWj2kfjG9UxzHPXTbyL2Qx7y9cJ0EvYQQuj1DtLQ9UTu4vPW5qD15hse9NZxxu757obzw7sk7/37uO4GoTb03vSi9UtDQO4fNnL1rFOK8C9l1vX1lyj0TsRq8unVPub5/tr2WUJY9d2CUPUrSRL2HAcE85m4VPK80kb2k6Fg8pUL/PUhr4j1/UCC9KaFvvY440D2W3qO8FXygvZTCI70NlSq9kfDMvOAspr2H4i29H419PU0TSLu2LD88jXl2PBe1BzvLKgU9ke4yvV4SQ72MtjC9MG3OvK21FDzB5Ee7+7xdvZOnUDwXc5Y8lEoiPOVPML1tyw87+Og2vYbxLD2ACIC8/DHwPEYnqz1m+2m8zP+QPYt5fT2fi5+9eeDOvWmvC71w0o49kM++PTcEjjmVwsO9Wgw7vYYwtTqX9yC9UFEMPOD+vL0N2aM9hYfivW4B/b2j7uI9oLnBvXaiIrzL3Mo84bATPPuB0rxhKPI9Yn+PvUCnwb0DL1C9Aa0zPVLParempZ88vnarvU+NBLwvN3e9BdnKuwd5BT2IlHq6POjFvSOnm72iJtq8SFASPaAXub2Z64i9EFh8PS63ND2R5Ky9XKtsvSndRrskV/O83pyRu5xU/b2Ke/49oRQQPLvzVDvCPaA8LrrJPO40ZTzkGeE9MOXVPW4ONzx0MLI9hWy0PaW89bzpA8Y9XXhavVAanrw4AQm9ioY1vJyypL2Inzu9hz80vP19Mb2Gndu9e5ERuw2osrxaf1M9gzQcvRzXEbxHp4s9gms8PUCvP7zK1069S1UHPJbY4bzY/WM87+VDu3wgD71G2B09mLkcPMbu9T2NiCq80tmnPBjkuj2KpOU8nBnlvYJkq72EkZq9ktWJvC/suj2ImfS9BiD4vYMMOr1CqkI7yeU3PLfHWrrgaGA9E/IDvOKFnD0Lh709XdPPPZlEyj2Y4bU84P14vUkHyL2XGti8NpC3u40CDb1nJua9nVA8vVMYT70GcMM85shJu/DoW7uVhHc9iw2Gu60ForzS7q28pZpxPVoz1D0l4k68i1KYPJLD8700GQs9ESHfPRHVKr2JWgW9X8D5PZAv0Tvaidw9mu9yvUAWUT1Euou9MRjFO8FqJ7yjaqy9KowWvaA6OLzcLHW9luFVPZ3xIL02fP89ESRnvJavQ72eSe08H/3hPRNH071Pfya8MFmRPWkoIT2Sh1M9bBAMPKTHXL2mRs08IulXPX++9L1x6/S9nFLsvNtSrTz4tZy9nPm9PRdK77zGnkk86klKubSZTj2aChu8WHOAPYJB7L1yPgW9C+X2PFwc9r2FjqE8iCNyPXu+JLz8zGu9MGf1vJqR27rPiRy9PPJNPTreob2mc1e9T+p/vN0CJz1HjuO86Z/ZPLSDpj10Ogm8kQkKvGy6tbzg1AI9T60BuhA/ND1LfA47D2keO/euRbzxp5q9pnzvPTKk7bvhzlQ8w6ievVRIMz2fgJQ6oitDvRcpc7yO/IE9dCInPHQrtz2TZ0W8zqoAOhD0yz1dHTg9g1qzPVHACL1942W8pmOHvCJVzb2kIVm8Yrt6PPx5gb2BDdm8lkTUvPUM/D00ATY9hetxvUuQDTzH5WU9n6rFvXyR1j2Y1sc9SQ8pvEuNBb0unRQ8isoevYOV5j0F+nM9Qfw+vK7XJD2iW/k9Hc9qPZ73G72kEQI8wFfkPZD6WT1jNOw9BbTjPD4zSbwf9wW9CwHxPSrcqj0RU5a8c8q3vIcAYrwTW6c9GlLXPLLCtz0REvk9bS6jO5vhiT0tF+C9NphuvOcN1T0FhCk9eYHEOrh9Gr05VQG9DUGgvSmApzzMKyc9o/ybPTpOUL2YNEQ76ebXvYshmD1wl9+8rF/YO057/j0rdcm9nJZKPXStITy8keo8rNtsvY0y/D1rtnC8RJCbvWmJ+T1QAuu9h3PRPQXQUj2KmUO8Lwefu6wQ2bu8+Ei7pRZGOwYq6TxJE1a9l3LEPH3DADvTrZM8elBJvJMNSj2Ek329cwb+u1wjQL2dlRU9lqikvYExrr0PZDo8bmNJvCm+r72K6vm9iO/1PZ0I3j17D589B/smPGx+nL0Ewd08Ae3JvI/h6715z7g9NANLPR176DzfmPc65bxAvZ4pKj0mrRI8RN/EvQt9Ir0b9Hi9bWgevWZYdb0jcpA8ZWASuxqqX70W6Lu9SpxtPRyWiz1npBm9hOYBPLvQ+r09fp09VmPnO4eISrxOfcm9YcZoPQHzST1nPW89nRPJvZcob71+lha9M6E5PS4nbj1qn0K7jE+lvLMat72EADG9Kh4lPZ/DIDz52Wg8pTmwvWDD8j2G9ei9B7jpvYD//71jZGS9iYHivO/dGb1MWBe9MZE5PRMZUD1ArQU84/sTPVtdhjyXc008a7PBvXpycD1O0Pi9WdP+vZzBE7zcQBi9IQbFPX/VaD2F7K87OsYLvH6zVjyqzVA9LUFAPZbH0b2Z73w9leJ1PS8h37vqcmG8OekuvVZy4r0E8DE8t7LbPYskwjw0c7Q9VwroPI038D2ZQne8Ol4vPW80r7z7JH+9TRYXPQspo7ybcQu9OFDsvKJ2GDv1xPG7QXaQvTz4Oz2d6lI8BShzvZ5OOjqLhSi9HIFOPS16HD2G4Gw86r6pu2Akcb0fcnG8rEK3vOpO7LyJxdu83JACPRBgjL1T8RS9papTO+E4gD0SPNm9AyAOvaN24z1Hzsw80XiEPaVr870l/+q9n0SsvTk/azy6/1e9iTtIPZAkgjzX2eY79PadvTwYBb1gdCI6jaIAvS1vqzyykUw8pj/YvXEKQLw/Inq9h74SvVqQbL1yYo88QpWFPOUOkL1HOaC8HfgEvXLK472e/TQ9bLcVvU5gZb2T94Y9pgbPvT3hvT1IT6e7hjgjvZyLzz2icgi9TUvYPaVcJbwXpkC9lq2RvXJOpbzVHR89SLSsvaQvgL2F1iM9KnqNPWbAnz1/1ds9otFePGdJ4ju0Uxa83sUwPKeMnLwwW3w8+jGHPQfosrwn5mI9PyunPH9i2DvvuQe9eUJivTIgYD12gI69i1fOu4/q8b2aI5W9W/U9vWjkYbrzbKg8gh9uPYpCJryc+AG9HsTGvIzmCz09BUO9EOvAPYYhIzt+FeC8KY6DPYMY8z2f3q69j1G8vY+vGT2Ns9y9MRmMO+bgozzalai9VNQ3OOupTbw42us9hrqvPW8Odj0T34U8E3auvOwr9jxdyM49kCHgPC2bDjuumfe7N1lKPaYdLr2E8Ym9Bsh3vQnTyr1fJRO8G8OIvTy6ab2WIDS9ThsdPPHUGj2jEGC9ixMDPZKOhj0+Fg67+LVtPPlcDTyMJai8r3YIu40xkj2Syx08iqh/vS5IKT0Q9wQ9KjMuPQfg8bx5Nb29ORdCvRFKqDzvkBA9ldmRvFehSz0sT7s8tNDJvM+k5L0yNCM8jfuiPDsiY7z2xOU8YOp8PZjnDb1cRjq9mo3YvFMZ1L1GY6w8x18+PJNCD7zI2129o8rEvY4KxT2N/Uy7fMCVvQQtHLzeV/C8ndb4u+GsHj0DvSa9TNiMPBZi9b2O9K49bDs2vJAVij2BR1k8sMjgPZTyRj1qP7+8uJ3evXNakj2KIss8flyLvANbar0/lua9knR6vHv0db2RxjW8LWCtvRKJND02p0g9AQN7PZWhKL0W/YW9AF+8PZU8eD2Vq9w9DRvqPJ+6Mb0RyTc6lUo/vUVZ1L0oBQ28Nq47PZA2RL0ONsq9knijPMnUij1mEBO8JGQ8O3TvLzzgDDE8+bstvQaQNb0uMM89dTfYvMHNlL2EKLY9EDY7PBxV2bzH7NO8Ah/2vTyBjT2fbTY7pywuPOwkC7x6fsm9TnOXvPepWjveUwo9aqY/vRa6qT1ha3Y9FZM7PUOMEjyUUhi9nhnfPTdsIzyEOx29hl72vZMChr1LJGC9pL40u7PaaD2latM9Knc2PQ0ghz2cgOO9HStFPYwR4rwfrs29dBG9PT+i1T1Qh2M9gTlGvYUhQj07vTK8r63CO9nxFzvxqu49D5Y1PQ0687wrGhA8hvC1vKWIdrsGXTW8G0v/vY832TzJpBS9odX7vabqfT2B8Go9eMqIvTgkxb02iOM8ILFYvXLXUbz9bdy9isnJvPp2Fz2dAUA9J+LPPVTAQT0g3jM75zoLvSBbxL2g+OS9X3bgvaWJ+z1EBFe9FVllvZgGHTuZkb69oksgu15MWD0yIRI82n/LvNPB8j02q4m9gmHku3OwwD0zUaW8s3OxPNQJabw8iJa9kkQ0PIM21b2XYPM9g4tSvJHL0TzJHxi8LYOpPQcn6b2FvIS8pnoaPYzEAD2c6549jS+HPU07Yr1iHbO9mYiOPIzeT72RsuA9DiJ4PNnuxLy07pw8JIKHPYQrvj2hy7e9KxFevDlxHbuEuuo823giPOZ5hD2mL1q87kLuvTauTr1uMxK8WKwgvQeJEzwwTMq9nhx4uh7y7b179lM9HwyYvTr8x70ln6a9YTOcvG4Iczs6S7s8nuBFvRyOqjvs5oM8hwGBvWfsYT1Brg07saQWvYa+Mj0uBfe9lCCnO4x9iD2EeI29C5kOvZmwMr0UQmi9EOMOvKrpA7ut0447kSbYvGjdRj2SDAU8W+5CPSsyEbyc1NU8bOjrPYyAw7odtXm9pcHlPVo+hL2gBt+9KqWfvV0bTbzaCCi7nL+LvVhGC71s+Cu8MVykPYN4Kr0hv0I9ZbvtvHqjH72RGS29k8R/vabc4r1Yk2061BqoPBkHjD0/K6+7byokvMInMT2RI6g9ApS7PGnsRT13gso8gtP6vYba9D1e+uG8zaHTvGNOnD0jIRu9cXR9O5FfGT2j9SS9ZnbkvP1lX72Qfy69UdHiPJNi9j0H+Fo8RJfAPB3fkLugapi9jFNgvSUP0Dyhwjg8zi//PJoxeDzU/rq3hyFUPYZ+0b2mXsq9pLxkPI/LobzwEKk9ioTbvRRPeD2WW5w9lE8MPK3KFbzNzgS9iJsfvRkn/DykoRa8mDHPvaVPF72GabO8Vg9Lu21Jtz2ASLy9AKDsPXBxFj0/Cl89dPHEPF0nGbzNdeU9DMu0vLzKzb1idHk8lgFZvQsG1bqT3hc9hXmZPYb5+DymQrk5OVWjPNVccDz53vW9mXa3vQBzXLxuNcS76j7HvUugAz2fk948rNDUu9Q83r0cIFG9hkCPPSsJCj2OlKc666JxvCkmfTtAYxM9NI1YvXUc672GRjY9FeSDOrtfizz0aj29Wj+cPStlnzzLYdO9kmNUvMp3tz1L8Ng9MXX8PaFSLj2azso7ttxyvaNhVL2M2+49oA6mPOXvD71LKGg8yZBSvUEpK70kHmK9nAYHPRZT97z8ryG8cXasu5/pQ72kmNc7kQe8PBf2RD1lrnE9cBf9vJtK/7yGQCm8lqJXvWATtLsKXjw8wy6yvZBCbLuiojk85KS+PVvMxj2UmFg9J4NfvOF6Br1iMzo8uGYZvQC8Pj0q5w09oyWEvVPtuDxj9Q48GBqaPZ3wvby2PzA9J4HAu9wWrT1+ndg9dulpvV1PZT2CQ3q9imp8PIaj4D1Q/Aa73FBSvVmzXbxd6NC9W4RRPYz3bbzK+CY71aIBPKbHbT0l+K29ST8KPYfLXD1x+ZQ9NVVtPQUmdTseEuG9nVFevKYc6ztOjaC7rwKPPA2tb7r3f3w8IV8tvaBkEb1mD509Qs2YPHVm9z1NStY9BVrmPDrearzQtf29nrG0PZ2MOT0y+BO9aFHEvXQ23L028wM9dTzAvVxR5DwDL5E9ZIXCvPCAPL0UjKW8/IzWvZWmUryiruw8sBpFvHTe272MNCy9I9QdOn7/Ozx1dtg7eYQAPYfKej1ezqY6eHztvQRlUT2hY7e9n7fTPZlNhjzW4rm9ATJXvaFMl72jHCy9Yr/RvaHcDjzd8C88y/5zPQr/fr1wDV89Oft7vNqiWj0U+IS9c7G4vC7dsb1L9Ma8E7TGPVxDSb0pwxA9U8OevR5cajvxLUW9KBuuPXooOL1wLBi9lsL0POaahjzZuWg9Po3Bu5RbgT2XmWS8fNkTPVLa6z2lIMW6voTvPUcdET2H6bg8SVIAPZJgiL0wOp08836UvRDtxbz6P/A9gbdIvY5SG71Iv0y9Dw13PSNiTr0XPDM9O5PfvRSJ2b2ZBkK9MMy5vaRyhr2Mfhu8b8MdPSqA3L0Mkfo9cHdQvLICG71EGvA9JMilvOuLkD2F6AW8t0b6vW4m9Ds7i6I9SkuiPaJokD2W+wo9ojvOPXIc9D0qC6Y9nZZNPC17FrvuFF+9ZepVvT62Jj1HrJ69W8/wvSA23DuArvK9MfLjPY+aoby63hG9Qv37PVel2b0DplQ9EYabvQNG0b1DAjW9pbwrO5WgY72TCGm9RcVNu31WADxDHBQ9cSC8PVUdY7yb/KC9TIDqPVem1r0hF9i9Lz5DvCIDdb2PjMM9ABTfvYAZxj0uhy09DMhbPSkWb71RSYK9eYeSvInCzD2DRkM9Kt99vaTb3Ts+4Ye9MI7tPJOPV7v9L8q9fVyduKYDob0xlvY4Q05VvYSNIryhIT89h9UlPU8LjT1PBze9gs2tPaXAbj1S3fu9cJfUO3o8hz1NEjk8Dhs2PVHTpj2j/Nc9db7SPKnswbyyNrW9jqLnPDvMIz0s8O28Fobtu2w0wj1AqRc9UnC5PZeHozs+HGw9RC/CPBdecD0PDJY7x/7+PPWUwL2EA/y9l0rqOrZB4rv36+o9BCBfvZfRgr0dZUu9CGZGPUlCJLudLVy9P33YvX1k0jyKv969OphMPSWhxTz1fGu9nc3yO18TaLzc7Oc6wAmWPV6lmb2jchM9psnvvHRL7T0o3VC8g3knvTF6Q72JbFU7MJSFvZAxjr2XXPQ76PhDPX7Ieb13B6Q9ScuxvTzIuD0pCJE8j130u6TwojyxwCK8oaBVPFFNST0pXmu8/rBBPZcl1j2gDXM6mrk7PKjsnz2Ioja9KejTPaXgS71p3nM7lgcvvNoILrwk6Na9jWtiPZklfL08y829gh8aPF5xajz6kWK8wzjMvVvvI712P7S87oypPQVt/DpaTkG8wO4GPQxztLySY/g9kOOsPZpq0Lw3dKQ9BroYvRDkwj159WS9mXVQPJz0Kr0D4e6857/puvoxlj0MN928NfhRPZyFAz0OFtC86dlJPTYhFz2Ghxw8Jei6PMGHGLtvJWg8HE5BvYVi472QYvC6wnutPWj1Lj1Yo+G9o3zxvJVEjb0bcJ49SLkdvNFZKj1cTFI9brLNPXM1Mj2HdT29gGXoPKlEuLxZHWq9N2ziPZBRXzxCKFs8iNn5u8CVID1m6XW4mUGku68RgD0m8Am7gon7PWoXMDzV7+G8UIbWPQyRpD0prMi9jBHBPW7H87v7+lY9PoxOvWMSmTzWTWi7qPH9PaaJpb0sM1G8YaTuPYLenT1gu6M9dPSGvZwISLyiVfa8Qo42vPGMSr1ovji9hfPqPLt2Ob07oe+9BycTvPCL6bxZxFm9RctLvNQBXr1QOfa89dDtvNK4QjzY6Ei9oqp0PAK+2r2RV0k9J9/8vNRTd71otiq9CdKIvNJEer2VV3i9d5KkPSIz4Dy5IO87xyccPEIKwT2K++U7ShfXvMrRU71QFMW9gLx5PFaznb03iLK9SQ4svGZe270qVMe7Xfz7vZIjjrzGHco7UXbtPRvFqjyuSaS8WyvFvT7U2rw3htm8VYF4PU82cz0JabK9mu8MvQ56jzyuI409HN9BvXPOeDxCVuW6tsfKvXenwj2Gs0q893UtvNQd/D2PHM29ILpmvH0XIbyLuE880tYkvRLCQb2WSie9nituPZjUaj0d+fy9gzUyPUWytb0JKVO9DvLhvaI2KD2W2ZO9oHLQPEuht71gV5G7oQZ3PZMmKL2S+Ag9IucYvT8PPT2g3iU8reqaPSN8tb1bYuc7h267vRAOWL2itjg9mjQtPSTCYb2LJZE9BNQLvVfx/zzmfCG9YuE5vU1dbDtogaA9kZ6YPMTd0z1/TD88QC0wPWvjh707fEY6NSMhvYBG7T2W/7w8XnMWvI4Zdb2SkJY8VKJHvIDLuj2beIC8sMrbvQRCkz2a8vU8x6fFu7QVXLzdASK6gLU7PMxgzL0TS0M9hn3bPTyDsj2Ajrg9IKmmPTy2gb2Gk1Y9FtA8O5EYJb11Nr09cInOPVzuFLz1qhS8//rBvYgu7Lz0M8I9eD8GPL973T1AAR49RzRmPUmUQr2HR3s8vPL/vZqrtb0cJUm9Qe2bOqUtDrzKhRY8OBDgPKDbS70KYHs9LFs2O5EFxjuZgjq9k4+EPIARCT1Ero08iAOKvYyLqzxJ+8u8Yn4KvWRaRzyiMSk9m9EOvW8yzLz9q9u9Trj5PZOpsz1PNR88oTBkPO6BiT1YR2m9luaMPV3Dwb2d6aE9mhs4PWKIp7y1nje85qD+vUc0iL038QE9CQqYvPQswTy/W9a76hSlvGs3ur1Gpdm9jCQxunUFO7wZv+q9itNbO6GMsrydd0G9giKcvIu0sr0/Nw49TF2SPZK/Qb1fJAg8qm9bPAwMc70wtr29JqQkPTolDzyw+4A9BoUfvIVmV7zax2w9ggtEPaThD70jg/o8uL75PXTYoz1ZtHC8mGMgPXjR1z2b05G9hPoqPU5zEr2LPFi9nWNivWE/xLy1ffe9RU8dvZMqdD1NHxo82i6yvTpm/r2lINK9VFPVvNrRGT2NRTW9aGGmvMmUOL088bA9Ts3QOyGwTDyYyvK9oTnwOzz2+jz3lay9TnVMPLzZTL06f5G9MQBbvYkpjzyDHkc7uRKvvSc50T2l0Ha9n9+bvIvHQD1iJpU8rjDnPC0zmjzqMpw9lpJFvUlXV7zS3ry9jRhTvV01Mr2gKAa9l3XrvAOUKT1uGbA9Ti4bvYMFarx560m7CcaIPVtJ6704HLK9QXpzPWeS+T2MRXo9f8OUPYTOpT2bXwm9ma1+vLu3ybx4Cha9dKDkvOM2GT1N7u69TIa8PLMF771/XU09i3W0PTqcIz2VFxU72fsNvBLbgTt2CQo8QFjpOnQDN72T9309E6S+vW7dMrygHAI9gyxIPL8hxLx/Zjs7qhFlOtpItLrb9TO9kAyku4yHfr1Br8y9KsB2vXCGST2cy+270571vZXZjDudgCc9NspSPLKfQ71m7/g9knz/vDneEzyszXu8+rnxPJDCZbxXrfM9h4d4vGawyzzQCEy9PayQvWW/QL1M35w9ozNavRyPtby9Bx+9D6VIPZHWub1aLu69I3FEO3eFXTuOOy06q6FRvZ2cHTr97OO9b5oGPLt4dz1tpyo9oNwGvXzSGz2h5uS9W+i3PP0b7Tzb2N48ERXmPJUoxbxmk0a8/16+PYI0Sr2VreO7+3p5vaLNvLyhL1Q9HdrOPORpHjyQaRw9XtSJPTK2tL0N/vY8kyVwPDuG272SL1c9IgTOvKWwp7yDHpu9bKwUvWaWpbyCNCs9jy5GPM6VjLyUGPA9SzIsPMPGmjthtS49U0/5vSTShrzHyS+9nAm0PLpwNT0dA7O9R2oovTR4Zjzfp8M8DYvqvW2zQj1XX5m6YMgRvUpbSr2OFqu9G55MvWIVzTzYpuy9BUcBvWA+OT2Wud09gOKLu28QA7x+bv+8muaMPIatnD1wyco9VgB5PZc7xrzW5na7hi5Xu/rzbL1lUOc9cFidPTv6yL1AKZa9MwO4vSShfDyx04G9k7HpvXDIOLzayaA7cEqHvZJw9r2QB5O9Z8M/vQwhmDxsTHo9GAdXvVOreT2CmHe8XHtPPXtADTzg1Ew8KZHmvUbLMb1DJeA9NZbOPD9O5b2P8Ai9T0nxPTYDeT0CZ5G9XZHMPDBXsL2K+Ba9Xo+IvNrHyr2L47s8xwwQPWO6jbi9gkU8fHbvuzzdLL1cdCq9TKC9vQ3kX7sVvTa5yKYhPR/Zfr2PPeu9Fs0gvKXbNjzWLb87uRmgvH0LqLxwHs668nQdPWl3KjzmdCC7BOt/PYWLXr2QVIe6izi7vYu+TT1/MKk9M43HPaMiPzsZQp89eVM3PQxUWj0Xw2s8mgJlPNRGwLxfk609DJuCvOS9xT0QjHw7lfiSvaZ5gzue9Lk9hILfvRPzKr2WouM9llBfPUabn7vuK2W8QmjmvVTn8rp/6mK9dnYlO2JdYbzTJjO9amzuN6cOIj2UbfO9fZ7KvPh4Nrzpt2I9C6CzPNrjUz2Pkyi9TXgpPX64V7zFY5G8/LQcPJ3/rDuNlQW9l31fPaahljyOJUE9ceCQuy+iBT0YzBQ9c0aEvaPk/71wOcq9peI3vXH2uLzaLvG9Ymlcu9k//r1apks9iby+PJQEbLzMEFW9HRA+PYaa4r2X5T49mW42vXXSu71p+RI9F4rEvSkdFzy7wOS7ic3hPUUXxzzvguC9EWneu7+lpj2fTvI9CAe8vS/oDrzW0GW9TuVkPXFNurzRkC27plumvLFlLTva8609EWy0vYw3JDxiIOo8yFavPIe/ODzhlMk9DTuDPXWGXD1oBAG8oe2YvQtzrD2R9S27nczoPYGW6j0SxYC9O/NhPC/u5D0f6D68HL1WvaGvYbtidrC9pLbYvVMNdbyMAn29EWfWvSJ3GL2V89O9ZIpUPWb1cz10S909cvV/u6+2br2T1k08xB6KPTVO97xDJ6K8ubxAPMug3D2TpUI9JJ3MPJSD+z18yxg9WVDYPN7jijsOMq+9UM3zvYEiYzwHcj4497RlPZYEBL1WWGy8s1A3PM+U/T2j2Ye8mqMau+pKSrx4QXG5eq9UPWVbMb0nj9A8I0s9vWbyeDzbw7O81AhUvVtz470/xQs7MLLkPVbxfj1/7l086z4zvXrPjD2WL7m9b7mHvT8RoTuCdqE9MoZWPXcFmj2hM929lm8oPXaaDLx7SIs9j1rlvZQFq72QUhm9Qr3dvWgAPTyisyU9VgRXPRKB770oDFy9Cov9PY8ix72nN9W7CqaUPOoQxD1ywLG9KFImvWtD4j17EDS9g9muPO0EZT1dtYw9mxdYPQN/cT1Sdhq9BSrBPFENUL2LwBi9WlBOvKw1+z1/65s7U6nRPZUeKTzfJIM9CEJeO5ip8D0atjO8s7YyPYvIRL2frvk9hhPyu+5HKD2O8SY9kSIeO+3OejzgT6289KDiPZd9HT1GYnq8xNRlPWNOij17DuE9byoiPRc23DyDKpG8uaK8vYJKdLx00HG8gyC1vNLUl700RcK9XTTRPBe9xL2S08W9ev93O0eqpj2Cwcs9G1RTvD19nb2mnwe8ql7nvZBfmbzksmy9otTCPPeVKTyYVyU9TAUTPYdzIL0f9r89Ot6WvIIuuLvvlF68aHyavXeEu72K95K9eKYBPXoXH7w8PrG9YN8AvIcS6zxNa7s9lnsrvUP6RD2gU8S88nqAPZO4Jj1A/mA7Amz/PSLExr2gsyO9On5DPaDGrr07G3U8lzzxPPEApr1c8S49SdEKPZmkFb0VAb680pX3vTps3DyEsdC8x4jdPE24CD1xW6O8I+e4O4UKHT1T3Nm9nMp0vZV1D7w4ZpG9AiqGvIx1x7ykH4e9ASi/vSKBmz18Nwu6+7+2vSd3Jb2Jaq08k4jZvaOjMj2bzi28zjOrPZrmlDuPbsA80Mw9u7yCyjuGjTc9R7P3PXvY6T2RGIa9FgnevMr6Ajxy2PM8zaCpPL0cMD0Ss+q9idpOPVEfIjuwGFS852w9PLjIMz2CJYA9SPDPPYux771EQy69WQgqvGmxR71D2eU9iB8ru+KdJbyaUrg8s4WtvTiJET0r4BC8kURmvFM2H72aapk9HnKFPRa3Yr0Ba189LKQYPZ1vrT2HlBU8uJuZvX/ZpzwqPwo9FBqDPN+adDwIpdw9pf54PQZxMb0Z7i69E38SPRW3Rb2HVQe9JZM1PZueU70GXzK9Va2xvAGU/j1dpN+9OqRFvF8Pkj2iUSQ8wpt7Owgxtr0agsg9m/wePUNP+r0nsWy9pBeyvIlwILtGRF49mfYHPVuj+j0Abtc9aRTHu4L1wr16N5Q8mVBcubftE7zNiD89j1GzvH1Xtz1zW/+89y6XvPPUKrwEbMe88OdbvPyEXbzMxSq9RecVvTDhuLyg8Xs9L2gKPVK4qrxOfKU8kznvOxdW7byjMls8hfW3vWBhq7xgFcm9UoUIu+ikkjzGENQ9JjRdvQraWDyPiRC8xMrdvSKAqr2S1bM8Grc7PaLwzr2dQ3k9Hzu6PSQwCz1SJPE79NcZvVrWmT0Mg629OP16PSfuCb0tDcq6xP7Auoai772m1Ho9Cog0PYMBsbznumY9bsChvZzPMryqK+89iLyPvaSCmD2bBIg9nCoZvXPrcDuT0r09EGzbPYahdz2D1OM4zAWoPOf5P72iUrK9SaUsvYWLs70x3Sk9ATQtPD55Dj2ZON085EvzvZD9GDxNkva9MN0tvPmgszs0VGS9ImQhvZxdqD0Zvf+9nQbLO2nHu7xUAhW5r0GCutZRTr1aDbM8892uvWBJXD2KQ669UtBiPUgxNz09kcC9lQ1MvLD6vrzbZam9Pz0tvOwiVDyvr9E9lTFIvZotaT2QYlK9QZi7O3rnqrzdb3Y8s1Miu4FOPjzhGdI8/BkjPTR4zL08Xww8phDLvR5Ri71999+8j7hBvX4+YDxCXTk9Mpt0PPxdBz1yoBq9fDgnPWS8YjyPzS47fCZtO3H4/L1d4ks9ZA2pvASjXD2DVC29mjZnvTPG5TxDd5E9kWXivWX/CD0V2LQ9VMgfvQn2n7ziy7A9l7nOvWaZsjwdfw285prEvW54IL09ekw5ykGlvZE+pb1QGvy8qNvIPT5mmDy+pue9IPpfPDsXu71zFWQ9LDPovTNunz2hq1U9lIhou+MlgL0CsL+8v6UZPMHlAzzMLIq8r57bvSbB4ju5bmG9oQi2vYskA7uNA4U8NIIovXEIQ71cpDo9lP3GPVCA8jxDt3U7iTHEu0/4pL1zujY9esfYvJpdBzy37M89heWSvYlwuzxYYei8rexMvOFFpb05ygI9mAaJPRTYTrw5I6G8au6HvU6wxL2iFvs9YVerPWSctjzsJAU8to0QPRDadjxpzng9e4tSvRzTs72ZqK49k40xO5ACnjzY+hU9nuExPR83hb15V249BcfcPUkamj1Mlky9KBAyPYobhj0k3a689ZpyPQd8rz1Z5UO9LeQfvKdxIj2N+O+9LbosvPXNyD0/9989mc7gPYQVcDyp7da9h9Jnu6bCxT1E97C9EwmGvAE1Dj0pFy681PtMPZ2Ig72FgUu8ZyUQPMkMnru0yJS84TH4u4fClr2CAiQ8vF2evT28Hr2IuDK9oFKiPTn3hT2VcS+9iemcPQGGeLxJJQM6tJinPRwd7TyhqaQ8lqLZvZlDybxDCw68uR44PZN30DydzG+86FNuPY8/0T0zEfK9henDPSI1ZbyQj2e853PqvUxEbL16/xk5EyH4PYxiUD2fusi9HFmVPXeJFD0FbjI9cJdaPEa8UL2IHW09lhiZPYJs1j0NS0q9MviYPZgwlL2Kk9C9ofXovZmcVDyaSPa9GuXsPaPrfz18ULO9g45hvR8HRD2Xf2m9GG8MvMYboD0enV69fQmEvaF2sboZnHC9pUzpPW1HL7zMzW69OVEMPBA3pr0rK+q8FXqLPYh+YbvbNra8PRgVvXowebxC4bO8lHBIPYJ6yr2dtIc9UU1ePY/rz72R3R+9nRxevY/bOr0tIye9SyzYPGlFAz0XbGk9FHn7PMkHO7y7Adq89neIPKJR3DsZNeK9PBT7PY9x7rxpyP+83PEMPVN27rwJ2J49fBHsPZ8Sdrzo/O88jtocvVqFwT1Xetm9Uv+hPU50VjzkdZI9iuYfvOq+nz1Ofi09jO+APSEZTr1yOA+9ku6cvVIaQT0LKyW7hIN5u1A40b0peTG9MQuYvTMqCz0krhw8U6AauvKhg7y9wYK9Lc0ovYzYSbyYT9G7TGXXPKVq4jxN36y8LqsHvRyVGLsaxAK9o5yuvRHDxrzdjl49cpNGPXmZ8T03jOa9UJ8DPYKeob2bJu08MlU5uSNXFD0yYrq9X00fvAiTXb18nQ282rFWvTuzSb2RRr89RZzjvOQId70ibeu8eW1svWIp+D1rJkm7hUwWPNtqJr1b7wk8gdIRPJ+CZz1g3zW9VEKJvVHzur1I5xI9lZULvZLCSjmJifK9LDeYvSUjmj2gk5W9LoN4PZ71yL0qF7Q7RVXKPCxthby2+Qu9JcPpvJFKljzgtUA9lGDzPK4eKj2Oxlk8n+F8PYLymD2Grq+9FBQ5PNzmoz0bxry9h87GPMpAhTn4dG89nJ+YvTgmur0pGfq9kfHpvaIPmjypUzE87vbtu5DWVr2FsGQ9iuirPKbzATzFJVQ9eE0PvXN+Z71fr9s9oBLJPSfEfzsV0u47ykaLPT4LUb1y+PW9RAsHPVDFor0Ubam9hu/PutpMnz2BS4u9F4gNPV07L7lrO5C9ZCJZvOyD0T2FCf+89LVBPMDfkjyRDho8L6udvVeQAb04OGC9F2QYvYzHMrvIdQ+9VhqXPPjLXzxM6GW9Y9fYvJufUj2guoA82+MYvMesTb0qGW68rumYPK5CW72KOkC9n3QePUE0n71apPU9RnaAPWt0hr1FazY8ldhrPYtpbbz/Juq9l2QdvBUDlL2GG6g6uTEPvZ2+q72csXw9Bw7WPUBlFr14V+g9nbYDvUMuYb1n8QO9mxYAPM2AXr2B2h69dJwoPTEZoT0tq229iR13vOBTuD054js9cyZgPWALqb1uv4+8KD1XPZClOD2ShGU9CDosvXQ0T72BUcs9cOgNPY+fMzqA2c886mqFO81qI7rI4o09dPGgvZTeWjzh1C+9bStfPULkdDr9S+C8B4RKvP1nqL0tXR883WBwvFYRVb2JG6o9hKylvRCmYD2N7K08MqBDvY/L8L0Lj9y9E8D5Paat2r2Q6ta7UDioPC4vPzv0yps9bSdVPTtnFj1k6XG80VunvYqIsz16GxA9PLxpO4NpDLwC2H29WepWvWBG+L0BNgG9KaEmPLy3iL0Kl/68gaZyvR9Bx71Sa++9IXr1PY5jy7zUDvE88YrCPQI0jr191c277sTlvUPiy7wohoo9T4vlPZz8QjyiUdc8odN9vJRvd71yvQE9j8LGPAnuFz0dx++9VveMvYQqEL2EgIS9iykLPQsdWT0VXxk9pWQjPXTm0zym0gW9Ewk4PAlBkD2blQ09d4ImPVhvFbzxd0Q9YMxWPZtOMb2Hhii9VwrQvRXYgD13UcC9oGF8u51cZLwrF+a9XW/2PYCEGT1X7LO9Y9TlPI1rpT2gUM09h7YgvVjbfD1LVBE9naIdPVdUzT00SEe9XV+FPAoBXLzKIPw8VgY7vYg5WruxPZ29m2X1vGyNRL0x2vm8QkTkOv4JTTzh+iw9K585vTFuIL1p2hq9mbKdu5bXo70aTDM9guwUPQ1vXL1BLVK9ncNqvXgC6z2dqAo9VUI1vZ6QHDza2Cm9pi0mPPPzub1zE8e9nqk6PQ4L5L2mCxC7myhbPTbMcb1/mni9RO2IuvlLArw/7jK8aJKmvUanIL1wls88BwOHPU85Bb0Yxau9lYMBu5JGFjv4FBa9ioWXPSJQPzw3NeQ3vUOQvYkhYjwJTvQ9B+hnvYrnaD07cKM9UffCvaTLXb2OZ+29lFc0PZQ7yr2RSGg8m5jEOYY3fD1pnr67PfvtO7yQ/72dAok9g1b5PZqThzwa42c84pwWvILmIL1lE5o9imgOu+pRZbw6Ohg8lki6PXIuubzGwY884hemPZ5TCj0QN+C9Td22vOTRTj2OgRy8jLPkPTwiYT2Dq349o2yZvYQZKL1leeS9Dj7PPRREh7vOWLg7ITDCO02bIb1iPdc9nQPtO9BQAj19zZi8jLvfPUdLjDskKre8kiFtvKNtxz2iUiu8peWkvLTSlb2LRnM9DhTnvYxB6LuX1IG9YAoUPVNMeT0vxxQ9fz5WPZqUrT2Z3zy9jhqeu5pPQLzX/f08lhsWPVEmCr0p2q478uYtvLGK4LzBZFA6RmdRPS3dvr2Ttrk9M6NtPDfGSj0/x4G9Vc5KPLtgA7x93uM6mLYvvQJai7zcUtW9YXZKvPZBvjySuSy87tTRPHEe5r2jXSi9GUN4vJTeoj01Lcm8qHNUvZI5Mz2ADrC8CCGgvXF4wT2XC5w9CZAXPZmanz19bcq9gFCNPMbFrr2SRrk9MeqnPFiB9L0jzi08x/hRPFXKv7y1/tk8Op6QPP3dZb10+n49CVVyPYMP771zPRO8CXgwPKy3VT12ag+9aYXIOblAvL2mN+E8ptaxvQ1PuL0Bx2a9MxpBvWNieT1wRyk9mA8pPTSrC70dEcO9lrnhPWHR9jzEYhs74bGBu3E/zj1XOsG9Mno+PYgVb7t55Na8UrnkvWqSCr1IHQo9RFKfPQCJJL0cj+69BJmAPAaSHb1Q45G9mJ6nvaQxx71PZP09RexcPYhwgL0Lcfo8mVRcvSpDh715TzS9DFtKvSQQBjzY0YC9MEQbPG+OPr0ufBW8x/TTucV+xzwewKE9KwqXvWVYDL2DcM+9eMMfPJ/A+LxIHKE9U4LvPVF3aD0fNrc9iyf9PMA2hDxikZg9MQ0YPSd9xb0WZYU8e7O1PL1VDjz7YB688zFGPKSs8j1O5t+9lEXcPAkDt7pZ9MQ8rT7pPNAtND1V5lE8bsRTO6w2kjzhu109nUApPaNpcj00eIa8teRFPP7RfT2BfJE8P0qcvO7M4T2YpXK7pK2EvPXybLrdBzc9ez4VvZ4VNT1/mHK9IqwqPH/JHL1bRMG9hc+bvO6TVj2Nbm+8l7zOPQSEMD0edNY9SRaAvUS1TD2adsq7CDm3PAywpb2WsD08tToyvWCL3b1ya7G9GTY+vTWSnL1onW89ESk7PQvowjyDmGM8ZRMoPWTjNT0z+ya7p0/cPMzxTL2QGok4FCc/PWEuQ7uE+789knqDPYnhbr1nKou9E+R9PZxwqT1MIf09ZY2+vNJl3zzLPS+9d/kAvI7aaj0J3l89L3YAO7l0/j05KSY9gwxsOzrHLzvK2n48htekvFocaL1/JG+9gYj/PScqTb1fyoc8y24iOakfOT1hPfO9DeMrPEpu9bxbn8s8rMHyvLuNaT0HUQ287BcFO95tFrycsyK8v89KvTXrSD2bG7o9L3eDPXCYZD2Rk8I8Vu/KPaF/Qz0BWxW9CcpcvRRQazxDlby9XXDMvZWnET1Y4eQ9FZztPEbv1b2cqIe9K6SivULpRb2O3tg8n4jgPaFltz05EAA9eTqOPZlQKL1YtwG9lXMpPTO5ZDvfL0C9m2MrPZ6aXL0YVwC8Pw9KPYgfeTt5NUq7B+PRPLrK7LxuilA9XivwvRdsOD2Mct29Ak6aPSFs1b0pcuy7tGYHvaZ3Y7qeXas9XEnxvYCPtjzEyte9jfwRPaGo5L1q+Ce9OB7UPQ5rAT1jC4G9DrIhPGAsPb0HUNy9PO1PPPOhujxKzjS9Y6I2PVQOEL2cZI484sjUvXPyHDw5Yiy9WNNpPFtFCrw1cCo7h0aQvR+bWb0LlNI79vJQOwBQ97yPgkk8bkDUvCp7n70R7pe8cXeIvLSDq71y9Vs9E9RqPAaV/jxk+8M9mKN3PY9WSb0R9R+8yUnRPSzs0L0ixzM9LQn+vXOukTuwy+C9WrlwPEPwnT2dJWq7qm7iPI3IFzzVEAk746P6vZkFPr19sAq9iQufO9Mw5T0SBcK9BQXZPUbbmDwpXa89A8/LvNTmej2KDNc9jS+zPW6uVLw9Y9u9osHivMT/CTvHYmM9GlnqvRrooz2i1BY9KvabPW2wezzjB549WfXEPXcASz08NLM87yjwPXiwOTzcl6S8kxi+PWUVyr0Gzzs7SWOOvZ/JbrmpS6S9TCIXvATUTz0ISy29iS2XvT29xb2Vd6s7Gh9nPAa36zzYTdI9oyi/vUwAkz0pfoU9iEUGvC5oUr0mEGs8UJtzPYfp/zxlyxw9JwwnPR+U2b0L0ay9mT9iPYCcFD2ZNfq9iRkwPNzHrL0fMAU8WQ5PvEUYLzyqyku9Tld0vT/Jlj2HIA887nlPPREOP71c9b49WUOouRHYwj1QV4U8SfQevYhQsb2evwI9hePUvSx3z72Z24g886vVvWWvvT0oA429VuQ8vVu+TbyVlcu9nXPrvHeNM72c6to8TqOsPBSXZT1Rax69gGKGPEx0Fj1904S9J2U2vWT79b1Wpda7452HvUE4wz2OI+k9cczqPTo1kDwVCCe72AZ1vQOmg72EHlU9IvSpOwc9vr1GPz89hm96PXslSLz2mEY8PJz/PGJN3T1shbe9LMcdvT9IQD0d9Mo9jsEsPSC2xDwySwU62mlcvXmHDb1Nlhk8gHEoPWAiE71Hm8y8kXggPQKabL2cSAQ7euHJvWsIWr0vDmM9pNC1PPESCj1qaXu7u7/POyzb/rsIdAO8IZohOuyrUbvdpXQ8nI55O3gslbrPxDk9kYc3PYU7pz1FKBi8zHoxPWLkbb0ttmi83M9OPT/HCL2iiV88iDk+vR6aDTogPMo41hCkvXjQOjy/lWY7KiE8PSeZOTwWid29jQqlPaWy5zyNfqE9m9bSvEDRGb1HyVS9Khydu0kIb72Ox/m9kXGJvHYz6LyrQA09eymhPEObAT0BpgG9J0s1PXVoFL09+7a9lHl+u11aVj2PtkU8p7+KPaEV4b1Z+uw8hs2oPTL8rT2aYJa9ox5AvSlKu71a67w8ajoqPSz0J7xJX2+9f/tgPRlrJDzTbTy9Hl6+vVdi+ryhcw+7w1LovQerv7yTNps9LCfdPL3Ihz0tIRq8keP8u7POaDqpelg9iKyTvByQBj18Ktg78+p6vJfc/7ycCQS7ZEVRPTTSkj0I3GG9Kvi9PVb5YjxKiCa9fRZQPYTfZDstyEq8hxNZvZdFLzuaW9M9gTx0PPQkKbsRA/o7rNBRO+U3vD1djZo7vifwvVcFLD19unO9Y4/7PQcV/b1P2sW9Vgz8O883tLywBW29DfPtvNhjIjyXpBs8rm5YvLj6zj0Ft409nAMxvAtYNT2e2YO9lqdTu3ol1LsmmOK88cAYOwQ51D1Qvw08Vn0SvaF+aL2JCn48QqpNPUjMk7vGQzo8eky8vaWLFz0rA9C9fYpJPaBBDjxKCVi9hoenPMfhhL2Al7268SHCPaFtnr1WzmK9nCRwPIv5Lj2ickW9jO0/PabuL71UfHw8JmC2vVwq7T0BRFI8jrZtvURSJ7xbBom9L5gMvQLnR72j3eC7p8mFvGn7azyekTG9HrV8vUmhfTyWsFc8UYPTvZS9x71Z4+U86xXSuvs+DT1Vj6e9ZqV2PXSmpj0LZSi9F2GYPTyZoT1yAuW9cteYvZzCd72A3ni7pOlJPYlp4j2XFu89gyHGPZdPej2iLIW8+Oa+vTU2uj2E+iu9Os9KPRISRz2NoL871ZjHPR7S1j1jvx09ZsvRPQSheD0ooaO84s09vUvHjbznXSe9NDcnvZIyGT0S0Ny9imD7PSm9N71lPsy9oMB3vBZ8jruEsQm9ifuePENBOrszyuW81QJxPYtwAb1/wiM9Jua6vXVBHz1Kisg9OaINPOVwtLuEwm09lQZCPVTiFjw5cAO9NE0YPJXvwL2TS7o8EjkvO42KfbseQ4s875xUPFLFcr2Ikim7gk+vPZ2Drr0KfgW82gL+u4uODj0URxc9MwDiPASSDb0kJPq86Z6pPXY7pD0of6G9BCvIPXiKFT0lXjI8Wj4BPYwwoj2WyNu8WWx0PYMBzD1PIRu9D0qHvQpxrrwBZ0U9i934PYmBHLzNkjo9nRgnPIVskL2EmOw9c25hPW+q3b2f/Bw80CxovCu+WLvh2HQ9Q7aFvVx1xz0XFwK8SuYBvSmpHDuJLMm9pMSIvPQZPr1zCBK79tE+vTsPyL2FpRG9lOoTPN4Ts7xNhvY9XNv+vaXJRr1MsMs83kopPQoiDT1662w84b0uvYKA3b0RZra9XdpAvPiKvry7Seg9e8l4vXOSy71BMlg8pLE7vIrPm7xlBCy9I6MivWqwEb1wpsa8RQ99O9r2ib1SbNU9jU2dPaFmxb1QDgG9iKd7PR1tYr2EYgA9iGN/PAm+H70ZnBw8Ce3YOzi2GD1AJLe9o1BRPMmXsD2U8f29ntJuvKDYVT2gPIA856AGvY8CGz2dZYW8zcBsPC175z2Swby8/NNcvQhZwLo0EXA9gytBPCkmSbyeHmS9cJdSPZGObb1Wfyw7CmAIPXxkbrzOjzM9cGyuvMEEcDy0obw9lEMGvXVrWjy/eZQ9lqwKvYxAN72GZPS9QWEmPWj9Qz1c5NK9l55kPZ8SXj1VYjK7+jEuPY8FCb2SD1u9bKrbvOb1pbth+J+9nHo7PRL1471/hFw9bd7CvZkJcT1+Ag49n/22vTE9RT1hGPk8BmzYvaOemr2ZfOS9Ov0AvUz+zTvPiTE8I6hnvYg8nT2EK229peOevYwMhT2TZiu9jW12u7MYFTyF8ZI8m6MjvZmIAj1175O8qFySvKh457zpUjg9gfK7vSzt6D2Gfy09oQaEPA+/gT2c0B09jzAKO8pbsD0GUWg9iT2HvaG7/b2KAmO9MTwqPBeYab0+XGO8fUQUvRyPab1lfyu9hEaoPZD7kT2gCv28hemNPMC+KLzuPkE6yFgSvXbIYjzrFdI9MXrqvHaG5zwDbyK81oLuPTqGfb2LhqW9ZC5auxNGOb08yMO9Ozf3PM95172egJG9hRLQPNrC1DzklVW9E+uvvUoRxD2ajgK9lzDQPQZDsT1fDVi8lTdtPOyLED1wMWa9C8TdvZkogTuI86G8UAJwu8YZQj2AckI9W/M1PaLOTjzRLoA8EfXTu5xdPL0H/mq9FPRCvM2u6D13zIq8ztulvW+rEb11jNm5ntrCPUXo5D1NBmQ8xs3JPY/M6rxlgs+9HRIPPQi/sz1YS7U9d+4MPRTNDDsQtUU89ZKrvGR5nT1AVG49FegjPZNnvT2QYJW9j4VlvLIHaT2B0Dk8px4JPVw9aL1RqhE9pofyPNnlEryAzwg8m4XYvWGSGr0aik09exI6u3Js7bu+XO09S7pdPSCyNL1TPkE9dr7/PBCuFT2KT1+9ArT+uYZlNb2A10o9LcKIPM7Ln7xJI2E9OKxePMFgBz2BVW87WyZ2PQqfWrysMby5z0hxvZwnPDztJ++8Jy8fvQ8YHD0kycw9AdqkvRvaFj0jPP48bOj2PVZ0oT0qrrK7kFIQutmoq7ydoC49k3yDu1Nnrr2dkk29EbpivAl+HL2AHJQ9kX6lPL8RUDxkzaG9ly1evVo3sDw8jGy83fQkvJ7mrT0i+Mg7jyDGO0qlv7xv+hA8bRJRPVB9MD2GA4q9clbsvZOCpD0JZ+49mDbyvTcFb72T0gG9GybjvIAjy7sbAhA8DBpUPabvfT1YKoc9D2yjvUxfqr2VQrQ8vj3mvOpWIT1yKjO584KJPTlCUT1Zm9y8RNLTPXFZuD054O+9pWpyPSxS0Dzv7Je6EzL0PIGfLb2CBjw8mjZOPPJtZj0liQg8sjDZOrasBz17WX89UkOFPUiv+L0rCyK8kjJZPJoYA7tzW1g87dhhPRAXHb0eCq89JRllvWUW1LvAS868/CNdvQcHer2P2Lm9htkZPZBiwTyAsNI8nWuEvVTbBD2Z9NC9h/wVvaKiFT0EApq7VZSIPVEKYj2Iu/49ReVXvNOiXj1l6d+9gzrQPY9MRr1H7UM9VYLOvYaMNr0W7Ng9KyxvPPZJPL07WQ09je4+vAgI2b2lXr69NlHYvRGq5D1K86m8u8r+PTd+br2IOi29MuzPPRi98T2h5mG70WOTPYOCmr0ABtk8WU0ZvWuKfb0mS6q9UWF5vTO65LxT0ei9QCFHvTNIN70P4Se9CiqSvVv3IzxZe1q87eQivSn9BL00SeY9TLsIPZsLH7qzSZC84e1gvRTBQD0yTwc9FHylO9B6Dr0WgaM7120fPDDhT7x4D/Y9SNdqPNEWdT2W5p49pNM4vaD9JbweUDO9O2hVPTTNnLzQnES9MsJhuww+AjzEeVA9YCiRvKwU7j2Lwgu8b7fYvWQQj71+mUM8t5naPZlM6DyDDOi9WLYjPaJm8rzafLw8g1HCvZueeL18eFK9i88yvWgFrrshb3e9R7savQUeMT1h97e9JZ09PWXvHj1tTvM9TQvivR1l3TyqaG878B2fvRG3ATzyQPa9fJvHvShuATtLrkq8F/3cvGnQbb2fddu8FMcJvUlH47x+qdM8v+CFPZ4wU7oIIrA9W/kevTvztTzZEFU9R8dzvYjBE70TdEO9pVjnvSCc1T1tM/W9M2n6vMrTzL1dDNk9ZD5BPJtasTr/6mK9KuMQvUJvJb0JW2U8inpdPFq7A7wXNC+9ZhlKPVKJuLwV+B89b9VSvSMINz2O1gK883FUvYriQ7tQ08o84bdiPZCp0jzWnP89aUU8vAqLzLwOrOA8zxm4PXPlzTt0mPY8RQ9ovaYzXT0rUhM8OzX8vD2OjzvIj249cIoavIeHdD1H4pw9pgIfPH/v0L1cIL09iV9XvU1iuDzSATM9LXCGPRuXvL2fRgI9j72UO9QeFr2UN1U9E/pCPX+HdL2ZR7w9hlORvTJ30LzZXWO9nGWwPZuOkjreP8U9B7HCvYRcJLyTBzo9bQUhvJHat72az9y9o5r2PUA9WD0GzoE8WHO1vZHSar2DTt29RQiKu9BQqT0WyUc9AHZcvS3l2DwZjFq60YJbvY3vUr2QO+W83FddvRtsMj0V7Ni6wRHOPVzsLrzNM/E9pPoxvYdmjb0Tk/Y9eESwvVNGSTy93Ki9BBJkPJupbD1Dwz89msYevVoYdb1Nlxu9YIQTvZXj1L0OLIM84ym6PX9Ik7zo03+9BEkTPWRV5D0sRgO80eWFPZg9Qr1OnGO9Ebe2PLH6VL1fZAQ9mcZ7PJXp2r2jkso9SAvivPgVmTyQg5A8nsihu+SCorxrK2a9IXRTPB2QKDxgSry8REsfPYOHkT2SMoe9GxFNvOdjhjukaZW9EfboPTNm0r1YLxK9JKoRvZ0+u7zEVGM9nIUWPQaBHb1EuaU8TmL3PW+BNr0pYqo9GCwyvWyimb1hy/Y83QOqvKrlHT0g0l+7qiwYPE47fb0V+gK9FXylPVDKLzydA4Q8hpHkvGuEMbwaFna6h8AOvBqI2jup91m85T5UvVLlYb2DFGk9kel2vR/MVj1THr29gMSMPDgFFL1Qf9A9ib40PXmNVz2S+mI9fUOcvZuTf7zeO2y9UMpHvVDHgLzuWuq8M/NPPPnlEL1Mjn28x4EmvaPWFTzOyFq8jRgeOzpiGj1+pfg9Nb4+PHJt/T1RzAk89W82vKKjY70zpsu8MGw5vUy3tj2gP+Q9h40ZPZ1XnDvo9EK9Ls6EPJzwALx8rWU80fMoPIawJL2R28Y79bMQPILTKT2ijKw8arPSPNoeU72NvBk8OkQtvaSYlz0SFjW9AFEEvBlqd7y1RWE9KCMXPPHBEzuqUhC7avbRuM1ZUb0vvGI85oafvGlCWzydaUC9iPHHvK0alDzskgs8PEKnvSlfeT2F9bg8qU6UvQNJezlQtO09MJ1EPVoa4Dz6as08QTqhPRcFo7xeDjU9K6c8vRKqOL2QHIm9YkkrvE4J2DzZFX+9i6flvW2OBr0fby06EJ6SvUnemj2aa3Y8aiXgvaIdLrq23Am9nJTXvIqefjwYIly9U9IyPULlb710AYC8q+15vLMoZLxhwPC9Q4NtPWmUQD1MzLi9G/uoPSmWEzuR+QI7kA5gPZ2CyDtW60w9UzQCvaJKib0NJ9U8kuiSPRav3zyoxIO8/3ciPYV2vz1+R6k9ZTJBPX3Gyj2Onda9mDocPX2rrr1PrIE9Ua6pPS0zWb1HD7+7zZgbvWeGP7us3Ti8uzhKvDa7Fz2cOAg7JrstvTO9Gzzp4dI7H/YVvOgXe715PF26ZKWqPIpX872QedU9YTMsPFxm+jyNZvM80U3LPKDzezyVzic9WjSLvDR9Iz0K6ua8IALxPBJxCTwwn3a9ivhlvPqynTym1ik9aIFBvNa2c72c5Io9nFVrvX+L170XwMm9cvqUvNJAUL2Sct88CMhwPZFP9Trn9de8rpBFvQKcB7y0lOA9QubVuh2aCTw1eL29pIlcO6TDpb1kJjK8xcVnPJ6NB72RcEs8+nGpPaLMtj04Mvo7wx+MPZTOHT1Bjhu9IRI2vIjMW7xic/Q9aK/mvI/bTj0c4gc6pwbzO5PkSzyjaay9kaOMvVfNLDxzRTi80KyzPIcpFjvArLm9KhVLvEfjrr0+Th49hKiqvZUFz70sWZk9C1uWPZnJObw8qKw8/Ye5vW1Mur0SrWy9anp5PSma6T2G9XY9WjRaPMVuFD1+/yS84JjBPWIt7r1NDww9oAJOvCYwyL2UOXY8PtwZPT0WJTwhYoY9E8P2vNClX7xFdOa9ik+ovItmqD0Plzi80FlWvUK6ET01Qbc7MrfmvYJJG7uOuk49h6kJvaVhjL1iP5i9hBqmvTT29bzh84W9ZpJzPC/ftT1/gAM9iEjkvW5+LbvXO1A8fb1evOtovb09pNy9FP5vvImwDr2P6pq8YrCePU3cQzsS8FM80TCQPVWArjzNZpa9TZg1PXOM8j1ngQc843ftvZW2/j1TZ0m9ejVqvEPR/rz6r088bGDkvPi9cz0gB+Q9VgqWPKa7zz2bYTY9Vg5TPP/8NDwQsLI9oKGTPSRx971M2m+9TerZvVvUwby9sXY9g8KMPS95PLyU1Sk9TIXDvOavjLzfmBu8NuYfvYV02rzRKt68qViVvV47LT2eQUg9E/govMMThj1jiFy9aqX+PNvmRz0TO9q7iFKJPY5uIz13b2u9krLdvNO0WrmDgHu9PJCjvVMRCL2IFiW9S3QDPYx3Kb0ROPC9kabEvPrPejtguq49cJPsvRdNgr165Eq8910XvT8Uw7z8Ya+7kf/zPaMM1TwRt6Y9ojicPTZcJ711Y368gdSoPLc7gT1X2Qi8sCIwvLtzbb0voP28394KvVGTnb0mdp+9paZfPXjchLzqslo9A8d3O75WJr04P5w9oufvOg7jtLq2VnU9aXYyPVCl97rQtO289tM5PYxLPby9oYq9BeblvJQnvT2FlaC8268APXdkMbw1GK09GoNnPVmcN72dae89YQxMPYuL5DzzfIQ8gyyBvKLmLb0jRR09hqxpvI2Sxr0BSuo9mrMEvDw3JL0yT/g9kA31PYE9ML2UVtM9UQKovKFDlLuR8Sy8ek5JPYZNaLy99kY9XTKyvD7WTTuKcS69OUGTOnX61b0fGY68TGkbvW/+ILylLXu8p/AePBPWDL12xq69kJfUOfDplbuoZy+8aKXWPQ6EjbsSYr89l3rDvRk63b1cRJo8zzW0vNH3uj2Y2HK7I1YZvZPbQjy2Rww7jgwRPMIRoj0Ls4C9pGD0PNsle7yOZdE9ei18u+sM3D2VtP49gIM7PK6Akj2N9vs9SC8IPG5qoj1L5RS9lYUwPWxqOzy+P1k7YLA6vL2VAr0EAMS9DQOnPY9OcLspHHK9i9CAPROeDj2ZeEE9d7UWPIs64L2TUn49T/7hPDVkfb04/tg9gRIwvWMuez1Baca9eRxgvAuJhr13cnm8n7MRPZDKcjy1wH09cUE5PKOFJj0Yi6C9Pl9evZdKmbynSTo8TOtgOfNJDr0wofY7HjG+PUlXyr0vyaE8jLQ4vXaoSTu4rKC8UjLDPS3tn72RmlM9BHswvSQq+z2VdTs9a/uDu+dUF7z1FCw8pk5CvZ2XUbyayxe9lYBOvL1mFLzojVI8xn1hu3x9ob0yWnA9EJQhPaCzwbz6sT89lsEWvTtUijv0r9O76RBZvNvgMr1pc+Y9lfZwvPay6b0Vq9w9kt2jvStkQzv+Ip28aW7wvUsBS72R+7A8r9OfvWNa+71MGiG9bS5IvJm/dz2Jbam8+x5PvHmwQTrdkGO7gdQRvTF8FrxxH8y8NccVPR43WLvfoP07ZgEqvNZ6/T0b2568GeF5PYUKVz2TCW88xfLivUKvRT2gk1g9pfXSPWv72T2iJc69Pw+bPaCywT0B4Sc9KPMdPZfxVjxsnue9cp48vSPKCDx1qNC9IKimPZirErw5/nO9G2p7vPYV+7k9zgq9EYTiu6u+Iz1ZB3O8h3qNPAA0RL2Qerg8rB8uvW+rSj2g2em9bjxEvUU/6LzBgaA9KREOvYzdeTyUJOw9VSivvZOMEL16Lko9nyjBPS0xGL2Wx409eaauPY3hqr0mInm9JKzvPSspO7zrn7o9T6INPP6jvrydt/Y9Ba1QvQsrk7zzRhg7KB6uPaEHh7w79189Oc74PYO7oLsyuLc9jrKuPWClCD2Zk7I9RgzbuuhD5byc6Hi9dDMqPRAP470Nb5o7eVKFPCtksb0QfvY7lk+HvIMNdTyqLMq9JVmgvGCR2r1ycWs9joPTPSa27Lyl8GG9Yd95vGV9i719Uz48q7ctug6QGDymeTQ9kWZNPXXxMj2k5BK8X625vZwPFr2d0Za8gkE2PTbzMj0QwN08qpDfPI0YZ711JmS9SFi5PVq/c7wHwpY9Jx6ovZWj/T0RHvG9dXHLvW0jMjyisyA9heVoPUa3PT1ctM29IupCPUZn5r2AL6o9foUGvNPS+L07qPe9ps7XOtTM+zzmlnu83mpPPAjYhrxfO0C9cvptPGfRLj2CVbq9iTvPvaVk870DJbC8zC8iPNhqDT0Kza28gzYKvQDk5z0Fn549fdJfPTvlxL1AUPi9fjdnPR+LDL2eDIy9Hn5KvOmHiTzwGsk9PzT5Pab+Mjxro1e9gCZLPPdi/TzI67I7yreLvKn2vT05HeS9mvdBPBesK71MtjY9EyHZvSwX/jxgFpo9Rve5vUnQOz1SaAc9P+y3vTncq7niLLe9gJnLvUfGLz1sOjs8YGJVPOTf+zuDQ1Q9pui/vWbtcj2htm29m8LWvW3ZRj1Lhjs9SZQbvY2O8bz3F3Y9kSOBvUFTUj1FjZY9fM0yvU7l1D2lqVC9nlVvvaKq4D1fmpa8hODivIqC270rMAe8R72iPaaE0L1Q5F280mW7PYGSrzvsdtC9g/u5vYvlDb0M2Zi9Ega1Ow93Uz1SoFW8HXqvPPYwzbxfv1K8ujSaPGJVlLzrXCo8LlBmPZqoyLvqe8U9jMLgPRkKYD2GiU89S5+6vVCHhz1VJcm9NY5bPZ2No7yasKO9gIxnPUivS7xTDlu87dnZvZnjpD0WhLE8OpYIu2n097wuqpS9Qf+cPZ7Al72j0Se9SfVdPSJaRT2FPUO8/1RPPT8mWzuPqbQ6NV6SPWHjIz2GDZY9DLXvvZ+b+z0P6qo9aRFouzReMb0q1849c/s6vXX/Zz0vzqQ8/Mf9PRDj3z2WpDu8qrSDPY60JT2TLv69ZkStvUcV77y8a0A7vHn4PU7rG7xIDra7silBPR36vj1K7u89iooAvTW2qTv4UzQ9My4EvQILzTy1DQa9oo3EvTI89L0HKvc82HxCPabk7b1ejtS9XE5KPBUVdrx67QM9aa/5PaC7uDzpoUY8gZgyPV6VQjw6/oG9XGzMPXyDPr2L69A8va/pvZj8dzz7OBK8A0bWPYZOvj0isaA9B4m1vRwJyD2Uw5u8NUQJPQSQ/Tzdx4o82ykDPaDOPrym/By9lm5ePXEQ1r2EhB09A8dbvCqB3j2AEYo9gPvAu0hxYr2GRDc9Fo8vPXpzkr0JU3e8jxWHO+2mOTxZeL29OEkIvYCwOj1BYfo9nQJlPY4lH72dly06hqU5u2eY7D1dh4K9jlkWvRJqgDvU6si7yPXSvUNAFr2E5es9lwdGPZj3CL0aCdu9dA2BvaSjyr2byOQ9d8q8vIFWYz2HaGC8koZ9vX/rBL1ZTb48+mZQPEp6ZLzQX949gVrhvT0uQz1ExDg8xsAMPRtFZ7z0CaC9bDuHvJRT1L2Exf29jAMiPaBXAr0Swqy8naN4vSgDA70UaR49k7g/PSwI+DzrMe69R9YwPTGIQz0dMUW9oGrtPMWE0jwH6oM7l3JIvB5sFb0Ty2e9VidPPaBgNj2jGcS9Rl7IPNRhND1qscq7mdoqPYuctrwW1Qa9S22nu6xFg7wfcrW9QkgWPWDmb71Ttny7vxEMvXbjX70RmoU8grpxPYuWVDv4OC27HUsAu7+xp7sji/29F3ldPQ5ydz0auYK9Iwz+vUkxKLzB6E09nNoCPZd+27wMzLy9LT1KPR0bOj1LoqU9mHXuPX5ARr2FMLM8NID5PO4GL72H1Vo9og2wPXHccDwlfnU8pAq1u4GlsDzwqW08jq8zvV4c+r088Mo9eGzFuSbpjj1Z1pG82zd8PIEnxD2Lrh69OJSzPL/0+b0eUqg8GNp6PTs4GzoksJ48F3E4vS1Ze72C2fI9gIY6PP8eXLziz3E87TVDPYNusTtw7IU8oAyTPF3EcLykzJa9Iam8vMxGBD1YM/07+m6pvZ4u4L1jojO8R9iTPWir+z2YjR+9GN5LvQLo5rwenv09DszFPNTbmb2Giaq8yLQXPY53CDnNAxm7opZivaRnHT19cCE9cp2XvHn3K711uTy8qRg+O/EMMz149yq70KWovRFCC7tou269FIdzvPW9ID2JRzk9EymVPLl8xbrVkJ09FBsDvSjw4D2ebYI9kX30PXBrVb1vqiE8a7u3PXi+W7yeXUi9WqKJPVZGvLxac7s8cvBNvH/y/z1MKbQ9WNaIPUFFErueFEQ9RfeEPaVORL0aVdq9iroFPT+2rz0ILMu9LQxsPZAuf715aXk9US+3uxGfxD2m0z09F6OoPTu00z2g7+K9XUWTvJu24D1QyYi9d75TvX9Aaz2iw4y8oq7xvaa+4zzJmCm8QS3Qu0FSzbo4wLa9PSVXvQax6zygqqG9BbYHOGp/cj2epPo9DHKavYdTKDxQyao9RtLwvIyCGzyQZIk9WeEpvA4gMT1nchk9Uvw7PDQIFzvk/GA9jR4jvYgevT0HuWG9EzUGPZo6TL2D93O7ZSTfPUl5DbuqUea89QWJvZ5s5j1OHYi9moVDPLktKT1Qo0U9oRZ6vLmOSD0wAV69bz2Luwbka7vZ+Ve9jmWxPUYf4rxIw7A8bPhkPBrVrzydCZk9mFVYPZ+YJr0fKN09hsBXvLltZj1uvRy9mOErO6QG3z1u00K9DjlMvFlZGr2gDtu8eA32vHVkjr12ljY9irETu/vvO71A9de9l9r3vRsbHD1GzOM8+/gsvLPf5r2EqwY8RYejvXJrLz0BH129J9GnvVQ/E7z0tTE8p7N0PZJ8PL0O9+m9Q+ySPSbWl70aQdm9WNQaPYllsjvL1Xs9E3jgPYPIczzJeoC88fvtPXdxmjyXroQ8/V6ivReFVryUhJg86dQAvYSi8r2PRhs9QKupPZz8ST0Daoc9pW0UPYd6+zzXNZk7/DkgvXbZ3LzHf6M8Yr5WvZlAYj1vVCG9btTXPHd4Lb1/Ygy8kqwwvSEnMr2eSzK8Mzb8PRrijLxx8H49g64ZvIcdFb19ZYg9AiBwPZRja7x2aSQ9IY/avYfHjb1oczE9m+XEvJ0AmT0ChB29LseJvYZDkbzaMIM9ZBV4vX1lfj2IQg07sa42PTq/gL0og4e9kUjIPVdelr2Nc1s9BFKzPSBY672H8RI9enzMPYCMvz0V6cC9SID6PO2VJD0Cswg81wgZvPKcxj0LAiO8o86IvWn4+j0eLbG9k+2Ju8rGFLzJWhC9hhtNPZVC5rzgrko8jASxPXDapj2kyTo8TkjWPHxZyb01R0I79DcQvQEHbj2TPMA9hsv3vZyRUD2KBfg9eKlfPNHQaj2Y9++9n7rOvV4nNz0C+vK7/FykvOXGQTynuMi9kpnivY4/ozx6Aww9ahqtvTYFpbzoVMy9cHohvIQNZD2j3ey9lQk+PYi5ADzYX7S8UuwGvHvQH70EpNe9Un3ZPVx0+LwU1Bq8pkeQvGVfFzwkpAy9LNh+PYi4Rb0i8dC9hrSXvLSF+T073dC9j5hivYpZp71513q9HLx7PKNwjT16NJQ9aFDZPZNcrj1JLJO9MGHlvTWsGb03oFo8s97HPR2IKj1RYNK9bFxkPYx2ODv0jsE7t3dBPZbvgz0DJq29T0VfPIPubL1nxiU8tGc8vRxzxr2Z/PY8ByxkvZFfcbuoUaG8ruMQPIVhlT1+M0A8g5kPPZctvL0fZWs8uzdauyflM70obUS9AkmSvVtN472ZUCI8AT4evaYJXL0gZfY9jnUaumEi3T1n7z+85XV2vSHHMD0S1KO9dxXxOrcPUD0crGo8jBedvVhCk72EgM08iJJOvVmywL1TwJS9RhSDPODFAj055lg9Vtd6vRGQ8D1xDk49GdoDvRpbLj1AzuW9Gk+EPUjIo7ysx3U7oWqmPVPKub2CQxe7v7gFPGqjsr0Fzem9oCkAPB3cdby7/5Q9msMhvUTr4b0M8FK60BBSPL5y2j03LUW9P5dfPYF/YL2Uhg49QC98PX4CTT2QPmU9GlUJvRObkT0vZSk871qfvSmYcb0Uwys9k1P0vUij+j1QhWo9S9v8PTcs6T1x3b+9USzevRdxbD2aVTM9o/UAPROcATyNyt69NydePXH9gj17LYy9UClRvAKZXz1MLoi8gZ6WPZ2rPD1LmuY8U8JaPZ7e3zv+rIW9cBs5vQdK5r2BlbE6wRvuO9zRkr2gNSa9U6VBvUJAVz17OgK9j46wPOBw8zzMsEg8iFjdvTzeoj1f1tA8XS4fPZJjGLySpvG8rC6nPWjKRb2Y11s6jfk0vII7j70WdXY9izBevTX7ojwQ8P+8EKUkO02Lx71F8vS8A+p3PBn6fz2E2Ai7z93cvNaxt70egyu9bS38PT4UgbzKtBO76BkIPZyMmjzdgqE8Qkz5vYff9L1eeo+87sV9PWXyQD0VqAA8f2WUPUq66rwtGc083HOSvYxNwT0Bq/c9H0XVPZWzrL0UckY9XCk2PYdZJD2MmK09MJBBPYSBlz03ylc9jie4vCdkmrymSms9gzorPSjV4r1Szb49EhPcPU8k9z0qRlO9o8INPTaEor2muk89nCEZusIvlDyFA4A9W9hOvKsvULrdTRs9kb/7PZ53F7y7DrA9cdGxPPnMq7yHSc68dJv8vTkbk72SvZK9kc4dvRp9/Lz6+U29puoFPQRs4bzzAds8qCCuPM5jDD02xZs9azw1PS+bl710JMa8xhBmPQQlSDxeOgS9ctH7PIrnDzzYrK29knprvYVJUT2PoPo8gErCPR/g2r1Xi/w9Kc9iPT3q77zFrdQ9PDYRvYiKzLx3O0Q7yu8mPY47Kz2aVVk9iSzTvYrFyz2OzQ+9jdtRPKMhNj14WAU7oPZhvZ1qy70b/QO9H0tnPVeNxbyCECm8/B1tPY34eT0BiGs9ihuxvT5xGD2dTbc7KcmLvBbTjj0heBq8xMNkuai0GTy7V+M9AcZUvYdZ872lGj09KMQDPYOUWr00qc+8KLyXPSIdebyDSTq9ZSqHPX9Nhj19Vw29oULsvQLKUryLr/a85BTBPTWSdTyAt/09Ab8nPQ6l9Dv6Uio9oQ3KvQEFjrxxXSi84N/5u/imuz09ofi9EmS8PWDCWL2HJ368xo0zPETNhL2hJ9G82lbpvLzHdL0B4oe9MT0jPaMtrD1vDlc9AVmXvMoGST0lBX68mTGePUHQpD2P1ag8lS93OyHkOj11xWK9X1VxvNjC470uu2S865vaPWvRq7yC1h+9fhVWvC7jkj1KinS8CZmLvXIYmz1chuw9BWKivFnT8T1YQbo7gCy2vXQyZr0R7Nq9iEtnPZrQLz03pcg9XkWWPUCUdL0c3Bc9mCM+u/nl5rvH4a67ybNUPY69Gr1RrV29N2wHuwyHVTqFTVC9N2UMvRmoVLz24Ki83l3cPZzyqb2hSfC8DzVkPVOKuDzFJCq9jypqPRn48r0fvdY9mDtrOuO+wj2KREg86aRhPaA7RzwSImg8CANLvUAjWbvl5EI8qmaJPQIogT0Rnta9I7xDvaSrSD2Skry9jOCDvYX/47155I07n9xIvYWl6zwJob+7an+bPWcGfj2jv2A9ny2YPQheob13iNo82xgIPBX8pz0Yia29kmbEPGUzsb2KGhk8wOPwvaKVrrzWvKK83aXsvY3airyg+Gy86OfKPTAO3D2DiZw9Ew5YPTUxPD0r/uU9Wtb/PRc/jr0WTIa8oHdqPSqfdz2IWgc9ObV3PY4W6r0Tg9s9nNdtO7eY5L2ZGhA9gvrRPWoBObzVPwG9k7pivTz+Mbwgsba9hH1IPZVzkj1TpFS9K9FWPSjr5bxy8RS9blOGOyMKfr2LI389h9AoPYWlXbyvujW9TT6cPW+pqL2aF989pkMmvX482r0j+ms9g9qePY4F5j2MDJK7lvZWPSRpKr0F5zQ9eYPzvYOWej2Xt4Q72eo8PaFOzLy3+cA7Pc7bPAuBmr0qMHE9GqSIPXoePL0Zs3s9iPnkvTrSyry+CJA8+6KFPIa2VLzavC29ntu+vaH+tjz1Ia+9kn6cPQIDrr2XuIs9ge0WO5M9Pb1vTz49Q25AvYiL4L1SFJq9dn3RPROON7vhN688ig+HvFLe4Tv42829WzltvLNLMrx6I4u9f0IQPTeZYj0dGB88mwCNPZgwD71oxUq9dy+uPVy0RT2dnHm8A3lWvYBH6L12sNc9IWWOvStHQrqfsAe9XI6PPRvypz2cVtG8pcvsvFEBTzw+RSs9gojePLuIFb1nLYA9hfI9vUDaJD2ENcC8uBytOwfLKTwoEDA9h9N8uDMjrb0JVjO6OlZYvUw9QDy1xvC8oHuuvZ5oLD1Lxds83uUcPStnH72eMt29P+hjPI48hr2g7xm9lZvbvZjMVLzoPpG9oIerPYX7Nr10F7s8XO6ZPR9SfD2P4Je9S9bZPXyKyT0u7As8GCPJvIdRVz1yalY8wgklPSzYJb1lUp69Qgy8PZJMa70BFv881CdLu//VZjx5/kW8KF6SPIN+Ybz18HY8TRXBPZw9pz0yGRQ9hSRuPVuRSLu1QB28soSkvRHP4b18hWo9cQTNvQzDcr0wC+m9XALovWYPRb1CJjY8wzcLvRa/hbwMu7U8/CzrPOnF9T029ps8mvHQvTDNAr2Ayx69m7gdPK75Jr2bDBi9LZnCvZeJKz2Q82K9KBuBvW02QLz0Fg+82dpVvYlz8bzzeSC8tNKvvQq8vLuUT789mDVIvZC10LzitTY8W4KlPN9jdzuwrDK8oBVFvUrrpr1/OI+9F/3XvN5wsz113cG9H4IhPVYIG7ziIzQ8Q1/ZvaI+9DzuxMu8Gt2lvJWRTb2aCL08C+x7PKePQ71+Y8C9ldzEvSKe5ToSLvu9nK2svBg0Mz2CxHQ9VKXSuTOb3T0vHig9CsNhPI2w3b2DHB278TTIvEMBoD0GjQ09O5JcPGTNGbzOYcO9kApcPAhbUDzzU4I81m2eO51rQD0Omoa8h0AsPSahqby2DDM9lwPtPY+EWr0hqzG9NhaEugWnITyVlfq8I1tdvUnzhr1DCwk8mt9NvTIfrL2Kh+a9YYvwPZ8QTD0B4d08kBrPPYWIfLzeSxk9VgqEvQaD9T2YOoC9jz8MvPStO70hd6k9mlh4PVtHLD1+82w9cX+AvZr06T1XZ0M9SL9hvOWMsT2IBt4880ZivWyYWj0dPVu8MjugvR8QtT1+EEO9FooSPG5riL2Zm/68RtInPZBO+ryeE5i9KSnUPYfRcjso/Jq6Go4fPS/8xr0xKE69gdptvW6wGD0VSZs9StvcO/gJZDy60TA6pMJBPZBIsjyDjqs9iRbKPQC71jzPPpC9AoHjvKAhS7yY9gk79anWvTlvOjzD7iq9oOXtvYQeDjzSHus9lxOVPaB6rD2kchW9GdrUPT2loj1gWo49ETexvaRo4D0W/Ha9PjiYPYJ8AjwRjH89oNx5vMKjDbzK1tu9HE22PXxuA71eNcc9H7GRPS5ycj2cxAi9Qt6rPHtZxb1RZiM72VcvvVyXr70TobM9m4FAvTTZQjtGcuk9nxrhPQXKKjvwp++8oeH7vXJ6ZL1vgCE8/J8GvDii8zw9Nhe9Yl6ivShdojwXAUe9dzmqvMySLb2aRcY87e1sO30uUb2GEco9EqFKvQj7JL2CHfw8VVMNvRuisz2SSyG9UJ4bPU8XmL15Bfy9XKeaPDFnVj1bGYo9chdsvYQEALyEwjQ76gruPGq8Zb2cZL49oviHPI5cLz2bCMs9hU7KuuoNIj1gzg29blSzPUz97ryXwXu9iZ5KvYp/lrwaGrW7AM08O2leZ72QW/c9BvM1PaIrx7zNXpA9fjmEPJkgPz0FAHi9f4fVvWnpQD0Lj3G9pI3nvOE3nz1adHU9mxsYvWHocjviGm29UPyiPJhpGz0gFyE9lxUjPNzaSj2ZO9A9YIuEPHP1qrt7KvI71Lzlu8tRS72hguM9YOrNvV84Vb0aqhu9Q/V2PPosbL1QrZ48+OP9PYATH71HN4g9HBonvMieT7zqELW9ayxWPBH9qr2CxHy83zKZPWC33L1bGmu9Hfd3vaNj470v2x89dZeevYs9yjygRN89GHsXvZPNZ71xJXE87prOvSZ1Wz2El989oExsPIw8YD1kWUU8+JoTvaasW7yP+Pw9gS4pPHN79z0OiOM8sBrCvY/b3L1x0aw7yjFlPPO1M71SW0+9S6jsPYZdtr2Gvge9B2V6uwzpJj2BeQA9RI97PKey3DyoJo87ykKfPP8VUT2UoLu9l8DIvXrQyL2YzIQ9V4GVPYOOQD1cR689jM2+vYligT0KWoi8sJ+VPTRfHr1Lr7A9SnAKPXDEsj1ws8E6uTmNvLibArvnori8alvjPU4I4z2ddDW9n8OxPaba2z0ieaK8rmkePaMnKbyQNqw7RqM/u7OPnj0ssB49HsRoPIxwGj1H2qC9kzvePVKLBjuWYuC9pfQ+PabrMr0IUfy8lf6cPZJf4ruJyty7BTOtvKE+lDz0h7E9ZG8CPUHYELyREdy9Xa2MvQq/HbyeCgq7cFiSPRWQB7xjWjU9OO64vQud1T1rjOM8Xisyu7YM+b0u6lk6n3NHPIzKFD1uN/C9BjNxvQJX8z2Lii09PmwNvZeB2DqYvBC9FAuPPUAnCL2blcy9ArwjPObXaT0y3dO9A5yuvLJbLz2NjvK9ZzD+Op4lfz1NAc+7R+CJvaP8Iz2fCXy7kayrvV7w4z1e0Ks8xxpVPRixEr00l+u9TkHgvS7LvT1qMzG7x/x2vKocLLykETg9DMTdPW66gryqRSQ9nvJGvYMaf7zM+6A9lEItvRlmJD0maqY9V8nGPLE7ML1t1H27sGAFvZTZmTzvB9Q70rpXu7Uo2Du5Vgw9iyJHvRKHwTyLWBs9nNQUvYi5a71u3KA8Vk/MvUsOlT2idV887j2LvV9NRrz99mE9FlNQPDtAuD1Sza47WTJwPFs5nL14HGq86qAVPR2JsLyrN5S9oOkxvYOyXbpPwUi9JwMnPORY9L2kl549oxMpu/baJbwR62A9kGIQPU5nh7xVkVm9i/ttPQxkWz2EnXS9C66vvXOXQT1XWoG9iIqAvYg8pj2PXlO9ljpPvaEMkb0ZThU7p1xGPMALu7wcBem9kHSavWwJQ71aGUY8j1LOvHFJuTw2xRg8nCROvJU42zwjgZ69NNV9vaGyFLwjvOU9SBb/O2+IhzxPtLW9g2PdPUICyb1YY0M9Aj2ru4xRCbx6dtO72FFVPD7Tmzudy288254PPUDloDx02hQ9MCZ6PZ+fMz1F9WK7EGH8vCOXtLzTHtS7uuUmPU+PHD05ACk8cn6bvTdvw72UgwC7MHedPV+FZj1n6pq8TBLDvJ5Iyrxkzoe9m7sRvOYkMT1NBDW7+uJxvTu+Az2lhqG8NTZmPR3NHruOvZK9FBVgPYi1VzxpZ6E8eunpvVdmBL0Sd4y8j9h9vBstQTxQoSC8Jzu8PZocqT0xDyg9Uc6rPD7B7bzw+u+9TN4JPMoR9j1YTSC9FEuqu+x6Pj1co+u80yddvZa7ir1gLqG9jHzZvY0tTz2Hs4w9dcwhvEPf/z1X+308tsvfvP0na72LZz88jRqbvZwFhTwWVbG7M6NgvQxEujz5vEw7h9TLvRS9hjxn3FM8Yr4iPH/NWz1swLC9ojehPWha1z1Vlbe9VrLjvNJAaj2jdli8innvvSnlUTyyHbm8j9ZDPZIeXj2Pw4G9gwysPVViRLyMXyM80+YEvSoZD70P3PC9piGiPBgRvj1Jl++9P4bjvZNomj2WlGy9XfdBvFeJqDyS8uE8zjQ4PRDcpT2Tai+9ASP9PZo+STu4Ojs8VLUku5qWhz0x1sA7rRD8PZYkB7syQQQ9J8maPYK1kL2jPq68ZpNRPYTTSzzt+zm9Jet7OU4yLj2VIaM6rfnuvFFnSj2mfHQ7cUJrPYF7FL2auYg8lvKpPYHrObyX68E8oo/vOrXoEb1WIkE9FTHtPZl8QDwOT/W9Hh0yPV1ssr2ddq28b2aFvS7Pcj2Z608866nLu6IIO71o7Aa9mu0yPQhrIjyOpAk9D38APZ+huz1h2469chXXPaa6GLzdqko8sfONvaTW4r2RsRg9GOENPXe20LwBDEU9WMDyPKZBnzvG7U09oVl5PSG1xLwf9Oa9detUvY/zVr2EQyW9laIrPAljsr0qSeA9i/j3PYh5EL0+QmS8e3bCvWpsOr1fpZc9KZTUPG28ML1S14e9YwBSvBrDwz1vx0+7k8GtPKb/MTzc41o9ABvnvTVG6b0Iafo9gknKvRQE7TyLdAe9lF7+O43gYj2Eml67pkPOOXwNcTyFgMC9PXdhvZppcT0yADe8tn2cu7gFaLzBNkM8n6XNPaD0HryPxmw6lutQPXAl+zyK3z688ztHPIr7Fr1xrI09Ra77vVQM3jx5/Uo9MvrkvRZAJTznrmo9i/bZvWUFczu/4mU8yyMjPSrnBrz09iA8q0JrvOEBHz17t7M8/JWDvAMdzz1Fcrm9RULjvTOGtbzGckw8IeYaOkmFhjzX+r49lQDcvTa3nD0UijW8SWHivCoVcDzc52Q9J5vEvYJztzyAtnq7ERowvHMHx7kYeHW9f5Me",
+        "u4cFfLzdBCI8K77fOzaXnTx/7GI8uo0NvRJQ+r1mUu09WXLfvRmbuz0qINw8rNOgPGI6Rbt+sIW9YxrWvTwqwj1ll/09hhdBPOqAq7wRXVg9CDrBPCW35r1iPsq9at0ePZPmlbzkAUM8aflqPYc1Jr1dPNw9U/59vWBbQ70xycS78QbQvZ/L+71OMl28mn1xPIWJ6zzm3N09DD2VPAD4ED1IFmo9WicfPU21srxVp1A8q9i3POLA/b2PzGO9gpisPY+5HDx2TK89ENInvR+Zoj2XZp09l0FjvPHAwD1+IFw80lxnPJx+wb2Df/E9LKOlvNyk+LwZgai9YrjYPL2IEb2GNJE844lMPWWypjzIiRA7WivMu5q997vChxw9oqEjPaae4b2SXDW9gjLRvK52pj02CRO9Bir+vWWrgz0lHzE9hzBHvYz1vD1aJNs9g2cSPSSr5b0VgYO8lX9nvUHsSr04wmK9hTt7PJCYrL2m6L89EfiNvNwA1Tyd1zG8wfLFPaK79z2P7x09paQPPCD/XD0uadK9YT/cPKVi7L1TOu09JXJDvYE3EDwmVJa9j0F+vOobIzzHKBy9LncCPZFu1rw7e9Y8kVR3PApc+D1CxYA9WcL9vWVn+L2kb+w8bl+xvY4sJT0KZ8880MMivVS9cr0onoY9LD9sPWHJ5jy3pjS8kzbaPZvJ3DyaZvi8679ZOgUasT1EcnK9YR4rurLKMD0U/Sk9XzmHvKRpcb1ZT/29LhuavY6tgr2CO1G9CMRYPExBgT0wYu081EhivSD+Cb2JgnM7jQtxPJPVer14WQ29j8G5PXlILj2Dqa28ORx8PXWEr7yViw67hlEfPTTXhT1Q26g8o/pmPQd41j10cCi9iR6PPWTf7j2ebvy9KDJJuoBKbzxHgUu9NZg/vPeh0b0gMWY8U/vgPBIJ/ryiXM29bkmYPacX/T2HjE49nCrePT++ND2Mzz09mT/gvKlJerybvsy9ofnZuz66/T2aVCq9k+yrPaRNT710QPy8jsBevTofyz2b1pK8UADjPRbgDL1jfTE9i8mevZfzwDyBtEk9gAhWPZeixb2CDts9UXs+PZacp71G6hs8xQwZPWxqrj2Pf7M9Seh7PN0E2T1wgf09FLzxvUeY472GSLI9Ol8fu+C6ML01nUk7EUfpPH9OjrpbnAq9dpk7OiEit71bDla7guXrPPBAkbzUrnI8ixa+vZr6eb13VC68+A8RvScmXzy4uYa9gvdGvEEzSDzIup+9htGdPP1lqD1mUWK9EWJGvDKjKT2XuDc9hQSPPZp9QD2Ybma9Sdu5vTkmI7yMFws7ioONPRDwOD2Ec5A9S9ZuvOO+8bwcLVk7MtbtvQLwvbwtXk49WyjSvSIaRL2XCsU9eTuePLM0dDzbe7k9Ef6/PY7nkz2T8z09R8WIvUZKlj2mW0A9nye0vMTcdT2f4cw60e9xvFymAz2bwL08TEJnOuzNmz08uj09k2pevR8ZBr1LBDS7iTbUvUDCbD03hMQ8h78JPZQLM72TVl68yh/nvRdxd7tPbQW9dbx2PUAfur2Xtcc9a2KTPHDKEbquF6e9bcIOPW1wW72IJHS9IOw/PZ0u/b0NTOy8JAMyu++8S7zjVRU9SWngvKbfCzxsego9cszEu+HK+72loxM8kmZMPQQ8CL2XPHo9oeRzvRSIyj2Jli89CbFyPYTvv7uPe/o9CIpDPJmrgL1DzG68+aURPXjvWb2e8gw88r3SO7nR/rvGQNy9U+r8PUIpwDzWNTO9dQ16vX60Ej1334S9mczbPJMZwz2L4HM9gfIHPTr9fj1Qbm69XDoivW/hNjzPFtK8KELavQaXoz1PUwG8R0JhPUmPIz2kBMo8O00NvaHpZbxtfN483ql8u4O5uL1BF8Q7Zpc8PVccmDyZnjy9dJcTPU6TAT2NVF29pb43vC9/KLyzzHw9gnoOvQ1LmT2hYsY87/wgPTemXT2A1SA9QFK6PU6sMr1eA448gM/+PS2HMT2jBxc9lEwOPMKQJ72kocU9DsFzPRBpnD1nZey9HdsaPFA4+z0+XHg9TCGCvTv9ljyZhYO8hpFHPYLPljuYUW48GvhtPWaBLr1gx7Y9C+gQPPfjfD0f2M89Bp2rvLh+oj1Hvks9oEqRvWpOgb1qOuM8oYg6vW88qj2MYi09IGRhOzKYiz1D0UW9mT7oPVEjRD2LrIE9RgbOvTa1YL2cMDC87t3cvO6DK7ywhCu9XWCXPX3E872XcK+8kH9MPY3zvDz1Whu9iqtEPOcLXbyzZHe9PRA8vU2l2z167Eq7gn6NOxTyOj1pyB+9aFjPu7cA3L0HaPK9QFpSPQ/11706fCa8NGRGPQ1qwbywX9u9pAtkPY5Hhb11Ao69NBu6vMGvt7zRnz28gheivMpw+7xjKGa9lEZvvJRyGj0m+ne9mUbRvXDYWr2doO49kQDoPZqogT2fctI9J0ZuvVMAuzyz/GA9EktAPVIXvL2AWao8qzxRvQT5471mA7I9NvIdvXvkGz2jMfU9UGY3ursnsj1fOJQ8lw9nvZvuxD0SVZy8LMBbvTIpYT2TUqY8wjRBvSXNFDzt22E6xQ1yPTYVYLzzdJi9nsFIvVou9ruEUWy9XIttPZg8Zb0mPge9mZhEvIFT4D1bebm9X/1dPZ6PQzwZA/U8Fy3mPAzCU7xmBgU9DkZNPKYTc71+m9g9nqi7PYZJlD2EEHs8yrX5vZU0sr0Hd8S9cJdpvShRsT0O+De9iL+LvaGpir0vwMO86NsCPZCeLD0aRKo9FwmrPWlQmL2I4qu9pKU0O6M9xLyACgM9OuNdPDJW2zzSHV49FwKQPZOhzD2Pfzy83E/aO7CmUT0TWRU8DIQRvT8zDr0ITC08zHIbvAcYgz2fQ2k8c/thPKPGH70FVdM9J7hIvZPiKD2Boic9EVo7vYgBp71Z1l+9bfd1PFJImrx0rhE9RENvPZZ6xL2Ztk49bHloPX2d5z1ScOU9dvuku/hODzz4DpO7YDJ8PKwmPr0kCWk9cAQbvZ4jZ72OQ1u81Xx3PG2pALxNFGg9pS+HPWmuVL2m4yS9FFTRPZIQTb0LimE9cfKEvOtEYjyDw4S8jg+JvRbHW7wJifK8BZuovacYmL1bawQ8569lPabchTy/Uj49ghS8vVdq9byLplg9jSYgvXp1Pr16g/69mk2wPShZfz2KjXK8Yp24uqfPJ7yLxIQ8wsisPJPjMTtITUs9jYZTvZmfIb2ins070GVRvRqFpr0poUO9dZzivaGXwb2c5YC9lwBrPYVzD72ITwe9WMKKPWGzWr1k8A49oqeVvC3Zjr1jooe9ZOlxPThNHT1Sk0g9ZhPxu50jzz0gurK9UhQ2PYDoNzzBURY9nTo/PZXaYjzvH1M8piOtvTaRMrv1vHO9pVXevLj66D2kE9A9TAPzPWyFmL2FBBW85eo4vaWoX71uvxe9I1x1PDpu7L0Fw/s6D27VvUILr7w7i1k9khRrPJyVRT0ukE+9kjxhPZa3mby6uS+8zj9JPUm6V72nEea9mX2pPZpk+j2JpwS7w0OjPTLRkTugJPO82wg7PZuV+r1NR0k81tnTvY7FprwUn669bxHsPY+uaT0ypUs8W+cdO61Rkr08axe8+BX8PGZM0LxF/TY803HUPBtqczzOB3W8ua1PPSx/Ezpjjhg9oqL7vFFhab0E+LG9Dn36PJCdTr2aPxi9O9jgvQqMmj2Z+MI8rJ0/u5cQI7sPsSI9KfHzPWTgfj1A/JE9ZGblPVgEPL2D3cu9UpBPPHgXRb2GLw69mkmsvDWEQDyyKd48tv0rvW3Q/b2lPDw9b0ABvU6njbsaWGU8mxlQPPTSYj1rr+K9k6hQPRSJKD1d/iI9njtXPI0QQj1ObNs9hzxSvYeMhL1b9vo9NgPzvQviXr2eNyk9hQllvZwPaT04TK29h+wvvVQPSj00bKy9DGU2PYyUur0rY5E8HBrwPYdCFj2FWBy8BN9AvSbPxryxh+U8XplhvXOkkD1HZdw8MaM6vY7PSbzHELi9SIiSPTshbj01Zp88oh/0PLVDzz1HpP47ImpLPWDXMr2jM3S9kbsFPQ7nPL1QQxY84EEavVocIj2PBF67rNqwvRfbQL1zBNY9oSs7vZjBPbzjyec9lv4gPQ/HPT0dXmK9WOU4PJWpL7u6nfS9OuR/u+aRMT2E3CC9FYWtvUg4A7xcFyq9oeERvYfL1T00GJg8j0ocPQxqOb0vD4+9jcWWvWIDVL2JjBg8mWeXPUZpn7yXr7k8wwPKvWNUTL1fIIO9pJbuvD4mOb0RHsU7MxljvYdEpjy2Cvk8xRuYPRFMMj2U8jS87VVfPVbTNjwtxrK9LMoiPYtcVjyGVYg8iLJvPZjV/z0Nxl68up/0PSiTLD1v/1I9liIJO+PBiLvsNfy9HYr0PYoeMbygvgu9f66DvYKD1r1IgT48VT90PVD1Wb06vFE9duS1PWO2pTyZdYO8wuauvVkNTzw2Qbi9l+ofuWBaVbwcILw9VJnZvaX/oz0Si3A9k2qZurSWsT2NrY87v/lCu1lcFT2RzTw8RN8cvTxJTr0b8qw9f/v6PYDlkL1f8RC9UQnPPVWdC72BCP08wn9fvDJEnLy3IkE9HA4BPZ+1EzyWDI08gnyCvWJAXz037ZM885T4vaAhYr0PAcq9Kj9lPYns1L08c5Q9i2x4PYgl870QfgO8he1EPPrLRr1dQZi8KyxaPZjiK7yVFPO8cjtovUwm4LzszZa7TGNkPUck4zu4gcK9l5FJvSHYMT0SU1W8+jwKPM5H8L0YGmu9OCZpPUKvZzzrhSy9RGlxvEdAv7zEyhY9PRV+PCatNz0qTVY9fTuGPQqMCLxQzlK9nSX+PXXI6ry/sZI9Kxn+PO1RAT10K/O8XMmcuriS/LzCtss9o/jMPBJACzs18oU9l6aMPZfalDzekdQ9cvM5vZLnFT1AUo29HTwhO5JgDT1DmWG9FrQEOm9dF71Zh66889RFvYGq6T2F1r08b8FwPY4LRz1agv09EVuRPR+nnr1pW/c6+0wYPKbAqzx0QTA83D57vW2xm7w/WxC9mfCOvSyTRL2XllS9Mc7HPaH8R70fjOs7RWIzPY8Dpjzp2sw8sWZ7PNEuv70c52M9oU1/u6+BXL0F9QU9O41cvK2sbb1968y9OqOjvW05gj1caFu7zd+3vE9PTb2I8vq9kY7xu46rh7yBOMU9C5w7vQFADr2hPcM9NY2SvQ+FnTwpZkI9ofz7PPMaEb1CEna9hLEOvZAx67wb8h29fopHPY/Ww70IZcE9FraxvZw6FT1NWdk8tGKkvSVYazzyyBw8oOToPXrnT7xqKcE83mAlvZhgArxes2O9hX+ovY975bznXPM9pGLnvNfBkb1ram49G/cLvToqgj10UwC9klRjPNaRQjw2zek8pU6xvYHP3zp0Or09QeuOPKIc8ztArGa9kLp8PUx9gr1RCLU9MnMhvYROETty5kI9aoDaO4tRtz1sPo+9lFeovB1rNjyvbe09mJCtvY93O71LhQK9KXy2PTX8Bb2dAu86idioPIxwBb1OUgY9ILtovZYi5703/0i8abbKvZkdOTzkVKq9ofzfvYk8br1QCUo9l3P8uW7A+jujEuY8652wPTH4fjyDum+9A3IVPZhVgr0LYmq9XVouPAEzTD2VkLE8Ih3+PaKQSb0pb1I9kWQ5vMw0/r0yr1A88DZCPSo6K72WvtS9XE92PQu7Ur2Yyga9nlS/vKT3ojs+Jbu9T0/cPSIGEjxM9ie9g3oxPZpH2z2cDD+9ePOfu28OYb2Vpp081u2wPWCfsT04bI29n2i4PXQfy706TWq9WTr0PR5nrz01n429iKrSvL16eb2bvJo9pAu/vQcnEzz9KGs7gGk3vaCeXzzo7ro81i0JvZm/eT1hhIG9jnxHPNZQNL1WtSU9lfU5vQohmr0EhKY9acgCPUQuiz2VcjO8xuBXPO+WRL1yNX+7yhqdvXlj4bxw/Rk7LedQPGH4YL19N0U9ZMUcvNbMoz0edwg8gJA+PaG5TbxHeci8PHknvS1IwzyGdDG9NAtWui1lVLzcWoy8QBQfvL5WYL1FEHA8oMpkPO7bbr1WAAG8hMjbPIfO5T1FMow9mznDvA7TKz1RSX+7u9ihvRwMdLyUKpg83ndFPX6qND13rXk9SPY1PJAZgD2Woyq9i/0/vZrvmL2dRbm81gcmPZ1bBrzSEnI8qyNAPQTwjzkXhXi8mb1XPZDjU7wRHo67RgO0vCQyOjyh+8g9l4ikPRHvlD2CXr09ba8aPKV5rjvfu1w9HGR2O9bB571ryv69Bvz3PZrpujwAN+a8NvdkvUE0Sz0TWmG9iFmQvQ64uT2NbK09BxdWPQP15T0k+BA9A8OxPY/4kb1g97Y9gUy5PTtQl7tQ92M71rJjOytpJL0yV3a8Y5OwvEOx3by35Qi9Y9qkvXme4j00Sm69iy8mPYIESLyVyCw8EOQ3vU9wz703aSG9iEqCPII35z2MH/Q9ot/mPNoNyzyHKPG9OPGEvU08HDyR2ai8vRIVvSn1bjzL3Pk9mmIuvN+66T0nYki9dNbfvVidELwYW+y9DyOQPYys/zyOWh+9Ok1iPFZEND1Ex+S9m3YiO54oMD2SbMM7GruEvGkwjz2aJQU9N6SHvD96nj08NcC8VOURPXN76j1gmTE9i7kUvJ7Gobyp+mm9JmaEvZW3K72Uqui9Nr3wvK709j1byMi8g1pkvXzbmT0iwxQ82Z6/vWVEIrwXlOa8yoatPQ/Am71fMVy9Ws/fPZ5aETzGS3m8v6C1vK9Vgz2fjkW9IOjbvZbX/L2Ojdu9BVXbvEBjCTxWKXa9IjGUPQzQKT1fHZ89P51XvWYo8r0A1ko9A/pQPZJhRj0E3G+9gJqRPTVZijyCNHQ8bsusPFijGj0Um7i8xO2auyn63Dx9qpe7hVyAPTxABz2bpAG9pLgNvEYoZzz6XLO9oNF1PWIKz7xrl/49mYNfvSODWjxBjh69nuNWvVVJsbvXNzu9St1PvXv3IT1LH5S8l1vzvRh3rL2mJ5Y8knoEvTLG7Lz31+Q8mlZVPWuqJrtGNVg8sVW5PYVY7DzotYM9ngzSvSrCXz17IFU9G/UAvaNa9joPdV09D4CvPUoR7r1JiEc9n3FuPU3RRT2UM/Q9HpC5vSdOAT0xp8I9CC53vSpmQz01Ej88WZV7vXkOyLz4g4S9Ru+zvEdppz0kiBS9k/YgPZHk2b0t2cM84BA8PYIBaL0vq9Q79+C7u+v1+LuUVbU9HlCGvCyFcr0e/K89VtQPPNX9nr0LSDS9N2koOs1yJD2H6P28+DnpvYD+pz2QTUS9bKllPSMUdDyVlG29nwYWPXR3tj2LeZy9HrPXvQmxarzIzHw9jcqlvBEdFj0/RBa9iDOgPY14HDyB1Cs84XnxPZC0OT1Ke968xljDPPZAj70XgOq9OprxvYq/eL2DyJi9Tmczu8gMI71k2A+9BRl3PTqgJTw9Ti09RFdWvXEl4b1gQEE9Wtz6vXtvLDt63JA9KQerPE2TSrzLxnu9MiOfvYsXeb0Y1Jk9dphAvTjEzTxVwsm9BXTCPFw04z1oP129BD2lPaOGh7yucdq9C5AtPUitQb2Gn4W9G+yiO/C3XryhD8G9RKBVvB0m9LvnIOY8X8ZNPP4DYj2YIxm9iq/gPWGtq71Dqg48vo5OvFe8PT0hW2S9lRGLvUarfr0DUuS9SWIuPNqnyDzUQL89Lq08PW7Ea7wfn9E8sawrPYr7pLzlClY9kWG5PVYOQL2jLr47/mY4PRSDrTw2Cke9j9oxPSr6WD15CRk8Lk6PvaIrML2bgJ6858ITvRtCljyCTr88m3oMvXooTbzSxBO8MBc6vU3zsL1QScq9hXJivFM7y72Had29eNDpPMshuz1nHWM9nNsfO5aIrrzBqjQ7TqtZPScQ9j0ZdCI85+HbvL3kQDzBFNQ9NxFTPTAERr1dNsQ9iShrPZBALL1GnqK9fk1zPJDqPb0vhfE9kPOzvFhuZr0WL6m8TUkcvJpiSz1p8W09lwI/PSzuOb2m+v+80nQPvS+u0byuWa+9mvWhPYlCZDze0JM9XJcnvZiJvj2Lzle8hstfPVrqYTyHS6+9CqdLPYz/q7w00iw9Dod1PZCmQb0Y4yw9P2JkPUuAbzvUGmq8QtXxPZQF9L0nSdk9j5xQvKRwxTs/S/88/UVyPaPY5L05wNO9lbECu3dh7b18s0U8n8iVPUbYMr1uR2w9j8MTvQ2kkLzdatk8e1SWPN19I72j/E49PoEzvA9IAr2jDi29nJTbPRcN4j1GBno9oEFWPAPodjyVRhq9g4IHvOFr4TyDo509d8pZPRDDfL1qekC8MWUDPTAjuD1fAU89gEuJvZYuWj2Y64+9h8JKvZg9cj01GDM9lYHfPZS4Mr0VXaM88xoWvF6CUT11kJM85XlXPQHOIL0smh89igK1vAP+Q72BroM8heGxvYVx27ueKVW9iPZ5PaKg/L2hC1Y9dDrPvKDOMLzHq3c9N4REPQsKob1kTFG9nLqEvQzXKr2NNXA9iSDzvURyK7ut+889auLNPOLjSD0KkfY9ouR7PYH9w71267M9UZ15vE7ESz1ffJe9gyKpvYp7WT2MPu+9IdfWui0kAr2d2v+9Ei2IvF8tnj1j0TM9h5fIPS++T72hUSk9baOkvYp8e72Z1JK8U0o1vYxIUz1VVfW8izFNPaSZWLwvZTG9WY5rvGiP6brfN/w8/tKRu4Kx6T2dsp07Y3ZqvV6QST0RBS89ZmoGvWyVuj1OgrW9A4QQvYwKCjuoXwU9L7NSPPHNjD1zhZy8qlB+PXXnRD0yT0s9iC55vSqBKjzzC1m9E1LJvMVWVzyQoWg9WEfKvQZV3j0A65e836+0vWpZ5bsZxj47+4kWvY7zhbzyK5a9jNp2vT1Q0j1UtDu8KkBDPYKqV70G7vk8SenUvZJtO70Gm6u9Qh5FvOyUmD2FURc8XSvgvVyMDztvwTE9iq+4PJ6cQT1Ng/u8/G6QPQTnlj1zFuS7tuoVPNaBEr2SKO+9nHeCvT/JAz1XG/s8+47tPWJ4m71m8qy9QCLpvV5g6bt9eUY9CvVZPVff6zzsDHK9digjPaHilbwNjPA8RAmZvXxC172gHRI9EIKtvUxEdL0uzWU9LEsmvJJKrjoc57e8EQ7BPX+G8T0LMdc9hoWivPGrtD2BFN28tfoIPNS6nD1g5aO9Md49PSJXxT2lK+Q8I2PmPVxotr0vosQ9Q199PSbdc705Nry8M5DXvPyubzxYwTs9oV9YPV4nXjzAvpa9geouPAxHcT2bxL28nVFuPRzLkT1+ihM8968BvYkyKz2jDXa9OeOMvRvsdb0Sgxw8iRAGvMXg8bt0J6K7x7vLvPHcfT2g8V49S/uavaHVebydYuy8n50vPTysHz1O7LU9e6/xvZcLnr0JoAO9ZsPwvKFrsT2l8VK8JLaKvSK417wvCM49PU2bvULFWzrJrLe8/1VKu5sGOj0ylPk9MmNpPHe5S72dZyC7zVFmvaHPuDzVQBu7yTjFvZLP2L0Fpzg8Op6wPUSJHT1Wpvi8k3q+PY/YaDrtdXu9HpkpPUKNpD0ziJA8t5wUPRuyM71ZWJy7IAiJOoG0TjxcVHG9lO+bPZuJkr0vtLK9le9yPYYaQb1yBry9J0DevZ+jXTyRhI68lJOJPYbiDzvwdWW9mBZWPZS1WL2RzZ08sODiOsIIt70q6NE9B0N6PI0zU7wGgh09MN4GPRiFizyI6im9NcpMPL9ZNDwSCK89DW/ePZ8rmD0DnGi9RFoqvGEQ5jyBO5a9Y7GxPWN8zj0xPbq9X/DHPPsvyL01X+29l2+IPU30hj15jHE7ib0kPaK2pL1yRi29j3T+PNdlFLyUfKe8glR2PREQ+70Y3US9XkAjvSnHWb0srGQ8a0EzvVRo9j1s3Ye9kbFfvTstKD2VIoI9aidtvYiocb2X/di9mwTmPKlikLtVrn+9QdI0PTeWtbu8ITc819sLPLbcD72Jj0S8zlyJu3TnBT2axAG8NacyvAaT6T0Rn3Y9ZxjLu0mOA72ckBU9k0bUvJLCr70tx2S8yoC9PGwbFT0WIYK9hGRCvVXclzyA2IE8BL7LPLhaHj2ent081sXXPTUdCT2lKo89ZKdeO+XoQz2MEnS8gpN+vN3M87yNAK+9M/4+vLeQMj0r9fe8lqrPPJxqCTyCtGY7zDbPPDfaDT04y8G7EOVHvZ5Ijz2hDMY9hybUvRJ/ej2E//s9JeX1u2FFezxKJTs9MNlhvYcTiT1KD+69gz6nO6FpLjy9D8G9EcYfvPBOCjzjZFQ8qBAwPZhU970x0NQ9ir16vYdTVz0LRLy9o16ouxPQs72MCzM9jEotvNVYtL2jH3I9m2JnvKOQB72jI9Y9bwfRvU1kGz2GzHe9YB7+PSq/ID2j/2W9oMjIPYEbB71Lf2y8XADqPKU86jzws7c9lbm4vXstAr2Xp8084cbgPTqmo72c+Ra83NPMPY1f2j1zufC8HQwsvAlUwDyXZky8ACFIvSEIcr0R5tU7zZ73vXIxrj2ERrY9AdnYvTJEdz2iz+Q8npu5PUhFS70JUlA9YYrvPQiC7DxktNk8rIsfvLPIXb1KNAK9nMVFvVRP0j2mGTu9lA3KOzl0Az17ePk9plksvWUCdT00sOe9M8mZvS9hbL1KuE28lTx4PSKYf71qge+9gsT4vS7geD1en/w72ZyqPLmMObm6dQy9g1lqPPVtFry/k789FB/EvUikbzzhLvK7y111vYDEN703qsk7dSAsvTnLnT1jeGU8G37dvTeOrb1wHaK9lGwzu/8rkb1uR1Q9PJx9PYnEbj1R5bQ9ZG02vMhZgDtmwA+9isgMPT3az7yD9Cm9Ek58PR0J9zp91BE72fEXPMpmoT0vSdQ9pRjcvKCYdj0VnI29ep8hPNay6z1tSrQ9JG+ovShRFDyaE6o9fFiMvZ1Ahr2JWoK9KEfvvXxohT1w2aa6BSCSvRt5K72ZoUE8zyn8vTFCrTwgrtu9GpXRO6OZYTx6Moc9lEmAPYwCwz2AqJw8fFx6vKSYebwVemw9FU9HPCpfQLynrp68/KPcvPmNt72D+Jc8lx76PHyGFD0FhXq9lyg/vGS2CL1WE8E8EGomPR7qhLyiEvg9oQLXvJEcszvNnak9SDIwPKbi9r2kBsM9F9ATvKYKJL2Xzi29RBaUvQLsbj0PlOy9OOTXPZDiNjwHL9K9IXiCvL2IO7zAEeC7BSBoPNNqgD1EsH29nUWvPZG0OLyXBky9mOhIvVeUVT2PY809gy+AvYkH+r2Hdiq9ga5YOtPXDT1RZWE9SgwAvYIJpzzwTDm9mVmxvVJgOL2aH9Y9Zpw/vZtvpDyUW4E9eO05PQpvqL2MGWE8vHDJPDvKV71YQJU9hir+vKATQDzJVqi9pfyoPY3Z6b1MJF69h3OsvY3Tzz1a1Tu9fdqePILEur09aay9MzRvvAh9kD2YQoo9QW4vPY5JWryDMpw9oyAXPYmdarylvrc9hwsIOzORFj1SUcc9VWJpPA/4QL0habu9hWi9vAjiMzuziOw9VDISvZvMJj03QJS8tclJvACROTzOgv68jldjPWaNIj08yu08DLZxvYKxTD1T35M9N+RRPEeEUDyizQe7z3GDvYS0Ub2TaiK9gnfrPZmhMzqUrXu8g/oEPTTrSDvxGJ29pWvePKUAzb08M8u9QR9fuphy6L1sQhe881wkPTlBGL0GOJG89/rWvYMRL70J8oW9nyUxvSrfADya4Ju9SI4DvQJ82T2S4b+8yvERup+o1z2lKC09m18IO4RX9T2ZeNK7vFPsuzQi6T03SsG9bAV3PV1d1jyogOe9Jm4kPWwJAT0VbZU8KY63vOKrEb2E2nI9dh5pPRdcOb1hxqI85hHXvZrxHb0GaLC9d7LqvL8WhLt4qAk9R8UivNsWdbuBM6A9BfoYO9Gq8Dz11ve9DYF8O1Xj5bx8CBi8zfQ/vNZgbzu7IhC9AVt2PUoDBzzU/u68d1gMvVI1QLzylX08hhocvMQlrzzM5w28OU95vZOsPbzskWm9FrIUPJXmwL0DQiQ79udKPXBujj1IARg8K+9fPaQcQj0nYYc8GnzkvJjFQL2PGjW9k87FPHOe871Posw8+zNqPZop7Txo4iK9iQBAPJnCuz2Jeqg6snJVvYOYob2L/eI9IE3lPRHhkb0VaUm9V/VqPZAlBTqgWI09Hn/xPXFNEjustbM9VVmvPBC4xz2NTN28iUX5vUYJPDvnLNG9jyTHvFwRab0R6yk8t5YTPMf88zx52La8X0DDPStU+Ttx8c09ZQZLPSN5Uj2LptY9fk7uvR8Bzjx/2eO82FxLPJqqsjzFLUq9FXiYvaK24L1TgwQ9MroKPY2eLb1MvT+5lPwxPKxXhL2iekM9n4nDvaE0MbxD4HK9Q/2/vaMtLbu2rO28JswePDJprT2KBL+9kDCqPYP8sb0Lcv29ZtZFvWteA72Fyfc8yOTrPaT91z1GCGC9JWXaPJuvLjz9OM+9e+7gPVTWA70BcIy9KJxCPMkO7T0DJU89CgZHvabaAb0jYZ+9pyr1PSslO72ajxy9O/SjvQTHfT1n4mi8RE9evTPhJzzOrwa8g/2cPWOmy7yi3tm8kAr9PY4Poz2kRgC7ZPejvJHvRj0pb/c9US3zvJ9eW7wjS4a8JHP+PMymmz2JBDK9G84lvY3SnTym+CE9AkgHvRub2T2cxAa8Xt1GPO6IuDy2hvq8rvuOvT59jrzv2u88aSjNPaSz7r0DaXK7idPCPYSaP7v9Bfy9HYlnuhBkbz03j8K8GtNRPQODT7zg0o89ZSzbvV/eFT1T63c85+RzvT6fZLtVAzK9ONjzPXytYj1mnAA8tz1YvQQ0S7xdTr09mLRLvYO/vbyOEHm9YYvVvY1XqbuyfXA9pvTFPFAXgT0pwIY9EvEKvSrtxTy3B/e9C2N8PLKcM72mR0k83dZhvYZOr71PPaq9ofv9PZDZWj0NLtA9EvfrPYindb13UNC8vyaavUZxp7xVa989eX79PZxevzoiNba8685PPXApa702tRo9ijrPvUT0Jb0mFSy86x+5PBl2rLyek6S75zhUvW7nOLsKHg+9ic5LO9hVK70UPsi9lYPXPK0fEj0jOVa8m0ouPNLwrb016E08mGEgvR9/Nj0URHU9gkBAvTakuL2jQS48amFmvZw+B7q0VQw8KAB4PUCqej2VT+s9pNp4u/dhr71TcUm9OxDvPXXawz1AxYE9KLjlvUAuszyJMqq6t90SOhvI9j0v6989hJ6JvXBc5r2IwJc9YPsnvZBQtjzQf8C9mREAO8tWrr0E7jY8EHECvQJr4L2OGnE9ksYRO+cq3DqHREa9I38zvKqOm70oOcK9Jn8ivXGeYj1gno+8tWvWvXJreDr2r8Q9ZaK6PGpX97ysQiq9fRqfO84uV719Flo9OwILPJnZPz2SDLW9QWuCvSdTgb2JVbE9Z7+qvWCuJTzMs+W9Vih+vYKK8L0JzX49izs/PXQ+Lb2kBM07OBsgvSvNIrzbX5O9bJF+vBUZtbwP/Cs8MOfYu55WE70EArQ9Q7qcPVRHrb0NJlq9V8d6PQsJw7szNAG9nebdPTTgbjy7I5K9gemPvZpfXb1vGO88DS8Uu6qpL70Eonk9ll/0vZeEObzvKU69hK8LvR69K7zFQVE8dya7PBNB0Dz/jlK9O28MvKNeTj0cBos9IFvUPAaWcbtRxNI7FAbqPY1TZj2TTsM9N4T+vOBbAbwnRZ09UC5mvKE58j1REF29GxiHPIjTQb2ajkc9Uk3BuBKFM7wxpis9GWOpvYkMyj1B0LG7r/ozPShy5zy7Te29UI6NPYnVCz0Sv588J7kHOn6u4zzH00W9lSyyPWkruD1cUc09kSZ6vYvglL2D0ts63n/JPOUQDb1SFgA9AAb4vAAt5jyvbBK9ZWjTuezv5j2ddga8OE0DPWufxTzUsbC9YbuzPJbco72IUDq7F8wDvZ/bk72MMjk9bruuPUc8PTwcMF+9Y+kfPYApoD0+fMU8YRvsPJr4AD0ZTN69PrI4OxObdz2dHEk9bC5uPYtMW7ws4gk9logvPVoKQDxU3ya7TI6AvZ5dEb2LV8O9jWETvA6i/j11gGY9BwMpvSZbM72W+hS7yYB2vSi0SD1gK7g9JUQhO0k2fLylu628nJHmPXrOUz1JqEa9Dj/SO42m5z0ZfzK9jNiduoGxsT2g/tW9G6PiPFH4oLyxhVg86DLkvTS6Uj0jfZ69FHAMvBuznDyiQoO9crxqPIXp8DyVSfE9iy9TO61UWDyDcBc7J48kPMtYj7y8ZBa9idYFPTyyqj2JWE+9PltOvAyRnr2gknY9aZQMvVWkhD2TpY89W5DQvQKmPjyPlPE9alZaPXjoB72icwq9kNUmPQvbAj1HGCi9R51KvP8oQr2fRuI82SDTPJ7QpzzpBGg71jkOPZU3MjsFIGi9JMR2O9EDoz2FFe47jTLLPNb/SD0vOvc9MLffvZbFX7wpzQ49WKTsvZo6Xz18AJC9J9EdO+a+rD18lSe9OXRHPWqn+bxvjVk8ntT2vJZbgjs0F/m9npNUvSWkF7yjvBm9E5MlvRhDJDytfqm9LQ/iPSTmvr1tbCc9hRpPvYGl3r2NfVk9lP0nPVHKeT1y4Ps9Z68PvR06rr1FtPM9Pk3fvZZCbL1mjB+8RLCSPY52m7waAmA9Tgvyu99+271DRiu9CzABvVfUOTxCu9C8RAk7PKy/cLycT689gDK/vaGbzL2Kq4s8OA6CO3GDabzIE/89Ok7NPNOD5DytB3S9DIOJPVyfzL02UsY7LTG6vR7Yab0jWza8rvUwuqwiUj1SA0C9LtVLPZhvdrwh/UC9aY8hvLRKt7xwRfU9QlCUPUGLqz2ZKWo9Y/uEvHULwz2fnCS8ucJgPYaIGj0oMgo9f06yvXA1Oj1EIA09IX1jPQDPbj2EeQY64/9sPZaMUr0dsC+8FvsdO7ddx72hwAk9i9L2PWutPr2Yl4k9aUobPQa8r7ynkH29XvLzPYlyFr2EUB+9hLfCO/42DL0xQQY9PVLNPYyP4b07bkO9AIByPSCcjryY5K88/9XovGdKvr10i6o9grnHPRRLbj0K2W29hNYRvXaMO701AQq84FHsPUibi7pLiD68W4kOvNc+F71/Wag9RjYAPRNVArwvNba9nooMvTUjyD0Zdj+7OBREvXkbvD2aesK7LBDZPYyk0bzExwu9DaJzvE1Rr7xBZKQ9JcuwvTGtMz2jr1+9Fh0OvRsh97y5Pn69I8QpvVoapDwXA2Y9L2OWu31Ngrypb1I836+0PWaVUb2bYza71Er/vZ12T72jT+c8tMzevUeDnL2eXoa9OY9LPODRHD2WPLa9oJ3svQqPAzyEiFC9GDx6ujwXvzyX+I49ErSmvDgmmL2Mw2m8aJ3LvOGF3b2OK/m9iTfnvSp8Aj2gm6c9F/XPvYs44D0mkuc9HAEGOxUjOD057II9kFDmvQBfSzwgtrw9m9tbPZ8Q8LwfIcu9d3W9O/zWi7u1L3U9KZbKvZj+qz1Xq3g83qIuvOAI3r2Yaia8AGUsvUVPwjyT6/08aTF1vPx0XD2kD++9NEFePaRWkb0k8v29oG81PCa8Mz2hEEK9l0HRPTRop713EeQ6yf//ueqvyL0zaEU7z3oqvYhoaDzLwCy9M/h0PGOiTbzXA+89PhiGvYomuL0m90u9Y4otvT2Ruz2Dfs47cbLuvMMVbDvsnN09a+HTPJwgND2RqqO9QMGtvWO23j1/Yi49gZUwPWZsIDyPgV67nZGMPZsjN70PTbG8xiyxPYzmy71mniU8rxBrvKZutj2iNmq9XK2WPZxh0719oV89m0/UPFmqI7zg/Rq82IP0vSqIcTunLuC9nDmrvI/dtjy6sBm9OGVQPZKf9LvFurW9HbAVvaDjJ71eduq9GZ8hvJoqD71YDZo7G5DJvZOvazu6fkW9T4mmPImCUL2GRfU9MeARPGzCLbxKgTU9gmhIPTRizjz1iqC9KZ07vNUNLTyUy/W9nNhtPaV9z72USpW849fovKagzrx0TAy8ZyBTvXrysD1fGHO9hHJbPT1tDTzxq689azaYPWGFuD2iRt89WB90PN9PyT09wq49YA80PZBahL1MgGC9msGCPNPmQj2IsnS9OWlBPU4X9ruhyTO9KLezPPu0Z71sCbi9nF+dPZIGob1/rMc7uBPbvTUeUL06GgQ9cAk1PEngMry/ETu9oBZzPEpOGD2ZtH69o53UvDzB/DyvRzS9oWcAPWGBtj2bhUy9TQxSPVBzX7xRn+q9V0D7vRuYP72mS2e9pMi/PYKMhT1mO/G8TC9BvLzsQjztQiq9ScomPQf4u7yqPfq8DlzbvVsmATyJMlE8jvfkPXELSLveqNq851MsPPMp47xEfpq9SfyrPQLrt72mgy49d7I7vUKlG72SItg9Pb4+POgyE70fjls8Y7rhvK5eTD0+bKU9JBFsvUb/9b2iy6W5pLZ/PYmdC7yQdjy9o5GUuL1TPbvSiUU9LyyevCUCwrxV/Uq8rkccvR2khz2j2HY9VQI9u43/vDzTVV+9gpfUPZhvej2BkYk9HV9FPWjXST0HCm29pFrqvSpq9DzTNtu825fVPMtb4z1DooQ82hfLvPcbUr1c0O49U1o2vUcgFLpj/xk9hR/6PZ9X9zwc4jQ9pDE2vB7ErLska987/GAnvHAwpTuhjqg71s4RPXoEw7u+sTC9hEARPRmSkb2MyXI9gSj5PXsw3T2Uaa69SIlBPTtoWj1D95g9J/UPPInDvL1dpi29awFJPRxnbLxqynC9ja6PO7QIDT0Rcdw8hMn1vLGl/D1fkkW9YthXPKw34b2Ww++9pzLyPYwNvr2egUA7A+SWu5l7cz0YBew9NGvLvRQrzb1unUE9WWujPWdrOL07Ofm9Ir9QvTfb3r2mfzI9JmARvZ7rL72VShE9ic2QvLpTObt2JKM9FLydPYbr2D1ka8u7wG/lvQtZlj0OX6I9XIrLvZ7QKLyWAH08mhoOPUPVJr2ST2G9DAr9PSWh1TqMJiu9YzGYvaUiazyP2gW9gfxQvRYRnb1pLKs9n+HNPSieqr0z4787k02nPY+AGj0dUwu7xJUtvSTAVD2BiW680FM2vQkERL2gM+M9oGfYPTMYGr0ZQbG8y9mQvV+xJTxVy/m8FSMtPZj61T2Izte7Yo2NvRtzQDtocnA9kh23vJ5JHb1ecA49XlEFPRNSPD2AHl25OZwvPaO3nj0jl9Y8u6PTvRdBZD0tkhq9nB8sPJjqV7g1d2Q9hDUivTvoVj0CYZE9HRiIPVH6Sr0kel29phvgvL8M5zytkDy7q1awPU8VRL0Dq4U8ZFj+PGSKwr0wHzU8lyJTu62KUT0lcvc9HqL9PYxr6TyW2pg9iXuSvThPiL1pLSs9AFI2PYXztj2g3wM9GfnovYBnpr2G2kO82ccLPRsFnT0pS5m8m2devWLQhj2lCk49DvZPPNApfbsO3am6j7+BvEOyMbwm9EA9nOwSvQgTvzyjZpK9l2nuvX+F8TxjdCG8oaoSvYOWITwrv8W9IrpKvYUMtTwdtGm9lJpPvZ4MSby0TIg9gcdpvNvMqbz3VEW9TdfLPVrrg70WY9m9iD7QPCbqx7zveZG7eXPVvQOi8D1MivC8KJqqu/V5lD06bXs9L2rQvQ8S4L2fWKq8NhVYvXnO2j2a4PG9FNAXvYod9LzhwUM9h6NxPT5SQLtZAXO9kVVqvXm2Hb0WZxK8p0wbvQjVRDxI97K9YXELvSs/tz2WLl49k/PIvPg6Uj2G3WU8TlW9vKv7DD2kin29QEMuPRjkeL2bGlQ7VXcjPTt3Lr1DS287xMw1vYsKN7w3EZm9b2HWPGEQPz2m1WC8dgWcvaMqVT2D+wM7tPOcvTnpvj0djGS8B29jPaHN4L0eWZy9lXj5PZQQZLqEy/s7Kzw8vZ3yxr2mG8S8kQWiPIsJ07zKCpw735niupTnSr0zWxa8kSFQPUo0bbzVyWy7MGvbPZ29BTxDmI68xSn3vQyTB7xjrcY9MJ9HPXWq870Wki884KjhPOdjGLxghmI8VZT7PIwlmT0eir09lkPcPS2kVzw0UuK9XYvJvYAB27wnWNi9BSdbvJSZrj2Q0tE9E/0wvKixqzy6p109ep+CPZlOVDxUErK9Z4OkPNb7KD2EyuE87YervYT/RD2OBFU9P+KPPSBtmzxCRek9g/4WvYnGtjzie0M8+kNoPaEq+D1qoBo9BcG/PR2mMb13+yS9RQPqPHWjQz1KsmE8DqojPYCUN70s02Q9BBGGOyAESr2ZsK89Emm8vTjFj7zyUGm7XAyNPISSEjzerPq8ZXfpPF7xmjtO5Kq9OphHvSwc7z1fQ2i892EhuZXNNr2TtNk9QlkCPZByFz1zccw9oGoavN8BQjy9dsI7NQjWPX7FhD1Is4e8weg4PXSJbj0HhNk8cUtmvaEr0j2eqQy8siXUPRkntb2arDU9iFeqPP+9QDxwpJa88vttO1XVhjzpAh+8xCJbvZfo371Gn3Y9hDZIvWiRajyrR2Y9hK8zPXGyIr1fu1k9fb60vV+wA70+olw9pwGSvQ/yTD0LbAS9EHu6O6lDZb2Daoq8CBLuvFHJMLzTQLc9RhVCOpCO5DyXm1o9kLQ+vYQgYr0McRe6+VKFvZf5jL2b1e08uEHoPZ28rTwfIaG9iJ/2vZlv6zx5TLm9gN/MPUfCY70jKdM9fsrqPW4XzL1ZDOG9n8mFvUEqOLv94ti8Gq9kPN6Rv72NdqM9mJBTvZNk4Lzpx5c7fq3oPG8i6j0mGe489X6vPSorR7zPuV28qoMTvaIOQT1hDEe8x4+kPOkmX72hoIq7gZOQux6FWrzGFx29K+HCPVZHgL0rd409fd0pPTnHlz1MNSo8kBnjPRdU671tkaG9XIZaPOUTmr1P13m9iYs6PQoxsLzrcAu9O5HxvZUAuz0KQrA9mhFPvRnHubxOcvg9gFb/vSkrC72ZJJy7wq2RvZnk1Dxb/z49Xh71PSbPHDvH96W83w7LvYS7qLygHI882HUtPXleBjyXfBQ9N66iu9zwhL0xdju8AwipvT3fMj0dF5K9mtwkvSZPXjw8VcI9o/6ePBAQ8zyipeu9haL9PYdB6L1ONH89hsuvPN1MG71tKfk7hJjzPDTBJr1VbWI9JR11vXbvLr0wBcu9hzRJvPy8ITwv7KY9g1BwvQGDDbux0We9bHfTvJn8Qbz3zCI9TUKuvOvovj2aHUq9lkPcvWuGij2eHd88hRjAPYNeyDwSW0a8CVJivAv7dzwxI309mvB5u7m6zbwvk4c9j3J5vWhP3r02dkC9ICjwvRlggb1YzZq8ULikvYf+arwIxsO8+RhYvGZJoTzBrnk9FvHBvYU1KL1HtRe9hNclPaaRVTwjcTW9VCcEvYefkzyuSXU9i6JPvLCDMLpOZm89irbqvIwVczwMMcO9OM0XvLpyQL1qjus9gfo7PZpSV70ENI08z2eXPWJ6/72Vxjm8BXRiu/oXtLz3rsK9LETkPYFugD0JOFY9j0DHPR8u272dnOQ8jdPpvUXoGDyn1B29FyKKvZvDnj1QvUQ8yrT0OzXyB7vd7FM9Kpp0PT/UDjyAUYQ9Vs0JPXR4Sz1ZGNI9THfQPZ7nJL0ee0K8oPuBvVNcJr2aodU9W78WvTKKcz0h+yu8oNdqO8xWfT0Iij48/R6fPQMGU70JvCy9jg/IPaSs4T1xmo89d0pxOy53/72eGT89jEI7PUGF9L1N95G9Jyh/vSYbL7uetsA7uGzwPK7TUzyfwui9Ql9jvZhOHrzqnqI8ZYMZPGtZFbs7kdc9KLIhPQDR4bwQfK+9Qrf0PW1HALuWXAU8s057PEWBRD2hsKE9VfU1O+WJOL1V2dK9G3IrPS++wD0j0pq9UtJGPRhaP71t7ig8ja01vJZrmL13Lf29hctqvV8v9L2Iv/q9hqX9vOGbkD2l/fA9DHI/vTZOvjuD03A9GkfsvZbJGTx5zmw9OIPavZgV47vHMJU7t6YKuiOIEbswrqU9ALsPPZ0tzb2klhE8u1V2PTUlmT0uw6C81FysvUOu/Dz0ZFc9gQ0BPOcd6zwTiyK7G5KVvQ5UIbyws/S9TumbPUyJkr0FUSE9UNzdvOj6sLz1z2q9fz5tPKNNOL2IhyW9MClDvYmoVjwZYjg9Rm3ZPMTAzD2dVF07zfBfvWBmDzqunY69pKHYPS0vlb0+O408ZDSJPQHiuzvqMrG8T6dHPVOp3j2lmmw7mXIPPYKX4r1oO0a9mCgGvaUtfzv+Q0a9XamrPRgHdL1xN2I9ny4SvVzwuL01Nu49RN/Yu26XVjvK/GA7x8XWvSt7Rz2Lfd69Az5WPSfMRL2C5xA8vawDPKzSlb2RsdY9iO/8vB9/Hj2bGt49X67MvVlDaj0rFJi9jauVu8FsHDvjRQQ9KU71vUmdQL2IWwM9cTdiPZN8ZT2EtDQ8mc/GvLGsvT1BNJk7rjE1vVfOB70lgeY88QSBPU0nRztvR7M9Nvg9PYxmNz0PGDY9dfHsPTsqVz1BB5o8NwMmvZ1tozWaJ5E7+DYiPPR3Urx5crG34VpivW1rvj1/hGy9m7/TvPAfiryvAFU86kWjPZZ0/z0zOUi8hR6Mu8jjxjy0Zls8rqL8PZbRsr0YQpc8y468PKMXx70ewFg9aQyXvaQ5pr2KZxq8m08kvKX+6r0XHJQ9c2stvS1sfr1WrI+8kwLCvS4t37qymTM76c1JvVd+8b2mH+E9jqvzvU6+Jj2SH8a9obpxPW+1B70tOF89kWaJPaM+pjwki0S9UWhVvYdUZTzgcXs7H++2O3/8WLubVIe9lSMRvY00czz4Dxa8uTRePSK6mzyWunK6r2pVPKHl3DxckPK9Ec3wPTYyUb2Qjee9GfQJvT4lFL09X+89UhzjPKEPQ71v5OW9lGL3PWj3+b0gOgY8jyZkvR9uAL2EvPO9ibj1vZ8nTz1OpWu9IpbbPRvduz1JpMY9fsFUPSf8+z1pmF09Ilq4vZmXqT0crrQ8fqtWPU3mgD00YI86TR3gvLVdwT2iA349ZSLqvPhmk7y1wLY9XhCJPV50ar0O/pO9W7YiPRHul70WAk47pOD1PZoG7DyGeyy8xnodvacJ0j06baM83t1qvUmj2L2Kcqm6oLZJvSelC7q9jbM8w9KrPVPF0L0+13Q88YDCPaBILr2dzKk9NRDhvQq0tD2UEgW79zY+vU+CXb2OZDI9mLQvPWdesj1jfX29UmjtvS1svb1q3mQ9Q6sPvJOAirzVzJY78GW4PZiUeDwy+ps8SjqKPT6NpDxiU9O8yol5O3GWMD0HTiK9PTFdvU71w7zfirK9gXhJPWb2Ubyejo885IVku6Iihj0Z/Us9k7YOvWj3Sr092SU9SB7lPXyhjruH+bM8nXLDPI5Kob2Nz/K8r8rtvITDh71Svnm9S9lKvYe3lr2Upco9Fo0nvWir2ztC8uM7HMv0vJYqLL0IdSc9U/4kPTxvSD2ePXw9A109vWqoIL1Fj/k9gkqwvJtAkbz5HRo8Dovju+HuF72EP6u6+A41vZ1L972EQ7M8eEc9PUsCW70FNsK9Fy6nvHPjib0KayA84FrdPS8yjzx9bMg9fMisu8jeyz0yQ/+8+ChGPC9uazzr2rM9e1cJPaGzlr07+Uo9mg4EPXZCirzNSDw864fOvImTlT2lsF68TkfHPZWxKTpWw569oOE/vZq+FD1gRi08r1wmPXkWuz1myFw9gHtzvRtv57ynC7Q9XnUwPUOIJzzLf009hJNcvDD8gDw/jeM9JcX+ObUSzD1HN1m9iC7dPZ/lOjzQgow9HUPoOxyRqD1W8fk7AERkvR02SL02lMK9j8ZJPS2YXz2mPrQ9FTHAPAVOdTzOPU69FY/yO2VjQT1Eo5w8oJF7PTE0lbz84Oq885nOPQPGO72Uwow89AyGvZgoh70rGLI9WucFPIc7j70hDB69lxgIPSyPIbrpwli8cRXrvUeNxj1mchY9iTlPPR04xrv3CHC7/jhAvSgoa719+lQ9afYcvKUtDj2XCZQ9YXkrvQ2kPzyITJO9FBqFPWKoLjxb4888PUHZPE9E+TiDfy09hlaevNwPST1w7u69o+QZvNnp8ruR21+8bcYcPV50/702VLG8JEDsPVU3FjyO3/c9bGJvPTk+Ij0xHtg9APHmPXVRBb0DUMW9duIdvYHpu71MsWg9aPAJvXk18byYnR69XYPGvZYZMT0berC7g+cJPXdOK72iasm8Vq37PFFnAbyF36s8yRa+vaUOODylasi6oymuu/ilBL1irUu9UtprPZl9lL1reOq9G1xoPUVKKr0gtpe7KOgHPOHx3b2c4bQ9HcV8PY9JDjyv7vk9HSslPQYGBLxQ5/88BVu5vXTwpbsuc209j4Lou3xAOrzxebe9TvQzPSwkoTy6rcA9oCrpvZq4srwHnrQ9N0+AO855Ir2dfJa9bmd6vY32LzuWWra9mw/TPXqyEz1Vgo89LlhUvN8rsryqUNY8CPUZvZZRljympmu6wWErvMFAsb0lrli8FNbgvWlIIjlG3jK9pLLmvUs6LbyKaJs89xS1O74du71CMiw9GxMevMZA1jz1/Hw8mHg2PPrxDr2iKsA9b16VPYp4+rxHoxg9H+dDvTG32L1ZwAW9lwQpPSkpY71AiAO9a+g0vZL/Aju83YA4hm+pu8NHUDpBoyS89AtNPSdDRz04a+09EIlXvTFyWjyonN69iX8cvS0Kbz1qizE8owaDvTKVZ7zR6Yq8uUUbu/hAgT01pZO9jkwaPX1JYr0q0n078sxLvUD6Lr2Kvt09i+pivDUFx7yv5QM8cAIGPSiRHz1x7cK7jogCvWd9gr1ZGtg9EickPZQKCD2By949iZUNPTZx4jsa2g48dBGhPaQ9gz1/5iA9O5V5PUqs2b2DlBC8qseJvVPn3LzY2ly9o+m7vZfZWr1ibA69bmrmvYxJlT1iE8C8N4ZxvVz5sT12ciw81SY5vVqVaTs6R1K9pNP9vQukULyhIlk9NNTRPTRtxrx6/5e8QVCOPZmNnr1+wTU9X1K3vOeVwj1Iz569lW2oPYEuq71C8da8Avp0PBkzpD2XLJw9M00nvWKD8DkQyQe9YSzIvUdXxjwkRFq86JYjPY9Slb2XD328LqVGPIyKdDzcOe28OCitvRdLxr0sXXg7AYxMPYMmbDy5khQ9QaWIPaAeq72mW7w9YN2NO+bMJT1sDuo86THivZkJhjylLTI9Ux0yPUiNIr1+2Ly8lcRAPLQ9OT2cD/Q9K21GvIgqFD0vZs289qMIO9S9OT1b1kG8d427PHMJ8b08P7a9mDgwuWNSp7yHcxW9iuyFPZaQhby/z9y9dEI7uhKfVL0dhQs9Vu6YPVClb7zZq9A9RH/1vXWDvDzHGBs7qQooPYqfkb1h1Yu9bRPmPQ4Yb7y+NH09iTsDvZ3uLb2QQTS9ayPtvQvU/T1RETi9EbtYvA+KgzvSxHe8d5KCvZuy8TvoQsE7vWUfPCb6njz1QHK8nHe7O2Lvsj0qhHM8C48eu8Gz9r1ZiUu9TFSfPISL7Ty99qQ7zI0IPREBJDybcs29Qf4SPJjkcD2OoPW9PW9bvSCIxrwK0eQ9CPYHPPtX2r2NMDU8WPKXvVeSPj2AwjG66OaLPZ3D371uXam9fnEXvPTybj1tiQu8stlvPYo5pzuIAls9QIMtPT5Es7yzEP+9gKj3PaITZzz3RFS9iSajvQH1TLyacuk9pXvPvIVvtb1hLAq9nnmAPRN8Kb2d9Be9A1VKPVDeFD2fuFw8l6ipvZYIODyBXa29PltgPYMapj2fGbu8NrsNPZOjAT0pfrY9IkvzvD+iq7038Ya8bHGMvaROUD1vzOG8yqfjvXjmsTysrI69WPlgvEeGcLzjjcQ9Sl/1PDVEMrmQ6v68m1LwvTeuKrwdKZu8zq/CPJgKmTz451a9mZ/RPN17HryYxTA9cEhBPWzcST1MCke9Q861PYma3D1yNTE9Zuk5vZpQKDyGOAm87wIyPXrzxbux0g69A4EqPRQmTz1aNmI9WT8bPWtzo7rpnCI9VNDZPXb4Xbw5ofE9cpoiPKUoNz0GHTQ821bMvS+9d72ju4s9boziPGhNvD1+k3y9mVUCOyz/672XFTy9gf6+vZWvcL1lYts9ZHyavZzemr0LUGY9VytdvKWccjz9hQK8dCydPV7NM718/Me9M/NKPVKlUzzZ3J49jbilPJT8ajzfYjg9lX8tPXYh/r2avGg9iXvKPZCKFz2ABGW8t8smPMWQdD2d9Yq9eo0Gu5sz3jsgqto9i1r7vRSC6T0SG/I9inzOvVgDZj0pN2y9pYNyPIq+J72YGxa9pMj/vYthOrvw+YG9jKmpvF8EYjrDj1S9GEKmu1plRzzT35s9XtsHvBiSiz0cZ8q9XKE5vACaXruMAhS9gAeEPWZit71eSFC9pKzivZhsZT0TmmS9RPBPPTwNcD04Hco8BKRXPYfbwT2HEPA7W0GSPY64Uj1za3G9BArBPVKSs7yjdJ29eBPsPU0WWD2ESVQ89BLKPHYorb2UdlO9NxS+PNRBkDwPNzs9EBFgPUp+Ab2EPRy9ZibDPQCkLb0oHha9jPBzvZK1YDyaeUy9FdHoPW+7ij2V/3S8Ea2bPY0gxT19sj49ag3MvYLfRr1VUIw7rpuZO2tSlzxmqIE8YHINPQDiHr0dHk+9SD5sPU/5hb1Elc28swaxvAFS+r1Ajec9Mgb5uqE/yD1QRYk9P8GqPR3QGbw6+fm812+xPPvY1zzn49s9kQ/NPXJgSL2ICyE9ZC95POmfzr1kt5s69yIUPIi+w70WnY09oiw9PAHu4z0q+/Q9MRTnPTDVN702ZXs9m8nhPZtBhD2lUSa9Il18vYwKcT1zArK89eRwPWrQBrySnfu9kcMgvRRLFzytsW27KQYTvKwTUj1ge1E9dYbHvYU13r1B2AW9Y4e8vLVjXr2XpLC8pvM1vJHmOz2Zr5S8xfERPRR0aL2B3ky8n7OkvG51vTqTGc49mxyIumxiKD1O9XQ9IsyxvExw8b2O5tK8213NPYaJrb2AV0E9ifpePTCPGTzWL2w8De5tvH2h5D2M63E9ll/avZzhGzyadt88g7zNPZMcJD2Orje8+X8pPAPTHDwkAbq8uQ92PLF7+r09t/89nnfKvIQoQDx0Lqc7+nTePTbFvzyJUJy81IplvZ84vrvkXaY9lDcaPZWuEjzoU0k8UxoyvLqtIz041IU8pOtTvNKaFrzYFeS9SYsWPUzE872akfs9pjhYPKMKRDxseCm8VgCEPYhGOjylQTg8jXnUPXQm4DyGCUU9Q+2SPDX4Zr1wc229HF49vMEmDjvEInY9hqdTvXRtyjy7SOO674RIvKOR471q1Dq8/KijvOeEfb2Eo6w9jqPzvU7S0z1S2Sy8CvE1vVGLmDwfY7k9bt/sPYqKs7zOJ1I7W0dJPNwgFj1tftm866yhvTNQvznrq+q9LyBhPNcezL0IxhK9jyYyPYeoIr0q/b69nNXCvWSlNLuLvuE8JqDYPTT3Lj1s6mY8Gg6LvWNDxjuHzPW7G4ghPT0leb2bTJO85BD6PIdFrz1ByN29oWRjPTCy7D0fEXk8LoLRvYMpODyd5888CKfHvL+s1bz01QS9GqiqvSgPNbtmvz472twUvLBj/7w0Bv08VQ4tvIzA/71iVDm78KxtvTrThjxp5kU7sTLBPaC317z2yH285N0avY3CTzwzaII8i7eIPGwKlr0ipVk8uLdhu3o2pr1f3aI9kn4Rujd04z15+6i9UJE8vaEtML1tUVm7zYqiPZ8zdz0mjR49ntPzPXcznL1VqNo9j8mKvDbmNL0f7X89BFrLPVotEL2ONvq85BLGvRs9uLplTOE9pcTQPKPIHz0FnS08GtOlPYawbD0+BZo9RIW/vVrXRj2Tiuq8WpAGPU8Mn7mRaGg9jce8vYcRujwAw3A9ZW6NvK1lc72iJIu9h4stO+gzpj2mKMk87bKDvY2H5DyD3ro9gNNTvaFnGb2bT2G9pb4oPYtmQz1TA0Y7zPIIvL4stjvFriK9Nwu2PW5ktDyraz49oyBQvNoZLr2Z54q8C8iOPPRPF72aMv08+IQhPacdvj2F40+9k/v1PB+98jzY/7w9bZaRPUTwOj2IaXC9AFVVPaKJPr2SGxi9ob8TvQpQdT2RxRI9NWyGO7dmRb1moek9HmXWPYcdbz06uCm9Dt6EPKvO+jyy6XY87akvPZRzirzeUNu9SD0jPZEaRz2hOS+7YBEDvXSDU70s8s68incpPU+d+D2mV0U9igUfPXaAtbvcGBA9QEV/PShvTz2MksO8kBhrvCa+fDzuFyq8igKLvDQb2b2XejY9bQzGPXQLSjmgDcI9oLAtOsn/BL1TRC086Q5JvSg0YbyqGMm9S87ePYM1brw9TgM8ZdIiPXXsDj2Yefa9Sdp9PaIbnD0kH2W8mP/6OgRdQz2fF9a7zMWIPL0R1j1hDtE6p6FuvaU3+D0Y78c76MNFvMN3d7zzkSc8uQ92PWJ6jzrdjm28v82EvWgz1b06poY9JvNqPP/T/b2b9qe8r/qhu9zb3D0pMRO86V5YPTzUsT2Dwgy7hi3ZPRSSSLv35d89hboTvWx6vDsctRe7xkHrvQ7/1z1/5r28r7oRPJb1Zr0vsBW84birPZepL71YPdk9ji/HPRh3QTyA7nK8NTDtOoem6Lr6icU8brmWuqBGQz0wSHu7SNgZvJ4r0z0wXba9V5jovEAZlzyngkK9Q05/vN3ZV7u4Dsu9I/XjvYfQmLw+Yxe8Tus9O4/L6jvPLIQ84rL3vIiyzb2VYA+8Sw7eOrFozzwYu/G8BBlUvZStvTxzbiA9nrOjPNQnWzz7cuY9QTSUPR9fFbyk+pO9n3+mPPAum7y8yAy8wk0evNmjqz1vBuE9aAQWPFMLVj0T05w9KhXBvTOhn71MRnS9Na6mO1FCgr2auLu8CJTqPNMEO7sSLLE7v3j8vZ0fK7zEnvo9iiGkPW60kb2Da5684CjKPWtfp71cWT085sgAvRVqQb2iCc488IWVPO0ZA7zU/0y610bpPNRScj2gxim8sJbYPQ2qzT2R5WI8YITUvVl5hDzlci29IXrEPAX4Xr2a9LG9LbS0PSdovj0cWBq9nwB7vY7QJb2Q4dW9NXZ5vRTLQD2FBFc9oz6MvSW8sr0pXBW727oBvOSOJrynLG29cKs2vBcLEz2Gg009oXgYPY/J37wUrzy8i8CtPV/B/jxgRF69nsTuvP9Habw+O4g8RdfbPYu1i7z5RG88rM83u9IF0Dr5/qM9moWyvWixLT2QcWW9j2LtvHHHOD2PuA+9km6HPPc3t72CNNq7/RLivNCsaj2Xi7O9XDRLvPP8z7z3qL084VLVPGp+wLuLrng9HUi5vaQ0TLzRBs287XISvXgzpb2TyCE9CKIvvHHE0D0XL169VeOkPaLLmb2Axxq9hgRevYeAJr2hkWy8aokpPaW/gLu2Rbg9dDxiO07Lrrv4jic9M+LzPVG8drxs5QC7FDIwPWyIUT0tPTA9CTiIPI/IyrwehhY9pLpJvY5kFD06AQW9WOhFPZt5Cr2i4BM9k1brvFNO0j1ug3k8MqY4PZ/XPD0tqKs7JLzevKVURLwpVzw9nCCCvTQowzyOchs9LpIbPQjSBbxg8sU9DiRrPMZg07zz5c29N0I5O8Kf7j1BRlG9LesXOfKHtbuc8yW9mwXUPRQvEz2MXO89RqUdPF+17j2FrsS8tQ23vSUOqb2AJ4o9f7kjvUtvt7041Wu9jNpTvVZuj71zkSm9lg3iPaYLbj2E9Ue9pa/xvZTj+LogqeA9kfzNPXjpzr1ZIKQ9Wy+bPARXBLzer128hH8wPYPDJb2aPNY8xL5+vIK+2rxRv409L3QSvSEedr1L1Bs9FVKwPORaPbuYY469Ql1lPTORT71s3+M7+HlVvO2kST2lOKu9HGDHPK7dsb06PzW6u0iuPU1fVLyELsM9CbPNvUkyu70k5Ae9k8qSvWXdTLzrTiS9nMz4vW/FojymCW09nvDJPOAKFz2MtbM8pI3MPAk6oL2kOHY9Kg8HvFlr4TxsaLu9PfKMPO5yt72FTWk9nLKxOzz11TuR/pC9kho4PRczxzw4WOS6Xl4lvP95IrzbtjW8xzz5vUJ9fD0xggI9JYyLu1CcmL2b4Ec9lkmFu2TyvbzXndi8KbpGPYPuSLgs5KY9bHvevM5pvjuVE7S9X0N/PaU7GrrGpGS9mfUmvZkOML2lmCY9M7/kO1G/RDy/hjy9UiZ7PUhU6z2Ssga9cQUPvUZLvzr0fGI87wKlvTcPBz0j5Oo9oPUsvNAFkL1XjyO9oTCpPWu/2zz9WYM8/lgyPFsAdDzCWlg8uk8ZvSykfr13Yr49CW9PPO2cd70g7R09EVwRPJBCKr1rHku8AWRUvZV9Gzyt20W8695aPYcSwTyYLx482DQkPNlFV70L/uo8pdNvvS7GwrwKORa9DsjZvOiWxTvr0Kg8qt3zPHm4Vr0xjHq8xvFNPaBgeL1mIcO9DEWdvQvM+j1h1k+9leE/OpOOE71Z+DS9aimsvU19cL2iYbE9G6BNvTvnazx/4kI7mL7svSfWTDylTqK87vwsO/oaurqhvDe6p8ZWPS0r0T1U3/I9h9JLvaVB/L0TfRy8w5FEu0cdO72TCnm9R5oNPYkxo7tXXpY9aouuPUsOe71fxW88AA6/u2Srij18r5Y9U+uBPIz/Fz1oPNO9d3/vPLcKRb0rtlw9mF5gPNOTl7o6NGG80wC+PLvzab12av873wGwvAzoAbsk4pe8OJyfvTp/Mz0b4Mi8l/OyPAGgI72JNh69lLudPaBOY70z5Fw82KRpPAy42j2Kgva9TL2fvI9Ycb1g/ds74NhRvS6VRT2hLhO9H0w9vQ9cMj2h1wY8mwe3PLThpT1/vRa8L4MovU/y5T1xVbe8KIhWPMhtpjw2KnM9jO4VPJI58bz8iqc8Zq09vClGnr2V+ZA9dm3DvQF1jj0S7xe7rKgQPV9uLj0BDk087cFQPZIwzjymtZA9bZR6vMRCLj01VxG6CR2EO4RWFL1J6na6umeoPNmu0L2In928fk43vW7R3DylXsI9luw6vSpuhL0+cSC8tgEYPVmm/71QUwQ9Vjq2PaKbxr03qes9otZVvI4q/b2evNK9gikxvYV/2L1LbJi8gb+NPOcJPb2AStM9pf64vP7bWD1zP/M9LVEfPaB1M70zFyQ9mraOPZb5rjxOWAY8YK1+PZHRNL2FKvS8zZQrPEfkF7zQhgU8FEfevAvOOz2fj2g9hGCWvQJtTT0FCGw8I4KZPRRtLjzYbr889ifcvS9vfT2E6Ou8AS7kvTJqOLz3JKG7jy6TvNAh1Txqlfs9iCOmvU5p8LyhRZS8/8B0vZSH8rvLO7y8FOz2vY+IZD2A0uy9oIIsvZ4hdD0lpIq85Tc+PUO94z0eKpS9lJ13vUSsFD14SxE9h2MjPEMx9jvslZi7usEQPQXOsLyTGnU9FOoyvO1q2L2h1K68rC68PWK2h70swn075CdFPZx+wrwGuEk9pq2aPPDbMbxeg+g9Nj9NPRERiD1V57Q9DgdXOo2uvbs7rPK9PXMiPZBmEDuaKkM9Q+bWPHRvpj1dcj09nCntvJ3xoLyS4e+8qeY5vYZnnzqtzYM8IFXmvQ68GrxFx5G9fD2LPV7Rf7wxz0e8nrqmvCRqR72XAL49HVD7PTb4k7uXpja8WB/kO4roTr0RaSI9BNqOPaRTP70Po6u7a8aIvTlODj0Ay6c9eyozPLCZ4z2HfpS82wf8vQVJYjzq9kQ9nk4HvaG8+T2kqPy9PYgbvNwrULyZMCa9da5jurutRrx4DUW9krHDvT6Z0b0N9CI9iVnyPLq4FL2FlA28+nZgvZIa7TydGfi9OlFgPNX4mDwxgHw8yRqVvR2Ft71NAH69f8aCuymhXz2CCQQ9jJ0cvZxoU70vgvE7pDk/vWOwfbzjeNi8rICMPMpO1Lzmv8G9mamSvVYimrxjoP89m5WpPYy1UbztUOw8BtmuPQABHzdJrLe9aouXvMa4vT0rIpM9WWoyvVu6YTpcL6k9hznZvS/J0700fRg9O6CrvVke07vnYbo9jFx7PZFz9z1SOim7MRtnPV2CO7yqEZQ89pRgPWhAtj0mCQc9MQeYPVaXRbxmCMK9UlujPNKGzL0rNDs9PCewPC2rjL2jlW09ilg/PPpc8T2KsKy9pT5FvZEgBLzR2XU8l3fVPImtKD136gm9gCWivOaXpbyGDbg9WY6nvYPW+Tz5SEY9XD1BPaJDfbzttTW9OQxWPMxgaTx33Yu9liY5PYtkSj1SRq+9phu6PZ20Zj1HPOY9KyldvU+Vij2U+e09GggNPYsT7T00Yxc8FRibvWQyS7y00mY9MtmeOwgbV72eimI9ecO6utNnrr2MDwG9Og+6PNuVhz2B4iy9Y0APPVRdNj0015g5Wxi/PZ6fPD1HynO9lBNNvLTbHT09lJQ9FiiuPZ/+jT0NzmY9GJWbvXcS17yc+p48lLh7vTLMBj1ww5W9BSJGvY2X2jxp4ec7TiIDvVcImbwfFpG9nn8yvJiPMruvCUG9jylsvaUPwj1DotI8Ik8lPQC/ojqB3ci9nHJ8vJYlar0S7/q9khRkvGqyG7wO9u49FgFzvAVMFr0tCu89lyYevTB7XL0bYXu89yYjvX5cCT2QE7e9NdE3vWh+P7yyXoM9ET2DvLa5/Ty6I2U8AXUwPKYMXb2J4TK7vuQjPYbb6L08kdo9QNm+vN5kvbwMiqM9SA5nvZfUL7zlILW8ATnpvDhfbLwsaaW9EsyDPUtTkTvVhgC9XxXWPVPWv7vA71q9WXSmvTI5qD2XSGa7ioJ9vYxK+z0LCim9WfzRPQvPu7y0wSY9a0wuPV8dojoo/ek9V5DIPSVaV72beT89LkMkvQghLTukGT49Qe53vZ6Gpj2Q8QK8h9dEPacdTb0MzLY9F1FBPLEnWLzke0k9kzkAOpax1TzrH5S6MV20vZflmj2f5+C9oihuvTfBQr2Fe+48unwhvJyEgjzEk/49fBgWPE7OlD0idS+9CuJTvIZx/L1Gj2W9abmTPZPUR70kN5s9EhiWPZq5f71PNPg9makFO8+EdD2BFzo9dpHnPB1LiL0/a3m9ppwMvaFShDy5/l49ME2ru+hZIL0AKDQ9SxQtvDGqqD1347O9gvFCvVeXLj2H9TS8n/wFvFkOGzxObti9afv4vJRFej2AHg08mIGlPJ3AKzzeWQo9j4ntPRMxur13fBG9hQotPVsnGL2VFlQ9NvA8PQ6PvL0e7RY83ZyIPTlDRD2kjwY86fnDu312/D2EPi68vaNrPNswlrxDaWa9ekWiPStteDy+ItC9oT5NPZVDIz0iMVo8KP/UPZAPFL2kwoe9jXGEvW0k3L2BBKc9EZL4PM/KnD0XKXg9NV+ivR4MtD175WQ9KkFwPY+SDj0Zwiu8Z4zMvLf25LswQwi7ZOBJvZ4nUL0U0TE9KLwSvQzO47120CK9JrOtvXum5D1MRue8tvvHPTbStbxRz0W9g42zvA7b572DgLa9E4VzvXqClb122Mk9n5aRvJ7+EjzgFcS8l1twPYD5uzy1nAM9lpAFvUiwvL2Hr+o86SUwvKWNLb2RC968LRNlPXlko71Oc/W7wAGrvV3TAb2a1ti83XB2vMefgT2THS09oMXTvV3s4D1xPXC9HjHLvRz2ZzrOeQ28FZtJPYGhwL2YsOM9pTwEvMn+JDrvGiO9SN1GPZl/pDyBrZE9fLVAvV7h2D1CFhi9pJmKPOLC8z2ltjI9FDBsPT1NsLwc0Vg5h6KpvaMFG711nm+9PSa7PVxcSD2c6fS9Lv2ZvU6hh70nelw78JkTPWf1+b1h3rM9XJMmvaItAL08KKW9ma5uvXeyhr2CN4i9GQErPPZeBD1QfIc9VadIPZF8pb2dlkA9oq9HPSZrPrwOfcO8yCncPQd9YT2aww47egmUu7PBlj2bZJQ9mM0EPY1MLT1cSiW9jO1IPXmx9bu+61O9k19cvabwrL2lIuu8yzzCvLOXw71l1Ga8tQDmPJYvj7yRw6e9o4qQPTr5Vz2mJdA9kIdgPRLUcTyIcsm9aAuMPCHQDz1g3FE9XtXFvQeFlTw72pe9Ce1WPVSC/z15f7e9PsaIu1ID2r1k5M89mAeNvO0ZZr0visC9BGnjvXR36r2VN9q8zwb7PZ7EPTyzvTi8h4ZkPARbGTz2rf49TIxePLY0BrzdIA87nj/ePZuFmL14SJS7aPjVvR3MVbzO5jc9UTw9vJwyjjvN67c8SR/pu5pbQLzWA6g84MXtu3TxeL0bWfq9Wmo1O9YX/Ty72li9VYnbvQRwk72ZjQm8cFaSu+2rczwKpeI9iWotPZQ3HL0ZB/q9FyyfvQJBY7zFCEg8/rB2vEbIUT0P0VM9L+eWvZGBDbu4oEs9NFWbvWmHu70eai89GlTAPXkjHb2j4rc9l6a4PJUttjqB1uy9LGslvSuSbbyNh/W8vOgIPYJL2T2dnoS8yze8u47hFz0rURi9lMNTvYmdqr0Wnqq9mFWRvEtA4T0YJDe89XVGOyGyGL2k8KI9nIsVPNrGoDwZMHS9g/FZvIJgM71vv9M9hJ3nPQkhdzsSj9E9g0o1vFtYrb2JcPA8Wx3uvOLj0D2mrt488ynOvY+txL0aB869ko5TPPbxuLvcYYw8vdkavPDEIDypGIc80yhIvPjpS7y4UoE9itpKvACfBrxHzp29PcNbvOTMJL1lbJ89MUBpvZxX1D0/mmy9IJ/3PS9dHj0OhEE9UcYbvZyKPD2hdP49GOcaPQP/0bw+4wk9JqVePX9ZK71dY7S83wwzPXEMob0WFRM8P3wMPW+k8T2RbJ09cqalvRuzjz1oUyI9KwlDvM1x4Dzta6S8MnP3vXXVuT1I2uI9hv7XPYdgBr0zi9Q8kVIzPMVxGj0pH6+8FX5CvH6BPz2BiGo75iiuPGnk4T1awU89iO6LPStwgrzEqEM8gHG1vR2sKrw+q1q9HdTJPNSwGTx//Uk9g6oDvV74Ez0BDlq9XwhYvU9KMr1DpsM9id9bvaJykLypZXs9jv96PYyPDT0ju/I8W9UHvU9i9T1pghY9jzz0PZGEb71sndo8RboYvR1l6r0+VV09hnOTPQ9M0707AzI74i+8vL5t872ViNI9FyFyvGcNBLzBjim9mZvKPaaO8Ly0pog8EFiOvYQbkb0H5ly9c8pJPTAmULwTPXI9Xw4HvC9YIL2l61y9lHuVvAr0WT1FGG48jTvhPCMw8jypv0K8k/dsPV9HHLnjmoE9i55cvSyZcL2gKDW7PB6aO6C85j1MNBu9oenoPYLjJzvSJ0q9cp7rvZ3dQDxfhp27geg8PQcdHb2Krow9VvxVO6x7Urw6ow6884j9PXiGU71+NY49mMDwPaS0vb1jYle9lGZHPQHg9zvQK8G9imX0vE2rtDstNc89oaMLvSEIaj0Sst08lyhJvZjKHzyPzco85dCKug9X+L0GdU68pdLnvSrVGb2kjd29lPCou42ICbrdgV09P0FXPZLIbj0BBji8cyl/vYn5Rb0GpYe9bMh+PMZKT7091ms9kMfHu4MPZrzpQVu9MiT1vRBxFz2bLPO8VgoHvTNobzy2B+Q9goFsvZZjBjyxHT69k+xdPY/Rjb2BHyS8y0+4vVn2e72Q/8W9mDDkvZ2eHD1yWS69iXz/PWOWrbylGHo9fPpOvaJM/z0DZvA9YbFAPRE65j2MlNw9JXGPPZrHy702dkg9k9wkOr8YOzvHF289CY8NvaLzKj2DhpQ85EVWvTCExb2AJrM8huXUO8sMDT0SP3m9l/vDO8gzvb1Meok698S5vNGVZz0P7AM9gcMeu5koQL2JIM+9gR4wPVr22j1iMRg78LKNPVRIuLzzpUe9GDcEvKbZeDzTwQe9FGlavYxAgr2Zs9M9KyeGvWg2kbvaiwA9mk8XPaaIa70QZ7a8j3MKPWkLgrySi5I8OkucPLRvir1CYS88bxWGvSeGw71DWO09LN2mvZSh2Tteo989Zf5gO/0z9LsRSJC9AeqXvST4tT2bKHa9O7wlvH22BTyIwu09Q1RDPB2lYz06EmI9fLT1PTVngz0Uzf+9OH2avRv/Qr1Ei7I9I6wYvZx8X7z7jb69Gpp4vZpuJzumSGE8NR8WO/BGhz1TGVS9kUfHvYkC+j14I2A8VpPaPZe5d70hydA8UjyEPXP3pL2guZ89KynQvODlR71GKAS8ArbPPSBiOj2bX/+7R1qhPaD8Db1wCQ69XAChPQMt5z0oUUO9P+VoPYFD1byuKMe9jUAzPZ45JLwVfSi9NCm9PJLLhryumdI8UQoBPaPk6j1zNr+9Dx5mvAomt7uSOuY8omEhPYP5CD0KKsw8yRB1u/o+0L1wH1a9HwfJvRs/2rzXRAO9iyOUPIgA3by0MV081ajnvASCIT2hXJY8nifDvNTyvjz3RXS7BtvtPQxKojzUodS9EErRvWz5Kz2YevE9Fc1EPOlPQr1LB3A9ZJ59vN+t2T2D32q9hgn7PCqQz708Bja9k5EzvOKZGz1p/B85T96tPWEYgb2gbDO8v4QXPSUgED2Rtgy7sJ2/PGA4ND0MgvQ9pHdfPXqKDr1vmW49PULxvaaUBT1Lw8m9WoS/vYPVAT2kQag9afzOPYVWoLznQb28fMDJPH+jjTpMFVW9SZKrO8Vj/z0Kfzk8e6rkPLUKZLzO7NU9UCROvZvlwj2kxcW8pWULvZczlDuI6YG9gA9mvYWGfD0sfrW8GzvKvZhUt70xiMs9D7HwvTh2zj2cWSe9LeLVPTcatz1QXkQ49YVCPWNPxLxqlfC6ZltOvV2O0TyDi989D31zvU82yb2S5QS9Di4vvWAg7L0fM9G7oHT3vSsm/zzgdfM8vz8ZvYFij7yjgya8Z1R1OvPqET1fhUK9k370vTnfo71rWK+9pw+YvS7tbryRFjo9KsMTPKlYUT0jnv482K+oPaJAGbsm4WS6hZxZPYxJSL1tOrY7B9tUvZmhoDzVXe48WoPRvaciJrtWhOk9iU3EPBef1zyukys8+nHovJLo6r1vvxe9O5/6O3IJzjz8hy49EJ5/vYLkyb1IuAU7CwbDPSxigj00yzm9iabEPRNaVrxsVyI9YN4YvXu/U713mrk9CcOvPQiW2L0+/qW9h/hMvPsYjr01V7s8mkP2u/y4F7vo/Wc9hHcYPS+k0T17rDo7B62avZqy4by3iHs7T/RlPAYGib2ZAL49JzBYvYYDUb2QbPs8pwTOvRE+YTxwL4u8yB7rPZl7gD0GlKO8iBwTPUoGJL1D7wo8nrzLvX7n7rxc0wC9MTqTPIVWzrviS5Q9ZTiAvXAj0z0kTRy9pLW+PXnKKz1dkrk8GZmUvDf/Xb0emf29oRRfvIJZkDy8YIS85MI9vUNszL2lNtu7VrF9PBXvy72iIHY7HVwlPJtpnTrUkoW9AN8JvOchc72HUaq8zqSNOs2FaT0CK5A9Fct6PQ6O272ZeSe9PrzLPY9Igb0McjK86aqAPFli8LwXwlY8mw69O9U3dL2KNf28M5h6PKNBUb2KkkS8cT2EPZOVhj0xOBi879eGPAqUID0niNq9c0GlvZClAjx2s+687CDHvRPgeD0C6Tq9Fbu9PYpZiD0am8E8tYZlPLA6WzznOnQ9iiMAvUgy+zxy+kM8pGVHPUcnVj1M+De8ijCtvTAsETzO0r48HiOJPWDUojwzRnU9a1T4PSB3rjyxqPE9netUvBOKzj0Ntq49JZMYuPzo6j1MwwU9pVhhPJBpuTv94/2760ihPSHVer1npfq9lPB6vUzV371Q0f49lv1BPUxprTx0aji9hSlRPX2yijyHKey7oM3NvQEva72OEyM8ype0O2SezrxrDue9nyCrvSVgbL0r8P+9EqlQvZgnIb0KnrM8ot2vvSz9pT0Vor8761P6PYrO5jx3sDC8cNmKPTtdujy1sZY9BXIzvYoMP71kmFU9J8boPL0MNL0NrX49W0McPSaWlrydMAm9Ib9FO90Emj1d43K9D3DLPZprgT2dORC9m/xdvU+MGbwZwJG9UapTPQlIIDnPXAq82ttdvUIOoj2E4lE9SuBEvPufvz160W09QvZgvKT8ED2BTBu8Bn0ivSOJu71fOIe8gL+PvVgqnD01Y3s9BKvnvXtjLL1iRgk8r58PvXsCBb2i6/G9jZ1WvSmAvr0KtI+9RYmlPZWAVL0Nlwo66YkwPIEyxDzlC8Q9kzF0PV1Ud72hfkI9dIFwPUgIZ7zdjpc9hkDhOr4WODxLaZW9E020PaO5azznmce9YpGlvFAqCj1vx7K9EClFvKYyf7zffmM9gb08vIxzTjz8+HM9SnQ3PUQKUr0MTb09QoC7vXBpq72Kqz89oi43vEaIGby3cHU8xM6jvTRbqz0CQtC8gum3vXPrQ71bakM9KFRlPVpKfT0UShI9KLDNPS85JLxVMMw9paKpPaDUzL1Mldw9hGW5PYqOFbzvCy29XGh1vZ37Sz2LEXo9WuVbvVIXTLslmXw79aGXPXk+lL2K0re8kMiUPWDmtTu1f+I82YOZvPHLpjzMMvO9pKYAPIOnCjxbTRW9gzC6vYezLT2UQ4c9ZRMNvZZfGLym2II9lA0VvCz76zpHAXg7Io3lvQjnjr0geeo8QKGUvRfTFj1QDPk9BsZSPTktrDyYbPc9lepnPUDcAjyl73u8J7mEPFv5kTzZbW68DZg/vYeydzy4LQc8lnZPvAE7yr2MKI28QpfEvWEDOT072g88ZuuKvZqX4j1oTzq9SyocvRxiID1+T2M88haQvUiYOjyvdDE80MzPvSZS3L0Pdhw9hbroPVx0kLvRrba9pHpmPS7Rs72IhVM8PDBducMLtT1SNrC9K5d/PZm3Ab1nQBs9MuEPPR3tTz1Pyi89PuZvPXlwITxtFnA9hneYvZlL1L2PFva9U+//vPhrozxJYjW9huQbvUw9lr03NmK8mhR2vS+Q/Dv7oIW9OW3ePQ+xnz0PxKO9JLyxPY+6uL1Ih0Q9iMQwujFzQr2NMFg8iwxVvYf4ETvCDCU9J4JSvY/DnDtnxdQ8AK1aPZoOzz0uvr88bJ5fvWc+RbvHf/I86CpSO2Rwl71M4Zw9fod2vPJ37rycliA9HWdiPH4kXrvZdGo89eSqPQXVVb2JGNA9DdKYvRlMN71S7r07ruGSvSRjlby+QLi9mQ+IPKgW171xE2W9WxuNPU1PMb0EaSI747vmvYWZyr0ilmo8ybcQvUfecj2CLMM9kbThPU7tfL10xmG9Ni3UPNa8C72BHbm6gfT5vTHEjbynoMc9lgJQPZQlQ70i5q09RxJPPVh3Nz1ltfm9QPDxPYRg0D09mms8v8CyvYo55Dz37U29C/9avRPt9ry6BXk9KtrmPZqhmL2bWNO9nFwRPYiu8DxyN7w9V0wIPRq+wz0B5A08qjhyvZJ1UroLlSi8l4D1vZPDDjzNT1G9RuvYvV8ug7zP5n878dgAvWIgYL1X7/89ZohBvSn+rb2bRdI8kO8ovaZ7ND1/U0+9kyCaOzH/iL0xL+48isRsPITj/LyDpzq9TbhcvXer0j08BIS8gATUvWUX+T1m1zC9TO7UPU74trze6De9bEW0vKDvR7xCcH66PN+fPZ1Hmz02b3w8TR1ZPN/LkT0FhEO9J6lpvUhsLTzWIP09VBpvvWfGLb2QrGG88SyePSphuLzOBLM9I9s6vK6nLD1/JrA9o55/PUBe8T1KRJi7UfVSPNywpbytgyc9JAlhPYOLpLyVkOU9gg08PQXy0T1l8Dk9SR68vXWiVTy1kfg9POj5PBzTGT09WFA9RSlNvY+9rD0o41M9J8FlPADioT2TsNa9FhTFvP3hrjvy1888xAFPPX1axD2PjSg9AEyoOacdz70STjY9pi0oPOsffz2mSnu9l397vHRSn7xrtY0849KZPZeQNj1VTJQ8eH0CvCJx7jxUaPY9A51ePRm5uL2XEcw9CoqKO83cnDpVrqk7on+bPAn4n7y6PwM9RXAfvSZymjy0Ggi9ercovIgbfLu5JwS8sxKHPZuv3T1KYqG9jfY+PVXkUD2jnoe7QRgDPSWC470KOl+9N4e8vOQS1j2OzYc8qjS7PSwYGLzyRtw9mmXVPWi27j0K/Ge9ghs3vUDIrr2kOl+9hQybPKCMcL2A33u79PdEu7ErPj2hWMs9jL0VO8qzoD0HfkQ8h7dMPN8hTz1j/oG85d1svYd1nzz/KHy8FCkrPSjqrD18TCi9jA9dvaafo71xeOA7tuw0vUA/kbx7Fsc8M4C3vYhgcrwehHS8uFB7vUWs471jX249n8vJPR63Yj2B5rm8GEicPaX8Cb0JXCQ9WQ6lvacvgj0pERk9n2xVvNZJfT16Fm68v08PvZGYi719NXG84C4ZPWoPiL0ZU4s9AXliu1gVUj2nIIS7u486u3WYsD2JURw9PGFdvU4bAL2CfYy9okHmvUNHKT0dLG89BC2huboZmb2QpY+9FtgbvYO9ar1/a1u9Hx5nPXi6ir2T1ne9E8MQvTiv0b1j66U8WGe0PIBTULziq0u9mGA+PLW8hz2ZxPc9hcJ4PU5U3zybxy88qUXYPJVq470Q8TU9e3eNvZMRuDwlw8e7k9QMPSG737yZfIi8g8+pPYyT1b0E9UG7uCkrO09V1b0sgqY9nu+NPHywNr04kmo85OLxPX7Oq71PZkQ8o5iKPZtFoT0tUNY77B4kvZ7osz2aUMo9UEBUPSO3wLyDOHi9o1RfPWo3P71Ik089A02LvYvZSrywoWa7xl2uPTe7wj2HWFa83QRRvX8DZT2AYM+9oAVxvZbaMTyki1k8+D89vZI+qr1Hf0O9oCn5vYUYEryfXcO8FptBvSutyr02x+m9nws/vOw9Mb2YD0Y88QeHPHPIWb10wW49nVgJPWCop7zqQXm9GITZPYK+xT2XcxY9Ovmyu8fphTxFdW29aRibPWM09L14b7W9B57lvGzAtb2jsAm9UHaJvViQrD2hcFc9U3ydvOJrqjwXZWG9LG+gvQHcsz2CTIo4UwYHPLcw7z2myas8xdTmvZVq8z1Ayno9SRWCu5IOE72JLU073ze9vTfAuDxGz4C9cPpPPaZWMTysMkm9CGHQPO7yUD0CacM8pbzxPT9bjb2iAIg9YzAQPMKtQr0zpqQ8ovlTPaGkd72QKpU9VmN3PNFVCr2iGVg9hGuEvA1mWzxTbIA9VVXJPXh4Xz1MrCa9IlVUvaORMD1RmU09WHtxvBTxKz1y0Fk9Nh4KPYQxc72GEw89C0kKuifwyzz4o8A9beKvPVr38b1Uyz+9mvyEvTbCoL0FAq29lrB2PZ7uurs0JN+7gb5EvRn/lD1tOIQ9Xy+LvTGDlD2HNva9judcPQOlzj2hWLE9lCvlPQsHsD1BkTu9K2hQvTZoZL0zJj+9bsd4PSXxiD2enOS8J0s1vPPpqbzUNgi9n6i0PaKwmb05aa88oqD1O9U1qD2Qg/+8LrQDPTr8KL0KeeA9lfFyu+acYb0zy8O9QJSGvI/SxryRXOU8eXgKPOkB+r1uHeK9KPQsPUISzL2jWCW9hXlivZ3iTLzr1EC9Dk9/vJRPNzyHzhS9AHCtu5ibkTxI7T88xFQAPYq6t71hxWu9KgDPPZ0iITyYayY9QpZ4vT0Ejz0dJe48Tbqvu0gMoT09WUu7olOtPZ/E7L2SVd89mR3GPKvtlDyiHrW9lOgUPQjAYrxoSbG8hsrXvSmfoz2REzY9pyJAPX9lTj2JdIC8gMilvS0AgD1dtsC9m24LPZZCGz13aAi8tzxyPIa95r1htaE860N8PQVFtb2mtoO8+mNFPQem5r1Y1oM9Zn4UvaK0V71tiB69jANcu+26TzzeDve9oRDKPNhbJrwQ4VE9LLDyvPqGIz1f6629JWbIPF/CVz1+Cb49Y258vSYIUD1po2Y9LBC1vJuIS72V57w8Ep8WPZoHjDwF4mi80QxlvGv3CDyQBFo8HsAuvG66kTys6sA9pf+AvOAB2D1IGQe9VjQBvDBZFL1mPO49o46pPXA/f7yxTRy7mFslvYByZL1TuFe9S+OwPVs5+rwPPkC9ibpCvZWaJbzwRm28heF3vYbJjb2EzRs9UgzGPUaF5Dyrkzs7JH2rvEVsXby2MFS9eLBTu8JgFLvHf2C9UoG3PIu8ozv8fd+9QBVDvY4507112+u9lsn2PT55wj0th4o9hQCpvT4VMD09Cdm9C1ojvYX0pr1PhXI9iI5cvJHSmLsfzzc8d/CxvYbo772D5J09E4INPWrljL1ppGE8Wb3RvVp3/T1dx+49hqjZvXtzXD1bbM49jt+tvZYLfjyZx9s9liImu5igTb1ad+I8p6jCvX6s8z1ywza9gHmJPYm16bxHJ+M77Cituv1siT2Wffw9FhDpOq9Lor1CKpw8SoEgvWFEvb1UuqE9JYpUPYNkaD1xLIQ9RAG4OuOKLbzeadw9lmfDPZPCTD1l7j69ouPpvZ7laLxfJ9w87rR8vFhfQbqjuwQ9ou6OvD7VpTxqdSg9jTXhvSrk7rwvE6q7xe6OvMslkTyLd/g9EEY5vH/dezyFJOU7bYIOvZRzub14G2+82JBYvRwStrzdAQI9CEC/vZJxVrzmLrm8mozLvZZ2WL1zeE08kfTtPJzX0LyxyKU9ooLKPYpbHz1Y4ec8j5tQvUiJ2705/cS846ViPXwHOr2k+249DXV+u7daG700BHg9FyxEvXMH2T1JCPU83jGQu67NPT1VYbU9hozqvU0f+z1goXi9MBuoPFvvKL03mnK8Ljk2PRPUKTu3ZZ688R2YPUWVgTyDaQy9D58mPRwSpr0gOmw9asrZvWlgyDy+ITM8xZDnPZP3ij2gFUe9miAqPZYlebzD84i8shCePUJLKL0NA409mzYGPIsYUTvrupy9d8oxvZDEjL2Xh2Q9XY28PO7FTr0MdmO9VtB1PYPNDruNs+K89ElGvUOF27zYLzQ8KkN9vT2Dvb1ZpOq8OBTrPaT7ZjxYXBE9pxogPQ/HzT1km1i9Vxw6vM58TL2c9kM9N3/Ju8jW9L0NuUO9XR6HvEuJbb2EKlC71TEAvQjyO7zUy9E9Dw4zvZrlub0IQlS9G5o/vB2OcT1hMQ+9ju9DvZpyg70/q4+9XcAiPYkFp72TRk08p0F4vOlWpj2LRXQ7fGRRPY6g6z1amNI8tXdPPYKaFb0tPGm8kNASvFLDXT0JQTo9d02gPaal3z075gK9de7FPYeHLb0lumm86IRcvS88ir2iJkW9HkPmvV9JGjzbC8i9WbYZPIgxBT2H0Yw9pZuQPYDNiL2YrD09kZUpO0l3erxd4B688M69vBKTFT0zg/689x6BvYrbyj1gAhy9oHhTPLXJjT0B5yI7g8TTPVV70LrJEo+9jTUdvYdMpru+uzs9AJtMvYAOTrwTd909SqJoPYTUEL0nhO89YxmXu67uor0sWRc9jF6dvMXw172hR9y9F5cluxVXzT2DZVi9aqpaPZzrFj2jNC870U8+PYMNcT2lPwW9mT8wvCBMJLys+429jbruPZf6IL1/0m08SmNIvVfBBzwHD3I9jWWmvBMUF70Tp8a9YNo8PXKGpr1qAJy9eEBKPYRmsT1DgMu9g4ybPZf1jD2BOZG9l3oxPVpN+DzQNCo9SngNPQxNZr2TT8m6hZbMPSfSBT0tceI9WmFSvZiN2D0JEm88EyZ2vWVefT0g0729g+yFOiLcR71dWpo9ZjGDvUmNwLzVO4k9ophmOw8y5zwPj9y9fF+0u/Upuj1TCmA9VWwTPWQ2ejuM7Ts817UovJjOmT2KO/c9pu/3OxeQP71UgQw9UM7mvSLsE70FsyS9M9/OPOwTjL1bbWM9Eh13PZbKwb2eyMu9pMC7vHnowb2Sn5K9Wx7RvRcLJbxprIs8e+jyPRqXxL1NfPU9Hd9JvWvBED0etS09HoKovLMnSjxf7QE8S/c0PUDgNL2BAK4895fWPJyizT0MZ1O8JJwqut/+j7wUv888TSdPOwFjojx+2OU9inOBvMxEIzyfZtm8S49tvVnUET0W6mo9l2iyvEBlUj2ISuG9N1nRu8FVk7xdUCs8lEDdPReg7L03QWi8ioYFPYouDLy2PTC9nGJdPIyErT2jWJy9iziEPGfb9bz8q289NQSAvSTebTzH1SU8EDmcvTz/aj2KKCe9hfxMPHbAyjs1elW9XKpRPVCe+zzaBle9Ks/yPUQwDr2S9CE8dJCNPUNrMD00q5O8yU5zvNlcFb0JSXw9Pj0tPZ5+hr1ZQLW9lpt6PNTr2DqBtfA8C7rXu79B3zuU63Q9gPxAPYMSLz0Fg1C9W1stPZjYTLomsq89X8wcPRr9Y7nLuJS9jtSzPYWx5r2LJzM9hqLEvTmwML2nLe69anS6vLTX+D2G7Sc9WuLGvMgbSL0Q84E8mW4fPNw6N7yydYQ81l29PWLdbT2KPwS9H9ItPWzt+zuDo6w9J1FfvOlv9bwdHRI9Ib2LPQj4rDxcWPq87TSMPLXPwr0Q5ZU7zctNvYmIxT0t8K89FxxIvLNlHr2lL4y7roAqvVfadryz9W88jcw3vQsGHD2aLfS9hUZruZDJBz2Spok9iPytPDMpzT0vxAG84MoCvMsapj1NE4o8xGaJvYihbL2iY+s8VwxzPMbdqr18k7w9odYHu9Lo9j0ehFU9gd3RvSckdzyaZWu9kx2HvPKwkzxDyrA9iyrovWWapLs109K9ENcxPQ9Ger0N+Lc9RzdrvZ2zIb2WkLA9nYi5vaUdjj0gUGW8n2dMvQq38D1l4Vq9oGKuvAVovz04EZU9AnMPOpgBk70n5rM9m21GPO+eJT0PBXy8m2wqPYqhzr1rdba9ImteO45J9L1vI0u9NpmjPYBXZr14DJY81jGrPICoIL0sCmY8sxYavNlHLju8bFW9hXAsvaAmU71A41S81zKkPD/u+DuxjAA81PCaO1dJCD0FRBM9DqI4u8px0T2LXc289KepPSADsr0hgSI8EBhWPUPATr01dXa9Aor7vWIilL2fk509g4ElPRfogj2WRUM9BZAdvMv5rD2BM229o4BuvJMl6L2KWbi9GKngPFldRD0kuBI9Ks4cPKFH8z1g3o29UHwjPVoiXr1gmt09FOvpvV7moj2a/1+9g4l5PRgiRDzNYf49ivBpPOd6SD0h/0i85zkwPYxqkrySddU76v6SPZKqrj1x3Dc9iGrEPPVTWbyJYES9pa3tvZPNeLz765S8/mCrvLXm970NR0o9BHFZPRiFlT2Jv1I8NB7KvK9gKzqCeT48ppLsvNd19r2HlsS8E6Zdu9Mi2j178eg84GZwvVh5ab1Lwaw9DZvOvRmQhzxTU9e7beegvL+T5LyEpv69BD97PKa3PT0r6nw9jZW0PQmXHb1jz7s8E6livZtqFLuyxUq88y7JO4sD/LwqdsO9VqFivYTlA70DFnA9pT4mvWnOgDylnGw8wTdtPXzSN72IyAk8wdwtPZiGIT0xAwA8jl5ZvM91fr0yWIU9pUVuvZ/1Aby3BEo9odjYPT8OETymali8oOo8u+SR/L2e3Io43QaQPGshUD096K69kTPbPPa1sD2UxP281BGDvVeYQD1pS+k8ODxbvQ1osr18uVA8ROaVPYOB3L0+5Eu9gvgVPR4sJLqFsjs9iZFNutt3dTuyNYE9mvHjOmoxtz1XbMa8vuzgPYcPfrxS3ac9KNJUvIeia7x2wIw8yaV4PaK/QDx3V+29Vul4PE8YuD00q3Y9pQCLvNQK3DwUHyo9OGkmPYyEqzzgpAo9IZ/lO83yFr0lZs+873NSvJXR3r2l/Gu9gmidPR6EPb01cwY9h4o0vWRPiL18pJO6w0tlud54Rj2RxMa7wr/bPW9jzr1PDGE8fv3tvFmvCT1hSdy8ulflvS+WOD2d+CW9n77rPJF95zzRgI+9jWGLPTiU9b2ctNE84j3ivEKdUTyQQD69FNJWPTaWnb2I0w09O1aFPUu+MbyfzRM7KPlWvSByVzqdZhy9HzTOPSCHtzsf0Ag9SZGJPQORqT1raJ09WgsmvaB1VDwQnKa8HJ8MPWl9Br1IoZs8YIV8vYTU5r0XGMg9EFpxvIs9gj1+yd280u0lPYqFJrzvP449SFoLvZndhzydDRc9Q3/dvAdAhbzLoHk9SW02vOJSzj0bd5M7rUfaPN9T2bz9HSw9C42gvYL0aD2LOn88MHNpPAVFG7rJ0FC9geCGPMLDSTx7mdO9dbPpvQzgv71JEWs88bwoPaI5pbzov2+9o0vnvN8qnT0A0s+9TbXcPJoqTT2h8Hi9fXABvZdcw72erO08iQsvOlSmHT2DzNo9c5cqPHUVmj2MZIK9XcDWvT5Kgb0VxDY7jMS7vAerWz1QZla9JfievD4O/rxHcBu9RmHwvTPnPbztUEq9Yh1QvVV3OL1/vnw9Z6SPPAUHYT2FAGO9kkEtPNNziz2e02s8R/kdvPbHTbzpZBQ9Cv6WPSY62L0t9PE9QP9gvU4ovbzSjOI9XsyovVYgeLzN7LK9NXWDvVUOQrwa2kw8mq2TPW2cUL030dO8iJfRPXwKR704ElM9nY6NPKRcYLyECua8zY7cvJAUUT0iOug9pbfFPZZoIz2VLTq9U/yKPNg4aD2iUN+9PWVDvT0StD1KVKO870JPvU8dUjxJzM29b4WhvSJ73L1mJ9C8xVgevPQgp7rq1LC9mFH/vPMCt72LkJO9mWWRPaH43jxuOc68UQZpvYTJP7sTxEo9GKbBvaRHkD0sR2m9oG+8PSDRpryuTPg9UIMCPZ1niD1MUsO9jHWyPRQhgD2BozW7J5d4vTRRsD0IKpy8yEiKPQTQ9j0ZyMC83mi9O20ShT1TNhI9DCKeOsKGdD2XS9s9nnmbPXK0pj09JbU9eWDuPXVkhDwgAH49d6TsvYeJNryqDrk9XgWyvJP9uryus+i9a4U5PXMm071rkQs8EIFsvJvFND2QJd69kzi1PK4NPj0OhZK9aD+MPXKenb2fLn29nwj8vMnFETtq6Ze8FoYmvX9U7DrhhiY8u24jPQTAFDuudQ+9bcUcvFNrzjujb+Y9hbzkvRmttb1z1aW9b9WTvTM+B70bDEK7eMzxPVSmI72cHZI9HGlVvPkz4b0J/cQ9oC38vZbaNj1RU1G8wmvhPGXfMjvBLJY8p0REPUrB1b01yHY9YBqVvSNTfzuntMg8RUIcPYTdp72OINg9dEIMPZVoHTz0dXw9d8ZoPZ69Ej1m8OO9nkA/PY1bbLxq0lG8/D5ZvYzut70k9gO81gajPOyQRbyxi8s9KxelPUkXp7yqjos8/HibvXWh3b0uRtM8vFvNvUfpNj2kYem9gopqPLcWyb2aZxM8u7dhPQzMkr02xIi8nkfEvD7CQT1BP3U9Xp9CPWU8br0+7HI9mP5IPLw8KTyAAu681xs1POIXtj2Xq0O8Lpzdu53uDjxPDUm9UoP2PJtiwT0Xvcm9D9i0vZg69Ly3gp87ls+3vX1pXDyxAHu7yNz/PUxqk72Vwiu9hJ0DPTUoIb0zwxs8strdvZnXDL0n7IS7/nfGvYtx9z1+q1M8lplwvHw6wj0zVrI7xgQxPTbxCLylp+W83u8YvMjJYb2E2YE9UC1jvVoapD0FcCU8SAlxvaQBKbzi3py9iahGvZK9Bj0R3YO9e9FmvRL+6b0aaSQ88bPEPZWiEj1qHDA9nIUOvYMwdD0tT0O9P0Lyu6gFILwONYs8KC2AvWSBKjyZIQu816SqPYuzWL2gYxO7hQQTvYnMOLua0689Yxu2vUJbpD0k1AG9OOmrPZbpJL0nFdG9bitNPH3+M72dNc087x5dvZZW972fFDS6xW0kPXPuDDwXAgO8j8uRvM8HNDz1Rlg8tjj8PUO+Kr2EIaw9J0JZvD8UULzNmJM8TLyNPEKruj0hPeg9UUMku+HqKzxzo9k8yZE4PE9XTbq1UIe9iRdPvOExmrzhf1U83xc+PKrHnjzThz09kgRHvZI6Kb1qvQw9o0LOPXEUSTwG/my7smizvJrBZbyVQ7I9Eb7LvGNM27xGiT09pPr3vS50hL0sFBM8CKoGPK6jS72ikDc9IAUJvKJ8kD2Ll7w9mzd/vYEIDj1IMWk82t6Cu44cjz0SX0m8ELyJPUD2G7zy7lg8rmJnPUtlTru37ZC9T61pPT9Owb1i5Vi9GRfWPUO7D7u2yDK8HBwUvaKaHb1FYdC9HXvePZ7ZNj1kmbs9jsNpvJ+nb70TvHY8wOMlPIkAzD04KJm9jORhPYadQD2k5vW9mxhnvW4fz71u3+w9CN4YvTriWD2dqcG8vIiwPRWcD7uLxlC9CD1wvZ/blT03y9q84OYtvYx6v70wIY48wc3DPTfbB71qQES9dD84vEKpPTrSd048QWHnPZ3Tw7yrszg9VEWevRY1Fzzmg7M8dHLVvY/mI70PyhO9aibdOxNn3D10PeS9oObNvQlP7z2bm8+8Yt44vVStSj2klKM9itdqPBLKxDxTde69pH5lvUA9ej1jm3I8mVxIPQWujz2LRc29GNCJPSrl/j2VU8E7IPhsOxGgQb2QiGc9oJ4FPV1sUb0Kr649e28APW9jdjy/KeO9c5HJvZUkkj0YALU9Sv39vQ4v6T16EC+9G6ZdPSMtVruXol+9D8GdvPEpED2EZac9lz0cvY72xj05ZnA3MdU9PWJdRL0c9uQ9f2SkvYwhkj1xpmC9TGDPPSJQsL1BNlu8DAzRPJ6wLT0xtZG9kzMLvU8IND0gvNQ9ctWNvVNcpr2JSWQ9PzCdu8TDzLuu7C89Xnd3vWTpMr2QOpA7kL4WvZ47Sr1AdNC9drxFvYxGWDwrVEe9ZjCKvAPVkL2L8U69fDzkPTwMcD2NDF29hG7CvM5qB72B6f09fXy5PSu0fL1g2Jq9mJOwvMRTNLutNnY78QhdPS8lfryXDLo9n73CvZNMdT0lOOy9n6MTvMzMoz1rE9K9FDiuvLhkHr0Csjy9hGRNvR0zuL2QDjI9QU6/PY2+tLyfdpu9jw3aO8DLbD0vRpc9TAAYPY8xurxpXTi8vyQcvLnbQr2Jyy49NF8xOrKi/zzr84C9jFbqPLrNdLyb3Ho9MDZjPQzygj2a3T69hw0suxXDFz0GNE89Tc++PV+1Qj2klPo8jot1OrbEMr0mkFc9bh6OvN+ARD1YSxu9Eh6HvQMIrLvDqCa9POxcvUokSr1sUkc9oQKmPQ5Chj2VPeC7HXssPLketT2EQQ08nEmkPQ2hsr0Ir7o8AnysPY3CLL2lpR28GqmjvKBEKTx18Ya8aVUtPWlI5j0o3M05cHAWPH87ND2M05I7NY1wPXXYaLt16Qg9cf3lPP3hRj100wa9oJMqPR8Tur2X7F69HuewvQmSYb2CzgI9WB2BvQaVIL0rSVm9nWY7PUHhdryEWuW8WKJ+vWaf1Lxr1UW9niZ/vLT8Cj2NpPY9at9xvaC+8j11bEM7gYAMPYdBAL0Z3WO8XYtyPRzfKT0g3ak9n1X5PTrTSj126tI9D253PMqPATydfaU9FlK2OglY9T0vOlg820yDPRuMbb2cRR69jCdoPQICwj0TPNo9kRqvPRfIGD0QhSq9oZiSPP7o+7yB91w9BiY/PUapgz2MAZm7IEN8vVoqAz1xmG89cMBXPInuMb2Bvds9ExPqPUJqLD2RFym9G1nwvTmz3zwRKYm9eS6YvZDinT1K1Um81eQ0vXpI0b2J+iW9iTkiu4g0Pj2KWnK87R43vI0CWz07qPU9PdVzPI/SYj2QV2w9Hl8mvZAXgT1/UIG9M2+2O9401DyFmiq9T7p8PN1MWrxvJME9HX3HvSSF4DsXKyq9NHJ2PFwL0b2DFOO9XCW9PIiJTTxFIk+9nsJmPMPIhrsZ5r08pElqvZo34716Sn29oHhVu32mWD0W67G9H7rQPRx/D71tIRs9oqDKPRwi2TxdEWw8MSis",
+        "vP2ntr2XXp69X2baPV612z0abPY8tLIlvRQeRD0aufw9FTjOvHxWpLzQH1g7/cv8PY0a+D0/gMa82WAqvY24pbymxT083sCTPMBg6b2GJAy8urNYvUy2Tj0fa/680nRJPYG7GbvVj2O9n8bsvQb4Br03SBe8p1x6vEuex70jQle9jcFTvZknbb1WGMS9gw2avKFKcL0gcGe9RU8avBu1hz0NiUM9cfAmPS0jFLwKN4k8Kxu9vRz9mTybiyI9gfKqPKYp3L0yv2k8BzlLvWUDw703jmE8jjq/PVal8D0ggCy9jwPgvZ0/Mr1FjIQ8O5+4PZxRsD2X2Pa8nEgxvaCsaj0gVSI9OMKpPMt1m72Bj/w9FT57PUMN/D0NhXI9QXKNPO76xD1h0jc9mLATvCwldz1h0yA7KtzevSvNSz1LfeS9omgFPP5ifDxzUD49bdFWvKTwfbx44489orxmPZSE8r0pFuq8jdr0vUmvXr0FGh69aExmvY02tT14hRc8OCSDO/kzVLulNLo9Io3sO753Yr1qwcM9iqo3u9ADa7tTnzQ7Ph+HvM4mtTxUU5y9ZV+HvSQ9k7z0goI9n4LZvMcmITvTIrC8IKPKvJ9hcD0v/XK7exGivSJOtb0hkfa85zNuPYyeRTz+jLK9lhqoPRDgN72H4Jo9QVRsvTMQHL2mecU9S5OnvYlmXD0QPiS9bhxxO49J2DzajiU9CB8YvXyuET2at/O836+5PLqtBL1lkTO9khM4vXj+qD1F6+m9VO94vLsYY703jZu7/9F6PUdv+z2W91e87Sn5vV44oDvjTtE8ylmRPX/jebyuMdc9gYA/PUaH+rw+kBW9Q4xuPVtrfTw8Pcu9iJOgvUXi8z0rpJo8ubS9PXEu0j04L+29fOCBOz0Yx7xTzO09VqD/PXJvczwrBAS8vX5FPQKVQj2SL4Y6yXDyPT+BGryxXFa8negOvTsdEj093uS9duJMvaOPl72S+OK9M3L9vZ0kA71Ct9O9cfwHPUPpor1YxlY9GUKsuQVnxDyXur+9Bk0pvUQ8w7zfE6G86Fl+u2Ki8byaMU486MQgPRwyED0T5De9UmJ0vRo65r2aMpq68Rf1O8sPZr2koNu9PJU9PYXz4T1e8io9hJEDvLBKbD2YG4G73rEFvKSPJb2GJhi9jUr9PSWqxr1y0Vk9kSkkPL6PBb2mD728x5iAPKcFlD2WYnE9Q6awPYWLzbzACfo9YslUvPeo9j2JPYq9BIGrO79+tL0xnLW8ZATlvKC15r2BAkO8hizKPYHyGDvcKKM9Pjh4OT5tbLvMmA68hRMZPZ3Dd72mAiG9oSZkPFe9jLzyams9laPFPVnFRL2DLwG7JRrDvVW04DzTi7A7zWqMvVWxND0RRTq9X6QkPZ1jST0hFrY8m6EJPaBOMjwOjIA89ZzqPL4o0Lz4j0w9GHp1PZQllL2OOCY8suqVPZ7jAzuC5Rq9dBvdPYp4Xj15jJi9BBncvQehYD0KNY67fzi2vYPVd71IMjK9PG8CvLcKK7wExg+8+azjvZScQz03m988qnjJvaIWcD1WuQu8PDVNPZR17LyM8hw9oBAivJ3ryj15f8a9pWoIvF4Xbzx4I+09VfJUO1CDxrxUyF49OpwyPaVu0D2BKMW9m1ZFPSaTy71BL8A8opaRvYpPcj1Pk489PT9ePXwx4b0UPQK8bPrCvA6EIT0y2CE9PlI4PYGdPbulHbS74UgYO3MaBj2fpGO9k2Z9PQrLhr0Egd29gk9ZPZKvSb2Etke9ovpDPSQEvzxvc9W8qyfXPMW3lj1MYLy9SuJHPR/JL72l3eQ9UxDzPFPzBL2Kyh+8zo+Gus5yMTzIxQ48SP3SvNXqGj13FqM9LkoUPSrwnr2c/YC9UXjlvaMjmT1icU+9e7AbvGl/rTuQI0c9TmlOvVT7yb1qisO9Lan/vYbbYbv/SOG7sQUdPZgk1b0x9789AV5mu4rwjT1JDwq9epMrPYKC0by8+uW6/+bKvRCJ9j0+A7m9KL8nPITbzTwcG9a7quIDvT2Hrj2CS/69nXgRvE+gYT1zNUS9fPh4PYBdtjs640a9ocPrvTdyD71MXIi9kubzPX96GDzn+I49BcPHPFKNrTu3SE68CDt4vCCsaD2apn28zgWevXXF/DucPFU9llLPvLIlEjyfgwQ7jwp8PVjEDT05dcS9CluYPYcfUL1TcFG9Jt9pPYv8+zyWsk09DWAcvV2J4z0FZS89gKe9PaWjMb0TIgW8heqSvSC6tDwDzZq9XD/ZPW9SBDzCRe48OJ0cvR7xuz1hks48irZrO87iIrzwLqA9aHavvRbjer0oDcK8sQgYvW9yszu+f989iAs3PI+mhDzEWhW7cGXNPY3vsrwbn+48DrxEPOonTrzUElo9f7BhPZMFrLwqjEe9OzjiPV24ir0+Wvi8o0fKvQByPzyj2CA9OZYVPPmZGz0sXdO82L/dPVGrir2iiUi9R4OcvM3evL00utI6t5LvvMM3rT2brWY80aScvReIyT2XHPM7qkiXvYzjOz2itoI9pxZ9u+XNJz2caD688lIRvSJRHb0p/+o8+hFwPH0PDD1xl2e9OXLuvV8VSb1TPc69gecfPUr8NLyF11c9gpLWvMLb/L1mFWw8pEnyPZOy+TzJ5KU9Ba+evTONaTzTx/07yFHzvaTvjTz8/S89TOoPPMb01j0b6/29evfqPLGx4j0CgQ28L1zIPVnyrDudyja9XUJPPQ4jpD08Qvg9K08DPaaquDyDRea9EV3/vW9aAj2lFd28i005PYj0kD03BWo8FTBTvWM4yL2Cpxe8wH3mvCoQvrzg24s9J0M6PW8sgr2mHfY9euybvTDqyz0Geay9jGbtvYazSj2K2no9ciCwvaDVATsX1VI9oOPYPT5NmT04BTG9oyd6PYM5Tz0tu9k9RbpcPSEbWTy3Grk9hL60PZ5RmD1Fx6m9lVoqPUGRDzwNVbM8+3lEPP4JLjwM6Eq9hqnyPTlUQDy/GMM9aSY7PLP5hLxkw1g9b8u6u+NFgr1Xjr29O28zvaIrsj0Mx388exnMvXytGbzJEaQ9WEEAvCC5Bb2b82O81jD0PQ1/Bj2UrBY9psNlPM4duj2J+r49dBaEPMuOU72FOrY81yXNPZBfez1Uu309KbNjvU+67b2k9am9dbThPaD3eT1tpb89LJhBPaE1dT1fQGW7d0K9PIpr6b14juu9JuLhvU4l1Dqxu3C70EQWvY2L5T1dt/q9n1bwvHzmWL2cc8K8pH9IPGu14D0TunA9hCYlPODOcD1pEZA9jFi9vZJyzT2dDrE9FYdCPaMaPL0xcy28S2EsPIlP772Y/U49j7xGvDwG2L134Ak9aFUDvZG2lT2FGTY7/EYbvWBDPzyxWhe8YJBtvZqmmL1Tw1O9InO3vaKb2zyGoi48rmJ8vTacGz0loSY9OhcOPIAQhjjQ+3m9mV4qvEvdsDzPBHi9a+oNvOmubL2d4Ym9eRdBvOrqFL0kurm9gvvOO9OA6b0ZMJk9H/cXvGhNCj0jI3o9nDRHvKb2uL03PDO9XODUvTd/eL2eqHI9HiPavXq3mzyQkiO575CyvYnrDDyIzyc9fTiwvVJyKbv91lq9fgoJPVt7dry+gm09kjCrO72ShLxDoRY8paEjPNzKyzy0fgi9nUySvaMfBLu5Dy08b10NvaHJLzyy0js9X1v5PVnYfD2Vzws9mr0eu8JtojyfKQq8wf99vH7Cujx2F6e9QFEIvPessz0kVlY81Dy1PRown7y4MkA9UtwSPAcy2D0aRwG9Sb8bPWOHez014QS9EF/quq2ZQrwrqlc9IscHPUhmEDu5YeM48ZnyPKpKND2MpN+9pVgVPS9Fc7x/XdK9RxmbPYOfCz1BSEI9Ak1ZPEbLir1ydaU87Zw5vYPkJz2T32g8R9N5PLy2VD1LFAY6x+cRPT4gpDwDNWg9gZDAvRkp6j0RJ569ETLBPX/1oTy/1wy9io2LvWjqyj2KYHs9M5ajvThU1Dz374y6U3xCPVPwlL2hBFI9YdYgvMxq3Dz//CQ9mSwVvZrovDyg3ia9RahOPYrUGD2b/dU8hl63PU+8QD1a2we8gAmQPJEzpD00PkY8vcm8PMMaHj1sYok8jgWDvXvmDj1qwnq7Of59OyBc9r2fVgy9JyMJPSGFyT2nFVE89NravQ/qVD1EbKa9BJ4QPaG1z72gIfG8WAUSPTRBlb0s4NC9OVOrvZWZcL1dvKQ9PtgrvQkTCz087ZG8WoPGPMIkf7uMNXC8xRwVvFsglT0KtEs74NBRurU0HTvBkLC8Skkyu8B/kr1axKW9QDtnu9gSN7vTiZE8WwazPL4fkTyILR48LQpfOxxUF72TbOA81kVyPVgM0T12VT29jjItOkKglbz+h4O79bKSvLhbBD0ZtuQ8ttl8vZSGGT0npL89PrK+PWP/bD2NBz29XrwFPLLNk7wD5dq787ddOvF1sT1RlBi9H3x3vaLGK7zmaBq9pqH4vO9nqrvWDjG80vb3vYaTRT1iZAO8SK9bPHr6770Jwsy9nu5xOyenTz2Zt5i8X0pwvWq7dzzcGVk7mB92PWO8STyN1zK9iFgQvXUZYD2FUe68013TO8mLuj0mkjA9PU09vTP+fLzVyYE8xY/CvKhaKTzI3Sm9m+H1PQu9bL1aDQc8rufmu/RqLT2e2J09k6tXvVh2Kr1uyui9eEJAPSNKQL19lD27o8bGPHvCfT1jr5I9LI62vO2by700Y5e9bqX2vQhGgL1nshS8sz4cvIFvebx1QtW9AmIJvXxDYT06Mhi9noQPO+vmDb2PkwO8M/ALPPyl7L2VMbo9F5syvQiZr72LFzQ9SU1mvUpLvz1WbYS9E1OIPSI+YDxeBVo9OscLPZu1nb19rcE8yvgmPY6rK7uBAeY8+y4XO06ptz0uHQ884fp1O5MD172ioyY9NgCTvY6o4r1fbcC9FPiwvVthwDzdppO8hwuXO2JTlDtWHq89J+XCPJquhL0JyvO9j5JtvUgd/zwGd/I9NXlSPU3OGb1rt2W9K+8JPOLAMj1XKEA9YsC5vLvJQjx5x3w80zkvPYEpbD2fqlm9ODsXPLbwCzwvbe09mmB4vDHp2zyuFG29gFJRvMCkw7uocL09etM5vMKf6T2PguW9k/KPPRWcUb1rXUc7Ym8DPYWqHT0B3ik9gDu8PZAgl7yu8j+9BuylO7pjvL0Suvo9AgAYvTi6fL18iRc8LFiKPNzUFT2TCYQ7aTdgvYc0cjp/ooi8VWgTPWyTUj2RqCI9ChkHPTDLiL15t4U9k0FRPULknr1kdbQ9QKzjPGqZ2zw9zcG9ditavS2WEL1GDNs9TzhoPYwfyT1h1eS9kdVDvLEZI72BSXG9l5R/vUiYAb1J7q08tBC6vRZ5Kz0ZQ6Q8AYQsvMrk4T0jXn28mU1xPVNyoj17yTE9m4DEu4XcCT0YzKG9frMDvZ2f1r2H1GC8o9GDPFW03jxtawc8YrePPLwBRTwzPdi9mdjfvAfQD70yI4A9kiPZPUfxZrzRbEq9iG7XPZ/udjsNMNa9d/zZPCWpkj2K1/I70w1hPZUUNDwyTwU9ojQ+PPgwUT1Zd4a9eqbEvYVGDrzPJCE9evT8vFgAirzaoNK9g8UHPC7Mlj0QS5i9PTanvQinMr1DzIO8BwpDPKY05z130x08DqbfvKsdJT0EgD28IYydvTkS9r2k78U9nf0xPZqidz1Na6G7mv8fvUpugj2PIze8+r+4PPDBmL0rp5289ViyPPQk+j1dX8Q9FzuRPUkI07yWbvG9lOWJPSUxIz2VPCC8/AaFvZo227xLOhq8xMyoPZNWTj2iLa89RK5TPZ0dzb2HX5e8+ZlaPKZClb0TTDG8Pe3ivPgLVDz7gCU818FyPMipMbzHnj09mnTsvNkc3T2Dg9u9ofEgPYkF7z0Kwke9nQ/kPTGWaz0wjKa9hlBAPFuP6r0hI/O88t3PPQcpIDyhFoI9kS0kPW4LALuANXM9gntLvZ+B0r1f/vw7rq8xPVebf70U+O+9PMykvYUW0b2HPz27tTRGPHtS3z0Uu7A8FUMavRZImzy1Yo29CavKvTaurLwwQ8+9h3OHPaANIDyo9R09STt1PIxNLbzvW9M9gPeovWWAm72SbC69XZqAvTpaWDzqRMy9Hc3VPYVJp72loUS8hbTTvUHrfD0C1wq9arVlPQmypL2R5Zq8rW3nvOHBKb2MUz69gzDcPTkJ6D2VW689aXKfvUKj1z1ZBiU9gfXxPKuskLlEy828FnMqPM/48zwJbcc8y+0pu4jwHj1F/By9UgJvvIw/CL1Xrdc9gNwKPTm0GzwiFyI9pfU/PIVmXL2QnrG9aAm4PZra+D0z1+A9B7+ZPRiUcb1oYZM9Cj9lPTek8D16ToO9P8pxPCHR5byqgmY9mW/KPIcs0r0f/jw6d2vjvBSZzT1hOeE86ONMvYPAzD1p4my9GMAwvY+9aD2Z06s9TRsCvaNVD70VH+w8yxvFPUKxBDzy0BK8MYCHvFeUbzxHUXI9fbJyvPATK72W1369l3nFvVxxwbyAKPo9KBwBuxvycLxfGLe9gq2zPOdB/Ly5qSW8ijLhPLMhvDyXbf68psu7vJBxRr0cBHS8llLqPLq++z1G0U68AQIGvIPSZj2IKpQ9CLC4vTU6AzvhQiI9X0FwPEK8jLrxbYc835L3vPkysjtdy4C9TTucvOxrHjyXV4U9glJ3vT9ijb2mRqQ9oXI2PPHkc71FNTu9UE5tPG6KrrziTSG8iwUHPQAuF7yD+YK8ocT+PXMMlT0OXoC9ADcfPKd2ezz3N248hrEfvA8zrT1g3i89kL3svURRaD2bnJK82DbWvT15zz2GAmC9IVS/O5aKzr2gkiY9ga2cPUw7vTs3dYq8iP19vUnvVz2dK488DoNQvNWif703tje7QeHZvSpFYz09VwE8TdKxvLLFaT2BhYE7k7IAvQE4Cb0+jZw9AM8bvQ22hD10imO9XkOHPIbktLyk+fs9HCRru+TmaTsAIcY9QviavV7c/z2egC88gJwAvI4HCzx8jj49ibtBvJvLADw6QXG88gS5vYhngb2UT429m/E0O6SVWb1Xekm9izarPYPhx7puBYK8j0wCPIHHeTvpd089MM5EPaScez0PTg88HUvRPFNNzL2RU3C9lT0BvHkbsb0wIS69nM4qPKVnhL2Twly84LmEPL6S4D2Y+TG7WnIEPPFyBboXRXS9gHNJPMJWqzxGLbY9lTxRPaZDq72W7a47mMzNvR/ewL0jcxg6RNg2PVLnzzzn9Wm9R0P0vUVyhb2U6eC9WIKGPZb57D1nCEc9StxKvVdB0b1wCom9fyYbvZrnDr0iq1S9ndJfPUifLrwZs+k8vSLdvVnaM72afxs7sWAnPWayVb1U3Go8sKzUvFm4ob078bo866P/vYuGR72O/Vk7v+t1PBAUaz2JTD08waogPZeGyb1LnQi9SLs0POT2Jjx8BaW9ZeoUPaEkq7zSiyC9StFoPREpoT2c/j88lnIqPVxEGDu0ky69DLLcvV9Pmr2UEKg76oBsvQZyIT1pEDe8ZIu9PXAHZz1dTcC9EMvdPYLuQT1iFKO8OjXuvTukyz2QaHG9fZPmvPqZBD0iJHm9Rg5mO0qU7b2Gxs+8SjlbvaaBZL1N+6a8nz+yPS78VbyThBK9ltMVvYA/mT1Whzq9N93mvOACMTypxhg9UzrRPMAGSDya9g+9VRR8PPd01D1BCPW9dtd9PZWQ3jrQM0S9o/sKvL5Jjr1/f0Q7dGFHvZs/fT2cGYG9Mv44vRbGAj2j6Do8RpfRvEhIW7yep4C7Xpf0PVxAgL0NZYo9ccohvM/x3bz7lI+7hUbyPYGW8r0v8KY9GkKGvLsdFLvs4GM9Ep4VvOqzMLy5anU9idDHPLKf772kIFM8lxX6PaQAJzto+x69XxVlvaMdP7zQJ+s9KjqCO8iEKru/7qU9hVxGvZ7OxL2FzEc9bGuMvAsySL2OSDS9POpHvYFsqb2enco8Oy5PvacSqjzfXKA9ga8svVZCXT2DsLo8bq+1Or9BDr0yXao8+uWGPAxWtb1irxk9Ovb+PVSF1b2gltA88yEhPYrKMLyFK508+YmIPIxsST1fqXO9kkH4PPC1RLxV7x+8cXUUPZyPub2G+OO9QugHO7EgtrxP9Yo7+RnwPMc3xD0lNUo9AKT2POTEFL05C2O9grjYvVWGeD2PT3u8SZNxvI+BFbwUvos7T5fOPHr5bTzqajc9J+bsPWnjxTtPaEk9e2wIO+pGC72Yny+9dI2dPGFTfD10mde810OFvXwnIbpb1N69bCyQPR7QPLzmFkC9BE4gPV5KfTyEr2c9eK5avYqv9j1Xc2i8sOa4uypPnb2Tb029SJUQPSUfrD1A7DW8+7erPZrnBb0oLfW9dISpu34/rjwQWNe8AKR0PXvtFjxgL2I9B//jPTazjz2cvAw9mdIfvZYLELzejQi9lkDCuuMfYL2cwQy9MCoRvPfmhz2F5mQ9Jd2SvFlXoT1JWEc8d3E8PX/HQL0nOze9Zm1hPJkCCT0S3ki8+uBhuglP0DvltWS9jFwnPRX5OT2S+QM7stC4u0XVKT2jiuw64OR7PQ8cxr1xwia7FbB5PaPcgLzFdKK9M9EHvRnbBbxuz2M9pu/nvYb54L2N8s29avfMPRgRwT2lUNO9esWHvPZS/j2fZI49LZWdvVrZU7yI0q88uSfaPWXKIj2HQ9e9ec8MvKFk1T2UYmK8hbM7PID2nT0Sc549ns7iur+XRz0vXYk9BS+QPFI/ij2Yx+a9bqujPQDqrjxQZeO9a3PdPRAmFj1Efo09VQ1PPNJ4grzqEDc8GpTwvYBSYDuWAxq9Q0KjPDqbdjyr6QG70A5xvMN7Xbz/So09Z4VTPYl2cz2hH669XutuPN6icjsbj1E8jH3cPUpYML1uUMW9Le6FvQqkyzxiWd483hOJvZVb+7ysU/c9WclxuvHblz2SWgc9oxwovLi9SD2TN5u9IsHyO4F7UDw1Q/Q9KcU1PUqLjjy45lo9IGOovY+E9r0O5f09YaU3u/EUnD1BhgY6yq5mPF0Z1T0YFza85YmwvQVF9Ly397s9KVM+vWQROby6UoK8mbz/PKLhoD150Ja9Uh1hvVaggrwy8/69ENxwPaME4DzSEX09XLCTvN9Ew72A5zK9mt2TO8ajab1YM9E8o2usvHUJ4r0MLV09isB8PVFWAD2FHUc8//FSvEUOl7w/1ee9h2n3vIg8cz1ZrbE8cwDrvWiDGLuwvZe9lJOTvX51FLz6zH+9hePgvI9FNj04MJS85rEzvaP/Lbwl5Hs9MYS5PMZe0z0jHD09mVksvVe+FrwZbgU9GDg2u1CuuL0qJ/48CcE5vMlLL70Gp0A8mN+kPTLPjj1v+XM9gnwsvQuGIr1HDWy9VRqkvZElN7z3rOc8uD4SvFRXKbwRXmi8PQScvReAAj2Kzwm57eWBvSxnt71nHBK8lsJOPWwgXrw3uTq9YrkpvT8KtbxHWQo9oNQEvZk6LD2R+ss9k5PkvZE3dD0eMWi9KhEKu+v9zz1vcZY889ejvR/HFzzfmqm9mG2jPYu++TrGcHa9ofGDvL5LGz0nnkk8vBS5vZKQKLyPTSy8n6ajPXrSf72ioMK9nmmfvPr95TzSvVw9IbLePLwDET2OSno8xAo2vVeCcTviqL29Nt7tvZyMTL2B1/M9pB7/PXnDNz0Vzj49LqcsvYmqyr1FeY28wMIzPZp+pz1it+O9fUFYvYk1ljuiIoY9GPqjvSHFQjz4L5+9kOa4vQy6ZD01tju8JzW8vZYXDbxb5bo8QX0DvZc0NT0/p2C8IB1lOoBg+L2Itm69QScwuEjGyj1dp088gpM1vaQYAb0vPI+9l+0TvRZjCD1SaiY9FBLtvNfaAD0NS4E9IGQIvNH8gTwUuje8kJVdvJkYx72W/Cc9Y48qPUoIrz2FXkQ9DPouvYI7XL2GPea8ibSxvX24NL1aQiY82HO6vZPsATzqPY09MSYcvXK5PTywEkS9o4IePR4QPD0AYUw9hUrAvWfGQrzbFxe9j7vivRUIrL2QbSG9CRXKu47ow71f7629OHlmPSi8jb0D1l482MQHvaVngT1nazU9Ic5NPSeEZz0bOkw8/qUHvZ4hqL0tU1C9i/2ivY+Hej2jEii8yGtnPTMMGb0NCwC9oPbCPBz0P71hFRa8K7ewPEMVTT1OARE9X/MBPYieADu5UGq8IpKCPQnlQ712tLK7QpBrPXj58b0Yo+29GLzsPYq6QDxBSIO9TygUPXBNbTwHle08d/XBvZ70ET1gg9c9ePuVvaVtlbyw0149lOwKvQARfD2lbeu9U3AQPYe5ED1587I9QGT8PR2PbLyzLAa8vC2MPaKgJj1BzIw9X4/au+LXM71mVk69n9WHvY9XNjxKaKw87eK6vQxefzympgg9UiBJvUUQJ72BXUe8ecCLvSzPMrxPxac8/F9rvIIsx7vRyvE9lxFrPTDoyDvA/9g88+wSPY1BAD1xuQg6jPSUvJb8Vr2ZvjA8zVhMOxB5LD1oNSM8/ul5PSCSE7yGaq48mBdgvWsWiT1O0969llHjPTl4z72nJiG9kzjfvT2gBT0N5sW9DcfmvTjjE72IoLM9fgpYvT19I71ojSU7NikQu6o4Qz1Lr8257j5WvaBST7vr9Bi9knfKPVwGzj0dzUs7sWNBPXD4dj0GTXA9BTuYPaKXNj2QfWY9IeVJPYWUfDyPLNw8VLMEvStSRTwaFSi9HsE5PXBPDz0gnny8fsMOvE5tFz1i9Va8Lw7EPM1U6TxLeny9h3XTPLmNBL2WiwY8I+1bPYSCDDxm5Bw9lWIUPVLESDw4FvY7OOYbvZj4Yj2Kjy88zLSXPaElB72aMtw7Me0UPO7Jy718CES8U8b3vCUhybyRgMI9IOcfvRLHTDybMAg9mYL2vT+vn71dQSg8/Iw+vTrfyzzJ8aC788REPYLuYL1RfmM9BFN3vN/95zsXA6W84hRXvOUdPb0+yzQ9d1kpvJm+bL0ft0g8fHtCvUmOmLytbJ48urDvvYy/+L0cU9u9opRgPR2Gsr2BL6q9CaN2PYwPNL1R4A+9leNfPXd+97zGAtM9d50SPYRn07zCxUS9jIZmPUmIjj2CMmK9aM4uPQsde70B8xg8klh1PUZGQjzhSoG8cpEuPJVKxz03Pnw8srEUPBWRaL1nHae81tm5vOevYL2C6i08j6B0PSp2ub2e2ci8BL1IvZMpJ70ZmTG9lWbxPHyZWT1dZMy9Ui2mvNs2dz03hzK8lxptPP5KJz16CQq9OQ1MvVsHSz0iiXy9nU4tPRjvx710XtY8qPeKvXBF3byNdaq8nzC8vNLkjb138n29NIUrPTz51T0d7Ec9kGjVvW0GZTxFgp29nwIkvFu+kz2eTJy9lTJXPZ+2/T2C8jo8OMRivU/Zab2cqjI8u6o7vQBrur0qIDS9U+lxu+pqybzB/bE9g0puvTF2Ez0t1BE8QHsKO/Q2fr0Ddta84BWFvEikDD2ROLW9pp++PMAsnTwnq5i9l8U1vUZh7b2UCyC9hSXtvXGqe70RDJI7cubqvZzLY7sfb1y8YrLdPQU9hrxQwjI9iq7IvQle8Lzqequ8JtTwvYa+wL1X3P69E5dvvaW5u7xU8dg88gkHOqf0tj0Uavq80fW/vFG2nb0Ndke8vy/uvQrT7Lv4EU+82EwROtJwcj0FIdC9gSsMPSnpazyhjBC9aP9QvPavrzzH/Ce9pj1wvXT4yrrBKaY85stzO7L/1bwnijO9Q/+LPaW+2T06ZKK8oEgzvQY35L0dKaA9W4MGPaNpx72aYnw9NP8IPXYm7DybtOq9ig+VvDAJjbysZye9Ttn2PJYmlL0EwTQ9NE5fPQyYlD2fToS9pMEovYg/J7wparU86/DZvW2SJjrimSU9KcjPvYSKIT1fzJS9XpMdvYE6hz2Gayg9UxkVu5pA9r09F8K9hRfyPE8nQD2ZfB688c8zvN8mBj2acO68A14HPPRtQjxBhLC9jygyPZqp2r2bCPs7O4JTPBzBV7yl+Qk9QC7auvQBQrtjjZu8zyzOPAV69L2Itqa9mK+gvX43Xz0E6dU9eRGhvZjg/z0TnVK7eeo6vY+M5LwmTC29bm6YvVo/8j168H69VwX9u5Z1AT2FgG67YofWvHNhGr2YQYu9o4/kPJrHhT0xrcW9E7qyPSCWfr07Ikw9im5dPNGwp7ns7+Y9G4/zvacd/DrR3c49BCb/vPY9IjvC/K+9nUwqvRpPTTyzDYI9e1cOPThoKT02sw89Br3zPX7qVLrnObg9c9Q6PWsupbyWay+9FaGsPN3UXD1JPI+8XHCdPZ/fPL1+8Do9IkvkPWznczrmRme9i9iHPabqxj2iDJa9lPi2uykW5b2iA6G866uxPCtFDbz4ZCA9lz3xPSrs1L0oByK9D+DWvUG+wz2FF4i8BLD/vRBKsryGyFo9Z82ZPZjE5z2I6gi9AImXPZSOKT2Q1xk8iW2DPTPGSj2F/oY9ANy4PZQZFb2EH4Y8exU6PVtxLL2BgNe8cIGkPY4ekLz9BQG9DzP8PW22kDylEzu9ltafPUmPMz0Th9G8qGqiPS90cLyk/Z09lVEfPUvdZDwKWZ89kJPZPUGubD2fHyW9lVMVPRzrv72ThJ69jeHBPYUnpz0kP7W8LjBvvY3kFLzUehu9Vf/HvNXjY7w8kAS8qV/zvYiloDzgVo680XZ6OxG5Z70pNCo8k3HdvSXd47vDiMs9jhzdPP45/DuCIrK9UpCrOiI/gjspHzk9lPl9POZTcjnjXRs8Br4/PS8NjT0VTig9aNJ/vZBh+D0ACS+9hmlZvYxfcj0YWb29fIzlvYSS3j2WktE9hBOmPUnMRbvuDNw9b4MfPYkEtjqsbCK9nQEzvSVSxr0lwq09XuY0vKcVUT2bnmM7pVinvH9F5r1N1rO6A7ioPRaUCr03Vte9XdcDvS2aSr11sfY8OHpJvUBHxr126fY9ZGlquq+Rhz2ZUxs8NOCLO83bJD1twJa8yMXUPQXwKjy9fTo9eUUxvOToRbslQ0O9Z1zrvVw5Xr0240E9Qai8vX4AgT2Ypbs9ofxHvOKpnj2aOl09DLZSPaX+e7076ay8mHv9vCE+2L0iwoe8R5eLPMZa8jyUpL49Yv01PSmeo72d9dI80w7uvWZ2PT2GLz09oTiFvQtiXb1Wha07v/8jvYa3kTx5y1K9kgFlPWaqOD2ZLne9l4DCPB30Qz1YXt286klkPVkFV72Dj8m8yAz0urYxOj2KcGE89FyLvKQ9dDzfze+9GCbXPQAhbT2QPgG8cekGvD4Nuj0bzwu9nkqYvZT5WDzomz49An0kun0/I70OHkg83M7RPQuG7DthKoq9JgVtvGwpc7z1vLI9IOFLvTCqMD1rCVq9T3eQPS+x7r2Mwgg9EnMLPNEn7rxAKvG9iQehPZhHJzy3UfY9i2viPWYSQr0Mp0w87mlzvIrSFDxYsqg9YgSovZSpHz0Ambo9GxUevZ+NKLz0c6E8va1cPZw64z2hA4o8nKHDvQlLQ72OXXQ9miayvWHkkb2hFeO9AC3zvODybTyhe8a9Wy3SPXVSg7sns7i9AJNMvPAwhr2hfBe5gA6qPaUmnjz7tWc8wWo7u3d3+Tz+N188nSJ2PGSEo7xt9U28kptPvQ7rtD1kx0u7K2Apu8g5NT0IONG8bK4XO/CNez1ZCMw7/pyZvZQxZD1tB+A9IVYtvBaBDLuvOHI9ph8MPQEEdD0116W9OcUxu36RVbzC6548krEmvXGhmb2iKv89ozeIvK561jwAQbI9pnE+vY9qkTuYH2E9lzm8vY3wYLtpuqu8i7RuvTFuurzAX8C9ao+KusR07b2WJBW9OOY4PL3mk72hRw28lRgDvZylJz2TYYu8epLfvTOZmb1FGWO9U0JEPEyqy70dXrs8+EJ8PRiI3jyxxnC9kuJuPW5RZL2dJju9Yoo3PZlh5j0o/JM9jeacvSIQ672DoSq87apUPUiHF70AA249jjNJvYL+6r0gIdO8uYAtPF+7HT2XYaE9hFdWOo1Nar0iB+W9Zsj+PJhOUz2Y9uQ9RSOwvX0HhjoiyK489QuJuxfk/zvPSas88E6svLBkgjxNAvk9UWIovaYiMz0l5kY9Lu2VvS7Ndz09mME9NJ0pPIVxyjuZzlM6rl03PCVzpD0Dg8o9l9p3PSGhETtvCNQ9M9lePZ90Wzt4ANG8ZyoAPT3XTDwYQ9U9Xk39PO/XDr1ghy29nKBmPaI7Ab1H2aO9C3eKPXmHJzyd1o89OZKFPZCA9jzcG2S9ENGNvZzLlj0qqoq9Qm+iPEDuATxvFuq9EXsQPYQanr1EOYk9fflfPQoK/j1sSmC9Q8p2vZoYjb0NMTS8437jvQvDhr2NYrm9LwczPOlirD2Bg/G6s8s4O3dodb0WN5I9WvglPUcozjxswHY8k64fvYNpaLx5Ix+9PpuTPaFX8b127fm7wL+BPLXX17zNkaO9hHHGPYuFSLqJu5e9jd5VvaQAXDyAoBu8I8y8u9ilL72V2TO9WUERvZU1p72Iywk9i9d8PY90Brxc5pm9lw54PNnfyL2H4SS9nUyhvOsxpTwvO/W8oE0Zu4Z1Nr2Y8I48wa8GPQ4HdLzyUOI9ifravWVQwj1cdc+7oxJUvOyQ8T2Xr/k9HDCyPZBuRj1oY709lvMSPI3ARryvEKm8YqdQPQR7vb0EYJI8zvemvBHOzLyM7fc8q8TVvXfAfb2WWj+9O4bZPN8GXb0vk/y7qf8bvYji07txxWI9D9CuPZMGfbwwT1I9CXT+vI4Vej04Kci9JlrsvRKWJz0ICE49AdTSPaar7LxJTBW9eJV+vXnk072MJEu9TekFPI82VT2Uoae9K7bivA60tr0G++c6Bo21PSn3Fbxuz/a8o23MvLxm0r2Fg+e9TzPYPW3d0b2Aw+e9IdjYvWsGGzwp/xu8El7ovBGevz2MXbY9jVZ/vY86PLyLcMg89IZ4vTA/ND0VsmG8rWKdvYqdLD0HAMU8ILiIPOJpXDzHn9m9e7TPvX+2ZD2L+Zm8Y5TpvSwihL0rYis8gRv9vZxMoLzd3jO9YQg5PQutCr2fbEy9J72+O3i7Tr0jYg09gLBqPQbSFj2bI1I9CTH9vGy3+LwYRba9MMI+umlaKDzcQS29mo2lPLMQob2Dkg08c0RSu4r1ILzBUBC9CUdqvTDaKDuZRVG8tIMoPZtX6D0c5QK9o6QIvR9zhr0tf/I9n51QvYiRLr15WEQ83+0QPQBiybwqCRG9VO4cPYbGDb1aH/s9MqdYu9PgxT19wBO8SwKAO4uFe7rRfXW9OZXgPVp0j72B94M9NcnOPXOMIT2LgpU8ZKxHPMDNDzzKbU69A5LqvXpHbr2YfOa8nMIjvGZwfj1IAPk843iuPYRSET1Al2+7rkjOPYGHXTsfqVU9dfurPZX5UL0P8B08dqzpvPC4nTwj4l+8UW64PVTEY7yx3Ci9LIyxPY5WRL1ttJO86WUzPS8HQzwuXS29POeIPYbyMj0WQaC9TH1DvScsSz2QTno9hBmfPYvkiT2D/Ba9G5+YPKkpSbtgAam8xQQuvZzh9rzAVcQ8baRtvTRJgL2abVC9laGoPU1QELymGo29oawwvDqdGD2fvRM8D2HaPJZS2jya0iK9BPepPIts4rzWiMo81ubZPS6LxL2aY1o9mG0xPZ1Uuj2dmDc7K/UXPCtUZz2FgUe9l752PI3IHb0Ax1E9E20MPZT7GD0C04S8l03tvXQ4iT2X0Ma9iJ2mvLASmD1i2Gw86BPtPQRHxb1azJa87I6IPPOz1b0ic148j4l4PDlwTL2QF4U9fyfdPYnFlr0+wOu8BiNmu+unbL1OqD89JcmzvZgyTj065GW9aZFnPJ2wJTxWXwY9fkyNPQfYPDy9TEK8i7moO6Y7Zbyrx1M8nUQ+vJfHKLy2LZK9JM+lPOTYXjugXfG9GmboukiFeL2esHG78JNcPUrBUz1seiy9fYLYvX2k/zznOdI9HCWVvKXZzj2GN8U7f7Z0vIm6Y7zOzM481zi+vQp0WD0JsLs9nsFhPYudiT1LW848xAHhvaBSbL0uoH+9Uqv9vZKNxDyVpzq87FbJvZG8ZLnzP+k8kazfPG3XVrzuNw29kE7TvVPms7yYGHU9hf9Uu64dCj0r4kU7llwaPZOXzT2E6/q9nJ1uPRtdkr1MorU9bcsXPTHcibzF0aE9gznSPO4nRb2DibU73XaWPRtPTT1BuSC9bWl9PSFt8r1PZN49FqRPvMbNAr2Caak8WZ2bO5h6gL1MpBM8kSYwvUE5HD1SN2W7OhHCPW4Sqj2JyeW9kRT/vKM207zZW+s9CUxSvZ2Arb2awks9k3eEvTD7Lz2XwJK9gUOUvQw4JD1Li+O9oJIzPUtXaj0Avhe9miROvR9EOruwLgy9CzTIO0n2XbuPXz07r2cmPYp1+DylvGk9OghRvVRSIb2ZShU9PhjXvT18V71+Dds9pRwvO89BGD1u3ke8hZi9vZdNCz2gwKM82RWUvQGptrwYBo68l/55PVjCO7x3n7w9GEV6PaV+R704xB69D6jOvXhNNj2Pume7pYsIPTYGXz097eW8/aDAPZI2Qzu7mW89pPQzvLFMlD2bM2u9KtAUPVTNhbzuTsU9LKBEPIAWsDq5nX28soJ1uye/Jj2DE1+8QxrvvZagIT2KhJ+6TKb/vAV9sT2TxlA9jVuFvZ68mj0CMKM9BtQpvSaOG72kIaQ9Xw9TPA3VKLzLyrQ8nzSnvYzUzr2ObsY9FbEbPZzSQL2fSJo9bPAYvRYh3b2MMpu9VFy2PJkxMb2Sna68mqfCvYqyUbyldX+8hA/hvC/mMj1CHYa9jVvuvWV+E70t35m8UcEvvZe1Br1f+fK9StanPXAMZ72GROg9jFgPvC3OqDytYeE9b5r+vFfosrmAeHw9bHb6PPbNY71Zhqy6qE4zvRIbIb1MYVk53CCjvRUexT2SJJQ8MkKmPPA/h7zXvQS9mi8dvRjrLb0zXDg9B7KGvZlQQjyQdEy6zRMZPOrHJ72FJvg9j2cBPOozfbzQJcs9ObziPZtzpj0R9nq9TjSROYxi6jtFM9K9i1gLPZtzo7uveQg6I0A3vVeNV71jPM29ZXv0PZmWe72dmkO9IjhIvOR+EL2U3wc8GeYgPSg31D2PcZm9fSmNPJ/vGr0XZ2E9pAWCvCGxMjstfK49IXlOvXLPsTxRfGU8w13ZPTbh5b2YA089bwfcO/EevL1ka2C9e026vFZsyDzFvoG9LincvMqmVr1053M7k0+xPVDrvje47729HTTYvVEV4j1fvMW9iwjIO9cCKTzohpU8UThsPKrZxD1YGcW9kW47vWnaJ7wu1VO8o97SPYmlFj025c49N6pRvLipzj1T9UC9Q3F0PWCCcb0ON889edTiPZgysb2GXty9PLTEPIPhsD1BGYO8g/AuvQgVpbzX6Cs9pH4AvQXO172W5vO7S9jpPW7Eqb2L9io9kRjLvMFiWrzwz568ywjpPXtPz70ll/E7JIanOxalv7yxh1i9ApJKPX2P+L1tJXa9i0lovZMUHjzp2uu82eJGPWVdvrzTWNe8j10Tu9miYjyO7p+8rCQkPZAPTrzRVay9pIngPYazVr1M90K9m0CgvWEFlbvs1TO9WQgOvT0PTj00Fou9kO7ovXlKNj2e+1q8uBw/vUbxfz1fFzY6gH6wPZba4zyEO5o8qitnPaHECDxhYTS9L/noPGPi2TzZ1b09OC5DvZzDrron1/k9NXW/PTfdTr2SZd08ayY3PYP0rb01GsA9hhB7vP+qFT2E6Oc8+nESvJc1bjzY1pu89faWvYlqVL1I3Qy9HBi2PY21DD17LaS8jpxCPW2lN7w0G3E9C/jFvMVHnz1B/I+9VMq/vSisTb2PWZm9UVy8vZfh2TyeJTC8eOIrPTV3OjybfFU8oLD6PSTQMD1gGLq9hBpsPBf6rb2ggnY9kroPvYVL8jrlgHw9njYOPYHbdj0YH3Y9YrKXvSNQ9700MP28wzTrvLezRL2bbj+9kskUPIKrMT1Vmn69XDyqvEpdfL2TcDa67RdrvIkBl7wb+Va9Of8/PVD+lTzRMd87Yc77vYE9mb0HgmQ8ZnAqvDv49r2SgE+9n/pDvZvaYTv7/DY9l4tMPTY/m71v6nI6nSgOvINh9z2Jhdm8BRUuOU8lKz03CXI9MHsyuznTYbybkyI9iWgSPaDEf71A+XS9aZc7vYt/mryzAWw9KIl4vMIWX70hZtW9ijVdPU/f4r0hs1y8Qap+PB+ZST2aQGe8PtC1PU8D7b0HkZE8DPs7PI+3urzl+x+86KckvZMd/j18zma8olhVPS8E9by6xqc9gmgbvFAteDzQAxg9cXTYvHY7070araO9M8i2PCYAh72B4d88Qi0MvT9Xqr2CPUi9lzpBvPGNQDztM+W9SspWPPWlOb056/U9mLxdvJ5yt71BUco57+WcPYtr+DzOuzA9NphhPIC0Jjy6r5E9eWg6vYMMtTzrGmq9E4mdvRof/z1NJhC8DYfVvaUxHTzM0AY9ZGLQu9MP6L15ePI9WeksvSqEAz2IKdm8b+LVvLw6Q72S5A09dWhsu40BEj1HLZo9eEUwPPGFsj02P7s9eQhivaApK71OpVG9mZsKPA5EPT19lsy9L7WjvZP3j72dS0i9K3oiPZCk3j1ezps85OyJPaKDeD2EEds9jGMPvaR1Jz0qRRI9l4rWPRVTRT2lVnI8vEO2POhSfj0tNoY8lZddvZX7MT14PgM8cIWQvZ7Opr1jeQU8e9GNvUhbdrzgv1o7p1Y7PRlvkr0Wji49SIAUvRSryTzF7TU9jtxuPRC9KL2Fhhe9APM+PaTCWbw1F9K9XRnfvaDSCD12oRW9Fy3uvYkJZb2U5bY9balbvYQbzbtuD3i9IjOCPaG0HT167/G8lgkFO2K77T1yNam8hW18vSU8m72iVFy9IkXuvLdR+z2NmJu88TA7vZmZNztY67u9pgQtPLsU/72KOeQ9f0WdvStLVL14p/S8Q5J4vX8QF70pgRK8fyGwPYo0n70m5T89lDaePZkzGL06ft29VDrmvZhIKLyo1PE9YK4tPCgzgL10WZI9k2H7PTVwIjzDeZG9n1RePZ7Goz2RlPq9jjpBPaQLGr1V0mo9pWH1vVCvI70X58u9d89BvLmEsDyP4PA9SAvIu3V5LD2f/Da8xvaxvHVUt7xvSDs84GKEvYLwi71ibQM9MMRYPZyQkbzURFe9mbNFvPPyYLzAxiM9kdO0vHfG2L0LJFk8/WT2O5eLwT03nwK9iIaOvLuCjT0seCM9ZohyPabD4bw3+eQ9UcjSO1ATQjwk8i88htCEvR65yrvkqIU9h7gsvYouibxgdQi8YGsnPQ2bGLyZlTa8hbrePTSH+T1u92A9j9kbPS/i8bqkW2A7GfqpPYmBSb0Ls6c8TNqEvV6fEb2O7Ww9F+AUvN4SHDxSGPW9bykUvXvxjDxtTrK9brBvvKXjPDuW1TC9GWi2uhxYA7uHaJw9W1pvPYGJZLzttsy9aTNoPPWAcLxexSW8zQczPVIrgb0vFFG9WeqhPT+ufb2R9hK8sxHgO8dIQjvq74w9i66IPRaxYr1DE+S9gvt7vRWX+rxwJ1a9gZLgvYMCVb2F7I29oVM7uwZTvLzzVF29nyz+PaMiXr1fA0i7Uu7XPQjX5L2e1bO9UQV5PT00HLt/v0U86KtTvJFSQr1J2GW9kh5xvaS/IzySkR+9mp27PZ4JAr09Yf09bAmhvYACXr2nFRG8wbFuPYVs8rxRVva8ATN2PV68mL2Hmjq8u4FZvMImYDxgDyI8hiLuPWFRw71fZVK9IRtgPTOdIT1usF+8qJfuPX2U9jz+yBS9kJ7rPGjmgL2CHXi9oHxuvWFd8r0Cl8A89BZnvYgyGT1+/209H4GpvO/3ND0W0K+9P9fgPZ3MHrzKLEC89l/VPCFE472SJRw8Fvj9vNRvID1XGkQ8wmw/PXuikD0+s1o8kyvzvOPtAzwohxI8JsFsvZ98c72ZcWy9kiH+PLhrFL110zO9oXe1vQNcFL1FeIA9Sk6YPXWWBr03jj+9Lv2BPS3WyL2Op2g8s/OoPRmj2byzNqk9kCKjPTs90rwpabq9hWWePZNQjT2lzjA8kiQPPXmTdrvUNHU8VRzBPL15T7yts5K9Hmt9vR1Ut70IFeS7zHcmPZZ1fT2BZBW9gs28vS9lwD0of3S7GW8KPYhjertSo2U796eovSX0Cbv2sRM9nzLwvSFYbjzX9BY9ais+vZDxJj0MrWa8pPxfvQrVMDzHyce9K8NGvVjf1Tu+gpE8jM8fPM1r370pL4C9i1opvAyoz7v19889A/hivaMu3b1zQD89YYL5vDdm7D0HhzC9Jii4PV+yeDyVliQ9ThZ4utlLljy9rd+7uurJvaKjwb1V/zO8r8FAvXoMCjvqdFc9OP8MvVyYwTzdRfY9DzZkvV648z1eLvi9TWzIPYIADz19ACW9ngsXPBm0hr2aYmw8gDm3vVRVtrz2+1W9HnzuPSbXaD1i80e86A7ju4kgszytc3k8r/WBvYIO4r0X+iU84Vn1vT5dFLy4RqU6/9GPvWOKIL0T88S9MiDgvSqvjb2UeW89ZA6HvaRb3Txfgmm9NbVqPA9Inz2AqwC8mEYPvX9CaLySpte9iBC8PTsF97ytVnM8lC3CPPRDlL2daIa8tOPaPaWpHzzoXG88qGVJPD1b0L0hAHS9hrIEvW0LVr2m6Hi9jzHCPQuDQr1MVuO8OjsIvaQXsD1O+Zy9As+WvGmE0r2a0Hi9icLwPQYLlD2QfoC9RGE1PFLPkbzFACM8Z4envXMVabycOG88Ey8yvHnwzD1CBYA9VivKPYMZ6D1ozq48l+tjvAdHgD1ovDo84jzNO8CO1z1rRdo9DQ+gPZqtR70SUEA84sYtvXrR8jwjJrO9OoNyvIE5yjyZVJA8QtOIPZ+/cbte+CO8yOB9PTeWqD1R8a+9BQxPPaFSFj2mp+49orfcPVOsqr1wHuu8gd2evUPS37uixG89kX4OPL8Drb2aon69nov8PVL8Wj2DtiE9dzIkvPIy27zVSYQ6+4xvvJxgLbny0N48+Y2DPTD9tLybEMe84yUYvS2jdzz/Wxu8qF5oPV/wKz167cC9U8AUvMKyUr1Qmm49RGD5vaAJmr0Jtxm9Z0cCvL+TLT1DZMw8LOuCvXxf4DocbOo8padDPZSxUr1YNUm9iKBsPZfSczyDVZO9PoofvPJ1v7yzbDk8qCl/vWSs+z1wtsQ9lQaDvM10Xb0FJsG9V+lcPWsr6D0ISM+86NvEPXQSZbtJp/o9m0MxPS0iND0K9Ga9oud+PYvHzrxJ5q+9KJSyvMFgbz12rQY9inL2vYmraj2PUFs9k5lRvVzvrrxebk89jd2mvPLy2r2mbuc7OBpPvZGVdLtAfGM9hh50uyBr/DyHDD49mTP8PMKZv7zAjQY9HTp9vJYwW7sNm/a9VPFOO+lXI7uSZa88L8bYPTP0sL1BPpw9SDK6PF3jy70AMlm9NhixvWqz/z1hI2c8g8FlPFNKP7yVloI87usHvU/T4TzV82Q9Ek1DvQD4ir0JB2G9c5jBvYLqMj2czVs8c2D6PDy7nrzvTxE9m4z9PZbPvj1mtdg9A24PPaOGMb0Yvce9mFI6PVHsTD2JYnI9eBEzvXgCv7zALVq9gH49PNhluT0EArQ9kg9WvQOlNzza+6O9j1O3PPzOcbn2rc+9WnDqPPZCW72cdMy9gz80O6wGez2Jpl89ki8SPQiH0L0MJBY74PWhvXzb9z0XkWG9BkUhPGDGrr2WtYi8Vt0NPYXo5L2CdcW9bSS6PKu3bD0TVTI9jMFiPYUsHT02SCm9CVepO9tnIb2N8/U9hSXYPUe26r2SBfy9N5WbOoT98z2BXpw9HHnQvBEOmL0wn6K9aontPDe9MDvAbXK9nCejPZ8DsLzUudU79p34vQdqUD2Ru7c87c16vULFnDwqkps9Ufh2PX+2cb1aBNe8MW57O9ncrr08RVM8HGFmPY6yHz1jCg68jc6gvLRzEj1W0KY9kA3XPNOLgbwpnve8i58+vWJRArup79Y9nEJ8PQUPmDye7gE9goX1vS1zrj1b62y8+dD/OoAabL0W7AQ9jY6QvS4qtbwSj9E9dvNtPP1cwT1Z4326PATNvVDUZLzYMfq9os2vPZSrRr0odNe9kSbLvHSzyTzQFJs7vu+SO3APFj1DSj49QC2gO93Zizy6UG28ndAhPV+txL0oNa28+bylPZo/HL0mhg69lQccPMzE6zvpa048x4J1vZKbfb1tbLa9TBt8vFweRb1wrla82HhMPVyq4T2ZxnW9CGNJPLDWZD2YXgc8febYPYmLJz2gWPS8PW3bvZS8/r2dils850MrvU7Uqbx2Q8m9OEa0PYToGjyATW89dTVCvWRz9T0bIw+86qadvPP5cLykBJU8TPH9vYVCmbyJeRG9Y5lfPTCZ8z1MLye8SlDpvX8FQb0uSzy76+7JvKVznj2QJIa9Lb0Vujs8Rb2E9oQ828cWPVz4Sz2mtFC9GsHTu8lMCr2Znwq6c7GRvZFwSzy09aa9gfB2O1Onsjwjdwu8zy++ukrphL2inQY8xYlPvVRBTLyRtqa80LU7PSWiiTyhsTe8pvBFvP2Ti71PYhK9pcT8vMeZGDvb5KC9NkdyPUL0orwF5go7qgOZPVrizj2AlKg7jnSovNlHh7yv60K9KEXIO1iUXj2AvTC8utv3PG7g5z0lOAk9FgpZPY98kjyGzKi9DoMPvYSeEjzFQnq8JgzwvTHSqD0VC6o9ftRYvJ8Kz72fyok9QhU1vXKU/Tyz71S9dK9lPTCLl7w4nYW8kJddPTX9cT1phhs9I7m+umlToD2ZMF+9ZR+4PQTT4Ts5xdM9H5+APYBoYr0f8by9nYqwPT+e1zz6FHC9jZiXvVv8DzwuBFe9c2GPPYBulT2ZKSy9fVBbPZbTkz03JNw865Jhu2oaXL0dP0u9IAuZvX3fuT2WSMS9T25UvFooFT07Ehc8r2ZVvZ2pjDyxV2C8Yws2PY7JaD2ixzk9ggj0vUs4LDuu6yA9EXXpvQWQOT109/M8bGuWvGsC+z0Ye2s7zJoYvWq6Gb2j3wE8tn+hvXD0ur1yoB09g8w2PIVWW70nZ4W9fLrGPThsLL0DCpw9bQk7PPrS7bzaZy29KZUIvVLHTTwe1QC9MotJvVoPK7zl2/k9P+sXPUCp2LztcA29Cxf9vaCO1j0+faM84izRPaEUVDzv4La9ILFyvQvFFrvwuzQ8xSEgPUiXbj2KMqm7a9qevZqMvr1vlHu9BdqjPYy+ST199zU8baU+vYHmjj1X73c9YoQXvaBcxzxR3cM9hfSLPUyyxj1a74O9lyk1vZAMeTyxSno8kmNwvCxXRj11nM29nDx0PRYKzLwGdb49n2+SPRSMOj2Q1ei8n/+iPUX3hz15UXi9BVQnvS41vT2ZkXM8y/AKPXO3O70wbbm9iK3kPThl7b0oofS8qmDiPY27jz2iPzo8lL1hvKky+701IWC9UwLtPZ04EL2aWhe9ar76O9PhAz01Kmq8y4zLvUUq57xfhgA8TnVgugTHvL1VeWC9Y+xkvXknYb0HrRA9FjVWPSTmST1EQvI9Dt0hPWA4wTxo9Zu79aicvEaW4D0Czf88h4iDPZ6DIL0fixc9QH8DvTrmaL1JZcM9PO0TPaXUtTzTcJo87756PNnnfz2G12W8wAmhvYp7Srzodhc84by2PPzlwDwBimu7zqIKvGxrgb2cTR681z5GPZvOwjzsmSu9TtlJO7damD1ei5C9Fl6kPRj6Cbv/XxY9bzXkvYinMb1MunM9iifmu5oDJzyJnu49pXv6vVy1DD0nlN29eUcxvWEPmD125pM9VpYBPTW1uDv1N3I8nuf8PFaD+D0mPpw8MUNpPXTXf7vaX5A9o7Iru2PR3bze6dk9W775Ork/Gru3GIo8blMUvIpjN72Wfne9H8xHvJC5b7yP+nk9XOCyPRreQL1vHny8FyXGPYCcjz0BgM49Wx+3PUdbFL1aREs9caJ1PZpqar1EOl88T7WGu3+3bz2CE3I9S2HYPWkPmr0vkys9gLNlOndzE7yGdPI9N2UjvUuyjLylB8g9KZbhPMov07zdFAS9WVZOvT6r571wUxc9IJjcPSGHRL0ytZW9k5qovVGZVzyKQis9QdzhPJ2jyzz3bcQ8vluauc7s/j11aC69GEDlPQwGvryqpae9dJ9vPCMkQD2lqBy9W9i8vICH1T12+109ZvtUPU7+lDsKMsw8DvC5PL3pKzxlryU9kBgfPYs/gT0cSHq7HqhMPaRgSb2di6S9nmsxPP4jXr0U1DE6C/+hvDX8+L2UbYe9FVZIPWMTmTuvIHE9VZQlPZQZebyba7e6K6iAvQibpD1J1Hq9N7I/PYfdZr1+PRe9Cx9hPX+1Mj2an3S8vbL0vZqhu7zilmk8xyf4vX8vgr0ESF88VH64OtgvcrxCfxG8UelbvBUDVju90D89QRWQvWFmVjx3xvi9WRGGvZ+gDj0KcRm9iuZtvEeU+LuF5Zc9jFNSvYaA/b0K5BS9RokmvPV4YD2YQG68vCJxvUTdzr0eH9U9oGtxPYlOczuZfZM8XOc1PJ7g5zuJsXe9Jt5wO2VC671vg/I9SzGaPYy4zjyElLS73GYfvZRHSr0f4tA9dhkIvZJs8rzvi7a6M7AdPTfel714XIg9NWZbPZyF4z1KOCQ8sb+PPSwz+L2bIhi9jOKjvTkTSj2NH729Q+lWPZrLWb1MXqc8qjjFvaNYtbyI+Ze8xbQIPRMyzD2jkrG8QCLRPZJdOL1H3AY9nA+YvJKVrb1wbYY9iw9pvBbnJj0rYxE7liBqPZTLrjzHB8I9Dt0mPZL+Oz2lFh89FQEEvW3UDT2CVy+9myf5u6fsODtHYNa9T9m1PIqxtLypYh29H8uNPEO5Aj2dhfI9KqKfPO45e7wVnus9A9X7vSDFYbqQBWW9nYKzvJ/vYz1GuLC9EXFjvZhxrLvgPEk9armMPGHReLxuz048L9xHPWg3fzw775O9B61ZO7CzIzxMJIU9g6zevTBByT2TM/69hEByPITcsj1Vo5u9KloBPaRfuT1IO2K8wEz4OxHAGb1OykY8zslbvKFOgLvypa09CK3nvYmh+r1Pvkg9RQysPT8qSTx0oga9U2Iuu6FIMby51yg7ob6/vXqImD2nHlE9hb07vZH1Rr2Vlr89mOjHOrd8Er1BF8K8+fVpvSEVeD0XLXM9bXXbvNhzCL2F/309U7jIPKvlKz1K48c8ZTNdvXQEzLzR/9A9MYrjvMKn+T2c1nI9oEvivWbMez0chm481JxHu/B4/Txt2UG9mRY9OyVinjw5at69XsQlPRQCnr0wgZO8xsKZPH1kXzy5UGq9gib+PTAKzrzA7XQ9BVZGvYhhPru/IHo6/ZZXvYVDoD10WiK8DaI/vWGbmL2NvpI9dUWMu/G/lrzXyUM9NKA3PZ/PjzvYWIQ8wz/cvRuDrDqXnU+9gdABPZMQvLylnC68N2mpPQU6YTxuVpa9NoaHvULxRr2fxQi57S/qvQrqJD2h/M471t/ePZcYaj1Bc+E9b8KdvR3mtbzdxUy9jrZyPZIRmL0PazC7FR4oPX2eXD2cQ249j5vfvZZOXz0D+eW9TO0FPNM3DzwnBja9hnjxPZs5ZD1Ayne9nZoIPVu5YTrvin28onefPYcaWr1+xUq9gOmiO4gr6rz8U5k9FqYOPVMsGT1muWq8k7l4PK6rtLy0S3O9fB5tvVV71bz3/ts9AtIzvJopfD0dmNg9T7B8PWy1ED1/+z69BKbhPYF+jjw3Lc87aOpMvYs2pT2ju4A9jsElPW+fTL2Fe2883+95PJL+0b049QQ9hfrYvVbf+D0odzC7kzRsvYgXWTuVyYq8Z1SKPZFK6D2DqBW9guuXvJajDr2mVu085eMYvQ9GU70axHi8JkEnvTd3D72XZE27g9PuvCiT7rs9Ym281OufPYD7Ab0x0fa9W36SPZTNczwkEZE9j3mBPXU3cj2GvM+8oE/rvVh3+zoYOme8ne4OvGWzRT0Il/29nNDHPPnkRLzhMZo8IrAbvQCLaLyKyVI8nDJfPVD5cTtttAY9KLdwPTjryj0dPfo8zM0QOmgJw713bac8Hpm5vPNlzL2BXpq9kiD9PBetJri5oWm9bGgeunVioz1I3X+80RsMPWnFLDyIidU9DY3GOzMfbrz3J4w9WRF0O70/ZjapLZg9EBdBPOvRWj2iff29n8DJvIT0hT09aGC8gmwzvLsg9TzT18Q8vSSjvY9Nt72Mo0i9infQvR0Gjz0e6e87pcyuvS+9SL2Yauu8maMnPYg3zT0OJIo8oxcWPWNJ070CGHU81xgvvGhDvDztpKK9bWOZPPv9LD1znmE9mtq2PLVxsr2VYxA9HCB9PY1Fbb1RkUy8s17FvCPgFrzXgBU8xOmFPIbpuj2Jdw+9iyjKPSpID70Awxo9aLjkvTRckT2BA+G8Pfd6PWoN3j2Bwyi9fv+2vaLorzyE1BU8lkarvTGUNLxRf4q9fv2ePL/C5j1/iBM9pGP6PQ1HSjxbi7U9n3ZNPQcewjw4yPW6U5CCvZYWRjuXnp69FQCzvaNfQj1CD7W9X+JbPPCeLr0zNK69TVC5PJgOrryKiRq9F+caPAvcMb0TDpY9a0dYPYqhwz1e//m9DlrrvYDdWb2It7c9ES6xvMLmyLzJXlS9cTs5PYYOUb2M5pQ9giRiPQrSJjzoi5Y8hXSBvYUeaT0Tjao9klTxvO9Gibr1nhQ8RYSyPZRf6DyoeUq9gwRfPY4RUr2lcpQ9bqzNvVucVT0hIpW9EBq8vCGH6z0z+oe9WxZMPQVeEr2SXRO8B+RkPZcGPj06/Qg8twt/vZDoC70KEUW8BeMEvVh5dD0XVS+9RcX8PS/2I70xlXa9asEpvaSPnrzYyPM8rtY+PMZ11L0+pYm9pY5COsAISDvRdSG9DFvsPaFLBrvkOOi9nZubPTU2xz2LNPu9EQ5RPYHN0TzqU3o83J2APXi3aD1XHN68EMBfPN5Ctrzbhbo9iw8uvLlI3D0orrA9VP8VPRZB6Tt7Rwi9pIZkPaWSqz2UURS9V65zPMBBcDyKLYg8v3VLvR4u1b0GDoc7SWu4vYjuwj2RME49H6tPvD63HD1iB2485onYPD3ms72l5HM9mUsFvUMQzT04BNW9oSilvLmUwTwaUUA9lzVfvERl5zzJqkQ9iGJ9vUQxTbzWpIK8EJvgPU1WPz0uZ6A8p/kUOHWknL2mb9Y55XyQvXeQfzylFBy73h7JvOY1Er2NT2W9EbIbPT0WUT2SoTG9gj4hPUHjTz1G7W08fCNoPGOXujwxcto9laxRvVc5uz1NvWw8HcKoPRtLh72M0Ss8JZszvNVni70Eu666AYzJPOHbuL2cKBA83vSvvTVL6r1EquC9IvaHPUsUCb1/NYy9nK9+vZkrqD2i1Dw9GZxWvUeGuz0SeBG8dgc0vIzRKj2Ng/q81u52vackZ7z/PEQ81sZFvQCk4b15CU278KwZPL2F4jyAPew83u88POm8wL2BRAc9AnUMvaKrVDr0KhU8DNFOvRBQMj0iYWW7Rq4GOaP2dbz6uBa9CVYmvTfWAjwzGcE9DIKDvZ8o6TzO71K9E8AaOVYtYT0mbOW8c4XtvPQk0TsBrKG9PsiYPZndhT2P1aQ9O7pEuvapPD128E29cKcUPY8lPDxXAcC8CpLxvBEYRb1bJfQ9HLrwvKW00Txecia9prQsPZVbkb0Nb7w79URYvTrYzT1Yqbg8dszBvPUgMj0Bm1w9RWwhPAb4Dj0c+E+7p5CcPNFakr0QhMw9pvBCPA2lo71XoGU8/hnmPID5nTzgx0C9o+WjvQfB3T1x/ia9SzZUPYxIYT1u5bu9ihFAPY64Gzz03j48Y1eNO4OI5Ly5X9O9f2IcPMsyaD2cHLi83ijUvT9nIL2YQOo9WIIGPQT0yb0k1/I8pdkmPY7dbrzYvza9pgHFvZqUlL0taHE9QLsivO5Oujy7b3K8VG7hvQTjCb2ay4a9JndWPXBoVb2H+b69ER7VvTsHeTziKX29RHxevZzyfz2jfbQ8v7F9PQFp3z0x1PS9irO+PWZqurwVlDk9L8F8vY43IL01p+k83ox2vGIBxLwK/VU9llLEPaIwCTv1WBu9CdT8vMKF9z2U9Oq7CNq6vZqlw7fAXdo9pX7XvRB2sj0I2pA7ZPM7vPfrcr0MD9G8GL9KPQ4gjL1tvDi86D3/vUFQe7wLEb49m+J1PXjtNL107us7wGtnvCexebymkOI6Hzy9vB8kxj0GypY9gQJcvDnHqTuN+R+8rDZovZqFgD1nz7U9WculvDn6Uz2VapM9NT28vRsfcjzHWtu9PhHHvT21V71KenO9iaH5PYK9wz1tK/E9L4UgvAxeYrxBTUo9oyXyvNWgvbtc1Wm9HGsuPK/zXT2e1q27oJ5IvOz6uD0CtoC8z/M7PV7UWr2OWE88xOcDOut0ETyakmO9hIJXvIMHBzyLkau9ksecvSc4cz2YAga9O/BevXvnprz9H0E9btAqvYK5Mz1CVXo8lk4uPNiD5byuSwe7izvVvCzZoD2RxNY86jvhvR1eJr2SaCG9SqmdPZRwur1g2D+9d1xtPVXztzvc7Jm9g7PSPI0ogjvH4Im7esrDPQvoQry7VVs9peX7vZMoiD0sXZK8nZdDPaC8XT1rhFg9fY4APQYD9rwsWeK9l0NjvSQ+BjsJkKS8U+qbvUEaAL12t7i9KyhFPRrPXj0AZeY83RZxu63rUT1VAG6876xlvYePZjzgjsC9e21eOn9qW7xdpfw9mv7ZPYi9crylNzi9CfqFPGdWQb2H0/Y8/9XOPSDG6TwhkXm81ML6vJIN3zz8aTc7j/UlvMM0VLuF4Ic7Yb0uPOsxdrz3qWQ8wpt7vFWCHz1Dno69h/eUPT1IPz1k3B08PnsEvQ+zVjzSd6I9kFdfOy93PD2kDyK9PxmHvZWx7r11OaO6fGjjPFUuwryNOeu87fIUPYoMb7yVfwm8R2DgvSVqfLxKCeA9W7xAPMmjGT1ItfA8+QkoPJvprr2Hc4e84oNIuu4PT72eqWq9FQTgvUt/XT2Tj5w9G7M2vLuR8bzY5Tg7pie4vZPW4L2Woh0779RNvU/6pD0EW/88vjcvPYEx8b2lcc29XhZtvZobUz2i+dI9mr2NvQq6IrzHJp89oPycvaBH9TqxeHw9TvuEvWvY772PoOo9TO0vPM1nOLuKyxM9QgpEO3WZBD0DRty9F11BPSitVb1yl6E8/Wf8PSWyF7x6TVk9aWEkPZgM8r0Ek1E9STIbvXhr5r2Mp6o9ZJ1jvQ77Fb1brRg8sPWfvXzYVztwcOe9ECBRPOGYn72ZmQu9kghtPJdW47yQuVq9gQHLPSAhn70y1Oq86IHJPZJO/L1LFe89Pm9MvW2Y6LwPMtI9iecKvD8/Gb0U0du9fx0DvZMUHjxzT/+9EQ80PRUq/D1ullY8tbOmPYCStD2J0sE9XrlzvS3fnLmKpr6886oEu+GQ2DzRfbm9pF3GvYlR1b2S86w89M/vPNsQ7b13qem9JW47PLU5lb2IFMy9oO0SvJskfz1/gky9oBmbPBZq4T0fGeK9ocT5PYAF3zunyGA7/28CPYL5BT2bEmK9SNgEPUG9Lj2CuAS9Hzm6PO36obuPiXM9FqP+vZ0zUL1PM3o8tUgOvZeWf72aXwc8sRx8PXxWyLyn0hi80KtKvZqCzbx9leS6W/tnPKeYH702gms8v9UBvWhbSjycsJU8mNAMvHmYQDy39qu7VbuQPaUahj2JmeI9HsZ1vaSJ271J+vQ9jRGLO3l2Hj1pqBq9eW0JPL8gLD2IpdQ8bFthO4jl1bnikp09W406PWGdjbq2h3O9LplSPaP3vT2EvA+8OecEvFfofr0FYs+9kRuOPLxIPzy+E8C8JT3VvYvDzz2ehEm9BXPkvGscYL00sgk9ZMNfvTHWhj1mtnq8OZ2yPY9y3LsJ6ks9dyumPNE0E70icfA9LqVIPXm/hjzUddy9hBjkvQk11rvmuOA8Zur4PTByALvZrqG9FPNnvUYL8L0T0mI9jS0JvIA7t70kWMG8ooc9O7+SIr091/s9g7onvDuQ0r0i8S69g7RlvaIbfj1/ccG9YDHLO6zMJz1G7Ic8OSWhPPy42DwOIvg9A2oCvZmy4L1HRY47YNMCPS2gKD0IB2i7LmIevRZ9k72N4+s9M9SxPYJNkD2lwnC9gPWzvK8MB71C6l09l23XPYHQJDz2zm09jsS6vXpolLzhUrs9IdCrvTT7n72FFnC9mFXmPTJHS7xdEJA8kkDCO7DYSr0Kl/a8iTi6PU6y9r0lIna8tI8ZvTMxATyL6rU9MLpgPTo7v70YDA87mSRUuy6D6zx0KBU9Ky7tvKdNK72bcyC9DQstvHzLJ712iYu9ejtqvVxekbyVJV27+/5WvYp/Wz1z3lI8SfH+vaCBhb2BOYE9IabOPUB+Bb2NH3e9CXVXvSQzA71ctBu9Wl8wPN+bIbzTvUs85j+1vaBmW70m0q+8sXaRvQHdYL0teRE9m/lMPRpatjyps0G8JoG8PQKNV705aeu9drqgvWMyUryAMTk7mOmgPKbtNb2N8dI9j6sku1vqGLygwVm8p8xMPXEXQT111Ae9gh/8PKRZer0gI5I9gCJCPNVEK72iQpq9g+c0PPL5D70s8/W9gCxyvVu4Rz1AVVy9GNEuO8M6qL0bUgq9Sk+JvaM36DzGDUc8+kvHvTD4SzxsTLm9aJqJvRNuWjzkxS48Jrq6vR8BRj1f6c89mLeZvXKZw72O76u8vrmkPYzaiT2Go1A9eb3mvUu/8r2aFEg8X1fKPacy9D1xoMY9KmZdPONYp71BHWy9EEy6PZniHz0glk8742jdvOEvHD2UitS9CGuivP4RDz2HsE+9fC0pPGrjTb0+QMe9gs5IvZ7Obb1v69g9T0AYPPcjM72Xmle9msunu12fkz0FkR09UloWPR3P9byOm8o9Aj7bPXaOuD1c2RA9Wi46PaAIZb1Aj0q9Iv9bvaSP77uTBL09gOr+O+3N/b0V4d+8nJCYPARR3z0uowK9deU8PSCz47wgOaW9czQvPS6kl7ob11W7k4QdOw0a9L0seLA9YgdmPFiPGT1kEss9RVnfPUa03b2DezE9jP/WPUaLhL1Azak8PDKbO6HP0DkE9M49hU8vvZiNS70mLEo7nV7CvQWnhLlJmm09WlLoPAbGX70Cz3I6Ml+3vRiwijwKRgc9UTojPZ5w4by21z09UpzbPBuwqz2DYy+8ME5sPU1N2T0Ke/K9h5THPH5h7zwYNFI89AigPWMtkL2iEqw9BOSbvXVP2T0GdIe7zGFZPVCHyT2cgqc9HTtdPYGO3b0DfVe9LT3xvVIe7r2Z2EW9ShmLOYSw3z0Sp7i9NHjRvCuG8b2hWUy9po5ovZ3CBD02IDa9BchpvZQaPTwNkmg9n2odvR27Qry7TTE8BQNXPQnSVzwbYp09ZahZPWcfqb0JNZC8eYFZOw+nf70OWg+6zCrjvP4Utr2gyTs8AsqRvQPLyb2LHWm73a9/vGwSjL2Daok9KwYUPSvYr70FMJ883dwOvLo/Mj1iED29gdPnvYfidjyQEUG8so/KvYfhiT2XiBs9nbq+vOOBuT0+/kk9FIravYw3h72hYZs8H1K+vY93bL08Wi09XSRqvX0fZTwue8E8IVQdPRlhbTx1rUS9cIRJvaI/Sb0LqTm8vZ3OPFEiazwvdGu9EFVUvH/Z472HFgm9hTsQvWP5Zz2jAvi8HMQTvMZWWj2TK+K8M7AdPOtTaDy5LJc9pE/lvZd/3bzsZne8mnUovYuBUL1PEEe9cK60vTooKT2YOGs9kRxWvHniOT2bT7y9KYwavQLCYr2iAdg9eTF5PJuq5by6zkW6f0KDvSejXrtK8n+8jTjRPQGL1jyii/k864VGPSykWb2ER4o8BXRivY+dtj1gM7s9B6JDPKw5VL0RUhm9Mis1vNLE+b0BDXS9LCyCPQv9oT1T5lq9gUf3vRNtbD2bMNS81hhBvZeWijsW6qk9i6lfvYul8btHmqU9RSxNPU3Xtj2GH6C9EqcJO4EARL0gIQ+9nhkovSE/hDzz4/I9P7j4PZ17aj2HD+m59CckvJYZk7wf7aw9prRivI8EQjsrMpk8MFW7PQcE3T1Gy0u9WX13PaDX4j2RkJI9dHCWPQGbibyEBNs9ZnzQvNlZnDxYM5w9MQV+vLU6A705k7k9Z9O9PYxyND1OTN68nWEhO3wkTruScMq9Xh3OPYoSXDum8669nE8bPTiXQ7v5E3y9jT92PIJ9kj2J5kI89uvnPZ3RjDy/DVW9TMGfPLdvNrzMhza9apa/u6jUWrwPD9U87owMPZW2oj1gMHo8TapwPQIThztGCWu9aMlDPLPu9j2QpLQ8W83YvHTEUT1eO1I8ncaZvTjAqT2fo8a9WDN4vWNokT2Hhhu7JkC0vYpjnbvWKlw9l1XkPRsugDuoNPi9g0FMvYEvcr0bb349gtztvQNmQzzEXde9NWxHPBNBXbwnzaS8ZMgUO7Lv1L0g99c9dRwAvJ0hpb0XCcW9Z4mIPVU6xb1SvLU9d4F0vFbx6T2S58q8F+gaPIoeYz0zTSc9aaNRPYi0T708+za5yJUlPY+Xb70GMkK9F6ozPSNP571fK4E8+UocPFlHIz0E8pS8rJiDvVwyHD0+goc8I/+FPY+pBr0NmYU9DUqwPVc2jD1j7QC7nfwZOgHecD0C5ke8F2fUvZf3s7slok08PkXSPFD0Kj0KteY9QVWTPK399L2QOsu8xorlPQoNXb1Pcgi9JgjAvLsTXTyhJmS9bV4WPRhuDL1QbzW9lN/2vJBD4D0eUPE9WPGfvKLUTDwydNO9KTobPYCdFT2Qe428IdZ4u6W7Cz09MdM9iLSfvYszTLl680K9H+tYvZO6vbuIOAA9kNztvSVLvD2QB8M8iFjDPU41bbxB4Zs9JTcRPYbqar2FmPG9fQNXvMb4wT1q5dC8qbSpPSzr7T2Qa/89BkJdvVBfPL1IcvK9jMCjPKw28LjESSk9o4szvVPp7L2nKO89kcV6PQIbFbtzUy69e4jYvPVfqD2YGqy9a/civTTgQj0H71o7e/SfPPodEr0pH+C9KZcdvTcR4L2Qdq68x5wdvYcWib2GOdY85TC7PTAkFD2LNNc9OIgrvPsVebuRDyq7MBbxvaG8lT2fQHA9VLUJvJGsYT1yPF69g71ivTpDaj0fTv88nZvLPYGRNr10Lxo8QkvpOxnw3b2iX5Y9Mt1lPSyjXDtDNlQ9ewFoPTCwfry7a9q8vyDJvZdN5rzQeKY9aenPvZ/vYT2ZnLE9MDG8PQeFgb2d/+o81YiIvFpnuj1nr/I9SSA3PYamIDyPkTA9o2WrvYNjMrzrzWm8ZaJUPYvi/7zTzak9lgryvCsio70DmtC8+JNmPU/BF72ZzUa8lWbTvCIJNr1ovkW7YlbYPZ6zkzz4g9M9OVH8PVSQDzrxMmq7/RCuvX+lWbuN4PQ8mVG1PTreS7yuNjW9h0rwvXidV71Kx7m9iDHcvVYZGj2GDkm8syrnvJTtvb2WJN479/g+vUmfLr0LPIQ9IbS6vD6rzbt9CWk9oGM2vDDnuL1vENo9oB1+vFgaYj0sjCw89yqCPZ4mK70qoJm87/c6PViuKD2Zruk8a9EmvQfh5r2HDQI9NVg2PCqoAD2FZ8s9iKEaPaaqOzv6udy86Y6JvYmzWD0BE3S9pM3nuyE90z2lN5O9YtTNPVIAu7uhWLA9Xv/0PXZbmz0XFfc9QzUIPYEvGryp/W+7lZChPM0s0j2Ev5+9MMEKPZY1DTzaPya8fm8pPZNs9T0mrRC9kY1evKsnjrv9Oqa8G5lxPNSz+r05VAQ8Uvn8PUsiozyFSH88u42DvPeb9j1+Dd282lmAPYQp3D0wIUC88OlmvJkD9Tx6Fjw8jygVPKegkj1Kjs09gCS6PZSPeTyih8W9JAe1vaMhzL1lA7w9T64wvXgYUj0BgQ+8lES5vaKuIL2UFNE9SuiGPSwDUbuem+M7icLGvT85ML1C97c9nz+mO4U9oz2el2067y63PQknPj0hAOo9lsDHvGEX4jzHHF89ozjQO96vTr1rmvm5vhH5vaG4Ob1o+Lg9EFM1PTSFszyldSG9k+VzPTjT4D10tT69jYgJPRy5xL2NJJU9cznCvY8bJr2PRK48iVZdu1D2Fb2aIxs7h/w7vZQNU72lfnO9SziQPLmwBr1s2CQ9Kr9+PWqmgzw7cpy9J+L0PZFLWrts5XM9lFJyPEZd4jzopw89YHFzvV2pxb00F3E8u9zBvZdo6b1HxWs9fMHovQMeDr1IryQ9cUYxPWEmsT1CMjk8oxj8vRXHfT0c2RS9nhMFPYXnZT1Cym48sBTxO9pYoD0EAAI9cX00vYvqR72lDSW9hoSZPTDewr2jIyK83O/DvVmHhTzLCvg8mLwgvQS+CjvTuhE9V31XvBYbRb0fNgu9L2WkPOCN6jzDz2G8weC6PIPkcby0Zv09nAVnvCLhyj0Dllg9NCGbvZnDGr0ajKm8qtQHPO5Y5b0p7cw80G4TvUKvwrvk2069TvRsvGnuZb1JD6y9PWz4vXXCvb07nh49KAYqvShSjLyhww68US8IvVGsQb1fNMA9hTedO7+hE7uOGu29GivovWJgvzxIYSI9bNJtPHnbH72QscC7xo9oPHohN70z3oM9YZ/uPXPApz1OHbw9n43WvZ1GTj2Cq++9APhZPI9CrrvC6549WNwjvEiHJL2eNpC8MZtuvPnszD08z/o86ecLvOpsgLz3wuM9g9J8u4PncTz64Jq8mnPKvVV6bb2W5Mu9KyfKvZ9pQTyQdSc9m6LYPTbYkTxbQli8+7Ayu1AJTDyyXfG8kH6APU8zNL0qF8k9nP7EvXaZIT2YB0M9pDp4PRDZub2Vu9Q8mHgnPLEwL72ie1m9B9nWvYGfKz1rFys9kckpPJlPKD2nKCm9hdnvPQdkaj2hgJS73dqbO7x0vr1rEMI9YdVfvW1wtLxRyuc9hcCivMdScr2hvcY7js38PXAYAj0/fqc7GmwnOb0cX7sZbeU9VLFDPPMnFz1CnKe8jJE7vAxBubx8N7I9QEk3vLNFNjvMEag9PgBwPLGgvT0B1Y48hNsLPKPawjza1HI8PSdFvZkVuL2Az8o8itxOPQW+iLtbFSc9RYyLOBHd/L11Wfa9kXQ7vL9Xor2On+W9CNn+OuNcILujLQe9l/tlPaLmoLvRhBK9lTHQPZ729LyN8La7gsuhvETNG71VtHi9Knt1vQDTCDzVVCy8hPtBPVVyxT2bae49U2tRvCPoAbzLwoW9QQw+vaKxVD0Gp1M9BZSNvA/RWDyUJcK84MhVPTwM8r2ER9A9m1RBvW6GFrvk3LI9gAXuPXeuxbz92IQ8wUPbPTSxaT2MS1y7ugoqO39qrryLKsU9j85zupBPiL1jLV89kZVavD1rpzy9ews8QOxUvNTNtz2GCXK9bUM5PZawIb1y4Tq8jtLSvXbGSL2JCea9CUsbPUz91L0xiyQ7hk5EPRp5mL2BazY9g1NBPH+5ET2AwCC9F953vPQmBT2de7K8yD15vUG7ODfg3Pg8vWX/vYljfT2QX7K8WkUHvRr6ez1g4Lq8nrW7PSc7NL2X/1Y8ol2jPIoKVzvLWxe9ozT+vVxI8b2SnhO9HTD/vCA5m70N5oE9gOJWPYsoAjw15UC9PDT0vNS2gj0XzKi829wnPSKxoD2jPiK9SPogPXB9w71o19s9gQtBO83/O7ywezA9h7eZO47VVb06mr29mRtDvRhf6b1IGQc9iMn6vQLCx7yCmUA7KRr6vVS1+r0Ev5c8TCfevQkxzjxsEzQ871ocPUtadz2jzu48yZHfPYGhMT1RtA89B7i6PRlziDy6F0q9ihBwOyznwD2Rz2+9D2bsPZ6YgD1wNhg8zgRAPQXKTz0LXe+8s5a4vY0GTL2AttW9f3bJvaFAMjyUshg8n6TNPYtQtr0iTyg9iVThPZYWTb1H2Vy9Fw10PZ/XHDvJUZi8FxouvIIeiLyYlxk9JGqlvYe1zD0nCrI9GbX+PW/q9Tra+Ba9mAxhPL3/a72knd29CI+mPO1oIbxF9sO9itmNvV6xlD1NK+y9jIGFvYxj5T2UCSQ9lLJ/vISJ4j2cP0i8zxrsPZEWX72QL2q9KEwUPHFFZjy0Tty8479EPYA6ITy5ZVs9nsC2PS5Igrx+6j89hWWyvSkSGT1nWi+8+xHHPS0vezkZGnM9gvg3vYUiiT1GIAs8ME18vEK3Mzy7oEU9Tu5VvSybXryWR2w9JcVfPYfwbTyGgrS81eFjvQNe7b2kIAG8hSnwvZlXvjv8ymG9mbvZPKyzjr2chF68CCGrvRuJqT2fVTY7q9ytPAW2ULzykay9dbOyPaZvxT18A9u9lip1PMFqSzxLJbs9WnjgvZAswbzd+7c9TtLlvaD9o7zsHQq9hWSDvZRUO7y7b/89nzJBvXqDAD0DAnW9hKs6PZMLZz1Y40A8MlhJPQ7X/72Gne+8gmR3PUBGl7vlUwE9NiwyPXxurT2KxUI9jMzbvSIWmL1CHok9g9lOvYV7mr2ftVE9FsvMPUakoLzvfne9nngDPMPe+rsawmC8Yit9PJrqPr2dBjq9omWcvR/L8z2X40u9VSuyvMbsqzzkgVm86Ga9vZdTzrzdR8I8+5u5PYAK0L0RPCo8uH69vRJJJjwF5F285c7JPMZ1Ub2Teku9i8UNPaT7ObzYdaU9Sw6IvVVZY70IOy88s25dultVfr1mUFC8afV1vTlqr718w/M9JUk2PQgfVTuSTuc9WtuhvBtnT7wjfys9E1iSvM566b0l4ku8rBuGPJzqSTuU4o09PS6UvUSn271u3Py9Mf9ZvIYTDL2VFZA9R1OHPQQ6PD1Y67M9kOo+vIavAD0Vo6U9gkQHPYwfPzxpHMw6Kem3PacN3busDlE9WpsgPXlr9L2P8AY9foyovZYo8D2PM+i9j1o1PQNk6j0WlKI9diyZvEuFBD0LBD29kEGXPYArV7097ny9gkhcPWt9WL2ji649jL2ivQFGbTykO6i9mggdPYM2/T2SkNK9ONfwvW1iD7uS10I8lm8qPZwNMD0wCo29Yv5hvEUTvL2WZNc9UQM6PKYoib2NF+k8Xw0KvF7knzz+j/G9l+3bO8XYbjvmQem9fkvjPV9b9D1bTj89g1dPvEXYWTyrXD08S4gKvZBi9r1Xeua9Qk1kvaBM1Dzeh489NW9sPQKJ172PlMY9jk4CvWq9d7vQw588B2WWPV7xUb1PUpk7tkqePSARMz140BY9F6oZvTeQtb0x6FY8SJVuvOJ1pj2Dr9k9N33uPTCy572cM9a8JoREPToTmb0toYG9eDzfO5wkkjzMSVO9jo7iPQ6lfL1SpMk9BhTOPTO71z1x7Aa9Rc8SPRprBb2j7Ug8upmQvSPxtruz+Mi7A2LDPURkOL1WUtQ9pWkfvQhAkj2TT5s9j/NdPY7pgrxUgtg9fYVrPNHLILtPJqO9owYdPXFMcD2P29u8uO1KvYN3kD2cvFa9d3g/vCWZcTwDSFm8n+iHvSTbZzwQPfo8iiTBvYRCD72FMyq9IzVZPMmFmjyiLHe9h2lUvKBCQz0xjog9PJohvWFnvDv+MKg9Fm5cPU8TcT2MZya89kyQvXPw9TqcS5q9pN5gPAsHdL2MvjQ9ni4yvSRjVr18L4I9KttjPGf77DwBnJa9TccBOx/euzyJbC89IZO4PR2GN72hOpo9ZgXuPZgxZD0L3ms9LDRmvTGUHTuvqxW9oL2HvT48+z2ASp69kjTZPTuHVjuOmL+9GszmvW9zozzKHQs9T8B1PHiIPLzT8PS8MEpCPN6QTLyf3bC7VAY/PV9OazwfYJU9Sy3OvQEzxz1wlqs8u5D2PBsGWT2GU809lh00O+T6arw/4uO9nLq+vDDHLz167MC9cU2dPSN4CTuLCjE9XsU1PYznuL1IhcE9gun2PYHj3r02avm9ncszvYI6h72kFBs8qPAcPZ7BfzxvIFg9di7vOljUDTz3ubg9BsvvPZ3mQLxh8Kk9PTHDvSvAHryMZ049QWL8PZObTrwfvoU7/9tHvZZ0LL2ajW+80O+ivQu42Tyj9Ni9LRNKvW7RAL1SF0E9a2SvPQZ+Jz0IvQK9ZRMVPV38hbxlKfq9i3UCPMDwPzyPfHM8C9U2vTK9c72dk4y9J2IhPJ5nCr1k/0M9kbizvYU5sb2knAa9jmrcPQsRCj0g/K09msouvUkFjj2cB0q86/ruvNwEyz0aCxo9NYURPJnyoz0bKpW9MfrevV1BAb1mOvE8o8gfPZKnDT2GRzQ8pRNqPYjoFzzmAx+8PSG4vVAIIj1h8T67P5dHPXeeVDzKdRo9Gb7FvTGXtz2Vrr68+qIfu4KsHDypPHk9E365vPrhIj11b7m9ikm5vYWPmb161sG9iL/QvEbkfDyUFrw9VNBsPKU/jLzX4oi9XJDovKUl1L0262a8GARkvZmbm71Dwrc8WwUcvYQ5Ej0ozCA9W5fLPYmw0TzfbpG9bFlEOwwg8bpEzmq9DjBxvYxjtrzugdK878SfuzpYJD1AgyI9Y9X1PWldBD2HwrK9nr6pvYP/PLtusU29R9WeOlucCrti6su9BoUsPZtx8DxjD549KMYnvaDrNDx+Yc89jwcSPWnXoj2FmzE9YYHVPXNO4rzqJEM72CtIvXs5PLy/qHy8/OBYPJv47j2AE3k9i1DHPUSnuz2ii0y9kuwQvZDlSzw/0hG9caE0PBgzV7zoBzu9g/WPPXJlejp5KBC85hh5PSh8mbyAG+88RAq9vZBIzj0G2HA9T2+8vJZgD70USWg9jwqEPFgXPT1Cgu+9ngHOPSdh071G2GQ9eHv0PANXqLzbL9C73nBavMHcVjuI68s9UNomPaaQl70ZU0o9onoTvRBmYLzOEvO9CUiGvMo4db1Qo6C9ntulu9ngbz2DpFW9RXJEPIFqo71FLFK9k58GPRTtJb0l6yA9peeKPaKHqL0wt2o9XwIbPXn8qz1XYgS8VsMWvMLMVDzQNjo8nX6/vWcNsD1Ax389BkdGPIqEJD1VrMi9jdvHPVk6NT2UMKA45wxSvDbS2jwRGdy87qJxPReHn7vbspO9FvXmvMFpyb0vGa89FPO4vSICnrqPd/o73k5jvaLHbb1uPFY9kjGMvLEh0D1+8gu9IjRgPZuw0b1uKya9EjX2PGiUMzztBGC7N22JPBkExr1xm/c8JzuSvaYbL72Qx228XgL7PYTUpbyUlTA8ysXGPD+z2z11Q909l9d2PUalUb0cj9w84f/PO+H8DT1bJ4k9lubgPYQMhz1vTIy9hTAsvTnu272mVyO9IPz5PZWsirugNXG9dwUivUe78j0VL8Y8yDSYvS75+bzJMPQ9ML1lPJNPY70zJog7lqeLvROlYj2Iq5i8m0z/vY82NL1E2S69jo//PSMsIbsaV5S9Iup+PaPhbL2D3h69iejzuWcUKT2i9Xy890idvVEEYT1cUas82rVGPQkMbryPQ669StyQPUw8/r0pcKs7uOrCPTDDMTx4N0c8+DjkvZlP/T2GSp89EtRhPOn+er2A77o9CRGyvaHr4rvbhNk9aOggvYde1TuvCqS83BThvPpgJjyK+de9o6uPvPO/0b1oliG9mly/PYV9AzzCKku9AqucPY1nlL2PqEi9ktwivWPjF712nL48AzaXPUHxhzzhFcK5unUMPQU4mDwO+Te83F2MuzxbBjyetIY8mNwSu7RWBjy90qy9ppKZvZEVbj1Y0Hg8+VhruwCY+7yw0Kw9NXWyvXEajT1GHte7+iyGPX/qbD2dwkI8eDWvPUAhvD06zyO9FG2KPICX1r2Fiec9f2/4PZWY7DtfcXc8KS3rPZhp7D2RH0G9g9TfOxBhK71pfSi84ripPZ9X6b2XyxC9Q3krPXnht7zhUOq7+HyEu0dXXbwwnnu8qmyuPaCefr1IBEq9Kp6MPVeIzz2Ck5u8m/hrPFSoXL1OjjW9gQ58PXDQ7L2MXtU8JntUvacn6rzN+sK8MnR/u8eMBz2LxR09T5+0PZ2p9D0Pa+U836JQPXoUr72iCDm9mAjfPQQQ3L0n7Sk8V/TyvRD2j7reHNM8gL8sPTev8LyZTZC9I3+7PPl7jLzX6rg8mH4XvJoq/zxuLXq8hZiovSUnoD2f7XK9Kd5dvCQug70ftSk9ik8evQPJaDwyDHk9HD2rvKHfaLzPBQU8h6fJO8/5yT081KQ9D39MPO7VXj0aeIE8meYBvW3gwj0TafS577+5PWd7IbwQs6280Ka4vJyZ5z2lc9S9hmt4vEaOwL1gXci8162lPLc59D0g7tm9jTOvvZpIILz4JnA9TNV/PLf8Mz2iQ+69CdqBvSBvGb0/XrK9NwdDvUwm5r2ilDq9pM98vYG9Azz8I7Y9VJjRvAT0j71hfwm9pgfRvSrQwL1dwPA9dqbZvXNbuT2lIo09mVZaO7sujjyKrug8ssKIvRZLs71N8SC9btMtPR+rwL2EQKs9gme8PE/tKz2RX8I9n3WavUSIeLttk109E6yCvZD2uD2cL9K8wtd+u8YQHTyCOLi83gbhvUedqDshrA29fDkavZn3uz0tewk85i/jvYLkEjs4vPS9kkRvPSTVID0doHK7LJi3PJ9/oT2IrAO9i7xCPGuypz2YoCc9oWLivYckcDxXL4Q81SDrvNGltj1OHO69oJynvNojczzEJLq4N0M+vKSFLj2Zm5I9TzYxvFf/4z2kvxY8OsPMu7DaPz06PCC9CyxxPM+P470DVXy9XaGDPZjDOb09VCu9of5NvaBrgr2ftLi8cHFavVGpfT2fI7Y8w7njvWQ6vj0F68E9o9mfvS+qUbxf/ak9FeibPZ+2zD1MgBK9FzXEvV4PUj2fC+y7ZPUHvN5ribwWHt29hnVuPReV7L19RAm74WPGvRRqCTzqcMQ8qVJRPZPVgTxqyVa9kyKRPQWQa7yP+Dq9TrBRPPJ/pb1AgOm9TuqGvY750L0ZtfQ9g+WJPLx7R72Aigy9DULHvUUMAr2Fb209hMlNO4YM3Tzd6Ug8i+JHvHjVBr0t9nE9ToZsvYsf/LvlSUo9PKZevJ/hUj03sB08x+j3PXJkPr2NNMo8mfrYPTM1crzxYzg9k16bua0JOrznBou9iYG+vKru2ry70gk9HYGVPaPUhzutv6K9a82gvRiRaT09o7I9ROZjvSxN17uirhC9nwmrPXsmzTvPMhI9ZXLZueAnYj1PkQc9mPxnOiZebLz+bKs9XyVevZKGrDu18ck9pxu4PAvvOD1K0T49np8JPOMaDb16NNW8gYodPE3ccr1NYjW9pIdDvIDYODzFsQg9Y3ndPNi+Fz2MmYq9XTOdvQARVLxdMhU9W3JwvU9ioTl37eA9Ep6dPQmJh71vSe88htDIPRDMuT1vyxO9P3ARPZYlpT05hB69fo0OvSgTz72CKhI9R47zPOQaY7vPW+A9EuOxvYErMz0uZyC786RsPPurbD2j8Vg9kYcnPTbYcrxau9Q9nj/BPR2Sar2lyd67hhKpPXd2kD2M0jc8rOLfPYNDTb1JAYS9dHTavRKGzj2h+l08ZWDDPJzB1L1ML7c9JkkivXBFyz2Z7mY9aPv3PRj2bD1IpWo7glhXPYQhrz11zu88pDZUPRCJwDsVdYU8rtxJvZPr5T1jfCG9gwW3PLzhHb0T2XU9PiJAvVfFFLyhuEc9gUv1PWfArz1kvok9a3Dquh5KZj01WUO9LddKvZe3vr0hxlI8+LkavZXUG72a9aM9g3Ctu5EY4b2ILIg9N/abPZCoCD2f4XM9pI45vPBUfb2dpYU9fUVtPV1HGz2NSDC9ISFuvA6MAjsHtMq8ssKDPJGNwzv4rme9o27UvZknGLzhHH69hlSWvRMSUzzPJ1U9Q/uDPS/vgT2bftq7fSO0vaPH6zth+ui7jKf+PTmB17zYX4q9d+x8PYWsx71yzMG9QfnjPB4urjy6Ayo9UiPRvTsV6jyI4YY9RWRivSLORr2b64M9mI25vZ+cj71r02+9krwAPDEGoD16TXM616eVPTkByzwj+Io9hGMXvSPnnr1haQi9Q5rfvR8DgD2OGyI8MU0rvNQQsr2K7Ey9eACyvUsXAbzptGe9CgkTvEcv+LxQ/p09Ky0rvVxdyD2dMRs8q7ZsPRF5gT1Qwfs8/y/FPU5cZL2i5Ac8gL5QPQ0Dqj09dse73dhnPRZ4X70sv5e8zYB9vMXXAL08FSc9K205vZ3O5D0H89+9oXAZvOrpxr1NjI49NlUPPP4nrb2clnQ9ljqjvXLgv7xu6vK9SABMPStjRjwpu9S8cMqYvY3aQDvkeSo9Wx5CPXBnvT2N1oY9WvSGPFvM/T0G4Xq8GajZvJ0GS72clRC9gEFKO6P2nz2JO1S7hOupvRHnw7179fe8DaZ+u/sY0jzppSw9cxiZO6LQRj2SH0e9j+XevZfv6z0/YTo8JLnjuvzWoD2HnIY8ERfcPNuR1T1zDHk9ms0QuhJilT1mCHu9oZX8PHwGi72CUKo9fFTLvBqaKr1D/xA7qdaHvRhkTb0HygQ8QqOvO4q1Rr1nuda9Q+jlPWj0yD0TH+Y9bgQ2PZPbOr0z6s89TD2lPWZxzTwZlsM9N/gMPaQ56T15CP+9R1dIPP5lkTw4GI07uIdkPVfFuL2Jdcu9PTUXvSFnjrum72+9iAg3vZlocz1ilHY9D98XPaZdvL0eox09AIcRPYieojzuU+o8txA7vNsjcT2XJbq9jeGjPU80jb2Kc6G9PXi3PK3pRj2LymY8YpMFPYdM/Lyrpvi9GUcvPGOMbD1rNyA8tspHvTaF6D2fqU09fbXRvOSFXzy+MUk80WN5u1tztLyAZDe9iwgnPNr7Oj2HtIc9jDtzu/NheDvhtUM9PaRJvXksLzuFtMM9fnuPPRAV+zz2JX69jImNvWJNpL0x8xW9kwwKPYnNQz1U1do9j94oPKKafTuGNYY70mnqPYOHFj15mhu8ieOePFcPeLzKWlc9njKUOhjtYT2bLX89Y9wxu+/VXL14CaU9gQyOPJ1D1r2lrHa9o+ysvJlNtbzXcaK9Wuo/PYlp4TpEsQU9WFlqPWhvh72m8Y68Is8ivKvdP7zuWGe9j6HGu+9mur2BbHU8GVoZPHcecbzxJU+9irFTvWV/ZDyFBbW9hI07vD15fj2fey49kl5vvQsYcLojC089m9pFOpHobz2R6Ky8vH5MvTd2lzu/6s69kIU4PPRiUbwft8g9bFgAvLmrnrxqsyu9I74KPZvcnzxbETE8Y5NxPYVSg7zpMrO9n6lJPaL3KL02J+O8RRY5vJS2LT2Mz3W9j4vCPTPRbbzyqCq9cuA6PYTmUryS2N+8ZNScPaR4vLyVXkU87Z9ePRnqXL1wH0E9bIyQPXC/YTyseD09kMzTPWY+6TzCXrY9JiBzvYl9gz2Ys+q8iWn2vZw60T2iftO9PfVGvFOa4D2GVes9NSr4O/qvfj2c0bO9SVSQPUJeB7u4J0o7w9V3PKYlqL1S/WW9mOuRPM+CG7o71m07wDEbvEek5Lw3NZu7JUSRPXjklLzF2uu8HfMevZwPf72ZtzG71YxzPKKoaTyCa3e9fSUkvX4VvDyx9yq87BqHuy4bFTzNvkw9Ify9PX1XJD1B72y9QOcFPY7UzjyWtpw8Ig74vT+iQ703bA+9W6hGvXPlcj2hIZg9QXIXPXZn8r0Poji9Ro1LPZw/or1a+oY8V7xdPVy6yzyPl568PAF0O+CTKbxE6c88S9U9OyRRaj033wq9KDMsvaCafrx1ml09IydTvR+akj0Tatq84KCcPN9htb2L8049kUKgvZ4Z3Ty/CnQ7PzZxPKKSy72DXzc8IB1GPaPTVL2ijoe9OertvGrDSz2RUgk9oYYXPNYje70VoXi9VMkIPViBXT2inOQ8nqc8PTA8p7iMDLE8ymi2PLLnUbz3q9e8cabYvWqpaTxqYiI9pxCNPKvV8L2IWou8hufEvYaoFD1QDg66gXmEPZ+8pb1GpsK7K5SUPZjxbD04VOc7oyghPYP6tryYsiW9jT7uO8vVPTwlETa9bM2hvSJTwj2KiWo9lPmrvKzvfbvGJMU8iXc1uqjJpz0WQ468m8UlPQ+/vTzEFNg7gI5JvWJXkj1xsrq9VrGQPGsxcTtKmIW9cGsRvCWGIjz2CgW8bDXSvaSRFbsNaNm8TTIgvQnd0D1LGAE9LKsgvYqdu7xO6t+8mGv8vYOdcL1x/7Y9JuFzvWEYV7zabpa85YXKvQry+TzjU0m8xNFVPQ3r8jwBSas7wPvYO9dyBb2UfhW8o3XXvKs82bxNkmQ9OKqfPWEvYLzdgQ89IzwVvUcOVz2dVlu8mzJWvYvnx72KR+K7jfGHPXDdvj1pTLC9W0IavYxM6jzyEL89WsOQu771XrykGeq8ffn+vMbmmz1u6cU6YNz4O2w7yLzP4XQ9Av8jPPe1QDy+ooM9XBaqPZwaKb180gg9nFQ3vAaeM7y9YTm9HQ2HvQ7OEL0CaYk9J23EO4UJYb0ILLk9QPU9O31Qxj1/Bqk9PP5lPRTWFD1Y1Hs9CtczPZpCrr0U9oQ9VFBdPZw5ErzC39I87RTOu1CgrbsreFS9mkywPLOSyLytE547wZScvY2C7zyuqa48CyITPRt0XD0ok7y8mXQfPTyjn70267Q9NkZAPLKxjbzEp7E7n02jvG10n7zgg6U9cOmSvDPIUryhW1K9OnaevZvDeL0wlo28GKHGvNmsZ71UmgA8HCxpvZhto71/aKQ71bzePN57sz2I3yg9DiAZPLeAv70US/g9fsxSvRN0Gb0o6Vi9dCG0vUuoJTuIyK+9cH6XvLksxjyurVu9fh+nvYcjPT2mUkI88KmhPC//OT1LOWm9HMf2PLOyPL1OQHU9kXhEvShyQj1+oiE9F4sKutj2rL1WQKQ9RTrDvZUBejpPg+I9i8SKPOM/q70BXqU9gEXSPJxVIr0fG569glr0PY2gYj1nYGY9P55cvVxCzLpI6hC7Nq1/PTfD/L1t8c08kMfDPBEq7T1UlPu9jFwEPLlMWj0Lp5S9NyGSvODyd72hLxe8scLzvHcyfbyCz9A9mjYGu5t1Gz1VLKc6NvQ1u7bLODynSEQ9A7SJPWBxQTwOHfI9I4j6vX+/iTvdJqY7Zo5BPVwA6j2IN289LOmcvab7zbwwoAi8REahPXBv371Gpjw9UqR/O7wSmr0Myim9ozTtPJLxor1f/hS9hjK6vTFJ2DyS6ZI9ZIRMvVSt1byD79C8HN3BvMjrzL0Vcx29bT3lvBPr2b1LqFS9NfYAvQ8hp70fFFI9bnQ6PXlYuj1zkHU7K0YyvMQKWj2QMGW87b5APVyd+z13grM7ykMIPUL0sbuMCJw9lcngPV17QDz9aZ69J/pbPVSxd7ynsga9pCwevQvGXb0KoEq9pRXVvPiwKb0/EF+9eR+AvZtJVbxID9q9fkCzvYDacD2cKos7ZxE4vUY707zOv1C9S2C+vWKeqD2gP4Y9nXNAvL02Aj2FSJo9pUNzOzTUv7zzy8e8Xh/4PK7UDz2NY6g8v2lkPNEccLxbigm9MvNpvaWNl7yazK89SkGlOk5JC71L/P29S1scPEzyCLxUJ6Q81mFAOyrEDD2lLX69bxHsvZN6Cz2DPBw9YGDTPUGmpTyMfAY8jV+ku86/RT2Z+GA9lq3bvNaMgT1C+249SQvtvQYjCjz1wNw8n4vBvMtpvz2WdGO8P3k7vZDTtL1JSGg9TlkgPQCynr2gZn09Ji5XPR//vzzbx5S9PDABvGP1yr1IyrC9GgwDvRPtST18Zf29YWzMvY4UQ70XeMg8htakvXapjT0fuIw9P6tlPaHrprzDomk9iIkhvIRdCjzz8Jq7BTE6PFVs7z1jius9XFJNPNTCsb2QL2O9ofW8PApLNjwhOCa9LTjXPWWhTD0w3ha9eE76PYs9Hb1e5bS7x171PY90n71x6DU8UAr5POkYGryh6Y08hCS+vGDBSz0q6/s9hZ/WvYruDL1rII88PrLnvTHqHzxc9xc7qXoZvRkKXb2L3m69TBB/vYaPubz58oM84JTGvGtXKb0y0ru9RH5mvA1JdDtYOea8v1LbvSHY/b0+85K9oENIPYfcMD0E8xc9pvmivRXZ8b1i3kg84NhcvUojV72CpLA9ALaPvXEdTL2kfsw8EQpuPTo4iLzppzc9Zd8JvUfm2DxR9z29lDW3PJoPlT1ejJU9kydFvXU8wDxWqmM9pXSqvVY/obwmtvm6GpKxvD3eKr13z4u8FYnaO9x23D0DN9Y7JyX5vVAUfL0PRku6RX9uu5ezMb2CVOY8dxHUvXexgbyeP588rnuxvX5riT2kgEy8NQT2vKg7yr1PhWe9OsaFvSMjcrwgwCq9oWj0Oje6xz2ihd+83rqnvUyHrD0Vqps9hDx3u4B/Lr2f/Z69dDYIvW7Vsr2E2zA9pFbyPEo/7rx+DCm9J2lBvYHbejugWYi9loVdvKSrJr2V+TK9MfrMPOujjD1jT+i9IpvLvYEJlD2c/kA8e7nAvK0ijz2aSKw9NkpovZLWlj2EEHa8tQ/SvOWfCr0wuza9jq2IvYDnBj1uisA9M8DavRgd3j1MXDc9jr7wPNyHdDykmeE8IxAqPNgi9LzF1j48RsQxvTMx370Z1/W75BQ/vW0tNb1P8uW9iGCMPNJNezzUnZU9PoTIOxoYi70Y+Jm8xHgxvYNcVL0aS5M9VAo/O5sNfj2Ao8w9COn/PYoqCbwzrHA7mj7WvTxVqD0R+uO8uFzkPQ7pFz1UbqW8aFLhvZgbDju71/q8BxQPvXkQj72WCQc9fj67PKmhwzyGo9C9EykiPXjXqz15j8o9VpJPPRHBbb1wEvc8Ffd3PX9Zzb2kxgU9AFtbPW3Clrxxx/Q8dGg4PESiM7n9oR4833kKPDvJhjzx86M9GFWnPZXEzz2g05C8nkVXvZuafb1dh869WNqlvOaC6D0cFkY9Trp0PUrN4DyRl4A8wYsjvYd8xTzVJGi9U6s/vTmPvj06o/y9FR/avKCDzr1FJ6u9hP/lO0XBkT1imj09gNd9PTr2CD2VW1w9lTrJPIjINj0h8OG9KczfPacc2z2Wc2G9aL5NvWfH7D0UHLy9CYs8vZ575r2eva+7DPPtPD7Ylj2cnDW8GzISPQvo0bvyyGA87aSCPUO5c71LHii9jHQ2vHvUAL1ouyq9SL9CPQpONjxufVQ7g6NEvZEUPbysjxQ9XToAPK//sbyWS2c7uZxEvaX+hLy+LGg9eRL/u4VitD1xZZa9i4zOPIjPDb1kC3q7z9fRPVEIV70sVr69GEykvMZjcL2Xx5W9VPfJvZdbjDyOJoA9mVMJPJ8/ZLybZKc9kr+SPY0jfDygr5K9JdtdO9yWij1gU569m+xFOsOJczncGhs9GWWEO1rsKrvydEc7ignkPVVym7v2Mxc9c0BZPOxmyjsHAiO9lxxwPZKZFbuEha49ibX1vWM3xT2LHWy8+YvhvFi5UL2YpG09B20mPYHcxL16Dfi9jYOdvOzQhzy6lPi62HmWPPFaTTx3WeI8A0devTJMhb00dwA9VaWbPPyudDy4JCs8TcnKPKRMqTxvPSC9a5YqO+oiSD1cM6e7L7bsvYIZZzwqUng8u08XvRdj8b11ZxE9o4iQPR4KH7zNx2w9pICsPYK4S72ITn69WzqmPV90OT0Laci9jYDiPOz9ET2J73E7RuF2PZe6Vr01nc89byERvYT5W7yI/YI6ZIzXvTNQfr0Wras9OzbnPHIMIr0ghKK9ne7cvWNkwL13yZK8q2aCvYmLWLuURPg9oGuFPV9Bwb1LIyY9dka6vUJd+j143I69QCsQPCpdAT1Hgik7hZRZPFQAsTvp5Hk9HOnE",
+        "vObtpD0no+a9cRoyPOBdf716EeM9PCadvIBFK7xOuiA9A4wbPZdw3by9iAw9nb+evJXLhT19kcy9i/xlO8cq3r2LnWW8ikNVPYA8yry4lq49BM/cPZkSwb1mPuQ7uvsIPZop9r2ISjI6xqcAPWJR7bxtILA8F6uPPWE5g71S/i48/nnbPIoTxbrFXcq6meWYvPN4Jj2Pg/M8tmwePJBpITzo/uq9UeefvJq9hD0KTvI9OeZavW9nhjwL5f69mm43vTB+hL0zlfc9F2MivN+dvr0StCS9dBH0PSpWgzzXQL49eaARvF4KSrzuMCy8u0Y7vXexq72JeBc9hm0nvWNMQT1F58y9aCUOvXiLJL1jxKU8/JSdPVF1YjwmrhI7Tg3DvVmFdT0Fgsu70z4fPYoSLr1gpni8qOTYPIfbVD2YlG+8+MwbPU0niDtYfyO9MKiQvUN8YD1rKqc9UdbnPJwQHr2WpsY9ZtNCvZPNbLzlrb09FheTPZVV/jssX7k9QYIyvZyL6r1V6hy8/RFQvUYzJ71x3Gi9exh2vP+b6z2a8Ii9TOvbPZ2AWr01nUw89WplvZuQVb1vBq89CwArvaY5Mjymv6Y84bQ4vIL7Wj16/DE7lkgYvYzDiD2FD+u9jBXyvRDKd70vZEC9mzV+PUcyED2P02C8BrxevD3C5T08Jgm75Rd7O3ADfj0zWn4823BgvQs1wzx4dci9FjAxPZjvdzzGxku9KmxivXHrkL2J5Ii9WbdlvRcnzLz4gb47XOW9PKBLnD1hJ5S9n1PJvW/r4zw1Ak68qTp0PZUuD7z2Uhg8xItXPOGfDbxQ3FI9LbSFvTqnhjyI2nu9FyO8PLp9pDzM87S9Cm64O/uKo7vlGr89OWMnvFv1kT2iqd49LXKoPTsCbD2c8lW885zPPQo9q72ll049BnkZPWfkVr2m0CS9fCucvYLI3j2fMng8mYZ0vYB6E70FJi+7GWbgPFYTqT1blJG9ITbiPSIniT0SvGA8pGBbvScZT72kESu8o9Neu/Q/eT2GHfy9cHdNPWA7a7wVioy89zGCPUNmv70KiEY8CkSjPMvxDz1rhE49fEa6PaS42DwRbzo9CMcfPKfZhjz5bgS8UsCLPSdV5znTWaM9SnpzPRg8aj2UqAq9T4ObPRbiqTz8OVS9lKu8vTPqRT1kWkI9F6n6PF9RGDqJb369lCIxvKvr/LyBjnC8SAotvZ7n0zzrQGc9i6KKu7RUozwmAl08zDTEPZ39TL1vZLc8pFYcPaPQOD0VsYa87sqdPE9OcT0qJoE9GuvTvHz8T71eTA+7kiuNPCHxFj0Uul89Q70PPX/GW70RMKw9gieUvURhX7sDk0O87tVUPUGWYr2klDu7sWRRPSgSi7zH1WQ9HaoXvNmIdby+WBc9gTZWPZbPXryVE/g80TcTvHWGxLwgCde9JCYFPJgbNz1lOK89g4w1vYfYhT0acA28WQWoPYxCWj1ZJfi8lC0RPXPtHDy6obW8qYwvvUbH+r0U3309kNtOvTIdRju+0+S9G0u+PDyPZ72Cy4G9a0eEPZFoqrzwRnK7oSqjvXzhI7uyNFw9U635u3FQTL1yW0W8/RM7urYShz10Fzi8tBg3vQJKsT2S7RI8AzUfvZG/Zj2Bk0u8U/fgPYin3bx6vGS8l3rAPWNFzjyHww68qH7ivUjnwb2gFFg9b1IUvZSabT2dqiE8h/UhvKcaursPQmq9m6O9vY5PxrzqXye8OZ+yPLJxS70Gk3E9Wd9nvQ+ghz1TA5I9PGGUPK+JXL2D08k9kCWsPXS4yb2NEeA8Df6NvWAUAD2j3yg9FGNKPXwqJ70XZMy88AhkvYpbGj2KsF872P7BPXJokj1E2/W8gFEWvZ7QSb1m79a9imelPODP472PDIE8fxw3PKeot71C/369WO02uy5CHL1zYSQ9Z1h9vZaBVD2OP9u9i1Xhu+ZWUz1hiIQ8tJUuvCevgz2ARzE9lDH1u9tyuT1vNIi85KWqvaBzSDyLEwe9k7wnvUCGlb2UBz+8/DOIvaXN3Tu8iGw8t8xqvUNA/r1qGqA9lGe7PZC6Ir1tdcE7ETXJPRmETLwYIYA9XM5zPRpTNjw/bkC8rdQRu88KzD0dz9i9bdB4POJxm7y/MN48v5+gvRsDPDvDMdY9jP94vV38GD0wfzi8F57xvQoIJbzPkd09kNuiPZTceDvfGtY9SGvCPSRYTjz7nf29lDeBPTgvXzyWura9NKglPWU1Pj2UzDg8kQVOvYiFVr1uUC084NFwvQaxCDvtDHq8Sv2PvSmHvz2Gmsw9iaE7vUWwT7z1VJi8jU8wvYWmYj2drYm86pTwPQfHuz1aWp29loKFPaThkLzgwiE9YEBwvHOTCLyvX2W9E4OFPUO95r0U9qg9jT8GPY0TRbwaWPc9MimLPVdxij0XPsI9dlN2OktOwz2bLWG9oE7bvZrvALzWAM29UL1GvV17nr0WRRC9WU3TPY2JyL2h22k70ei/PYUenD2JbHe8gErCO+laZzqY5tk9FMGZvBxHmbvuywW9pcmsvTmgt7uethm8Gf2Pu/cveLlfFlg9LzKZvYQit72hTDs9WTgbPQlsgzwApZi70wNWvZJXHT2lolo7AJogPZoj4b0KwAC9BdYoPRDi87x3kG29ll/tvKKexr2DnCC9KhHBvYEXRr06j0a8KHk7vLMMtjvOYwE9E/M3vYQrC71MYGm8uW1HPM4ci72fIyg9CdfSPWRTrbwSvDE9k9s+vIUjl72KNVg9PABIPXytyjzAe0Q9EJYuPBsdqbx41UW9MCtDPONuMD1Lu588W3m0O/PsRr08Uws9npElvUtyOr0wO5o7CvGyPJG4h7wJDue9YR3CvaUJhTzXyoe8DajxPMoJyzzhRSi8yOR9vTyimjs73Uk9oYuGvZGBMLwaVLi9QH7BvTqRkDwrT0y9oDSMvPToWD057wy9bqjXvZBAmr2eoRW6BkPlvYZKF7ya25Y8z/FbPRhANr12nrk9WL6CPBT2hLu6l+m9F9XyvaUgUL0+XNg89oviPWcuMr1/PHA9dd54vZ/vpL1BHHa9FrBdvLVfD71F/AQ9kmHjvKjTNTzHg7m9TbLBvUgQ/72kZgK81FQuvINW3L2jLkc9mV2DvZh8szzv+cK9FTKZPQm8gr1OG0S9mfAFPZEpU70Cfdu9puy9PHB3bz2azsM82FB5vT1xTD2dLDo8zLkvPN0B3jywTKW9KQqtPOXjkTzCn+68ryp8PKmgFj0h3HW86uBsO8mAYbxCa7c9AFbwvY6dTb1nU0a9UQFpvEyBOzwL+to9o3ksvHWQ2j0btjE7LaX/vUvfWj2ezTE8maZ7umiaxT1qXKe8bpAmuxuRHb1srts8b63NvPMjNr04Tlw8+T1/vYXYrD1Qmos8xqUAvGlWfDwEv4e9lxDMPPvJh7yGRfq8MqrBvaHEdT0G+RM8+gPNO737cL2HC8Y7sH5PvRJbor1dQDI9ZzAlPYr14ru7P0s9MYocvCPXWT2WcQY9mbNDPRuuhD2KqCo9Dqo7O0oDl72Yw2W9S6SIPQgSNbyk5XI9BcM0PXONU71+sni8gcfmvDi1Hb1kJyA9XJoXPVxpMb2CCA29fbcXPYjWFLxbRT68azS/vFyz77s9jbO9h2StO0NFBr2TQ5a9ID87u6WgGT1jXnm9oIOHPZ5mHzwbYmm9n4zfvZGAEr1rzL29JM75vWvqEj1UwT47rNCQPZiJArybWLY9pklQu7GcPz13MJy9paeUPRcUIzvex/a9Oy6IvXyqGb2jsaE9gsUFvS2OyT1vPhs8uuTIvZIjkz2D9V68H+eXuuQgaT0myg89FZZtPALUFL1cb1S9IiNiPUR6hzzycwi9f8mfPVCbVz2BKPQ7utvsvWMxvz2K/zU9e8sNvaTEND0erCM9DxmpPRBTFr2XxW4873RcPO94Ez1IxGY9lVyrPQkBHz2Fx+q7xFbMPYejJT1YBiI9BUkrvSNNWruU09s9ijgAvJWYHz2I6dA8obLZvVY9mbxr/Mo9n56/vPgMTzrQZ9m8ufwfvYjWdj1G2Ny9IRqaPVrwr70aYVu9Eu8iPJUC4zxFSQ28P452PXyDMTvulYq9LIemvaVos7v+Jtw9pnKHPWH2nz0q2vM9DPDvvY/5GzwGzpS8/fphvRGXyT1jlBa8msTDPZseOruDBdg8a794vHdhEjwTj0I9JLv9vaAn7D0iS3M9bWqsvZpiK7uGqCm83bu5PX5lXT2S7YK7FtlaPX2pyLz7Gxs9itdIu84oDrtGisC9WBe4PQdl1byhggs9G3jQvYb/ETyjP4C9SCl2vVXWULy7Juu9b+byvFhldT2XkCu8gKIqvMaPSLw4jH88dFK0PUnFIL1TmvO9jJ3mPJnR2z1csP48cGKIvUJeST0d2yo9pS9hPL5xEzznwqo9gwelO4kxHToDKkO9E8QgPZUAjD143Gw8jwsEvMdPOL07q4e9aMOGPNyIJr1vypC9CmIyPR03U7yzAzi8r8KUvSTRVz0FDTg9nS/JPVL1Wj2CfVe8qD0IuzWi1D0NJPy9oYcuvL5I0ryYcqk8Wqm0vaAUtj1l/OC9ijlovP9z6D2jURe8YHyLO6WeYr0vknQ9nNJLvQ0s4z2Og1A8tV4vO5DPuTxNifs9kPzxOu8y9r2beyq8mqY6vTAZqLxFHjo9lx1QvUv55r0zF6q85Yg4PQtub70zMIG9ovI+PLPGUj1EIns855w6uQna8Twf3cC9cDMdvaKSbz1pl0O5g9LJvTY27DzS4YO82VNyPRmaSL2E+Ky9Au+gPTwZmLu5N6w9IWyHvI2JnD2NJTy8twRqPQwFHz2AtAA9VE33PYrMb72JRxa7+AWiPToMC72h4KO8WxifPJf90r2nDqu9GGvtPTxu3bzdCe69lo+nPIDLoLzopda8ByF+PRtEXb0JB/48+8rwvIbvrzzCX4w9of/JPKY19zvTUJM81wAePYwsQbyY6VE8grPzuyYDTT2gdtS9dZo9PNEYrr0sDmY7sELePZisaTywpUw9MgYLvXkcMb1GBpe9ZYcEvRXv/D0E0bI7FNK2PaLaeLwY1M49ZzqEPRFYyL1z63q9j0T0vObMcz2V5Y29A53wPUbtkb1nrak8A1uJuzy4G7y0zGC8z+WjPQUKbD1KdDe9oL5MvN30JD2IYCS8ElXOPYFbWb1dSnK87Fz5vSY0jzx2uGI86O1SvYZB6b1ImnQ9NTLrPYyEyr0kM/i9JFb1vX+OQ72eklg8i1BePYLWjDyLmdC9gMv/vFcpWjqd35o9j+HAvQOCgT1qZNs8RdjBPaP/fz002wi866GLvaRI+7tzGTW9T6N4PNsKETmGKR09lK78vS1aST1HAtS9fVR6PaQ5xr0dQd69O1VjvS1kvLz6aGo9Wv7XPWjgCj1TGK28grlMus8Sjb0wezi9XTVMPOETk71T2vk9m9UnvJxSZj1PDXi7dXmpvR8HCL2jAq09V7/APUoWZD1AwWy8hbksvZF3cb0hsiK9TkxMvUHYp71dkR+8QhKtvSqdbT0m/+W9R/EfvNQ7gDugzc29kL5XPCe1rr2XNxS9Va6CvZE507rsIX0829RBO8dmJT1lXQe8znn4vSP5Kj2eTT+9mBYfPYQe3z0JO6+9isXSvWYiobxqybS9dtC5PXFRPz0ExDE8U0t5vIRZgj2cD9q80IgKPZG5UDq4Yf87QWonPSmXCz10Q5E9FLhcvDKUgT0Ks4q7ca4yvI2nbj2Rl5O9gcM2PVAlLD0QZ7E9kaj6PYAcbD0X0bs8awlkPUMbrru23Ze9h5zdPGAIpLyBUxo9mIf3vZdajL2XwsK83bIrPY8Sn7wSAPg9hAJAPYkrMb0M9OC84Ty6vOLMqr0wrpY9SkmyvR4jbLzVFiO9L2esu4Qk2LxgjJY8MBF4vZ4rkLw7DA68qOh/O+h4ZjzyYrm9Il+hvBZd5T0CaCG7cvyivKis+b2FuJa9CbgKvGA11T0iCQ+9fpGbvAHd/T0b7i+9ihJtPZyWr70dKtU9ggnxPSIQij0sTPG8hAp9vYE2tDyDUmS8omu0POUnKT2gt9w8miFIvJIpgjyNBFG9QkfUPPHjRDveEGo8VXawvWgr9jwIrXQ9nbArPZNwprzbohq8IIF1PU1rsDwro3C8noswPWrsdT2ANVs9gMwivAxFe70xFLO9ERMqvVGlM7v8Hv+8nxbKPBJzCTybEai80D2TvJO+sr0LZX+8yC/RvYCSl72Yx8A9mn+gPJB2xLy63UW9UabQPT6Z6T2J81s8y9NmPVEd7b1Hr4w7ReOIPTIafb0p+7i8+TzdvY+A/zznXd48jP2kvYE6Z72YVG49RDypuyWMaztPQ2E9lhg1vPs5Er2knv29axRIPJG7pjuhZB47baaiuxHE1jwtya08+YAKvRQGy71SzBQ9k2I3PDYMXD2AAK+9OtLsvVEyOr1+pFY9PRtnvQLbNj2Hq/g70rmwvaXsqj0+WLu8A2b3vXHOLr1n7WO8+MbWueOrfbx9CbM84SsHPaNh8b2WMw083CX3vUALpr0v65M83Qe6O3uZLL2alrG9YdxaPLNGpD2MwLA9L73NvVVNcr12XIa9mW0nvYwQSr2dwHU9IgLdvLFvCT0cCIa9iDd0PEdRU70Wt8u9QMuMPSnfH7wQpxo8OGqHPW/Rwj1GtYa9guxmvNTYkzzUmzw9o36JPFYZ3r0524a8xAI1PP30YTzh7O29OWkxPSauOjys6SS9DSNlPIxQLT2SbJW9bARVvW0F7T16dAc9DSIhPTcG8jvN26E9Pil/PVaRxT0Ldae9n4sFPZI/kj2cizs9XvQ3vMBUur2gPlU9klAtvMXr0j1gVdq9dsh6vXCBaL2YVyQ9W+V5PZNecT1P/q89GhuwPZ0lErx5uzK9dWDXPP/9fb0G0ti9QD9iPYbNe72R0Bi9P3SzOmnewj0ucbu9S8JRPTw4Ozza4z69QAM1uKQIvz2f2l88zuSbvOUvhz1qgZu8vjyIPaTRs71T1e69dg+XvQADvz0l2H27leGLvI6blr1aSVg6Fxe7PPVhkzwqXrg8vPQ4Osh4aLzVbVw9POdEPR7+lTwpZoE9luA5PVfPWD0mwFo9VWTRPYhpWju7dJy8ilosPVescz2E1Rw9Co/Eur8JiTx01tA9Pq96PREupL01xjc8Rlj8vYUPyr14IlA9NGVqvNVMNrxXuHG9Ppv2vYOpjb2fQGi9XbX6PV/MVTxmL4o9Ym2QPZ7War0yJlu8v4VBPMf/bD1dOuk9mOIBvVGjo72LBUg6ezCpvZSPQb0kgAS9EgfUvK2fcb090Fm9iijsvXcHEL0id309n/tfPF/9lL2kRHy8LHiBvTrc3b1SZ2C9T3VxvZOYgD2ledc8umFUO3iG47zp9BG9JBJXvRdS2D1gntg9UljuvTKZFrz8BUy9koMivWd9+r12Umc9pdCqvZWhp72dXpy8o5e5vJ9Iwjzh9s69htsdvVObsT0OL6W814JKvV5zO70BELA9GU0gvYNTNb2NXcW9OZgVPUCpc72OdIG8lxLAPZgqVz2WoVu8m3qpPW0G2Ly+Gd87lDw7PXl5Cj1zlQ09nxaLPSyNPjsHdRq8DHatPX90A7ypB5Y9D+A3u38koL135no82N49PWYLZL0vLw69l9GsPaMxR708vPy9hlprvCpVnTyjItK9pUmwPYC58bwXQBs73DqaO+wN+r1wZ6W9lcMePTEwCr0YW5O8hRXKPYC4Ez1yvQG9i4YgvSzuJjqKoIk9TybQPZhxarzJTKK9gq+rvYKQNL06kVG9N9VTvGDaCDud/vW9KVIfvWouy7x6q1S9IuMovS3G9jug5IC9m1nXvAoCGD02lIA9gOtTvSq/9L2cpak8kimnvPJBor2Zg3A9n2OsvZrZrT14Ln29B/sCPXra1j0W09m8jqKBPSk1V7y8KEI9TIMpvAZJKT1c18y9eLoSu+xV1D1sKQA8iqqzvXEok7ultX29aj8DPZIaJjzk8p69Yfe0vZ5i5Lz4dNe8tJwPvKV3Er2EqQy9DoRLvN/MwD2Lioy9hGmzvaT/gb2NLhK9FYfIPYt7J71WC+o8cKZDvWz4BL0m0FO9Ht7hPSlACb0WT1887zjHvUQ7GT06t8G8eUg7PYym8zvMqZw7+KOgvZUFpLzdrSY86wGTvVmWsrz2tf49ZJ2FO//D7bxCAAW8VnSfPO/cCb2g+LA9YcmIvLRfSzwC6xC8hHSTPPvndDxvd2K9Rj45vIAZyj2P7z69iwObvZOHUryZkjs87jHJPYxgfDzax9q8rzasvEwmcDyyrli8qKVnvPXLVbuAcXY9onyzvTnpwD1JCcO9RRF9PYu1D717HNS9gD2YvBGGFr0yabC8l6LIPUMBab05WKu9WwYmvY+Rxr1fdW09d8SnvXtrnDzGLX09FzPpvCXUWj0zhWm8ryVXvaI4uL1h4wE9VNd+PO1kyLvuqtq9lUYPPOAmLbss2BO9JyMBu/WuvD2VxIu9WqgkPEbazzz3fpY8OXqLvK9vFzzSaJE9IZSoPZ4LPD2cpr48niNfPYJm1b0Rf8q9i+pAvNNrlb18b5M9kQUFPUxsbLuuXbU9JdxOvRYEN70Dg8e9dHLdvYa1bL1fkNS9HpZJvLGxIT2htec86PH0vN78wLwypCO82FbdPOUKYTzxsq89Jwydu70MSb1NSpS9pnqvPJ91yj1V/qW8bZ1TPEn3q7tVkj89OilmPK+HQjyO3I+89hr7PQWatz0Y+iM9lz6qvTAUez2g8R48VmElvH01v72TSdw9grgVu0xR6r13ofa6/Po6PBincj2Wuly8LquPvI0GcD1dnES9NRSLvVXVQz2ONjK9jzboPTEJSrxyejK9oGSfPCHP+r2i0gA9acfgvRd/0L2i7Aa8Ysz+vSmyp7yrXC49Z6GuPVKNgT14/ZC9fIWxPVdNJb0f+7y87kH4PZLbpD02ARM9UbhEPY8Psj08S4O9UdIpPaIabz2KCYg9Ca3vPYG6ez2NOQG9iZH4vUfgJr0sWDk8qA8/vIlIjLzz0tw9LRhlPYYGMTrK8lU88/mvu9aE1DwudCk9CGKUPaArYzmYn6Y8AvohvRdGprwn+mM8rSNQvZiUF71YYUs8n87kPQC9vr2GqUY9Nki4vZJzBjwISrI9nMU7Oh1VdDxNPY89ZivjPZBeqj0T+0c8t4qqPR9zVz189148iJBiPYJbJjsacBO9PXYQPZPzYbuBfTE9Ag91PY7VdLyd0+O88h6GPaA29D1Tq1683mfHOwsBDL2KX+E86melvXTHPbyr6k+86R0qvWw9Eb2enxU9lOAWu+Lcbb0YE/09eDMgPZKvHD00R7e9K0O6PG6J572j2U89lq1jvLgeMLzbQW08sj/fPZwjCrye/N69B0oiPRsw2z18F/E8yO7MO+aVRzwLBFq9gKzNvZ5Kyz14IYe9l4NXPX5fnjyqBKM80eEsPaDlmzzc3zA9R8vZPVwHqT2dSBE9cHT8vKqsjT0fIAI7MNM6O+AwXbzRBGQ8R5YnvKqYOD0/HKE9D7HrvKMLsr1a/nw9fXZ3PSIuOzxl+zS7ANSWvZm7gb0Rkjk7yEHdvIwPwb14U2o8x51cuZ+3ij2Nbpy9dHQrPZdPvj0HwaY9Edo3PQSJMz2DBVS8g70hO8ETcD0eReG83KlxvJQMTr1tuVS9WDAKuxzTyz2J9kC81fmtvaPe1b1GNfO9VBaRPDYr9r171A29EqfsvPgEvL0N9pK9jyC7PIJNmj2iGAU8APXwvWx82L0ALIW9m5hyPIf9Eb2RVea9gb3IPE+X2D1H6BK9NScUvZwYcb1GqJA9kM2tvV0hzTzeZtc7zGVZPPmo8j1/lSS6/aB3PJiXyj1usuS7NLtFvWVCr7zoj+Q897WzPS8Oxj2OOMW882MPvIZQsT2fsgM9BIWMvYAdUL2AeI49G9MzvEknoDut8R08N6GhvXzR5rwcls08lVsbPYwPKL2JLs89n9HIPP7VYzzYqr29gjRxvYlRbT2AON08wnsLPUSkCT2MzYm9PL84u6DNJT1gNia9kS32vQVp7LzUw4i9bg7MvSxe4L2Q9fy8xwC3PYAhUD2iAjI9CXuGumVd3b0qlIS9SDjcvXvUXjwqJ8U9enPLuzuLJbzusrU9NyuBvaNIYD2Hb0O8vPTavWKe57yOiWs9D1rkvP8JtD1eBr+9P8JkPaH/Qz2hlm+9M1zPPKEAEz1Ewz06EB3kvYxeSL0wPWu9KFcPPZQrQ70tVa87cQ/LvR2nLDyfAUE9llmkPWDoV70R4k89RgLrPTY6sL156B29Ny92vXB/Qz1c9B+9ex/kvSWzRLyaefS9ogg+PZkuBL2AIpy9V2QzPFO+7bwJzH49UDIqPSfOAD2O7qy9Ps9HvS2Ydj1NWh29RhDhPJAb5D14bbC8TA4RvXlLjTyRuYG9kDXcPUfNur2FZfa9j4JQvUUCZzvxg369OsKSvYGDMb2hbRq9UI0SvaSPBbu/kaW9F5jkvQIdSbwopDi9n22GPXcjGz1c7RY8y6VuPKh/AbxgPj49TQP5vVsp1z12CPi9FpsaPZXpUT2SavY9lcFtPEOhID0813O9FGKePOaydz06F1o9AZOIvJoPEzwV/MY9nuqdPEWklT0HlXS9nWZpPMmoCj2Hd6e70uP7vXnYpD1pXW+8p4H0vHzf2r0+j+28lZMKPEw2XLydmDg9NKVjvZ945r2YS5O9B5tvvNvTer1/aAe9nOa1PZawNLtKyda7ieQWPRMwRLzmBB+9hEwKvPfBhbw5JGc9oabwvYe33L0cGeW9mAHRPSOiMryM6Ne9ZJCUvZcVuD2YGA08LOz6vZXdMb2IlFc9nRC8vWkQMjyATCE85875O2jRpDzMUw+9GC9xPZES2zsv0Yo8gHHuPNmnuzy9OAc9EcekPTcVtrsmei+8UhJYPWgWjT2ItX09hl4IvTfwmz0auFI9bVGIPS6DAz2BLUi9hEn1PSLgXD1AggM8CyjkvM5JJTup9249nB71vHgNOr1Dijw9olvfPYaFWT1DUsa8624GPYnpYz1M88k9PNp7PX+C6b1tA1i9Mc81vYzmMr0xAvO8K5AhPZHLJDvBUhA9VUZLPNapBbyUtCI7k7gKuppecL2RNRe9g1IwvXFZdr0CCaa9aCrPPOfpaD0n3r88ypYHvV5fNb0ex2i9g1ZAvIDKZj2nF0a7lwTfvNELIT2T/ts9HHLVPUwArTt5X0K8oOlBvQkYvb1LhYc8UKz3vTySAb06t0E8ZZ8QO6HDur1cI3Q8wLEIvGoRQjr0i7w9FhTUvaIx4rywDOE9CiW8vYXTeD0Dm6G7sogivTj//z0Zl0O9oKSpPXbWJDwOe5k8YCGLPZ8tH72SE567zuaLvZaA5buLBge609r5POUX9DwNyA08bzJ4vMDcvD1OYdK9pmNJPZC0A70HMBa8rwnovLrXyDsA2Fc9BmEdvTJvUD1a5bw9nkzyPJknRTyM0yq9aUwyvZmh+Lvkms47L/gUu6MUnbz9Zxa6RHRGPW5d2zyPP2W9K4rIPNWmKzytLye8nU6Iu2ZTJD0zJyM9nIOBPVhBKr01IuK9prfQPRuZoL1QWuu9o1qyvLXa172byYg9YcI2PWKe57zrNRO9hRp+PKGLab2FVKW8hUABPX14+j2iZAM9kLt5PRqSgj2YJ9y9aBZzvZuDtj1YzSU9MuNTPVyCfj0+R9c7NSt1PWTwb716eWa833wqu1++Djwk2fk9fB1ivTobnLzaf229pp4hPZ4sobyOg5q9eq1hPM1mpjz49WG9kjzcvEgpST1bBeC8rb2yPKiYLb0Nnj881GnHvSkit72LySy9OYpyvIkVZD0Wkf06r/R8PVE8Xb2cOD49DDvgvUBNErvSKQE9WvrPu6GG+z0etiM8wiLYuxS+9Dy12pM9kssUPKOgA72Rtya9numdPNqGJTzzXdG8+C6/PZk/fT145KY9BEUDPKhtP71rEyO63Z4buwp5LjvV5cY9Gv2NvQIXfbzgOsE9BQIdPJ/c/70DQW69BdJXvZPhRzx1oZe9aVmbPT13rz2Z+rE9Z+wSPXP6zL2afnQ9Wk1lO/+xjr2eDTM8ZCb8u8O3/b2U/gi9QI+ePZAERjnoPgS8pwoXvD3cx7u+Wb49kRFPvW0AoTxlQjq9o5ofPVqnyLx/CcM9aDmZPVy7SD13KCm9QDvdPWn/Wz2Tn/W6/Q90PZY4nLw/xz+9eS7SPYaGGT2RUmE8heJiPAtfeb1dtow9mLuuvSAWwLwfgIw9obd3PTmXybyJExG9npaQPZczVT0dCcM81bfEPaS+l72H7XM9pb1bvXuCKz2BtsW8+ZqePSfW9j2BwYg8oP2wvN8Htj2NJ3+9E1p7PVgo0Lv8KwA8WqepPGoBvj1wlg672/EePZD5B71l2Zg9eztWPWA4HL2UFhI9XiHEvZ6QgL1uQLc9Nm86vUKQxj0zHpW8f68lO42/Zb2B+WU8AqUsOwd8nTymbrE8pq8tPYyy6b2GWGI9mNY1PSVU7j15kD89PLo9vAYbxL2bMdq9J7ERPZvscb0YgLy9PsFjvDkzGr1gqXM8lDXiPD4Gqj2bInC8evurPY+8WTxwMps8C1O3O9LZ2z0dnDk9khSmvF+ylT062729JXMZPXrFWD0AEag9RRTgvX/io72Zm9C6C0ynPZHE5bxIeD69Fk2RvaH6X714IUM841ULPRj8X71Elrg9pAbzvIisIDxe5Vu9N792vYrxSzyZsgM8V5JaPVEnQb2fMri9ZIozPQ4WDrvEDY87pCsKvNE6z7w6f3W9JC+yPZj4Xb2OJBq9BLS7vNGICL2D39062xDoPZZpMzyi5Vy9fsQGPZKWtr2JZeG9k9FyPNZT+z0ltcy9ppbnPNPiA72mhme9gXu6vIcLnLzL4Sg8Htf7vKgq7b2cQDA9oh9QO597SLznieE9ikOmPTsUJL1E1D49ZNxRPLD1az0rIJO7yRrjvEcUQD1rlSo9kwbPvVtVi70wJQc9neHAPYpsb70r6lq9h/rMPZx8MTzmmJC8oVMIvXiSgzxc8X+9ZedyPVWatb1sO/e9RU26PYMWGrylXew9F7n9PRZyyr2A+Za89jiZPDOjirzDlz+9dG95uyqMCb1ZP9K9BacZvL4kuz1PIzi8xUBbvGGXNz1CTnk9OWh1PaavdDxQM2669nvWPSec1j2Ye9w9k9TNPSCzNrr+JWS9W79avZ+Bcz0yfIU9LdFsO/KKu70A1OQ9k2x7vCGOC72j9FS9ZjNevDzwfDy3FHU8RrOTPR2dmby5Zr471ClbvYXRBzz1qZK9h6TzvG1k/L1UjyQ9iPhtPAl2Jr1FukA9QD4mvYBBwrw3wBa9UJsVPSyQ9b1hGMW9mox7PVJ1rLz0hIc9AfcOPEGo5rzIWPg8fMyqPGCwrT0ELJI9mMIoPFsY8z0dKnQ8X7HOvHlsZz2SoNM9WVJqvTiZTr0m46g8S2ZRvA7H3Dzv1yO8euZRPYSmpr2MR9o9VnJAvZ78E72Np4k9Ye4ZPTC0mbywQyI8g2eZu+/Y9L0MFMc9m5CrPTaA6jyOOJu881TgPK+txz0ba5g9i2/IPTD6Pr12csy9k5g6PUNJiTyE97S8uOX7vYvZtr13D7y8bfK7vGiFaz2ZSjY7v6KhPLd/QT0WGHc9mDf/PRfCaTyO4Jk8V/EHvT5jgDqRRHs6iFsxvKVwIbs0B6Q9ob/jvUEavDxSIPa8jXMIvEPAZj2RrgW9otHXPHQHv7uXtWU9PeooPH7oAD2Z+co8z0KVvJq3ajzi4JG9i2PnPZVfej1QE1w9K+YlPQDDdT2et4q8z9FuvL7E2Tzz3lU81JhBvRqf3j2kQta76afPPDwlNz01i3K8c/XevZMrD70JUCG9ctBTPRb5TLzuvk086zpxvTb4CDxoQkM9bjqfPZszgT1Jr1Q8kFp5vS5dsDud9fk7sQRhPKJXdLwWf0q9pQ13PLSmY7zDdAm9oi7VvYt3+rtGhgS82sO/PRSolT2FGUO8P4ZrvVpms72DIoK8qNqTvIconj2UTxU719TmvUA6KT0vgIM9l6jtPXZk/zyAJIy9RJ8hvI6ZN7wfs7O8YFOOPWxr0DuZeni9UkDoPO8dwD2Khfs9h5olvQmFyL0mI0U9gUmLPYzfcb1lLHo8pP7nvJDLSz2LoY+9k0usPJfpD7zBXUq8lwgyvPOQuT2Pb3o8ougePSGsdbz1wUq9hPuMu5dwUruRCR+9X8SmvUozaDyPvly9ahKju38TpT2Fryu9Fm0lvZRoWb1ANhu8gO6xO+Kwvj2a/4g77m4vvT/8vTzwthA7WaewPA733ryrkRY9bfk2u5A3M72Doo69BpvfvOjZmj1F0b49omW7PRtUqb0bOzW9U/djPaWvwT0zGuE9pJ0avZPuFT2hhO+9l/kIPZDFIzylUj89M54kvTKn7z0fauG9oHSavOq03b0w3oY9jxtXu5SfhDpyfek9h5tXvWqoOjwJ2lU8mi0ZPTWCozx0L628wJE6PPYjqLv95xc8BDIcvQRlDb10ddU9ppYIvDbk8D0rpEy9jPQYvQZz+j0B9mQ9KsF5PWQNWLzUKO289LNlvUynBD19QQ49oB7nvSaPcTy4jW+7wysQPBn9zjy+X/i9I4qEPZIvXT0ifNw9GX5RvXeZJL2OL5a9KfsjPX+Pd72Ewyw9ghznuwFAhj2BBPa8VSWIPS5f4b2NEoM9kT0KvOn5yL2X0xE9oc4TPW/jmT0f2ag8o8uDOoehB7uLK5Y8dFr9vQfIy7znHac9lZNuPWfSOzyqADs78r1avR5zlT2U/0A9GLkQO233JD2jYte9gG/PPSoZ2TyDQwU9o/BxPRlyIrz5vS29hZecPSgUHj0puRC7Tc67vVGFtz0oIFC9kGPjPVLbhT0b2Uo8qwgkvFki2D2CBH89gV9LPRaf8zw33EE9prjhPW2Btb1ZD5a7ZMbQPHDjdT0Uim49lF2GvJ93E7zKh4S8NafFPR1/x7xvyIu9PtLsPTT6DLz3Gle9k+2wPTDWFb178Tm8HD0HvIEI17w3a2o9LJeNvTvcYz0NBf29hABAvRo3jbxZlaW9l23jvNpaVj2c4s29lUcLPUpGLb2WHIS866n/PXWTOL2GftM8ViKlPYQAFL2Fu3k75fNyu8QEKzxLya+9nIOiPQ7wTD03zaM8ysTLPZLZor0Z4cy86kDMvRaZtz0vET69Pmw6PGzznry7mSC8FPLNvK1z4ryhn0Y79EvOu2+USbyZMfe8hlUqvNC8hb2PLlm9EifrPUGa4z1ZN789g87kPBpA1zwoKhK9L8vIPS3NTz1swFS6RRwlPXwOgz0sena9IeayvXK6FD1N7EK9IMHRPYOc2LvifCk9bDhlvUTryT2bRYC8ksOFPI5G6r13DGO9oxKDPMdY270hMzu9jCFvPKbsGzt298i84ORXPZWLyL2icxW7fYzevWxpGz0Cz+o9kptoPVu1171kVSO6vxfoPYqdYL0GQti857ZgvY+crr2ZRyI9kx79vXllJT1eZm68xIY3PWmKwz2Glb08z4m4vV0BCD2JfEq9g2LrvS+eCjyCdXg8wZhYPZtUiz1960y9kvigPJ4oSz0zYbU9Pc1TPAhc8j2Xg209dKpnPOk9Iry2tM68ozi0u+fZl7xioxG9U1XAvAgNF72Jv0S9II8AvZAg0z0dEho9eAzFPYwW4Dxt/+u6v2qJvMX2572GGOS9mrO5vYpIvT2Wb/89nUiyvFf/ZT1nVu69D7oIPYG89r2gLzu9T+kWvAozqD2alPk9WAL9PTm/jDzV0N89cr9dvUxfgzyUw2y9I0KYPUmIiL2E/YE8uvjZPZLfYroDZGW9iDe6PYKQBzy3YYm9LSyvvSyNejh4lRg8q83GPXgKsr2cKGO68cimvTvsLTyKugO9dO7HPXwVZD0TZGk8nXFrPAUP9Dy3VH49HDWLPZGs+D1HcOy8xl0mvNKTyLy85qC9g/+TvTN7lT0heL69aMdAPQZKlDw4baE9n47FvLpYND2M4bI9HE6XvBPHwj2HdBe9V6aKvS4VPj2IBDU8Wwp1vWhFmr2Wcqw8tZ5cPaDXBD0xkNY8Cfa0PW5ImLzT0ei9LhycPVOMZT2hePy7+mDIO7oOFr18TQG9nVdhO7su4T2Xi388nsltvHHMSLy3s409FgncvTvHgz2ZZHE9dakFPSKrDbvOKCM9M2KEPZMxtj1K41Q9Xpd2O3Ke5ryHAuo9l8DePRHXfj034aw9A1cYPCxAALzOf6o8bskavDG7Rr0BEU29bKVQvFhzIjwkuNO9KJDBPGOFUT2i9oS9oLyMvSPeATphoZW8gzRyPSvL8D1Mnue9WawEvUwDIDyPunu8w0nnPU3BV7xZenS8ty+LPOd9Cr05SZC9QQZlPZYLEb2bk/y9H6qGvSFtbzyar6g9YQFJPBYBtzw13wG9a2CivaMa4jssMvs9MBDpPUelaTwu+Do9g45mvN+48z2GenG9gzPUPYneSTzUBLy9MC/dPYVRoDyE19K9H2nmvNvjTLwgWqy9lsRnvWX/Wb0KFNg9d54tPYS0OD2ZXl07pVNuPT79Qr1v67a9pcBbu6SoyDnha149FEuKvaAmBj1DKPO8hx0avQB13Ly4iyA82NEIPURvSz0Rjks84f0dPY3P6j0lGxK9ZTDgu6r4jLxrHkG9EtItvTlEPb0Ucq685edDvHRlsD0yhMk8Xn+0u5SiS70Uu8q7DK9XPFJgCbkZPwc9eJa3vClTPL2IZFS8rvhvPBDaij0wCva9o3V6PI8VU72R6OK8hrf7PZ3SXT0NGMW9mcfLvJ1kKz2Abz69ThZuvSfDO72lp/W9lRkqPXiCU710ABq8qbq/O3seszzID0O8zb0YPTPZdTy/Dia80O6svOcisT0S+3E8O8dSvYQbij1Sxvy9jti/vYyVxLsJBtG9eaopPXwqfT2Rok27bsRovaJSab002WE9RrmBPJ4Mgj00E4s9H4L/PQifGr2eolK86UAsvYYJBL0rb528kG2PPSSo4j1tpRe8C9dgvE4P+LyC1E68STCGPVgOIL1EALo9oyREvNrFvz2kM+a7kABVPKeAXDxnoSs8xxIrPY2+bLwiwd07kYOZPOTYAD2CPQu9RLTUO5BC4Lsbpqs73nOzPWfkFb0iLVo7KmSuvVKzVLxi4i69UY8tPREo2Dx3qqM9Sy7wvVUH/jxMmyg8i5AzvYYkPT2JGi88NgN2PY/i47q2mWm7G0tiPWujZ71F6jU9oJ5APY5rdL2KxOK9GiWEvYecf72blIU9dGMgPL7mJL0ovI+9TD8bPFgvFLz9I1Y8QwNXPWkqBz2Y5XY9nqTnPFUSWDyeZsu81S4FO5Tdkrzo5/48wwfKPU/b9j0uIsS9kNw9PXCHnbyJqHw9HPFZvQcgOr2JmbE7r/OWvYNoNLvUh1U9Pp2AvYnFLry/h8m9KqMCvR1IUz13no09Vn+XPUN4pj1vl7U9kKzIPY/bRb1GLfc9hQzTPTrErT0YDGI9BRTXPL0ReL2L8Yk9FZrLPQBQ/D0llWk8olwRvMfHBT0J5bs9kPuGvTSb2zvjqA89RxQoPQ4ozjwh4wq84ws2PZ68i7xkTEE9CFeuvX6HcT2JfN09VqfTOuPokL2HX5s8QdUnPCc4oj2FSfq71cDzvZzqKrt00u+9XQzzu60FOj2eTlS9pfajvWdtnr0M4Ji7x9x0PLgExr2ioTe9F3IJPUJTRbxXF5i8jyUvvSWvNL0/4Ei86gKfvaZsv7yn/5e85yuIPWzVW71qd6O8YZGUPX0Q6ry7WZo9OtZsvSTaO71QPvy6/52iPWb4+zuImNa9hquDvU9TV71i9Ek9AEEbvWD+az1n72481LC7vRZaHz1yJn+9dzpRvL/caj2ENzU9nlJ1PaRymrxM5fK7hxBtvMQ5Z72c4Py9ls6evRKIdTy3gYW9m5qlvVY4ML2VNOW9HuF2OlA9ZLyCyhk8nl2xPX+BI72mG5g9oW28vZxdAj19fXK8rGxWvPbDCbyXzIG9LygJPPkHbL0CoKE9lgomPFDvLz2Cmmw9JlD5vaVJbL1GKVo8dO6IPYu2LT0kzWE9Fn/APQvtdD0iskW9jTLXvXLh2jwpvFy8ET8tPUVFfbxAbjm9YsOSPWfzyj2AhWW812ouPYtR8j16lPQ7wXYnvaC7dz0Xs0u9pgufvVk58b13O3O9WJM5vVM8nb0u6xg8nsgpvacBXTyfp6g9DaQ/PGkUEDy4BO89jMt4u5BmUDzCj5q7o+D8vDn11r1+pam9pNPBPaYMHD2eGce9Oi1JPPX1uj06RWy9pA/5vMNi7r2ECAy9KoDjvZ/VNT2froA87Nn/PY5mIr02Rt26+Jr5vImANj16dU69Y3fTPUr4l72dmCq9pnGHPS2lozxduqS9NbarvVSVZj2MgBK9jL+zPVmqCTzz/Nk9MU9GvXwR/LxNL9e9bu/YPCNraTxd71i9lKSWPM4xBL1EMIE9fVY3PHl5BT11W789MPlRPLK80byEqbA8Tw80PX8dNb2R1309ExNNvWs6Wr2XRXa9KjNKPYWsAD2Y/c29eTwUvLFo5D0ryLQ9oGK9vYilIjy74C876XtkO6fLubzQGMo9LQPPPLY/Ab1JY2w9fNqbvaaxGTzRZCq8o/4IPYxx0T2e7eK9JuBmPKzy9T2mqUm9lA0zPRiehz2gXxY9gVfNvSh1Ezz+YhO9YNESPSG/xz2SILu9Nyq1PYczBTzR8hi9dM/kvR8BY70gOK08mOkiPSo0CT1Ebhk8Wt7wu5J3E70PcdA8bQ/9vT2hCD0hcMA78T/4vWX4cD2M5IE9RON9PJycnryWcoi8YpAqvUGLmzoyobC9pT0zvXNXjD0LFkE8gmLFvJ5PR7vou4M9PJcWPZndLb2CIy+9Q4MXPEEZ2bzW2Re9cJQtPQ8fdTwJhdO9aktIPYcB5j14a1Q8DQl7PSLUvzwxZJC8hA86vYe0gzzWIh09Z02kPXx2UryRGCq9RoG4vV9AmTzeC1+84l5bvMrVwT2RE2077gjbPSUCo70Sle69RGpsPF+mfz1xepU812AOPVPqE70Ctro9CEiyvO6yq7zKv7C9WGAPPUVpdzuwhG+9eFsqvaDIpDyQiP69TcAIvJnlOj0jhQm9W8MMu6JSXz1KJq682zyHvUs5471Hsy69KFQpPYTdwD2iv2684rCKvSZyr72ArqY9PV7LPBY4qry8HXY9N9MCvPYMPr1en9280fP5vP3qdT0SZxg8QKoxO5PXjzxX/6S9WXDXPRAwlj1tPJK8NNXuOios/jyVYwe7Fh8HvL8Ls7wvpOs8x18+PYk97rylKxM9nHc7PItHc7v8gwS9mVEfPRogwzykN9E87wTPvQ2OcrxzaLI9GajHvVuSkbz6Tse8a89PPUPjJr09c+49hrpEvPeE5T1JAUW9CnGBvZFNSz0ccto9k181vZFCFT126Qa9Rn1pvO5ODj2JCGa9MdqoPXuEO7xh9JS8fkFlPUf4R70sbic9oOEfPTIZQT1ArD69UagXPBafGD0TuwO9dGTzvYnEkDzBQR89ftAKPHLg1L2aYeE9GG+huo2F6jxIIKI9TvbTPVHyJbvzxdG7hqusPVTevTygmpC8snJ6PRKLyT1xyoQ9gt5KPZ2PJLzruYg9dGXpPaT96Tytm+49RhphPVVXHDuvom280NubvVxMUjyoagA8rnnwPJCEsD1aHfM9oJC2PV8UsT1JI1e8668+PYRMNT1rlGs9Hxs4vN6Mv72iesm9jMqrPZwYErz4w309P7trPHerPzz4jyc9OaJ7O9R9yLzsWSi9IxDKvaDxpz2eCEA8/tucPW85Jb1Pr6g9g8ebvYL1Bb0iwSM83YXlPWPFxT0qRtO9mUt3vXk+kbyeGlS9NduZvR/1WTvh27i8aF8LPPO49T0Z35g9koq0PZ8cbDwXHNW7Qkv+vWvq9b0OkSI86oEUPXkSDLb60+g9PUDhPJSY2D02zqW9RNVGvJ9NRbyby0q8Q5WIvZF1szxqKU49BrCVPXagNrweSqU9o5L4PKroA72GRxg8KSCnvDEc/703+ru9JZzsvSjdWrswHp69pDdpvY2B3z0f47g7eaQCPYuOGj07NFK8Gg0IvZxFrjx12WW8TsR0PUaB/jzdJ3c8tL6zvY2xZb2MWqc9c9YYPTJ7kj2jSok9SzgnvW90DjweJX88HjqFPY0Frj2P9X681SQ0vH9jvj2bnCi9eGkQO887tDzOpRo65bznvQAt6z2AgzE9EpyovZ90bz0iIs0840mnvHg/2j2hVWa88W93vKlKRj0Xhp+75juLvJiccr2HIIS9OxlBPM0PnL14g/29SK/bPYSSZT10gvK9B+5fu/2S/j2GMtO9Ws4WO/PGYz0GDgm9jRu1PYUAmb1+hq+81hcCO+enITrzliI9b2+Wu/brNT1etTm8uA2CPXp3TD0ECmO9n/6YvNHVKz05kLE9G0HPvOBC1j0GJ+s9iu6pPaEv2r2W5si8C0pTvaMLWDzL7oy9KeYSPVqHzrzZBGk8jeHvPUfUsDyCEcE7/3v+PTniBD2UAFG7zmdVPVyXF71Xhkq9i2SmvaEJ/LwU11O9cZLvPKda7bu419G9b0WJPQj0Yz2UmeA9kmMRPXMc6j2INGE9G5O0vLsqJb1NAVK9jw3RvPlTkD2CJuG9k7hRvSmuS72Vv8i9W0DrvOxWZj0/yq29jOAKvASeLb0SXIi9V3PbOr6C+j2fy8C8tpV5vVCwdbhDD6A9UROuPYhCtzzb8kI7fwaUvabdJr2NuDe8V5V/vXmFLDx1B/e7JvIMvV33aL1Owti8pHOrPZ7M9b15/Wo9gFkhPZMT5D2EiH+9jc2cvNSW3j2ibwe9lM6CvZkd4jzmq2y9pKksO6mRNb02SM29lkILPRCWcr2KWeE8tBLJPAQQOj2Kkqa8KhUcvR4uzb161ZK89wJ1PL94072MhWs9hJ5UvabasDz5vSI9l1hXPU+XQTy6Maq9SMJsvSzsy72IX7a9ItcvO/5jMz1ERAQ7i+FBPU45GTzpvne7nI1UO7wltb1U+iI9DiteOse6+jqnOOs9P81nvA63vDxeJaQ8LL5QPXkQ4D0xkva8tdkgOtiyaj2aa8E9cbebvX217TyGTrc9cweyPLogwz1TD7Q9MgQrvaDm3D0zT/M8525svJCyEL1Ou7068H8cvaPTPD0YGYA9OpQ6PPUBNTx0zhM8jrdtvT+pQL0XZVS9oXZSPROUJTz+uA09MQpEPYoA/b196b89mB4svCPaqDpSLnk8AWslvL7suz2Fo9s88ElyvRl5qr15q+O9g/L+PTI1cb0ygjE9Vy2ZPW0SMb1wAIG9nL9bO5Y6DbyI7xQ8oGzNPB82nbzyzqo8ov7LubHQAzup1BS9OmW/PJGN2D0XKRU9SxIqPXizKT1M+wg9m3P1PHl2pj0g5969cSO9vQouFb2UpA+8Zo5gvXK7aj2Nzeo9pP/jPIWrrr1KSiU9n2ZjPWMDoL2Pe6g9nBlFPWvh/T2fcNw70yqHvWwsdr2kkya8+g4CPYD8HD2O3C47l5TmvXhcH70ZT8y827qjvSVver1OE3A7UByRPSIJrD0fE369hMrkPZvxp70/Qsg9jxpJPPGDP7xbXs08QRSAvM7cUT1rmoi8qVT9PBp0pb1UtaG9fWS3OtVC4r1joK69gbywPZYp/r003yg80sQePIOf5j00gmQ9LDBzu0plkr2FX1q9A9YaPIn7uryC4Ro9mHTlvYZSjj07ooE8L2MwPWuAZb2LXd89g1Q8vQ6Zxb0jyZW9D9dQvNn4Qjy7zt89Ll+oPZIGVbtc0X07D1LovYQ62r2DnJc8zwbRPT3L2L0cmd88zAetvBB6UTsGFAy9l3YNvRiMLbsfFjM9V35EOqLP3r0Vge+8xjEkvGU8rL0CgRi8ydoivRVFsr0Hrbq9hqGVvQnA9T09mWC9OacDPRTJ/z1aiA29llmVPZQ+4TtfuFc9i6OyvQyyCz0I4gu8jZ7hO5U7ObyIkZe9GiO4u2rFqj0CvOm8xTAMvQPEFDxQ3D077s5JO45HbTsyvKK9YwbXPLPlx70pDj08+/ipvaEWfb2GW/K8Uq8yu4iZKb2SVWo9N4ytPaZ6ZT2R2+E9FgO8vSjbsL2k0du8l1SAvEVh1Tz9WNa9aJDkPPag7Txs4MG9YKkAPNnvpLwNe5Y9YhnDPQaw5j0yDve9lpJsPZt1cT02+ns8D+savU9inz1Jvq08+sNVPU8erTuBvi+7lRQIPYztjL2beIC8RgaPvM5fdL0vbf29S0+mPAkl4z1ln9E9c7OxPU62jr00GmE9aTyXPFF6HD0yAhM9pDIlPH0L8T1PqjU8klwnPYXtNb0FgKa9gbXnvTm35TzRZl+8LMFBPZH52j0RkFC9YKnUPMlEGjujlM69RwslPXxcBT1ArKI9MienPV1Ikz1pqI28duDXvWQ5jLx+q6q7FRSvPTDnQL07mQQ7+phNPCT9SjycOoQ9RHJQvUzB6b1Q5eq8ouRsPYIq+j1u7O89mNCivVRe3j0LrsY9beANPADX5Lyc1DM9hkVcvY1Pojx7SL+9cdqfO+KQAL1GpOk9F8y/vGiHYT1ONfy9kfY0PM4oRz1GHSA9EovbvIUs27xoLWc9CRz/vYZFpDxtg/k9OM4pvJoJYb1ASJK8bG2MvZy42zykkoO7+t5bvYFCa71wipI83aa9vSZdOL0dlYw9hEwYPPRChD12A9W8ufh4vXmW5Ltrwp29FdWavWuQIr2iz2+7DKj4vFdoyz1YwYc9n5U9vFDjl70AZpK9QoGuPNudSL2h9yA9L8XyPD5UhD2Azd49i5+pPYdR3D1KZv89EKl2vaaQ5rx0+eG6gbaXPXEfujz/Ulq9mJlfPW2fJz161oI9C8awu+MvOLwSK6w7eTyjvNvjZjyPpe09m3W1PQ6Y370QLwk9I0ETPAzIPj0NWhQ9nZdwPJf0Oj1UnUe8pWlKvaUhFr0YQrm8vLSivGl3Gr1W/uI9ofLJO5gUmrzyvue9Y5L2vEJDoLzNBpa9jyaZvOFJUrw4SmY7wo/DvQ52Bz2jtMA89Df7PVnBQT0twhq9Yc88PaRr7j04TVm9mCRzvWej/LwzF+C9d2KpvZeioj2FqHw9a/DrPY4kIz2m48e8pJ7hvW8fBzwz+1o858IiPIddsLy18Rw8/j2ePZ/Z4jvqrDC9RH7rPEYVyr0W3pm8s0b9PB/t/704E8Y9h3SFvQIA3D1NTHO9g57ru28JUT2YHIy9ioDevaWhpz2k7fW8nZacPDGKKby2hE486F2tPZ78Pb1lfcA89wzPvIO9uL11CJ49oQ/2PD5CMDy0rQa9TG70vZNujT0eMG09pbliPMY8t7uE+d49BAIkPZStkj0Yj5s9K8bgPZcFVT2cq2Q7+62qvJmT7TzPscU9ggUOPV5RLLy7HtG9P9iZPIl3MD2UOT68pnWIPSt1dr2P7ao9MGuIPDzJ3b0HU3O8palTOowtWjwShjk9jjmkup/LIj0QlWA9GhUBPWeRAD2Wpti8mFPmvZN8i7vfhY29BcLwvWmbFD02olW9kbkzvPBoiT1V0jM9n1DFPYp9cDy4vWI9kDzSvUrYqr1oT5A77sXgPKD7yr0bc++9kcD6vLQ7WTwO1M29YTO8PZa3nL2bUrO8qlyePTbOwj0CFc68FAAZvGgf2T2bUi09O/1AvNouC72IYZm68IiVu/Z5Oj2EU8y3mRfWvJRlQ72eDDQ8/RjTvQBuqr2b7wY9eTuovXvM272A0t89n8u/O+vMAbwJE629o2v6PMdOwL1zivC9CSusvTjg8z0qmNA8iV8APIvkdjz0GD69gnsOvUzebb1VatQ9WpSTPURnCz0OiLe9O0AJPMxOWDzbIS29ABkBPAo6T70Fq7M9gKVHvPA7Hjybet28kgTzu54Bu71IF6k9NmX+PacpMTzXe429jUGOOqmLVD2JWfy9lh28PRiHIjwOo+89KkDtvX5wpL2Di6K8kp0/PZLvOTy5T288RbLevWArET2XjZI7f3uAvGvanr0c9Xu9kYBzPX1GM72BOkY9lypMPXh0rT2Q4YI7iwz3OvVk7LyEhlU74g6BPTkAjz1In/S80KA/vXM88z1qbk88PggtvZRu8LuRqEK9ET52u5l4WTyUwSO9Iz34vBNJkryUVKq9Ad/dvUTZLr2MvGc9IUfLvKS+Db2NqIc83lXgvOa/+r2hIAU9paINO+9DdL1wsk49o3+IPZmwF7waJ129BPepPBrbm7uxuc49O6kkuyGu/bz1rFM9IaghvVQGqrzRLkc7fWIVu9FoTztssiw9Jdf1vKA81T2iEuW8o7I9PZXDAzyZwQm9peT4vNMAsz2git+8N+vZPZnURbyOI589l8mMOs1I/b0uOOw9ajHzPZD5oT2a+pM9QJrQPWlaf7vkcjk9gOA8PGGcPL2cews9K4NcvYWeI7054XG9Ry4AvUotuzyeI5m82tAZvTQMUzyrbz49hhV+POjvGD2ByAW9ZzXNPSi0xrvxqkY7A+LKuvg/2ryV5Nq9Q973vIr25jyjz6K9lmszvSQWKbzfRVa9ja0gO6Y0NrySrt29TSqtPXp86z1Nm/+882o0uxh7PLzVTAI9oMAJvYRg8b0Vdqc8ns9TvXJq872k4xO9FdmaPYfKkL2JpJ88l94evAfAyj1xsVm9eUxbPGASrz0wAoo9AU8cPLNu/7spnfG9flKdvAXccr2IMvG9iD2/PPUrsD2dniY9FVA4vUMgJDvGIAk7ozrpPObUSj1iIJK8tJ2XvYcFiTtYW2A9F3NKPYTZvbyZf+Y8vcJIOoov3DwBdjY9k2I9PWJ6PryZ0Yc89N9oPLY/hL1uYII9E/IbO2GpGDv5Xgi9fSnMvSUfvD2PlWA8gCEPuaDHRL2HLEy8ibuxPWwb5r2h9bS9cumzPWmJXTyn8n09ejwcPM+7WDzyaRy8Hv1WPDM+ar2N4i+8hy/dPRa9aj2ALhg9XkEEuw/Ipr2BO0C9l8O+PGE5+D2KVWO9PpsYPHwzP72BEeM9hcjiPUWoXjwPDDO8dwgdPYXsS70JJqQ8Du3oPVI6972dOVQ8zf90PWQuLr2Dr8O8FGZIu4KHc71sppy8puvSvUIqAjxwwnm9KRYzvM1D4rwGGzG8xuVivZrm772QsIM89CNTvTZ4Yr0wO3C8lftJvYCAlj2Z6I+7MsxPPZWVIz1lrPu88NUHPU+wlj1+l6g8sONAvaB8O72Zujm74WE+PTvIAb2Sqes9m1m8PS6jtr2Q1/w81azIO7469r2BsrS8TsosvX84cLwMbG09FNSFPVBVIT1515e9M3rGvQ4y7r2P8De8zxuevP4kELuhZDM9LDGSPVeYbT02mTi9FlCHu5ALrr2bHmi9gRlyPRZYWDxT2vm9GERDPW0Y3Lyb7hw9iJgjvRzJV705y5c9HqpuvYBXNz2M2Ew8A5yxvZH6vD19vJi84VmsvQ+LIj1+0M09dd7RvYgHYj2AL/c9KWzavU2SVDxFpqo9he+4PTB04b2a0V29AfAdPBgzlry152+9bPoTPXUw17xAZXK9X2Q9OP20tjzqolm9f+AOu1Ud0D2Fiv29e1kJvZsbgzteuxC87avRPZ/J3j0jJYw8QtPHPZj1ur2QjCo9EzA6vE1EFzzpOAe86BcnPYH/Gr2TPzi9D6cZPWekyDxHUg+9ohlvPZJ8zL1kaXI9lB30PRApfL0Vp+48hgTnvXfs7z1ksp08yiv3vVECSrxnEYE9lwuzPOKQvD1Vsbk9pnJoPSmfV71nak09hArdvKBcgz0c0E08zUikvS85wz1OTPO9F9JxPQGLtL0nxUY75NMPvY3BBr0SX5W9Fls5O8Dpeb1v/bU9Is5JPNCujz11V3s6RtMYPXtfpD0gE1U9Hr+JPIvXMT1lz7+8xla4PWc/gb2MWmW9Vr/nPY4RnbyvICK6jWBbvYZwwrzhTaY9m7PhPH20Dz1dAOM9UA6gvZPxDL2aVdQ8PV/vvEP9br2agpA8IioTvIa8tz1KAP09i+GfPOeVX707LrW84DhOPPxBo7tUmGY8cjb1vN86QL0SLNk9OQTJPO81IL02Dfy8LKW9POJhA7wcYEw9EQW3PZ5Akbw6Pt+9biLSvXjo2LuEkHU8iHXkvQtDtj1Gl6+9gAaNPTiopT17kZG9IiigOg8O0LzRy+e9kyPXvNYnRz07iwi6gFBQvO55aTwKon88vQxuvXH29z2EcF48ibXqvV96gr0lsGY86CabPWiGez1TLSs8wF7aPGc6Vb1RHli7juCEPRCggj0uAsW73ebGPSD/ujyBWBC9Tw1+vYGZUD2koGg9bF8QO0SArzyEYPA9pKauPZTux70jrZ69nt3ou5I9wj1W6pM9k9DmPCQuLzumbPU8f9m6PKDMozyCBKG86140PPSl97zqhNo8uh7tvD67Ej2aBma9I7fnu8saGT0d5U88HPVPPVSoqzu/XOa7HHn6vBSl4z1Jfla7RJPKvJsqjzyAaxg9T88yvIBJRT2BPM49ZNhMu2h/LD0pwQs9olwZvPxfEryAOV49Eld1vZn0MLyWc4g9UJq6O3eI9TyQSAq8Ead7vQQMDT2GIiK9INzLPWh+/b1PKbO9i7w+vQspsrvSB3I9NNRUPaLujb2gmpY8pzOHPJNy8j1YVsO9JWjxvUaIoz2LC6I81aEwvYtAdL0BgH+9h3czPV/MuzzDbDi9k73mu/cHtDzDR/w9kkTju4+oer1ZGp49U+StPMfzRr12dw29F93iPVvNITyL2q89fGdUOxaOZTzIjE+8jqUzPIvI5zxiBFe8cZbDvYbCkr0UKi29OzGgPKxodr2ErPi8MhzDvVzbjr17Qbe7lfqcvN0MLTzRt7K9JjPtPNpPgD2i/7m9I0v8PU4oDj0J8wg9lcqWPED2ibwCa5E9AwYZvZVArj1ottw8b75rvKaj6LysOZi9SHv6vNptDr1cY749fZQ/PY8PCDyEqpa8Pud8vUK7oTxBuaM9WdwWuoWSjTwe8DE9PvcivLC8SL1QWmu9ZhHcPM86n72ZGGG9oNzzvW58uj2EHV+9oMupvY61wj2awDm9idkkPaGX4z2LJX+9FxfLvV9/uT2XEaa8Jmr/PLaEQ70wgys9KqIsvJo1c72VOj69gwb5PZhvZby7JsG80HWGPLAbmL0caIm9iEllvDEh2zyUxvS9YU4mPVbtwr0+GBa9DUg6vUKiZryqB/w9frXJvKtdUj2XwjS8x+wCvV7DFT1h1dc88cGBPMk+gjyF/LI9me8muxyNaTu4oQc9nz8uPQGEj70TWzo8fhtOvRrOIjwu29u9Q/ctvWdzSDrOBRw9hF/Tvaclrz05Jv+9RZGWPXWe/LwLS0S8pV4BvS8lPb06HIe85CqJPYYfD71mMuG9h2qbvQKFv7vX78O8+hB1vOHTbrz3tQe8gl18vYbO6L1et/09ljjVPX+8ML1Q+ua9PnjPvZ0isTyrdhq83cIXu+pzmz0oCC07fjvtvYZuTbw/R5e9T5vhvMTc07wO+Ys9f60bPV2El72AeQG7mWZ3PZJmDL2jGMu9A1t0vYLsQz1gmX+8lCNUPQHIez1t4Sg9kOmcPVfiLT0Emoo8vUPePYjxnrwbZRC9UsSZvQ7A1Dye37K9DZmSO+03Q70+Z/M7qvR3vInYBjxnLzq9h53LPVWCaDy8oE48chmQPaJQO7yiiHy9L+e1vFb8M72bcfi9NJHIPQtMxLyp+fy9iVddPXW7Ij2WMvy9H90WvRDge70chmG9inSqPS0DL7zDTN29b/23vS+XD71IoBm9HBjTPTB+0rzmM+k9J7MEPS+PwzzxCwS7BnwSvaOmFDvHjNi9K/qhPH+vWb2IiAO9Om64vYa9L7xw7s885SOWPX8LJL2cTsA9U+dAvKKBlj2QL2M9FYw9PUH1FDyn+QU8wKY7vNOxmL2b85s9oZVGPQ8A2rz6ZJS9D2IQPWBs4z1Ugqm9IRoqvQ8bLL2RCN89n1xcPBeQ0b0SQyi9KXBIPTsPDz0qSCK9jrOfvLdhzTyNXGW9b2ZhvJpRbz0sx6o9AsAOPZ+vu71gYau9OcPbPZ5Ogz0sq0q9Fnh2vVtdjjrZQXc71StzvQ9jXDx60ka8acouPUs3P70fTGc9fKeLvXKmT72isXm9pmklvR9LEz2d6pY78wWIvYlBsr01nGE9jqf0PEFoEj2TJS880PWsPaXjDL163qW9LV0IPM72uz0hzlM8Lj64vOJjxD2jRTq9iRE8vXc5L700/Mk8Qh7DvaMx2D1Wg1w9M1CvvQZZ1rzaKZO8ffpcvWiW2r2VkvY9kIlTPMoL4D2Ypye9KykuvUuDZ7yMwdW9jwlRvZv4MjxrDa09aNQuvUrmwL2MHFe8kujgPJNtajy/sss8ZGAEvWsWQ7wJ0wa875QVvJejQL05sDM9EMWjPSpR5ry3syW8Km/oPO9DzT1KIHa7ac2cvVbArbzFo4A9ehwSPYw+hr2Be3O9DVRVPUn9xbyZsYG8irXOvZ2K171LeHE9pydSvAsvi7xBuVo9pIfruyG03jvTKOW8uQyVPN/NHr0YJcm9dODqvONsjr2J8/88eRxDPYpMf7wPi2m7+edzvTiXMT2C4Ju83j4ZvWATVLycx4G9WDzZvHDimrw7V0y9h9MSPO3MHL1XcQI9pxknuj1G1D1rA3u9m1/XPWn9hT1HmRi9aNVBvYaQ1D1uyqc8ilEcPZNYCD2COgy8dC06PTDdLTzqmyo9ndu3vIc44j2hBwC8yVIAPCrRB7uLjmE70Ll/PNW8QTyk0kI9cVyeuzV4CzqNdJu9hbWWvQDRrb0MSxU9C7HOvZeSAz2UKLG8ziKwvOWcKjynJto9m5tPvaSuaT1XkOU82eK+PaCmjT0KIpc9Rv6nPX4NJrzOcTy9fvFxPVZhfDwU5yq9JeeavIKA9rzjECE6bN2cvR8lxj2DWla8xRSivCG26b2Ge0U82m1XvFWq8r1fBSE9RSwWvZfC3r0UMI49TC4lvGVQBrx8Ii67BaGTPSdFZLyVVFW9pZ2Uu7AM+z1JQMO9ZWUkPVOeorwzshI8/cu4vZ0uPr00xW09IeVmu/QlWbv5mwa9VzFFPJECwbzesJw9np6XPPOxcj1hMsG8xjS2PX1/Nj1XcBy9olzDPOjp8zsnsuc9kPJKO2ULkLxERJc9V+70vRAYc70X0MU8/l9XvSWMaTzJGx06+ptovYqnBzyvULe9KzjevN29vr2ju4O9dEYzvVJfzbyokCK4n7TtvIXDAzw2wO49kOQ7PItkEbzRrYw9PeABvHXxKDuDlOU9d2M2PXAxTzuQbyE9F6ZlPQrzKLs/w168fz9evKbZbj1w8fu9RWz/PVNmj7yAddQ9k4NGvX5f0r0mzaw9fc4BvYrdHbu330Y9oXZkvOZtVLwmpDy9pBRWPGu/6z1ymZo9oZ6RvQKpH7vHtn29acjjPTIeQT0Sbwm9f6MAPZ5YALxcudC8xA87vHszOz1U8Lm9GKO2vYNlfjz3MfC9lt79PQC6arzE4Cw9ojwfPS9lu7yMhlq9N9wKPaFRWD2UEVS8nAbPPWepvrzFF067cMOIvGI6mD2VIg48NCBXPG95Qz18Z3O9oKg4vKrR6L0bgSS84zbavT2Z+D2DL749mpPyvK1E0DxOlJy9SEbGPQU8urrrYMw8vTBqvTTqhLoGzwe9BVy5vXk9NrxALzo8qAz7vEAYCj0FyaA8+fLHOeCNSD1k25i8fMOvPS/dqruxrL29kbGvvRTl4T2l0eW9lRBwvXDM3z1Ooi+9Wr3HPU4+H72Y4Qy80GBrvJAflT15CLC8WbRjvXI8gD2m1HS9FRnPPDt+xjwi73c9BrjUPR39vj2b6Hm9bxDkPUJxcb2LZJ45KpjFvQXeWjz/ovC9l1F4vR4HGrvP2KI7oEaWPFdzaD1K2269i8p/PXJr/b0e+Va9Q8caPUfwBbv1zEs8/e43PTZjPD0IvFW9gkh1vZgJeLv+0j49Jsw2PYxKAL2VIg87w6vSvITjmb2D46C9X/KBvIS6XbsmJMc8ki1evMeR7rwHILe9O6sZPVgp2LzRzde9KuPBPMy/ST2Mtwe9F9N5PZlAeLwyIMS8pCGct+WuNT09lc69POMaPAzaiLz//bG8jgXMvUpqYL1EHhe9hmvUvBxvXTyxY3C9aIK/PING+z2RL9c9cqatPQZBUDxHak+9oFjiPRQnoLyfGJY9XI/lPOccU7zoHFs8EaYDvVvuur0mvIE9ZsA5PYgfBrzPqEy85GLLO955ajmb65Q9XbmcvXsPv7uiSvE8xmUXvLEtSTy6x4g9an5dPFz9F71CNQ283pBRvZhup72WQ2E8BcfePXy4Zb2ApKk9NlnmPXQYtr1dakS8/0APPVm34L0VWQk9DbtIPK35ur0L7YY9mzbXvHxEuL07UHM9h0VBvNb9YrzcqxM8daJ9PZUQ5708sAU9EAoPPT3Y8zyVdf69YeLIvT7xhT0AyxA9f8pWu5bCaLwuo4Q9NvcTPN0MKD2PqBQ9PU6OPTYEBj0NCVk81jxdPYhCSL040/28RBq+POpF9r2Uen08+ztbvXxO+ryJwAC8r1TXvUSzEjybOle9HUI5PaIc5DzOGfg9aH52vMNFO7v6ZTC8+/aKPZ7vq70FvZc9WVZQPH7QsTzpgai9nGqiPR13AD2gX++8kU5xvQDkob14MiK89uxKvAUFizuQiii9lOAuvVcp2r2Ya8e9a7ZlvPvVL7y0WYQ80RepvRUPLz2d5q09oXkBPRpv9r2Wuw49dtA5PRCPpj2FjqI8f0tePI73dr0cezQ8uEt7vZYfPb0zvos9IcPAvHw69j2g7Nu9FxfYvY9xeLtS//09jrIyPY8imTwAovG8hFO7PV8Klj1D3Sa9OQ1jvYJDUz1tN0a9Rj0avIzHu72NCGe9R5IKvY5aZLyJbmm8fSRmvUp7A7tUNR09TuZ7PQuSCTy45sI8mqm4vWKfPbq3pD49KmguvYiAJb2mKM283Ds3vZYl5D1V9T+64UGQvXO5dz03drY7qSLmvKrq2byBVUk9ABOLPMQn7j1slwm8I+i+PU8yJL2Ym0C9UM3kPKgFab2S2049l24vvRFsJD1K6CO9JdEZPTZDFL2RbhS8tUojPDjVp72dj/A9D7duOz2Pfz2gVUU9YCyOvC4sJT1Rvze9L/6+vSLASDwiXH+9S6mTvYFZXjyltLy9mtKQvQB+2jyD+Xc7TRj6PLJzzT0iUs29ABKjvLaKl7x6pzS9Y6c7vTNhOD2gA+g7O7ANuyy+cLzCpqW8AexRvEkO9ztb7i29obbvvYQ2mj2mlRI8R9z8vX+te7yWPv69ElZQPYdW3Lz79J+8mLHrvJBkRT1qWIe9oFN8vV1frzx3qCW9W8zbPRXxwz2gI+i6SwwiPVOF5Lz33j09crQovZ+EPj2bI+W9mZ8GPOQ3dbyYtNE8RhzPvJuHmj0Ixrm7yWFvPVp2Q71LF189icQIOuBHEL2Hr1i9UBYeu6olEz0Q40q7MVW0PXG27Ly+hvW88SYwvItwjz0r7hu9llPNPQouz72W93i81s2ZvQTgo709ago9ebqQvQNsWL1Z3Py8rbydvR36Uz2lojE8rf2gPR40Bb02djO9VZoTPXmmpD1WXjW9Q9MBvMTydrwpQdg88oPfvU+R/bzL3v49le4zPVoUXb0DJGS81n8SvTPSp7x5Xzc7XWTJu6nIfD2GKq68zxlPPX/1iT2Dd/w9MXy9PEAK2jwAnnO9kpRZPZTEdTzrTaY9nRYsvQ56XT1rMde8E1g6PXTJwrzFBjk8M0FQPS4mKrr6SB+9iE2KvU247r0ILZ48516GPIZVfT0687m87FuLO9w70zy9zvu9YIlSuqT//Dyu1CQ9EkxlPKdx/j1TgJM9pN4HvTQMqj0HLeo80nUvvZTt/D2UyyU9HDdIPHBEM71vfom9knPoPYrY+jzpq/M9DOJ5PRGf87zrLe49eEkrvYD8uD1fM8K8x0tSuzbvor01RI49or8IOqeyFr0CW5g9BQG/PRqyQL0LzLs9CgogvL8R/L2CFEk866/VPNa5OrvZ4UA9R+kuPYTVsb2kgf+9iITuvTd20L1Lcdw874zRPZq5QjwVLpy8H9Q9vYg5CD2j7YK9ja1gPJTwQD0qRQ09Xw+uvRbYoz1bcpK9n5AzvFUior02IsY9ma7EPKrVtDxwqP89d2yVvZiHU71KroO9PwwTPLZmtb2nC9C8/KoRPZgsMr1lzIq9OuwPvH/oDr2HS9m9Hk0QvaJ9yj0Yy6O8KKI4vYGIoj2dWyS9lVZKPYUUsjzJplg84CB2vIC0YLyGQnI9T0BHPYaiUT2Iw0c8i0jBvFWcFruVJru8T/8DPOtPGT2ZCUy9O3zOvAgsxr11neC7wvVWOzUfsz1GJym9oVpHPIYy5D2LVMi9H7hwPLAjmb1N69m6w9bavPFk0LzxNwe8vtlnvKovcT0YghI9Jzg+PGJGb7sErXE9nJEHPJMydj0hukS9j02ePKsxQD2mOOk9kP7IPRZNbz2LArK9Jo15OyyaLz0yVCK9XFJ0PVuU3b15ICS9hQwDvRjvOjzfp1Y9JJAlPNznwrxYmsY77RU3vZ7iFrt87Kw9EzFUvVVD2r1In/S9hnOvvaKMV7wvVis9n+00PK+GhrzOnf+9PUDRvaRDtz0MVuI8jhiPPWzb2z1pIy29Tla9vZVxX70+s2+9mABrvGH4Dbw8JKW9iykWPYqL9L1vYrS9W1YwvYoBiLzzMHu9LDfWvaah6z2Bp8A9jOfLvU4v1b2iaAc9lVsEPTh//j0J/Ty9nphnPNT46L1px4I9lzNhvIx/7L13Tx688UOAPArFxL1Q3Fo9juRBPTzwYj1B/4q8phNovR3omLsP3ts7s9uiPPzggT04Ws29nNVavSPujD1AnhG9QRd7vTjbgLyAilO9momMvEYCULsrjGq9U7u2vH4MFL0QFp+8c5MSvDECIj1fY7s9XYmCPWTynj2TU/U9phKsvaLiwb0MG0o8hE+BvZ97BDyuoIk9PAhdPTLgFD14DaO9hSHFPVEVNr2do/68ptl9vTRxvz2ckP09fKjcPZEdqD2XtvY9fOyuvB4wuT0h6QO9iTMNvKxwIj0yMdw9Hj5bvR0DET2Yrua9kzBOPaO7Qjs/6O09cZkPvVbDX7vZKQ09NtLSvYoxsz2XOWi8sAvBvGmBBj05U3S86eqEvQnKxL1cS2y9J1ZDPUuUrLsxOce8YxsXPAp42709nAC9O9VTPGYZar0OJDE9isqjPZiJdz2CNGg9FtXXu+84wj0h/1A9QJKtvZzekDxI4E683nTiPaQVuDzgfBO8bkRhPTkx7bwFf7G9kHlfvY8tuj1EnNA9YUSOvYD2nbtBxr67uYAZvIY+wDyppHS9HDTAPRDpfrvVAL+9UGaYvZNvJrxlju89LFNYvJ2vH72QvF69Jpp9PT7dEz2Mc1U9gHVKOwsk+b0UZco8h1k9vWnsiTx3Ml68yPgQvIFgxz0VqpW9NMwnPaTHJD2SQD89mnpfPUsuST11FMY8utuUPOnxer2axPa7ge6FvKFmEzzXVZa9o0cLPUlGAD2XILa8Y6fGPNZpEb2D1uW8gddavVCYcb2hvkK9ftiKPQ8qkDz+IX69ZwWBu4/x4T2H3Z69IuxSPRt8dD1vv3W80UNYPWE41LwrSS09g+YLPTt9eD1z+9w9cH+fPXCNAzyE0T+9MTPmvXY7ejuD2P09NxhOukX+Jj2L/LM9mEm0vS6Nv70CjWw9YddmPSyhxz2Xdm29LI9yvJwE/r1lW3W9nUxQPX0o6DwumL29awhaPaHuTr0pmQu9hSPCPYB1NjvuE0+9Z/ODPZ0A3r0KubS8pmQUvM2ryT0z+aY83JoNPT9ZxL2Pjo89mHLMPNqzcLx+LyU9HnmTPSbygTzwusG7thqHvaJOpr1xKv69iMfePQxbOD1/K389pFaovTJZmj0VXPo9PwktPYNzkjwqfhK8Xl9pPXLshL1+7Ag9Io13vVxJqj2Lc/W8hE+hvQXnW70n88g9dzGSvZZmib194k68WyzKO5lWTb08jpY8U/ttvR79qTthXss8wOtZu4XkHzzCfAG9jH+YvPDrYTzVAGs9ITuCvPrpkD2V4Tk9jUeLvLDbWTxV5OA7p5H/vUT7Cb0FPWE7dFnEPH734j2GzU69GL5fvZkyojsnDSe9kg/4vBw8NTw1lnU9OGbIPVd7wj2Ahya9OFDuvTumHj1z9ng8q/QRPYt43z2lRam9onQ5PYFe4z2lsx09O99JPY3vyrt7fri8oIeVO1OTSL2miau9jVGNPZ6YoLw/Mke9gxppPTPVfT05qke9nUfOPTXc1bzHJ9272L3YPVrs9j19CBs9aY7qPStP/rvoO7u88JIoPEJQ+b2bDZA804amO0b767yRy5I9OlWhu+JXQb2ahvI9gkkYPOGl6T2ZpDc8l7ZGPOdPyb12tn69K6L9PIFWfT1vAHg7ov3WPYaxc702orC9HdGPvX1Mej0WdNc9eXnTPRkZur0Aq6C9Nk6uPXF1bbvTUaM67u4MvY8spL2DCDq8hOuzvUJeCjsu7mS9SsHQPYbAvTyta509TFwIPZIfUz1HwTy7o1bVPXC1Pz1c+AU8D0Z1O8f0iroAw5q9ciEgPZNr+Dz7Vi69N61GPQF+cjyYOd+9jFDKPaMVmj2a4fE7K9n7PZxSpr2eefU8ptSxvZ+AMjzYt1A9SyuPPPBEqzxjIw28Nl1wPZwKpDx60u09hE/jvYqwXb2GE/87l3ZyPY3nuryitZi9NCS1vE7z0DyloW09fHsrvZ5+hTy9Fcw8mmtrvaK9/buG6Xu8DVOUvH34Ur2JIRo9iR2IPHQnLz0IMEa8DLNhPYIIWbvTLCk8szUrPP52Dz2gq+W9alHqvWsxhryaTU89RsNtvALYkj2Ttpe9AHh0PQY52jtyJzM9WSxTPRtCET2A5n69hX53PNl+Mb0SuiE9jv3wPUfgu72a2GW9WY1ZvWQPTj0k2m+9YyPmPM7Lj70yWm48hCssPXOdYTyam6K9Xqf0O2emzT0rnrm9mah3PRc14T2UoRs83mALvR4l0j1vJY89A7MOPZy80D2mqNo8mqAFvVSGWr0mFHi9kM/QPOGdUT1RAYO8k/0EPY+m/TxyE7q8lMMTvXMrYL2C6d69kxbRPVJlKb0JGz09RKSMvZK6cT2cSsM9OpAKvXstvjr3kHi9YUL7vNPe7j1UaRC9lJnPPScc2j03BG+9n4WuvUA0zbzruQC8UCYUPN6bODzlNfC71CR1PB/maDww09Y9d1hDvQDo0LxMQDO9h8wpOZCsST2Bzmu9jRS5vXIYvT1g+cM9pIdaPTr2Ir2WOvO9W8wKPU21472CKtg8FgMQvKVruL0DhP69muVXvShI2ry3qME9NAJjvYbrob1WrhI9GY+hPYIyZz2dv3M9pvVNPIHFjrye61U8MUELu9jubbzhmxi9OjJrPUqFvTwl7Pi9i7H2vXUOyzu/5Jo9n+XrPMk+kTxjs/u9cHv6vUv1LzwqL8U796fSvEaiL70DfXY41CqpPILVOT2OSZg9pxVqO1g8Bbz5+zq84lKFPRaFl7zDbmw9JkoDPS9GPLxQ2d+9LHitvWX42z0sUqm9nph+vXJsfT2RU0U9GjsIPZ8Ly70Ngee9AwgPvRy25j2fRlu9MuMSvXUd5j2fQHu80ur2PFXtVD11RP09Si0evWEbqz2IUf29ZHPgvYEw7js8N0M9ifvRPYIUtj2HHvK9hooZvTq3Yz2G3pI9MEwLvY5Gsz2jsmM7yYRhvMLcJb0SUOg3mnstPJoGe7zYI4E9k5TsvV9gQj0EohC84uBDvZCiBD15zxY6HhlpO8qRVb0Bq4I9n6ftvSyj8zwNUJk9AIaZPZrYR7wwUz09e6nPvIbJrb1Zf1O8vM5bu95wMD1SAZQ9ObRQO9nXnj2ctlc9kFtZvCh6dDzJw+c9mQyDvRocZ72YEIu8zn97vTUNED2Lreu9cGB5vXz1sj2IlFw7HbAVPQwszbyuhkS9hTesu/ZnQzxMl0c9U6/kvZkyXLyCMLi9i4zFvRH2zj2PBDc9PdrmPTsO6jya3TI9C6UUO7IpVr1LuZG8xQTVvYfpijy2kcw9CTUFPJ+ZBbtifLu8jG+nvUETCrzR0X+9b3vvvIiDgT1Zg108n4GRvOlgtj2LykW8l6MMPaUzjr16Jgm9bWnyvMajjbyEC409azPkPW+Afz2Uuaw9mzA8PIsZhT2XM6q9TphiPaYxMj02ib88uuV/vHCfxbx+wFK89S+wvV5EDrwu0KE8ELorPN5djT2Fptm8ho21vL7Z3z039Wc8BpEjPMFZ171MXUk9TyEZPaU2JzyJbyU9UAMtPQG7W70m6dS7ytPMvYv4rD1FKey9ZHcCPQi0yjxAVg278cy7PLDvzb2K6uM9kdC4u4W5QT1llMa9CzoUvZR0IzwF1U09Ydh+PZ92GLx8H+89GYpiPaJYjryiGig9IwbzvRjJ3T1Sgwg9OI8bvaC7/Lutw6I8pvEMvZ1Hebz/76Y9IQkwvSP3ST0XKHU9kmxXvRX9H7ztJnw9D1mVvKj+rz0j5ak7DIdVvXVL+LzERv+9fSHovQUs4bwVkZy8OeU4PSVs9L18RgG9FwmLvVYToTwmlq69jDDpvBC6Kz0OefI9czDRPZjw+j2H3Fs8rvnxPaIRgzzrZr29gR6KPQ5v9zwyRWK8HsAuvZwEC7yeob+5B1BcvZF7170o3D08b5bHu79QvD1xTHO9EEjmvSdVbz0sEje9dwaCPZKCGD0lJIA9Wl6tPZD0I72h1x+9krMZPShOKT1hXLu9I0tXvVhBBr2MCMW9Ah92PJqpATv+EeC9ivUlvSN+zz2d3zS9dGVcPM31uL1GhVI8h9QFvZ6Al7u6Ri49FnTxvYh9BTzaTdM9mtoovZL5Gb0pdxE9aY0bvUWrQT1eYhC8zAVpvWpyyr2Ozoo9o415PK06/r2YN0A9K7WTPYQN0b0rXRQ9AngvvYdfnj0Q5Aa9ED0fuu08pz0QiD09dZeTO+A2UzzNfnO9aF0DPTqwPjypo5m9V8DIvZurXz2VTOU7p+S1PNM3aL01T2y9EinLPWbfZTwSwwM8Jak+PZCxFT2I5cE9GsZOPLQayj1wBKs8nB2XvRvRWj0l6oC61TfHvUTmnz2BOrG9cfqmPCYrRT1esqy9ZmnXuqwArz1P55u7lPkrPZVaFr2bE/+9Gl8cuDv1ID0/Y0o86pKsPVogObyUjnm9SEV6PC0oTD1+Fye9gKcFvPgAeD17Ah+9nOAevZ0tDz2DWn+9iRxsPaQZd717euG9nMdyvYCi9r1MIo+9E1KnuwjzYrvKTEI9m/02upuCF7mfuia9D5BHPQ9mE70KYa29hHpKPS0K+bzpiBG9kbGvPUXVyb2bWey9dpRAu/j8TDtED1q8fxagvXIyf72EJUK9nejLO7xbwryXe0M9phJfPLybcrz3tfI9BiuTvKE1yD2F13u7hDsiPQ3HYD1k8M+8CyTkvRkmdr2HWEO9XX2jPYC02r2J/cg83tWUvUZxaz2NEKm9OjhmvLSRXT11wQO9Q5HuPSwO7j0W9ca9N884PO8SHjw6zgs9lfm2vUy74zzSlG+9ogRcPaRTC70lzUM8kkWoPUubYz0HY7A8a23SvaW3lL0CX9S9lBctvPz79r2aND69oYkgvPxyYb2Q3HI8ttFcPZP8Xj1CoH69k87bPKjSnT2W1PW9dURDPObMGj161Zq9faB8PVMs1T0j6Bm7xeREvTRURTwxhNs8zMgVvPh+7TyvVHQ9M6VTPRSurDyUDkO85XOQPVvevDz912C8Cw/TvTq3Bz2lqsU8pnloPJpNdDzN+8g8wtoBPU2y2z0/MUq9Z83AvUlaAzzT/Bq8nrymPW3GIT0LEJy9idUhPMKx6jxcTmc9Bv3AvMklTL1qhfK9jh9uPY6B7D2TMHs9UkiAPVJwFLx+UUc9AJrUvTcMFLxbo228F/E/u0AsX7z7+J+8hV/zvTQaKD2FQMk76eyjvMt1372KMPI7oZGYPBg1oL0jS9o9Vw8PPWSNWr2LLIK9kQp3vBUhQj1NWh28x6DpPQoJODuv3h09a4AZPQnqf71RNnG9no51vTF5rr1CucC8ZgnxvQA9TD0c/zs9j+E5vVPEDL2YU4g8i2rnPSoHHDzIsxw9atu4PStevj1ASbm9bgxUvVK3g7sqaju9j76qvR8BzDygcY49eINQPZPIr7y7ln68t7U/PZrgrb1uUEI9pNvyPC1TSTzGzmY9hFSuvXhkAD183jg9DWpBPT9wMzqyaiu9S7jvvVBqNb0olLw9m/SIPCRd/T2BF9M9DVVgO4pzTT1grEw8zP2GvYiLdruN3lc8kJd8PTN2lzzrAgA86raUPK34bLzW4M481/x1u3lb/r2HBZA89ffAvYYLvbxN8+G9JpgzPUBbfj0ZpB87isN7vZYBrL2XWMS9K205PU6WLjz7GFm8AijSvO7F+j1jBaM8HgfwPQBAgTzEO2I9mR1RPZ5GXr1Kqi286eM1vUR0KTyENv29kX8KPTZcYTzTHr+9gnkpuxtV/711v+E8KGjxvTGpVTzjc6k9mE+jPXbKYD0jeWe9VAdZvYonRDyqNbY9AGNRvWdke71QL0S9HxoZvSwQv70N7/g9XiafPVUm7j1d/zq9W6vmPTuHKr2JZnI8IQFxPUJtjTyJSD09icPrPZwpOz0Q3lk80KoBvVrsmD0KtiK8ya2SvNgk+j15Aqg8aNbovTrc2r0V8hw8O9IZPOYLk7wJ6/i9G5F7vYSNDrz4x428ywIXPQwaZjsZK0W8rSpMvSqJP70i2cE9hvoJvOYwzr2Kgbm8gEa9PCOHdDxTbc68yol0PUmx0b0d4PM8WlVmvF7klDxNzGe6/9xXPVO9Ebyhh7w9psCIvRGADrzE9Hs8iD/HPZsKXLynkMA9ZgI/vSCL0b066pq8v0tovZAZnD1ni1Q9czpEu48wSj05E989asNLOpoSA72fWvk9gWo6PYvIpr2a2m09jwlhPVExPT0PWPg9eEhQPTMWWb1GUSi9gYdOvZ5DO71xOli9OM+kOrkBDT1Vxv68kD7LvXDzZD1K3DI9iVb3PG5vPzxD2Yw9LEGyvIqnmTwKPkW9mLUyPQgzS7z3pp29NhWWvYnL4Tq5rDA9mmXrPYC/Ib00q2Q9gVhyPTHJE718EGQ9GmEcPQrGyj0iBmU9MFeHOn1Z6zvzyre9hl2/PYpkEj1KkhQ9lN0zPYjag72UW0m4lEvUu87PRj0AaI09LizZPWF8kTySZ9Q8PnUDu8Lk2LvTTom9ZxxoPTH1Ej2Iv0O9c6qBvLKh+jyNIlg9iuaGPaLA9z0anT89WOALPPWC2TwH3V684izbPQFPl70peIq9ixLGOwB13zybQ8U9DrQfvaMsXb0pxNy9F92HPXMGDb2OYiM8rktrPM5UrbvKvEg9c29Ruwq5MrygDaO8i9apvXxNSj2NCaq8amw3PPBhiL0Mhuk9FV5nOpyGt7yIqgE8aiRyPHevdD1TkRG9OfaAPZ8osDy4dKc86ct4vaZvoz2XmJC8yXQsO8iI+z1GcYA8/uRpvVZXtz2DVjm9laJnPW6z0D2GEC49hYKyPGDlqzzDYXa8Bzd1vZPmZDzUMvg8cicevabSFz2KcEO8wtN+vNB0E7ukqF+9ek1mvQcQfTs8n3K6WkcSvYr8ZzzTdd69gwTYPS12Zb2JZaY8HwTZvZvPFL1uiyS9fOTqPYXQKDzQ4eo9dpAJPYF9sbyneD29kXXTvLJXNDzYJLs8qKDkPX0dxj0fmlQ9f+f5vX1/wTyFG+q8W3fJvJYSBr1sy2K8AfbEvZLZWT2WFBa9Efm+vC5cez2NMA49FIS6PQZtPb2al+I8dPfCO5v+xLveKsm9eS2lvWTViLytWgU9HsO2PIuNkD0VVXy9JCw8vXjFmj2Sj0I8WXiUuj3Dlz1YHZa7KFzlPV6/4bzua329PTHIu+6k+T2MW8i9mMAnPJOZdjut4a49m0XMvEslaDzJtyA9pSsyPRpfar2KR5o8jziEPMBmQz2d4dG82dZvPXv8Rj2jSSy9MY/JvKLjiz1Nh7w80CA5PQPGuz0V2wa9DnYEOj7WlrytRXe8/ynvPIT1+D1VlxA9lXyUPMum7L0wPvs9bqOnvYdyhrz134+9RucwvZlVDbvBiii9gladu4Pedj0fK/o9V3W5vZBjYz1re9o790u4PZBr3bzg2FG9PCXCPZH9c72HiIe9pSCEvYEGfL2MI2S9ngbKPRYC/b0AL2C8GsJgvKda5z0EumK8hgvDPYeIJD2CZ4G9hLZVvP+94rhP4Uq9lpuaPMmHGL2MFs+8BdTFPO1OLzyq+Ls9jeRuPZpXpry2mcI82RrdPJ4zYD0RlDG9kJ3gvQhupT1X3Uy9goB4vaRqxjwTfhw9KKtdvUXMhzzTukW9gWNpPU/eAT2eJfM7n9bkvX89Xr12Ro28sREOvTTWTr2M68a8+Gr7vZjRIDvXi2q8bC9pPQt5ObwfAb89IP0TPZZpKb0MZdi9PAm7PZzna71stCI9bBIPPQHFgD0m+Mi83hCevaEwIz0hHsG9NoCpPRXznLxA+TC9iL/7POXGir2Zp6g9CULaPXXcY71Bcvg82F0mPaJWwjy94ZM9i9RQPTighbuar4S9l5XxO7Uv3jvB0849aCPmPODfr7pv9+a9QiyUvY2luryjbQu9MQaDvPxbS72OyC08m9lqvYuz2b1obzk9DBwDvTNI47spnHk9eUfovTSEWr2fGRc9nj/MvYdq7L0oXFg9ptaou2onlz17H4G8RNizPRlsh7tSamc8sZT7PPRa872R2fI9VCCMPBAfur0Ghuu8EGNAPJpj/bywcC89RbGvvREb771+HJ09nU6rOsEqobygdhw9gFFhPRg3Iz08Qp+8VG37PAbavr0KbJY9Xsv0PMKrQr2evYc9KVrjvUKuKL0tQau9PUgOvYvIw72AjxI9csamvG/srLzXOwc8pQqZvUS2vL16kbW9L5ZvvUqPSLuqHnY8VmNFPDsP0L14KZK9oWaIu61oWb09dUS8SyUePZPRnb18SVA9QNsSutFuGzw3md88Iwo/vLdPkjiUHMy8nZq2PN1m3j00w/U8xnTEvT0TtTzlNes9CMsIvSTnNDxf/jG9FzUQPYu0+72SXAQ88OHtvQv4LryduD+8yyUPvZE/gT2Zw0c9AY7BPZcV8r0f+Pu9WApjPZMX+r2CjaW9C+pfvPmhATyckbe80EyEPES8IDyTs5K9jaSCvJMRzTzVCaA6L/m2vaLsij1ReXe8i3DoPXkKvb2HW1Y9asruPRfbq72g5Pa8rsmbPY5i5j1Ii609iSY0vUAHs717o4u5Sfh8O/9Aojx2hjU9EvppvSk2MDspx2y9iCNrvZRgVjxI/pm8tMm5PN2Gcj2eUCI9hqhUvX9ZSLv29mU81clmvIqcfrx8KiS9MvYWPL4GXL2crta7zM+ovK9uerxFc6I9VXxGPaR8zLyZ9b48gcELPZxtr72cWe89jTEJPT4ypD1VSNU7gGpHPRNM+j1UYma9jSQ/vT4oIT1JPpc9g1T5vJKiX7r374K7HKY7PScai7vEcG+84sM3PXoJ8r0MUNI8CyGAvRLD+LyZW9+74rdbvHI/xj0fq7s8qJP4vJtCGL1h87E8pkpMPZhoK712xxS8sx3WPWAeBr2NSZs8Gr6zvTqAsb0U6Kg8+KtyvY6Q0j2BDTA9DJtrPZYDjr0uEH89ndepurC+Uz1Qhwc9isjQvJW/O72e9+O9QigsvJ4qYDxnGTm9HPm9PWJKy705Cb+9ekBOPW9Jkb0WvIU81WoOvZVbVL2Suv48ztzuvUH6VTpHJgw9CKjMPEWPebuaymA9R+z6uyYz970YggC9efZUvXI+7rysiNs9eKzFvX3lW7ydRz89pv+MO9z1QT2HzHM85q6WvJruoT2cDia8c4ohvNRWU71qoz08+owoPFW2Nruo8w082dx6vMx2uL03m7M9fs/yPYQIfL10MhM9psKWPOgCdDyzD8Y9neZHPKbq/DzGT+c8qtnzPYS55rwZ0Jy9hgG4POJPijxhKGC89fiGvR1z3r10ZRg9IcbKPTB2ZDxN6409DcFlPXoHaLwUmAw8xJywvQ1hdbujjoU9UfODvW6/mb05CSW8rxGkvZnhVbyJKNM7kIZSPX33GL2aWia6XDGfvXaVD71v1Mc7wqiWPQj3n70vtSO8EWanvQvLSzy6AAW9DHKVvQwllrz2w2e9G5QdvaDSML0ZVue9gqyiPBTOTb2Prog9BfwDvPLvXT0U7g68ZK6vPMLGrD2PZo49py9pvYgCfD0h1t28l8jPPZTKar2DUj68e6j5PZtoK70Xf7E9QbUlvCJbw71uy6y8t0ttPTtkSrzZhks9PisfPYj8GrxIfj69gZwrPYcy971xbsg9QE8dvY7FeD2KVts9H0zNu7ua5zzdBXu86AeuPMfyhTwR94q9DsqgvVplqD0Vmac84GaKuoCR9b0y4we9P3+KvW6xwLpmtsE9WVpmvQVLh72Gzxu71bN6vNayvLxBAgw9ILJGu+8Q1L2g2Fo85r6xvPQJ77rQmdG8Y43uPTlt3j2MEIE9nMCiur0dWjzzd7O8esGzvWr0oj0Vd8e8RyExvIpC5z15AXY9jBymvFoXl72Y6a89mP40ui/8+r1Cm2487HWmvWQOvD14Lqc87x31PXuturzed3o8CtxYPYVE8rySpI68HzaIPVHb4D0zHYU8JoH7PS3Cp71yehU9HhcVvJrp4LxDJda9Pw6mPYOfRrzGsPy9RfMEOQri1r2EqvA8e2D/PQknh7ydc6k8ab5iPX33FT14Qlw9FTwFPY3V4Tua4x49azZ7vOzSQ71gfA09bH7GvY3kND1nLn69izxiPSrMWD1pNfA77OrCvTW5uTzULGu8fCKMvJQUBT0ATUW9ggttPV0xWbwAGHc8n4bVO4E07ryt0iA9ls4ZOrHgqzrwxK28LXa4PQTggb2lMW49NoS5vHO6OTztPl69Ox7RvYLc7Lxzqv48jZjrO6wntj1tLzO7A9jUvZAQ5DwEtA69HCrmPOQLoTxOGZA7zQdsvPK+mbrI2Wg9JH1avLmP6r0d33M9F7D/vHvckzyXwy29EAAmOyUQer2ZnKM9igKHvUhpEz1jzuw9pGS3PKLDDDyzALC82vSIvGTqdL0Mwhm9MXv3PB7tdD2Y4Ey9dsqPvYL05zuw6iu8hmG4PJAydz0Pu2E9SHngO8R7S72eBSk9LU3LPZBS8LyceVg9Y+l7PDNyOb2ApFw9kALYPWtsUjyEyMG8WIeWvZO+Hb2I0d09fSidPYDUzzwuHA86g14wPX0LJj1JGDm9jp9+PWuRgL06SnS9fhdbPYtwBLz3Gy09EK3MPRVMQryZDgW9JTjXvMC0YT0nFR27vATNvLuZdD2MCRM9d29EPMpfd72KOf68KzPTPVXThDyGlOk9ngv1PQFF8jxtWmq808fTPZJpUD2XkZW9eB/AvaQB9zwyjRM8BcIIPJYF8Dsn5oE9pQtfPYlfTT2fN929gST5OjbCkD1/f248BygwvMWAx71MPq29bvA+PWPL1zzUcfE7/mL0PIBf3ryMCLE8kUmWvTih270bq3S9nN2ovFDbbDvsCqE8/q/ZvL60Eb1veOS76cpDuo7lAjwGoXe87juvvJX7vD1y6is9oVmcO0gHuryC8/y8kmKVPQIHHj2LFrw9neQuvY8Wpzy0W8M7CY9WvLWjqj02gyG9UrjxvJhMgj1LWNi7qdFNvXvESD2lqqg9pnvVvZcFtz2a3E88uO73vVH/dL0Wkxe79tZOvP7LsL0/TyE9I/bBvX63vL2TayO8mT0sPaX5Jrw2xSI9HYFuvIWAnLw1YY09VveJPVSKtr2jTtI9S07fvXtKWb2Uat29K3IVPY9dVzs1QqW85ukxPYXd0L2PNeg9obV7PBYcyDvROVw7FltyvXduNDy5sUW9YhaRPU6ykz04/Sy9pVXWvS93+D1iL1y77r7bvYxn2D0Eh7i9WV1evNme6bz1ZCY8yxtSvLTtLrvvG5y8Utk0vH27P7zIWhg8Bdo9PGpuV71duOC7cQehPQzYTL1HeCi6JLZ/PT6blT2Ihl+9RpQMvZizjD1ar3U9ZW/uPLY+Bj1rjNm9JnFWu/ffbLo2Mtw9afOhvYRjhrzefr488bnpvYuINb1VIP09g4AOvS43Fj2SVyS9UKJhPUM4WbwuRDu9n2piuj/TX70+O/M9hdHgPVd6iDu4pye8ihltvZqToD0WeoG7Ae+VvVGJL71y4tQ9MiKFPSW8Lz2PdnU8l+3wPIwWt7ynrzo8+wxzO4V/Cj2VHo86yC6YO8WDRDyl4Sy8+WtIPUC89D2gF5E9Zys/ujk+x7xLLg+9b1BDvUzHXr2VLCc9ZVMmPKMvHDxSYuS8UUbLPYI48L1Xmpk8a49BO6xUibyJe0A9nx6wvExVWD1gQZo9Q/ElvVqtW72Zexa7tcbBPUBUWT2A1i09OCwrvT9whj0F2b08F7afPC7mTjxjiR08oCqVvCXEmL2LaT68PJvbvUSb2j2NvIS9SaD6vLylkr1b1ZS8QcLIPZG7XL2HQOe9CJgpPZKzhryU18a9GymcPE9D/ruXfGg7oFkKvKOJsz1+oAo9oZA1PXJoU70Mlx+9JTHkPEGxMD2HoAU9RJW1vWJMRjy9wF28rAVMvFfiNT2SiDu9GfJaPPLMIr2DhA+9e6r+vVqJkrvSwCO80ANhvBfHZj07Lz89lvJWvXsqoz0soxg9mxbsvZvsLDyqPP+9LErNvPhCQru2hT49m7DUPTkQV70m7+c9FqP2PU/Qczx9VxA85jC/PX7qMj2j+0M9AfYLPV9FJDxNaGI9baBJvTbS3T0AzY29jqhFvUXd9j0dGGO9bf9GPNExbL0aNTS9YY6FOyDEfrzaqhc9fehgPYqwYTzngrG9EZSFvZkpib07bSY9nzp2vKPenr1itd08dBngPLEqaDxgM9W9SaApvYTp+Dyx+H49M0HgPTp6FDsKHRS9FL+Yu5rrCbudZti86kFzvYnxMD2KMWo9gR9NPNwB0L2a4Cc9L+0JvHl7bbzl7QS9jsJRPUHM9b2NGVy6obw3PQnHSb1bFVs9KLHQPWtdjbvT4QM86BkxPWqlX7xfeyS7H3PFvYqoYb2N18k9V1nPPZD+gj1caDm9gMWmPYCpRTwrpZo8apTrvC4yJT0w+6I8gRg7POCZ6j2DS+E8mrcHvQoImD2jqCW84dt0vZ0ct71XcZ+9U7dNPaTEXr2LVtE9Ejv+vVgqU7zZwkk9ivkOPVciKDx1YHm9DhAEPSb2B7yHd4K7NrciO/n2EL2Cdk485+lTPZYs771Mz8e9nzSzPaNQfLx5cW28IXTQPS280zyKCtq9RnC0vYbCl7wcsu29o/cvvCXo+D1lf0I9Zoj/vB3y1Twcf6c9LHQGvYncZjybSxm8FSTFvGKW8brp9FC9mOW7vSJxa71VSuU9eazLPYmHizwwuLC7J5jwvQjOzry//HY9gQbcvZj1lz1v9eM8PLL2vOQK4L12AEs9OjULvHdkLL2JHkk7h3ZTu5lYq72JJ8c9Hdp1vXbdRDnjfHU9QgGcvWp7MLzW/We9gaYUPaA7RrxhnfM9C94KPGOZKD1Q+r+9QuxyPTcJdLzAr3A8lRmQO+pov71l2Fc9THoEPY1pUr2LMWQ9cJdNPN00Tr0r1ky9gtl9PZjDXj0BK2O8Wjnsu4M8Tr2BYOa8/Q4BPY3BML0Jfci7LA83PIHmLD0ZPqm9hSMJPXVAlz2btqU8tPwpvUyvdb0OdzY9lE2qPSyzKz0hp9g9hzcivRZTcr2jHys9TLxoPMmZkTxNmyE9cg9jvFCVfj2bz5s8BjFcvDfvCL0RFD+8Uv0MvNPe7r2VTPu9n4I6PQcezzyXhfW9i+xmPQOqkL2UbD89WJoKPY/72byfSJ49XFH8PSgh5T16skK9Xh/Wu1LnALslTy88uHiyPDcGNTwkNAY82uhuPQEBg72Ryaw8iMArvSbN1T2ImDS8et4dPXdvt70ToJQ7mSFPvYCa1b0M9vc9pl2CPWebk7xeGIo9Nq5bvOqw7DuWkb49ENmIvVUy5r0h3Zc81SbBvKzA+Dy15sM8H4HFPU/JdbyTjSI9nzhaPY1Paj2i9ea9CopJvE4LejzsxYu9QUinvK6DLz0TXtc80EowPVY1O70Egw49lWPfPZh5lj0yvHA7u3/1vUj9b70mouu9IP4GPZEn/7xWyOw9hfNwPW9Bm7vF6IM9HsWZvV+f/zudwzA83vNhvZsBUb0jzG68m+P9PGYr/b2aQv49Fma5vUY5qj2BIcI9onI4vRAtgTsMCPA8nLuAvY5YVz0fKKc9C6XyvTVYzr2YHqg9oTgRPF9bi71Cua49SJ7aPQm7MTxZyPa9k+hfPaYnpb2XRtG9ZXhKvZHjjD1qbHu9iGovPBdr/j2InhA9cz1pOufdBDzEyte9TtB6vYCe6r0/VBI9f8KCvYsyWj2B9oA9Ic9nvQTzLrwpUa89RNmfPKmHTr2Ngdo9UKguvSl2oT00u1I9dAZ5PS+9ljzK6iu9FLyJvQUAJbyntSu9dmyKvTNaxb2buQU9jwIivZtWOD0rI3Y9A1QQPYe7/L2UfJU9fu2OvZN/GLy6y1m9nWJbvRIe2L14NZq8klO5PMeGyD0jJyS9QEnOPT5je7wR4UC9BaFsPNrnH7yqvwY9D7YvO+2BpbjHH4Q8cmECvTJEbzzv30M9ITIwvaGtzT1WhuY9pQMGPX4BsL2ZS5C9Et87O9IbNLuIeSi7mT+vvTTylz2DE4U6Kb6avWoV3DqEEIM9AfLzPQejWz2LVKo8Eq82PTZ3Bz2QnDq73AT1PKOi+TuNA5q8NA5WvQZrTb15ijQ9oOx5vYvnhL2eCXU9iqTEPXg5XL2IpKA7FCfnPPilqzztA388+x6tPLGYoj2Q8ny9ZrShPDnnDj0N9IA8+k6IvTKmBLx/uZk8QWEMvZvoYDx02Yy8nxlNuuXON71JgDw9gzjKvRvHALtKfwu9C9OcPQ/9aryNvCE9konevYZcvry2YwO9b5b4vR/JrbwmxUM9i6GfuuPAtz2Utmi9m4l1vToj4z2X0ms8JBjVvX8Cwz2Ot6W9ShMlPLoMvbxkZ7E8l5CSPZSpmr0q+i49kkeyvKbGbT1eipA8pcBUuynKXD05Z2Y9kfMCPY9jPLtFKtc8/SVWPYDsSrwCZDi8EV85vPKc4DyVCnW9pYLCPS6FCzvoQ/q6/fS6PWF7ILxiY7W9o6QxvYd4orq78jC9IRNBvZrtFTwQ8gS9GxzIPZgmAr106LE9FrquPQ2p/r2BWEw8GiqMPU7TvD2hUc49awlnvaNz2D0kCtq9kGYaPTH4z72bp169CLSZPT+l1T1HlFm8ChSWPUP9hr2GmN89Ty5tPYTTL72H0Fw9TvXNPLuGsr0rQze6GUy/PJQC/zyyu4g8j3NdPZPDW72KRGY9fmSWPUro971aILE9lZsjPY2tfr2Rv4u9aOs1PVX31L02CzW9ZeNvPLPBfL0NeLi9oEkRO780zz0Ylmq9Hj2VvZRXo7y/ZFm83s0lO4kgITy6DdK9oEdQPXZyFbwJiWA9P37yvOYbozz/rmS8gKTxu6FhBL2BpJ69hycGvJ5nNLy4JjU9BZUgvUS+CzuL3589KCeUui4kEL2A1mw9jJfkvUiZA72JRAe9goYlvNvyhj2ejeu9Toq1vYM+ZL0ZaH+9SrVNPD1/5z0GlRi8pdSeOnAjAjuQD1s8g6ZOPY7iEDzeBDA9P1QcvWAInD2eVwS9ju60PKRwdr1Kv649kIfKvNcB6r0WNCw8vqbHPZ9Svj0Pu149aAvbOnLyLjtUm1Y9iNcevYIObzwIGOS8y1lbvZnUJLz77X+9Nu94",
+        "PY8XWj1tJVI84ElJvUFGa7zIUpo9oaesvZzhdj1v5mq9GXnJvVDiB70KjRC8ZrVIuw59ULycnMK9jbnuPCyI6j08L7i9AIoFPX8OvD1MlLK9mNwSvVY+9b1v0sI9EfskvV3/GLzvwic9hTPZvU2Ipz2Ry7i9SKLNvTHj0D0sDOs8/ZAyvFU9Sr0K/aC8rVkfvU7W1joohbm9WP8dPYKL8Dz6Q3g8gyO6PYZ3Ej0c9rq9S/LjvTyFbL2Bc669j5thPA80vT2lEQu88A33PQiR8DyTQ7s9LDDYvX1cED19x/G9BCtIPTDfQr07ldQ8iKVkPGY/9D2KTh29kTMwvTaR5jomh5M7rb2XPYmNXD0FMLw9jfd+vZeHhTznbf87vn2BPaMFYr2XxiI9m+1RPWEBIrzFNVW9FUyIvO5p0T2j9Pa8peENPPta/72alXC8U31HvXYz0L11TSS8YlQxO1EXO70/+HE9ah7yPM6RfDyVb0E9T1jyPJBn97z28AG8ieMrvVv7YL2lCWo8r8ypvUgf6L2ZZsc9jIzKPRmKVz0i5n48cXkAOxISEz2O0Di9m3s4vZUUJTyInpK9dYWDPStFWbydaLM9QNh/vTnCJD1VxhM7W+XZPQNxQb0Y8Ve9U5DDvWIc9zuwWZG9Lq6fPUeFer0ILz49mxEnvZeEGLwt8EG8+H1qvYTxYT1Z/iO9gBZEPSUBjj2lMd69fxGqPQq20zx+9UU9k86BvW1e9Dy6Kbm9cViTvZrFwby3dPI9Bx3JPTgYUb0epq09cbPePI8ovD2F35W9WKtCPZGI6z1P4Y49O89DPTVXzr2DIfU9VbQhvLjs7L1Mq1q9lqkCvW2Bbj01a4W8+j94vXOgcz2Qj4k9pYXAvX6jQT0mL7C8bknuPHLGYD0t2Us9oJDkvY2yLL2dXo89mmFTPXwAgrwti7+9jHW6vO1N671Vrsu9LpgrPT2cYDyGvKK9Tzh1vYo5BT1Jo+g9Jsx3PE+WgD0pnfE9pVoLvXPdlr2cVFe75xRnPV/h2zvzhOe7iax8PUvjWj2QqKK9I6FcvQiOHLxnj368M2d8vDo5sD2m+Pu9j04GvYRld7y7HC+8Gll1vY+c7ro4Rzc9IC7hvNkgajloYpk9h+mHvT2Ybb1A03W9D02FvaPdG7ypDaY8jTS8PSC5eDz1q9Y9jFxavR6GNb2cuqU9YxDdvUiqlzu+eYE9jZhUvSX/PT1KMti8eO97vKpF5bk5Wt07MmiJPVLWD7ymc+u9gvIJPRWT9b0WjNM9XKSvPWXxYL0AuRk9eDfsvRvBL703p1A9cbGlvS8ob72FnPg9jXFVO7gcG712/sm8T7WbO7XQOj0Ywyu9bmqXu3NXbTyCcWI8uyHWvQDpO70M5yM9mAMvPL27Dj2bMjQ9TPhKPYmaaz0zabu9lailO+81+72GVxi9Ee+hPTd2PjnViMY8mVlCPZZiF7yD/Po9j4XaPERItr0IZd48HKWePZm3azz4urE8uzogPUM35jz7ZPq9YFBkvXgd6L0y3OU882RTvVWEBzwclEW9ikNqvEiYP72em4K8mjlEPYwOADx16i29L/w7PRdJbT2UM1G9GWaZvZBuXD2XTey9GVThPJVLcz2cmP69ihMUvaRVybuBk5A9pP82vPUc87zddfk9AvM9PYwYezuFjIK9P5fMPYPRbbqH8wG9RRx7PSryBDwKIiQ9IFn9ORBtlDqixww7P5PZvOnKob1OGY09CGwxvWZYdbzLJoe9ljHFPS8Y7r05N9a89VYLvZV587yIgig9AOaMPZNnHrzcgGS8IcFSPKrRET2AEuw8sCiUO7JZ67wUsRI9pK1eO9QZrr0AQWQ9DIObPabcKL0i9CO9iay0O9pYNz0Oeu+9nKN4vD5nTDvwcc08iWzcvXFMJzz/ttc8jJq0vWhPtDym4IM86dNovaKC/zz/Lg89cnQYvRNSIr2CaD89LaKOvR4boL2dmu87ocnaPBFoFTu2Lbe7JLYCvYp2Xr0+Cte9WcvuPBtP9TuAKUk9C7UYvBX34L2gMTU857UsPUrWSTvlbBK9EsmvPPmqub2Pwg69ivSKvJKzET2EU+W8nBjwvYwn8b2Gp6I9HtvZPWZ3k71AylK8vMKTPZV1Kbz1Toi8VoNwPHWnWD1AZVW8X+8BvTt6mb2kn329NxMMvQxPMr13A1g9NZ9kvUETkL0ufJy7hUMbPKxDzLzUX8G9jiaRvPpc8T0x4GC9A7L7vK5dI7xbzku8oVD9vQZ+vD0AZje9gQv+vYv2Vz2FIHM9UvshvVx3ALyBcFC9aJ6evOCIz70mFv29HVcGPCvpFrz5hwC9frG8vY7eMbwtdjs8vsm6PGagQj0XNgE9kiw6OhgiPLw0Mhm9f0OyPVn1+zzk0E69j8RwvZr3rb0g6p89D/nvPS7OjjzhRL88kYeEPWTGFj2SVzq9NjFcvT5Lfz0mrOO8N9lbPMSYhjznyPQ9W7THPV7Kdrq18yw9BvP+vYXCrL0Qlss8AI6SPaD0Yr2NjKA8+YuYvT7ARr0cx369mPOlPZRNM7zYEAM83QbZvZfJHzuylTK77d2VPCGpuT1/yJw9BkKpvXhMhL1ZN3Y9kB5/vWjnGj1VtYW892Jbu+VUJryWz3O9CQl5vVJrPj0l1qG80d7tvVFXPz2mEno84/PaPGtJKT2R0sm9DKu8vU2GYz2LPdM9g/VePBdrlrwv+py9Ddi6PYbvsj14L4A8fKwrPZg1rj0+9qq8i5WMPYdf+TxfR0G9YqDxPYldUjyw31o9Ika3vaPcmz2Xj0S9AlhPvIc5zj2C7/g9jG63vT4+Nz1IM9c8TLFTvXKSqT2Vb9q9KJ7mPILb8DyjYFO9javKPWlpvLwvvri9bRQyvQ87Jj2W7/i8Oo4nup36tr1bYCu9XSe0vQNZFr2HnbE9n9WFPYAuRL2FXh49NAKsPZjmIj0K+aU8GiLfvRRqmT2RWfw9KcYtvZaUTL2JZm49lTvSO+8/x71B8VI9SnDwvOsZFr1lPMY9m7aLu1iH9D0stgQ9OA5ju71S/j1PLAS8/qxMvYBxnLyU5E+9nbdKvaKZbDy/cr280+xdurg0mb2Pzzg8r3N7PXNMw71KWtW9myqtPVEilTyXv3A8qI65vPZaTT1UMje9l0brvHF/NL0IVUM9o34tPM0J+rxY/mO9jyNsO83V6r0rmja9NWd7PQz7jD1bP0G9oNRaPaAVYjx+qMO9kX5AvVJonDvwqzS9nI/hPSg4Bb1Hxzc9IESWvGnCobzpsfS9kwuOvFnWjj2ezQ+9k0uxvMYeLTyx5sE9eknEPT6dfr05SDC72UHKvYTdc7zDtmW9jRETvU2gtrxuw069hvKSvAmgzzmDBGC9ERMiPKxE8buS7WO9HJRhPQueHL1x0VW7FFoJPGiAEj0f0co9RybDvQI1mzzW0lC8NyQDPZTKmDvElWy8jTZZPTmQ3T2FBdi9S1I4OWOJhb1hec88i3gnPQ62270AQLe9XmqevVQc372ANZ+9L5GwvKd+9D1bmH850Jl+vSbIYD2mBwI8aJYovFhazT2bbf08hNC3vKtO9L05M+O74nurPaAcdz2ercg9lUGsvMON671wora9fCcXutcaKj1enBM8lVEWvVAG8Tz3q2+9obIMPIVj/ruFASI9Fgm3vKIvGb0U/bi9ZzbSPWvQSjxWqLa9P7GhO/kyGz1dlcS7bsVjvKV4Ar1QX2G9HWmevYiCPLrJhN49irbEvR+pLbuv5fQ9ZhKrvSfzcrzdA2Y8qME5PZHVjT1H+KI9TyFvvZlBkT2VwzK9mIP3vZAZfL1znQg9AqysvZk2ajzmAzo4hDtMvYc0ED1UK1g9ojEhPMMueD1OoN49VBC9u6K64j0pbS26m4rovXDzIj2a6wA9eKervJczVD0S7qS9ULjTvQGCEj176MO9NEWdPNzulL09yRq8SlCBPT+cBr02jty9bCGvvTCxM71gnXi9CqkPPYLbpL1hnXO9m9EWvZRpOzw8PXe8slg0PVn0Y71olz08g6DRPXwF3L0B4HW9EEd9OobJeby4JbM8omeUPQHHkz1LTSs9D07BPEJbtrz94gI9XgRXPL9S2z0xt7S8HAgzvWuxij0l21O8y/WXvYT5sLrRXXM9kSvovDCtGDm/fnU9kZfAPRBMojvaw+m9j84sPZ4ITzzurAO9Uq1BvWl71D2h8D+9ofhZPYkQ2Lwqnts9dvt6PRl1Hz1lbca87FCKvPw5c7yDGb+9MHgVvacWpD0jYng9USruu9yqdj0PzCa9DX2RuzjfkzpHbo4899WgO/wkob1ed769kh0pPGsPET2Lv/g8ISMVPMY6Tj1MTgK9cEY+PaE6ATzks4u8+CNQPV8N/zxGE4A9e0ZzPCvUOb0KBzU9FxDnvIdA8r1pBzS7lsHWPYg1671E1cs9ggfFPNdyY70tErg8nfJ8PRjXEjye2fE8hbMMPHQUPrzL22I9c+EeOxatwD07lde9IClWvUuH2r2N9QI9kvIePBwiUz0ygni8tfjePY8z5DwM/1s9EchBPV6alrx5zZu9ThY5vC8sPT2JGO49jfNevBFny7zjbL088IBGPFTQ5rx/yN29it9nPBgcUb14jVa7hMvRPQiYUz2lfrk713oFvQzy/zs/My28UcM6PFEdpL1gYQe8qHW4vVC2jLy8PwU9Gd/MvWgY+zw/nso9If0jPAdYCb0cd7u9pZRPvSHDVz1u0H09S9d7vVM8xDwOn+S9IxyovQpPhTw2u5U73zCOvWF2cT0xMJA9J/GHPSaCOjzbyW89fHn3vGzo6709zD48aCbfPSgfiTqRXKY7hIvOvVYT0z2RpS09k5MmPVqjZb1C36M9RJU9PaMb4zyrUOQ8tKVZPAf8zT1W/Hm7weWbPQTlm72IdHs86pHgvaB8Kr2DFiM84bBsPZlVED0HqJA9mBuGvRegprzZ/+k8g6zxPKiRmj2YGKk80TK/urQxcr1o0ZE9l0EdvaAlHj1ca6q9XlaXPRXEWz2FCaW9lANBPHazkL1MBao9KULYPS1+5bwgyRu8/RrovUvTjry/D+c9gOuuPaTq2rpEwAu8CO4UPYw3lr2BVVs8azINvZA7jL2SMeG9eA72ubsXCrvSrqo8+rl+PJybETyja+G9ITUwvP3ugLy22wm8pKLCvZcOqD0rRrQ9N3/JPEaAGL2eDlm6AyJsPQc6pL1w1669JUlBPLruvj2Xlmg9JNvtPKGZvTxAWZs8njxrPYNfb71IZso9iXPAvQTRtbyCFC49IlemvUnNVbs4ktK9Y8WgOvnrXrzGrAY9NvuQPUQmor2aK/09DELWvW193DxRCcI9gKqVvYYzpb0fDSA9MbEcvZx9NTxaSpQ7/5ZdvS5pXTxzHu09fq/4vS4GhjzTlZK9hudSvXRsTTnSfNu9i+IjPWIg6r2dSo69jy92O47ta7xN6ry9gedSvR5w+zxHJvI9BCYxu6PXgz0AsuK9GMNNvQcmuL2EQPy81tVqvKbgxzws0Pi9D++lPMVvWD2E+sm8Dvy6O/NsVL2RmSg9PQpMPY+tID1GZfI8jpBmPZwQQjyq+S69fNlsPUbGlDxBK108RDm7vQz+27z19zO9EJ+FvWmgF72dcIW9Fw+OvSm00b1eqWA840XGPLBGXD2lkvW65D9wvD5lAzwgl/49UjjGPNUXnLyp1B49A7smPDmHhz0OzNI9aOPhvTCfpT2dFQ09LZvHPTGUKjwlYAs8Zz6UvZ8uDr2enfE9mmzyPZB8Lr0JnnO9ZMRSO7Pg8D1xi7C9ELYoPYAxWrz/2c+9EYwMvUjhLr0RXdi83v1svUyYmL2QaDs9go2pPU7gyT1hECi8FXWaPSwXzz0DUNQ9mhwnvD7rH72OnDi5gns0PZ2TSb03fCw8poYGvIV8Yj1YcDy9J4R0vO7Dpz1e8vg9abw2vKHrsjuWhyE9W0rWvYrH9T1U+ae8LVZtPTJkqzzmv1i9mMqAu6iJZb2LyNo8aBUnPZ/SGTxgRB89jnU9vD5dlL0LJDe8tb27vMDCLTyJoDK9nzPyvCQNXL0FofQ8kBrJPJBxMT1j+2I9HBePPXxl6bzeTU69E2QwPEscgT2mEM09ROaVPTJYgz1mUyk9T4aePB/PoD1E0hm9FWUcPaTPfr1iHHe9lEc1PV5puj1QkM69gpqIvXvWP71iwVQ9Wb63PIha7b1UOnE9h8ghvaOcFTwBmso9lWxXPYmhyz0I36O7ytoAPLu5XLzacvo9XL16OlCJKb2YM3e9pG79vU0BXz2ghuq8ypZQvWpIdLxPA308uBu3PV0j2D1XMO29mx8GvIv4GTxuXVM9hk/APIaH6b0x1/c9RaqnvJ1TNb0glZM9MBsOPKjpej2Aj1s88ez2vZerpjz318o9pAf0PYyFTjx3kLY9UUqZPKdpub2YFJy7FAbqPU/647ypLW69oZU4PEFpvjwMIgs9mB+4PXjrxj2hfFc9dwSNPXYMSTuKSza9jx0KPRgewb1Rv+k9iFZoPRmj7bxzWUM9MuVWPM7F4r03PCO9gK7NPZalXb2b0Hg9MyctvINXebvLmD88yxPkvWfoEjw/nXw7teD3vKzkkbz272q9gfGYPWk+hTxajHg9bqdkPXOzibz2ZyS7F331PZnX572lsUo9TWjfPSxI9D2RQ9m9TBKUu/sSsj1o8lI8ctp2PZ5LvzvS3ta9V4+EvWVj0LyhztC9OlqAPEIt6LxSQKQ9QhewvAlk1j2iQYQ824WVPKghszyTf+g9XcxCPZ9J4j2WVde8pTKLvVHkj719iCI8jD2FvXWbnDzbKBM9YilWPDXHpz1fw808jLw4PQDlsb2d/Tu874QPvQ7WKL0M8ww9USinvOcbTrzmvQ+9hy77vRbM/r2Xrqa8IJ5IPRFt2bx5KG49ozckPPvYT70AC0o9CDm3PLIbRj0eLCs9Si04vX4AYjuRSjK9R6VnPSPIQb1te8I9CsH5u83knb2WBRE9Rlr/PY5Blz0A4JY9WPe+PSSOOT14rKY9QJQJvUCt8LySzIC8iJgvvQhvgz2JMEk9NZs8PFQBwT2F0SG8C96QPP9Akj2F5609iUJBO4qVBr1WzOW9mk/ovYYQTT2UkaY9hK2RPWtBeb1eNUU8l3FnPUScVzxiTSE8IMPMPTnpYj2dANc9TioZPZqZX7zNOp49AJ+bPQ2EyL2W2Ha7mCyGPSM/PDvUvtu9gacaPPLayj2YP8M9gYlZPDnRLTzB+SS9hLSNvOORez092UK8nqiavPfh9LzXc1M8kANvPDUu7b12p428xz1SPYISWT0g+yu857A8vTGKgLyupNO9O3q+vZQyHTzIrc49RHd9PInciTyiQC+9jy11vWBYoDzsGV49m6lJPJ/ctbz0VoU8G8Feu8lZ7DysKBQ9fwU+vSi88j0Qoxc9XILPvVJ3S7yNwuO86BHTO6Sdg7z1rI09Vb1EvTDOWT0kM0Q9UQ5iPaBRabv5zP+8yjIMPaA0RL0U3aK8qXkPvV8yvTuz/W89LEeLvL3jJb1qmUE9dwHtPRLabz1M1yG9T5s/vVomfT2Twe69gxAaPHSPxzzF0FO8ccKmvZSamr18Ttq9ZIobvO97CT0txG49pDSDPCGS3L2RxfQ72PVyvZgZPb1L/Ty9AD9kPRjOdL0oARW76uhyvX5MQT0c3q480vXSPZFv/Lpo9t+9n+09vVP53b0m9VW9ikMLPYrEPTzEYTA9iaS1OlbHib1Facs8gUZnvTsjGj2XvvI9A+QwvZo8o7pgyq68hrv2PPcXyry5cGs8eM3sPYIl3Duxits9jQC0PApcpb1FgoO8gBnAPYhsjT2kfUi9a/UgPJ6BILuWtUO9pSB7vEP/T7z16TI9NatxvDAiVb1TELy9R53MvB2xLzqgp0M73unZvY8NMb0dQw89JBOuu5wUfb2AHme9eejUPZ+q0jvtxDC9Q9QWPYzec7wSNEm8nzUlu4foo7yhgxA9gzaPPIMJvj0VJ/K9iht6PWoxhT1c2K28kW8VPTYpLD0MTy28mIjpPY6TDT0jk+C9UEhQPV3u6D1ghSg5dFjJvWr3Bb0uzr29bRMFvaAmVzwnjwS9CLkZvBz/ET082BK9pS8DPUZNsj2V6/86xG0WvV0d0D2EQVO9NXAgvSzhbz2HVha9aMpYvYtgT7wywQC9kovFvVx/37wNZSy8F39YvLYRoT0guvu8tS8nPV/A/j2JMY28yRnuPRG0MLzNahQ9IMzKPV9XVz0MVBa8B0ZRPRlhETxNgBq9o5tlO9xxjT2gxhU9j1VBPDZjkLzTg989IejCu5xRUT1w7Vw9lKriPMQRrr2TWmM8dWE1O2t+hL2D1AA8kKLRPNQHL7pEfMM9Sn0YPSHogzvYpmm9DGTtvVQvvrw9DaI9megcPUUx2ryNcSg86FowPQoprzxl+ca8g4O6vRPGHbuQXBs8K5/jPPK6QDv7DOY8daBIvUxYjzuXGMs9NxbtPVSKD70h3CK9ahtAvOC/mb1VYsS9H36bvNju0Lvi/0q9SlH0vWMMUr2QKR69YMkxPYqGzL1D6q+9GwnUPSsPaz1eyiM9VUOjO5zgxju8BbO8ncxQPUDtKDydrWM8JWFkvI9StD0U3jy8tRCTPWKSTD1kSKU9L1BfvSWdLrx134886aNrPRc+3D1bIQi8MS2SPX8rI7zvut48W7Q/vZPC17tQLy89WvybvRUZyrz9PPQ9mZpsvS2juD09EZ07tsM3PZxdujwzMey8YEAAvXuMVb2SXyO7ye9sPWZhkr2YEd89KV5cuqlOlD1R9fk9W4l8u8BmGTzSKqi9lCAkvaCN7j0L5rI9ZIAqO+DEj7x6gR28lp2GvV0GVD2aqRa72rh7PPcrTj1rLSI9MCmuvUNRh7x0yHE8qJonPL2BZL14Zm68rvO4PW1+Yb2gwf69MsVUPITx8ryAvwe8Gq/3PPa0Z718vfA80GDzPTvFGL0PL0I9HUmsvYQa+D2EPuE8+0NHPX8O9bqmkBE8CbfBvP1DwLyrnb69ZLIiPKrFeTyP+Xm9TtVzvRVqMbwZwJG8vrBLvS9P3DzrJms7hPWKvORAzj2hfRI9AOoCPOUK7jxz1hC9VeapPSFIeL0VjsC8io1JPaXPKb1efPo9f9Jou/J6+T1o1ae8t3eFPQEsnb1NyCg8k8CdPQBzATvJ1bQ8kxzDvGSgrrwU1GM9eI8iO9u6K7wDYu09m1/2PXidQjwcCwQ9gh3wvSrkXry63Pw9JpB/vQCK4LzPbDS9jOi1PYgWiD2nCKY9njSdPZ27uT2UAck9VBtNPOnn0rvlG7q9iIRvvUzgrry6ltk9O00XPNuitj1sW3u9hlv7vT40iD2lVn69mDLjvRp5VL1rlOu9i28/PT14IDy3xs07Y4KAvQjgDr00v28845umvOWS0D1oomM8K5XtvD61rr1itcY8hBDMvQkIIjyMami8/M3pPCn3t71cfou9Rf9yPXs1NrzmYnM8qlo/vZGx4r2ItwO9gf4XPaGz/z1RRZm9ntLHvWxBD7yLsiq9jSAeu2cunTvo9bs8dXAcvOZdbT0pJQq9TSi6PSkiNDz5N8I9gMBJvYnqOj2I9IM78LU/PRNITr0otuI9gBPevRMPwz120tM8ymgUOba3dT1PR6A9ZFq6vThAxL2R53w8uAzgvOoXUj2dbvY9nRTovH6cZT2WjPU9nZ9fPaTDXj0shXI9jUa/OvY+cD0hKL29pb/bvZqwnzsPQUY9TbaFvQLKRT0P2ni9Q++5PZUHBT2U1o88Seu/vSwbfr16kdC9I53Ju0u+8j2KP8A74c68PZnXVj1q5Ku9nvd6PX4/hD0kj8k83ICtvLigFzyOUCm9a0jnPLY90r2dDyi9eP3fvAIj671/u7A9oLkvvZ6eLDzzPlE9cZuXvQMPHDz6sSW9LIMBPOfS5T1l+Qo9HZHkPSFvPjuLp0k9pcrFvWi/sz1hXA89kBdwvJPtNzz5wYs9Hg+dvE1Kn70eaU65RIp7PDjS1r05qsc8J4+MvO5uXrzUTZu8pmHfvYywAr0ihwu9UXq+PLb0zD0ehBa76Lh+vSGRCTyE3zA8OJsSPZYbrj1TTeG9buiBvYXGVr2CUkc9hriHuuO6L72ZIfq8/MVMPVod4Lz9EG+9T8vEvaMyQryF9HM8gCDLPHWL8zylV/u8tcMPPXOonj2MBhi9PHrwvJ0mvz1O8s09oOHMvOhItz0iZt28+t7EPSG7IjuF0em9jDLUPU4OxDwVEKU9oxTpPQtPdr1BI808OOO9vXiopr2DXxk8qzrJvYmQuzyKcfk9aGB8vVbX2DzoD3C9Co3JvWPOqz1Vq6E9QCaDvWfXKb2ZHsw8zUfjvYXYRjys2wM8YyhmvZ/gZb1YoqK899kOPY/GmztuMJ+9neWCPZPjDbyeJ4Q9lwlvvUUKqb0oazo9P9b/vVt7RL14TnU7Q9S7PSVJDz0avlg9GV44vHzTsL2Au1i9PQx4vUd0I71sUMQ9FtgwvT7Hr7wKHi68nVsguxXN3r1qElK9ETFbvXYR/T1wtvC77r7vOzpZHz2UBoE9dY6/vGwUWD2ervS9llWovabx6z0qd869Ehw2u5SaDD0j2Ig9luQePZqktb2fkoE8eCvjPUCPGL2fRSW9Da9sPWYYsL1sT9Y8HZgUPWJ+5T1XKd+9bRkFvVVnnbxQFj29cgSKvYjdOTy3OsC8zgk2PaGqRb0dCwe9PJmcPRitJ71oWO48o1Y4OqKggr1sxmm8/NirvXxsdr0wGHm8VoHjvR8pIb1f2Na9dmv9PThh6r0O8OO9J8fGvCEu17wtwxo9TEeBvJFWsDwSMD+9Kc2LvWhrdTyRXyQ9NZnpvMxvqLy9wS49lZCePJBuEr2iUCM9lHcBPJ1AtrxqIqY9gu8QvD2XAr2gKmY9FzcdvUE/Dz1sQGq9eqdtvPPOsjwpxKW9VBw7vQIfyb1JHu69PrPlvV2/y7sezOA805O7vWU1RjuP7NG9puprvQVHnrspCQS85MZDPZNhwj1pag08JS8tvZa70D1y+kk6YQTRPXrPhT15NGm8QZg+PV2A7zyM0WM9Ze5NPZKeqLv4tNs8GAWJvVfAyjwH0Oq8czMNvSQ/Sr09XnU8CskJvICEQ72cr7k9kjirPZAqkj0hrRK9pQJkPLdt2Lzqr9I82iTwPP7E/r0m1ma81ZrCO7nk2j2Cx8m9lMR3PYHfbj1PXg+9lMM4vZnlqL2JxZu9h41bPYaTobx/LsC9PfOkPXtnqbyR3wE7d27UvYDh7z1yQVE80afQPRFUDD2AZU48zB4sPLj0/LxHgve9Xs+JPaJbMz1tZLs9kwvCvJOJW7ueA3K8FEKPPQryVzxYz689g7tJPVm/t72KMFu9JDeQPUB6DzuNwIq8yhVpvYvbF72LJAC9PCe6PYPRAL1tFC+9RRaFPYpVADz6biY8T1tDvJiJRzyb5Es9VTX2u/k5iT0t7uG7Am18vS4aWL076+m8wUmYvXwlJLzd4zi8Y9F/OhCifT1ycF69BcXkudbccD2FPJY9a045PT2SijuR1Na9iutfPSS8LD1yz6y9o9eqvYjcrDzSsTK9jxxFvP8MxL0F0IY9kzg4u9YAZDvN8DW9mf/KvQy3bD06fI+8PwIwvNBgHb2eGva9BkFAvSaaITvnYou8mA8xPWUvej1iVv09TaBtPLH8RD0H31y9X1wgvSBP/7yrXMA9ZqNPPWcsYb0JkoA9bzgvvUOdPbn6pOC9kFQDvKoiIr2YKUw9m3HrPYrUir2CieY9aPowvXXUMb0AWCQ9FvsiPSqj1r2lo5Q9Q/E8vYJ8Ub2HK869AuI3PL/hajsb9Te82g70vYv+9b1fh+S9F9MjPKEPJLwVNpy80Ih9PWbAxr2GxnS9Z2xkPKMQKr2eI2c8PgigvN2O5T2EVm69LaH8PJq6pL0tqRk4rbByPX9H3Lzfvos9jZH1PaAADDyq8cU8hPdBPPYqozskvA29O6GZPUKzjDx+oUC9oG5zPXdFtb1cn8k9EVp6vUAuNT1s6fg9n409vSLtaj0XfGA9AqhwPJ8yEL2IFRQ9msNuvLGvETx2BmO83GhDvT87Qr1S1869mV0mPSH5AT1K+7S9flQvvPMjOzzsobg8vIw9POEcfj2U1jW9JEfaPIe+BDyileW9oyupvLjjfjqEdxC9oVVUPXpcG7thqHE878ENPKtLVz1kiVw86HRbvXxa5T1aD1C84DH6PP/04L0b0XY9kzbnvVEzxz1J8HG9gWORPYYK9j1GmeY8ZtJkPYAEabydwTs8yfFsvKqBR71f7kw9WWkyvEwn/T1VSCu9odYCPWcpez1h74c8TKRiPQR9xb2K7S+9gYKcPZOHDb0FzcU8jzlQPNqu7bs++q07vuwkvIM2XT2dLhK8vuofPPzefLzPQ9k9V1v5vYOi8b1hevS7oXAePWOiXby/SyS9nFiJvFnaOz0GxFI9l2bOPMVR370wIso65qbAvKYoBj1b4Xi9pxg/u3bUrL2gZNg9ayw5vSG7VLyYvvG8oSuYPX2eyDyKLSC86BL4PR+F9715PMi8gnM5PY195zznIz69n/P4vJkwVT0ToQc9gJMqvQlYGbytcH49gFL4usXXSb2AbBO8plB2OxxB97z9CBu84awovY1Ui7fZg8O8BhoXPZ/jq7xUmly9clsBvToqFT15Ujk9kK0VPaQOb70CoGK9oVsfvTi6dDtWVTo9UulHvPnUCbwWRRO7q2uCuw1eZT2LWRS88F6YO1ZY0bzSMhG9nZkUvJxPAr1enT08ZYJcPU9pnb1DfYQ7h54XvacT5T2XCLm9g80/vRcv5L2PKr29bP6RPGwELT0ryLQ9iDpPPaa8OD0cwhO9WyBUPabP8bzsT7Q9jjEJvDF7bDxTkqy8rUdSPXg9Wj1Pbpq8lMamvUtRIz1yglq9VgJVPAbU/D2Cya69L93zvXJZ2L0g8AM9RbkovNQFor0POSa8z7vvvQCj371KQMa9n/vdPRSF8T0aqTg9iNeQvGIWOL2d3QQ9OehFPYao3T00I9y82mxXvGbF+z0R/ta9Uz2dO1xmNL2AP6A9ecJfvaOUeL2DmEc9LrG0vDS3ETygQQS9dYHhvY6+lL02BQO9SDkTPLxZuL0YVIC9iEPPPOaYqj1Hqzi8q8QPvWRz1jxyK6Y9iqC/PYLmoD2SMHU9GMjqO0kupr2E3r09oJfuPTffpLs+dek7pAcdPYKUSb2a+Jc8jWNmvNqvyb2Ve4M9T9SdPZwuqLvGslo9kIlLvZOmsrxzPAi6iHBrvWtPpLuHna69cgxRvZSy+z1mtmC9oImFvMZla72FyUO8pQlKvCn68T2KvK67iZ6bPYWqYby9CwW9IfyHvZpddjypUr49psnLvU8YZL2UG1o9gEk3vNll3L1j3YW9AfZkPDULsjxbAp676PGlvZ7BqTkFoUA9WcCqPaOpRzxjId485DghvPNISD1aqQS9ih4bPGAf6b1zMm49Xvz+PMwLAby1xWg9mVTvvUL0Vr0aqqA9Ic/qPW5PVz0Dukg9KNUgvH0BPz1EdgK9lyLbvaXAsb2Y5qo9RgpTvY9xxDxwPQQ9OBiNvBNlx70Il/29glLqvY6fyzwYWU89j1e+O4lSBD2OO+u9UYWfPZz20z07fLS9H9LkPQ3RIL1d1+w9gIZ3vaW7tz2RQ8Q9n2wuvW5RfDzA/u29Fd0APZMEl72ecRs9Mwm7vW1CiDzX2ES9J6yTvJl7pz2Zan89FrzWPaIDk70yHRw84ABqPXhAtTwgd1W9VAYLPPPpuTvVkAu9otBNPUcx4T2mdVm9O7F1vVqgWrxwev09nxjsvYPFTLy/Bjq8POHzOpqyDDyOz2+9oOC0vTNvtL1kmAe8YGnOPYocVj1A+dA9kc9rvaYv4b00+ca9Um7oPOVBsjzOUwu9OJNYPFWfJj1zELI9lnl6PRPv5D0GyKY7hxSsvZRm5rw6+L+9NED2PYx8SL0vMmA9QUhRPVpyBzxub4g9jS8YvKxQar2e8AS9OWu0PR+Akb1dsE09nraevKiYXDzRnXy9mkQgvWRobz2BKE28U4VcPHzPrz172xC9nQ22vGjLwz2Z7F89P8g/upI0NL1U6BG8xZhGvZ7guDsx2Fc8ux8VPYfP5L2d0z+9iPF7vTwMFD0Iy409UzB/vRPGljx5r847IB8SvZGPSzyc+jq8z3MgvMDRgr0S6eO84PI4PNiv8b2W1T09j09uPOP8gT1MNRi89wSKPTPxm7zufvG9Vy4UOtHCsr0Fkla9YFQTPYCJZjyVq0q9Sey9vZ/9or0uem09NvbpPN85qT0qzzE9WDlGvOqUDzqFozU9C2CWPZRlUb0wdty7gos1PW6N6rzKLsO9BUuUPTmZ8L2WrzS8q/vyPQVG7zqytz89DCGgPScPx72K7Lu8CoBJPDircT146OM8EqGyvTFuSjyabYs8rQv2u0cL7L0TWjQ9RCe/PYvhxzyQngq82Nu/vZ5U87y1sWc9Gg7JvYrWcr0dPAc9kDZYvTYRRT2OTZi9FyjOPaAaXb0Mc1E8adyDPRlX0r2JBHa8VvLPvXHQ8j18sF+9X+OiPU2Kk7zOvIm9T4X0Oy65Ubyx3mK9QInkvZ2dYr1k7BM9cAPvPZkwlL0QJUI7gq9hPJoJ/T2QZRa8qOvTO8S+5j2dSse9pFFkPYiGgL2VBC49bxbaPXY6F7w21l29JY+1vaXgObzMorU9aL1hPAB4sL0EIM28BPDtPVJcKL076S89apA2PYDt37yJ98S8Jr8EPQw2fbvT2mY7J6M6PU5U7j2jEbs9VNLsvXIMBT0POcU8R1bqPRMyC71tMS68A6C8PXiW7r2T25y8yUTwPSU3mTybvNs8VEdnvW8w6Lzc7L286dnxPRp/eT00X3w8xZCePOsHdLz27GQ85hWePYQRqL2ZULY9NCfQPUBDnz2hynK8txnEPQclsL116ry8sGXRvYl8Tj2l2C27oFA5PFoRWLzvrVo9VjdlPZEvF71AZv89V4WQPJZfc702hua7HW3yPSgpuTzECHS6l0quPGGdyT2PJ2483/rivOoUCT2ACqA9lwsBvY2Bg71WM5a8ia/LvFXeBD2INE09iVRMPZaHrT2Vhcs9WFQOvPxo+D0EAli9EurdvI0mtjzzanO9fUsCPZvKab2U5Qm9dvufvTEs072GZdW8YHtRPWtBTb0oIJG8a4AcPSIeAb14uSy9de2juhvBxrnf2k48cB39u2OUTb1FzZK8Ue3PPaD19jlvmde8wI/cPUB5sT0G9nG8Epz2PVy0wLtSyUg9b/hpPQ2RyT1p08w8/+GQPYc7aDwLa4S9M+ugvWvE1D1WpYo9LDLRvY3Od7ykMz88/bmiPQpfmDz6sCq9kGDdPFFnFj1lKOU8z4RvPRa5trwjf6g9aimEvU5SsD0XsH09jYdCPXLvoz2hPPu83VCPvXFQIr2evuG8W2bNvaXFiT0eWQc9lJg4PZz/RrvkJNI9P/l7O7V/o70QMMs9Z2gjPHVBhzwxigC9o2wNvYNSjLzy+Xg9jt3PvRgvrbzKNug8oiHavYThzjx7EQW9dVcTPQTn/L1GMvC9doV2PF6k5To79709POFEvBkFTj0okhA8pYBrPIQDxrzs32i9gmIRvXcdLb1Oc4q8wrLaPYKpj71yp9Y9O5ZUPFlwibukF4c9JiO9vD8Kbz2AYM49BGSCvMJ/ar2FkXa9HwNbPXv4Kb1WB709lY/8PX8EJD0sOfC8iuOsPT7UWj0bR8M9pOFvPaJoLD2OTW+71CNQPW/3KjxXUKo8hJFBPYiwmD2G6Ny9BNkTPR96dLy82L482UIzPYerBDwwMAy9Qw9fvJ2A+LwcAXY9GP2mPU5m5b0wgbM9bbxIPUCvvzxKf2m9guVFvSN3jr2irkQ9nbKevTS6qzyOJaS9GQjlPZ8uoz0jRRA81IbyOk93eT0RAei8cd6yPT3t5T2Pl1k9ES0CPP1zhD0V0ds840jwvaH1krylQzm9oIyivTLTQz2D5v69RZP8PVI0uDsT3+M8GwoGPQA65L1SIGs6q5nOvPuc6LyNIw89XD5JPYZZAz2gvJK8ijRpPUt6571lTYu71V5RPTlsELxkauA8DFrfPYez2D2HhJm9WhUsvRib9L2Ldqm9pATbPS3DujtA5RC9bxeEPC/voD2X4qc8DtUrvYqI57yF7w87/+vvvJldbD0gyMK8jUK3PYlZID2J5/I9L0hZvU4p1T2QU6Q88ciwPUzj6rytNi29WeLDPOiN1D1aL6A8wXVHPVjIArtMIhK8jp5CPTycejxZ/IY9L6vMPYvcZ72BJpe8E5JHPLvvTz0vals9UzIMPaRqmT0s6eq9k92XvY1WDzwxZHA8TjgPPV2jZz2eUag9S5ZJOtRfkj2kH7a85G6XvPJEwj13VDu9Bhc+vQGSTDy/6uO9jqZsus2e4ryzS8k9GF0LvaBroz0naBU9iZPMvPWcXb2De1i71jg9vOMzyryg/3E8ii8QvZ2p/zyNxiI9DgD7uyN+Rb2COf89IbqTPSVGrjz7fAa88yFLvUKhC70h8eQ9XEgOPGNEnDzG31w9HPpXPWy+Mjy+5py8i1/nPYsTmz1r2bO9cBX3PSwcxT2XaJu81JLOPZoq+jzdAsm7UFdbPYLExbxhhAc8NfLOvY6QKj18Lzk8uWkxPCDRML2FBf89PErjvM9bFDuh9te8nrZiOnL/Pj1fxE09izrWPBM3fL0WsKG9mviLPS4Lgb0RRo69AhB6vR0mvzxVTQw9KC5wOt5DCb0gl6A9iy0BvXxfBb00hmc9fjouPRiR1LyAics8/z3GvSiIhbxf0XK9gjX8vD3rML07ibQ81516O7OOOj2gPEC9TkidvQV5nDwRNFu89fpIPIww0zzzL+g9HZndPVfjdL1ulPI8+NswPXsGJ7zX7K09cpcCu1AzRD0WeH68wNgpvZY1ST2XJS29jJ7VPXhMYD2h1Ei9IdSKPQlOmb0ZxLu9DbF3uqMvj7wHnc49iX6OPZylXjzk4To7r8Q7PCGuv7y03na9eH4evTMEh70TJ+O9eN18PENIyLtowaM9aUFZu9kr6L2aLI+9oy9HPW1NR70RwxK8Md1nPKy0rjw5aWa9mEL6vKTWm70fjDQ9k+Z4PJN/hb0Z7uI8o0SgvWQiML1qAOs8SYgtvQEVEb0NLrS8gM0YPYUEWbwVKHI7xE/bPSJuLD0RW1g8GrfYvKbeEDyEHwa87/U5OdTTMDxZWmi9BuLtvTAmrryPquM8WG6FPTJ2HL2Avey9n8bNvaFaaT194ss80PRjO83c8DuXQfK9UXePPSE7Jr2CfRW9gl+UPZUgPr2etu+9evURvGqhaT0bbyA9TywkuwvmpT1a1+o86Ex9vT6iiD1qELq8eraDPDVmnbuOYFQ9pBnzPPjzvz0+3NW9JyD5PXCicr0HYgm9kJ+PvRqmC7xT5h687NxjPSvl3LxVsBe9parDvMasMD2Vpzo9k1TSvUD8BD2RnAg9SUVlPaM5eL2A2229ngt8vOXCyD2m2p49CowavW7mo71EYJ09lEAuPVGjKzxULvO81uG/vZ61JDucr4q7YThBu89LTbyVGaW9WQ18PYrwA72dX4w8td9QPPmCvL2Ocrk9X24mvTYwpT1UPqU8t0iiu1a5+71LixK9O67JvVwoqT2AGEo9ghnXPRn0Uj1ZM3g9o/6YvOpcdT157a09JoPpO8KQLLv2wfq9bfL/PJB3Rr2hsAG9j+nlvRvsMT2SG5Q8niBavXhWNj1NkA68vUMivNCJaD0qoH89m3TNPRqVhzyuKnm78IE8vKSMJD0InUw8aiJdPZuLhrxmdkq72+Q3PO9toDzlpBC8uhkMvPAlRryFglM9nsCuu1RBsDzJ5c89o8EfvUhxszyJ7QI9XsM/PIwq7Lx0jIO88kc1vYZeeT2LiJ+7hOtVvVzYL7vMqZw9pFzQvRtm7jkRzk48mjMUvQZev70UbxI9CizHuzK/P72ELQe9Mf2tPU8di7ww4vG7+wLGPHT1GrzVKBq9SbKgPZN5j7zTbUE9gfu+vUAl871+9TU9HOisPaIKyj1rPey9gbpbPPtw8D2bmtW8t9v4vV/3371Cgxu72ebjPXeFOz0Erm89YHYlvULYTD0tyHs9k4j/vSX9Xb1HHcA9cuhFPQmnCz2e4Fs9gdi4PZY1Mj0drIM8GyR6vAi7S72TyiU9N7lCPQC2ArySk6c8oNi4PY99gr2d4rw893SbvTR7Ezvik628ZRdmvOjRw7sepQi9kIUyPOB9kD1uoiI9HQfVPW0DHr1DMPu8aq6jPO/VUr0UVDI9ni9KvQrUSD2VA789YsqtPLdHbTwLNDO7yi0RvXCD4708lh474qFkvR/fJj0O1eo9RteyO+/4or0COw+8jX89vYr3d7yljwM9bEDbvY8i0Lmjw4K9XkO2vF4tEjydL4w9nAZ9PaO3djoPMr286/5XPTxsDD2ScqO8oBA7vOj9Cb2A+2u9kVaMvU6SFj2DJA08rbqcPRwTFD1tswE9OopOuiXKzT0QMmI8b9RXPTN+kj0ourQ8ZyadvTM9FL1sboQ9gxwlu128zr0l9Li9oqU0PVBXeryS5ts9Dk59PGpsi70bl8m4k5oovY8GqD1tOJ+9A5ICPZoNUTwB0Su9N/5lPYtBQj0PfFM8EEIavYzeYDxZU9Y9f+93vZQ7QD2aR369PmfjvIIYkjtST8k77e9NvU5bJj1gd2s8kaWlPEtUO72Mo2I9CNjMvVzx9T0olzo9MqpYPLyz9j2kCyc8KfsbvKH+bz1LJe89Sx04PGsBrb07kp29hCsSvG87Xz0csOg8tf1cvQaQ+72Efps8AzSCPXHDFj1gXJk9mrFjPPMLWb0FDPE9jMNDPIyV7T2iYNK8i3LjPJg3tjuNlQU9Y69rPTxQk71kJRs9dVdrvWhKVrxiqqk8ICTePZOKzb2koPq9UI1rO/ElRD2HKn69Y1E3vVz2WL0G+u89Nn/QPYADO7v/qRC87+eHPLiEeb06O0w9fSXEPBunfL1jsZq8lVrSvZDwfz2YBia7dA6mPZtxxj1FkbO9Yh/YvaAfrL0PuKe9QauvO0RDxjzZ3L09lFBrPCOBSr1pjWy8k/TkPXEsZLxIrFW9MLLIPOFERz2IdTi9fE02PX5Y5j0dSYW9EcmvvOVOZDyf2cU9Ov77PWLCDTy+Ol69F8zhO9ScPL2MQ6e7Qc7oPZidnr04hTW8sTiyvZIVuL2RjOI9NtKzvC7GQj0zLKu9PMj6PDcLHLyEK1A9PmuGPYd3371YyDG9Ig1TPHUMVb2K3M884DihPNa/o7u/kjc8V+RpPIR4ibzfCji9i8fIvZEqjD0kYx29hk+Ku804vb1b8Y68Es1CvYAvTjy9/XU9OXXzvWL4VLxAMuc84rz9PaBHHrxFi+w9c+ZlvaTCCL2WMuy9oldVvVYzxbzkaqa7uMCMvQsFK706KJW9lCktvQJsszznIWM9huEYvZWBYbzT7as8/K/8PYsBezziG6Y7gBb+PYHxfj0bPQm9KNXpvOQGfD2CsDU89/LGvZh+8bxBfFE9mjUPvPLVyb2chgg9OfbtvRetQD2VATo9WJY0PUe9bb2B+5S8tYbdPYjIujzhVDO9mmRxPaBB3r2fm7y7eguKvZZBVTxakm49iNczO9cnzT2Bw3I8u2gevSHF7L0xvLk7044PPZNUkTzTWhs7P8EVvZYtrTzE8+S9oX2jPIW8Szxfxoy7F96hPWBRhj2QtrK8+fHsPBjQMT0Z9m09DH2bPUo79T1kA+o9RFKaPaXphLuD/iS8bB3mvTHCybwi5qW8YqRKPSimgTzvTQw8jlr1PZw3nz18FOI9Sw3xvJtay70sZ6o86wrnvR3kSTzD9K29Ux6tvHMPVL0EJlM9K3p+vYnlOrvaYLU9YOGDvZFMVLsn/V48oTypvVxgfT1+2FY9goSiPKxiqT2KvvY8rTzkPOZZwTvtMJE9gtjnPT1I8b2T2no80kmvvRpDT7ueecK9KtUfPZZ7c7z7uw69AWebu1ZMkj1uUaY9BZ30u6N0ZDyanI29R4CCPPjIP70A4xQ9UAkVvTu7Fb0CZIa9kI1uvZfx57xq38A8dOs5PRd5nD0p5fo8mf0mOxR4vLz4xwu9oULYPUm1ED2S7949NjjKvTB3CL00Yhc9oMIzPV2lT7y7PkC9LKHKvXTTYr2jOio8Myx0vZa5rjwj3zA9ij1JOY07xz2S3vC9jrp0PYbNcj2EDMu7xNroPZ4Jeb1uTag9dhybvYrcxL2MRwC9Tqb7O899RT1N9eS8Yqa9PThPZjw0zoC9hxY0vZWf1TyvQ7G9kxhwPSQCALyRhSs8iLJpvUN+yD0rG6i9jlicPQerTL0fDTU9jNUzvVQqNr1Enfc9gGemvWLAUTpWw56817fPPNEIqL0ebrI9oFH4vRKw7710U589hBmOvY/XYb1KBzm88plTPJOPMrw2Tqm9UR8cPY43hL0oB6A9TcBHPP9DBbt9ezu9go8oufVGjb2dXj07o28APLOWzT1TK109O7DBPI2l0j2ZKv89REuXvQFXyTuGCpQ8FeqbPJmR5zxBwPK9AAfWPKEI1bzjLJU8wWvoPZfExDy5eoE8kA3tPWDWqj0bGmA8lv8dvIlQ0L1Qw1m9Y3NyvS0RgTwDMZw9h12VPWlsa70DOnU8jWUNPaPExzzoi1y9c/zxvWMULD1iyi27ZjL4PZijzDwK0R69c3sjvZzimDw2T4W9ng9VvL+0Uzucgjm8Z+p9vMbYHbyD5Om8oifAPUPCzj0CbUA9Px4cvHrP07zliJw9lkKIvSGXIz1ItRW8DvsYvTnGAjy65AK7w9HKuzsGYj2aNJY9pw7hPC6OqDxuHr29bHBIvJ0M8j09BiI9meB6vYMEaD0sk3g8YTCpvUlInD2hsaK8pszqvS3RRTzMUsu7vl/evNUhFD1zhra9T7I4u0NVhT2XX2c9iiHrvT5bij1Gbh88liwnPVGHN70ryyy85eGRPPZDTL2DeiG9JWELvVvs37vUIIk84n3GPLKE+L2AX6I9lZfbPYZf171l1Jq7xko/vaU9ib1GEv69STwPPL3/3r2Xl8E80LIHvYgM0Tzfr5o9o8vEvBBAwT04MMg7LM9rvU3a0z0f/kQ9k9idPXzuYL2ZrLy9jOOUvUwaK70qoBE8MXDavaS31DwWBW68VVQcPV+faD2f3jw8OCRPvR1j7zzPr8+9WBSjPGhYbj2FGak9pXO+vYh+lz2QwK89gofuPaZE7L0Chea9Jxh0PXJqej2Vrky7SdnJt7tizz06ARg6uHOivZgbLz1figu8mMxlPWg60D2ArRk9BwHSvQcSFzx0h329Qhhnu+zrAL2MUnG9frP7PJVoDT2Mccq9Y9/BvQrTK7woeNI8FcTtvaYVu71476w9iasivQIHdD0gP7U9g0sYvBFixj2Dec28D4HwPZzW7r0z2wW8pfY4PV5lzLwy8sS8KjObvNnohT1a0ZS8ZWQcPY1J6L12zNg9lNecPW1rtjz/T8w8h5OzPTUJiDxphue9mVwqvQ/VuT1sBUU8oVavvPe+s71l8049pdNtvZnlYz1kdFE9XAmfPWuzpD2Llj28qaOzPZoYMD1O5aU7G9rsu/QOZzwKDt+9mt1kPUfS3Lypn/y87gMKPWidxj1cVuq9nQ1BvON4yT2cQZw9iWOBvV/B6b1s8BC9Q5zcvacj870Azgs9nvXQvQDe0D02EAE9bOOkvY25cr0kk4M9j6jFvVrNHr1eWBW8w8UtPY84tL0yUG074qSTvUDSjz0b5Ca9DGGrO/NfrD2Erx889jrTPIaqLjtoUXO9hFH/vZa6SL0ZIr+84G4CO4aesDvBEfg7w+P/PYsEoz0bBr+7KamzvUypYj2d3C69AfzXPXZBiLyXLtE9QNFVvWcoWzzuaaK611iLvXjv8D0qtho9mGOLPRwQdLy3cbk8ZiGpvMNpcbzJfDK9lt6MvWR9xz1chdq9hpfBPHvS2zz8bGa9hoSjPWMV9T0qBdU8TtQNvYfCDrrY2um82xG+vaO8HjwtJks9ciPxPQS+7bzGSX68vYuevVZW6zyY8qs9C6lBvSVT5j2Qh7w8asNBuooP2jwN3Ku9KlEFvRiEbj0w1rU9o+hYOw/9uD1EzEC9b/D1vZ4DMr2YJv689fUjPIklOz1IMIa9AxV2vJxaE71iLcw9pXGhPRulTTySk3O8Y0GCPXKF77wmHGm9gpn0vZODUTxhd8e8ysHavVvj3jlc9uM9g/yCvZpsgT12cNM8WCB3uos7BD1M6km9L+VuPLDbP7zHW4c9ktioPaPTaD1Nv189oWN1vPeUeLx9USQ9PUfzO/5h+TzvHjO75w9YvZk0Qj0o/G68oxi4PMTXSzxKXHc9lhtTPIG6sjuMry29kWfOO/YEjD0CQGW8QzFZPHiT/jzmoTK9l44nPXbW6Lz4PHE66jsvvNYwTT0KqoI9dG6rPTUkVT1W8Xm9j5LlvWvS5z2fnua7m6TfvVa0RDySBGY9W6MCvXRuuL0/VkG9bqzsPZ4cgr0jIQE8kz8ePXE7Oz2ACAS9QMhIvUYK872lJQg9iuHTPSIGEj0azx280UQ+O62EHD0MXNC8QJJkvUJH/j1IZYO9FKskPMICxr0+jWW9kwvrO0zLvT1kci+9nVmPvOZlzDx6ynq8orSOu8gI9D0JBsQ81V7ZPTr7Rz2YWMc843e+vYyfyjufCOQ9OV8fO7xg0j0HLp49JHEeO5upsD1Se2g9N88hPWosMT0BUOg9IJRXPMiomTvAE4w9M6iXvXACvT117+m9XWm0vRSnIryPd3K6nyjQvPlq1bucXzI9kUhwvZuIxr0PYsc85oh6PYs0pz0OGXo88Vy6PWYqgL2XgWc9Qj9evPAH4rzBm0k71edTPXZQ5rzGfZC9efpxPVCcg71/pRo8BLFSvZA3f72iyJG9pmyTPT2SJr2Rf3k8kwR+vZSvLz2PCOo9oMs6PRNK7b2dDtI9onQ0vIVnGL1GEek8RRxkvMepZz1HMBe9eUOru+W7RT1GdBU9OWFBvZEICr2Z4je9SIKcvTc+b71RM189HGYwvYcc6j1hWei8DJOpPUkAwj123i+8klF1PYyXtrzsswM9Qum2PHJAtz1uz3M9jwITPTlC3jwt8tQ9hnoQvZCbxz2N1PE8Hn/sPZxNOj2ea6M9aSXnPWIVhz1DvMw9OPBKPYidDDxenGc89JidPNSphjwHm2+9aaFbvLM4QL2cF9A9JTMgPMM5k70bL/09N74qvLfR8ruPbcU9EOtAvYLKb72ZXGg7zzmVPZ+B8b01s9g9ozxHPSziNrv9XW47SU59PS6rUD0FBM88ZewjvYza0z0L0kY9DRqtPRPleL1Hx/C9oEWQvYdjjDx7vpw8mUeFvZ46krzZrv89a//aOynyNTxA/SY8jU0BPKwusb2jLsO9b1bTPQvOd70e3xi9IVCSvPD8Qj2RWH89Mxq3PX3Iwj1/Sq28urMfPaWuKTzt3HY9kSfNPSe9wL2N+Na9mrZnvIgk2r0a9c49njnPvZ2DHDwJ2c28kGJ/PLXulL072+W81KvqvF3ypzwYqKw8MSEKPLIecL1WG9k9MbcPPaC2er06E+Q7zmIwO37QXT2fR2K9FnPfvYFk5j2BS469pbTNvJaI8j0dmks9jgrhvVOIZDzW86C7n/a8PSf5yb1mcZ28yIOXvM7vPTxu1hW9dEaZPYAirjy5HM+87SxdvYetjr05eRY8WcCsvTjdpzy8X/y9kDsIvPyK8Dy3+uQ9pxboPNjFLL1FLxG9ZwLCPJejGzxrn6C9mEPPvIbVdT2Y9Eq9nT0fPRIjJj03hxi9lUkPvWc4xb2WFU09gtPdPX2aqLwID+m8zoXkPMqZ0z2ecO49OV3DvaAowL2c0m+8lSOwvZTi2ryiVjW9iEqBvaAEsD10pRY9DJhqvZr7qj2eqeq9ogd9vQj8IjzX3zo9mJtlvSL9O72kQuy9OHF1PWLFnbxBcao9RBP/vRJfrDxL7aa9PcyXPYyxvrx8j3i9kfAEPXHgBb1Y5h69FsW5vWiuXr0QJKO848STPSYrBDz3uO085Qa+vaIbobyZ0bY8nrrVPXYFxruh0R69pEC0PEPFYTwooAM8x+YXu/+DV7rDTlW9gNCqPZ3hhL2DcBk8+9zhusRcbr02WE45ubUBvTaxer0V4H48mQ/mvE2nn713lYo9XHrMvNmL4z2N/5w9FpWXvLggiD2XWB877UPrPYp5Db0lbkU7mxqPPPyV1j05ZNi9DD71vP/LULyJAjQ9iYzDO98EYjzK5zA9fHYbPRerQL1cS7g87i/Tu6aFxzwXZHu9VqX9PU/YoL03IVS7hKr+PNrOOD1VrUu7VPdGPT/yST0TbLM7lYHFO/a6yr2h2YE8kJnbPYtbtj1puN+9ZTS0PKehL7yXzDI9ef4bPX+9ULvnMXk9DIKWugk+Lb0uYYa8JTl3vZosgT2Ve129KXQUvIbO/D2P6+W9jxFCvTz/kT2XRuo9mhxmvXRK4j2Oloa8HSpivUp3mLs4t+S9kjqtvR1b3D0jYLm9HZW7vT5ASr18mVS9D4xcPOdayT0/BfG8JzGSvZhT3D2ABA29C/TKPab9ej1LXCk9npBVvZcMeT1SbRE7CmBcvLOVKz2LxlM50yf/PYM1Sj2gNcI9bDc1PYp/6b1UIhQ9lRSTvObQwr0T00C7G3fNPVdR5L2CaKq9PyUkPU8U/r1ezpG8YDpJPO6eGL2OLjY9lZlgPLnMJ72L9EY8kH9RuiJY/D2BeHM8jaJ5PM4MJz2SPRM8In6APA5tmDzxDKE9VsLAO+U6bjxC90E9Es9fPRs/I72HajM87NUpvVWrJrzQCGw9DcKivHqkGj06Z+Y8rD1Zun4hzDy3jaA9jrqcPZfHPz0KQ2U9I9bpPUzDez00BIy9PRIyPZbsfz0bUiy7Mkt4vQ+6Br1s4IW7I1c+vBw0C7tWOnI8kN7pvUJfn7xfugO87hfsvMTTZT14C7+8cCEXPaPBKb1yGjq9Wi9Hu0u8LL0R3T+9mvJUvOQKHzzU+3u9nRQzvSdROL2SC5i9EuY5PK2ptr2DaUq9R+b9vI24S72XWmY9cQ1DPaD3jzw8tGS9obXkO0Mb4DzxAbY9e/3bO9/N0L2ZRDS9j+WevZej/z2QRZO806zSPVKfhzz7Rg28kzsjPNuMoD2NoTE7tC98O5toCz0w6V+8r6CSvQC/2zzoOli9EY5iPOGXgL0MaxQ6BBF+PGFKLTt7kdO7GcblPRYIx719+Ve9beygPRbrqb1DDsU9FL5pvZYj+D0bDIO8s2NsPWZ4yLzGf2e9Ps0DPQ3rnr0m9gc8rhh4vIiDyr0XiU69ULesPZr2Cz1jPqm9h/hevC7Qq7wTwpO9KDIvPZj/Dryf2T29ORJxPWM3172EtMS8zaYxvZHg8L1/hfa9d832PTpbxr2kmuG9IUn1vSfADzzKx/A9eNhSvS35gL2DAsi9mKu6vV0Rzz1CFj27iVO7vQOOob2nLzK9heb+ux4P8D0PDcU7z+11vYifYT1xhyU9ojcfPT2OS71Cl6y7I2/mvZkxer19/as9iwFTvOci0b0aSYa9nFzovOpNozs79ce9im55vS3ccj2T9Zu9grU2vVCv07yEG/y8ZF+wPHc5Bb1saCu9Q2NpvGhRFT2CDVS9hNEkvWrhX7x4lFw9HGjAPSlMW72F+189SE2MPS7MBL1fQgK8sJSvPZyvC72JwAG8owSsPSGGMju5HsW9MGGnvaEOkDzGNac8oua1PQ40rT1N1xk9G3DUPMcWbzv9Jns9goqHPYDe/71ZtdM8A5Z9PaER+zySikk8ulP/vZRFQT2EKVE9NwHsvZWwIL2VQrS8Vqr1PKJ4GL2cv9w9S9ITPVwtQz2A4im86x0cPOTcczz5hMy9jWXCu9w3vjzfYnc70nIUvOhCcrzn09+9aUi6PNXm67zS4fA9i4DyvZ2yeL2SVvu8+4cRPEsorL2am6o8guklvEa2Jj1XQNG8t3ykvQvAEzzMWOa9iirYO53eyb18Jxw9LUL5PMR9UTyWEcw9fmwrvZMDsLz63aW89tNovRDm9r1COQ29Q8gVPUsHGruNW2C8lJ9/PNjQPD2Jv9U9QVNHPGcTlr2E3ig9iPbFvYd7a7xtjMo9mjtWuloh1ryo3kA9haqqvBNmgzwooJY9HS7auU6IZ70Wo6i9P0I7PaIQ9LxYvYQ9KijXPXcSxD0e3Ko8nmHQvTMZlbozl0u9YIQYvXSSwj1dF0q9N8fsPGCN+bySwTG8txEXPYbNjjwd+uo8RNPYu4dMXD0mQ2C9j771PCZlFD2hkBM9B8yXPZiALL2Vs1y9V7NpPMx1ATzizQO9bbp0PWsUqbxnPgw8uE6VvNL92L0aslA80SJrvYrc7jypLLe9X8S4vSgmsb17VPm8Pbz6PEI7yb0APAs8jtMGvW4TxLwD/0k8J39iPDFp6TpdIAm8/EVpPZE6nT2LZt69QVyOPCbVjb2DajW9ZzyJPG5zKj1ubT89K04BvIj+OTyzMaO871jYvWcb4D2ImuC9SVo/PZKdsDyn/cE9abemO80WCr0Yhq288KemvXcqubzy/km9hmiPPRa0nj0moEG9plMtPO+x3b09TJY8lXWQutMuM7ssW1A7yvJ/PV7UqDzfQ2C9bTC4PYuN1rxaHW29KPN9PF1vXLy6P3w9YtYJPVN/dr1VpxQ8Ib3PPQf3SL0ndQO9gh6FPMzhOz0ELRI9dhFuPLUeJrzKSlw7mEGsvDwttb2LhSk75AqxvOM4Yj2C8s29Yo5bPIcgab13l6q9V9Z9vZ3h2T2B5Gm7UEohPTpvED0v/Ca5/6kQvIk5cb2KW4S8N9UmvIKVozz0F/U9lKqqvZAYFDy6oMo8jARovY67RT0eGVS7yqHTPAYEFj2kdGO9Y5K9PF6YKDxT2pA9ITRFPN/oALxjceK9kL0tPIGtxjzgKg69mrI5PEicID0IZxy9RdvzvK7rBrwPu/49o2T4vJKJnDu93cy9jHECvT0xqb0XZ/49Ap/qvDsalz06L849ZdQNPaD5SjzniG49cZFsvYK4pT0SYh88nMQYPFev872hitk8tIQtPVvktb07Zh69FvKivKLi1DqJlwM9Tc1IvYUAET05OZW9HY8Ru9M5yzv6pE49ks4Xu4FQh70c2qy9g4V9vaEJu7uBsZy9PxFavUD7DD1irbY8/ZeWvYyd4z1z7049mIuVPToCpT1o4iW9hS2au/lGw71jmgy9bYEqPTJtGT1PS2c8zS3CvQ165z0gGMO9hobpvG5YbTzPb+s9poowvVbvDr1bM2q8hYj6PXni0T2exQi8W9sSPBeXeT2Im3i9dYOSO8Bu/71wkuw9CoVGvSOxX70YFtC5majZvRZrv71Fb1Y9gg5GPJpW/D1leuc7qSNOvQciwr0IF3a9PhXcPEqGb71cbD69hZqXPCwaE7xkXZs73svNvXjlOz2cP8e9PE3RPUZ+yrwWcuG9My0JvRMrRL0QSZi9QHk0PUgS0jyEhjA9m1q6PYBQi71K+h+80FIsPZlhIj1Vgb683/tKvQflZL1oxBG9jw7MvSwOcz1hIJk9joCLvXEbe72VyII8Le9bPZgJa72ilr69Hhk6vaEe0D2BKuc9kqV0PXCNzLxXvdU9HzZ9PQmezDvuHZm9SA0zvQMHrj2Roji9hOVdvPTpUz0RhqG5yvXtPTd9tz0O7R29dU34O9CQBTytKtM9dUiNPaBYgzxIZJA80Bo4PZ/1cb0QoNE9iBhkvY8UWb0FjVE8xtv0Ox6tMj04Mdi7tfNWPSBqvb0GakU9IAW6PKQ38T18UzM8LHqBvTm/crzjwBU9m9zYvNPPJ71A/PS7ygJyPFGLLb1s0Yy9EB6lPZCeO70hbFC9dBrgPaAROTy/q6E9csO+vYNTYLwEq3G86p5PPaW4Xb2GTK+9NjV2vF0Euj2Wu3S8evwJPWd6uT2bg3m889/IvY+EP71I+VS9hFDuPYxPtL0vASG9TflkPKKMsDy2U6m7wY+2vK5qTTygCiC9mxRRvYPzmbzY1tS8FvTTuQyZyb1LSbC9j0CpPaUuqDwyO009l3dNvBl2zDzNaJY9OFQJPRt5FL2JbOg7j+MvPYZJH70DPy89iNBNvVz0lz1WSL49RTazvWBzJzzVY1w8GdNjvR3A+b0mXhs9IudcvRz+lr089Za81Ap+PaZ5Ib2DIhC8ne2GvVhGoD14wh+8x05IPZ+8+jv85ne9WMHWvJhuiTyLcFu9BptfPVljY70fZSc8x16XPWcbRrx1b/K8ttJSPaYRsb2S5f48pesSPSkXZbyI/LG8ybMaPMK76j2WwdK7xGVAPMSutj0CLIO7jjJcvV7/CT104fe9NskGPIOggrwiTko9gWMMvTdXNz04f3M9gF+GPZ0auj1FV2w9nnMtvG1pzrxmRoY9nedpu22/Iby2e+C82JzwvZta3r1PWyS9XMSXPLN35rzKg3k9plsgvY6hHz1/R6K7R9iJvZ+5LD2Er368pCUPvU0PETsoSFK9iRuHvIqg/L0vwKa9AjahO+E8qrvdQDW6cWO7vNhnLLynivq9PLu1PZ1pBr0z1oe7rTT+PS9VYT0N8cu8R0bAPZ2Zfzytdm89kWq/PG0QcD2kphI9d8+0vY840L1wGiw9ZRxUPF68iL2EnMG9j18IvQB3qz0PwWm82lp7PKen5j1pYW08pTUYPRSIlTzadwq9QVWJvUzTfr1ybp89aC+gPUhPPj09jXQ9C4G0PTJHmb0xBD+9PAWmvQKN7DyIltY8kmE8vKeI9L1bBt29kX6ovVCQTDyNFVc8FPgRvRC9Jrxu2ew9fjopvUfRfjwQ0/i79R3OvZ4g7b0wm9a9lOT1vQ62jzzv5B684xQMvQsqEz2aO689niA4vabdyTzPhCu7UCZdPaCYz7xVgNu8dsmHPW6kor0fAVM9cvV9PY7oH71144M9gbkJvUTAFb0xKWU8BMOSPXS8WT0cF3c9lInXPBoXhrtKSAO9kQa9O4sPvrygWJI84308PF7Tjr2aV9E9MwHfO8rmAb0+pP69cbbpPUihwD2YFoI7x9nsPTWnGL2RiQi9pBnAvMGyBjrl1Gs9DsbCPYUuCLyoLIC9Ph+BvUxyjjym1Ic70PtkPTZNZbxHT7u9mm2evKeSwT2OJ0A9EGmmvUS1H7wz8NK9lK6zu9Osgzy71pG9UppdPKBXiD2de668tKvxvA/dorx29mW8rbyIvMisJryZdn09jR4VvR7dP70c08u9Pp1zPSIDajutq/W82YtGPSOfGrwb4Rc8vbeBvZnwwT0eItK8c168PW6777yYJSI9GuzYvW+vqz2mmgi9GztFvZQzzbz7zF69IIJlvaDTfz0GQBm9V0iDPaNhzjzPkCY9PV8+PZxzqz0n3WQ9TOiCvOy0hby8w709DHFZPNyPBz1oW5s8Bbc2PZ9jfbvCSBO9JxsOPZQ9mT2LiSW8ct2bPYP0zT0hj1S9gMACvUR5Nj0IH349LihZvaC+4jvBYs28oH4mvVHiRr2NB/q9hjz3POGNFzt5ZsW9llH4vUcCdj2cK9e8UXu0vYob/T1Tzwg8uZSXPTkIn70DYoy7cYxkvYeQa7wL6Hs9UgehvPBAcryEQS29drOqvNcpETzy3eQ8y/40uYocQ7vej0y8RwAVvVC+Bbz8nFQ8ukJxvTIGsDvTQh+9YG1BvP94Yb1kkPI8paB3vZB3PL0gbhk8DwcuOxt48j0hnUg8WxrevY1vb70JGn+9SWxou9oQ2rwbJjG9acngPDmUbTxNzdW74p7cvCtcuz0mocO8W7nXvWQppj2DdAm9XYIhuv7IXbzOJJa9UupfPZ8exz1z46a9h7SwvUt7zb1Qzmk7dRdbvaQiub2H6609SQYOPJkgxzvlsU+7/VtOO0Bw9bzW2ti9LfJWvYZpjL0K5y89PPrlPGr4Pz2hhdm7zGw1vU1ZJb0GF8M9lITgvVM0jz0JtGo69VNJPLWw/7ovvPc8hhN/vZ0KGb1nYPs8CowqvGty7LuP1WI87FJ7vaZs/j02bPk9Tm3GPZ3vDzwbm5A9T2SUvGzT0LpyG+687vtbPA0EDTwjSKC8rbuXPI4wDTzG5cW9HmYMvOsmAjyav0u9iVXZvZzwQ71/pCK85U2TPPXDmDylXjA8oj0PvOAkXL2bDwE9YQunvXgg/zx3A968Ou9RPYwIgz2SOWG6ElQ2PKJRxzzANW89N9PQvYUzP7zeO7q9pX2KvWXyjDztvJ4720a3PZOwWDyocrK9L3tevU1ovT14V/09F1HGvTF3jr0aT3456/EnvXWc97q2Xp+9VW5pPTXjgb2KRP+8unCtvZyxQjx1gSK9jB9QvTobiT2AFCw9BKadO5E8PLyQcmC8mdd4vRn/CrrHZwu81xlkPBi7c7z0Ub69ZXJ4vXUQej1z+2M9KWsovFDF6b1Bbp89UVNRvVPb0T0igjU9ceQLPNVc1L1k7VI9cnH7PV4V5zy1IPe9Mu7ZvVm2OTwfb889ixnuvZnX8r15fq+9iD6jPTy8/L0z0nA9G+POvW+Zlbz+xjM9o/nIvSEg1D1NRfI8CLNfPRLo/72ON1I9hohLPRdzd71KWrY8Bl+9u6YCkb1zKGA9Vm7QO6V2DDy+5rY9oWEXuprZPb2eygW9kH+RPLgTfT1/ieq9Nz/YvVf/ir1SAuy7qiOvvTgw9D2T/Ck9PiFqvJvIVD1iIwI9buGzPaTuYL1623g9gzUgurOJP71eZao9iORevQCyuD0g0G+9kuE0PMfMVL2B/W89jl0RvI1AL71qVfy8IofPvZzaN7vr8rS82lP4vZ/Zdb1vVZe9fYiSPVzpOL10oTC7wvmAPMR67byV8GI6JibnvS16hLy7FcG9UASYPZObMLyqbww9nghovQ6W4b2ER7G9Z9qkPU/oer1+Bf89E+4LvQv5w71jFpk9HvfdvZMEIby44eG9Q59CvJOg6rtIybq9lPzyPAaZ9Dz17bq7o9eYPQDOOj1sFHW8mRb2PW9liDwiJQ69X4AnPS/uETvyfro9Iq1cPCW1VD0RZO29CC/dOvzedzzsgeE82HOAvF7CaTxGTJ69O5RFPINSvT0N1r89ExHQPHM8Mr036pO9gWzWPY0TOb2bSq28wWT3vQOE7D1Cclw9F9PaPWjf+704qfC82OmWvLVUYjyI5ki9M914vQB/+r12AN08tAhwvT5sHbzYogs8yM13PEA6ib2NBk09lva1vXhwI72bRJY7wxtNPXCBHDzTST89dWh3vLe6XrzUaOG9hfAMvUNR5bu8DTa9kW/lPNAwsrxrfG89gICRPTq0/T2aMa29f0RzvYXvmT1PFiM8oIi/PQk6z7y4AKu7dEvivabpjjra+L29mxJnPYHyoT1yeeQ8K1mWPLp9Mb0A2+Q9iqk1vUhhtb2a3tQ7i7GSPP32CLws5yM9DA2iPGNwarxX1Co9VpYEvCb3JrxCqEw9Z5edPaWWNT2dvVo9iAX+PT4zQb2Ztv29dCa+vX6s4ztYEwi9Rc33vIke3TyK8089oOD6OqHdND0b0QG9L5TtPLvGV71E/1g9KR7lPZSN9j2OcH29LtunPWIUKD15b4m9m6XJvA8kHzymILI9U5B6u6+/qD2USac8BkddvYijXT07exq9SYUtPSyvBr0ctW68y3b+PVxMxz2J+Ny9IGD2PR3c871HBoW9bfSJPYs147yvpIg9KB3Vu/dJWj14Sxw9UCwIOyWKybzPh8i9pPe6vLFi3r1Q5UA9ow7kvXFO8L2lkxA9MrxmPU7jTzisyoW8KqySvGkiRTss+l49NNXwPKVPWT2PPK69CUziuyhxJb2l8zq8b3xdvELGLz2U8FS8ps/1vI6lYr2Sb9g9cmA7vZ8IyzuECfu9XWi0PSMT+701N/Y8wopGvT6RSb1ZvJI7xs8sPF1npb0rd9E9lWd+vZ5BgL2ggkK8fSUNvT2NTb0Q6CC9LmobvIihjT1kC8a9fX5OvW75xL2dSd89iAKhPG1E5r2k+Mk9fatqPaDrbL0mU629gQE1PRzgzrpFut886NonPSL+Wz0u+Ba8rBtCPVW+Jb0qcGI8uZNDPXrne7yjSUI9mPwJO5E7az0hihC9lHfVPQ5O8L2hLt69giR3vOovH70Geus8r0OnPQwRlTuryX09MMARPaIAyL10RGI9aDwePTz9s72RHPm8uAEePYnq8T2heOU9gvkdvRIzDT0zgSC9UTsTvEG+yLyPACO9iHRUPIAhJD1KNGM9PDLIPSVTqj0r5uy9MUzlvU+mILyvGVE7i8AGPLzoZj2UCXy9UJCfvAGu1T0vYPQ7zNR5PGqBcr1pn049RPI1PV0O9L0WX6m9QQC4PMvKzj0raY29KU+pvWuERr2M3Q89JPGNOvo4cjxQdc+9bJMYvXIN+LxVUrm8kOLKvUdXjD0IZ+u9HiDcO6o9fT1m5Xw8TT5gPZcNkTxccrK9kpiHvIxRV71PIUU8ixMXO93Hlb2HBMw9SzkyvU+QO7rGvys9cPMAvXt1i71rhKE9S8zMPVe5TzylBlW85BYQvM8oQL1Zu/o9iSq6vWCohTz8Tgc8jzfXPBPxz7yL5mu9Z80jPaXrMz2ZJoa9PJJAvXL32L18x3u9iHiuPKMosz2FFlU9Ii0ePTKomT1K09m8c9WoPSRja70YJUm9Gd+1PYALQLp1GNO6mGq9PZxETb18AIg9nVZtPXN79D1D7gW9k5MTu6mTaT0AyEe9cHzwvPU66ryc6Gi9KMn7vV12OjyfWbm9mLnZPSse0j2AsPO9IGBMuv0xbDyWZ/A8KNXnvWFaNj175Ne9YOsRPRA+Uzy3nOU9PersPQ69qjynRn69N2SwPI18Ezy+vSy9LgSmvYk0dzs5Jxk9guOQvaFtfDtRBhY9pcTLuyDW8jyGFFC9kAj+OwJAlL0ZnrG9OOKLPUecqr1juA09RKSKPKFwBLyRH8K9CnQZvZaG770MomY9c1AePNgEe71aC+y9hEXuPYC4Arq/SeA8dtmyPYq+cj1wGqE9gjlnvCLplrvtrWm9lihovVbMbDwxw2a9NjajPOMqPL2NROq9LloQvWETiD0KlEe8zc3aPSx97DzUYeA9k3HuPSlVIr2AqUY9FFGqvVyVl71FzFW9FVNCPAx6rT2Vhqq9VKJ7vJw9w70yQFg80+EOvJjHQD1MpwE79Fc8vPNx4TyFLlS8R2YFvQYBg70vjQy8kDEEvTxjX70MwHS8gqaPPKOgCLxhhrg9O+17PVTt0z1gP9G8uKZmPUC/gz1/TIC9Ht9+vSwJJzzwhdm8TSVEvYCTjL2R5oG7NdqEvYdogryV7oy8Y4OlPQM2FL1SHni9UQ3VvDGGsb01tFC8V2PGvQBRPr2fn9U9oBtbvPSAkj2dTeu8tDiNu6iEAj2b4628gSL9vFmdpb0/lzU8YIJMPT2AID0VXNi9I+85PUjDdry6WmO9dbG5u5fbHjzo1f09hz4wvYsK4r06Tmg9dWXQPK8UVjzzhti9XEKFvUiYbD2iVIe9lQfAvRaIOz1Uoga9VNmGvLuhs72GZRI9ofVXPG4ONL15lQs8B8exuzeFYT1ATRA8+2vWPQhgwTwaX5Q9LezRvXRj+T0GMRA9j/NfvaU21TzHTRQ9kb5+vRgGfz1wqVC9ZQ2aPPvaLzyC9F+9cCIFPIb6pr12KsC9gKbfvXakt711I687vgrKvRQoxb0zJs88cBIRvYtiATyMtoE9W14EPVvqOrszM4S9FKw0PLvAN702LEk9oZDcPSvBtr0YMgk7kC+HvYBgRL0AmhI8HxZnPRlxkr0Ln+K9XWj+vWwNIb0QFSS9T8QMvXIqLjwHsc+9A/LIvT9S/b0sCpA9mnJ5PNeMwj2be3i8ta2rPP4Ftr1PARw9M2qCPQtV6b0J3Ay8BwVnPR1fUj02W3g9ePYnvWNc172NXM+83aP8vLWLpL1z+NQ7ufJTvQii872Uzpe8li91PSu+ob0Kxrq9HEP3vV7Gi7yTmbq7Lqj9PR0tAboNGnc9pS3TvWe5ED0CZnk8tSGzPWYblj0mJws9Kb3BPZ3qlr1Kb589hq8ovNoRWDyoeKM9iX3LvKY4jzyO/KC9BjdiPYWgCjzx+lW9VfIFvN0pwb2XBQG8DBPrPUD/1T2V+3w9kGBbvVYe8z14VZ+9oEa7vTQrMLyxTc28ykj+PTHygj0tGww9J/SXPYqHbL2l3uc9CHDrPLrlQT0unsC8UqD9vR8h9bztQGg9kVw3vUDFJjv14qo9jGIPvIH/yr0CoR69Ua7BvWHRpbvYYf29NaWWPRZWDL1+eWO8KKyBPO9JSj2Q1ni8qa6KPNYEDLx2Mo89mJojO6u5KDzG2Ko9k1s0vK9p4j0un129DivjvKongb0MxRc7XIW4PWNODzw72g89a4VovKG3rzyECfu9cNUhvaGaer0A44k9Dl9ZPQ/Nsz0WmmY8mptjvHeyb71Nw3G9R+spPUOcaT0+kLm8nJ6ZvYCk6b1cbzQ7lUw1vZiicj1kMiu9c37QPTJ1Kz2IAEK9pqXoPL8a8j09PDS9M2FivAAHPL2ZLbO9ox/2PO+Wor1muOo9H7nIvCppQL043AA8sFNIvQUsxL2GfY+9ZEtWPSAsmL0FZ7W8n5j7vHZuxr2mq1u9YLjcvOOdDj1F8hO9jg3fu9+0VjzYPj+9PchlPTHvtDwNLqE9o6iCPWT0rr0BXuG9QzeoPZcZ7bxWH+m9ofVCPZIsBLxD6LE9nJywurW2GTy0nbG8gvbNPVbe3j1UTwk9mPnCPQH6dr0uCIk9kkOxPU+fDT2C/yk9gBp7vY2FFTrTm5y9HFT2vRMaTrwbV1i9elPHvY5OQLzuDPC9b/G3vZE6BDvMkpW8ohpru6X5BLwPMCs9OV2HvOZpiL2Aunq78QrQvTu28D2GWpm9UpQBvaOmkr0sprU9c62BPYbBu71D6by8K8UePIVAMD0RmXC8JoK3vEGY8LvLdXa9kTg1PVI4lLzKXhm88AswPZc7SzwlR069i2UIvaNRvTzuDeE9mKwCvL8eVr1Q3P88979VvZPXEDxuMrS82DhZOpU/eD1Rw0w6D3QPO2IzPz2ckvo9pPdIPKq3iD0mX929pje1vY1s9juXUls8zgVbvZqoR7mCqjw8aAKzvO06ND078ze9XGapvXTwTrztIlK8/R2pvTcZ/bwDrRo6icRouvxBC7yD9LG6iD5zO/xGhL1Ng307+N4WvaThQ7zDl169WxfmPaNfwrziQ9e8UglovUdbij2h14U8bxtSudcphL2TRqQ88BmkOpKbvbwhctu9ga4SvZ0HM7vGnca8YJs0PZas+L2FbHu9QhMtvNtbabzQ7hW9e81ZvUzM171u8Yy9EMQOPZBRl72i75U9YZ+APYUXg71SUum7ZkkuPaCHODymdg89GQXivTIrST2WtVi8l7onOnx8fLzY95c8kjD7vXtBiDxbdRc70EhAPSBcTD2TReg9KP1hPOlnST2fGp+9KsxNvWhKP7zulpU9gpSCPFgR5D05iDu9XDLjPUpvEjyB36m8/IpoPVR6C70x/zI9NWaaO7QvkTy/pgm9hWaxPQruvLkd4Ty9oYhsPUY1vj2FYPc9dmY+vR4oCTxUw0Q9e1irvWnAgr1a4wo9em11vJ/4p71gc8Y6fcMVvD4jCr2PxWs9pLLUvYEruL2G4jM9kY0RPVKuwb0OBO48KNKDPaE03z1OXXQ8qcwEvEYSR7zu5Wq9C+oAO6itpr2etJs9khA8vQUpuT2CpVg8V32Tukr4ir15vyK9BuTjPZNb3bzCVSO9owDAvPnqALxz7VY9Ed2Buieq5j0OmZ29ixTlPWnlKD2AFL29ZNpZvNgbDjyUhva9WyrivXDkCj14qWo9a1MfPYZGO72f/ry9cW3dO8QDbzxNXhi8EUnUvOWHoT1sII26Atf1PEb7RD2Blo89ng77vQAyXj0jF6i8l1ZbPaIXlT0pvAU9mxfuvUVmwz0dw3e9ojUYPQT7HTz6+B481XnAvRGGKD2T/zA7+hN1vaLfFz0Sy/m812TVPYcRPrwrGI08ag+1vYo36Dw8zKS9ZD5dPSO8rrzhyfW4m0b5vYda7b2OU768KKUevKCr+r10Oey9SoKBPWUucj0iY6u9YddZvGAq0DtJNLA9JqsFvRPRqzwgyjW8ImCUPSNefz0lKM89cMRpPZ7hx70ZICA9VGnuvOc9uD2XhZ+9G/ODPK8ggb1LDEk9oCeDPR2aD71fv3E9LzYRPYDx4L2Sb7I9o52MO8k2Z71SKtQ9lqTUPHeffj1N6Is9DhmHO5sO4j2k6ys9KEqjvTOdFzy9QrS9FFCTPYNgNryEmzw8I1JNPVPkgbyTRh489hduvZsooL16cH89esZYPCAFzDwMyw+9Kw4avUNLCT2MUyi9OViCPZmIVzzQCaA9h6HKPN2Ju71lgTg9j3SmPI9bYbx1eFA9g8B9vZXjPb1uY0k8qFfwPORTZj0YPvW8vtszPSKYjz0ZvX+8tY5lPZRDWDsNtkA8bXTovZ7R8jyjVk27NhTQvUqkyT0GOsq8Z+hovS+OI710BLI8QrLKvYD8sz1xQVM9L3lBO4s8FLyp5PU8yTTFPMJot7tc6/I9byanvUg7Cbr3yfO9hzlvPS3Spju59eu9pr4sPUD5jruLjvS7Gu18vXXse7yHLQE9DgcdvZwjuL18MsS8CHeQu5umQj1GY069Gzx2PaRgCr04mUG8O3q7PSXnZr2a2mS9hqPpPUQMTT0ULew8qWPEPTpO4jxlTdK9jhpdPUxRUzzjZDq9n/WXPYkNxr2Y+189HoiUPEQZubyugyW7gHiRPWLtaz1+kHm9CUL8O1YTFz1XCYe8YYJavHnarLzPH0U9i3ubPZYocDybIdi9leEUPZuk2jvcCwA9nbuGvaZNGruzqdO9PbvSvaRAHL1Tev69E2TavQBlQb029Q09jeT8vM5sj7vEjUI6wufIPRG30DzJPDm9kBXivV/VtD0k7XC8GT6pvYApdD1jM7O9P5JePTxzBz0xDAu9gOOMPYVP6b2a0fQ9CkHqPYUSGT1ROau8yRj4PU85J71FJ7q9IG9AvZ6lUj18EQa9MU5DO2sUiT0va869dFIFuzI7Tb0w0C89NZNwPC/C7LyaHU29pLxZPPV++L04GLw8y4jVvaXyR7yRawA7zXfwvSr+Wr2cS7i9WESgvIEGJb2We3Q9GhV0PYByfT2Ofi49XbFVPYVWR72WwIW8gCJdvLqo9L083fg8ofUGPU3DaTzQzSI8tkR6PSFMlbtHJzE9FLZzPUtCvbyxKba9ZgiyPKru6b0sTQk9gZA8PZAstLy2FVi87BJdvVGXGDzaZps9gv53PZf5sjqojjY9h9TUPJ4Q6zx2XJG9DgAIvZSgqL0vfnO8cEH0PK0vGD1kX9e9TCjGvU+6Z716qI07SGKGPSx98TwY7Ci9nU5SPLZ2wD1+tQ29EoS2PVueoT0tl4O9K6kDvNVKZT0JYiQ9oQNhvE+8Lj1h5Im8zdvrvZX0ALyCmzA7komxPJ2oiD1w/kC9SU20PYRsqTutNOm83cWqvLg+3joK3PW9LY7uvPspMLwTWQC8O/hvPS3V1b2R4MG9j1SvOzzdA7wLzEU9pfbGvU2Xpr2mbNg8EsktvZT6471lKSY8xGCtvPCj7z2azfM9VseTPJFR771bO/U9okwvOzaSOj0BSYQ7HZfAvPzQz72Ove+9n16tPaWHgDyGQUi8Yoq8vMqOvj2Wzja9i6P6POqtZDus1JC9dXptPYDZ171pSQ29RCjRPQLsxD1deqi9LWo4vXTk/zykLX081s+JvGaa/jy3JL+9hk4zPUOB9z2a9VS9Vt5JvVRecL2EiLq9CTODvYar5bxXBBS7jrNIPRcmYD2Rbns8NRitPPSh7DwKHz69RX5UvD7YGD1BEDQ8rv/3PSsOKr1R5fg9dRLQvX6ORT0uypY9BgAlPDsVxjy5RiC8r5HFPT6knT0sTue9kfYKPaISiDyzDx+8idNpPZe7ML0IDGY9BT9+ue7z7b14mYu8l7j4O8Toyb0+4Za9nNVaPFSn37yy86A9ej7bPUP+9L2EYVq7n/KnvXh9SDx17/k9N7+yPAuLur2I8tu9FYu9PaYApj2RBEG9hCMaPWN4yTzrpN+9o7phvZqg2b0qkbq6rOiRPYFiqL2Z8Mq9bi9bvPNHxb2F7rQ9K/7ovY5A4j2mLwi9l8OAPUz8ED1RGJI8jwPKvTlmNz2iPjG8kIXaPMxZfT17yIe8ESp6vTCW+ry/iXA9V4r+PU2BF70Uj8K8qY14vUWkAjya0nY8VTiDPIW0HL2UTtG6+UcXPZhcAbyc58E9jViyPUDomLw00Gs9PhUovTeEv7s0W769pgtZPVVgrbwQbHq9Dr/RPX1V7ru9LJ67OsklvXMtSbwZvf+9V4GGPQwfkzj5lSW7udDEvThxAL2D2ua8ot/ZvURKU7xN1068aBrzvCFKEjyRRN48UUddOrnt1b2iLOy72A9cPSTejzyuUzw9VKDhPOf7EbvwYD89JXuPvZLAar2lKSW8wVDSvZeBMj1+rPC9Ej/xu3JNvb1DVcO9hv9hPFACPD0JRNK8lZMUPZdBBr0ONlS9QcPiPUVOCL0tmYM8kaP+PWGJRr0EEDy9lz7EPaXAv70ZBDE9bnxaPRNEuzymNqk9HpRoPRpElT0KKy89XZM/PZA+rb2h47s9luAbvXKyebwRCz89SK3oPZEPZbzXHIM8D7mLvVa4v7z8eGc9Uhw3OtQ/PT0R3ii9ZW3UPPyXiLvwwsw9pDmqPVDoSzzpKxu9LGjBPZvI2ryCQEY9XWAaPAhn2D2PTP08/qgCvSAl671X55C825xYu40l5b2ORoC79KSjvZ43SzulALi9mDTdvZVtXr2mSzI9NpA/vXgL9juSxGY9ngE7PYxbjT1QXeY8rpZ0PXTwezwZarY8en5rPTBNQD2JnyU9NAJ6vIYP2DzaQL49c8IaPVwvu7vFb/+9HD78PXhsfrx9IWA9oRkevJ2QsD1W7+49Oi28u5W5szuniUO9eh3CvTe/Lb2nKs09jIWFPNUeBTzlKXc9pbJTPQB91b1Piau9NO87PaciRb1DdLW7AZXEvMa6rj1CA3O8krTdvKTnWL2fo2M9ZsgYvaQgv71i0CW9knJTvY8s9j2WKrW9nmfJPZEn0L0t+tk9joH7vJtY9b11SBy9BZkQvYnI2Twd0c49K7M1vZrW87yJ1X68yZq7vVP4pDwvFGY6Zx9DOicNe700jHc8GovqPZWIUL1WyF89e/ltPNj0aL0bu8Y7RJMjPUaCnr2c/i+9R4WpvWNa5D2ZXZc9Nh1yvYa8jL1FzoK8wu/YvQXg3bu5bp89fQBEvTZozL1Ysr281srsvTrb5zz/ExK9ZRInPaTaBD11Hje8vUwdPDEW9DxRiJA9QWtlvZf1Q72lLjG8Px9LvO5I6T2mUpC8zGF+PL5dF71MMEQ9NA4IvY5oJr0XWc49NKd4vNY5PT0zuxg9pZ3nvQnmIby0pJi9jgrWPNZSP70Gnfw5zDSvPXNVmbzu+nq8uPPtvQaUML2e7u29ac6FvXmjibzZ03Q9k8HOvAbHuD1eIx89XMImPYn5Fj0w/lM9WyMDPaW99T1VNh08rLPyPJeGHz07Itu9kU3FPZQ+Abs6gUu7zGIVvZMDozw3FrQ9BqWHPG1wArzlCDE9AbUNvH5GlLsj5+29IOwAPFqRPz0owmO9L3/ZPMDY9T0hmxY9Z3kPPVZ+kD01o/Y8wpx2vXrLnDyJ3GS9QSPXvYPpCb0ZbOO7ryQyvIuTGb1f/oI81iigPIzaGr1Wp8a9ZGy+vKo7pjyYy0C9SmupPTYkB718kkS9kPeyPR0waj2CNUk9pKMCvK8d/r2WtBE7q8ysPUoQAzvrr1g7sJWUPUA+DLsJJVs9jcAtuvAkpTuBSf+9LOamO5U3Dzy0ZVa6nVsBPYw6Hj0TrGO9WC7YvCn8k70FfMs7h+cVvYBy/Tye3Hm8ycCtPGkXfr2hWBy9bKbyvBerer0BGxk9jZZsvQE+9Ly9+xI79hrXPZnCob1x/WC8DXFsPX0Zzj2FrpU9n3ExPYdzej2F9O68e3MqvQoTRb13TJs9LgawPBzf671i91S9VdwRPYZJf7yfDs85zeuiPIzvQL0tgSG9JnidvZmfNj1iQvk9a6rqvXdpLL1Om+28ztwSPPi4+r1xeuG9hDTovSS4Mb1J2u29STEEvXEE97oeNNi9U8dyPZUboTz/9gq9FmA8Oq5Uurr2HCU9naa8PZl5X71euP08TCXoPVXS9L0Kr6c9HeJkvDpAI7znG0M9jFKFvPiXJz0HMQ69ZCBpPW/iej0f+iy8zcK6vRfxYbwIqlk9RMWeu/EkCz1ucSI9TCcKvRQ8Nru+FJY9j3VmOn5s6j2GOEW8K9XbvT/Guj0/Xlw8q63UvZex6jzcRaW9UTTHvUHLerzCvmM9eWWevCRttbsclT88F5cGvA0bm7zS9Xk8z193PSQ4Mr0YI1w9iHiQvY2ouj1lOGu9hE/jPSCjlLzGqzW8qbhrPH8RCL0AUfS9KtAZPWRDaLzvzEw9U6XrPB0Rw712Goa8wK2APUbTkj1S7j28XUggvV9TdjzRqQQ9h455u0aNM72UPnC8zKH+PRqs2jweAPU9XPUzvRO9fj2EYMI9CTsyvZRYNT2WHUm9D4cNvQQFdb2d1sS7shxwPSo+/zxfpY89iTJwPZmka70TuY28IlW4vTZDYryr3FQ9dNNIvJ1S5j2ZYxQ7aCs9vYs3K70YjYO75WW0PXHVsbxD1tC8Xn4HPXfjqzsa29q8i3GPvD/rvz2Vt5+9gLVxvCwLiz1fHhq9VuvEvRKr1T2TZXm9ofnRvRNtyL0S16Y9Vd6uPN+eVTxfm/e7un02ObwqsL1FUea9n8gdvYGq+7z0nfE86dKiPZbDhDzJ0pm8NjbcPOODDb2ODEe8p8NGPRN2GT2P1mm7i3RBvXlv2r00GLe9WEmQvZWv0rvzLGW9OpJmPN3xl7woRQ69mQTiPX9Hg72ihB+9iwxpvY8x0j2CQhi8i1+zvKl6l7yBzCC8uLYyPYO7KLy9uIy9UT50PTklOD2K8JC9UfyZPW+n171fDli8hAsVPCrxUr0+sDs9GNUkvJa1fD2f8oA9own8PRvUV72M+/C9X7bMvESf6j0xLS+8zQrVPYrvTz1lL1W8p+ozPSLNMb2K13g9pbI4PUmQ6b13Daq8IaExPWH/Lz0FtzE9CERJPZUGA7tix1w8FxjqPY+RCTv0BLA887VTO5QxyL2CGjE6JSeAPNGLCD0Yhdm8mN91PLK0fT2U6OY9oj6gPVY8UL0a2p08GeCyPYcm27w9MAI81KWlvaDPsT1ZupQ9M8zAPIiYPr1ROZu9Oq78PVRbWz2LHjo9AIkXPaS76L2Qskg9PwCGPZV8D7tmVHI89O80PVAYyr0OjCy9gM7gPQ13ATyqFKk9oEZWvREqb70xDSq8cmW+vOH5dT2NUlq9kpNjvUaZEj0MktU9RaGpPMVtgryuJce9nffqO/Brrr2hzzu9NtQEPOcPxT1hzEG9jGPyvK7gsb0a/sm9g9GnvLo/Mr0Nw6m8P6SMPRrJDz1NiF48ikv9PJfOgTxSDOo7BnbYPNTyybz/a489QRjxu5/Umz2EK/07ik1qPYfB3z06LQI8bEH9PMfuyb1ixMk8os3eu9u8x72Ss2+9lv8kvSukgz2cSC09jcsrPYmxjz2S6fC9doCjvUh5Kb0snlS9ENeFvG5Rmz2EUMy8mebhvPkWkrzKnge87Ug0vZxcyry2iU46AtdOPSjCdb1/Rc69mBusPSboMrwjFJ09O7asPGGXir0AB+M9B5WhPTWa+72HvKW9UpJQuwh8/j18g2K8llY5PXWNwj0syay7yPMgPT5cJz0a0vY9eyF0u47LiD2F1de9NSFNvaZVvr2FLKS9KUT/vE0KnD2hlvA8jLy7vLDAy7057d28n8rEO94qN71NA6g9UdG2OxRexb01Iw+9ottEO82/Nz2PVJk8mGd5vOhYT710AyK8LZ5xPU+Ua7wyA189kHjsvG/5c7xECxE9QpTGPUdS9z0frd09TPSnvMODrL0Z5Qs7aijlPIdSMjyT8B29T0U1vHkk1jx1lcC9cSU3PZW/e71QWc66mthCPZq4SL0dK809OvHGvYHcrj2ir5s9BhmSPaKKJj1U3MW6zEwzvUm8Fj2h/wI9XaUtvYEPBr1jyVW8kv1PO46eYTxkco27hLzgvT+yB7zIhn08iUHuPIPr2ryeh669SMEDPREYE714kfa8es3dvJaeEz0iES+9T4iBPYsYCj0jZPC8GiQ4uqDzXLzYVzE9EMVgPYLgAD0isHk9iAdfPMIKRDz3AIU9LIJ3vUkuo72gw1w9ej+UvMhPRjzXMJQ8eprLvTP3GT1TVZO58LfwPDpCIz2EYYs8Iq4QvWQHUz14dc29WGGCvK3/PTuGpOW9gplOPUYVWT0cc9W9Vq+Vu4xoTr0//Pa9lQTUPPpmer0SP1K9OmE0PZ/5kr2gS+U8ehdrvSpkPbzFd7w9A8BFuOxGEj2X03g83TBeOxdBDD0lvMk9TsrLvD1ueL2b1429SDJMvUPdTT1jVma9keIxO5W2wr1kycY8lr/bvY+9oL2ljTW9YFrqPaGAED0QJOQ88Ls0PPsDKb1wmgs9m4BhvEa9vrxFxtW7KP3pPKA1GD2hHX88Uyc4PZwg4j0y6yy8OkUovQGWiz16NFo9Tq74vVm5ob1rnRY9ftc5vWJKd7zrssG9ex9XvOGGrj2IATm9nxJXvF2TAD2KQDk9lCFavW75qT0WZZK9L5bQvSxc6rwQxis9ahMQvZsYkjynh3I9pIlPu7B3IDxLMTQ9cKAuOKVXL72ijOq7/wkxO+ctzDuUvzM9Zkh5PUSnl72OaUU9pvj2vU2x2bzJHFG8LUwkvYZBcj0D+By83kVIPB6y9LyZHuE8gJclPXBNhT02deI9gsakPRMPdLxXW5G8QtJPPAUYMz2A7PS9h45TvZty6D1HJXU8WAqLPWSd/7yEzoO9Lt9jvVvLbTxHr209EyC0PKGbhDtwqeW8UIIPPZ5bLj0txWQ7fiPCvZueHb16Fc4807YbPSCnajwUzKG8hKlcPStaAb0LzzE8nrn5PWq0hzzxaVi9Teluu49VXD2Nl3u9QzHRPQrZHjgghfM9Rzt5PSaLm70p7kS9D296PPMSibzBTDq9TjrYvOUpBD0kI6c9JoQyvSKGZzy0ORQ9nyK7OzxLBT1Vyii8iY8XPNw6CL2HkpC8JB6CvSU0bDxDgBm8kxwnvK1aP7y1ODw8CiRjPacwrD0/Yy09U941u94vHbyfNwA9Pe8RvT8dlL1liMC8ph6oPUcpNjwX5x+9U42Hu8FjIb2TJAW9k+I1vRhQ+Dyt0nm8+ZBfvNP9vLz1Ovo8ylyRPPysXzzNK5i9n6K0vMzrZr0G4fW9AzWPu9UZFL1VYb88lkuWvDSreT2jTo49itAGPI24ZbwkQmQ81qgfvDeTV70z8R48tcUqPRqdujzl1XG9DjgwvYHch7xv3x49i3A9PTTByDypGVg8O0Y7O/idA7znSXq9iXyWPXUUH7v5onS8h/M1PDa+e70jYFg5/RakPTsmOjtOFmu8zY9+PRhfhj1pFK+8HbEaO75CZL0DkJa9Y+QsvQ137zzIjJ29ksMmPZLeAz1CGO+7y2g8vSpkwzxq2MW9CIrAvSNVwL2DWv+8/M4YPQtIOT0H6Mc8KENiPMrr1zmQZG89orzwPIOTDz2F03C9Ds0DvZmcxb19Mqq9dw4/vZjBm70B/+y9oXzzvWai/r1VTnU9B+CdPYEtsT0yW8y87QQrvaNHv70mqoo9NYEmPaYT371XdGa8hS6yvZ91qz0c+qY9GyyqPXYcRD0vi6A9h/F1PN4fw71eWjm8zLhePJvf570VNP08wzutvaA8tL0Ev4W8gYE8vILM9D1CDoO9imqiPKEejbyoSpG9ed7WvQ99AjzOBDG9ipc/PZ9tFTzQRL09pJXdPSzrUL2UjEc7bbUBvQCXlTy/Lvi9AxsoPYbx27zi/jC7z+/TPJ3WtL0TnJ48ycxaPWcYNj2ZTNi9njG3vXVXCD2N/m89g9dJOtJ0Cr2Osoo9G895PUUcaT1JdMs8M0syPMZYjj0EMZK7rSj9vVdvdbwHyEO8ocUjvOyEsjvkUOm9orFkvYt5ozzXmBG9petAPYMGGDuVC3U9kbmEvMBb6TxksTe9MPHVPYsvFj1rSXw9oYhLuwAw9T2DHpy8gXY7vZM6STzE5dQ9k0aUOUEppr1Nu963aa5sPMglFbxLkQU84EYQvMp04b2S5Wi8BOpQPNV2hz1v2CC9YrG5PQ5b0z2HMUe9g7ySPSA9m71ZN/M9hXQGPSWOZL1dDVc9HglbPYbvRD2LbRm9kYHWvQNLfjyLv1+9lChWvQCCbTy7i4M8xHbyPWOjUzzWIpC9nFoWOul8c71+7Wk9KaQZvUav7Lu/lSi9UkvhvL4+fr2NsoE8pVrHPUJ9C70IwNA9gkk4PZoQb7zNuvk7+EBCPZAUzryl30E8jCqePZCiwT1HZ4s8bCOdvX/057z+llq9Iu/8vB2PgT0tY/475HCsu/b6ZTw2oqO9YisvvMHvfD0j7Q89ow0UPE2+Rz0fKFM8iZGAPTLUtryDwQe9JcYLPYxgYL1tM8Y87179PSWCkryaKNW8Ny5NOJ/J1Dz+ORE9kN1QvOfgyzul4Ae9kYlhO3Q6abyTOdq9EYMTPF+maz1d5ju9RDSmPLTrTbvaaA677xVSPXtM/r2J9iu8FJjnPXPxgr1ULoo8H2sdPPgdB70bVF08m0EjPPAFQL088MA88PhCPRuEZTzIRJk9d7WHPSsfkL0kFBG8n5NEvWIAAL2Jvv69ooysPPHZCj00oDc9FBg/PVLUJzuWW0k9GB0/PZhhH70cnNI9bk2OvOzirD1FFmM7elxfPRjmELzwQB481WzkPJuVUT1Z6309N+NEvWndjjx7jNi8u+kAu1/KyzzkbF09gWDdPFDUXL1iwEE9j3eBvQXp3r1xugY8bUSnPFDsfbw4MPc84QCiPZ8jZr0eDJI85Re6PNqO7DzuBUk9hNwTuxXuXTuy4oW8d1/DvVaswbygnDg8MzzdPTAfyD2XSpM9G1xwvYWfmr2Myri8idOJPWVDWbzWCmA85LOlPZveNj0w7NC6VX+hPWaBwL0ePy+8xffSPY8UG70hNHS9J6iVPZZST7xEqB89WBiJPHNqc72LUXY9j4rMuwMRxL2YupM9EgGdPSAczjsLYGm9Rr91vWEGXjx5Jm49Y/PUvXX2IDzx+aM9BNCLO7P0s7y9MXo8bO6YPWNEO71Rq+g9Vt7OvY00VT1NeKe9IE+kvZiP5zztAfy9PeYrvQ11Qr0mWfQ9pE+PvNIV9byadmG896YbPYrHoL2a6Hg9V1mwvPwXE7xDxHu80bdzvT3MZjmo20q4ytFZPZmevD2RTBA8hTNEPWZwsrukz6W8rnVIvYbMOzywZ8s9g7+3vYVzgj2gnlo9nh1pvZs8ObzrMC08TZpvPJ7VjbvUZgW9HESHvQbAvT0ymt86mT4NvS7KGb0oMXu9b5ygvV5yBL2Y1FM9DZssvU7SKT2OOdu9AGzKvCUrdjy3OtC9gHzDvZrurD2OSGC9iMuGvZDxND2GiFk9pdjyPFoGM70GUoC9QR0/vNWTJT1SlVo8hqvGPQeElb1z7w88rbaCOz49kzw60nQ9JNOzvKis+b1g3be9k84RvYkUsz2bAcw6c6KLvOIXLj0fikM9hSFZvZTbXT1bNLM9j1ppPY0Hn718tI+9Q0Ywu6h68j1lcLS9QjQavZiQXb1vZQA9nGQFvLtD97y5MEM9BLscPYrojb09Qdk9XvI6vQfInrz/Idq7MqmHvYl7Tryo8eg9mlS4vICtJr1cg3S9elLkvZinMT1YhQG8168ovYbeyb13Qum8NhKbvUtzFT2L+lI7WRS4PLS39z0BvVE9lgBgu73wK7w8hle9mnv+PZ7zYj0caxM9kcIxPA6/Xr2MjBc9Bc6LvHqX770JuVu9V2N/PZOMR7wATo49caGKvKr40LvFWgk8emDSPHZIR7v/uKi8oxDcPJs4kD1/6Xe9Ic//vS5H2LyRlRw9lGa8vacyQT2FxeK9j2AGvUby9bt2wmK7x7r6PUyEcD2L03s9CzvdPJCApb0NVBy81Hd5vWs+iz1VGx88n/4LvaDVQ72TANu9mjdiPQszHr2AGay9mLLlvI1Peb2Y7aq9m4BlvTwBTb0J6DO9D5SwvV5J7bzIDg48mkrSvRnBXTveEaM86XHbPCVfZLwOWuY9ZL9CO+9h/b2k2eW9Tw2vvaHy/T1rc2S9M0YxvaLJaL1I/3w9AuhUu4gJyT1yro49is5RvI/WYj1iwP29MgcrPQdaq709F2G8cPQovJlfM7yTocW9jj9+PX1yLr2W39Y9fW9vPMJXwL1woHw9WCvOPS2ZgzuTX/G8kQfWvTyGV7uwUiO9HVYTvFPNgL082+a6dQkmPYKVIL2Mly29lAsZvTFnLb2fV7o8jbl6vaNEobzztdq9feJtvRXz1b2E7RG9DaduPTWf17zMbNK9ZrrdO3xv6T0RfVc9e29bPVqPmz06fBE9c86AvIQWkzrSD8a8Hi++vYwwVD1jlwu9TanQPT6fiL2V1iq9oHhTPYCb2ryTvS+88wvCPYSTHLxsK6g8niEbPQLazjysVEs9IydavR9wCL039nw9LVaPvIMGVb1UmES9GMg7PX+kVLx6LpG9jcCpvPUqPTuH07y9jO1VvQUSdD1Hiks9H79TvONo3buo1QG9Hy+5PYU40D1Iy2S9ezWvvQRgTj2BXZA9h6q3vYdvrj1APQ88ArGAvaa83j1S1eg8856LPRA2er2baZO8uHSyvWkg7L0z99i9D549PRtFu7ytJnq9mhpnPMfSMD0SiYc8T6oDvTEoJL2e9lW9NSDSPaW9JD2VARe9Lw9WPaZEDjycgqe8mogpPVtjB72jRLU9aj0iu5gDs7xfyMo9jDAJvRiltr2UMte9k1HtPQ6iX7zNcNq9DxoiOyCXvz2ZOsI9az0ePMtCtz2exag9oh5SPUI+Kr1J+FK9QbxfvVXYGT2ZbVs68mUXPY+s0z2PYw49KZNkvYQRjL0z7/Q8QOTRPQW5/TwBScA8DT+yvWwYMb2b4q89lFVKvR7znjyj9PK9QJO9PSTIhj0cJgW9nwF8PQgQGrz9R6G9G6jIPI8lwj1qyV69KoOVPTOUpr17cBC9oRPrPP/90DxJwVW9hLz9PZREpT2WGMG9mjScPRi03r2bzN08uyZUvSCS/j0s1wM9XJxju79N9b1wyxE8slBjPJPcqT1l9bs7KUcRvThX0r2aQqw9B2JQu3aDBr0ZNZe9fveePRgOgj2hB4C7jNwAPVWprjzcDV49mIomvX+8tTw7XUK9cJUbvUV5x7xIhbc9kucXPTYquTwH5XO9dXv9vY8z7z0UVB09IvX6PYr3vzyHQQ08hu2LvUc06zzbf4u6wXEsPRh5HD0POxs8Uk2APEZMSr2fZkE9F5iwPWp8Wj2WiAK7mbRHPZZm3r2Asri9bGPVPHIiQr1tchW9kAkMvPKLHr2dtZy88A6pPTjL7b0AQAa8PxmfvXw1N7yuWyK9WxxmO/ZfLr1YkMM8m1GCPMYHEr2RD8O9oUPfvV6y+D1BrJO9CCYRvO7hSr07q6w9UbRMvKYyRby1/7o8+d1oPKxskDyeOEu8a4A7vWQIlL2gUri9Jxn0ug3Hjz06xaq8kalMvaKewL1ermi8iUvFvZ838T0Y9CW8ZJ5lPTDMa71GESI9nNomvN4E0r1CaZ29YWMavZ2BRD2JMjw9h3gQPP8ZoDsQE5o9if+yPZ9iGTxj44C8yPWyu8mc9T2ZgR889uhfvXAF3D0mqO68pQRvOut+2Ly2J8G8qXvL");
+    private static final float[] B1 = {-0.051407184f, -0.058336977f, 0.031016806f, 0.031589102f, -0.025684636f, 0.05374353f, -0.031910498f, -0.027374823f, -0.02033745f, -0.0013888002f, 0.011438076f, 0.021105686f, -0.058636658f, 0.057462595f, -0.041424114f, 0.030488838f, 0.025442947f, 0.009050542f, -0.030196622f, 0.026096135f, 0.08070108f, -0.0060180724f, -0.029309899f, -0.051932916f, 0.024034796f, -0.017486652f, 0.022463845f, -0.032000706f, 0.05380639f, 0.07971663f, -0.06047186f, 0.046529274f, -0.046150215f, 0.061282974f, -0.027171666f, -0.013851063f, -0.052074537f, 0.07679253f, -0.07950749f, -0.07143084f, 0.07346806f, -0.07597369f, 0.04711972f, 0.02186056f, -0.05310144f, -0.039062228f, -0.0051903347f, 0.029021304f, 0.045958713f, 0.0014331941f, 0.015393292f, 0.065171756f, 0.03562642f, 0.02318801f, 0.039933152f, -0.06510612f, -0.0023499634f, -0.02858557f, 0.081140235f, 0.02633765f, -0.06598621f, -0.017051151f, -0.061980546f, -0.012958716f, -0.05404079f, -0.077996336f, 0.07905847f, -0.059120357f, -0.05307777f, 0.07092492f, -0.06468743f, -0.016835663f, 0.035490394f, -0.07970195f, -0.00916963f, -0.072664395f, -0.0475462f, 0.07739977f, 0.010024689f, -0.06431805f, -0.052420937f, -0.058486782f, 0.07810381f, 0.053141873f, 0.04891497f, 0.03912891f, 0.012039659f, 0.013843948f, -0.014676621f, 0.02521722f, 0.023458336f, -0.07639523f, 0.06906791f, -0.020687599f, 0.023029922f, 0.06432474f, 0.06777777f, -0.06599151f, -0.06533205f, -0.015723225f, -0.07283342f, -0.07526176f, 0.035536684f, 0.06790763f, 0.035090566f, -0.036995273f, -0.015806679f, -0.049413163f, -0.026325757f, -0.04789665f, -0.009184551f, -0.0812526f, -0.040448382f, -0.07474217f, 0.07366706f, -0.07501982f, -0.0075719804f, -0.043008383f, 0.058917865f, -0.031659074f, 0.048804726f, 0.008125363f, 0.06554191f, 0.05205135f, -0.038559042f, 0.03072317f, 0.05655154f, -0.041901596f, 0.011499494f, 0.010619098f, 0.03663218f, -0.05773879f, 0.02467872f, 0.036603406f, -0.0020830056f, -0.07118083f, 0.04519645f, 0.029398512f, -0.012611914f, -0.031105751f, 0.06743565f, 0.01615782f, 0.019909266f, 0.07043149f, -0.05985996f, -0.003208449f, -0.02370175f, -0.028449487f, 0.07461079f, -0.0032123816f, 0.053139478f, -0.040341042f, 0.07288884f, -0.039987244f, 0.0051379106f, 0.07117892f, -0.06384873f, 0.04587328f, -0.05089077f, -0.04082439f, 0.03995923f, -0.009716783f, 0.036644492f, 0.066684574f, 0.038754575f, 0.041226137f, -0.025242906f, 0.064441614f, 0.013461017f, 0.044688307f, 0.03582564f, -0.07845026f, -0.073249415f, -0.02738444f, -0.024911825f, -0.014933145f, 0.009134745f, -0.069736555f, 0.012379452f, -0.0076030493f, -0.01925602f, -0.061595533f, -0.05873141f, -0.0044528544f, 0.04788508f, 0.025164561f, 0.05143407f, -0.05626529f, 0.07641238f, 0.07058587f, 0.018577816f, -0.05420148f, -0.055631462f, 0.02347861f, -0.07360324f, 0.06086064f, 0.046057545f, 0.0016452363f, -0.014001308f, -0.009549057f, -0.050142653f, 0.058600157f, 0.030527392f, -0.04687226f, -0.046338916f, 0.07665841f, 0.07841541f, 0.011742517f, -0.02588242f, -0.0027487213f, -0.08163838f, -0.070928164f, 0.0014922175f, 0.06642246f, 0.0081117945f, 0.03227659f, -0.017250024f, -0.0010768545f, -0.07698952f, -0.058482587f, 0.024896007f, -0.016193368f, -0.046061974f, 0.07525329f, -0.0606826f, 0.02638696f, 0.00130447f, -0.046941716f, -0.05885524f, 0.06583457f, -0.0037483803f, -0.045396626f, 0.012359966f, 0.08066761f, -0.039645553f, 0.057289593f, -0.027416218f, 0.0026538305f, -0.07207349f, 0.017264683f, 0.08161975f, 0.025263784f, -0.042676143f, -0.06223964f, -0.0143834315f, -0.0328374f, -0.029556222f, -0.024736585f, 0.020430394f, 0.043582845f, 0.05145952f, 0.029242193f, 0.058857344f, -0.07602286f, 0.05820615f, 0.0064290552f, -0.015893754f, 0.07927978f, 0.010924737f, -0.039782375f, -0.055330485f, -0.024047071f, 0.0052193496f, -0.021706324f, 0.019164808f, -0.017499736f, -0.015460676f, -0.04403145f, 0.07483867f, -0.04788855f, 0.012618182f, -0.013127229f, 0.0721356f, -0.06832222f, 0.019954955f, -0.017148787f, -0.04561474f, -0.0047042975f, -0.078753985f, -0.013484251f, 0.020570144f, 0.042393815f, 0.07334386f, 0.014509148f, -0.07181275f, 0.057745565f, -0.046792492f, 9.571629E-4f, 0.06154785f, 0.054973688f, 0.027206473f, 0.07673663f, 0.038018126f, -0.018414656f, 0.06987065f, 0.062259126f, -0.061208453f, 0.038578264f, -0.032728095f, -0.05121762f};
+    private static final float[] W2 = decode(3000,
+        "vS8gUbsczGS88lz9vUgs+buc87a9WKbFvR8hQLu3q/y80fVCvWh/BjwXB8O9XstxPJ/YHj0VGOW8ybHkO4FFqTx5JVu9B0kvPBfUBz0qOQU8KIE/vTW5UT0XEvO8H7hhvQlrHT0EOzC9YVVIPI5oZL0jEZi9ZFMHPTqBjj1b9tM8ZVeHPRgrXr1nXrI8S8wzPQ1ZKb1Zj3G8vj63PUSB270x1Wc8xFYFPPpgfTzoQBA7q2/5vRb2RD0f1/S9NF5NvLs50Dy8Uxm9TkrBPMoUA7yvTE89NGjgPQHZTTz+Pni83gH1Oy7c+Lx7Xji8miEzO7rSFD1ZZgY9Psjsu5No4rzFKU09YlQhO/6T0bzegmM8LBPTunE3/zwmiZA9LDvhPJCWmj0rWgW9AN1zvID8YT0RuG+84uNxvEMDtTxDEkk9WTe3PRdA0708Piy9KkCpvJmMXDyNpYI9EzAUPKJoqzzav2K9ClMsPM2EVDssm2O72M1uPRrmwT0jQrm8pgSLvUycRTy2pC09Du5wPQ3BTz1DqVI8UO0uvKqZOj1NUAW9B11YvTeqfbxLoDS8gVozPIg/xDyz2Ws9WRMgPOSKWjvl1r+9VWhpOlnWfr0RUPu6Ce+qPQNUyLvQsXQ9AyEYvUBtYTzUZFK8PGPbPKaHgD0e6T09CxuLvVOIT7sCdPE8RF+mvWPMPzsIXt67og8fPKt8SbvGQU07IdYUPNfmML1YwyY9OTw3u4u437rXArq9DrOUvCnf3ryDMfA9ZMjzvQf4071ZOc+7i4iMvJe8Orvc/aE9HtL6PTsq0bxkerg8pN6+vJMQmL1OkDC9EXQVPB68ir0n8VM9Uk2svNxzXr1HS+M73l9uvV/IFDqRqL48DXIcPSJdXb0H0888r2KCvES3qjzufdo8zEsWPJvSQb01f1M8gpfBvTJY9j0WUEe7+Yt2vRcGSDupQTe9EFdXvUb2iLza7K29VkMxvSx6YD0RfAk8kKeYu7eR1Lyblj29a+cQvNFlCjx6lXm8FTzbvVNopD1U9CY8z4HAPROVrr08HXG8EgRQvRDsgLzOVP89OQVvO40biT04cKg8PnGuvJf/Ojsf5TY9UkRdvUrWPDziq4o8ZPepPVoFazsfRz+8buWWvIjW470Trci8cb4Pu8BykTw8UIQ7iYMuvUrA2D1fs9Y8fekYu+kv8LyrsBo9PHidvUdAfr06M+w9MdNyvMhD+70nZ149LWqqvU3D2DsK9gM9SwPqvRoCxrsP37c8kgDOPVtuKbx3xX08nhzFvVtuFLy3Lu47GDAPvWwuIr1YLaY9X2jyvVjKK7tOlCE83H8hvSAnsbqp3Y+8vxV1vUwYQr1X7Pk9GMOdPTX5nbzGTMM7iwJtPR1Z+T1bGyO6du5QPUCU8Tw3ErK9Y60ZPSmVET0n0oS8wnycvJOLUrmk2f+9Lm/6vTyHY7yXm9O8mlzeusbevz0WULa801CuPHKpPjyS70s8F4SkPSMWJT1dbg29NFwHvWvm+D1eI+29ISVovWfz9r0C6I481+ZzvNvSeT0Wpqq9HptBPLxf4z0nMT48rzXPvTtMXTz3GW09ZnJOvObo/b0QmUo8Jfp4vTCirLqeAlA9EAEWvMQtyL0Ea6S9JphPPPjaXLvW0TG7jG6tvTMtIz1fu7M8Dnq1u9Nuh7uiTqE8WWffvVkQMrwntPq8vN6lPWHDN7yFSM88731cu8Eg/DzB+FY9L6GWPOgiN7xLZX29SPPSPAUPOzzSnmE9Fm0/vTJUh7yKIyO8kGL2PJwG7T03D469WlwzvIQLUzx/b+c81Rq8PT3YHr0p5r+9B5l9vVQf7bt6XZ09EIsOu8UgkjzsM7I74HKmvS12FL0+A5a8pcN6vNOpHjymtjW9VyIdPO1K9jxIOre8TdMJPMrQRrzbCpU8j130uo+iDbq02QY8oePVvNi8eb1lVzY9IleivTkmSz0oi7I7j3MdvUD5aL0vbmE80y0SvUNjHT0P7F08vGtgvHrScTysI7S9KzlqPK76yjziMLa9MyrUPFOpTj0D8oc8oshHPSCS+Lz/FTc9ScN5vWYLzjz82KG9S+G4PS5u6zx4Uf28vTKFvGEyVDzDgpU9QCuovGAw+rzK+4S9AL0yvSJ7vjxq9XK9Po9VPPXuhDslxIQ8XWVLvRAIO7zlnBY8DnCiPC54mD1hmOy9AE+AvBn2uLyAgNC83aIAPGfl5bt7ens737OpPBE10rydLak9Qfc/vQenJDzfs7S9Je5hPU55XTxjMhg8QD/gO6VaSD0z+Ey9OC9YvBmabrz1CUS819lfvRPVyT0MBWa9N53TvNu0Nb1dnE68z0DjvRzc5Dyda6s9Tx86vOMO6z0Flwo9NtSnvLuuez0PCt69R7opvPaGQjxA8F+8u3wjPQw/Ab1Pips8npguvI+nvT1lqWM9NSOiPN4nlryJvU69TJnEPFsHVbyavpk8YBK5vJl2SjwHm/W79LMjPUlmoDuoqAu9LhgQPWQR+zwIDEA9TxL1PINq+z1ZE3e9W+QfvJ50Db1hSLu9InFUvUW5tr0YBQ29FGCgvLNcxL1Bg2m9QUkrPT7nOjxqpXw9Z8aPO7IUrL0A4Ji9ERqbPMjKwDxQHn09RVnJPTuet70mR1u8rtkAvE9sz70nOBw759KzvQf3+r0Jt2s8ha+FOkmiz70YpLw9bDJivLrFHj0pz7s9HquDu8TqtDy4FUu8xnQnvI0HCr0njGg9W+p+PTm+Ir0PCGa8R50ovSwYNT0iVmO8rKAUPUNLF70yuo669/AKu1q/oD0RkjO89AWePPlauD1Twvu81x7fvUIHSL1ElWq84iaiPF47X70cQ187qduZvP+btrzGN6U8wlpmPT0+P7klwAO9Hvq8PUFFir1Q0Sa9DpoavRMLWD02jLm9E7FbvUzwhrqgAOy8bDOvPSl70j1Unt052zSZPT6amzym+2s8HEfdvTVqeTsftYW7WbfHPRUgU71bx2C7/zDMPTHnMz0Kkd27CrOBPWYMzzu1DXM9MofMO+JdG7zHAC09N/MSu6xzNL0GlQ+9L1Y9PWkLzj1q8YC80dDYPQD30L0Aazi8KB89POxo/Lz4qLE9XD8yu7so2z0UA588yAUfvU+xeD0WjN+8qTHqvJXmvT1WNzi9QxzYvSdyYDyBKmi8/iiavTpX+rzHVq28l1YuPVGxRTx3lHm82NhNvB2K5Lyg9Gs9ImNvvU+FDb03D4C8Sd0fuqHFGj0FChQ8749uvWZcNzwWJ905KLkwvKn5rb0NpwC9A52VvBbzNbyisn+7xX6QvSfVMjzDYIG9JxdvPPrmjD1FNq28lSNhPWpTozy6jKC9Luw/PKlQg70ZOh+9PPsuvSO2h7sLu5W9RfGbvQkT5DyJznC88OYaPL/1Cj0VR828ud27PSE+KTyixSG9VADuPCavCb1Zuhi9RX5/vLsjW70TahO8fpy1vI+r+Lz6njm8Ly34PHElYbqiO849M5D9vWSCljzlAwi8Dh8HO5N7prywngS8plu9PVFdeT1U4Lg4HGd5OhRXyj1jwfK5pJpBvPMlOrvK7Tq9S1/gvUPzmbuK1Gk8xL/dvQHbhD1V84g8JT15PA+nvbz8xFk8+MBvu7y/mbs0RVe9YIrcPKusoDxv4c09QtOUvKvh+L0mu009DMMlPVBj3zz+vLG9MfhkPSt2jD1QtvI8yUa5PUyu6bxDmwG8DizMvVGFHL0fo8Q9U0bEu3uR7DzLYLo85JY/PTs2+bzkF5O9NcNDvOrFoTzIiDK5pjN7PUgxCb1oJwK8HkSYvNwI57zsicQ9Q5odPTPm/jxx9wQ9TbjWPB6g4j1PbZ49D/7BvUgbNT0DlL68TVgWvK8GR71cQZA6cT9jvDxMcr0T35g9A8nPPTpGzT1MaF09NoaLvCXC/Dv7xvu9DMjeOxzv170385o9ZeALvRrvQb0GuuI9K5AVvP2l/rzqRJe9D9uau768lzzLUuK8IAkYPOZTfz0ah7M8CFz3PUBM+D0NuyM80k0xPOofpD0o4Sw9R+0gvTGghTucvKG9IYwkPQJxfjyuozw8gr+1vCEFBb0B1nU8vZ9SPRlEE70HMk09UIAEPGd6oL0/FBi9LJpOPBNI17z36QO9TaLVvSMQhj0zitu8+VoCvQxoDTrpfNe72WzIO72Eaz04opk83CSWvKyhUr0iNDE7twV6PLXu0T0St5i88JsXPCQGSLuFqVs9Da85vN6Ahr1aur68n9ezvVlxNrzOV+k8vmp6vTYUk7xIsy487qL9vIqnCLz9fvc9HbcqPKBUd70+y2a8qVjfPKr4fTyQvVg8jothvTOvyDxbW089AWlIvQ/x2DxHNcg9ZxVqvF3qxr1A3/w9FkkqvNwiOLx7+QK87YXevOHVmjy5NNM8tjC1vOMvYb1iJ5a79fyEPR4CHbuchUM8dbGMvAg3Urysp/28t4zzvQ4k8DyH4dQ8wFo4PMVunb071Nm9JPk3Ou/Juj1VSKI8vDrhvV7UcD1ji9+7huVmPQQZz7renj48itzbvUfPmL1deOE9EA4EPE9ceL0u0u69Rrc0vVdwiD0/eV481JUyvBO7rTpQao482cVnPQd+zj0EZVC87fe8vJRZQDzk4qW9J+BLPIxOC7yaOcQ88C0BPSrupD0hyL68iDtzvQCDUz0zcvI8mr7rvJwxEj04lvW8uwLEvLFrez0q4G69JI76vNAq2D1L30s9YvrzPSmFGLwOQgO5ukDRO1mnur0CxlK86z7mvQdLJL0cIoQ9LqDwPMFIBD1QMLs7ZrplvRnOPj1SFX+9RistO+Rbbb1p1bI9YTBlu5+bqL1AjDm8osekPOFlqL0OPFc84pmzvVGuBL1DsQS88n04vJNfK7y57Ca8/ULKPTXWiDy4lOY8OLedPRYMZr0iKiI9TQ4zPMg1l70chuG9BFRePJOmRb1Vv8u8B1dPvQ+VRz0j8Oe83ifyPU29ar1SEYc8/8iDPNVxXrr4P7e6DigBvVmAC7xX6G09Pd6xPRlYpDyZq8g8X8uYPQ6iATyq9F283yAtvR36Z7ztBbk9TKMCvQAcXruMOHc7jcyNu11AfD0a7tS9FHQyPSox8rzcTKg9IGNMvB463jyn/0i9FExTPO4dczzTKXe9FzFKPGpKdzqkeig9RT6fPT3IS7zdeRG6KmGoPVkNnL08I1U8suFcPVq2J7wBWk08JW2fvK7XoTwMwEm9IOATPJanajsx62U8jVtgPJNEkTzVdko8xXxtPWGsMLvWeTQ9Cz1lvGmFTb1aedu8RcRAPHKNarzjKVy9F50PPJreljtuThC9UgmMvEXx4z0MCm88fvw7vWIVez1rOwa9IK5LPIEE2r1pWkC8qFfdPQ5za7u59CU9J65CvP9A7DwsGMq86CDjPM3pVr08kGo82YABvHrLFT1mGHO866z9PSM1WL1KIN69TSuXPLYaaDyEQyu8cPibu8YsdrzTYpu9SZcpvN1mwzzdUUY9KauzPMOmTr1ElK89PWIHvVkGk70KHQ89Li94PTb9xLrUDT69DibxOoYgo707uik9ZyZ2PVFYK70BsE89OrwkPGryvDzrfYQ9KqAdPVoL5j1AgbK9UPoFPTVrvj1mTbK9IHLsO0JoSb1MAwU9NS6nvS9npr0yM2I8MLswvFOQxLynC0s8YcbTvS1Aqz1UZhy9VvFtvUh7d70vzBA8mQkHvDrv5rxN+gm9CajMvQY6gDyypQo9Rdf5vPMxrDy5VNC9G1dlPRXPM70x1lm8kyqsPBkIZDz/RJO8B47+vWV9EjtEq/I9L4dWvUEvEzxG1Sk9LEYKPR4eVr1IjBI9LrwwPLsr5j0XGJk5fMr2vOr22T1jE0G8PZ2mvMoMSj0um6K8sCMWPTDYLL1arLq9GI93PQ2hYz0r2II9ICxbPO1gZb0HwjS9VF6uPRYOazz6UIa9HcrKPUC+7jz+YOG86b67PE7OtL0DTKc9SLCCPR3/t7zY7Xm8YoP+PDsYiz1YM9s8w/JBvMauDLuXJxw8jXICvS6yrb0tEXg5D+71vEGfirynG0m9LGFHvQWYAD1rrqQ84PsXvU2IXjwubfE8tSCevBsxD7mhf9K9GLz7u0VUw71Azpc9KzL8vTvk9bvVSyI8s6STvQquZbzKIfi9BEA5u+RfszrCjIu8S9OePL7TSzvRNw28zTqLvC4UIzvrKe46miipu3laYzyJGOC8xY0vPTpJ170A9aA9OZTRvSn3xbugiim7+PKUPFb1Ej1UNZA9R67jut/Yjj1bhwS8M2D4ukd7yb0G5KI9WvyrvMXKK7wAUaS7tjvOvWx3Wzv4wrc9SOuEPGC5xzxDqp89D00cvBd2UzwfeZA9FoZXvDWMS7whX8C6zkPDPT829DzKTfo9GFl9vSOSaLy8lCA8mOIvvVBYTT0bu1k9HwrMPKXgxz1I+XW9YMRuvUiykz0CMxi7Zd/tPSMft70RYJU7Fo+sPAY+3L0+7uE7AJmNPUeHhT0/lJk9RrusOy0IC7zRL249XWH1vVlQa709F+k8aNWVvT0lMr1RnSE8Dl3QvR+K0TwYmWW77UhZPBpOTr0lmQO9JifmPABOcLwZty+8c1epvVaddD1b+Qw9IBoevUkuebzJPxY883R1PTVJKbmXpQg8y89GPJUlgDzcEQ89XTNnvQekJDzniR48fVwxPAG0G7yTWXu7YEwGvQ5pJTzktqI8x8MEPUgvRbyuxyU8UKH7vIoEDzzAyg09YEabPQG5wj0iMts9U4BrPJvZ3buVpmy9R3Ezu+bhbT1j7ju9NswjPNSFpr0NctW6yAf3vKvrKr0RNKk9PTrZvWIIgTyWXm09WraHvBn+Zj0+dLK9Gb9vvT7x8jwZcbO9RaAWvRCuab0nY/26AxHAvI5TzD0gWNi8lB3MvVZ1RbzQYhU7rh+KvCYcyzvrC2O8WH9CPOYYALxz0zY7uXJNvRlEPD1T/m09YhftvUrdn7sdFt+9PV9sPJAldT1pIwM9WFu7PTiluzzRp0o9a3XsPEzQGLzm6lW9N/vyvKshED0BhyG8imAbvJoetLz0wco8pbrcvL5s0b0/n6K9RQfCvJbs37yNlV+8oYCLPV+STLucKlS9VjpQu55UET0qpOQ8/IXPvTcZW70vOtU9ZpgnvU8SBTwhot68nCXUvTUPV7uethq9N0toPUIfab1GyYA8Nb2ZvESaTz1sLvO8gn+qPSNyfLynZJm85F60vUWzxr0sDbE9XV9APQ+yBjzOxg48lp54PQvPoDzSqb26RGuDPR9bQrryKvI75ZAyO2dUx7wXzqE8lMjLvEDnvju62nO7zVSRPRUxXD05ZQ284RKaPSRp/705Iw29L3r/vReNN7x8It08MRnuvWg8jTzj1So9RqOnPShWHDxeHYY7vZeWPSU9Bjv23KW9O5rPPOicwrxibFI8scz/PMVaPz0GJ2g9IbrvPQnEpb1cw0S9VrHvPEsgYTwWlcO8SIn8vWUNYDue14c5Mz0HvNptXrzjOmQ9NafaPQoSjTxc04q9IVU2PL1QxjwVEUu9MAe9vKXtjbzXrnk9SPr+PQxnYTxhkpq8xoOoPMuDs70cqAk9UDLQulFBVD0CLa+9PH4SPOClg7zyXNi86TQgvOvIXr1GUxK7wwanvSQA8j0ysQM9QwiyPAG1HjxR/am9IoMIO94DobzhICg7JW1zvJc4n70MFWK8r1B0PVvlvD0zeH88n6L5vV98dLv8kUg7zzEcPMf/fjuTOmg8C6TOPIN6f70rp0M89FiKvOJ3P71qzry9GRxgPGxiTjzDkU677y/dPVn8lbxLhA88jJIVOylcHr1OF0W9Tv81PJTvNzoo7k68+xSFvUL1WbvklNG9CYQ8PSfBI71PYvE82qe9vLQISTzWrGa7mFByPAYrND1g14q8YyHevRPxlLwqcTA9J2jcPQ5T3j0o6MU8IfRGPQFttj0hAu87Yl4IvTE2Vj1NB9S8709fvOpwLj1UaHW9F5T2O8qYPT0Pcaq9DvHVPONzCD0a22W8ps6sPUgj0zwjIWu9I4SJO4zqzzybje09SUwMPTVok7yuOja9GY8dvR0kJLw1bHs8h3VGPUFPPTwZwAy84IbmPWRraz0xH+S9FhQkPT0MsLzG6MO8JRHaPUoGVL1EjIs76fQCvSV0D707gTK9JkPFvVsKQ7zZs/g9OowkvQEu1buFDts9UjSPu+hdQz1NDHi8dO0xvOOher08HZ88ivEMPBV9uLzf/hG9KVyYPJoV+D0g2DC9YTofvIb+47yc2AO8vpDxvT2mF7uP0vS8xQxKvVrdIztZgsc81F2RvBs6Wzsscvk9WPrOvFLi3rzTrZs8g60duys5IDxIX288wiipvU/ZWL08Cre9Dk3uPJ3Lir1gvVq9WVpoPREmtDzQYaa6Hf0BvVNAXTxEHlo8cbe1vR3uvjzbcmC82OEQvSz3QDwdea88pi12PIK1w7xaqDA8MoyXOrbX3b1j/Wq8oa4vPLnp8b0udsk8/pAYPSEN+LzvGPG8/zAtPSDnYTzQpzQ8c7uLvKUp2Dx/Vls9NV1lPUKJkryavoO7fFOuvFt+gLyJKky9XLZou0JeWzy95U89C8H2vGAQTLzvTMq7cJTXPVbGATzu7C87/0duvNuoL7qFJky9C3JrPTHGET0suys9XobMuzDRiD1Wjxk7hff+vQqD0D0snUm8qSLnPEyF9j1RAEq9a6aLvNOE6jznoDk8vqskvLsNtD1DvI46vM4mPLIHf71ECns9KNGTPNhkET0DdMC7pvRROg/9vDyKRQO9Af/oPPZ+ZD1r2Uy9Y+HLO9tLwL1aBEE8wEDqvK5A+D0iiWu8bjrAvUQsRb1LiW+9a9jluznqGbtQEsy8TVegPWKW7rti+ZK865d7PVS0Nby6x7M7zYoWPQMbbD1YJGA9ZIP5u47V9rzV9fi8dGLyPSs6nr0Jc7Q7ydvLu2/SgT0Rfzi9Iw5EPS8YIr1QnX851TgUu7bsA71rfN89HIu1PUHk5Tvordw88M0/vVQWRLqx8sg9OpWCvT60JL1NHCG8PixXvSteyjyfQY88pRYrPJrGE7nE+GO8+Vb7O0CW0zvXG+Y66H/2vUbN+TxtVDc9Ao3ovTOxk70Xy+k9TGXlvGMsJb1apDS8Lg8HPRCbvjwPvBC87t3PPOfyQD03it883044PUtVJrvoS5m8zFxSPST9MzzlEZi8w2uePSjI1r1cZ+M82MFLvVHeH71VPUE9RJhNPSB6bzyEY3i9UAwOvUy2PDypgSg7v9XRvWPk4ruCTyA8lbiCPUZIjL0fbas9GpQUvSNlajs1TeG9PlcbPRBXP7w/2qM9K64vvTqoKDx9Irg9F833PSybAT1d5fQ843tUvVmEY702atU9UlHEPTvC0L0fpzC8kQaCPJ6TY7yVVVY9EQq0utA9wL03DGC9HBMjvQo5mr0l0309VHKPPQhdgz0v6ig7PJYHvU0l8D1UH409AqjpvWUv9T1C+Wm8o0IZPQfLsryTuJo9PwSFPRqmB7yiREs9DtbpvKYVfb0h71Q9Oa8au536LL0bzTS9BaQiO89t9z1Dce48fdF0PKxX+zuT2OS823/FPM7UKD0Xx8q9Hh8wPL5mub0eCFG8yFSyPUKxK70MEJC752oVPVdGwb1NmuU9LeRcvMTIBbxRyCu7xkFNOvz5YTrCy5e9O2IqPQIWeb05w824WdWSPN0/KDzAQUO9Ca7PPWeT1z0pA2G9ISvRPIhDIbzdbaq9FUNoPKoJUzz6v/Q80VkavRqRJLygkq08S+bnPLYCCzx45IW9PeAAvE0IGDx8jKo8mO7yO6JoUr1owbk9JX4AvD186Tt1a7g9I54xvKv83L0eP729CiqvO8DFIbySXE08hkSbPBJY8zzK28Y7pArXPF/nOL0idrY8PU/3uwyQ270Wj/I8sv67u5CCLrwrtFW8M/orPFWEaD00C6K9DZf6PSlj6DyAcuk7Gsy/O06Tjby9X4o8SGZOvG2ceDzUiII9DhhUPWoKjzyeMDc8jW72vQhFlbqRYdi9COyYu/TMBr0FHJ88/TzUPVEwYjx87fq8av5PPR5sk7zfbkC9SWhJvPnjnz1e0OO8MgKpuiQvkLyVIW69FWp9PDtG0j0GkV29aUoDvWLocr09S4E76Ag4vTx/ib079cA9K425PSycTj0tGyc9GNBTPKxOFLvo+j89T74uu1RIXb0FPES8g+k/O4gpLTz9Wge8l2hEO74+jr0YDVG9Av8wu9qo4T0DicC672HOvQuepTzoVMc7kwTyPQTk6jvrA7W8hw1WvNC/T7x9eE88PBblvWFNuzyptig9PQc2vNSmzj0sG8A8qZ7GvTYKF7zfV3I9Rb+3PQThBD0rNKU9M+gtu7wkSrueEQk8jcM+u4setzxUoJw86NA+PN+tDbz3FIS9CXa7PQQDxLyKG0083nl7PVDXwb1G1zY8KvGtPNsVDL1JfSW9DqXAu55vNLuJNH29UE30vSOF1j0Exeq83zKRvRH5DLyK8hO9DZAcvTwejD1hFAM9XxodvSssdL0dhvq9PDLZvCE6FL0YAOk9V1dEPPW0LbrUufw8vOxNO3HLkjyaa8c6mh/jPFMwhr0+vlo8bdoSvL4IljzYW0M8g3kGu5R+TTxwqZi8mGyUPRqtnjvjIMU8rSLDvTX+Ez1DBew9CokVPOnnMLzzupq9UpIEPGxqvLv/RcI9PCq8vNMFhr0ZfdW9SJoFu8AsBL0yFjQ8JYbEvWXTiTv7v8M9MhZ+PM4WLrzROl+9O8CePT2CNb1REHo9H9bVvWcfaz0r6p48jq1fPAyLfTzKizG8ReZQPTuAxbzqHie7cqtavHKTBDzqT8q8ZJSzvT0rkj0CnG287+zrvVukwTwRIvE9I7OIvGzyHz1bJDk8xg0KvAymkL0S4uw85MKsPNBHVjxYgCe8A8HBvQFlXzyvoSM8IrJlPKqN9Lzp1Vm9LbkvPVtwSLqu98K80M5kvHCr0b0Ccvy9NZaIvNYLkD0279q9aD6BvVV8PD1lpdO9QkWCPWJ9aTxpGZi8qTKXPO5dVbynYFc9Q5e4PWwkPz1AGXa77mZ8PT6/Sj1W9x+9P6VUPI2b2ryBQxC9M924PSZo2Dt5zLO82sHHPGDxHrvYuvW9a8ItPWIOWz1iBD278gdEO/A7ELyo+wa60E4mvUsi4r03PSs8oHQTvR1QTTyCC869HcuAvTinwj1kolU7AHr0PNsEtT1OuH87am+PPG/0xbz25MU7juhSPV5TObpB4pK7BLUju0OmwDukSPe9WTZhvRX/pT0DCOU9YYIRPOEUzLxJz9c8asOfPUgU/r0R0Nm815bCvS4i6z1Ebgg9PdRFvBqB5DxdNqy8XuZiuxxiKT1bJ/K9aIISvSHpV71Kmhw8Zd/1PWw8871d0/M9MOlgvNCTN70Cqi68RvNjPSp7pb1Cajg6jqEEPJVqUjyeVZm9B79VPNTxPbz2MRK9Z9phO7Q4o71LwNe9LYtIPOCiFDzGr2M9PB0YPVBZILyeGq69SZngvArPrb0JHhq9IwR+utfTCbywlM89H1J4vH+shjz8Cv69AqTIvMmVpb0EKKO9UrkIPSiXJDzis6O8r54uvMkIqLvuh6A86O+mu/mPyjs9zZE8kbvBvPJ6wD0DreE80r8LvQ7dzryThzK6mCtwPUA8E70vOFK9QIarvQfFHby0g+k9YxxzPOEeGL08YRA9O359PQ/ZSL04F++8nR9jvRQY7b1l6bE8lLRevIFQcbxW7+C9GMPwPTLfCbt94G+6pH/uPBZJLrw6wiy8TLLavQxe+70vr3a8vWZlvIiB5jz1beY7I+T4vKNIer0PNSQ9TFJMPRQ4krwDyBu9OkyXPT1DzD1JS/I83iEavUXL0r1lKew9TcVEu7Fd1DzWUEw8OeUMvD3vhL1CeBe8WyqNPMY0VDxySsK5lMakvQLeJru/E5k9GHoiPSAho71T3wM9OFTqPULa9L1OMHO8t/RMPRE2aDzYM+K9F57EvIryb70lurE9Gx3ovRWacTuwQh48zhBsPNnSFz1liRq9Za+lvTjVeD1Gcwu9RdOmvNHfcL0X+505p0evPQscEb0FGnq8gxCYPKhyJr1avU08IjUGvJWAAD08IJi9HRAcvRdUNr1hioo9TlKuvJpa/jsgSiG8+8Z5PLSSxj1d3hq7Ud+jvAURMj1cT3o8u56mvVS8+b1pGt28rBj3vT+gIT02wJ69NmsvvQk3fLyn4+68r+s2POkkMDzHJTo9acspvIJhWz0kLvG9HoVNPPTA6LkgnJO8fVxsPWxKgj0oqT27tff4vRpviD1Ene69NXyVPWI5CL0PEma8BeBDPL8osz0nKdw8Jt/DvQJsDzzwa5a8Cgdlu7vJXLzIDLA83yKwPQP9lb0JTQU9L1i5uyqIV7zRtUM9JMDjvVIpM70AACi8rlrSPA+w1b0hZF674/YpvOrugbxNuym8/dh3PTWVbLs/fgE9YOvXvTpJn7wyEuo8mv9svGusUzt/nbC9PImsvJ+9xzuzmd09LQxNPPo1Nz06wLM68AZ3vQVjnz0ezsg6V5aHvPnDgryPwLY8ueI8PLG/rLzlmUK8uZlyPN2MgrzbMUM8Bm3NPSNyMr0Mg5I9S239vSxwxLxVmpO9Qz2lPKC1M70g8ww8xHiBvNQ9170XA4G8iLsHO6FtSjzBJ1o66mmOPM9nqDzrGti8ifObukqm2TwtpK47ogS6vQsiXrxzQi+7jhW0vS4x97yKzwe9Znp0vGFsh7zuhKO8YFOAOxBmPDyPZwE9SrA5PV31erwb1pa8ZR8QvQ5NcDsYf/a9F0CUvCTBhDynwd47VJYxvRQyVj0DK4s9AkKZvWLKQL04AF28DjJePRWFEby+Lzq8M3XXOzsDgL03gWU7O+rnvQzlbD0UKum8Dn4HPWOeKL1G2FE8xgYnPLP8b70rsrA8JZhvvVSxkL1YZki7wld8PMoDv71Bt/O9SEC+PKmZtT1QyDc8Ou93OtAYkjvaswo8KvTavSyqNjuM+369FyhCPJHRWTqpDBk9U5jsPVCT370BpsU9DN+1vMmXC7u34XI9AYUpvVqHnLxtEjk9E8+nvEWqhzzpedO8OQiPvIWkIjzWy2o83XJXvKkxT70IHOq8o6yavJnBUTxktde7zcIIvTL5oTya9jq7kbVjPEjd0byfrV68mYZXvQaK8TzwwNK85uMLPRpYiDz5OZ89RappvIgMdD1rrA49NSf4vVCv8ryxKlQ9JhlQvVjOVT0weVc8tJhVPAbdfb0ydsC9AejGPDc4obyS2sU8hSlfvWlrXbyon/k9CRQwPTgaQL095+E8MhayvWgtOr1VvA49DsbVvO348r0qhoS8ORmXvTOmEL1KDYo9DbftPC4tQL0G6J68M+UfPWDGID0t9EQ9NZFhPUo1oT1P/V+9XoGQvOJ64jy6chE8n40JO19Naj1YBew9YH+lPAJaYjzm3ZK71IYGvUtXWL1qbuM9PDShPDmmO7vJGUm9HrQauwIaETu7DhG7xx1GPWdOcbz7cKe7rdSoOmBLkDyMfOW9VwE0PNFBXz0kO669RIQLvITM5T1C46o8w0G7vNvyB707aGQ9E6jrPV/wvTx0q7g8i45oO/UFAj1Nt0s9REktvGJsEDzDymC9O40tPTLJVTxciQG9JhAXvT3bITveBpM85EasPLJlL70lDb88jsNpPTgRVLw5tRK8CL99PRoQI7xyzVs9VSAkvHckab1OUL28MsMQOoqEKb1LgCk8R1i2vUIIBb1ZoT280zUdvRUwMDyzbJq9C98pvHvf1TzcLUe9XIDhvIh7Ib1awhg87m4iPJG8Fr0xGr+9ZgsBu/d087w0vtc9G8qtPMhLZrzNqOc9O8StPN80eL049Iy8+aUjPK8f7TvhVlu5POqNPWfWXjy9YuM9XPtVPV60+LulNek9AsK6upBmWryXSRo9VO/KPVuwrTz4jxa7hEqPvOqNmT0E1Gy9FTj5vV1v/j0ke169LEcpPSu26jrPmgS8LSMnPO0nI7yBftG8zQ/gu2i39zz9jaQ5X8CJvECnVjzSkXY8DtFmvRzY8b1kIxs9FypTPOkx+b0fOjO70Z6+PTEZ2rynMNa9XT32O+3EXbxoUFy8jdjvvRN/tjy2jDe9KZcuPQKZSzx3cKa8ywJbO4KMRLzXnx49EmmJvROj9L0aJro8QkiBPIzR8DyQP2E8y8NLu+tDgb0kc1Y8QBrevKgGkjw1M449ZCl7PJ1qtL1oiw49WDzZPRzhv71rBpE8qQoFPKGO0Tv8qaW9OG1yvCvLqD0eE+y9Upi7PM9Q3b1Drz89LdUpvPtkTL1M8j49SzyvvTRq+TuhOJO8PiutPSYTN7wJC9A9MexvPNumzD06HJG9Xz9evRv5CjwyPG09CgDwPMpu7jxuBjY8zLfRvQ7DyD1UYHS8Y9U5O+gLoLumtKI8nfObPUe20ryQgp08ZdnOPS3oWj0aDrQ9NqLWPSDkbDyKnuE9BAkavJ/qWb1fjL29JiNfvEzwFLsil/S9EgiFvTu0Or0Hw0q9JcEsvBBBxzyp6Rg8kJRePT3Zxb0sHCC8uCHovMeDKb1AUqC81pgIPNyylr0z17c8K3WLPUuWBzyE98u9LG9QvBSjQLy3iAc8R9lYvMbIzjwIc3Q9CMXiPLXMlDvqa3Y9YwBpvMabzbt/T6G6nCvkvSS13rt8dYM9XnonPTG/6zz7fP69HSa2O6nAlDqkGoy9bFXZvNNicz1VydE9FhV4vSeZij0lcf088eEpOxzjQTxM/ny8XDz3OxP7L7woOAk8A+DnPFII3L1rxIe8+AFCvVgJgr0zCb09YvvUPUlFKTyWLs+7VMiJPLUZVz09zPq8uEJ0vME4eDwsOPq9TbVGuxEeab0b/qK7ngSuvSwPEryN5VI9RNPDPUomjT1jMcg8sDm3vKOGyTyc2/u8G74UvWJE5TwCAjG7OfawPKcU7D1ITKG9EDNUvU88LbtWWcs80qXfPLBAGTv12SA9R/WxPF7p9z1O6nk9JIU9PFlFWTyDPyy8t+ujvTWNeD0Xz/w8+zfePN7coDrvAJQ824Z7PNd2DTpqlpc8xJx5PQW5yD0taUm9KDs8vV4qzLysBPm6o0ifPH0AOL0gwU89AmSgOIaNLr1hA5+8plPiPP4RwTzc+aU7hLvzvR/GjLyJRRa8mvvFvUxfLDxhGm09OrkAvRMhOjwT1Pe7NKqbvRq5sTva+9i8MiRDPQUdv7uX9iY9DckCPSbsGT08fee8bLCmPQkeJ71dzqo9BoVDvFtfpL1rJ3a9UkkMu05AwjtZVb48RjUJPRLuJbyLNui9JC5BvT/w+z0SWyO8KsIMOsEW4jxW0kI8n+efvVeFsT0xY9i9V1hiPQG1DT0M5hW9QOF1PVYylr0z9pq8l+e3vFl7njz5J3Y85W5Zu5Zo4Dzr+Ac8w8GkPLxjDD0Mu8M89xsDPStRl71HxnC86mmhPMC25rv9j0K9Y/ppPV+1xTyE/T+7/6ePvOQJ3Tyt5fo9Vmqwuh2Kdb1KlTI8FHLePOxzS70KPnm9ZzWRPWtyiDxIZnO8jOd9vROk7bycPWK9J4H4PPVL5Ls1aZg84BEfPNK3r7zC4gm7Nx/rvVRC1jzy7ee9VvDjvSPSLbxF9vi8Qn/mvFItWT1MtjU85dfjPVgd+DzQn9E9NxZ8PVt6ID0TL0k7REOtvBJw+L1l/Ea9TsQyvT6QSz1pxCW9VLCkPARtQjvuOqo8JI/OOafDeD0iwWg7yNdaPPWMPD0GKDk8vo2UOrtHKrxnH3Y9S8Y/vICR9btHHTc9OW+CPT3QD7yleM88RK5QvLqY8L0egvY81fJoO1iwvb0BNym87Pr4vSfSVj0iA+Q8nlY0PPuHmjwufTe9DnxOPT5qprv/iGI8QqvzvHNqg71M8mk8r29qPJa69j1l7gK6/ByaueOQ8zzdlRw7vuHFvTANcb0uouc8f4oWPKBMSL1pNHG8ljwpOzXZI70eT6W9WUsz");
+    private static final float[] B2 = {-0.05647883f, 0.0012068554f, 0.054382555f, -0.048386436f, 0.03530424f, 0.013058423f, -0.0040345723f, 0.00912097f, 0.0069596223f, -0.042790283f};
+
+    private WideModel() {
+    }
+
+    public static float[] predict(float[] x) {
+        float[] y = new float[OUTPUT_SIZE];
+        predictInto(x, y);
+        return y;
+    }
+
+    public static void predictInto(float[] x, float[] y) {
+        if (x.length != INPUT_SIZE || y.length < OUTPUT_SIZE) {
+            throw new IllegalArgumentException("Expected " + INPUT_SIZE + " inputs and " + OUTPUT_SIZE + " outputs");
+        }
+
+        float[] h0 = new float[300];
+        layer0(x, h0);
+        float[] h1 = new float[300];
+        layer1(h0, h1);
+        layer2(h1, y);
+    }
+
+    // 64 -> 300 RELU
+    private static void layer0(float[] x, float[] y) {
+        for (int i = 0; i < 300; i++) {
+            int row = i * 64;
+            float z = 0f;
+            for (int j = 0; j < 64; j++) {
+                z += x[j] * W0[row + j];
+            }
+            z = z + B0[i];
+            y[i] = Math.max(0f, z);
+        }
+    }
+
+    // 300 -> 300 RELU
+    private static void layer1(float[] x, float[] y) {
+        for (int i = 0; i < 300; i++) {
+            int row = i * 300;
+            float z = 0f;
+            for (int j = 0; j < 300; j++) {
+                z += x[j] * W1[row + j];
+            }
+            z = z + B1[i];
+            y[i] = Math.max(0f, z);
+        }
+    }
+
+    // 300 -> 10 SOFTMAX
+    private static void layer2(float[] x, float[] y) {
+        for (int i = 0; i < 10; i++) {
+            int row = i * 300;
+            float z = 0f;
+            for (int j = 0; j < 300; j++) {
+                z += x[j] * W2[row + j];
+            }
+            z = z + B2[i];
+            y[i] = z;
+        }
+        float max = y[0];
+        for (int i = 1; i < 10; i++) {
+            if (y[i] > max) max = y[i];
+        }
+        float sum = 0f;
+        for (int i = 0; i < 10; i++) {
+            y[i] = (float)Math.exp(y[i] - max);
+            sum += y[i];
+        }
+        for (int i = 0; i < 10; i++) {
+            y[i] /= sum;
+        }
+    }
+
+    // Big-endian float bits, split into chunks below the string constant limit
+    private static float[] decode(int length, String... chunks) {
+        StringBuilder base64 = new StringBuilder();
+        for (String chunk : chunks) {
+            base64.append(chunk);
+        }
+        float[] values = new float[length];
+        java.nio.ByteBuffer.wrap(java.util.Base64.getDecoder().decode(base64.toString()))
+            .asFloatBuffer().get(values);
+        return values;
+    }
+
+}
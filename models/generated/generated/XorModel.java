@@ -0,0 +1,38 @@
+package generated;
+
+// Generated by mg.rivolink.io.JavaCodeGenerator from a 2-4-1 SIGMOID network, do not edit
+public final class XorModel {
+
+    public static final int INPUT_SIZE = 2;
+    public static final int OUTPUT_SIZE = 1;
+
+    private XorModel() {
+    }
+
+    public static float[] predict(float[] x) {
+        float[] y = new float[OUTPUT_SIZE];
+        predictInto(x, y);
+        return y;
+    }
+
+    public static void predictInto(float[] x, float[] y) {
+        if (x.length != INPUT_SIZE || y.length < OUTPUT_SIZE) {
+            throw new IllegalArgumentException("Expected " + INPUT_SIZE + " inputs and " + OUTPUT_SIZE + " outputs");
+        }
+
+        // Layer 0: 2 -> 4 RELU
+        float z0_0 = (x[0] * -0.30087233f + x[1] * -0.6733515f) + -0.5861187f;
+        float h0_0 = Math.max(0f, z0_0);
+        float z0_1 = (x[0] * 2.1959262f + x[1] * -2.157068f) + -0.03887171f;
+        float h0_1 = Math.max(0f, z0_1);
+        float z0_2 = (x[0] * -0.097130656f + x[1] * -0.9239917f) + -0.4515649f;
+        float h0_2 = Math.max(0f, z0_2);
+        float z0_3 = (x[0] * 2.006585f + x[1] * 1.5776612f) + -1.7315739f;
+        float h0_3 = Math.max(0f, z0_3);
+
+        // Layer 1: 4 -> 1 SIGMOID
+        float z1_0 = (h0_0 * 0.012828469f + h0_1 * 2.7619455f + h0_2 * 0.33334023f + h0_3 * -2.726078f) + 0.031606168f;
+        y[0] = (float)(1.0 / (1.0 + Math.exp(-Math.max(-88f, Math.min(88f, z1_0)))));
+    }
+
+}
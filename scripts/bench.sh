@@ -0,0 +1,98 @@
+#!/usr/bin/env bash
+
+# Run the JMH benchmarks in bench/ against the library sources
+# Output: build/bench/results-<git describe>.json
+#
+# Options:
+#   --quick           one short warmup and measurement iteration, for a smoke run
+#   --out=<file>      write the JSON results to <file> instead
+#   anything else is passed to JMH, for example:
+#       bash scripts/bench.sh NetworkBenchmark.predict -p hidden=64,64-64
+#
+# Notes:
+# - JMH and its dependencies are downloaded once into build/bench-lib,
+#   set MAVEN_REPO to use a mirror
+# - Every run uses the GC profiler (-prof gc), so allocation rates
+#   (gc.alloc.rate.norm, bytes per operation) sit next to the timings
+# - Keep the JSON of each release and compare runs of the same benchmark
+#   and parameters, the tests' printed timings are not meant for this
+
+set -euo pipefail
+
+# --- utils ---
+die() { echo "ERROR: $*" >&2; exit 1; }
+info() { echo -e "\033[1;34m[INFO]\033[0m $*"; }
+
+# --- config / paths ---
+ROOT="$(cd "$(dirname "${BASH_SOURCE[0]}")/.." && pwd)"
+
+SRC_DIR="$ROOT/src"
+BENCH_DIR="$ROOT/bench"
+BLD_DIR="$ROOT/build"
+LIB_DIR="$BLD_DIR/bench-lib"
+CLS_DIR="$BLD_DIR/bench-classes"
+OUT_DIR="$BLD_DIR/bench"
+
+JAVA="${JAVA:-java}"
+JAVAC="${JAVAC:-javac}"
+MAVEN_REPO="${MAVEN_REPO:-https://repo1.maven.org/maven2}"
+
+JMH_VERSION="1.37"
+LIBS=(
+    "org/openjdk/jmh/jmh-core/$JMH_VERSION/jmh-core-$JMH_VERSION.jar"
+    "org/openjdk/jmh/jmh-generator-annprocess/$JMH_VERSION/jmh-generator-annprocess-$JMH_VERSION.jar"
+    "net/sf/jopt-simple/jopt-simple/5.0.4/jopt-simple-5.0.4.jar"
+    "org/apache/commons/commons-math3/3.6.1/commons-math3-3.6.1.jar"
+)
+
+OUT_FILE=""
+JMH_ARGS=()
+
+# --- parse args ---
+for arg in "$@"; do
+    case "$arg" in
+        --quick)  JMH_ARGS+=(-f 1 -wi 1 -w 1s -i 1 -r 1s) ;;
+        --out=*)  OUT_FILE="${arg#*=}" ;;
+        *)        JMH_ARGS+=("$arg") ;;
+    esac
+done
+
+if [[ -z "$OUT_FILE" ]]; then
+    VERSION="$(git -C "$ROOT" describe --always --dirty 2>/dev/null || echo local)"
+    OUT_FILE="$OUT_DIR/results-$VERSION.json"
+fi
+
+# --- sanity checks ---
+command -v "$JAVA"  >/dev/null || die "Command java not found in PATH"
+command -v "$JAVAC" >/dev/null || die "Command javac not found in PATH"
+[[ -d "$BENCH_DIR" ]] || die "Benchmark folder not found: $BENCH_DIR"
+
+# --- fetch JMH once ---
+mkdir -p "$LIB_DIR" "$OUT_DIR" "$(dirname "$OUT_FILE")"
+CLASSPATH_LIBS=""
+for lib in "${LIBS[@]}"; do
+    jar="$LIB_DIR/$(basename "$lib")"
+    if [[ ! -f "$jar" ]]; then
+        command -v curl >/dev/null || die "Command curl not found, place $(basename "$lib") in $LIB_DIR"
+        info "Downloading $(basename "$lib")"
+        curl -fsSL -o "$jar.part" "$MAVEN_REPO/$lib" || die "Download failed: $MAVEN_REPO/$lib"
+        mv "$jar.part" "$jar"
+    fi
+    CLASSPATH_LIBS="$CLASSPATH_LIBS${CLASSPATH_LIBS:+:}$jar"
+done
+
+# --- compile library and benchmarks, JMH generates the harness ---
+rm -rf "$CLS_DIR"
+mkdir -p "$CLS_DIR"
+{ find "$SRC_DIR" -name '*.java' ! -path "*/test/*"; find "$BENCH_DIR" -name '*.java'; } | sort > "$BLD_DIR/bench-sources.txt"
+
+info "Compiling $(wc -l < "$BLD_DIR/bench-sources.txt" | tr -d '[:space:]') sources with the JMH annotation processor"
+"$JAVAC" -encoding UTF-8 --release 8 -Xlint:-options -cp "$CLASSPATH_LIBS" -processorpath "$CLASSPATH_LIBS" \
+    -d "$CLS_DIR" @"$BLD_DIR/bench-sources.txt"
+
+# --- run ---
+info "Running JMH, results to $OUT_FILE"
+"$JAVA" -cp "$CLS_DIR:$CLASSPATH_LIBS" org.openjdk.jmh.Main \
+    -prof gc -rf json -rff "$OUT_FILE" ${JMH_ARGS[@]+"${JMH_ARGS[@]}"}
+
+info "Done. Results at: $OUT_FILE"
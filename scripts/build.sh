@@ -6,12 +6,16 @@
 # Options:
 #   --clean           wipe previous build before compiling
 #   --target=<ver>    set Java target (default 8). Examples: --target=8
+#                     --target=21 (or newer) builds a multi-release jar: Java 8 base
+#                     classes plus src-java21 under META-INF/versions/<ver>
 #
 # Notes:
 # - On JDK 9+, this uses:    javac --release <TARGET>
 # - On JDK 8, falls back to: javac -source <TARGET> -target <TARGET>
 # - If running JDK 8 and TARGET > 8, the script will error
 # - The script excludes test/ directory from build
+# - The SIMD kernels in src-java21 use jdk.incubator.vector; run with
+#   --add-modules jdk.incubator.vector to enable them, scalar otherwise
 
 set -euo pipefail
 
@@ -23,8 +27,10 @@ info() { echo -e "\033[1;34m[INFO]\033[0m $*"; }
 ROOT="$(cd "$(dirname "${BASH_SOURCE[0]}")/.." && pwd)"
 
 SRC_DIR="$ROOT/src"
+SRC21_DIR="$ROOT/src-java21"
 BLD_DIR="$ROOT/build"
 CLS_DIR="$BLD_DIR/classes"
+CLS21_DIR="$BLD_DIR/classes-java21"
 DST_DIR="$ROOT/dist"
 
 JAVAC="${JAVAC:-javac}"
@@ -47,6 +53,15 @@ if [[ "$TARGET" =~ ^1\.([0-9]+)$ ]]; then
     TARGET="${BASH_REMATCH[1]}"
 fi
 
+# --- multi-release: Java 8 base + versioned classes for 21+ ---
+if [[ "$TARGET" -ge 21 ]]; then
+    MULTI_RELEASE=true
+    BASE_TARGET="8"
+else
+    MULTI_RELEASE=false
+    BASE_TARGET="$TARGET"
+fi
+
 # --- sanity checks ---
 command -v "$JAVAC" >/dev/null || die "Command javac not found in PATH"
 command -v "$JAR"   >/dev/null || die "Command jar not found in PATH"
@@ -60,6 +75,10 @@ fi
 
 # --- prepare dirs ---
 mkdir -p "$CLS_DIR" "$DST_DIR"
+if $MULTI_RELEASE; then
+    [[ -d "$SRC21_DIR" ]] || die "Source folder not found: $SRC21_DIR"
+    mkdir -p "$CLS21_DIR"
+fi
 
 # --- gather sources, excluding test package ---
 find "$SRC_DIR" -name '*.java' ! -path "*/test/*" | sort > "$BLD_DIR/sources.txt"
@@ -80,24 +99,44 @@ fi
 
 # --- compile ---
 if $USE_RELEASE; then
-    info "Compiling $NUM_SOURCES sources with: --release $TARGET"
-    "$JAVAC" -encoding UTF-8 -g --release "$TARGET" -d "$CLS_DIR" @"$BLD_DIR/sources.txt"
+    info "Compiling $NUM_SOURCES sources with: --release $BASE_TARGET"
+    "$JAVAC" -encoding UTF-8 -g --release "$BASE_TARGET" -d "$CLS_DIR" @"$BLD_DIR/sources.txt"
 else
     info "Compiling $NUM_SOURCES sources with: -source $TARGET -target $TARGET (JDK 8)"
     "$JAVAC" -encoding UTF-8 -g -source "$TARGET" -target "$TARGET" -d "$CLS_DIR" @"$BLD_DIR/sources.txt"
 fi
 
+# --- compile versioned sources against the base classes ---
+if $MULTI_RELEASE; then
+    find "$SRC21_DIR" -name '*.java' | sort > "$BLD_DIR/sources-java21.txt"
+    NUM_SOURCES21=$(wc -l < "$BLD_DIR/sources-java21.txt" | tr -d '[:space:]')
+    info "Compiling $NUM_SOURCES21 versioned sources with: --release $TARGET --add-modules jdk.incubator.vector"
+    "$JAVAC" -encoding UTF-8 -g --release "$TARGET" --add-modules jdk.incubator.vector \
+        -cp "$CLS_DIR" -d "$CLS21_DIR" @"$BLD_DIR/sources-java21.txt"
+fi
+
 # --- manifest ---
 echo "Manifest-Version: 1.0" > "$BLD_DIR/MANIFEST.MF"
+if $MULTI_RELEASE; then
+    echo "Multi-Release: true" >> "$BLD_DIR/MANIFEST.MF"
+fi
 
 # --- jar and sources ---
 OUT_JAR="$DST_DIR/neural-network.jar"
 OUT_SRC_JAR="$DST_DIR/neural-network-sources.jar"
 
-info "Packaging binary jar to $OUT_JAR"
-"$JAR" cfm "$OUT_JAR" "$BLD_DIR/MANIFEST.MF" -C "$CLS_DIR" .
+if $MULTI_RELEASE; then
+    info "Packaging multi-release binary jar to $OUT_JAR"
+    "$JAR" cfm "$OUT_JAR" "$BLD_DIR/MANIFEST.MF" -C "$CLS_DIR" . --release "$TARGET" -C "$CLS21_DIR" .
 
-info "Packaging sources jar to $OUT_SRC_JAR"
-"$JAR" cf "$OUT_SRC_JAR" -C "$SRC_DIR" .
+    info "Packaging sources jar to $OUT_SRC_JAR"
+    "$JAR" cf "$OUT_SRC_JAR" -C "$SRC_DIR" . --release "$TARGET" -C "$SRC21_DIR" .
+else
+    info "Packaging binary jar to $OUT_JAR"
+    "$JAR" cfm "$OUT_JAR" "$BLD_DIR/MANIFEST.MF" -C "$CLS_DIR" .
+
+    info "Packaging sources jar to $OUT_SRC_JAR"
+    "$JAR" cf "$OUT_SRC_JAR" -C "$SRC_DIR" .
+fi
 
 info "Done. JAR at: $OUT_JAR"
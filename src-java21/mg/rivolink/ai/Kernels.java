@@ -0,0 +1,104 @@
+package mg.rivolink.ai;
+
+// Hot loops shared by Layer, Neuron and Gemm
+// Java 21 release: uses the Vector API when jdk.incubator.vector is
+// resolved (--add-modules jdk.incubator.vector), scalar loops otherwise
+final class Kernels {
+
+    private static final boolean VECTORIZED = ModuleLayer.boot()
+        .findModule("jdk.incubator.vector")
+        .isPresent();
+
+    // Rows shorter than this stay scalar, vector setup would dominate
+    private static final int MIN_LENGTH = 32;
+
+    private Kernels() {
+    }
+
+    // VECTORIZED is private, so callers only see this method and javac cannot inline
+    // the base release's constant into them; the class loaded at run time answers
+    static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    // sum_i x[i] * w[i]
+    static float dot(float[] x, int xOffset, float[] w, int wOffset, int length) {
+        if (VECTORIZED && length >= MIN_LENGTH) {
+            return VectorKernels.dot(x, xOffset, w, wOffset, length);
+        }
+        return ScalarKernels.dot(x, xOffset, w, wOffset, length);
+    }
+
+    // Dot of x with four rows of w spaced wStride apart, x is loaded once
+    static void dot4(float[] x, int xOffset, float[] w, int wOffset, int wStride,
+                     int length, float[] out) {
+        if (VECTORIZED && length >= MIN_LENGTH) {
+            VectorKernels.dot4(x, xOffset, w, wOffset, wStride, length, out);
+        } else {
+            ScalarKernels.dot4(x, xOffset, w, wOffset, wStride, length, out);
+        }
+    }
+
+    // y[i] += a * x[i]
+    static void axpy(float a, float[] x, int xOffset, float[] y, int yOffset, int length) {
+        if (VECTORIZED && length >= MIN_LENGTH) {
+            VectorKernels.axpy(a, x, xOffset, y, yOffset, length);
+        } else {
+            ScalarKernels.axpy(a, x, xOffset, y, yOffset, length);
+        }
+    }
+
+    // Clipped SGD step: w[i] -= lr * clamp(delta * x[i], -maxGrad, maxGrad)
+    static void sgd(float[] w, int wOffset, float[] x, int xOffset,
+                    float delta, float lr, float maxGrad, int length) {
+        if (VECTORIZED && length >= MIN_LENGTH) {
+            VectorKernels.sgd(w, wOffset, x, xOffset, delta, lr, maxGrad, length);
+        } else {
+            ScalarKernels.sgd(w, wOffset, x, xOffset, delta, lr, maxGrad, length);
+        }
+    }
+
+    // Per-element deltas: w[i] -= lr * clamp(g[i] * x[i], -maxGrad, maxGrad)
+    static void sgd(float[] w, int wOffset, float[] g, int gOffset, float[] x, int xOffset,
+                    float lr, float maxGrad, int length) {
+        if (VECTORIZED && length >= MIN_LENGTH) {
+            VectorKernels.sgd(w, wOffset, g, gOffset, x, xOffset, lr, maxGrad, length);
+        } else {
+            ScalarKernels.sgd(w, wOffset, g, gOffset, x, xOffset, lr, maxGrad, length);
+        }
+    }
+
+    // Soft update: dst[i] = tau * src[i] + (1 - tau) * dst[i]
+    static void lerp(float[] dst, int dstOffset, float[] src, int srcOffset, float tau, int length) {
+        if (VECTORIZED && length >= MIN_LENGTH) {
+            VectorKernels.lerp(dst, dstOffset, src, srcOffset, tau, length);
+        } else {
+            ScalarKernels.lerp(dst, dstOffset, src, srcOffset, tau, length);
+        }
+    }
+
+    // Int8 dot product with int32 accumulation
+    static int dot(byte[] x, int xOffset, byte[] w, int wOffset, int length) {
+        if (VECTORIZED && length >= MIN_LENGTH) {
+            return VectorKernels.dot(x, xOffset, w, wOffset, length);
+        }
+        return ScalarKernels.dot(x, xOffset, w, wOffset, length);
+    }
+
+    // sum_i x[i] * w[i], w in FP16 expanded to float while loading
+    static float dotFp16(float[] x, int xOffset, char[] w, int wOffset, int length) {
+        if (VECTORIZED && length >= MIN_LENGTH) {
+            return VectorKernels.dotFp16(x, xOffset, w, wOffset, length);
+        }
+        return ScalarKernels.dotFp16(x, xOffset, w, wOffset, length);
+    }
+
+    // sum_i x[i] * w[i], w in BF16 expanded to float while loading
+    static float dotBf16(float[] x, int xOffset, char[] w, int wOffset, int length) {
+        if (VECTORIZED && length >= MIN_LENGTH) {
+            return VectorKernels.dotBf16(x, xOffset, w, wOffset, length);
+        }
+        return ScalarKernels.dotBf16(x, xOffset, w, wOffset, length);
+    }
+
+}
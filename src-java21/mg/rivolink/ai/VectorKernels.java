@@ -0,0 +1,234 @@
+package mg.rivolink.ai;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+// SIMD kernels on the widest float shape of the host (AVX2: 8, AVX-512: 16 lanes)
+// Only loaded through Kernels once jdk.incubator.vector is known to be present
+final class VectorKernels {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    // Int8 kernels: bytes are loaded at a quarter of the int width (at least 64 bits)
+    // and the low part is widened to one int lane per byte
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int INT_LANES = INT_SPECIES.length();
+    private static final VectorSpecies<Byte> BYTE_SPECIES = VectorSpecies.of(byte.class,
+        VectorShape.forBitSize(Math.max(64, INT_SPECIES.vectorBitSize() / 4)));
+    private static final int BYTE_LANES = BYTE_SPECIES.length();
+
+    // 16-bit weights: one short lane per float lane, widened to matching int lanes
+    private static final VectorSpecies<Short> HALF_SPECIES = VectorSpecies.of(short.class,
+        VectorShape.forBitSize(Math.max(64, SPECIES.vectorBitSize() / 2)));
+    private static final int HALF_LANES = HALF_SPECIES.length();
+    private static final VectorSpecies<Integer> HALF_INT_SPECIES = VectorSpecies.of(int.class,
+        SPECIES.vectorShape());
+
+    private VectorKernels() {
+    }
+
+    static float dot(float[] x, int xOffset, float[] w, int wOffset, int length) {
+        int upper = SPECIES.loopBound(length);
+
+        // Two accumulators hide the FMA latency on long rows
+        FloatVector acc0 = FloatVector.zero(SPECIES);
+        FloatVector acc1 = FloatVector.zero(SPECIES);
+
+        int i = 0;
+        for (; i + LANES < upper; i += 2 * LANES) {
+            acc0 = FloatVector.fromArray(SPECIES, x, xOffset + i)
+                .fma(FloatVector.fromArray(SPECIES, w, wOffset + i), acc0);
+            acc1 = FloatVector.fromArray(SPECIES, x, xOffset + i + LANES)
+                .fma(FloatVector.fromArray(SPECIES, w, wOffset + i + LANES), acc1);
+        }
+        for (; i < upper; i += LANES) {
+            acc0 = FloatVector.fromArray(SPECIES, x, xOffset + i)
+                .fma(FloatVector.fromArray(SPECIES, w, wOffset + i), acc0);
+        }
+
+        float dot = acc0.add(acc1).reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            dot += x[xOffset + i] * w[wOffset + i];
+        }
+        return dot;
+    }
+
+    static void dot4(float[] x, int xOffset, float[] w, int wOffset, int wStride,
+                     int length, float[] out) {
+        int upper = SPECIES.loopBound(length);
+        int w0 = wOffset, w1 = w0 + wStride, w2 = w1 + wStride, w3 = w2 + wStride;
+
+        FloatVector acc0 = FloatVector.zero(SPECIES);
+        FloatVector acc1 = FloatVector.zero(SPECIES);
+        FloatVector acc2 = FloatVector.zero(SPECIES);
+        FloatVector acc3 = FloatVector.zero(SPECIES);
+
+        int i = 0;
+        for (; i < upper; i += LANES) {
+            FloatVector vx = FloatVector.fromArray(SPECIES, x, xOffset + i);
+            acc0 = vx.fma(FloatVector.fromArray(SPECIES, w, w0 + i), acc0);
+            acc1 = vx.fma(FloatVector.fromArray(SPECIES, w, w1 + i), acc1);
+            acc2 = vx.fma(FloatVector.fromArray(SPECIES, w, w2 + i), acc2);
+            acc3 = vx.fma(FloatVector.fromArray(SPECIES, w, w3 + i), acc3);
+        }
+
+        float d0 = acc0.reduceLanes(VectorOperators.ADD);
+        float d1 = acc1.reduceLanes(VectorOperators.ADD);
+        float d2 = acc2.reduceLanes(VectorOperators.ADD);
+        float d3 = acc3.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            float xi = x[xOffset + i];
+            d0 += xi * w[w0 + i];
+            d1 += xi * w[w1 + i];
+            d2 += xi * w[w2 + i];
+            d3 += xi * w[w3 + i];
+        }
+
+        out[0] = d0;
+        out[1] = d1;
+        out[2] = d2;
+        out[3] = d3;
+    }
+
+    static void axpy(float a, float[] x, int xOffset, float[] y, int yOffset, int length) {
+        int upper = SPECIES.loopBound(length);
+
+        int i = 0;
+        for (; i < upper; i += LANES) {
+            FloatVector vy = FloatVector.fromArray(SPECIES, y, yOffset + i);
+            FloatVector.fromArray(SPECIES, x, xOffset + i)
+                .fma(FloatVector.broadcast(SPECIES, a), vy)
+                .intoArray(y, yOffset + i);
+        }
+        for (; i < length; i++) {
+            y[yOffset + i] += a * x[xOffset + i];
+        }
+    }
+
+    static void sgd(float[] w, int wOffset, float[] x, int xOffset,
+                    float delta, float lr, float maxGrad, int length) {
+        int upper = SPECIES.loopBound(length);
+
+        int i = 0;
+        for (; i < upper; i += LANES) {
+            FloatVector grad = FloatVector.fromArray(SPECIES, x, xOffset + i)
+                .mul(delta)
+                .max(-maxGrad)
+                .min(maxGrad);
+            FloatVector.fromArray(SPECIES, w, wOffset + i)
+                .sub(grad.mul(lr))
+                .intoArray(w, wOffset + i);
+        }
+        for (; i < length; i++) {
+            float grad = Math.max(-maxGrad, Math.min(maxGrad, delta * x[xOffset + i]));
+            w[wOffset + i] -= lr * grad;
+        }
+    }
+
+    static void sgd(float[] w, int wOffset, float[] g, int gOffset, float[] x, int xOffset,
+                    float lr, float maxGrad, int length) {
+        int upper = SPECIES.loopBound(length);
+
+        int i = 0;
+        for (; i < upper; i += LANES) {
+            FloatVector grad = FloatVector.fromArray(SPECIES, g, gOffset + i)
+                .mul(FloatVector.fromArray(SPECIES, x, xOffset + i))
+                .max(-maxGrad)
+                .min(maxGrad);
+            FloatVector.fromArray(SPECIES, w, wOffset + i)
+                .sub(grad.mul(lr))
+                .intoArray(w, wOffset + i);
+        }
+        for (; i < length; i++) {
+            float grad = Math.max(-maxGrad, Math.min(maxGrad, g[gOffset + i] * x[xOffset + i]));
+            w[wOffset + i] -= lr * grad;
+        }
+    }
+
+    static void lerp(float[] dst, int dstOffset, float[] src, int srcOffset, float tau, int length) {
+        int upper = SPECIES.loopBound(length);
+        float keep = 1 - tau;
+
+        int i = 0;
+        for (; i < upper; i += LANES) {
+            FloatVector vd = FloatVector.fromArray(SPECIES, dst, dstOffset + i);
+            FloatVector.fromArray(SPECIES, src, srcOffset + i)
+                .mul(tau)
+                .add(vd.mul(keep))
+                .intoArray(dst, dstOffset + i);
+        }
+        for (; i < length; i++) {
+            dst[dstOffset + i] = tau * src[srcOffset + i] + keep * dst[dstOffset + i];
+        }
+    }
+
+    // Bytes are widened to int lanes, products of two int8 values never overflow int32
+    static int dot(byte[] x, int xOffset, byte[] w, int wOffset, int length) {
+        IntVector acc = IntVector.zero(INT_SPECIES);
+        int i = 0;
+        for (; i + BYTE_LANES <= length; i += INT_LANES) {
+            IntVector vx = (IntVector)ByteVector.fromArray(BYTE_SPECIES, x, xOffset + i)
+                .convertShape(VectorOperators.B2I, INT_SPECIES, 0);
+            IntVector vw = (IntVector)ByteVector.fromArray(BYTE_SPECIES, w, wOffset + i)
+                .convertShape(VectorOperators.B2I, INT_SPECIES, 0);
+            acc = acc.add(vx.mul(vw));
+        }
+
+        int dot = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            dot += x[xOffset + i] * w[wOffset + i];
+        }
+        return dot;
+    }
+
+    static float dotFp16(float[] x, int xOffset, char[] w, int wOffset, int length) {
+        FloatVector acc = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (; i + HALF_LANES <= length; i += LANES) {
+            IntVector bits = (IntVector)ShortVector.fromCharArray(HALF_SPECIES, w, wOffset + i)
+                .convertShape(VectorOperators.S2I, HALF_INT_SPECIES, 0);
+
+            // Same decoding as HalfFloats.fromFp16: shift into float position, rebias by 2^112
+            FloatVector magnitude = bits.and(0x7FFF).lanewise(VectorOperators.LSHL, 13)
+                .reinterpretAsFloats()
+                .mul(0x1p112f);
+            FloatVector weights = magnitude.reinterpretAsInts()
+                .or(bits.and(0x8000).lanewise(VectorOperators.LSHL, 16))
+                .reinterpretAsFloats();
+
+            acc = FloatVector.fromArray(SPECIES, x, xOffset + i).fma(weights, acc);
+        }
+
+        float dot = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            dot += x[xOffset + i] * HalfFloats.fromFp16(w[wOffset + i]);
+        }
+        return dot;
+    }
+
+    static float dotBf16(float[] x, int xOffset, char[] w, int wOffset, int length) {
+        FloatVector acc = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (; i + HALF_LANES <= length; i += LANES) {
+            FloatVector weights = ((IntVector)ShortVector.fromCharArray(HALF_SPECIES, w, wOffset + i)
+                .convertShape(VectorOperators.S2I, HALF_INT_SPECIES, 0))
+                .lanewise(VectorOperators.LSHL, 16)
+                .reinterpretAsFloats();
+
+            acc = FloatVector.fromArray(SPECIES, x, xOffset + i).fma(weights, acc);
+        }
+
+        float dot = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            dot += x[xOffset + i] * HalfFloats.fromBf16(w[wOffset + i]);
+        }
+        return dot;
+    }
+
+}
@@ -0,0 +1,32 @@
+package mg.rivolink.serve;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Virtual thread support for InferenceExecutor
+// Java 21 release: tasks run on virtual threads multiplexed over the
+// default scheduler's carrier threads
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    // One new virtual thread per submitted task
+    static ExecutorService newPerTaskExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    // Threads the virtual thread scheduler runs on, same default as the JDK
+    static int carrierCount() {
+        String parallelism = System.getProperty("jdk.virtualThreadScheduler.parallelism");
+        if (parallelism != null) {
+            try {
+                return Math.max(1, Integer.parseInt(parallelism));
+            } catch (NumberFormatException e) {
+                // Invalid values are rejected by the scheduler itself
+            }
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+}
@@ -0,0 +1,88 @@
+package mg.rivolink.ai;
+
+import mg.rivolink.ai.Neuron.Activation;
+
+// Activation engine shared by the single-sample and batched forward passes.
+// EXACT defers to Neuron (double precision Math.exp / Math.tanh), FAST uses
+// a range-reduced polynomial exp in float:
+//   fastExp      relative error < 5e-6 (< 1e-6 for |x| < 10)
+//   fastSigmoid  absolute error < 2e-7
+//   fastTanh     absolute error < 2e-7
+final class Activations {
+
+    private static final float LOG2E = 1.44269504f;
+    private static final float LN2 = 0.69314718f;
+
+    private static final float ROUND_SHIFT = 12582912f; // 1.5 * 2^23
+    private static final int ROUND_SHIFT_BITS = Float.floatToRawIntBits(ROUND_SHIFT);
+
+    // Keeps 2^n in the normal float range
+    private static final float EXP_MIN = -87.0f;
+    private static final float EXP_MAX = 88.0f;
+
+    private Activations() {
+    }
+
+    static float apply(float z, Activation activation, boolean fast) {
+        if (!fast) {
+            return Neuron.applyActivation(z, activation);
+        }
+
+        switch (activation) {
+            case SIGMOID:
+                return fastSigmoid(z);
+            case TANH:
+                return fastTanh(z);
+            default:
+                return Neuron.applyActivation(z, activation);
+        }
+    }
+
+    // Derivative from the activation output y, no re-evaluation of the activation
+    static float derivative(float y, Activation activation) {
+        switch (activation) {
+            case SIGMOID:
+                return y * (1 - y);
+            case TANH:
+                return 1 - y * y;
+            case RELU:
+                return y > 0 ? 1 : 0;
+            case LEAKY_RELU:
+                return y > 0 ? 1 : 0.01f;
+            case LINEAR:
+            case SOFTMAX:
+            default:
+                return 1; // Softmax handled with cross-entropy at network level
+        }
+    }
+
+    static float exp(float x, boolean fast) {
+        return fast ? fastExp(x) : (float)Math.exp(x);
+    }
+
+    // exp(x) = 2^n * 2^f with n = round(x * log2(e)), |f| <= 0.5,
+    // 2^f from a degree-6 Taylor polynomial in f * ln(2)
+    static float fastExp(float x) {
+        x = Math.max(EXP_MIN, Math.min(EXP_MAX, x));
+
+        // Adding 1.5 * 2^23 rounds t to an integer held in the low mantissa bits
+        float shifted = x * LOG2E + ROUND_SHIFT;
+        int n = Float.floatToRawIntBits(shifted) - ROUND_SHIFT_BITS;
+        float r = x - (shifted - ROUND_SHIFT) * LN2;
+
+        float p = 1 + r * (1 + r * (1 / 2f + r * (1 / 6f + r * (1 / 24f + r * (1 / 120f + r * (1 / 720f))))));
+        return p * Float.intBitsToFloat((n + 127) << 23);
+    }
+
+    static float fastSigmoid(float z) {
+        return 1 / (1 + fastExp(-z));
+    }
+
+    static float fastTanh(float z) {
+        // tanh saturates to +-1 in float beyond |z| = 9
+        z = Math.max(-9f, Math.min(9f, z));
+        float e = fastExp(2 * z);
+        return (e - 1) / (e + 1);
+    }
+
+}
@@ -0,0 +1,332 @@
+package mg.rivolink.ai;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Reads, shuffles and normalizes samples on a background thread, one batch ahead
+// of training. Batches cycle through a bounded ring: the loader fills free
+// buffers, the trainer takes full ones and releases them back, so reading the
+// next batches overlaps with computing on the current one.
+public final class DataLoader implements AutoCloseable {
+
+    // Rows [0, count) of a batch, the arrays are reused once released
+    public static final class Batch {
+
+        public final float[][] inputs;
+        public final float[][] targets;
+        int count;
+
+        Batch(int rows, int inputSize, int outputSize) {
+            this.inputs = new float[rows][inputSize];
+            this.targets = new float[rows][outputSize];
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+
+    // Queued after the last batch of the last epoch
+    private static final Batch END = new Batch(0, 0, 0);
+
+    private final Dataset dataset;
+    private final int batchSize;
+    private final Permutation order;
+    private final float[] mean;
+    private final float[] scale;
+
+    private final Batch[] buffers;
+    private final BlockingQueue<Batch> free;
+    private final BlockingQueue<Batch> full;
+
+    private Thread thread;
+    private volatile Throwable failure;
+
+    // Trainer side: waiting for a batch vs working between take and release
+    private final AtomicLong stallNanos = new AtomicLong();
+    private final AtomicLong computeNanos = new AtomicLong();
+    private long takenAt;
+
+    // Loader side: filling batches vs waiting for a free buffer
+    private final AtomicLong loadNanos = new AtomicLong();
+    private final AtomicLong loaderWaitNanos = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+
+    private DataLoader(Builder builder) {
+        this.dataset = builder.dataset;
+        this.batchSize = builder.batchSize;
+        this.order = builder.shuffle
+            ? new Permutation(dataset.size(), builder.shuffleBlockSize, new Random(builder.seed))
+            : null;
+
+        int inputSize = dataset.getInputSize();
+        if (builder.mean != null) {
+            if (builder.mean.length != inputSize || builder.std.length != inputSize) {
+                throw new IllegalArgumentException("Normalization needs " + inputSize + " means and deviations");
+            }
+            this.mean = builder.mean.clone();
+            this.scale = new float[inputSize];
+            for (int i = 0; i < inputSize; i++) {
+                scale[i] = builder.std[i] > 0 ? 1f / builder.std[i] : 1f;
+            }
+        } else {
+            this.mean = null;
+            this.scale = null;
+        }
+
+        this.buffers = new Batch[builder.prefetch];
+        this.free = new ArrayBlockingQueue<Batch>(builder.prefetch);
+        this.full = new ArrayBlockingQueue<Batch>(builder.prefetch + 1);
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new Batch(batchSize, inputSize, dataset.getOutputSize());
+        }
+    }
+
+    public Dataset getDataset() {
+        return dataset;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    // Starts loading epochs passes, batches are then consumed with take and release
+    // Every buffer returns to the ring, batches from an earlier run must not be released
+    public synchronized void start(final int epochs) {
+        if (thread != null && thread.isAlive()) {
+            throw new IllegalStateException("Data loader is already running");
+        }
+        free.clear();
+        full.clear();
+        for (Batch batch : buffers) {
+            free.add(batch);
+        }
+        failure = null;
+        takenAt = 0;
+        thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                load(epochs);
+            }
+        }, "data-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Next batch in order, null once every epoch has been delivered
+    public Batch take() {
+        long start = System.nanoTime();
+        if (takenAt != 0) {
+            computeNanos.addAndGet(start - takenAt);
+        }
+
+        Batch batch;
+        try {
+            batch = full.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a batch", e);
+        }
+
+        long now = System.nanoTime();
+        stallNanos.addAndGet(now - start);
+        takenAt = now;
+
+        if (batch == END) {
+            takenAt = 0;
+            Throwable cause = failure;
+            if (cause != null) {
+                throw new IllegalStateException("Data loader failed", cause);
+            }
+            return null;
+        }
+        return batch;
+    }
+
+    // Hands a taken batch back to the loader for refilling
+    public void release(Batch batch) {
+        free.add(batch);
+    }
+
+    private void load(int epochs) {
+        try {
+            long size = dataset.size();
+            for (int epoch = 0; epoch < epochs; epoch++) {
+                if (order != null) {
+                    order.shuffle();
+                }
+
+                for (long start = 0; start < size; start += batchSize) {
+                    long waitStart = System.nanoTime();
+                    Batch batch = free.take();
+                    long fillStart = System.nanoTime();
+                    loaderWaitNanos.addAndGet(fillStart - waitStart);
+
+                    fill(batch, start, (int)Math.min(batchSize, size - start));
+                    loadNanos.addAndGet(System.nanoTime() - fillStart);
+                    batchCount.incrementAndGet();
+                    full.put(batch);
+                }
+            }
+        } catch (InterruptedException e) {
+            // Closed while loading
+            return;
+        } catch (Throwable t) {
+            failure = t;
+        }
+        full.add(END);
+    }
+
+    private void fill(Batch batch, long start, int count) {
+        for (int r = 0; r < count; r++) {
+            long index = order != null ? order.get(start + r) : start + r;
+            float[] x = batch.inputs[r];
+            dataset.read(index, x, batch.targets[r]);
+
+            if (mean != null) {
+                for (int i = 0; i < x.length; i++) {
+                    x[i] = (x[i] - mean[i]) * scale[i];
+                }
+            }
+        }
+        batch.count = count;
+    }
+
+    // Time the trainer waited for batches, high when loading is the bottleneck
+    public long getStallNanos() {
+        return stallNanos.get();
+    }
+
+    // Time the trainer spent between taking and asking for the next batch
+    public long getComputeNanos() {
+        return computeNanos.get();
+    }
+
+    public long getLoadNanos() {
+        return loadNanos.get();
+    }
+
+    // Time the loader waited for a free buffer, high when training is the bottleneck
+    public long getLoaderWaitNanos() {
+        return loaderWaitNanos.get();
+    }
+
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    // Share of the trainer's time spent waiting on the loader
+    public double getStallFraction() {
+        long stall = stallNanos.get();
+        long total = stall + computeNanos.get();
+        return total == 0 ? 0 : (double)stall / total;
+    }
+
+    public void resetStats() {
+        stallNanos.set(0);
+        computeNanos.set(0);
+        loadNanos.set(0);
+        loaderWaitNanos.set(0);
+        batchCount.set(0);
+    }
+
+    public String statsJson() {
+        return String.format(Locale.ROOT,
+            "{\"batches\": %d, \"stallMs\": %.3f, \"computeMs\": %.3f, "
+                + "\"loadMs\": %.3f, \"loaderWaitMs\": %.3f, \"stallFraction\": %.4f}",
+            batchCount.get(), stallNanos.get() / 1e6, computeNanos.get() / 1e6,
+            loadNanos.get() / 1e6, loaderWaitNanos.get() / 1e6, getStallFraction());
+    }
+
+    // Stops the loader thread, batches already taken stay valid and start may be
+    // called again. Network.train calls it when a training step throws.
+    public synchronized void stop() {
+        if (thread != null) {
+            thread.interrupt();
+            // Waits even if the caller is interrupted: a loader still filling a
+            // buffer must not race with the next start
+            boolean interrupted = false;
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+            // Wakes a trainer blocked in take
+            full.offer(END);
+        }
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    public static class Builder {
+        private final Dataset dataset;
+        private int batchSize = 64;
+        private int prefetch = 2;
+        private boolean shuffle;
+        private long seed;
+        private int shuffleBlockSize = 1;
+        private float[] mean;
+        private float[] std;
+
+        public Builder(Dataset dataset) {
+            this.dataset = dataset;
+        }
+
+        public Builder batchSize(int size) {
+            this.batchSize = size;
+            return this;
+        }
+
+        // Buffers in the ring, 2 is double buffering
+        public Builder prefetch(int buffers) {
+            this.prefetch = buffers;
+            return this;
+        }
+
+        // New order every epoch, reproducible from the seed
+        public Builder shuffle(long seed) {
+            return shuffle(seed, 1);
+        }
+
+        // Shuffles blocks of blockSize consecutive rows, see Permutation
+        public Builder shuffle(long seed, int blockSize) {
+            this.shuffle = true;
+            this.seed = seed;
+            this.shuffleBlockSize = blockSize;
+            return this;
+        }
+
+        // Inputs become (x - mean) / std per feature, std <= 0 leaves a feature unscaled
+        public Builder normalize(float[] mean, float[] std) {
+            this.mean = mean;
+            this.std = std;
+            return this;
+        }
+
+        public DataLoader build() {
+            if (dataset == null) {
+                throw new IllegalArgumentException("Dataset is required");
+            }
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("Batch size must be at least 1: " + batchSize);
+            }
+            if (prefetch < 1) {
+                throw new IllegalArgumentException("Prefetch must be at least 1: " + prefetch);
+            }
+            return new DataLoader(this);
+        }
+    }
+
+}
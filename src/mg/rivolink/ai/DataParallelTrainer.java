@@ -0,0 +1,224 @@
+package mg.rivolink.ai;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Synchronous data-parallel training: every worker owns a replica of the network
+// and computes gradients on its shard of each mini-batch. Shard gradients are
+// summed by a tree all-reduce over flat buffers, then every replica applies the
+// same averaged update. Shards and reduction order depend only on the thread
+// count, so runs are bit-reproducible for a fixed seed, thread count and
+// starting weights. The workers are a private pool, released by close.
+public class DataParallelTrainer implements AutoCloseable {
+
+    private final Network network;
+    private final int threads;
+    private final int batchSize;
+    private final Random random;
+    private final ForkJoinPool pool;
+
+    private final Network[] replicas;
+    private final Workspace[] workspaces;
+    private final Gradients[] gradients;
+
+    private float[] epochSamplesPerSecond = new float[0];
+
+    private float[][] xtrains;
+    private float[][] ytrainsFloat;
+    private int[][] ytrainsInt;
+    private Permutation order;
+
+    public DataParallelTrainer(Network network, int threads, int batchSize, long seed) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+
+        this.network = network;
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.random = new Random(seed);
+        this.pool = new ForkJoinPool(threads);
+
+        this.replicas = new Network[threads];
+        this.workspaces = new Workspace[threads];
+        this.gradients = new Gradients[threads];
+        for (int w = 0; w < threads; w++) {
+            replicas[w] = network.copy();
+            workspaces[w] = replicas[w].newWorkspace();
+            gradients[w] = new Gradients(replicas[w].getLayers());
+        }
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    // Shuts down the worker pool, the trainer cannot train afterwards
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    // Throughput of each epoch of the last train call
+    public float[] getEpochSamplesPerSecond() {
+        return epochSamplesPerSecond.clone();
+    }
+
+    // Regression
+    public void train(float[][] xtrains, float[][] ytrains, int epochs) {
+        this.ytrainsFloat = ytrains;
+        this.ytrainsInt = null;
+        run(xtrains, Math.min(xtrains.length, ytrains.length), epochs);
+    }
+
+    // Classification
+    public void train(float[][] xtrains, int[][] ytrains, int epochs) {
+        this.ytrainsFloat = null;
+        this.ytrainsInt = ytrains;
+        run(xtrains, Math.min(xtrains.length, ytrains.length), epochs);
+    }
+
+    private void run(float[][] xtrains, int size, int epochs) {
+        this.xtrains = xtrains;
+        if (order == null || order.size() != size) {
+            order = new Permutation(size, 1, random);
+        }
+
+        // Replicas start from the current master weights, hyperparameters and optimizer state
+        for (Network replica : replicas) {
+            replica.copyWeightsFrom(network);
+            replica.setOptimizer(network.getOptimizer());
+        }
+
+        float[] throughput = new float[epochs];
+        try {
+            for (int epoch = 0; epoch < epochs; epoch++) {
+                long startTime = System.nanoTime();
+
+                order.shuffle();
+                for (int start = 0; start < size; start += batchSize) {
+                    int count = Math.min(batchSize, size - start);
+                    int shards = Math.min(threads, count);
+                    pool.invoke(new ReduceTask(start, count, 0, shards, shards));
+                    pool.invoke(new ApplyTask(0, threads, 1f / count));
+                }
+
+                throughput[epoch] = (float)(size * 1e9 / Math.max(1, System.nanoTime() - startTime));
+            }
+            this.epochSamplesPerSecond = throughput;
+        } finally {
+            this.xtrains = null;
+            this.ytrainsFloat = null;
+            this.ytrainsInt = null;
+
+            // A failing shard leaves replicas[0] at the last completed batch, so the
+            // master keeps the progress so far, optimizer moments and step included
+            network.copyWeightsFrom(replicas[0]);
+            network.setOptimizer(replicas[0].getOptimizer());
+        }
+    }
+
+    // Shards [lo, hi) of the batch, partial sums reduced pairwise into gradients[lo]
+    private final class ReduceTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int start;
+        private final int count;
+        private final int lo;
+        private final int hi;
+        private final int shards;
+
+        ReduceTask(int start, int count, int lo, int hi, int shards) {
+            this.start = start;
+            this.count = count;
+            this.lo = lo;
+            this.hi = hi;
+            this.shards = shards;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                computeShard();
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            ReduceTask left = new ReduceTask(start, count, lo, mid, shards);
+            ReduceTask right = new ReduceTask(start, count, mid, hi, shards);
+            right.fork();
+            left.compute();
+            right.join();
+
+            gradients[lo].add(gradients[mid]);
+        }
+
+        private void computeShard() {
+            Network replica = replicas[lo];
+            Workspace workspace = workspaces[lo];
+            Gradients sum = gradients[lo];
+            sum.zero();
+
+            int from = start + (int)((long)count * lo / shards);
+            int to = start + (int)((long)count * (lo + 1) / shards);
+            for (int i = from; i < to; i++) {
+                int sample = (int)order.get(i);
+
+                float[] target;
+                if (ytrainsFloat != null) {
+                    target = ytrainsFloat[sample];
+                } else {
+                    target = workspace.target;
+                    int[] y = ytrainsInt[sample];
+                    for (int k = 0; k < y.length; k++) {
+                        target[k] = y[k];
+                    }
+                }
+
+                replica.predict(xtrains[sample], workspace);
+                replica.backpropagation(target, workspace);
+                replica.accumulateGradients(xtrains[sample], workspace, sum);
+            }
+        }
+    }
+
+    // Broadcast: every replica in [lo, hi) applies the reduced gradients
+    private final class ApplyTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int lo;
+        private final int hi;
+        private final float scale;
+
+        ApplyTask(int lo, int hi, float scale) {
+            this.lo = lo;
+            this.hi = hi;
+            this.scale = scale;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                replicas[lo].applyGradients(gradients[0], scale);
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            ApplyTask right = new ApplyTask(mid, hi, scale);
+            right.fork();
+            new ApplyTask(lo, mid, scale).compute();
+            right.join();
+        }
+    }
+
+}
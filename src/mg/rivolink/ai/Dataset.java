@@ -0,0 +1,16 @@
+package mg.rivolink.ai;
+
+// Training samples read one row at a time, for data that is not held as float[][]
+// read may be called from several threads at once, as mini-batch training does
+public interface Dataset {
+
+    long size();
+
+    int getInputSize();
+
+    int getOutputSize();
+
+    // Copies row index into inputs[0, getInputSize()) and targets[0, getOutputSize())
+    void read(long index, float[] inputs, float[] targets);
+
+}
@@ -0,0 +1,138 @@
+package mg.rivolink.ai;
+
+import mg.rivolink.ai.Neuron.Activation;
+
+// Cache-blocked matrix multiply used by batched inference
+// C[n x m] = activation(A[n x k] . B[m x k]^T + bias), all row-major
+final class Gemm {
+
+    // Depth of a k-panel, 256 floats of A and B rows stay in L1
+    static final int BLOCK_K = 256;
+
+    // Width of a B panel (neurons) kept hot in L2 while samples stream through
+    static final int BLOCK_M = 64;
+
+    private Gemm() {
+    }
+
+    static void multiply(float[] a, int aOffset, float[] b, float[] bias, float[] c, int cOffset,
+                         int n, int m, int k, Activation activation, boolean fast, float[] dots) {
+        for (int k0 = 0; k0 < k; k0 += BLOCK_K) {
+            int k1 = Math.min(k, k0 + BLOCK_K);
+            boolean first = k0 == 0;
+            boolean last = k1 == k;
+
+            for (int j0 = 0; j0 < m; j0 += BLOCK_M) {
+                int j1 = Math.min(m, j0 + BLOCK_M);
+
+                if (Kernels.isVectorized()) {
+                    // SIMD dot products: one sample against four neuron rows at a time
+                    for (int i = 0; i < n; i++) {
+                        kernel1x4(a, aOffset, b, bias, c, cOffset, i, j0, j1, m, k, k0, k1,
+                            first, last, activation, fast, dots);
+                    }
+                    continue;
+                }
+
+                int i = 0;
+                for (; i + 4 <= n; i += 4) {
+                    int j = j0;
+                    for (; j + 4 <= j1; j += 4) {
+                        kernel4x4(a, aOffset, b, bias, c, cOffset, i, j, m, k, k0, k1, first, last, activation, fast);
+                    }
+                    for (; j < j1; j++) {
+                        for (int r = i; r < i + 4; r++) {
+                            kernel1x1(a, aOffset, b, bias, c, cOffset, r, j, m, k, k0, k1, first, last, activation, fast);
+                        }
+                    }
+                }
+                for (; i < n; i++) {
+                    for (int j = j0; j < j1; j++) {
+                        kernel1x1(a, aOffset, b, bias, c, cOffset, i, j, m, k, k0, k1, first, last, activation, fast);
+                    }
+                }
+            }
+        }
+
+        if (k == 0) {
+            // Degenerate layer without inputs: bias only
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < m; j++) {
+                    c[cOffset + i * m + j] = Activations.apply(bias[j], activation, fast);
+                }
+            }
+        }
+    }
+
+    // 4 samples x 4 neurons register tile over one k-panel
+    private static void kernel4x4(float[] a, int aOffset, float[] b, float[] bias, float[] c, int cOffset,
+                                  int i, int j, int m, int k, int k0, int k1,
+                                  boolean first, boolean last, Activation activation, boolean fast) {
+        int a0 = aOffset + i * k, a1 = a0 + k, a2 = a1 + k, a3 = a2 + k;
+        int b0 = j * k, b1 = b0 + k, b2 = b1 + k, b3 = b2 + k;
+
+        float c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+        float c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+        float c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+        float c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+
+        for (int p = k0; p < k1; p++) {
+            float x0 = a[a0 + p], x1 = a[a1 + p], x2 = a[a2 + p], x3 = a[a3 + p];
+            float w0 = b[b0 + p], w1 = b[b1 + p], w2 = b[b2 + p], w3 = b[b3 + p];
+
+            c00 += x0 * w0; c01 += x0 * w1; c02 += x0 * w2; c03 += x0 * w3;
+            c10 += x1 * w0; c11 += x1 * w1; c12 += x1 * w2; c13 += x1 * w3;
+            c20 += x2 * w0; c21 += x2 * w1; c22 += x2 * w2; c23 += x2 * w3;
+            c30 += x3 * w0; c31 += x3 * w1; c32 += x3 * w2; c33 += x3 * w3;
+        }
+
+        int r0 = cOffset + i * m + j, r1 = r0 + m, r2 = r1 + m, r3 = r2 + m;
+        store(c, r0, j, c00, c01, c02, c03, bias, first, last, activation, fast);
+        store(c, r1, j, c10, c11, c12, c13, bias, first, last, activation, fast);
+        store(c, r2, j, c20, c21, c22, c23, bias, first, last, activation, fast);
+        store(c, r3, j, c30, c31, c32, c33, bias, first, last, activation, fast);
+    }
+
+    private static void kernel1x4(float[] a, int aOffset, float[] b, float[] bias, float[] c, int cOffset,
+                                  int i, int j0, int j1, int m, int k, int k0, int k1,
+                                  boolean first, boolean last, Activation activation, boolean fast, float[] dots) {
+        int ai = aOffset + i * k + k0;
+        int row = cOffset + i * m;
+
+        int j = j0;
+        for (; j + 4 <= j1; j += 4) {
+            Kernels.dot4(a, ai, b, j * k + k0, k, k1 - k0, dots);
+            store(c, row + j, j, dots[0], dots[1], dots[2], dots[3], bias, first, last, activation, fast);
+        }
+        for (; j < j1; j++) {
+            kernel1x1(a, aOffset, b, bias, c, cOffset, i, j, m, k, k0, k1, first, last, activation, fast);
+        }
+    }
+
+    private static void store(float[] c, int offset, int j,
+                              float v0, float v1, float v2, float v3, float[] bias,
+                              boolean first, boolean last, Activation activation, boolean fast) {
+        accumulate(c, offset, v0, bias[j], first, last, activation, fast);
+        accumulate(c, offset + 1, v1, bias[j + 1], first, last, activation, fast);
+        accumulate(c, offset + 2, v2, bias[j + 2], first, last, activation, fast);
+        accumulate(c, offset + 3, v3, bias[j + 3], first, last, activation, fast);
+    }
+
+    private static void kernel1x1(float[] a, int aOffset, float[] b, float[] bias, float[] c, int cOffset,
+                                  int i, int j, int m, int k, int k0, int k1,
+                                  boolean first, boolean last, Activation activation, boolean fast) {
+        int ai = aOffset + i * k;
+        int bj = j * k;
+
+        float sum = Kernels.dot(a, ai + k0, b, bj + k0, k1 - k0);
+        accumulate(c, cOffset + i * m + j, sum, bias[j], first, last, activation, fast);
+    }
+
+    // First panel seeds the bias, last panel applies the activation in place
+    private static void accumulate(float[] c, int index, float partial, float bias,
+                                   boolean first, boolean last, Activation activation, boolean fast) {
+        float z = first ? partial + bias : c[index] + partial;
+        c[index] = last ? Activations.apply(z, activation, fast) : z;
+    }
+
+}
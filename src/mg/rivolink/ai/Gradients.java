@@ -0,0 +1,40 @@
+package mg.rivolink.ai;
+
+import java.util.Arrays;
+
+// Flat gradient buffer aligned with a network's layers
+// Layout per layer, in forward order: weights (row-major, as Layer.weights) then biases
+final class Gradients {
+
+    final float[] values;
+    final int[] weightOffsets;
+    final int[] biasOffsets;
+
+    Gradients(Layer[] layers) {
+        this.weightOffsets = new int[layers.length];
+        this.biasOffsets = new int[layers.length];
+
+        int size = 0;
+        for (int l = 0; l < layers.length; l++) {
+            weightOffsets[l] = size;
+            size += layers[l].weights.length;
+            biasOffsets[l] = size;
+            size += layers[l].biases.length;
+        }
+        this.values = new float[size];
+    }
+
+    int size() {
+        return values.length;
+    }
+
+    void zero() {
+        Arrays.fill(values, 0f);
+    }
+
+    // this += other
+    void add(Gradients other) {
+        Kernels.axpy(1f, other.values, 0, values, 0, values.length);
+    }
+
+}
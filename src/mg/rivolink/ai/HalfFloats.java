@@ -0,0 +1,54 @@
+package mg.rivolink.ai;
+
+// 16-bit float encodings, bit patterns held in a char
+// FP16 (IEEE binary16): 5-bit exponent, 10-bit mantissa, finite range +-65504
+// BF16 (bfloat16): float's 8-bit exponent, 7-bit mantissa, same range as float
+final class HalfFloats {
+
+    // Smallest float that rounds past the largest finite FP16 (65504)
+    private static final int FP16_OVERFLOW = 0x477FF000;
+    // 2^-14, smallest normal FP16
+    private static final int FP16_MIN_NORMAL = 0x38800000;
+
+    private HalfFloats() {
+    }
+
+    // Round to nearest even; out of range values saturate to +-65504, NaN stays NaN
+    static char toFp16(float value) {
+        int bits = Float.floatToRawIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int abs = bits & 0x7FFFFFFF;
+
+        if (abs >= FP16_OVERFLOW) {
+            return (char)(sign | (abs > 0x7F800000 ? 0x7E00 : 0x7BFF));
+        }
+        if (abs < FP16_MIN_NORMAL) {
+            // Subnormal: units of 2^-24
+            return (char)(sign | (int)Math.rint(Float.intBitsToFloat(abs) * 0x1p24f));
+        }
+
+        // Rebias the exponent (127 -> 15) and round the mantissa to 10 bits
+        int rounded = abs + 0xFFF + ((abs >>> 13) & 1);
+        return (char)(sign | ((rounded - 0x38000000) >>> 13));
+    }
+
+    // Exact for every finite FP16 value, subnormals included
+    static float fromFp16(char half) {
+        float magnitude = Float.intBitsToFloat((half & 0x7FFF) << 13) * 0x1p112f;
+        return Float.intBitsToFloat(Float.floatToRawIntBits(magnitude) | (half & 0x8000) << 16);
+    }
+
+    // Round to nearest even on the upper 16 bits of the float
+    static char toBf16(float value) {
+        int bits = Float.floatToRawIntBits(value);
+        if ((bits & 0x7FFFFFFF) > 0x7F800000) {
+            return (char)((bits >>> 16) | 0x0040); // Keep NaN quiet
+        }
+        return (char)((bits + 0x7FFF + ((bits >>> 16) & 1)) >>> 16);
+    }
+
+    static float fromBf16(char half) {
+        return Float.intBitsToFloat(half << 16);
+    }
+
+}
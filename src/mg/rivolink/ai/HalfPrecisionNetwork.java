@@ -0,0 +1,159 @@
+package mg.rivolink.ai;
+
+import java.io.Serializable;
+
+import mg.rivolink.ai.Neuron.Activation;
+
+// Inference-only replica of a Network with 16-bit weights
+// Weights are stored as FP16 or BF16 bit patterns and expanded to float inside
+// the dot product kernel; biases and all arithmetic stay float. The source
+// network keeps the float master weights for training, copyWeightsFrom
+// re-encodes them into this replica.
+public class HalfPrecisionNetwork implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Format {
+        // IEEE half: 10-bit mantissa, |w| <= 65504
+        FP16,
+        // bfloat16: 7-bit mantissa, full float range
+        BF16
+    }
+
+    public final int inputSize;
+    public final int outputSize;
+
+    private final Format format;
+    private final HalfLayer[] layers;
+
+    // Per-thread activations
+    private final Replicas.Scratch scratch;
+
+    private HalfPrecisionNetwork(HalfLayer[] layers, Format format) {
+        this.layers = layers;
+        this.format = format;
+        this.inputSize = layers[0].inputSize;
+        this.outputSize = layers[layers.length - 1].neuronCount;
+
+        int[] sizes = new int[layers.length];
+        for (int l = 0; l < layers.length; l++) {
+            sizes[l] = layers[l].neuronCount;
+        }
+        this.scratch = new Replicas.Scratch(sizes, 0);
+    }
+
+    public static HalfPrecisionNetwork convert(Network network, Format format) {
+        Layer[] source = network.getLayers();
+        HalfLayer[] layers = new HalfLayer[source.length];
+        for (int l = 0; l < source.length; l++) {
+            layers[l] = new HalfLayer(source[l]);
+        }
+
+        HalfPrecisionNetwork half = new HalfPrecisionNetwork(layers, format);
+        half.copyWeightsFrom(network);
+        return half;
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    // Re-encodes the float master weights, e.g. after a training step
+    public void copyWeightsFrom(Network master) {
+        Layer[] source = master.getLayers();
+        if (source.length != layers.length) {
+            throw new IllegalArgumentException("Network sizes don't match");
+        }
+
+        for (int l = 0; l < layers.length; l++) {
+            layers[l].encode(source[l], format);
+        }
+    }
+
+    public float[] predict(float[] inputs) {
+        float[] outputs = new float[outputSize];
+        predictInto(inputs, outputs);
+        return outputs;
+    }
+
+    public void predictInto(float[] inputs, float[] outputs) {
+        Replicas.checkSizes(inputs, inputSize, outputs, outputSize);
+
+        float[][] buffers = scratch.get().activations;
+
+        float[] current = inputs;
+        for (int l = 0; l < layers.length; l++) {
+            float[] next = l == layers.length - 1 ? outputs : buffers[l];
+            layers[l].forward(current, next, format);
+            current = next;
+        }
+    }
+
+    // Bytes held by weights and biases
+    public long getWeightBytes() {
+        long bytes = 0;
+        for (HalfLayer layer : layers) {
+            bytes += 2L * layer.weights.length + 4L * layer.biases.length;
+        }
+        return bytes;
+    }
+
+    private static final class HalfLayer implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        final int inputSize;
+        final int neuronCount;
+
+        // Row-major like Layer.weights, one 16-bit pattern per weight
+        final char[] weights;
+        final float[] biases;
+
+        final Activation activation;
+        boolean fast;
+
+        HalfLayer(Layer layer) {
+            this.inputSize = layer.inputSize;
+            this.neuronCount = layer.neuronCount;
+            this.weights = new char[layer.weights.length];
+            this.biases = new float[neuronCount];
+            this.activation = layer.getActivation();
+        }
+
+        void encode(Layer layer, Format format) {
+            if (layer.inputSize != inputSize || layer.neuronCount != neuronCount) {
+                throw new IllegalArgumentException("Layer sizes don't match");
+            }
+
+            float[] source = layer.weights;
+            if (format == Format.FP16) {
+                for (int i = 0; i < source.length; i++) {
+                    weights[i] = HalfFloats.toFp16(source[i]);
+                }
+            } else {
+                for (int i = 0; i < source.length; i++) {
+                    weights[i] = HalfFloats.toBf16(source[i]);
+                }
+            }
+
+            System.arraycopy(layer.biases, 0, biases, 0, neuronCount);
+            this.fast = layer.getPrecision() == Network.Precision.FAST;
+        }
+
+        void forward(float[] inputs, float[] outputs, Format format) {
+            boolean fp16 = format == Format.FP16;
+            for (int i = 0; i < neuronCount; i++) {
+                int offset = i * inputSize;
+                float dot = fp16
+                    ? Kernels.dotFp16(inputs, 0, weights, offset, inputSize)
+                    : Kernels.dotBf16(inputs, 0, weights, offset, inputSize);
+                outputs[i] = Activations.apply(dot + biases[i], activation, fast);
+            }
+
+            if (activation == Activation.SOFTMAX) {
+                Layer.applySoftmax(outputs, 0, neuronCount, fast);
+            }
+        }
+    }
+
+}
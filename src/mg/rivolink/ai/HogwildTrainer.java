@@ -0,0 +1,142 @@
+package mg.rivolink.ai;
+
+import java.util.concurrent.Phaser;
+
+// Lock-free asynchronous SGD (Hogwild): workers train disjoint slices of the
+// dataset against the shared weights of one network without synchronization.
+// Concurrent updates may overwrite each other; this is accepted by design.
+public class HogwildTrainer {
+
+    private final Network network;
+    private final int threads;
+
+    // Per-worker activations, deltas and target scratch
+    private final Workspace[] workspaces;
+
+    private float[] epochSamplesPerSecond = new float[0];
+
+    public HogwildTrainer(Network network, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+
+        this.network = network;
+        this.threads = threads;
+        this.workspaces = new Workspace[threads];
+        for (int i = 0; i < threads; i++) {
+            workspaces[i] = network.newWorkspace();
+        }
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    // Throughput of each epoch of the last train call
+    public float[] getEpochSamplesPerSecond() {
+        return epochSamplesPerSecond.clone();
+    }
+
+    // Regression
+    public void train(float[][] xtrains, float[][] ytrains, int epochs) {
+        run(xtrains, ytrains, null, Math.min(xtrains.length, ytrains.length), epochs);
+    }
+
+    // Classification
+    public void train(float[][] xtrains, int[][] ytrains, int epochs) {
+        run(xtrains, null, ytrains, Math.min(xtrains.length, ytrains.length), epochs);
+    }
+
+    private void run(final float[][] xtrains, final float[][] ytrainsFloat, final int[][] ytrainsInt,
+                     final int size, final int epochs) {
+        final int workers = Math.max(1, Math.min(threads, size));
+
+        // Size optimizer state before the workers race on it
+        network.optimizer();
+        final float[] throughput = new float[epochs];
+        final long[] epochStart = { System.nanoTime() };
+
+        // Every worker arrives once per epoch; the last arrival records the epoch time
+        final Phaser phaser = new Phaser(workers) {
+            @Override
+            protected boolean onAdvance(int phase, int registeredParties) {
+                if (phase < epochs && registeredParties > 0) {
+                    // One version bump per epoch, not one per sample on a shared counter
+                    network.markWeightsChanged();
+                    long now = System.nanoTime();
+                    throughput[phase] = (float)(size * 1e9 / Math.max(1, now - epochStart[0]));
+                    epochStart[0] = now;
+                }
+                return registeredParties == 0;
+            }
+        };
+
+        final Throwable[] failure = new Throwable[1];
+        Thread[] pool = new Thread[workers];
+        for (int w = 0; w < workers; w++) {
+            final Workspace workspace = workspaces[w];
+            final int from = (int)((long)size * w / workers);
+            final int to = (int)((long)size * (w + 1) / workers);
+
+            pool[w] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        for (int epoch = 0; epoch < epochs; epoch++) {
+                            for (int i = from; i < to; i++) {
+                                trainSample(xtrains[i], ytrainsFloat, ytrainsInt, i, workspace);
+                            }
+                            phaser.arriveAndAwaitAdvance();
+                        }
+                    } catch (Throwable t) {
+                        synchronized (failure) {
+                            if (failure[0] == null) {
+                                failure[0] = t;
+                            }
+                        }
+                    } finally {
+                        phaser.arriveAndDeregister();
+                    }
+                }
+            }, "hogwild-" + w);
+            pool[w].setDaemon(true);
+            pool[w].start();
+        }
+
+        try {
+            for (Thread thread : pool) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while training", e);
+        } finally {
+            // Covers epochs cut short by a failing worker
+            network.markWeightsChanged();
+        }
+
+        if (failure[0] != null) {
+            throw new IllegalStateException("Hogwild worker failed", failure[0]);
+        }
+        this.epochSamplesPerSecond = throughput;
+    }
+
+    private void trainSample(float[] inputs, float[][] ytrainsFloat, int[][] ytrainsInt,
+                             int index, Workspace workspace) {
+        float[] target;
+        if (ytrainsFloat != null) {
+            target = ytrainsFloat[index];
+        } else {
+            target = workspace.target;
+            int[] y = ytrainsInt[index];
+            for (int k = 0; k < y.length; k++) {
+                target[k] = y[k];
+            }
+        }
+
+        network.predict(inputs, workspace);
+        network.backpropagation(target, workspace);
+        network.updateWeights(inputs, workspace);
+    }
+
+}
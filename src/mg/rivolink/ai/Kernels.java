@@ -0,0 +1,67 @@
+package mg.rivolink.ai;
+
+// Hot loops shared by Layer, Neuron and Gemm
+// Java 8 baseline: scalar only, the Java 21 release of this class
+// (src-java21, packaged under META-INF/versions/21) adds the SIMD path
+final class Kernels {
+
+    private static final boolean VECTORIZED = false;
+
+    private Kernels() {
+    }
+
+    // VECTORIZED is private, so callers only see this method and javac cannot inline
+    // the base release's constant into them; the class loaded at run time answers
+    static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    // sum_i x[i] * w[i]
+    static float dot(float[] x, int xOffset, float[] w, int wOffset, int length) {
+        return ScalarKernels.dot(x, xOffset, w, wOffset, length);
+    }
+
+    // Dot of x with four rows of w spaced wStride apart, x is loaded once
+    static void dot4(float[] x, int xOffset, float[] w, int wOffset, int wStride,
+                     int length, float[] out) {
+        ScalarKernels.dot4(x, xOffset, w, wOffset, wStride, length, out);
+    }
+
+    // y[i] += a * x[i]
+    static void axpy(float a, float[] x, int xOffset, float[] y, int yOffset, int length) {
+        ScalarKernels.axpy(a, x, xOffset, y, yOffset, length);
+    }
+
+    // Clipped SGD step: w[i] -= lr * clamp(delta * x[i], -maxGrad, maxGrad)
+    static void sgd(float[] w, int wOffset, float[] x, int xOffset,
+                    float delta, float lr, float maxGrad, int length) {
+        ScalarKernels.sgd(w, wOffset, x, xOffset, delta, lr, maxGrad, length);
+    }
+
+    // Per-element deltas: w[i] -= lr * clamp(g[i] * x[i], -maxGrad, maxGrad)
+    static void sgd(float[] w, int wOffset, float[] g, int gOffset, float[] x, int xOffset,
+                    float lr, float maxGrad, int length) {
+        ScalarKernels.sgd(w, wOffset, g, gOffset, x, xOffset, lr, maxGrad, length);
+    }
+
+    // Soft update: dst[i] = tau * src[i] + (1 - tau) * dst[i]
+    static void lerp(float[] dst, int dstOffset, float[] src, int srcOffset, float tau, int length) {
+        ScalarKernels.lerp(dst, dstOffset, src, srcOffset, tau, length);
+    }
+
+    // Int8 dot product with int32 accumulation
+    static int dot(byte[] x, int xOffset, byte[] w, int wOffset, int length) {
+        return ScalarKernels.dot(x, xOffset, w, wOffset, length);
+    }
+
+    // sum_i x[i] * w[i], w in FP16 expanded to float while loading
+    static float dotFp16(float[] x, int xOffset, char[] w, int wOffset, int length) {
+        return ScalarKernels.dotFp16(x, xOffset, w, wOffset, length);
+    }
+
+    // sum_i x[i] * w[i], w in BF16 expanded to float while loading
+    static float dotBf16(float[] x, int xOffset, char[] w, int wOffset, int length) {
+        return ScalarKernels.dotBf16(x, xOffset, w, wOffset, length);
+    }
+
+}
@@ -1,17 +1,38 @@
 package mg.rivolink.ai;
 
 import java.io.Serializable;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 import mg.rivolink.ai.Neuron.Activation;
 
 public class Layer implements Serializable {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
+
+    static final Random r = new Random();
+
+    // Work per forward task (multiply-adds), and softmax elements per task
+    private static final int TASK_WORK = 1 << 14;
+    private static final int SOFTMAX_TASK_SIZE = 1 << 12;
 
     public final int inputSize;
     public final int neuronCount;
 
+    // Row-major weight matrix: row i holds the weights of neuron i
+    // weights[i * inputSize + j] connects input j to neuron i
+    public final float[] weights;
+    public final float[] biases;
+
+    // Per-neuron views over the flat storage
     public final Neuron[] neurons;
     private final Activation activation;
+    private Network.Precision precision = Network.Precision.EXACT;
+
+    // Opt-in intra-layer parallelism, not serialized
+    private transient ForkJoinPool forwardPool;
+    private transient long parallelMinWork;
 
     private float[] layerInputs;
     private float[] cachedOutputs;
@@ -22,25 +43,60 @@ public class Layer implements Serializable {
     }
 
     public Layer(int inputSize, int neuronCount, Activation activation) {
+        this(inputSize, neuronCount, activation, r);
+    }
+
+    // Initial weights drawn from random; with a null random they start at zero,
+    // for loaders that fill them
+    Layer(int inputSize, int neuronCount, Activation activation, Random random) {
         this.inputSize = inputSize;
         this.neuronCount = neuronCount;
         this.activation = activation;
 
+        this.weights = new float[neuronCount * inputSize];
+        this.biases = new float[neuronCount];
+
         this.neurons = new Neuron[neuronCount];
         this.cachedOutputs = new float[neuronCount];
         this.cachedZValues = new float[neuronCount];
 
         for (int i = 0; i < neuronCount; i++) {
-            neurons[i] = new Neuron(inputSize);
-            
-            if (activation == Activation.SIGMOID || 
-                activation == Activation.TANH || 
+            neurons[i] = new Neuron(this, i);
+
+            if (random == null) {
+                continue;
+            }
+            if (activation == Activation.SIGMOID ||
+                activation == Activation.TANH ||
                 activation == Activation.SOFTMAX) {
-                neurons[i].initializeXavier();
+                initializeXavier(i, random);
+            } else {
+                initializeHe(i, random);
             }
         }
     }
 
+    // He initialization, better for ReLU
+    // value: [-1, 1] * sqrt(2/inputSize)
+    void initializeHe(int neuron, Random random) {
+        initializeRow(neuron, (float)Math.sqrt(2.0 / inputSize), random);
+    }
+
+    // Xavier initialization, better for sigmoid/tanh/softmax
+    // value: [-1, 1] * sqrt(1/inputSize)
+    void initializeXavier(int neuron, Random random) {
+        initializeRow(neuron, (float)Math.sqrt(1.0 / inputSize), random);
+    }
+
+    private void initializeRow(int neuron, float scale, Random random) {
+        biases[neuron] = (random.nextFloat() * 2 - 1) * scale;
+
+        int offset = neuron * inputSize;
+        for (int j = 0; j < inputSize; j++) {
+            weights[offset + j] = (random.nextFloat() * 2 - 1) * scale;
+        }
+    }
+
     public void setInputs(float[] inputs) {
         if (inputs.length != inputSize) {
             throw new IllegalArgumentException(
@@ -51,33 +107,279 @@ public class Layer implements Serializable {
     }
 
     public float[] forward() {
+        forward(layerInputs, cachedZValues, cachedOutputs);
+        return cachedOutputs;
+    }
+
+    // z = W.x + b, outputs = activation(z)
+    public void forward(float[] inputs, float[] zValues, float[] outputs) {
+        boolean fast = isFast();
+
+        ForkJoinPool pool = forwardPool;
+        if (pool != null && pool.getParallelism() > 1 && (long)neuronCount * inputSize >= parallelMinWork) {
+            ForwardTask task = new ForwardTask(inputs, zValues, outputs, 0, neuronCount, fast);
+            pool.invoke(task);
+            if (activation == Activation.SOFTMAX) {
+                parallelSoftmax(pool, outputs, task.max, fast);
+            }
+            return;
+        }
         for (int i = 0; i < neuronCount; i++) {
-            cachedOutputs[i] = neurons[i].computeOutput(layerInputs, activation);
-            cachedZValues[i] = neurons[i].getLastZ();
+            float z = dot(i, inputs) + biases[i];
+            zValues[i] = z;
+            outputs[i] = Activations.apply(z, activation, fast);
         }
 
         if (activation == Activation.SOFTMAX) {
-            applySoftmax(cachedOutputs);
+            applySoftmax(outputs, 0, neuronCount, fast);
         }
+    }
 
-        return cachedOutputs;
+    // Forward splits neuron ranges over pool once neuronCount * inputSize
+    // reaches minWork; a null or single-worker pool keeps the sequential loop
+    public void setParallelForward(ForkJoinPool pool, long minWork) {
+        this.forwardPool = pool;
+        this.parallelMinWork = minWork;
+    }
+
+    // Softmax as parallel reductions: max (from the forward tasks), sum of exps, scale
+    private void parallelSoftmax(ForkJoinPool pool, float[] outputs, float max, boolean fast) {
+        ExpSumTask sum = new ExpSumTask(outputs, 0, neuronCount, max, fast);
+        pool.invoke(sum);
+        pool.invoke(new ScaleTask(outputs, 0, neuronCount, 1 / sum.sum));
+    }
+
+    // Rows [lo, hi): z, activation, and the largest output of the range
+    private final class ForwardTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final float[] inputs;
+        private final float[] zValues;
+        private final float[] outputs;
+        private final int lo;
+        private final int hi;
+        private final boolean fast;
+
+        float max = Float.NEGATIVE_INFINITY;
+
+        ForwardTask(float[] inputs, float[] zValues, float[] outputs, int lo, int hi, boolean fast) {
+            this.inputs = inputs;
+            this.zValues = zValues;
+            this.outputs = outputs;
+            this.lo = lo;
+            this.hi = hi;
+            this.fast = fast;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= 1 || (long)(hi - lo) * inputSize <= TASK_WORK) {
+                for (int i = lo; i < hi; i++) {
+                    float z = dot(i, inputs) + biases[i];
+                    zValues[i] = z;
+                    outputs[i] = Activations.apply(z, activation, fast);
+                    max = Math.max(max, outputs[i]);
+                }
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            ForwardTask left = new ForwardTask(inputs, zValues, outputs, lo, mid, fast);
+            ForwardTask right = new ForwardTask(inputs, zValues, outputs, mid, hi, fast);
+            right.fork();
+            left.compute();
+            right.join();
+            max = Math.max(left.max, right.max);
+        }
+    }
+
+    // outputs[i] = exp(outputs[i] - max) over [lo, hi), with the range sum
+    private static final class ExpSumTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final float[] outputs;
+        private final int lo;
+        private final int hi;
+        private final float max;
+        private final boolean fast;
+
+        float sum;
+
+        ExpSumTask(float[] outputs, int lo, int hi, float max, boolean fast) {
+            this.outputs = outputs;
+            this.lo = lo;
+            this.hi = hi;
+            this.max = max;
+            this.fast = fast;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= SOFTMAX_TASK_SIZE) {
+                for (int i = lo; i < hi; i++) {
+                    outputs[i] = Activations.exp(outputs[i] - max, fast);
+                    sum += outputs[i];
+                }
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            ExpSumTask left = new ExpSumTask(outputs, lo, mid, max, fast);
+            ExpSumTask right = new ExpSumTask(outputs, mid, hi, max, fast);
+            right.fork();
+            left.compute();
+            right.join();
+            sum = left.sum + right.sum;
+        }
+    }
+
+    private static final class ScaleTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final float[] outputs;
+        private final int lo;
+        private final int hi;
+        private final float scale;
+
+        ScaleTask(float[] outputs, int lo, int hi, float scale) {
+            this.outputs = outputs;
+            this.lo = lo;
+            this.hi = hi;
+            this.scale = scale;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= SOFTMAX_TASK_SIZE) {
+                for (int i = lo; i < hi; i++) {
+                    outputs[i] *= scale;
+                }
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            ScaleTask right = new ScaleTask(outputs, mid, hi, scale);
+            right.fork();
+            new ScaleTask(outputs, lo, mid, scale).compute();
+            right.join();
+        }
     }
 
-    private void applySoftmax(float[] outputs) {
-        float max = outputs[0];
-        for (int i = 1; i < outputs.length; i++) {
+    // Sparse inputs: only the columns of the non-zero entries are read
+    public void forward(SparseVector inputs, float[] zValues, float[] outputs) {
+        boolean fast = isFast();
+        int[] indices = inputs.indices;
+        float[] values = inputs.values;
+
+        for (int i = 0; i < neuronCount; i++) {
+            int offset = i * inputSize;
+            float z = biases[i];
+            for (int k = 0; k < indices.length; k++) {
+                z += values[k] * weights[offset + indices[k]];
+            }
+            zValues[i] = z;
+            outputs[i] = Activations.apply(z, activation, fast);
+        }
+
+        if (activation == Activation.SOFTMAX) {
+            applySoftmax(outputs, 0, neuronCount, fast);
+        }
+    }
+
+    // Batched forward over count row-major samples
+    // outputs[s * neuronCount + i] = activation(W[i].inputs[s] + b[i])
+    public void forwardBatch(float[] inputs, float[] outputs, int count) {
+        forwardBatch(inputs, 0, outputs, 0, count, new float[4]);
+    }
+
+    // dots: four floats of scratch for the SIMD tile, see Workspace
+    void forwardBatch(float[] inputs, int inputOffset, float[] outputs, int outputOffset, int count,
+                      float[] dots) {
+        boolean fast = isFast();
+        Gemm.multiply(inputs, inputOffset, weights, biases, outputs, outputOffset,
+            count, neuronCount, inputSize, activation, fast, dots);
+
+        if (activation == Activation.SOFTMAX) {
+            for (int s = 0; s < count; s++) {
+                applySoftmax(outputs, outputOffset + s * neuronCount, neuronCount, fast);
+            }
+        }
+    }
+
+    // Dot product of neuron row with inputs
+    float dot(int neuron, float[] inputs) {
+        return Kernels.dot(inputs, 0, weights, neuron * inputSize, inputSize);
+    }
+
+    // Error propagated to the previous layer
+    // errors[j] = sum_i deltas[i] * W[i][j]
+    void backpropagate(float[] deltas, float[] errors) {
+        for (int j = 0; j < inputSize; j++) {
+            errors[j] = 0;
+        }
+
+        for (int i = 0; i < neuronCount; i++) {
+            Kernels.axpy(deltas[i], weights, i * inputSize, errors, 0, inputSize);
+        }
+    }
+
+    // Gradient descent with per-element clipping
+    // b -= lr * delta, w -= lr * (delta * input)
+    void updateWeights(float[] deltas, float[] inputs, float lr, float maxGrad) {
+        for (int i = 0; i < neuronCount; i++) {
+            float delta = deltas[i];
+            float biasGrad = Math.max(-maxGrad, Math.min(maxGrad, delta));
+            biases[i] -= lr * biasGrad;
+
+            Kernels.sgd(weights, i * inputSize, inputs, 0, delta, lr, maxGrad, inputSize);
+        }
+    }
+
+    // Sparse inputs: zero columns have zero gradient, only touched columns move
+    void updateWeights(float[] deltas, SparseVector inputs, float lr, float maxGrad) {
+        int[] indices = inputs.indices;
+        float[] values = inputs.values;
+
+        for (int i = 0; i < neuronCount; i++) {
+            float delta = deltas[i];
+            float biasGrad = Math.max(-maxGrad, Math.min(maxGrad, delta));
+            biases[i] -= lr * biasGrad;
+
+            int offset = i * inputSize;
+            for (int k = 0; k < indices.length; k++) {
+                float grad = Math.max(-maxGrad, Math.min(maxGrad, delta * values[k]));
+                weights[offset + indices[k]] -= lr * grad;
+            }
+        }
+    }
+
+    // Optimizer step from a flat gradient buffer, gradients clipped per element
+    void applyGradients(Optimizer optimizer, float[] gradients, int weightOffset, int biasOffset,
+                        float scale, float lr, float maxGrad) {
+        optimizer.update(weights, 0, gradients, weightOffset, scale, lr, maxGrad, weights.length);
+        optimizer.update(biases, 0, gradients, biasOffset, scale, lr, maxGrad, biases.length);
+    }
+
+    static void applySoftmax(float[] outputs, int offset, int length, boolean fast) {
+        int end = offset + length;
+
+        float max = outputs[offset];
+        for (int i = offset + 1; i < end; i++) {
             if (outputs[i] > max) {
                 max = outputs[i];
             }
         }
 
         float sum = 0;
-        for (int i = 0; i < outputs.length; i++) {
-            outputs[i] = (float)Math.exp(outputs[i] - max);
+        for (int i = offset; i < end; i++) {
+            outputs[i] = Activations.exp(outputs[i] - max, fast);
             sum += outputs[i];
         }
 
-        for (int i = 0; i < outputs.length; i++) {
+        for (int i = offset; i < end; i++) {
             outputs[i] /= sum;
         }
     }
@@ -94,26 +396,39 @@ public class Layer implements Serializable {
         return activation;
     }
 
+    public Network.Precision getPrecision() {
+        return isFast() ? Network.Precision.FAST : Network.Precision.EXACT;
+    }
+
+    public void setPrecision(Network.Precision precision) {
+        this.precision = precision;
+    }
+
+    // Layers deserialized from older models have no precision, i.e. EXACT
+    private boolean isFast() {
+        return precision == Network.Precision.FAST;
+    }
+
     public float[] getInputs() {
         return layerInputs;
     }
 
     public void copyWeightsFrom(Layer other) {
-        if (this.neuronCount != other.neuronCount) {
-            throw new IllegalArgumentException("Layer sizes don't match");
-        }
-        for (int i = 0; i < neuronCount; i++) {
-            this.neurons[i].copyWeightsFrom(other.neurons[i]);
-        }
+        checkSameShape(other);
+        System.arraycopy(other.weights, 0, this.weights, 0, weights.length);
+        System.arraycopy(other.biases, 0, this.biases, 0, biases.length);
     }
 
     public void softUpdate(Layer other, float tau) {
-        if (this.neuronCount != other.neuronCount) {
+        checkSameShape(other);
+        Kernels.lerp(weights, 0, other.weights, 0, tau, weights.length);
+        Kernels.lerp(biases, 0, other.biases, 0, tau, biases.length);
+    }
+
+    private void checkSameShape(Layer other) {
+        if (this.neuronCount != other.neuronCount || this.inputSize != other.inputSize) {
             throw new IllegalArgumentException("Layer sizes don't match");
         }
-        for (int i = 0; i < neuronCount; i++) {
-            this.neurons[i].softUpdate(other.neurons[i], tau);
-        }
     }
 
 }
@@ -0,0 +1,174 @@
+package mg.rivolink.ai;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Mini-batch gradient descent: per-sample gradients of a batch are computed in
+// parallel on a ForkJoinPool, summed by a tree reduction, and applied as one update
+final class MiniBatchTrainer {
+
+    private final Network network;
+    private final ForkJoinPool pool;
+    private final int batchSize;
+
+    // One workspace and gradient buffer per leaf task, reused across batches
+    private final Workspace[] workspaces;
+    private final Gradients[] gradients;
+
+    // Samples come from the arrays or, when set, from the dataset
+    private float[][] xtrains;
+    private float[][] ytrainsFloat;
+    private int[][] ytrainsInt;
+    private Dataset dataset;
+
+    // Sample order per epoch, null keeps the data order
+    private Permutation order;
+
+    MiniBatchTrainer(Network network, int batchSize, ForkJoinPool pool) {
+        this.network = network;
+        this.pool = pool;
+        this.batchSize = batchSize;
+
+        int leaves = Math.max(1, Math.min(batchSize, pool.getParallelism()));
+        this.workspaces = new Workspace[leaves];
+        this.gradients = new Gradients[leaves];
+        for (int i = 0; i < leaves; i++) {
+            workspaces[i] = network.newWorkspace();
+            gradients[i] = new Gradients(network.getLayers());
+        }
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    void train(float[][] xtrains, float[][] ytrains, int epochs, Permutation order) {
+        this.xtrains = xtrains;
+        this.ytrainsFloat = ytrains;
+        this.ytrainsInt = null;
+        this.order = order;
+        run(Math.min(xtrains.length, ytrains.length), epochs);
+    }
+
+    void train(float[][] xtrains, int[][] ytrains, int epochs, Permutation order) {
+        this.xtrains = xtrains;
+        this.ytrainsFloat = null;
+        this.ytrainsInt = ytrains;
+        this.order = order;
+        run(Math.min(xtrains.length, ytrains.length), epochs);
+    }
+
+    // One pass over the first count rows
+    void trainRows(float[][] xtrains, float[][] ytrains, int count) {
+        this.xtrains = xtrains;
+        this.ytrainsFloat = ytrains;
+        this.ytrainsInt = null;
+        run(count, 1);
+    }
+
+    void train(Dataset dataset, int epochs, Permutation order) {
+        this.dataset = dataset;
+        this.order = order;
+        run(dataset.size(), epochs);
+    }
+
+    private void run(long size, int epochs) {
+        try {
+            for (int epoch = 0; epoch < epochs; epoch++) {
+                if (order != null) {
+                    order.shuffle();
+                }
+                for (long start = 0; start < size; start += batchSize) {
+                    int count = (int)Math.min(batchSize, size - start);
+                    trainBatch(start, count);
+                }
+            }
+        } finally {
+            this.xtrains = null;
+            this.ytrainsFloat = null;
+            this.ytrainsInt = null;
+            this.dataset = null;
+            this.order = null;
+        }
+    }
+
+    private void trainBatch(long start, int count) {
+        int leaves = Math.min(workspaces.length, count);
+        pool.invoke(new BatchTask(start, count, 0, leaves, leaves));
+        network.applyGradients(gradients[0], 1f / count);
+        network.markWeightsChanged();
+    }
+
+    // Samples [start, start + count) split evenly over leaves [lo, hi),
+    // partial sums reduced pairwise into gradients[lo]
+    private final class BatchTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long start;
+        private final int count;
+        private final int lo;
+        private final int hi;
+        private final int leaves;
+
+        BatchTask(long start, int count, int lo, int hi, int leaves) {
+            this.start = start;
+            this.count = count;
+            this.lo = lo;
+            this.hi = hi;
+            this.leaves = leaves;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                computeLeaf();
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            BatchTask left = new BatchTask(start, count, lo, mid, leaves);
+            BatchTask right = new BatchTask(start, count, mid, hi, leaves);
+            right.fork();
+            left.compute();
+            right.join();
+
+            gradients[lo].add(gradients[mid]);
+        }
+
+        private void computeLeaf() {
+            Workspace workspace = workspaces[lo];
+            Gradients sum = gradients[lo];
+            sum.zero();
+
+            long from = start + (long)count * lo / leaves;
+            long to = start + (long)count * (lo + 1) / leaves;
+            for (long i = from; i < to; i++) {
+                long row = order != null ? order.get(i) : i;
+
+                float[] inputs;
+                float[] target;
+                if (dataset != null) {
+                    inputs = workspace.inputs;
+                    target = workspace.target;
+                    dataset.read(row, inputs, target);
+                } else if (ytrainsFloat != null) {
+                    inputs = xtrains[(int)row];
+                    target = ytrainsFloat[(int)row];
+                } else {
+                    inputs = xtrains[(int)row];
+                    target = workspace.target;
+                    int[] y = ytrainsInt[(int)row];
+                    for (int k = 0; k < y.length; k++) {
+                        target[k] = y[k];
+                    }
+                }
+
+                network.predict(inputs, workspace);
+                network.backpropagation(target, workspace);
+                network.accumulateGradients(inputs, workspace, sum);
+            }
+        }
+    }
+
+}
@@ -1,26 +1,84 @@
 package mg.rivolink.ai;
 
 import java.io.Serializable;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
 import mg.rivolink.ai.Neuron.Activation;
 
 public class Network implements Serializable {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
+
+    // Samples pushed through the layers together by predictBatch
+    private static final int BATCH_CHUNK = 64;
+
+    // Default layer size (inputs x neurons) from which a parallel forward splits the layer
+    public static final long PARALLEL_MIN_WORK = 1 << 18;
+
+    // Activation evaluation mode
+    public enum Precision {
+        // Double precision Math.exp / Math.tanh, the reference behavior
+        EXACT,
+        // Float polynomial exp: sigmoid and tanh within 2e-7 absolute,
+        // softmax exp within 5e-6 relative of EXACT
+        FAST
+    }
 
     public float tau = 0.01f;        // For soft updates in DQN
     public float alpha = 0.1f;       // Learning rate
     public float maxGradient = 5.0f; // For gradient clipping (increased from 1.0)
+    public int batchSize = 1;        // Samples per update in batch training, 1 = per-sample SGD
 
     public final int inputSize;
     public final Layer hiddenLayer1;
     public final Layer hiddenLayer2;
     public final Layer outputLayer;
 
+    // Layers in forward order
+    private final Layer[] layers;
+
+    // Update rule for all training paths, null in models saved before optimizers
+    private Optimizer optimizer = Optimizer.sgd();
+
+    // Per-thread inference buffers, rebuilt lazily after deserialization
+    private transient volatile ThreadLocal<Workspace> workspaces;
+    private transient Workspace trainingWorkspace;
+    private transient MiniBatchTrainer miniBatchTrainer;
+
+    // Per-epoch shuffling of the batch train overloads, off while shuffleRandom is null
+    private transient Random shuffleRandom;
+    private transient int shuffleBlockSize;
+    private transient Permutation permutation;
+
+    // Bumped after weight changes, invalidates predictionCache entries. Single-sample
+    // train calls and direct edits bump it every time; the batch trainers once per
+    // mini-batch, loader batch or epoch, so cached outputs may lag inside an epoch.
+    // Atomic increments: concurrent trainers must never move it backwards
+    private transient volatile long weightVersion;
+    private static final AtomicLongFieldUpdater<Network> WEIGHT_VERSION =
+        AtomicLongFieldUpdater.newUpdater(Network.class, "weightVersion");
+    private transient volatile PredictionCache predictionCache;
+
     public Network(int inputSize, int hidden1Size, int hidden2Size, int outputSize, Activation outputActivation) {
+        this(inputSize, new int[] {hidden1Size, hidden2Size}, outputSize, outputActivation, Layer.r);
+    }
+
+    // One or two hidden layers, initial weights drawn from random (null leaves them at zero)
+    private Network(int inputSize, int[] hiddenSizes, int outputSize, Activation outputActivation,
+                    Random random) {
+        int lastHidden = hiddenSizes[hiddenSizes.length - 1];
+
         this.inputSize = inputSize;
-        this.hiddenLayer1 = new Layer(inputSize, hidden1Size, Activation.RELU);
-        this.hiddenLayer2 = new Layer(hidden1Size, hidden2Size, Activation.RELU);
-        this.outputLayer = new Layer(hidden2Size, outputSize, outputActivation);
+        this.hiddenLayer1 = new Layer(inputSize, hiddenSizes[0], Activation.RELU, random);
+        this.hiddenLayer2 = hiddenSizes.length > 1
+            ? new Layer(hiddenSizes[0], hiddenSizes[1], Activation.RELU, random)
+            : null;
+        this.outputLayer = new Layer(lastHidden, outputSize, outputActivation, random);
+        this.layers = hiddenLayer2 != null
+            ? new Layer[] {hiddenLayer1, hiddenLayer2, outputLayer}
+            : new Layer[] {hiddenLayer1, outputLayer};
     }
 
     public Network(int inputSize, int hidden1Size, int hidden2Size, int outputSize) {
@@ -28,50 +86,294 @@ public class Network implements Serializable {
     }
 
     public Network(int inputSize, int hiddenSize, int outputSize, Activation outputActivation) {
-        this.inputSize = inputSize;
-        this.hiddenLayer1 = new Layer(inputSize, hiddenSize, Activation.RELU);
-        this.hiddenLayer2 = null;
-        this.outputLayer = new Layer(hiddenSize, outputSize, outputActivation);
+        this(inputSize, new int[] {hiddenSize}, outputSize, outputActivation, Layer.r);
     }
 
     public Network(int inputSize, int hiddenSize, int outputSize) {
         this(inputSize, hiddenSize, outputSize, Activation.SIGMOID);
     }
 
+    // Thread-safe: runs on the calling thread's workspace, returns a new array
     public float[] predict(float[] inputs) {
-        return forward(inputs);
+        if (predictionCache != null) {
+            float[] outputs = new float[outputLayer.neuronCount];
+            predictInto(inputs, outputs, localWorkspace());
+            return outputs;
+        }
+        return predict(inputs, localWorkspace()).clone();
+    }
+
+    // Returns the workspace's output buffer, valid until its next use
+    public float[] predict(float[] inputs, Workspace workspace) {
+        checkInputSize(inputs.length);
+        checkWorkspace(workspace);
+
+        layers[0].forward(inputs, workspace.zValues[0], workspace.outputs[0]);
+        return forwardHidden(workspace);
+    }
+
+    // Sparse input: the first layer only reads the columns of non-zero entries
+    public float[] predict(SparseVector inputs) {
+        return predict(inputs, localWorkspace()).clone();
+    }
+
+    public float[] predict(SparseVector inputs, Workspace workspace) {
+        checkInputSize(inputs.size);
+        checkWorkspace(workspace);
+
+        layers[0].forward(inputs, workspace.zValues[0], workspace.outputs[0]);
+        return forwardHidden(workspace);
+    }
+
+    public void predictInto(SparseVector inputs, float[] outputs) {
+        float[] result = predict(inputs, localWorkspace());
+        System.arraycopy(result, 0, outputs, 0, result.length);
+    }
+
+    // Layers after the first, from the first layer's outputs in the workspace
+    private float[] forwardHidden(Workspace workspace) {
+        for (int l = 1; l < layers.length; l++) {
+            layers[l].forward(workspace.outputs[l - 1], workspace.zValues[l], workspace.outputs[l]);
+        }
+        return workspace.outputs[layers.length - 1];
+    }
+
+    // Thread-safe and allocation-free once the calling thread has a workspace
+    public void predictInto(float[] inputs, float[] outputs) {
+        predictInto(inputs, outputs, localWorkspace());
+    }
+
+    public void predictInto(float[] inputs, float[] outputs, Workspace workspace) {
+        PredictionCache cache = predictionCache;
+        if (cache == null) {
+            float[] result = predict(inputs, workspace);
+            System.arraycopy(result, 0, outputs, 0, result.length);
+            return;
+        }
+
+        checkInputSize(inputs.length);
+        // Read before the forward pass: an update racing with it moves the version on,
+        // so the entry stored below is never served
+        long version = weightVersion;
+        if (!cache.get(inputs, version, outputs)) {
+            float[] result = predict(inputs, workspace);
+            System.arraycopy(result, 0, outputs, 0, result.length);
+            cache.put(inputs, version, result);
+        }
+    }
+
+    // Memoizes predict and predictInto on exact input bits, up to capacity entries.
+    // Only the copying calls use it: predict(inputs, workspace) always runs the layers.
+    // Not copied or serialized.
+    public void enablePredictionCache(int capacity) {
+        predictionCache = new PredictionCache(capacity, inputSize, outputLayer.neuronCount);
+    }
+
+    public void disablePredictionCache() {
+        predictionCache = null;
+    }
+
+    public PredictionCache getPredictionCache() {
+        return predictionCache;
     }
 
-    private float[] forward(float[] inputs) {
-        if (inputs.length != inputSize) {
+    public long getWeightVersion() {
+        return weightVersion;
+    }
+
+    // train, copyWeightsFrom, softUpdate and setPrecision call this themselves;
+    // needed after editing weights directly through Layer or Neuron
+    public void markWeightsChanged() {
+        WEIGHT_VERSION.incrementAndGet(this);
+    }
+
+    // Batch inference over rows of inputs, results written into outputs rows
+    public void predictBatch(float[][] inputs, float[][] outputs) {
+        predictBatch(inputs, outputs, localWorkspace());
+    }
+
+    public void predictBatch(float[][] inputs, float[][] outputs, Workspace workspace) {
+        if (outputs.length < inputs.length) {
             throw new IllegalArgumentException(
-                "Input size mismatch: expected " + inputSize + ", got " + inputs.length
+                "Output batch too small: expected " + inputs.length + ", got " + outputs.length
             );
         }
+        checkWorkspace(workspace);
+        workspace.ensureBatchCapacity(layers, BATCH_CHUNK);
 
-        hiddenLayer1.setInputs(inputs);
-        float[] h1 = hiddenLayer1.forward();
+        int outputSize = outputLayer.neuronCount;
+        float[] packedInputs = workspace.batchInputs;
+        float[] packedOutputs = workspace.batchOutputs;
 
-        if (hiddenLayer2 != null) {
-            hiddenLayer2.setInputs(h1);
-            float[] h2 = hiddenLayer2.forward();
-            outputLayer.setInputs(h2);
-            return outputLayer.forward();
-        } else {
-            outputLayer.setInputs(h1);
-            return outputLayer.forward();
+        for (int start = 0; start < inputs.length; start += BATCH_CHUNK) {
+            int count = Math.min(BATCH_CHUNK, inputs.length - start);
+
+            for (int s = 0; s < count; s++) {
+                checkInputSize(inputs[start + s].length);
+                System.arraycopy(inputs[start + s], 0, packedInputs, s * inputSize, inputSize);
+            }
+
+            forwardBatch(packedInputs, 0, packedOutputs, 0, count, workspace);
+
+            for (int s = 0; s < count; s++) {
+                System.arraycopy(packedOutputs, s * outputSize, outputs[start + s], 0, outputSize);
+            }
         }
     }
 
+    // Batch inference over a flat row-major buffer of count samples
+    // inputs: count x inputSize, outputs: count x outputSize
+    public void predictBatch(float[] inputs, float[] outputs, int count) {
+        predictBatch(inputs, outputs, count, localWorkspace());
+    }
+
+    public void predictBatch(float[] inputs, float[] outputs, int count, Workspace workspace) {
+        int outputSize = outputLayer.neuronCount;
+        if (inputs.length < count * inputSize || outputs.length < count * outputSize) {
+            throw new IllegalArgumentException(
+                "Batch buffer too small for " + count + " samples"
+            );
+        }
+        checkWorkspace(workspace);
+        workspace.ensureBatchCapacity(layers, BATCH_CHUNK);
+
+        for (int start = 0; start < count; start += BATCH_CHUNK) {
+            int n = Math.min(BATCH_CHUNK, count - start);
+            forwardBatch(inputs, start * inputSize, outputs, start * outputSize, n, workspace);
+        }
+    }
+
+    private void forwardBatch(float[] inputs, int inputOffset, float[] outputs, int outputOffset,
+                              int count, Workspace workspace) {
+        float[][] scratch = workspace.batchHidden;
+        float[] x = inputs;
+        int xOffset = inputOffset;
+
+        for (int l = 0; l < scratch.length; l++) {
+            layers[l].forwardBatch(x, xOffset, scratch[l], 0, count, workspace.dots);
+            x = scratch[l];
+            xOffset = 0;
+        }
+
+        outputLayer.forwardBatch(x, xOffset, outputs, outputOffset, count, workspace.dots);
+    }
+
+    public Workspace newWorkspace() {
+        return new Workspace(this);
+    }
+
+    // Workspace of the calling thread, created on first use
+    private Workspace localWorkspace() {
+        ThreadLocal<Workspace> local = workspaces;
+        if (local == null) {
+            synchronized (this) {
+                local = workspaces;
+                if (local == null) {
+                    workspaces = local = new ThreadLocal<Workspace>();
+                }
+            }
+        }
+
+        Workspace workspace = local.get();
+        if (workspace == null) {
+            workspace = newWorkspace();
+            local.set(workspace);
+        }
+        return workspace;
+    }
+
+    private void checkWorkspace(Workspace workspace) {
+        if (!workspace.fits(layers)) {
+            throw new IllegalArgumentException("Workspace does not match network topology");
+        }
+    }
+
+    private void checkInputSize(int size) {
+        if (size != inputSize) {
+            throw new IllegalArgumentException(
+                "Input size mismatch: expected " + inputSize + ", got " + size
+            );
+        }
+    }
+
+    Layer[] getLayers() {
+        return layers;
+    }
+
+    // Bytes held by weights and biases
+    public long getWeightBytes() {
+        long bytes = 0;
+        for (Layer layer : layers) {
+            bytes += 4L * (layer.weights.length + layer.biases.length);
+        }
+        return bytes;
+    }
+
+    // Opt-in: layers of at least PARALLEL_MIN_WORK multiply-adds run their
+    // neuron ranges on pool, null turns it off. Not copied or serialized.
+    public void setParallelForward(ForkJoinPool pool) {
+        setParallelForward(pool, PARALLEL_MIN_WORK);
+    }
+
+    public void setParallelForward(ForkJoinPool pool, long minWork) {
+        for (Layer layer : layers) {
+            layer.setParallelForward(pool, minWork);
+        }
+    }
+
+    public Precision getPrecision() {
+        return outputLayer.getPrecision();
+    }
+
+    // Applies to every layer, for inference and training alike
+    public void setPrecision(Precision precision) {
+        for (Layer layer : layers) {
+            layer.setPrecision(precision);
+        }
+        markWeightsChanged();
+    }
+
     // Train with float target (classification with one-hot)
     public void train(float[] inputs, float[] target) {
-        forward(inputs);
-        backpropagation(target);
+        trainStep(inputs, target);
+        markWeightsChanged();
     }
 
     // Train with int target (classification)
     public void train(float[] inputs, int[] target) {
-        float[] targetFloat = new float[target.length];
+        trainStep(inputs, target);
+        markWeightsChanged();
+    }
+
+    // One SGD step, callers bump the weight version
+    private void trainStep(float[] inputs, float[] target) {
+        Workspace workspace = trainingWorkspace();
+        predict(inputs, workspace);
+        backpropagation(target, workspace);
+        updateWeights(inputs, workspace);
+    }
+
+    private void trainStep(float[] inputs, int[] target) {
+        float[] targetFloat = trainingWorkspace().target;
+        checkTargetSize(target.length);
+        for (int i = 0; i < target.length; i++) {
+            targetFloat[i] = target[i];
+        }
+        trainStep(inputs, targetFloat);
+    }
+
+    // Train on a sparse input, first layer updates touch only non-zero columns
+    public void train(SparseVector inputs, float[] target) {
+        Workspace workspace = trainingWorkspace();
+        predict(inputs, workspace);
+        backpropagation(target, workspace);
+        updateWeights(inputs, workspace);
+        markWeightsChanged();
+    }
+
+    public void train(SparseVector inputs, int[] target) {
+        float[] targetFloat = trainingWorkspace().target;
+        checkTargetSize(target.length);
         for (int i = 0; i < target.length; i++) {
             targetFloat[i] = target[i];
         }
@@ -81,134 +383,305 @@ public class Network implements Serializable {
     // Batch training for regression
     public void train(float[][] xtrains, float[][] ytrains, int epochs) {
         int size = Math.min(xtrains.length, ytrains.length);
+        Permutation order = permutation(size);
+        if (batchSize > 1) {
+            miniBatchTrainer().train(xtrains, ytrains, epochs, order);
+            return;
+        }
+
         for (int epoch = 0; epoch < epochs; epoch++) {
+            if (order != null) {
+                order.shuffle();
+            }
             for (int i = 0; i < size; i++) {
-                this.train(xtrains[i], ytrains[i]);
+                int k = order != null ? (int)order.get(i) : i;
+                trainStep(xtrains[k], ytrains[k]);
             }
+            markWeightsChanged();
         }
     }
 
     // Batch training for classification
     public void train(float[][] xtrains, int[][] ytrains, int epochs) {
         int size = Math.min(xtrains.length, ytrains.length);
+        Permutation order = permutation(size);
+        if (batchSize > 1) {
+            miniBatchTrainer().train(xtrains, ytrains, epochs, order);
+            return;
+        }
+
         for (int epoch = 0; epoch < epochs; epoch++) {
+            if (order != null) {
+                order.shuffle();
+            }
             for (int i = 0; i < size; i++) {
-                this.train(xtrains[i], ytrains[i]);
+                int k = order != null ? (int)order.get(i) : i;
+                trainStep(xtrains[k], ytrains[k]);
             }
+            markWeightsChanged();
         }
     }
 
-    private void backpropagation(float[] target) {
-        float[] yhat = outputLayer.getOutputs();
-        boolean isSoftmax = outputLayer.getActivation() == Activation.SOFTMAX;
+    // Streams the dataset row by row, never holding more than a batch of samples
+    public void train(Dataset dataset, int epochs) {
+        checkInputSize(dataset.getInputSize());
+        checkTargetSize(dataset.getOutputSize());
 
-        if (hiddenLayer2 != null) {
-            // 3-layer network
-            float[] h1 = hiddenLayer1.getOutputs();
-            float[] h2 = hiddenLayer2.getOutputs();
-            float[] h1Input = hiddenLayer1.getInputs();
-
-            float[] z1 = hiddenLayer1.getLastZValues();
-            float[] z2 = hiddenLayer2.getLastZValues();
-            float[] zOut = outputLayer.getLastZValues();
-
-            Neuron[] h1N = hiddenLayer1.neurons;
-            Neuron[] h2N = hiddenLayer2.neurons;
-            Neuron[] oN = outputLayer.neurons;
-
-            // Output layer gradients
-            float[] deltaOut = new float[oN.length];
-            for (int k = 0; k < oN.length; k++) {
-                if (isSoftmax) {
-                    // Softmax + Cross-Entropy: delta = yhat - target
-                    deltaOut[k] = yhat[k] - target[k];
-                } else {
-                    // MSE: delta = (yhat - target) * activation'(z)
-                    float error = yhat[k] - target[k];
-                    float derivative = Neuron.getActivationDerivative(zOut[k], outputLayer.getActivation());
-                    deltaOut[k] = error * derivative;
-                }
+        long size = dataset.size();
+        Permutation order = permutation(size);
+        if (batchSize > 1) {
+            miniBatchTrainer().train(dataset, epochs, order);
+            return;
+        }
+
+        Workspace workspace = trainingWorkspace();
+        for (int epoch = 0; epoch < epochs; epoch++) {
+            if (order != null) {
+                order.shuffle();
             }
+            for (long i = 0; i < size; i++) {
+                dataset.read(order != null ? order.get(i) : i, workspace.inputs, workspace.target);
+                trainStep(workspace.inputs, workspace.target);
+            }
+            markWeightsChanged();
+        }
+    }
 
-            // Hidden layer 2 gradients
-            float[] deltaH2 = new float[h2N.length];
-            for (int j = 0; j < h2N.length; j++) {
-                float error = 0;
-                for (int k = 0; k < oN.length; k++) {
-                    error += deltaOut[k] * oN[k].weights[j];
+    // Trains on batches prefetched by the loader's thread, per sample or in
+    // mini-batches of batchSize within each loader batch
+    public void train(DataLoader loader, int epochs) {
+        checkInputSize(loader.getDataset().getInputSize());
+        checkTargetSize(loader.getDataset().getOutputSize());
+
+        loader.start(epochs);
+        try {
+            DataLoader.Batch batch;
+            while ((batch = loader.take()) != null) {
+                try {
+                    if (batchSize > 1) {
+                        miniBatchTrainer().trainRows(batch.inputs, batch.targets, batch.getCount());
+                    } else {
+                        for (int i = 0; i < batch.getCount(); i++) {
+                            trainStep(batch.inputs[i], batch.targets[i]);
+                        }
+                        markWeightsChanged();
+                    }
+                } finally {
+                    loader.release(batch);
                 }
-                float derivative = Neuron.getActivationDerivative(z2[j], hiddenLayer2.getActivation());
-                deltaH2[j] = error * derivative;
             }
+        } finally {
+            // A failed step would leave the loader thread blocked on a free buffer
+            loader.stop();
+        }
+    }
 
-            // Hidden layer 1 gradients
-            float[] deltaH1 = new float[h1N.length];
-            for (int i = 0; i < h1N.length; i++) {
-                float error = 0;
-                for (int j = 0; j < h2N.length; j++) {
-                    error += deltaH2[j] * h2N[j].weights[i];
-                }
-                float derivative = Neuron.getActivationDerivative(z1[i], hiddenLayer1.getActivation());
-                deltaH1[i] = error * derivative;
+    // Batch train overloads visit the samples in a new seeded order every epoch
+    public void setShuffle(long seed) {
+        setShuffle(seed, 1);
+    }
+
+    // blockSize > 1 shuffles blocks of consecutive rows, keeping reads of a
+    // memory-mapped Dataset sequential within each block
+    public void setShuffle(long seed, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be at least 1: " + blockSize);
+        }
+        this.shuffleRandom = new Random(seed);
+        this.shuffleBlockSize = blockSize;
+        this.permutation = null;
+    }
+
+    // Back to the data order
+    public void disableShuffle() {
+        this.shuffleRandom = null;
+        this.permutation = null;
+    }
+
+    // Reused while the size stays the same, the order continues from the same seed
+    private Permutation permutation(long size) {
+        if (shuffleRandom == null) {
+            return null;
+        }
+        if (permutation == null || permutation.size() != size) {
+            permutation = new Permutation(size, shuffleBlockSize, shuffleRandom);
+        }
+        return permutation;
+    }
+
+    // Buffers reused by every train call, training is single-threaded
+    private Workspace trainingWorkspace() {
+        if (trainingWorkspace == null) {
+            trainingWorkspace = newWorkspace();
+        }
+        return trainingWorkspace;
+    }
+
+    private MiniBatchTrainer miniBatchTrainer() {
+        if (miniBatchTrainer == null || miniBatchTrainer.getBatchSize() != batchSize) {
+            miniBatchTrainer = new MiniBatchTrainer(this, batchSize, ForkJoinPool.commonPool());
+        }
+        return miniBatchTrainer;
+    }
+
+    // Fills workspace deltas from the last forward pass on the same workspace
+    void backpropagation(float[] target, Workspace workspace) {
+        checkTargetSize(target.length);
+
+        int last = layers.length - 1;
+        float[] yhat = workspace.outputs[last];
+        boolean isSoftmax = outputLayer.getActivation() == Activation.SOFTMAX;
+
+        // Output layer gradients
+        float[] deltaOut = workspace.deltas[last];
+        for (int k = 0; k < deltaOut.length; k++) {
+            if (isSoftmax) {
+                // Softmax + Cross-Entropy: delta = yhat - target
+                deltaOut[k] = yhat[k] - target[k];
+            } else {
+                // MSE: delta = (yhat - target) * activation'(z), derivative taken from yhat
+                float error = yhat[k] - target[k];
+                float derivative = Activations.derivative(yhat[k], outputLayer.getActivation());
+                deltaOut[k] = error * derivative;
             }
+        }
 
-            // Update layers with gradient descent
-            updateLayerWeights(outputLayer, deltaOut, h2, alpha, maxGradient);
-            updateLayerWeights(hiddenLayer2, deltaH2, h1, alpha, maxGradient);
-            updateLayerWeights(hiddenLayer1, deltaH1, h1Input, alpha, maxGradient);
+        // Hidden layer gradients, from the last hidden layer back to the first
+        for (int l = last - 1; l >= 0; l--) {
+            Layer layer = layers[l];
+            float[] y = workspace.outputs[l];
+            float[] delta = workspace.deltas[l];
 
-        } else {
-            // 2-layer network
-            float[] h1 = hiddenLayer1.getOutputs();
-            float[] h1Input = hiddenLayer1.getInputs();
-            float[] z1 = hiddenLayer1.getLastZValues();
-            float[] zOut = outputLayer.getLastZValues();
-
-            Neuron[] h1N = hiddenLayer1.neurons;
-            Neuron[] oN = outputLayer.neurons;
-
-            // Output layer gradients
-            float[] deltaOut = new float[oN.length];
-            for (int k = 0; k < oN.length; k++) {
-                if (isSoftmax) {
-                    // Softmax + Cross-Entropy: delta = yhat - target
-                    deltaOut[k] = yhat[k] - target[k];
-                } else {
-                    // MSE: delta = (yhat - target) * activation'(z)
-                    float error = yhat[k] - target[k];
-                    float derivative = Neuron.getActivationDerivative(zOut[k], outputLayer.getActivation());
-                    deltaOut[k] = error * derivative;
-                }
+            layers[l + 1].backpropagate(workspace.deltas[l + 1], delta);
+            for (int i = 0; i < delta.length; i++) {
+                delta[i] *= Activations.derivative(y[i], layer.getActivation());
             }
+        }
+    }
 
-            // Hidden layer 1 gradients
-            float[] deltaH1 = new float[h1N.length];
-            for (int i = 0; i < h1N.length; i++) {
-                float error = 0;
-                for (int k = 0; k < oN.length; k++) {
-                    error += deltaOut[k] * oN[k].weights[i];
-                }
-                float derivative = Neuron.getActivationDerivative(z1[i], hiddenLayer1.getActivation());
-                deltaH1[i] = error * derivative;
+    // Gradient descent on every layer from the workspace deltas, leaves the weight
+    // version to the caller: per-sample increments would contend under Hogwild
+    void updateWeights(float[] inputs, Workspace workspace) {
+        Optimizer optimizer = optimizer();
+        if (!optimizer.isPlainSgd()) {
+            // Stateful optimizers consume gradients in the flat layout
+            if (workspace.gradients == null) {
+                workspace.gradients = new Gradients(layers);
             }
+            workspace.gradients.zero();
+            accumulateGradients(inputs, workspace, workspace.gradients);
+            applyGradients(workspace.gradients, 1f);
+            return;
+        }
 
-            // Update layers with gradient descent
-            updateLayerWeights(outputLayer, deltaOut, h1, alpha, maxGradient);
-            updateLayerWeights(hiddenLayer1, deltaH1, h1Input, alpha, maxGradient);
+        for (int l = layers.length - 1; l >= 0; l--) {
+            float[] layerInputs = l == 0 ? inputs : workspace.outputs[l - 1];
+            layers[l].updateWeights(workspace.deltas[l], layerInputs, alpha, maxGradient);
         }
     }
 
-    // Gradient descent
-    // b -= lr * delta, w -= lr * (delta * input)
-    private void updateLayerWeights(Layer layer, float[] deltas, float[] inputs, float lr, float maxGrad) {
-        for (int i = 0; i < layer.neuronCount; i++) {
-            float biasGrad = Math.max(-maxGrad, Math.min(maxGrad, deltas[i]));
-            layer.neurons[i].bias -= lr * biasGrad;
+    void updateWeights(SparseVector inputs, Workspace workspace) {
+        Optimizer optimizer = optimizer();
+        if (!optimizer.isPlainSgd()) {
+            // Moments decay on every weight, the optimizer step stays dense
+            if (workspace.gradients == null) {
+                workspace.gradients = new Gradients(layers);
+            }
+            workspace.gradients.zero();
+            accumulateGradients(inputs, workspace, workspace.gradients);
+            applyGradients(workspace.gradients, 1f);
+            return;
+        }
 
-            for (int j = 0; j < layer.inputSize; j++) {
-                float weightGrad = Math.max(-maxGrad, Math.min(maxGrad, deltas[i] * inputs[j]));
-                layer.neurons[i].weights[j] -= lr * weightGrad;
+        for (int l = layers.length - 1; l >= 1; l--) {
+            layers[l].updateWeights(workspace.deltas[l], workspace.outputs[l - 1], alpha, maxGradient);
+        }
+        layers[0].updateWeights(workspace.deltas[0], inputs, alpha, maxGradient);
+    }
+
+    // gradients += outer(deltas, layer inputs) for every layer
+    void accumulateGradients(float[] inputs, Workspace workspace, Gradients gradients) {
+        for (int l = 0; l < layers.length; l++) {
+            float[] layerInputs = l == 0 ? inputs : workspace.outputs[l - 1];
+            accumulateGradients(l, layerInputs, workspace, gradients);
+        }
+    }
+
+    // Sparse first layer: only the non-zero input columns receive gradient
+    void accumulateGradients(SparseVector inputs, Workspace workspace, Gradients gradients) {
+        Layer first = layers[0];
+        float[] deltas = workspace.deltas[0];
+        int weightOffset = gradients.weightOffsets[0];
+        int biasOffset = gradients.biasOffsets[0];
+
+        for (int i = 0; i < first.neuronCount; i++) {
+            int row = weightOffset + i * first.inputSize;
+            for (int k = 0; k < inputs.indices.length; k++) {
+                gradients.values[row + inputs.indices[k]] += deltas[i] * inputs.values[k];
             }
+            gradients.values[biasOffset + i] += deltas[i];
+        }
+
+        for (int l = 1; l < layers.length; l++) {
+            accumulateGradients(l, workspace.outputs[l - 1], workspace, gradients);
+        }
+    }
+
+    private void accumulateGradients(int l, float[] layerInputs, Workspace workspace, Gradients gradients) {
+        Layer layer = layers[l];
+        float[] deltas = workspace.deltas[l];
+
+        int weightOffset = gradients.weightOffsets[l];
+        int biasOffset = gradients.biasOffsets[l];
+        for (int i = 0; i < layer.neuronCount; i++) {
+            Kernels.axpy(deltas[i], layerInputs, 0, gradients.values,
+                weightOffset + i * layer.inputSize, layer.inputSize);
+            gradients.values[biasOffset + i] += deltas[i];
+        }
+    }
+
+    // Gradient descent on summed gradients, scale turns the sum into a mean
+    void applyGradients(Gradients gradients, float scale) {
+        Optimizer optimizer = optimizer();
+        optimizer.beginStep();
+
+        for (int l = 0; l < layers.length; l++) {
+            layers[l].applyGradients(optimizer, gradients.values, gradients.weightOffsets[l],
+                gradients.biasOffsets[l], scale, alpha, maxGradient);
+        }
+    }
+
+    public Optimizer getOptimizer() {
+        return optimizer != null ? optimizer : Optimizer.sgd();
+    }
+
+    // Replaces the update rule with a copy of optimizer: networks never share moment state
+    public void setOptimizer(Optimizer optimizer) {
+        if (optimizer == null) {
+            throw new IllegalArgumentException("Optimizer must not be null");
+        }
+        this.optimizer = optimizer.copy();
+    }
+
+    // Optimizer with state sized for this network's parameters
+    Optimizer optimizer() {
+        if (optimizer == null) {
+            optimizer = Optimizer.sgd();
+        }
+
+        int size = 0;
+        for (Layer layer : layers) {
+            size += layer.weights.length + layer.biases.length;
+        }
+        optimizer.prepare(size);
+        return optimizer;
+    }
+
+    private void checkTargetSize(int size) {
+        if (size != outputLayer.neuronCount) {
+            throw new IllegalArgumentException(
+                "Target size mismatch: expected " + outputLayer.neuronCount + ", got " + size
+            );
         }
     }
 
@@ -217,15 +690,20 @@ public class Network implements Serializable {
         Network copy;
 
         if (hiddenLayer2 != null) {
-            copy = new Network(inputSize, hiddenLayer1.neuronCount, hiddenLayer2.neuronCount, outputLayer.neuronCount);
+            copy = new Network(inputSize, hiddenLayer1.neuronCount, hiddenLayer2.neuronCount,
+                outputLayer.neuronCount, outputLayer.getActivation());
             copy.hiddenLayer2.copyWeightsFrom(this.hiddenLayer2);
         } else {
-            copy = new Network(inputSize, hiddenLayer1.neuronCount, outputLayer.neuronCount);
+            copy = new Network(inputSize, hiddenLayer1.neuronCount, outputLayer.neuronCount,
+                outputLayer.getActivation());
         }
 
         copy.tau = this.tau;
         copy.alpha = this.alpha;
         copy.maxGradient = this.maxGradient;
+        copy.batchSize = this.batchSize;
+        copy.setPrecision(this.getPrecision());
+        copy.optimizer = this.getOptimizer().copy();
 
         copy.hiddenLayer1.copyWeightsFrom(this.hiddenLayer1);
         copy.outputLayer.copyWeightsFrom(this.outputLayer);
@@ -234,10 +712,13 @@ public class Network implements Serializable {
     }
 
     // Set network weights from another one
+    // The optimizer and its moments stay this network's own, a target sync moves weights only
     public void copyWeightsFrom(Network other) {
         this.tau = other.tau;
         this.alpha = other.alpha;
         this.maxGradient = other.maxGradient;
+        this.batchSize = other.batchSize;
+        this.setPrecision(other.getPrecision());
 
         this.hiddenLayer1.copyWeightsFrom(other.hiddenLayer1);
 
@@ -246,6 +727,7 @@ public class Network implements Serializable {
         }
 
         this.outputLayer.copyWeightsFrom(other.outputLayer);
+        markWeightsChanged();
     }
 
     // Soft update for target networks (DQN)
@@ -257,6 +739,7 @@ public class Network implements Serializable {
         }
 
         outputLayer.softUpdate(other.outputLayer, tau);
+        markWeightsChanged();
     }
 
     // Builder pattern
@@ -270,6 +753,14 @@ public class Network implements Serializable {
         private float tau = 0.01f;
         private float learningRate = 0.1f;
         private float maxGradient = 1.0f;
+        private int batchSize = 1;
+        private Precision precision = Precision.EXACT;
+        private Optimizer optimizer = Optimizer.sgd();
+        private boolean shuffle;
+        private long shuffleSeed;
+        private boolean initializeWeights = true;
+        private boolean seeded;
+        private long seed;
 
         public Builder inputSize(int size) {
             this.inputSize = size;
@@ -315,18 +806,55 @@ public class Network implements Serializable {
             return this;
         }
 
-        public Network build() {
-            Network network;
+        public Builder batchSize(int size) {
+            this.batchSize = size;
+            return this;
+        }
 
-            if (hidden2Size > 0) {
-                network = new Network(inputSize, hidden1Size, hidden2Size, outputSize, outputActivation);
-            } else {
-                network = new Network(inputSize, hidden1Size, outputSize, outputActivation);
-            }
+        public Builder precision(Precision precision) {
+            this.precision = precision;
+            return this;
+        }
+
+        public Builder optimizer(Optimizer optimizer) {
+            this.optimizer = optimizer;
+            return this;
+        }
+
+        // false leaves all weights and biases at zero, for loaders that overwrite them
+        public Builder initializeWeights(boolean initialize) {
+            this.initializeWeights = initialize;
+            return this;
+        }
+
+        // Reproducible initial weights, drawn from a Random with this seed
+        public Builder seed(long seed) {
+            this.seeded = true;
+            this.seed = seed;
+            return this;
+        }
+
+        // Per-epoch shuffling, see Network.setShuffle
+        public Builder shuffle(long seed) {
+            this.shuffle = true;
+            this.shuffleSeed = seed;
+            return this;
+        }
+
+        public Network build() {
+            int[] hiddenSizes = hidden2Size > 0 ? new int[] {hidden1Size, hidden2Size} : new int[] {hidden1Size};
+            Random random = !initializeWeights ? null : seeded ? new Random(seed) : Layer.r;
+            Network network = new Network(inputSize, hiddenSizes, outputSize, outputActivation, random);
 
             network.tau = tau;
             network.alpha = learningRate;
             network.maxGradient = maxGradient;
+            network.batchSize = batchSize;
+            network.setPrecision(precision);
+            network.setOptimizer(optimizer);
+            if (shuffle) {
+                network.setShuffle(shuffleSeed);
+            }
 
             return network;
         }
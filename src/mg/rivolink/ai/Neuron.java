@@ -1,67 +1,105 @@
 package mg.rivolink.ai;
 
 import java.io.Serializable;
-import java.util.Random;
 
+// View over one row of a Layer's flat weight matrix
+// The public bias and weights fields of earlier releases are gone: a row of the
+// flat matrix cannot be handed out as an array of its own. Use getBias/setBias,
+// getWeight/setWeight, or getLayer().weights from getWeightOffset() in place.
 public class Neuron implements Serializable {
 
-    private static final long serialVersionUID = 1L;
-
-    static final Random r = new Random();
-
-    public float bias;
+    private static final long serialVersionUID = 2L;
 
     public final int size;
-    public final float weights[];
 
-    private float lastZ;
-    private float lastOutput;
+    private final Layer layer;
+    private final int index;
+    private final int offset;
 
     public enum Activation {
         SIGMOID, RELU, LEAKY_RELU, TANH, LINEAR, SOFTMAX
     }
 
+    // Standalone neuron backed by its own single-row layer
     public Neuron(int size) {
-        this.size = size;
-        this.weights = new float[size];
-        initializeWeights();
-    }
-
-    // He initialization, better for ReLU
-    // value: [-1, 1] * sqrt(2/size)
-    private void initializeWeights() {
-        float scale = (float)Math.sqrt(2.0 / size);
-        bias = (r.nextFloat() * 2 - 1) * scale;
-        for (int i = 0; i < size; i++) {
-            weights[i] = (r.nextFloat() * 2 - 1) * scale;
+        this(new Layer(size, 1, Activation.RELU), 0);
+    }
+
+    Neuron(Layer layer, int index) {
+        this.layer = layer;
+        this.index = index;
+        this.size = layer.inputSize;
+        this.offset = index * layer.inputSize;
+    }
+
+    public Layer getLayer() {
+        return layer;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    // Start of this neuron's row in getLayer().weights
+    public int getWeightOffset() {
+        return offset;
+    }
+
+    public float getBias() {
+        return layer.biases[index];
+    }
+
+    public void setBias(float bias) {
+        layer.biases[index] = bias;
+    }
+
+    public float getWeight(int i) {
+        return layer.weights[offset + i];
+    }
+
+    public void setWeight(int i, float weight) {
+        layer.weights[offset + i] = weight;
+    }
+
+    // Copy of this neuron's weight row
+    public float[] getWeights() {
+        float[] copy = new float[size];
+        System.arraycopy(layer.weights, offset, copy, 0, size);
+        return copy;
+    }
+
+    public void setWeights(float[] weights) {
+        if (weights.length != size) {
+            throw new IllegalArgumentException("Array lengths must match");
         }
+        System.arraycopy(weights, 0, layer.weights, offset, size);
     }
 
     // Xavier initialization, better for sigmoid/tanh/softmax
-    // value: [-1, 1] * sqrt(1/size)
     public void initializeXavier() {
-        float scale = (float)Math.sqrt(1.0 / size);
-        bias = (r.nextFloat() * 2 - 1) * scale;
-        for (int i = 0; i < size; i++) {
-            weights[i] = (r.nextFloat() * 2 - 1) * scale;
-        }
+        layer.initializeXavier(index, Layer.r);
     }
 
     public float getLastZ() {
-        return lastZ;
+        return layer.getLastZValues()[index];
     }
 
     public float getLastOutput() {
-        return lastOutput;
+        return layer.getOutputs()[index];
     }
 
     public float computeOutput(float[] inputs, Activation activation) {
-        lastZ = dot(inputs, weights) + bias;
-        lastOutput = applyActivation(lastZ, activation);
-        return lastOutput;
+        if (inputs.length != size) {
+            throw new IllegalArgumentException("Array lengths must match");
+        }
+
+        float z = layer.dot(index, inputs) + getBias();
+        layer.getLastZValues()[index] = z;
+        layer.getOutputs()[index] = applyActivation(z, activation);
+        return layer.getOutputs()[index];
     }
 
-    private float applyActivation(float z, Activation activation) {
+    static float applyActivation(float z, Activation activation) {
         switch (activation) {
             case RELU:
                 return relu(z);
@@ -141,11 +179,7 @@ public class Neuron implements Serializable {
             throw new IllegalArgumentException("Array lengths must match");
         }
 
-        float dot = 0;
-        for (int i = 0; i < x.length; i++) {
-            dot += x[i] * w[i];
-        }
-        return dot;
+        return Kernels.dot(x, 0, w, 0, x.length);
     }
 
     public void copyWeightsFrom(Neuron other) {
@@ -153,27 +187,23 @@ public class Neuron implements Serializable {
             throw new IllegalArgumentException("Neuron sizes don't match");
         }
 
-        this.bias = other.bias;
-        System.arraycopy(other.weights, 0, this.weights, 0, size);
+        setBias(other.getBias());
+        System.arraycopy(other.layer.weights, other.offset, layer.weights, offset, size);
     }
 
     public void softUpdate(Neuron other, float tau) {
-        this.bias = tau * other.bias + (1 - tau) * this.bias;
-        for (int i = 0; i < size; i++) {
-            this.weights[i] = tau * other.weights[i] + (1 - tau) * this.weights[i];
-        }
+        setBias(tau * other.getBias() + (1 - tau) * getBias());
+        Kernels.lerp(layer.weights, offset, other.layer.weights, other.offset, tau, size);
     }
 
     // Gradient descent
     // b -= lr * delta, w -= lr * (delta * input)
+    // gradients[0] is the bias delta, gradients[i + 1] the delta for weight i
     public void updateWeights(float[] gradients, float[] inputs, float learningRate, float maxGradient) {
         float biasGrad = Math.max(-maxGradient, Math.min(maxGradient, gradients[0]));
-        bias -= learningRate * biasGrad;
+        setBias(getBias() - learningRate * biasGrad);
 
-        for (int i = 0; i < size; i++) {
-            float weightGrad = Math.max(-maxGradient, Math.min(maxGradient, gradients[i + 1] * inputs[i]));
-            weights[i] -= learningRate * weightGrad;
-        }
+        Kernels.sgd(layer.weights, offset, gradients, 1, inputs, 0, learningRate, maxGradient, size);
     }
 
 }
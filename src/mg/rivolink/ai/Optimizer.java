@@ -0,0 +1,339 @@
+package mg.rivolink.ai;
+
+import java.io.Serializable;
+
+// Update rule applied to clipped gradients
+// Moment state is kept in flat arrays laid out like Gradients: per layer, in
+// forward order, the weights (row-major) followed by the biases. The state is
+// not serialized; a loaded network resumes training with fresh moments.
+public abstract class Optimizer implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Type {
+        SGD,
+        MOMENTUM,
+        RMS_PROP,
+        ADAM
+    }
+
+    // Plain SGD: w -= lr * g
+    public static Optimizer sgd() {
+        return new Sgd();
+    }
+
+    public static Optimizer momentum() {
+        return momentum(0.9f);
+    }
+
+    // v = mu * v + g, w -= lr * v
+    public static Optimizer momentum(float mu) {
+        return new Momentum(mu);
+    }
+
+    public static Optimizer rmsProp() {
+        return rmsProp(0.9f, 1e-7f);
+    }
+
+    // s = rho * s + (1 - rho) * g^2, w -= lr * g / (sqrt(s) + epsilon)
+    public static Optimizer rmsProp(float rho, float epsilon) {
+        return new RmsProp(rho, epsilon);
+    }
+
+    public static Optimizer adam() {
+        return adam(0.9f, 0.999f, 1e-7f);
+    }
+
+    // Bias-corrected first and second moments
+    // m = b1 * m + (1 - b1) * g, v = b2 * v + (1 - b2) * g^2
+    // w -= lr * m^ / (sqrt(v^) + epsilon)
+    public static Optimizer adam(float beta1, float beta2, float epsilon) {
+        return new Adam(beta1, beta2, epsilon);
+    }
+
+    // Rebuilds an optimizer from getType and getHyperparameters, with fresh state
+    public static Optimizer create(Type type, float[] hyperparameters) {
+        switch (type) {
+            case SGD:
+                checkCount(type, hyperparameters, 0);
+                return sgd();
+            case MOMENTUM:
+                checkCount(type, hyperparameters, 1);
+                return momentum(hyperparameters[0]);
+            case RMS_PROP:
+                checkCount(type, hyperparameters, 2);
+                return rmsProp(hyperparameters[0], hyperparameters[1]);
+            case ADAM:
+                checkCount(type, hyperparameters, 3);
+                return adam(hyperparameters[0], hyperparameters[1], hyperparameters[2]);
+            default:
+                throw new IllegalArgumentException("Unknown optimizer: " + type);
+        }
+    }
+
+    private static void checkCount(Type type, float[] hyperparameters, int expected) {
+        if (hyperparameters.length != expected) {
+            throw new IllegalArgumentException(
+                type + " takes " + expected + " hyperparameters, got " + hyperparameters.length
+            );
+        }
+    }
+
+    public abstract Type getType();
+
+    // Constructor arguments in factory order, for example beta1, beta2, epsilon
+    public abstract float[] getHyperparameters();
+
+    // Allocates or resizes the moment state for size parameters
+    abstract void prepare(int size);
+
+    // Called once per network update, before the per-layer updates
+    void beginStep() {
+    }
+
+    // params[p + i] -= update(clamp(scale * gradients[g + i])), state at g + i
+    abstract void update(float[] params, int paramOffset, float[] gradients, int gradientOffset,
+                         float scale, float lr, float maxGrad, int length);
+
+    // Same hyperparameters and a copy of the current state
+    public abstract Optimizer copy();
+
+    // SGD needs no gradient buffer: the network fuses it with backprop
+    boolean isPlainSgd() {
+        return false;
+    }
+
+    static float clip(float g, float maxGrad) {
+        return Math.max(-maxGrad, Math.min(maxGrad, g));
+    }
+
+    static float[] resize(float[] state, int size) {
+        return state != null && state.length == size ? state : new float[size];
+    }
+
+    static float[] copyOf(float[] state) {
+        return state == null ? null : state.clone();
+    }
+
+    private static final class Sgd extends Optimizer {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        void prepare(int size) {
+        }
+
+        @Override
+        void update(float[] params, int paramOffset, float[] gradients, int gradientOffset,
+                    float scale, float lr, float maxGrad, int length) {
+            Kernels.sgd(params, paramOffset, gradients, gradientOffset, scale, lr, maxGrad, length);
+        }
+
+        @Override
+        public Optimizer copy() {
+            return new Sgd();
+        }
+
+        @Override
+        public Type getType() {
+            return Type.SGD;
+        }
+
+        @Override
+        public float[] getHyperparameters() {
+            return new float[0];
+        }
+
+        @Override
+        boolean isPlainSgd() {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "SGD";
+        }
+    }
+
+    private static final class Momentum extends Optimizer {
+
+        private static final long serialVersionUID = 1L;
+
+        private final float mu;
+        private transient float[] velocity;
+
+        Momentum(float mu) {
+            this.mu = mu;
+        }
+
+        @Override
+        void prepare(int size) {
+            velocity = resize(velocity, size);
+        }
+
+        @Override
+        void update(float[] params, int paramOffset, float[] gradients, int gradientOffset,
+                    float scale, float lr, float maxGrad, int length) {
+            float[] v = velocity;
+            for (int i = 0; i < length; i++) {
+                int s = gradientOffset + i;
+                float g = clip(scale * gradients[s], maxGrad);
+                v[s] = mu * v[s] + g;
+                params[paramOffset + i] -= lr * v[s];
+            }
+        }
+
+        @Override
+        public Optimizer copy() {
+            Momentum copy = new Momentum(mu);
+            copy.velocity = copyOf(velocity);
+            return copy;
+        }
+
+        @Override
+        public Type getType() {
+            return Type.MOMENTUM;
+        }
+
+        @Override
+        public float[] getHyperparameters() {
+            return new float[] {mu};
+        }
+
+        @Override
+        public String toString() {
+            return "Momentum(mu=" + mu + ")";
+        }
+    }
+
+    private static final class RmsProp extends Optimizer {
+
+        private static final long serialVersionUID = 1L;
+
+        private final float rho;
+        private final float epsilon;
+        private transient float[] meanSquare;
+
+        RmsProp(float rho, float epsilon) {
+            this.rho = rho;
+            this.epsilon = epsilon;
+        }
+
+        @Override
+        void prepare(int size) {
+            meanSquare = resize(meanSquare, size);
+        }
+
+        @Override
+        void update(float[] params, int paramOffset, float[] gradients, int gradientOffset,
+                    float scale, float lr, float maxGrad, int length) {
+            float[] ms = meanSquare;
+            for (int i = 0; i < length; i++) {
+                int s = gradientOffset + i;
+                float g = clip(scale * gradients[s], maxGrad);
+                ms[s] = rho * ms[s] + (1 - rho) * g * g;
+                params[paramOffset + i] -= lr * g / ((float)Math.sqrt(ms[s]) + epsilon);
+            }
+        }
+
+        @Override
+        public Optimizer copy() {
+            RmsProp copy = new RmsProp(rho, epsilon);
+            copy.meanSquare = copyOf(meanSquare);
+            return copy;
+        }
+
+        @Override
+        public Type getType() {
+            return Type.RMS_PROP;
+        }
+
+        @Override
+        public float[] getHyperparameters() {
+            return new float[] {rho, epsilon};
+        }
+
+        @Override
+        public String toString() {
+            return "RMSProp(rho=" + rho + ", epsilon=" + epsilon + ")";
+        }
+    }
+
+    private static final class Adam extends Optimizer {
+
+        private static final long serialVersionUID = 1L;
+
+        private final float beta1;
+        private final float beta2;
+        private final float epsilon;
+
+        private transient float[] m;
+        private transient float[] v;
+        private transient int step;
+
+        // Bias corrections of the current step
+        private transient float correction1;
+        private transient float correction2;
+
+        Adam(float beta1, float beta2, float epsilon) {
+            this.beta1 = beta1;
+            this.beta2 = beta2;
+            this.epsilon = epsilon;
+        }
+
+        @Override
+        void prepare(int size) {
+            if (m == null || m.length != size) {
+                m = new float[size];
+                v = new float[size];
+                step = 0;
+            }
+        }
+
+        @Override
+        void beginStep() {
+            step++;
+            correction1 = (float)(1 / (1 - Math.pow(beta1, step)));
+            correction2 = (float)(1 / (1 - Math.pow(beta2, step)));
+        }
+
+        @Override
+        void update(float[] params, int paramOffset, float[] gradients, int gradientOffset,
+                    float scale, float lr, float maxGrad, int length) {
+            float c1 = correction1;
+            float c2 = correction2;
+            for (int i = 0; i < length; i++) {
+                int s = gradientOffset + i;
+                float g = clip(scale * gradients[s], maxGrad);
+                m[s] = beta1 * m[s] + (1 - beta1) * g;
+                v[s] = beta2 * v[s] + (1 - beta2) * g * g;
+                params[paramOffset + i] -= lr * (m[s] * c1) / ((float)Math.sqrt(v[s] * c2) + epsilon);
+            }
+        }
+
+        @Override
+        public Optimizer copy() {
+            Adam copy = new Adam(beta1, beta2, epsilon);
+            copy.m = copyOf(m);
+            copy.v = copyOf(v);
+            copy.step = step;
+            return copy;
+        }
+
+        @Override
+        public Type getType() {
+            return Type.ADAM;
+        }
+
+        @Override
+        public float[] getHyperparameters() {
+            return new float[] {beta1, beta2, epsilon};
+        }
+
+        @Override
+        public String toString() {
+            return "Adam(beta1=" + beta1 + ", beta2=" + beta2 + ", epsilon=" + epsilon + ")";
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package mg.rivolink.ai;
+
+import java.util.Random;
+
+// Sample order for one epoch, as a seeded permutation of row indices
+// The samples are never moved, training reads row get(i) at step i.
+// With blockSize > 1 only the order of blocks of consecutive rows is shuffled:
+// rows inside a block stay sequential, so reads from a memory-mapped file keep
+// their locality, and only one int per block is stored.
+public final class Permutation {
+
+    private final long size;
+    private final int blockSize;
+    private final Random random;
+
+    // Block order, one entry per block (per row when blockSize is 1)
+    private final int[] order;
+
+    // The last block may be short, lastLength rows at slot lastSlot
+    private final int lastLength;
+    private int lastSlot;
+
+    public Permutation(long size, long seed) {
+        this(size, 1, new Random(seed));
+    }
+
+    public Permutation(long size, int blockSize, Random random) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative: " + size);
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be at least 1: " + blockSize);
+        }
+
+        long blocks = (size + blockSize - 1) / blockSize;
+        if (blocks > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                "Too many rows to shuffle one by one: " + size + ", use a larger block size"
+            );
+        }
+
+        this.size = size;
+        this.blockSize = blockSize;
+        this.random = random;
+        this.order = new int[(int)blocks];
+        this.lastLength = (int)(size - (blocks - 1) * blockSize);
+        identity();
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    // New order for the next epoch, Fisher-Yates over the blocks
+    public void shuffle() {
+        identity();
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+
+        if (blockSize > 1) {
+            for (int i = 0; i < order.length; i++) {
+                if (order[i] == order.length - 1) {
+                    lastSlot = i;
+                    break;
+                }
+            }
+        }
+    }
+
+    // Row read at step position of the epoch
+    public long get(long position) {
+        if (blockSize == 1) {
+            return order[(int)position];
+        }
+
+        // Slots after the short last block are shifted by its missing rows
+        long lastStart = (long)lastSlot * blockSize;
+        if (position < lastStart) {
+            return (long)order[(int)(position / blockSize)] * blockSize + position % blockSize;
+        }
+        if (position < lastStart + lastLength) {
+            return (long)(order.length - 1) * blockSize + (position - lastStart);
+        }
+
+        long shifted = position - lastStart - lastLength;
+        int slot = lastSlot + 1 + (int)(shifted / blockSize);
+        return (long)order[slot] * blockSize + shifted % blockSize;
+    }
+
+    private void identity() {
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        lastSlot = order.length - 1;
+    }
+
+}
@@ -0,0 +1,173 @@
+package mg.rivolink.ai;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Memoized outputs of Network.predict, keyed by the exact input bits
+// Set-associative over flat arrays: an input hashes to one set of WAYS slots,
+// a full set replaces its least recently used slot. Entries carry the
+// network's weight version and stop matching once the weights change.
+public final class PredictionCache {
+
+    private static final int WAYS = 8;
+    private static final int MAX_STRIPES = 64;
+
+    private final int inputSize;
+    private final int outputSize;
+    private final int setMask;
+
+    // Per slot: key floats, output floats, key hash, weight version + 1 (0 = empty), last use
+    private final float[] keys;
+    private final float[] values;
+    private final int[] hashes;
+    private final long[] versions;
+    private final long[] lastUse;
+
+    // Per set use counter and striped locks over the sets
+    private final long[] ticks;
+    private final Object[] locks;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    PredictionCache(int capacity, int inputSize, int outputSize) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Cache capacity must be at least 1: " + capacity);
+        }
+
+        int sets = Math.max(1, Integer.highestOneBit((capacity + WAYS - 1) / WAYS - 1) << 1);
+        int slots = sets * WAYS;
+
+        this.inputSize = inputSize;
+        this.outputSize = outputSize;
+        this.setMask = sets - 1;
+        this.keys = new float[slots * inputSize];
+        this.values = new float[slots * outputSize];
+        this.hashes = new int[slots];
+        this.versions = new long[slots];
+        this.lastUse = new long[slots];
+        this.ticks = new long[sets];
+
+        this.locks = new Object[Math.min(sets, MAX_STRIPES)];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    // Slots, the capacity rounded up to whole sets
+    public int getCapacity() {
+        return hashes.length;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double)h / total;
+    }
+
+    public void clear() {
+        for (int set = 0; set <= setMask; set++) {
+            synchronized (lock(set)) {
+                for (int w = 0; w < WAYS; w++) {
+                    versions[set * WAYS + w] = 0;
+                }
+            }
+        }
+    }
+
+    // Copies the cached outputs for inputs at version into outputs, false on a miss
+    boolean get(float[] inputs, long version, float[] outputs) {
+        int hash = hash(inputs);
+        int set = hash & setMask;
+
+        synchronized (lock(set)) {
+            int slot = find(inputs, hash, set, version);
+            if (slot >= 0) {
+                lastUse[slot] = ++ticks[set];
+                System.arraycopy(values, slot * outputSize, outputs, 0, outputSize);
+                hits.increment();
+                return true;
+            }
+        }
+
+        misses.increment();
+        return false;
+    }
+
+    void put(float[] inputs, long version, float[] outputs) {
+        int hash = hash(inputs);
+        int set = hash & setMask;
+
+        synchronized (lock(set)) {
+            int slot = find(inputs, hash, set, version);
+            if (slot < 0) {
+                slot = victim(set, version);
+                System.arraycopy(inputs, 0, keys, slot * inputSize, inputSize);
+                hashes[slot] = hash;
+                versions[slot] = version + 1;
+            }
+            System.arraycopy(outputs, 0, values, slot * outputSize, outputSize);
+            lastUse[slot] = ++ticks[set];
+        }
+    }
+
+    private Object lock(int set) {
+        return locks[set & (locks.length - 1)];
+    }
+
+    private int find(float[] inputs, int hash, int set, long version) {
+        for (int w = 0; w < WAYS; w++) {
+            int slot = set * WAYS + w;
+            if (versions[slot] == version + 1 && hashes[slot] == hash && keyEquals(inputs, slot)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    // Empty or stale slots first, then the least recently used one
+    private int victim(int set, long version) {
+        int victim = set * WAYS;
+        for (int w = 0; w < WAYS; w++) {
+            int slot = set * WAYS + w;
+            if (versions[slot] != version + 1) {
+                return slot;
+            }
+            if (lastUse[slot] < lastUse[victim]) {
+                victim = slot;
+            }
+        }
+        return victim;
+    }
+
+    private boolean keyEquals(float[] inputs, int slot) {
+        int offset = slot * inputSize;
+        for (int i = 0; i < inputSize; i++) {
+            if (Float.floatToIntBits(keys[offset + i]) != Float.floatToIntBits(inputs[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Hash of the float bits, finalized with the murmur3 mixer
+    static int hash(float[] inputs) {
+        int h = 0x9747B28C;
+        for (float x : inputs) {
+            h = 31 * h + Float.floatToIntBits(x);
+        }
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+
+}
@@ -0,0 +1,198 @@
+package mg.rivolink.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Magnitude pruning: the smallest |w| of a trained network are set to zero,
+// either over all layers at once or to the same sparsity in every layer.
+// Biases are never pruned. The returned mask keeps pruned weights at zero
+// while fine-tuning.
+public final class Pruning {
+
+    public enum Scope {
+        GLOBAL, PER_LAYER
+    }
+
+    private Pruning() {
+    }
+
+    public static Mask prune(Network network, float sparsity, Scope scope) {
+        if (sparsity < 0 || sparsity > 1) {
+            throw new IllegalArgumentException("Sparsity must be in [0, 1]: " + sparsity);
+        }
+
+        Layer[] layers = network.getLayers();
+        boolean[][] keep = new boolean[layers.length][];
+
+        if (scope == Scope.GLOBAL) {
+            int total = 0;
+            for (Layer layer : layers) {
+                total += layer.weights.length;
+            }
+
+            float[] magnitudes = new float[total];
+            int offset = 0;
+            for (Layer layer : layers) {
+                for (float w : layer.weights) {
+                    magnitudes[offset++] = Math.abs(w);
+                }
+            }
+
+            float threshold = threshold(magnitudes, sparsity);
+            for (int l = 0; l < layers.length; l++) {
+                keep[l] = keepAbove(layers[l].weights, threshold);
+            }
+        } else {
+            for (int l = 0; l < layers.length; l++) {
+                float[] weights = layers[l].weights;
+                float[] magnitudes = new float[weights.length];
+                for (int i = 0; i < weights.length; i++) {
+                    magnitudes[i] = Math.abs(weights[i]);
+                }
+                keep[l] = keepAbove(weights, threshold(magnitudes, sparsity));
+            }
+        }
+
+        Mask mask = new Mask(keep);
+        mask.apply(network);
+        return mask;
+    }
+
+    // Per-sample training with the mask re-applied after every update
+    public static void fineTune(Network network, Mask mask, float[][] xtrains, float[][] ytrains, int epochs) {
+        int size = Math.min(xtrains.length, ytrains.length);
+        for (int epoch = 0; epoch < epochs; epoch++) {
+            for (int i = 0; i < size; i++) {
+                network.train(xtrains[i], ytrains[i]);
+                mask.apply(network);
+            }
+        }
+    }
+
+    // Prunes copies of a trained network to each sparsity, fine-tunes them and
+    // measures top-1 accuracy on the test set before and after fine-tuning
+    public static List<Point> sweep(Network trained, float[] sparsities, Scope scope,
+                                    float[][] xtrains, float[][] ytrains, int fineTuneEpochs,
+                                    float[][] xtests, float[][] ytests) {
+        List<Point> points = new ArrayList<Point>();
+        float baseline = accuracy(trained, xtests, ytests);
+
+        for (float sparsity : sparsities) {
+            Network network = trained.copy();
+            Mask mask = prune(network, sparsity, scope);
+            float pruned = accuracy(network, xtests, ytests);
+
+            fineTune(network, mask, xtrains, ytrains, fineTuneEpochs);
+            float fineTuned = accuracy(network, xtests, ytests);
+
+            points.add(new Point(mask.getSparsity(), baseline, pruned, fineTuned));
+        }
+        return points;
+    }
+
+    // Fraction of samples whose largest output matches the largest target
+    public static float accuracy(Network network, float[][] xtests, float[][] ytests) {
+        int size = Math.min(xtests.length, ytests.length);
+        if (size == 0) {
+            return 0;
+        }
+
+        int correct = 0;
+        for (int i = 0; i < size; i++) {
+            if (Replicas.argmax(network.predict(xtests[i])) == Replicas.argmax(ytests[i])) {
+                correct++;
+            }
+        }
+        return (float)correct / size;
+    }
+
+    // Magnitude at or below which a sparsity fraction of the values falls
+    private static float threshold(float[] magnitudes, float sparsity) {
+        int count = (int)(sparsity * magnitudes.length);
+        if (count == 0) {
+            return -1;
+        }
+
+        Arrays.sort(magnitudes);
+        return magnitudes[count - 1];
+    }
+
+    private static boolean[] keepAbove(float[] weights, float threshold) {
+        boolean[] keep = new boolean[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            keep[i] = Math.abs(weights[i]) > threshold;
+        }
+        return keep;
+    }
+
+    // Surviving weights per layer, aligned with Layer.weights
+    public static final class Mask {
+
+        private final boolean[][] keep;
+
+        Mask(boolean[][] keep) {
+            this.keep = keep;
+        }
+
+        public void apply(Network network) {
+            Layer[] layers = network.getLayers();
+            if (layers.length != keep.length) {
+                throw new IllegalArgumentException("Network sizes don't match");
+            }
+
+            for (int l = 0; l < layers.length; l++) {
+                float[] weights = layers[l].weights;
+                boolean[] kept = keep[l];
+                if (weights.length != kept.length) {
+                    throw new IllegalArgumentException("Layer sizes don't match");
+                }
+
+                for (int i = 0; i < weights.length; i++) {
+                    if (!kept[i]) {
+                        weights[i] = 0;
+                    }
+                }
+            }
+            network.markWeightsChanged();
+        }
+
+        // Fraction of pruned weights over all layers
+        public float getSparsity() {
+            long pruned = 0;
+            long total = 0;
+            for (boolean[] kept : keep) {
+                for (boolean k : kept) {
+                    if (!k) {
+                        pruned++;
+                    }
+                }
+                total += kept.length;
+            }
+            return total == 0 ? 0 : (float)pruned / total;
+        }
+    }
+
+    // One row of a sparsity / accuracy sweep
+    public static final class Point {
+
+        public final float sparsity;
+        public final float denseAccuracy;
+        public final float prunedAccuracy;
+        public final float fineTunedAccuracy;
+
+        Point(float sparsity, float denseAccuracy, float prunedAccuracy, float fineTunedAccuracy) {
+            this.sparsity = sparsity;
+            this.denseAccuracy = denseAccuracy;
+            this.prunedAccuracy = prunedAccuracy;
+            this.fineTunedAccuracy = fineTunedAccuracy;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("sparsity=%.1f%%, dense=%.2f%%, pruned=%.2f%%, fine-tuned=%.2f%%",
+                sparsity * 100, denseAccuracy * 100, prunedAccuracy * 100, fineTunedAccuracy * 100);
+        }
+    }
+
+}
@@ -0,0 +1,237 @@
+package mg.rivolink.ai;
+
+import java.io.Serializable;
+
+import mg.rivolink.ai.Neuron.Activation;
+
+// Inference-only int8 copy of a trained Network
+// Weights are quantized per row (one float scale per neuron), layer inputs with
+// one scale per layer taken from a calibration pass over sample inputs. Dot
+// products accumulate in int32 and are dequantized once per neuron, where the
+// activation needs a float.
+public class QuantizedNetwork implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public final int inputSize;
+    public final int outputSize;
+
+    private final QuantizedLayer[] layers;
+
+    // Per-thread activations and quantized layer inputs
+    private final Replicas.Scratch scratch;
+
+    private QuantizedNetwork(QuantizedLayer[] layers) {
+        this.layers = layers;
+        this.inputSize = layers[0].inputSize;
+        this.outputSize = layers[layers.length - 1].neuronCount;
+
+        int[] sizes = new int[layers.length];
+        int widestInput = 0;
+        for (int l = 0; l < layers.length; l++) {
+            sizes[l] = layers[l].neuronCount;
+            widestInput = Math.max(widestInput, layers[l].inputSize);
+        }
+        this.scratch = new Replicas.Scratch(sizes, widestInput);
+    }
+
+    // Calibrates activation ranges on the given inputs, then quantizes the weights
+    public static QuantizedNetwork quantize(Network network, float[][] calibrationInputs) {
+        if (calibrationInputs.length == 0) {
+            throw new IllegalArgumentException("Calibration needs at least one sample");
+        }
+
+        Layer[] source = network.getLayers();
+        float[] maxAbs = new float[source.length];
+
+        Workspace workspace = network.newWorkspace();
+        for (float[] inputs : calibrationInputs) {
+            network.predict(inputs, workspace);
+
+            maxAbs[0] = Math.max(maxAbs[0], maxAbs(inputs));
+            for (int l = 1; l < source.length; l++) {
+                maxAbs[l] = Math.max(maxAbs[l], maxAbs(workspace.outputs[l - 1]));
+            }
+        }
+
+        QuantizedLayer[] layers = new QuantizedLayer[source.length];
+        for (int l = 0; l < source.length; l++) {
+            layers[l] = new QuantizedLayer(source[l], maxAbs[l]);
+        }
+        return new QuantizedNetwork(layers);
+    }
+
+    public float[] predict(float[] inputs) {
+        float[] outputs = new float[outputSize];
+        predictInto(inputs, outputs);
+        return outputs;
+    }
+
+    public void predictInto(float[] inputs, float[] outputs) {
+        Replicas.checkSizes(inputs, inputSize, outputs, outputSize);
+
+        Replicas.Buffers local = scratch.get();
+        float[][] buffers = local.activations;
+        byte[] quantized = local.bytes;
+
+        float[] current = inputs;
+        for (int l = 0; l < layers.length; l++) {
+            float[] next = l == layers.length - 1 ? outputs : buffers[l];
+            layers[l].forward(current, quantized, next);
+            current = next;
+        }
+    }
+
+    // Bytes held by weights, scales and biases
+    public long getWeightBytes() {
+        long bytes = 0;
+        for (QuantizedLayer layer : layers) {
+            bytes += layer.weights.length + 4L * (layer.rowScales.length + layer.biases.length);
+        }
+        return bytes;
+    }
+
+    // Output deviation from the float model on the given inputs
+    public AccuracyReport compare(Network reference, float[][] inputs) {
+        float maxError = 0;
+        double sumError = 0;
+        int values = 0;
+        int agreements = 0;
+
+        float[] quantized = new float[outputSize];
+        for (float[] input : inputs) {
+            float[] expected = reference.predict(input);
+            predictInto(input, quantized);
+
+            for (int i = 0; i < outputSize; i++) {
+                float error = Math.abs(expected[i] - quantized[i]);
+                maxError = Math.max(maxError, error);
+                sumError += error;
+                values++;
+            }
+            if (Replicas.argmax(expected) == Replicas.argmax(quantized)) {
+                agreements++;
+            }
+        }
+
+        long floatBytes = 0;
+        for (Layer layer : reference.getLayers()) {
+            floatBytes += 4L * (layer.weights.length + layer.biases.length);
+        }
+
+        return new AccuracyReport(inputs.length, maxError,
+            values == 0 ? 0 : (float)(sumError / values),
+            inputs.length == 0 ? 1 : (float)agreements / inputs.length,
+            floatBytes, getWeightBytes());
+    }
+
+    private static float maxAbs(float[] values) {
+        float max = 0;
+        for (float value : values) {
+            max = Math.max(max, Math.abs(value));
+        }
+        return max;
+    }
+
+    // Symmetric int8 in [-127, 127]: value ~ q * scale
+    private static final class QuantizedLayer implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        final int inputSize;
+        final int neuronCount;
+
+        final byte[] weights;
+        final float[] rowScales;
+        final float[] biases;
+
+        // Calibrated input step, and its inverse for quantizing
+        final float inputScale;
+        final float inverseInputScale;
+
+        final Activation activation;
+        final boolean fast;
+
+        QuantizedLayer(Layer layer, float inputRange) {
+            this.inputSize = layer.inputSize;
+            this.neuronCount = layer.neuronCount;
+            this.weights = new byte[layer.weights.length];
+            this.rowScales = new float[neuronCount];
+            this.biases = layer.biases.clone();
+            this.inputScale = inputRange > 0 ? inputRange / 127f : 1f;
+            this.inverseInputScale = 1 / inputScale;
+            this.activation = layer.getActivation();
+            this.fast = layer.getPrecision() == Network.Precision.FAST;
+
+            for (int i = 0; i < neuronCount; i++) {
+                int offset = i * inputSize;
+
+                float max = 0;
+                for (int j = 0; j < inputSize; j++) {
+                    max = Math.max(max, Math.abs(layer.weights[offset + j]));
+                }
+
+                float scale = max > 0 ? max / 127f : 1f;
+                rowScales[i] = scale;
+                for (int j = 0; j < inputSize; j++) {
+                    weights[offset + j] = quantize(layer.weights[offset + j] / scale);
+                }
+            }
+        }
+
+        void forward(float[] inputs, byte[] quantized, float[] outputs) {
+            // Inputs outside the calibrated range saturate
+            for (int j = 0; j < inputSize; j++) {
+                quantized[j] = quantize(inputs[j] * inverseInputScale);
+            }
+
+            for (int i = 0; i < neuronCount; i++) {
+                int acc = Kernels.dot(quantized, 0, weights, i * inputSize, inputSize);
+                float z = acc * inputScale * rowScales[i] + biases[i];
+                outputs[i] = Activations.apply(z, activation, fast);
+            }
+
+            if (activation == Activation.SOFTMAX) {
+                Layer.applySoftmax(outputs, 0, neuronCount, fast);
+            }
+        }
+
+        private static byte quantize(float value) {
+            return (byte)Math.max(-127, Math.min(127, Math.round(value)));
+        }
+    }
+
+    // Quantized vs float model over an evaluation set
+    public static final class AccuracyReport {
+
+        public final int samples;
+        public final float maxAbsError;
+        public final float meanAbsError;
+
+        // Fraction of samples where both models pick the same top output
+        public final float top1Agreement;
+
+        public final long floatWeightBytes;
+        public final long quantizedWeightBytes;
+
+        AccuracyReport(int samples, float maxAbsError, float meanAbsError, float top1Agreement,
+                       long floatWeightBytes, long quantizedWeightBytes) {
+            this.samples = samples;
+            this.maxAbsError = maxAbsError;
+            this.meanAbsError = meanAbsError;
+            this.top1Agreement = top1Agreement;
+            this.floatWeightBytes = floatWeightBytes;
+            this.quantizedWeightBytes = quantizedWeightBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "samples=%d, maxAbsError=%.5f, meanAbsError=%.5f, top1Agreement=%.2f%%, weights=%d -> %d bytes (%.2fx)",
+                samples, maxAbsError, meanAbsError, top1Agreement * 100,
+                floatWeightBytes, quantizedWeightBytes, (double)floatWeightBytes / quantizedWeightBytes
+            );
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+package mg.rivolink.ai;
+
+import java.io.Serializable;
+
+// Plumbing shared by the inference-only replicas of a Network
+// (QuantizedNetwork, HalfPrecisionNetwork, SparseNetwork). Their predict is
+// thread-safe and returns a new array, predictInto fills the caller's.
+final class Replicas {
+
+    private Replicas() {
+    }
+
+    // Per-thread scratch: one activation buffer per layer, plus byteCapacity
+    // bytes for replicas that re-encode layer inputs. Only the sizes are
+    // serialized, the ThreadLocal is rebuilt on first use.
+    static final class Scratch implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] layerSizes;
+        private final int byteCapacity;
+
+        private transient volatile ThreadLocal<Buffers> local;
+
+        Scratch(int[] layerSizes, int byteCapacity) {
+            this.layerSizes = layerSizes.clone();
+            this.byteCapacity = byteCapacity;
+        }
+
+        Buffers get() {
+            ThreadLocal<Buffers> current = local;
+            if (current == null) {
+                synchronized (this) {
+                    current = local;
+                    if (current == null) {
+                        current = new ThreadLocal<Buffers>() {
+                            @Override
+                            protected Buffers initialValue() {
+                                return new Buffers(layerSizes, byteCapacity);
+                            }
+                        };
+                        local = current;
+                    }
+                }
+            }
+            return current.get();
+        }
+    }
+
+    static final class Buffers {
+
+        final float[][] activations;
+        final byte[] bytes;
+
+        Buffers(int[] layerSizes, int byteCapacity) {
+            this.activations = new float[layerSizes.length][];
+            for (int l = 0; l < layerSizes.length; l++) {
+                activations[l] = new float[layerSizes[l]];
+            }
+            this.bytes = new byte[byteCapacity];
+        }
+    }
+
+    static void checkSizes(float[] inputs, int inputSize, float[] outputs, int outputSize) {
+        if (inputs.length != inputSize) {
+            throw new IllegalArgumentException(
+                "Input size mismatch: expected " + inputSize + ", got " + inputs.length
+            );
+        }
+        if (outputs.length != outputSize) {
+            throw new IllegalArgumentException(
+                "Output size mismatch: expected " + outputSize + ", got " + outputs.length
+            );
+        }
+    }
+
+    static int argmax(float[] values) {
+        int best = 0;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] > values[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+}
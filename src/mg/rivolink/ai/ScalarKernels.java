@@ -0,0 +1,77 @@
+package mg.rivolink.ai;
+
+// Portable scalar loops, the reference for every kernel
+final class ScalarKernels {
+
+    private ScalarKernels() {
+    }
+
+    static float dot(float[] x, int xOffset, float[] w, int wOffset, int length) {
+        float dot = 0;
+        for (int i = 0; i < length; i++) {
+            dot += x[xOffset + i] * w[wOffset + i];
+        }
+        return dot;
+    }
+
+    static void dot4(float[] x, int xOffset, float[] w, int wOffset, int wStride,
+                     int length, float[] out) {
+        out[0] = dot(x, xOffset, w, wOffset, length);
+        out[1] = dot(x, xOffset, w, wOffset + wStride, length);
+        out[2] = dot(x, xOffset, w, wOffset + 2 * wStride, length);
+        out[3] = dot(x, xOffset, w, wOffset + 3 * wStride, length);
+    }
+
+    static void axpy(float a, float[] x, int xOffset, float[] y, int yOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            y[yOffset + i] += a * x[xOffset + i];
+        }
+    }
+
+    static void sgd(float[] w, int wOffset, float[] x, int xOffset,
+                    float delta, float lr, float maxGrad, int length) {
+        for (int i = 0; i < length; i++) {
+            float grad = Math.max(-maxGrad, Math.min(maxGrad, delta * x[xOffset + i]));
+            w[wOffset + i] -= lr * grad;
+        }
+    }
+
+    static void sgd(float[] w, int wOffset, float[] g, int gOffset, float[] x, int xOffset,
+                    float lr, float maxGrad, int length) {
+        for (int i = 0; i < length; i++) {
+            float grad = Math.max(-maxGrad, Math.min(maxGrad, g[gOffset + i] * x[xOffset + i]));
+            w[wOffset + i] -= lr * grad;
+        }
+    }
+
+    static void lerp(float[] dst, int dstOffset, float[] src, int srcOffset, float tau, int length) {
+        for (int i = 0; i < length; i++) {
+            dst[dstOffset + i] = tau * src[srcOffset + i] + (1 - tau) * dst[dstOffset + i];
+        }
+    }
+
+    static int dot(byte[] x, int xOffset, byte[] w, int wOffset, int length) {
+        int dot = 0;
+        for (int i = 0; i < length; i++) {
+            dot += x[xOffset + i] * w[wOffset + i];
+        }
+        return dot;
+    }
+
+    static float dotFp16(float[] x, int xOffset, char[] w, int wOffset, int length) {
+        float dot = 0;
+        for (int i = 0; i < length; i++) {
+            dot += x[xOffset + i] * HalfFloats.fromFp16(w[wOffset + i]);
+        }
+        return dot;
+    }
+
+    static float dotBf16(float[] x, int xOffset, char[] w, int wOffset, int length) {
+        float dot = 0;
+        for (int i = 0; i < length; i++) {
+            dot += x[xOffset + i] * HalfFloats.fromBf16(w[wOffset + i]);
+        }
+        return dot;
+    }
+
+}
@@ -0,0 +1,64 @@
+package mg.rivolink.ai;
+
+// Input vector stored as its non-zero entries
+// indices are strictly increasing positions in [0, size), values[k] belongs
+// to indices[k]. The arrays are used as given, not copied.
+public final class SparseVector {
+
+    public final int size;
+    public final int[] indices;
+    public final float[] values;
+
+    public SparseVector(int size, int[] indices, float[] values) {
+        if (indices.length != values.length) {
+            throw new IllegalArgumentException("Array lengths must match");
+        }
+
+        int previous = -1;
+        for (int index : indices) {
+            if (index <= previous || index >= size) {
+                throw new IllegalArgumentException(
+                    "Indices must be strictly increasing in [0, " + size + "), got " + index
+                );
+            }
+            previous = index;
+        }
+
+        this.size = size;
+        this.indices = indices;
+        this.values = values;
+    }
+
+    public static SparseVector fromDense(float[] dense) {
+        int count = 0;
+        for (float value : dense) {
+            if (value != 0) {
+                count++;
+            }
+        }
+
+        int[] indices = new int[count];
+        float[] values = new float[count];
+        for (int j = 0, k = 0; j < dense.length; j++) {
+            if (dense[j] != 0) {
+                indices[k] = j;
+                values[k] = dense[j];
+                k++;
+            }
+        }
+        return new SparseVector(dense.length, indices, values);
+    }
+
+    public int nonZeros() {
+        return indices.length;
+    }
+
+    public float[] toDense() {
+        float[] dense = new float[size];
+        for (int k = 0; k < indices.length; k++) {
+            dense[indices[k]] = values[k];
+        }
+        return dense;
+    }
+
+}
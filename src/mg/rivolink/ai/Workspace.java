@@ -0,0 +1,74 @@
+package mg.rivolink.ai;
+
+// Scratch buffers for one caller of a Network
+// A workspace is never shared between threads; the network itself stays read-only
+// during inference, so any number of workspaces can run against one instance
+public class Workspace {
+
+    // Per layer, in forward order
+    final float[][] zValues;
+    final float[][] outputs;
+
+    // Training: back-propagated deltas per layer, input and target buffers
+    final float[][] deltas;
+    final float[] inputs;
+    final float[] target;
+
+    // Per-sample gradients for stateful optimizers, allocated on first use
+    Gradients gradients;
+
+    // Batch buffers, allocated on first predictBatch
+    float[] batchInputs;
+    float[] batchOutputs;
+    float[][] batchHidden;
+
+    // Four partial sums of Gemm's one-sample, four-neuron tile
+    final float[] dots = new float[4];
+
+    public Workspace(Network network) {
+        Layer[] layers = network.getLayers();
+
+        this.zValues = new float[layers.length][];
+        this.outputs = new float[layers.length][];
+        this.deltas = new float[layers.length][];
+
+        for (int l = 0; l < layers.length; l++) {
+            zValues[l] = new float[layers[l].neuronCount];
+            outputs[l] = new float[layers[l].neuronCount];
+            deltas[l] = new float[layers[l].neuronCount];
+        }
+        this.inputs = new float[layers[0].inputSize];
+        this.target = new float[layers[layers.length - 1].neuronCount];
+    }
+
+    // Output of the last forward pass, owned by this workspace
+    public float[] getOutputs() {
+        return outputs[outputs.length - 1];
+    }
+
+    boolean fits(Layer[] layers) {
+        if (layers.length != outputs.length) {
+            return false;
+        }
+        for (int l = 0; l < layers.length; l++) {
+            if (outputs[l].length != layers[l].neuronCount) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void ensureBatchCapacity(Layer[] layers, int chunk) {
+        if (batchHidden != null) {
+            return;
+        }
+
+        batchInputs = new float[chunk * layers[0].inputSize];
+        batchOutputs = new float[chunk * layers[layers.length - 1].neuronCount];
+        batchHidden = new float[layers.length - 1][];
+        for (int l = 0; l < batchHidden.length; l++) {
+            batchHidden[l] = new float[chunk * layers[l].neuronCount];
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package mg.rivolink.io;
+
+// Count-min sketch of access frequencies for TinyLFU admission
+// Counters saturate at 15 and are all halved every sampleSize increments,
+// so the estimate follows recent popularity instead of all-time counts.
+// Not thread-safe, callers synchronize.
+final class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = { 0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F };
+
+    private final byte[][] counters;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int width) {
+        int size = Math.max(16, Integer.highestOneBit(width - 1) << 1);
+        this.counters = new byte[DEPTH][size];
+        this.mask = size - 1;
+        this.sampleSize = 10 * size;
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        for (int d = 0; d < DEPTH; d++) {
+            int index = index(hash, d);
+            if (counters[d][index] < MAX_COUNT) {
+                counters[d][index]++;
+            }
+        }
+
+        if (++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int min = MAX_COUNT;
+        for (int d = 0; d < DEPTH; d++) {
+            min = Math.min(min, counters[d][index(hash, d)]);
+        }
+        return min;
+    }
+
+    // Aging: halve every counter
+    private void reset() {
+        for (byte[] row : counters) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>= 1;
+            }
+        }
+        additions /= 2;
+    }
+
+    private int index(int hash, int depth) {
+        int h = hash * SEEDS[depth];
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x45D9F3B;
+        return hash ^ (hash >>> 16);
+    }
+
+}
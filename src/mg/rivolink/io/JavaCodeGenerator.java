@@ -0,0 +1,379 @@
+package mg.rivolink.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+
+import mg.rivolink.ai.Layer;
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+
+// Emits a standalone Java class computing predict for one trained network
+// The generated class only uses java.lang/java.nio/java.util: weights are
+// embedded, layer sizes are constants and activations are inlined. Networks
+// up to UNROLL_LIMIT multiply-adds per layer are fully unrolled into locals
+// with literal weights; larger ones get fixed-bound loops over static arrays.
+// Activations follow Precision.EXACT, whatever the network's precision.
+public final class JavaCodeGenerator {
+
+    // Largest layer (inputs x neurons) that is unrolled
+    public static final int UNROLL_LIMIT = 256;
+
+    // Arrays longer than this are embedded as Base64 instead of literals,
+    // keeping the static initializer under the 64 KB method limit
+    private static final int LITERAL_ARRAY_LIMIT = 1024;
+
+    // Below the 65535 byte limit of a string constant
+    private static final int BASE64_CHUNK = 48000;
+
+    private JavaCodeGenerator() {
+    }
+
+    // Writes sourceRoot/<package path>/<Name>.java, returns its path
+    public static Path write(Network network, String qualifiedClassName, String sourceRoot) throws IOException {
+        Path path = Paths.get(sourceRoot, qualifiedClassName.replace('.', '/') + ".java");
+        Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(path, generate(network, qualifiedClassName).getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    public static String generate(Network network, String qualifiedClassName) {
+        checkClassName(qualifiedClassName);
+
+        int dot = qualifiedClassName.lastIndexOf('.');
+        String packageName = dot < 0 ? null : qualifiedClassName.substring(0, dot);
+        String className = qualifiedClassName.substring(dot + 1);
+
+        Layer[] layers = network.hiddenLayer2 != null
+            ? new Layer[] {network.hiddenLayer1, network.hiddenLayer2, network.outputLayer}
+            : new Layer[] {network.hiddenLayer1, network.outputLayer};
+
+        boolean unrolled = true;
+        for (Layer layer : layers) {
+            unrolled &= (long)layer.inputSize * layer.neuronCount <= UNROLL_LIMIT;
+        }
+
+        Source out = new Source();
+        if (packageName != null) {
+            out.line("package " + packageName + ";");
+            out.line();
+        }
+
+        out.line("// Generated by " + JavaCodeGenerator.class.getName() + " from a "
+            + topology(network, layers) + " network, do not edit");
+        out.line("public final class " + className + " {");
+        out.indent();
+        out.line();
+        out.line("public static final int INPUT_SIZE = " + network.inputSize + ";");
+        out.line("public static final int OUTPUT_SIZE = " + network.outputLayer.neuronCount + ";");
+
+        if (!unrolled) {
+            out.line();
+            for (int l = 0; l < layers.length; l++) {
+                array(out, "W" + l, layers[l].weights);
+                array(out, "B" + l, layers[l].biases);
+            }
+        }
+
+        out.line();
+        out.line("private " + className + "() {");
+        out.line("}");
+        out.line();
+        out.line("public static float[] predict(float[] x) {");
+        out.indent();
+        out.line("float[] y = new float[OUTPUT_SIZE];");
+        out.line("predictInto(x, y);");
+        out.line("return y;");
+        out.outdent();
+        out.line("}");
+        out.line();
+        out.line("public static void predictInto(float[] x, float[] y) {");
+        out.indent();
+        out.line("if (x.length != INPUT_SIZE || y.length < OUTPUT_SIZE) {");
+        out.indent();
+        out.line("throw new IllegalArgumentException(\"Expected \" + INPUT_SIZE + \" inputs and \" + OUTPUT_SIZE + \" outputs\");");
+        out.outdent();
+        out.line("}");
+
+        if (unrolled) {
+            unrolledBody(out, layers);
+        } else {
+            loopedBody(out, layers);
+        }
+
+        out.outdent();
+        out.line("}");
+
+        if (!unrolled) {
+            for (int l = 0; l < layers.length; l++) {
+                layerMethod(out, l, layers[l]);
+            }
+            if (needsBase64(layers)) {
+                decodeMethod(out);
+            }
+        }
+
+        out.outdent();
+        out.line();
+        out.line("}");
+        return out.toString();
+    }
+
+    // Hidden values as locals h<layer>_<neuron>, weights as literals
+    private static void unrolledBody(Source out, Layer[] layers) {
+        int last = layers.length - 1;
+        for (int l = 0; l <= last; l++) {
+            Layer layer = layers[l];
+            out.line();
+            out.line("// Layer " + l + ": " + layer.inputSize + " -> " + layer.neuronCount + " " + layer.getActivation());
+
+            boolean softmax = layer.getActivation() == Activation.SOFTMAX;
+            for (int i = 0; i < layer.neuronCount; i++) {
+                StringBuilder z = new StringBuilder();
+                for (int j = 0; j < layer.inputSize; j++) {
+                    if (j > 0) {
+                        z.append(" + ");
+                    }
+                    z.append(l == 0 ? "x[" + j + "]" : "h" + (l - 1) + "_" + j);
+                    z.append(" * ").append(literal(layer.weights[i * layer.inputSize + j]));
+                }
+                String sum = layer.inputSize == 0
+                    ? literal(layer.biases[i])
+                    : "(" + z + ") + " + literal(layer.biases[i]);
+                out.line("float z" + l + "_" + i + " = " + sum + ";");
+
+                String target = l == last && !softmax ? "y[" + i + "]" : "float h" + l + "_" + i;
+                out.line(target + " = " + activation("z" + l + "_" + i, layer.getActivation()) + ";");
+            }
+
+            if (softmax) {
+                unrolledSoftmax(out, l, layer.neuronCount, l == last);
+            }
+        }
+    }
+
+    private static void unrolledSoftmax(Source out, int l, int n, boolean last) {
+        out.line("float max" + l + " = h" + l + "_0;");
+        for (int i = 1; i < n; i++) {
+            out.line("if (h" + l + "_" + i + " > max" + l + ") max" + l + " = h" + l + "_" + i + ";");
+        }
+        for (int i = 0; i < n; i++) {
+            out.line("h" + l + "_" + i + " = (float)Math.exp(h" + l + "_" + i + " - max" + l + ");");
+        }
+
+        StringBuilder sum = new StringBuilder("float sum" + l + " = 0f");
+        for (int i = 0; i < n; i++) {
+            sum.append(" + h").append(l).append('_').append(i);
+        }
+        out.line(sum + ";");
+
+        for (int i = 0; i < n; i++) {
+            String target = last ? "y[" + i + "]" : "h" + l + "_" + i;
+            out.line(target + " = h" + l + "_" + i + " / sum" + l + ";");
+        }
+    }
+
+    private static void loopedBody(Source out, Layer[] layers) {
+        out.line();
+        String input = "x";
+        for (int l = 0; l < layers.length; l++) {
+            String output = l == layers.length - 1 ? "y" : "h" + l;
+            if (l < layers.length - 1) {
+                out.line("float[] " + output + " = new float[" + layers[l].neuronCount + "];");
+            }
+            out.line("layer" + l + "(" + input + ", " + output + ");");
+            input = output;
+        }
+    }
+
+    // Fixed-bound loops, one method per layer so each one gets compiled on its own
+    private static void layerMethod(Source out, int l, Layer layer) {
+        int n = layer.neuronCount;
+        int k = layer.inputSize;
+
+        out.line();
+        out.line("// " + k + " -> " + n + " " + layer.getActivation());
+        out.line("private static void layer" + l + "(float[] x, float[] y) {");
+        out.indent();
+        out.line("for (int i = 0; i < " + n + "; i++) {");
+        out.indent();
+        out.line("int row = i * " + k + ";");
+        out.line("float z = 0f;");
+        out.line("for (int j = 0; j < " + k + "; j++) {");
+        out.indent();
+        out.line("z += x[j] * W" + l + "[row + j];");
+        out.outdent();
+        out.line("}");
+        out.line("z = z + B" + l + "[i];");
+        out.line("y[i] = " + activation("z", layer.getActivation()) + ";");
+        out.outdent();
+        out.line("}");
+
+        if (layer.getActivation() == Activation.SOFTMAX) {
+            out.line("float max = y[0];");
+            out.line("for (int i = 1; i < " + n + "; i++) {");
+            out.indent();
+            out.line("if (y[i] > max) max = y[i];");
+            out.outdent();
+            out.line("}");
+            out.line("float sum = 0f;");
+            out.line("for (int i = 0; i < " + n + "; i++) {");
+            out.indent();
+            out.line("y[i] = (float)Math.exp(y[i] - max);");
+            out.line("sum += y[i];");
+            out.outdent();
+            out.line("}");
+            out.line("for (int i = 0; i < " + n + "; i++) {");
+            out.indent();
+            out.line("y[i] /= sum;");
+            out.outdent();
+            out.line("}");
+        }
+
+        out.outdent();
+        out.line("}");
+    }
+
+    private static void decodeMethod(Source out) {
+        out.line();
+        out.line("// Big-endian float bits, split into chunks below the string constant limit");
+        out.line("private static float[] decode(int length, String... chunks) {");
+        out.indent();
+        out.line("StringBuilder base64 = new StringBuilder();");
+        out.line("for (String chunk : chunks) {");
+        out.indent();
+        out.line("base64.append(chunk);");
+        out.outdent();
+        out.line("}");
+        out.line("float[] values = new float[length];");
+        out.line("java.nio.ByteBuffer.wrap(java.util.Base64.getDecoder().decode(base64.toString()))");
+        out.line("    .asFloatBuffer().get(values);");
+        out.line("return values;");
+        out.outdent();
+        out.line("}");
+    }
+
+    // Same formulas as Neuron.applyActivation, softmax is handled per layer
+    // z must be a local, it may be read more than once
+    private static String activation(String z, Activation activation) {
+        switch (activation) {
+            case RELU:
+                return "Math.max(0f, " + z + ")";
+            case LEAKY_RELU:
+                return z + " > 0 ? " + z + " : 0.01f * " + z;
+            case TANH:
+                return "(float)Math.tanh(" + z + ")";
+            case SIGMOID:
+                return "(float)(1.0 / (1.0 + Math.exp(-Math.max(-88f, Math.min(88f, " + z + ")))))";
+            case LINEAR:
+            case SOFTMAX:
+            default:
+                return z;
+        }
+    }
+
+    private static void array(Source out, String name, float[] values) {
+        if (values.length <= LITERAL_ARRAY_LIMIT) {
+            StringBuilder line = new StringBuilder("private static final float[] " + name + " = {");
+            for (int i = 0; i < values.length; i++) {
+                line.append(i > 0 ? ", " : "").append(literal(values[i]));
+            }
+            out.line(line.append("};").toString());
+            return;
+        }
+
+        ByteBuffer bytes = ByteBuffer.allocate(4 * values.length);
+        bytes.asFloatBuffer().put(values);
+        String base64 = Base64.getEncoder().encodeToString(bytes.array());
+
+        out.line("private static final float[] " + name + " = decode(" + values.length + ",");
+        out.indent();
+        for (int start = 0; start < base64.length(); start += BASE64_CHUNK) {
+            int end = Math.min(base64.length(), start + BASE64_CHUNK);
+            out.line("\"" + base64.substring(start, end) + "\"" + (end < base64.length() ? "," : ");"));
+        }
+        out.outdent();
+    }
+
+    private static boolean needsBase64(Layer[] layers) {
+        for (Layer layer : layers) {
+            if (layer.weights.length > LITERAL_ARRAY_LIMIT || layer.biases.length > LITERAL_ARRAY_LIMIT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Exact round-trip float literal
+    private static String literal(float value) {
+        if (Float.isNaN(value)) {
+            return "Float.NaN";
+        }
+        if (Float.isInfinite(value)) {
+            return value > 0 ? "Float.POSITIVE_INFINITY" : "Float.NEGATIVE_INFINITY";
+        }
+        return Float.toString(value) + "f";
+    }
+
+    private static String topology(Network network, Layer[] layers) {
+        StringBuilder topology = new StringBuilder().append(network.inputSize);
+        for (Layer layer : layers) {
+            topology.append('-').append(layer.neuronCount);
+        }
+        return topology.append(' ').append(network.outputLayer.getActivation()).toString();
+    }
+
+    private static void checkClassName(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Class name must not be empty");
+        }
+        for (String part : name.split("\\.", -1)) {
+            boolean valid = !part.isEmpty() && Character.isJavaIdentifierStart(part.charAt(0));
+            for (int i = 1; valid && i < part.length(); i++) {
+                valid = Character.isJavaIdentifierPart(part.charAt(i));
+            }
+            if (!valid) {
+                throw new IllegalArgumentException("Not a valid class name: " + name);
+            }
+        }
+    }
+
+    // Source text with four-space indentation
+    private static final class Source {
+
+        private final StringBuilder text = new StringBuilder();
+        private int depth;
+
+        void indent() {
+            depth++;
+        }
+
+        void outdent() {
+            depth--;
+        }
+
+        void line() {
+            text.append('\n');
+        }
+
+        void line(String line) {
+            for (int i = 0; i < depth; i++) {
+                text.append("    ");
+            }
+            text.append(line).append('\n');
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+package mg.rivolink.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+
+import mg.rivolink.ai.Layer;
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+
+// Reads Java-serialized models of either generation.
+// Releases before the flat weight matrix wrote Network, Layer and Neuron with
+// serialVersionUID 1 and one weight array per neuron. Their class descriptors
+// are swapped for the mirror classes below, which keep that exact field layout,
+// and the resulting object graph is copied into a current Network.
+final class LegacyModelStream extends ObjectInputStream {
+
+    private static final long LEGACY_UID = 1L;
+    private static final String NEURON_ARRAY = "[Lmg.rivolink.ai.Neuron;";
+
+    // Set by the first uid 1 descriptor, the Neuron[] descriptor is shared by both layouts
+    private boolean legacy;
+
+    LegacyModelStream(InputStream in) throws IOException {
+        super(in);
+    }
+
+    Network readNetwork() throws IOException, ClassNotFoundException {
+        Object model = readObject();
+        if (model instanceof LegacyNetwork) {
+            return ((LegacyNetwork)model).toNetwork();
+        }
+        if (model instanceof Network) {
+            return (Network)model;
+        }
+        throw new IOException("Not a serialized network: " + model.getClass().getName());
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+        ObjectStreamClass desc = super.readClassDescriptor();
+        String name = desc.getName();
+
+        if (desc.getSerialVersionUID() == LEGACY_UID) {
+            if (name.equals("mg.rivolink.ai.Network")) {
+                legacy = true;
+                return ObjectStreamClass.lookup(LegacyNetwork.class);
+            }
+            if (name.equals("mg.rivolink.ai.Layer")) {
+                legacy = true;
+                return ObjectStreamClass.lookup(LegacyLayer.class);
+            }
+            if (name.equals("mg.rivolink.ai.Neuron")) {
+                legacy = true;
+                return ObjectStreamClass.lookup(LegacyNeuron.class);
+            }
+        }
+        if (legacy && name.equals(NEURON_ARRAY)) {
+            return ObjectStreamClass.lookup(LegacyNeuron[].class);
+        }
+        return desc;
+    }
+
+    // Field for field the uid 1 classes, names and types must not change
+
+    static final class LegacyNetwork implements Serializable {
+
+        private static final long serialVersionUID = LEGACY_UID;
+
+        float tau;
+        float alpha;
+        float maxGradient;
+        int inputSize;
+        LegacyLayer hiddenLayer1;
+        LegacyLayer hiddenLayer2;
+        LegacyLayer outputLayer;
+
+        Network toNetwork() throws IOException {
+            if (hiddenLayer1 == null || outputLayer == null) {
+                throw new IOException("Corrupt legacy model: missing layers");
+            }
+
+            Network.Builder builder = new Network.Builder()
+                .inputSize(inputSize)
+                .hiddenSize(hiddenLayer1.neuronCount)
+                .outputSize(outputLayer.neuronCount)
+                .outputActivation(outputLayer.activation)
+                .tau(tau)
+                .learningRate(alpha)
+                .maxGradient(maxGradient)
+                .initializeWeights(false);
+            if (hiddenLayer2 != null) {
+                builder.addHiddenLayer(hiddenLayer2.neuronCount);
+            }
+            Network network = builder.build();
+
+            hiddenLayer1.copyTo(network.hiddenLayer1);
+            if (hiddenLayer2 != null) {
+                hiddenLayer2.copyTo(network.hiddenLayer2);
+            }
+            outputLayer.copyTo(network.outputLayer);
+            network.markWeightsChanged();
+            return network;
+        }
+    }
+
+    static final class LegacyLayer implements Serializable {
+
+        private static final long serialVersionUID = LEGACY_UID;
+
+        int inputSize;
+        int neuronCount;
+        LegacyNeuron[] neurons;
+        Activation activation;
+        float[] layerInputs;
+        float[] cachedOutputs;
+        float[] cachedZValues;
+
+        // One neuron per row of the flat matrix
+        void copyTo(Layer layer) throws IOException {
+            if (neurons == null || neurons.length != layer.neuronCount || inputSize != layer.inputSize) {
+                throw new IOException("Corrupt legacy model: layer shape does not match its neurons");
+            }
+            for (int i = 0; i < neurons.length; i++) {
+                LegacyNeuron neuron = neurons[i];
+                if (neuron == null || neuron.weights == null || neuron.weights.length != inputSize) {
+                    throw new IOException("Corrupt legacy model: neuron " + i + " has the wrong size");
+                }
+                System.arraycopy(neuron.weights, 0, layer.weights, i * inputSize, inputSize);
+                layer.biases[i] = neuron.bias;
+            }
+        }
+    }
+
+    static final class LegacyNeuron implements Serializable {
+
+        private static final long serialVersionUID = LEGACY_UID;
+
+        float bias;
+        int size;
+        float[] weights;
+        float lastZ;
+        float lastOutput;
+    }
+
+}
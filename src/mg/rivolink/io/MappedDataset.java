@@ -0,0 +1,310 @@
+package mg.rivolink.io;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import mg.rivolink.ai.Dataset;
+
+// Training set in a fixed-stride binary file, read through memory mappings
+// Layout: a 32 byte header (magic, version, input size, output size, row count,
+// reserved) then one row per sample, inputs followed by targets, as
+// little-endian float32. Rows are read straight from the page cache, so the
+// file can be far larger than the heap.
+public final class MappedDataset implements Dataset, Closeable {
+
+    private static final int MAGIC = 0x4E4E4453; // "NNDS"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+
+    // A single mapping is limited to 2 GB, larger files are mapped in segments
+    private static final long MAX_SEGMENT_BYTES = Integer.MAX_VALUE;
+
+    private final String filepath;
+    private final int inputSize;
+    private final int outputSize;
+    private final long rows;
+
+    private final int strideFloats;
+    private final long rowsPerSegment;
+
+    private final FileChannel channel;
+    private FloatBuffer[] segments;
+
+    private MappedDataset(String filepath, FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                break;
+            }
+        }
+        header.flip();
+
+        if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+            throw new IOException("Not a dataset file: " + filepath);
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported dataset version " + version + ": " + filepath);
+        }
+
+        this.filepath = filepath;
+        this.channel = channel;
+        this.inputSize = header.getInt();
+        this.outputSize = header.getInt();
+        this.rows = header.getLong();
+        this.strideFloats = inputSize + outputSize;
+
+        long strideBytes = 4L * strideFloats;
+        if (inputSize < 1 || outputSize < 1 || rows < 0 || strideBytes > MAX_SEGMENT_BYTES) {
+            throw new IOException("Corrupt dataset header: " + filepath);
+        }
+        if (channel.size() != HEADER_BYTES + rows * strideBytes) {
+            throw new IOException("Dataset size does not match its " + rows + " rows: " + filepath);
+        }
+
+        this.rowsPerSegment = MAX_SEGMENT_BYTES / strideBytes;
+        int count = (int)((rows + rowsPerSegment - 1) / rowsPerSegment);
+        this.segments = new FloatBuffer[count];
+        for (int s = 0; s < count; s++) {
+            long first = s * rowsPerSegment;
+            long length = Math.min(rowsPerSegment, rows - first) * strideBytes;
+            segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + first * strideBytes, length)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .asFloatBuffer();
+        }
+    }
+
+    public static MappedDataset open(String filepath) throws IOException {
+        FileChannel channel = FileChannel.open(Paths.get(filepath), StandardOpenOption.READ);
+        try {
+            return new MappedDataset(filepath, channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Starts a new dataset file, rows are appended with Writer.write
+    public static Writer create(String filepath, int inputSize, int outputSize) throws IOException {
+        return new Writer(filepath, inputSize, outputSize);
+    }
+
+    // Converts a CSV of inputSize input columns then outputSize target columns,
+    // streaming line by line. Blank lines and a non-numeric first line (a header)
+    // are skipped. Returns the number of rows written.
+    public static long convertCsv(String csvPath, String filepath, int inputSize, int outputSize)
+            throws IOException {
+        float[] inputs = new float[inputSize];
+        float[] targets = new float[outputSize];
+
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(csvPath), StandardCharsets.UTF_8);
+                Writer writer = create(filepath, inputSize, outputSize)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+
+                try {
+                    parseCsvLine(line, inputs, targets);
+                } catch (NumberFormatException e) {
+                    if (lineNumber == 1) {
+                        continue;
+                    }
+                    throw new IllegalArgumentException(csvPath + ":" + lineNumber + ": " + e.getMessage());
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(csvPath + ":" + lineNumber + ": " + e.getMessage());
+                }
+                writer.write(inputs, targets);
+            }
+            return writer.getRowCount();
+        }
+    }
+
+    private static void parseCsvLine(String line, float[] inputs, float[] targets) {
+        int columns = inputs.length + targets.length;
+        int start = 0;
+        for (int c = 0; c < columns; c++) {
+            int end = line.indexOf(',', start);
+            if (end < 0) {
+                if (c != columns - 1) {
+                    throw new IllegalArgumentException("Expected " + columns + " columns, got " + (c + 1));
+                }
+                end = line.length();
+            } else if (c == columns - 1) {
+                throw new IllegalArgumentException("Expected " + columns + " columns, got more");
+            }
+
+            float value = Float.parseFloat(line.substring(start, end).trim());
+            if (c < inputs.length) {
+                inputs[c] = value;
+            } else {
+                targets[c - inputs.length] = value;
+            }
+            start = end + 1;
+        }
+    }
+
+    @Override
+    public long size() {
+        return rows;
+    }
+
+    @Override
+    public int getInputSize() {
+        return inputSize;
+    }
+
+    @Override
+    public int getOutputSize() {
+        return outputSize;
+    }
+
+    public String getFilepath() {
+        return filepath;
+    }
+
+    // Absolute reads only, safe from any number of threads
+    @Override
+    public void read(long index, float[] inputs, float[] targets) {
+        FloatBuffer segment = segment(index);
+        int offset = (int)(index % rowsPerSegment) * strideFloats;
+
+        for (int i = 0; i < inputSize; i++) {
+            inputs[i] = segment.get(offset + i);
+        }
+        offset += inputSize;
+        for (int i = 0; i < outputSize; i++) {
+            targets[i] = segment.get(offset + i);
+        }
+    }
+
+    // Zero-copy views of one row, backed by the mapping
+    public FloatBuffer inputs(long index) {
+        return view(index, 0, inputSize);
+    }
+
+    public FloatBuffer targets(long index) {
+        return view(index, inputSize, outputSize);
+    }
+
+    private FloatBuffer view(long index, int from, int length) {
+        FloatBuffer view = segment(index).duplicate();
+        int offset = (int)(index % rowsPerSegment) * strideFloats + from;
+        view.limit(offset + length);
+        view.position(offset);
+        return view.slice();
+    }
+
+    private FloatBuffer segment(long index) {
+        FloatBuffer[] mapped = segments;
+        if (mapped == null) {
+            throw new IllegalStateException("Dataset is closed: " + filepath);
+        }
+        if (index < 0 || index >= rows) {
+            throw new IndexOutOfBoundsException("Row " + index + " outside [0, " + rows + ")");
+        }
+        return mapped[(int)(index / rowsPerSegment)];
+    }
+
+    // Mappings are released by the garbage collector once unreachable
+    @Override
+    public void close() throws IOException {
+        segments = null;
+        channel.close();
+    }
+
+    // Appends rows through a write buffer, the row count is written on close
+    public static final class Writer implements Closeable {
+
+        private static final int BUFFER_BYTES = 1 << 16;
+
+        private final int inputSize;
+        private final int outputSize;
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long rows;
+
+        private Writer(String filepath, int inputSize, int outputSize) throws IOException {
+            if (inputSize < 1 || outputSize < 1) {
+                throw new IllegalArgumentException("Input and output sizes must be positive");
+            }
+
+            this.inputSize = inputSize;
+            this.outputSize = outputSize;
+            this.buffer = ByteBuffer.allocateDirect(Math.max(BUFFER_BYTES, 4 * (inputSize + outputSize)))
+                .order(ByteOrder.LITTLE_ENDIAN);
+            this.channel = FileChannel.open(Paths.get(filepath), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+
+            // Header with a zero row count until close
+            channel.write(header(0), 0);
+            channel.position(HEADER_BYTES);
+        }
+
+        public void write(float[] inputs, float[] targets) throws IOException {
+            if (inputs.length != inputSize || targets.length != outputSize) {
+                throw new IllegalArgumentException("Expected " + inputSize + " inputs and " + outputSize
+                    + " targets, got " + inputs.length + " and " + targets.length);
+            }
+
+            if (buffer.remaining() < 4 * (inputSize + outputSize)) {
+                flush();
+            }
+            for (float x : inputs) {
+                buffer.putFloat(x);
+            }
+            for (float y : targets) {
+                buffer.putFloat(y);
+            }
+            rows++;
+        }
+
+        public long getRowCount() {
+            return rows;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private ByteBuffer header(long rowCount) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(inputSize).putInt(outputSize).putLong(rowCount);
+            header.rewind();
+            return header;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!channel.isOpen()) {
+                return;
+            }
+            try {
+                flush();
+                ByteBuffer header = header(rows);
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+}
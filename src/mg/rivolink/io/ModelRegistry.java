@@ -0,0 +1,330 @@
+package mg.rivolink.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import mg.rivolink.ai.Network;
+
+// Cache of networks loaded through NetworkIO from one directory
+// Entries are charged their weight bytes against a fixed budget. Loads run on
+// background loader threads, and concurrent misses on a key share one load.
+public class ModelRegistry implements AutoCloseable {
+
+    public enum Policy {
+        // Evict the least recently used models
+        LRU,
+        // LRU order, but a new model only displaces models that were requested
+        // less often recently, so one-off loads cannot flush popular models
+        TINY_LFU
+    }
+
+    private final Path directory;
+    private final long budgetBytes;
+    private final Policy policy;
+    private final ExecutorService loader;
+
+    // Access-ordered, guarded by this
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private long usedBytes;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Network>> loading =
+        new ConcurrentHashMap<String, CompletableFuture<Network>>();
+
+    // Every getAsync counts once: a hit, a miss that starts a load, or a join of
+    // a load already in flight. Misses equal loads plus failed loads.
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong joins = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+
+    public ModelRegistry(String directory, long budgetBytes) {
+        this(directory, budgetBytes, Policy.LRU, 2);
+    }
+
+    public ModelRegistry(String directory, long budgetBytes, Policy policy, int loaderThreads) {
+        if (budgetBytes <= 0) {
+            throw new IllegalArgumentException("Budget must be positive: " + budgetBytes);
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Policy must not be null");
+        }
+        if (loaderThreads < 1) {
+            throw new IllegalArgumentException("Loader threads must be at least 1: " + loaderThreads);
+        }
+
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.budgetBytes = budgetBytes;
+        this.policy = policy;
+        this.loader = Executors.newFixedThreadPool(loaderThreads, loaderThreads());
+        this.sketch = new FrequencySketch(1024);
+    }
+
+    // Cached model, or a future completed by a background load
+    public CompletableFuture<Network> getAsync(final String key) {
+        Network cached = lookup(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<Network> future = loading.get(key);
+        if (future != null) {
+            joins.incrementAndGet();
+            return future;
+        }
+
+        CompletableFuture<Network> created = new CompletableFuture<Network>();
+        future = loading.putIfAbsent(key, created);
+        if (future != null) {
+            joins.incrementAndGet();
+            return future;
+        }
+
+        // A load may have finished between the lookup and the claim
+        Network loaded = peek(key);
+        if (loaded != null) {
+            loading.remove(key, created);
+            hits.incrementAndGet();
+            created.complete(loaded);
+            return created;
+        }
+
+        misses.incrementAndGet();
+        startLoad(key, created);
+        return created;
+    }
+
+    // Blocking get, loads on a loader thread if needed
+    public Network get(String key) throws IOException {
+        try {
+            return getAsync(key).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading " + key, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Failed to load " + key, cause);
+        }
+    }
+
+    // Never blocks: the cached model, or null after scheduling a background load
+    public Network getIfLoaded(String key) {
+        CompletableFuture<Network> future = getAsync(key);
+        return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    public synchronized void invalidate(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            usedBytes -= entry.bytes;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    // Requests that started a load
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    // Requests that waited on a load another request had started
+    public long getJoinCount() {
+        return joins.get();
+    }
+
+    public long getLoadCount() {
+        return loads.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    // Loaded models that were not cached: over budget, or refused by TINY_LFU
+    public long getRejectionCount() {
+        return rejections.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "ModelRegistry(%s, models=%d, used=%d/%d bytes, hits=%d, misses=%d, joins=%d, loads=%d, "
+                + "evictions=%d, rejections=%d)",
+            policy, size(), getUsedBytes(), budgetBytes, hits.get(), misses.get(), joins.get(), loads.get(),
+            evictions.get(), rejections.get());
+    }
+
+    @Override
+    public void close() {
+        loader.shutdownNow();
+    }
+
+    private synchronized Network lookup(String key) {
+        sketch.increment(key);
+        Entry entry = entries.get(key);
+        return entry != null ? entry.network : null;
+    }
+
+    private synchronized Network peek(String key) {
+        Entry entry = entries.get(key);
+        return entry != null ? entry.network : null;
+    }
+
+    private void startLoad(final String key, final CompletableFuture<Network> future) {
+        final Path path;
+        try {
+            path = resolve(key);
+        } catch (RuntimeException e) {
+            loading.remove(key, future);
+            future.completeExceptionally(e);
+            return;
+        }
+
+        loader.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Network network = NetworkIO.load(path.toString());
+                    loads.incrementAndGet();
+                    admit(key, network);
+                    future.complete(network);
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    // Cached first, so later callers hit instead of loading again
+                    loading.remove(key, future);
+                }
+            }
+        });
+    }
+
+    private synchronized void admit(String key, Network network) {
+        long bytes = network.getWeightBytes();
+        if (bytes > budgetBytes) {
+            rejections.incrementAndGet();
+            return;
+        }
+
+        // A cached model for the same key is replaced, never dropped by a rejection
+        Entry previous = entries.get(key);
+        long previousBytes = previous != null ? previous.bytes : 0;
+        if (policy == Policy.TINY_LFU && !worthEvicting(key, bytes, previousBytes)) {
+            rejections.incrementAndGet();
+            return;
+        }
+
+        if (previous != null) {
+            entries.remove(key);
+            usedBytes -= previousBytes;
+        }
+
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (usedBytes + bytes > budgetBytes && eldest.hasNext()) {
+            usedBytes -= eldest.next().getValue().bytes;
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+
+        entries.put(key, new Entry(network, bytes));
+        usedBytes += bytes;
+    }
+
+    // TinyLFU admission: the candidate must be requested more often than
+    // every model that would be evicted to make room for it. The bytes of the
+    // model it replaces under the same key count as free.
+    private boolean worthEvicting(String key, long bytes, long previousBytes) {
+        int candidate = sketch.frequency(key);
+        long freed = budgetBytes - usedBytes + previousBytes;
+        for (Map.Entry<String, Entry> victim : entries.entrySet()) {
+            if (freed >= bytes) {
+                break;
+            }
+            if (victim.getKey().equals(key)) {
+                continue;
+            }
+            if (sketch.frequency(victim.getKey()) >= candidate) {
+                return false;
+            }
+            freed += victim.getValue().bytes;
+        }
+        return true;
+    }
+
+    private Path resolve(String key) {
+        Path path = directory.resolve(key).normalize();
+        if (!path.startsWith(directory) || path.equals(directory)) {
+            throw new IllegalArgumentException("Model key outside the registry directory: " + key);
+        }
+        if (!Files.exists(path)) {
+            Path binary = directory.resolve(key + ".bin").normalize();
+            if (Files.exists(binary)) {
+                return binary;
+            }
+        }
+        return path;
+    }
+
+    private static ThreadFactory loaderThreads() {
+        final AtomicInteger count = new AtomicInteger();
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable task) {
+                Thread thread = new Thread(task, "model-loader-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
+    private static final class Entry {
+
+        final Network network;
+        final long bytes;
+
+        Entry(Network network, long bytes) {
+            this.network = network;
+            this.bytes = bytes;
+        }
+    }
+
+}
@@ -0,0 +1,250 @@
+package mg.rivolink.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+import mg.rivolink.ai.Layer;
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+import mg.rivolink.ai.Optimizer;
+
+// Raw model layout, all values little-endian:
+//   magic "NNMF", version, header length in bytes, input size, layer count,
+//   per layer its neuron count and activation code,
+//   tau, alpha, maxGradient, batchSize, precision code,
+//   optimizer code, hyperparameter count and values,
+// then per layer in forward order its weights (row-major) and biases as float32.
+// Readers skip header bytes they do not know, so later versions can append
+// fields; the codes below are part of the format and must never be reordered.
+final class NativeModelFormat {
+
+    // "NNMF" in file byte order
+    static final int MAGIC = 0x464D4E4E;
+    static final int VERSION = 1;
+
+    private static final Activation[] ACTIVATIONS = {
+        Activation.SIGMOID, Activation.RELU, Activation.LEAKY_RELU,
+        Activation.TANH, Activation.LINEAR, Activation.SOFTMAX
+    };
+    private static final Network.Precision[] PRECISIONS = {
+        Network.Precision.EXACT, Network.Precision.FAST
+    };
+    private static final Optimizer.Type[] OPTIMIZERS = {
+        Optimizer.Type.SGD, Optimizer.Type.MOMENTUM, Optimizer.Type.RMS_PROP, Optimizer.Type.ADAM
+    };
+
+    // Fixed part: magic, version, header length, input size, layer count
+    private static final int PREFIX_BYTES = 20;
+
+    // Weights move through one direct buffer in chunks of this size
+    private static final int CHUNK_BYTES = 1 << 18;
+
+    private NativeModelFormat() {
+    }
+
+    // True when the first bytes are the native magic
+    static boolean matches(ByteBuffer head) {
+        return head.remaining() >= 4 && head.order(ByteOrder.LITTLE_ENDIAN).getInt(head.position()) == MAGIC;
+    }
+
+    static void write(Network network, WritableByteChannel channel) throws IOException {
+        Layer[] layers = layers(network);
+        Optimizer optimizer = network.getOptimizer();
+        float[] hyperparameters = optimizer.getHyperparameters();
+
+        int headerBytes = PREFIX_BYTES + 8 * layers.length + 28 + 4 * hyperparameters.length;
+        ByteBuffer header = ByteBuffer.allocate(headerBytes).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(headerBytes);
+        header.putInt(network.inputSize).putInt(layers.length);
+        for (Layer layer : layers) {
+            header.putInt(layer.neuronCount).putInt(code(ACTIVATIONS, layer.getActivation()));
+        }
+        header.putFloat(network.tau).putFloat(network.alpha).putFloat(network.maxGradient);
+        header.putInt(network.batchSize);
+        header.putInt(code(PRECISIONS, network.getPrecision()));
+        header.putInt(code(OPTIMIZERS, optimizer.getType())).putInt(hyperparameters.length);
+        for (float value : hyperparameters) {
+            header.putFloat(value);
+        }
+        header.flip();
+        writeFully(channel, header);
+
+        ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (Layer layer : layers) {
+            writeFloats(channel, chunk, layer.weights);
+            writeFloats(channel, chunk, layer.biases);
+        }
+    }
+
+    // length is the number of bytes the model may span from the channel position
+    static Network read(ReadableByteChannel channel, long length, String source) throws IOException {
+        ByteBuffer prefix = ByteBuffer.allocate(PREFIX_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, prefix, source);
+        prefix.flip();
+
+        if (prefix.getInt() != MAGIC) {
+            throw new IOException("Not a native model: " + source);
+        }
+        int version = prefix.getInt();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported model version " + version + ", this reader supports up to "
+                + VERSION + ": " + source);
+        }
+        int headerBytes = prefix.getInt();
+        int inputSize = prefix.getInt();
+        int layerCount = prefix.getInt();
+        if (layerCount != 2 && layerCount != 3) {
+            throw new IOException("Expected 2 or 3 layers, got " + layerCount + ": " + source);
+        }
+        if (headerBytes < PREFIX_BYTES + 8 * layerCount + 28 || headerBytes > Math.min(length, 1 << 20)) {
+            throw new IOException("Corrupt model header: " + source);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(headerBytes - PREFIX_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, header, source);
+        header.flip();
+
+        int[] sizes = new int[layerCount];
+        Activation[] activations = new Activation[layerCount];
+        for (int l = 0; l < layerCount; l++) {
+            sizes[l] = header.getInt();
+            activations[l] = lookup(ACTIVATIONS, header.getInt(), "activation", source);
+            if (sizes[l] < 1) {
+                throw new IOException("Layer " + l + " has " + sizes[l] + " neurons: " + source);
+            }
+            if (l < layerCount - 1 && activations[l] != Activation.RELU) {
+                throw new IOException("Hidden layers must be RELU, got " + activations[l] + ": " + source);
+            }
+        }
+        if (inputSize < 1) {
+            throw new IOException("Input size " + inputSize + ": " + source);
+        }
+
+        // Sizes come from the file, check them before any weight array is allocated
+        long floats = 0;
+        for (int l = 0; l < layerCount; l++) {
+            long matrix = (long)sizes[l] * (l == 0 ? inputSize : sizes[l - 1]);
+            if (matrix > Integer.MAX_VALUE - 8) {
+                throw new IOException("Layer " + l + " has " + matrix + " weights, more than an array holds: " + source);
+            }
+            floats += matrix + sizes[l];
+        }
+        if (4 * floats > length - headerBytes) {
+            throw new EOFException("Truncated model, header declares " + floats + " weights but only "
+                + (length - headerBytes) + " bytes follow: " + source);
+        }
+
+        float tau = header.getFloat();
+        float alpha = header.getFloat();
+        float maxGradient = header.getFloat();
+        int batchSize = header.getInt();
+        Network.Precision precision = lookup(PRECISIONS, header.getInt(), "precision", source);
+        Optimizer.Type optimizerType = lookup(OPTIMIZERS, header.getInt(), "optimizer", source);
+        int count = header.getInt();
+        if (count < 0 || count > header.remaining() / 4) {
+            throw new IOException("Corrupt optimizer hyperparameters: " + source);
+        }
+        float[] hyperparameters = new float[count];
+        for (int i = 0; i < count; i++) {
+            hyperparameters[i] = header.getFloat();
+        }
+        // Any remaining header bytes belong to newer minor additions
+
+        Network.Builder builder = new Network.Builder()
+            .inputSize(inputSize)
+            .hiddenSize(sizes[0])
+            .outputSize(sizes[layerCount - 1])
+            .outputActivation(activations[layerCount - 1])
+            .tau(tau)
+            .learningRate(alpha)
+            .maxGradient(maxGradient)
+            .batchSize(batchSize)
+            .precision(precision)
+            .initializeWeights(false);
+        if (layerCount == 3) {
+            builder.addHiddenLayer(sizes[1]);
+        }
+        try {
+            builder.optimizer(Optimizer.create(optimizerType, hyperparameters));
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage() + ": " + source, e);
+        }
+        Network network = builder.build();
+
+        ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (Layer layer : layers(network)) {
+            readFloats(channel, chunk, layer.weights, source);
+            readFloats(channel, chunk, layer.biases, source);
+        }
+        network.markWeightsChanged();
+        return network;
+    }
+
+    private static Layer[] layers(Network network) {
+        if (network.hiddenLayer2 != null) {
+            return new Layer[] {network.hiddenLayer1, network.hiddenLayer2, network.outputLayer};
+        }
+        return new Layer[] {network.hiddenLayer1, network.outputLayer};
+    }
+
+    private static void writeFloats(WritableByteChannel channel, ByteBuffer chunk, float[] values)
+            throws IOException {
+        int perChunk = chunk.capacity() / 4;
+        for (int offset = 0; offset < values.length; offset += perChunk) {
+            int count = Math.min(perChunk, values.length - offset);
+            chunk.clear();
+            chunk.asFloatBuffer().put(values, offset, count);
+            chunk.limit(4 * count);
+            writeFully(channel, chunk);
+        }
+    }
+
+    private static void readFloats(ReadableByteChannel channel, ByteBuffer chunk, float[] values, String source)
+            throws IOException {
+        int perChunk = chunk.capacity() / 4;
+        for (int offset = 0; offset < values.length; offset += perChunk) {
+            int count = Math.min(perChunk, values.length - offset);
+            chunk.clear();
+            chunk.limit(4 * count);
+            readFully(channel, chunk, source);
+            chunk.flip();
+            chunk.asFloatBuffer().get(values, offset, count);
+        }
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer, String source)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Truncated model: " + source);
+            }
+        }
+    }
+
+    private static <T> int code(T[] table, T value) {
+        for (int i = 0; i < table.length; i++) {
+            if (table[i] == value) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("No format code for " + value);
+    }
+
+    private static <T> T lookup(T[] table, int code, String what, String source) throws IOException {
+        if (code < 0 || code >= table.length) {
+            throw new IOException("Unknown " + what + " code " + code + ": " + source);
+        }
+        return table[code];
+    }
+
+}
@@ -6,13 +6,16 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Base64;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -22,9 +25,13 @@ import mg.rivolink.ai.Network;
 public class NetworkIO {
 
     public enum Format {
+        // Raw little-endian weights behind a small header, see NativeModelFormat
         BINARY,
+        // The binary model base64-wrapped in a JSON or XML document
         JSON,
-        XML
+        XML,
+        // Java object serialization, the format of earlier releases
+        SERIALIZED
     }
 
     private static final Pattern JSON_DATA_PATTERN = Pattern.compile("\"data\"\\s*:\\s*\"([^\"]+)\"");
@@ -45,6 +52,9 @@ public class NetworkIO {
             case XML:
                 saveXml(network, filepath);
                 break;
+            case SERIALIZED:
+                saveSerialized(network, filepath);
+                break;
             default:
                 throw new IllegalArgumentException("Unknown format: " + format);
         }
@@ -69,6 +79,8 @@ public class NetworkIO {
                 return loadJson(filepath);
             case XML:
                 return loadXml(filepath);
+            case SERIALIZED:
+                return loadBinary(filepath);
             default:
                 throw new IllegalArgumentException("Unknown format: " + format);
         }
@@ -78,16 +90,36 @@ public class NetworkIO {
         Path path = Paths.get(filepath);
         ensureParentDirectory(path);
 
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            NativeModelFormat.write(network, channel);
+        }
+    }
+
+    private static void saveSerialized(Network network, String filepath) throws IOException {
+        Path path = Paths.get(filepath);
+        ensureParentDirectory(path);
+
         try (ObjectOutputStream oos = new ObjectOutputStream(
                 new BufferedOutputStream(Files.newOutputStream(path)))) {
             oos.writeObject(network);
         }
     }
 
+    // Native or serialized (either generation), told apart by the first bytes
     private static Network loadBinary(String filepath) throws IOException, ClassNotFoundException {
-        try (ObjectInputStream ois = new ObjectInputStream(
+        try (FileChannel channel = FileChannel.open(Paths.get(filepath), StandardOpenOption.READ)) {
+            ByteBuffer head = ByteBuffer.allocate(4);
+            channel.read(head, 0);
+            head.flip();
+            if (NativeModelFormat.matches(head)) {
+                return NativeModelFormat.read(channel, channel.size(), filepath);
+            }
+        }
+
+        try (LegacyModelStream ois = new LegacyModelStream(
                 new BufferedInputStream(Files.newInputStream(Paths.get(filepath))))) {
-            return (Network) ois.readObject();
+            return ois.readNetwork();
         }
     }
 
@@ -95,14 +127,13 @@ public class NetworkIO {
         Path path = Paths.get(filepath);
         ensureParentDirectory(path);
 
-        byte[] serialized = serializeNetwork(network);
-        String base64 = Base64.getEncoder().encodeToString(serialized);
+        String base64 = Base64.getEncoder().encodeToString(encode(network));
         int hiddenLayers = network.hiddenLayer2 != null ? 2 : 1;
 
         StringBuilder json = new StringBuilder();
         json.append("{\n");
-        json.append("  \"format\": \"java-serialized\",\n");
-        json.append("  \"version\": 1,\n");
+        json.append("  \"format\": \"native\",\n");
+        json.append("  \"version\": 2,\n");
         json.append("  \"alpha\": ").append(network.alpha).append(",\n");
         json.append("  \"tau\": ").append(network.tau).append(",\n");
         json.append("  \"maxGradient\": ").append(network.maxGradient).append(",\n");
@@ -135,15 +166,14 @@ public class NetworkIO {
         Path path = Paths.get(filepath);
         ensureParentDirectory(path);
 
-        byte[] serialized = serializeNetwork(network);
-        String base64 = Base64.getEncoder().encodeToString(serialized);
+        String base64 = Base64.getEncoder().encodeToString(encode(network));
         int hiddenLayers = network.hiddenLayer2 != null ? 2 : 1;
 
         StringBuilder xml = new StringBuilder();
         xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
         xml.append("<network>\n");
-        xml.append("  <format>java-serialized</format>\n");
-        xml.append("  <version>1</version>\n");
+        xml.append("  <format>native</format>\n");
+        xml.append("  <version>2</version>\n");
         xml.append("  <alpha>").append(network.alpha).append("</alpha>\n");
         xml.append("  <tau>").append(network.tau).append("</tau>\n");
         xml.append("  <maxGradient>").append(network.maxGradient).append("</maxGradient>\n");
@@ -172,18 +202,22 @@ public class NetworkIO {
         }
     }
 
-    private static byte[] serializeNetwork(Network network) throws IOException {
+    private static byte[] encode(Network network) throws IOException {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (ObjectOutputStream oos = new ObjectOutputStream(new BufferedOutputStream(baos))) {
-            oos.writeObject(network);
-        }
+        NativeModelFormat.write(network, Channels.newChannel(baos));
         return baos.toByteArray();
     }
 
+    // Documents written before version 2 wrap serialized bytes
     private static Network deserializeNetwork(byte[] data) throws IOException, ClassNotFoundException {
-        try (ObjectInputStream ois = new ObjectInputStream(
+        if (NativeModelFormat.matches(ByteBuffer.wrap(data))) {
+            return NativeModelFormat.read(Channels.newChannel(new ByteArrayInputStream(data)), data.length,
+                "embedded model");
+        }
+
+        try (LegacyModelStream ois = new LegacyModelStream(
                 new BufferedInputStream(new ByteArrayInputStream(data)))) {
-            return (Network) ois.readObject();
+            return ois.readNetwork();
         }
     }
 
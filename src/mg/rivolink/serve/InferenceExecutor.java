@@ -0,0 +1,140 @@
+package mg.rivolink.serve;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Workspace;
+
+// Runs predictions for many concurrent callers against one shared network
+// Each call runs on its own task and borrows one of a bounded set of workspaces,
+// so memory stays bounded however many callers are waiting.
+// create() uses a virtual thread per call on the Java 21 release, platform() a fixed pool.
+public class InferenceExecutor implements AutoCloseable {
+
+    // Fallback pool of create() without virtual threads, sized for callers that block
+    public static final int DEFAULT_PLATFORM_THREADS = 256;
+
+    private final Network network;
+    private final ExecutorService executor;
+    private final BlockingQueue<Workspace> workspaces;
+    private final int workspaceCount;
+    private final boolean virtual;
+
+    private InferenceExecutor(Network network, ExecutorService executor, int workspaceCount, boolean virtual) {
+        if (network == null) {
+            throw new IllegalArgumentException("Network must not be null");
+        }
+        if (workspaceCount < 1) {
+            throw new IllegalArgumentException("Workspace count must be at least 1: " + workspaceCount);
+        }
+
+        this.network = network;
+        this.executor = executor;
+        this.workspaceCount = workspaceCount;
+        this.virtual = virtual;
+        this.workspaces = new ArrayBlockingQueue<Workspace>(workspaceCount);
+        for (int i = 0; i < workspaceCount; i++) {
+            workspaces.add(network.newWorkspace());
+        }
+    }
+
+    // Virtual threads when running the Java 21 release, with one workspace per
+    // carrier thread; otherwise platform(network, DEFAULT_PLATFORM_THREADS)
+    public static InferenceExecutor create(Network network) {
+        ExecutorService executor = VirtualThreads.newPerTaskExecutor();
+        if (executor != null) {
+            return new InferenceExecutor(network, executor, VirtualThreads.carrierCount(), true);
+        }
+        return platform(network, DEFAULT_PLATFORM_THREADS);
+    }
+
+    // Fixed pool of platform threads; only one thread per processor can compute
+    // at a time, so workspaces are capped at the processor count
+    public static InferenceExecutor platform(Network network, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads must be at least 1: " + threads);
+        }
+        int workspaces = Math.min(threads, Runtime.getRuntime().availableProcessors());
+        return new InferenceExecutor(network, Executors.newFixedThreadPool(threads, daemonThreads()), workspaces, false);
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public int getWorkspaceCount() {
+        return workspaceCount;
+    }
+
+    public CompletableFuture<float[]> submit(final float[] inputs) {
+        return submit(new Source() {
+            @Override
+            public float[] get() {
+                return inputs;
+            }
+        });
+    }
+
+    // The source runs on the task's thread before inference, e.g. to fetch features;
+    // on virtual threads it may block without holding a carrier or a workspace
+    public CompletableFuture<float[]> submit(final Source source) {
+        final CompletableFuture<float[]> future = new CompletableFuture<float[]>();
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    future.complete(predict(source.get()));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        return future;
+    }
+
+    // Inference on the calling thread, blocks while all workspaces are in use
+    public float[] predict(float[] inputs) throws InterruptedException {
+        Workspace workspace = workspaces.take();
+        try {
+            float[] outputs = new float[network.outputLayer.neuronCount];
+            network.predictInto(inputs, outputs, workspace);
+            return outputs;
+        } finally {
+            workspaces.add(workspace);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public interface Source {
+        float[] get() throws Exception;
+    }
+
+    private static ThreadFactory daemonThreads() {
+        final AtomicInteger count = new AtomicInteger();
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable task) {
+                Thread thread = new Thread(task, "inference-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,203 @@
+package mg.rivolink.serve;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import mg.rivolink.ai.Network;
+
+// HTTP front end of a MicroBatcher, JDK httpserver only
+//   POST /predict  body: [x0, x1, ...]  ->  [y0, y1, ...]
+//   GET  /stats    latency percentiles and batch sizes as JSON
+// Launch with -Dsun.net.httpserver.nodelay=true: headers and body go out as
+// separate writes, so without TCP_NODELAY every response waits on the client's
+// delayed ACK (~40 ms). The JDK reads that property once, JVM-wide, so it is
+// left to the launcher; see isTcpNoDelay().
+public class InferenceServer implements AutoCloseable {
+
+    static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    // Request bodies are capped at this many bytes per input, plus BODY_SLACK
+    // for brackets and whitespace; larger ones get 413 before being buffered
+    static final int MAX_VALUE_CHARS = 32;
+    static final int BODY_SLACK = 64;
+
+    private final HttpServer server;
+    private final ExecutorService handlers;
+    private final MicroBatcher batcher;
+    private final int maxBodyBytes;
+
+    // Port 0 binds an ephemeral port, see getPort()
+    // Handler threads block on their prediction, so size them for the expected concurrency
+    public InferenceServer(Network network, int port, int handlerThreads,
+                           int maxBatchSize, long maxWaitMicros) throws IOException {
+        if (handlerThreads < 1) {
+            throw new IllegalArgumentException("Handler threads must be at least 1: " + handlerThreads);
+        }
+
+        this.maxBodyBytes = (int)Math.min(Integer.MAX_VALUE - 8,
+            BODY_SLACK + (long)network.inputSize * MAX_VALUE_CHARS);
+        this.batcher = new MicroBatcher(network, maxBatchSize, maxWaitMicros);
+        this.handlers = Executors.newFixedThreadPool(handlerThreads);
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+
+        server.createContext("/predict", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                handlePredict(exchange);
+            }
+        });
+        server.createContext("/stats", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                respond(exchange, 200, batcher.statsJson());
+            }
+        });
+        server.setExecutor(handlers);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    // Whether the launcher enabled TCP_NODELAY, as the JDK will read it. Only a
+    // value set before the first HttpServer of the process takes effect.
+    public static boolean isTcpNoDelay() {
+        return Boolean.getBoolean(NODELAY_PROPERTY);
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public MicroBatcher getBatcher() {
+        return batcher;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        batcher.close();
+        handlers.shutdown();
+        try {
+            handlers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void handlePredict(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, "{\"error\": \"POST required\"}");
+            return;
+        }
+
+        float[] inputs;
+        try {
+            inputs = parseArray(readBody(exchange.getRequestBody(), maxBodyBytes));
+        } catch (BodyTooLargeException e) {
+            respond(exchange, 413, error(e));
+            return;
+        } catch (IllegalArgumentException e) {
+            respond(exchange, 400, error(e));
+            return;
+        }
+
+        try {
+            float[] outputs = batcher.submit(inputs).get();
+            respond(exchange, 200, formatArray(outputs));
+        } catch (IllegalArgumentException e) {
+            respond(exchange, 400, error(e));
+        } catch (ExecutionException e) {
+            respond(exchange, 500, error(e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, error(e));
+        }
+    }
+
+    // Flat JSON array of numbers, e.g. [0.5, -1, 2e-3]
+    static float[] parseArray(String body) {
+        String trimmed = body.trim();
+        if (!trimmed.startsWith("[") || !trimmed.endsWith("]")) {
+            throw new IllegalArgumentException("Expected a JSON array of numbers");
+        }
+
+        String content = trimmed.substring(1, trimmed.length() - 1).trim();
+        if (content.isEmpty()) {
+            return new float[0];
+        }
+
+        String[] parts = content.split(",");
+        float[] values = new float[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            try {
+                values[i] = Float.parseFloat(parts[i].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Not a number: " + parts[i].trim());
+            }
+        }
+        return values;
+    }
+
+    static String formatArray(float[] values) {
+        StringBuilder json = new StringBuilder(values.length * 12 + 2);
+        json.append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                json.append(", ");
+            }
+            json.append(values[i]);
+        }
+        return json.append(']').toString();
+    }
+
+    // Whole body as UTF-8, at most limit bytes
+    static String readBody(InputStream in, int limit) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) > 0) {
+            if (body.size() + read > limit) {
+                throw new BodyTooLargeException("Request body exceeds " + limit + " bytes");
+            }
+            body.write(buffer, 0, read);
+        }
+        return new String(body.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    static final class BodyTooLargeException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        BodyTooLargeException(String message) {
+            super(message);
+        }
+    }
+
+    private static String error(Throwable e) {
+        String message = String.valueOf(e.getMessage()).replace("\\", "\\\\").replace("\"", "\\\"");
+        return "{\"error\": \"" + message + "\"}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+}
@@ -0,0 +1,168 @@
+package mg.rivolink.serve;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+
+// Closed-loop HTTP load: each client sends its next prediction as soon as the previous returns
+public class LoadGenerator {
+
+    private final URL predictUrl;
+    private final int clients;
+
+    public LoadGenerator(String host, int port, int clients) throws IOException {
+        if (clients < 1) {
+            throw new IllegalArgumentException("Clients must be at least 1: " + clients);
+        }
+        this.predictUrl = new URL("http", host, port, "/predict");
+        this.clients = clients;
+    }
+
+    public Result run(final float[][] inputs, long durationMillis) {
+        final String[] bodies = new String[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            bodies[i] = InferenceServer.formatArray(inputs[i]);
+        }
+
+        final LatencyHistogram latency = new LatencyHistogram();
+        final AtomicLong errors = new AtomicLong();
+        final long deadline = System.nanoTime() + durationMillis * 1000000L;
+        final CountDownLatch done = new CountDownLatch(clients);
+
+        long start = System.nanoTime();
+        for (int c = 0; c < clients; c++) {
+            final int offset = c;
+            Thread client = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        for (int i = offset; System.nanoTime() < deadline; i++) {
+                            long sent = System.nanoTime();
+                            if (post(bodies[i % bodies.length])) {
+                                latency.record(System.nanoTime() - sent);
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }, "load-client-" + c);
+            client.setDaemon(true);
+            client.start();
+        }
+
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        return new Result(latency, errors.get(), elapsed);
+    }
+
+    private boolean post(String body) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection)predictUrl.openConnection();
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(bytes);
+            }
+
+            int status = connection.getResponseCode();
+            InputStream in = status == 200 ? connection.getInputStream() : connection.getErrorStream();
+            if (in != null) {
+                // Drain fully so the keep-alive connection can be reused
+                byte[] buffer = new byte[4096];
+                while (in.read(buffer) > 0) {
+                    // Discarded
+                }
+                in.close();
+            }
+            return status == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public static final class Result {
+
+        public final long requests;
+        public final long errors;
+        public final double requestsPerSecond;
+        public final double p50Micros;
+        public final double p99Micros;
+        public final double maxMicros;
+
+        Result(LatencyHistogram latency, long errors, long elapsedNanos) {
+            this.requests = latency.getCount();
+            this.errors = errors;
+            this.requestsPerSecond = requests * 1e9 / elapsedNanos;
+            this.p50Micros = latency.getPercentileNanos(50) / 1000.0;
+            this.p99Micros = latency.getPercentileNanos(99) / 1000.0;
+            this.maxMicros = latency.getMaxNanos() / 1000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                "requests=%d, errors=%d, throughput=%.0f req/s, p50=%.1f us, p99=%.1f us, max=%.1f us",
+                requests, errors, requestsPerSecond, p50Micros, p99Micros, maxMicros);
+        }
+    }
+
+    // Local benchmark: serves a random 64-256-256-10 network and drives it over loopback
+    // Arguments (all optional): clients maxBatchSize maxWaitMicros seconds
+    // Run with -Dsun.net.httpserver.nodelay=true, latencies include delayed ACKs otherwise
+    public static void main(String[] args) throws IOException {
+        if (!InferenceServer.isTcpNoDelay()) {
+            System.out.println("warning: TCP_NODELAY is off, responses wait ~40 ms on delayed ACKs;"
+                + " run with -Dsun.net.httpserver.nodelay=true");
+        }
+
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        int maxBatchSize = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        long maxWaitMicros = args.length > 2 ? Long.parseLong(args[2]) : 500;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+
+        Network network = new Network(64, 256, 256, 10, Activation.SOFTMAX);
+        Random random = new Random(1L);
+        float[][] inputs = new float[256][64];
+        for (float[] row : inputs) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = random.nextFloat() * 2 - 1;
+            }
+        }
+
+        try (InferenceServer server = new InferenceServer(network, 0, clients, maxBatchSize, maxWaitMicros)) {
+            server.start();
+            LoadGenerator generator = new LoadGenerator("localhost", server.getPort(), clients);
+
+            // Warm up the JIT and the connection pool before measuring
+            generator.run(inputs, 1000);
+            server.getBatcher().resetStats();
+
+            Result result = generator.run(inputs, seconds * 1000L);
+            System.out.printf("clients=%d, maxBatchSize=%d, maxWaitMicros=%d%n", clients, maxBatchSize, maxWaitMicros);
+            System.out.println("client: " + result);
+            System.out.println("server: " + server.getBatcher().statsJson());
+        }
+    }
+
+}
@@ -0,0 +1,241 @@
+package mg.rivolink.serve;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Workspace;
+
+// Coalesces single predictions into batched forward passes
+// A batch closes when it holds maxBatchSize requests or when the oldest
+// request has waited maxWaitMicros, whichever comes first
+public class MicroBatcher implements AutoCloseable {
+
+    private final Network network;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final int inputSize;
+    private final int outputSize;
+
+    private final BlockingQueue<Request> queue = new LinkedBlockingQueue<Request>();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    // Submit-to-completion latency and batch size counts (index = batch size)
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final AtomicLongArray batchSizes;
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+
+    public MicroBatcher(Network network, int maxBatchSize, long maxWaitMicros) {
+        if (network == null) {
+            throw new IllegalArgumentException("Network must not be null");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be at least 1: " + maxBatchSize);
+        }
+        if (maxWaitMicros < 0) {
+            throw new IllegalArgumentException("Max wait must not be negative: " + maxWaitMicros);
+        }
+
+        this.network = network;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+        this.inputSize = network.inputSize;
+        this.outputSize = network.outputLayer.neuronCount;
+        this.batchSizes = new AtomicLongArray(maxBatchSize + 1);
+
+        this.worker = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                runBatches();
+            }
+        }, "micro-batcher");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public CompletableFuture<float[]> submit(float[] inputs) {
+        if (inputs.length != inputSize) {
+            throw new IllegalArgumentException(
+                "Input size mismatch: expected " + inputSize + ", got " + inputs.length
+            );
+        }
+
+        Request request = new Request(inputs);
+        if (!running) {
+            request.future.completeExceptionally(new IllegalStateException("Micro-batcher is closed"));
+            return request.future;
+        }
+
+        queue.add(request);
+        if (!running && queue.remove(request)) {
+            // Raced with close() after the worker stopped
+            request.future.completeExceptionally(new IllegalStateException("Micro-batcher is closed"));
+        }
+        return request.future;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public long getMaxWaitMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxWaitNanos);
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public long getBatchCount() {
+        return batches.get();
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public double getMeanBatchSize() {
+        long b = batches.get();
+        return b == 0 ? 0 : (double)requests.get() / b;
+    }
+
+    // Number of batches that held exactly size requests
+    public long getBatchCount(int size) {
+        if (size < 1 || size > maxBatchSize) {
+            throw new IllegalArgumentException("Batch size out of range: " + size);
+        }
+        return batchSizes.get(size);
+    }
+
+    public void resetStats() {
+        latency.reset();
+        for (int i = 0; i < batchSizes.length(); i++) {
+            batchSizes.set(i, 0);
+        }
+        batches.set(0);
+        requests.set(0);
+    }
+
+    public String statsJson() {
+        return String.format(Locale.ROOT,
+            "{\"requests\": %d, \"batches\": %d, \"meanBatchSize\": %.2f, "
+                + "\"p50Micros\": %.1f, \"p99Micros\": %.1f, \"maxMicros\": %.1f}",
+            requests.get(), batches.get(), getMeanBatchSize(),
+            latency.getPercentileNanos(50) / 1000.0,
+            latency.getPercentileNanos(99) / 1000.0,
+            latency.getMaxNanos() / 1000.0);
+    }
+
+    // Stops accepting work, completes what is queued, then stops the worker
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Request request;
+        while ((request = queue.poll()) != null) {
+            request.future.completeExceptionally(new IllegalStateException("Micro-batcher is closed"));
+        }
+    }
+
+    private void runBatches() {
+        Workspace workspace = network.newWorkspace();
+        float[] inputs = new float[maxBatchSize * inputSize];
+        float[] outputs = new float[maxBatchSize * outputSize];
+        List<Request> batch = new ArrayList<Request>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // close(): drain the queue without waiting for more arrivals
+                queue.drainTo(batch, maxBatchSize - batch.size());
+            }
+
+            if (!batch.isEmpty()) {
+                run(batch, inputs, outputs, workspace);
+                batch.clear();
+            }
+        }
+    }
+
+    // Blocks for the first request, then fills until full or its deadline passes
+    private void collect(List<Request> batch) throws InterruptedException {
+        Request first = queue.take();
+        batch.add(first);
+
+        long deadline = first.submitted + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+            // Take what is already queued without waiting
+            if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                continue;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+
+            Request next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void run(List<Request> batch, float[] inputs, float[] outputs, Workspace workspace) {
+        int count = batch.size();
+        for (int s = 0; s < count; s++) {
+            System.arraycopy(batch.get(s).inputs, 0, inputs, s * inputSize, inputSize);
+        }
+
+        try {
+            network.predictBatch(inputs, outputs, count, workspace);
+        } catch (RuntimeException e) {
+            for (Request request : batch) {
+                request.future.completeExceptionally(e);
+            }
+            return;
+        }
+
+        batches.incrementAndGet();
+        requests.addAndGet(count);
+        batchSizes.incrementAndGet(count);
+
+        for (int s = 0; s < count; s++) {
+            Request request = batch.get(s);
+            float[] result = new float[outputSize];
+            System.arraycopy(outputs, s * outputSize, result, 0, outputSize);
+
+            latency.record(System.nanoTime() - request.submitted);
+            request.future.complete(result);
+        }
+    }
+
+    private static final class Request {
+
+        final float[] inputs;
+        final long submitted = System.nanoTime();
+        final CompletableFuture<float[]> future = new CompletableFuture<float[]>();
+
+        Request(float[] inputs) {
+            this.inputs = inputs;
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package mg.rivolink.serve;
+
+import java.util.concurrent.ExecutorService;
+
+// Virtual thread support for InferenceExecutor
+// Java 8 baseline: not available, the Java 21 release of this class
+// (src-java21, packaged under META-INF/versions/21) provides them
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    // One new virtual thread per submitted task, null when not available:
+    // InferenceExecutor.create then falls back to a platform pool
+    static ExecutorService newPerTaskExecutor() {
+        return null;
+    }
+
+    // Threads the virtual thread scheduler runs on
+    static int carrierCount() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+}
@@ -0,0 +1,155 @@
+package mg.rivolink.test;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+import mg.rivolink.io.JavaCodeGenerator;
+
+public class CodeGeneratorTest {
+
+    private static final Path GENERATED_DIR = Paths.get("models", "generated");
+    private static final float EPSILON = 1e-5f;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== Java Code Generator Tests ===");
+        System.out.println();
+
+        testUnrolledXor();
+        System.out.println("\n----------\n");
+
+        testUnrolledActivations();
+        System.out.println("\n----------\n");
+
+        testLoopedWideNetwork();
+        System.out.println();
+
+        System.out.println("=== All Tests Completed ===");
+    }
+
+    private static void testUnrolledXor() throws Exception {
+        System.out.println("Test 1: Trained XOR network as an unrolled class (2-4-1 sigmoid)");
+
+        Network network = new Network.Builder()
+            .inputSize(2)
+            .hiddenSize(4)
+            .outputSize(1)
+            .learningRate(0.5f)
+            .build();
+        float[][] xtrains = { {0, 0}, {0, 1}, {1, 0}, {1, 1} };
+        float[][] ytrains = { {0}, {1}, {1}, {0} };
+        network.train(xtrains, ytrains, 5000);
+
+        Method predictInto = compile(network, "generated.XorModel");
+        float maxDiff = compare(network, predictInto, xtrains);
+        System.out.println(" - Max difference to predict: " + maxDiff);
+
+        // Tiny models are where the generic dispatch dominates
+        float[] output = new float[1];
+        int rounds = 2000000;
+        long networkNanos = time(network, null, xtrains, output, rounds);
+        long generatedNanos = time(null, predictInto, xtrains, output, rounds);
+        System.out.printf(" - Network.predictInto: %.1f ns, generated (reflective call): %.1f ns%n",
+            (double)networkNanos / rounds, (double)generatedNanos / rounds);
+    }
+
+    private static void testUnrolledActivations() throws Exception {
+        System.out.println("Test 2: Unrolled classes for every output activation (3-6-5-3)");
+
+        float[][] inputs = randomInputs(50, 3, 1L);
+        for (Activation activation : Activation.values()) {
+            Network network = new Network(3, 6, 5, 3, activation);
+            network.hiddenLayer2.neurons[0].setBias(-0.25f);
+
+            Method predictInto = compile(network, "generated.Model" + activation.name().replace("_", ""));
+            System.out.println(" - " + activation + ": max difference " + compare(network, predictInto, inputs));
+        }
+    }
+
+    private static void testLoopedWideNetwork() throws Exception {
+        System.out.println("Test 3: Wide network as specialized loops with Base64 weights (64-300-300-10 softmax)");
+
+        Network network = new Network(64, 300, 300, 10, Activation.SOFTMAX);
+        Method predictInto = compile(network, "generated.WideModel");
+        System.out.println(" - Max difference to predict: " + compare(network, predictInto, randomInputs(50, 64, 2L)));
+    }
+
+    // Generates, compiles and loads the class, returns its static predictInto
+    private static Method compile(Network network, String className) throws Exception {
+        String source = JavaCodeGenerator.generate(network, className);
+        if (source.contains("mg.rivolink.ai")) {
+            throw new IllegalStateException("Generated class references mg.rivolink.ai");
+        }
+
+        Path file = JavaCodeGenerator.write(network, className, GENERATED_DIR.toString());
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No system Java compiler, run the tests on a JDK");
+        }
+        if (compiler.run(null, null, null, "-d", GENERATED_DIR.toString(), file.toString()) != 0) {
+            throw new IllegalStateException("Generated source does not compile: " + file);
+        }
+        System.out.println(" - " + file + ": " + Files.size(file) + " bytes");
+
+        // Fresh loader, a re-generated class must not come from a cached definition
+        URLClassLoader loader = new URLClassLoader(new URL[] {new File(GENERATED_DIR.toString()).toURI().toURL()}, null);
+        Class<?> model = loader.loadClass(className);
+        return model.getMethod("predictInto", float[].class, float[].class);
+    }
+
+    private static float compare(Network network, Method predictInto, float[][] inputs) throws Exception {
+        float maxDiff = 0;
+        float[] actual = new float[network.outputLayer.neuronCount];
+        for (float[] input : inputs) {
+            float[] expected = network.predict(input);
+            predictInto.invoke(null, input, actual);
+            for (int i = 0; i < expected.length; i++) {
+                maxDiff = Math.max(maxDiff, Math.abs(expected[i] - actual[i]));
+            }
+        }
+
+        if (maxDiff > EPSILON) {
+            throw new IllegalStateException("Generated class differs from predict by " + maxDiff);
+        }
+        return maxDiff;
+    }
+
+    private static long time(Network network, Method predictInto, float[][] inputs, float[] output, int rounds)
+            throws Exception {
+        long start = 0;
+        for (int r = -rounds / 4; r < rounds; r++) {
+            if (r == 0) {
+                start = System.nanoTime();
+            }
+            float[] input = inputs[r & 3];
+            if (network != null) {
+                network.predictInto(input, output);
+            } else {
+                predictInto.invoke(null, input, output);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static float[][] randomInputs(int count, int size, long seed) {
+        Random random = new Random(seed);
+        float[][] inputs = new float[count][size];
+        for (float[] row : inputs) {
+            for (int i = 0; i < size; i++) {
+                row[i] = random.nextFloat() * 2 - 1;
+            }
+        }
+        return inputs;
+    }
+
+}
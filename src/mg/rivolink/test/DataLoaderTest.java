@@ -0,0 +1,283 @@
+package mg.rivolink.test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+import mg.rivolink.ai.DataLoader;
+import mg.rivolink.ai.Dataset;
+import mg.rivolink.ai.Network;
+
+public class DataLoaderTest {
+
+    public static void main(String[] args) {
+        System.out.println("=== Data Loader Tests ===");
+        System.out.println();
+
+        testOrderAndShuffle();
+        System.out.println("\n----------\n");
+
+        testNormalization();
+        System.out.println("\n----------\n");
+
+        testMatchesInMemoryTraining();
+        System.out.println("\n----------\n");
+
+        testFailurePropagates();
+        System.out.println("\n----------\n");
+
+        testOverlapsSlowReads();
+        System.out.println("\n----------\n");
+
+        testRestartAfterFailedStep();
+        System.out.println();
+
+        System.out.println("=== All Tests Completed ===");
+    }
+
+    private static void testOrderAndShuffle() {
+        System.out.println("Test 1: 103 rows in batches of 10, in order then shuffled over 3 epochs");
+
+        ArrayDataset dataset = indexDataset(103);
+
+        DataLoader ordered = new DataLoader.Builder(dataset).batchSize(10).build();
+        int[][] epochs = collect(ordered, 1);
+        for (int i = 0; i < 103; i++) {
+            if (epochs[0][i] != i) {
+                throw new IllegalStateException("Row " + i + " delivered as " + epochs[0][i]);
+            }
+        }
+        System.out.println(" - In order: " + ordered.getBatchCount() + " batches, last one partial");
+
+        int[][] first = collect(new DataLoader.Builder(dataset).batchSize(10).shuffle(7L).build(), 3);
+        int[][] second = collect(new DataLoader.Builder(dataset).batchSize(10).shuffle(7L).build(), 3);
+        for (int e = 0; e < 3; e++) {
+            int[] sorted = first[e].clone();
+            Arrays.sort(sorted);
+            for (int i = 0; i < 103; i++) {
+                if (sorted[i] != i) {
+                    throw new IllegalStateException("Epoch " + e + " is not a permutation");
+                }
+            }
+            if (!Arrays.equals(first[e], second[e])) {
+                throw new IllegalStateException("Same seed gave a different order in epoch " + e);
+            }
+        }
+        if (Arrays.equals(first[0], first[1]) || Arrays.equals(first[0], epochs[0])) {
+            throw new IllegalStateException("Epochs were not reshuffled");
+        }
+        System.out.println(" - Shuffled: every epoch a new permutation, reproducible from the seed");
+    }
+
+    private static void testNormalization() {
+        System.out.println("Test 2: per-feature normalization on the loader thread");
+
+        float[][] x = { {10, 0, 5}, {20, 4, 5} };
+        float[][] y = { {1}, {0} };
+        DataLoader loader = new DataLoader.Builder(new ArrayDataset(x, y, 0))
+            .normalize(new float[] {15, 2, 5}, new float[] {5, 2, 0})
+            .build();
+
+        loader.start(1);
+        DataLoader.Batch batch = loader.take();
+        float[][] expected = { {-1, -1, 0}, {1, 1, 0} };
+        for (int r = 0; r < 2; r++) {
+            if (!Arrays.equals(batch.inputs[r], expected[r])) {
+                throw new IllegalStateException("Row " + r + " normalized to " + Arrays.toString(batch.inputs[r]));
+            }
+        }
+        loader.release(batch);
+        if (loader.take() != null) {
+            throw new IllegalStateException("Expected a single batch");
+        }
+        System.out.println(" - (x - mean) / std applied, zero deviation left unscaled");
+    }
+
+    private static void testMatchesInMemoryTraining() {
+        System.out.println("Test 3: loader training equals float[][] training (8-16-2, batch sizes 1 and 8)");
+
+        float[][] xtrains = new float[500][8];
+        float[][] ytrains = new float[500][2];
+        Random random = new Random(1L);
+        for (int i = 0; i < xtrains.length; i++) {
+            for (int k = 0; k < 8; k++) {
+                xtrains[i][k] = random.nextFloat() * 2 - 1;
+            }
+            ytrains[i][xtrains[i][0] > 0 ? 0 : 1] = 1;
+        }
+
+        for (int batchSize : new int[] {1, 8}) {
+            Network inMemory = new Network.Builder()
+                .inputSize(8).hiddenSize(16).outputSize(2)
+                .learningRate(0.05f).batchSize(batchSize)
+                .build();
+            Network loaded = inMemory.copy();
+
+            // Loader batches of 64 are a multiple of 8, the mini-batches line up
+            inMemory.train(xtrains, ytrains, 3);
+            loaded.train(new DataLoader.Builder(new ArrayDataset(xtrains, ytrains, 0)).batchSize(64).build(), 3);
+
+            for (float[] x : xtrains) {
+                if (!Arrays.equals(inMemory.predict(x), loaded.predict(x))) {
+                    throw new IllegalStateException("Loader training diverged at batch size " + batchSize);
+                }
+            }
+            System.out.println(" - Batch size " + batchSize + ": identical predictions on all rows");
+        }
+    }
+
+    private static void testFailurePropagates() {
+        System.out.println("Test 4: a read failure on the loader thread reaches the trainer");
+
+        ArrayDataset dataset = indexDataset(100);
+        dataset.failAt = 42;
+        Network network = new Network(1, 4, 1);
+        try {
+            network.train(new DataLoader.Builder(dataset).batchSize(16).build(), 1);
+            throw new IllegalStateException("Training did not fail");
+        } catch (IllegalStateException e) {
+            if (e.getCause() == null || !e.getCause().getMessage().contains("row 42")) {
+                throw e;
+            }
+            System.out.println(" - " + e.getMessage() + ": " + e.getCause().getMessage());
+        }
+    }
+
+    private static void testOverlapsSlowReads() {
+        System.out.println("Test 5: 2000 rows with 50 us of read latency each (64-128-4)");
+
+        float[][] xtrains = new float[2000][64];
+        float[][] ytrains = new float[2000][4];
+        Random random = new Random(2L);
+        for (int i = 0; i < xtrains.length; i++) {
+            for (int k = 0; k < 64; k++) {
+                xtrains[i][k] = random.nextFloat();
+            }
+            ytrains[i][i % 4] = 1;
+        }
+        ArrayDataset dataset = new ArrayDataset(xtrains, ytrains, 50000);
+
+        Network network = new Network(64, 128, 4);
+        network.train(dataset, 1);
+
+        long start = System.nanoTime();
+        network.train(dataset, 1);
+        long serial = System.nanoTime() - start;
+
+        DataLoader loader = new DataLoader.Builder(dataset).batchSize(50).prefetch(4).build();
+        network.train(loader, 1);
+        loader.resetStats();
+
+        start = System.nanoTime();
+        network.train(loader, 1);
+        long prefetched = System.nanoTime() - start;
+
+        System.out.printf(" - Reading inline: %.1f ms, prefetched: %.1f ms%n", serial / 1e6, prefetched / 1e6);
+        System.out.println(" - Loader stats: " + loader.statsJson());
+        System.out.printf(" - Trainer stalled %.0f%% of the time, %s bound%n", 100 * loader.getStallFraction(),
+            loader.getStallNanos() > loader.getLoaderWaitNanos() ? "loader" : "compute");
+        if (loader.getBatchCount() != 40) {
+            throw new IllegalStateException("Expected 40 batches, got " + loader.getBatchCount());
+        }
+    }
+
+    // Row indices delivered per epoch, read back from the first input column
+    private static void testRestartAfterFailedStep() {
+        System.out.println("Test 6: a training step that throws stops the loader, the next run starts");
+
+        // Two buffers for 50 batches: the loader thread blocks on a free buffer
+        DataLoader loader = new DataLoader.Builder(indexDataset(100)).batchSize(2).prefetch(2).build();
+        Network network = new Network(1, 4, 1);
+
+        // An interrupted trainer fails in its first take
+        Thread.currentThread().interrupt();
+        try {
+            network.train(loader, 1);
+            throw new IllegalStateException("Training did not fail");
+        } catch (IllegalStateException e) {
+            if (!Thread.interrupted()) {
+                throw e;
+            }
+            System.out.println(" - First run failed: " + e.getMessage());
+        }
+
+        long before = loader.getBatchCount();
+        network.train(loader, 1);
+        loader.close();
+        System.out.println(" - Second run trained on " + (loader.getBatchCount() - before) + " batches");
+    }
+
+    private static int[][] collect(DataLoader loader, int epochs) {
+        int size = (int)loader.getDataset().size();
+        int[][] order = new int[epochs][size];
+        loader.start(epochs);
+
+        int seen = 0;
+        DataLoader.Batch batch;
+        while ((batch = loader.take()) != null) {
+            for (int r = 0; r < batch.getCount(); r++, seen++) {
+                order[seen / size][seen % size] = (int)batch.inputs[r][0];
+            }
+            loader.release(batch);
+        }
+        loader.close();
+
+        if (seen != epochs * size) {
+            throw new IllegalStateException("Delivered " + seen + " rows, expected " + epochs * size);
+        }
+        return order;
+    }
+
+    private static ArrayDataset indexDataset(int size) {
+        float[][] x = new float[size][1];
+        float[][] y = new float[size][1];
+        for (int i = 0; i < size; i++) {
+            x[i][0] = i;
+            y[i][0] = i % 2;
+        }
+        return new ArrayDataset(x, y, 0);
+    }
+
+    // In-memory rows with an optional per-row delay standing in for disk or parsing
+    private static final class ArrayDataset implements Dataset {
+
+        private final float[][] x;
+        private final float[][] y;
+        private final long delayNanos;
+        long failAt = -1;
+
+        ArrayDataset(float[][] x, float[][] y, long delayNanos) {
+            this.x = x;
+            this.y = y;
+            this.delayNanos = delayNanos;
+        }
+
+        @Override
+        public long size() {
+            return x.length;
+        }
+
+        @Override
+        public int getInputSize() {
+            return x[0].length;
+        }
+
+        @Override
+        public int getOutputSize() {
+            return y[0].length;
+        }
+
+        @Override
+        public void read(long index, float[] inputs, float[] targets) {
+            if (index == failAt) {
+                throw new IllegalArgumentException("Corrupt row " + index);
+            }
+            if (delayNanos > 0) {
+                LockSupport.parkNanos(delayNanos);
+            }
+            System.arraycopy(x[(int)index], 0, inputs, 0, inputs.length);
+            System.arraycopy(y[(int)index], 0, targets, 0, targets.length);
+        }
+    }
+
+}
@@ -0,0 +1,134 @@
+package mg.rivolink.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+import mg.rivolink.serve.InferenceExecutor;
+
+public class InferenceExecutorTest {
+
+    private static final int CALLERS = 20000;
+    private static final int IO_MILLIS = 10;
+    private static final int PLATFORM_THREADS = 200;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== Inference Executor Tests ===");
+        System.out.println();
+
+        testSharedNetworkResults();
+        System.out.println("\n----------\n");
+
+        testCallerThroughput();
+        System.out.println();
+
+        System.out.println("=== All Tests Completed ===");
+    }
+
+    private static void testSharedNetworkResults() throws Exception {
+        System.out.println("Test 1: " + CALLERS + " concurrent submits on one network (16-32-4 softmax)");
+
+        Network network = new Network(16, 32, 4, Activation.SOFTMAX);
+        float[][] inputs = randomInputs(64, 16, 1L);
+        float[][] expected = new float[inputs.length][];
+        for (int i = 0; i < inputs.length; i++) {
+            expected[i] = network.predict(inputs[i]);
+        }
+
+        try (InferenceExecutor executor = InferenceExecutor.create(network)) {
+            System.out.println(" - Virtual threads: " + executor.isVirtual()
+                + ", workspaces: " + executor.getWorkspaceCount());
+
+            List<CompletableFuture<float[]>> futures = new ArrayList<CompletableFuture<float[]>>();
+            for (int c = 0; c < CALLERS; c++) {
+                futures.add(executor.submit(inputs[c % inputs.length]));
+            }
+
+            int mismatches = 0;
+            for (int c = 0; c < CALLERS; c++) {
+                if (!equal(expected[c % inputs.length], futures.get(c).get())) {
+                    mismatches++;
+                }
+            }
+
+            if (mismatches > 0) {
+                throw new IllegalStateException(mismatches + " predictions differed");
+            }
+            System.out.println(" - All outputs identical to predict");
+        }
+    }
+
+    // Callers block on simulated I/O before inference: virtual threads park
+    // all of them at once, a platform pool can only wait PLATFORM_THREADS at a time
+    private static void testCallerThroughput() throws Exception {
+        System.out.println("Test 2: " + CALLERS + " callers with " + IO_MILLIS
+            + " ms of I/O each, executor vs " + PLATFORM_THREADS + " platform threads (64-128-128-10)");
+
+        Network network = new Network(64, 128, 128, 10, Activation.SOFTMAX);
+        float[][] inputs = randomInputs(256, 64, 2L);
+
+        InferenceExecutor executor = InferenceExecutor.create(network);
+        InferenceExecutor platform = InferenceExecutor.platform(network, PLATFORM_THREADS);
+        try {
+            // Warm up both paths before timing
+            run(executor, inputs, CALLERS / 10);
+            run(platform, inputs, CALLERS / 10);
+
+            long executorNanos = run(executor, inputs, CALLERS);
+            long platformNanos = run(platform, inputs, CALLERS);
+
+            System.out.printf(" - create() (%s): %.0f ms, %.0f calls/s%n",
+                executor.isVirtual() ? "virtual" : "platform fallback",
+                executorNanos / 1e6, CALLERS * 1e9 / executorNanos);
+            System.out.printf(" - platform(%d): %.0f ms, %.0f calls/s%n", PLATFORM_THREADS,
+                platformNanos / 1e6, CALLERS * 1e9 / platformNanos);
+        } finally {
+            executor.close();
+            platform.close();
+        }
+    }
+
+    private static long run(InferenceExecutor executor, final float[][] inputs, int callers) throws Exception {
+        List<CompletableFuture<float[]>> futures = new ArrayList<CompletableFuture<float[]>>(callers);
+
+        long start = System.nanoTime();
+        for (int c = 0; c < callers; c++) {
+            final float[] input = inputs[c % inputs.length];
+            futures.add(executor.submit(new InferenceExecutor.Source() {
+                @Override
+                public float[] get() throws Exception {
+                    Thread.sleep(IO_MILLIS);
+                    return input;
+                }
+            }));
+        }
+        for (CompletableFuture<float[]> future : futures) {
+            future.get();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static float[][] randomInputs(int count, int size, long seed) {
+        Random random = new Random(seed);
+        float[][] inputs = new float[count][size];
+        for (float[] row : inputs) {
+            for (int i = 0; i < size; i++) {
+                row[i] = random.nextFloat() * 2 - 1;
+            }
+        }
+        return inputs;
+    }
+
+    private static boolean equal(float[] a, float[] b) {
+        for (int i = 0; i < a.length; i++) {
+            if (Float.floatToIntBits(a[i]) != Float.floatToIntBits(b[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
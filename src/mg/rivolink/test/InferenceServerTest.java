@@ -0,0 +1,191 @@
+package mg.rivolink.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+import mg.rivolink.serve.InferenceServer;
+import mg.rivolink.serve.LoadGenerator;
+import mg.rivolink.serve.MicroBatcher;
+
+public class InferenceServerTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== Inference Server Tests ===");
+        System.out.println();
+
+        // As launcher, enable TCP_NODELAY before the first HttpServer unless -D chose
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+
+        testMicroBatcherCoalesces();
+        System.out.println("\n----------\n");
+
+        testHttpPredict();
+        System.out.println("\n----------\n");
+
+        testLoadGenerator();
+        System.out.println();
+
+        System.out.println("=== All Tests Completed ===");
+    }
+
+    private static void testMicroBatcherCoalesces() throws Exception {
+        System.out.println("Test 1: Micro-batcher coalesces queued requests (16-32-4 softmax, max batch 32)");
+
+        Network network = new Network(16, 32, 4, Activation.SOFTMAX);
+        float[][] inputs = randomInputs(256, 16, 1L);
+
+        try (MicroBatcher batcher = new MicroBatcher(network, 32, 2000)) {
+            List<CompletableFuture<float[]>> futures = new ArrayList<CompletableFuture<float[]>>();
+            for (float[] input : inputs) {
+                futures.add(batcher.submit(input));
+            }
+
+            float maxDiff = 0;
+            for (int i = 0; i < inputs.length; i++) {
+                maxDiff = Math.max(maxDiff, maxDiff(network.predict(inputs[i]), futures.get(i).get()));
+            }
+
+            System.out.println(" - Max difference to predict: " + maxDiff);
+            System.out.println(" - Stats: " + batcher.statsJson());
+            if (maxDiff > EPSILON) {
+                throw new IllegalStateException("Batched output differs from predict by " + maxDiff);
+            }
+            if (batcher.getRequestCount() != inputs.length || batcher.getMeanBatchSize() <= 1) {
+                throw new IllegalStateException("Requests were not coalesced: " + batcher.statsJson());
+            }
+        }
+    }
+
+    private static void testHttpPredict() throws Exception {
+        System.out.println("Test 2: POST /predict matches predict, malformed input gets 400, oversized 413 (8-12-3)");
+
+        Network network = new Network(8, 12, 3);
+        float[][] inputs = randomInputs(16, 8, 2L);
+
+        try (InferenceServer server = new InferenceServer(network, 0, 4, 16, 500)) {
+            server.start();
+            String base = "http://localhost:" + server.getPort();
+
+            float maxDiff = 0;
+            for (float[] input : inputs) {
+                String response = request(base + "/predict", "POST", format(input), 200);
+                maxDiff = Math.max(maxDiff, maxDiff(network.predict(input), parse(response)));
+            }
+            System.out.println(" - Max difference to predict: " + maxDiff);
+            if (maxDiff > EPSILON) {
+                throw new IllegalStateException("HTTP output differs from predict by " + maxDiff);
+            }
+
+            request(base + "/predict", "POST", "[1, 2]", 400);
+            request(base + "/predict", "POST", "not json", 400);
+
+            // Capped at 8 inputs x 32 chars + 64, well before the whole body is buffered
+            StringBuilder huge = new StringBuilder("[");
+            for (int i = 0; i < 4096; i++) {
+                huge.append(i == 0 ? "" : ", ").append("0.123456");
+            }
+            System.out.println(" - Oversized body: " + request(base + "/predict", "POST", huge.append("]").toString(), 413));
+            System.out.println(" - Stats: " + request(base + "/stats", "GET", null, 200));
+        }
+    }
+
+    private static void testLoadGenerator() throws Exception {
+        System.out.println("Test 3: Local load generator, 16 clients for 1s (32-64-64-8 softmax)");
+
+        Network network = new Network(32, 64, 64, 8, Activation.SOFTMAX);
+        float[][] inputs = randomInputs(64, 32, 3L);
+
+        try (InferenceServer server = new InferenceServer(network, 0, 16, 16, 500)) {
+            server.start();
+            LoadGenerator.Result result = new LoadGenerator("localhost", server.getPort(), 16).run(inputs, 1000);
+
+            System.out.println(" - Client: " + result);
+            System.out.println(" - Server: " + server.getBatcher().statsJson());
+            if (result.errors > 0 || result.requests == 0) {
+                throw new IllegalStateException("Load run failed: " + result);
+            }
+        }
+    }
+
+    private static String request(String url, String method, String body, int expectedStatus) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection)new URL(url).openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        int status = connection.getResponseCode();
+        if (status != expectedStatus) {
+            throw new IllegalStateException(method + " " + url + " returned " + status + ", expected " + expectedStatus);
+        }
+
+        InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = in.read(buffer)) > 0) {
+            content.write(buffer, 0, read);
+        }
+        in.close();
+        return new String(content.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static String format(float[] values) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < values.length; i++) {
+            json.append(i > 0 ? ", " : "").append(values[i]);
+        }
+        return json.append(']').toString();
+    }
+
+    private static float[] parse(String json) {
+        String[] parts = json.trim().replace("[", "").replace("]", "").split(",");
+        float[] values = new float[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Float.parseFloat(parts[i].trim());
+        }
+        return values;
+    }
+
+    private static float maxDiff(float[] expected, float[] actual) {
+        if (expected.length != actual.length) {
+            throw new IllegalStateException("Output size " + actual.length + ", expected " + expected.length);
+        }
+
+        float maxDiff = 0;
+        for (int i = 0; i < expected.length; i++) {
+            maxDiff = Math.max(maxDiff, Math.abs(expected[i] - actual[i]));
+        }
+        return maxDiff;
+    }
+
+    private static float[][] randomInputs(int count, int size, long seed) {
+        Random random = new Random(seed);
+        float[][] inputs = new float[count][size];
+        for (float[] row : inputs) {
+            for (int i = 0; i < size; i++) {
+                row[i] = random.nextFloat() * 2 - 1;
+            }
+        }
+        return inputs;
+    }
+
+}
@@ -0,0 +1,195 @@
+package mg.rivolink.test;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.FloatBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.io.MappedDataset;
+
+public class MappedDatasetTest {
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== Mapped Dataset Tests ===");
+        System.out.println();
+
+        testCsvConversion();
+        System.out.println("\n----------\n");
+
+        testMatchesInMemoryTraining();
+        System.out.println("\n----------\n");
+
+        testRejectsCorruptFiles();
+        System.out.println("\n----------\n");
+
+        testStreamingThroughput();
+        System.out.println();
+
+        System.out.println("=== All Tests Completed ===");
+    }
+
+    private static void testCsvConversion() throws IOException {
+        System.out.println("Test 1: CSV with a header and blank lines to a dataset file (2 inputs, 1 target)");
+
+        Path csv = Files.createTempFile("xor", ".csv");
+        Path file = Files.createTempFile("xor", ".nnds");
+        try {
+            String text = "x1,x2,y\n0,0,0\n0, 1 ,1\n\n1,0,1\n1,1,0\n";
+            Files.write(csv, text.getBytes(StandardCharsets.UTF_8));
+
+            long rows = MappedDataset.convertCsv(csv.toString(), file.toString(), 2, 1);
+            System.out.println(" - Rows: " + rows + ", file: " + Files.size(file) + " bytes");
+
+            float[][] expected = { {0, 0, 0}, {0, 1, 1}, {1, 0, 1}, {1, 1, 0} };
+            try (MappedDataset dataset = MappedDataset.open(file.toString())) {
+                if (dataset.size() != 4 || dataset.getInputSize() != 2 || dataset.getOutputSize() != 1) {
+                    throw new IllegalStateException("Unexpected shape " + dataset.size() + "x"
+                        + dataset.getInputSize() + "+" + dataset.getOutputSize());
+                }
+
+                float[] inputs = new float[2];
+                float[] targets = new float[1];
+                for (int i = 0; i < expected.length; i++) {
+                    dataset.read(i, inputs, targets);
+                    FloatBuffer view = dataset.inputs(i);
+                    float[] row = {inputs[0], inputs[1], targets[0]};
+                    float[] viewRow = {view.get(0), view.get(1), dataset.targets(i).get(0)};
+                    if (!Arrays.equals(row, expected[i]) || !Arrays.equals(viewRow, expected[i])) {
+                        throw new IllegalStateException("Row " + i + " is " + Arrays.toString(row));
+                    }
+                }
+            }
+            System.out.println(" - read and row views match the CSV");
+        } finally {
+            Files.deleteIfExists(csv);
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void testMatchesInMemoryTraining() throws IOException {
+        System.out.println("Test 2: streamed training equals float[][] training (8-16-2, batch sizes 1 and 8)");
+
+        float[][] xtrains = new float[1000][8];
+        float[][] ytrains = new float[1000][2];
+        fill(xtrains, ytrains, new Random(1L));
+
+        Path file = Files.createTempFile("train", ".nnds");
+        try {
+            write(file, xtrains, ytrains);
+
+            try (MappedDataset dataset = MappedDataset.open(file.toString())) {
+                for (int batchSize : new int[] {1, 8}) {
+                    Network inMemory = new Network.Builder()
+                        .inputSize(8).hiddenSize(16).outputSize(2)
+                        .learningRate(0.05f).batchSize(batchSize)
+                        .build();
+                    Network streamed = inMemory.copy();
+
+                    inMemory.train(xtrains, ytrains, 3);
+                    streamed.train(dataset, 3);
+
+                    for (float[] x : xtrains) {
+                        if (!Arrays.equals(inMemory.predict(x), streamed.predict(x))) {
+                            throw new IllegalStateException("Streamed training diverged at batch size " + batchSize);
+                        }
+                    }
+                    System.out.println(" - Batch size " + batchSize + ": identical predictions on all rows");
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void testRejectsCorruptFiles() throws IOException {
+        System.out.println("Test 3: truncated files and wrong magic are rejected");
+
+        float[][] xtrains = new float[10][4];
+        float[][] ytrains = new float[10][1];
+        fill(xtrains, ytrains, new Random(2L));
+
+        Path file = Files.createTempFile("corrupt", ".nnds");
+        try {
+            write(file, xtrains, ytrains);
+            try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+                raf.setLength(raf.length() - 4);
+            }
+            expectIOException(file, "truncated file");
+
+            Files.write(file, "x1,x2,y\n0,0,0\n".getBytes(StandardCharsets.UTF_8));
+            expectIOException(file, "CSV passed as dataset");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void testStreamingThroughput() throws IOException {
+        System.out.println("Test 4: one epoch over 100000 rows, streamed vs in-memory (32-64-4)");
+
+        float[][] xtrains = new float[100000][32];
+        float[][] ytrains = new float[100000][4];
+        fill(xtrains, ytrains, new Random(3L));
+
+        Path file = Files.createTempFile("epoch", ".nnds");
+        try {
+            write(file, xtrains, ytrains);
+            System.out.printf(" - File: %.1f MB%n", Files.size(file) / 1e6);
+
+            Network network = new Network(32, 64, 4);
+            network.alpha = 0.01f;
+            try (MappedDataset dataset = MappedDataset.open(file.toString())) {
+                // Warm up both paths
+                network.train(dataset, 1);
+                network.train(xtrains, ytrains, 1);
+
+                long start = System.nanoTime();
+                network.train(xtrains, ytrains, 1);
+                long inMemory = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                network.train(dataset, 1);
+                long streamed = System.nanoTime() - start;
+
+                System.out.printf(" - In-memory: %.1f ms, streamed: %.1f ms%n", inMemory / 1e6, streamed / 1e6);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void expectIOException(Path file, String label) {
+        try (MappedDataset dataset = MappedDataset.open(file.toString())) {
+            throw new IllegalStateException("Opened a " + label + " with " + dataset.size() + " rows");
+        } catch (IOException e) {
+            System.out.println(" - " + label + ": " + e.getMessage().replace(file.toString(), "<file>"));
+        }
+    }
+
+    private static void write(Path file, float[][] xtrains, float[][] ytrains) throws IOException {
+        try (MappedDataset.Writer writer = MappedDataset.create(file.toString(),
+                xtrains[0].length, ytrains[0].length)) {
+            for (int i = 0; i < xtrains.length; i++) {
+                writer.write(xtrains[i], ytrains[i]);
+            }
+        }
+    }
+
+    // Targets are a fixed function of the inputs so training has something to fit
+    private static void fill(float[][] xtrains, float[][] ytrains, Random random) {
+        for (int i = 0; i < xtrains.length; i++) {
+            float sum = 0;
+            for (int k = 0; k < xtrains[i].length; k++) {
+                xtrains[i][k] = random.nextFloat() * 2 - 1;
+                sum += xtrains[i][k];
+            }
+            int label = sum > 0 ? 0 : 1;
+            ytrains[i][label % ytrains[i].length] = 1;
+        }
+    }
+
+}
@@ -0,0 +1,155 @@
+package mg.rivolink.test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.io.ModelRegistry;
+import mg.rivolink.io.NetworkIO;
+
+public class ModelRegistryTest {
+
+    private static final Path MODEL_DIR = Paths.get("models", "registry-test");
+    private static final int MODELS = 12;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== Model Registry Tests ===");
+        System.out.println();
+
+        long modelBytes = saveModels();
+
+        testConcurrentMissesLoadOnce(modelBytes);
+        System.out.println("\n----------\n");
+
+        testBudgetEviction(modelBytes);
+        System.out.println("\n----------\n");
+
+        testTinyLfuResistsScan(modelBytes);
+        System.out.println();
+
+        System.out.println("=== All Tests Completed ===");
+    }
+
+    // Tenant models of identical shape, returns the weight bytes of one
+    private static long saveModels() throws Exception {
+        Files.createDirectories(MODEL_DIR);
+        Network network = null;
+        for (int m = 0; m < MODELS; m++) {
+            network = new Network(16, 32, 4);
+            NetworkIO.save(network, MODEL_DIR.resolve(key(m) + ".bin").toString());
+        }
+        return network.getWeightBytes();
+    }
+
+    private static void testConcurrentMissesLoadOnce(long modelBytes) throws Exception {
+        System.out.println("Test 1: 8 threads missing the same model share one load");
+
+        final ModelRegistry registry = new ModelRegistry(MODEL_DIR.toString(), 4 * modelBytes);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Network>> results = new ArrayList<Future<Network>>();
+            for (int t = 0; t < 8; t++) {
+                results.add(callers.submit(new Callable<Network>() {
+                    @Override
+                    public Network call() throws Exception {
+                        return registry.get(key(0));
+                    }
+                }));
+            }
+
+            Network first = results.get(0).get();
+            for (Future<Network> result : results) {
+                if (result.get() != first) {
+                    throw new IllegalStateException("Callers received different instances");
+                }
+            }
+
+            registry.get(key(0));
+            System.out.println(" - " + registry);
+            if (registry.getLoadCount() != 1 || registry.getMissCount() != 1 || registry.getHitCount() < 1) {
+                throw new IllegalStateException("Expected one miss, one load and a hit: " + registry);
+            }
+            // Each of the 9 requests counts once, as a hit, the miss or a join
+            if (registry.getHitCount() + registry.getMissCount() + registry.getJoinCount() != 9) {
+                throw new IllegalStateException("Requests counted more than once: " + registry);
+            }
+
+            try {
+                registry.get("../outside");
+                throw new IllegalStateException("Key outside the directory was accepted");
+            } catch (IllegalArgumentException expected) {
+                System.out.println(" - Rejected key outside the directory");
+            }
+        } finally {
+            callers.shutdown();
+            registry.close();
+        }
+    }
+
+    private static void testBudgetEviction(long modelBytes) throws Exception {
+        System.out.println("Test 2: LRU keeps the weight bytes within a 3-model budget");
+
+        try (ModelRegistry registry = new ModelRegistry(MODEL_DIR.toString(), 3 * modelBytes)) {
+            for (int m = 0; m < MODELS; m++) {
+                registry.get(key(m));
+                if (registry.getUsedBytes() > registry.getBudgetBytes()) {
+                    throw new IllegalStateException("Budget exceeded: " + registry);
+                }
+            }
+
+            // The three most recent models stay cached
+            long loads = registry.getLoadCount();
+            for (int m = MODELS - 3; m < MODELS; m++) {
+                registry.get(key(m));
+            }
+
+            System.out.println(" - " + registry);
+            if (registry.size() != 3 || registry.getLoadCount() != loads
+                || registry.getEvictionCount() != MODELS - 3) {
+                throw new IllegalStateException("Unexpected LRU state: " + registry);
+            }
+        }
+    }
+
+    // A hot model requested between one-off requests for every other tenant
+    private static void testTinyLfuResistsScan(long modelBytes) throws Exception {
+        System.out.println("Test 3: Hot model survives a scan of cold models (budget of 3)");
+
+        for (ModelRegistry.Policy policy : ModelRegistry.Policy.values()) {
+            try (ModelRegistry registry = new ModelRegistry(MODEL_DIR.toString(), 3 * modelBytes, policy, 1)) {
+                for (int r = 0; r < 20; r++) {
+                    registry.get(key(0));
+                }
+
+                long hotLoads = 0;
+                for (int m = 1; m < MODELS; m += 3) {
+                    // Three cold requests between hot requests, enough to flush LRU
+                    for (int c = m; c < Math.min(MODELS, m + 3); c++) {
+                        registry.get(key(c));
+                    }
+
+                    long before = registry.getLoadCount();
+                    registry.get(key(0));
+                    hotLoads += registry.getLoadCount() - before;
+                }
+
+                System.out.println(" - " + policy + ": hot model reloaded " + hotLoads + " times, " + registry);
+                if (policy == ModelRegistry.Policy.TINY_LFU && hotLoads > 0) {
+                    throw new IllegalStateException("TinyLFU evicted the hot model");
+                }
+            }
+        }
+    }
+
+    private static String key(int model) {
+        return "tenant-" + model;
+    }
+
+}
@@ -0,0 +1,99 @@
+package mg.rivolink.test;
+
+import java.lang.management.ManagementFactory;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+
+public class NetworkAllocationTest {
+
+    private static final int WARMUP_STEPS = 200000;
+    private static final int MEASURED_STEPS = 100000;
+
+    public static void main(String[] args) {
+        System.out.println("=== Training Allocation Tests ===");
+        System.out.println();
+
+        com.sun.management.ThreadMXBean threads = threadBean();
+        if (threads == null) {
+            System.out.println("Thread allocation counters not supported by this JVM, skipping");
+            return;
+        }
+
+        testFloatTargetStep(threads);
+        System.out.println("\n----------\n");
+
+        testIntTargetStep(threads);
+        System.out.println();
+
+        System.out.println("=== All Tests Completed ===");
+    }
+
+    private static void testFloatTargetStep(com.sun.management.ThreadMXBean threads) {
+        System.out.println("Test 1: train(float[], float[]) on a 4-12-6-1 network");
+
+        Network network = new Network(4, 12, 6, 1);
+        float[][] inputs = {{0f, 0f, 1f, 1f}, {1f, 0f, 1f, 0f}, {1f, 1f, 1f, 1f}};
+        float[][] targets = {{0f}, {1f}, {0f}};
+
+        for (int i = 0; i < WARMUP_STEPS; i++) {
+            network.train(inputs[i % 3], targets[i % 3]);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_STEPS; i++) {
+            network.train(inputs[i % 3], targets[i % 3]);
+        }
+        long after = threads.getThreadAllocatedBytes(threadId);
+
+        check(after - before);
+    }
+
+    private static void testIntTargetStep(com.sun.management.ThreadMXBean threads) {
+        System.out.println("Test 2: train(float[], int[]) on a 4-10-3 softmax network");
+
+        Network network = new Network(4, 10, 3, Activation.SOFTMAX);
+        float[][] inputs = {{0.2f, 0.3f, 0.1f, 0f}, {0.7f, 0.5f, 0.6f, 0.4f}, {0.85f, 0.6f, 0.8f, 0.7f}};
+        int[][] targets = {{1, 0, 0}, {0, 1, 0}, {0, 0, 1}};
+
+        for (int i = 0; i < WARMUP_STEPS; i++) {
+            network.train(inputs[i % 3], targets[i % 3]);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_STEPS; i++) {
+            network.train(inputs[i % 3], targets[i % 3]);
+        }
+        long after = threads.getThreadAllocatedBytes(threadId);
+
+        check(after - before);
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+    // The counter itself may allocate a few bytes, tolerate well under one byte per step
+    private static void check(long allocated) {
+        double perStep = (double) allocated / MEASURED_STEPS;
+        System.out.printf(" - Allocated %d bytes over %d steps (%.4f bytes/step)\n",
+            allocated, MEASURED_STEPS, perStep);
+
+        if (perStep >= 1.0) {
+            throw new IllegalStateException("Training step allocates " + perStep + " bytes");
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+package mg.rivolink.test;
+
+import java.util.Random;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+
+public class NetworkBatchTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    public static void main(String[] args) {
+        System.out.println("=== Batched Inference Tests ===");
+        System.out.println();
+
+        testBatchMatchesPredict();
+        System.out.println("\n----------\n");
+
+        testFlatBatchMatchesPredict();
+        System.out.println("\n----------\n");
+
+        testBatchThroughput();
+        System.out.println();
+
+        System.out.println("=== All Tests Completed ===");
+    }
+
+    private static void testBatchMatchesPredict() {
+        System.out.println("Test 1: predictBatch(float[][]) matches predict (300-70-9 softmax)");
+
+        Network network = new Network(300, 70, 9, Activation.SOFTMAX);
+        float[][] inputs = randomInputs(133, 300, 1L);
+        float[][] outputs = new float[inputs.length][9];
+
+        network.predictBatch(inputs, outputs);
+
+        float maxDiff = 0;
+        for (int s = 0; s < inputs.length; s++) {
+            float[] expected = network.predict(inputs[s]);
+            for (int i = 0; i < expected.length; i++) {
+                maxDiff = Math.max(maxDiff, Math.abs(expected[i] - outputs[s][i]));
+            }
+        }
+
+        check(maxDiff);
+    }
+
+    private static void testFlatBatchMatchesPredict() {
+        System.out.println("Test 2: predictBatch(float[]) matches predict (7-13-6-5 tanh)");
+
+        Network network = new Network(7, 13, 6, 5, Activation.TANH);
+        int count = 70;
+        float[][] inputs = randomInputs(count, 7, 2L);
+
+        float[] flatInputs = new float[count * 7];
+        for (int s = 0; s < count; s++) {
+            System.arraycopy(inputs[s], 0, flatInputs, s * 7, 7);
+        }
+
+        float[] flatOutputs = new float[count * 5];
+        network.predictBatch(flatInputs, flatOutputs, count);
+
+        float maxDiff = 0;
+        for (int s = 0; s < count; s++) {
+            float[] expected = network.predict(inputs[s]);
+            for (int i = 0; i < expected.length; i++) {
+                maxDiff = Math.max(maxDiff, Math.abs(expected[i] - flatOutputs[s * 5 + i]));
+            }
+        }
+
+        check(maxDiff);
+    }
+
+    private static void testBatchThroughput() {
+        System.out.println("Test 3: Throughput, predict vs predictBatch (512-512-512-10)");
+
+        Network network = new Network(512, 512, 512, 10);
+        int count = 2048;
+        float[][] inputs = randomInputs(count, 512, 3L);
+        float[][] outputs = new float[count][10];
+
+        // Warm-up both paths
+        for (int r = 0; r < 3; r++) {
+            network.predictBatch(inputs, outputs);
+            for (float[] input : inputs) {
+                network.predict(input);
+            }
+        }
+
+        long startTime = System.nanoTime();
+        for (float[] input : inputs) {
+            network.predict(input);
+        }
+        long singleTime = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        network.predictBatch(inputs, outputs);
+        long batchTime = System.nanoTime() - startTime;
+
+        System.out.printf(" - predict: %.1f ms | predictBatch: %.1f ms | speedup: %.2fx\n",
+            singleTime / 1e6, batchTime / 1e6, (double)singleTime / batchTime);
+    }
+
+    private static float[][] randomInputs(int count, int size, long seed) {
+        Random random = new Random(seed);
+        float[][] inputs = new float[count][size];
+        for (float[] row : inputs) {
+            for (int i = 0; i < size; i++) {
+                row[i] = random.nextFloat() * 2 - 1;
+            }
+        }
+        return inputs;
+    }
+
+    private static void check(float maxDiff) {
+        if (maxDiff > EPSILON) {
+            throw new IllegalStateException("Batch output differs from predict by " + maxDiff);
+        }
+        System.out.println(" - Max difference to predict: " + maxDiff);
+    }
+
+}
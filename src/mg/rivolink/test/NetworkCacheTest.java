@@ -0,0 +1,191 @@
+package mg.rivolink.test;
+
+import java.util.Random;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+import mg.rivolink.ai.PredictionCache;
+
+public class NetworkCacheTest {
+
+    public static void main(String[] args) {
+        System.out.println("=== Prediction Cache Tests ===");
+        System.out.println();
+
+        testRepeatedStatesHit();
+        System.out.println("\n----------\n");
+
+        testWeightChangesInvalidate();
+        System.out.println("\n----------\n");
+
+        testBoundedCapacity();
+        System.out.println("\n----------\n");
+
+        testCachedThroughput();
+        System.out.println("\n----------\n");
+
+        testConcurrentVersionBumps();
+        System.out.println();
+
+        System.out.println("=== All Tests Completed ===");
+    }
+
+    private static void testRepeatedStatesHit() {
+        System.out.println("Test 1: 16 discrete states over 1600 predicts (4-16-2)");
+
+        Network network = new Network(4, 16, 2);
+        network.enablePredictionCache(64);
+        float[][] states = randomInputs(16, 4, 1L);
+
+        for (int r = 0; r < 100; r++) {
+            for (float[] state : states) {
+                check(network, state);
+            }
+        }
+
+        PredictionCache cache = network.getPredictionCache();
+        System.out.printf(" - Hits: %d, misses: %d, hit rate: %.1f%%%n",
+            cache.getHitCount(), cache.getMissCount(), 100 * cache.getHitRate());
+        if (cache.getMissCount() != states.length) {
+            throw new IllegalStateException("Expected one miss per state, got " + cache.getMissCount());
+        }
+    }
+
+    private static void testWeightChangesInvalidate() {
+        System.out.println("Test 2: train, copyWeightsFrom, softUpdate and direct edits invalidate entries (4-8-8-2)");
+
+        Network network = new Network(4, 8, 8, 2);
+        Network other = new Network(4, 8, 8, 2);
+        other.tau = 0.5f;
+        network.enablePredictionCache(16);
+        float[] state = randomInputs(1, 4, 2L)[0];
+
+        network.predict(state);
+        network.train(state, new float[] {1, -1});
+        check(network, state);
+
+        network.copyWeightsFrom(new Network(4, 8, 8, 2));
+        check(network, state);
+
+        other.softUpdate(network);
+        other.enablePredictionCache(16);
+        other.predict(state);
+        other.softUpdate(network);
+        check(other, state);
+
+        network.hiddenLayer1.neurons[0].setBias(3f);
+        network.markWeightsChanged();
+        check(network, state);
+
+        System.out.println(" - Cached outputs followed every weight change, version " + network.getWeightVersion());
+    }
+
+    private static void testBoundedCapacity() {
+        System.out.println("Test 3: 1000 states through a 64-entry cache (8-16-4 softmax)");
+
+        Network network = new Network(8, 16, 4, Activation.SOFTMAX);
+        network.enablePredictionCache(64);
+        float[][] states = randomInputs(1000, 8, 3L);
+
+        for (int r = 0; r < 3; r++) {
+            for (float[] state : states) {
+                check(network, state);
+            }
+        }
+
+        PredictionCache cache = network.getPredictionCache();
+        System.out.println(" - Capacity: " + cache.getCapacity() + ", hits: " + cache.getHitCount()
+            + ", misses: " + cache.getMissCount());
+        if (cache.getCapacity() != 64) {
+            throw new IllegalStateException("Unexpected capacity " + cache.getCapacity());
+        }
+    }
+
+    private static void testConcurrentVersionBumps() {
+        System.out.println("Test 5: 4 threads mark 100000 weight changes each");
+
+        final Network network = new Network(2, 4, 1);
+        long before = network.getWeightVersion();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 100000; i++) {
+                        network.markWeightsChanged();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // A lost increment would let a later update reuse a version the cache has seen
+        long bumps = network.getWeightVersion() - before;
+        System.out.println(" - Version moved by " + bumps);
+        if (bumps != 400000) {
+            throw new IllegalStateException("Lost " + (400000 - bumps) + " version increments");
+        }
+    }
+
+    private static void testCachedThroughput() {
+        System.out.println("Test 4: predictInto throughput on 64 repeated states (32-128-128-8)");
+
+        Network network = new Network(32, 128, 128, 8);
+        float[][] states = randomInputs(64, 32, 4L);
+        float[] output = new float[8];
+        int rounds = 20000;
+
+        long uncached = time(network, states, output, rounds);
+        network.enablePredictionCache(256);
+        long cached = time(network, states, output, rounds);
+
+        System.out.printf(" - Uncached: %.2f us, cached: %.2f us per predict (%.1fx)%n",
+            uncached / 1000.0, cached / 1000.0, (double)uncached / cached);
+    }
+
+    // Average nanoseconds per predictInto after a warm-up pass
+    private static long time(Network network, float[][] states, float[] output, int rounds) {
+        for (int r = 0; r < rounds / 4; r++) {
+            network.predictInto(states[r % states.length], output);
+        }
+
+        long start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            network.predictInto(states[r % states.length], output);
+        }
+        return (System.nanoTime() - start) / rounds;
+    }
+
+    // Cached predict must equal a forward pass on a fresh workspace, twice in a row
+    private static void check(Network network, float[] state) {
+        for (int r = 0; r < 2; r++) {
+            float[] expected = network.predict(state, network.newWorkspace()).clone();
+            float[] actual = network.predict(state);
+            for (int i = 0; i < expected.length; i++) {
+                if (Float.floatToIntBits(expected[i]) != Float.floatToIntBits(actual[i])) {
+                    throw new IllegalStateException("Cached output differs at " + i + ": "
+                        + actual[i] + " != " + expected[i]);
+                }
+            }
+        }
+    }
+
+    private static float[][] randomInputs(int count, int size, long seed) {
+        Random random = new Random(seed);
+        float[][] inputs = new float[count][size];
+        for (float[] row : inputs) {
+            for (int i = 0; i < size; i++) {
+                row[i] = random.nextFloat() * 2 - 1;
+            }
+        }
+        return inputs;
+    }
+
+}
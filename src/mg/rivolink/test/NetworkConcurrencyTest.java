@@ -0,0 +1,190 @@
+package mg.rivolink.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+import mg.rivolink.ai.Workspace;
+
+public class NetworkConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 200;
+
+    public static void main(String[] args) {
+        System.out.println("=== Concurrent Inference Tests ===");
+        System.out.println();
+
+        testSharedNetworkPredict();
+        System.out.println("\n----------\n");
+
+        testPredictIntoWithOwnWorkspace();
+        System.out.println("\n----------\n");
+
+        testParallelForward();
+        System.out.println();
+
+        System.out.println("=== All Tests Completed ===");
+    }
+
+    private static void testSharedNetworkPredict() {
+        System.out.println("Test 1: " + THREADS + " threads calling predict on one network (16-32-16-4)");
+
+        final Network network = new Network(16, 32, 16, 4, Activation.SOFTMAX);
+        final float[][] inputs = randomInputs(64, 16, 1L);
+        final float[][] expected = new float[inputs.length][];
+        for (int i = 0; i < inputs.length; i++) {
+            expected[i] = network.predict(inputs[i]);
+        }
+
+        int mismatches = runConcurrently(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                int mismatches = 0;
+                for (int r = 0; r < ROUNDS; r++) {
+                    for (int i = 0; i < inputs.length; i++) {
+                        if (!equal(expected[i], network.predict(inputs[i]))) {
+                            mismatches++;
+                        }
+                    }
+                }
+                return mismatches;
+            }
+        });
+
+        report(mismatches);
+    }
+
+    private static void testPredictIntoWithOwnWorkspace() {
+        System.out.println("Test 2: " + THREADS + " threads calling predictInto with caller-owned workspaces (8-12-3)");
+
+        final Network network = new Network(8, 12, 3);
+        final float[][] inputs = randomInputs(32, 8, 2L);
+        final float[][] expected = new float[inputs.length][];
+        for (int i = 0; i < inputs.length; i++) {
+            expected[i] = network.predict(inputs[i]);
+        }
+
+        int mismatches = runConcurrently(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                Workspace workspace = network.newWorkspace();
+                float[] output = new float[3];
+
+                int mismatches = 0;
+                for (int r = 0; r < ROUNDS; r++) {
+                    for (int i = 0; i < inputs.length; i++) {
+                        network.predictInto(inputs[i], output, workspace);
+                        if (!equal(expected[i], output)) {
+                            mismatches++;
+                        }
+                    }
+                }
+                return mismatches;
+            }
+        });
+
+        report(mismatches);
+    }
+
+    private static void testParallelForward() {
+        System.out.println("Test 3: Parallel forward matches sequential (256-2048-2048 softmax)");
+
+        Network sequential = new Network(256, 2048, 2048, Activation.SOFTMAX);
+        Network parallel = sequential.copy();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        parallel.setParallelForward(pool);
+
+        float[][] inputs = randomInputs(32, 256, 3L);
+        float maxDiff = 0;
+        for (float[] input : inputs) {
+            float[] expected = sequential.predict(input);
+            float[] actual = parallel.predict(input);
+            for (int i = 0; i < expected.length; i++) {
+                maxDiff = Math.max(maxDiff, Math.abs(expected[i] - actual[i]));
+            }
+        }
+
+        // Only the softmax sum is reassociated
+        System.out.println(" - Max difference: " + maxDiff);
+        if (maxDiff > 1e-7f) {
+            throw new IllegalStateException("Parallel forward differs by " + maxDiff);
+        }
+
+        int rounds = 200;
+        long sequentialNanos = time(sequential, inputs, rounds);
+        long parallelNanos = time(parallel, inputs, rounds);
+        System.out.printf(" - Latency: sequential %.1f us, parallel %.1f us (%d workers)%n",
+            sequentialNanos / 1000.0, parallelNanos / 1000.0, pool.getParallelism());
+        pool.shutdown();
+    }
+
+    // Average nanoseconds per predict
+    private static long time(Network network, float[][] inputs, int rounds) {
+        float[] output = new float[2048];
+        for (int r = 0; r < rounds / 4; r++) {
+            network.predictInto(inputs[r % inputs.length], output);
+        }
+
+        long start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            network.predictInto(inputs[r % inputs.length], output);
+        }
+        return (System.nanoTime() - start) / rounds;
+    }
+
+    private static int runConcurrently(Callable<Integer> task) {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(task));
+            }
+
+            int mismatches = 0;
+            for (Future<Integer> future : futures) {
+                mismatches += future.get();
+            }
+            return mismatches;
+        } catch (Exception e) {
+            throw new RuntimeException("Concurrent run failed", e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void report(int mismatches) {
+        if (mismatches > 0) {
+            throw new IllegalStateException(mismatches + " predictions differed under concurrency");
+        }
+        System.out.println(" - " + (THREADS * ROUNDS) + " rounds per input, all outputs identical");
+    }
+
+    private static float[][] randomInputs(int count, int size, long seed) {
+        Random random = new Random(seed);
+        float[][] inputs = new float[count][size];
+        for (float[] row : inputs) {
+            for (int i = 0; i < size; i++) {
+                row[i] = random.nextFloat() * 2 - 1;
+            }
+        }
+        return inputs;
+    }
+
+    private static boolean equal(float[] a, float[] b) {
+        for (int i = 0; i < a.length; i++) {
+            if (Float.floatToIntBits(a[i]) != Float.floatToIntBits(b[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -1,13 +1,21 @@
 package mg.rivolink.test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Base64;
 
 import mg.rivolink.ai.Layer;
 import mg.rivolink.ai.Network;
 import mg.rivolink.ai.Neuron;
+import mg.rivolink.ai.Neuron.Activation;
+import mg.rivolink.ai.Optimizer;
 import mg.rivolink.io.NetworkIO;
 
 public class NetworkIOTest {
@@ -29,6 +37,21 @@ public class NetworkIOTest {
         System.out.println("\n----------\n");
 
         testCopyAndMetadata();
+        System.out.println("\n----------\n");
+
+        testBaselineModelsLoad();
+        System.out.println("\n----------\n");
+
+        testNativeKeepsState();
+        System.out.println("\n----------\n");
+
+        testSerializedModelsStillLoad();
+        System.out.println("\n----------\n");
+
+        testTruncatedNativeModel();
+        System.out.println("\n----------\n");
+
+        testNativeVersusSerialized();
         System.out.println();
 
         System.out.println("=== All Tests Completed ===");
@@ -161,6 +184,227 @@ public class NetworkIOTest {
         }
     }
 
+    // Fixtures saved by the first release (serialVersionUID 1, one weight array per
+    // neuron): weight ((31 l + 7 i + 3 j) % 17 - 8) / 16 and bias (i - 1) / 8 + l / 32
+    // for neuron i, input j of layer l. Outputs were recorded by that release.
+    private static void testBaselineModelsLoad() {
+        System.out.println("Test 5: Models saved by the first release still load");
+        try {
+            Path fixtures = MODEL_DIR.resolve("fixtures");
+            float[] input = {0.5f, -0.25f, 1f};
+            float[] twoHiddenOutput = {0.4751943f, 0.52480567f};
+
+            for (String name : new String[] {"baseline-2hidden.bin", "baseline-2hidden.json", "baseline-2hidden.xml"}) {
+                Network network = NetworkIO.load(fixtures.resolve(name).toString());
+                checkFixture(network, name);
+                if (network.hiddenLayer2 == null || network.outputLayer.getActivation() != Activation.SOFTMAX
+                        || network.tau != 0.02f || network.alpha != 0.05f || network.maxGradient != 3f) {
+                    throw new IllegalStateException(name + ": topology or hyperparameters lost");
+                }
+                checkOutput(network, input, twoHiddenOutput, name);
+            }
+
+            Network oneHidden = NetworkIO.load(fixtures.resolve("baseline-1hidden.bin").toString());
+            checkFixture(oneHidden, "baseline-1hidden.bin");
+            if (oneHidden.hiddenLayer2 != null || oneHidden.outputLayer.getActivation() != Activation.SIGMOID) {
+                throw new IllegalStateException("baseline-1hidden.bin: topology lost");
+            }
+            checkOutput(oneHidden, input, new float[] {0.47146657f, 0.5063473f}, "baseline-1hidden.bin");
+        } catch (Exception e) {
+            throw new RuntimeException("Test 5 failed", e);
+        }
+    }
+
+    private static void testNativeKeepsState() {
+        System.out.println("Test 6: Binary format keeps weights, activations and hyperparameters");
+        try {
+            Path modelPath = MODEL_DIR.resolve("network-io-native.bin");
+            Network original = new Network.Builder()
+                .inputSize(5).hiddenSize(7).addHiddenLayer(6).outputSize(3)
+                .outputActivation(Activation.SOFTMAX)
+                .learningRate(0.03f).maxGradient(2.5f).tau(0.2f).batchSize(16)
+                .precision(Network.Precision.FAST)
+                .optimizer(Optimizer.adam(0.8f, 0.99f, 1e-6f))
+                .build();
+
+            NetworkIO.save(original, modelPath.toString());
+            Network restored = NetworkIO.load(modelPath.toString());
+
+            Layer[] a = layers(original);
+            Layer[] b = layers(restored);
+            for (int l = 0; l < a.length; l++) {
+                if (!Arrays.equals(a[l].weights, b[l].weights) || !Arrays.equals(a[l].biases, b[l].biases)
+                        || a[l].getActivation() != b[l].getActivation()) {
+                    throw new IllegalStateException("Layer " + l + " differs after reload");
+                }
+            }
+            if (restored.alpha != original.alpha || restored.tau != original.tau
+                    || restored.maxGradient != original.maxGradient || restored.batchSize != original.batchSize
+                    || restored.getPrecision() != original.getPrecision()
+                    || !restored.getOptimizer().toString().equals(original.getOptimizer().toString())) {
+                throw new IllegalStateException("Hyperparameters differ after reload");
+            }
+
+            System.out.println(" - " + Files.size(modelPath) + " bytes, bit-identical weights, "
+                + restored.getOptimizer() + ", " + restored.getPrecision());
+            Files.deleteIfExists(modelPath);
+        } catch (Exception e) {
+            throw new RuntimeException("Test 6 failed", e);
+        }
+    }
+
+    private static void testSerializedModelsStillLoad() {
+        // Current classes only, the first release's files are covered by Test 5
+        System.out.println("Test 7: Serialized .bin and JSON wrapping serialized bytes load");
+        try {
+            Path binPath = MODEL_DIR.resolve("network-io-serialized.bin");
+            Path jsonPath = MODEL_DIR.resolve("network-io-serialized.json");
+            Network original = new Network(3, 4, 2);
+            seedDeterministicWeights(original);
+            float[] input = {0.3f, -0.6f, 0.9f};
+
+            NetworkIO.save(original, binPath.toString(), NetworkIO.Format.SERIALIZED);
+            check(original, NetworkIO.load(binPath.toString()), input, "serialized .bin");
+
+            // A version 1 JSON document around the current serialized classes
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+                oos.writeObject(original);
+            }
+            String json = "{\n  \"format\": \"java-serialized\",\n  \"version\": 1,\n  \"data\": \""
+                + Base64.getEncoder().encodeToString(bytes.toByteArray()) + "\"\n}\n";
+            Files.write(jsonPath, json.getBytes(StandardCharsets.UTF_8));
+            check(original, NetworkIO.load(jsonPath.toString()), input, "version 1 JSON");
+
+            Files.deleteIfExists(binPath);
+            Files.deleteIfExists(jsonPath);
+        } catch (Exception e) {
+            throw new RuntimeException("Test 7 failed", e);
+        }
+    }
+
+    private static void testTruncatedNativeModel() {
+        System.out.println("Test 8: Truncated or corrupt binary models are rejected");
+        try {
+            Path modelPath = MODEL_DIR.resolve("network-io-truncated.bin");
+            NetworkIO.save(new Network(4, 8, 2), modelPath.toString());
+            try (RandomAccessFile raf = new RandomAccessFile(modelPath.toFile(), "rw")) {
+                raf.setLength(raf.length() - 4);
+            }
+            expectRejected(modelPath, "truncated weights");
+
+            // Header offsets: input size at 12, first layer's neuron count at 20
+            NetworkIO.save(new Network(4, 8, 2), modelPath.toString());
+            patchInt(modelPath, 12, Integer.MAX_VALUE);
+            expectRejected(modelPath, "overflowing layer size");
+
+            NetworkIO.save(new Network(4, 8, 2), modelPath.toString());
+            patchInt(modelPath, 20, 1 << 28);
+            expectRejected(modelPath, "layer larger than the file");
+            Files.deleteIfExists(modelPath);
+        } catch (Exception e) {
+            throw new RuntimeException("Test 8 failed", e);
+        }
+    }
+
+    private static void testNativeVersusSerialized() {
+        System.out.println("Test 9: Size and load time, binary vs serialized (256-1024-1024-10)");
+        try {
+            Path nativePath = MODEL_DIR.resolve("network-io-large.bin");
+            Path serializedPath = MODEL_DIR.resolve("network-io-large-serialized.bin");
+            Network network = new Network(256, 1024, 1024, 10);
+            NetworkIO.save(network, nativePath.toString());
+            NetworkIO.save(network, serializedPath.toString(), NetworkIO.Format.SERIALIZED);
+
+            long nativeNanos = bestLoad(nativePath);
+            long serializedNanos = bestLoad(serializedPath);
+            System.out.printf(" - Binary: %d KB in %.1f ms, serialized: %d KB in %.1f ms%n",
+                Files.size(nativePath) / 1024, nativeNanos / 1e6,
+                Files.size(serializedPath) / 1024, serializedNanos / 1e6);
+
+            if (Files.size(nativePath) > Files.size(serializedPath)) {
+                throw new IllegalStateException("Binary model is larger than the serialized one");
+            }
+            Files.deleteIfExists(nativePath);
+            Files.deleteIfExists(serializedPath);
+        } catch (Exception e) {
+            throw new RuntimeException("Test 9 failed", e);
+        }
+    }
+
+    private static void checkFixture(Network network, String name) {
+        Layer[] layers = layers(network);
+        for (int l = 0; l < layers.length; l++) {
+            // The output layer was filled as layer 2 in both fixtures
+            int index = l == layers.length - 1 ? 2 : l;
+            Layer layer = layers[l];
+            for (int i = 0; i < layer.neuronCount; i++) {
+                if (layer.biases[i] != (i - 1) / 8f + index / 32f) {
+                    throw new IllegalStateException(name + ": bias " + i + " of layer " + l + " differs");
+                }
+                for (int j = 0; j < layer.inputSize; j++) {
+                    float expected = ((index * 31 + i * 7 + j * 3) % 17 - 8) / 16f;
+                    if (layer.weights[i * layer.inputSize + j] != expected) {
+                        throw new IllegalStateException(name + ": weight " + i + "," + j + " of layer " + l + " differs");
+                    }
+                }
+            }
+        }
+    }
+
+    private static void checkOutput(Network network, float[] input, float[] expected, String label) {
+        float[] actual = network.predict(input);
+        if (!approxEquals(expected, actual)) {
+            throw new IllegalStateException(label + " mismatch: "
+                + Arrays.toString(expected) + " vs " + Arrays.toString(actual));
+        }
+        System.out.println(" - " + label + " loaded, output " + Arrays.toString(actual));
+    }
+
+    private static void expectRejected(Path path, String label) throws Exception {
+        try {
+            NetworkIO.load(path.toString());
+            throw new IllegalStateException("Loaded a model with " + label);
+        } catch (IOException e) {
+            System.out.println(" - " + label + ": " + e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    // Header values are little-endian
+    private static void patchInt(Path path, long offset, int value) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(path.toFile(), "rw")) {
+            raf.seek(offset);
+            raf.writeInt(Integer.reverseBytes(value));
+        }
+    }
+
+    private static long bestLoad(Path path) throws Exception {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            NetworkIO.load(path.toString());
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    private static void check(Network original, Network restored, float[] input, String label) {
+        float[] expected = original.predict(input);
+        float[] actual = restored.predict(input);
+        if (!approxEquals(expected, actual)) {
+            throw new IllegalStateException(label + " mismatch: "
+                + Arrays.toString(expected) + " vs " + Arrays.toString(actual));
+        }
+        System.out.println(" - " + label + " matched original output " + Arrays.toString(actual));
+    }
+
+    private static Layer[] layers(Network network) {
+        if (network.hiddenLayer2 != null) {
+            return new Layer[] {network.hiddenLayer1, network.hiddenLayer2, network.outputLayer};
+        }
+        return new Layer[] {network.hiddenLayer1, network.outputLayer};
+    }
+
     private static void seedDeterministicWeights(Network network) {
         Layer[] layers = new Layer[] {
             network.hiddenLayer1,
@@ -174,10 +418,10 @@ public class NetworkIOTest {
                 continue;
             }
             for (Neuron neuron : layer.neurons) {
-                neuron.bias = value;
+                neuron.setBias(value);
                 value += 0.05f;
-                for (int i = 0; i < neuron.weights.length; i++) {
-                    neuron.weights[i] = value;
+                for (int i = 0; i < neuron.size; i++) {
+                    neuron.setWeight(i, value);
                     value += 0.05f;
                 }
             }
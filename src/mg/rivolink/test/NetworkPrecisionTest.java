@@ -0,0 +1,136 @@
+package mg.rivolink.test;
+
+import java.util.Random;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Network.Precision;
+import mg.rivolink.ai.Neuron.Activation;
+
+public class NetworkPrecisionTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    public static void main(String[] args) {
+        System.out.println("=== Activation Precision Tests ===");
+        System.out.println();
+
+        testFastMatchesExact(Activation.SIGMOID);
+        System.out.println("\n----------\n");
+
+        testFastMatchesExact(Activation.TANH);
+        System.out.println("\n----------\n");
+
+        testFastMatchesExact(Activation.SOFTMAX);
+        System.out.println("\n----------\n");
+
+        testFastTraining();
+        System.out.println("\n----------\n");
+
+        testFastThroughput();
+        System.out.println();
+
+        System.out.println("=== All Tests Completed ===");
+    }
+
+    private static void testFastMatchesExact(Activation activation) {
+        System.out.println("Test: FAST matches EXACT, " + activation + " output (32-64-16)");
+
+        Network exact = new Network(32, 64, 16, activation);
+        Network fast = exact.copy();
+        fast.setPrecision(Precision.FAST);
+
+        float[][] inputs = randomInputs(500, 32, 1L);
+        float[][] batchOutputs = new float[inputs.length][16];
+        fast.predictBatch(inputs, batchOutputs);
+
+        float maxDiff = 0;
+        for (int s = 0; s < inputs.length; s++) {
+            float[] expected = exact.predict(inputs[s]);
+            float[] actual = fast.predict(inputs[s]);
+            for (int i = 0; i < expected.length; i++) {
+                maxDiff = Math.max(maxDiff, Math.abs(expected[i] - actual[i]));
+                maxDiff = Math.max(maxDiff, Math.abs(expected[i] - batchOutputs[s][i]));
+            }
+        }
+
+        System.out.println(" - Max difference to EXACT: " + maxDiff);
+        if (maxDiff > EPSILON) {
+            throw new IllegalStateException("FAST output differs from EXACT by " + maxDiff);
+        }
+    }
+
+    private static void testFastTraining() {
+        System.out.println("Test: XOR with FAST sigmoid (2-8-1)");
+
+        Network network = new Network.Builder()
+            .inputSize(2)
+            .hiddenSize(8)
+            .outputSize(1)
+            .outputActivation(Activation.SIGMOID)
+            .learningRate(0.5f)
+            .precision(Precision.FAST)
+            .seed(7L)
+            .build();
+
+        float[][] xtrains = { {0, 0}, {0, 1}, {1, 0}, {1, 1} };
+        float[][] ytrains = { {0}, {1}, {1}, {0} };
+        network.train(xtrains, ytrains, 10000);
+
+        float error = 0;
+        for (int i = 0; i < xtrains.length; i++) {
+            error += Math.abs(network.predict(xtrains[i])[0] - ytrains[i][0]);
+        }
+        error /= xtrains.length;
+
+        System.out.printf(" - Average Error: %.4f\n", error);
+        if (error > 0.1f) {
+            throw new IllegalStateException("FAST training did not converge");
+        }
+    }
+
+    private static void testFastThroughput() {
+        System.out.println("Test: Throughput, EXACT vs FAST (16-32-1024 tanh output)");
+
+        Network exact = new Network(16, 32, 1024, Activation.TANH);
+        Network fast = exact.copy();
+        fast.setPrecision(Precision.FAST);
+
+        float[][] inputs = randomInputs(2048, 16, 2L);
+        float[][] ytrains = randomInputs(2048, 1024, 3L);
+
+        for (Network network : new Network[] { exact, fast }) {
+            // Warm-up
+            network.train(inputs, ytrains, 1);
+            for (int r = 0; r < 3; r++) {
+                for (float[] input : inputs) {
+                    network.predict(input);
+                }
+            }
+
+            long startTime = System.nanoTime();
+            network.train(inputs, ytrains, 2);
+            long trainTime = (System.nanoTime() - startTime) / 2;
+
+            startTime = System.nanoTime();
+            for (float[] input : inputs) {
+                network.predict(input);
+            }
+            long predictTime = System.nanoTime() - startTime;
+
+            System.out.printf(" - %s: train %.1f ms/epoch | predict %.1f ms\n",
+                network.getPrecision(), trainTime / 1e6, predictTime / 1e6);
+        }
+    }
+
+    private static float[][] randomInputs(int count, int size, long seed) {
+        Random random = new Random(seed);
+        float[][] inputs = new float[count][size];
+        for (float[] row : inputs) {
+            for (int i = 0; i < size; i++) {
+                row[i] = random.nextFloat() * 2 - 1;
+            }
+        }
+        return inputs;
+    }
+
+}
@@ -0,0 +1,150 @@
+package mg.rivolink.test;
+
+import java.util.List;
+import java.util.Random;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+import mg.rivolink.ai.Pruning;
+import mg.rivolink.ai.SparseNetwork;
+
+public class NetworkPruningTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    public static void main(String[] args) {
+        System.out.println("=== Pruning Tests ===");
+        System.out.println();
+
+        testSparsitySweep();
+        System.out.println("\n----------\n");
+
+        testCsrMatchesPruned();
+        System.out.println("\n----------\n");
+
+        testCsrThroughput();
+        System.out.println();
+
+        System.out.println("=== All Tests Completed ===");
+    }
+
+    private static void testSparsitySweep() {
+        System.out.println("Test 1: Sparsity vs accuracy, rings classifier (2-64-32-3 softmax)");
+
+        float[][] xtrains = new float[900][];
+        float[][] ytrains = new float[900][];
+        rings(xtrains, ytrains, 1L);
+        float[][] xtests = new float[300][];
+        float[][] ytests = new float[300][];
+        rings(xtests, ytests, 2L);
+
+        Network network = new Network(2, 64, 32, 3, Activation.SOFTMAX);
+        network.alpha = 0.02f;
+        network.train(xtrains, ytrains, 150);
+
+        for (Pruning.Scope scope : Pruning.Scope.values()) {
+            List<Pruning.Point> points = Pruning.sweep(network, new float[] { 0.5f, 0.8f, 0.9f }, scope,
+                xtrains, ytrains, 10, xtests, ytests);
+
+            System.out.println(" - " + scope + ":");
+            for (Pruning.Point point : points) {
+                System.out.println("   " + point);
+            }
+
+            Pruning.Point half = points.get(0);
+            if (half.fineTunedAccuracy < half.denseAccuracy - 0.05f) {
+                throw new IllegalStateException("50% pruned network lost too much accuracy: " + half);
+            }
+        }
+    }
+
+    private static void testCsrMatchesPruned() {
+        System.out.println("Test 2: CSR network matches the pruned network (64-128-64-8, 90% global)");
+
+        Network network = new Network(64, 128, 64, 8, Activation.SOFTMAX);
+        Pruning.Mask mask = Pruning.prune(network, 0.9f, Pruning.Scope.GLOBAL);
+        SparseNetwork sparse = SparseNetwork.compile(network, 1f);
+
+        float[][] inputs = randomInputs(300, 64, 3L);
+        float maxDiff = 0;
+        for (float[] input : inputs) {
+            float[] expected = network.predict(input);
+            float[] actual = sparse.predict(input);
+            for (int i = 0; i < expected.length; i++) {
+                maxDiff = Math.max(maxDiff, Math.abs(expected[i] - actual[i]));
+            }
+        }
+
+        System.out.printf(" - Sparsity: %.1f%% | Max difference to dense: %s\n",
+            mask.getSparsity() * 100, maxDiff);
+        if (maxDiff > EPSILON) {
+            throw new IllegalStateException("CSR output differs from pruned network by " + maxDiff);
+        }
+    }
+
+    private static void testCsrThroughput() {
+        System.out.println("Test 3: Throughput and break-even, 512-512-512-10 at 90% sparsity");
+
+        Network network = new Network(512, 512, 512, 10);
+        Pruning.prune(network, 0.9f, Pruning.Scope.PER_LAYER);
+
+        SparseNetwork compiled = SparseNetwork.compile(network);
+        SparseNetwork dense = SparseNetwork.compile(network, 0f);
+        SparseNetwork csr = SparseNetwork.compile(network, 1f);
+
+        StringBuilder layout = new StringBuilder();
+        for (int l = 0; l < compiled.getLayerCount(); l++) {
+            layout.append(l == 0 ? "" : ", ").append(compiled.isSparse(l) ? "CSR" : "dense");
+        }
+        System.out.printf(" - Break-even density %.2f -> layers [%s], %d -> %d weight bytes\n",
+            SparseNetwork.defaultBreakEvenDensity(), layout, dense.getWeightBytes(), compiled.getWeightBytes());
+
+        float[][] inputs = randomInputs(500, 512, 4L);
+        float[] outputs = new float[10];
+        for (int r = 0; r < 3; r++) {
+            for (float[] input : inputs) {
+                dense.predictInto(input, outputs);
+                csr.predictInto(input, outputs);
+            }
+        }
+
+        long startTime = System.nanoTime();
+        for (float[] input : inputs) {
+            dense.predictInto(input, outputs);
+        }
+        long denseTime = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        for (float[] input : inputs) {
+            csr.predictInto(input, outputs);
+        }
+        long csrTime = System.nanoTime() - startTime;
+
+        System.out.printf(" - dense: %.1f ms | CSR: %.1f ms\n", denseTime / 1e6, csrTime / 1e6);
+    }
+
+    // Three concentric rings, one-hot targets
+    private static void rings(float[][] xs, float[][] ys, long seed) {
+        Random random = new Random(seed);
+        for (int i = 0; i < xs.length; i++) {
+            int ring = i % 3;
+            double radius = 0.3 + ring * 0.35 + (random.nextDouble() - 0.5) * 0.2;
+            double angle = random.nextDouble() * 2 * Math.PI;
+            xs[i] = new float[] { (float)(radius * Math.cos(angle)), (float)(radius * Math.sin(angle)) };
+            ys[i] = new float[3];
+            ys[i][ring] = 1;
+        }
+    }
+
+    private static float[][] randomInputs(int count, int size, long seed) {
+        Random random = new Random(seed);
+        float[][] inputs = new float[count][size];
+        for (float[] row : inputs) {
+            for (int i = 0; i < size; i++) {
+                row[i] = random.nextFloat() * 2 - 1;
+            }
+        }
+        return inputs;
+    }
+
+}
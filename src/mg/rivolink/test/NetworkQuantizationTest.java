@@ -0,0 +1,171 @@
+package mg.rivolink.test;
+
+import java.util.Random;
+
+import mg.rivolink.ai.HalfPrecisionNetwork;
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+import mg.rivolink.ai.QuantizedNetwork;
+
+public class NetworkQuantizationTest {
+
+    public static void main(String[] args) {
+        System.out.println("=== Reduced Precision Inference Tests ===");
+        System.out.println();
+
+        testTrainedClassifier();
+        System.out.println("\n----------\n");
+
+        testWideNetwork();
+        System.out.println("\n----------\n");
+
+        testHalfPrecision(HalfPrecisionNetwork.Format.FP16, 1e-3f);
+        System.out.println("\n----------\n");
+
+        testHalfPrecision(HalfPrecisionNetwork.Format.BF16, 1e-2f);
+        System.out.println();
+
+        System.out.println("=== All Tests Completed ===");
+    }
+
+    private static void testTrainedClassifier() {
+        System.out.println("Test 1: Trained quadrant classifier (2-16-4 softmax)");
+
+        Random random = new Random(21L);
+        int count = 600;
+        float[][] xtrains = new float[count][2];
+        int[][] ytrains = new int[count][4];
+        for (int i = 0; i < count; i++) {
+            float x = random.nextFloat() * 2 - 1;
+            float y = random.nextFloat() * 2 - 1;
+            xtrains[i][0] = x;
+            xtrains[i][1] = y;
+            ytrains[i][(x >= 0 ? 0 : 1) + (y >= 0 ? 0 : 2)] = 1;
+        }
+
+        Network network = new Network(2, 16, 4, Activation.SOFTMAX);
+        network.alpha = 0.05f;
+        network.train(xtrains, ytrains, 100);
+
+        // Calibrate on the first half, evaluate on the second
+        float[][] calibration = new float[count / 2][];
+        float[][] evaluation = new float[count - count / 2][];
+        System.arraycopy(xtrains, 0, calibration, 0, calibration.length);
+        System.arraycopy(xtrains, calibration.length, evaluation, 0, evaluation.length);
+
+        QuantizedNetwork quantized = QuantizedNetwork.quantize(network, calibration);
+        QuantizedNetwork.AccuracyReport report = quantized.compare(network, evaluation);
+
+        System.out.println(" - " + report);
+        if (report.top1Agreement < 0.97f || report.meanAbsError > 0.01f) {
+            throw new IllegalStateException("Quantized classifier deviates too much: " + report);
+        }
+    }
+
+    private static void testWideNetwork() {
+        System.out.println("Test 2: Wide network footprint and throughput (256-512-256-10 softmax)");
+
+        Network network = new Network(256, 512, 256, 10, Activation.SOFTMAX);
+        float[][] inputs = randomInputs(2000, 256, 4L);
+        QuantizedNetwork quantized = QuantizedNetwork.quantize(network, inputs);
+
+        QuantizedNetwork.AccuracyReport report = quantized.compare(network, inputs);
+        System.out.println(" - " + report);
+        if ((double)report.floatWeightBytes / report.quantizedWeightBytes < 3.5) {
+            throw new IllegalStateException("Quantized weights are not ~4x smaller");
+        }
+        if (report.top1Agreement < 0.9f) {
+            throw new IllegalStateException("Quantized network deviates too much: " + report);
+        }
+
+        float[] outputs = new float[10];
+        for (int r = 0; r < 3; r++) {
+            for (float[] input : inputs) {
+                network.predictInto(input, outputs);
+                quantized.predictInto(input, outputs);
+            }
+        }
+
+        long startTime = System.nanoTime();
+        for (float[] input : inputs) {
+            network.predictInto(input, outputs);
+        }
+        long floatTime = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        for (float[] input : inputs) {
+            quantized.predictInto(input, outputs);
+        }
+        long int8Time = System.nanoTime() - startTime;
+
+        System.out.printf(" - float: %.1f ms | int8: %.1f ms\n", floatTime / 1e6, int8Time / 1e6);
+    }
+
+    private static void testHalfPrecision(HalfPrecisionNetwork.Format format, float tolerance) {
+        System.out.println("Test: " + format + " replica of a trained master (128-256-10 softmax)");
+
+        Network master = new Network(128, 256, 10, Activation.SOFTMAX);
+        master.alpha = 0.01f;
+        float[][] inputs = randomInputs(1000, 128, 5L);
+        int[][] targets = new int[inputs.length][10];
+        for (int i = 0; i < inputs.length; i++) {
+            targets[i][i % 10] = 1;
+        }
+
+        HalfPrecisionNetwork half = HalfPrecisionNetwork.convert(master, format);
+
+        // Master keeps training in float, the replica is refreshed from it
+        master.train(inputs, targets, 3);
+        half.copyWeightsFrom(master);
+
+        float maxDiff = 0;
+        float[] outputs = new float[10];
+        for (float[] input : inputs) {
+            float[] expected = master.predict(input);
+            half.predictInto(input, outputs);
+            for (int i = 0; i < outputs.length; i++) {
+                maxDiff = Math.max(maxDiff, Math.abs(expected[i] - outputs[i]));
+            }
+        }
+
+        long floatBytes = 4L * (128 * 256 + 256 + 256 * 10 + 10);
+        System.out.printf(" - Max difference to float: %.6f | weights=%d -> %d bytes\n",
+            maxDiff, floatBytes, half.getWeightBytes());
+        if (maxDiff > tolerance) {
+            throw new IllegalStateException(format + " output differs from float by " + maxDiff);
+        }
+
+        for (int r = 0; r < 3; r++) {
+            for (float[] input : inputs) {
+                master.predictInto(input, outputs);
+                half.predictInto(input, outputs);
+            }
+        }
+
+        long startTime = System.nanoTime();
+        for (float[] input : inputs) {
+            master.predictInto(input, outputs);
+        }
+        long floatTime = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        for (float[] input : inputs) {
+            half.predictInto(input, outputs);
+        }
+        long halfTime = System.nanoTime() - startTime;
+
+        System.out.printf(" - float: %.1f ms | %s: %.1f ms\n", floatTime / 1e6, format, halfTime / 1e6);
+    }
+
+    private static float[][] randomInputs(int count, int size, long seed) {
+        Random random = new Random(seed);
+        float[][] inputs = new float[count][size];
+        for (float[] row : inputs) {
+            for (int i = 0; i < size; i++) {
+                row[i] = random.nextFloat() * 2 - 1;
+            }
+        }
+        return inputs;
+    }
+
+}
@@ -0,0 +1,194 @@
+package mg.rivolink.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+import mg.rivolink.ai.Permutation;
+import mg.rivolink.io.MappedDataset;
+
+public class NetworkShuffleTest {
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== Epoch Shuffling Tests ===");
+        System.out.println();
+
+        testFullPermutation();
+        System.out.println("\n----------\n");
+
+        testBlockPermutation();
+        System.out.println("\n----------\n");
+
+        testSortedDataConverges();
+        System.out.println("\n----------\n");
+
+        testBlockShuffledMappedDataset();
+        System.out.println();
+
+        System.out.println("=== All Tests Completed ===");
+    }
+
+    private static void testFullPermutation() {
+        System.out.println("Test 1: seeded permutation of 1000 rows over 3 epochs");
+
+        Permutation first = new Permutation(1000, 5L);
+        Permutation second = new Permutation(1000, 5L);
+        long[] previous = null;
+        for (int epoch = 0; epoch < 3; epoch++) {
+            first.shuffle();
+            second.shuffle();
+            long[] rows = rows(first);
+            checkPermutation(rows);
+            if (!Arrays.equals(rows, rows(second))) {
+                throw new IllegalStateException("Same seed gave a different order in epoch " + epoch);
+            }
+            if (Arrays.equals(rows, previous)) {
+                throw new IllegalStateException("Epoch " + epoch + " repeated the previous order");
+            }
+            previous = rows;
+        }
+        System.out.println(" - Every epoch a new permutation, reproducible from the seed");
+    }
+
+    private static void testBlockPermutation() {
+        System.out.println("Test 2: blocks of 100 over 1003 rows, the short block anywhere");
+
+        Permutation permutation = new Permutation(1003, 100, new Random(6L));
+        int shortBlockSeen = 0;
+        for (int epoch = 0; epoch < 20; epoch++) {
+            permutation.shuffle();
+            long[] rows = rows(permutation);
+            checkPermutation(rows);
+
+            // Rows run sequentially inside each block, blocks start on multiples of 100
+            for (int i = 1; i < rows.length; i++) {
+                if (rows[i] != rows[i - 1] + 1 && rows[i] % 100 != 0) {
+                    throw new IllegalStateException("Read jumps inside a block at position " + i);
+                }
+            }
+            if (rows[rows.length - 1] != 1002) {
+                shortBlockSeen++;
+            }
+        }
+        if (shortBlockSeen == 0) {
+            throw new IllegalStateException("The short block never moved");
+        }
+        System.out.println(" - Sequential within blocks, short block moved in " + shortBlockSeen + " of 20 epochs");
+    }
+
+    private static void testSortedDataConverges() {
+        System.out.println("Test 3: 400 samples sorted by class, fixed order vs shuffled (2-8-2 softmax)");
+
+        float[][] xtrains = new float[400][2];
+        float[][] ytrains = new float[400][2];
+        Random random = new Random(7L);
+        for (int i = 0; i < 400; i++) {
+            int label = i < 200 ? 0 : 1;
+            xtrains[i][0] = (float)random.nextGaussian() * 0.7f + (label == 0 ? -1 : 1);
+            xtrains[i][1] = (float)random.nextGaussian() * 0.7f;
+            ytrains[i][label] = 1;
+        }
+
+        float fixedLoss = 0;
+        float shuffledLoss = 0;
+        int runs = 5;
+        for (int run = 0; run < runs; run++) {
+            Network fixed = new Network.Builder()
+                .inputSize(2).hiddenSize(8).outputSize(2)
+                .outputActivation(Activation.SOFTMAX)
+                .learningRate(0.1f)
+                .build();
+            Network shuffled = fixed.copy();
+            shuffled.setShuffle(run);
+
+            fixed.train(xtrains, ytrains, 3);
+            shuffled.train(xtrains, ytrains, 3);
+            fixedLoss += crossEntropy(fixed, xtrains, ytrains) / runs;
+            shuffledLoss += crossEntropy(shuffled, xtrains, ytrains) / runs;
+        }
+
+        System.out.printf(" - Mean loss after 3 epochs: fixed order %.4f, shuffled %.4f%n", fixedLoss, shuffledLoss);
+        if (shuffledLoss >= fixedLoss) {
+            throw new IllegalStateException("Shuffling did not improve on class-sorted data");
+        }
+    }
+
+    private static void testBlockShuffledMappedDataset() throws IOException {
+        System.out.println("Test 4: mapped dataset, 50000 rows, in order vs blocks of 512 vs full shuffle (16-32-2)");
+
+        Path file = Files.createTempFile("shuffle", ".nnds");
+        try {
+            Random random = new Random(8L);
+            float[] x = new float[16];
+            float[] y = new float[2];
+            try (MappedDataset.Writer writer = MappedDataset.create(file.toString(), 16, 2)) {
+                for (int i = 0; i < 50000; i++) {
+                    for (int k = 0; k < 16; k++) {
+                        x[k] = random.nextFloat();
+                    }
+                    y[0] = x[0] > 0.5f ? 1 : 0;
+                    y[1] = 1 - y[0];
+                    writer.write(x, y);
+                }
+            }
+
+            try (MappedDataset dataset = MappedDataset.open(file.toString())) {
+                Network network = new Network(16, 32, 2);
+                network.train(dataset, 1);
+
+                long inOrder = time(network, dataset);
+                network.setShuffle(9L, 512);
+                long blocks = time(network, dataset);
+                network.setShuffle(9L);
+                long full = time(network, dataset);
+
+                System.out.printf(" - Epoch: in order %.1f ms, blocks %.1f ms, full %.1f ms%n",
+                    inOrder / 1e6, blocks / 1e6, full / 1e6);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long time(Network network, MappedDataset dataset) {
+        long start = System.nanoTime();
+        network.train(dataset, 1);
+        return System.nanoTime() - start;
+    }
+
+    private static float crossEntropy(Network network, float[][] xtrains, float[][] ytrains) {
+        float loss = 0;
+        for (int i = 0; i < xtrains.length; i++) {
+            float[] p = network.predict(xtrains[i]);
+            for (int k = 0; k < p.length; k++) {
+                if (ytrains[i][k] > 0) {
+                    loss -= Math.log(Math.max(p[k], 1e-7f));
+                }
+            }
+        }
+        return loss / xtrains.length;
+    }
+
+    private static long[] rows(Permutation permutation) {
+        long[] rows = new long[(int)permutation.size()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = permutation.get(i);
+        }
+        return rows;
+    }
+
+    private static void checkPermutation(long[] rows) {
+        long[] sorted = rows.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < sorted.length; i++) {
+            if (sorted[i] != i) {
+                throw new IllegalStateException("Not a permutation of 0.." + (rows.length - 1));
+            }
+        }
+    }
+
+}
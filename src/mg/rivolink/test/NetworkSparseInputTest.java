@@ -0,0 +1,153 @@
+package mg.rivolink.test;
+
+import java.util.Random;
+
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Neuron.Activation;
+import mg.rivolink.ai.SparseVector;
+
+public class NetworkSparseInputTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    public static void main(String[] args) {
+        System.out.println("=== Sparse Input Tests ===");
+        System.out.println();
+
+        testSparsePredictMatchesDense();
+        System.out.println("\n----------\n");
+
+        testSparseTrainMatchesDense();
+        System.out.println("\n----------\n");
+
+        testSparseThroughput();
+        System.out.println();
+
+        System.out.println("=== All Tests Completed ===");
+    }
+
+    private static void testSparsePredictMatchesDense() {
+        System.out.println("Test 1: Sparse predict matches dense predict (1000-32-16-4 softmax)");
+
+        Network network = new Network(1000, 32, 16, 4, Activation.SOFTMAX);
+        SparseVector[] inputs = randomSparse(200, 1000, 20, 1L);
+
+        float maxDiff = 0;
+        for (SparseVector input : inputs) {
+            float[] expected = network.predict(input.toDense());
+            float[] actual = network.predict(input);
+            for (int i = 0; i < expected.length; i++) {
+                maxDiff = Math.max(maxDiff, Math.abs(expected[i] - actual[i]));
+            }
+        }
+
+        check(maxDiff, "Sparse predict");
+    }
+
+    private static void testSparseTrainMatchesDense() {
+        System.out.println("Test 2: Sparse train matches dense train (1000-32-4 softmax, one-hot bags)");
+
+        Network dense = new Network(1000, 32, 4, Activation.SOFTMAX);
+        dense.alpha = 0.05f;
+        Network sparse = dense.copy();
+
+        SparseVector[] inputs = randomSparse(300, 1000, 10, 2L);
+        int[][] targets = new int[inputs.length][4];
+        for (int i = 0; i < inputs.length; i++) {
+            // Class depends on which quarter of the feature space holds most entries
+            int[] counts = new int[4];
+            for (int index : inputs[i].indices) {
+                counts[index / 250]++;
+            }
+            int best = 0;
+            for (int c = 1; c < 4; c++) {
+                if (counts[c] > counts[best]) {
+                    best = c;
+                }
+            }
+            targets[i][best] = 1;
+        }
+
+        for (int epoch = 0; epoch < 5; epoch++) {
+            for (int i = 0; i < inputs.length; i++) {
+                dense.train(inputs[i].toDense(), targets[i]);
+                sparse.train(inputs[i], targets[i]);
+            }
+        }
+
+        float maxDiff = 0;
+        for (SparseVector input : inputs) {
+            float[] expected = dense.predict(input);
+            float[] actual = sparse.predict(input);
+            for (int i = 0; i < expected.length; i++) {
+                maxDiff = Math.max(maxDiff, Math.abs(expected[i] - actual[i]));
+            }
+        }
+
+        check(maxDiff, "Sparse training");
+    }
+
+    private static void testSparseThroughput() {
+        System.out.println("Test 3: Train throughput, 10000-dim inputs at 1% density (10000-64-10 softmax)");
+
+        Network network = new Network(10000, 64, 10, Activation.SOFTMAX);
+        network.alpha = 0.01f;
+
+        SparseVector[] inputs = randomSparse(200, 10000, 100, 3L);
+        float[][] denseInputs = new float[inputs.length][];
+        int[][] targets = new int[inputs.length][10];
+        for (int i = 0; i < inputs.length; i++) {
+            denseInputs[i] = inputs[i].toDense();
+            targets[i][i % 10] = 1;
+        }
+
+        // Warm-up both paths
+        for (int r = 0; r < 3; r++) {
+            for (int i = 0; i < inputs.length; i++) {
+                network.train(denseInputs[i], targets[i]);
+                network.train(inputs[i], targets[i]);
+            }
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < inputs.length; i++) {
+            network.train(denseInputs[i], targets[i]);
+        }
+        long denseTime = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < inputs.length; i++) {
+            network.train(inputs[i], targets[i]);
+        }
+        long sparseTime = System.nanoTime() - startTime;
+
+        System.out.printf(" - dense: %.1f ms | sparse: %.1f ms | speedup: %.1fx\n",
+            denseTime / 1e6, sparseTime / 1e6, (double)denseTime / sparseTime);
+    }
+
+    // count vectors of the given size with nonZeros distinct positive entries
+    private static SparseVector[] randomSparse(int count, int size, int nonZeros, long seed) {
+        Random random = new Random(seed);
+        SparseVector[] vectors = new SparseVector[count];
+        for (int s = 0; s < count; s++) {
+            float[] dense = new float[size];
+            for (int k = 0; k < nonZeros; k++) {
+                int index;
+                do {
+                    index = random.nextInt(size);
+                } while (dense[index] != 0);
+                dense[index] = 0.5f + random.nextFloat();
+            }
+            vectors[s] = SparseVector.fromDense(dense);
+        }
+        return vectors;
+    }
+
+    private static void check(float maxDiff, String what) {
+        if (maxDiff > EPSILON) {
+            throw new IllegalStateException(what + " differs from dense by " + maxDiff);
+        }
+        System.out.println(" - Max difference to dense: " + maxDiff);
+    }
+
+}
@@ -0,0 +1,403 @@
+package mg.rivolink.test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import mg.rivolink.ai.DataParallelTrainer;
+import mg.rivolink.ai.HogwildTrainer;
+import mg.rivolink.ai.Network;
+import mg.rivolink.ai.Optimizer;
+import mg.rivolink.ai.Neuron.Activation;
+
+public class NetworkTrainingTest {
+
+    public static void main(String[] args) {
+        System.out.println("=== Training Mode Tests ===");
+        System.out.println();
+
+        testMiniBatchRegression();
+        System.out.println("\n----------\n");
+
+        testMiniBatchClassification();
+        System.out.println("\n----------\n");
+
+        testMiniBatchThroughput();
+        System.out.println("\n----------\n");
+
+        testHogwildClassification();
+        System.out.println("\n----------\n");
+
+        testHogwildThroughput();
+        System.out.println("\n----------\n");
+
+        testDataParallelReproducible();
+        System.out.println("\n----------\n");
+
+        testDataParallelScaling();
+        System.out.println("\n----------\n");
+
+        testOptimizerEpochs();
+        System.out.println();
+
+        System.out.println("=== All Tests Completed ===");
+    }
+
+    private static void testMiniBatchRegression() {
+        System.out.println("Test 1: Mini-batch regression, y = x1 * x2 + 0.5 * x1 (batch size 16)");
+
+        Network network = new Network.Builder()
+            .inputSize(2)
+            .hiddenSize(32)
+            .outputSize(1)
+            .outputActivation(Activation.LINEAR)
+            .learningRate(0.05f)
+            .batchSize(16)
+            .build();
+
+        Random random = new Random(5L);
+        int count = 256;
+        float[][] xtrains = new float[count][2];
+        float[][] ytrains = new float[count][1];
+        for (int i = 0; i < count; i++) {
+            float x1 = random.nextFloat() * 2 - 1;
+            float x2 = random.nextFloat() * 2 - 1;
+            xtrains[i][0] = x1;
+            xtrains[i][1] = x2;
+            ytrains[i][0] = x1 * x2 + 0.5f * x1;
+        }
+
+        float before = meanSquaredError(network, xtrains, ytrains);
+        network.train(xtrains, ytrains, 400);
+        float after = meanSquaredError(network, xtrains, ytrains);
+
+        System.out.printf(" - MSE before: %.5f | after: %.5f\n", before, after);
+        if (after >= before || after > 0.02f) {
+            throw new IllegalStateException("Mini-batch training did not converge");
+        }
+    }
+
+    private static void testMiniBatchClassification() {
+        System.out.println("Test 2: Mini-batch classification, quadrant of a point (batch size 8)");
+
+        Network network = new Network.Builder()
+            .inputSize(2)
+            .hiddenSize(12)
+            .outputSize(4)
+            .outputActivation(Activation.SOFTMAX)
+            .learningRate(0.1f)
+            .batchSize(8)
+            .build();
+
+        int count = 400;
+        float[][] xtrains = new float[count][2];
+        int[][] ytrains = new int[count][4];
+        quadrants(xtrains, ytrains, 7L);
+
+        network.train(xtrains, ytrains, 200);
+        checkAccuracy(network, xtrains, ytrains, "Mini-batch");
+    }
+
+    private static void testMiniBatchThroughput() {
+        System.out.println("Test 3: Epoch time, per-sample SGD vs mini-batch (256-256-256-10)");
+
+        Random random = new Random(3L);
+        int count = 1024;
+        float[][] xtrains = new float[count][256];
+        float[][] ytrains = new float[count][10];
+        for (int i = 0; i < count; i++) {
+            for (int j = 0; j < 256; j++) {
+                xtrains[i][j] = random.nextFloat() * 2 - 1;
+            }
+            ytrains[i][random.nextInt(10)] = 1;
+        }
+
+        Network network = new Network(256, 256, 256, 10);
+        for (int batchSize : new int[] { 1, 32 }) {
+            network.batchSize = batchSize;
+            network.train(xtrains, ytrains, 2); // Warm-up
+
+            long startTime = System.nanoTime();
+            network.train(xtrains, ytrains, 3);
+            long elapsed = (System.nanoTime() - startTime) / 3;
+
+            System.out.printf(" - batch size %2d: %.1f ms/epoch (%d threads)\n",
+                batchSize, elapsed / 1e6, Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    private static void testHogwildClassification() {
+        System.out.println("Test 4: Hogwild classification, quadrant of a point (4 threads)");
+
+        Network network = new Network.Builder()
+            .inputSize(2)
+            .hiddenSize(12)
+            .outputSize(4)
+            .outputActivation(Activation.SOFTMAX)
+            .learningRate(0.05f)
+            .build();
+
+        int count = 400;
+        float[][] xtrains = new float[count][2];
+        int[][] ytrains = new int[count][4];
+        quadrants(xtrains, ytrains, 11L);
+
+        new HogwildTrainer(network, 4).train(xtrains, ytrains, 100);
+        checkAccuracy(network, xtrains, ytrains, "Hogwild");
+    }
+
+    private static void testHogwildThroughput() {
+        System.out.println("Test 5: Hogwild epoch throughput (64-128-10, 20000 samples)");
+
+        Random random = new Random(13L);
+        int count = 20000;
+        float[][] xtrains = new float[count][64];
+        int[][] ytrains = new int[count][10];
+        for (int i = 0; i < count; i++) {
+            // Sparse-ish rows: a handful of active features
+            for (int k = 0; k < 6; k++) {
+                xtrains[i][random.nextInt(64)] = random.nextFloat();
+            }
+            ytrains[i][random.nextInt(10)] = 1;
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads : new int[] { 1, Math.max(2, cores) }) {
+            Network network = new Network(64, 128, 10, Activation.SOFTMAX);
+            HogwildTrainer trainer = new HogwildTrainer(network, threads);
+            trainer.train(xtrains, ytrains, 3);
+
+            float[] throughput = trainer.getEpochSamplesPerSecond();
+            System.out.printf(" - %d threads: %.0f samples/s (last epoch)\n",
+                threads, throughput[throughput.length - 1]);
+        }
+    }
+
+    private static void testDataParallelReproducible() {
+        System.out.println("Test 6: Data-parallel classification is reproducible (4 threads, seed 42)");
+
+        int count = 400;
+        float[][] xtrains = new float[count][2];
+        int[][] ytrains = new int[count][4];
+        quadrants(xtrains, ytrains, 17L);
+
+        Network first = new Network(2, 12, 4, Activation.SOFTMAX);
+        first.alpha = 0.1f;
+        Network second = first.copy();
+
+        try (DataParallelTrainer trainer = new DataParallelTrainer(first, 4, 16, 42L)) {
+            trainer.train(xtrains, ytrains, 150);
+        }
+        try (DataParallelTrainer trainer = new DataParallelTrainer(second, 4, 16, 42L)) {
+            trainer.train(xtrains, ytrains, 150);
+        }
+
+        for (float[] input : xtrains) {
+            if (!Arrays.equals(first.predict(input), second.predict(input))) {
+                throw new IllegalStateException("Data-parallel runs with the same seed diverged");
+            }
+        }
+        System.out.println(" - Runs with the same seed are bit-identical");
+        checkAccuracy(first, xtrains, ytrains, "Data-parallel");
+    }
+
+    private static void testDataParallelScaling() {
+        System.out.println("Test 7: Data-parallel throughput, NetworkComplexTest workloads x1000 samples");
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        if (cores < 8) {
+            System.out.println(" - " + cores + " cores: throughput is printed, scaling is not checked below 8");
+        }
+
+        // Majority of 3 bits (8 rows), parity of 4 bits (16 rows)
+        int majorityCount = 8 * 1000;
+        float[][] majorityInputs = new float[majorityCount][3];
+        float[][] majorityTargets = new float[majorityCount][1];
+        for (int i = 0; i < majorityCount; i++) {
+            int bits = i % 8;
+            for (int b = 0; b < 3; b++) {
+                majorityInputs[i][b] = (bits >> b) & 1;
+            }
+            majorityTargets[i][0] = Integer.bitCount(bits) >= 2 ? 1 : 0;
+        }
+
+        int parityCount = 16 * 1000;
+        float[][] parityInputs = new float[parityCount][4];
+        float[][] parityTargets = new float[parityCount][1];
+        for (int i = 0; i < parityCount; i++) {
+            int bits = i % 16;
+            for (int b = 0; b < 4; b++) {
+                parityInputs[i][b] = (bits >> b) & 1;
+            }
+            parityTargets[i][0] = Integer.bitCount(bits) % 2;
+        }
+
+        // Iris-like rows (9), repeated
+        float[][] iris = {
+            {0.2f, 0.3f, 0.1f, 0.0f}, {0.3f, 0.4f, 0.15f, 0.05f}, {0.25f, 0.35f, 0.12f, 0.02f},
+            {0.7f, 0.5f, 0.6f, 0.4f}, {0.65f, 0.55f, 0.58f, 0.38f}, {0.72f, 0.48f, 0.62f, 0.42f},
+            {0.85f, 0.6f, 0.8f, 0.7f}, {0.82f, 0.62f, 0.78f, 0.68f}, {0.88f, 0.58f, 0.82f, 0.72f},
+        };
+        int irisCount = iris.length * 1000;
+        float[][] irisInputs = new float[irisCount][];
+        float[][] irisTargets = new float[irisCount][3];
+        for (int i = 0; i < irisCount; i++) {
+            irisInputs[i] = iris[i % iris.length];
+            irisTargets[i][(i % iris.length) / 3] = 1;
+        }
+
+        // f(x) = sin(x) + cos(2x) on a grid 1000 times finer than the 20 points
+        int functionCount = 20 * 1000;
+        float[][] functionInputs = new float[functionCount][1];
+        float[][] functionTargets = new float[functionCount][1];
+        for (int i = 0; i < functionCount; i++) {
+            float x = (i / (float)functionCount) * 2 * (float)Math.PI;
+            functionInputs[i][0] = x / (2 * (float)Math.PI);
+            functionTargets[i][0] = ((float)(Math.sin(x) + Math.cos(2 * x)) + 2) / 4;
+        }
+
+        checkScaling("majority 3-8-4-1", new Network(3, 8, 4, 1), majorityInputs, majorityTargets, cores);
+        checkScaling("parity 4-12-6-1", new Network(4, 12, 6, 1), parityInputs, parityTargets, cores);
+        checkScaling("iris 4-10-5-3", new Network(4, 10, 5, 3), irisInputs, irisTargets, cores);
+        checkScaling("function 1-12-6-1", new Network(1, 12, 6, 1), functionInputs, functionTargets, cores);
+    }
+
+    // Best epoch of each thread count, every count starts from the same weights
+    private static void checkScaling(String label, Network initial, float[][] xtrains, float[][] ytrains, int cores) {
+        int[] threadCounts = { 1, 2, 4, 8 };
+        float[] best = new float[threadCounts.length];
+
+        StringBuilder line = new StringBuilder(" - " + label + " (" + xtrains.length + " samples):");
+        for (int t = 0; t < threadCounts.length; t++) {
+            Network network = initial.copy();
+            try (DataParallelTrainer trainer = new DataParallelTrainer(network, threadCounts[t], 256, 1L)) {
+                trainer.train(xtrains, ytrains, 5);
+                for (float throughput : trainer.getEpochSamplesPerSecond()) {
+                    best[t] = Math.max(best[t], throughput);
+                }
+            }
+            line.append(String.format("%s %d threads %.0f/s", t == 0 ? "" : ",", threadCounts[t], best[t]));
+        }
+        System.out.println(line);
+
+        if (cores < 8) {
+            return;
+        }
+        for (int t = 1; t < threadCounts.length; t++) {
+            if (best[t] <= best[t - 1]) {
+                throw new IllegalStateException(label + ": " + threadCounts[t] + " threads ("
+                    + best[t] + " samples/s) not faster than " + threadCounts[t - 1]
+                    + " (" + best[t - 1] + " samples/s)");
+            }
+        }
+    }
+
+    private static void testOptimizerEpochs() {
+        System.out.println("Test 8: Epochs to fit XOR per optimizer (2-4-1, average error < 0.05)");
+
+        float[][] xtrains = { {0, 0}, {0, 1}, {1, 0}, {1, 1} };
+        float[][] ytrains = { {0}, {1}, {1}, {0} };
+
+        Optimizer[] optimizers = {
+            Optimizer.sgd(), Optimizer.momentum(), Optimizer.rmsProp(), Optimizer.adam()
+        };
+        float[] learningRates = { 0.1f, 0.1f, 0.01f, 0.01f };
+
+        int[] epochs = new int[optimizers.length];
+        for (int o = 0; o < optimizers.length; o++) {
+            // Best of three seeded initializations, the same three for every optimizer
+            epochs[o] = Integer.MAX_VALUE;
+            for (int run = 0; run < 3; run++) {
+                Network network = new Network.Builder()
+                    .inputSize(2)
+                    .hiddenSize(4)
+                    .outputSize(1)
+                    .learningRate(learningRates[o])
+                    .optimizer(optimizers[o])
+                    .seed(run)
+                    .build();
+                epochs[o] = Math.min(epochs[o], epochsToFit(network, xtrains, ytrains, 20000));
+            }
+
+            System.out.printf(" - %s: %s\n", optimizers[o],
+                epochs[o] == Integer.MAX_VALUE ? "no fit in 20000 epochs" : epochs[o] + " epochs");
+        }
+
+        if (epochs[3] >= epochs[0]) {
+            throw new IllegalStateException("Adam did not fit XOR faster than SGD");
+        }
+    }
+
+    private static int epochsToFit(Network network, float[][] xtrains, float[][] ytrains, int maxEpochs) {
+        for (int epoch = 1; epoch <= maxEpochs; epoch++) {
+            network.train(xtrains, ytrains, 1);
+
+            float error = 0;
+            for (int i = 0; i < xtrains.length; i++) {
+                error += Math.abs(network.predict(xtrains[i])[0] - ytrains[i][0]);
+            }
+            if (error / xtrains.length < 0.05f) {
+                return epoch;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    private static void quadrants(float[][] xtrains, int[][] ytrains, long seed) {
+        Random random = new Random(seed);
+        for (int i = 0; i < xtrains.length; i++) {
+            float x = random.nextFloat() * 2 - 1;
+            float y = random.nextFloat() * 2 - 1;
+            xtrains[i][0] = x;
+            xtrains[i][1] = y;
+            ytrains[i][(x >= 0 ? 0 : 1) + (y >= 0 ? 0 : 2)] = 1;
+        }
+    }
+
+    private static void checkAccuracy(Network network, float[][] xtrains, int[][] ytrains, String mode) {
+        int correct = 0;
+        for (int i = 0; i < xtrains.length; i++) {
+            if (argmax(network.predict(xtrains[i])) == argmax(ytrains[i])) {
+                correct++;
+            }
+        }
+
+        float accuracy = (float)correct / xtrains.length;
+        System.out.printf(" - Accuracy: %.1f%%\n", accuracy * 100);
+        if (accuracy < 0.9f) {
+            throw new IllegalStateException(mode + " classification accuracy too low");
+        }
+    }
+
+    private static float meanSquaredError(Network network, float[][] xtrains, float[][] ytrains) {
+        float sum = 0;
+        for (int i = 0; i < xtrains.length; i++) {
+            float[] output = network.predict(xtrains[i]);
+            for (int j = 0; j < output.length; j++) {
+                float error = output[j] - ytrains[i][j];
+                sum += error * error;
+            }
+        }
+        return sum / xtrains.length;
+    }
+
+    private static int argmax(float[] values) {
+        int best = 0;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] > values[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private static int argmax(int[] values) {
+        int best = 0;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] > values[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+}